@@ -0,0 +1,47 @@
+package polyglot.ast;
+
+import java.io.Serializable;
+import polyglot.util.CodeWriter;
+import polyglot.util.Copy;
+import polyglot.util.Position;
+import polyglot.visit.NodeVisitor;
+
+public interface Node extends NodeOps, Copy<Node>, Serializable {
+    @Deprecated
+    Node del(JLDel del);
+    
+    @Deprecated
+    NodeOps del();
+    
+    Node ext(Ext ext);
+    
+    Ext ext();
+    
+    Node ext(int n, Ext ext);
+    
+    Ext ext(int n);
+    
+    Position position();
+    
+    Node position(Position position);
+    
+    boolean error();
+    
+    Node error(boolean flag);
+    
+    boolean isDisambiguated();
+    
+    boolean isTypeChecked();
+    
+    Node visit(NodeVisitor v);
+    
+    @Deprecated
+    Node visitEdge(Node parent, NodeVisitor v);
+    
+    void dump(CodeWriter w);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<:ss*^Xv`7.D73^RQ>-Brhvv%*-j#Mq+3.CyOcN$4x*-dP@OAl,WmSl[1X4E01:&;@J1,9=ngbUNWRk8]av[gqnmC2OeaO%$&hv5MRF8;gHIjgpi&:<i5AolneVZ_L9](k[e_=gImsIvVGrqo6bvb@(VRMSG/L-G#x8%+;cvflSv.8^kD]kcT3G+6[$<6>Pyc<:RR29dRUBcW6RY8A;;I)B$E._;y]Np^F6T$>.$C_ZA&[(JL4DG;Y?2-o^7EeOrtKB:)(#*U`IAHOU$#YZ6)Dl?2B)6)_$KvjuifLP,=Mq_QOBiCdF@6P^jgP@>.Rt:hC@9EV(mb2PV:g#G$Z[oRil74P=ife5,])-[>FvNsrcyG9Hc?#@?r5RLY6(6_/ykm&G_,/$`#V?)b9pP.Y*O6bt$bXXm#,rhckK+WE1PVw:(@6h&F:N8&A4v44$S1Uc7SYe_NM(cUKk+#4rV;kq$=C*.UYUO##T5yoOv8uxPJOx&%gq%xB`/LC@k(d[:U8TLp6;apB^oAh6f#?y,VovY@,skH:cTZ&(7A/;(V2ZCst159[&&$ERU9j[/#sC(mO>e@C)(@t*l<c$?h;d9Hc7xl6^I-9oX%<KUC<HlyS)iy25bG-+%KudnAN*J3@>QrCt94heEtCT*D._D32:v9YGk6Q,E:?Q:kUS^jnWS?pR;nwO6R-7W5`B5XxZw/IoZPXUl6b7#7)0#/WYFD=Yf/a]4meka87O@Lf,kG@Ov^exYkLVWM1h;7w>:6AO50K[OL8IE;MSmG.SkSdIcZW^H&2D)7*N)G;*.*>w5K&OFWnn<RN;F6d#cpYutPueZkCu)RKPPx]/G>>w:3:IYPmg=@WnO)XHAkvZo_PMa/W),??kCA;CqnljQinnW]frL:Sx8jK(,2aX.=rPxkycwu&=RAW?N[7&+G#C2_<i5BLTpxNXrs=`iLH_Z(`q`P%aSZerM1sqc*$34^prX74vh;BF?RB($pQ&nWIk[,Jg[aL..Yf=&@BiZe3_*0M/iMsMkES7bpWuBdC/Qq6%yUf`<o;b7^_b[MeWbw754L0i`1Kb)nV3mXcftwkE/^W&nQ0[RkHhtaqNV@kKiC$#[>h`l9$eE/JhbgXbWS$Q3KA?l^Ty1*H2)Sl:wFTmZ2`Y[EYg9UgBj$YNtEcc#i3WR(I1?_ug4ab--3L)SLeNVkFwW-h_1wLxhWd[2Lf5Rc;Ehib)L+Ccmn1]cPXic`_M+%8?Qt68LnS:gvhZtjtm8)&pVA3xaj6c>%0C7[#:C+lu50_fVfSZnbdGrax$&^%-X/b#,W@E/9.>p]k7R`Fh..e(jwta<NOO=uqH,:`vnu,sM8ba@9P4lQ]IXQJ1RgtugP#EEyf)WA]j=G/]C`]:`/kLmxt2Q-_AV1[F72]Oh_)=hEXc;CfK(hO&%e2S)+/+R#Dv@PJeCF`MK^rtw`SN9U[?o6(;5CBT@b$i?C#jg.n[60f:+#Cdf2(M13+9gRfF,X>A9JTjtJcYN:nMwEMTHp9MLNBIXv,MBHH@(.XWvpmKV`Ua5(D?[Io#bwyc&aopuLC9SG2_mwAL=ci-=%AhRV:xb+60$$w-mavPZ:Lb#YKS2AU.6=wjrfFP+JdXH^NTC6hS4q3vfG6[[T4JDAw9wP:Bv*3C[P*K^sMr_JDgf`QQ_;/jCLVgk?+[CNB9EY-V7>s)<DtPhwE&%@:)`yZI_wUi792TE)0Y%J*C;`-1C(xRRVcu^*hf)<-sdnp0K$%2u#K0I#JN8DSF]E?.rNv7>vuHE?R5-&I8+$+^3N&f,IYqKIQDtn@RV8.u3caE-]UpYp90T$9=<scR>=il39O.JdZYD5<T<y@^5L1K9BA@K7%[f/Q`IF`g0Ku.3NX*c)YHHv=IDeR>+(B$mYj(WN+>Gv:S<r7ur(HNZ9F*$bf[UNaWJEiK*pL74mtxjM:Sp$bG[4^mUNhb7HYVJj6B;N:l]#nGArut$Xs`aXey-7DLhYKyyymIM0TO.PB+h(MTgdZ_)w=H.AtI4g3bSegBt5UL70ed03(qA:8GnYc<=/g]vj/-AaD%^S3E7E*1#)]5n5%+Xk+_U9B(mt)0l)/HSZrp;(HCSV_6yQ`?,92)=Rs?KO9&6;f&&c&;f99>+OB%J;M8*7_l*X8H]SVPaF8C-a*YAZljWdxU*Vv:[%keZM,i=)i]QP8xWubP*s1vNon6LCw4qHyjtXMLmI02?$dqPGQT[*iC:,r1a9oNj_s6(e4mN>`@sv7x3Z1d-nm0tdEb6)($G4O>B>IH(TYKkPKSSvtO0<G2cD]kfvyZa&Ck?>jyX#TgYVZ3eV@>:NcLOA]S7sSl#Q+:eTT/A-Wlw[Ymtur*%=-l=Q0h<gx6Z7l.6DUJA%f$ZExV$OvyonMOLZ6],1?4wew&]b.4.5[$ZLt-h1-(XE,ta?.:`:fH>AT2RF,^aE<R6@7UrvUX1QDBf7Sb4W^WeoXOsO5D;Bd/wr4:vR.q-$(#(,#5>,duW(oOFCJEP0W1<?u2;kA?*^`tT%nemubI+90F7Mc(K4(caBSyW&99.oKN8Md6@Z=2DgHfkr4oMhtt#-reX?kr6V4K8MgOJOt>8D*HEQBm$Za;(ZY@V[:&q`Ie%XikeU):3cct0=2?qu<R0hJ-XX2QUrkMFlZjVHt=fwB*A3rDw,8/iQIe4bJWyseXKlwnX]M.-K-/XyR.Z,fRG#xc5N+BN:#:?Kq[64$(.qc`;7k=n1WJsLtDDW3A:)rQ#;G5_(=io`8E5=yK*%hvft@@AgdgiviytqkPBF9_[sC?Au$::Q`Z?yn,bBQ^@@xR^^?TdkD-+eMn8X$9ET9i)PeDY=kBVHr$6wb8fp(h<FT+vRu9x-63/@D@X)@+X$GiGY.3o__n)AT_%RPD@P7eFDe%jTTu45to9Qm<hr4xAcgN]j%,p%;X(=&Q?q+bX.Ta/hCd&KRd#jn-/)*g,30;;B>HRMM)4dO8*Cj8Qo9C6<1&qt8OpC4gZ]u[IS@x1m1a&2D2b>0k7+<8Gi,F*v96mV.*h3slR@dRw3vL809(*[8GmuQ5VCGFQebJOh%(y#ZU(g11&Lcx+D,K:LyY5>UUJUhTcOIO76HOQ#$F#.]`C^D<1eCP&^A9oTjEPp(P#k@lStOj^oW0Nin%r3)vm_bcf?e`,-9h6d#IOvp=vk$H?Qx;Bvuv$p]e6=2(9u/f8cdKL(4#ee0n2GkHhYQ+-1m]^rVkb+KTiC]&cMZ(qILSJeZFkv+D/L?Ze6X^xHrBD/3+]`gv[2";
+}
@@ -0,0 +1,337 @@
+package polyglot.ast;
+
+import java.util.List;
+import polyglot.types.Flags;
+import polyglot.types.Package;
+import polyglot.types.Type;
+import polyglot.util.Position;
+
+public interface NodeFactory {
+    JLang lang();
+    
+    Disamb disamb();
+    
+    Id Id(Position pos, String id);
+    
+    AmbExpr AmbExpr(Position pos, Id name);
+    
+    @Deprecated
+    AmbExpr AmbExpr(Position pos, String name);
+    
+    Expr ExprFromQualifiedName(Position pos, String qualifiedName);
+    
+    AmbReceiver AmbReceiver(Position pos, Id name);
+    
+    AmbReceiver AmbReceiver(Position pos, Prefix prefix, Id name);
+    
+    @Deprecated
+    AmbReceiver AmbReceiver(Position pos, String name);
+    
+    @Deprecated
+    AmbReceiver AmbReceiver(Position pos, Prefix prefix, String name);
+    
+    Receiver ReceiverFromQualifiedName(Position pos, String qualifiedName);
+    
+    AmbQualifierNode AmbQualifierNode(Position pos, Id name);
+    
+    AmbQualifierNode AmbQualifierNode(Position pos, QualifierNode qual, Id name);
+    
+    @Deprecated
+    AmbQualifierNode AmbQualifierNode(Position pos, String name);
+    
+    @Deprecated
+    AmbQualifierNode AmbQualifierNode(Position pos, QualifierNode qual, String name);
+    
+    QualifierNode QualifierNodeFromQualifiedName(Position pos, String qualifiedName);
+    
+    AmbPrefix AmbPrefix(Position pos, Id name);
+    
+    AmbPrefix AmbPrefix(Position pos, Prefix prefix, Id name);
+    
+    @Deprecated
+    AmbPrefix AmbPrefix(Position pos, String name);
+    
+    @Deprecated
+    AmbPrefix AmbPrefix(Position pos, Prefix prefix, String name);
+    
+    Prefix PrefixFromQualifiedName(Position pos, String qualifiedName);
+    
+    AmbTypeNode AmbTypeNode(Position pos, Id name);
+    
+    AmbTypeNode AmbTypeNode(Position pos, QualifierNode qualifier, Id name);
+    
+    @Deprecated
+    AmbTypeNode AmbTypeNode(Position pos, String name);
+    
+    @Deprecated
+    AmbTypeNode AmbTypeNode(Position pos, QualifierNode qualifier, String name);
+    
+    TypeNode TypeNodeFromQualifiedName(Position pos, String qualifiedName);
+    
+    ArrayTypeNode ArrayTypeNode(Position pos, TypeNode base);
+    
+    CanonicalTypeNode CanonicalTypeNode(Position pos, Type type);
+    
+    ArrayAccess ArrayAccess(Position pos, Expr base, Expr index);
+    
+    ArrayInit ArrayInit(Position pos);
+    
+    ArrayInit ArrayInit(Position pos, List<Expr> elements);
+    
+    Assert Assert(Position pos, Expr cond);
+    
+    Assert Assert(Position pos, Expr cond, Expr errorMessage);
+    
+    Assign Assign(Position pos, Expr target, Assign.Operator op, Expr source);
+    
+    LocalAssign LocalAssign(Position pos, Local target, Assign.Operator op, Expr source);
+    
+    FieldAssign FieldAssign(Position pos, Field target, Assign.Operator op, Expr source);
+    
+    ArrayAccessAssign ArrayAccessAssign(Position pos, ArrayAccess target, Assign.Operator op, Expr source);
+    
+    AmbAssign AmbAssign(Position pos, Expr target, Assign.Operator op, Expr source);
+    
+    Binary Binary(Position pos, Expr left, Binary.Operator op, Expr right);
+    
+    Block Block(Position pos, polyglot.ast.Stmt ... statements);
+    
+    Block Block(Position pos, List<Stmt> statements);
+    
+    SwitchBlock SwitchBlock(Position pos, List<Stmt> statements);
+    
+    BooleanLit BooleanLit(Position pos, boolean value);
+    
+    Branch Break(Position pos);
+    
+    Branch Break(Position pos, Id label);
+    
+    @Deprecated
+    Branch Break(Position pos, String label);
+    
+    Branch Continue(Position pos);
+    
+    Branch Continue(Position pos, Id label);
+    
+    @Deprecated
+    Branch Continue(Position pos, String label);
+    
+    Branch Branch(Position pos, Branch.Kind kind);
+    
+    Branch Branch(Position pos, Branch.Kind kind, Id label);
+    
+    @Deprecated
+    Branch Branch(Position pos, Branch.Kind kind, String label);
+    
+    Call Call(Position pos, Id name, polyglot.ast.Expr ... args);
+    
+    Call Call(Position pos, Id name, List<Expr> args);
+    
+    Call Call(Position pos, Receiver target, Id name, polyglot.ast.Expr ... args);
+    
+    Call Call(Position pos, Receiver target, Id name, List<Expr> args);
+    
+    @Deprecated
+    Call Call(Position pos, String name, polyglot.ast.Expr ... args);
+    
+    @Deprecated
+    Call Call(Position pos, String name, List<Expr> args);
+    
+    @Deprecated
+    Call Call(Position pos, Receiver target, String name, polyglot.ast.Expr ... args);
+    
+    @Deprecated
+    Call Call(Position pos, Receiver target, String name, List<Expr> args);
+    
+    Case Default(Position pos);
+    
+    Case Case(Position pos, Expr expr);
+    
+    Cast Cast(Position pos, TypeNode type, Expr expr);
+    
+    Catch Catch(Position pos, Formal formal, Block body);
+    
+    CharLit CharLit(Position pos, char value);
+    
+    ClassBody ClassBody(Position pos, List<ClassMember> members);
+    
+    ClassDecl ClassDecl(Position pos, Flags flags, Id name, TypeNode superClass, List<TypeNode> interfaces, ClassBody body, Javadoc javadoc);
+    
+    @Deprecated
+    ClassDecl ClassDecl(Position pos, Flags flags, Id name, TypeNode superClass, List<TypeNode> interfaces, ClassBody body);
+    
+    @Deprecated
+    ClassDecl ClassDecl(Position pos, Flags flags, String name, TypeNode superClass, List<TypeNode> interfaces, ClassBody body);
+    
+    ClassLit ClassLit(Position pos, TypeNode typeNode);
+    
+    Conditional Conditional(Position pos, Expr cond, Expr consequent, Expr alternative);
+    
+    ConstructorCall ThisCall(Position pos, List<Expr> args);
+    
+    ConstructorCall ThisCall(Position pos, Expr outer, List<Expr> args);
+    
+    ConstructorCall SuperCall(Position pos, List<Expr> args);
+    
+    ConstructorCall SuperCall(Position pos, Expr outer, List<Expr> args);
+    
+    ConstructorCall ConstructorCall(Position pos, ConstructorCall.Kind kind, List<Expr> args);
+    
+    ConstructorCall ConstructorCall(Position pos, ConstructorCall.Kind kind, Expr outer, List<Expr> args);
+    
+    ConstructorDecl ConstructorDecl(Position pos, Flags flags, Id name, List<Formal> formals, List<TypeNode> throwTypes, Block body, Javadoc javadoc);
+    
+    @Deprecated
+    ConstructorDecl ConstructorDecl(Position pos, Flags flags, Id name, List<Formal> formals, List<TypeNode> throwTypes, Block body);
+    
+    @Deprecated
+    ConstructorDecl ConstructorDecl(Position pos, Flags flags, String name, List<Formal> formals, List<TypeNode> throwTypes, Block body);
+    
+    FieldDecl FieldDecl(Position pos, Flags flags, TypeNode type, Id name);
+    
+    FieldDecl FieldDecl(Position pos, Flags flags, TypeNode type, Id name, Expr init);
+    
+    FieldDecl FieldDecl(Position pos, Flags flags, TypeNode type, Id name, Expr init, Javadoc javadoc);
+    
+    @Deprecated
+    FieldDecl FieldDecl(Position pos, Flags flags, TypeNode type, String name);
+    
+    @Deprecated
+    FieldDecl FieldDecl(Position pos, Flags flags, TypeNode type, String name, Expr init);
+    
+    Do Do(Position pos, Stmt body, Expr cond);
+    
+    Empty Empty(Position pos);
+    
+    Eval Eval(Position pos, Expr expr);
+    
+    Field Field(Position pos, Id name);
+    
+    Field Field(Position pos, Receiver target, Id name);
+    
+    @Deprecated
+    Field Field(Position pos, String name);
+    
+    @Deprecated
+    Field Field(Position pos, Receiver target, String name);
+    
+    FloatLit FloatLit(Position pos, FloatLit.Kind kind, double value);
+    
+    For For(Position pos, List<ForInit> inits, Expr cond, List<ForUpdate> iters, Stmt body);
+    
+    Formal Formal(Position pos, Flags flags, TypeNode type, Id name);
+    
+    @Deprecated
+    Formal Formal(Position pos, Flags flags, TypeNode type, String name);
+    
+    If If(Position pos, Expr cond, Stmt consequent);
+    
+    If If(Position pos, Expr cond, Stmt consequent, Stmt alternative);
+    
+    Import Import(Position pos, Import.Kind kind, String name);
+    
+    Initializer Initializer(Position pos, Flags flags, Block body);
+    
+    Instanceof Instanceof(Position pos, Expr expr, TypeNode type);
+    
+    IntLit IntLit(Position pos, IntLit.Kind kind, long value);
+    
+    Labeled Labeled(Position pos, Id label, Stmt body);
+    
+    @Deprecated
+    Labeled Labeled(Position pos, String label, Stmt body);
+    
+    Local Local(Position pos, Id name);
+    
+    @Deprecated
+    Local Local(Position pos, String name);
+    
+    LocalClassDecl LocalClassDecl(Position pos, ClassDecl decl);
+    
+    LocalDecl LocalDecl(Position pos, Flags flags, TypeNode type, Id name);
+    
+    LocalDecl LocalDecl(Position pos, Flags flags, TypeNode type, Id name, Expr init);
+    
+    @Deprecated
+    LocalDecl LocalDecl(Position pos, Flags flags, TypeNode type, String name);
+    
+    @Deprecated
+    LocalDecl LocalDecl(Position pos, Flags flags, TypeNode type, String name, Expr init);
+    
+    MethodDecl MethodDecl(Position pos, Flags flags, TypeNode returnType, Id name, List<Formal> formals, List<TypeNode> throwTypes, Block body, Javadoc javadoc);
+    
+    @Deprecated
+    MethodDecl MethodDecl(Position pos, Flags flags, TypeNode returnType, Id name, List<Formal> formals, List<TypeNode> throwTypes, Block body);
+    
+    @Deprecated
+    MethodDecl MethodDecl(Position pos, Flags flags, TypeNode returnType, String name, List<Formal> formals, List<TypeNode> throwTypes, Block body);
+    
+    New New(Position pos, TypeNode type, List<Expr> args);
+    
+    New New(Position pos, TypeNode type, List<Expr> args, ClassBody body);
+    
+    New New(Position pos, Expr outer, TypeNode objectType, List<Expr> args);
+    
+    New New(Position pos, Expr outer, TypeNode objectType, List<Expr> args, ClassBody body);
+    
+    NewArray NewArray(Position pos, TypeNode base, List<Expr> dims);
+    
+    NewArray NewArray(Position pos, TypeNode base, List<Expr> dims, int addDims);
+    
+    NewArray NewArray(Position pos, TypeNode base, int addDims, ArrayInit init);
+    
+    NewArray NewArray(Position pos, TypeNode base, List<Expr> dims, int addDims, ArrayInit init);
+    
+    NullLit NullLit(Position pos);
+    
+    Return Return(Position pos);
+    
+    Return Return(Position pos, Expr expr);
+    
+    SourceCollection SourceCollection(Position pos, List<SourceFile> sources);
+    
+    SourceFile SourceFile(Position pos, List<TopLevelDecl> decls);
+    
+    SourceFile SourceFile(Position pos, List<Import> imports, List<TopLevelDecl> decls);
+    
+    SourceFile SourceFile(Position pos, PackageNode packageName, List<Import> imports, List<TopLevelDecl> decls);
+    
+    Special This(Position pos);
+    
+    Special This(Position pos, TypeNode outer);
+    
+    Special Super(Position pos);
+    
+    Special Super(Position pos, TypeNode outer);
+    
+    Special Special(Position pos, Special.Kind kind);
+    
+    Special Special(Position pos, Special.Kind kind, TypeNode outer);
+    
+    StringLit StringLit(Position pos, String value);
+    
+    Switch Switch(Position pos, Expr expr, List<SwitchElement> elements);
+    
+    Synchronized Synchronized(Position pos, Expr expr, Block body);
+    
+    Throw Throw(Position pos, Expr expr);
+    
+    Try Try(Position pos, Block tryBlock, List<Catch> catchBlocks);
+    
+    Try Try(Position pos, Block tryBlock, List<Catch> catchBlocks, Block finallyBlock);
+    
+    PackageNode PackageNode(Position pos, Package p);
+    
+    Unary Unary(Position pos, Unary.Operator op, Expr expr);
+    
+    Unary Unary(Position pos, Expr expr, Unary.Operator op);
+    
+    While While(Position pos, Expr cond, Stmt body);
+    
+    Javadoc Javadoc(Position pos, String text);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1g#=[**OkWY`O4]Cb*WKo*J>%M@P3j]C.aHO&.TaE7%?I?D58x8sUqC/#^t<U],@`;2:1:oKpjC-W$AB&ocKA0a#4Xv2vG3nXBjiqBBMweSIhDip/qv<fLjhc?LRjI?YA[*if1nOmc+gb`6vL8k+<:H:?7>mID_0[RoT:gS@?w%0L(b?Xd>$I<&+WT-63P[lmdN]u`tNha;>$]ot@>[HH/qarT<lBV>ax0ncxwY5me4sniilJ`pZ2c5.xr>5(lOGPEtds?P^xg?3dHG;nAZw7C4ff9;?rDm]#LRVFFT#Y7/Tv&r;)%+TuIM[/B^g.egG>*R#2TR>._QB$RnC#-<Kgr&vIXW(t*(C92TCI&(2v.*9/BTPNA]rZ?^s/[5tEdpDG(9d@wjK,.,wkj/[RegbXI(eTCcCb9yYTEh:BQCbwT7gj82:Q/e#UVq_i/ZuJhe<sY]c0H??CW02M59T37p9F@.VJuZQR(No6_EJ0a9Zis_#IYj57LE%$O%loWlBE&G@@&?ngh7G/v)L2u>^jf$k,2I_ng,mQMIuCA2l7k]PT<d*)s6%vb6F$TX9=+43;e#bXwN4E9-@6^w6/cs^po3m:yA%_?:60P,VKg^hcOjC4;Z@v,8nXO60NMl<uRHwOVIVD8vflhn1xCNava>_RNA%-no0Wd>Yy@Dko:vU7vNNn68?2jbjj`,W)9am,1[FrE)/qv;BHBZB1`N5c1C.St%*?c*FjW<*DrG6E,g#fD<+?H;q]q*PDWK_([de#fQFOkBmMSO6dTjE0py,B8wITJPGpl->0E>=e+1Y=ncyQjSCQT/,LAy=rCb=eSL:2Dpk*fBA$TD+KK:5.bRd/-`0/`GMIDY)L9CKo.jXLrKY;v()uFO7cAjbS<Q*nK@C5uA=vripZ-$k%01Xyqr^^:DCBxebcT;rw;WG#MO[=`i:vnLxKY.`)`/1D<&Ugqc@ZnN&Th=_bcq62^A-XTl8Kuap5:N2Fjf7M;uN_(;/4CTkf@.,A,x3Wq&rQy`rgoG]fOp+jYKtaC`0H[.^/lmvAD.*&WGin@Dmt]ZF;]/`j$P.J8=@(#kI2Bc0<J<`[09:?#R(rii(FM.-)ZX,9fJ]C6t]EYqtFPfL3fZdc[?1*>6nN[#7,q9]5&e4t]M)ZqvLc,qVXi:YZwr?RCo.)-V=xA]HG&+.GDT=-1kEoL$)tFCd2DLWveWg-)bO=C]qN$-FL/x:>AB`BIIWwJml1)^oFn=UcU(bKtC;_R3<DXuQm6`;[THu*EAn1^T+n]s91]-^1X].p0w?IhRKFF05-X;u^fZDh?Kk2+QXqW@.mv6rEA&>5?`)XgnZ40Tf:;8N3/vn(g04q-fMlw[Mxpkec%7->eksb.(,7`;44u6rEAbRd*`Sbp6TIedx$=V]PLfjhV:Db0GA3Q/u0sGIXNwFGU$%Di.nVsnWB1`n(AOOdOwVSr$cmorR=J3A8p-LjdQ]oNOwy28$2?4@%8:?OD$97q)gRV,Om?d$[nbpKIdV6H$nR4^v,t9XT&j;d_Y?U#H6RmV92aS-6$ymI`w$emx+w`0<Y=`f6mKeOv/<v)vj#Q$gYLG<&-:Mo*t>t3E6FMDVGmR/IZ7uKSsq>>)%yHW>/yb7((W6/0=vR(ic_v@]-O;;9BfIOUOrIW4(ii4>^hYHLrQ*W_*AjuSb<VMHFTO*eB-xD?v3oFD026GY[rUj@A9QK_x.`__]MIE@e@t[?j0OP0-eVD[b<?Y1=kl7:Z.eoEGxQw%nY/-eFH)QM9Ii$]@MMdE=H[b>+kxJgF1gGkU>SMspqmY9IT:Wu9kc/X[SL67F3]7K(V&:9uOC15it(7rTR:7iq2ANG<$(DBb#Bvtq#GA7w83g6axwmfX?BmFKnaZc7bD35&qo3yBR^?//:/-$B[h_KA?k?>BJ;i.]uZk<)@hXZFq#;0eC=P5lA?;;Ky0FV)UW<3xC:04;stuEJcQYY%r5hT*@pi00EYN&Ux;oA.iBHkD&OJw:,wQUfxd<u.c91OG@viZqWlSYm3p+CbKRf#?pR%3rMA@QtFpMj*oQCtU>iWIIAvc%[LAEKXVo:J=4%pL,[i4A?O*Wy`ErB]&+xr0#2>.tLKf#Igjy7ae&xj8P%/(dRb_Pe>P<Sb+]4>XAj,qW[sB4b5>]sZYnFFPt_7O]S7o(A,rB.T6O&_kIaB_vWU$(H8PQhP_,NFgQf5UXw4Ys^s*HT6dc6?GJ8I#@Wv]uJZ3=r:^^Xf+S4F3l_]t/=w-q,daKK[./rm/w;TgC/et2U&`,6:=NJ=#L<ZYTNK5E`V2Kc_6EnBEiLx*0]#CEr/l*F$c:yWUkcfqm([b:PM*J[FcRm_@&2J`80tt/lgrTWl_C_PGjZuRP1597%/L_1F1(p%&@(vGrV2SIYCRbj$iWQSDM-E%9OHxD-,gO*taLrT.J^g*=mOP&g/Jg?D+n-bnpFl>643oUFl:tj8d:`P#q9/<WS]h._e1lNclO*6v]O6SR1<YAAn3<Ogl)sfdWOJ;nU8sqIe5$0+5&Kg:S7^jGLdPa8tp>+VMLSI7$_W;&BE9SAY=&*s]gEO8u_mY$y]7bWB,yQpK-M45m@ej1Eu4KgLg&W(@]rP=j>9dP@gHv+bR9fIMGEvp:4b*M:_7j8XFa>0.,9/uwK6uYS_fGcHaMQZ#Gw@4>01j$(;rr-2EFu*S%Bhm1<lom.);ZKoHcFrwFensGO-[[BW*/Rf??tHC-vN.tMf)<Y6yQrdcRhr4f^w@ZEXxd=9/dviD??#EdNesN)_NCpE.$,DO]%hVMsAiiZ0]Oqh6mW4j=+%I]TnZ(IRg9(3y:I4#(t=*h8YTO7S8T6dc6Jxt)i9PZX&p#]gB&T=&c(QUQ,oD(9OMYW5[BZ[#<REYcP%/^>VUhI?@EJ_I:Hqbq0gpt2ZRI6iiGL;?B2UKS0D6%PrA[o&)8cs;;C/uEhY_4Qk5j^sCO%UIERMiO.cCFn?4X2an41/<p9jJBVeOL2qiUG*l[ivpqH+LPTdX/2A;yH(T<vAA]k0/nWCv5aps]pJqm6Qlsj^6Z(#Js.fkffR00oYu2/[&f@8-fekSCI)e/g$1#Uy)Z#):pvFS*.PTo7W2ZBKC7u8s.)]*ft]U-/>*;rNc<WfW(tQqSU[oUl=8$rZ[bVr^4W7&bn6#.^dnf+=DcY>oX@;;<fji2+nMbQ3X^+U`b:&&,UmDJFoA_H9;Qf3/(60`6>IrZRiqBHegUG^PslfbZt5hu<7j-V7O@4jv=G)q@-v99A+K((In$NA=4c57%O/2KuE<vS(#&//6gNpLxAr$BS*O=&kPVRlboN6T`kFSG@5&34VD(r[u0,;cVa5K,phcV[e]^prvt$j9_n,(,/aO:(?Nu+6g8gyAHb[YV&nWqO0Er[u[*$9o7]SNJW(`#]fduB8AwVg7xd=SkmVyc.iyA-3UJ%2E5W`_DI635v6O:h(P2,5R`]-Q/XqgG4;b82Fm9B=&aP3?GgAVuea81.J*81b8e1K^BYk[#qP5R`rc++,BIpTP9k.hsQD&K_hZh8Zdpl/yr791x**?%^)`;w,:byGCn/V[R-ELY]7cavIDoZZ1OU=+X#AVI9?Fu@XG<aYxf(t4.fgZNJ[[b82204@*N88XCh#UWT4ne(aoJ0YoQy^C;(AsDVT6i,k5#mS;6V8J3lvSf<n^364*`*np?N^(&-QO1I3(XXdrZxPf^G0)NE=B_gv^CaKLm]*P,=N^9]H1Q;-$qUnofRGqbR2+JJCv>P[stYEp0X#:t#TvN$,X-p%(wjAXdl[=DnZD&XEZ%w63[lBh<#+JgKco6hXDEALVU<#GBSawCiwR:<`IhT?T4^rP)9I<v%Hg<Y`qEhE]v14[[-U[M,wD&da4je]FZGJ<dPQ?U)_w3%W9?XAWut<X/ZLKX-sQ#f,DWU6raCPhYAbS2rE=-U-x2G3r]_bI%aVMX)x3`Y]:akU@a;5M7xHl6qibO$5-y1uN]vl1A.:96Z/G)X10,j_huneIwdH96GQaE_@r2ndXuQ>_IY4=U)(.F@U02&BRNa_M_R+V_b[lf3^qBF%K$JK6$IWF%GQnf32y=u7<ic9%vJ%iB$plQ;XoMVt?M@Wf]jEdbQ(5aTdYD$.ra[a:^y0W28_@(?]4`Hu>W9+WA)gweFebP]ETe)DP4^5bWy$jC-:;YDs?KLMgn0-V:xYxi+y:SA)C1QP&4PbUos9UBCoOCP9DdV(o]$Hj4&?JsY?1Zb)d61g4JsZQE@aPNRTWRRIR8(0>nesAOw>hHLg^wE(/R^BgTUi@%LOVYgku_f:,-g6,QT4%w?[_sHVmsu[6]yTI1b)pY^I@*pmsCOd4&;n>Gd(V2Kp8HJK([h(XF@r=@mru`^4?d#n8<njGyq/%)]/hdffp*x?ooa6x$U(v%Q.$qsCQ@?ft@?eEhIEaXcTEk+U9J$ZeyoCiZ`ot+GNgiZ(M)&d]T7iu%wO]MH:_v)_Iu@NXO,h-y?:uI/@SR[,w)nP<8-kOkwiS?(y%4dTT[f)I%0Oj%_FMNm%)MIj+<QPWB?gkUKX%9+k=OUw?D;.AuUVa/XWkj1_hrY(%+G.)5[fv[pIlffGvxbO^F)(Md/q6?B0^G9Wtk1M/DZgUbqfMoT@BI&=D`r5IC)I38RNj`aw5emeX/,U;-#VVqr])U/`14]:<BD(wv)--H:_1-coy8_u#58lZ<.NL&X],4^pN=s0L418Y4HC0x]FI`,iXx%(qj0kTuRTTJQI3-u#yq^f.H4PlbSy-j?BSoL4ScjV*UsH>h&+RQJpkdc#P<DaLu6opU/OY7+Ku]E%)ut#9LCo9k02<,LA6mxE27r;;C8d/JZA$J7c(=wfG-K(ApOZsenF$J@ZnGxp18peW/.*2u4wh*9T$k%i[plw-=S9bs^l9AGZcuI4ARraVD=mk/Va<@m_tCk>A]kA-b^;Kevuooi6.?Tv#=gC$Y*eS]gJ9kMl9#tM6Jg`hlv5av@jD$,/@Uj)PZZcuELDs;dmUo7,-6<P(rYR(hL4I1hb,2Hvy(*%nKRui,OTBQS4R?fo#jHZJ1g4(w]8nMCA[0(;?vBEew5G1<x4$Q%*igjdVGF#=3GC.sU:tuy(]<OwM&183<NENh+/,:G)d&jHoQ4U*(3D#GQ?#&)@eY0rcuXngX,vDMbK8Pw9gY(A93sAkPEl$v)WVu:*Wb-yRp?96dE^KDM8VXB@HH#JMm)5pi5[:EYxW>,PTj.GK,XJyh$;6Vx+_Y.hO,hcmrE3-e`G]S0eBi$>^gKi*/mqvie^sIcB^C+M[c9&37i]a?gJK^4IBoC$k;t5m77v)i5UTo)poMG`<=$t$o^),tX<?yWNIKDc]m(SNi=no9OGBb_buM`TCD/x;JZo%n+kk<Fp$u,h)W+@`Ro8MUMmrQ6XvZ,9JCpBA7KuyRfXBoke._Y>/auFZJ).G*]20]DoM9KKxD<ayI:<gv(#<Pm75p4AbR5K-;BbQ#Du%u@4DT2tA1SjFYFtCKujC-;.M0bepd3URun^T6O<8_wwN01GV`Jb=WdI]?<5]47Gg/?A]k^k3KL@XQ6Z#O:W20a;gsqiMZ22Hm)9;M[LY0KjLg/k78a(0ovYVnXZ^Yq93vE^qnlvY8xJ;jO7YT/@$J:vTfy&q.t(tu=ur]ZlY9WaLMwW.[dDKspZ]Ht/kd*pS3+7ehMi(,XTjvyy$F<Z$cIATe$/coFQnPZ&QoQGy<_RBZ)mRO]ckQg;Jwv>b87er7^v-O<DBXy$^c5JTcaaOo8RdIHBTK;U1BY,KJR8ZS9s$$6pp+/Bbnvw)0Ui/*@4&inJ0TAv<ZbPQBYR@xAi/A(O^n8?WOhYl1V&u%BiIIsF)NII<msSnu`Pa#YRm=,>am;/tw.;F5cMWpIFJce,xAAX]DVM(Fd+QB)/)>b+LBpg??In>qLg^N?WJJ,E#vO#DiQJrq[a[*TC#D-FCJTdGF.Mf_$YPB0+j])gu*m9uHE?_T]]c%i%lOrPp4J7k.fwHij6?`.kDtW%uKJM=-RZyODC,#ArY5-&@U35,LguK+iS6NbjE`[T2eE_KjVwR<Lr,,Q47.C*dhZScM>Rqh[B@Wlakkrd:]B5c5lM;_W-9sJ8NEa=(5v,,-,K<T`qfo?o+T/Zj@m2+g+fGe(j3:cYMumTtfI,F$5vHDSd-);ml4I]%cmj/YtgeaJg:))#^up]AX-RIxOX<cCLC?RM5DEDl1`lrX^BP20c6G._6qa3v9&Nn17Mr]jZXV>>8#+vi?vHO?1EjKBV[F3Vr@3R[tM-y28&h/k<T+]MBKkf-i/+e)8:V?SJE65jq3-HANIF,.p1Qu6#h0gyLdRk:IjJ->(hK<)M=2kJ4E-[,@.yyvu-s^,VDZSi12u@wDxP(thYlk**keN1VrXN@7-U44e:kT>LUM3S0467(u`Sw7n09&R-44M`95dlkd=VIFSGU%hq%^[h>3^.%1vV(][rIS$:P%[uu)Jg7I/b:=<=<^56ODwue&Jf@]iK`]rZp./@i,Pe)>r2j*;`qZ3O-]Q0EY*88,w#D)/p*Kca`+9$icf56$,=q6AY.xfRiRu7s<I6]V3#+0ccKH$qkLabo,o6JrVUA:+RB:=BXTUdRZaa^M_mIV5Ms7TmTZ^CMZW]Ew,J4QSi4$P[m?*?2>[NJA25PlLTLsMKM*h+N@F)n0#U`>?`CLl4Z*y-,J-UoqR/5oDb79uW+X$0/N6kq=TSTWt7?w-9Mte:8rm4/[RxFC914ON18xWnogHb&m$4rt4%B&a)<.Ki5TxsHxYrTT1x6Al-v+J/%7o4.jmR_)cKftoeq*M/=Yu#H+8)E#cLYFi*2sb5xkRrmV^4$TX-teAy#P=;(QYu*<JypZ>GxaKgSg3KsK*kn0n-0_Ip_3j,e1s4F.naVr[?g666Rmn/ikfV=1q.LUn*9t/j<8`9:o0]%&d4JED[W;daegk*i3/m([[6PQ-m&v0#lvJHZaQbG+*Af7M()1qH;qFl9Ql]/OWD(<@q.fC3CG*W]PTh-E$E<2G<#Mja)Ea(a+JP$yrp]99K*u/VV,sxD6gC3c^.?UPfg3@s/A_V>3-/AbI0HeWZq[.KHj/xwtbH[LsA956H/D6OxZsEjONYx@gYmu?#u[y#tG,2lW9Jk9O.k9g6vHM8h_G,9O8HJ^t`.60RmO`m4kt3dK2UJ6]8G#olu_exT%<`5-GpW+m:)CfMpk$+gu*#X3i(aF[O01X.:6JhV^4bBrwb6$wa,5)xgSn22Nj8fRatuABtrGhZ]qyWk>vusQKpU-c$+V+b`v3&>^RpM$p-^TDPX&,U9>%T]mmw^n>6`k;*$;P=uuF_qx)/qbpVJ9G=M/c)^%Gg%ns^MV;H5F,Iw*utPPoUyTWltk6h$%suv4h9AQUK5#.e&Z]JNL;i<+i9kCQJd^vr-s?t_.AgTc4WgOHK<XrGhku*Tw-y;Vb&Dn&]<mTn8dDU4@DxSfg*J9h$+4<&I-l#IuiIBk:hhA+KP_i$=l[JO[wpV)=>9I;5]V=w`BX199XU-B2])b)x=sv6_PY]as?*e*r-qHTq]9rWrVU5u,`-d+^<7&A+c<E$)>#3).c-i`hKRsbIi,9[DKFl2%mj(MA_#;r.S2af_kye&(aAvw;;N^@j%Z]eCj,/u,]/N+,@MC(o.8^L5*.d_xZ4@^Dyv-bt$l-3UKs^)G6&np2l^e4A6)Q&&+6)5GITf,faVo_5=S$Mfh5=p2lAa^ASO6%x<>`bB;0vbBleL)A7,sMWf_b=p,;Lnb%+a5A^]68Gd/,O3nuM_^D8lWSRV#c6C>F#Obrs=q:uw%w^$tK-w%Cch;Qp-)&,^xBwB/#[&Lv@$V+G-d-f#RS)hJ=@`++JW5Fb1g>gM_ypC&UyJe?>PYVul_I10qhoD0`ugkBeSRRK`Lg*a:GM1/[yxirI/BMN]<lVA=.wotW$N271]>?,*TwB<g)75R<fjxIH_jsQ).W#vw.HHjk8+O#u_60K7MHTdA#dui@5X%PlFt0POI3BM-RwNkmA_[/4E?us*JtkVG#m+fmY0kS2-%X4r)SX`5j])w5NqPq)O3^lnQ@J%bl3ciiXQ__[cI-vr7WJ>U4.cBna<f#P=(S]<m:V8OZ%vCt@NGjJ9dq_TqY28T<uc#=Dqd(f`%Q#W9uV=GQtiE@D4c5qAB:>I8Fq/Y(S$uCDSFH2FtRMKENlFU9K0;%+,4@.)cBj8>RghT^3>BNYfctX-_MvJVN_M<EffJfUjMTNbut-XxOyOhy-hbb;CM4[^fsQ(p3BoTL^u#_gj9u]/UkkpBTgT%EpU3>&&2?-$(/cdabX>kBQR75Na(9:/E;uG`OP,^0PY@a2tei?)S/4JL+KN[4lQly[WP7D.fwA7$_bj1E;/$)-YJ?Y+7@Q[2&OiAbEHpabd(v<DuWPR>)I$#N(U]8yVI4YL,WFFF<:dPvx-f9;Oi8+8KLJWX(W1rq)(G_4PR4)Z4o&.yOW):=M3`6uZ/`o$kdC_i%Ej.H)B3Z%*a<lHZZlB-MG`(qoS66UP$PAiL3@5[^S8yl[v,Qk=NvSgn25)q9Mux1^UE^19d45.5Q%sd76tx(<ONt`#_blpT3GvVUJ))o,EmVQ`:AlH?bs3)y1)66v<Je-nTHA7s7??Ibk&?d[5_sC/wDd:)I`khCf4@@H,)dr(yI*H_[fv0t4>:W;]ZKR<F+KC,FW6O7ooUlQ4^3v<rcF6wlHlNyNKfoGR*5[)Zi(^L]u.CSK#^b_>#1,-[J/lB5IcdS[Z8Q51dM3$FO:05F8qclo&(M9>M>C6#laW=efVkHjm=tDa)+H9m#0@>&ey=T&XAS=WEN6C20X/ib.EOI>coZyXcs&^3^B=_f0%Wu-ti6#-,Lsw.pcLF>EuuyOLRDjYOpd=/YF5BoDmT)Q:3kTYPgV5kVY))I:k@In68Gdx4(99,cL_w$m+]uVRlix2lspRl_/,V>eRxYpOm1.K=.JOyh96xws.=<WNbn<mr;Gc5J+N+h?c*;St:+k`6@b)I98;Yt5smUhBhMJx5)L:m$CM7Q4RJPJ2_5uu+2XF]6AFGVZom5r*aA%e%5&4XMGHm@Xusf#*AFRrJXdwfD2&EqjT1vX>>$1KQBFn3/Xc@:=E=&x<_@I.WII^[WZbe`&>Je?hVE,KCn#BfA/:_^fSWc]fDlqyCYtL5LLKcRl8s&KSDqadA:2X7o)D5c8uxcTc&7)@].2`RKiA:fCpyr><r1G<<t5h]K&Xo9m>-=%V>,N8s[GmlbV+@t,qT30W*QHqg>*ur:))Zu;L<3^pM9P3GsAjZJ8WT]kmj4>.9?c$jsrIm7iN0mCg]+jOZeg7&-$JrQUx@Sd/JYg?^e7<2dcW7i;<iEi3pXbfL$o3w,0.eA,n3>RgQ?AljyRig=v=Ri9nio2tXox,iR54g8Ic@(R#T9s7l(T_7)55$E$5c.1Vi<V:45&1ZeIm&.kD_]O,+GiR].lq2mtEJX2i;a)2?4J>kqg/Gpt_en`Y(h*vWPjDqD)#CSa%$n&HPb(vQD%p<%2OCPLg7g8P+9F%LP2Nq0-SG`yIR1bc2hYf3a>7]T&XhP#)ENy;XX9beHvUr<M$?[KSH6MkWb8.K>`52D]0fwNd6%m<TfynN3(`i6N$s>9RWvR7G*qKfhZ30y6t[?oHV+Kk1upTOb%Dviq]meA-ryA9f7v**wXeH]jIsaETly-nP],gHFJyVwbQLk$O1h=G_bhD*iq8JZ,AGv%+U,nC[v>C`hf=d^#ULmWaL2Rf8Q6N^N)w@Iv3v6;w^]9G<5]BP;EiuD-H:0rYb%@WHc>dI]T#f@8iF2U1FdC?e5VJP_<7/opt@VmJG<6dblSUgRt=w1l3k7;j@yaJu/_.dLo<#=TSAm;kZj-P8t[n5Oj*kIn05rG";
+}
@@ -0,0 +1,14 @@
+package polyglot.filemanager;
+
+import javax.tools.StandardJavaFileManager;
+import polyglot.frontend.SourceLoader;
+import polyglot.types.reflect.ClassFileLoader;
+
+public interface FileManager extends StandardJavaFileManager, SourceLoader, ClassFileLoader {
+    boolean mayContainType(String packageName, String name);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1792336122772L;
+    String jlc$ClassType$jl7 =
+      "!1QH<r6?+1Oql:gQv_jq-V11hSIMCgxb;v?w72W*?0Xo%ayDX?jaKk3C839=hO_WM20:gIuI^q_<OBS$@?*hP/HWM`(x8xw)R@#LIg0RNeK8AbqBU@6pK_gj)bqdeL0gFI*DDp(81JuOMI-VYSR3SuG7H@ty<[tb.#OXo:trCHP_B,ETNi<2:=BFx;I]6c8+:k<*HS5Dtt><T9N*s&V<AIE;vcf=W,^Om(CeiJt`MeebD<OFRFU(bfFPW1B?n*d_y8.JUu$@j*mNsj:Z^qiaT<TTX=Pd,bd_@p2]7Ceh0S7-+cVjjr]99.0b4e2d%@sa3EHS5L8S3CsCTG`S%5J^1+on&RmFY*^=o,gpW>M*%sZ2c*V%ZVZKS[M^aW8j+@[y#f[S^w.57gFB34i.@yaumP)$xY98VAGe2Uoa`?K$SgR/s]OZD$*ZLf1QSK<Njv2PnVVhFstFgZ_uy)L8(r[#9*5<F.UMm7+PL,.Qu)Q>H#,n(NwUQ):s@x=-%X;>=q#.1[#2K%#xM,,uJ$Qo4PLN:BIQSNufeoZ[_AYikMS8Fu@QZ&,mdZ/HSBX$ohHe)o)aN1r^H1l#Hk;JichGu8,CxhrM<.)@EN+U*w=.n68v@CRx[wL_-vB6<5ImOcnV92$97,VcFWQKOh8r@^gh`@;wA@P-F>tM-JN3<f&H3=pUjbIu$o2OB45la.`Qmmws&tDS.1u&qr59G^2u&$:QMRv4tmbnG54DPeDMPFQi5b<^IRuPjF89lI?EmY,TQfG8:3sCGgSl_nv,5U=qlXYYNA*nYlD?#A7Rm#knt0d+rVy1O.ywqOY`pm%x=2,C7KZMt1]LK#nI%fL+3l/e<(B+1@@CA(&6`o#>^];#)Nqkaj9dk^]K_w+::g-iDd*.4SyXJ+K-GkWCsd4^%&le%8oSVe#gJ=I3ls#s]VHgXkIN;a<iX%O+7(T5i_L9YvSk=eKT9ge?1,?4?yCJS=0q4^J`s+-wh7U)06(c.2kDn88@afSgrO=NPA$%TN.>Ec8kCex2ei=rK9M,iWWFLT8tZf3g`6q^b?G:JXZEj)SEgU2u:6]nsW/b%1]XLgBi`Y3M$%OpG$vO-jJ:q3D&7UOp;F$Yj.drmTC7c@M4&EKuHT,cht9Re8/NZWT8bJQBnC#b^-bsUevk<jHANF&FpMqEJhGKak<qVi9yvFBdSX75w/r_a/mIAIE(^E.]jB;R6B9?WJ#]Y9goN:+?q;e#bPbSD@2P@+JB?4JoHKBmX+PrFZikE4VqGC9@7RFqbY6[$iq%g2+NF/ey3dDy/QsAZlhwi_CwTJN`8$_TjybAN.`=QG4uUV?hc+SY,LrQd5=U[ROVPSIPhOg(/GU<W?E0m,(bp3n6agkeUxIFX7G2kG`S:Kcs(s_CHmZa1h=V0f39;h*Qs^RIcnZVXJciny.S=#jxM.0XcfpY*b[d5S$>6eU.HB-Mnsu1UFs70+*drrG$GPsO:h?3r/`Ym)J*iOVV<1e+gW2DD(l$[m9y2S0*<3[`<QRbeOQI:`oOI*x)32CeNVI3:``mf%]W/w;4g-;hyJZRw.&%l^G:*tP>2a]6g$oA,Pmej^,FXR@#sAC=#110L4map7MRI[26$/XvW4S#7*8Y1&M*.@;#u809S@UCkB%Vdv734o$Y$QN/glH4G@cbp[l.[+;Qg^;$-FQDNZwK`EA)?,g9XCmF&WUQH.eQKN75>ZpY6?Y/COS7%KvfVd)LKb^Y(d5wqO%n`a+sZX6u19:m%)a=F0.A+2OstAN7g3G^BMO*2wl%H60D#vm(#[Uo74uq:X$GX(#ZpcAs1F^ee2PwcY;>?nJ.]WGA#U/,.TZE4E0(ru14-DDn^NAc,[Z87M?qJ`Fc,;11]VTJ@^0cIK0b:(Ii2]u%(f`Qrw<r_-l0/`P+ocR9D3g?sJF-?yh,0MbKis@$?JnpSoG=/bt]i(D^E0xf1+M`jK:WRn%J%`]V21we8)#5&(02Vdf5Sc=OSY[?WK>a#9YSfuw8.`(lJGJ5D+$evP%Km;6=AG5lOQ4by9`Xwr3vokL[l054nUVt3)r8D<bL$T<J.y^ow6y^N?C?V(+s-owDhN;fNn0#r]-m<r>KD9bcwSpr:7[Q0@N6*4N<`w<DP]T*I7=h:$(JOZtxkde0e+Z)w$@";
+}
@@ -0,0 +1,234 @@
+package polyglot.frontend;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import javax.tools.JavaFileObject;
+import polyglot.frontend.Source.Kind;
+import polyglot.frontend.goals.Goal;
+import polyglot.main.Options;
+import polyglot.types.reflect.ClassFileLoader;
+import polyglot.util.CodeWriter;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorLimitError;
+import polyglot.util.ErrorQueue;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.OptimalCodeWriter;
+import polyglot.util.SimpleCodeWriter;
+import polyglot.util.StdErrorQueue;
+import polyglot.util.StreamingCodeWriter;
+
+public class Compiler {
+    private ExtensionInfo extensionInfo;
+    private List<ExtensionInfo> allExtensions;
+    private ErrorQueue eq;
+    private ClassFileLoader loader;
+    private Collection<JavaFileObject> outputFiles = new LinkedHashSet<>();
+    private List<Job> jobs = new ArrayList<>();
+    private BuildCache buildCache;
+    
+    public Compiler(ExtensionInfo extensionInfo) { this(extensionInfo, new StdErrorQueue(System.err, extensionInfo.getOptions().error_count, extensionInfo.compilerName())); }
+    
+    public Compiler(ExtensionInfo extensionInfo, ErrorQueue eq) {
+        super();
+        this.extensionInfo = extensionInfo;
+        this.eq = eq;
+        allExtensions = new ArrayList<>(2);
+        loader = extensionInfo.classFileLoader();
+        Options options = extensionInfo.getOptions();
+        if (options.build_cache != null) { if (options.serialize_type_info) { buildCache = new BuildCache(extensionInfo, options.build_cache); } else { eq.enqueue(ErrorInfo.WARNING, "Ignoring the build cache, which requires class serialization."); } }
+        extensionInfo.initCompiler(this);
+    }
+    
+    public Collection<JavaFileObject> outputFiles() { return outputFiles; }
+    
+    public boolean compileFiles(Collection<String> filenames) {
+        List<FileSource> sources = new ArrayList<>(filenames.size());
+        try {
+            try {
+                SourceLoader source_loader = sourceExtension().sourceLoader();
+                for (String sourceName : filenames) {
+                    FileSource source = source_loader.fileSource(sourceName, Kind.USER_SPECIFIED);
+                    sources.add(source);
+                }
+            }
+            catch (FileNotFoundException e) {
+                eq.enqueue(ErrorInfo.IO_ERROR, "Cannot find source file \"" + e.getMessage() + "\".");
+                eq.flush();
+                return false;
+            }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.IO_ERROR, e.getMessage());
+                eq.flush();
+                return false;
+            }
+            catch (InternalCompilerError e) {
+                try { eq.enqueue(ErrorInfo.INTERNAL_ERROR, e.message(), e.position()); }
+                catch (ErrorLimitError e2) {  }
+                eq.flush();
+                throw e;
+            }
+            catch (RuntimeException e) {
+                eq.flush();
+                throw e;
+            }
+        }
+        catch (ErrorLimitError e) {
+            eq.flush();
+            return false;
+        }
+        return compile(sources);
+    }
+    
+    public boolean compile(Collection<FileSource> sources) {
+        if (buildCache != null) {
+            try { sources = buildCache.staleSources(sources); }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.IO_ERROR, e.getMessage());
+                eq.flush();
+                return false;
+            }
+        }
+        boolean okay = runToGoal(sources,
+                                 new GoalFactory() {
+                                       @Override
+                                       public Goal getGoal(Job job) {
+                                           return sourceExtension().getCompileGoal(job);
+                                       }
+                                   });
+        if (okay && buildCache != null) {
+            try { buildCache.save(); }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.WARNING, "Unable to write build cache " + buildCache.file() + ": " + e.getMessage());
+                eq.flush();
+            }
+        }
+        return okay;
+    }
+    
+    public boolean validate(Collection<Source> sources) {
+        return runToGoal(sources,
+                         new GoalFactory() {
+                               @Override
+                               public Goal getGoal(Job job) {
+                                   return sourceExtension().getValidationGoal(job);
+                               }
+                           });
+    }
+    
+    private static interface GoalFactory {
+        Goal getGoal(Job job);
+        
+        String jlc$CompilerVersion$jl7 = "2.7.1";
+        long jlc$SourceLastModified$jl7 = 1792334366147L;
+        String jlc$ClassType$jl7 =
+          "!1_<16`*`@,9a@0?(Q:VUsSUvKl.C7IaRaQYR2aS6*os-k[=vS$ld`Ym.McBK$o/yFCCUT>XEQ;bi=:M6%Z_bm:0mo$w50#+?iRRW/XrXN4)CHib>?=iZ=k^J%9hQ>iJCp&6a43Y@s(jb`gW4dmI6n_0UM]fg>M*1s5Xk&qOJeb?EVuOiFQoTh`7T,:o2gEZS(CUk>n5&H#<Ue5fJnI:]?IbApU19OhQLigc*Jpva$R-ZO/P]l%UV,NAsKJmQ:=@B<>AEHea*m6>2Rp-.XbH9Q6p%21]O-D3Z8TI1]Npk1X^IQsnnh46C+3NKg`M5PmdK?XR(oXE.&IB<4p%#sT+F-96]-p#5GPtew)AYkS-r]($C6HrF5_P]F6-x$=(Oti]E+*&ud8.D?<f?ER^h&J,,ikDZ]I.SXaRIZNR/UH7pNMavci4)ogH[H@y$r<ow5aB0gQsEXf<RU=2/?dGvsiUFEN607SX3QQWG%cM]oN$38Exfcj(Ng-6K%>3CVW*xJ?HQJZ%-#eqWX=g>gEAI$Lh<W[UBJ./6>OVQ*osnMwt4TrwP/NkH&:=5RLaOQq>3l1Mohi2PHWZ:+88Vgk,oH<kYH+`>s=?CTCTeZx_rtsVpuqny^Sv:+.#ksHwU*xF(_D]aYc0$E2rroDvfWW4s8iN+6@RC#Cc+0LEGdZ8Bh.niAE*_ja1bSOmFsKOss&3.f1:%kC<^*t&rB[`2mVX;9Elx1]K)_lSAU]3^g]m[,LMa]8.;VT23.%bVT=wRdiaF=x?)MH0X/s`0:_:=[;Wkor]S76%JdMbd*wl0,HO[:B>TE;hMDO0^:?)pm2l5Zl?ND,iE5d:ev)M@&98rhVSV,qc)FX.dv3J7k=1DH+<.I&4dCa=<Aq]cS?@?9AU%M-VA9c3yTC`K4BR*O=tWAS1u:rW-I0EOVJn_=FNn&6Y1c5lPf,.f&LRC`;@y6M?mTOU$f6_QeegQpL%vBCitnCL]:FaSn7VZf+D3A;]st]-mg.@LrSidHQD%;FG*PnUbU5<;WhAs_7am$Fg5hbu6=0`<`JsK>xBb1nA=PgaM.KP.;@0#EB>S?t]SStS/HWyFc`1Y*VUZ&,(-:9uP6`aq]I-jUTLL]xXLUmt.:drIy-ML?yXhAx&EH;Ap*#REQ3mL:hNiWi$,^<Hlw#1J6FQ3H-#@+ERAn9t9F&(M@in@^,4&:/AZJ/v3rWB(IpHf#;&c_Ls5ydU.h&-uEnAot^,MCo;[*maPNi&7K%LCdF1uG67TR`GLFyEC^aG4sCZx1kXZCKyue0xy=O+yd$nJMAbr($m`[9(G$Xe0F7K#mS$ZVPA.FlglJ&WdVAE?%CkTMF0(((2VD7S]D=]->a(g=o`E;OdUIi0q^mQZX:_nck[rK3u&+d6(4x&&#nW;2e-p3]dO,@Q9bmcmuDud#6d#.iM<O##?7XTHU6<),c5WP>siEd49jE7yYEKfk7KFOP2%m4jcT.?ck7HgAb34vLDGwbak?(kQJck0y-$SO/@h8u>=/4Ij8:cXjSHk$yG^Z`t`JwqiiInS8YWAw1=Ynd_A:EI]lPr*Fej;<+)s:EgTi=7rVYXW9e+W,OvqHiT.(Je(LPdhGu8TfZS$-9,,ZG)CcLD=Cm3d]$.;Hhk.fpH7BV3J-o%j[Jn_Q^g-F9HioE6Xsgq*JlW*cv8i5n+_ik5^Uem*q2J3<>knlb3&]Mqa1kCUn;vrUD?0dKB$bZs_;sD<*hR<C9pGI*KdL>yVaY%D4n,wwAMNvHn3(y$d;@=l4hf1G-bhYq]fXqx#1>viv#+(?d_]Dtnhq[(L,UL$2rX:GU.=H22xy-vJgSPKdW$90.&_cV*L$>55k+CbN@46f:Ar9edyxNm(%>x.]vK`oS8w.+%6Z6RvWcW.&<jc6I(qGtqvBk[`X87P2Cj9oF`roSa_CxInu+Jp.FKHB/=e2vfBXBlMh&7DK-T_Kb=mUj<c;R:0q7*l%ZWO5VEwEU*7T#%.v6@mmV^naD=t[/?,3J(Xk-Z`km]/pKZICFj4i#uat$8x54Pn-MfQvw/K.[i<(=9,I>[o#,%DPqACbc:O#tv_Z2;Y/-v]?TtHuZASdSoj1_F:_MqMrWc/0mR-6[r&#L7JEGyn=w%a@@i-TSxwimX68HICnoNo37IAa+$i(kF5tX[lq^ZCNFnQl#xQ4iqHk(y*>3-x(pIYT_qcQtV.n@6pQ8d[R)/*A3:P,GpS-6lo&Vbn^2i]sRoAK<7%V`t3(#]mq(L9x-5M:$CV*eJJCNiZdlQ>IGyWbN3(#CHKd.Ju1*bkvIP>C?FPMi7DarVfX)5pS(W0$ih`<(^OoJ*JCS^#01ibVGbp_eS,+c066w8WHsZ[&IRu32Jq2x>D4Q+])Mg8^Pw8V;,M^$BwlEeikTKG-l,vI_Hx&fb^Y^/Io5AJTXgK#Hao7^/B(eGS`4j[hMdOWei2TRrx;6en*$sHiI`L8QB&>+]Rh>EqN,H7Uvk>0MhEFiPiv8O(]tf.hFm0;/vn2%^ru7:F[D(O,5=X/vLxh^qT>EQT52->F^#4o0n4YMd::<x2I]7JOl]5n[T5HADI4*Cg[Q8P3My(gr-H]=(<<vLp[(8/ix$:ut5c7)#eluG`hncZq+C>Wdv*U;QXgdC`^[QqLC,l;*RgW/Fm^>X+L0#FXb=q8@(aA=tB/a#FK584NW;YUUmepqCCnhSqs&m[cs)%3[ltf*7)8;q-;`Nmv>A7@g=tTnbZtH3a2ac$-n/5odT2//DT=*MT810kMxj]tilwrJKEl<$%=p-9GyY)w1vc[a1nOm9W(%Vqe95nl#mDHK1WdQJKn]deYW[uMfy.^(5@rr6vR`e&%N-Vt9)]76N]JK0WY;BZfAo/eYXkBmL=%pZsAjtXi#qk2H<6`Rm_SJOZipUVpZg+47Lhtro+>%=^6#4,]4E/FAe9g65-xc4b0*#2eI@pQSu[,n71+;7egJ&TC2>+bXDL1";
+    }
+    
+    private boolean runToGoal(Collection<? extends Source> sources, GoalFactory goalFactory) {
+        boolean okay = false;
+        try {
+            try {
+                Scheduler scheduler = sourceExtension().scheduler();
+                for (Source source : sources) {
+                    Job job = scheduler.addJob(source);
+                    jobs.add(job);
+                    scheduler.addGoal(goalFactory.getGoal(job));
+                }
+                scheduler.setCommandLineJobs(jobs);
+                okay = scheduler.runToCompletion();
+            }
+            catch (InternalCompilerError e) {
+                try { eq.enqueue(ErrorInfo.INTERNAL_ERROR, e.message(), e.position()); }
+                catch (ErrorLimitError e2) {  }
+                eq.flush();
+                throw e;
+            }
+            catch (RuntimeException e) {
+                eq.flush();
+                throw e;
+            }
+        }
+        catch (ErrorLimitError e) {  }
+        eq.flush();
+        for (ExtensionInfo ext : allExtensions) ext.getStats().report();
+        writeMetrics();
+        return okay;
+    }
+    
+    protected void writeMetrics() {
+        File file = sourceExtension().getOptions().metrics_file;
+        if (file == null) return;
+        boolean csv = file.getName().endsWith(".csv");
+        try (Writer w = new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file), StandardCharsets.UTF_8));) {
+            if (csv) { w.write(Metrics.CSV_HEADER + "\n"); } else { w.write("["); }
+            String sep = "";
+            for (ExtensionInfo ext : allExtensions) {
+                Metrics metrics = ext.getStats().metrics();
+                if (csv) {
+                    metrics.writeCSV(w, ext.compilerName());
+                } else {
+                    w.write(sep);
+                    metrics.writeJSON(w, ext.compilerName());
+                    sep = ",\n";
+                }
+            }
+            if (!csv) { w.write("]\n"); }
+        }
+        catch (IOException e) {
+            eq.enqueue(ErrorInfo.WARNING, "Unable to write metrics to " + file + ": " + e.getMessage());
+            eq.flush();
+        }
+    }
+    
+    public ClassFileLoader loader() { return loader; }
+    
+    public boolean useFullyQualifiedNames() { return extensionInfo.getOptions().fully_qualified_names; }
+    
+    public void addExtension(ExtensionInfo ext) { allExtensions.add(ext); }
+    
+    public List<ExtensionInfo> allExtensions() { return allExtensions; }
+    
+    public ExtensionInfo sourceExtension() { return extensionInfo; }
+    
+    public int outputWidth() { return extensionInfo.getOptions().output_width; }
+    
+    public boolean serializeClassInfo() { return extensionInfo.getOptions().serialize_type_info; }
+    
+    public BuildCache buildCache() { return buildCache; }
+    
+    public ErrorQueue errorQueue() { return eq; }
+    
+    public List<Job> jobs() { return jobs; }
+    
+    static {
+        try {
+            ClassLoader loader = Compiler.class.getClassLoader();
+            loader.loadClass("polyglot.util.StdErrorQueue");
+        }
+        catch (ClassNotFoundException e) { throw new InternalCompilerError(e.getMessage()); }
+    }
+    
+    public static CodeWriter createCodeWriter(OutputStream w) { return createCodeWriter(w, Options.global.output_width); }
+    
+    public static CodeWriter createCodeWriter(OutputStream w, int width) { if (Options.global.use_simple_code_writer) return new SimpleCodeWriter(w, width); else if (Options.global.use_streaming_code_writer) return new StreamingCodeWriter(w, width); else return new OptimalCodeWriter(w, width); }
+    
+    public static CodeWriter createCodeWriter(Writer w) { return createCodeWriter(w, Options.global.output_width); }
+    
+    public static CodeWriter createCodeWriter(Writer w, int width) { if (Options.global.use_simple_code_writer) return new SimpleCodeWriter(w, width); else if (Options.global.use_streaming_code_writer) return new StreamingCodeWriter(w, width); else return new OptimalCodeWriter(w, width); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334366147L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<@&&*^FkWjr<3Xk^2,(nL^PWIr`0yn@oYHJDuiJ%EvNsQTb-rr+oiJg;(5)q(O@Ees`a&,X[[:3vbjqPLMFl@JkVde/h,#Nkv0Y<i&pW^u>ku+p@bXKBwhLE9ZQb7p#+(5v#2pukJ]WbRJ$jKWme1IgEZF?O,Gr:8aKOG]Yh7I-tJuSn8x2g%_)Z<vJkU:Ic#Ue<xS)WFhVSt<-jn(o9mjcs82:5.3j7/SlfL[(Hq65D?<^kUysxGQNf?_=86`QyA:cGnJRC__HE8@=M3eV1QOL/8@J/8;4oBECU*`WiqDmj0B(j4(f2$Dk3*ucSm1L,1^Z_/Al>Rcr>F?O)fF-dvCRm*S#2@D:B4dP,g(:afkQlv<W2uY_D9lN9^NN,mAoo)0h:,9)+)/`?F^UAuik(-Iv<-hX7&HD8VLM4=aM>Y+Tw`9qMVYXpqGj+;Yv;i*h$c&-i5#e`aDnaWAkSC/k,(R?VmNioq5d*7H0M$5LiS$Rja69oc/+j%e)L8tiTRRv4:*ML<4v*Z.C2Uh@gg:$fxKEs`d1:c;P:O-jI(Wb%sE%2+oO1Yoj[pcp89*A(ur.Fkv:A3V:m?SjK&20_#Y[Q$Iu>9$]uS)8V4AvL63QNP3p)#N$H/qHEd%/bs%YD4tX5)cXXe^-kFs9sYwvV*Jj8mr/kf(C52l2q;I:K7qy5#b_+Wl`;G@x4EnEq77ghEZC%[wgRmPSL4+n8Bk[EEM-s<8?NeU#JKm2UoG/>3^NjFWEEZ;p*i,EfPu_?&d=e6yWKImPdlVG(Yf+<j0RjP6TC[]f(.@RZs&kT9[s*G&fs?F/G)@&Knryjqgku%f$#r*yCO(&,vhXZ.b=^tQYs9>BUOM#qbt:;rtB#gpg;2=(E]WNj%>,RiEL`PvqE=P)NsnBZ6[`Zm>t?Ll%1pq+9c^.Iq];6_be-t=RO0MpH.N7+;U=g<,_ymbo(>TiM_6;]Td)X+;IU[TbAOTd7mNiQ3+Bm2dZ=Ed&5B5><JsbfD;>&n-hZZ<Ybw+C2,Mk>O[h$QHf?q.iknn[mA5mbvja0q,yf/*xlhY86nfJ4u,<J1l-XLEmR`84Tx1*Vnh[B<3K2VE7Q%F;w_Vm27YyE5328&41/at8lTs,s5Xs/&8:Lqh`Uh>F87ZcDRPcc%TKnF43yXX7df%5:f]jN<eB2`@F8F$#-d(P(/7j:--cpV;T6pmGH<@TqUE=o#9fTl6Gn,%Q%=M;#fsS0mEbn_ePQ_X[l@A]u_s&Im/eOE`.]hKOO9>b&$9M_tL,d#/A6Oi9x86EPX@;WaWJl]#>LXeof#%;]^o.@K&b_PFgd4.ANOTHgDO/k4tgwalSmsM_uoxNO,^?b/BX,N8wNy6y-ZUuHRJy@nPN&ay(/]$df8jIDd)L@Vc/6/f*lOr@W9S,-y0Ld9x)Ug%gi$[h;<3=&f>2mk^#kuxaU>$8vL_b&/%YeyoGhpC=&$&3x@bA`s5yhCsuVH*(pWvQ/ahTPRHY[=?(l3%>+PGS)5UsB`9p$Mm]mLp>H4E1sgdZ,D9Xa4nkoXXBw=CSW]Mg)_&sN^3`E(M>A=]nG5rnlS%7]pi3sBu)XP4mSfQ*IZt1%;f,Qhd`H=-(d>,:W0:fCb)bBSHG-I2A1>MJgyDeZZi+V5DDPYc7^vMr4=@eLC@m)JXoh.<uQg$=>XRYa+&u=&,_vPn(HFie:RjW_nHlmCsD]p%%2(+n]:_N[S6r5$-g_P_E2Um<allg3&h,uE)/61BS2:IQ<rn$)Ke?(W;m^K:KvXytInyKM_wcMHLmfZcr]F9Zuqk0E,Lv^:13X;s[/#Z;Z1jhX^*QbS:+enRM67c.r;-JY8YA^fE0#oYF38bOl<W1>b6oP[Miomupvr*G#W_=P92ZLlT`yTTWFZm3+#447=AV*lrn-NGK0eK3B_)/CYL`K+I7E9>/me..=Q9Oa2)7_nr)eaXE^GCIwo*Yfud[?0;%4e;T1,H_&l6coPPhQf8g$=5-:/(<;h(I6Edpb[j-[A]JKnlgKO3`G9^np]TbrMeOk=ov71&[,-@cO3DGx;?_^haJ:(vN,=dv=IcwwTZ6g$HO0eFuYHpSClvl8S<I$[5muwUC$M3T&9/8%UL]MbL@hu2kkL@Z/r`m[,_p_*%^3>E.<b8.R#QCOjEUDq_j%y`Vs+O22vqJ4<ljy#%5gbAjV&HtWZ5.vgFC?2M0_m[M62f+=LCw`dC*,eYTiUM:Fv[D]/H8FD.y%CA2ZWuwY]i/Us=w&dOF0Tu9rXLf9o+AY%mX6f5T09TZr^P$FAeaw@Gm2w?j(;<.58q1GGGMUePpmhdoDm>?p@?uX5K[[9;aPf48G,WkLp)+Z7iH8cQ@8)%ZJ.aRf?+fgnEcS48i-<%MKS2#RlFl96y.wj2P?l_3A;g_p.CmiydYgAP1dK24c0b9=;Ws2&,69TgO?$Xf#&(qhPAdfkY5Gc9[wsf(:+ueSaC4Aw2L9B/g*d*J*5wpkc.).pbO+:C[GmOjeH^Yj0/[HNhJ^eH@&(5gH-ud.[nA&*i>02;yO=C:],$`Mrw4iaf&W#/b#tgs+@$N7RnAajB4jkN[f)@#.A*1@jUnToA>u1*%E-]7&TD?.TGjhpgZJ<T>xYl<E_>^W<;UTQrsDH`ku5kUNMcF-^8[aT*U>Z[B:IJ[uFUf1+67k_gFH8?T$-vDqb=Dj2&d[snJeT^KAs45upwZl$RX3Qp>+q8/Y%?w?-ES%30@sX[%;_I;Fl)-EnIeqaJovD17.g+Nh5Aha,i0WI;WX7u(CU)kJY:E,f*.K<-Q^rS],#J1?$Sb**5#vHd*/J+?r?afO6&/wd76`N3&-*9eLao/9iC-=tGfheV#^&l1jm=7=oLd)]hN3tOhH+XQvKHjidZ./+9NU>ObSexya4)4*@80D^%950k4Qe[:s#*0SKl<rKD+2=#Dp90ATOgo)i56o2p]un7..7GJ&1ILu%n=J#Siavh3J&%pbVF:B2Jj`@REqs`?VtgFjPJ,Z?U+VkR<MO@tDVGGBk#L#coHEE;O9fPdE-^,eg3@6f)3sCoV6H;_^5M*bu6@&HkQYm@`5#q>(*fY9)IRNh[R]+uZ=Y-+Q]q%fgRP;J$n4x.kW)D+jsXUXUF3j8s,6c-W9j=cAQ@3EtMQNmG-,];j#k*ce:b9X<(pVGVaF[CbkrL%[aChQi^+EH^sWti-jZklL@qYL2Fq;POR;smuif7o(t0x@jP&M-f#n=-DU36ciCLB;N;@4/qpAiT8R4](B^^+ir,+a6`<SED5GuC*4q@g/J0VH+CLh7C1bu;7unw]?(kW/ksDPa)eM<TC3&0rweDX)qqM#k?4&Sbc]4Eic[)X#uU<tp1`7<Q^.E^<G]T%YrB=VGg6$U-W0Oay=]G^d<Ckb9K3Z/KWKh,9BstX>,aryxAA3yr/(x1]>D`qUxsCTw5b6.VT]#TfZ]n[,(VH&0UCf4oy9%cgpuHB:rCs5lE?H169jn9VCBF-wacSCpW*1ny9@08=ai=o42Q0_Nv=*/;,N^sx/opo6^7m;1E;T;XxP$/6.H@.[l_p*2sHE0JncGLXfp*S1tncNMu,`k13<t[$=VRO=C<eR$93]X)EN<kw8(U?;D0lM]&g@;?&Px9HwQ<,jmFQ?Co-4-xV3v_dbV&F/?+A,epIjj*H96MSweq&]Abdtw_V6HGajN/BV&qbT)$vV3,Eo*l9KF,_jsrBstAU)&Kq_.>b(NOoslgtOO.^8@$uZ(Ol/NkmxGwGRS3m-w2q`PQVE]i79@P8R_0EHe8Gp29%EdS[x$wx1>60#UR2H09Gv/?r+ID@7K5[(5Lf0)[[l3MnY5&7ZYFEsFg7W@o=oTBG<c?J5$C:KU:6*HBEE*Q=INyo9gJaegAjOPE_&]00V#PN2ZWPxr,Vcc<Ot(f=QT>wJ0gRNSrTVTg#SmR33SsPZp4R;WsUJ]Mc;hJwZe(^bBA:(mQOi592T+M`QnXD)fI)Wu)Te264kb$m>Vcv4vpt,jgLHOb3GDmQH>7*BXXxyWwR,bYhI(>S^6Z6K-bnoBD_Q4U913mXPq:CaW_Z>NH-bYNqUe^T[#FhlKYtj`la_QcG+UZx_M;.U,5HUJ?#=Oe,m2xw$G;N)3t,t<=n<KQ,W)sY2ka9ih1@5ru%Sp4g?uu[[smG9J6]#v#%#,Gn4D?`(K^NX$k)9Qi)7%OK1a$D2-TG=oI4Qb0vI/;@B?5M.feJnY,DX1d(;[R8%n:BATtH5LZ/Ex15.XiZL)kll#<*pp?7Y3wZ=I^WpnYsUeClhKcYSa<NX4fOgNY?8GOGi+HbJdOnbj:#as*v5&t,?+LBr5J6%BqhQj`Q<Yl)sd+Pt+4i)Lt)[%wjw0?0mMTh`1Z6&wI[@767SWh3tAoIOW+Gw*P_j_?ys-qGdQQdwKsb8K>s7T2b1KBlKTpWxi,=C1H@lY.C+F]i/TDHiuYlYyut]8NpcqBoR@Akg?*9e7;2lnkwf+Lk;%S-qtufb558I1C6p.Q,Z),-nD*1kvRH5#bcor4+2;+aVwx5-b$-p(b,D2B/tAttO`k>qS;O@>n##b*FLLa<]$_ra]SWUIdd5:JSG;BYGo*Gj0s=O1sfGA/)1<dDAj-8BWe#HLP/3&AiFe<wxCvqn<vJXE`A,`;kHm8NrXjj4F1Is,D";
+}
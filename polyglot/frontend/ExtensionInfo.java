@@ -0,0 +1,86 @@
+package polyglot.frontend;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Set;
+import javax.tools.FileObject;
+import javax.tools.JavaFileManager.Location;
+import polyglot.ast.Node;
+import polyglot.ast.NodeFactory;
+import polyglot.filemanager.FileManager;
+import polyglot.frontend.Source.Kind;
+import polyglot.frontend.goals.Goal;
+import polyglot.main.Options;
+import polyglot.translate.ext.ToExt;
+import polyglot.types.TypeSystem;
+import polyglot.types.reflect.ClassFile;
+import polyglot.types.reflect.ClassFileLoader;
+import polyglot.util.ErrorQueue;
+
+public interface ExtensionInfo {
+    String compilerName();
+    
+    polyglot.main.Version version();
+    
+    Scheduler scheduler();
+    
+    Goal getCompileGoal(Job job);
+    
+    Goal getValidationGoal(Job job);
+    
+    Options getOptions();
+    
+    Stats getStats();
+    
+    void initCompiler(Compiler compiler);
+    
+    Compiler compiler();
+    
+    String[] fileExtensions();
+    
+    String[] defaultFileExtensions();
+    
+    String defaultFileExtension();
+    
+    TypeSystem typeSystem();
+    
+    NodeFactory nodeFactory();
+    
+    SourceLoader sourceLoader();
+    
+    JobExt jobExt();
+    
+    TargetFactory targetFactory();
+    
+    Set<String> keywords();
+    
+    Parser parser(Reader reader, Source source, ErrorQueue eq);
+    
+    ToExt getToExt(ExtensionInfo to_ext, Node n);
+    
+    FileManager extFileManager();
+    
+    void configureFileManagerForPostCompiler() throws IOException;
+    
+    ClassFile createClassFile(FileObject f, byte[] code) throws IOException;
+    
+    @Deprecated
+    FileSource createFileSource(FileObject fo, boolean userSpecified)
+          throws IOException;
+    
+    FileSource createFileSource(FileObject fo, Kind kind) throws IOException;
+    
+    ClassFileLoader classFileLoader();
+    
+    ExtensionInfo outputExtensionInfo();
+    
+    void cleanup();
+    
+    List<Location> defaultLocations();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<I,b-:a4`70N;OvH9I=mB,N7^D`Qa#@?[3M?ASHDUrK@*Z7j#d.`oK5$t=_3c?o#,//T@55>r;1AHQ/tgvYP$R*^x*&+Um;TsUQ.q7R/M?SY=_`pCv[q(;oNfVo(Kl7cTa0KCpl2lcqjx&VBaF6N5lV#nmrFuNIG6;q89bw[t&p8d]+Ap<%*SIe#_K#e52jNn+UnUxljw`v^jrB_(r]^(HjN:rBRjHHO1hR_bDAX<Yat:?._^d(q;?e*u8fjgxRpmD,roTcFfyFj[;C>Xl)@IXkf$5;kkS&b797`46OQjJmgh,gN,T<9)sn`>5EG0N2:P9[e?PoE+Cu;%R0,SP%1DvXKQZ?kqcAm9m*MJyaeGuk*bqoQ(qZ6bMLK=na:o1*]6/,=d>@*>HVUEkg65sb&i3PKkb0qT$dpV=ThcqTD?-?1GrXBRc+3hB[D[<h*0U@,/5T@_PsKhVE.AxeS3^6MA/ytvoknit]UTOeXkR91,m?I^A#=-YMU&HqQp8&DVX&>uUg7&*23Tti7,8+]gPU&w9FW==#m>q[,D%LKI?9py#?1/.^g;6ru&9xK=?j74CDV&Z^:72v=%n60@2EFm:$fE,^Ee`V95;O_q(^RCsL/?c%osMFD,k1%66F.Dluh3J^6b`Y3hQp9#]%)#$vt9A-nV%NmSqGvfG8%2xgab?%I5f``gT#_ITN91G7Ou$7FhO0Dk(bN(vJ.&kbm(]lO<<LrE0KL*8Q9[14IFA]J0@DJde1bcAJ+p`<f8[`/^9TpZ]CjrYe0=]0u>B]529GgIca&Z06h&riM(rR8@lk8LUv$kJZPBkk9?)3;v^*;4DKA4>(jps)TTdbZ_D;PlQ^`Pb[)=%RG><v(*N(4hanD68=#)iQy3r%_^lkG>XZI0WL8&m49F2;sk/Q5Q^,Fc^I:i2.KtOZ1)6D72[eIa4we-O.MAUmp,E8JGd$k+_6l/hp4J2L7BH$5e`y<@w1Meg6Rfa/?bV/Mn:S+G%,5S7IB?oFMtID*4a&sDjD@-H#c5$<ZF3?ktsQ_yw&7Fwe;%VHFx0/hY7]Qy&)P7S?/Gw^bMZ1$$9xJ_5N>2jm=ke-X+q46v:0uDq[EQ2oEMBw:t#G2a<5jAA+HbZV.6APj/aD)d8-9;]Q&B.pwoBA>`cg=nCP&[^JLK[svQjK_fvG-dVkV+3Av]Z3HlU-r%8)c=_bx82?7=u0:Fj-%E2=A.AM<0#`s_?^Eao@G%/Eov7ipFb`_9%7?r$S(1gWCq`I&^g145(jrHP3g1rEmrs_<PF)L#uLb@=gs**vg`0/oV[=^Q+CHE-h3A,JhfUkIhT2F8Dtx2WLT.vGRNo%>wU.Xepak9A]Z*x/lgv#C2Xbi>N,=myV=lWrJ(ctm.Tgm2y7PDC5/-gRxCG0)+f`s5VVd1Vtf_(HTR7cvH)77kO>U5&1jDA/eF#5r9WFBUL1.DAi7w/T.)U90,.l9H&tHC%v:+T5kAIt?QYo&C^rI>`5IwZ>+Vs%7&liKQ_c4KE2.dNm`8KXmENXSq(;ZGcBv0h(s&cL1`-U0s14nM#mhFI@$m*3J<7l<kWBlk9kB>7/3+$DoDLSxZ%AT+%j28,VULXqAILfGG#TO@r[(rA,PJAZ9-P,/FC>r[4HA%&bZrOh4O.mAX7ffgxf%w>mAq%TF?`D^G.)hw0R2xl*S-UWSJtS$iBkM67h-NGXv</3<IUu;t0&r(69m1SDP5OKKWKT,L*rwP,a4m+Hf#)ah+Q@/$wpwX=JG*qIw6S$?Tw9<lUF><K]*l&fCp;4o*Fpm^1#c[,?*@IeV>M76v?xSD%Z?+Jo::,&Md%oQ7ZV=q3`/vk.90`;0hj5IKI[sU1Un63u;5d8&afAU9]1aDXrm&u-U#rOD#K*#E9(V4ChjM@lgHl]Ki9cO>oHg8Ho<A2F;&ZVc]K=NQ#?UFhWiIPr@CabkGyoBd%TdJh#^9Lf@1W#^)haa%I5d2,hU4CcU/jUG%o@bSbr2/ZPGDkia^T?r`+:Fh_;(p/qXfEHX>_KJoN$y=pH80W[(Rvkv7DP7U%U6KskmLd]pM@A(G;;;5eH38,5;]`Aq2v2L.Vu`3]jk3XfCwC>OEtI_k4%OQ::qYCB_59#[<klno.N+#hfuRFo9C4+B,?eIEsgkl`HyA,t*/,OETy0#LPq+njs(6W7A[E%nlL7s%I&&2i_IKR64vB+B^paJM=df#xnQTNRh?Nqa-J&+>]W)J$oD;dGW[q$UO9FhCW2J]R*tDd^rvQkqSM`fjZXxl3:XGrQ9J<#ZWoee5MRV)R)GLFENr/qN&BY_GJUTJp@s*lxh0=7h+J@(6u0$(8q.-q[:QcGBH+@N-v,mvIUGx1$g/a4S8B;S1u4IIyR(1w3&n&:yCM_$A3pJj2d+#DK>PF%m:gkJsCJNIVr<OjV;t*?HPB]_W@q6M^n7tv24joBN7/e,Y-_oAFJ+(VxMgPfjUg.ac0^m^=GKp>H95`cVpkR^^=_y@]YAavKc;1G9AcD//INm0_kQ0J[UtPGkv#F&eynbbv7;HcAFMme,7=Bqk]-(JPA4;.7cgZu6X$%Fx0#%UY3Zuf,g<=lV9W%s#dnllwMA3+P(U+/YYa=jeDpsaht7huIBEDR0@4t&+s+?Va6]/62mLYdd1be9ScqMv&Sv^au6#Q4m149g(_:eWaaS&7M48K;vhLpN_8P?XOnX`;pa3Md1YQs;y,7wV-&.`IU3rq(p:,e`uUXdg)@W(S/TR5tsY<fi^WmR:BAn[P;86jd7aS53Mi$.Qu8_@K$9]6geTi)oIEQo+>app/h1;y$eccO:=brw3m&PZLETdh_Ox50q[RGuw)sXBt3VHHw&pT>FtRe51Ds)6.n9)HN*0lLXEr7leGmS6,H>6X;R&5^^pb+Jd?`_-BYrUhEUQkxc:n:^jKxyn%&cCcv14(u@eL?Z`h5Y-S*NdVm*uBv:W;bl7?q]67gjh<e2]&7lwCNr+?EwuSLBcZLr*Z_3t8U/o6JNkPYyX[1xD.-#7*p2A@*5ivi6j#e/>O&1l3$/H,R$QtjEyWg<ij?J3_R]_P4g8e<f,dh&cuf%`Z4/@E]#`e1,FkeVDVZIvD9jeX&e//[)E,G,ZiP]63Rf3O$K0m9ai*#hagBqYZ(6VH&H<DXuN]Mt2Q+f;@v&^6E,vEIe,de>Q4Fdw&L1^,72v]##r[a=DQ=DLyhQ$H/jU[5/M)9$ek@1u+tmHjBoFG)/,=an6inki^hG`pn<AjmuF++CGoJTWS4HdM-rhtUY8&d:uBHc%GWyV>a#SL*4g`)sTj]vyh3^8@jS96[=W:>k_#KV`_mXtwH]`XIeHoL.;)uTv#yg*>MAFlq;YiQOS-o_dZ;qfZ7l6Qu?0?L+d^Tw-:&mWxNtMq:4:XDq9gPhlX?Kb<8i?Vc)FiEigg,S5h5mHmSZQrULFbnfHbX88770*B>Ur*xBTAV[+m:ukLw1&JBg][LwrNqaP7C]k()$Y/cv&)%uI42d*It)>gSC&M#Ga)]^Q[L&q8XDyQ/s;I&WPErTy%h`_sF%5T`M]9KtlnS6^IVYQbtbG@#BQZ,w$gS+u,rIt/dO`eM40gVA64//y;GwOjkuRquqBq_U>$-ss;NZB@>bM-o`j?_J+Y0(o[NE1aOb2T>:>b*J;B#QDp3@0sM@7dL#[+yVZHGYTkr]eip<xCk*P+mOM9x8014YTWxid,FZMapRu:DS%]/p@/+gY%Qben;Q+mdYDO93(4G-&Oc6Rs4XTXpK@GY-?lVAL)0b4;E7;tqM[At+]0aIm$>7A`kw;iw*X1up=$^L:Zg/Y&+g&jogwwK035%lbH#H1RFMSH+5L>]:ut[Qp/yPOy?J+?T^JDGe[m&AP^;@6*?=$0tN^NnZ9q6RKG3:h&-d2jaCYp5Do%&C@-T>[Tu&=2v/?LL:3bgBEH6#0_m/+>spv:g@=[3Dj0ya:t&X9gC7Bx+SLE&T*;S8o-A(OYCy7SL@MHIvQoa0S&aG])SLR95f`qVLyZRQ#ga?JR7=^2vn?$KJZ+1x*IEmLb.RbGRrX7CR^pu>`4YvpEG?C0/H.K1+*TP5_jr5>kg9c7@/VHusrUh;:asF9@,?9fas5es@e;brR0VNBe1FJR1InZW?dEmyp+xt<t.li`MjWE*+w6xM1Hpo2,t9.?sk9-wp<31.^N&kmR,^L*2^Uf.?2$sa3v35]ROIMI?(eQ(#Sy*1kEQ.<d8YT/`dD2Req798QU+y(nrYC[pD(%HRxR9g/g).RXm%Uhc;R,4cABE]JE%.GI$<Al^&QUS+pmbQ@33&N&Hgpe/+M[NKY9$+ZC#6yOVRyS7wV@v4w=4uhv0>7;wUCMr0Mht.gJ0c^7*lR:i%/s4oCD^goQA&q$MY[2gsF`[85]ZXrbicPdv^sbB%ul[Bt+pi+EOY(mO;ob(m6]V*v-ZU2O2T=1Y&7tp^SAb;7*S?I;`R#Fw>Bk*uS.SvEtP9m@08l?AGi@Ar#GBua,?CSBhs;oYw+^q3RwOFdU$;1+B-Nk8IpX&7A+tw8sGTXbKw:vneaEx6.cdVof/KhCZ6Q17huM87&CY%KQ-8j*?`(Kywr3aq(9mRL3J?(^NQA9xq;7:pEij.n7+B/G81`d)f&((1iQDpMB-RQwy#<E]nYofvb1%vV9D0@Sf+o4&.mQs8qD,&>L^TO6tgrA8w>aS)m3YlnKeBa*h6n+EiTh=e3:_7s8YIcXEkBkQ&f;<X7*;_0MJLq^T>>XVv?Tq+?]g<BV>As8E^>TbvcJZ0lkW[goJU_ek@d5DLT=ZiFSih4/O;K.n<A+QMIhr3d,g>N9%a%iCwB;P7)lYy<8gu+*Tv#5eO.]1Ga[0@AIRq]^G+Ioy??H=$ykkBh]o1@D&LwOWUBPkIM?bpn[VgS^97f1*qF(.8m%0:=lAX]XW6I$pfll;StRTD$QJ;cMb.,h%L(_EQt4x@0?rHFf1ui/@iM_LoC0FQJpm5aG$ubTU-S=BjH1tft2kE&SFc-J6ms:F.iGy&n)1B[D=(,>6FK4Ftd][^`+3C&D,2p>fg]QhWb?neuA8)Tsj-atWBfRxA-7[Ce-N/ul6B0^oW_M;LvuqbB2c=q`XZa(&XWblU.?XSh>QP@A,vZQ+CE,c:?%%^j1BhD$eF@4tJuY^s?v5_7,%9";
+}
@@ -0,0 +1,35 @@
+package polyglot.frontend;
+
+public class JLVersion extends polyglot.main.Version {
+    @Override
+    public String name() {
+        return "jl";
+    }
+    
+    @Override
+    public int major() {
+        return 2;
+    }
+    
+    @Override
+    public int minor() {
+        return 7;
+    }
+    
+    @Override
+    public int patch_level() {
+        return 1;
+    }
+    
+    @Override
+    public String toString() {
+        return "2.7.1 (2016-06-23 21:13:50)";
+    }
+    
+    public JLVersion() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5?ew-9#*kv/(wsq6JIIP$Eca0D;y[G63mrUtf:1m@cYAP4lV8Q0IK7V-aPt^^Jm^m$m(jP8Y.ZBq,HivylxQ#F:J./[kes)guPJMS^JA$WDI@/=1mj.,.F-V+Zo:7okiZ=:CWDUM8UQqw3#%BTuB_0ey+GK&LyN:BVEVrx?QU14VJd=&xSnq`imRKF(62J:Xgh^vMf-]&R5SFT@Y79-g%HT:a&lFw4]^Alb9/KFB.viVT]Ya:Pp>)+5)]1O?tgY(&OMYWE;rZ1N/iL58cv970kg;M]619U]6ke2lYD&ViV.kaxt+;P#VQ-@b_;D:_f8OQ;n[eUm.6M6pHHtRT0U`aGqP8b$JtNxtOAS.&Z4M.N>8;:L^.&y8nvh@>Q+OFEBF7Qi9mqYbTxYCVl-PcW[4HM*c$U/mXX_+@;a::Gh98];LjH%@tVO:5s.=g>]/N^wYl^6H.0LscenouO67+?Z[)q,I2^]kHKnJe?-k;%`_c@OsZyXGVTC-KuVgW_v7qeS$F/iM?mEha1.v>MV9O.Ooll$,-_$M8^VU6_:PR_9uAlIL9YE@YBJV@*J_W.>NJXMl5i5;S6EiY(J8FjaX`g7/yR@smT7X^h+ECu9+(#t*E,eT@^Ul,K5JhphM][_Sw8g%q)wT)U]i9p<i[aFlWJi<AWFF(;A_.9,NNxJ(SIi%?0i0a@iU,Z0?+38m`5)3)@>$k^b:P)=)-r:JOW8UsBvYacFDO^(*ffCo[l6FtW618DMX7aRU@jGiEnJ?(y$S4fcVoS8Guk(ckGKdUM[35[?0J<?+bw?/<^>Z&m&#=hsQvG03vuw,xBbeq]vo%gZJJUW/4wsAZ*jZCpi%MRmu+HID(4-X1xd$Pj?vay=Us>m<?3m/E]1SI>o_)Sq?hQT$1>5ex[7$KYyX<uFk85Jty-kTdU5r)/>it(W=N0Ou_@%,D=E<__:*OILu3`hl&e8x]pu5x6nk%HJth#c]YPiNBSxYLr/7B$*a-f+TUDbTAI]XT@h@fxq@HBFt2?9#1omsU<M08q&A0a+X8j*4akNKODqt7-=)#VH`$#/tt[ZZm1G[[]Fn(>.T3:&PqEZQXd%kZM8uY/X@gx(H-L>sVk*qpOe^_f%2?FE8R9?0AvZQXj&6c7Z=Ls,tgU0?OIjr)UiP8^Fc[iYe%]4pbthGuK8LNHjXYch<1,v;4]ssZ_3On-qSY?L?PtvrO%u3alhAx.EG<bBnKF5):Mvih/@EOKMo$83=uxj-v=PA[2:Ua,Kt$`hhhoICeS.3(GvAgH1o(Bnf>yZ.EEOIK%=YD:*0g[Mb5^MjB5n^R]yBeen=u-SBA3aT(*jq?sy>NdY8^0lfJ>#w6_FymKS$ua6XVYEq@HKuBx/@1X#EalWCmDQ0p?au2J%hsFRnf5.W#u3yheD.Dw=O,GHL_^#U1JeSNGTTImxZB95Tb_wOV.rb9KGuc(t4PZG7]7@LZ:=BptQ35fm&ccv46ca:7sR4>k>c4%j,J^]vIuE$ueMFv5IJ5>(p=3mNb%Q;fs2p)q=9c8dq`ZU5*>xsQdw75DRN1:Q)0E7pwsop8aQ`p<e4K/RjZt*D&&b)6RKNbjs8$OEbSV]uDDsf4Gt;fK)[-fFDGc>9Zf&Y:ymI9cD1BY#00:ByN`mDjMM-.lnXy&?@XXs>gf=jZ0=m#g9ta(ww7VgxQhu(2=C9=viFoV6)E7?e2Lgh35>`k6]lGt,K.(yD./*Yw/Xw(n6M]IHbk`Oh(k[k5&dF[*o17`%cHlty]hJUnKWQ;Eu;`#4wVVcP>Mp]mj,qsI9KLHkVY<]x2k::O]qI=A66W/qO>3y(_AvyaSpfhYS=ma0d:;V`5GsS-vZ?x]v]qM%ddU;Xtn%1+&,xW4v9jfvrdnuiO49eS&WAs[LcKldQ&#bbC(7;B[apHXl_A:7JK2qu.htgtW7g;+2N(2pJ8u*j:@^@PoP)XdPOhs)=4/_ufu7X&(sr)+)t84E4(()*,JoCNhrYPNb``A]OCS8Yw0.ha1-h3gj@F7,F15)HTfE,bL8?I?QqNtEpR@M1t;S,/dVF(nhK44N=HJ5Wfl]B+)@vdF6oGi^jDsWTNlB`<BA59AyQk$=[->axDg>MA>i,Q(=@I:e+8tD&CdmhT`6Fha:ubpx(&&&0`*[Y.:o8O3sdhavc_MGD,+>MWFa?87+;ARaU5t]5i0]G(](+j$8ZAH#;]vNNJiEhWy;/[1`(P(AU@P^Vkte`atbX7o-*G:;5tNmwFLLN[EMHj1#3_8ga]Rme:I^CSc>T<u&GdPo8N05d`R$BFIw01s)>U#))+Bg,CoHFtXVY8AY7BSNeViW1JDSNR*7Yl[4<wmxeB*c>MbKh:P=j12sD_KQE7-Hg6nkPP`IiS7IFi[lGR@%/;(5:841uf_Bi%Pi?JD_@S(>]q>A8%RerC#dCrtRe#)_O@<K]v>vJ?C_/>;/-n(j";
+}
@@ -0,0 +1,84 @@
+package polyglot.frontend;
+
+import polyglot.ast.Node;
+import polyglot.util.CodeWriter;
+
+public class Job {
+    protected JobExt ext;
+    protected ExtensionInfo lang;
+    protected Node ast;
+    protected Pass runningPass;
+    protected boolean status;
+    protected int initialErrorCount;
+    protected boolean reportedErrors;
+    protected Source source;
+    public static final Job COMPLETED = new Job(null, null, null, null);
+    
+    public Job(ExtensionInfo lang, JobExt ext, Source source, Node ast) {
+        super();
+        this.lang = lang;
+        this.ext = ext;
+        this.source = source;
+        this.ast = ast;
+        this.runningPass = null;
+        this.status = true;
+        this.initialErrorCount = 0;
+        this.reportedErrors = false;
+    }
+    
+    public JobExt ext() { return ext; }
+    
+    public void setRunningPass(Pass pass) {
+        if (pass != null) {
+            this.initialErrorCount = compiler().errorQueue().errorCount();
+        } else {
+            int errorCount = compiler().errorQueue().errorCount();
+            if (errorCount > initialErrorCount) { reportedErrors = true; }
+        }
+        runningPass = pass;
+    }
+    
+    public boolean isRunning() { return runningPass != null; }
+    
+    public Pass runningPass() { return runningPass; }
+    
+    public Node ast() { return ast; }
+    
+    public void ast(Node ast) { this.ast = ast; }
+    
+    public boolean reportedErrors() { return reportedErrors; }
+    
+    public void dump(CodeWriter cw) { if (ast != null) { ast.dump(cw); } }
+    
+    public Source source() { return this.source; }
+    
+    public boolean userSpecified() { return this.source().userSpecified(); }
+    
+    public void updateStatus(boolean status) { if (!status) { this.status = false; } }
+    
+    public boolean status() { return status; }
+    
+    public ExtensionInfo extensionInfo() { return lang; }
+    
+    public Compiler compiler() { return lang.compiler(); }
+    
+    @Override
+    public String toString() {
+        return source.toString();
+    }
+    
+    @Override
+    public int hashCode() {
+        return source.hashCode();
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Job && ((Job) o).source.equals(source);
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ag3P-8v]e7<(F)M#5n^d>.KX&2tt(;D]6FV)H$]GMYZsG7O=iVD$LOqawLjAUXl$++mjlWIJY;9GU[UAMe3)kFx5.<ksDa8_.h*PK^u]_4rNnXcaxf9Mr<*b)AP8o$eQpE)>Fma[UBYsE.>ijqYto>LOO,--pORQCOD6XG]Vn:FfEmG=AL(pY4[A3/T(&`iPx>%Q@RG`J4&`Yp2v*FT.J#.nuU8Zf,U*[Mx@hF54psSrNr2b$a_<S`K<$d$pgMOs5l0P*pmcp=h<Z-di5C/WLT]WO*YxOfji-@4T$tEhTn2ZCq9F?9Pu5ki)ew>T8VTVneInO&7.6XtyiCO)dMyn;],@PG;dS^:u6qdkh2.vgC,5bXtN;Yi,^7Og#6?#61;u)j-WBOx);:F7qPj?NafK.o#2e1Oj6D+,5(ZovlJ*<qN`T[O+=$:d+[2VMtnc]6$u=d.Jj9<2HqFRxt%coBk]X)Rpji-%J^;]TwY#bjlWm4TqA`-OB;<@h=SG.QW`ejbWbB#6E3OF8pv`;#X.Ykd[p;jL>G8,E^3p@ZQ7#*n>QLC^i-8Nuf`p8sb`4p--Y@%8i,M=#juu,&6up40@0M;Y3jV&aO9aKt4ohp,tQ.52;EB28a;4vPxON7m$IX0H3=5RoSf=1l_5b6Fi<c&(bF1$1ikF=]b#af-GD:BHn?wUDZn?e>0:2cvF^[uK,k(2UPi?F2nPj1KECdRAK]$o=Q8E-J72y[C0pd6N>*>-8FM.NFosiZHm1K:;9CRbpRtS2^&Yx59Qg-5&Dl3FLrx;Y+XB8T>o`F9?=+9_oI1.ZR;(Y2-t?8dv=XLRvwk%?#Fq^UehnFB-PB&I_he6?*c_P=wOGdrshgK_Ui%HP$-&pXo2/)T2aO5;1AJf`)gc(Wk@p_ES?j]JpM4<^%RS,#pkWGV>L]yrM]/eZ(jno=4,l-s#10ihE(/+AuRFO6W@QoVn[fvp:C@DG0itD6+y.98ax9Wb?wT?oPi99@..nHbv-AIp2T3?7%/Bqr3?R2RFQ[KGYsarJy87L%>jElGXju[8GJoM`HR;_Hb(%FJFN)JWjpAFphHNTec.h30hLwu8tL>=;3w*W]7vcANh7N-YdOTM-5[k5-+t;MMcDk$L$pU^IB:iV]yFcaXl9G-$i5&G>2>12k2hu[,v8kdl%s[0MQh*HY5+2h0+KX.iiW=p@kk<LWHV2voa][3vrw<`u=kYLkiMy1r490riH^_$7uyVdYKN/N$.tjVh0nfZurL7Se-9Fa,yx=<erQU`[Olpkc(>6hqw-jk8M9Xavr#qLhsdnQXhp/(f_e&#L;`;,2dB:3(rOw#438TfaI(@JsX=k.i?G?(;Tgq01#o1C(;8%6s+TIO_QBs=e,UpAY`i=M8QBO#ul`(A_83QO)Moy3Ds<Rl/17uG]>0Pt,wZU@vt*IP7]Ms*]qsaO1;QlZ/3K>cev3h*]ia?tcwUtH*7i>%6<3]%Uw5J4j;tLHA5(qf,Na^;IuC@x_X/1JI1A7-Bfy$HQZU_n]hZ+e2PRnRgt/T9P;pgHqu`TAl$`yL0blwRUAWYUih9^%qJc8$fbjNAC*n)aTx.P6X4?Q+lScGX$YTVXX*S2Q7t-#8dsms-J@F(hbQx+No%a`v_$q0`UQY;2Frh.6TwrMeN=rX^]LNf$ltySC,DyP>$8`7I`e6^71+I_&+x[FwO,YN(vlmR3k($OII/_s2AIxOIbgvQcnIRfEf?NM9GR?d[t1WD5OVZ2Xb%6>dBh^m[gXFIX);>m+dn`jDhSyQ0.QpO44cBv^Bf;R7^*[]#Fd)a^&yup^$t=F0f1sr1dt>AG<^+k@gCH5(j%PxtLG_%T/+w9/fB/Rf`ga$AV1MU%<>Piu>FQ2JDscqtI;H47[C=<A#=jXa7+v,R&#+l[1C6gt-dv9+BQjLu@U`#)sZ43xt]6m%i[QWeH`9?rb2,hm-#Hs?3>1E0PgBxwf*A.]0d@K;>@eT_0*COs=@I]^&Bjjc+#yMh:L%aIvb,cJ+MaLS;)rAx6_63oV@a9:68`=j1gjLfRV=iHH,+>Cd<()ZmBG1FOX,j#pA)Dq6$Ors=cbyr)^@ki=jS>$^hQK4,#[*C*Zk4-7DFp75;=wKbb%uV1?t5:KN7?fJRH6EfOmyU>=#9t;bB54fCALAjYJ-T9luCG)Oc#s8xpP-1:ELVVu2T@YYs(JC@P1DA6pleLq%[asP>CS^wfjksGZ[_imvw/Lt`-%vX]uq*)<N#<mM#d%$Hh>eKAoB^8XeGElj6$,>1bLe?N8f=>B9=jh<m-aUrUN+r2nNYA<lWqG[3R0q]3o]Z62FjQ*;UY/2hyY21gbR^[f3NUyKDCenYkKq(`dZfYiL1UY&6_@JnJ28o>O=t/?U=5m:_;,=hGiRBZ?=/dAk*Bg=)leLT*qo1nA4eK6.$[`Y9PfV#GfJ778u(t:naNG`3G)N])PSU?`;qn,dneyFRs[C$350o[vuCl`>l=IA%#DR;(MIZI%hh1]%]HMBZ0WVWL1Ffm`)]0W/YdV6q>k;;(lA@$b$9Z4$2h]^kQP]r)1Zk:p-d8ZVEyWbeG)oaGHKC^8JF;(&Jot$V/*N$W#h])A81*eB+X(-oLTO3H^8KKd`Z?Dbi$AkT,XuCypFajfUCkq*4NrWTSU[nhkYZ5kqOFouWRhhgeA5#+(GfBSW@qK*hi8Cuud[5-pVs/H5_h=+jVu#MtVyH4FoY/KHL-.V;?LLEYr;jv,U3vDv&wS(:qg/xMbr4f?C8.6$HN,^^r:swDEG:#n#Ck)dMM1_o7N-EG+[&ReDXAyIbeA3paDU;@W)p3X57n6]b%Tt7aYYnj*T0^1R_F+p2u#t/3ORuN;)=cAxHcQ@LrusN&:i5d(UF8+p0gLIgXYBFmS;rn[C&)*VgFG.d510srIl]JHNXEpKJnJ`vuhsV5P.>*QpA:[]$6y]C=Es%cGnv?u#V?W8vs,BkB1_7p0r=`uif-dSJ#2kJr$mj]LMEY#Y-bvjNJ)HbA4Tp8;U9GBp3]oRfY48X7J]=:nZ;,#>vKrbEOWBAqr%5@TJ:4>0_6ndtD5NSd32hN=#NJqXsiFJshPtDmFFV2w<0+?FQOhqI=#8ftWA(8][jQEd*BMvV<JpNy,Kc:MEFVF@Er$/ibg6EbLaj[BqPK#%Z4f]7PX+ws940]7i*VQVe.?.jSHDP7M%9]C-k,0LucB>Qs<+u@0%bwF%;R_`Td`gg:##Rlew7-J1VZIOs[Gy5jeud,<i6;GW`NC@&6,w_oyk5M/O6E,?6)N*V5&$.Aqc-f[TMy6L.uMtUdRp_KXW1FH>nZVMECbU-sUwO1ojoL+=u5yCHg^9A=.5PBsHr[A3Dr:qIF(L_ICL@V@<79=iRc[)f[=xBcH](6DaQtq^K=i]/G/>;[:/withln@qSeTF=s@Xog.^IIjB$,q..j.Nt[<TL)T@fXwm3bI,b%TsZm3bHr,1l38Si-ur^A76afP8&E(:BIteJLaK2cW)(;6m;WK(whWS`Qg+rm6Q[+P=i^ROAn+*M,9oTx,OSC)JL-F?=4pO<6got>x?V@Uk(6H)x@,uo3&oV&qaDH*#.Q,yHYI4[?HBcfITQ96wJLY&21bN#%*MjiV]mtP+vMis]jW@(,fN3E0O@,TL&<B5$SPj=Pu(Y*`O1SD-MXb3tP=@9ayef3;#gtBR)v9.f)6pL0(um&0JqF,Kg7l38gQ3Ah.nu%>xUJ(?BDr[o8C4[/$4NhS/gjf63g+a5P%6NTojBZqrwO`FGGb`Tvn$;<se>(]0)jpsIc>LxA=RBP,w4t)W,?ssi6Yw7jH2<PK`pA>8`3G.M=.WLv&q^cXsJP23X_j96T.:ITJay<tq";
+}
@@ -0,0 +1,20 @@
+package polyglot.frontend;
+
+import polyglot.util.SerialVersionUID;
+
+public class SchedulerException extends RuntimeException {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    
+    public SchedulerException() { super(); }
+    
+    public SchedulerException(String message, Throwable cause) { super(message, cause); }
+    
+    public SchedulerException(String message) { super(message); }
+    
+    public SchedulerException(Throwable cause) { super(cause); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yfro-9#*kFrHu5Hni@Wn#LQo63[TXG1rSs(A#Kmjaeanmp*5^c5QX&puTYgTie`#CZ7we9,.BORcVTobu]M,.ZwZb;y:mv?UlmjZbPSHPI?*qYg8N)vc^mYG?^F*Kf7ZR_Y@9c^rs?Pr(I%+r*2RfUIKO:`bC`[rR_YY&rL4]>;/.=Qa]M1q-J,CWvyIt8%.<33Zb<$A>,h=bCN6D<<T,oD3)*2AAVfbTBV145S7VQTGGINLe2=p.A,<DILKv8C?-v;KG6Ao],2i]h^^;lWH/H@]f7T*_+UXw.Na*T^0`:Fi1XY-nTi+U/u5AVt)wZc/mY[i+7:ob>BHQ?MG[m^S[L1:D7r)ZS1@6F0^CPwb_nc9tP6>`;+.:pP[<TENUgI4Xu.;M*Bt1F,Bv#?Xx)uy+lNnD`Q,5<gE4&5VC%7F`l&]n2j%MmexpH35?y^_AO`Ds%6.d@dj<RnB+WP=RO:9<?Fs3%pTEW#&)pHBZn@KTq7q*I$SIh;%`?>x4)u>lL@_8+7%n:oX<Ks=SnOK?0IKc3Ueve:j(HMR:BJi3P8(0rZ^V$$Fk?*b6;EAG#mVVj%[j;;L5ot]#`;H8[>(ugnf+(:K1[(ES-3L4osEP>#5Tf:hQRsl3#j]w)@_pXW>+cYVoar$c#AOJ&NhXGTO>AdF_n:gs<n2xO-v#=B)`.70M%s@^%C_$5<;:ACwaRCbKyy-v^lG>GsqURFFcmTDy?8RJn+N&K4^FXCBQJYRh*fWCNKG-?RZBvehLMh^b@Dl4SVII^a(,]8@Iiu7cr7t[XeRg-]Xs=TKT.l2`eVBJt(]jZi]jLf4p&(OShSYBB0>tt&i)WJh`;dtFm(-:BI#(@7_P<rl1u8DVCo;*MoZbAFW7Z(e*p#_vGT;iTe(<-V6fOEmk#t9CQ-P)hcFfdh$1wrI;j9,tEAVoGRT]3A37D:S`tjBS8qa#IJW2<cH-IRg]B*Pp2(2M3t@F<OB4)lG*BYvZg8>[W<ikDrnXM_2h82V5F/_0q$Sb;hDHDPiB^xQ1*d0;Zt4#LdQvl5*Pj(o/a_esy.Rq6S.KU..2M;ZE#*7w/+tdOOm@mO@Rof=3l*2g.%>PbQ3h5K5T7*Vk==l@JB]y127L2LWTK.P[aqcYbhu0(Nx,6GOpmd1h-0I4&1.ImMNMgA8C$b6ofi@H$fAq)?eZYWGQYSVY/x4eyUkb3i&ZcaRWK=t:8Unp4:k2njIp4i@jchK9`T3d9tFjA@3MpprVger#xNtt94l@L;v?18`w^qbdINq.C?rxWa[=&Kk+6n2xUGR,,xAZ8gK81H,VFr9N4(BruJmag_0n)cM1YZv*:*#%X;s3Vk1=S5X)k-0WILKvIbKU]-a3<YIF=aOU%1el@Wu:c]-9c0EJr5by,bNU@tWg0Lg3+YXI,0RUgd3Y;rb^h]^nxKPXc;@`.70KsyM<eeBIQ(]yw40N[/9e(X>j+FpuMZ=R-4@2:)[j=U?fXJ^R*vK+YRAP5rEG40tuayr&0jPYiD,vgyG;D0L)urlC2]L6p@1qSjs*TtCOlTUD^YJyOp8*4-2a3K4?ul)l>RT9FXm`m[yZ#oK3%m?l@1HJ=5oNb`uv9:+9gpxr,?Spu8gA-.-be%3Fu/7Zxn7NC2t4kNpSd/S@=@T9qi[v*J/n$gKE`)yG@UV)JlQt4SNgAi(IRA+U+RN5jo?<p*SB]QVr3NFHqj/n._qJQAT<Za&VSEe[)Y&E]@[ROn^P;bFXnBGd,5H5N&xXIWM)pnA.XtF-I;RP3OecWj6Z6@/`8yVDG`[1562mVL-omR4*p;[h(x`dBf0g<naD<blIVs[<=UuC%lpBjd?qA6HaJT,qKj=F?b0-T4v64SpJ%x^VZLXL+OnUA=NxixGYOI[Tsj=Ktuu&mcf,<C<HqVTMnkxi*<i/mikOix`t*3Z+D(^rTQj@o%]eO)hN^?fd@NW7J_?uxJpTRaook0]9Yf(KuX:4ww6YPG%@c[*?93aNEV>-XMPQjN/6#2o22auVEZp+dCX^W2)9v)?kmT;1K+kPq7;7VI1[d#M>j1<5_VfA0gG9H<V^$K:I>3FZ#?U$,@3NYJxfxk-0o-+slgI3dk:PMDNI2;-S1(vlXBQTkNn.Ji@#q]5k828i0)t5pkN;&+L5:GT[$.QHxt^+ciVSmu+?RYa&H1dW2`/Xf4I;%UeTk(Rh`V])u)PBJ4[Y/EInY#1EYATudOa5^HVh:F$&07Hb?o>X2K0YxQBVL8/kTlG3MLo^9G#/HXYD^T_$cx..[k+eiZ7KTCV$am39ItXFcQHdxt.n1o5-xj@3920/vT*B1HHY1caMTZ^H<,.@RRkIOBQ>SW?XxK)c-36PtM`?ovRAg]I1Ke07)mVB@b^i2Y-u3E#]cxm@yP?jKZvt&eIA[h[Z2elw#fx`s-fI.81p$*I2nW>6Oyc._t&>>[(%1_/EX._[`=9)`Gxdg&aZseo&.p*(`82jk^LX(dYxK9D<3b/XFEJxvRZIUDTVeQ";
+}
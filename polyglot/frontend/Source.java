@@ -0,0 +1,41 @@
+package polyglot.frontend;
+
+import javax.tools.FileObject;
+
+public interface Source extends FileObject {
+    public enum Kind {
+        USER_SPECIFIED,
+         DEPENDENCY,
+         COMPILER_GENERATED;
+         
+        
+        private Kind() {
+            
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[aX#j-+Oe<78;u^6*Pk>Q`Uk#6,4Vo`NdR79;%/1nrx:7qBAp&*Hg(Pt^Fk=t6)F/I;#VWkHskj<%wb4;N7MYM%/V8.jT$fv,8=<^nD(GA%mspRWO&B(BY;o&U5J=l[*.hO_[V0HUQ1[g04S.o*h3majko2?%C_OY8e&nEn%#nUXd)2rm`1A<Y]*nM-dg=WJsb)RWmZAOX#^0u2]y$7)@5Sueo4]4bW)947d%wC^72RT$Ri`:]=AL?5ORgRs#b@C<-]KU6_SxS25KUD@`C>RjliqNM;5r$uibZNT.01&Dh;60+Ed9NuO0_1#bOCCR1Y*0pwX>l.W[o+J^fu6*UIcZ8DTMH($MRhr-*kq/nb>->Le`rHIU0[W-;[%y9]YXe2fY)YRSve[#o4h--6VQV_ZpYF$pi9A:s;I`1_oJuVl=Ej,Z$:=<;l+9nN,@gPas=NurM/.cQWPJ5S1e(N*,=BGOXXl-wTgM#-/iQC;,Qp+q8/V6[I&U6m^SWT&S*L0lt*VVAh7WJoB^rf%(Q-@p9AV4Cs4r+o=$cEdfC+Q10ctVpO&fM.CA-=B$@uil#cGIxEhg.RN5pF(d503tG3[E-?Q/s(Q_?iu;]k=UYKc8XW,0&Q@nuMSDSiUTak0(m94im.qOx#aRqAe@V4v)XZW.J/>hElM4sC)M8lk`d,rqyqioGTG^VQ<J8T8(]Ai`2OU^OcnF0u<N#,D6xJIdTtOHJPI#Ye<E&+KFGf0tS:,tBNN:BG<FYXl8Gg9vlQHbpNF(58?cyiKd&AIf1vm)B5R#1d4D+;4#r?S#_ICh?.-;Fp$A#Kqo^]w1K,F]Zvu*9@6[@F>0o[Fol`-,EmZ67MZ(PB(dC.bu4<^=1+-``iq(A1EU,$1)l2Sg3BMbWvYngN]xD1^bV(oHp,XWnGe%T6P0ka^Lt4]4DOI81a<8=*PmE@X=5h&Bl]BYi?95a_N<ddOTN(NJDpO7HXIgf7)el-Z^v*w#+[I]*Du]vojP.-]h02k(]v&$mU7]D^/=_AN<9JU9F/wF-P:WNfF;Jtca.L@9W(FX:s4_g=UE`;Px(:ML1-lkgUg&*N@k[&PV%1?+gV#pDe9<h>l1:suwIwT>]&-/2nFiBBn&L@#aXY/J1Yv2@;cbR]qD^U#@,E%K=I#<1P#[^FhuOlpo.0w6g%b2N>4Up#gj1WK<yy[VQ%HBUunhBJ[<CnS.`rw)V<&:eT*;<5[i1Q1EQI/k(f?ikg]F/GKk8M[o;D9jOC#tbgM1,e$MRMtBuWtGy7F&C)0aOY0.,;-*_0:M,NOEo:d7w?gD)vM@&t#=02j9Zs>PnFyKOLDYbgiQmmLY:VTKk;[S]mKN6)bqFS(Psv6;hlG4)Ql>xjL,>-yDpTcM+vrt%t6B.WK@/-lEKbWb[<jG3CAs2Qt-7f-M_@2*7mK__I8V9DSYa9Q^?w_f%(#/avs2A^xkSwJrcw0:P60)<o;f,)VGps]Dt(0tFA*IpE5%RVQstEZ0@skS<;B?#vp@k3Y^Y>CK,jh+@0B(QL&K?N1us`NQ`-H,=73`,xFf-E,EsP?Z5-(#Y@j[))w:$6@5*:1QQ>6<DQQ?MhL[x#2Z?TJ(d[MPA=Dd*3NdF5:WZ1/Q.@j<^K>S+P?wDcG3>83m/Zt:RijISBiR+IruNHNt8K1ZWSf`UBOu<sO?=wftByt%Zj>OjVm`4@=Wo@n8:7u=IvIJb&I34W(GN*rC2ZhS/_lB@wi&?abaWm9@l`p6wW5`UNKL8CI06TAiMQ@.=PmpBT.RxS[aC1AcgO#*UmI[dC6R`YBSbU:5.*5widsF#56UV@6+`pH]plu6l=G+K-atxqQ`+i1Bc+Dn<.@oa6eY*;7by/PG$%;2.Q3Ljff>aAF/E[8+hEU7.-jXX&(r987@A_;tkKI6aUG/y<Tw`w,Ktw-%vbP1K#41s@t&R7SM%rA&jVwClR6L]cN9dVtt0r%lRe]ZAePGBI(b1Li]I,m(r=:Kk>uB>lOu)>j.Gx`$IAyJy$$f&R;$wP/n5MGkb=,`rAo17,kxT&t6w+st$O[OiC?q?EqcrChiHC=Sfw`rgVMHFWv<2D,vfbpgW?;qPKmh@WCZ4LgvRS[6cG*@0qG./=d#?I,tZ[aV.%<3:W&utivg(^4T(<x;JT$A@)Akw0)6#LL7%l$x&:4poqO(B$EG4l2Q(w9HO7,or[?`AYGlU`J/?`CheN3ABRkQ<qTJHg(ZK)h(Ej.*?hW1PIoJM8FmaD%n@1/SunwZ4tThW#xUN<AHtY*j*2D;U`QFWAGvO,T%?N_E(k;i#g1Gq/b`*Ge;n2uyo+R0n&7wc)Fi`+VCf7@(bIdRe)-HtpMQQE%2NgF+E%%R3E2^&Vm61;y0A5TGZd@%AWZcK.oLZ%Ug]<EumdFwsXjq1*iuAn?kEs/M_G>KBTM$<yFCA/:&@EVsbp%Fi6mwd:vI$UEC9?gWr*D7ki6MyacF&Is&7u)MoCGiZBrI(J:ZO-)/7+Zgm^-($jm[@A>N$NLKT)NkOvk+HKU<D3*6y<9cI8_W([g7cHml*wE2[MFxVN6%<R2(Z.Myvki.@Ui6S,5md=CC7k+rBoe)xp7Gpj7#ijwP7&-rO[lX1V(;qt355ac0s90@7jduHY@UgF*1Y?X8G2rMjAd*sVqmfHC`Ho$8.(o?BKTvoi@]DO(;OM=;n2=vRvGNP&[qI%,uxO]f7j#mZ4YZ?*-4@]<8)+1M_w-_A%DdAgV`Jqgx=NL#XA?=?fp;vGiV-eL#-UZL&kk#E#nR&KoA1?MZQKQ%_>n?#g3.9RrVQ+sI=Gb+>d8;aJ10_QkjKPc1o@v3)dsO9@:0eHLZ8N*>`LIx/CDVQ69T;fv`-]Qg2@8K9;6x#KL,mbr2,t^WYoHrD2n9<Cf?SZu^J>wDio$O[NTlKM)II6KeDgZCCVxHM6XwbkF&lwJLS5/ZC#iZW*iCj/%l2@KVVfHY;nAbD&+WAdBdgx*;w3JHe`fBA(j9Ok*BQ";
+    }
+    
+    @Deprecated
+    void setUserSpecified(boolean userSpecified);
+    
+    boolean userSpecified();
+    
+    boolean compilerGenerated();
+    
+    void setKind(Kind kind);
+    
+    Kind kind();
+    
+    String name();
+    
+    String path();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1gp*Odo5a@v+;1r2>q0oq=^qn)9+&:Mok&R;O);BACPqdv6MKf:MjAZH01/Yc0u)AL0I^r_KetdNh;deFMLN&jvrQ6F4BLq0KE8S/Lgv7`W7l:d.Y*ox#4a22A*sGTFDb>s%(E4_w*eWEOCJS1B6OtR4@Gcm6NdCguYrT#`$qBJ7YGd7W`GOiyHG=_.iGw(^+ind8I0T/a6f;.(s_gR^,])6oi7`</#o[u);AwZ7lkOu_*D>$D?S+oNXS5uN6[##GGV0WH7.WZg7Xb5l@#AU=k4Ir^/:On2AJ9f_M:&@Cuh;5uo,].`e1)XgxU?IGi?_g%Z<dUhCE2yFHCss(T#F$1@4)4:+k@P6T[KXU5ZvtAk8U:F_IKZ[`<9Z5_3(]9FJHTuaCwVFB$yYEl1?h2@I/c9#PC@16S)Q/;3M?,14jtOw5S2?Og&ekgN=1)U[#G<,-p*jobsCwVm)Fc?4hHehX,P7_*T8saB*%u[-*YEbiQe/<DVHN>G4DWuPs%Lr>qrNaiZa51ksy-W_,F;-2uTf>Ia&]v9eg?kOQQr]`ZHx$<d`:M?#<N74;3i*[suhsA($4kLHs#&HgDP?F17yF6r&gibGv[.&bjPR*a_HgTx#1gW9yJm7ACEr$JiHA)4e7&tUMokpPBbE+#[,xE`(?HD$,Z3QgdqF`^3v6<ktL$`UZ8X,I$fF7W@e,<Q3OFgb[1(Oq1DenQ:,dl9KH>t2C5W_^RM75Ga)/;,pHjq5154_omub1_a*b1__(ofS@(s%7J1&CYX#n1gmJ8:^*s%?/3Wt=j1Ug8VaU%a7(T)ku/tE]F.]ZNWLw9;0JPurJ[h/(A<vw$x.N)TOK)s6>V6)0WbW)j5w%UPEf]<c28Tb`>i[)Ae0Rqutx4s9tQ)$*jv/wE@^SQImP)%c<Ci(oBhHO.U4(I=O_20gb6E3]*+uPOk<bLki&dM_*XoR(6i_$aW3X,G)s#G$<w&q+-m(HIIcNG(u&vP;CqR*(h2`t8SnBP1%D1:,(7Hs(RUZ50QYl[;[ofNnRl9g$4o^ZEr/[DjdTIn.f7(u;2nKvkF/J3cD`,cKYe/-mk_07KoT,X3.rk*4]ru(%y[R4.gaDr%^EXh$<mYw$s.$os.wWK)L8QIB^8[8jP,@&6GQ-g)g$WocQ5*0AlKLomZ7kW$7]ssh<N`.U6YV9O`/d;29#-^T_it:9BLcThq&*X8S$7@/BYKEj^pB&p[RQxXfbVFvsn2rQ@<Q?44S$Xh)9X>60H0HlTA7EmAhP&cJGS#_X`Ll4Z87U8cYoI]mciYGoI*r)4*fR#%h&8nxipNWy#Xv9&EM2;Q<WVV*HPX#gGhLOG4Ej7.DVBlN?=JD#C^t*V[eV1#UgXnrgn@s,d;xqbY:Z0+stXg0x4`ZHiPj*]Z>],5u/`[DSp%?(a6RA*Ok:uZl0kuFEnRJKif]`_2-+0MQmc,So*Ctg;iSjsk1ajSf^g)M6/^6+UcIdj7&TivAr_a4r&suIADLcZ-n)[Duh1NWYha]1n^7cA*93DG_YvLas-a9s?/eMc+-=1U<(-?eR*6l4ap_r.l8,XVq>l)I+IR`nisM)PvIZ%Xj8dZ5L1jO6Y,1ni3TN`s8%Dvv+&c-X;Fx7gfwA(/T4RLZ0x^f6K?k01[g5f6Z&SiSf,eWIJGy.yvmCK^ihagkR%L>Eegv90BhWiM]hXtMScW,iKYe(xf^Nr_iwspc6EpDC*^ta]i1vU$53DC_VVLIx6`Hqb#BF9y#a4CD5xm<3>hj3CgSCK5I.fW6nh=n9hmQ1,`#u271=@&9x&QIeMa0uQJ`Uj=$,8clx$lX*?N@a;j:Tep^&.R4P1UfEPk9`ImQ0P:2O?i%(I#dEo&b2fjatKTfqnVTjy%?NR8Rnn>V8D%CF8@CbANCl-/mO3&FJiqjqj*BV/o3dE1INb[_v6)l,8pfI&OtD2V+^TJ6Ii*<a45Ln*nRTsQpjMtEJhab^)>k-;Tvw:c1JVX@og#M3a4;(@%3hhAU1Uom)&EWI?#dG&?(D$O@mB%4;vxHkRLNK0-A1%X[M9_]hWsYEUhO_53fH5jmA9BK^Tc<&A-6@r[0=#*uj.5-nKkcrdGHk(oNs655qNYYFATYGgH(lMp*:fGZpT?oPm<l_wqQ@FqNLW<1%JR/7=Br/a#&=s$#)$PNe4YH;DK>]`+mvWoOLK4&6AC#nolkt99Dcm$$Gd]6ck[[Fj6Uh2Wml/hWsJ`hf3:Yd?ovStSukQ_mA7-M<0JXZ&r9.Nf&X4uVue4$f^X[Ygf5tsW5Q)E&J=@.A8ZmtHR+d,p`pCiqXHx#5o`mOu0#b&Rx5;FpGNr$qICr4FQpFWv2D5yEhZ9<TSa3>1;tx]BYm`B`pw#Uhemb/FT>KAeYAtX<)V[.NRkT/Htb@oq3KnwsxQ9JjWSHSb9WV6bE$";
+}
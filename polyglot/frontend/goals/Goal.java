@@ -0,0 +1,50 @@
+package polyglot.frontend.goals;
+
+import java.util.Collection;
+import polyglot.frontend.CyclicDependencyException;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.Job;
+import polyglot.frontend.Pass;
+import polyglot.frontend.Scheduler;
+
+public interface Goal {
+    int UNREACHABLE = -1;
+    int UNREACHABLE_THIS_RUN = -2;
+    int UNREACHED = 0;
+    int ATTEMPTED = 1;
+    int REACHED = 2;
+    int RUNNING = 3;
+    
+    public boolean conflictsWith(Goal goal);
+    
+    public Pass createPass(ExtensionInfo extInfo);
+    
+    public Collection<Goal> corequisiteGoals(Scheduler scheduler);
+    
+    public Collection<Goal> prerequisiteGoals(Scheduler scheduler);
+    
+    public void addCorequisiteGoal(Goal g, Scheduler scheduler);
+    
+    public void addPrerequisiteGoal(Goal g, Scheduler scheduler) throws CyclicDependencyException;
+    
+    public boolean isReachable();
+    
+    public void setUnreachable();
+    
+    public void setUnreachableThisRun();
+    
+    public void setState(int state);
+    
+    public int state();
+    
+    public boolean hasBeenReached();
+    
+    public Job job();
+    
+    public String name();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<?pX-8v^_B0/0Hq:RjydxttPbqAjn+oPd7ek-NFf?lC&?ZbK[_W@Ds4g+djSyi%.&nCx,61uS@S]mm?9;2M,$>5@m3ukVQT%O983VH(y661$y6$grJw%q`P^e::kA=[UCIVJIxurP(*M/iH79cEN`O2)OyZrg5S[2ug3@rR0>Q/&uD>8;J6hlwdlGX=uj22Xm?i=opS(kE_3K>j(:=F<2+9t[_O0;;$oQ,n`pH`HG2Retdp.RcEeRbTZfWmYQ@TqCKX/cRZ+Ra*7v:aPqm2>2S0)Bpd-2>1h-B;0&s?IV/e6*tK2^(_#Db-^eQP<&ccI)Ln1MlK_xD9OusWPX@4,^XTs-:v@#/b*mE,Z7k;Ne-#WF(2WZ/k`k]S4%-ROun1J;QRvj-rs+:Iibm0Wsjkc]%&&QXXlcp>HwBYN5d_gTTm^&=9V%af-]]C8/X#FrNPJoCn7oH/iX*Gn_iEMA^>NP#/MHniR9r_pQ+FP$K>VE9,<A`u6v^YcW6)R)S:ta+L26EA4g5I`#mk=BS2vc?4(JN&YIO#QWpYV$bW3M3tq^ZEn&=i[AQ?#2<N;r/B-IwA3MAZ?ToYx9Sy9[qd&ap1V[yhS(2s+FKgG-nmYAZg^xRL>.FSFC-kLYWQ5y06dVUc(QQ9joyRPNP?o.r8n0:pg@Z`8AaMn)dQt(=EG1efX#O?u<mS]6HJsOF1p9K/Kt;1t1.5*bcVs>=gLN`NF;q)-]o*B1*[@s+h?PAZUAo>;XV(?T;O%]u?E;Y7K>pPw7hqZtL5/f`2li5[/jQdAiIZE*>C,D5;]Nfd`rNWh[KGViaZ.9]qm`ATRBeEq9?U6`F;1h<[LJU=,Eoqj-sckPW<2XieD:Q&:mCc8o_JuK1E>Gp=e5Vg?NQ6i1V0X>Av8&=O6.2YE]**)&9CX$69mZ&pOWUBE$3hw&t,+-St<9@P^b8uO-L7dBksH[id-,^d_/8vo0M(L2E&d6d&eP_YWcA;Utog=?AvZIqB3ArAwF:]+3jRbQvo12fuSHx*]u6bji,>[krt+h4p:og>yeL,qc)FN]>uD8Cxx6g,::nPb-AMDE6S:^WFGEmBp/44pQkb7TC$_kZ);K1`,fB_jpX&HjFRaJGVeiQ>Y7<iX4KxY%afq7>9[_^S-(K)ByMyx>j1,ftfkZs$4g)AHcNa&3R.q7V<,^EQ7pN&cK7O5tI0Aq=Z6NA#qfVUK#efQ8Ks=,OB]NrBgqH*SjTeI/=r&WiOQlrF_]@hJ.Mp6FI(uhRdge[h0jO-9b,vVgr1(K%Q#5vtX<g<v2k.b?$D^I.TutvEq:>mrngCRd/Dp@MH*p=p1(f=7u`:q7bQ&pA1_R/f7$6?s#>Rek`FvVE_F9uYBw=Z[fUs0dy%h&j39`-h#OTEbC$gKE0,a%3ClUI.uxK:1SanW>B]^SkQ#J]NEKKh=qxO>6QTg,DS9YcQMUo2Yj_B1FL>x>pLvlK%)i[)hD:pek4uVWh*im.5[kM5#UnpYIofK:B<f__aE`5VLdOx;3F@I6Q`TVF[vrE66C/3ng419YR*,7avV)FnswXG??y(bV_N4g7%Q%F<Pu/>PLo^Nuef/84Un7?$1^8;hlIXlbp4QCPG%#uV;+,U1Zl0=/4cZFx0BEhB*[sv*2N#?nr.9c/8:J_AQZU33WLC_IGTP@*#91wHf6G0qr@=v#ZoC`d7T<bA;r=u[[>*&GMH,3)NFC4w_SS*?8J1K)ijq]=kv<v22bqZZlG3AD)pT-Wesij.OS=%S@*5Hc]=)qc#CHc#(H:?A<ZEjUHV13F4?K8&mY+jaG>n+@g1NMN*NGwLU.1RaL/>.daf&heMcAwdKx@](]t4%)R/vR:Pw8w5U8iM1#d()D(b6212To+.CK%,dnNyD2an]fQK]0%ZR0D(Y<oAbo^OX1a6>&gmn:1.qoWVB9)f+)qrIu_)8IqO+gDT]VL*1F-GMZ[HP<it086%xy3Q*3?N#y;_*`7m$__YA#v#r?-CY1P*U.s3f?xAb2j(oEwk/X0x++f%Y_UC$.?0ICp#kIL7`-:`@w,:gDg[0VB_1e.)3E9`RUOaP-%--Q<3Lr%<Vd)PY=(K&.9R0`d1/R>?JxK@-2Paq??3TW%SmvjM1Da5p5?`Ukk0PEl4aq687r&;CcE`$i_W6/tb@2ZA&;]y8;VP2VKQ]69;>*>XBtQ;HJ,e_GUACr%,oP-Z1GH[C_pe<2iwVC.r3dBv^eNHh6UNfTm:yQ9E>-lXikmqy:%IW*YfJNKvBe8yi75b]-DkSI,2<j0]axEsJ8c4%eDnpyuXL/pd_A8:EgkH$5d$t5EQ,+eIiNBDP#sV5o6bM(JQSX=T%E7pScWj9QjUGN.J].he881oq?p.,uPnv-3b63+ng%t3CtF=eGYjQ;IpKrV0Ab_w?O*SYjQZ@`H5ON7,9cGQFZI(aN7fB5/va#)I[+8,?1O;>u$rXejJv%_Xdk8<#Ufl?;>y&Pq62<t4)5G.0,.2QDVY>gRM%qL=0:1TNwZB;.nLkIdXL.x;Hl0ub5(S?4h,nPV+M5,,7[`nLeFJLJCS]Wcr`eAACM9Bm]=H=cu[_kdS?&KqP*T*%(,aXPrjlRGfWlXu9gDFi669KkQjab^GwR<N=4XJ+y1OsMXsS_0U8x+BYxjKYLw$JaF1%Rud^X`%0L(bC((n/OmTEB1xGO9>V>5=mZxL(7pQlA(hhQCq9_M7&W&7Nl7OQL%w6wJ;`(hF1*WvQmYnhkV.K3,PA[^xSU[tC(WnUpTZpQ<n%^Mkk:ed.@Z$V/mbSOQBHv`MTWn/KtkA0p#8$6uQ4e-2</R]UJ2vip=x9)S*ijxmVPJ;rXmg/T__.6F@huQg+k6%a5QR,0Y`1i9eq,t/j>XMQCQCdd:tMe=VB9&Idsn<:k]p-o$tpX_8gi>vl^LJ8sVhhU^Rt^FP@nWQG2M;-QCfXy(FQ?xol*vAcnMq+RR0Nj%aDNBTxCTe=`Dqs0O9_w<fqth+G;P);l6x7j7?o.39m:f7d)S7<dH4-`]hlWXS*-Qk5Q`/#K*Ai2v.*e.YZc@s+xsd]5D[b^raA[MfaeNB@t#$OhbR]IR_K?7lo*d/1;ZrTH,0LAXO`J:=sq$nh9G:$:KA2>ASmHlb@%9^_yva98Bg2.]K](J=WWg=MEZ#Aq;,`HWqpmao*o(H$;)nBO*1iX-0K7[s/A#S-Dpc882ej5b]1Q>FZTh?$T_l$Fal?5WDR9iK]^m/sC:RsA)e1c$dq^,s#WqPI%&Fjq9,5cN:Bnj@De`%t0A,9/kyQ:n$Y6eM8nBS?>>aYs#<@O;Eo]ZJ&cX`]C)A-jtU5[Vhx*5wrhM[C[Lt1ouAu.=nV+a=du9LGKr$%0d.`7=o-kr&lntQSY+2t4WuUedLcQ@t#P;,v9K[QU)Vl&tv,Hfvogr3kQ8%XFDp(KqgfPpo]RC;ip8tEL,10tiN.Z)a(&cad?/NT%CNDTxOaRVZ4dl:i2L=VYabMHv,N=dfRY1=[<(ym_*p^sH#Wo[s.Pu#1+M6kP3GwUK_hgH*Y^Gjj(h$RWS8ue@K+UfHF2`OE0_)eQa][0n$oH+jl:k7SGI0D2yPh2s)G.a_y$N`]#`^g`MBQTQ=?^P%f]D&%bk.,WK7eGepsM(jCTGOLZ0Lu%8Qr/?6A/RwE[R-`pbKKfP%(JT-l^EFoq`7X,n9kq->X56]h.rYwcd64`:-WaX-pGJmJS<y@[6ciSA(h@u`8)%2;6]e.)>F>fQ>Q$D]A3o-2*D/F:CJi>$p@+3Pja-kd=1n5DOE0g,l)i^V=AsqmLdsN3c)Aos,(/a_x(0.9uY0ONX_/&M]g$TQH0=Uj=BLW:Fkg;G.qi4ANPsh+hdBteR@ZVV>tSkO=E:W<0d.>w8m`Qhb-V)J0vV-(2e%&:41@rVlJI:c#X3Ci[QN/$[4iSF+Qs]ZgG1#>v@jqVPCJaw:<KP.7tV6E+ouWF`gR]jn:;3<n:5497car19$IcPcUiGi:s6_(0N:idO1A0wGmrv_Zw6vT=/$<rK26HoHn?xk[6jTdRI3]SsQL+aBj/3t@ni%mn]71vF/h6^qls/FQJE]e7P8(BI.foO/4)Ny07,kD_^?X:0&r#eO5v)_a]Ms/8fZm(`dYoI,US0r5ppSf=:g9j2tNUF>O&#&mnKrI[@jHa`*w+c`_0[OJu5,>pDOA@*T;w4R.rJvYO,yBH=RQ/(=6pZ,KQx,TbH?Fv";
+}
@@ -0,0 +1,290 @@
+package polyglot.main;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileReader;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Set;
+import java.util.StringTokenizer;
+import javax.tools.FileObject;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaCompiler.CompilationTask;
+import javax.tools.JavaFileObject;
+import javax.tools.ToolProvider;
+import polyglot.filemanager.FileManager;
+import polyglot.frontend.Compiler;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.Job;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorQueue;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.QuotedStringTokenizer;
+import polyglot.util.SerialVersionUID;
+import polyglot.util.StdErrorQueue;
+
+public class Main {
+    private Set<String> source;
+    public static final String verbose = "verbose";
+    private static final JavaCompiler javaCompiler = javaCompiler();
+    private List<Job> jobs;
+    private PipelinedPostCompiler pipeline;
+    
+    public List<Job> jobs() { return jobs; }
+    
+    public static JavaCompiler javaCompiler() {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        if (compiler == null) throw new InternalCompilerError("Java compiler not found.  " + "Does java that runs Polyglot have javac along with it?");
+        return compiler;
+    }
+    
+    protected ExtensionInfo getExtensionInfo(List<String> args) throws TerminationException {
+        ExtensionInfo ext = null;
+        for (Iterator<String> i = args.iterator(); i.hasNext(); ) {
+            String s = i.next();
+            if (s.equals("-ext") || s.equals("-extension")) {
+                if (ext != null) { throw new TerminationException("only one extension can be specified"); }
+                i.remove();
+                if (!i.hasNext()) { throw new TerminationException("missing argument"); }
+                String extName = i.next();
+                i.remove();
+                ext = loadExtension("polyglot.ext." + extName + ".ExtensionInfo");
+            } else if (s.equals("-extclass")) {
+                if (ext != null) { throw new TerminationException("only one extension can be specified"); }
+                i.remove();
+                if (!i.hasNext()) { throw new TerminationException("missing argument"); }
+                String extClass = i.next();
+                i.remove();
+                ext = loadExtension(extClass);
+            }
+        }
+        if (ext != null) { return ext; }
+        return loadExtension("polyglot.frontend.JLExtensionInfo");
+    }
+    
+    public void start(String[] argv) throws TerminationException { start(argv, null, null); }
+    
+    public void start(String[] argv, ExtensionInfo ext) throws TerminationException { start(argv, ext, null); }
+    
+    public void start(String[] argv, ErrorQueue eq) throws TerminationException { start(argv, null, eq); }
+    
+    public void start(String[] argv, ExtensionInfo ext, ErrorQueue eq) throws TerminationException {
+        source = new LinkedHashSet<>();
+        List<String> args = explodeOptions(argv);
+        if (ext == null) { ext = getExtensionInfo(args); }
+        Options options = ext.getOptions();
+        Options.global = options;
+        try {
+            argv = args.toArray(new String[0]);
+            options.parseCommandLine(argv, source);
+        }
+        catch (UsageError ue) {
+            PrintStream out = ue.exitCode == 0 ? System.out : System.err;
+            if (ue.getMessage() != null && ue.getMessage().length() > 0) { out.println(ext.compilerName() + ": " + ue.getMessage()); }
+            options.usage(out);
+            throw new TerminationException(ue.exitCode);
+        }
+        if (eq == null) { eq = new StdErrorQueue(System.err, options.error_count, ext.compilerName()); }
+        Compiler compiler = new Compiler(ext, eq);
+        if (options.pipeline_post_compiler) {
+            pipeline = new PipelinedPostCompiler(javaCompiler);
+            pipeline.start();
+        }
+        try { compileAndPostCompile(options, compiler, eq); }
+        finally {
+            if (pipeline != null) {
+                pipeline.shutdown();
+                pipeline = null;
+            }
+        }
+    }
+    
+    private void compileAndPostCompile(Options options, Compiler compiler, ErrorQueue eq) throws TerminationException {
+        long time0 = System.currentTimeMillis();
+        if (!compiler.compileFiles(source)) { throw new TerminationException(1); }
+        jobs = compiler.jobs();
+        if (Report.should_report(verbose, 1)) Report.report(1, "Output files: " + compiler.outputFiles());
+        Collection<JavaFileObject> outputFiles = compiler.outputFiles();
+        if (outputFiles == null || outputFiles.size() == 0) return;
+        long start_time = System.currentTimeMillis();
+        if (!invokePostCompiler(options, compiler, eq)) { throw new TerminationException(1); }
+        if (Report.should_report(verbose, 1)) {
+            reportTime("Finished compiling Java output files. time=" + (System.currentTimeMillis() - start_time), 1);
+            reportTime("Total time=" + (System.currentTimeMillis() - time0), 1);
+        }
+    }
+    
+    protected List<String> getSystemJavacArgs(Options options) {
+        List<String> postCompilerArgs;
+        if (options.post_compiler_opts != null) {
+            QuotedStringTokenizer st = new QuotedStringTokenizer(options.post_compiler_opts);
+            int pc_size = st.countTokens();
+            postCompilerArgs = new ArrayList<>(pc_size + 1);
+            while (st.hasMoreTokens()) postCompilerArgs.add(st.nextToken());
+        } else
+            postCompilerArgs = new ArrayList<>(1);
+        if (options.generate_debugging_info) postCompilerArgs.add("-g");
+        return postCompilerArgs;
+    }
+    
+    protected boolean invokePostCompiler(Options options, Compiler compiler, ErrorQueue eq) {
+        if (!options.output_source_only && !options.output_stdout) {
+            try {
+                if (options.post_compiler == null) {
+                    List<String> postCompilerArgs = getSystemJavacArgs(options);
+                    ByteArrayOutputStream err = new ByteArrayOutputStream();
+                    Writer javac_err = new OutputStreamWriter(err);
+                    compiler.sourceExtension().configureFileManagerForPostCompiler();
+                    FileManager fileManager = compiler.sourceExtension().extFileManager();
+                    if (pipeline != null) {
+                        pipeline.compile(javac_err, fileManager, postCompilerArgs, compiler.outputFiles());
+                    } else {
+                        CompilationTask task = javaCompiler.getTask(javac_err, fileManager, null, postCompilerArgs, null, compiler.outputFiles());
+                        task.call();
+                    }
+                    String error = err.toString();
+                    if (!error.isEmpty()) eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, error);
+                } else {
+                    int options_size = 3;
+                    if (options.classOutputLocation() != null) options_size += 2;
+                    if (options.generate_debugging_info) options_size++;
+                    String[] javacCmd;
+                    int j = 0;
+                    if (options.post_compiler_opts != null) {
+                        QuotedStringTokenizer st = new QuotedStringTokenizer(options.post_compiler_opts);
+                        javacCmd = (new String[st.countTokens() + options_size + compiler.outputFiles().size()]);
+                        javacCmd[j++] = options.post_compiler;
+                        while (st.hasMoreTokens()) javacCmd[j++] = st.nextToken();
+                    } else {
+                        javacCmd = (new String[options_size + compiler.outputFiles().size()]);
+                        javacCmd[j++] = options.post_compiler;
+                    }
+                    javacCmd[j++] = "-classpath";
+                    javacCmd[j++] = options.constructPostCompilerClasspath();
+                    if (options.classOutputLocation() != null) {
+                        javacCmd[j++] = "-d";
+                        javacCmd[j++] = options.classOutputDirectory().getPath();
+                    }
+                    if (options.generate_debugging_info) javacCmd[j++] = "-g";
+                    for (JavaFileObject jfo : compiler.outputFiles()) {
+                        URI jfoURI = jfo.toUri();
+                        File outfile;
+                        if (!jfoURI.isAbsolute()) outfile = new File(jfoURI.getPath()); else outfile = new File(jfoURI);
+                        javacCmd[j++] = outfile.getAbsolutePath();
+                    }
+                    if (Report.should_report(verbose, 1)) {
+                        StringBuffer cmdStr = new StringBuffer();
+                        for (String element : javacCmd) cmdStr.append(element + " ");
+                        Report.report(1, "Executing post-compiler " + cmdStr);
+                    }
+                    Runtime runtime = Runtime.getRuntime();
+                    Process proc = runtime.exec(javacCmd);
+                    try (InputStreamReader err = new InputStreamReader(proc.getErrorStream());) {
+                        char[] c = new char[72];
+                        int len;
+                        StringBuffer sb = new StringBuffer();
+                        while ((len = err.read(c)) > 0) sb.append(String.valueOf(c, 0, len));
+                        if (sb.length() != 0) eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, sb.toString());
+                    }
+                    proc.waitFor();
+                    if (!options.keep_output_files) { for (FileObject fo : compiler.outputFiles()) fo.delete(); }
+                    if (proc.exitValue() > 0) {
+                        eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, "Non-zero return code: " + proc.exitValue());
+                        return false;
+                    }
+                }
+            }
+            catch (Exception e) {
+                eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, e.getMessage());
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    private static List<String> explodeOptions(String[] args) throws TerminationException {
+        LinkedList<String> ll = new LinkedList<>();
+        for (String arg : args) {
+            if (arg.startsWith("@")) {
+                String fn = arg.substring(1);
+                try (BufferedReader lr = new BufferedReader(new FileReader(fn));) {
+                    LinkedList<String> newArgs = new LinkedList<>();
+                    while (true) {
+                        String l = lr.readLine();
+                        if (l == null) break;
+                        StringTokenizer st = new StringTokenizer(l, " ");
+                        while (st.hasMoreTokens()) newArgs.add(st.nextToken());
+                    }
+                    ll.addAll(newArgs);
+                }
+                catch (java.io.IOException e) { throw new TerminationException("cmdline parser: couldn\'t read args file " + fn); }
+                continue;
+            }
+            ll.add(arg);
+        }
+        return ll;
+    }
+    
+    public static void main(String[] args) {
+        try { new Main().start(args); }
+        catch (TerminationException te) {
+            if (te.getMessage() != null) (te.exitCode == 0 ? System.out : System.err).println(te.getMessage());
+            System.exit(te.exitCode);
+        }
+    }
+    
+    static ExtensionInfo loadExtension(String ext) throws TerminationException {
+        if (ext != null && !ext.equals("")) {
+            Class<?> extClass = null;
+            try { extClass = Class.forName(ext); }
+            catch (ClassNotFoundException e) { throw new TerminationException("Extension " + ext + " not found: could not find class " + ext + "."); }
+            Object extobj;
+            try { extobj = extClass.newInstance(); }
+            catch (Exception e) { throw new InternalCompilerError("Extension " + ext + " could not be loaded: could not instantiate " + ext + ".", e); }
+            try { return (ExtensionInfo) extobj; }
+            catch (ClassCastException e) { throw new TerminationException(ext + " is not a valid Polyglot extension:" + " extension class " + ext + " exists but is not a subclass of ExtensionInfo."); }
+        }
+        return null;
+    }
+    
+    private static void reportTime(String msg, int level) { Report.report(level, msg); }
+    
+    public static class TerminationException extends RuntimeException {
+        private static final long serialVersionUID = SerialVersionUID.generate();
+        public final int exitCode;
+        
+        public TerminationException(String msg) { this(msg, 1); }
+        
+        public TerminationException(int exit) {
+            super();
+            this.exitCode = exit;
+        }
+        
+        public TerminationException(String msg, int exit) {
+            super(msg);
+            this.exitCode = exit;
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1792339902995L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Y0(PO-:]i?a:09jFKI6&;]#c@;je[6cS:Dw2LB567,DCf=3cu;U0X3St-Bx%csyG8D-Rkv<-1@(/Ueib2=Q;0)1liX_4a6VA?xRXZ^b15).vbe)>kAFWv.*JI:;M1J6sUghf_*/oIBYA6YSXvpcm&o,WR4o@MkRp9;w4T*qaDFLY$^e__?<9V_mh1k+(*46h&xo]YvD%8.GB7v)t:kHGm;S2%^qGV;yo5V=2X<shTfP;D`e&hsoShXgHO[=@6&pFR1M-6S9c/2hil*h^p;`R<01tWO,;ORS;it#Up+&*c8y#WHaX[.lsD2()tZN?3-8>C6KGsF%3U`24bg0t(Xa[:OD7R<jC@.<=R-8bC19:kaNMqw4[C<^9^.a/K0Y+;sZH1<=$_EL_s-=2pgLxTI(NjZBa[?Z67DQawIQfh6a=H&WCXKNVt$pjn_f:I6A<,fu=I$^t$%&,Xq9fAA:on*7F0Clg@K$8KaZmQAe6ZoJ^9m2FjP79jlmJSj*m7p^w^Uj$.#+SJ]jl_9`8S_-%d+ZD3PUmR6Ap#/:HuM9f0NBZ;KPk:pc86p2juEsFFNfA4FU.?8udVB1X5%xa,1qB+?VVEsq(70)68&pHy[^gZx)sviXxQ[7,xT@Gk2*LIaeG<bn6@52a-=*cH:PCdIO8T<w*gA@U335(fD*omBD(p2n$17?3-gH*^cB[;D%i9DjImVjSF+_vPmb_v6pOuP<3:2ZH*L<fJ#hS%NfS*r,rQM$&04(hnVH:FYOJx^YVL5x/5<j^/Z;KXgy_1pkXpMR_x,/14Fnd4noN>>^i<@=[D%;gMi$P4QDVm(e-TFa`Q0gO2V/,#ABR2wNPJ..QfB41Yt=@cM:S7G>l>tCp%MNanq]vOyFjh?i,_]`pr2R?[_atfn23p](DEIwK^l^9]ZU9CIo*wBtgtZY=V`0JZ0<5:/8ti^/KDX#QVJ&^x;t-lN;cBXb6P4)IedqZGuZ*c/=RJsNMR;R(qg/YpJm2Ij)F/#:/;8oK3d6bYbN0G&^M2%>1Cj%jJlgu*LrVmP<DUYSPjrY=1K,_`p&O49+*4]=cpLAh@YCZ/p_ZM=LV1l^t4_;%u?4$%?e>>X9/FRLvO$ZXkZM79)s]`P%+xjuZ7_UTI>t(OD<.>d14_U?WrSbpf5$I8qVJ&()JvOWF+C^>Ir_39UIf]yei[cNgpR$&BSrJ3dEIyecY]iMot&jVwLwV]HJ=@wj#fJxwr[cykX<N=Y`MB:luieB*q[p4nt]O/joUCUr8hCpMO3^h<.WXL/c<NdDu6Of@u[HU;H@[p`(_HxK](t]Z4X;*aFm]OVHt+;lRk-UQL@69$Ifkv+=$NFnGpTy<X^7F)Sp?);Dg&SC.,hK,gwdeUXPXicm664@A)vEbV(i>(CXa^_*)U@gUHVGYL-*#=Um]&bPUXC-vo^CyOH[y3GN6&&0LS@YuHV2w&7@Q-d3ykT5.-qJ;tsMId_)/f3J6nEH^Bxwc8LYHBG(vN>wrv)PvkbCv=yn=/P]ps9-T/M7YGvyFf4585=6-p8f4NAa7/7>QTu@=K*$EwP&le1EB8j4?$,+7Y99iHw$Do.LLmnY*+:60`o4J&1`cx`#=9.3&._-PB-jdQbP4YS^V:^2,+yg^fQ(V9MELNRv06Npm7*,N2dk]8TK1iYRZdDtqRx0#<xK_,#/[=y)Q)Vfg1&Uu:y)2bnFue176D43OqW6SaGN8&r_Zr>(JA$>%qAQe1nC]p3+)NIveSEs3H3?dAil7?SL.R,5kS]W^OHj62^$ggXDrVyDxRTbt;EkF50fo7W^PW[q>KB.W+v,J&=Xn$6`9ydg9cG@c7eDK`gU[0rwps_bHH(j.er7uApIXGMOnjDqiu?N;Dt5hHLAJ9OO,2%bc5G&-2Cx_h(Ac19UBW@kmU9Pt4$t-j?,N5)-d.HvuW;o#]IM(#a52$k#mu5_DVQQUJhm--ggK@f;Y,+4)2GM7hp@-lKEcfVFG.D^j8=a:aEc3F9I;hkeY)Ym8ya2-gCpir+B_Qsp`_:%a+Kb`6>:y,9-2=3mGT9XU2L.^.kOdb,%n7Ws$.GOr%=s(si0QQ-VGM22se0p:B22N&a/:o+sN>%?idthQcf3VOe]XJT,Dg+W:V#`1[i?:3wLkbkRBUlP$@l*TfCQZf-1c8-T8Cd`1Lq,e0)^mJ*dYvwtkZ,O)swN#Dt#Ck51LN]t6v__$%$qL(Y8D9Y5LF09C8mZRTSuKKYYBfGLD6I?=231l)`L]X#`:3F-)S[*)nLb*mXeIAUyfk#4XR,F%n>-7n#p[$.VHaC6,ZO]]Du=A04,k9-Oa5BeXWbt?VX74DfMWnPgp1wm0WP-KFIBSKFbmTYl^bdD/Fpqold/p86f?x$hLZ/u5-Nd4)Hfoc((GHtp;x-9hvT5h-c9pGwQ(>sf]7Ue_sk5LdJbngcRfw-.`GJo=RW47X>foX.lO$V#.&Y8^@CN/G4^LR++QM/)KScE4Pf8PDZ^F=ilx4e)TL=(=;YPUK%*DWv`U7bKABp;t4RmX$OH5K(LniOWvvH";
+    }
+    
+    public Main() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792339902995L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ag-N*mg2<tX<acBePtI97=2rabDh,3Qul_*L[d&Eoc(,Ag5]lG&W7NQ)/S3&Z:chBs3+uXBgb&UvuV3N)Z7IqXm8S._3$;hM4U/].*8FID<Tl;+B,jw$mmdpf9S?S?)_;VIghGv>^Wqr/5Cq7ru(-DH_U2YWQ-LDFY.<Xd(p63.[LW4luatI],xsIJ#(iD`k*KWLuJ9KdKD6r.L2n%A(g:ZA0.<5&KsY*o:A*?0e<l7(SZ;kHxF^CBWs<<y>y*=:14eq^:nd`Y#V#^*uMj/>o32<KekF%h]x8AIa&;?*gh>aJ6I3dDGKY_ydm_1IOYVVo;*nNoT)nd7>9jYB*7<cAinM1H:r0eZ.Q2<EV0gqtC*ouw/6&W1Y9hLDEM8`sEfW<]yKNuIJr(duydT^tb^Jk12$kS[d<e2h`lnT0Ku(i29Ye/.)`0k1)w(NOX,EYLU2Z)WyS<X;hIhK;4<#hI?^3Cb:^j`o_Ko_8>0Msu8a`$>E9sMo2joNtwD:F9DggOWS+;T0aS9PvZ>/?=0Ch*djhWQR?v;WIBOg<nO[&Wb-n`#Pg%qDpfX@FMAC#&Qm7tRyi-02ys>,SuoaOPf3jDa1pqa;m+qvnED5(]L`<@g/w6<eT@M@X8`_w#Q+2fhjtcg6dVUc3t[N[J[1]uq(&I2Wbx#LE?3B:kZn*2Y%MK]?lKaVsafd$9u)qXqhLB/I)uYGP_IGD0+;UA`J1/mUMY6yTNIxLR^5-bOpM-0n/nh+BB@n(uK;sH_BGi6SrV3/XIGsXj0KhOFW*UEc8/M(>J-6j1v3)QdXPc01IfEfQ8^6B_^e(J?AGP$Lo[c1:(jEsmHaAnFBj+?f[+vsi0L8=r>u_;?];7MmR&sYE/iH#_W24qRuP+6:3sJS4ZhP?]#Wl#[+_j?Qq=6<[-Td=#)Pnm%JGV-a5o5p?3,mb*1clc7>mGnENLQ705@CbOX*;uUjmhhnD_/=^:@O>4LQ)>=DPgtphww>oLbny=5UNS_,3#,q0vZpd.+ov-A.jr-0pOMKki-$$`L+#CpT0B1UZrb9q#C^Uj-2V;W-+aSC%AYBts0$jdU3ubw]7x8n(osZ5l/(#syB%+[6R(;$Od;&Ehd66b@Vwfc;AjqmWI`1-[6j9#]kkcG/)R&VnZ=RM<v@iFD#-O.U9k+/e]qn-OMLeUMNFG[I1pBX)^9^[eHwZe,%b5d:+4mLs+M@SyoqTIEDb*d-:PC.YXPw-ZJ.Fm/o<D%<<v]`a$LN(3p3l[X25e&5fqw9^NA(ntZnP42VBSA(>p8Mkf0VjhL?U+w*,m0lbm-t>2YZVxs.VCOu#eu.kD-,1E>`2OZDS3fn`IQ6hPo.C1ybXtSNnh,Vin[n0v&^SFZA$QX]nfEy,UC)P`AG&HPYnmE#_Aw>dAs3w07KiLYUj2cENVNT?#(iXr1uMaJTsxb^bfH.9/&*JJG?JHYC+=[B,f0xb7?n6@ujJ<up3&Bvjq:aAtX_RH^xCOA[DwiiF*^L+OlP^WFWZBTi3Q:KO0RxW&K@4sus.`y]/hoOKnCUcc9A0PQbjsYr?6IU*+:ycto1en=>BAG#]Ve7f(.P1[uo0WRa+_nF++2#0.4u$.UI&Y$K&v.)#FQMfG]^?M#ex)fd7TaHP(Kp_L5hH`XY^:b1J[I9b`D>Uyf?>KyUyij%t9iv+eeKJF>7iH^pjQJeEJ/Lm7f[sNrZUtT<6T0[@B=VD:`aN0`B-DUX_fK1su?N@-h#kPj*s(pOOyvEWF17lS<FKr],=$r%6c#P54/(I<*Cc#Pn>cKwET2<@uKOvIwIaJJCt4b+[e_$]jbV*9UOgNZ8#WdAb_UeDq2IO#@pPNXEG(IbWEkdujqt8bp0_WlI?j.lGvf&$_ne8;RS5YGs[Tfh6CbO2dsSbtIXpxPYFji^xbfGQ1?(`j-3OjZl0lCUp55<hs%4q=pyRWQh3`N5285mhxdC[F8gLMHWB+#LGrO-TfB,[^OB`25EAax5q`V:e^X9t/f]VwVYlk3>f.3&A1q[XA0uRF&$?4v-TZeV8W0@[PC-d=/Z1GYRt*FVwZw-(Q1%]j#46&<Gb)RRDmk-HOuwU[6r2*p`c1@*IFC6nY<=Pg[HBk:/NDT@gABE23I[Qt7<^(WCiSUVac3^Iw_ITL(L71w&C9WE^Zmbw7fCi+O3*vdC$qasoDhX0fhj=6%`oeT1,B7*N80/?e]%_:/FJ5UNvtpxEp@YHrbf2dlT9Q[yV(Rv:K,>m4k.&0xyFAc]`-i_guWOg@+(=oyItbwdgDr0/d]Jt#>kD>NROZ]Ov/f^Lis]QL&R]WsuPH&q,hq,/D6L$^a+7qNn+tIu4tYl,/@I>G/A=tT.F^6v^HgQ*Irn`WP*+:YVypYSYM==@n%j/fwWHQ,nK>ip<vjX6nqZmBNVmWjB$>EQQ9Fm><SVhu/_)%[:bSiA_L)v]B8<dYc,HL.WVRlwl0bG8(3s%E3]qkYj._W<wu+FV6-^I;)_;>Bi%8F&]xa;hA4Ng(Qrq00OPmO%[/-G22u=C9CM>us@)4pOAZ$M_($IIW(DjstMoRU#ILqhly+P*gtQ=YM<6,VM]_3)CV(/Le,_ieFYV=JSU+c-^u9%850=SO[J1q?9f+Cs+eKDrVeAC&dcLJR0B3J#<v`SwHmG3.VXsW9X-_]G..voKSJ1n`j(0TKI?-f0#KOI#m_0jrJQR+Y_<=i#ZCg(Jn+,SDg+O.ly.@j/q/dDuEe%.@[S&d6gTt35s5uSFr<AWhv<x&yvcl$Rh[wa>vfA=5t)`k[Yk-E:ES]]Il,$T;bgho&SkJe1d]vk+(Wb%jhL*bZkg3;.TrKA;[GgjXh$N1aSErJY(na8,^Imj-wOiDZ^@Ls0qtE58bXj^fVCZkD^yNW9wmGih[b/Jb<IZU$biym72pqnyySOR6rWHV#Uq&F0q87XKYqaH-89$>Ng:LtaYAg.3eGF%5P<GE^NFGFpD&52wJgoQi(5tg=SffF_1XA-0,O60+fqQO.g9R1t.r@p0jYmkTL-]%14dj3j=;^.eoV.r)R%Iql;iY$HYysgV#<HT^:B)tnw5cp;]sjbI`*e#?CQ9Hp=$hQE^+ouT9QSW?SDN*&8_f_UG=^H&x)76LXGZgif_lvBW#m^Rbodvpf96a9ch?aN<@r#B(enoMHSX+sS0+n(/4`@4:P-ovQ/hdqmNeq8U/]7J;_aiv:U?ZTo=*L,qNj>?O:T28t/u-9dkVh`WWYeguSWL@9C<o5[cd=0Q-*LiCFoVx@:$gIrK%+xy]boo]D2U1c02g#y2-C5%cP^Y8`n_PcSF-6<-`EaR,a-;,+jeAUhv#e)NQvN+^<E[IIGP/_L,6mD9G@aKpDUs7.Vg-eC(q-D8OU-<:FOIv/+c0I:aYRqw@bZf-I>]>b&Fe1pR25cKmw%.W@n0g]Qw-b2WtdAC)8ucQca+SL]lu^IK=>Ok0Xi7Ml=AYEiVGb_:GVXo(68*djH1WZ)6BB6R0XJip8N,Rn*KMXKCyiB;21/A?c$s0liK>#bZaKcStFO9:VF?DgZN)RoV21,]Is-&@f@Q==]$q@KDTlqTE/93y8aqnN<XYlb?p>9_IB:>*-WMtd^M?em2cVEKm4/p`R52>(EElD=hwnRwsmbt-U$85)bfphwT_l@A<7#=LtqZ<$E2ndRfOd;XgGyKo;ZsrtVOnOl>TYf+hkN8?eQ]OJE@Bs+2=x2(+[e,?LEQ43HXe4XOxeUg&L=1jpMOUqEI^kbW=V7nfC.0Yo39lGdsj*)3C+0JMMNhl5J$CUHV[l0SN-/$:A.*cIeujhb6Ni9=IE5s9/$OTqe_l98#MCvDKiy,dxFhos?>B^Jj/i/q*(RliU2YU,/dFpt]i?fT>gVEZ`S>*e%r/eC(ND`,1LDQ3$h:sVd>c^[mffdZs<-UV1=OwEB8oS-rWS7VHqK7EWfyYi:=I2K&N4XYNZ,ECJkM43K*vGaRYAK>l*jt1BhdVF#isD4:8x65L[yGje.@>(puT:U$@,*2uC_9Qj^rY=BfoYXqZg4diI)-k/45f]`^OfeTIDZ@N#UJbswF+MZI]`QandXjY<673:otQ0]5A[V83%gMh#LQHaUs1oqS-t8NRYwRm*.6N.,TSra$1#IkIVuuxKG@rT:(FBDAD#v(PNHt.rSoYg5W@XN)Wv:T;(s-C7ZNGbx/w0-d.Va3GIllP[7ad_%37>[;veaF06e(4GLVQo+iEi/nlwL?R^71LYsllpEq@c^E7.Y7IR<nD[dVaCmVHKj$XSsf8%tJ`G6W?E&RTrYKo0)8e7RGZPxePTO9ZjQ6yS^Y#q71X*LUaB:&GoJMj)W)9C@o48[m:m0%bg$*))jcXtSM(o#Nh4fpX/9(p";
+}
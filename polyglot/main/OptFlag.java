@@ -0,0 +1,418 @@
+package polyglot.main;
+
+import static java.io.File.pathSeparator;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringTokenizer;
+import polyglot.util.InternalCompilerError;
+
+public abstract class OptFlag<T> implements Comparable<OptFlag<T>> {
+    public static boolean removeFlag(String id, Set<OptFlag<?>> flags) {
+        for (Iterator<OptFlag<?>> it = flags.iterator(); it.hasNext(); ) {
+            OptFlag<?> flag = it.next();
+            if (flag.ids.contains(id)) {
+                it.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    public static OptFlag<?> lookupFlag(String id, Set<OptFlag<?>> flags) {
+        for (OptFlag<?> flag : flags) { if (flag.ids.contains(id)) { return flag; } }
+        return null;
+    }
+    
+    public static boolean hasSourceArg(List<Arg<?>> arguments) {
+        for (Arg<?> arg : arguments) { if (arg.flag == null) return true; }
+        return false;
+    }
+    
+    public static List<Arg<?>> sourceArgs(List<Arg<?>> arguments) {
+        List<Arg<?>> matches = new ArrayList<>();
+        for (Arg<?> arg : arguments) { if (arg.flag == null) matches.add(arg); }
+        return matches;
+    }
+    
+    public static Arg<?> lookup(String id, List<Arg<?>> args) {
+        for (Arg<?> arg : args) { if (arg.flag != null && arg.flag.ids.contains(id)) return arg; }
+        return null;
+    }
+    
+    public static List<Arg<?>> lookupAll(String id, List<Arg<?>> args) {
+        List<Arg<?>> matches = new ArrayList<>();
+        for (Arg<?> arg : args) { if (arg.flag != null && arg.flag.ids.contains(id)) matches.add(arg); }
+        return matches;
+    }
+    
+    protected final OptFlag.Kind kind;
+    protected final Set<String> ids;
+    protected final String params;
+    protected final String usage;
+    protected final String defaultValue;
+    
+    @Override
+    public String toString() {
+        return ids.toString();
+    }
+    
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof polyglot.main.OptFlag) {
+            OptFlag<?> that = (OptFlag<?>) obj;
+            return kind == that.kind && ids.equals(that.ids);
+        }
+        return false;
+    }
+    
+    @Override
+    public int hashCode() {
+        return kind.hashCode() ^ ids.hashCode();
+    }
+    
+    @Override
+    public int compareTo(OptFlag<T> flag) {
+        for (String id1 : ids) {
+            for (String id2 : flag.ids()) {
+                int cmp = id1.compareToIgnoreCase(id2);
+                return cmp == 0 ? id1.compareTo(id2) : cmp;
+            }
+        }
+        throw new InternalCompilerError("Empty ids!");
+    }
+    
+    public OptFlag(String id, String params, String usage) { this(id, params, usage, null); }
+    
+    public OptFlag(String id, String params, String usage, int defaultValue) { this(id, params, usage, Integer.toString(defaultValue)); }
+    
+    public OptFlag(String id, String params, String usage, String defaultValue) { this(new String[] { id }, params, usage, defaultValue); }
+    
+    public OptFlag(String[] ids, String params, String usage) { this(ids, params, usage, null); }
+    
+    public OptFlag(String[] ids, String params, String usage, int defaultValue) { this(ids, params, usage, Integer.toString(defaultValue)); }
+    
+    public OptFlag(String[] ids, String params, String usage, String defaultValue) { this(Kind.MAIN, ids, params, usage, defaultValue); }
+    
+    public OptFlag(OptFlag.Kind kind, String id, String params, String usage) { this(kind, id, params, usage, null); }
+    
+    public OptFlag(OptFlag.Kind kind, String id, String params, String usage, int defaultValue) { this(kind, id, params, usage, Integer.toString(defaultValue)); }
+    
+    public OptFlag(OptFlag.Kind kind, String id, String params, String usage, String defaultValue) { this(kind, new String[] { id }, params, usage, defaultValue); }
+    
+    public OptFlag(OptFlag.Kind kind, String[] ids, String params, String usage) { this(kind, ids, params, usage, null); }
+    
+    public OptFlag(OptFlag.Kind kind, String[] ids, String params, String usage, int defaultValue) { this(kind, ids, params, usage, Integer.toString(defaultValue)); }
+    
+    public OptFlag(OptFlag.Kind kind, String[] ids, String params, String usage, String defaultValue) {
+        super();
+        this.kind = kind;
+        this.ids = new LinkedHashSet<>(ids.length);
+        for (String flag : ids) this.ids.add(flag);
+        this.params = params;
+        this.defaultValue = defaultValue;
+        if (defaultValue != null) usage += " (default: " + defaultValue + ")";
+        this.usage = usage;
+    }
+    
+    public enum Kind {
+        MAIN,
+         DEBUG,
+         VERSION,
+         HELP,
+         SECRET,
+         SECRET_HELP;
+         
+        
+        private Kind() {
+            
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[aX#j*^Xv`71nlC+r`,21Ny=SN-(dnnZh3]hoth_]]HKvrio-5^sTaeI;#N0qXk_k8.IoA>J(Z`Et<8w*7Rwx^xi]k?%,lCXmNKqM]ol0*[eZ7;cc$F=eH#1^qqQpKeD+1.8[A)[#gdmqdd@)bQn5[lIu<+iY9mii8^:nZ6#<T2_IUCu8y/0XivDM0_I?sWJsb/TQf;GN$h5UvnElI`$7XX&EjCw^n>Sd47d%wCOT1(T/hVw;Nv@v9Gj&`Rj(4BC<iX*TqEc;S235ED?GP2RrQ>p97A#W#+,Z6OmuI[M:t^>&Pg]^%UZC20=bWO;a&tSr2/?oDxjXFROQnQr2YOeA8WIv<pa3i=@fe-G[Pj&O:g7=J5i75U[V1*/)(_SSVFxK#?i&Gh`M&bs0:6r6nYx[<t9o4Y=gU8/whlG6XVc?5Se5@Bn6-iNrT#%QWxqgAE42wqV/Bn<`(ACf@S_]TJ3DB^:pZ7B%N/aky62>OFPk0#,4aI.x`u4(VEB^R^$naK)uB$OF&7OSJd7n2PCm=$U&yTY[Cx`,6+M_2l-SO_<A2x1^FL2e=v6j&3$9^S`+f;p+*fC(d/802hQc5D@:Z_o9.wpnnE8]8P/]hsB;IRQxXQC^Z-2&Lo>8AKDGgAQt<UXZFfeK0&dEnvuckH9@ECAg[c.EgT<gIlu&DKPvtQcuWV4J6F&&#)bTLsb<ap:u+%JQXN4>)&*ny86E0w@FV_d+MdiX?I5]r1EpL`UQ?bPVT#RmauKehP?Rr4v7*Hm1JxnL&lJ$df&aM`H;NFk=HEd8SFAc9+1IhcRgjJV[K=b^mB$*$MN;@Td#c&)nqymm7<FM@fdu[q[/G:roW5^L=M?0;Zr8N`KHOZ+o9Sn:s2dh10P@oZq[]8TWX.vv5YT5GKotj=S5]_.r]4STF%c7X3K[3MT2.0<v2FgT<P-f>*o12aBc9Ug]@LL)hRIAYjgdQZ@#lDtaAk)Bh;Hc5o,IX<Ug,J[Ok)O131W#<.)YEyCi9+kB+u:5fTgF6`<VFZ_UT-D.jX(7<od3G9)(c(kKmU]U6Wh`u[oDfUnV7P)Vn1O)_L,^c0:wJ5<s;>GlFG3**orHfRQm9xA5ck4sy&2c)gw21`DOUWokKWm50f(M>&sY#T]S2p=@`vjQ*nJR>=#:+Im-V-1Z65(k#luIc^Syn]KRl4Tj#>mXH-X)Y-Jm=-&&NQ6^TJ#fWfm(TLxLFhREpuLpsX[l?4wdLyvx6Ds0wC]W>L[6%0-6/p%?wOWg,Ht&C%okH(65h?*+EL*+LN^jICB&g,h%vq@3@$1t/Tn0J(t2g5K%<8l/SM^&^N*82HUumrebT%d&D/%fokgT[@>B56cD<vA[<oXGuFj+k6<vHrf7R5+D:8Bb+=M>AV/2R7^R,4Jf-gFPR#-*x[eX_SDalRGF-)EJy@+x*`orXSV3)BdlhTg3dw:To;<]`Ard:hjwte/0E$W:04Mms+mo`E613>^dpYu^R(@4eAt/]l6a$5Dlh+iw>qik:m%j^n:OOJlt,+3^M[vgF,E*EWh$Jc9UgZ?iVE@oku#**RD1[g-$8Icc9PLL2g<1/i3ArfJt^_2WBeuIb[Oe+oZE$iCt,MmS/_#9boPLe@L[g?n`&ANdX/R&=:BPVr(]7n4d<9l^,:MLk?N4;?*Zb/x6qvpN99cF/_LN5P_UxpEf%&vW3^[nQQ:CgZWP.=ZNA1]GY7eQUT]3#maFb^TlFV@AsUB@:d&ij;$lv/Z3>e/_2qX]WRf2>=FZ6+s?K/40I3y7;Xbqk8b54An_PPQf/rGf#(T?-J@G^ayU#KI22lT;Km@(GH[M_5IUr&p2[.-K.R-K<nIJ=%3FRi:&f[XcBV@$,;MOV3fYC]SuUCiL1YUWqgG=6Q29/+e2:(iREq@h?>T/)-J-d_j_nW.B$9&#uRkVe8dPvUFn*@>QG64WEcG@`]*s/W;JlRA,[roW?u<Ea`E3*-u)mEd#/<`wCSKBiqnpubu9=/i@Em(RarOL/sx;3LFR0$d9Wt=iM36/Fo9J5S#VZU,A=f=h[c9/kZ6B;tmGc#fTp/FK6`muOR<f)Rq+G,,jS-Nqu-8w,#:[Iei7c4<<+Y,I3,GfXnb0SEhOnY1-aChdiO6Qr7e^S9?7>kpG1]-Dq-AMcl%L1rw;Kq0i@VDl/i1<ddnBQncNsH<;/of^eRue6g#un#,V402w;V4X_[#)YDfm.;oxEn(d<5dMZ^:.8T*gKd([2fqj1%7jf,i.n]DvaaW4<hW(Y@<4;`hwarWy/y=)La-9U9H7]enty-/6YRFeO@-Q;puMWDxL26@,8:afFGjtiMl,fu`t2Fub)ZcJP7q/V[Z%7Pvxyk;T34Jp.fI(@hR<=W`3Fc=fjNuXI41UQ*axAbO`fUZK/O%dW.HZD[/MdX-L/j?o_;l>IE[YM3Tr`Q[,MH2A*+hgH:DF+LfiHr6wIK5DcXUy8byU.l=a*:)lwWIQK1A[@_KP4R`P[TcSlH?ta#U`<5o&aKZ_.WTgbm=*O4I*dE^XqT8qub&,wJA2jD(0J+MJ^tTLv3tM.;*S2tgOXf7T==,;aFOI&t0p+a78D-+1aV5(eP@7)[NBo>dh-xGt-1/y.s`@d>HKAIgo][]H43j]p,?%*5aWpt4Hc<ps;$P9tB$34&ZmDZmb%:U2n^4&^X??2V`+5qplFxD57l$84B.,SWA(m*n8Fg)8Ccl?CL8M6dgrr:20SeT)CFn/1[C86OqPHgrb8kt3:V-@pG8wF%8btj)t.L[R0..SFMB42t-$_q.2k>J5Rd//Wx$;[sim+cfFv)*BdP&dGj-5`8&i^Bp6/]Oi=QoIExJd3+JwDwFDU4K(K1Up[i1x+njRoHm.Bpw-uRCacM1[;=QmX8UCwmm)x1c+c>?MB/din<4d0ZK6<MaEL(SB=Q.qbqVyrj*q(6C#[&YJfQT6JgEADvjTZ)o-6Gt;ymT$UwVvvYWT]5IF9j]bTh?2eU5?Ya-K*f*9gYQvausL%j]I-sj.Vn/QfBiv0<=ABUb<2^l*#K<%o&-lNiVSby>:Iv$QaK_%5^Q-#9weF&#f+^c1x5jn)%^W&FU$m%";
+    }
+    
+    public OptFlag.Kind kind() { return kind; }
+    
+    public Set<String> ids() { return ids; }
+    
+    public abstract Arg<T> handle(String[] args, int index) throws UsageError;
+    
+    public Arg<T> defaultArg(List<Arg<?>> arguments) { return defaultArg(); }
+    
+    public Arg<T> defaultArg() {
+        if (defaultValue != null) { throw new UnsupportedOperationException("Usage for " + ids() + " specifies a default value, but flag does not implement one."); }
+        return null;
+    }
+    
+    public Arg<T> createArg(int next, T value) { return new OptFlag.Arg<>(this, next, value); }
+    
+    public Arg<T> createDefault(T value) { return new OptFlag.Arg<>(this, -1, value); }
+    
+    public static class Arg<T> {
+        protected final OptFlag<T> flag;
+        protected final T value;
+        protected final int next;
+        
+        public Arg(int next, T value) { this(null, next, value); }
+        
+        public Arg(OptFlag<T> flag, int next, T value) {
+            super();
+            this.flag = flag;
+            this.next = next;
+            this.value = value;
+        }
+        
+        public OptFlag<T> flag() { return flag; }
+        
+        public int next() { return next; }
+        
+        public T value() { return value; }
+        
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            if (flag == null)
+                sb.append(value());
+            else {
+                sb.append(flag.ids().toString());
+                if (flag.params != null) {
+                    sb.append(" ");
+                    sb.append(value());
+                } else {
+                    if (!((Boolean) value())) { return ""; }
+                }
+            }
+            return sb.toString();
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Y027c*^Xv`aFUy&oGw%/&gZF:#lnk7h`KtO,ZX?uHeW;=?sbYNitGN6cY[bha7Z670Cv2y?M?ls#-**#P8,wCm5D,AT)-Wa&sE:F>=O@P.*%2>/XpekN@#->p&J78ujR$@%6jeQ4`<M<t^E3KKVc5,9=ua[ks:=GQ^lRc/>dr$_d`A9fW1W^.vf$gt*D8u*=pI=+o$+U+GnbyvsHsVcqPh15I)2d:;^huS^8ZV<I[yFWrwWq729V(USLT:,uyn&%kt$1enKMhU0gXdceV@*_WKUd1%;H?)]cwSEVZs&Ol<R5Ve)WP8v$DhD2ATn;@=k#JXC1x4@984;9NfWTn4C$#vu^rY)75D0V>htAn#,`W@Kf+ojER/8:-MD##y=n3;c#.)456N8gUeA5.Yof/H`[X#H/kpUgtW^/jrFQSF(m3,u*jpTxd/I:d-#N:Zp2>D(B@hInrk9ZWtt?;YxWKpwKV`@Yu6J,ad7tO54gN*ZhKc3NkoC4iXdS<m>WQULC)[IcpF4+*))sPRPJcamEr8ba=CwE1$,3=tin+0$UCMTH$^RdB`1aUD0jC926huhF>h4tx/611<NWp($W^QUK:iu68L(&u.j(V8&*]yLtj4_B6vEW*6+5rv[*gct+>2@;^Ja[Xr$^;F&d+QJaqJX)9P*?`#[Dtjni,-@RsWZQn):IVm/AYAK,>XdMPI$PjXxK21`Ho*u2p1JodB,UM^c`4_T(l/0WGYOq-xjnRHAO7rBROsY6S1p9<j91a98*:w4SthQo:Jpcq0qc8,sB>J#0D0c*TNnq[=V*^vu[S@bFuB,3p%9]1fH,fgM#+53Ictq12BUj4iBI0uDk4h[cvv8d`C#bCvCu-G+@Gn$b$+ViH51:&o.l6w5Z+L==8<[97O[$bF:1X$3)L#p6F[>udTbcl1oWh]R3]B3jkid8]csai>;=ZKjTk</26F9L@k6f3A>j[K$i9U67QV;^?L`>D&ikH@yJNZ=F5LY^miL4)D`_fAF&Z%OGhhGE%?opfZ;N04ekNP6F/l>2/.T`0UL$^9y,O;tBM%JN7rV5V/?oPqQ?KlmpLcvLgZijO*cX.PaHXOj%9ROgtm$T8B]LYIb^0CX0Q2S)MY$<H_A3KHZ,^_ZNaiBmn%%b(U$Nt2R1)rLQWcIEiQ[N2/D%Ztydt3Cra(PV;;MT(92@*<v6g;NCklVu`_)*c#X9f)GtkC>^3ty#6-qRW63B3V5SUhL9[9xWnFF6ARLsacXZ`t*827W6Nlb%-60#(VmLkWY1D=*dwD9;;$WgAFAkvh/>w$d=1GU%pqLN?gf:FeFW1eYqkc4<5gW0$7;H-0m^ZDL*(FUbV#=Se_`wRx`=cs_?fs+]w8v-w^So.691#IidP/EDie.b:(4VuS7+-Ds(Pq07r73g;+GS(4cS5As1_Z-4AZ&gPUWYcN#CPbcE0VXF;N&J5Rs%>INcK&>S-O#sH0gvYSB3AwB7r_8p<47gDU@9j:lrHs<hCT0*q,D1tq5=P:r5E+BZ5(2tIkJ9?AA4gX$NDCJ>D>h7*:i_/edhssHv_d0x;=TH6hn:3jjQL#:C]FW((i2ttU9jhK?gNEf_):jP0D8QDwt&n8_VUJgQq.C=-./qw]8$-R<aI]GT-R&ZN<>JG>nF^gm%CCyF*yZQPYlTME4.=A43mGuQk18];3/?No(f+c6@HutS1.PG$EhM@KV,%U6Fk/?F^k>u=q@=XcYcTQB41VMJOd:+SMa&Dw_><H5svnw[=+Bj1[F<g*`3t8p,HPCNaxQwP:wdf,udBa_IjbY-C7:ujDA$yW6@GmlOF,?*,8amifuH[I$P+l$.Gft<5]1D=o*O^di_NSkZRJ*ck)OUu[xoi)+?FEOkI0enaoemh9%Z@a=Q8Y*Cm6hIDVW_TF^YSabm<B9PJS&.l,^l5Q#Esvi]YDZvsO@)_t3B+m-)9@.kJ*X`Y6yeZ,L4FHgIVJk)t/WXSQvy<QC:Q7?(xY:N&<r`g;AT8ILK.j[A:u0p8R@nIJiOI+>6&v%qFT%dT*v3L&4i%:a0b:10F=Aor<-r;<>nB:<@[%dL51JQrPDl,#<d0ZvM_,)-NsNmJ()1s$JmtiM`QrXqBBFZp+&%-*?sb85PtjD,/*KN5-A?@cl:Jm4-iqZ%Nb+(7>/F(&MsjxrwKnCfvJ9KVd^%K,3Nt]>2/@wou2W(rkysy&f8?[Qr;WQJNaAKn2o(PZ=`*^>[cb>>gt4M^<-Q,7#Y.lxO13R;w_msfv4IFk55EW@VPr,7v7t+_rf/Z@LtF0@L?VF<n:nUGVF9gLR8A1m6EY=c@?IQa>dvug,UZ.TmXVheo]./KOQj&u:u/@c0hH^D`7[+nY%O`F0S>uKX2f*o<WnWG>^^y7LrMx3kbEdQ(::i[G)_v<X-tOcML^2(&7oSD/eFNp<%p0<uk`2Q/cL#.Kl_1:`uT$P9vv8V%RpOt):C6@=KA&<X:fro]bC^nBrS-hC?NfF.=17Np;[7Y%kFk[[L%sCu(2p%JtLJPblnwVs(nwVsvA0r>/oFHQk[W(&?A,[6F#bEkHY@YgkfljZ&&Thxs;.@W(,%2hD6GML=MgAmv2*?1Sv*leht`_:q/L=4Mvl#Q:1lJ&n-7sfaIuQFd:=aO20.l#fHB&yC*`BNTe:p`:HL[J#X*c(yaO%F/[Ape)I9K%hux_nX+=MW-_b<Cy-*S_jSOQ+u-<14jFR;9ap?B0]DN$[tu-%y%2::(Vs,0*`d1OAk^<tV9WyaqYqRU[w?cYkRW0rL?jo/+I-:$bgNZMHmshgs.tpTl5srw5-LT-PoW^Js1Fc$,>k&y#ghx,q,rBegg9i:J(VTA3euTa=ePEps=@,Xkd-y45n#Oqd[)djrikylNNM%#`>7<sry_MKOo=N;^%D.g(tYZyAro3CCXk7RO0]-8MIjAepwBTdr3Fs`*ch.)[g#?xN1-[:ax`bbu)=)Fr9I5/WV*tGXe1]$8?I+aMi3Yg>J5.o;rS[+SHlNCgtWx5n)EJ)),>`Ty<_qUZBhT*?dqMP967IMG]4)Ms/Lu$L<t+P@WQ,Y+R^O$c+Am3.a=9T@Ab9:+W,[K99e`8NH(1<2wSR;N^I7(sE/2.<aLW/;4DDDWG_a2S4o#0%a]guP`aM:`5,b9r3W(O;aoONL&oKD#/tGx<_qOD=X90WZ*iu5`ca^Vi]`U.p-niBUkZVqrB=,UNM_hE),4Kr(sf_OFsvv?";
+    }
+    
+    private static final int USAGE_SCREEN_WIDTH = 76;
+    private static final int USAGE_FLAG_WIDTH = 27;
+    
+    public void printUsage(PrintStream out) {
+        String flagID = ids.iterator().next();
+        if (params != null && !params.equals("")) flagID += " " + params;
+        out.print("  ");
+        out.print(flagID);
+        int cur = flagID.length() + 2;
+        if (cur < USAGE_FLAG_WIDTH) {
+            printSpaces(out, USAGE_FLAG_WIDTH - cur);
+        } else {
+            out.println();
+            printSpaces(out, USAGE_FLAG_WIDTH);
+        }
+        cur = USAGE_FLAG_WIDTH;
+        StringTokenizer st = new StringTokenizer(usage);
+        while (st.hasMoreTokens()) {
+            String s = st.nextToken();
+            if (cur + s.length() > USAGE_SCREEN_WIDTH) {
+                out.println();
+                printSpaces(out, USAGE_FLAG_WIDTH);
+                cur = USAGE_FLAG_WIDTH;
+            }
+            out.print(s);
+            cur += s.length();
+            if (st.hasMoreTokens()) {
+                if (cur + 1 > USAGE_SCREEN_WIDTH) {
+                    out.println();
+                    printSpaces(out, USAGE_FLAG_WIDTH);
+                    cur = USAGE_FLAG_WIDTH;
+                } else {
+                    out.print(" ");
+                    cur++;
+                }
+            }
+        }
+        out.println();
+    }
+    
+    private static void printSpaces(PrintStream out, int n) { while (n-- > 0) out.print(' '); }
+    
+    public abstract static class PathFlag<T> extends OptFlag<List<T>> {
+        public abstract T handlePathEntry(String entry);
+        
+        @Override
+        public Arg<List<T>> handle(String[] args, int index) {
+            List<T> path = new ArrayList<>();
+            StringTokenizer st = new StringTokenizer(args[index], pathSeparator);
+            while (st.hasMoreTokens()) {
+                T next = handlePathEntry(st.nextToken());
+                if (next != null) path.add(next);
+            }
+            return createArg(index + 1, path);
+        }
+        
+        public PathFlag(OptFlag.Kind kind, String id, String params, String usage, int defaultValue) { super(kind, id, params, usage, defaultValue); }
+        
+        public PathFlag(OptFlag.Kind kind, String id, String params, String usage, String defaultValue) { super(kind, id, params, usage, defaultValue); }
+        
+        public PathFlag(OptFlag.Kind kind, String id, String params, String usage) { super(kind, id, params, usage); }
+        
+        public PathFlag(OptFlag.Kind kind, String[] ids, String params, String usage, int defaultValue) { super(kind, ids, params, usage, defaultValue); }
+        
+        public PathFlag(OptFlag.Kind kind, String[] ids, String params, String usage, String defaultValue) { super(kind, ids, params, usage, defaultValue); }
+        
+        public PathFlag(OptFlag.Kind kind, String[] ids, String params, String usage) { super(kind, ids, params, usage); }
+        
+        public PathFlag(String id, String params, String usage, int defaultValue) { super(id, params, usage, defaultValue); }
+        
+        public PathFlag(String id, String params, String usage, String defaultValue) { super(id, params, usage, defaultValue); }
+        
+        public PathFlag(String id, String params, String usage) { super(id, params, usage); }
+        
+        public PathFlag(String[] ids, String params, String usage, int defaultValue) { super(ids, params, usage, defaultValue); }
+        
+        public PathFlag(String[] ids, String params, String usage, String defaultValue) { super(ids, params, usage, defaultValue); }
+        
+        public PathFlag(String[] ids, String params, String usage) { super(ids, params, usage); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[ag-N-8vii755jYoOinK;N<.&0nj/]Xdoy9*KK2R(h0B#Cxa/7itGN6S1j_cJ>&^8fWhd01][e9%`e^<ZKa0a9DpGBA%;GS9G12.=iUd3L:SvQ9DdZU<rH?GflY[FlB.nE/k[7e4aS_Kw+lY(ei?sPNo9H*(=1hHX&BjkY[?q*p;d=$OL)*6TNXAaS(m?kTU^1l%l9mVT)k]d6o;r2.`7-*;?amd`l5Wq]&$0DhehcD-_Py@_WjV$f<h`J[285a/`;NC/g[wm;#P9l]lJq<UWYv_T7VWr:.d.vVVk,kUVX@n^6v^?g-nfyj<;Le?%UPHgU+3M%>LN);vC&a,&4]N,OqiO1,ug;;^UN:D*S.)e0m*?JC)lls1ktw/<aMtds]=J%WJ-1/E^VK-5j_e,6?;D+k6P2,E]mU//vb__hJpyELRXdDAd/h%UQ$_$y],+]5ro]d.JpZA>qUL&)/GOfggrZ1VWss:7uZ&H$ki,bjkqZDkVhoDq#6f1<fOUfSdFnduJ@e$3fjSZEL7E>nG/5?33VS7)waX/2bnkEJ;f%9>SHN5MIh*1-F;-nGH?MQV1n#b]b2SMqO?1)EM@HO)Sx./kaJu=M5g0a`HM5kWW1U^pmUsVE?@ebGdMFKu^qe8y$E&SYbqqP@0aJ7eE`b)HthUj<yD]mnshA])05m2IU[dVn#;=@)_i7erOlLbX4Cdsq+/]Q.xcl*QEPwHfA?*X;<,RMHMP,:d?>gY[ceVqo59E.s7vuiIs(x@a`Qr]fPE0Vlu1KU_b<J=#*=)B>e1yJVf2e/ywIW?Dcn9%;1B&k=e=iDTA#Yu_IdDbbusk1iq)RNY(yx/b]a)Y_]y9F(.Yv%qp@qp4sx,gi8/84BI>s17KaODDJIwuVKrrO2&8k<KET4>f.uxP]Et/Q$)b=##q,9l`E1um^>Ef>csgl<8[%^rRZ&EWR[I$[kXeJ61.k=ldc?nr=OmIG$tuM7xbN3hSkVUOh^EhOWjO@st4oVWR><3-)/y4j4@oQjaCHq3;m4TTnJgrC0[Z=,tViUC#9+y5-x=t^7FG/HsNn.loNc(,ux;T:y0l:pdS,>NlF?H`[co@2/hqTIhb8q%iCnYEtEe%7^Y@A/n#wA)=;8W.4gWTLy^,6p/`Q&d,9Yh*@wWv?/EbuQdti[iAP+BYZQ6yad>Uc9N>8[:f*nwsPLqvd:B:>fA]sUW_M6<@L>4$j[Xl2+^8*0*9fgLO03l/3[Zy,BDR8jU+o7pG1+>[*d/OpC17GIa]$)aDgX5T2d59N@Ha;mML7ai5e>^9^2ag[uf%6mU[fo(=ln9;nNs%t,I>tbH$?8%gm[rq78I3TJh1YWMpbBOP6g^R;n`^_?MnmUltDF3.<3w_(JYIqZ9+IVk.RPc[^tuT`ejNv8)RjK$G&=YAed1]J`Fm7;.)61Ee=hgLIKEcLi`oG5^y/K2@-W-^?3yBD8O.+3@6q]6q2XfTg[AdC$_O5**@QMiyvTi<]M%18(9#8h08agcb#Zme4*qxo23>I`,dt+?fKe(bC0Inb6wD;^UdNJFiV1Yb/(QVVEtq,6Z*<%li5cA&K?IN]]jV%rG-?LEA_:EV2*%2dPY>_gfr8KKyREnO[GO)1?Lv)sF-lhvL.LYBaR<-LY%fE^SAwb&M5O>Q+_Yd.jx)72@*Pw]dk]E=V)>ftXt+vv9f;56p/IR=@TtcikGAB5]F4^/4RX5+y&<?SO.:KRsBnOi3BAOd(d-.OBylw3Kq^y^_A_F]/K_9j5$*UuJM4>GEgNk3%afC2D1,dOf&yGNNXMuAa=mtw2.2n,DpJ=$1mOOo9CPD9Pj`rBEK4R]^yeyZe*e>TKNKId<]c(m]SCC8O7DSkIc)Rh6=[>e*tmB`i*gC(a;UpcHF=[w+U*FT(k8`,Bq8rQ7]XbWNI?95Wche.FEpER=0A]2k07pKOGL?gL-k_fF5fRf]KbK$NPpf3/C0,4r+xmqGX%YkDa9$X3@l_=ww)TnQ5R07U[CTvq)b]TWd5Gq1/2?CX]u`Lr:[G$+`;((#`@uIw1LblDOyJ7w<)WUxTb`HTrKt<fXKgNY&?d<)vS:Jf=.0MIE>Tn;XLHp$5YEv`O70r.xgh6Na4IBBvwb.</L+gw@r(lk4+Ma/>3%`$r+&>XFTOaF,EUOYa:CbFBC.4$(5)>wF9YYG/4n$$hZFXIPh@^iGda?Z#0PmIL4.vKnaBA+Ay(qNQ-AatY3v>,weN);):35jv-2D.=<`qQBxPCGieu0H5wqpaE>k?4GkGMWM,l:fXb?RUq(/rk;T1qs$=jCdIRHmy/A%OUiQ(4sEnqKui(*tJ*U1YAiaD`#sr(5:b/M?0y2RPyIpOk6>gHo3vJ-8yTo2.Tt/(g1(o0u0*##rTq3YS8h<mLnUEXS_Sek)h-)*hbERDF#d3,XB:qrhj)>feg@4$^Nkw+2D)3wh^,(Gfwcfml2cIR8qO%Bbv[uZE_B&+AINNrjm)(MB:ay=HLZ3fH/U(8]]mh&hYtI+QP*nllia;)rvM`sb,Q$23*%.Z#a)l<N3NynGi]>unrn]h6`2>>rpfcg:6Msao#<kV=^cce9KK[b+`I9J.@%*X9/U(94@y-FPHpY#PeN/[O^`dH%7,9$WUVU*4=$SAoXYB4Te(<mn_;tJ/)#Xgm[&Ik3EQA?;aa;ZWd+b`:C&/*5t].74rUN/>^y]k2=TYJL[6Xl=YlBD+(jGp.@%):N$kxn.HN0OATgkkUlsAQ3BwebpQiDZ8k[nPN;cB>Mjb>H=)HyFpXE2De8X,;qENU<s$Lg3jT5,N49G^A<E5@WcI]_^8d??v`?kBZbNIiG-y7H)8B>G?S=V8.D*^fmqfS<l0<gG.jk44s$2^fF1LN2[e8%t`Wg+qZ(M=]Jjw78w:3T]X8OLL3.53;=dIAYm90E[R=l9^4lHHBb_y_f?gU/AZ;Z3Yd]J;aik]A^iNN0knYuDFc<]Wuxg[+n6uPl:aXc9U#f]*:J97.),[_=BIlAyA%m<PWIMr5<`I$AvLhj[uBP6=B.j#yh2eaDo3g%5HhJNEU>Y#=r1ks10[6*3(s4B7X0J_%W2gV_/T4SLn)0Nq4j<#=4uk3&xm#GFDJ:Zx(xr$->G,X:$EoOKK7Earp+Fylr?qey7<=mJR=EN(bn#yc:hJuOZF>+c2vn4i7w7k&u&dTIJJ,UA0Yo9]?K<:+;BJ[i=^Dj/+(e.Eq5Fw%)u2%aj($TkQ2o?N?51ZDC,gg+vbcbXEjVpdP[SeQA^uc6.-b^#F%m6V5Ec?X5It4m<pK&<,^jT%9MrJu@J]gx&$@tqUo^He39n^K(1QSeg^%:6G2]IvCPNu>3@ZYQe)7)-Dl(S8g9j^jLD0PMmwcmJrsar.yqN[QFwCelmoA=aXPl3oOSeHn2x2$vC1o5J*hB4LZ(*:7^]cVF>?Y]Sj7/(9T9Dvs?(gJsaY^H;)8)DV?7I:1+7E6>a2m.M110e=G$(7Fwmcf`F*rLPvfKJeaxARW9VDrute^+_Q1E,T+JCO%XK9hw?0C0tSF2x&]/9x_&3E34L5n9Y@-ZbahcjP81AP=<B6.pCJSa8^sk4/M+3aTRVF_n=1R3+D(Lu5u+Dt%>E7voxyK4Mh#j>/ZvXZQ/b7eUd`RTs+NnMbn5h/=<f7`PjoM_2ylb/CVeNc%)PwdpF#s%Fku:B:[/B:P2%sZHU;WY-G6r[FsQ@[W6k^C1VFrH7PZTK-,A,j;BlOt&7g)Bknj`Pl;VlquI?<`=%l-bMMG4mO,=vj=OZ9..P&1$8XOh:+$QGSn5O^[[K27Dyw1KiO3^,[abu5Y#Cg0l7>KP`$&/1g@t&2^4Uy-";
+    }
+    
+    public static class Switch extends OptFlag<Boolean> {
+        protected final boolean value;
+        protected final boolean defaultValue;
+        
+        @Override
+        public Arg<Boolean> handle(String[] args, int index) {
+            return createArg(index, value);
+        }
+        
+        @Override
+        public Arg<Boolean> defaultArg() {
+            return createDefault(defaultValue);
+        }
+        
+        public Switch(OptFlag.Kind kind, String id, String usage, boolean value) { this(kind, id, usage, value, !value); }
+        
+        public Switch(OptFlag.Kind kind, String id, String usage, boolean value, boolean defaultValue) {
+            super(kind, id, null, usage);
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+        
+        public Switch(OptFlag.Kind kind, String id, String usage) { this(kind, id, usage, true); }
+        
+        public Switch(OptFlag.Kind kind, String[] ids, String usage, boolean value) { this(kind, ids, usage, value, !value); }
+        
+        public Switch(OptFlag.Kind kind, String[] ids, String usage, boolean value, boolean defaultValue) {
+            super(kind, ids, null, usage);
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+        
+        public Switch(OptFlag.Kind kind, String[] ids, String usage) { this(kind, ids, usage, true); }
+        
+        public Switch(String id, String usage, boolean value) { this(id, usage, value, !value); }
+        
+        public Switch(String id, String usage, boolean value, boolean defaultValue) {
+            super(id, null, usage);
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+        
+        public Switch(String id, String usage) { this(id, usage, true); }
+        
+        public Switch(String[] ids, String usage, boolean value) { this(ids, usage, value, !value); }
+        
+        public Switch(String[] ids, String usage, boolean value, boolean defaultValue) {
+            super(ids, null, usage);
+            this.value = value;
+            this.defaultValue = defaultValue;
+        }
+        
+        public Switch(String[] ids, String usage) { this(ids, usage, true); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[ajI[-8v^`B2>jjfOhKLT:r]9D./$3#j3Mf^:U<W1VJUBQuL+s?yTI2Dwlln+8$W,jO=Fgbg#QQS]fuK8Ucl76,Xrt<J0`>MZRkv]qO8Zc7fA<CZIbYr.K@y_3SGS]%?&jq[GD=Km>kijD8?W%u?5VHmSl9j.$aBPtR>@[DhK)]n5b7:8#wo[(.sw,[kNNfQecoTssV$l8Br&7b<*XnWE(QXlPpUU(iEL,M`R($vguZId,)s;w=%;t$iv3(;s((*N.XK@NMZs<c/GFhf=:_989=1NhjIg*Yey737=8E_;eI96C*Vij<1+HZ43$n42?qq6LZ0.D7jH=YPBDv&*o=x.&em1^u7nojSVm;MCG*jl3Uw<sjo%RIW`I:h?ahr42-><.<VGh;[$iY_.eS_,EX+5,Syx4F.AFKFyo42.K>_EXi-.N>Ie>`U84cce,n4B/<s-)/v@D#m&E,>d`]ES)yqfo@Mva6G4t-=-ZW7o3MSC/e]br8`qHiGQ9GZO6%Jp:$Zd0&/$bLpqO6-u;Sl`oqEso@G+./a<OWrS](>rh:XalUBG7?89b&(s9VyiUI3N%7l%xHo`3C%kRjB3:AV@0hs]>v(j)v8woDUr>AJ9gKVH#UOHZ59@i1T1q9SLxIUV:V?U]EVSY1sjgOF)RZ>^mW[8%=#Uq/FJg%C@i:V?WitpJ:XEDliVcC0rql6]r8mN(&]WID*KltHDcblap@]hN[wT4i2dM:Sav1im`K&g)b6vC;fsPf(7nT0/JW_D6IZW1T-SoQOFNWrOhb1_?PttqmmP<l8xDB]&LVl@Kqvn>R+@NplmaB0moPk:5A?sEI0mrG.MN4M%?dE;3i(t0=8W/.j*(RWLHB928uTmRKSh&:<=H=[]8<OCSJ,<FBn2YTs`x2A1E)%;&#h@Nk9P6N#,)+*wK#:6)S7=j&v0rCyrW;%w8$8o2sj90tDmr`.]l4<KJRV)2WgwQf6)HIO6.((K=72N)6RaB.]E$%uZ;:>C;7uWSKE96=+Yc^`u?w,5w7kjM1GAw(WGI;cA0=H2(4lQX2iIQO^vv,UV_7HtJY+vgLZ)>>MZvBcD,FTh+Bw4K5:->nY5?9EHbKmJCf;jd*=O3L_2]N^P(vKk)w5c+k@xi#=>/OrxO_0^l0rZV#Jp-:`p[i7;=7b?#c_a,h$]OVgtG<STO3luk&P>uR1Pc$(Zc0yhT;1#XmgW`$JKVc&+iN?(*L)-pAA<M<ws-^qh]IoobmAW>pc1A?8%lX0H8_VMiieXM8vfjcoR2#c79Ke)3vo4e:XtA)+CJM.d:Q&gMQ*4vc9PR`mW?_/Xk#XdQItQa&CELFId#B]C]AO:.k3CT,4A]0BpWP#X+8KkT.uCiD8>N+?C&;m`ZA7kAKl$l`QS./klo&NaI<P#2hd:==4fqqHJAjpE41=(d%;Gn$%foof2-i7i/CGy/)>EC;^`LP7pry<lKZhZd_KYF>37Yw/B<%WUd]bTr>`xG>7CRevRg7+xE:r7O2[p$I#>-0MCD9KRM4]sc=Q`>Ya_]Bw$mRp97emi47P>2UkkLuDlv#XBy+`mg&P`VgoO_8UpK.$EU(6p@&nuR:$.+Hs]KXnc0rdY>@:`fJpoc-O3h9LTxia?hIBgmyV1O+&&Y6;m5,?M53eQImePcAIvG)9Y;fRV.FbQv(:?cX:,[iY-ZR;i`i.79bZK+DgMDG&e[dI=eEG&p&P*t=HcvT_R3pGj4*bl7h3#&sbNUWTXfP#DaK<;cV>+(7?Zq*R3@Sd]Dm>Ta7bL&utM,p`Ir9HR`N)FVTi+GKhh$WAHr9UAqrK/aIE`IY_*@42LmRv`fQV=ij]Fm>i2U@_AEb$NXk40X@Jv0<5AGT#:Y3GM,s$oLN,+?c#SdH<7Jc2x)YkiVW+?R;B[dVn=S%#nZye*KSt=cOUknb5?sq4me,HUIMW$SU5vHuRb3Vpq(=D6#&+dYLs@eQ,`_vTmi6aq*wrNC2A7o1T8qj]$x?GpBYh62o899WN3p)*vZhOT<%0K32Xe[$JHZ237xtN;8-Jky$LKI8Vrgk;Ws(/owKWRUi23LB<UbMg+PALa&ql^E?Nm,12OJEjo-c^p&.Fh,.eo,?/e^Tji@Q?[6UDm;:_*PSnaAJ+aou8aoAxosFTamY_WaND;*FpuD/HeT9by;Il$PG]`Bb>GFK(DW;[XThgba*HfTK?t%5I0Z[Whw$r=2-VU(@GIVV?rhKMaa(nFjb<NXX%ZHoUhQTMH?nvR2Td[D>N?(+qW>RCVZfCU?u<IRE:a$jP,w6b(fIH*lj9Q@AM;R9q5=EhqNp*`WG41>U[dtcW:S[oc_.[aTX1=d_3j8fNj]JE(5U)D#^Ib^&l$tU8b*jcM+9Qki&:t#mnPQPEa[:WLu7<;lHO(t=m<],os1QVC;dBMNt(ereYV.9_M$IKr50c:WlK&?=IxCQg$hGq:t?$-8b/`tF2Yv#i+Bk2R+3D0?tqU(ue4mmH_Wl-%*JpkqDSFJon87yr]&Oi]#oAbM^/R`4j3rSJR0&e_%bWmx`?4C:WTgKKj>:s?7)yCN)&d](:Mq(B8p7YOXl<oiBT?9_u4]M>Q[S9>M8):8#=?UhjaDnd7Y>E08xOsD9,SHS+3PR^[Yo6%R]cmDaGyNId7_ieL4p]Z8>>#C$s]ijeQ2F/h+if#-0TQV=aF0m#bQEsmscvCYbGL[&+W-PS9M*=&:NR<+U3q(S(lbtBV9q)?Cncch9<g/Ea:%&RM%NoEW^p1WHI8_nLFiwtE>`VQT%kDeG[dWD5nsIZvyb--.ZVc2ro0p2G4a%lc/#($$eK;#v^(S8ng>4Vygf#4`JDKHDK&rR0(T#2-QsM_:G0#fdec<>B_CnN;g,;^1aZDI]wMr5_JpHeJ,Qc$9UDGPY%KJ(xAA5#2DK;Lo,aCvxS-((Ofm;/i^c@<gj#2*cIAyeo.LI9>$8%(`I0K]p]gnNfQvvPrb[PsDQBu.A5K>WO5#eF[4VC;V:.6,vZcOa8KIg+47gSsZX&U5Dj@V@Wwhvi@$5cSZamMqn&seNrBfuHNPEO)7d)K08>20*@?8h=>c(W=hsm5%yxGfTe$Dn+8I`<c/HeBF@&IatV3k;^1H>JBBc?X$q;.(rkBmD,Z^;AVZ]=c@U3;ns`p@b2,h$4C;EC,oF;QT^O&rd;ZNDx31vu*%w(d&94@Iu7dgyR4(yGya;=/7Zu]@6o2MO/a<<JX0j6_&5Hu8sG/>fiv78^hQv)7#l@q*nll/Z?(H:GJKkgB(gK%pbti1#Y((PQkk0509/.NtwVNsfKLMQ>.d2RLoJ$jY]o;4@P4n`]j)pN5i2QjXv0DC[%/H_BeeEirOLLPCgH8CwHj)k%B.lnkcq5GR#oM>l9dYI*<F_)[K&<p>.uBVwIp:(`xf-NkG3oG6]j$iEvJM3GUspka/7%]p0S$$H[T66J2LyZ:#F]cB@lFn6t(957NIOY%?dupo(p)A>H]Qai2kA3ojf+1N1BaJPDu`&i&fq+[kZRVQtu^EoJEVRG*WQX=[fxtp6XP%v*i56IP2M,UhG%DncO3QV5%[G2qa*)EN5)(iqEV#Ol5hV*fh$b1,WkaEpV-vDVZJAiT2bFFXFh$XF(Df7akC+kWVSUNMAMQXu^m9cTvR@OI5KHs74n:U/tAsmL#S]V*?&oPFpIn.hL&]h#<hn<-?YHS_c>VfEeFR3=+f(r-hkNJltP$=;`:fTSlf29)&.^4cn&e/A&,w>4i.5RPNexQ`N#UDxQG2#]n<W]Ao%o%mZOxS*c+Dsvq7rDvO]*j^6*s^nkIp.[@#b;.aqnDIC+`:.w1A[IaTdcn?V)?VKemv_&N8nb:P8%>q).+QJ)3s_Eg4+;1m-P8a?Awy0FbwD0kb`lE8](v8AKDN(HA$U5yasFrehlC769>Yvws";
+    }
+    
+    public static class IntFlag extends OptFlag<Integer> {
+        @Override
+        public Arg<Integer> handle(String[] args, int index) {
+            return createArg(index + 1, Integer.parseInt(args[index]));
+        }
+        
+        @Override
+        public Arg<Integer> defaultArg() {
+            if (defaultValue == null) return null;
+            return createDefault(new Integer(defaultValue));
+        }
+        
+        public IntFlag(OptFlag.Kind kind, String id, String params, String usage, int defaultValue) { super(kind, id, params, usage, defaultValue); }
+        
+        public IntFlag(OptFlag.Kind kind, String id, String params, String usage) { super(kind, id, params, usage); }
+        
+        public IntFlag(OptFlag.Kind kind, String[] ids, String params, String usage, int defaultValue) { super(kind, ids, params, usage, defaultValue); }
+        
+        public IntFlag(OptFlag.Kind kind, String[] ids, String params, String usage) { super(kind, ids, params, usage); }
+        
+        public IntFlag(String id, String params, String usage, int defaultValue) { super(id, params, usage, defaultValue); }
+        
+        public IntFlag(String id, String params, String usage) { super(id, params, usage); }
+        
+        public IntFlag(String[] ids, String params, String usage, int defaultValue) { super(ids, params, usage, defaultValue); }
+        
+        public IntFlag(String[] ids, String params, String usage) { super(ids, params, usage); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[ab$7*^Fw]l:]ehJ<&2fmKTD5RU.L=@1Nobs:7bb=C=PX*=9;clUiBpU>pm,A:cOP^HWNZ1$[a9H,mc*)YKj,?3EoDcSCim:RuD>S^1jurngQO&=p<kOq_]wq_cvrnC^nua7`fTuoip%a9n=H.hMBfGGK?Y<uVKB>7@lh2+QFNt,;Tih:-W_`k8f#ZKP=L[?)6Rf%>]g`<Q=:Lu.nI001N.hv`k$*n`26>.nxphs>ls`A+)sfygp?Q6DLK<?oV%Z6QnDjva9Of[902TB_mh4$`j&_OguTOtehsM:s,<^F/q6RASb?MmpLkHGkDl`69?WrP>qI>t%D+AqteTZ8:E:#AKh+U=QXXVU[;Sv><<sq8pG1Ks$,0)y:lC`sEiiFv4tr/jsKdg4IscF1oF=1UBR@Sfy&oZF[(tTO0f$URo=5SR/DE-BnEOix@C=Ybs@=44H)J^H<W.a[4%X?>sw4A-`tepSOHk:pYX5#IYK$,d/w.<c3PHZx_0wS@`(L%Cot^]T17t4[xnHVTDk,)i*nN[yj]6uL;<lZJ&be^v88iADT+2/^Ev;.n&h`8.;o%`G[uQ7tD#(U6:X30GT7=+eq`]tni]quGorFqRc7O&el`FI/M-mqc;wbUNJx&EX]DlS=:o#7xIB:,]>R&C:$DpoiO^Do6,*Xg+6_?oW1G$O-FH#t<+6wVZvqDitjELLKIjLkh_<wA:,o>OUegbTbGO6,>shP-3,yvfxjEetD:B@aO%GM;U6bFS*)[R#EY5NpSZ)iZR_Rsi?Ih?p9Qg=<@>/(=2YSLHFK[PIG6hT>:m%oZ/2G,EA9d%EngN<ZiS1W<F,Fh9eKXEI6]ra4v8Q>/t]:5RKsO8]L0w1Dagc7>I[TojPaXYp`lO1+gLh)4Qj*B<KAGq2).<*GitF#Nk9LkN#,)+*ii+i*N,-ItBaJSI3BrL(9OI<t4jiM(QYn<&PK*E,[EwFd7333]Q**v.jxjmN3Y;CE+vfP[e$cy$VBL?>yoxx@>m`4),4Ctq=<Zv$xOnSIu):qvu.KG*+ySkkdh3Z.eIp]/=Gmf$=ct^llImT30;gQBBa/y+If*]*mOhK<IYB[i:J,%,#(yt50Gy0Ky$1*TvMVW9No_BL0E/-c3A^=YcsTP)8.>O=ByOa>N7316tT*`>ajwNU&U*os47wc$8>?F]g3%s[:lF#)*k4n]iB*&$],-VMnq7w`vDmtba6T%<`jJsj`j@Xl=0B;6&F(qC1%v&_@NEc>KZ`IB#^B>vpl:_Tm]#_EyRH5Ms-V2.2jelv<TOC-*;1jllS[`EO7XjWott7eAnN<(A+]xm0+&0OEj->G5/]HH.3U>$k.^d.]ELiShG]0Z]GW0LkwoI6L%nF/L_em:i41Musaoin7GX(,vB%C8O%0a;E,u:f3725/O`*0I19p<FQ+E.QFSDum6<TrCQ??&<6IrnZ5R8bZ.?xAkUcR:I(;r^u*G%^6Pv%l=IV:iOJiVhU=[PT>swSf@/UY5APnR6ieD[,s*oIAC1P(Qs[[DKv^`tfKi@PvY`V;@3.Fb<fVZmlaqb#V)=F`A+GYp5jO,9K+[_Q9*=s[[%E9T,kG81Wv0sfmw2YO?GvQLAv)OJT;xN/ev=uJ3aGgyO;IYR)b4WQh]sY/#G(wLx^tQI%LIu9#aRDm9A%4TRShg-hJ2Zw[bKWato0-:KBIHvo`;=K;UAexc%(U#heq.]+ld2$+UyTb/fM8l8-.bQr[ML;bstnAXdWoY5bY*R$3i8JGRUUZuYw:2tb>Up0ZM1mN[eZiL6WLmeNUI*Rh5Hq(>B6<xQ(]W(_lAGb:N8rim8*UG5Xd)m,.fofvL`I%t8B`>qC[Q4l[$H,F]5>ADbr-nUk#YF2mI+xQuW[^u.jW5015e1EWVD>aad1[O.P?eN./eUawMdfOv0mJrDW/48?Y#r*7v1BPBXG8V+Xp@nUbdkl4.J9h4L(#Cy::`@3i5Wi03[OcJa%jmD3B2-RPUUq4)TyRg^W3:,1A%h8*ips:LS(d:4=0s--MS1?:T@niZkU,8Yb%V?%]g<Nuqq>UT:iba4h]Ct)l4/Z%cl*@(PMe4*vTPXE)&#,fg@&7D^=R`:i#T0@wRiAlG_;WjYDf5UENA^1ruBSE+<1x>%`$1[>hM(7I(IN;C,<I2[Pg]M1nOd:%h,0;YKH54pp`Ld40fE9(*_7X&]QMWdXR%Si1?:,xYhJ8-lB,=bK3;j890@SwW55.(v8/7-[4NuGnFG;UFL^CO&PE9sgNiVsIXC>?b*y&(T[x34cg_:[foPK4T9U[vE$kj.Zu>aKoR$B]DG_YffXS$1gXV$O;3GU]qcF;USraB;,TWt`.0h$.WT`k=K466TP8f5+0XVxc;ex0rl/T:wv%<20((-=SKTIUX>ug^GJKR1eo>]7p>2KU3@,p#DViO0rX.U,#q%7e-Z5Urm0B77nJ%kn`-vL_LmQ&Pa*B^a>3o:pG<ilZAvCLoNXrsu;Cn<>hI<>6P>Vnil9X.cbF/D_XLCWFD[fImGR[>vuLVc#v4$//q?omtLC/$]H#R*i3+*B+_dCQ#9BD&ehCv4i&1,6##Z*,j)18x:$yh;wV?MuJ0E:Q)TxdIgpFt@8o3ncPrb^*Z_x?AQ4NInL[[EYd0dZs=[66@-yBGO2L(#v(#/7OIUIq@YF:3DL3XbjsabmkVH^cg-g/pwWxhOD.2CBo9y#]=0-=.O5SJ?smf4<X=Q#B?XmL@&BvE4c8tPii,dW%(:FqTCd>9G$hAFt3.sjgB&?Ltxh,I4m57[:[tyP]1]#TRUFgDR^FAJTOG,]c*xqmWX?&+Y.m>*b0^MItnqCQ/K+JoC>(>>JDV%pE#<VT:I=cKG^yjfdw&xdVZiyp=Zj8vDJ?sPUv5oPF>[j->Z-]q/>2Zij/?yoBdZ[]bVpkNs%Y#*lnR)krorgLT7#j+i[%9?dYq^09Ko2%X3N6obc)]>_oF?yl?pjbLFjITRX1u?&77q-eiYe#c,`7@W/u>F2QvWI8A[]M?U:Z^[gPbJogZ%IIqj&Cs+Arrjh3;N1P5Y?>$[n+gL<.*PK3Y.cFjXClY%apP:PM5X)D;olw(S%YfDpF1`y3Y03#Fp(+xIN]77Hk6wmw3>@6rbqh@Z6XNrrbncd4(k^KL=Tu`JS,?v]ooMX1:QfRPuE3`)XR1.(b.Xf<erYAZT=1SmXU8N:v^bUA_S.riMH5jsSOl`bk#9ph$?SCWKb4tXO0:be/vfXlxo,HL-fNWs+V*w<#JBZ1l_Z+R.B.KOW18v846C$tqFj5oTtCFWqAv<*DPmN@cJH>fN0/5Cn=g#=eWs`wd9Q4Aik/T**E6#N2Ui2bG,+)*1(##teA;nWWC^uG?-VC1l74>mNjt]e]d[BOt%+PGUD<ph+(Nl])Oc6QMVfK/%Mwt=FsiLeT@y(urth]lVDx8J?+jyPZ)rKE_4&4-CR1Z^+LjuoZ+IrD`<nbu=Jdv-9S3rPsTQ*kRSUi3WA7XefkO)pcv$1g=[ujsyUjG7(-/GL=nKix2_>f<muXaP`oNDb1b4%Z87I?Swv*M+DD+b/WL0mW/vt<*A%-9.)w;Q3";
+    }
+    
+    public static class DoubleFlag extends OptFlag<Double> {
+        @Override
+        public Arg<Double> handle(String[] args, int index) {
+            return createArg(index + 1, Double.parseDouble(args[index]));
+        }
+        
+        @Override
+        public Arg<Double> defaultArg() {
+            if (defaultValue == null) return null;
+            return createDefault(new Double(defaultValue));
+        }
+        
+        public DoubleFlag(OptFlag.Kind kind, String id, String params, String usage, double defaultValue) { super(kind, id, params, usage, Double.toString(defaultValue)); }
+        
+        public DoubleFlag(OptFlag.Kind kind, String id, String params, String usage) { super(kind, id, params, usage); }
+        
+        public DoubleFlag(OptFlag.Kind kind, String[] ids, String params, String usage, double defaultValue) { super(kind, ids, params, usage, Double.toString(defaultValue)); }
+        
+        public DoubleFlag(OptFlag.Kind kind, String[] ids, String params, String usage) { super(kind, ids, params, usage); }
+        
+        public DoubleFlag(String id, String params, String usage, double defaultValue) { super(id, params, usage, Double.toString(defaultValue)); }
+        
+        public DoubleFlag(String id, String params, String usage) { super(id, params, usage); }
+        
+        public DoubleFlag(String[] ids, String params, String usage, double defaultValue) { super(ids, params, usage, Double.toString(defaultValue)); }
+        
+        public DoubleFlag(String[] ids, String params, String usage) { super(ids, params, usage); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[ab$7*^Fw]l3[4[q>b6:NV.r@/@q#FZ9u/7QsS[:&[F78>S,p25uv_?3NY,:fW;<`rvRT@*SMtGY[T*<9)^%#;nVYxDYwJUKw>d%:*($[Y@Bm)m@Ce_*C&;stZhRvH_@uxl,#qgLJP_/iU2(ntqA%c0IuURi_x^[l5atf-I8hU,r%/mZ$mVYbXC)v2[kNV00SV1_]0h:H</Ns-yOteSNL5iBLF_hTAE$D[Kl>diQs[cSGLyL]3w_kSLkR+Em*_yFhnB)+#FNRSO4IOUp)--<;OFwCb+P)A@/ID-?imCZNt/f.fgdIipq,L&/sN7.pm03hgf@T;AcXiFgZI;m,%I(7WOBRE5+2#c<Rhy#W)9<FxErXiJ^`6:#cHqhFR<Z4.b=w;XDOJ4iqbDhuYW+EwR+ehnUu9>/dWYDQe:D3?,IILVL.+0B[ytQA_D>Fii)SCu?PmDr8.,-L*%iZpe(%::vnD#XH/m1rC,WkDxaD#[kicS$atEncJSbEt:hL&6x+mtO#yc?m,g]WNB,>FG)LgKHNA3hi_K^_a-w@3[R3qbeuF6>QvZTk8xDT>Hqr1D<,Zs0ky[eXU63gd&T1Oc`egMh^j<M7Vroyu5LN,iw<y[_gVn%?Hx%5)5eWK?ql_AZBxS@6.fudC>7d0kYVZ^m#IxQL-Dic6E,J-cq2G%U-/lu@nebLf*&/1j5uo*iC.&lSm7Ex(Jes]u--pdv)_AF<Ce-lV-7l3g@nESj^KJ:a+(7u0>;2;;AZGkU8HUG6-E%vPIy17?59@&htv`&:FB]IpkJvvr2SOhf&1vF>DT^(;Cgq61ZxIt/$coG*Q%W01tATo7ZESLbr1o=.j&4]D1k(w_l6,b0kM3[hX;Mdfbp$H*M9g4]kQ?DELDR2o2O+;`hYP0em&j7gj3r.pWye.dqk]6ZeQi@IA^]:N]2lDWd-^bd+RR^4vZ[;Qwh63Z-rPm=w`h8*Kaqtd&YxwEE86_6QZ@FN63wEJ4ZenJDdqT$xGRbSpt>h+dIrJ*)0]8q<p)L%$*TVt;q%y^j1s?&5`6R[uL4?ROy8RRuZ/3Mm9rnGi22@W/v?*;<c5n+J+<ln`us)fUG]Fi:J,(3aaR64LI6pJat%:<^o3f.s<l99&5LMm%IvGEytQ)d,9Yh>rDEc?=(evQyHD`iFY8c<_X<:Js[qfN*(5,TvTBsnt$_u]aqe5n[)`<=lauH2F;kVfEZE8@&TWy*9g)X:Ti=Y+X_L3L]g5pfmBbU5XK>@&NO#wi.uD]R46yg&mmgC1SxTLTAST3WO*7a)$h6Xs+;s3]G70r&2,QtM`dhXigDt8.GY0BAOa,K/k=JEa/tKR*k,a)YZinM[[EEy/+X)uT5ZcnL1fq=qE%AoWO,>wQ<8UK$4V9Z$cB[hJF:yZjV#in:tPLqck&/@qvH>*=&I<;:w?C?EsfJ-7X/@,9Du`DYby$Q3K#lGn=gB-`Ix4rqSGEwIg;BN1W-t`C2H)ibws`dD3i(;%.^9a0pwA08M=_x%Aetwl5p=Bb>7tJ]6jUgJRAjft>O3_AHfG1qyAR1e,`oE&/:)ObYH)d+dWa9[k4]+oV_0N5Q36)Ei9]F5W>Hf(l4`rs=d<.:cR=XEVZ`Sp.h5gnpm>IBUTNg1_,I6]wp_f/6T3gPT=6G.jx0H2Ag]1eT)Ym0iY/8)(qC:FwXipVUZB3^Viua2[&VuVq#_Z.SNH*3]<d]%(97Ge0SXlYaSbW6>-GG,/c2eNeK0mp^8aU`x`N:lyC0HV^i?Cr34g-p>G]fd&03@$ikZU$3eOnQOW,Ht36?h?pbov7UjI`;u0/+&-l5xpJdV+%NsUjUi)^`;M_22b@W1]m`.tt1-*vBAT`XEUn>?/B0ENWfhyI;<2uwB]9E5*[V6E-bJhtl;Imtb=GM[<965aLdqCyJSBFdCQaL&G@k,a_W+QUOQJBIe(,+6[3<JwVE_1]]LKMN%Ee?AM?Vj-.fWkoV,3=9rq,wJjr4fI/&)M=4tk9?[nY.D>ke=Ga;Lf<GJ47Fg5p8agWIo+7K3HIF3yT%<h`4XpmgL0QesAP>t53jOb_nUUnZId&Cx><SJ&wh*__]SvK;gb/pCw/+K6THQF&1[H7w0D#Jw$h%K=e]]QfFV@UcbVe+XUW6gACQ^sFd#D+h.I1HN^ppc@9j^5RN92C4j,Q4g%Fv6s0,5)VDCVtSp:ncYyP1kkSWFcBTpt0H5wpK6ka+if`]95]`6DdoF`$5FVeccW/x0p](st@psCjre;WqYZs,@vDdHOs51v>6[;.cmvw:/=5u7Wdfe@1d/lG7UeTZ8bqyaC:)O;+,iDh-^6,e5b3K.C<^iBcnLL[v9rQo#i?kv4bNV-E01ECvU2E*xOLs#G@Qq,tAH>5Z*LadW`UrJE.6J7J>%ZCkvatnU(<WaUN9%Vc%k1ha7?/444I#=P;Ijxb.4bplZ)OtoG+A[76y:V&ROML*eHM>`orn%qR_5L$kL<uA9*4:HhhjeR.Uh?^Y_QA$P^M,M.fPU@7dS$sRbw*E/N4kq]rdN?;m5;uWd&>WR4N$VH`]t]M]lgPssGXx+1ovqKKTLC`C:TRW1F&@+Nk&I.r-2cRILE[?j57Ie?5cOCVwXCRIm-.L)&s#B[_vu:@3;,Eck?)BO4-Ag=[$%Qo0WJ:Sqpu-l@,AP*/*@`Rm]8aEHf)Xn`cY(7A9GbK-sv_G;&hvqk/M_tLQh$+pYP)e#FkeS-.RL@5c.$KiEW^6#RED<.QIUy>)8q,o,x<R[0y@C01GD.?(l5E^b-e>(A;vdxtXfS%4uqVM[IK4B;q*3ixc>f,#T2oFY=0j9AD5um2`W7ML/2qVubT(bK$4;I[%6si6-MA7/InjW.aQx^TRN>18a*qcM@a#Xw7#PsdWm(PkrI+.xT`Nh_26hSm7I](Wr&rCSH;.4A;i-o*7H(l5sL+3.^0*[NX671dDdjJJg^]Qm#&w^lNTNMxnNeZX(&`c&`?t`&W?pIH=*+V57bQio[Wm6Y2R`6aY3ZkO6&8nQx-N%:VrP7iFO;Wcn$lC]gYgO3UYJn5%KGj?+u9V4(Px+F`1xM*tv4<VKpcuB^g]/qr)0wS,,;ox>%%;,u>,^qYtCnFA)_,v,FTg7H.A#kO)`m[+m6hKFQK^^,=/qjeGm>,MI[@Y>q>/Vn_*)f2ArFti5M%0hZ7WmA*O0xX&lZv6nBk`H:IbDwOgZS7Z4f6:KL$0ti56I<2NWV*G-#9CihY,K),xu7X75Is$yWvbE5THJ7N-SFifNm.W71;KQT1QS4<,tUuGGApE;erDV*U&e9?W`wb(<UpL9xhA#cxh=r)&:L@@%(2Qd;hqbB.laB9W)2EmOX(Yc]=>7bvd21l1aAJa7fG)$Hm,Wsd#kuJu#jHme8-H%?1vf).imo(#rsN%e3]-Z:`<1$mH`?U)4^7?LSv+Wc$7Lo>V2]p1=RH?FD_+TBR.As&yN(Y-cU$w>d9[sDil9W1sb5wV10k_N(^^`pgcDMxLY5b*:aBIt+)I7akEJT298iyson]GUkeH$<@<:FlQ,?D*b?K3wTjg.2P(T:trd-UHK=+Y[U&=H,7+,LQQ9;Rq^JCib^:0OgN";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<I,b*QOKM?Y_16%qmk)8Fp*f8XPL:eCta4)2*U#Oe=quLqX#FS-DtmT1@H]$d]8[c0+?A@b_X:DX]HJW,mvSnk`v;sM#okf3</p7i/_Mq,^:yB5V/7doSDcIqnfLIsBK/h:r:s=>ASct_6LyaF6N5qbs`#r28.?4ZhXn]5,1:oyS0U]eWOa+/sL/,J:./Zmn@wRv:6;G752wsxr(eK370iW=HQF`9=2wLDEs&:ZlD3?*>1+Ys6_s9n`+$1h+Q[YI7p2ZXCB%,QhC.<C^C:F?XJZ/(Ip^+5?).(QxwE%j1*@I<rUCY`Oqg1edO=(9=8c*xa4W=7x8xFviUyPcse9+q9@=`?u2o#&qjkvy4uSDSVY*O8le7=*)&(mq@=gl/RCH#dLT@Zqo`q(V,:A@R<YaZMGwf#TF%-O>TZrR/VyK<$:DJ?Ft/ygyMjEU_B/PT,uNtjOn%<HF5KtW;v(dDDm-$DS7x#Jc?%nNt5QR(>R?)C(KOlDL+Ei6?4X6C=;8n/Y,KScJ.g(Fq#x5(QDt/ib.=y<0W9Q[S:$u:R?=HF@u?X>NRA=D#u+U%eyRrHWoCgS>?S:AsVwA;N+P*2T4fPjBO@k?AihA^?4[lbGZ=A^VbAs<?V+Q^j_2&AJLdhRgGK*e>X,U*XWih<bCt2dGmV>cDIjgJR=VC81.?:$?+,-51kawabA*o$Y)PHE8RQDEwZ#CDnw3,nf#]IBbj`/r%KXRQ,H&+ZDw`tnRI.AJxkvNM?d+CTDFkQemd^3vu6me-dc)4;fnm92I0M(#h9Fuik%tO1K[8NZkMwJNQI<o/sX^vsvFXmL1*x1&CEC0H(r1o[(;tU-y7/9Ls.Q;Oh5aBbmu[wZ&jA#Ry8uM0Rd@7546M%to2s(UHaI;dxmEIU?&E**Wtq]EZ]b=simP;+d&9g46NQQ<KAy+&AyNR-ml70#_uT]Lns/BdO[UX?q9%?=RLKfjyQv@2,&pEe+m2b(dODMrR-uiiIG3%>cNS6*1fu]8Vdq=GV3dHgF$lm]N%aoM9,fJ9bhq`V&RiP>A5>jIgf]`5vG4,A:6oGK9#r9(6Fg^KW2P^k]Ibb(9=#:Z^D#(6S*0yq_4E(9l9P1f,(Z_YL/4Z2l=E$7ga@84ViR^=Pno_;NjZOH)ia7(<LY*bFV]MEl?Xqd,9ck%EckKEmt[E,?NJUZJgwRh.NI7bT2L>R&W;;Mb:-y,;FbQjmYKsBseja$)A<u$rgf:t,$@Vs)>dlZ7M4T]jeDasL-eyF_r.)1c?nG6E%9$1OQT_vYp9$l3ZfVt#dy:dQ72(5L];FP_pWui<u%b`(L(Ssr.Y`kOtaxJ.`S_YWN5e/[-X>--e2W(8-elkGnmk]av&00A8;5pcA(W[=G;]MAW#,vngi>00.q$B0Yc&N0w8KA)`sogObrsnJv0VsS$FE/NUEB6*,/O3ss?$;;b=^oyMgsmq-qkLN,@p94DeO=OdW,Nx?*DZi4D4Kmi0WSV?iME#xOrs:eTHs/@A7oO9bVSwn=6[atLxsX*yUJeJ*U(h<;M8S_Y/O+EoA<-*>B&.GtvTDgVoMTX/iMJ>afEC)-KO;#I:e7N-F[Z<Y5*,Ruk(+k1k[X4$;mCyG4`y@`xBX&Ypn(ESGppfG]2upD7`hl=O20&xV&tK4PKmu)3cFVHqhjd8F=HQ;-At5yW4CeRxv_d5JC.kCWpv=VeT=HuyohHUYuByQr&Fwfc$qEZ.8Z#2V)Tm6aKn=-x[%_WSMb_0Dqf#Z`Jw(+RVX;-ODf8@TX.:U]SrIoEK#$??)TbdWBg)H;W1j`hJnxj7%^NLSnyF<;-@Z.NaM7,(_%<xH81b0M(vb7@C.<J4nHBA@R;VJJvmOMJ.);ZfKR=rQX-Hr]C/8-n_-]lv]hj<^uvQ-.eBOA<Lp$#FGDLkW$1`83[.dPCKC8iVFX-,K.FBsFRDBNHn_5j%gRG];a^<;CU6?udUUu.+B6Vl64;C))tWr6+iu(#+:N%aW,P@8E[%^FoC#5#iH>:u336=ruQ/KFe$)f+a>r80C=F^DMrQ$TrC3?*Q8g>G42uhtOHYbB/4b@1ri7L-?06f&9K;<poR[(ax:W.h@kGAOy;0i0vmjXkyj7oHElxX0072^Oh,XLI*qkF1fByo%UloX-H7J5GyP=DeEo2gPts_4f%mptG6)S8S<ZO#D0HiF4/3lX]b@frEPUvM>xi<h9Jpp@Dae+rZS]3JP#8Hb(p&CNrIi3+<d2$C1Y504Sd5X`p>Pm7RI:Ms6y#lnC1hR;Ke9qiB;-Ib5n&:sb7C;H-1tp`n-[k?2^EqQettdZi`mf,;3_VR>0U:N0qs1w5>F54;@ix=bvqg?91(va^;H4^Ni:GKs9?^eQ4HjX**RYKJlRH3IW4=>BeB^(B7:^_:lsNVB$WEefeC)Vufky(N$Ie(8y*oX-1?R;,$EU[&:u%*U$MF`tVHS=FYG`vuyucjW/390m[l%)i4VGe(q[O<)%aCI#XVe9m=Kt;GC6ju-A,Q_31Y$$ooGw(?E@p234i=k2$^m*f(eBUXSQvw_v0tVSyYiKC8sj8@;2<UN9V297s^Y7/CGSr[`6i`Rb=vtRYv8ceYR(5S`sr=S:S41Kq>_E^Nnr.`^&:Y`s1,OKHY&[MuqMjQUqR/7yq/4)c,UuILDGVu9r*5D&^P]K;_tOl/5Z,:Yc%9,-=KK%gEj*i?)C/_UYtjc,QC]R2ir,;R)/By,qJxi[e@$6=di$*VEO%py;AuTxHRiD,TA34?^c0Qmqiy8LkeECRc;9-3Ea1d?eMJJx_gZ>d@hI++_3x$#o87pU`HYW:PP+jYAaC&[IrHHauO1#g4-3[YgtNW/u^ZpA`Zwx-fv:IKUlhK-hx(`a]#R2=mFi[PHk`$muSKssdN*v.A/mWrGo1H6(k+rHmi4=Xmn=WTNMQZ3sEDu]:u$<I+6qm-WVBwqRd#wE.G23(0knrGabYGR[9wQ2$r1o;B>SZE8PvQI*R6a@FDMoj.ouhn>H0]V]feh%DD:H,^?8wsQ3B4Gp49:3W+KcTal4,n?ebyoIKX#0Q@V;InDeS[WR5$Bp3k].pDh4c<QI&Idd.[[BCP]5fw7?qu(l>,A^uq;fJXH[tR,%8,j$Y.&i%=mFQ7u3h:c(J%l78mLT%>mUgfsm&1ID#_NnQomORllW0xm&H%g]ONRgTRAc%4aY]dvsMAT^M_N?xwBrqwi[6m+RZL7;Rq)/%4lEK@N/f&1<L.do^mUCJGPUgyT^[u]H75s/Lch5WU*EI&;`#trs+<7b**H5*%g&g_:[PgveaC,6bkXbU;KPYypp]g4Nh+7-tpkl6(F4(9I&OPTXf6],64+JBD:lV#qrms25S-xiZMd]f,p0dR?/%lt-33w&8I%uu8<;[5XL+UdiK@=*@XPr+2h+uH9j>EO:l4bi2O(WJ6_=j/%r[,22Xd7a3Qi?vwFLq#$6;Nq7r4y`0r3qZa=-^CK@.pm,1Eat7=0)jFjnky&Ym2F:aOk5PB^=A/N3gc_WYvW[8Ah1O^j_8l.;ogY-G;m9?(2e(Wxpl5@s7[Lb3%C%mS#b_q1rS.hr>+S&BRA.l$=Io][nX^Z_#^4GSa?bBZ<UsVQ;w]%?ENOXUhoK7jt9luk:)M_F?C+bQV1flJ01jnR5Jk-0MXs6h_6WigDQ0L9*acs1g,]BS_;VOmnnp+4xI>X2yEKeIkRbmWjZDB*yV`RsVL?m<[_L$F(#>MY49y:N<FcnrYH=YSNnPJU@rtLwA<u7o_u>ryJB&bea3VJ^UD`GP;*SEW&tOtLa9lrj1iW1)HM6@8MnEe3>:gOhcfsj;j1),Clk6edUP_99Z94bD.:E<vh%WCwR)Se:3-=Pjd1$_rOL4ms*Pr%Mx9iAtDo/YD(vw<2nV^16nd7S%]2m7(=re,9D=SRRA[@aiq[%/MD+sPx`.h6(irhYg/FG::<]u9A()xYA]ocCc3B[c#YUcDJZ:a$5c9Z?CyyTU=0q)-v?3]j#:ntb1,Yli3p_q^CX=x^jIdaQ=mc:a(+XQCkIwtFcPr?*p]Q7uFNm.;._Fm/ITTOYs[&1FeMp;#I@=o1L,2Gp^8;#6]R_h.*s*p6/Iu$nxrlF0D:R0=7*?*.Y_E9LA$b*PVehKOk,n&uSOgUPVbdO:nE:+EV;$?6Xoa(Yxv-Ila-DnWYVyg3&kX5.[eKYl]UCfPVF7yLSKGIEV<^hmm.cYG%?I(2GSIJEQpn2&:=x3^c/&UuF`aB`_CuLLwu2yGTBAYL=%dXLR`fT=RFnEp4dYRK$#@tN.ZmV3eko)0(&r^=;;Zh)<`<4u.r<M(UN6`*bR3/YT@ed`qwyNnbLGdl(@g$5`N$FV*vkaCh/>BS%KF0<4OK->WPB3i;^4`OODjXS1L@;mrYmg)-N[IuLEW#)8oQAi%K;E%$kCU_/XaG-BmrT3-7#&1oO^6qtm@Dd>gC1,v[s8YOhr[60VJunr25GEHNTsdt#pDF-Rn`2UWN&tfhc$<K4.)nxm*5roaYf@4F/+Nw=KCV6H+696R?P4f`HrRLtQ@1*oSa0v4)wv@7d(mRmUc]7tyw$sSy9#AZ&HNY]vYHP^)q*_t(#<%1IjaQZ7n43r(/#,o5D05G<fNQ-E<p+A;(2lEfL4L0,0*1bb-<4g^B3(&*Cq=E+,?%nN*TE0t*thUkE$j@P-uJIwY99^ESov_T<ijS$^H*5%:Bw*ZK(FfV4UfFq)omb2w@Bkh)0J1-EsT1ViBmB[^FK3#k1lg-@vM5d-S#ruEcZPaN0`X]dY0#G-p1jZC<@6^)RFVyHjs>P1TiY3K^Om.L6`0_61k/*XqlDIQ_ofE@d6PNjrNhR^Nf83fLVW]$$v4<eHo7FuZ=b49+g1&K)hUciHNHv=$9kPoMMLVvDEB*hve#k@rBXRS0F.6n=6X<Z&0Z(8Za5EeaH6IQVPwudR9NtJDjoX+.g2$nh42kw3UnpLgm4hjp@sw*)c+?V.2GTE6/6EXJK9OcMgKUpn?LIZg0@(gnXIyf4a0vNAW1#aJX7qr^OLbKo-[l48_?9Bb5/Z)qmtmd_CI`kO,R6xnUm&3TLXoF`hk=-)KqAab7<[N&&yu`K9)tA`K/3g=2:0k_A`0BaAcX4%@,[RdUYMfU%8H*ZT>bE:4NtG#;cia4UsQ3(9=b9mXmlI((Pqc.WY12@Es[+;h<VIUvslEGvu+nb;/e*Q<B:W2DL$mS5+U7<26@ma/^o3,Tax#G^phP$Tx[YWtXW>sU^3D>&TrYRJZlaI=%i%)UER$B[fy-$nuV1$`e(V.]5L7sa_B@-1HY&kPty?Xs04;Ue$cE?J3D-)xp,X]gs^9O5-b1m63SK=7gK+oReCe::ujj&(NBbTky]8t?0G4]pi$)S:I`s)/->Zs(3UKB,5Tv](h@y]&NuF(<$0GZA?`3AP+gA0Mis/r+EX0A-5Z/kNF$q2JsPiFS5^Xm+8:@vArOHgD4.gHZ;VVw,/hB6>`GQbR8_l?JW(:B%og$;8Ce62U2$r%=;e5KP2?1QA`T@DMNI:7%gq*^M#A@R3SoVLwX<x83-8fvw)";
+}
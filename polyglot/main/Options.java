@@ -0,0 +1,773 @@
+package polyglot.main;
+
+import static java.io.File.pathSeparator;
+import static java.io.File.pathSeparatorChar;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringTokenizer;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileManager.Location;
+import javax.tools.StandardLocation;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.main.OptFlag.Arg;
+import polyglot.main.OptFlag.IntFlag;
+import polyglot.main.OptFlag.Kind;
+import polyglot.main.OptFlag.PathFlag;
+import polyglot.main.OptFlag.Switch;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.Pair;
+
+public class Options {
+    public static Options global;
+    public final ExtensionInfo extension;
+    public int error_count;
+    private File source_output_directory;
+    private File class_output_directory;
+    public final List<File> sourcepath_directories = new ArrayList<>();
+    private final List<File> classpath_directories = new ArrayList<>();
+    private final List<File> bootclasspath_directories = new ArrayList<>();
+    public Location source_path = StandardLocation.SOURCE_PATH;
+    public Location source_output = StandardLocation.SOURCE_OUTPUT;
+    public Location class_output = StandardLocation.CLASS_OUTPUT;
+    public Location classpath = StandardLocation.CLASS_PATH;
+    public Location bootclasspath = StandardLocation.PLATFORM_CLASS_PATH;
+    public boolean noOutputToFS = false;
+    public boolean assertions = false;
+    public boolean generate_debugging_info = false;
+    public boolean compile_command_line_only = false;
+    public String[] source_ext;
+    public String output_ext;
+    public boolean output_stdout;
+    public String post_compiler;
+    public String post_compiler_opts;
+    public int output_width;
+    public boolean fully_qualified_names;
+    public boolean serialize_type_info;
+    public final Set<String> dump_ast = new HashSet<>();
+    public final Set<String> print_ast = new HashSet<>();
+    public final Set<String> disable_passes = new HashSet<>();
+    public boolean keep_output_files;
+    public boolean precise_compiler_generated_positions;
+    public boolean use_simple_code_writer;
+    public boolean use_streaming_code_writer;
+    public boolean merge_strings;
+    public int scheduler_threads = 1;
+    public File build_cache;
+    public boolean release_asts;
+    public long heap_budget;
+    public File metrics_file;
+    public boolean dataflow_maps = false;
+    public boolean pipeline_post_compiler = false;
+    public boolean classpath_given;
+    public boolean bootclasspath_given;
+    protected final Set<OptFlag<?>> flags;
+    protected final List<Arg<?>> arguments;
+    protected boolean output_source_only;
+    protected Boolean print_args;
+    public Pattern memberFilter;
+    
+    public Options(ExtensionInfo extension) { this(extension, true); }
+    
+    public Options(ExtensionInfo extension, boolean checkFlags) {
+        super();
+        this.extension = extension;
+        flags = new LinkedHashSet<>();
+        arguments = new ArrayList<>();
+        populateFlags(flags);
+        if (checkFlags) {
+            Set<String> ids = new LinkedHashSet<>();
+            for (OptFlag<?> flag : flags) { for (String id : flag.ids()) { if (!ids.add(id)) { throw new InternalCompilerError("Flag " + flag.ids() + " conflicts with " + OptFlag.lookupFlag(id, flags).ids()); } } }
+        }
+        setDefaultValues();
+    }
+    
+    public Set<OptFlag<?>> flags() { return flags; }
+    
+    public List<Arg<?>> arguments() { return arguments; }
+    
+    public List<Arg<?>> filterArgs(Set<OptFlag<?>> flags) {
+        List<Arg<?>> matches = new ArrayList<>();
+        for (Arg<?> arg : arguments) { if (arg.flag != null && flags.contains(arg.flag())) matches.add(arg); }
+        return matches;
+    }
+    
+    protected void populateFlags(Set<OptFlag<?>> flags) {
+        flags.add(new OptFlag<Void>(Kind.HELP, new String[] { "--help", "-h", "-help", "-?" }, null, "print this message") {
+                        @Override
+                        public Arg<Void> handle(String[] args, int index)
+                              throws UsageError {
+                            throw new UsageError("", 0);
+                        }
+                    });
+        flags.add(new OptFlag<Void>(Kind.VERSION, new String[] { "--version", "-version" }, null, "print version info") {
+                        @Override
+                        public Arg<Void> handle(String[] args, int index) {
+                            StringBuffer sb = new StringBuffer();
+                            if (extension != null) { sb.append(extension.compilerName() + " version " + extension.version() + "\n"); }
+                            sb.append("Polyglot compiler toolkit version " + new polyglot.frontend.JLVersion());
+                            throw new Main.TerminationException(sb.toString(), 0);
+                        }
+                    });
+        flags.add(new OptFlag<File>("-d", "<directory>", "output directory", "current directory") {
+                        @Override
+                        public Arg<File> handle(String[] args, int index) {
+                            File f = new File(args[index]);
+                            if (!f.exists()) f.mkdirs();
+                            return createArg(index + 1, f);
+                        }
+                        
+                        @Override
+                        public Arg<File> defaultArg() {
+                            return createDefault(new File(System.getProperty("user.dir")));
+                        }
+                    });
+        flags.add(new OptFlag<File>("-D", "<directory>", "output directory for .java files", "same as -d") {
+                        @Override
+                        public Arg<File> handle(String[] args, int index) {
+                            File f = new File(args[index]);
+                            if (!f.exists()) f.mkdirs();
+                            return createArg(index + 1, f);
+                        }
+                        
+                        @Override
+                        public Arg<File> defaultArg(List<Arg<?>> args) {
+                            List<Arg<?>> outdirs = OptFlag.lookupAll("-d", args);
+                            if (!outdirs.isEmpty()) {
+                                Arg<?> arg = outdirs.get(outdirs.size() - 1);
+                                return createDefault((File) arg.value());
+                            } else
+                                return createDefault(new File(System.getProperty("user.dir")));
+                        }
+                        
+                        @Override
+                        public Arg<File> defaultArg() {
+                            throw new UnsupportedOperationException("The -D flag requires other arguments to set its default value.");
+                        }
+                    });
+        flags.add(new StdPathFlag(new String[] { "-classpath", "-cp" }, "<path>", "where to find user class files", "JVM property: java.class.path") {
+                        @Override
+                        public Arg<List<File>> defaultArg() {
+                            return handle(new String[] { System.getProperty("java.class.path") }, 0);
+                        }
+                    });
+        flags.add(new StdPathFlag("-bootclasspath", "<path>", "where to find runtime class files", "JVM property: sun.boot.class.path (or all jars in java.home/lib)") {
+                        @Override
+                        public Arg<List<File>> defaultArg() {
+                            return handle(new String[] { jvmbootclasspath() }, 0);
+                        }
+                    });
+        flags.add(new StdPathFlag("-addbootcp", "<path>", "prepend <path> to the bootclasspath"));
+        flags.add(new StdPathFlag("-sourcepath", "<path>", "where to find source files", "current directory") {
+                        @Override
+                        public Arg<List<File>> defaultArg() {
+                            return handle(new String[] { System.getProperty("user.dir") }, 0);
+                        }
+                    });
+        flags.add(new OptFlag.Switch("-commandlineonly", "only compile files named on the command-line (may also require -c)"));
+        flags.add(new OptFlag.Switch("-preferclassfiles", "prefer class files to source files even if the source is newer"));
+        flags.add(new OptFlag.Switch("-assert", "recognize the assert keyword"));
+        flags.add(new OptFlag.Switch("-fqcn", "output fully-qualified class names"));
+        flags.add(new OptFlag.Switch("-g", "generate debugging info in class files"));
+        flags.add(new OptFlag.Switch("-c", "compile only to .java"));
+        flags.add(new OptFlag.IntFlag("-errors", "<num>", "set the maximum number of errors", 100));
+        flags.add(new OptFlag.IntFlag("-w", "<num>", "set the maximum width of the .java output files", 80));
+        flags.add(new OptFlag<String>("-postcompiler", "<compiler>", "run javac-like compiler after translation") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                    });
+        flags.add(new OptFlag<String>("-postopts", "<options>", "options to pass to the compiler after translation") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                    });
+        flags.add(new OptFlag.Switch("-stdout", "output to stdout"));
+        flags.add(new OptFlag<String>("-sx", "<ext>", "set source extension") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                    });
+        flags.add(new OptFlag<String>("-ox", "<ext>", "set output extension") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                        
+                        @Override
+                        public Arg<String> defaultArg() {
+                            return createDefault("java");
+                        }
+                    });
+        flags.add(new OptFlag.Switch("-noserial", "disable class serialization"));
+        flags.add(new OptFlag<String>("-dump", "<pass>", "dump the ast after pass <pass>") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                    });
+        flags.add(new OptFlag<String>("-print", "<pass>", "pretty-print the ast after pass <pass>") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                    });
+        flags.add(new OptFlag<String>("-disable", "<pass>", "disable pass <pass>") {
+                        @Override
+                        public Arg<String> handle(String[] args, int index)
+                              throws UsageError {
+                            return createArg(index + 1, args[index]);
+                        }
+                    });
+        flags.add(new OptFlag.Switch("-nooutput", "delete output files after compilation"));
+        flags.add(new OptFlag.Switch(new String[] { "-v", "-verbose" }, "delete output files after compilation"));
+        StringBuffer allowedTopics = new StringBuffer("Allowed topics: ");
+        for (Iterator<String> iter = Report.topics.iterator(); iter.hasNext(); ) {
+            allowedTopics.append(iter.next());
+            if (iter.hasNext()) { allowedTopics.append(", "); }
+        }
+        flags.add(new OptFlag<Pair<String,Integer>>("-report", "<topic>=<level>", "print verbose debugging information about" + " topic at specified verbosity. " + allowedTopics.toString()) {
+                        @Override
+                        public Arg<Pair<String,Integer>> handle(String[] args, int index)
+                              throws UsageError {
+                            StringTokenizer st = new StringTokenizer(args[index], "=");
+                            String topic = "";
+                            int level = 0;
+                            if (st.hasMoreTokens()) topic = st.nextToken();
+                            if (st.hasMoreTokens()) {
+                                try { level = Integer.parseInt(st.nextToken()); }
+                                catch (NumberFormatException e) {  }
+                            }
+                            return createArg(index + 1, new Pair<>(topic, level));
+                        }
+                    });
+        flags.add(new OptFlag.Switch("-debugpositions", "generate position information for compiler-generated code"));
+        flags.add(new OptFlag.Switch("-simpleoutput", "use SimpleCodeWriter"));
+        flags.add(new OptFlag.Switch("-streamoutput", "use StreamingCodeWriter, which formats output incrementally"));
+        flags.add(new OptFlag.Switch("-mergestrings", "parse concatenated string literals as one single string literal"));
+        flags.add(new OptFlag.Switch(Kind.SECRET, "-print-arguments", "Check that no options try to handle the same command line flag."));
+        flags.add(new OptFlag.Switch("-no-output-to-fs", "keep .java files in memory if possible"));
+        flags.add(new OptFlag.IntFlag("-parallel", "<num>", "run independent per-file passes on <num> threads", 1));
+        flags.add(new OptFlag.Switch("-releaseasts", "discard the AST of each source file once it has been compiled"));
+        flags.add(new OptFlag.IntFlag("-heapbudget", "<MB>", "finish the files already started before starting others while more than <MB> megabytes of heap are in use (implies -releaseasts)"));
+        flags.add(new OptFlag<File>("-buildcache", "<file>", "only recompile changed files and their dependents, keeping type information in <file>") {
+                        @Override
+                        public Arg<File> handle(String[] args, int index) {
+                            return createArg(index + 1, new File(args[index]));
+                        }
+                    });
+        flags.add(new OptFlag<File>("-metrics", "<file>", "write counters and timings of the compilation to <file>, as CSV if it ends in .csv and JSON otherwise") {
+                        @Override
+                        public Arg<File> handle(String[] args, int index) {
+                            return createArg(index + 1, new File(args[index]));
+                        }
+                    });
+        flags.add(new OptFlag.Switch("-dataflow-maps", "use hash maps rather than bit vectors when checking initialization"));
+        flags.add(new OptFlag.Switch("-pipeline", "start the in-process post-compiler while translating; with -nooutput, .java files are kept in memory"));
+        flags.add(new PathFlag<File>("-method-filter", "<file>", "for each method whose signature matches any of the regular expressions " + "listed in <file>, replace its body with " + "`throw new Runtime Exception(...)`. Method signatures have the form " + "QualifiedClassName#methodName(T1, T2, ..., Tn)") {
+                        @Override
+                        public File handlePathEntry(String entry) {
+                            return new File(entry);
+                        }
+                    });
+    }
+    
+    public static class StdPathFlag extends PathFlag<File> {
+        public StdPathFlag(String id, String params, String usage, String defaultValue) { super(id, params, usage, defaultValue); }
+        
+        public StdPathFlag(String id, String params, String usage) { super(id, params, usage); }
+        
+        public StdPathFlag(String[] ids, String params, String usage) { super(ids, params, usage); }
+        
+        public StdPathFlag(String[] ids, String params, String usage, String defaultValue) { super(ids, params, usage, defaultValue); }
+        
+        @Override
+        public File handlePathEntry(String entry) {
+            File f = new File(entry);
+            if (f.exists()) return f; else return null;
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1792339853107L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[Yorn*^]OiFrGhhW?Z_p#IsZ*NOfJ<&4u]tCX*nJ(+=T*F,m_Saj3UZq0V`9t_GX%%^Q:R>M>=V%yVQ=017ss/DPleZc/a__@S/IStkE:XhHk%0,$<`T-d$qp4dKlqK]lFF.`;gqdfHUur<ecd_CtS41-J750)Nv/0/@2E&D@.K&1*`[`k@NZItCJWJsd;.Xe%^#/KUsrVC.3GHata,bP.%>G3JXF*tm91UpZ_?0a<VsW9>dk-xO;CBWB<-SwHSUSpKSk-:MLA:_1`9;cAP=U9`c]UkwUX8[iAa,v704WBR7IZgI6U,]r63.(<7R?y2y0AH2hh3-dJ@c1Dv$C2[bl^pIuO:K[cS=`oc6Fm$BTXdHuM%,hr/t]WCcQJR#J#sdWNWBS+p7gv(>v,.c/`X]Ff]jmdd5J<t^;Ep(-_8da4ro:jA/VjpH)$LpVXMy:AhaErp$VRHIb,PV:00m4[[or2/<^>Z:sl9Q+WvFC?A(#c0R%ZH>.g(,<%>n6v$yp&[XfL8WX,OV6QFj-1WKXU.HgLc^Fq1HD%=o0/94sHYYw&SEhgOhIjfy3=4;ku<ixW=jAoB%Zjii7>.veg))t%NSsA&QHrW[CTI5PE0p`Hsn%NFs,AXK<XhgJ+8AA(K1R-y4iaZ<4*E_%V0uIXGgkc&ZTpiM:LJNi%^je?p-L5(@OQgVEQ2Sd6F]mII^4T6geC=p`,D6xJ/?<mI8):)MXL#xg_74-L/iMB4w)Wbsv_SVs/^Z]J/g]pJ$f)=&?,a85>kieMZ(RJsh:p-mS6B?Ql7y&bKU.@<ic[mfWRt/6T1a).Deg=h/do;.T/Ev+/l>:j0FFUt6PU3TpMS4t)MDA:;K5yKa`$NlO.]v7Ra&i/:#kh/W.Xa2ft7k9`hG^4].jR)dVmZMdV1Ub#3nf+./YkyrRBPU=h&I.YXt%y8;D]uE]41`2)a/`O^E^uu==u&oTBv&3P#A(b.bNnea2i0k*Ms0ej*Q$q&nNT.*PrQ5Y/pB93uMOQAEjv-GYaA^Z)6(Ym`8WduEv5A;``SGjV6*CDwXauc3AOZPi>;iJ;?c(ts;(sT+`Jn80DGEkp>_0=^9lbL#*FXbA.3(j*_4cR=4k*?RSy&GCemdvq/hD5nD$mMI2:FePMRf#@q`Zm%x>`&J:revMwb3o^5F`uZDs#^h*GbGeroqN+*C^3%s8AKh#IUwSA[ftQ`?IF4%De&.l?SSbd]^Xpr?1Smis_bgJRP4s-Ug%V5A8g8@VL[i3bU=maHL&grs8haYOBr:9[)=i1W>$JCd-ogRZmthS6_eSCTZ*sp]@Y?R#R>33VQC#Dxj$EQ^/biyVOHBi7,.*+*qsFe50G_Ic(-NBysR&T*tUc6+mHJ[V4<A&EE^<BI6<wtU=HJ%NRlZl44*(wtP8,n6Q.a):OQ=%3&fPRbfp2.kbC:J0(1]G#+13$?2:$NGMY0]CMY,6(^$BFNg.w$>gJ8D[DbMZT+hXoQ,PLP9OYo@U-C3N&IA[;Er]q))fsIFm^k4=:GiM))P<X]*drc5aYC;T]oNeGT$c2;,qT`?tAKQ>K0>]^dPE`<dXN?7HSnw#_$bS41ray`AJSl:d/lSSgD8y3E%uTsf/x(fo:QqY$_*0VYpy-?kX9b[1HiM*8(FssTPQFvE57-H^&*-:m2EQ%y9r18@w$4cRK1B<@6(5qaZKFZ`_5x,a_ZRiHFXnb[v4Egn$$`vYUiNNRA#w:>E+QL^Mh[.]VH^Krs4ma]%>/H6UuleGI/44IM3,$(.6H#%`;`XD`<0lfU3yjunE@Vu+t(@Ou3Wb1TKhq;3u%+^93Is9JMQ^f9=-A1sFovp1;oAZtQSqdTD><,2c):jC#s)c*gAo6(lyR`]TGI8=;gkmw+DPxL/Lk%eJHlv/oME^88c/?P8+P%(tZT?==6IWdc=:S#E.x>@4x*9)U9@SDZZ/iRat0r9nwHF,Mh/$@Pd+P2H#5_k(UGCaa6i9[:9:CY3(1=BUPGe$iK?t6M?W_K;AW@l$>ZDe7a.)ch/wp9(&B$$MY)*eE%%4-?&&2a:mND(XBhiu#SCmd_;?4iD4YyU7<KGET>j$oy(o*o=ZjCQc`,3k6QAa;cwi8o0SqIC#^PZ71j$T=Eo,3RKyFqM2e:g9F<-6mmmpyI-$Xm3W?2#W=]mEf:f.C@-?DF`iClw0`,&bBXt1VmL(95]pw(vBeeYgkW/w6g1S0]r*rWS@aKngi-M/s0:+Q].;<2#S=)S_+$Yri+BbbDb62DcO7NV#_rmgZAmeCvWE(Pp=Ut?aYxfCuSl:X[Hy.Ep_?Zi%;yKZT??fVU`veQVi$;074[h,?+1RJ$4c-s_4+hR52T5h:S<L[usnDEuHB,T_4=B-C>8Y)se;o4Bq,M`B*YfQPUjBU&<Qgg]>f$OGv5l1i8Ftb];-%-L)[kSbJ=W@s5C=Ak=>pFG,=F,(h.H3^^m-iXd0)Dmh1w:=u@.TQ>m3BLqkZKS8v)eOj1LT+#11Ms7Qt=N2f#Y@J5VpMw1o40v2u8QD<j,@/oDQ+W1IjiM7%(Ip(O@,uDt0q8g^tu0ng@&Ww_jUt$i=l>o9ZAB*=M&TsTS0o/g%<,<@%T6VFKZ+]-[Z8qv&,7w,N%(.gtl<9R+is2<anLe57>ba.qD<rf._<p<lOGlSHB4qQ%G<>^=UArbPm.`io.P1vsR@(M?I]I)nxOEHe,mp*MvUG]RNrd`%(rJW1d7=jN`clUHi?0lK5KPBiJmYkHnJd-m^@3xk)JVdRr@^.-8vC^=QJ2q]fB(CNj0A@vZ;*/K:&<8uK7Ge[`*3&yeDdLb4u?bQ%3SL?LAj87dUE49HI,9ek[a^K-Z)+&bV9uS&]vd`aV_ma](EL/$ArV0tEo$plL1`REV^D/<g`94DDaPh8Yo9-*v<:WSa7t>R:FK93Jh:(/noNr#kh1xI+PdOqQrAhC2n@LQj$:SMAZgC_9>_F)=Eh=X@fO.pgmtlK8nMG7L6%SfMF`_X6>SH,]l]rwBIE95<THsSk;oYSB1r0Q]K6eaLG,+P*#4ax?X:%l`WdMEOOqHUnh(0AFw?g;tQ>iGlW8*9eft-fALOgVuT$/5>ZKk[Furftm3?qW7qjOYL/Ob7gP4hsLw=ihVoiHKjWg[Irq#=.GRXvSf^F%eMcY3c44W20&G$9k^oUYog$_2eN@K2SF@DM6jCU_Y3=Wf0n8^IkfSDm?l5I60XqClpk=9gig$mV>^I0gk4_QX;+Q89)lwAKb4qBf:Q>r1^,j)jOa%^OxvZ?";
+    }
+    
+    @Deprecated
+    public void setDefaultValues() {
+        
+    }
+    
+    public final void parseCommandLine(String[] args, Set<String> source) throws UsageError {
+        for (int index = 0; index < args.length; ) {
+            try {
+                int nextIndex = parseCommand(args, index, source);
+                if (nextIndex == index) throw new UsageError("Illegal option: " + args[index]);
+                index = nextIndex;
+            }
+            catch (ArrayIndexOutOfBoundsException e) { throw new UsageError("Missing argument"); }
+        }
+        validateArgs();
+        applyArgs(source);
+        if (print_args) printCommandLine(System.out);
+        postApplyArgs();
+    }
+    
+    public final void processArguments(List<Arg<?>> arguments, Set<String> source) throws UsageError {
+        this.arguments.clear();
+        this.arguments.addAll(arguments);
+        validateArgs();
+        applyArgs(source);
+        if (print_args) printCommandLine(System.out);
+        postApplyArgs();
+    }
+    
+    protected void postApplyArgs() {
+        if (post_compiler != null || keep_output_files) noOutputToFS = false;
+        if (post_compiler != null || output_source_only || output_stdout) pipeline_post_compiler = false;
+    }
+    
+    protected void validateArgs() throws UsageError {
+        if (arguments.size() < 1) { throw new UsageError("No command line arguments given"); }
+        if (!OptFlag.hasSourceArg(arguments)) { throw new UsageError("must specify at least one source file"); }
+    }
+    
+    protected final void applyArgs(Set<String> source) throws UsageError {
+        for (OptFlag<?> flag : flags) {
+            Arg<?> arg = flag.defaultArg(arguments);
+            if (arg != null) handleArg(arg);
+        }
+        for (Arg<?> arg : arguments) {
+            if (arg.flag == null) {
+                handleSourceArg(arg, source);
+            } else {
+                try { handleArg(arg); }
+                catch (UsageError e) { throw e; }
+                catch (Throwable e) { throw new InternalCompilerError("Error while handling arg " + arg + " created by " + arg.flag().getClass(), e); }
+            }
+        }
+    }
+    
+    public void printCommandLine(PrintStream out) {
+        Set<OptFlag<?>> seen = new LinkedHashSet<>();
+        for (Arg<?> arg : arguments) {
+            if (arg.flag != null) { seen.add(arg.flag); }
+            out.print(" " + arg.toString());
+        }
+        for (OptFlag<?> flag : flags) {
+            if (seen.contains(flag))
+                continue;
+            else {
+                Arg<?> arg = flag.defaultArg(arguments);
+                if (arg != null) out.print(" " + arg.toString());
+            }
+        }
+        out.println();
+    }
+    
+    protected <To extends Collection<Param>, Param> To sccast(Object in, Class<Param> clazz) {
+        @SuppressWarnings("unchecked") 
+        To out = (To) in;
+        for (Param p : out) { if (!clazz.isInstance(p)) throw new ClassCastException("Expected " + clazz.getName() + " but " + p + " has type " + p.getClass().getName()); }
+        return out;
+    }
+    
+    protected void handleArg(Arg<?> arg) throws UsageError {
+        assert arg.flag != null;
+        Set<String> ids = arg.flag().ids();
+        if (ids.contains("-d")) {
+            setClassOutput((File) arg.value());
+        } else if (ids.contains("-D")) {
+            setSourceOutput((File) arg.value());
+        } else if (ids.contains("-classpath")) {
+            setClasspath(this.<List<File>, File> sccast(arg.value(), File.class));
+        } else if (ids.contains("-bootclasspath")) {
+            setBootclasspath(this.<List<File>, File> sccast(arg.value(), File.class));
+        } else if (ids.contains("-addbootcp")) {
+            addBootCP(this.<List<File>, File> sccast(arg.value(), File.class));
+        } else if (ids.contains("-sourcepath")) {
+            setSourcepath(this.<List<File>, File> sccast(arg.value(), File.class));
+        } else if (ids.contains("-commandlineonly")) {
+            setCommandLineOnly((Boolean) arg.value());
+        } else if (ids.contains("-preferclassfiles")) {
+            setIgnoreModTimes((Boolean) arg.value());
+        } else if (ids.contains("-assert")) {
+            setAssertions((Boolean) arg.value());
+        } else if (ids.contains("-fqcn")) {
+            setFullyQualifiedNames((Boolean) arg.value());
+        } else if (ids.contains("-g")) {
+            setGenerateDebugInfo((Boolean) arg.value());
+        } else if (ids.contains("-c")) {
+            setOutputOnly((Boolean) arg.value());
+        } else if (ids.contains("-errors")) {
+            setErrorCount((Integer) arg.value());
+        } else if (ids.contains("-w")) {
+            setOutputWidth((Integer) arg.value());
+        } else if (ids.contains("-postcompiler")) {
+            setPostCompiler((String) arg.value());
+        } else if (ids.contains("-postopts")) {
+            setPostCompilerOpts((String) arg.value());
+        } else if (ids.contains("-stdout")) {
+            setOutputStdOut((Boolean) arg.value());
+        } else if (ids.contains("-sx")) {
+            addSourceExtension((String) arg.value());
+        } else if (ids.contains("-ox")) {
+            setOutputExtension((String) arg.value());
+        } else if (ids.contains("-noserial")) {
+            setNoSerializedTypes((Boolean) arg.value());
+        } else if (ids.contains("-dump")) {
+            addDumpAST((String) arg.value());
+        } else if (ids.contains("-print")) {
+            addPrintAST((String) arg.value());
+        } else if (ids.contains("-disable")) {
+            addDisablePass((String) arg.value());
+        } else if (ids.contains("-nooutput")) {
+            setNoOutput((Boolean) arg.value());
+        } else if (ids.contains("-verbose")) {
+            setVerbose((Boolean) arg.value());
+        } else if (ids.contains("-report")) {
+            @SuppressWarnings("unchecked") 
+            Pair<String,Integer> pair = (Pair<String,Integer>) arg.value();
+            addReportTopic(pair.part1(), pair.part2());
+        } else if (ids.contains("-debugpositions")) {
+            setDebugPositions((Boolean) arg.value());
+        } else if (ids.contains("-simpleoutput")) {
+            setSimpleOutput((Boolean) arg.value());
+        } else if (ids.contains("-streamoutput")) {
+            setStreamOutput((Boolean) arg.value());
+        } else if (ids.contains("-mergestrings")) {
+            setMergeStrings((Boolean) arg.value());
+        } else if (ids.contains("-print-arguments")) {
+            print_args = (Boolean) arg.value();
+        } else if (ids.contains("-no-output-to-fs")) {
+            noOutputToFS = (Boolean) arg.value();
+        } else if (ids.contains("-parallel")) {
+            setSchedulerThreads((Integer) arg.value());
+        } else if (ids.contains("-releaseasts")) {
+            setReleaseASTs((Boolean) arg.value());
+        } else if (ids.contains("-heapbudget")) {
+            setHeapBudget((Integer) arg.value());
+        } else if (ids.contains("-buildcache")) {
+            setBuildCache((File) arg.value());
+        } else if (ids.contains("-metrics")) {
+            setMetricsFile((File) arg.value());
+        } else if (ids.contains("-dataflow-maps")) {
+            dataflow_maps = (Boolean) arg.value();
+        } else if (ids.contains("-pipeline")) {
+            pipeline_post_compiler = (Boolean) arg.value();
+        } else if (ids.contains("-method-filter")) {
+            setMemberFilter(this.<List<File>, File> sccast(arg.value(), File.class));
+        } else
+            throw new UnhandledArgument(arg);
+    }
+    
+    protected void handleSourceArg(Arg<?> arg, Set<String> source) {
+        String filename = (String) arg.value();
+        source.add(filename);
+    }
+    
+    protected void setClassOutput(File f) { class_output_directory = f; }
+    
+    protected void setSourceOutput(File f) { source_output_directory = f; }
+    
+    protected void setClasspath(List<File> value) { classpathDirectories().addAll(value); }
+    
+    protected void setBootclasspath(List<File> value) { bootclasspathDirectories().addAll(value); }
+    
+    protected void addBootCP(List<File> value) { bootclasspathDirectories().addAll(0, value); }
+    
+    protected void setSourcepath(List<File> value) { sourcepath_directories.addAll(value); }
+    
+    protected void setCommandLineOnly(boolean value) { compile_command_line_only = value; }
+    
+    protected void setIgnoreModTimes(boolean value) { ignore_mod_times = value; }
+    
+    protected void setAssertions(boolean value) { assertions = value; }
+    
+    protected void setFullyQualifiedNames(boolean value) { fully_qualified_names = value; }
+    
+    protected void setGenerateDebugInfo(boolean value) { generate_debugging_info = value; }
+    
+    protected void setOutputOnly(boolean value) { output_source_only = value; }
+    
+    protected void setErrorCount(Integer value) { error_count = value; }
+    
+    protected void setOutputWidth(Integer value) { output_width = value; }
+    
+    protected void setPostCompiler(String value) { post_compiler = value; }
+    
+    protected void setPostCompilerOpts(String value) { post_compiler_opts = value; }
+    
+    protected void setOutputStdOut(boolean value) { output_stdout = value; }
+    
+    protected void addSourceExtension(String value) {
+        if (source_ext == null) {
+            source_ext = (new String[] { value });
+        } else {
+            String[] s = new String[source_ext.length + 1];
+            System.arraycopy(source_ext, 0, s, 0, source_ext.length);
+            s[s.length - 1] = value;
+            source_ext = s;
+        }
+    }
+    
+    protected void setOutputExtension(String value) { output_ext = value; }
+    
+    protected void setNoSerializedTypes(boolean value) { serialize_type_info = !value; }
+    
+    protected void addDumpAST(String value) { dump_ast.add(value); }
+    
+    protected void addPrintAST(String value) { print_ast.add(value); }
+    
+    protected void addDisablePass(String value) { disable_passes.add(value); }
+    
+    protected void setNoOutput(boolean value) {
+        keep_output_files = !value;
+        if (value) { output_width = 1000; }
+    }
+    
+    protected void addReportTopic(String topic, Integer level) { Report.addTopic(topic, level); }
+    
+    protected void setVerbose(boolean value) { if (value) Report.addTopic("verbose", 1); }
+    
+    protected void setDebugPositions(boolean value) { precise_compiler_generated_positions = value; }
+    
+    protected void setSimpleOutput(boolean value) { use_simple_code_writer = value; }
+    
+    protected void setStreamOutput(boolean value) { use_streaming_code_writer = value; }
+    
+    protected void setMergeStrings(boolean value) { merge_strings = value; }
+    
+    protected void setSchedulerThreads(Integer value) throws UsageError {
+        if (value < 1) throw new UsageError("Number of threads must be positive: " + value);
+        scheduler_threads = value;
+    }
+    
+    protected void setReleaseASTs(boolean value) { release_asts = value; }
+    
+    protected void setHeapBudget(Integer megabytes) throws UsageError {
+        if (megabytes < 1) throw new UsageError("Heap budget must be positive: " + megabytes);
+        heap_budget = megabytes * 1024L * 1024L;
+        release_asts = true;
+    }
+    
+    protected void setBuildCache(File f) { build_cache = f; }
+    
+    protected void setMetricsFile(File f) { metrics_file = f; }
+    
+    protected void setMemberFilter(List<File> files) throws UsageError {
+        StringBuilder sb = new StringBuilder();
+        String[] autoEscapes = { "(", ")", "[", "]" };
+        for (File file : files) {
+            if (!file.exists()) throw new UsageError("File not found: " + file.getPath());
+            try (BufferedReader br = new BufferedReader(new FileReader(file));) {
+                for (String line; (line = br.readLine()) != null; ) {
+                    line = line.trim();
+                    if (line.isEmpty() || line.startsWith("//")) continue;
+                    for (String s : autoEscapes) line = line.replace(s, "\\" + s);
+                    try { Pattern.compile(line); }
+                    catch (PatternSyntaxException e) { throw new UsageError("Invalid regex for method filter in " + file.getPath() + ": " + e.getMessage()); }
+                    if (sb.length() > 0) sb.append('|');
+                    sb.append(line);
+                }
+            }
+            catch (IOException e) { throw new UsageError(e.getMessage()); }
+        }
+        memberFilter = Pattern.compile(sb.toString());
+    }
+    
+    protected int parseCommand(String[] args, int index, Set<String> source) throws UsageError, Main.TerminationException {
+        for (OptFlag<?> flag : flags) {
+            if (flag.ids.contains(args[index])) {
+                Arg<?> arg = flag.handle(args, index + 1);
+                arguments.add(arg);
+                return arg.next();
+            }
+        }
+        if (!args[index].startsWith("-")) { index = parseSourceArg(args, index); }
+        return index;
+    }
+    
+    protected int parseSourceArg(String[] args, int index) {
+        Arg<String> src = new OptFlag.Arg<>(index + 1, args[index]);
+        arguments.add(src);
+        return src.next();
+    }
+    
+    public Location outputLocation() { return source_output; }
+    
+    public Location classOutputLocation() { return class_output; }
+    
+    public File classOutputDirectory() { return class_output_directory; }
+    
+    public void usageHeader(PrintStream out) {
+        out.println("usage: " + extension.compilerName() + " [options] " + "<source-file>." + extension.fileExtensions()[0] + " ...");
+        out.println("where [options] includes:");
+    }
+    
+    public void usage(PrintStream out, boolean showSecretMenu) {
+        usageHeader(out);
+        boolean firstSecretItem = true;
+        List<OptFlag<?>> sorted = new ArrayList<>(flags);
+        Collections.sort(sorted, null);
+        for (OptFlag<?> flag : sorted) {
+            boolean isSecret = flag.kind.compareTo(Kind.SECRET) >= 0;
+            if (showSecretMenu && isSecret && firstSecretItem) {
+                out.println();
+                out.println("Secret menu:");
+                firstSecretItem = false;
+            }
+            if (showSecretMenu || !isSecret) flag.printUsage(out);
+        }
+    }
+    
+    public void usage(PrintStream out) { usage(out, false); }
+    
+    protected int USAGE_SCREEN_WIDTH = 76;
+    protected int USAGE_FLAG_WIDTH = 27;
+    protected int USAGE_SUBSECTION_INDENT = 8;
+    public boolean ignore_mod_times;
+    
+    protected void usageForFlag(PrintStream out, String flag, String description) {
+        out.print("  ");
+        out.print(flag);
+        int cur = flag.length() + 2;
+        if (cur < USAGE_FLAG_WIDTH) {
+            printSpaces(out, USAGE_FLAG_WIDTH - cur);
+        } else {
+            out.println();
+            printSpaces(out, USAGE_FLAG_WIDTH);
+        }
+        cur = USAGE_FLAG_WIDTH;
+        StringTokenizer st = new StringTokenizer(description);
+        while (st.hasMoreTokens()) {
+            String s = st.nextToken();
+            if (cur + s.length() > USAGE_SCREEN_WIDTH) {
+                out.println();
+                printSpaces(out, USAGE_FLAG_WIDTH);
+                cur = USAGE_FLAG_WIDTH;
+            }
+            out.print(s);
+            cur += s.length();
+            if (st.hasMoreTokens()) {
+                if (cur + 1 > USAGE_SCREEN_WIDTH) {
+                    out.println();
+                    printSpaces(out, USAGE_FLAG_WIDTH);
+                    cur = USAGE_FLAG_WIDTH;
+                } else {
+                    out.print(" ");
+                    cur++;
+                }
+            }
+        }
+        out.println();
+    }
+    
+    protected void usageSubsection(PrintStream out, String text) {
+        printSpaces(out, USAGE_SUBSECTION_INDENT);
+        int cur = USAGE_SUBSECTION_INDENT;
+        StringTokenizer st = new StringTokenizer(text);
+        while (st.hasMoreTokens()) {
+            String s = st.nextToken();
+            if (cur + s.length() > USAGE_SCREEN_WIDTH) {
+                out.println();
+                printSpaces(out, USAGE_SUBSECTION_INDENT);
+                cur = USAGE_SUBSECTION_INDENT;
+            }
+            out.print(s);
+            cur += s.length();
+            if (st.hasMoreTokens()) {
+                if (cur + 1 > USAGE_SCREEN_WIDTH) {
+                    out.println();
+                    printSpaces(out, USAGE_SUBSECTION_INDENT);
+                    cur = USAGE_SUBSECTION_INDENT;
+                } else {
+                    out.print(' ');
+                    cur++;
+                }
+            }
+        }
+        out.println();
+    }
+    
+    protected static void printSpaces(PrintStream out, int n) { while (n-- > 0) { out.print(' '); } }
+    
+    public String constructPostCompilerClasspath() {
+        StringBuilder builder = new StringBuilder();
+        builder.append(sourceOutputDirectory().getAbsolutePath());
+        builder.append(pathSeparatorChar);
+        builder.append('.');
+        builder.append(pathSeparatorChar);
+        for (File f : classpathDirectories()) {
+            builder.append(f.getAbsolutePath());
+            builder.append(pathSeparatorChar);
+        }
+        for (File f : bootclasspathDirectories()) {
+            builder.append(f.getAbsolutePath());
+            builder.append(pathSeparatorChar);
+        }
+        return builder.toString();
+    }
+    
+    public String jvmbootclasspath() {
+        String boot = System.getProperty("sun.boot.class.path");
+        if (boot == null) {
+            boot = "";
+            File java_home_libdir;
+            if (System.getProperty("os.name").indexOf("Mac") != -1) { java_home_libdir = new File(System.getProperty("java.home") + File.separator + ".." + File.separator + "Classes"); } else { java_home_libdir = new File(System.getProperty("java.home") + File.separator + "lib"); }
+            File[] files = java_home_libdir.listFiles();
+            if (files == null) files = (new File[0]);
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < files.length; i++) {
+                if (files[i].getName().endsWith("jar")) {
+                    sb.append(files[i]);
+                    if (i + 1 < files.length) sb.append(';');
+                }
+            }
+            boot = sb.toString();
+        }
+        return boot;
+    }
+    
+    public List<File> defaultPlatformClasspath() {
+        List<File> path = new ArrayList<>();
+        StringTokenizer st = new StringTokenizer(jvmbootclasspath(), pathSeparator);
+        while (st.hasMoreTokens()) {
+            File next = new File(st.nextToken());
+            path.add(next);
+        }
+        return path;
+    }
+    
+    public List<File> classpathDirectories() { return classpath_directories; }
+    
+    public List<File> bootclasspathDirectories() { return bootclasspath_directories; }
+    
+    public File sourceOutputDirectory() { return source_output_directory; }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792339853107L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[b,9[*QPWXarM)$RNgnC$>KU1(=#o9R<RYK)oJ<L;pRyZ/YBbZAr&j?$d`NN,&HD6-%_QxkmbYMH%gs;sVJEe85y<dG[g0jj5=`%KY`mi?Q=xop3w.&M-?rUpm9I$qW0d=8S,k*q&PK6`B(S,h:Yv7[r>SOXj,)7?2q9<>-4edP;dMH:;Vma,vZd^GxObKly=#w[nJ5`UWTk0(V)BH&Xlp(`V@8AAfc+4@_Gs<Zl=;jFWRg9KxD17TL%aO^M(TNUs:IXoxHw;>ReL]$v/7498g_x?lC%8Q0cSd:)X2@Sgxt4f^9Ml2b*+NRLnKa,&AbI3hW9+i;oh,9BmD0Ko@;YkOJ)4<$ZL-94Feaey6VCWb_FK1umDuMW+cArJvu--r)#x9]dT)QT*-ALf#AsuP)%%lo:wn;lhNAs8;%.rQboph4V2o*lV44/0)^[4[i+IqqFvwNPUQH>]#yqF@)XQW>R#9_$Bn3Evwb45B$*iKQs$)[C>^];MFmq8lQ<I)VBvgdjeaK(=LqDXl[f2iA+j0$f*mM/73xV`C)G+P^ty$H5xCOMA_*wH8o0x].toqRnb:X5,dR*BfQvSJS3p.MO5?&Grc6h$N@94S]2R^jk%DC[$Rf,&t0Lbb^p4Qw9e;Rkkm9FG/Ii[jYa+sv4i)5>_/C+UBND;``LECHU/nJLSoy^r6/-VK`S][>uKH5pL6G_-U3&.(atUxPC70BR(2.3<UPM8W,M#Af->WMSi:&v)In7Gs)B:RLq-`kaCA2x[Fm#gs3r:j)HNY%b1<[n%gf0LF39KHUh1+f7o0bQMq]aml>LfX8^ig<j#Yq*?QY$hNGc[_%ph.Z>(#P[>=K*V(]V(4elRX1j%Ld0R%$chc;8b&0xj[]#T(Ym5HZ)ST,/e_S[,e_3&>CP1K^lqd_9ul/)ixOPh[frk%+`L=Isg<H*UuE5)I7VnSpVmWR6`+L5dnN[4p3guoAq655VE5<3-NuSc-Q[%:r6e8$:tr:-^y,Dp)QmR,L%KQ1qX[J#Za2Tf%MV*8jGIAUwp5&]EnRL[L8@jXkA`@6`PG@@;211p@(.8S:J<KH>n#iS4p`/Bso.]oI<#JC1k*S3YO4,Qqav:r]EbXZrs?Pxk:<i66*VQyo;cnI+N.P6JNGth+4B9-x*:-gBIaWy<Yvimt(R$.nd&^)jX=<BD^]Yu,ZD28B2a>r#>>a1c-E3BhBdH*5Fx)PnanmUTt<W,7E$M>Lp<c2&Pi5.7tjredV-rH?YMNH`veY-Z]2oU)F<?owYvljNsTQ5`>btWPn:j8E?Zt,N],m2WQq(oSS?$Ye#k9D[fwW6P9Xb6@j#cnV]+(OpX99yx*BFMWj-lgZcjJ?7`66k)t@HJ:X8Jc;kh3`>T8&`sv-8]ICY(a]qlw)4ZI`>1j1`ouLB.W1GK:PB:U8p47$YU,4jAo&Tk-jV#pQFT(WhbS)RZDos@JuAkG9T]ZuB9.7/^g^@LkUtdi%I>I*PN$D5m9+te$0`Y^T8L)nC@Pyo7&[i)]+=rU0^3k=ui4I5dO/[r3UmEp7K83c&a5/1pF:q]GyGs:psoEp0fr^CQ;E7R=Zyc5>edRbi)^`?L`@8CU)V&]m7aq#fZdNm`HA7I]qHfl8rf3BPeBe^GWJ.g`%:xf=KbnNmHh@D?nVF9OySX@J_]/JWJ7Bt5T71AXVkqxv;8vnH(<tK@X7NtOY]#lek:+PGEhpk^*eKt*Y??jfb@,H2dDe@nxjND>u09nlh_kDdrQM,]w;UiiLpX^fAsAHAL?OXB+xeLlS)CSksRlnrYWa4@,Z6Jkp[?67<H6XH+UUflHt#Ctyh4j+KfPBvh]:u;h5Y`/B%(a4p>W)f,U9i:1tWLBOg]k2+S(I:H6sk&FsCK]SrF1hdu8GGthsrFT=j:Z]7JIYuO1wA#/R?TYSNMEh4Dlewu@gKR*-CVUD*[id`H][;/(JiglRHM.1pD#pD1lPg>Og5nQhg4=Xj]oP2;Z<YG+Mt8^:76:Ydxn9q?uIK7[rdp]iO]wNR[q19NP#`?1Wr8D=?5ajY[cjcdt1JXwTZIk.M6VZe@FPsjreW_4Vl@y4m>o)L(Q2dIeUb#ru%ZOyXUxO8uo,;jPgU#jw43s*dMt)<bu^ZnBWM&M]Rd:HWC*E]SfqR5K&i(S8oH1S5TXk59-i[f>)*+pLoUVl]@[dhr2.ErNcIm3%WWL&6&OL>f8wSv?@m*`Md5&kPt,;4CO]Y7V@XCII9=:8^[fWv.cBF1Cb#t1;#gGQs8sr#h7E5aE4Jr9JGQjt..IHx`e[#8X)).KQ_3BPvIY<6Kh7K:H2=nlH*d]mt]^9D$(E<ZS/Gh;(5wB8m*=UPtOsN%32SD$Gu:S8f:(i6&W6mw#2l09>6<F<to9T<;eERh(VRAwkET^;q(]NgEaHh@_%&xVLX=nL4C(e$E#:->7jbk_)k5&&b%.k5[Y%keJSRNpr,QgQ(W4Zj+M4lOH:ua#>,`XG;=$TOT+]MK3&R:)BP6g:gpkt8M4/_l$u4i84B?]K1khy^M1vl3Nl7`VEn11,0U?f&POI&0_BNoOZ@ky#CQ*j])7=2=NY:fGPqtykRIlRMF_^4Hq]<v@LJn-G_SEng@]Ww7saawI5C5p#8UhVQw3f#2J:^yExeqR>xQY_LB4(4putgv%Kc#wmXUL^Vto=(iTG1CEy%2`?:uuAE9Nn3$Rp0kF<87>w.gnho%;v8o97NSk<<OH(`#+r3k]@g&Q5TYxG(]V)6^>X91Y4,26oYS4S>uWp94QmY:H&yT.ZpFs*03[R=`BY(_UA@B-@-_<YqvY&&&2Okwm_yRMhG&pwn&m^0..[8wuP[<]*n)rQ5d/eygd[MEg:fis>e1r*PZc5pAadtos6fyj)H03#;auQ>*p/f]3XKE]c`@G7Tu$%cg9@9?>;c4/>s=2oZe]e(C)$)-,ixgA/-%D7&wq4R)t)m++llwc7I%aqcI88OJ*BFe%*Q5lJq8yrM34r,2e0P7YoR^a4^CiWNcMXWKJrF98ga8?qoTt@iJOQ^D?rf,XN[N7sI:KoNA7`XV]c$,?a-sX,xAE#RX:VX:nX%8$6<-D276]xeHC=k&Yfxe57_3u6ej08(CYVbAUOH#HA1-,/l[7Me%Z](%9=7r*euLvk<R2MNrQ2,_i]9mc5CW%S(;Ci64&s/<RUnp2EJSD</@]&/bi/-2^4D:+$?5ID<s7;&`5u#m0EoN+27eEf:u+,)XNG+big>]j]2aV+>672cY[VfmxgLk^$;ls3yEV?*;1WT7<LH3Z^4K=;iaq0;Zo,#OE?QbNT,lTjelvDX@GxoUkdlV9GXZh?*W26sgq)10g$.?)/GefEebv8jlx;A8;07ypw:#KH2Q;Q5FG_7cA#IJ0Ri868I=Is%rK3ysfjBgt`/K<bWyw`?s7O?DVf4YVgnChWsas`K^<;1,_Tf<@]au_S8/DFW^q,1.@wn/vo3r,^qqCef-]5jrgdwUdu*AvQ[wDDOR`)uCt^pckU1e5Z.Jak-8)<D@NEH5UHnw?VfoX%_M0rStbEHjSO1gCk$=<wh7i$jtFESfw+#5qf*Pu6N[^L9Ffq3RayGSkUg@^rH[%.dXA?aE*2SsTh8=iysg/uR+e]Ipr-odm8%V)]aY&3`*x(KX=S]qSXGpax)l0TlZ?fy41j0axFa3HHs&j6IA`vpHiC,`FPp2qj`I(y$W./`1k<wki/)5g_JI7%uI7V]$E;pJ#H)+O3rB*VE^L-BFZE4/GS[L+[EJfx809j,)W?@=I1-ev1p86sPG(Q=v5?RI>?2_#J`XC$44[yLm;Fhh]m.UlPa<O^RVE?VD_N`yL8J?+iZ_HhZ8e%Y52kIE=%]G&X]l<6ojkX2#$oEph?:3xpc]&DJM^0UJLqg;*YT23&=9S#;64yA^o8eM4+5SDQ^=4jT%_aKtQFLnqM:a1mmgc(DkWfaNCa^8tbgnxh]Zakk2U)-?tlt;l.t5(j/k&BG7)D.?S7GI2WL[>i7T1_vf/?vo:aY^,N;n4VDY_,cbWQeORi#_j+?<Cor?i;*Ygs39_nBv8bHSibjU_t6$J@r4P`Drj9b0b0CcKC:RB*45^<DradXOR/%YJrEQk_AZhK](,Cx4kH=20N1dYPQZ4^oZy-&_Y:R8qLa1A:[Q6:m=fQ$gCH0OAB.hfXQ&:G5>y(,y[sjNpEGcbt=qc;fBvc.+urL-bj@5Lqj_cv(^hpwrK3E,ZN#lOxthg?G-RqI_VwB;B+ic3f.%u_*L4;2]gL>Bh9;V;e4iTSt(U;a1CBbyu-kte&,>No#1C7_da=#@Mth6_7Y/kMCX]8wTQD.R47*X]..VAK(qRX;lT&1cOI:+.V@SNg:*F&,`b-t3IMshK)hb]3I;UO/>ND@MUX,EF0uYll+E@AN4B#.8y%_d_3&$p6oS`IVl?l12O[#_8[Eu3*O9th6[chft7<L.c&c@%hg[PH6wYM06750MScX-*H.uWEi8t9jomS7iZU<icB$8NJh.x0Pr^@U43dLJsg<e-Gt,n43m`QkJSn2@3FRV.JU^BYQ=<nXo4D9C;%q]dkSgYH;?+%xqdFNZUL3mJSjeJssjMAC_jxRSFx]Rc8(4(j?8wB*Zay*),gyY^X?C@uEw0s[w3Z3,IYZn@+9%dY41MA.NXTq:`mFB1uUs)vOk-TF6nw4M,>fmyu7C+F&e,U0`]CX^NbWf.dO(TF+#.Nk%MgmHG[En4lWW.(o9Z9?.IFUO@kZO1r64C%_a,qNkUUgEZk9<ckwJJ,5@aVZP+_r8dZlDM2CRO=R@fwl1R-+u:Zu@Y4B[UES:,pf6WN*r6<JJ%D$J&VZ_2bu0)]ig%]lb_Bh].+BxB8uXhTjCd]7PR^-26^CjxKpoB.w=k9R?siM$QcFhf$NZ91XKg.Y=4_2Y@DKROrC&T0F@r8<]M3D.aE[%8S`(FBPo^]gku0%5+mqy-f%tRNo3r2<,,2frfDnfq2d);nK%Ka3f9,-/L%7q1;gw8I*+k2mvJAE%&<N9/3XnfWj4c#D;v>5^qL_k9@x0ofnu:/M9D4:vf6gK>qDN$(;Qqog@=mkn]AIZ5lfqtQ&%uUHM/E#&RLvd#k=n.>Zn%IX$4LER([8?OvxQoI5&69*uSOvaMsYH:w*s;^oKo`2]1QOtPsC$j9fPjM2l).tfuG>f%drs?*>Pac=&7<4p$RS_323?J(8cIBa(Z;P4Ss(He>lmyB_68S52CxYg9o%tgqGcgR3-=LI`V2CYdm*Afo7wihN%gY8eVR+v^AjY2uPZ`tvSlk%uWU=Lm8i,(K:/iHjIs(M#E##=2^Z<]FQ.a@a>YAl9_E3=BUkK=0f_0)8jeH>cW-nd8nG@13Z<SU_mAj5Bc?iNsW7IJk3Ylj9mP>OibqXk*HBZ[7YE#wScH#fM+yx-uHfOjn#e)9l6L@GYc#a4=rB@r5977G+>Ml,rWKi&Wri38/(`5$S:B$9KeCkw4^V<oL>Mh-Lvki$fW7L>H9Cng?^M_wo_^-]W-ws`=K]O#Q]Z?ANb3ITiGSsjtG/s@dpS3naUvs1.<I%;-kee8vH`p^%+0<LkY&$54<x;H:IpoTJgd&Fq?9YMHUhH;HYTx6@:I3,&Xe3R;d7Ry^AISrv@`xa*</[n/0c/$JAXY$(j<[f+<[r)fH(-re2V#Ra&MfNJ$pX/6&,B(NNbWh.nwgAU<pKy4EZV5)qE,hb@^-l@P]DF?7F2+fAU1sg)qjCmK`y,PoAmQ0]>2UlWM_bJZVXLmr*uNn$:Dtvl(E&W)-HscEV]UtNKKWXaKpjRr2_9tk1a]yNb>kVHO[d5j)Q<$F#YJ=>5_km%4]%:=d#+:GbJjm4oq;oOtw,A@`fBJkX5]`Lcp;YJR@Xo4V+nl]4>U6:VH60H<t9?s/3?u=i](c0Fbj^8oJv5e8w`)ecgbJfA,m=g-cZc4j-VT.T[asKN[Lo+RKQ6Mn_u[]e=oh3K%4yrJf?4Iiqh]L<aq7QJ.ltI$8T6_LCg4aKnmNnvCCpKO,r=b)Y:8(,Sp3?HlB8EMSdmWV5WxQJ<L0HieCUGGYv,4tsEtU8/>x2>[Q0p/[1r)2m0&-9oa7c?4aXr@b;TCKH-JXK:jWnejQfJ]dO=C+$:i53g`G1fcG7?Q:ZF.x61emTa[sp(mJPQ2:F59sb1.?7PEvZW)1iQtf]&fcP3EB>sL.?<TpxLx:&B2HA*$1]voiV4tMdBK8H`>P_mv%7(iKQ2*b@vpGebha5pk;,.uBDQL%Ktp@B?/=bZS4]hV%P[S_MDD%].;WqJSn9X_ecks7B;a8(1_l:Me<yN)C<Oqom,5ocB*AQQ%Ji.5.%EuE4n8qo3@Za]1Hmp+B?77X9sI*Yn>K7Gmu6=Ebq,r9@Uus].I<eEZ1BBvQfJ`XuFYGW.g0YcvBKXsJ:3=hy/g>PVLQblCVdZ0Y3$mCHhxB%5@i^&&La.rQIBg$EGHa&u,.`/WTsC;m9c]a9-$4bN?A4wk?CaE?bkCWk0hXeg(wjQA4>^y%5J+tmG?PK.7wJDSex,Hx=Fsb4@TUTuQLcE*Z$-VSKshJYLIW]KarZJRJbWTaU7KLLI/9#FE^VNt&@f_$%aK(_,igR2=w8o#ju1=OTQ&/wg.PEPC5YblLfkwWuvUeV</@kGKywE:fo_EK%]_4B5Qa@eJevUxksBH<82IK?`y/1DpUMreoNX.eGX1;Bdner8-om)M%3aegDtG[N5HF#]7=t=dqLPZ=(ey_5eC]UXGEyq<SoQE,176B_;@)NyjaqVw-A8TMiQ8i`C9`q.&MO`:03(hy*lT`+fh#^nF(%V5heLwKJy33/iN/c:_q6dpq:S::Hf/cWX7j[R?SXl2Z69*<?8=/9p`GP_?8?BLjd]>3Qma<yAlwL?P8Q2pF4KYLA9qVsf14--h&O$1t5h;7H@O)u@EvBwhsBk#PJZ3IOQ8NDr#F-VrQa=YjV`+3l>r7*;]6b-M*NG)jiS4dd+*Vc7K:am.9Zu#k<-*@8A;;1DBR+N])T%xuWE3ae@3ZFs-B<aSWR`<v04@H$/UQ4:Af>DW<0-ur5ei`m>IJP/EG8_nF/s5@`5yCnhk#1-HXi(=*42JUKY%%<w@KWAamkGhdZM66M5=KV;O2&8vc.vtLpRb`3Del.s>/g=%%F9k.19t(fJ$H+WoB5rC-Jph=AH#@teVX5YQ0[eDr%d_JU)#2-an*p^6hP=933-Cm+.B`IOIvh=m,/mDYFG+][_cdq^v[>dCo#2T5N&AcVhX[M*mchIHriHp08$T%N%mcFQ4/WW-s7YKk8D2)GtnqTW0Zjl)qU_WuCW#:Z]/pMH9ESyHcn]:QpMWxaAS7lke5*yyVvZdL(%>1d;tQDTTj+X,tPb*tF7D-m5;N^G8p;#CKtn#>UK]rC#W7F*9*L+@`1[b=iD`L+S@@W<1@qnA`K=/raG.lX*/tn-r?,x:uub2LPRZgBD0VH0#&jl3>`bILlSTnmXJ3x+lLbp)dHd>pCr0mBO^%1H4)#6TmVArAeDOo7[el+#G2HjMdPX@_2n2&j0dW]L)i<NH)f4:vQRNd7)Osa&a3jF,2^+[DRANx#k0NSu(Iw#5xk=/r`,8b9DaceuBE,GxuxG/tG4a*G]Rj]H6V]5+<_tg-[,b?x.?,y)M8,sqRHok0E)8lN#j5XM9,.n55R`2w]lvfQlZ39li3sS&aR63T;Vp*7Nh+#=Iyk4txdngpQw9BpR6vKN/_tWjiO@:JntokV&Rmd`gwT-$El&[Pdakb4[Q0_`Wc6l%y2r613FGuU`(#Jk=Ru;S[Rs[byK+?/vP@-6`P3q=]ucL:NXh=@]9]wh1=^)V^ZrI[IgK*1;24o2ihlZxMTmX)u:o,u?O<EGxHeY,LS:-=#v/<;mU]8U>H9L2.`u/S$02eFo1oU0y]3Tu2qbfy%QiA+/(NKHkfw#A#x5ggEP./&RI)nGQX.4sGPJqd)Y&-64>XLg6^F$_0JJAE4Q`=,<b)Na<f;IiYPm^6<CChlXg?Z@h@v]^n]7T3&uvIk74mY,Y=lilwR%?3EGc>/s:T2lXB0=9/QO1:EpX3Oa1c_cTU4N?>2S54ICu6kbo&1]ij?<(PgKbPk#MVLEQioy24]75#k#rlV4`W8$*D1LTp&2,18^H`N;-]6a20IYU=AAL(b6svptZhK%>lC&`x/1tHC6Oa=]kdaS@=XR)_iY2Acb0vQm`bd_DK^K<tY^T(n+u^p<btV.+e_YN*%outk6W6VX^kPTLqBm:XnZd:?ZqRC5FT+[d8-St2AyDm*$s6$kEB;4fS;c>S)yi+K:TKgNtIObESK,p2D*O1JF)^nPa17jp(xR9=NcQ^l:_-aWqyXD^bhb5esTTs^%0Z=:anD3GAYHkn2,;h?,:x;FmH2/4EPu2Y9tklL5ZI:GId-KoDfc=/fMQ/e+$/>NlNNZA0:<k1ii80PRP;])6b85Fp&VrWY@_oo;6esE*r&9p2mhk*0Pr,udm`%VFJI]W+@Wvd;@xWBlt`fVhr@*&*mV$>NFjK1<NGBQ47wR`t4$n-Zx1%[qd,uOqdV)Y_6?,Nb.q&bB9<GUIQ+5x(yeiA(gMnZHLaDd*=,6;w/Du]R:2&OG`G+jI5d&CH<SQk]Qu+Z-b(l%.$#8ES[F^0NSPp6w3jlD7yRGNAMvPZ<QBtHoP/2spI8vY-h:h8+ua*<cKk+,`aLXdli/1Xr(U_.l2YE)al;[*W)C7[d@#UXc[KdC:5SD8Q6.WJJl,S2cX:I.cB4IjW?s6H%Aak`,4LpvmvIOP8h4-KAuir9$twW5)T_$);#BTb1J:P?`qLI(ODv6eVo5yZp,j@_vL?*[8Prqo-9=MiAp0+JkeIL0K*pvnnf;XNH&e/]s6Jt=g)ur5Q9a4^>j^=J;H9dJ@dAn,?.GXi@I=nll8El,_1.1UbwgYOnq-d4s:w6?qIAL=G*ZiOE+#8=N]ysJ(;Gn-2EmHy#WW,Ll)o@:U^L#J(r_<L]C$-(TmFEtfJLg6tNA?4D)=4%?[Hm5TR3>0F=XoR<=Nb+n9=Xv2_gSclluG[A7dZDPHY[mg[K5=S9elE:)1o6cOF3tvjA>a-.Hv?%TEj?ags(`s*bZvBF<Qh6@jj/.gRSq;#HQQvH4WGIOVj;^]+AJdurue?yVkFS-89ToLPaX&m)Gnue;7ff@S6jY_.EjYO?IcVVSWn,hP[l1I>5%$U_?7Gsgn:+0L>af.;w4+Jb3RD6yZTFg&/@l%-h`p;Urd>j;kSXpESIp*g:CdaUP?;fOJ;?NC:,&0&o2Q=>(6ZqWqAcDee8K`1:;>HSxj94CebK<Z[,qA_,*[vh*=8cmW%O-jXSg26-au[`:_N9kyWj8r9ZsPf=(#a;xFKBFN)Gl^W^bosYD#;.llCL6ac$p=Wnu7fyWNHrk1oWqqn:Tiw;JxrYHR/P&l(a,,eoo(^s9(@F?ky@*>pK[_1*>_ZT579BjsuUWu)1^x#v/cr[4ZOlJr<]V;BXQ]m5ySU&p#?pY1)oMD_xHSS0afQ?=G4l%#s1?EmM0a)aFWnDK4B#EdiOG-njS2gj?:oo`F0O]J09v0-lL#PD.vcI-(,R2EMT,w=n1w7]hsO`(M*>eQYpI<o)9.BD^Lm7-bJ[K7j=$0m<T)JS-=oS(lV3R=6RP=,G6&#9sBqG32h4l%;LacS/uK(_Rw1aHQ`p.+D*o<tAS&>OZU]1SM5bd^EQ)Jnv4w+dgJV=h9oX7YQ6e9Y9E-BSf2;tLrU=I=0.lw%_@[#b?]pt53g`C>YqPm4[#Qu?y9B>cf^j1OYIw^Ay#VSpq:&97;FljAi=>?,dB55]4r)aemH<et)2-VIibY&n9-EKU9Wv=tcK2Epl3,B[iAU/G@c*PW2@FT?IDB`F3Af1i_xjU]i(XCX.w)(br_vgtf$/W;e$hS_v=Vi3Musa8b)d*d*+VHtrcxP)/yViK70.[ttyqF@#iHlDnT3JUSA`tD5p,=gUW_7Gxk_vDqf)[nENXWgptUeBY_7%pq@tBW,0wZZ2UGvcsiK2vllwVt,*<Ko@q&e64^(Qkh]FuKIxbDifL5(TWqS%c=->^t.KD>uO;P";
+}
@@ -0,0 +1,110 @@
+package polyglot.main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import polyglot.util.InternalCompilerError;
+
+public class PipelinedPostCompiler {
+    protected static final String WARM_UP_SOURCE = "import java.util.*;\n" + "class PolyglotWarmUp<T extends Comparable<T>> {\n" + "  List<T> items = new ArrayList<>();\n" + "  T max() {\n" + "    T m = null;\n" + "    for (T t : items)\n" + "      if (m == null || t.compareTo(m) > 0) m = t;\n" + "    return m;\n" + "  }\n" + "  String show(Map<String, Integer> m) {\n" + "    final StringBuilder sb = new StringBuilder();\n" + "    for (Map.Entry<String, Integer> e : m.entrySet())\n" + "      sb.append(e.getKey()).append(e.getValue() + 1);\n" + "    new Runnable() {\n" + "      public void run() {\n" + "        try { sb.wait(); }\n" + "        catch (InterruptedException x) { }\n" + "      }\n" + "    }.run();\n" + "    return sb.toString();\n" + "  }\n" + "}\n";
+    protected final JavaCompiler javaCompiler;
+    protected final ExecutorService executor;
+    
+    public PipelinedPostCompiler(JavaCompiler javaCompiler) {
+        super();
+        this.javaCompiler = javaCompiler;
+        this.executor = Executors.newSingleThreadExecutor(new ThreadFactory() {
+                                                                @Override
+                                                                public Thread newThread(Runnable r) {
+                                                                    Thread t = new Thread(r, "polyglot-post-compiler");
+                                                                    t.setDaemon(true);
+                                                                    return t;
+                                                                }
+                                                            });
+    }
+    
+    public void start() {
+        if (Runtime.getRuntime().availableProcessors() < 2) return;
+        executor.submit(new Runnable() {
+                              @Override
+                              public void run() {
+                                  warmUp();
+                              }
+                          });
+    }
+    
+    protected void warmUp() {
+        URI uri = URI.create("string:///PolyglotWarmUp.java");
+        JavaFileObject source = new SimpleJavaFileObject(uri, Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+                return WARM_UP_SOURCE;
+            }
+        };
+        StandardJavaFileManager fm = javaCompiler.getStandardFileManager(null, null, null);
+        JavaFileManager discard = new ForwardingJavaFileManager<StandardJavaFileManager>(fm) {
+            @Override
+            public JavaFileObject getJavaFileForOutput(Location location, String className, Kind kind, FileObject sibling) {
+                return new SimpleJavaFileObject(URI.create("mem:///" + className.replace('.', '/') + kind.extension), kind) {
+                    @Override
+                    public OutputStream openOutputStream() {
+                        return new ByteArrayOutputStream();
+                    }
+                };
+            }
+        };
+        try { javaCompiler.getTask(new StringWriter(), discard, null, Collections.singletonList("-proc:none"), null, Collections.singletonList(source)).call(); }
+        catch (RuntimeException e) {  }
+        finally {
+            try { discard.close(); }
+            catch (IOException e) {  }
+        }
+    }
+    
+    public boolean compile(final Writer err, final JavaFileManager fileManager, final List<String> args, final Collection<? extends JavaFileObject> sources) {
+        Future<Boolean> result = executor.submit(new Callable<Boolean>() {
+                                                       @Override
+                                                       public Boolean call() {
+                                                           return javaCompiler.getTask(err, fileManager, null, args, null, sources).call();
+                                                       }
+                                                   });
+        try { return result.get(); }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalCompilerError("Interrupted while post-compiling", e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new InternalCompilerError(cause);
+        }
+    }
+    
+    public void shutdown() { executor.shutdown(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792340077612L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Y)?HW-9%@303umjegdl8.+MP(RxnW+.`5pO.bsuW?3G))Rk%rRt1DmCgD^FbY@g#dAx+3:cJM)_Y^L5L`?:H@?#ui7)?hjdn&;NW/WL.iu&ETmcE7o@;3LDGtZm0OqdKEWF=`)lBfc*]sx4+j9kt1c]#bOA2V#FgCEk^s^LnB`m]bHa>dDosw5CC-n6lMLWx<]BQ&]lkR7MkXhCKL4>/W/?UW1fFU-*QsIJKm5,/mEI=_:s.-iX@u:Q507[)HeucjU0_]LkqOWBSYgf$/3WQiEEU)0mn0V=p0U(kCo/=g$@*d]JPukr#OT**Xf]_]Hmx^<#j_?^R(Oh3x$,#+1NPG^Te4mmJNaR-DHa#T3/U*3p0Y,aR95:hD%fap)mT6AvLIC&??FV%8ImpI=0D/]e>aNhQ]?)eMV_X&u/gR0,r8W1n<5HPx94-9h*fmKxHe[7?=n0cmHArbtP#i7Dd<o.vN2#hM%4s0ydhdJs=m:O0j%SgH0hS7E[,U=Nm1JcR4MfL(?P<1VMX<n9FVnidCiXj#]TWtg]f)e)?A$J$i+4<c05ftDOK[GOxpWldv>/NqvF9[kFuZnw9o%t]DJBpWmP>NP)hs&9I6pW/RG3jSOx=65V8%4BmbPgSTM(I^%9Z5Z]#]afKt7qM4[GQ/;4bp+Uu#t9G0=O4PAnqlO=f^UDE%375RQBxu=dt9v<lYLri4-m[>_Wnkd8MW<`vynGRW#gH-TB[9h4:$Fp88d[x5e<nnQNWcs>SC8c07S=1=t`W]GJaP5F2UT84xfF#ZO?/;s9qGLl]YJ^PXE:Af/,5%SW/$NcZ*JuX+n:g)TTa_GSnPna?2D4vktP+.hPS]A*SB$U@FOk]C+qrp]+=#Y9q:prNKcg`7L@VEDMdn+m%)WeFWD6#bSPI=itR=@i1yv,T$co)Fk<WU5YeZUo/hXVY52:^e)aF/GlXa=PlF$Q6,b*mIaBlUyt9tr&-0Z*eIfNka:Wg]/`tLnG6Cda90kgEUm9R(]BwqJ`Q8pqC2)=JAsOH)QS>fKMf&pW/2k&Wb.w6CDnEw)%&s6-,jO7nfv-$8Rh9^;.5oQL/xr9>MGAN2++9INOS31,JSkPs&R[Ei:7@cDq4u,-$6US*-EGSl91:X)_;G5V@d/VnsQCNf@Vd@=BD#@(CcLCEr+j1IZJw@%Yv#7k;Gda)bt3>q(>/L09+a19<$G`9?rLsJoq2Glsh_gL6EGQg@SVm$igRQkCQQ)Ro$Q-An4OlZ*d%OvX*.&B&I)0m#0@e#6vyfO.Y)S82ClcTyC:jo==MdvoP3+B]OCuZTcpJFN^am-(-Y/`]n&@[%uc>`&OO2bw#9D.o5wKg$A_(p:&#^5bmJ-M-]bZM-dh7,la:O3WsD3(DycVR.4Uc`f]?Jw*#Rp9s8?1b?Fw]mRfS.f_&:+qTvxBuy6l^76wv&MMVL;n9I9-J=#s<6+YS1r>8v6D*G7i3K%/a@[&,`6#Z_9kGJk+31,,:9AWa8u=90:buA(?X%%Rqu_<nIw8]ZV=/+]M@/&f.GDZ2,QNRM><AhsBSQoqHkhW;iuiFf*v&3#=$vN7U^O7Cj=.1)[-@7q7s&w[i^[lkNDO/y)F+-e3t;^qW;Q#J5I[S$WDeP$Q/pEW/$`j,6Sr]s-^x=6X1Naf/;mv`SfVS[JBP=#ZCwr@9w*9dPqZwfGenEqlth@h9JEbhHjGCd6@3Nkd6fKL;v6_A*U2V8AYZ0lkZAq/pUV>PIZ+&xFFFKCC5ncgWH]o,U09@DU_[45XK1d2[G)d47LU)I0N^?fWRPe*hY:_iA,vY6FM=;1oWnTxHV7M?(%SJKC6GDw@KC=/OgW_X>;bFJj;W5(#:PUq#Ov0>@adTlle+W.d^GX2lgv2hlh5BN;f5rOSY`UR56abO$k)]oh;^XRu5VRao.bm>GkD-_S?5Ic=CHQ0c</iwT*Nv>$#m/jvtBotc<aK<)>9,V4YN@?Q_>j2Am/O4.Y8EHu];PUTO;WT===Jj^JGS`w;juW2*Cg;JhT-4c`yBV`LXfnj;BEAaS.3:om+,6+;:Ri3I-;=qYVJoh:ZE*MXX>`sS?3keG)`2a;r2R#AxaF[A_ZD*(-:aUne@WW)m%r5<tH:>9u(`B@LKMiXyJu2aJ[1lG6_;sjwLgwqh7:%mlvfOUsHUU>WKs6RHtP352;q+1<[LIMYrr*dg582(#`3h@>H`N5,C.k@bA;>@:dn+UoJ-rE>BK206i6`.ebG6u9fn.F;<TR9,:[8pv47m>7gg)>Ue)OJWe;=0s#NiK.=L9oFnof+;K2s$F67LC[D`I,s[151h?Th7?fU$1+^Kv#0.OtJ9]1+r?byQf[Y04+Ur/EgF0$9AS>jb^iIipc%ue*&l8sqO04x9Qw^IcTm9oRJlGnuJ[/jwSSu&T-mdrAF:6o5)*l%ntIfD<_A]68*sYdX1+HMYos+&&u6?y;*Q>*>@q&F=LledCr#-hLu:5;)G_;lQ*vAiXv=at&vb7&9c*D0&KZ$DF?qu2>t7v`Jb]h#BbQpSHPL.R]ugrfN>*X%-HrJG`orpCtGpV;^K&<6Og+klrkZkuYB89sxQ=Pd.)$X9/G#fJ+>Zd`+Mmi*r>3x$Oi0RPI(A=8hc)U]M7=J5$V-ZZTI81x>oCN_dD79.rmU<?N9OF=TQ[p5ds:1t?g+2JW6L5X/o=+`JQqESv^2eaP-]s^y^MaX7#5h7KuZ<34N;94Ksrk*_0(g(SX15xXAWkyV&5g$=L%MVYM04MMX.xkG*bus;kVm)oo<Al)hMN#$4TYTGo#5q?$V1[tQ%*1/Y/0;SruJ6oIUV%POiNa$NA3Guub8%YK1av&`=].dT6CsF*@-/Vhnd.e6Wi)/fvyFrhpds6]K9+Ovq2H3>cG/OMvkd,T5UF7hw//?V-])Eg$wvc/4?FBHP*:;^,rP6<=m4L1wuvr$k)]@<fq8a`N3&jE)&wF?Q._Ik%qob95e#Cvb#qONl2e5abG)Rf=a41A74@2[-i2t`^>^`*`8aG:_5@m<scq#d0kJl;<+/&*Zj-mJl1eT)Zm-irYKPoFuwP>PaichY(],sB<,w5`,qK;-K*Cd6Cc,5c)N4Z?J>xFBDj1AWxSXCtB/Mo^cdPIi=avJ[Jg*5PAe;N$[C:XXWy]a[syV+/+DNIEUE7Ku$cF6B<c=Y1crmWI/+2Dv)Au.>R0Kr$A0G?Iuu+_R*e;;9mS%f?BAPE5wT^1+gj)AG[O:iiMJ@N,Y0dj5KkxVejitEr?2A56/f-89ODGhNXZwimG_lFCq02K4miV^s<5dVt`F#emk_RYa4/:)X[t(O/hui+tQ=BAr,83wchsTI:Rk&?VAF#*T[DyY(`N*8o&nX9#nyE:[B>,X8Q-4MThhm68Rtkobwvxig(L,.t#Q.J<$]s/>v.L>*]dYN0i6$<AbJEfqT4fyn]T5Eke+Z:c,6&PVex<boMh52FT?ucp^vhUZNh*q(_@iDTfaw8o2OkVZk`D^a)Um:XD>AfsL>%$=?QU)E/9>EepE^otBD@A.9W&k*2lP^IlnTp]f[0rOAu[mg`4.-/H(MJa#91b[Sf3UrOsqueGB=Whf5ptmUP<*W<VYm>R/ED:[g*yr(KVaEP1J@?2_6)h0MJ(^95xnOL>M5=By^wnth(o@<7*6Gud)3/,/e<DbJ^c,?EXWiw>:L#ybZLBt^u<Kh0`_=3lq1SclaIJROnga5GY3b#$=[S4[jf1T7`c?>4,#`q78w0REJ@1&+j=dJ>fEEu.Z-h0hP[LE>N.^dmyorg)X";
+}
@@ -0,0 +1,119 @@
+package polyglot.main;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Stack;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorQueue;
+import polyglot.util.Position;
+import polyglot.util.SimpleErrorQueue;
+
+public class Report {
+    public static final Collection<String> topics = new LinkedHashSet<>();
+    public static final Stack<String> should_report = new Stack<>();
+    protected static final Map<String,Integer> reportTopics = new HashMap<>();
+    protected static ErrorQueue eq;
+    protected static boolean noReporting = true;
+    public static final String cfg = "cfg";
+    public static final String context = "context";
+    public static final String dataflow = "dataflow";
+    public static final String errors = "errors";
+    public static final String frontend = "frontend";
+    public static final String imports = "imports";
+    public static final String loader = "loader";
+    public static final String resolver = "resolver";
+    public static final String serialize = "serialize";
+    public static final String time = "time";
+    public static final String types = "types";
+    public static final String visit = "visit";
+    public static final String verbose = "verbose";
+    public static final String debug = "debug";
+    
+    static {
+        topics.add(cfg);
+        topics.add(context);
+        topics.add(dataflow);
+        topics.add(errors);
+        topics.add(frontend);
+        topics.add(imports);
+        topics.add(loader);
+        topics.add(resolver);
+        topics.add(serialize);
+        topics.add(time);
+        topics.add(types);
+        topics.add(visit);
+        topics.add(verbose);
+        topics.add(debug);
+        pushTopic(verbose);
+    }
+    
+    public static boolean should_report(String topic, int level) {
+        if (noReporting) return false;
+        return should_report(Collections.singletonList(topic), level);
+    }
+    
+    public static boolean should_report(String[] topics, int level) {
+        if (noReporting) return false;
+        synchronized (should_report)  { for (String topic : should_report) { if (level(topic) >= level) return true; } }
+        if (topics != null) { for (String topic : topics) { if (level(topic) >= level) return true; } }
+        return false;
+    }
+    
+    public static void pushTopic(String topic) { should_report.push(topic); }
+    
+    public static void popTopic() {
+        if (should_report.isEmpty()) return;
+        should_report.pop();
+    }
+    
+    public static boolean should_report(Collection<String> topics, int level) {
+        if (noReporting) return false;
+        synchronized (should_report)  { for (String topic : should_report) { if (level(topic) >= level) return true; } }
+        if (topics != null) { for (String topic : topics) { if (level(topic) >= level) return true; } }
+        return false;
+    }
+    
+    public static void addTopic(String topic, int level) {
+        Integer i = reportTopics.get(topic);
+        if (i == null || i.intValue() < level) { reportTopics.put(topic, new Integer(level)); }
+        noReporting = false;
+    }
+    
+    public static void clearTopics() {
+        reportTopics.clear();
+        noReporting = true;
+    }
+    
+    public static void setTopic(String topic, int level) { if (reportTopics.containsKey(topic)) reportTopics.put(topic, level); }
+    
+    public static ErrorQueue getQueue() {
+        if (eq == null) { eq = new SimpleErrorQueue(); }
+        return eq;
+    }
+    
+    public static void setQueue(ErrorQueue eq) { Report.eq = eq; }
+    
+    public static int level(String name) {
+        Object i = reportTopics.get(name);
+        if (i == null) return 0; else return ((Integer) i).intValue();
+    }
+    
+    public static void report(int level, String message) { report(level, message, null); }
+    
+    public static void report(int level, String message, Position pos) {
+        StringBuffer buf = new StringBuffer(message.length() + level);
+        for (int j = 1; j < level; j++) { buf.append(" "); }
+        buf.append(message);
+        getQueue().enqueue(ErrorInfo.DEBUG, buf.toString(), pos);
+    }
+    
+    public Report() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792332105194L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Z([i?:X_30NJ_G&2f8$8q;PeZ5S_x97A.Q.K[r[Eq$byt5<K^qFuaOABKyMBr((:^o]/TUWaue2Y<eBXjyP7iOOT4:)JgZ:9CY<d1AC6AKCFhuwP5XL^iP-4_ktHtQ/eglk@h=5m%`D.YF#d&rOr*2q9V=EPAL32UP]XG&`Wag+eAQA9KjPvXqK0P9sUA@1N.xoy^gxl0N1mK+Fdx%cdwigq3rR@_@<maW5m[;^AoL.Rebh/D%0%NpuxtZc*Os@g0r%g+vyL?&Wv?rNmHj%t-6%OItACEG0tF9]Uui[Q+sA;>nSuAGWAMnIt&0VnsX3Rf?q?%aceUPythoMD73v0sR)bS3#tu6qCw9r$)bvs?[u3W%v7TV]W6p_Jp6t@J0qEIKYi3(Mq$DZXt$hbTW*=>?m+vZ_/_9:blc_>EFx69CsxTZSNnaQ2$@Vnxs,$.wOp@?:GZ7.A7n:jgX8R/WqM%8nNlb?l:,5@=]QP;_*q..Jcn?/b87brrYh#I.gllsn_.f9lAu3pZ2xGHbNr0RH.ZP^7T?p^xgWWpCT3.SXRfPRmmr^Ro7%0AX.Aj]@BPouqJZbh)Z9c#j+K$XtG%[$E,:D;EH*M^Y1O[L:tOrnFZ6&>g4U0+Ypa%Qb842MAxIR>OPvtQ<8MC>+u<Y*-@bt6agVWW)$O>lSFq7Bi/(7<CCLCGd):i]LQLNq0[B<i&&q3DMEjcOoQ[V><q`.Nx%URcL1]e(%mlC*9#8FrY?F@8%3J9;St2F*/?PJ$Bh]X1d)A:>jw8q>/xyDbSQ^TRPCEt5n)N7GnHbl]BcrO:)`_,Hf2==Yq/*sX)bmR+BQKJ*IK;]tWX?8^lLUl)?_S:1@p.<.eIP=gL<njOeqa^S+M<$ryVNq:3XI/F+j.@<WT5@<6A5X3uSg1CpUmNKF%$D4%BZ%4Bd`S/8`D,+)+/^5o6/#LJMdk0@?dD:Px1wKa@)Y`9NL/%f7BK2WA>5jJMo-S6N,02U%SxF+=P/aNU0IcpjW`=<dWbewT:x9v7BCa8U]YQmi]]P>1LFH.PnJN]u&C%;x:Tk;Z*8r?ZPBnMwR$GK<J^_birJDv1f_<YwnvZ(*$eNE$a9gb9:Jn-fBZ_CB92q@H($M;;mC*=n6wff_8gKE@I<8aDxgN:a(YHLXmaIjZ^5^`Dh4+d,8HV8FAj$^#<+B%38RJPm;lHpT85N1IBJ,9Kp@_5<Z)1uUn#kc@_v;l*H3fM*<lt:F.<L6v4b>6fx:F.V`iTt?bMc)acb7e&Z$vBtEx8(u4&:$,Bhd]b>I3AR4jW*y2:fM7L?m%l<u?GJKv48r$vDBKCP?#KSpnj#)0$YrghR<G4O>)WF;6g7UKWF7GadC[JRA_)mM,lG0YJ#?M3stdbjeR(IfkdW>mUJGxk>hn1?>gU91[w=FEto;QQ)NY,W$_71WG8ADf)E89x$U*=/U,0sd;,(m50=S#wGGvjd:hc%_8)oLUe4=-#E?2I4#dpmf)a4vi+BrcLe_TlMWNB?mO]/gEdg@KXilJjpss5>9,n$CTaF^AAHtouCG*v$0cE*UxYOnJZjm6l)-k9T_PrbCDpNsVQB<nE]:LYvDU,.rRgyb5n%5b.)lc=.ub`(f/SYLZN$=n_$4oxx2M0D`Gq>#NuGMy#3U2`i)LJ@iyqj^EB3<au4I/aV_-1$<dvu`HiaS9hrK@DJTowDsoQl/ghr7ZQ-aX1J$bT[r@7UGAHn@$5;0`QG%JXw)qUEA<h5[%Ny[p:UI7*hlZA/V/PVQ[YuGk[6]E^4lOrjm?nc;aNQcr=5uA5b_pDNGhJUBbgVAj=3<N?K,Gh::>[Yrn$DR?GW)&+,T$I5WIhL-$/HQ:I2w/[x)44N&pW5?t-8TMko$ZWYR[b.D->dxvt/C1Adlp8]&8l70OHA7p4IDdmmE%`0O1r4N>X5,:4:2Em+xJ%dC,5n5x1?C:>a5+_]uOQZWWiB(H.jeKT%#b#=Rc(-_&*cMkxI,*pFYSO*V/aQD,ls8fCa18_arTN2hVw6]mrZS5Db/oDbQ[BSip.ImGAr4ddmGr^^B0LZQ7>.&LCcqI`fo&2$<f5[Jo/7b.8I.`0C10M(+3&.5.TWUtIhWH[Z/C9w,hwI2v(QRXN_vm;Ae7AA[k-o&D9+5;J^MrUt6:U@T4`.L]@+e/E+O4y1^2xyipM[b0(j3V2_3EnN:eC4%pgGj5GF,l*$[*o$yxwS,b6o:Z/MlVG@xBAFldEbiB-GeV,?%=sLOH4]+nJPTF4<gl`2^5X-#ydb:$LX$n;s1iHR,Y>kV:Fa.>LfW(Z(VLd+1%;XRB<6^n&sQHD$cHEa6N2i3lrVEo&eQP?d<[3XvXQJUv_Q&ErhT6TQZ$OEb?g*mhnFAHm7>RV0L_uCpb(cU]FXLy>1@3]u<K=d;UBZ/tkIv?GG)T8n)ct3Qn`k?*.4j@Y$,`,IwuJUe)Rw@>WCG/EF0.as.sNDx#ryDsc:OCNaF1`p)^%ZAL@plBZm#V?@S^?WW(;%utS6XFB*ns4+i*AdWhRuTc4]W.Gl,W[ybVVWEw)*rt_;pbG)$-D2OZR$Z7mwSidr1@haIQ)Gm8i^9toliRGUueRNMH5OL@rROpOKBc>Bt6N%A#EYrF2.OiD]n>)yt:8WeKs9o06H.?K4UZ=].J^hk--2Z]F.vk/fk=rVEkEb%npDW&VbSP&[GhAD+Qcgk>QdJ73HWrpDdwZBbbJ7e7ptD427_d/&%XS&0Ir$ZrmAv>?@^JQy7]JN=-eVO@I6q5Lu_7yimUmN6P/*Xa=ROFiv#bsc)q7=B`gGjSTf<s-dmfr4(du#5r@u^ZbEQp0N0HT6$u-+4fe.>*w[^aO;[_kr?_IuWsnpD;HBJvE2#)J;R8b42G.PYl$Oh2ep&/w:2Sfkh`rHxYI3+Jq<;)M`CADoZ^r]5l=s:^G9h0WQkmR>w)l;2$`(Ud$8bHu4YA/Z@nkdp*$b++URV./HYc=2]HD8Yh>o1x6>pkFffI=j1fu3cWf5d&$O;-(K0U@@;*Qs4jNn$,fUE$Jedi]Vrw+d/X=OTp;DCSj#WK[3OW/*+f;tiB%+$Rywe%W4v0?<Y+DvOYLFs&]*.-cg+c<4[V<Xu3Q?`_NN16TJ^<%F;X<kF@qB;4I??J=^Vf7](K8oVH/)S8aV$7/]PSTQSjsi6MD+HWs-a,B],rD/)gPJg=6oF$x,aG)#6JiKMGmx3Ven8&0OhGLD@Q?3iM7X(OxJPEMJW4eGh:ES5XvwA`>,x(PR&f.Z@1Qa-b?n#xhg?WqgDk]X<y_TmVDU%sZ&^CHIsB9?JmI>(P#B)7KI9OI>MEd6F_&>S)J/B6/d*n]40.gQj_.17m_,Zq&lH9w_t1LK1jt=H[:V%%a2n,(O]v5eMtEpDN0KoJp_p*OaWlcinUvd6F_&>RvT+@UudijOnEdjnAhvuus6M57$)WOL[?5<P$n;TpT>)Gv<(+B^slgV$GP^$0<<0mH:tD:uH+1X&;rt<D$K34QHH=t?S8F]7%_VM8=ja-=(bCKy0syCkeu)M-MCC:Q.JNPr[X<[ZyJu>G$s*k5)84%qS&A3BP6)0q7bw(QGRPCrMTTZXj(^Ysqw?hk_>EHT^K(VH,V-u/pe0L`<*x1(IJ<RJ;_7B*oFOS`ZJy@%ku*jbog;Oje@b>0*hE(txLBY_]sKkGqup*k?i?o>f^_0cMk7Zb1veJ?Sr&l@I4jABgKV8(M&9&Gb7MW_t,M;P7$Idkj/7uWVN**.YCSd8cS-/6Qk0d93O<7#dF#HaiSwek[t]EIj1]&aZ^6`P=rM=.XG8*IK;]6wJh/)PrU3O;BGDQGu6<6I*eThcw`qTi65rZc8)5XrNGeBg&uN+.lZ^E/,#+#dfYi]b3I]>.yJr8If;=QK)P;,LtpmpIN>l1C[$?0JLg:pXfUxb/3`RTyUGjDZ.)QVZ%Gaa70KCfF5#9hs#xoC6:xo6#bd_e(F4-::fG;-?(B=:]qIWH%>8fNM(@qrlKWC5%OL5:3t9Ah:Fe?roM0&Hr>f*lvNlU@W5#I%<um]Hya[v+)jAT(piue54Pbkw$L1h&L/xLcsn*2d]r_t4Y*cL,q<&Gr6(k)Yi4YnOlVGu05pTJ+:Y5qS>Q6L%H*`yC92WC?a,VNIW>NU)QXt,:<8i0U-NeL96&]+S=;]2U1=i+udqbXbK`0Okg)Ae?8ZfscZX2*Qq:xv)FZ&>&m@ThbM-/P$>Y8#>Fswm=bsBqDa/lK=pP>``Kf.OUPD=:YFdhn-Q6Hi<yH1Z]atNl/@;iNP[k?atf>i$YrqJ@RNkx^73yh:d6fgKa,I1yfD%a$umkAmboIGC,8#;d5rC>,QOhNsv<;J<;TQA&U,ZLnr2uYcF(%au-d*`5*6PsC1r%qE?i]hA)BKad(tv^I+<KW&2P#rj<^sGg8FjHiI>i6?J71Kuc)]Ya47+iSr9V#qd?i8a@u7):Nf)yU$JgkRHA3y#o36Wc(8YwXI.$4$a?Uy6_Jt8cHes/7-xkBr@XsDr&<)RIIu4=K`ZOFcFgIE8OSpo8f;H`KSG68xCi(gGfojtYToaaVuNKJbJ?1,3LoF?q(lN<JSVW8JEk;U@5vj/Z&c*bU.@fUg,l@:NaZf#4)rAnULQR]Z;sZv_sRSTL(`]daAf#pJqyy*D=>(5>2hXgH):$v/Rgg[54VMMU6H>skShYn>vy_/$7RXTOou5,a-ql,TPqEU//MZs=]C$Cl)nsVuC^3<lFUoFN]X<kYdNRH72+ajl<lNp7`35bBjLg&C:r?XHk7PTZ^dGLT%9";
+}
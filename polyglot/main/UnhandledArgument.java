@@ -0,0 +1,21 @@
+package polyglot.main;
+
+import polyglot.main.OptFlag.Arg;
+import polyglot.util.SerialVersionUID;
+
+public class UnhandledArgument extends UsageError {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    protected final Arg<?> arg;
+    
+    public UnhandledArgument(Arg<?> arg) {
+        super("Unhandled argument: " + arg.flag().ids());
+        this.arg = arg;
+    }
+    
+    public Arg<?> argument() { return arg; }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Ss.CV*^]Cev/(G@..W@]vs3V1M`.2V?JJ/`+K`$V^3R5dm`liEl,WknGk.##E02Es$)aMd&E<mG?&LYSMbU$#X;o2Z@x6WU,if_5ZJ#8%SyUc3S/+]0;+.HHWp7T>tBY0gKLF.-g.Qj8LI#:iv]BxA%iHkdSTPVY:R*pg/T#b$)XKbc:Y&1^hy^k*2E)@A3OjJ(1?dHKuZ/vrSEE2n8,*w^?Ur&8DSJ(=^+ZXI@Jmp;^iGM?^tCStL(Q,@9s1iFX5io^l2WkFNlA6(VqvsQ27A)F0xebZn&6[rCa[4m3rtnPi<G&[Q?7-#],D9(PH;F?IIeb6Pt,e##(=kSw1b`Q;*YewGWguBV4#jetL2bnqDaxo%qy^gRN<gJ7#KCHmN/grSN,n/<W4%ecX<=&@%&#UU,no*.9:k4We#pX=b-=5jQ)YlfmoJd4HIdnOiNbm)^M9<rSY/FXxmcnSWmiR[QPVh<eXbO6[DlA$+QW)OgF2j`qMMePYCxI_^*3;##%lJh_6hHt21^h#$8eD_(2GA*CBu2^;v%^DTj=8Wv@i<>8V/:)JKSJ6+^yU.,a3W#mUWR%co_r>Hp$v$EN=0@mo9LAM(?dLsA-v%#+#E+,@m@/t<YpRJ:db*?L,G:**Q48=M1uKs0Zn#).#JUoU*XpOu^2[r/XjU-TOx,*(Rl:CIu=Qr>$R/4gHt&$Nd1j-r)flao1-vyp3X73+e32_Kr6fx,crLicQX7rF3)3Vpf.>:ZYVU8I`<av:gP@m*30[F?DP2J8fj[Cf7almE;I7]HijAWKP:&v&RuZS]$H5B$_wSTGLo:5A>H[#s[t[taB:bOu`E=b)x_%.hd.ey6JtKDaIH)5Ct[SVUhi`q+bA?+[s+)$4P:]qPsc7C^8bI0OA?XcDeS12L+&^a*kUow/7c_,-sY&C,:V<t(/&PU2d?awlBDb,@?9id(_dl;Zu3:LktWMK5XcNK7cX.)saoMi9C2<mtBHVX9HCTCUQ]oy)+eMR]T4eh?ePvE-,wm)fZRsbrn,GuyO*9%[AH<]w_f9Tag2f$fH:bUK(9,dm&5SGbj&4vrT?u<x8@Ku]>JVXS`s<yL^W0DYQTJ5^Bmro>&#;k02>.a5)]PxO0Q,7p-?gN0E$</V%-hU_S?jQ*Yy?:@I8<jnp`gI-Vd-h%)QK2)eRcYj0[^jb2Rl.#vt<5--1:i<6jI8O(6uIk=ovYgr+l:8B_He=h9<]7W+ef][u)Fvt/3OCJx`6KW/KMylL;(yi_#&J>Z6``hx+oe3()Fk[HStddOJQ;(xWa:nFq``7?/,aW1;CIS]2dHn;sCopCmQxKS8:pQXNI_XEr;=.g;WLH@d]Kc4sNW)$,cY-OJf.++&HZ@GE`kQ1VIy#yh8/c2u1G6-*.mnLmsrVi4`7YD9f1wdm>lqcKk%^+b`?NS)rI5L5PTVns,sa4$+yNCbi)+Y(L0UMe8niBLi1UFRL=(#7Jds#_s#&MjDD48`>8qVfGjnm2j9`e?1^A6(&LC]mnDjfian]%Rcu#%DyC#9w+0n,7FTOW.=1S(jXy#00jkKL`uT?@,vA_uY(fQXnwtjh(0dZPKnU47^(-XUC[kJ/`<1`nDsAd>SUQ%&Y(Ngfrc5R;IovZ0Z4adJmq#G(])s(Ik>ouYV7cYE5*G/@vdLox+qG44?u6+tv/XNLJ@oa<(so0N.VB(*2]R^;%PAGwD@lAh`vD0]VAKu@WaM29Plp5od%Xmi8*B%=`,-ejHRAu:9aSXQ=dwb:9E:-C[$,t1cE`UG):CiHZ)=mUds7[Fu.ybZF;[bbiif..PLuB@DWeH;<o4M:fJ^&yk^pPZBsRoKqWs:B5:AKO[JEr`BBo4q=X2cP7GVg]7u4El,:6vcPpb:j)(%P[502b-KG26#Gl=M?ds<1?9yuCrX%.nGg^$E_t6;:f;jaip/?9UFI/95S>A,([v7;x%3rGp0tr%-(_>)ttiP&Rdg1FJKk=?nJ`gMF$`6v2l?s,Nki*A&7G<]3xWi-,Vn`*Ff+l+Y@0Q#k%5UICmF]=7o[%Zf2g[9TcrdZM0bZmS$M,/%xqpHD94XW+;f:9(,b/ZqrUvyqR-B_-D9u$#8QEqZf(dhLD:4(wQ>WE]GK-$ZV&pa-vp=GxG[O6%PvsV`C1g^?euTJMt$=M5]88c`Ou+nY0[ZPV5Yj[Y3T@(kh1px3^BYT$mpr)3=)97_c6qq9c:No-X3*$fQFT,Q]%FZ:[luRsrb@U7k:S$FMPwIMthJf][>BoG)[-s08Hm1u#JlY0DLd:dfJIaC6v;lu7j]SWb,e>Vf>I79:=B6mSm4ZFmJZVNM(t<YaBcSlc>+*v0e,ubpVDJ-K>?X6_;D$eCa#rv$Or*7EEBIx@X/-;Lq9A_dMtJrWnuZXpC#q+m``$#e^X(]_`ORi`I8vZb0#2s6>pL@x&g,BcKbMroMb(W>U.<pwkWBL?E3GVj#Rlf;L@N#osC-3V-)8HJrIjh6U<jX-Lx)FxvNnSkU]7U0>baidS,_CujROC[XlK`mF:DpF4A@%)&,]:Eg*Mix#`-LD9)P`;<YF@KTq[iDVc1Z*v3aHOr?kw]3W4SkKoL=nRPN^=C,KeY2K132A1j$2a^.9Ca&m#1DV)/eV9S+CmUt8-rG)foSx*7I0Lufa&G/.pPtuk,m>mptmB[7?(],l`^B=6Yw6[WOu@wWJv8&5HZx5EJ=E[RRVP*LwSEd8&LM8[e#^CcqJ^,OTG`bu/=G]I+h_Ntq_or;LCT.Z)n`ai:t,EnxdY)$Ot=iJ#E1<lt[D81tRT2OaBKH13?x1XoK-)uV$1VrvZkU7Jd:R0?SxgA6w5cjIuiMrCsR]$`X=D_Xpf0RQ6&m]A[6A.XsEBI<+78@]%`g5=8%:S$0Umn/<JqO*Sf.tZU[Oi9&x0?.)?46)BDK$7i&.tRAYZReEPF[R3y&4,dM`i#J?O7ys2[0kNg<UC9-*+M3]=ySS?7]$fO(jwh?5D`svBTTZ5lgrJ8WS)ABk+g]Z)_clX-DD;bme2aM@`d`&K%<";
+}
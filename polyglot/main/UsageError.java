@@ -0,0 +1,22 @@
+package polyglot.main;
+
+import polyglot.util.SerialVersionUID;
+
+public class UsageError extends Exception {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    protected final int exitCode;
+    
+    public UsageError(String s) { this(s, 1); }
+    
+    public UsageError(String s, int exitCode) {
+        super(s);
+        this.exitCode = exitCode;
+    }
+    
+    public int exitCode() { return exitCode; }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Ss.CV-9#)?G7k78e^7Q1Q45iPCW/<]r$A)0SyI/njZmrKFyZE8]:xZc7+mN>`(G$Sjfa;m9u*_8PE^jd.PdLId1rF_%l5Ka[jL?`X;kYKLV/?R8A@j$RvtPEElUBTk$Z`p76bA]^WLh;V.pq?ktt+UgH]N:fOGVMotE*Q)oe:vGf_O6+6QQ(^e]x>_U;W+2n(A^@LZ0uaX`stf/RZ>P;[M5?Do;Oe`7N$E3XQ7LA7f,S7YmTIavd&F#LggEE72wEqPlC6QRp/[tbq[h_cxvR<TNNbh@NvRSaCp#UdK7*ISiwR=FC0<0/7`2>_U?^K%O>U%#*FHow([ewC%t(MZ*v9B5+O<jfJnO#4;88ME=srHoUoBdA6n-+erf+tar=*.ADqRiv46<Q*Zy[jACIR]qBAp89sh@oGhuld<0HEQ*^3PGo0pNVv<ZkDIZRI(q$eDiy4sk:HS:QWx<V[$OX#>axFSBZMB2#6Xw,%r:d[s?Ob.1+,T(9]3iO*^90Auf&rlZ=bA=YJ9Q[A#r%MhQZP-fMqP0Q:n[V$ib#P)Sgg4L<H>FFM1akeD_57Rk^_rZ:Y3P:aq$fC=Z[[Q,Nh1_:C>7]k<1s7)@bJ&pWgD@j($<v)7XU:k-Qnfy=,P&8MCokWqe@svo#O%Tdo.)U]]5lA;osk?q4xTCVh4*tx0-cg4([f4[riqv&DDLcK&AEZx3%9jZuLoR+V$qhyfuOuQF(:JOV(5ne:?n@=fW8[4N+C]lv>>cMt(R7Jboc=#IBr$EvrDRf5rhU[k,cxVtZ7lSGfN;V6DL/=T8Ox+b>1>rat=j2<,WVm&rAv5(du>(7i4o12aNWOP,;2$.YN_jF8oC$ZRe)bZ_;0Q0ShNbiwDD>yQItcQsCR1PT=$^nm*=$gu1V=%rG7^e.8XCDH#QFa,)$=+(q3UBxJ[uiuTU=UR7<t#l%$?pdJ[ES>Ma,%jr91uJoVbeO$TEoJ>/gv<jFk:K^,([8FwFRcV1bCOTYZGW8@40P-dEhMeR9O3OZ:,[XL=rwDnfys1@ta[U%irqhmM/IF68^_3:M?Ms[wJgIwtD(.anPZ.kZMt;,($D&>)>hbWFIdG>x9eGPgo3-+*+(WN-JKQt(CVh06*].hDj8$R?N_91X(YV6(C$k/?XE*pPw_v0a(?tg?Q$Ir%&U>yS4<w/.In+963e9cPkQ>[gR>Nics[BmWMU5jn/14Od.<D)auc&Xg0Q<Fh@6n;9XqUs7i9l6p^27ey]n@4MG8d:D^1J5rwCoT>NPUQL$HlY^#JlXv=$o>7qxD^1VjFM,`b*(abp+(-eFKrgdlV<ES5(r-^7c4K$ELI*F3Zk>;x;],WEvaDiVhueIwji#(hOU%1eqF84[M/W7-eImw=sFmcm0Go2grWHyKP=F)B>v5EJrorMFs_+sF7r8HL4eJ+S2?5Y]K-5v3-K<0S9./qF@A6[LByWr]u@^b4YJN/mP@D6MHV3X`XHX`)MPtr)6Ke>X?WA5$m(g,rkhcO?Bw*p9N`xf;@W`18X.*MKJ/A?1TGN$U5w[.?M:<#=1Vv9y)N?N%1KH9=IF$mdM.YhsO]j0YhMyp)YT=<N7VlVr`67y6.b+,63FF(b5ur@$4Gg?X%k[@C2-#CnRVH``aYC8:H<xK;Yte?5D`4(y$PKFkLUxiKv7HXyi(:tVESUfZXGbRZYZY4B8S#@F+LbtbZ8tc>C#^>CR``o)+Vn>C^I0GF%mb]SN^kry%or^*Chw=6.0_EVH2-6tn)[,r]<_<i,V3a4_iOI=LpN_qvWH@+&Vfm(IkvRLfVSh,W=d$.v>T+8Y8@KF2F-7Z*qv*%9Tf6w$g)]gjXv)Xv*M60Jq1qgs-j%UomcWKLyZ^Xe&3;k:?(ds?8m>]v-<-U>wk$08QPWk<kM*->Lx#-?rfXqpnMQb;U+4q;AMIAUPH>0.1,[HE(i9wYJ@_LOO-3R.:=tU>u=*aaW%hW%snrh:c]o_-PQ#h)OjywXU&`sp(8K*9_-y<+lf]CBgJR<r^e&k=QQ%W3Q,mEk*m6JD=E>C%sQ3-,9x?c#/[Ca;,2D=H#o]yO]mmhm?E?S6aP72;,E7qbHEr@9/onF19qF97.9tAqZ@j<ddeUK0?sL+),Bww?M7DT&V-w_%h%*NSAH#`qyH7YpL-B*gAVD+FrQ,9DSDC1mq-AwI<REoieeb_dVJy$pgsX_7S-Z^]>]+CkwtxUM_?E7+@iR_GQdiU-?aQ8EqmLN4N7qKcBS);rn/:^Gffe/aTvnAq3CR&8*18FmW=H?>6N9<W9ou5(Hd2rZX`yEmcF=^p6k-OcSY;]5(J=NC_#cF/`l/x7KSE]lj:k/]KCUEf(^)d_@(NQo2qO(jU#XUjv/>VlJc$cVE@FAbG41:hsOMc+`buoY;^ycO>ii_mj46iYil&S442T+C$Maxe$?iF5<tHC;5l?Y-fMuco`bJ)QA%ws,^s1,civMmm=j47H`p;55gN^&Nn-`2Y0,Ep7en`E<gruvjJe?qvf$kXs;>SvRtX:Mmrj.[B/%`Gh=f)D7B+>9j6,#,KCI4ia<a<sYD46AawCOvdl(7K[YPBE7v-#qI:paHbO2iTO[+?hcpJooB&u`pm>Zp";
+}
@@ -0,0 +1,23 @@
+package polyglot.main;
+
+public abstract class Version {
+    public abstract String name();
+    
+    public abstract int major();
+    
+    public abstract int minor();
+    
+    public abstract int patch_level();
+    
+    @Override
+    public String toString() {
+        return "" + major() + "." + minor() + "." + patch_level();
+    }
+    
+    public Version() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yfro-9#*kv0B?+6@`YVbmkB_M8+CDXas;=#8Za_hr@Pv.d9)SD`=->GrQToUCX^>%$+]0:*5:YTq@vZBa$Y)9A0R>Y5HGuY*^LLP&lZJ?;c/:5D8kTM%$^HGi?t6Gj&UgnM;C$LLpXJukQMRdFq%KnpC5x5Coo=_Uh^x;3*R-<s9exI)W`._kp=*4>5>;]1J6S@d,[5en:.S5>W%t_6N6A_7JQ]CJ&q[TewRfer0#8%4/Sxnax3C4*h(l<g)LoYGHvZK;@TPgvQIr4I6kfbh;vD;7wdK6w&xg_$>J:Kr[s`TAhCwOLn&eF,qg=*7fW8)YoFutZ-f:&(SB-Lh_Q;nT:[9,ktA+fU7T)t9SC>eWr;d?FQ)u/`bDyeJtKy%ZTCM5#1umSa=s)[xxN^[Nm`pOGd(OElY49:rEx(Q-3-s6=mGkbo3M97A]AlXSB,HMkS@(PnK8iZO+A9H_Gi2@o?od1OF>F-#F+6M5-[n,Fs_+VlPb&RV:pMBgOF_##9y@f>4onue[[n*HIu6k#9GH@I.+kc`v[/,V9#L%hVrQX;YncF+oaMDKgi,m[Po8bi10hm$iZ3:.#;.]kZE+Sw]5W_0-M3(tMt7Ao7wSfwcTwC;kEChtDAPV99f2,aTFI0k<=<Qp>>-nACQ_O(IYg3)RC@GAt<K`XJ0`c<qq2*6[cKojXDSonD7L*wbb-jZNiI3<a]Sw/ec?>jn2Tj+t,%3mcGLlxxLc.;K->E=OhiREWqi&_P9=?OWM)(&X71UGl0%<KSDdE*L#OL@WldKgH=ZMi&td2i`Ack9D:9AFP6bHb3`.?#YpKT-[0S(Pi&tb&&$sUg%B,m.[I60NZN[N#d*r<GattZI>[xNGSg$1M.<GR@f3ecmlsVi7hJ2LP%CpU]s*O,,nvQh3,/n_rZId[A[=qYwn4Ojj1t,FR6[QRTlnVew3`o3lP(D7C^=hSYZAN$tu98F`_q:%HH^&#oXNpiNAt0YR/V`ak9&<eUp9]JHGZ#>mkBvnTkhy35K<),OvdIu_jYM8PbHQ-L3EQeiNv.J8jI@-Rt5sOCg_/mG/Av<m66ZACWcWVu,7c%8Z-1_C/?$ZM<rtSWvJ4+wTtI4Zks@Yn,X.T8X>sEFi8FHQ/3[,W7YHY^P_aqUiLjT+gVK)L,l.k07orvt04BviDt81H?d(?IcGTVov^;^,#AR?LsJmHT2$Lr%+s6K4s`9.(]/j:dVwFJ5l0brKCGG(9j:5h/1&6w639jbdQ_rTJWV:EORDrZqEZBNELe^ByU7kE4V2yB@:_B/OeMq5_ByaQ4+=ioW&2j@e@74H[#RD,-9j0RyL</snAf2ShwP@Si=VQ+GC,7jD2jVabdiSkHd5VO/F4(B`%#hgk&)R(eR?LnM5P9W6Lv$8]ndVN@*VXhrIBW/8$9x#Untcl2^4[j#eVfq]92)7K,Y:7NF[?t;<J:M/9i%S5%SA.Gkj1iHNl=Xsb7(RZ%ryl0TRmIk^ob_:3$bAv=nGZE4X1b/dwoOMBu2*jbCAQr*hv`u=x[<[5k/7UDQMJFW[M_3STk/7Y8$c9k5XSNMG%&4Q*#QbLl=6h<FVnGY*7SZ.P5MYNF-_?T*OCxSecH:gd%HLAJoRHvutWedCeLD/eXoq>bF5h_C9`wxp4[`5]j@qeQx5HUjLW)&I6A*$w+pCXJOkgSRe4Qm#%j/(%j&$8s)4]I&39]EnLjxGP+kexXJ.<g(uq&(/AqPrL`/v3._:(fwPWF::#sq;Z8=ZK(pW2:DY7TZ)]cS7pBV6dBQWssy;.W;Lr5s83gk61b(8lr?6u0v$I?2Uce@vewX:_=xwq;<AKo&OW>`t4XOZQ`=99fgL:;Z8RUN4o_T5G4m_67^:)OE8EEG<Kw4&3bxpEO0%Y7Sf`BLh%)IArwLeY3EWMc[f*VLxf<a(g;$w0>S1@Kh//dNol5[roe#KamKnQi/:)%=Kkl>cSP-;P+P,/e+ElrK3]3C7Rif)2HlW&KZ4,$U<]?`fs$8;2$Lp1q27t$UJ`#_o(QQdH2/T<O6J>9J8b=M]n759p;R#3pZ+5B>MSeed=H;CZ8@y.=:xp(fQDVr%=cIEZ[<nsekYUM-=d41?GdgtHoLiq=Ec;4@BG.(>68UhO]*SS40(m@HYP(7X,DRMmUrc0W+G-QfAbp*1R+XA%-9mAGe+as-Z6Iek97N](dPE#1cnw=lHY->SXmHV@&ZnR.i.,q6E8/B5jyO;g8(v%N(/+7(vDOV+DxP6GVx4&I67<&I;/Z(tAAo25&-,a]&hapMiWl7_49l39Y?iG(BYq8SFjoeaGo1Pe(=>u9N+&_]aHm,u%/jQ;8Z5$jn`g.W?c3Nr9f-?X%,TA2C#CxC:my%Wd3imFBRg*q?V6pG1gol]I3N]A5M#mXiacvv806k;VWSW_MeE7?of-9^*8R>GE*;Ik,$`/uwsg2=(:hrj$K.H=^tW&5lFy5";
+}
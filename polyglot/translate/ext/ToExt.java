@@ -0,0 +1,18 @@
+package polyglot.translate.ext;
+
+import polyglot.ast.Ext;
+import polyglot.ast.Node;
+import polyglot.translate.ExtensionRewriter;
+import polyglot.types.SemanticException;
+import polyglot.visit.NodeVisitor;
+
+public interface ToExt extends Ext {
+    Node toExt(ExtensionRewriter extensionRewriter) throws SemanticException;
+    
+    NodeVisitor toExtEnter(ExtensionRewriter extensionRewriter) throws SemanticException;
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1VTE-8*QJnaaF#)cA1VU(++4k_+9VdE9QHp4.MkQsIcU@c.kGExqHIF3C#91pI48J7,F1*1:%4sa$.Af?(6hPALGP2;r1XdiOD:-obD=5dBl@F#gIO;>74loQ`E6Qs`WB*/oS()Q3D`*$V#/buZB6)2=#txhX5C^^]x^7GU/0@7ld-q6g1%O^kCg-H0*eiAR^wr]+sqx.^@/P`,PWaAguP@yDCDLy4JusRu>#^sY2;P8muux$QIhhBe8ZRAkAl9F.30R6`Auu,?2B,73v_OC/AVM=s<f]6J<U;ONUMvt=*/H8Dkw_P.R/X/2EY^j0]AYL#$thQL8cylUEvG:tPA(mLd42FFOV_Nl0<Mn&)N+VOl:s2-?l^@H9*d7<#i0un-&6[46My9,Q=[(d`ng6SAbn[>M3hB$v2&&7@E-$deZ5HUM3wRN#x61/%(HqThY;+`s7=/=1Q1RuUmunO$kVl(*:vG3uS-KI*5-JEVM$[^@7?mdsv@J#6J<v0K;eMZ,D;f%/y^TYg1+bT7U=Z:]-F/E)ICl,Zujpb=*x`M?&u5.K,0D%.VLV*teoI+0vaRS@`@ZY;j8[u>TM4Gu$9s:bmxs6mfw(>B&y5F.?_5D4AQhWiP;/F6EJ5[lW38;0jf_23a:Q8+1Tgpi;9%Ul#b)@cU](t.s/cT4K9QJI#B^8&vrY?-9&$CLR[XTk&cvutP+GWbuD5PA7C%vD^vfvP=c`]lx)1^D7]rYRkCK-r>dSk?x,cJ>.]l1_`tZcW]l?nrEjs(eW1AC-Z]A1Y4Hd9Y>O6?J*ExH,Bw4WVtxR@]mwTuiW.e0G1X_.j&,4)uL&M#)-/6%UU(=DAUS<@BaBL,Ub0XeJOspa.C4OAuD=qe4,Hm+/wZ/]t[%+mu]JIMK65p;WD5+RRQ&c[xpVM=4kuZg#6px([Qy%ht5`Gkj%N$e`xcT.JGMehmA#7dwxE(#Cl-Z0PL-$77_=5c9x_ch2hET(%dqZBrEcyTMO`YIqgpILW_e?c3kv.L&k:1XA>1Q0s6+0Bbs]ZOfj9Z8Ive>oOELABF$4ddMZ@]Q;mRxjd5Tk>$?`qND^aQr/5$:Yk.&y@QpdjUQf<.-?Dn0PCc*$MY1K:qG)/yc$D7HEKuHT-X=BtT]nt^IO-Qn6w.xy.f:5).knd[6%Y`(INX7`ByyA5e[R[xcH.Wvp6dKE&VcUxGyWeDqHHrgDv4J1U.@)V,i^d[U66N_KO?Gs>^b3epp0=vss8da5CeUDkI#-gqqMT<_RUG`#>lT*0bJMf?(UY@VMT86@Md]Q/XJJjUN_bAUJ1Y=c7hDfR$itS`8Qal_P:?r5`m5Y/N^UmK<)_(ac]ik;7mrXWqq@WseaC+?1)sov6e1rPIZE<%u>+<ZN-WXv6&jHkqpLVeSw=HrgmABd`e^O1kn+57e7]uBjx]*2s^`QhS&s(*2(R,abZ33TSJ]p=og#rj,h+d(`VCfP@-1LYT0LO6liI6hcBxYj6V7QJdCr-6teC$A8QRIuAL8%R[(C3vr2U<$>O7&u3O>O6D?W`3@gbYK6n5fbCFqH^W(,1#17gOAIW1<5^rgT)]3,fWOA2XNFG2fc,6Z6p(:3Fn^3olK>qd5V?C;sU$:,n2%xB656kNlH:pC,;3KZwa[:r[k4UGsFp9P;3%#2qZOXNuC/F>YWBk(a*sq-^L.u8tIwjIpjra[W=pP[:i2ic*(Iae2iHJBp92nUl?.)M.ud34T_N&f[i@pIW]*n3bqrR2uGF=b`;c-5EOHkMSRLeW=N:;smBM(q5Go_?#,C@w7s0?gPK0Dsk;c.4#1h4ju`X59s=Aa5eOWes09$7cdG6D<F2u#i](No@=3bY@c8StFWgt,+@J5pP@:fmSjbOO[A*@i5CBuCbrfnCm_(,F3;YKjUL?)C><uJriy5gxh0R27YFqN8+.Oq>/8Y,5qej^@Fpl](?9[DhN8$]#pn?;KWa>Z5Ex-`DVQuw=8;hF0skdgp%xjk*#%t=RE#6(x+kvMK7*RIMWbok,8?0b,YE>r_X:E=gjt4o/6@40&i@=ULx#7VCGys=799@c9Ho)&(C@@+7xx;yb.)Nk.@]g)TqRElP#8Uj*;JSA4OBl61vZLj";
+}
@@ -0,0 +1,10 @@
+package polyglot.types;
+
+public interface AccessControlResolver extends Resolver {
+    public Named find(String name, ClassType accessor) throws SemanticException;
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1Syc.-*QJy9a8A$r&fM$c/-xYORGvud)ZHW_S]LnnY9,A5@L(ymo(s;$q-*J52:$/R/Yin[Q1X&oL@d=I.y*b]c=7l[$Fq&/lCfuXLLNTmBl@D>w-r[,J*CY3V:Nt;6WtJEs6a<7VD1Io-*v31+0eu/2N)._,>ZXx:gi*M6UMo+QF0^,<WR;_67mTPZKGJVw-nI(I?nFGXO[Ec<lVDy@Mhqy-2frMKCkk1[4f&:-+cB5vXb]`D]q7T&/cra&4b@j[#Fy0MhR82.X3I:SU@_i.v,jYCuLY7:l3<.o</)&$>5xnFW-kPqK&^Q1YO1bDo9),)s0sg(mG14I.Sx>Fn3e4giud>CRO*g,kW5PNO`Yh3Oru_(Byvre@.(9]jqtx=95S9LB^UXQ<PT`+qJy*<+/[-oVZA/T#+tg0jMRgDnZ(osQa+e_]c+72dH.e4,VXQLsUtqe50BlX<4VSkPi2D[A?-vRiQeH]^,]x<R6jqLOeaG[w`d$@N@8RYFl;;;wC-rEpqo-ZDy$@RlvjqM_HVEcF=[#UVx[5k;?U,6qQrR_23&Dkf%5#?N<?_;[jTj;iRR.R]<?Tr_XK_p/74BgR>=sIj*31bEX+^KucI2d?:xVnxfPo==wAo30=a>#pUiwC_K8toCY3+G7D<,hRbyGDsPTQhtyB?7%_/]S8,(L1s>6GkQ#a5L_W=LvM3v-l,TH+]P%.uV*j.;sbKNl-LZcD,F3M+/g$U-Ux6`=h)d4FH&m$OS9mc/lJ:qVZT6S?8K3EccG(Fm6kdQ$<cR^E]-PGBuBLl88Tr^w,ZphE^6o^Ef0_Z%FhO^PaKhMu0U%4/tf#okrkC%_6F;^$X@Av+_T1J)cZ+E0+2_eHAH`HD]bo1>+06v@b]#Y.=Oo[`#-=gE+Io4_r&ERO9vK.:l=ev6.eK9:0%YTSM239e[Mc4J8WU0D=Qb1MVmh#4&%#AUFB7(kum8p$8VGacT3@X-1_)E$(p#mW>?A?8d*6i>+L+.y/j-wRO1iemN^Z]IFhILxSrwpy7e(1RMI??d9e-)psFFC)&,&OSqG+@sn/fSiL2oHGAw:yP)(EnC(#qi7;=`rP+gR<FFBTOE(Iu:$_5w$oO/Mp5=E<:hrR7F=#Se0mrX,-,t[:Hw<DF.Xs0U(7qROQUjEEE9I7LY9X<lq;=BhGsj$7v9@F-8ggmZ,)pHDR2Yj/u602AsY^Le,AP$-9o$Ehq6SP?*X]C$_S(EEHP^#V=9K:^e-dQBOHWkZ$c9hBmo37%W%nxo+6s*Q$5]DL[Jag)15K*Ie&Rmw3+<54(.$fUV$X9ESq(P(quT`>V$YI0x,W$E>2at050KvpG2#r<SdRYKbUROvfiJVvSg+`2?(ZZITG2?TYJ_kPPv=;Zc)>0^y.6s?[UH)o]1&2T1]Zhd3DGvb9i,sq]PG+JM(F5FiaB/`@PhkhB]+$muPlsaG$#;uo7)vaE8GGSii:duE9V:2a(,1*WLhYkNZGMI/q1A5F(Lk__08Lgwyax[9(5F3aFCGe_cG6?(5rKGD*7_UQ8Z+9<t3=3FyNu?nH#%])ASA)j0h*b)U/;(rRaj%-Nj$wsEATtp$^##5SX>jstlvX0hb[M1J(/C3[[^-17,uCxXma+f<jIXdmc#;xI#G%Kv<bM7FK=qX?;eYi7JQ`D+uwjYgA8;B-*cTZLaD+UJ-)`yb_1r[PR%l#MkIxi_<VB7#$/Zgu>-nvO#9HNRC=]xCZuwA*8)N2%XRmZ[R^LDZL5k2.*Mv6N?t&6RAQJ1o_l27.iD,Yq#,A[SS#%T*m(h**YrhShlNQXVqpE-XZJoVWiI*PB_?^x]A+KELTOk;N2lTIR2Tk1p(aRX/CaUl^NQ^xsS%VHehi9;#F=G1`mGV]:-s$wGf1DAhsa.?bg7f;IWYV<+T6FROY&o]<Id8d%qFjMA$(TvH86PYy`=qbUZo3*S0#i4Tm6Ca-Ee(]8b2etmBd_ReU1*0.CkS`nohJ@&<+*wY>Xw[f:oJk#KAGj6pBmR7";
+}
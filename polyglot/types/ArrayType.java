@@ -0,0 +1,20 @@
+package polyglot.types;
+
+public interface ArrayType extends ReferenceType {
+    Type base();
+    
+    ArrayType base(Type base);
+    
+    Type ultimateBase();
+    
+    FieldInstance lengthField();
+    
+    MethodInstance cloneMethod();
+    
+    int dims();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_5?Xs*QRuut.I&R&Qcsr.@^8h%_jCM1VZTB_b;vM@J99ko)%A.q-(3W_X$f^d$:da$MKibhX-TKH+,+<1)S#S.>ff%rRdveK*9Pvp79oplRH5hk&P*1k%R4Il]5KiaDQDYfW5t_o`1a0eyev`T57(4uU7UBKyy;X&x#h[;L-jX.y_Qt3N0bP_ru5nw/YPbcBI;4lP&mpX;Vg,;TFdEd,/S^.tOp[^iBkoOh@q+Bt#isv_@(ELqAg)Ap_W@Wm.m*OtT$H+Dxx$W?qL^JJ$tfTUO9S$5lra53S]Ne=km*Uc_UQZ(wNoO67NCeH5D0M6oX_lB92fnKxvZFxYRQdwC*:b78DDiu2-H=nw8*Tax:fQZ>eO65BvG9uDUsIMH1YP=hOl*kjm9X1`XV$yxOJZ8x*K*PS;c^*H9FXGlSXUB&HP$@EW^*v`1imi;[(Px.#[RJrQRip%$@>s3pm(Nb9;bqK4_#j?`Mt1F68hKoESAN6/A##)v;)RRF;L;q7yC3(.5_^hyHn9viWY$@]%UPtp]1(5o9>8V.?&fe*-IDo$^,9Xq7#mU^T%co^F;PY0`$EOxUD3qUnqa<Z<H3s$VJZI+s)V2r509VU&.k#.;X+aw?0@]<8bfN,Bu4*;,#(tlH5LVhsC?F(Rrvax$fjo*:k7V1=8iGcNc:Xcr,M]qAC>NLlZ^e.Z0Y5S@bYih,PiQdMY,FgQp)3MB[W1[x7r$MAahXMvY&n=FQLZ,g&APxqDA9:Q&LOUVCOO@)PY/d@AASRM$0T#tif5l`.OG?Nf*][Gnopd-)?O<Of+1&yN_jh(ccjX%3f%=n#@e@L[fBNv+f91m[.c^SIP[V_Y3^Ij711nRf^0NZv0lu-AxrFkHv9J<P9Y.3uH8pvejRTUSimaX?HXVr_oMP(l,NcduqxF)=pDk_I=x3r#uOUumPp2l>tY/8BDOSa9sl^JAB`NYZ+L*qFa48.oVRl`p4%<O<YWdyG3d()rwc=aBN@Ra0V$brK-6C[6kY6MUiff&Nes4GIC%yuu`*yBQs)L+U87nWid1^ScxnW/#+bqi-umqure8bMYj&jxdd$=acLyg6$K$wV)It,E0u1<b9;2TraIU7>_#y4j4<u*D9HH.M-dgbaU):IGmVnDC6p[`wWyG.V5Ju<`D<5PVh*52RKG,6Z:A[@Z%ZcrQ@.Acj7:X7vHX<5e?XHDJsIagu@B:HbGvS#)QC51PLZ%N*ipYVH44V7^r5A2KtM)UVcJZ>3pwWUFL;D*b)l*42kPOW.[hO_^t:d9R(B9Tp*<YV;X>?QeMQK5/;r*@+H.m9p2Hn-#:+Ah[I9BTaPuwb,FY5)4H_jgg*OWQ%F.d=J7PeO3HPqD?Y4E:JZ^My6kS]4sFd=qWLY7BAEuITYWbn]v4=ffK.AOQCQQa]GC^F(^g+R7k4R6BT`o9mr3=T$L]-x#j#Z4/emZ=q+(%NXAXl9D:>.5s^mOmoKd>^%hEDtli(PoJ:.mBu09no)3bjg1v5>6/$pc#=2Q+:;:Z]>yVU&nl3-TkOK3Nvv#L<K=B*qtZ/7w[;y,Ec1`.xLUgYQy>1Tl%W1hf_XL2^*tUObex0[8`.R+ga9D#qg&,;,>(XUw2t7lAPVc&b@f#`bRIuj*8u(^ANy/iV60b]s.NlM9S1DqiKt3n>u1e#jC)G*Os`HJvY.Rd(=/^Q=2x.^yo)b*ae-xjw9OV0Kxdp`>i=hOc8CX-r.2q9Q%K0&#hVd$ve9]bATLd2ZYM#9,x2$uuZ2`.883YG>q;d,yKd$#=Awiq5@NcA$6TFG1,4*SR89)Rg_Xa%vHe$45>k0w(/Sh#4SClkYXQv*alcs1UfNV]L<.gJG+D>)YR_49xRb`MW.`pr]@/LDEyQM**o/d<t+=`9g5ZDG-B4Cda,uJj&W*?%ZeDJPvm?R9?1%xQFDqs%OT0=uK7(borKHe+$57]vOiiN;^x0H%w34s%r1R38_.<.bOvSl..o57Vr,eap^SZGPg1NG/^q1P,h)IQ=vGw2qjvj$hL%hOLTG9_3EKaKoTJ=9C0HqTb7Vh^j4Z5of_`cUD(svER4DO`TG/pZ7/(3&vKQi`cqanHKV/*X>n;M2R+?18+aWH7CVkbn$^6kpYmT-PUrp0,km1d,_/L#RsG9CULXxl/,mGiG[4ZJ@6tH,198)K>fLmgn7vk:P<2ue(4h8tm)$BG<0rGAq12)*shtisiXA>0KoZv.]pPWsP+^<gfd4rJmvhmHMV3,ZV_uoZ;hu:;heHY-F8?(TsFj[DXc/vaC_8f>`o4]30+XH5D<tWHLps>f?`+Wjr5Q;?1rrPbrhb;f;ajFLy89u2o";
+}
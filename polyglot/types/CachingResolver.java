@@ -0,0 +1,237 @@
+package polyglot.types;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import polyglot.main.Report;
+import polyglot.util.CollectionUtil;
+import polyglot.util.Copy;
+import polyglot.util.InternalCompilerError;
+
+public class CachingResolver implements Resolver, Copy<CachingResolver> {
+    public static final int DEFAULT_NOT_FOUND_LIMIT = 1024;
+    protected Resolver inner;
+    private Map<String,CachedResult> cache;
+    private boolean cacheNotFound;
+    private int notFoundLimit;
+    private Map<String,CachedResult.Error> notFound;
+    private Counters counters;
+    private CachingResolver base;
+    public static class Counters {
+        protected final AtomicLong hits = new AtomicLong();
+        protected final AtomicLong negativeHits = new AtomicLong();
+        protected final AtomicLong misses = new AtomicLong();
+        protected final AtomicLong evictions = new AtomicLong();
+        protected final AtomicLong loadTime = new AtomicLong();
+        
+        public long hits() { return hits.get(); }
+        
+        public long negativeHits() { return negativeHits.get(); }
+        
+        public long misses() { return misses.get(); }
+        
+        public long evictions() { return evictions.get(); }
+        
+        public long loadTime() { return loadTime.get(); }
+        
+        @Override
+        public String toString() {
+            return hits() + " hits, " + negativeHits() + " negative hits, " + misses() + " misses, " + evictions() + " evictions, " + loadTime() / 1000000 + " ms loading";
+        }
+        
+        public Counters() { super(); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1792341125114L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Y)7)g*^]CeFrHtJV;K)&2j7_%C$UiU(B[kD$HXyXVPUb]^#*-,[V=pGNx^?iq_V`fHA.I>=s/D%6_qLUSsrC$Oh5o<G8?N@G6Wg**mL73UV$%lM#C>l>T2-S1Z.Hw^f-_kJ?WlnhdkL;UM8mpgbTu@VZnwS`RWW_9U2r^.yL4a%QWc9J$DDxXew3a@6uGIOvo9Zs]a@F`Iy6Z+K80N?Zy*1R@Y.`:=gRe?8qNZ(<7LHP,]j*XPYf`,5uS9(k^^64wL=.,RFpd)kvWEZ2QUSG)2oa986R[H]fFRg:5+c<X3aOO,AQ^Q+>$#;NbftU]b>f^JsR-*9JF2Rq4wB#266.89.%mnJ^lS^e0)Xo9Y$[7nk8Q8%Y)k)LDy5]fbr:7#KDtC&?pVUD0^lZ^2*w$DN>jF8+,+.7Y^*T9rWNN>BPN:POHPIhg>F(a5.ds3$/@?Mm5sVihdsEAqP<?,5-J;w9M9#nbE?^F5H:n%C?K.W^,#>Cski>OG>@)vdtgCu<1iK6f;hF5)U5>,Swg]t0wdZD29>&h,%LR9Pjc#c^5<5#m+PvQ)Fej=#k**Ou<x/Ee#1b%k&41h,_V*OrGgT^8Z-Y3`g#Ao]cEuy8Z=165&Es=5MMQ>W$F>P/Ns(s%vq1R&cb1p]JA)VdwB&SHQ#TluSjFR^<[QB.N0DlNNib9H;,gkXvf^9Dg4r?6QKdk[]JNS^piZ^i,.7h*q`r&Tf54,dSiG6gDC:hV9f7ltkWSCw/q8yT-(9GAw0>vF3vX:3OXUKlGc9BUo/9qnIa;k>=?7(XpNe#KJ1XKTct9#8TeTPIBMns:Y;;NdU91]Yi7;^PNr0HtDKVbCah5=3GREbOL+1b=.,D=tV9>;=NbHA;Ajrqel:(`ofe2^SoX:eoC=>3:lV,?CN.7=lPg[Upeu($C&.etJ*]P/Z^3G,adQag83Y[5U7Xp&#w78%#elQG[2K8c2@3&sb+@#$+ksWe78m^IRq`jGa;uPrs)BJYT/wTX]Z9Sue]57-g`vc4WlTeqq:Q=RJ2rN)6>]fih3_XD)/wf/4wa8SS#>O9&j_dM(uR?TIMm@o+p?2ke*=A2.9d?PWvE=Fh4tQSaKy+ISa+XcpH7hOq82QBL7$v0Q_cZp?:_0uenSV8j3J.TMaZ?_yf%],]Ukkxoa1[$hA3tC*j[SP94jkCQ+ov3RX.=$noKpsM>J0y6lD-]MoS1*(R;kWRQcpm+o2tERN&8SgwOABM0cllIo[dywQ_6l[@[AbK))[1Sta3b2<9NAW*$28*K/fAQdvLN@0bclM5I#wk*3dmV-;f[Vhn73QnTN2j2B=wc7ot-uON.[MIF@Mo>CvwCVvnkGmG]>7BVclh`6Uv>-?,;Ev:K4Ngavr8-2$CSCE->urCfmK1`X$p_9cELxfI;8a9Yuv5`OJW:;dN5GtgSG6$N8bsb`Osj485v*hN)+4^qJq(ZHl5upmi`44BWhmU,dNeglOdU`tPQ<73xo^;#g8?$@?5$X]USVuZM=DZ(1OO?.;&].3efoiVc?w`Svw.&_Q4&?:9#s#-^a;vdsE`EpE<WTw9CocvX4MdBsxBO?BaeEr=5fIm<Dd1NpmX0-s**YGrKOm1aw>IXHV-HpP-WIfI6+m5@7N_6;r*;qmKgOeLmKwXIGhJrwoFxv8(X0oQ^U68QGQ9`3K2e0;yK)#Wm9Z7i,=?H/IkC.@V?Y?PHNe(4&xq/DhyD*%TBWWUyh^KdLSJ0yL,*^b+Pln7d+YEXry5lqeWA1wx^%ON`VK_O<coGVaus?w2k2j]OH*K.wn&t$Xp_:dw_KD)*FHPT1tQ1A$,6Rx[2)<L19xMt7gK4N&@f3rXa(EF@.R[fb_6hR=%@Zc%goXq9VEZj6?=)g;ac_C2)o5pjKYJmesQpPwFO@KP_05e627u$a+#kCChod$HnCpaMMQWh2NHD&iW][:Tqs(/OQAm>qYc]k&cib9G0EvaB8FP:qW@>a^jF1HR;ZBOLU8SF&Tg::c$ENW#$tmYuhxmB#nVjr-<jkqBMH;b)OabE$2r1GXVc-ZgCk2C_Hu#2ZgO#2]TwC(Ej?42.PERv>cxvf5H74EqU.#.r.dt#,KOEDUFtNZ,Fpc;#X/HWOccYsJem[w6gbIs*52IMCwE+D%FAn$<dVm=h&?;/vR,nT(HBea%X([N22*C3pVa5%DKFg3sIF0C]n8BkLWyR:)Z4[l#18QP%<,l?6]M_<i84;>eay6WleU:>GC,mwPBsiT>%3nT*?GvCaFaTkIy#6/g[AGBo9DW7BFR`%Ug^T?9RPAE)>:fp$?^*-_P1CwB#ll^[STB?t2tU2A,;D<A0ApJ>[LLJ.:MO:K0;^b>j*uYMBur]v5Lk=j6)o6X,E]R:u&dUs%u(td.L+TTqpqGCt>BF[.v_/goQb3&/fd[2s/kVJ4fP]RyVj>.GTuBX9=l4DnG3i(=/o;Ir25Kx2#kbQwZM_q8vb:[V#uT>+9rY,n-).+@Rqtyp8U`1^ZrrV[7Hg-*w+UWRPa5S>UfX,Yb&Shl$_#jefM0HUM0V5$]^@-$UNNZRLqPtFcv<*]HlE.@NlQgKEMc@jVaN2<))dqO4LS?b.LsaxIIqRV=7#r:qb=I>eFQ9T^k*Do`2hu,SEO]K;BeM`+I)WpG$q7_]qQR*3ZWNxRAy[ruX,QM9)cC1iev@^d?.cF1]dZaCnLV-.pYd?PZ)7*Pm1-#MG<;_1>$yXOrs`9d*@CUR1`?:ETd^]6K`Ia&D@oh*n1r8sT@ajPe:XM&ILMK+S35)KR5j#C(,.lFc&y/hgN]8kZjLy`WX>iOvxU/KCe3k:0N&M;^Bm_eVf*FpZKIivS[#nXSx<YY^pas9<U%pTq,IKhfcL<>+.+F**8wG-Ue7[_F4fcpi;2?bQspk+B:H]G88C>R=KqZ<oF9ZN<83C$NlW1rmlySQJov-T.V=0";
+    }
+    
+    protected static class CachedResult {
+        protected static final class Success extends CachedResult {
+            final Named named;
+            
+            Success(Named named) {
+                super();
+                this.named = named;
+            }
+            
+            @Override
+            public String toString() {
+                return named.toString();
+            }
+            
+            public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+            public static final long jlc$SourceLastModified$jl7 = 1792341125114L;
+            public static final String jlc$ClassType$jl7 =
+              "!1Syl:0*QJnaa8A%DTO>6FYgLN,2?Ev&&7,M+)^FF#TeZWepGk-*UFlo8jtT=52qVj7Rv2Hj9mj&,8#f/4MOHsr3My@QBu?#KUy%*6*lU@O4rsmml]Jssl7icoJCt;.oP41+vT_B:=AVDfO8q&cZo?eY?f_P*Ep)bB4i.vmd2+Qk2IFKk9/^iD,f,O,se@N/cN]Gl+pDJr1%GaGX;Vg,;TFa]d,/T79un;[785-J^tCS:]q%*drL4aGJ[@3#<-1;?XLrEBCFq*X+^RCAVCaAAn_x-S/filx[`;kLiFa[f9Cj:KEddC=X34iL,Y2sb4@RMq#$6E,`L[>Rf%sf3IFL4@g6wHsN,#2C5I^LT9N*3w<4jc<:j[rfFq(5REt*P_a#7nDP6taa&9dnlh6XA=X]S>dZ`O>;$o2H-V3]DaQ+1t*Yno7lMa7O#$NOdbJX`NnXD`)VS7<_86r<8BQ/W8uOE)lPH+n)<Mc5Kocmg6DiHJP*C^6M_#ldcg0BPi&_RS?6<Y??upx#4.dh@[=1A)eKX4UhOPZyTJf)[XqC5NQ?L^#IkHs%nn;?vh:3JWMEtv3dl65Ov]1KU,Jg0JJMJ=>mQRVbUD9$b.cMSu.vEdkt@VO@Rs*iDJt(geSRtE>04mC0w#>w)c*_s]4y+v*f/7E.VFFOCPbE]VP)Wb+l:j)o%4TpEY-F1Ub`7gwk`JB^UO@Xgn#Zel2FdtF`:(D/iqu^RJD9otbn/gJd4(94C*iBkUH9wmV&X49k9(WK4>^*GP=WPm<u;1(+ea5F,4gnn%.s>UlsW09ZS3]t[h&PWbK>[MjBhmn47iL]*/r70CQZwG2j@S&kqfunJfqT]iH&mux6-=%?d+pf;hHHvcg<moMWmv>u6fF%/,$<R_Yp5N`/#VBc@22%[*64-o,J8J;@ni,aYfEs/7ty48k0h)&>%djno:[Kpp*W:PG#S_d0o+M$$RQc/a<0F@]o.6FCG>QpG$B@exPER#94h6[7_bu4Mc?ISp4rnIe/KteTv+(D)adgFvOW+Z[lWadZWv7lUS#[B3K_mfQu[B/j2KKEZA1Pv4D?ob.=X1)39n3^8g0Q%@gl6tj*f0qK0w-)mPB0XRv@2dl7>KIY^SDFt$<PAxK8exFeioI76m)j&qO5AZ1[oc96Qgq3[J.G#jce.1B@ErE,E4)r@FL#LPl;=s*3]*wGq*%GNZ#TRgAc+3Z2)dgV:9*OcUuJ%Ar&DnNUloS;(Q(pIHBtE,yu-<aBp=35U]v:cCa/*BfQyEkH6UBa/%NUN?nCh1hdW4d#5bWIouThTcE6S@MBf$^qr^w%rS.4Mf2C$V75XmkH225B`WI>7Xc>HM66ilF=-q2YH^#2U@Q-33pI#v3tE.bB0E<n-K/VAD:/1Ddk_i9>7t4L-FFcoV7QgcaiKCah+K1@N]iN$9/tH-4HUaQp-8<NVird/hH#qIGtCE%&Q:lqFX]]dlA9@r))q=>nL^Ex[O7IZD)KPDU(QQHvgZ,hMc_&`VP-Fpr_m3d%s8R5ITtV1@Y$_ip)wNd88s-[o/Xt#`0AwV1PkZGBBmFk)8V91WZoQonC_CB/CvSwJg6%GJV>jV(h/^HfZ3KCX]uJWl0[L]br14xf])$PUjd(NW:2SHrycgA*jZ]=AS=f).i0k)gvCTiPfk0y(pW/-(DP;vPBq;*iudAu2%IV91AK^y9#-8StQCS@pe@b-_KZ1ceoA9C6=;n2q_8sG]RKR-(HmfsuyQk_HX1t2T[b,TlpSpk^lSDNcd_Qe0y=Cb@VD%*_=VZRp^x)&/gHHN:1u3Q1B*9^jZdQ-^dIax^CyU7X;W)?^7qtBW_@/faO0;v=Xw8gjp@@ptiO1Gf5nT]E;EU,Q2=bnlFap+I,[lA6om_RQ/&$E<K2-?qwevXoKT9vB:SJj(WxEm+]M@/%86E$Tf,Fp]mn[:lD)GLr,KUfocqK#rx%J&3?OguaJ?r+(fF56E#8-n+O`(AMMPYZt%*]CST/vtj0]_9M>rL7k:M?wUk?RM2PiPEMi,HPTG*Vtsp=$c+4y%mtN94sO4csb1E0toG`LAMhmAI5@R&wTqEb0J?a^qv@PPnXq[ftETXJn,V2:lePIx#Bfv6/n8.7XO@*e_?W,#CPV2Ph(<gPnb52hH*(yA:A&vUwJgN41[umL`@Sj.8<GGL-l3C<8nJvO@eoB(+tk9F>d@oC+V^$NZ$jSmf/2RFm$5A;6wM,2HGi1Pah_S@F28G2mihtua,JPKPMl#F#[s9JJELp.y%W`9/&I]hj$FXXBDKl9*r4^d`3+7Q;ZONyf$twvTZ.,.DdSaq`9.)7s3v<bgWaRXhV";
+        }
+        
+        protected static final class Error extends CachedResult {
+            final NoClassException exc;
+            
+            Error(NoClassException exc) {
+                super();
+                this.exc = exc;
+            }
+            
+            @Override
+            public String toString() {
+                return exc.toString();
+            }
+            
+            public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+            public static final long jlc$SourceLastModified$jl7 = 1792341125114L;
+            public static final String jlc$ClassType$jl7 =
+              "!1SymEP*Odc1a@0?(<FK(M[nEEt.<jFo)2(s3WJDtw_(Z$v1Y94Tj1TIZ3#jZo0q3XK.AJ&082aoV8:j)-.Cep#BxxZ(c6iYhB`vJm<JDf*8@Bdftl$`jtQK$cHppVRgIiJslRHI$g1iIC=qns)&u$.-sYww4R[yH0>#8nQ+8)#^nfbR@U&tH`?R&;CO<]ZuoxOqJVg-y#.=<IE;BBPhcfDK;HxtHSI]j0r10yy)ZBg@<*P6/YUvOU1*N,L]<`/Cpt^6y?1(;8I)0mq1Bt`.g):@Nnc7lQ3fJ;D?&HSx**:+a*)l(<akgX??K*N89mnAlf>k;<`1ivqHH+Y`/>Ggiol@D.pmEsH`%CFeTK,Fi#S=6PJB20G.Q-voa)pom&`ue.*R[u2.P2$r:n@Zf9[@@@lqQiikT#Rt.&qi^4tkG,e?=)n@]&3m#hA^$gpI?3]OeuWHf%3cZ$bj?_b35U4mW)n+Spgaj*XG=0;e2a8S;V00]DipM7socl^sl)fWF0PuZeTd3Io89I@U4vn3vit%.Eo[WBp.UcON5N/G1(*)qQt^xQXxA<A%TSG13CAS3MuN=0;dRjifd,nqwN%VVD3#F_V1)<Uu6iFl%:[ciGRT?PSOP+UUI95ibJ4ir[.EHN-_(xEY5OWsG^4)&]PC.B-Lm`0qL0j^_o^NA?=A9I-Z1Ns08U=Q#ct5*r8t#gQ[81qBw<D#O]qhhH#`I`aORIW3<q^$P%UD?XG4_p$YRV66);<_([IR2kYI3ToBoO?A)%G+(bko->Wx4/P&Qy1Y3:GQc6>.*_nvbNLC#UJcnP<]CsCMj2JGO*H/$d);KocPVemb9ICslglD<IDp=,J8EMLO#D;41hlm@Nc<kwwiQu6M6]/-gLoMvg,bA96#2/#x8?5d^siNk?&47%kDiup66r;[0obc6pVxW><`<Uf,rsp=uFLYqc5J2.O#ZjUh0yRZ^+cImORKd$6ialFJ2UT<(Z?B(-sWupy`:k;:irjN[`9]5a$E_y[;/CJ6l@7>T$lnTNg(csDb=a]rT=$GHbH=JiOD4Xhux2o:`wm_C81,YC`?B%WS?^mbT`^)Gnj7u=)]MJV_poZxY6(gG=bhK#.VTmTK_/.b00*&CTVQPAY=1;(u/HDbZdXCruuYn+rlq1N&VikK%muQw%l@tDW2G$AXuxic+2nu&u:L;Gtl9$9sXCOcVNp$EXZqg::I[f1<7$Z@DUXbg_7Y]e>eQf>ual[=(g/i2PyZmN<M6fbShhgYX5]fwo-La=u]%aIe3%Rgh(LMp`-EM^:@<cbYUkD,O<&G)-(aMtA&C;[Sc.9acVT(pJjq.sb_9uae36BQ(TyZMAFiofw*mD/hbl[aNXUJ3G`xH7]-c[b/C2TS1,jH%-VIc-=6g1k7tlGyXkooY:1?ecg84EME[mfGRb$hq1Z?O)d;OO5UGws(^]4KDRk>qIli5S[hHNsJGy2Tu(/ND51pWy$b(t)0mNbr8eJ:YAFt_@1n6AOrZ%x@TMr?X&$4e5E?b(L$O_Na7/`ZJ%Vm)V[)8u*a--b$Xv7D$V,:3?c%qv=Q?Q>,C0#<7QZZcj,^ReSwFKW&=P0od<4cM_v1ZI8JgW&a2U]Uj80.qa.4R1`b-JZtkWGkDLMjt[2+Vy(y47MjiuXSm(dKqnRu#-WP.`A(Gnj]2)/8poq1M1?gStaHw^=l_:@R&BM;nb*xo6@vWqpb6yhcm]2A<)D=qu;<-GAm;PB7SBIhc)vNXUR=gnc@8DG]Q-qKWi#@#cCGNPF$KV,w/@&pY)16ZfAP^+/Bc1In8F:VAYRG)wDQ,5j?XTGw0Y(RipYu3of-X,g7FM02Aq=cI4*U&bqcgnr$SI0B4sDc:r7Ck?YcNP;v()mh#7h`E:KGQT95e-3dRIge,m56gBr,%3&JrBmEVDq,]8+Ph7_Ua8qYbKP_0;B9UKm+O0*KBdUSLWSwgpAg?/Mr^1(TdT@&5Yf7/u>5Nu7N%96TZ8[_y1VBDbj5h8t5Vo9$7geCpv-NVo-R,1l+OFns8uKSZK>qB+CECeWsUh(wqTa+[Ai<AXI9i/F/cKXVl8b?q&q&#.e,e%(5b+KdSVbbZ(YTq^]E+P+8WvW6UJ:y2::_yT<_qm?Niv1nhN@WQ2/:m,b24Y+NDlaqN8;4=?NB]g>&pra1`n&Av2sVD,6kt5)_$de<etTE^J7Go)[]2Dc[.ZX_AIJ8cmn&M?4PU_FuyQp=6Akm97-[qVe@KErNn`qL,g#yq^tW]2qp3bj$F&GMK[pZ#wCT.%wMNsA3]3[;a/>hoqE$[b2N-PHc@`M=T;umPvh+X,Q3u1G2$Z^9@Vp-^4%xjI:B4[VJm^";
+        }
+        
+        public CachedResult() { super(); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1792341125114L;
+        public static final String jlc$ClassType$jl7 =
+          "!1QH3;$*QK$OJPC%L_?2q6+1>kG23O>JPC1dI/KvZ-`Bp`N)lF;[gFI;6fk&Z3gL2SIMv/(.99_R<gqR[.>*;B)3=6[odI,Crd-7JbZ,76+Mi-/*gbHLZVV<)#DF)MmsD>7]u>;nrI^.o3TGovLiS5[50+dru]A@d/+=EC`4C%2R^d3GHP2Gc$av`R6FC+uSi.r8-/2^.&+p&0@j4e-@9%ERf:.Gbea`R[$+5RNQfbRVkXp)I.>a6nEl)4L<PQtRT>d8iT0Ga$DSYeSojuXq56UjJqh[q,kkgg$L8X^bK<.k?.@T40.)Rq/4TtNw>;r`hraBv+OA_p)_rcQc`UcvhmXwBZd5y`:;d1jJ7,.5:`$gcK@D2OeE^rRl:amiC:6[hVHY?VY*,X]w7F(n?kk@mMoJdkEJRPof]X1noH/4mXvlgQf:0HI]Fi%<I;b^sm%,.Csi7bW6B_y/WX]]hh-@K7j=f]mhT4N7nW9)tldP?F#&@qKK_oNVqeA+fd>^s]fKP+xJ>mc50xRkQFfX,$7KE/,r-G(]o3,8XLJ&`HMTg7QvFDNY-dOXM@rSc?4F+w%WWLh^sM7H`X.5;_hUSu*DObE*dd#cf_lQ`]Axi:#2wVQ36s]Ig7-.H=Y<jY204nj+wm7#rp-4psnJ4JK//1Tnf=-/60t1,$t4,L^-jDcQVGb?bo*vi*Z4JNLcLFWk;FOZW/JnJuSq6>-n`2L_Yi)8g0:@PTx7><[Zkp*.A&(H`wVF-/nFWv0tw.7W@x:Sl#O70:]@SoUMJ3$6((v8N?3=oW-R7lfa&g:Kc:NalKGeWByQv84p#,^aGZt]#VuY<S9+3b5#LCtTWifd`a121XyHf[?D0U6J(yw5iCX5W6[).Xp`oByxX;j@i)e>R4A1*]#b1B0c=;@/SS<Vp]vaA=xCj&4Xcmv(1.T99Z@GVp$nQ#MAXwkFa$=F$=U*k`14FA+g[_dfL7=Mm%AKBGfFBq^WB&BotQ@u9DxpB_[L9C9e8jN8qul]Uc,QZocOYoiWv8Cngd<M-%KchnslkS1HEAg:+ilEi^t??5f^onf_C%:EX7-.)1Hb+AERwP(cHhq1ye;(XZnoTYkEP>PSfI<QH=L6(C<k/O;2iflM:BG`g#KSFD[WM=VBoVj.khL1y3t=ZT+q]uW7&a-uTrB1IHo@D6qDPnQ=oQ,KMNrfl>eEFGI=>?DZFTKg6^.oDOG-J/R&u$jy)lyCjamtHwR(ml?JmAeD?Z_9r,f?Sf3mZ#mh+R_Sid$XQWqLoO%Y59hxL$g5V_b5$E:$&A+,&QwlH^/lFZPqn(D*?M3uy*OOekhBqnet]7l^FLlOX]++Uw]5#RFFS9`8*_MK@UOWg4QB%DvLaIJ-M%=b(icXeW]*s9p</LY`4kRO*5%w>cj/lnhKXM[Y7C-B#^Xp=<+s#^gcRit^FlYt_RNWimy,qYkbc7`x,31^CO+@$e=U=_DZt=YjRJtg:AUxs:Q(_<F.fMK^KHD=O*QAM;3n=[f)O67luYW<$s(`ZX)m#tyNsxLFHv9aJ5B0SJlaEpsEp5]y?dIZ,b0tl&#=0ittFydZQ,/eMoq>q_-o;S6[q1[K??jr_epQd3WIVZW+6sUgl<<pWXvCHrQ.<c>e1Q?aOu%L0s156gMj+HvmdJ]K)c:drtXW]=p.)M/Zqa*WW`y>:2c%=$D2SgiD3&[%b:8Eaer`I1.ql1&p>n(M+vnL7M3tHvVZD$HKu=];F8XV?x36g$[LiX2)w;rtuWb^[7?$6v/%.t/^1n2iK&v*)YKJ^9.*l+OkH>6iNbL4h1:j7&]4Q5tAJ>?CP/9pRp83`p(-hI@/fGHf2aew/n;mTT3SVP3RGTg<[JC6Y^klA-hDb[[p#QaEYaUidgV1kWHcQ(fWAq4_epO25#)sv4n*3FnbWlQbY-C#?";
+    }
+    
+    public CachingResolver(Resolver inner, boolean cacheNotFound) { this(inner, cacheNotFound, DEFAULT_NOT_FOUND_LIMIT); }
+    
+    public CachingResolver(Resolver inner, boolean cacheNotFound, int notFoundLimit) {
+        super();
+        this.inner = inner;
+        this.cacheNotFound = cacheNotFound;
+        this.notFoundLimit = notFoundLimit;
+        this.cache = new ConcurrentHashMap<>();
+        this.notFound = createNotFoundCache();
+        this.counters = new Counters();
+    }
+    
+    public CachingResolver(Resolver inner) { this(inner, true); }
+    
+    private Map<String,CachedResult.Error> createNotFoundCache() {
+        return new LinkedHashMap<String,CachedResult.Error>(16, 0.75F, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String,CachedResult.Error> eldest) {
+                if (size() > notFoundLimit) {
+                    counters.evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+    
+    public Counters counters() { return counters; }
+    
+    protected boolean shouldReport(int level) { return Report.should_report("sysresolver", level) && this instanceof SystemResolver || Report.should_report(TOPICS, level); }
+    
+    @Override
+    public CachingResolver copy() {
+        try {
+            CachingResolver r = (CachingResolver) super.clone();
+            r.cache = new ConcurrentHashMap<>();
+            r.notFound = r.createNotFoundCache();
+            r.base = this;
+            return r;
+        }
+        catch (CloneNotSupportedException e) { throw new InternalCompilerError("clone failed"); }
+    }
+    
+    public Resolver inner() { return this.inner; }
+    
+    @Override
+    public String toString() {
+        return "(cache " + inner.toString() + ")";
+    }
+    
+    protected Collection<CachedResult> cachedResults() {
+        if (base == null) return cache.values();
+        Map<String,CachedResult> results = new HashMap<>();
+        for (CachingResolver r = this; r != null; r = r.base) { for (Map.Entry<String,CachedResult> e : r.cache.entrySet()) { if (!results.containsKey(e.getKey())) results.put(e.getKey(), e.getValue()); } }
+        return results.values();
+    }
+    
+    private CachedResult cached(String name) {
+        for (CachingResolver r = this; r != null; r = r.base) {
+            CachedResult cached = r.cache.get(name);
+            if (cached != null) return cached;
+        }
+        return null;
+    }
+    
+    private CachedResult.Error cachedNotFound(String name) {
+        for (CachingResolver r = this; r != null; r = r.base) {
+            CachedResult.Error cached;
+            synchronized (r.notFound)  { cached = r.notFound.get(name); }
+            if (cached != null) return cached;
+        }
+        return null;
+    }
+    
+    @Override
+    public Named find(String name)
+          throws SemanticException {
+        if (shouldReport(2)) Report.report(2, "CachingResolver: find: " + name);
+        CachedResult cached = cached(name);
+        if (cached == null) {
+            cached = cachedNotFound(name);
+            if (cached != null) {
+                counters.negativeHits.incrementAndGet();
+                throw ((CachedResult.Error) cached).exc;
+            }
+        }
+        Named q = cached == null ? null : ((CachedResult.Success) cached).named;
+        if (q == null) {
+            if (shouldReport(3)) Report.report(3, "CachingResolver: not cached: " + name);
+            counters.misses.incrementAndGet();
+            long start = System.nanoTime();
+            try { q = inner.find(name); }
+            catch (NoClassException e) {
+                if (shouldReport(3)) {
+                    Report.report(3, "CachingResolver: " + e.getMessage());
+                    Report.report(3, "CachingResolver: installing " + name + "-> (not found) in resolver cache");
+                }
+                if (cacheNotFound && notFoundLimit > 0) { synchronized (notFound)  { notFound.put(name, new CachedResult.Error(e)); } }
+                throw e;
+            }
+            finally { counters.loadTime.addAndGet(System.nanoTime() - start); }
+            addNamed(name, q);
+            if (shouldReport(3)) Report.report(3, "CachingResolver: loaded: " + name);
+        } else {
+            counters.hits.incrementAndGet();
+            if (shouldReport(3)) Report.report(3, "CachingResolver: cached: " + name);
+        }
+        return q;
+    }
+    
+    public Named check(String name) {
+        CachedResult cached = cached(name);
+        if (!(cached instanceof CachedResult.Success)) return null;
+        return ((CachedResult.Success) cached).named;
+    }
+    
+    public void install(String name, Named q) {
+        if (shouldReport(3)) Report.report(3, "CachingResolver: installing " + name + "->" + q + " in resolver cache");
+        if (shouldReport(5)) new Exception().printStackTrace();
+        cache.put(name, new CachedResult.Success(q));
+        synchronized (notFound)  { notFound.remove(name); }
+    }
+    
+    public void addNamed(String name, Named q) throws SemanticException { install(name, q); }
+    
+    public void dump() {
+        Report.report(1, "Dumping " + this);
+        for (Map.Entry<String,CachedResult> e : cache.entrySet()) { Report.report(2, e.toString()); }
+        synchronized (notFound)  { for (Map.Entry<String,CachedResult.Error> e : notFound.entrySet()) { Report.report(2, e.toString()); } }
+        Report.report(1, "Lookups: " + counters);
+    }
+    
+    private static final Collection<String> TOPICS = CollectionUtil.list(Report.types, Report.resolver);
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792341125114L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5Qr+*`5qGO6wYw)3P##MUIW4Sq)Zgdiosh)qXVA)p>MNUHZDn$4+,/pxjhX@Pr#*vOj&@se*5Q7CPaYhCyqL2QtQZ_*r`k:B=jvv_@P7/LQ#3jU,PkV^m#$j=>:lsExwpr(TC/bDLBPfiaB6GIAbn?+8_#1oAshQWoWRn_I@kDwJnQ?uqN@&[25j,iF3-p(Kh&6>p`?oPS+E@9=jVB$EK=(S//d<4l4OPIM>nW-J:miHXr9EhjbA4E5^sBktO/;fYxYOkNQxXP^unZY.>*r/Zl^.Pp,lr57@V#/5mQ:qm;p.faR3:ZO^bthu)//*g8NHD#wqUOrN(^rm5$Ndc4i%.2pC3s`ncJvNxFC231Pb3Qx=_h?Q+>YIT6Y2T_)/9DK?7M_pOOP6ZXF9@9]R<ZA?jM*2?(aZ-S21I>Ha4C6;p7$/L?59@S]YZ=ZQESeUAh<-xEm1d24qAWsP<?_3b]Ep8oTS<F2:)fuV&@(S2?]Q>[_du=-.hY+160n^?)aTUD-o#f#GvDW?=?g3:y_mdgtAk9at$1l]KO@IXm:x`fyOP0*Y1sq`OAX+*yXSM3.L/XX6k7]3e.jmU66)30SS=ejOmDCSBoi5kUnR53Ddv_aNJRp4bF#1/T1hv?=-$X:@4x)cakvOPiGt5&Sl#+tF_Ro0f+NEI1Wy5sYKZ3Qyk.AV?LM]ASHIrp5fqVJNGC9,M=]G8v)hK/tP@47%kq?lt.eZCo.$a&BMZX[J_W4B4p:J5dwfysWJteRwcd$4b).a?dGGg/^I,Q,T)wvhtQS7XyAa.,jKruH=<14iHFg;p(v9PNsG3x@1_>1N;@la%s&9%ki9WL0(?&,K9<f_ZM&C``7DG`&jY+;(^jkeDnh>`qV.P<83w`Be**N8Q5m+48%&VkZlyJIKp70MRJ=);-]7*AP]lD;W`(C(6FtT1`4A1pp4DM=+YTaRHtH@QVWh8SJZak?rfA79rj]FQH##n9+#p3WE%YCNhvVtBiS5jls/R1c<8Snp[]`cN2?bBw9aX&3EpP@[o*Pw=F&XnPoXMtoJ0o,F0,y,&VV_04Wt,,^r+x*KkBt]hAgdhOJcm92Y8]qj(A(dkTFk?:6%q3WFWZubMw0Pp;2IR?m4R2dWDcf*sp:q)aa<167g4#jD2tM5S<U`<>d:gDFr$,PvH/3REQ5LcH=$g]VDR8J-&+uh78QhDkfajdfnfV+9j#.NgTCS/P-%W$<8V$8NEm0?I/AkB^7j7Nh[f2T>RL7S7qhLOvXM8IU3+3cI0Dfo+AG>?R3I?`o-uEML/n(/t=spPT/aVRCyAKTRv0#Fd0xY)U4#yGj%Dwxq9&=M6:js--:XJ5icyW)Sb7XNAJiBuw#ePGm=*8yetbItWhU#7I6lUQiQ_eg`d+PFbVofjJ[Y3VTK^IHO<Y]3[oaUdcLjVk5]fr+Kc5/MN(X9,*<QML^T?I$$%)`bMohh22Bw4.CI;7pCOp3Bc2DtiKkWTovtJP+0Tf6bHKTnk7#vJGa8LJTGW@E8fpeT/m1XJYO,7E;5WIFVGvNp4pR:.3IoG9YV:6b(dUCOf[N$#cYb?Hipo1PE-;bRa$*bQl5WlU%WI*YL:tp>fWEfmmqw%MZTM`iq4,:^f;jwkN5McZB24/JWdhZKci>5u^68s^oZvl<&]F;9@ftXm2Dp#OTE+i&j>J_lyS_K<YjvaC%h/hWm)-EI7_1ZaAu?3gDCPg-s9;W?li(jiB-(0gqgKXo4JO*<nKU7JpUr;eG%j4/+,,$or?iHq?byHGeY6clkkMi2L,1VtZ3_Gh/0bt?L&+6N&ccL#_$owv6DkDHy9r1:Sg_Myimq3B/$sf*Uft%*R)@bZF@YtBN%JR&Me>)GL]:9wM5NW9dfq)O6Oaq5L.YjYOF@vqr>,ZL,.kl>7OABACC)qY#O>xsc6`5@9^j3?#70ELp<T-=i3qO2,kYk>PnU0qUM#pxsfXo4w1obdSlrcLA,cc%NmHT<r^,cDorKtQ_+CN(t9cD](oSd7ms$1J`eNu9oMjL7chjoo`/fHbWYZ2P>:gBl[@d@3=1>pf3Kd]w[AS;6jHDp]m`[d4[SaDspo:be7/GXoYEmx1C-.X@s[t*yNBH3=-w3P^5&oBV/:>r=ER21G0f/jpn>/#<r8*Y>(o_#^8f1N%P,G8hg-Dwu%dIfymW]=^Y4vDj<-VBOoN*_Q[T+8t?-6T[`&l#5dYZQZdvq#gHAD*YAG3A2X#Lv>;T>2I9cX?u5P$JPC+flUiN$]3*2Y]Z=by9s&TnF@ZU(0%A)LN_CiqXCNh,IBNbA-#9lYuso?wn%QV-uS1fIHwiEo2m&+Ysp%I-N,Au%d+jgZ?#*.1VwatwIMsC4Hj0P)1?UYoB;`>anfVETpoU0&gwquh.X0^hP1ZEjeU(fR_ds,x2f$6@DCF_9M,AmPbZ>c[xPD(UkP8p@@,dUN9[<H0V1_M=MqX%j`q_D3(bDBtuh7WM>f]N77-hHZggp$Y>8O9Co3:G_`73t;86+N*;L+7-c1P,9L&^<]L7)Ra7bOrd<6/e+iDR,<>>M9T2PK>PevY3)q>*c`F2xnxrl?$m9aT+3l*bpl9msp(B//-:%hU)JPv^)mC_3.Z:IX?WbSA=xp>%TQ:pV[uFkXHa=J.L1SP-B;L>cel4Vk^XmQ3p#X5T?a6jpU4av9UMG&_dlNH6k11SO*Uw4D`2vQ[&u.dN=DG%cZL*M88>AC2(qmvO]3p1Uh4SVLk]QZKi&/nNCC@pi1C=KtVm+Nw^p->mM#hj00_m=-PyUN)vbOLso0fDaVS49A[[AlnKAfCYs;Na6ci]L*fDP4@hYch:pX#<ZW8wbP*$fU2PMEUK,FZRPPs70h%)7T)=t%Z6-;kde2ryNSS4n^`T<cQOg98fJq6BAH$k#>s6Z1>wG6y$(e(UcJ<3;Oi_AZxV%gP$UmUE1)8.`*Gd5cx+hTuc<V9F]+Ow;[j+SZBrP#b:(@Zq+I4Wo-r^>E?30>CI.b]IepvWVLtP@:_`)4r[nHo$2iaUKAQBDU1UWikhA)7*G^DEMs%E=f-$85[B1h7EUFM^EF$vv[:xT(^)IEqH(KVN0PRm8xZ2DP/3jE5:P8pw3vee>1,[cTm]B)C48r/[lY[<my_+5FxYFe0157PJM<j&R9g^VVheJQFQXwJ^OIn6H`gw._U&?[GHQ#0b*y.)#PukqkS.=99a-(L].#]0Jy*`H,b1@^[b:Q;O@;urW.6O-*Z@Y1^OC5s35(endo+f$7uBoYu<>Ikh1OW;pNTkFse)gT3KOBV/>7uiGOKO6O3I1c%N==]+E+#ep.:$KEQ=MM_K2ljP9Qp7)S1s%uZlnY3[d41VajOqImCqK^7S)r+VMv5juN^0i#Psk[_mJ./h@8Gl];WtD)U*0BmiH_o?Wit2Gn#qQmv]K4=XnoG>=9/ji/G*DgiQRq99E,PHZ?2csX6EZIlFgjR>CM6Ev?cYsgVevn:e,S^=5]m;CD48QZhHC4CJOZ*:%95Z*H*Q4pV`DBv<(U$Es^HOVi#1DeM8<>rors]+so(y-tTwEby>&N%34^L4kS`1#9Ut>J&cf(X(k(IHgMGK-0H>5#5uGVrY=Z*B/U#3hx^T+(6Z;>]%n2[C8gS-T&[&_9DYeS,(<5rC2[]P*_a9ne2W:d`8mKfRqBjZqXl_/a8[3Htu=S$Hhep2v>5^GMkCp+BkMgM*wj&n4;Vra]HdBx3xhjV;^+p6;n1:lsLWBLgOO+VA=>N[+=a?eU<OmRJm5iRM3No`TSe+Ft?aRP;KGBV^n-n8[_&`]/5rJVMe%>8TsOWf@3vU-Q7(J95p1eVrWCuA.f0(OrRF*anI,Pt,n/]&XRuyd`lFK01YgA$NHCOlU707SKr]y]^rR#kbqs`:QZB@xRVe?6kjqbNI5gS;dMX3Wuel6s(i7WBe@k5i8xSI^M[S_S(7D:WaNE3w3nQ?&3&o$8t4(3;6f@?+_-#jmFJ4@+fFYj4PcUaMM`0rTGofF`gk4dZbA:ex$hc9O`+HT&n#6#1E1$ByrqN,,jV-,:HJ-I[onI*.vh2AF99d>SGifK>?r*%P7-5W;+eCck/(jrAB^n+F-^1$WO0&ekaQg+KCOt)D^aU$TZ@rf?H]s/?E>EEAEuf)Lsdf?lh^YtY[9jI59^b8r2@470K6s(8m(Ss=^0<QP<xfPdZ[3sUQ@6Opc4CE]uvlWr2lVI*$j5;:?,ksgmk&-x.H=D1>+?83[4IFZBbDKFk7P(MSl-/e+x+8RdemI*.$tn%LKr`n+8%L,od8&D6vjuK7aa1QLIQk.pmv@J*AO>TjrmyY+wdVn@W6W6NZQ$*<?#>;Dl(E4w`.6Qp1_;*A$Svim>Dr)ZxYsDx-mecn[&V+rTvaEyifS`?Gguf#tX<`WfOPRQM>d6;U3i#lXGjj/re:FUh$TxHu-)HFqK7Fr%W(?K*0x@(p8JE++%Aes[M[iW(3mC>3=uALT[g.3nnt)gcL7MO4V9p/hrKoR4&QkP2I`jeD57:WDZ+IR*L*+*F^fCoN?)g.2u*_w*_i1X3k[S?D<2YH)VXNKUrH`8+B5Ypsr&)22vvZ";
+}
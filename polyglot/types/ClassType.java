@@ -0,0 +1,68 @@
+package polyglot.types;
+
+import java.util.List;
+import polyglot.util.Enum;
+import polyglot.util.SerialVersionUID;
+
+public interface ClassType extends Importable, ReferenceType, MemberInstance, Declaration {
+    public static class Kind extends Enum {
+        private static final long serialVersionUID = SerialVersionUID.generate();
+        
+        public Kind(String name) { super(name); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Nmd`@*Odc1a@0?(<FOV&AKwI&*[`/89tS:A;mb-_7SHH&P8SDjt^F5.Kf:MlAbL3g8_op;9)9>t$Vvtn.el:$4foC<XOJs++yiXC,%o5%/oPYs@><^=qfU?yB2bw>V[[srg5:IdkFv4<M^f_qZ^p=#SVHF4;eA4Z[r=+^1ei649V#PkYQ]_mcUhJbijqKC,@R`uL:&4Zru<nhT@]f^1Rue?W*5(k9GA[e_;y&1*(`W*NwsrR-+Zr*&D=k?_]H1Z5KJb+9:HZQWO)Z[%aOO_G)-nBfsu-R-f99qY][Bg,NORr:luG>*N*G1>9fp<YR4`0#G$YMw;3Y`gFHE`LJ2obnx,2^3-x@f^gYv0-uJ)M@0ZWO6ZbaumN/dFQNe/>hLeo`S[QHjAXFdP:p4jQm]b<2Q(2tl=v]AgRkOA,CU>C^8Oa41ZSHB#)gy+B_#@Ek;FAv(Mwc5vc=F-^?p>ge_OQP0OrO.Qc^HH:n=C2lSfQo/QnRhBgQ@6S+?0]&>XV+wf;>#oNf9ETfFfC3Zit<lR><8Q62..)^R4<[?n@B>%A*WF,FMks]q$.Jkc%O#X6WNl2h`:2l_u2@L*1_wk=O]]SljX00oUd(Ll@Ef6OMEa+x$0n)>19t0&3/kVcQ3s%d1]+Objj9BFfH<^y83D94_ARU`%*b:(f1QeB`Ixk3nQ<Jxe5D?UI8Qv#bfsu]0IB[_w9Z]=>/hGAL5%>wY5JHT?*Ag)JB/RCQ0F9pfgvA]wI_0o]m/.uoGe*+)&,:%lNLLP[MiJx@3Y^1aoOp(I8UL%3P(*dN4^*H`vo:A6H6nh>7$[0eFiJyC*=?S[9imIxh)S>+pG*Xg-4McA]FE>ov%MXnZ8]/Zut6LyRc/ladE>6u]u>[8p,&&-UWRiS:(%VZ(SqI1wZ+]r9[5,Y:Hc2+U>hm8m)Ap(aNVGi=*iP(_[birjilbdM&quO#y1**0@Br?Q6fd:TK[(b/f+b^<VEb7RAgPpH>I[,,ZaM413ZM(SQ42OVu=TrdBAaUQm]PP?kBwNvO7<L95LuHg0`rT:L>g?j6$[OFp`+*KHRdWSZGQo_Q%TU:L/Um4JVf(j#uLv^7)_V>9(%ygB-+x,y$[%.8;8m#_*gyKp7xh0cKZg,*c[i($NyiOgGU;1oT)WnH[F.A;@Pc<4ZEX$HR8NvDVCbmhPhJ1/hqr,S[YC3Z32*rZ1kLxJNH3ka%FJCfLwu)e7<<xD>9F$njJN;VNIme,ld2FGYbr-tAaR(B9cTk^$0S)[hqf-0csf_8E&F#GUyu_GN<i`xeuC]bfI8>jHe7K]3fItiNRwFfr,Crow7psvrn(ip?%UC(_jF7Ev``E3Nl_*LHD<+wAt]jc25C@$1S;f^U]M=.7h(rDARc)btf6k5WVoIc)Ls[4^^,=3sDLhVVI$lv,r0&7Du7k2rEsTicnP+rAO(xZa$NUN&h_E6:$jyWGWuC_rdcol/L?jE0g(nI_PnJ6ODH3R]EH8x0i@**GW/WOf?EZW$witlX)_0QlS4/?/YvB?Xf7+ru9VGM5LI^uqOH5B190(7K4hoB;=1*D#IhD-E6&;Y,iI?Tn22S(n/LpV;KYg_q+l,hK6+*mFa?U`%*Wx@JHvr(nT-jS-Z7q6P-tpi=OH2_?tcb5`r#a89j5JH8*E)>i+w9dcPrsBe@#BO@_25f[M6V]P#4k8(5yb:vTP1X`6[BMjQ1@Y-V_lsiBT1YTrvM;39(#=#t;XCr4<1Ha-CbAJW[9sQ@8;M,iZqFClWi)m`DTPZ,5&c)`,lVcNId;>=(_t^2loXA%]<Ho80ef1;X_@G_gQ=B(eA>q#DErc@%np6*g,RjvoRy2&<=)`tGjk:L(4B7fN0kU?`@dM.)*IigCGJF>W@$:Pn0R5shZ>(jEW&v8Wnn-HysmOkVPI:L)C;OsUgBF=Ne=v1tEn=TO$vvuOENQ2JkdZ%fe6SPgH>QZ:uBBk$v^s0KkK4m?LW]&j0g/9Xk*1bdkWMCeJ.C8d7KKf7.yOqVt&qn7$`U_E*0--u`fMe6N`&P/hd2hNq>i4#]eU;%%y@0Q=lCSpELZFc%-t%R.:tyV%dGQ#LZPb<[nW,B(0;+F1+nMmu9Y7hDuYG04T%hWm7`Z60k1V/iy*JbOCi?F.wC_5(K`l8$kPUy<up3XrZ0/>f$<O%XR+e#Z0mXp6fqh;Me.%Uucty#,4n,&y0_5@pr`y3>4?Hd$`YqF^JpuKw2?>epLNvv$rp-d>Bic5*J1GK>680Iq+i^q9AaI7NY";
+    }
+    
+    Kind TOP_LEVEL = new Kind("top-level");
+    Kind MEMBER = new Kind("member");
+    Kind LOCAL = new Kind("local");
+    Kind ANONYMOUS = new Kind("anonymous");
+    
+    Resolver resolver();
+    
+    Kind kind();
+    
+    boolean isTopLevel();
+    
+    @Deprecated
+    boolean isInner();
+    
+    boolean isNested();
+    
+    boolean isInnerClass();
+    
+    boolean isMember();
+    
+    boolean isLocal();
+    
+    boolean isAnonymous();
+    
+    boolean inStaticContext();
+    
+    List<? extends ConstructorInstance> constructors();
+    
+    List<? extends ClassType> memberClasses();
+    
+    ClassType memberClassNamed(String name);
+    
+    @Override
+    FieldInstance fieldNamed(String name);
+    
+    boolean isEnclosed(ClassType outer);
+    
+    boolean isEnclosedImpl(ClassType outer);
+    
+    boolean hasEnclosingInstance(ClassType encl);
+    
+    boolean hasEnclosingInstanceImpl(ClassType encl);
+    
+    ClassType outer();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<Csr-8vij7&1s4rPB$v;8+*RG(gA+.P;_=QgEq9v+yeXQF4:[tYysmb$tw&V<%3r9:R.1WVW&S$LPFp?2T5N&CUc1Y.&ZH7@[Re%4QaF2Kp4kZFm*PNquuJkuM3I.bH@CgH,7vlw]t=tZcM?.0LP0;TK`A6`h^$[JtkskN#R@5H$yB[9q7jZhd*wE[4U(2;Jk5036(.jGewb76&T_XlomG;x,Y8P+0%MG7q5xQqlR2iCN%#?4=-3ZMf.3QG&Q8>u.sV]ypCFfo,?WXg$cm.X374M=rei.oJZJMnKdDT>5Vb%]DRZJ)j3od+BCB/F/8#roZbgYQccEsT+0l9R#M+%wi&w,6^Xr]lSSF#SZA?G$:k7imgowF88BbX+)8-4+c<3RZhYrX;cU<@vob4<f->6QUKoj5)2`cJ)o3O;>#exF+e42i9vy@<K5OEFY&(=T7aXVTF5YRr7$.p0I?dw+jC//bgO,hF-Ty@l^:/P#igwhS$d5O<$09TS-)_t/<5^HTX=ytA.YL,<TyhSiNnsW,Mr-.Ry@6xC)E^[9M#-&,KO<ZBM`;<j:oSlS@E;?Rpk)hLc/s7?K=Ui)7]hfaFG=V<+Q-bs%X$6lXW,E[jb6OVH>,b?P_D5%17U?G7m0*Xqf#HMbuw+ln?Ll^U;BQILn33G$qf]5.T8jj#A@.l?6m@LMVa(X/%EcK`^EFUJ]UDv$=<PcX*o?O&uFVi`ALy^xEjRa[g@Kj_yO/kuYkZV&14.-jgGdGJllLF/yQH?(qSh9Z*l11IoCJ3u1JXSyOG$s+Kw#(i$F.X`??URY-PZGJqP-=OyWi.*=B&>au$CmHem%sb*48]ug9O3eMver>qs?(lU4e(f.m4XeyU=Dwq^nWBy@l?@GB.3mQn1ctnj2^$$<gm7@(q.u`8,v4KBXW^g]G5.g)J7LNR4IpakJ&Z3G_$m`=CKr(K/)R/d&Ajp.eH.t<G,kM.EDKXm&G#U`6/t9W-:o*);H#*i<w04F4Dfn($6a/-#q^+m,TNIvnpO@8Q8Q4.>-B:jog+X;QrR*TRq_PkUh=%8T)twcG8b&RL2RC%?ZD8DcRGHi9kn,wfVJJ7Y`HteV16EeY^OINX/Z2=&12=$vdTF8DrBNaQb`yt3lFi2URrl>V7Qo3JVMBeNmN]4oCvKeymjbP+LKpFCft`.%mH9L-6&LSvj`4$K6ELpxv.0KL4vvEvqG;revb2BUJB3uvB%Qq6jqe#DaAq9[^?G1+svddSUP:hUj@XttJOuX2G>mY?7hS27]VJAY]]?`ibluxMC2Ic[b<UIcZ5#3;(+?//]gAi9Ci)</#J10;ZRDlZLj]&5JZw1T6Lm6X%7B_EUt]CvadK;b6V>vXOn-c&P[ucM3[>kruN,/Qq3eN7o3_fh5RjjwJoLl:Uq0a#RcMUwE7U*9_.nW[CZ>XOG_PvgKKC+[LY;0?auV<[w#g2R$Ai6,6HbfZ@HPU*J3x].u?SiHJ7-tc;o@(HZG_nj`SF#b)g?RhN5&IvV6f3,JUdYa7$Bs(n.b5h4M_[^i.vO*$b=R6>>_h2V*O(aTOMsG+?bR<mWoP;?earg:wh<j^,@[;G)9<w4PoBJ`LwlpG6>#x^LJHTgi4V9C;[i/N@^y(R4K8#b?Yed3)oJ(0^QkXZwJ`/.qUMud5y-fm_U&<uk+6usSJVl:Jx#g$G8OhC`g@2O?*`r$S1Q].IC.`8;ZL)>V^SN>lj3IEmu7f-uU=GOR?1Vcl8i/&hD>R:SF-]s3hNx5PJ3IGUx4@=MQ88-b(qa8sW](9Sq`]R;iEr3@Nb;j$mATCR<NchsDJ+?@aW]CHL[/tWxxc$P4,Fs@QrS5kHe)?tmibG2*Z&mpKV0_CQaaS`IFq=`n(E:l2o=?8+1`;x?$sA*W?ViI,6^Zc?gm^s:/e/=9S8Q%SJvYIc*,l3%)>Sf+N3^dAvX<$o-SgHMIuANr2;g*8$f^Dt*V3mTykLO3kv^Y[E^bmNQ]f/uH>Qr:dID]8n@><,v?N_0%wZWxEHcJer*:E[.>i8FWn,/[763rW8)t@+qnuYc*1ASswyefs)eCs,&68D>b_q]-4okYWoIeL&GJ]5;S[OWTU+fW6T3<gxLHpm76LW*,wL.WU:mhs+Bi-c0lW?&A/L+A=r0+55cL3iBR>k@cUX57k_^J6H^*B9ecK`,txVLr5Rw[#F%U+S<&Q)f[qg@chh)q3qbC%,f@H4K$V=B%`k0MB0`QI8gBhWQC(xKS.*O+x/lxPwG8fU@m*coN]M7Z<yX3*VO,]/%.#cF6[kVLLEC:urMJ5?ts<LtLwK::JL6r>/B5dD9VHg-IkM6VF4R_0C7dDCE;p3pm.J8jC+;x`ka.-GLNAk@S&S)Ew0jJ+Iq&hJmIEXvEj$3*OBt=N[ETrdB_aL[GXeZf4k3NJSXg27;=$)n3du`fW4-B4ME<1#%v8eLp[waO4bW64Xm;?Uqkd19Tt=ZD.>uX?Ms@$2R4&1fPJVLQq^KnJ_H/liR<N8D7]KQ^1U,j_B-M5;03rX3//_+3dkcvP%/hNMG>9tt,ATVo%2V+_N.-PVh@]]]i.0qp=_#:rDXNxTe+i/ADqg8/vO8D8f_xDm17+y(^4(]/5fQwhi8b>Lu6,iCZgCu5QgJ=8tbvi=pKhA^bq5K;T$DD$K:kCEqX,F5ufTno8dj=&JgL_CgwB3T13_dIbJd$LPF9+31_Vlvw?ttX/(kfQ9gSYL(,rehhNE)b$w88uyL%=&S8_[n*IjK^Au=0vCXpf;v$bQY`Ep0)9UVNRfQZ$+)5&ZsM$dZf<@IEHfA5(92,.DNniPxUu:WUs]c:$R;@Knkep$>l8VB1>q8%#(^ftQdxc9y7c_cxIVL,.t^2_=JSUDf;LA7NLFF8#scxbZLaC;Y$6HV6^5kyS)g-=(uD23VbLc5I9e68A0TZWmUis<yp.ODC-(Z:HRE[%Y;obGgD%+b9DZY.jin7Sy9pLly,OMmgQE2#rOt.]npG3%nV@[]=-hCpH:cGMrsg>Ri[2JC%KtMoe<gMlvSu/5s@)wym.cX^faT<c^rboT9b>g2Br9#N`EMCpi,@MF^;1<G+qr1Haj_2K^5YyG4(&,)KB#25OI#r7*KV^jKvM(&r7#g_wk[4[`?(cA)IUWBO;+:;OdmHs$_W(OG-d;Tksk509deJ`&p.5lWnA/U^L/[Y-X`tff;+mM<rO[(a3YqO/FTJ*6:mCb=hen$@*0nnPKXo:1iFRJID.<oxvPa-J]p&)HY>esC7@nFnTfr.Qq4ZCwcbAYM3gxpmfq#XJO*W0tO-?Uu]>imJQXX;=-0yO3F6)LINiW.<A9^?;Q=0tRRV%2U:_@o.MYJdTGlN=N+`PlwT63^jQ&GOKN+bEAgCvBnldg.Ru&spETZSnbg<%Z]j`p<Zn7%sQ/Y=y8d:*e<&-#D,swpKBK+f*C]=%#N+h+:?s0<>N<mgEiTq$v4&aUkEc2jm3<VKh+.$`;Ufss*XBrlu?Pm7s*DKcUcePtTR2ueMlqxP*;L>B-phOdOW@GZa,KYA)_c1hJj8+Kdf*TJZgtKitD.cqy]Otv0bo&-M`;<9H(6WT`_iIh@g7<e<q:2dJvFsx?<k=mS;O8C$a$Smnpr[xP.1`0xP)*XQCvT?7`DZ9TA?/J+TiDedH1kfFn2#]-S3t8U>r#4KKb#)4tOv0Gxk=(Xx%E4sWX77?hciXqM,wkpm4YH_tKjA$98mdk,*1y0b&eli2KWQ<E0C7/9r%qDtb;a>(]?L#SNG._td7`9YPM3a]b5V,_R>BvN2Q_(iuLT>P7F6>Mt*D.K0M7WTOXO0(B`QWy(,wuUJ8j2@enmYHKCx/2vyY";
+}
@@ -0,0 +1,24 @@
+package polyglot.types;
+
+import java.util.List;
+
+public interface ConstructorInstance extends ProcedureInstance, MemberInstance, Declaration {
+    ConstructorInstance flags(Flags flags);
+    
+    ConstructorInstance formalTypes(List<? extends Type> l);
+    
+    ConstructorInstance throwTypes(List<? extends Type> l);
+    
+    ConstructorInstance container(ClassType container);
+    
+    ConstructorInstance orig();
+    
+    boolean isSameConstructor(ConstructorInstance ci);
+    
+    boolean isSameConstructorImpl(ConstructorInstance ci);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1gp-+Oq@aF]+O685bA7#q_ptpUjcaub8f>Bv$tVFouG_Z9;g-qm,YJO%)XGk2jWE7*K+F3L>9XoDii>ef+?;8xN%XhA4u=cao[/e<O4/)#*2u5cvuh:BG#%a<BNE+y$@J>d47;Q[:>ut#C^v0hMKsCKk;Eu]14YDtIV4cUaR*)3AA,bAW3FvXZGqPypM*5-f5C(-mHT85SkQ>Z$aS:y@hZc2w68yjgh)9YvYl=X8D;Oy2ed%:vGH:T<cUf2ya&Os-yT&AYU;Wx7jHcUn]1u/eu%;^@:9Ff=pqvA=9hXN?B^C0lOWJ&n,sL+(p=qH]5t*AI02xvd1RO=DpC4tBcCM]Ke%jV1U(FH/[71#NNm5A2KE</:ovL/%C>FHdm;aq)#<J%m(O&Jw*7/.6Q;#=-C97JHe>D*uVW^JWCqlEOrnd.<F6?O+b9nLgs5Y@Xao6AAeUyrDCDid5/eE7VoM#FqB+bI5M--Nl-k^XX)@@[Md:Uhvs7j,Z)[CdYxs^rv/j[5CyBxwk$S9rCu?M>t?#/FW*>^u8-Vk<)pQZ[#pTCmKNA%sjGZf]pRtF&$C<m1qcGP6NCZ^(dB6ie8@8;h^6[O05e0*w(cqIpXL)WtAM4:jhF1_<vi<S[2rk8UsCbsH7hd7F,MYlOJ*QZatumew;iYxrdYpZ^?WV`Q9_qRFO]7OSg]/YAW.[./SFluK?yf#sOf<XTkY/?<mI)eQ,9BDKX>1EK*,dtDgOJMHc/D,J4U(DPTE?&g<R2hq0[.GS(f?n;lO[7UwlT6O4u?m)$UL4WGvKX=ej.#)[><PA[jNy2VH5$m$nSbx0^PT8ZC?`t6F[t`gpb%wQo=g4Bd#,JRBm@/CO%^^px_/-[[`GTP4j./.@*TN*qQGCnc`@musGM6#GrLL?9=R1hp$WoBsns0E)buX.5:GcPxVEbe%BX*e*50@k&<.&;6v//KJ+FF>x+2-ockb<bpv@Iw@>jypABiG[[;7Qw3]A;1tT2p+q_.b$>X5OS[OrC?,0j@bGkGffroiu>XNr>pm`q<fRj;PGHET6cd5,%9J8?Xkrsv$v8v^%GO0sx$?jO@R]r1/ObRUD%F.5:@1iSlji$mdr7M53*`e?Hs]C4=[1OoPIm#eNa`,N-GI#:4T:Wif&wk)ly_@sSr4m12H/>IgSY5n:aH5,Jr?M=J%XG;L%RcEI^4LRan=LlpOdPC$X+%&@c7,a8dNKC3q5,HvT_R8QNJac.ZTK2`PhvDw]vW1gLNW/RKkJ=UrQ1oZ<RCHZjW*EWoG=k;X_JmD4=TDtBACSC?XJOH9=cJGlW6F9]H.[R9Dh]d:noG%VF_#hv2_6/j^Oj[^9at&(dX>?a5O637l011m]j[/06V%.,K[.]T]T]-k`YykBJ>DEgG@w.6_u,D&nG:=PhIN;%49=Qg=MnPaWZP]xW+xx64cLF<R7#bg>T5<DIJl,n#vSUu%=>;bR^wFSUN&mMtk/C^p4RE>mFEra>,>2g2l`qpd#*Fya0AM_JutlfteYi7y>cV_`w&WsII:-xiXA1XB+tTjECJuE_rLS>ie*R5[lih4xM7Sq8#wE,RgQq:neyxM)-5(aB)/kFf5cJCd.l(KFV.;FM)383O$qhsp%x1MM-c-Jl_<NXc2fJi>uiA[rm`ICI`HJI)m6(,R2R$LXl;RdxvY=UcTedT09j#mwJE;GfDlwrOY4/Zl)EoKUuxWxqW;xMfGru8^@Da533Vb-)u:KuO2eFOG8T<_+TJ*MZ=mLDU?D_$u0;<.kbr&#fFEA/=BQ4Ix+l@.G*7p6^/%/=qQI(EqNVPeF=x=B*LifTZV9/Wvk%i#QD1Ee<?WS6goBi)<8<ouFQ65fKD>13GiQdQI,om?H/&iSer8G(kTr:48)?`E=$N[7c4teX$or^>&#O9Fm<@y#kQ:L$%W#yGAlML<V;4CD&u^;9?PlEa,s(aPMV#aR50@sd;@>rWLJa//rP:cPCjtA^<A+%^)hAUG`pxNsW,uS@.FHXvik1sl7#qJc>TKdKwCJ*UuNqq5jJmM`UlRc<+1A7a&l*D>nWQq.u3QUY>n*MEs*a-Pp$:6/S^cBj#E#so:@>ZXm5-pJTAIT`tv04yc&DtduQI$6:;t)dbtp`&BjD3j(/OoSW/?T@6u-7,J.BKjZQTkIrut:`<<D;jtRMr^I)n@BLKP%(<vu,iUl4Lp+&)67H-Ena+G*.axPx$%;8HD,SR>7dn3L1a3Yj411GL(VT7v0^0KFLa6bl.SLIW[dU);JChuv_[J7xWYEi/AI:<V3Ws(N7^[FP>WIfFPx@YCo;Ea[QT-[@#/S)9%wl:Ak[sOYQ8d,?RW_`:Pg2M:jq4[FY$*7/bQ@qjVR/gsgrG9+?PIBaGVYVCPsgkXVG-LHXs=lv4,:UG&$8;b)P*VRZspY<NY61hue:twVT3BsbA+)K2sfw:Tv(bf-PeoS<=e5J[ygWg-I5=XsJs.bFUGXm+mD9LS1Jr(<d7,;Z^Q;JI3Db1lIYFeN51B),f;BWQK%uC%CpYtV-(LR(/.tycSlGrZu^Qnf`UMYS*eUMpb&jZn/)pg/t4okLO:O]o0LO,5]1s=Eyud(JpJ_cMB*u??-<(O7UsmvmDFEtwYZi^r1]GY*r-=CFRya_T1,vS1bsSEpQm4]VBGZ7F#3N6@g&Hl15?vs$+s6GZUgrTgGdM&b#LO_qPlra]8daTHWC8KvXGmO_1yM`qlIX=ELqJ:CHJ,dW)yEoqG`8`Msv=c:u6MiMIX,9bk<?6Kn^9g/lhvwP[q$PILb$s3,US5FFrhsn.:-9UjCmn?vUGWDrP])BDJGjGD-UCbm^]D3[9&glv9^H,]s?@T(F>B+.PFA6Fi6T&o#`Wl@auLM<RiKr>I=E/V*)(7VbJHu$Qv$j";
+}
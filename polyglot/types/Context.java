@@ -0,0 +1,75 @@
+package polyglot.types;
+
+import java.util.List;
+import polyglot.ast.Lang;
+import polyglot.util.Copy;
+
+public interface Context extends Resolver, Copy<Context> {
+    Lang lang();
+    
+    TypeSystem typeSystem();
+    
+    void addVariable(VarInstance vi);
+    
+    void addMethod(MethodInstance mi);
+    
+    void addNamed(Named t);
+    
+    MethodInstance findMethod(String name, List<? extends Type> formalTypes) throws SemanticException;
+    
+    VarInstance findVariable(String name) throws SemanticException;
+    
+    VarInstance findVariableSilent(String name);
+    
+    LocalInstance findLocal(String name) throws SemanticException;
+    
+    LocalInstance findLocalSilent(String name);
+    
+    FieldInstance findField(String name) throws SemanticException;
+    
+    ClassType findFieldScope(String name) throws SemanticException;
+    
+    ClassType findMethodScope(String name) throws SemanticException;
+    
+    String findLabelSilent(String label);
+    
+    ImportTable importTable();
+    
+    @Deprecated
+    Resolver outerResolver();
+    
+    Context pushSource(ImportTable it);
+    
+    Context pushClass(ParsedClassType scope, ClassType type);
+    
+    Context pushCode(CodeInstance f);
+    
+    Context pushBlock();
+    
+    Context pushLabel(String label);
+    
+    Context pushStatic();
+    
+    Context pop();
+    
+    boolean inCode();
+    
+    boolean isLocal(String name);
+    
+    CodeInstance definingCodeDef(String name);
+    
+    boolean inStaticContext();
+    
+    ClassType currentClass();
+    
+    ParsedClassType currentClassScope();
+    
+    CodeInstance currentCode();
+    
+    Package package_();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<@&&*^FkWl>iP:r,0K_(hp>09.CV-1[P*so<8WkVHxkJC<lv/KOKW[l)3nS`KQ1-<4>hU0DQHTfUav%Z%1&*1m)qm1xZ9g*7`kPgvgW$*1gcs@D$:^jC1)b7-V?:qh7(xb]2XXvrd%%lZtfbuyo0)UK1XBj2HA>6fxW#j$AA&]eNAfEZTMrm82:5Q,BHJSCFhO0o$1Y=NCGkiCk<4LW$QiF;JWFE.i2<ES`yVp1TBD$D%Cjk<2ksQ340XKA2%a)ri8u)p?,A5-egAAsCAdjPgL:1FBp,A82i;+0;Un>dWmZ/Dp+%PU+r0D11s5;=cvHsJG=8-T7(816eQ5n<W1K/8j4s8o6/.SA$Y]_oM?raa:i8c7E4[7i8+qa4Ml>(K>MBTmv)1IKe#<QY&(*_VWm$hV9e=SX`x9Zjn8wmu,Uf5,5Nx1bBNWSA)n4`6Znk=8?r(44H*$4@RMraZf#gdYy5JixgZjA6E>&)5+xF#-Jy7d9AJ5>rO8BLSr/^4@f/+P9^=tEH5?J/I(pgeaIL];p1gj2G7d;_*uC)<MxQ6=(V&>aV5N,Ee:+8,n;y3t#REv*A6ar[[`#efVfx>+dGOUdbb+^=(Xyy0+fns3D4iDICo#1oK(Nccxf-:Yk>1=Sv,32,R:>S^%#M#La>fQ5HvD6Jex`=idMiOVq6xavrrw%g+ri([TZicDMXL*sPmL``VbLxJvXh09a`5tv$V6wvE#JEFYoXi@0nq@2$AuNN1GJho5u-eW:3`h8ql11Pet&rZf$A)Z%CRwXixp#Q(/nGTu#B#BMi&XmDqT%ZH&PU-3-rL9/qWQZ*NSJMRQye#e2M1g]A>?kZxYqu]80N.J=Iu/#MRb0,Ev^Wa^ugr3S%4fdpAH9IUbx4Ii<yeLI%HOK?B)R]rb;ICf@RZw6v;C,pkKCeq^+Tjwp,g)f(,BhwSuen@m)XmPCJ4,FqdK?E5CW;wOH+AmYD,%5Sn1l0>ok#)FNTdj,sTn<BF%3(iC$E]R1t,mPb,7-$b<:x9i/E)%rgYRMeKH>6o`3/Cf2jlcb2(Q&jVX%@IS[?#w7ne%$-CO;Zf<q?EYCZI?0Kx73t3g:c3`kn;uS6O$k_ln?6Xs6<:SQ`sZD8`i>CgoC;V6ru0Ya0u[VQD*L%u-89E%%w*QWONh)l$Un]C8`7;j%(-&eO#24SSP<XSe^sSSsoONY2*qJ:*u5h^KuHm^XQDy<`5J&E+at/hUJr/0,:I=_U8Tp_avIiE&&)Dwjq<P@kYtjR]*l.E;M`FJwEZ0<sD%$(qm4/=]?(Zdj)p/K4wmS3^yN_(Q-i=muq]`%Pp^#hfrOB.Cg12>&979K1$=u;nu7ioZ<H/@cZkxtZ8t[X&o5c=bos*y_).,=UaI]4+65Jd2BalF4fax4nHP]3;`Lg:qpb2YW3[^]WP<P10L>DPtleP;i%87HyN]d<F=nX5B/u-8R/*kEKD4[`Q+TvO(W$9)27rHGoulO._2-_u+UOU,:(c&8OUG/+q5`0Kb7My=/p+J-m@[%H#s]&@>PF9JHeYFohQ7At?MIFVk)D5mm7.g53Z(&4yvI01P9Yh)Y7ELT0GiVZC$EDA42=Iw)C[+oh;?X8dfn.ZEL0k;9JkO@TAB@MkeDu*r[08j.j]G39x&;/6MsBK]9E$<H[e+wH5&`T;pj=+$]h0B?;6y3IX^yc6eW_PJ*p^MLNOyjO.s=DN4[c=u=Xm]gc-;/GYm/6/IlUVv*rAqFulCsC-vKi)>qmQXn,`f-eU(v(??0/dtF4_UXQ2*X-+hqnH_wWw<pe$9LkwHTC?B,X1<#GuX2xgd%6Ur8T793rt-bA)9k(%_S/]rRqc^[SPV`/=5uD>2he?Z>gM[;<C7j5=-9l:?qhSLU#V$*@h&u.>5C8;08#kE_SqG26i7sg)[Dno,=$e4Vb#g+n^H+_Z)2#?P0Q=MQW4bCm5bV);EANd=S[?mDTLP3yq3p.$d&<kCZ5Ryhv#D^bn]u&F>EY:^7suoe=Ot#_f]1r]tvd>-mqSIqwB@ix%N.cDw^X^+S19lV_`fZ^#b;X87tyJH2ouscBBHK&V9LY2ZmaLm[w%E/`]@T=CBtbi/>dCSt7Y@FR65th-KSRp]Jn>KQpxTc4C,bg9Z)gD.1H:i]@F_Po4uQ%/.JMq*ly<b,so/uMnGcf;78X]oDl1n(Qu^$6cQ(yEH>BrDk>0aD;5kv&cfPGecOvM^ta&k@m1Q*@1^W2nc;^oN0.3Qa&h[HK-fdW%8t/wNA-AMOpVL)`L2x4/b6$yKCyQprQl;4)C11n;(bZDFZsu$SoFpZpnsRs#Mj]nZv*)y_E7OLOT/+y-_[dTxD:6jHTtFnS1Rk;E2UqW62J7G.?&Px<GCl2tTKc>Xsjqn(&0U2=(p&k1QWqqjaBZ9R.;#3kZUKZ@*a$5@VOX:K6J4g,0#lPS2`N0dM-g+nv(ExgmA743C,9b/?T/S)fAy/2.R,=3Z+]Nc`Lr:sQ*>yZH0GQblP<gEr>rg$[$.w(Irjsk_[@JMot#t[=[Kv8rD5boA:RG.mAn%c#?6]Wqd1MUXC<6IsN3EHBa3Y=.F/LS]xQKBXS1Nv`h-<_@o;H?]I.Hjs%X?maZrK9H9`@<fY86ORt`^k]ZY6$B;nS$5^?*v-Tt/;g:h4hPxl+7*^kL$t0eZHc,;9m^u:0+,6GRHPSm-HM/#LsXu/N))cd3W=]7[bDnboaChBtPQv/<0deNB1-2Cunu<EvORPjQtCJ%G#-TKm]$+cB&@TYO#7l5#OOcRI%kr*Y/MU7v^H]/TBm=[vt%f?mjl<p,7@cNw=5DsF6.[Qw%2Qxy(FHHQGmwj?nlv&v_m+cI(CDI@Mk+$S:5HJhjDLJw^hXLf+WY4(_$rxRp>xclXLu%7rQDUVN4w1u-lt,=D(5Pani6RC7+PXy0``i:);H3UU^lP:d.q@J2<=HR3aHe8,hZXQ]3Df&C+X6#M#W=u9Ms;[H3H1P1tDcxu$@*4*5H9=Tq[]:[4b+St8bnnAh<P8g7fGXB$?]DqMq])J-`va7K3(p@M#F3n1Yt*8PQJ1&&Ps$0Jm=1pP)6_Ts.god=CaVZp[J)M((67I@@,)xBZ$;XbfEFTG%;GbKC,jb3p`LQ<^Fr@@=4C?n7uK31O3w#+8SZQ]oF.FB[lIU>r88EJ8BCP6wZ+vKil@[iC$d@6IHj7Id@o]/pip$IUD=4i=&OqZ7Q)<6Qvpo/GO-D3$uaj^f/Ys4yWHjgCT2__bg5BZOS6w^pI&q9)(I^P4,OfSo68)t-XYpK)hRMS%U^Z;[1OTeo;(K8r3(%tjVx0FLYs5,(p)]vS7^0Wd+]$+7B(]f0vSwOW`[81A8,y7Rx@yn2/PC@-.+BT(ammVGxc`#W5+S8.i@lAbfdE%m+VceG6W</G@dfH322&n?oET5q4;k,i4&w(tbi%IGfxVt948]ea8>=Jj0Iom*LT)$ru``&hhDB$BLJQc7`x39%[rwAs=[^O]mDgYCdAF<tfdB%`3Z`GyhKl+D,$>-;Uc:C/B[o+*3X`6]3K+^D$/rFfq9fG_B5>(Nu)TO/uJTsD-yL3:N`>$:^ZO9Jx`VUjY9tMtvwiOd&aZL+P,HW<59*5e%d<DvC/00ew1_/D;f<jK2=9tGCO/D%,DOX:*xZ_]S&$/i%L-jYCeQT+igUW7e*%Qy5hB^n0cb5KR`gjeT9$cwFKW=T@rK0m[+C$:o`08_ouh.ShB.TR1xC]#Gx@$6Bjd6voGR99[u$A98v21ujg[j2qDLeE%%SEf/kFl*,$O6UKiI4[yC+^ftY%_:96UBh6g6P$4.7c$[Ru:vn1Rl&iIXdX+t3Sj_tsNK99w.lCB*qtpKA[VmLl9%`HE%w*I@.C$$IJ<#w+4N-WHUJ;9]pTK0NkJRoG.lLe8/G&Hj#/:2m3KYBhu.ib3h:1p,KOC[-p$M%L898Vq&_R#(+j1*8sDfx$qr>iMX<y9/`jtuVBOO2^?fJ`H]mN<Cmx_@Xc_hjRWD6bW4o/5#b_RpDeap6q#H*YpFU[UOP]o._#XPle1YG/UIrtT>s*qPSJ]68r/Sholv>;ye[$nj5A5jO(cewT%GiONGtP-4:q+4`/7qeT-DWC(0J]&a.Kk4,B=?ue7l@9biF$$GN;&++N/-W`7hy`d3KdYjI4Mc$8?EV4yuKUK*j_4oskroU5K,6^83Ullkhv[T#LHD:vR:EmVvw)";
+}
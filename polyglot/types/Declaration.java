@@ -0,0 +1,12 @@
+package polyglot.types;
+
+public interface Declaration extends TypeObject {
+    Declaration declaration();
+    
+    void setDeclaration(Declaration decl);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1VTEWF*QJnaa:&&sl(lI099DM;CpKi3U]$C1<;h&1=e#$Hk];11qHnRVmTk;)1IsYyMV:E.+>vZ>&jZGGCR1E^<W@ps3LC[v1lYbE^R0W-8Abr-K^w_JYc)QBU9-6Ng;oYabQ<.g69MTYA(R/yWnKSg.h0E3$;cn-7+Mtf^sxc2$)o`jQE7Q;B-J/IZmpU,Ja<vDo[]JVEJQN:SC=AYO=vj*YHU;t%UZT*<ji0g&nCn`r/QuJU)8ZdUe+.EEVPJ4X$Z(CNiWJ=$v8#DNpG^6$`bc2Rffv=(Z#mv.I7[u.x5AK`<`TdDLJewdXW4_(XjE2103mGbeU&lXlIMbJ(tRrN5;WYR4ccbtnQ`_IM77wIH5O?=oKP/B,W%GmaYxN(E?(P2p^HsX6:3OC<njfKB^**AR.1%<5Oho*)TDfNVlT.gast95R_L3;PjPM4ru);`(M,kKfr;Be)^rc4^)HAPd$@mdmui[2CocMWie#rfH<*:t2vO?iu/omL=lZBATcoM1_UHl^0eQ]D8oC5MPf`KbeW_GTv][3_@wptki7CPg4ED.eD8*&/WR[*+r3M5*<[M4&Wu=/dInV@O+jB(+>liL?j-Spv?r4XhcmJXd#C^G99t*cf2i=(HXF:[.[#E=.hRv/b.gk>Ipl9f;_HCFUiH?W9x)wVA]nYR:B,IgoDZ<g2bv<urB[]bp21[$>S4@lrk^F0u;^A1n7P^*W3,Wfu<@x[AAd.GpD:Oa>74r82SUX:,clZ>Q5ZoZOcwq(txkp;m)UPO:11P+CT(]w0w(6lu82ED+ZDZEJAVE*FL^QD8BnQMP?F_k)4Z5?u>AH]glKG7#u(TXZn2Q<t0dXI6&#q<FHGNZCSS8M<PS>$>6VXAv$v.#LZj`Zo9)4HriV)6u=sKH1`WbQ/hI4_mcsH:8Hlpp[oEO/HOl^17wA848A0>DL.;e0%F*6Jj@AkKt_UPk%h^FXf@xgm4:7GZ#Fm/h>2hL<[kBs9u<*J%nHJAtm*S(QcZoJ)bl#b?nQDQ.J%=VYq]?V@]Igbxt=R6*0y/YB]e5MSR<eSpSM5J,m07udW$I(21(`?Y)217?YG+y-KQ9hHcDIgIbo.GHppp=VH>h_0GEr)wJJx>Y?4]`h/ev>Wky2tqHy=B4G->mr2]<.Z$pAf56`qcGW6n-#[&$#+UN5M*Lj<#ZWiitmV3K3JfhAwfD=Zov[s-2#f6<nMV(yL8h8lyBq0C2oB-Q[cb5@QFJ>M7oCE8g=J79<4Efe<*%*m]RkQPT?_gS]LL_&&cX.)rxV%S:a,E>BX^nGCKP@51vX$2#xWYf(WoX$Qf2#s:vh>0]0L^x7^&;&tA1#`,C<+4cD%_#cH@IR6n6&Grb6:hs*I=3O2LIN9]J#u@Xeslh7%F7&:NZAWimK7De1jYTTmt4Gdhx6(E@@e5I03,vh[;/[?eKj0mT<1P<WYf+%rYJac5ZFX9dDKDI*71lo$h^=+u]T/E<IZ$ghQPjql^EAKu0571ASrK(*RpIwGpTUo6f2p)E2y.s1,kxR-q*fcA8_Q-KorF[H:ZWtOo)9f#],?b:Xg#lCfsy?_]^_*+r10^3L:d2>@061q&db+f2peAEF?A4ef5AnKcAFl=dKo1DdZZpW(H.33./0ua.@/YQXAC>iDmY`d(L1PbcF7h>l6`:+4R/@s-Z86sZwJFkK#C7Q2Gdo[6L%q3&s.oHMZHXOr4r5G.?PG@L>nR/f#h,]rA;pTLto/9H><,dd,XQw%_TqD,QS#09voN_UXM$VP,T*^FZeR6vtJV7bv3*@vh&`.AqohOZj2^b`14iP38,L1TZNW-&<LjCKf[glcm&v<K*S]7HApek?OH.rh)>_p7l+bv9wghR8Fk@o$j0oPS;j.>n9j_$+/8F@OOFs$L$uk2hOt;U8`mkTOkfmEj)[JJEHU?#nRO=A:mb:@C4YIMHU6[L%I2W0?,U_p$p757t[tZ8r,o6aBoT&Y#>U,&YPyNQ`,hJfR7q?aBF8xGY(yiSHg@58@d=M/mpc%Z/h3-um;T0=V-rR#o>sZ;Ei$hHcI[&_&_o0Y8:ff`+#Slam,6k-RViH]]y%el6OdsO1y^J&5fc?EbT-HlE*B`YPE[(";
+}
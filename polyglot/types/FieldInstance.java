@@ -0,0 +1,22 @@
+package polyglot.types;
+
+public interface FieldInstance extends VarInstance, MemberInstance {
+    FieldInstance container(ReferenceType container);
+    
+    FieldInstance flags(Flags flags);
+    
+    FieldInstance name(String name);
+    
+    FieldInstance type(Type type);
+    
+    FieldInstance constantValue(Object value);
+    
+    FieldInstance notConstant();
+    
+    FieldInstance orig();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1gp*Odo5a@tv)B#FxVohyS8e*DvaXLDNdWyDRe*MO?eU0v;q+D>t?l:?8c:&53&To671v1B@:Ow_@[/DO_D5*vFCTwfdU$Rs]eRR2OO(x)haa9l3#LCvl]jtX^er#n0(liWw=hp4-dWuh@41P,9t1OlOV(LN@IO^oF%Q9sVgrl1#c9y;#nC>OP$Z,1_vrJEB-r[tygt:R4E0r?5;>DH_x3m]aXOc4AB:X*Ji3LU;xJ5_pm=2[[r:nQbI;*n+21r*q^AG.`h)0dddAcPWPOF3HJ*1*)_C5vFFd^IehrnTE[0;@w?Zq.h=cdFRtfE1c/][4SQlBNZ7I(Vu_F&_523rA?>&q1O?/S]U`&P=#DXm`G7$>&4(0<`=X8rbo#5uHn4)XUB59D[;kI=&1@)@=#9Ss?SqMr`.4EhO(%XhjLBYobhKMUU%o#dirPaX5,xhMl=IekcogT<25FNb:>Q#(eC$3No0sCbEY9T8%LXF.m*uD)K5O#6FJS9N>k/[,(wZ#(NnF0])y.kiGscopaBU5&tpo4nh,1UEDFyq,IK#<&s4FB*hSW?#BP@Q1r#sB;E80@GA7e;lX$vj[47vBGXEhI1%KCeCyV`C)mgRG*l#6*4I%nD*srO[4;--8wL`&7R^^9h[=mQoeIuB/;[+F6WMM1tBn..Q@((_Pq+BDEqOr_P68#CO>a(FM[nB(TVq9bhQM/*hnudJRBJY3u@G^%bM34PXYc5@2%_MG#LhypZ#T4aP;$Ql:,xRMqDSRdCOMjK:w[VIRYG;fJ2hxuX&[:7o#T_2vvw7ZBnZb,7I#6ZTxnERU,`vN;ndqJc4U1,NIp<l#1A>F6IUhd(=*9hLB2]i70-#fNXEDf*M3h_1VwjmeuSTl=PcMkLvQ6h$7fZk%/Yiql8;@@hD.UCnOZtm4[[GI_(kjjhoT7ja0-d/33]&XE*OBq_Pv^h^>RRytFiNm-n#QhCuy5$<HBUd(+%=5C1bYLc[@.;qGTMCvo0eDv+crOAZN#Zgx;YJ]YgR?v_#UHAEH5bqf:69@/y0bLTMAL10io0]bw59m#oi0.E=RMHU2lrA[-PeW/*SL9?_+Yf-%$i877/tMh$fG8vu%rbi7WZW.CR1jy%PO#V3Zr_slNjSEMp^I2h+*li4Cp]qN.9?nxi&oss?O6Uen:KHH`gbn3vaK2TgMjTl7k,5@yX9193UcH50,skV-AR0hpYOE@MnPi4@7D@,i5]mXLr=YC:3%a<F6cP)-/fljZWb9<PkL?,V0CDs<0J0XZgLEKS4M[n=6A<3XtG6yadpto5^k,>A0E25BYWy#WiMPWd*;r*&#]`E[iDsu%u.vmcnb*iaI`dmn>(@[QQ`MQR4PES5O1b2G`Vvo[tG<&9qne_xTZl1#aV&OCy98rM.#JC)nI3[xEWbp$F?gh5yNkax1pFY_tDN%AwU,1/8oRAt>5:<?j^1G(ji;qFh9A5v+703MV;5DF8(<s-Q1V>H(tZD1[su0jW03Nc@*Mw,cO+Z31Pj0=_4Ri7E_2aaZ8K@N98+W<B=7/09Dq0n2?ePmqJdb(3KNP<Qj1SxtH*T^h5ScP8s>r%8sCa9aJKw%c9[V,3.9>j@YJj#-^3vL^[Lu5[UTDxvc^`<TZmv29mQ$s;GrJli1-(a[W[lF6%P/A?n3Ljv+>=RBL.n@:6:*8vk(<Pg-o>J,t=yRiXahJoOG9B)eI.lK=A]d>LWI5V;j(#&:xr:.dY%Xd9B)WNG`76+jjy@;BD)%o.?U&te/`2TN.EQWIP;-/pJ>bN_ibR)jcL<Vm(e6%:k-LSD1qC1DSLmlX?Mo#Sv3U2W#kc;B7NeX8pVqn]A%My.B+d$*kpW7eL2ghbcX)&9c53[9J?A+WXp`X<=n_K<f&ErHTXYrTbCtQ-rM:467;@h&f4>jbsTI1#p6#`LjAV&kIUx>i,#]qs9jIoh?-7<d/6G7hO4TcGZ._9^RkR@A8f8n%il;$&b;jMeL9dnUNe,Mb<,a;8*M^0KVMtcEG&qXMIYlNI5uF+,%ULgY-8I$Tm:Q-*U5y:QTv&`@byC5o$Vd84H@NA+yJ,y3762=adNXfCrEkK?FgLO1<Ixm<aEOxTn;xxa6y(f,)oqCn^Vx&NOxlxD[3p#dS49Y_&69;BECZcK<=5n[&lEXRn-n0]`Y7Uu3xl7Jb$GqYV2dW=:7&N9/p;^v/vL:IkG*Cj=32a](Ip)k[bMLtlZ9olq0[t1Eq>GT]f77TX`+dQXkRnofI(3@5&`EVcpI.$W";
+}
@@ -0,0 +1,289 @@
+package polyglot.types;
+
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import polyglot.util.Copy;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.Position;
+import polyglot.util.SerialVersionUID;
+
+public class Flags implements Serializable, Copy<Flags> {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    protected Set<String> flags;
+    protected Position position;
+    protected static class FlagComparator implements Comparator<String>, Serializable {
+        private static final long serialVersionUID = SerialVersionUID.generate();
+        protected static final FlagComparator instance = new FlagComparator();
+        protected static Map<String,Integer> ordering = new HashMap<>();
+        protected static Map<Integer,String> revOrdering = new HashMap<>();
+        
+        @Override
+        public int compare(String o1, String o2) {
+            if (ordering.containsKey(o1) && ordering.containsKey(o2)) return ordering.get(o1) - ordering.get(o2);
+            return o1.compareTo(o2);
+        }
+        
+        @SuppressWarnings("unused") 
+        private static final long readResolveVersionUID = 1L;
+        
+        private Object readResolve() { return instance; }
+        
+        public FlagComparator() { super(); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Y0..C*`@7Ra@rjkdsc8IFbuFjQt_]uW_[=i+dT3$:t7n^0h@H?L><D>g6yP;t)a7A0r0TDMC9iy1b>w30yGBS?FR%rh5>QYU`Zl5k)g$7Zcw$dX7y<6),-m^w+9JZl9iG6F%8A0e;g28.8h.85bdO-#cny#*n<?S.Qj$pY])i,HKxF?ZGJ4Y3xf2k>d/M2)QQVRM_Twoqv_Nc7/7(ovP9^]?0.6MpbWWNS1&6b^;f9bC4siNA@J$0IDe$8d[TtaXf:Lw]f=8WC;g9WZjxJDU]>?Z)0?Y9Q1o-:7XQQ4Wm-]rMlsD[j969*OfGI2*gy)Zeatf=NmAR;;^)#H#(;TDw*I@pV$-Ey-/J%cVlm<SD;y>WNy]^qRCND%/WsYmD>=F=IEJB$SXF1@W>p+<27R/xDB)(627-Bj*;<cQqpn[J%q4k?0ZRqj%sj*;?V?lOnQ>g*V#vG`@kf_V+W;3Gw#vrdka9`dO=t]yOPf^U,c>cV3jC;K4h-1:a0/+:4A@r1k433`3HCwg0,e#XAA.*Q-)Qe/9_*c((A8u=1V*[u^t:F*1T[TU;MJe?H>[pwM7@^^myTdkIP[qk07&0<SQku7Q$Wk*ix[RKLYw<pJa=1#94Tl*D#Chpw*lBtr#XSAdm5TYVj2<g+SVOHDx5&E0QnZOtF)x$v<6`-FU6M5BVNNL0Klh^vf_rRX`w^aPUU6-29rKuFcVG-0G<t;7+qb8GA%jc*c)eT+1LTyYH>kZvJ*QA]O-(EXtT_/s#7ZYM2uDJnf.l9?-d<JZgF1__BG7TdHKDr7$8hX]WTj?_7??PZ;=>B:IoHh^m>2E639E>*yCO,dWBe+cZgbA7j)aYYVfg<m,vB=HE5Rp%u9iH;],eOWou1U9s1`b^;i^)h(hQt&::Xkr1d&/6XKBk0x_dI>&:mt.K(xV:ixKqk@J$.XWeSKcceF+;Y=[wX]bj?&a%3H#1<[yKy.hY`AXTg)FfpE6?8mINsvTXkn6C:-tBaGgD2RagurXUFtES?VR#lyT<vWS(i)jCs-(DNaA7tsNv1f?lPqY08y7<0Z6eo`q+d,?ZWTgbkXtk-EqR+L<c@h#BEP9F=OisE5]jhc`55R@/H:2;)&B60XQ<jum:_i_50j$iS[^oS<-)mk2ys=Ud6+uHSn6r&7GcM`AyxH5D^0[ER`O&4:BiWDw8vME<Wn/)&WNA&Nb,;D.(*N?o$Vgot(JANcUPjQqMf`#ASjOQ`uOdBCo=GcjT&&O_K#YR_TZmP$UN:vKd$(bkZr>Hm</eXCwp[,]T;Q,fVM^*oB-fHm;S/`t=x91WVH3j`95JI3h22kvB@_Zv+kd$hSKD<@G>JUNX3#a2@H%]l4$9fs)W.xvP/wKreUJRFcAF@&pp=X19$=Z_lMU1qMXr[`*N.N#lsbTE]pFHM=WG=)AqAYSMrcK%#LE0^*c[Ug1u`[QqMn2(u%3C<+-#OaBUn1o9@a6JDt3?C:^.kC*WWf@ZkR;;c>X#[bI1C$_+&&6vW@],_*X`Q0CKl1B?>=Dg%o?-lsRcY%scUAl6JJ2l$>ZqgTF:b9P7hG8=0u`TEjoL%eJD]yANQgqopAJr$5wmI75fU97%tNIEE5CN2$fAI9CLk.dQ`-eD:,3#WsdWGx?)13cY6cRfFlBk/J8k9X=[^lc)Pn9^YD07H;HDF$TW<)d8?a]`(S;StV2nQX,sTS8VKFnlFqEb.npRy9@X70>7oDw:tb^f3y6@RvEj5^4KVQpOjoR)ea*SeE5Z:EgxTkTfVkHH`*Z]e:7devIJBC*S:K/]shYPFN&gsEQ/MCpb1oKnFB7YT?gschs*,LEgv&INASF]MyeDB=]]s;[rMh<w#a#?Fh.m(CN7NEYeumt4&&j5@gl,&t;cFYBaVcu*=6+iI4NW,GYt]o;]d?D$qKVs2^K1`M,-bE#j9yFB5>P,uj1N?WYP:@w9@et(VN:/F)oMPgqsAb-pYY%9)/F(%`bfX.=;4=9U#sk$A#fgUS(NFP(yVPhCYksVWmHdP.--5QNNY<s@cPKGeH)dLcjiQ1<2%KOB7u(*rXJu(@lw/x>3j00LYYelD+vae88O5+%WRDtuPBbStPG,-GV[>2UA6/p<LWRbXL(Q7s)T(k11jIl?[$-R?rklNd3Wo=M78,`<5@W):o1<T(m0g8Pcqehl/o5IfpsfYG<?S6d7]k+fdbps=tpO4qLPD>XmZh%I$i2m4k.M43?KOhs^tjxZ/DHI>@jIJ(V^fo(VoW(co1SQxs4?FEbddm;/UfbK`+UQ61SEgt[V9V09*Y1m>EfcGP,Md9Gf+gIEdmESLOLhK,UGmV,:Tu(N/%@HXt?)g>D;O3`lQ<ur>jH9*[Bp%GTNi[S8NhoSRBEw)XY6?x<KrR.ahTF]_Vp2$)U)[vdXcL?me/WD`;R_[q4/FB]^xDi4/]mS/6g#swv,JLq]C/D)9)TrX^S4ai`kB/RP-yb#IORchUpCd9]:6<q,/U#Wj=37e;x4YNu+4<nFD6:@oT#NgvCItMjxQ8[K7W*(g>]U^dokJu?NQIPWK=h=M0w6F$<Bxjih]ebpG_Sa=i8Gs@ad09ZcE9YB$s;:5Cb/>Iy#Jf2w`kY3A^go@U?o8$K5+O&k&Zf+FHie-iO>WRRGWmq4,=+H0,tn+hcQZ^kVpcn)#[<#3Q;=BnN_V]X]Ir6k7j?sbvojpK5WUL_5#;<K6UKi`d*@^%v+ijLZ9$9]@&h03IJDnbUDVSI`+NECrK%Gr-ffGPgH%5Vv[T)YDf++<GuO>bJFQ]/Vya%;%JkSId9T%-JB:/ZlJcu@=kFM/hO2bSM$[#(L+6hyq*P],9m$(ih,r_J[(a4l;kM:@ajNpH^,#bBEMF1n*3:7$qm$PT$B(>KY5+=.ShL&kL=Ff*28Hr%ER=aU/s7e*xAfc_)bn4X$hZa1+jlSA]>U&p2Q7bhP/um1)yPYnWM+]I8)7OKpm1ma$Pk>WSxc-`%SFocsO+ftlgK10w&ddOYJ&>%KZ@;gO1R+8DGo+xvM0Z&.Jg4u>6UnLk[Y&jP/kY+XCR/k5+.qm-=-IlS36GoasTZ9>krItdH3iAr8[bxN&vsGCFIq<,WbsgD$<Dtat>S8NhOP5X_<rGHp(7U>h0HE#9XiGtub)IoweiGm@66q8kNP?WJl#W3P,pRk)Wjg^Mi`K#.r<#Yi?JUtQNU$VCO[e4K1b7p+580Z,V4UC5R`B#/udDio8J`34_QH-W</2XBL0_F@AeenNT`RlCZeu@9%Z5b4^UTN%3`NSAmE1]=Q<^/S3MBce^LLY6Rf.eV_X)kM#6RDaYGPbGgIdm>P8CVYldJqHG3UtG7tXiQN]6YED0Sg*q6Tnu#B3&TWiU[*T3k:rq0g^>04ZPHUMU-D&W-`-mKN1UsIF&FXlBxNyd?Ha[)h-u#7VaEVnb)7(,TRe-qllk>oaj_8Q8JWU*e)j4UDhL<`24a+4xHE+:Djk;hB0:OJ$,7-CmLOUlh8m<HNOWT`;1J#c`[6E_5-Dyfx3Na[,Sxr6y.]ho/9)BIgp$NG3JZJk9xm_J0VUFe$v8Bm9/Zb@Nc9_";
+    }
+    
+    public static final Flags NONE = new Flags();
+    public static final Flags PUBLIC = createFlag("public", null);
+    public static final Flags PROTECTED = createFlag("protected", null);
+    public static final Flags PRIVATE = createFlag("private", null);
+    public static final Flags ABSTRACT = createFlag("abstract", null);
+    public static final Flags STATIC = createFlag("static", null);
+    public static final Flags FINAL = createFlag("final", null);
+    public static final Flags SYNCHRONIZED = createFlag("synchronized", null);
+    public static final Flags NATIVE = createFlag("native", null);
+    public static final Flags STRICTFP = createFlag("strictfp", null);
+    public static final Flags TRANSIENT = createFlag("transient", null);
+    public static final Flags VOLATILE = createFlag("volatile", null);
+    public static final Flags INTERFACE = createFlag("interface", null);
+    protected static final Flags ACCESS_FLAGS = PUBLIC.set(PRIVATE).set(PROTECTED);
+    
+    public static Flags createFlag(String name, Flags after) {
+        addToOrder(name, after);
+        return new Flags(name);
+    }
+    
+    public static void addToOrder(String name, Flags after) {
+        Map<String,Integer> ordering = FlagComparator.ordering;
+        Map<Integer,String> revOrdering = FlagComparator.revOrdering;
+        if (ordering.containsKey(name)) throw new InternalCompilerError("Flag " + name + " already added.");
+        int index;
+        if (after == null)
+            index = ordering.size() + 1;
+        else {
+            index = 0;
+            for (String s : after.flags) {
+                int si = ordering.get(s);
+                if (si > index) index = si;
+            }
+            for (int i = ordering.size(); i > index; i--) {
+                String s = revOrdering.get(i);
+                ordering.put(s, i + 1);
+                revOrdering.put(i + 1, s);
+            }
+            index++;
+        }
+        ordering.put(name, index);
+        revOrdering.put(index, name);
+    }
+    
+    protected Flags() {
+        super();
+        this.flags = new TreeSet<>(FlagComparator.instance);
+        position = Position.compilerGenerated();
+    }
+    
+    protected Flags(String name) {
+        this();
+        flags.add(name);
+    }
+    
+    public Set<String> flags() { return this.flags; }
+    
+    public Position position() { return position; }
+    
+    public Flags position(Position position) { return position(this, position); }
+    
+    protected Flags position(Flags flags, Position position) {
+        if (flags.position == position) return flags;
+        flags = copyIfNeeded(flags);
+        flags.position = position;
+        return flags;
+    }
+    
+    protected Flags copyIfNeeded(Flags flags) {
+        if (flags == this) flags = Util.copy(flags);
+        return flags;
+    }
+    
+    @Override
+    public Flags copy() {
+        try {
+            Flags flags = (Flags) super.clone();
+            return flags;
+        }
+        catch (CloneNotSupportedException e) { throw new InternalCompilerError("Java clone() weirdness."); }
+    }
+    
+    public Flags set(Flags other) {
+        Flags f = new Flags();
+        f.flags.addAll(this.flags);
+        f.flags.addAll(other.flags);
+        Position start = Position.first(position, other.position);
+        Position end = Position.last(position, other.position);
+        if (start == null || end == null) { f.position = Position.compilerGenerated(); } else { f.position = new Position(start, end); }
+        return f;
+    }
+    
+    public Flags clear(Flags other) {
+        Flags f = new Flags();
+        f.flags.addAll(this.flags);
+        f.flags.removeAll(other.flags);
+        f.position = Position.compilerGenerated();
+        return f;
+    }
+    
+    public Flags retain(Flags other) {
+        Flags f = new Flags();
+        f.flags.addAll(this.flags);
+        f.flags.retainAll(other.flags);
+        f.position = Position.compilerGenerated();
+        return f;
+    }
+    
+    public boolean intersects(Flags other) {
+        for (String name : this.flags) { if (other.flags.contains(name)) { return true; } }
+        return false;
+    }
+    
+    public boolean contains(Flags other) { return this.flags.containsAll(other.flags); }
+    
+    public Flags Public() { return set(PUBLIC); }
+    
+    public Flags clearPublic() { return clear(PUBLIC); }
+    
+    public boolean isPublic() { return contains(PUBLIC); }
+    
+    public Flags Private() { return set(PRIVATE); }
+    
+    public Flags clearPrivate() { return clear(PRIVATE); }
+    
+    public boolean isPrivate() { return contains(PRIVATE); }
+    
+    public Flags Protected() { return set(PROTECTED); }
+    
+    public Flags clearProtected() { return clear(PROTECTED); }
+    
+    public boolean isProtected() { return contains(PROTECTED); }
+    
+    public Flags Package() { return clear(ACCESS_FLAGS); }
+    
+    public boolean isPackage() { return !intersects(ACCESS_FLAGS); }
+    
+    public Flags Static() { return set(STATIC); }
+    
+    public Flags clearStatic() { return clear(STATIC); }
+    
+    public boolean isStatic() { return contains(STATIC); }
+    
+    public Flags Final() { return set(FINAL); }
+    
+    public Flags clearFinal() { return clear(FINAL); }
+    
+    public boolean isFinal() { return contains(FINAL); }
+    
+    public Flags Synchronized() { return set(SYNCHRONIZED); }
+    
+    public Flags clearSynchronized() { return clear(SYNCHRONIZED); }
+    
+    public boolean isSynchronized() { return contains(SYNCHRONIZED); }
+    
+    public Flags Transient() { return set(TRANSIENT); }
+    
+    public Flags clearTransient() { return clear(TRANSIENT); }
+    
+    public boolean isTransient() { return contains(TRANSIENT); }
+    
+    public Flags Native() { return set(NATIVE); }
+    
+    public Flags clearNative() { return clear(NATIVE); }
+    
+    public boolean isNative() { return contains(NATIVE); }
+    
+    public Flags Interface() { return set(INTERFACE); }
+    
+    public Flags clearInterface() { return clear(INTERFACE); }
+    
+    public boolean isInterface() { return contains(INTERFACE); }
+    
+    public Flags Abstract() { return set(ABSTRACT); }
+    
+    public Flags clearAbstract() { return clear(ABSTRACT); }
+    
+    public boolean isAbstract() { return contains(ABSTRACT); }
+    
+    public Flags Volatile() { return set(VOLATILE); }
+    
+    public Flags clearVolatile() { return clear(VOLATILE); }
+    
+    public boolean isVolatile() { return contains(VOLATILE); }
+    
+    public Flags StrictFP() { return set(STRICTFP); }
+    
+    public Flags clearStrictFP() { return clear(STRICTFP); }
+    
+    public boolean isStrictFP() { return contains(STRICTFP); }
+    
+    public boolean moreRestrictiveThan(Flags f) {
+        if (isPrivate() && (f.isProtected() || f.isPackage() || f.isPublic())) { return true; }
+        if (isPackage() && (f.isProtected() || f.isPublic())) { return true; }
+        if (isProtected() && f.isPublic()) { return true; }
+        return false;
+    }
+    
+    @Override
+    public String toString() {
+        return translate().trim();
+    }
+    
+    public String translate() {
+        StringBuffer sb = new StringBuffer();
+        for (String s : this.flags) {
+            sb.append(s);
+            sb.append(" ");
+        }
+        return sb.toString();
+    }
+    
+    @Override
+    public int hashCode() {
+        return flags.hashCode();
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Flags && flags.equals(((Flags) o).flags);
+    }
+    
+    public boolean isEmpty() { return flags.isEmpty(); }
+    
+    public int toModifiers() {
+        int modifiers = 0;
+        if (isAbstract()) modifiers |= Modifier.ABSTRACT;
+        if (isFinal()) modifiers |= Modifier.FINAL;
+        if (isInterface()) modifiers |= Modifier.INTERFACE;
+        if (isNative()) modifiers |= Modifier.NATIVE;
+        if (isPrivate()) modifiers |= Modifier.PRIVATE;
+        if (isProtected()) modifiers |= Modifier.PROTECTED;
+        if (isPublic()) modifiers |= Modifier.PUBLIC;
+        if (isStatic()) modifiers |= Modifier.STATIC;
+        if (isStrictFP()) modifiers |= Modifier.STRICT;
+        if (isSynchronized()) modifiers |= Modifier.SYNCHRONIZED;
+        if (isTransient()) modifiers |= Modifier.TRANSIENT;
+        if (isVolatile()) modifiers |= Modifier.VOLATILE;
+        return modifiers;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<R,i*`3d]a/PF$/:35l9nS(CSc]-J8Y[d;.f@%pCP8G*/xvM3D:d*TgKcUT/5j9F@ulbnlFD8-]w*gQ[5WGS$kV)R0x=d0/0A@[[o&$Hs*<?H2^qqy7:lo0f_fqiectcLg4y>BV.$VwWF`ZEKxXdqk(B7()8l-3]Xprc.n$MyjZ4?H0h@/C@/7egp+]epQLlgW$*+NuP9x+2J+<%u`U4s`k9Om7U>N%n%cgil=oQh=hQl=qEtER9D(CK)iZVT->0C8aIm%Z(2B2sQ^I[I62_)^=IjKsDZMcOf(%Ung:7C4f1*%qG$`P2&=thlD55()3`[uZy7HZ55q,V.f[Q9g%@D[^kf/4=ZM2ihTw2iSG2/+Q3L(:kk`L_]JYQy,Ub.DcH.6VP5``Y,y+?9vA=yQe?Fi5(jl*$;4PHnH;_*@&c>(/=A;p4Y&FR#GH@IPR-.we-e:Ax=`VvDFqO%7_dI&spK<s;bK@g+Yr(%Uu-tA=Eu;T^#y:nSW^&yAAt)3,F>Mkq:EBa=wt[=3kf1Q?&ROm]/[-(l9D[GXs)S5n&s%USL(ncMa`&,),Ig,PEf[en(OeDNL-f#qg**bLi5tjCiTd01H-442]6P>]FPB7n04^MnvlJ]^X[XM:ohFV2v?3A>nRERW#-f;c,p)wi$m0p)5;Ud(vy)RY$H>aLTlqWwABvprglm;ZbqPq_AOK/MqmYD41:Ze3`.dDM,Ij;7wel:t<CoL#&HSQYiK+b(^v/d(IyC-_&6R[3)(CKcxama6e>4e]B>IHq),e5OmjFiyc/s^O1A,wl:-Bk`F2/yLijO1$L/dE^%y+16[)3#DllrCO=m*$/(WV[kBm[bvCc8I#`lw1S?5.XfEJ2JO7sImtyKC9w>BbR-oZ]u1piFgNVutPbTx8B0@kOyO+s^Iw0qSKd6/T:7U_cP[<i>iFE(3D`Cge8cdQ+l>ym*(p`B@XNwZa:7(p^PR6ft4,wlC;a^wJ-]b`oN^45W*<F)+WlVNDpc8B$:M&YHuB`wTA`GO9,33a47]m42lNde$NQ3N^EoD28I>[=J_Mi=j+Em+UIk^L]_laj)B:_d(yX:T*#m?ZnhZqKXWeFMa4y/U^f`i)5w_Q&l8)`1OSoI:$8rG=jlZM@pxfOr]2MO@WbUKK>&I3:ojVYDKSn@iK0Ju+TQ<Ca>gbL8%x9Uy3lF`3nL[=0lUJWGtIvT.-)RVu67=P#Kqhq-0rSb:KEv1RjS$>>K=d5TM_a$bJXEZbTp#ywQCZ;MA0C4=Tvy*4D)Dt>h(^@BAoh^:QKe=Rjuxk`#SjHd[GY0pEfk;$EO;^_AH?-Bs$Cwdlwi[IdlWlX]a=M_AUb;HK+t-+0(:sar*X^],fw#A%w/9q6PAAu21&LEMUH.iodD4liD+3DVD.L?`-(M).PnM8/y.=,&oleO](2N62g6/CEE2REm2wxKd.AE01V2Z-Wh_gq27a3NjAqqgP#xHA5[m,Ym%:dm%jdsvrWKJFv5<(oi3OQGekh2dvj+5Z5svN-`(cFRh.3m_VHB]-:ODuUB:bgT5(1?7KrW$thfQOp&E^wQqc[YOjDsO1gWqP0RM?rSdbobdL`o]+-0Fo+[S^8DcPL?Zu6`[J(Bf9I=eAL]dn6IvdFOjWXy+XUf;F<I,&miWYsrnxo<merq2cGg5L`d._+`_*hmuL7t/.@#U:bVc5c)A4KVg/pvwwr_PqOAIaPsmiu731JEwXH-o)Vm[<M7g:fa=[.a97rkG`x@WnT-MR%+vFyJ;k1d%0&[_ta(ayn,c/83vFK7kZIau8M&11=Xxuoa=nFYGv6;U#p<T[Q8vTIsJ5*`s#8AWTNS1s^Z6-aoYOt;^DTUi=ScFMHexB3NdtOZqpi`Z@du55utm[>%2E`Fv)v0b<&fO`B7@n[3N..jgKqPrO_gL2US$*=$L#rSV.swN*msti.J?TsDuXGv1_51t)kZ]g,f(>80TN5#&iVL7;(Sj9w&CubZO_xfjVvP0,oBOO&Jek;nlM=uvj>8?c/[t<^01-o`<^kAbIh0LUsbHV=BZBopB3M?T?5q@QU]K/oFP]77KOVW8cVn6X@e717OfdUhD_m8*sXxGo$kBXvWchTUoy)^dibg<0:phhuW&hXt`o+_Pv8qNS#bd7au5bpmt^2L&aK0?7?02PEj9[0^:pHxiyA?FS]e.p]`*D&(<)J#F60e/XBYkQ2`vLMBlyR(XN2L.I8Y-t>Gqh5L.tVm]^g)S.8s$=NI$g]MbB`/JfvU)0cN>ha[8-kV:p`Pl=>eeWY:Xv-nPyp@Xr1:%tC9RS21[32$ob-k]Od#r,XD#aX?lE$[.Bj$$gCg4c1-U@OBn>$kxJ.J8o*^_mC#vXt]e#2_[9LCe3T/,j_g@PPJGrTWN]P<l`Jq1P:bUkDQxgw6=+tj=C9;e$ijm9_tF43[&$d<84_``Q]]2+DNe2_+ueeE`J2Rr7*:sfH)<W%JZf48B^ny;[QwjVFF2RR2T(%h;8D-Hlj9K*Ijmn>Mp`.uM0<s9BP@bpMk%-vW2-DgXn,)jc.s+onDXVIYZ3Jq7FwP[7tm2UYIB)pd1OKNkIu(_P^3W^(Rt(E/IaT]N=[*s]]RmNI`%#mKAX?HR5i(8gsDA_m#qm7=:0+;m$bP>:RV-$ZZnJ(VKGT(@[:WZw.5#/sq(FctMvFoj:eJC.)U+uI7DgJ:dY@WX;X9=w_pNgX>9%<.qP24hOfe0Q+:WP3oGLbr7lM&$2iA*FLUheGA-^@a`k@:K(UA*JiU8eRpVZNHHfU7RD#UTx+p-N56I:D5gG+^vF/:?9v&c^/:pJu2EUAtNEthGs+JpLbBk3+GF.gC&3#p?;4X+CYMP%I64-_Q_G<Us:Y?pH:myf(_g<bNb7X?b:utGY8b5ldMYX-Li;J1H(v7N(j-74P4/@OMQ<>L7GeBvfu3]bimm%/TSDut+;.My6:d`yvhLia-92Y),vrAtkD9_j1kB8d4*#EXT<fK+%e`_M6:PnQU/fW0P_X%N4f]y:A4lA&Bia5N[Xo3GUWi^10R@t%)6;Wg/.1FFcE3d#ZB1$xi^v;oh^:bc/r2Rb,CpccN%7%XYOX_X=DEnV@&vXc[cRlO^q/&C89gxIMDcj66AQqwq8JBuHDpf]myiDRZS8tRa)+nsVe)bG2>;K>.p&MDmi,ahbd=vA,FMxvA;yoFW*Cpsp/1w/:5x(DFYl>6/[4QT&0csrmG_erZ6+#>GT<`:^@QMDo=Is;5;uAnHhrH(b-Lt9$gJ&Q@LfcEdJ#He#pHAV(spM/?@PjT<nScmDl/*7jf#GX2w+mmFVG_G3<aIE7w8:#v7Kub2UG;;[]$a#nnQv%/Nw,v]YYo-Bi7fc3e3AQ]%vZtM>p(MFtUoGg`aTBCrVv33<2m1<sle7#k(^7`60#x,Q6g*r`XBFU5Bc<=0th/gQ+&a=I>`L[pXJp,)>Z55io/ti-LF8qARgMZpXkyq+C)iQb4P$i(LWm`gvUIT/Gg[m_UkUndTben/u?1>,Uq5ra7IwQ/K58FXsCJXQ-2RUb:E[r^H^H<c1-)D`Uu/e&1`_:`x1V*K4WI>*nc&Jm4U7oY`:Y%Yr@,Fv7wT=WlwQq:o,#>e56n6@[LpqrH<ZkA87ys?h]y?^_M)&.BdFS:a;dnE$d;*pg.RjP@[Wl,w3.*=wj%u@I/i6B3j@w)q6%hs(H[hsRAWl=E][Um:aSeWVRV.Y;@Ou&LGEGC([c_B@g+4]]sP3Wd93Ruc[>ubWNVI^[b(2YNX4?ar,Q?p^@`@`EW.B9.Bhlq;L+kvlNSiQM&g0IhEO#r[fjAbpi]LBn?%73JQ)MIIIlAn*ocF.y*U,Dfl&0k7q)#eUybWhxC#UT90ZhmGbn,@a?>w-e*A+/(j8iV,o5&*ZS/V<=F=2jh_e)<)*pJ1Flq9S]4D1V(3934%OV,vdlFs6CaUtj7=.dw:B_cgWd5@Txm-Zk$4EH:HR2;-hMAKp[Sc+)+IY@7cZKPhit_U#;n9531OPrgW_*G;M7RKBnU-+K9afnAg-4EA&HE/R?39%2ETZMkvu^]d`nI6>QBxH8+eFs1#X:Mg[:JKBH:yEM33-Q(THKpKXyV;hVu$&YV(OYQV^Vee39M/526B],]H<F-7C^b+02l/_Efx2ykKNFn)-kZx#qw3](Zb6STkKPPbld>F1=AuUcaJat(uGJG)mW+>c$v)DL(Yr1)1%[$7rg@ZuMSLM<VU+gT<;^%J-2@T,TcYun*wT21.V`:%98(KJMdJx@fCW.UKK:EH8s[=DD>,_LdACuYk/M_@lIC>RcJNLASW%0/@)Jks2rv9lJxvZDB6CLX&G.5&:?)xJUhOZWT=do`0y78@kIT3n9N6go-Pj^7S5HZIb4mc-E:FR_w=^7T%B8_+Rb]kR:l]%;$Vf;N#nj^:F=n?b*%o1a*)r^et?^xG*/tKyivqPPcDUxVRvdu[e<^BM&N&dpB-P==#^s;0Hg,#=H5m-Fb;Wx>do@7t0Vij#=1jyTCwnI+;@i.S)W,][gD^6EI]MKlaE=3B]@2^S@5@U>$9B]w@`Ci+@s@l0Rw>^;h]KgC.6(0<Z?tol2XZ/hbd6J7Vo<iT(6*GPH#DcFM>HSBeR8-NbtR.xPKCEDQncDl>%:Bs<tq$lml]d6KL0FPD0-VYZRFkY-aZhPmTC=u;SH@Xv?JF6;eTyM#Bb-CN-E7L.1^8fZ9F[QEg,Nh6jJY89X/f_p.:_9AsgDbL@c.&?tS?t.Sh):Y=Ic=$aTR^8gc=]TX*3fmH3vhB+tnf3B5^+$x`D:-tMttqPK/rIN>u*b7F,N/0%G@)R]wnt#c[#fx2_tnMN%umUEyWs8AEdk`CV7vaQ4GrsH5Jc5Z(wBRRy*j_Fl3vC?;sP<b,y$Z`8lhO1=MQll]Yys07R8D?So,qRcuRlmB^QO./cU$,,rB<YKlI#nO*[TJGsG`6p9G*dtJ^A#O%Gc>s`+i[rl9@7<f:w3jHW-mDtAmX?9Yp6U9mo_%sNCh]VsSH,[EMEml.T*u:,m$_/TVWF37df#-`XgIHW%eUJqu@5F1V4lM;WRa93;n$*Z&>q1BOmj8bqi1O:o/FKlZpvKixNUoQkP9]X%s+qK(+xON&2Ylb@Q`15*7_a$C4XcP_eUIM.tS9::F6CYWY<%CkUTi$/G8kITET.YaLBI$=JHfxhoFmq*Q=Nf`D2PFqqsD&tfvqK>ajjE82uTI02JW1QN`g*CXLt)XU8?a`j^8/RnSP,D$x.:8[khfVhS7x_g?.h3mF(qg>8NCrSYbddjyZou^6Q@*1:/Hu*OVd)s`U=JTr=K/O)I3rpkISEexbf%gP3V</F=MuE7M<HDAIbBQrPo/+f?7W]jCfy?#e1_6Bvwv:Zsg;ckMrkE?7)[/R+%btIth/4v>mS+s/88cU%hj8(/^xP<8+r(skBvdG$SUBk6EHW;)QF;fiK4^Gh?umL8HPw*U,N#3bBhJlVAQKk0BetJ7an:.kee3viMRJfq7<WD1KY<e*s77M(VbiTc[Fp%A+.+r8OWCG7l:Z(wd^M5@gOFl6Uan@E&),Al+)ZKp9UOTer6Njv6.V6.KdrhRNCQumLYFl4)[lZNo]ot6*Tb5yC#5a2%8*-h9V:_=$`TW06uBqBYQ;LjwqKK)$StAv2_fH4q0d`)9+6;AQe?99=*od%&o,aCPS5aFU`p(p<um)B]7b5q5NP_jVV10s*33#0&pVjv5liSk?uoC9;@DRI$10jNJn,DbO^W2)?B0,*:Z4WI`Nja;$c-%qU<<S66GJwo2,GttPoCINb>G$a<s7HpKX0+H<HQ/])D&sgj;3%bpvD0obSeqBFwY;N3@LTUH7mQux<X?9Gja=LAh]d_pVLg&pi<hirLJsFPTp[eq00jKug604BwcVwi_B]u($+9ch=hpSBpV(bZi5[T6aM&7ED]ZNc%S.kn,Go(GJC6^1lh[g?bZFoRChPoeea,IS@^s<,Ov.n2xqgbFj-p=I?hAgj$H4eKm*[U&OVH7oI4g7j2Meg<XV8K/VH4s,8p]X2R3n5G5A$>`8hucp17=.Yed:UPxN[tOYXLpnYI4y]<JIN(ZKyLq<LBfRlfGRtx:TAMi`o)2#4@A#GpN`h5X_^T=[Vd.<KZ)]Bexub>`E40Ekl1p2+MR:N=<Per@/Thf(AfJ(79bB[/iJx$G9-Llc@^%eq/LlsnqO@t?Iyp;r%VGk_^WQ792SN1VNmPk/41cOB&9*`&PNTVgY+u&Q-V6/]XHOybiGd^Qg;%&=]Qq@MaWRNOIwey?C0/9DFOQLBacy,f6QX78O5c,C`ct/C+53%0i3ae<O@G?QhP4dVaxjU77)g21$4xqT:9/b*hY:2;GiyMH]]=:MUUQ%hxIC*pXCgFll;egDndgXeUH*4qljFaZtXCx[(ipOHmRQrjixU1osCTVqf$;Y`Y-Gwj]4mBcio@J*27y@nm10fMG+vNb;G[*lji^<5hDYitVC?(MA>wk1<KG[[.2KXknt`s264R515m0iFQbb>jJWv$v?OVlbJHgfjJZePSgaDn2EjSnW]dD$QP&`$6Np_E@.2&HI7(20w&(#2B/O2we%#9[G^7nfQmYE]%)7)Yi,LA$-W>5DlDuRAj=MW7]oEuKbHjqd9j3yMhTZX0Lw;7LEp=5k4,H`OSRl6<d:WI96HkxLdlS*@6=&%wHqv(V;^h;Pn@d0:DE01yT03.6";
+}
@@ -0,0 +1,269 @@
+package polyglot.types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.StringTokenizer;
+import polyglot.main.Report;
+import polyglot.util.CollectionUtil;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.Position;
+import polyglot.util.StringUtil;
+
+public class ImportTable implements Resolver {
+    protected TypeSystem ts;
+    protected List<String> typeOnDemandImports;
+    protected Map<String,Named> map;
+    protected List<String> lazyImports;
+    protected List<Position> lazyImportPositions;
+    protected List<String> singleTypeImports;
+    protected String sourceName;
+    protected Position sourcePos;
+    protected Package pkg;
+    @SuppressWarnings("serial") 
+    protected static final Named NOT_FOUND = new Named() {
+        @Override
+        public boolean isCanonical() {
+            return false;
+        }
+        
+        @Override
+        public TypeSystem typeSystem() {
+            return null;
+        }
+        
+        @Override
+        public Position position() {
+            return null;
+        }
+        
+        @Override
+        public boolean equalsImpl(TypeObject t) {
+            return false;
+        }
+        
+        @Override
+        public TypeObject copy() {
+            return null;
+        }
+        
+        @Override
+        public String name() {
+            return null;
+        }
+        
+        @Override
+        public String fullName() {
+            return null;
+        }
+    };
+    
+    public ImportTable(TypeSystem ts, Package pkg) { this(ts, pkg, null); }
+    
+    public ImportTable(TypeSystem ts, Package pkg, String src) {
+        super();
+        this.ts = ts;
+        sourceName = src;
+        sourcePos = src != null ? new Position(null, src) : null;
+        this.pkg = pkg;
+        map = new HashMap<>();
+        typeOnDemandImports = new ArrayList<>();
+        lazyImports = new ArrayList<>();
+        lazyImportPositions = new ArrayList<>();
+        singleTypeImports = new ArrayList<>();
+    }
+    
+    public Package package_() { return pkg; }
+    
+    public void addClassImport(String className) { addClassImport(className, null); }
+    
+    public void addClassImport(String className, Position pos) {
+        if (Report.should_report(TOPICS, 2)) Report.report(2, this + ": lazy import " + className);
+        lazyImports.add(className);
+        lazyImportPositions.add(pos);
+        singleTypeImports.add(className);
+    }
+    
+    public void addTypeOnDemandImport(String pkgOrTypeName, Position pos) { addTypeOnDemandImport(pkgOrTypeName); }
+    
+    public void addTypeOnDemandImport(String pkgOrTypeName) {
+        if (pkg != null && pkg.fullName().equals(pkgOrTypeName) || ts.defaultPackageImports().contains(pkgOrTypeName) || typeOnDemandImports.contains(pkgOrTypeName)) { return; }
+        typeOnDemandImports.add(pkgOrTypeName);
+    }
+    
+    public List<String> typeOnDemandImports() { return typeOnDemandImports; }
+    
+    public List<String> singleTypeImports() { return singleTypeImports; }
+    
+    public String sourceName() { return sourceName; }
+    
+    protected Named cachedFind(String name) throws SemanticException {
+        Named res = map.get(name);
+        if (res != null) { return res; }
+        Named t = ts.systemResolver().find(name);
+        map.put(name, t);
+        return t;
+    }
+    
+    @Override
+    public Named find(String name)
+          throws SemanticException {
+        if (Report.should_report(TOPICS, 2)) Report.report(2, this + ".find(" + name + ")");
+        lazyImport();
+        if (!StringUtil.isNameShort(name)) { return ts.systemResolver().find(name); }
+        Named res = map.get(name);
+        if (res != null) {
+            if (res == NOT_FOUND) { throw new NoClassException(name, sourcePos); }
+            return res;
+        }
+        res = findInPkgOrType(name, pkg == null ? "" : pkg.fullName());
+        if (res != null) {
+            if (Report.should_report(TOPICS, 3)) Report.report(3, this + ".find(" + name + "): found in current package");
+            map.put(name, res);
+            return res;
+        }
+        try {
+            List<String> imports = new ArrayList<>(typeOnDemandImports.size() + 5);
+            imports.addAll(ts.defaultPackageImports());
+            imports.addAll(typeOnDemandImports);
+            Named resolved = null;
+            for (String pkgOrTypeName : imports) {
+                Named n = findInPkgOrType(name, pkgOrTypeName);
+                if (n != null) { if (resolved == null) { resolved = n; } else { throw new SemanticException("Reference to \"" + name + "\" is ambiguous; both " + resolved.fullName() + " and " + n.fullName() + " match."); } }
+            }
+            if (resolved == null) {
+                resolved = ts.systemResolver().find(name);
+                if (!isVisibleFrom(resolved, "")) { throw new NoClassException(name, sourcePos); }
+            }
+            if (Report.should_report(TOPICS, 3)) Report.report(3, this + ".find(" + name + "): found as " + resolved.fullName());
+            map.put(name, resolved);
+            return resolved;
+        }
+        catch (NoClassException e) {
+            if (Report.should_report(TOPICS, 3)) Report.report(3, this + ".find(" + name + "): didn\'t find it");
+            map.put(name, NOT_FOUND);
+            throw e;
+        }
+    }
+    
+    protected Named findInPkgOrType(String name, String pkgOrTypeName) throws SemanticException {
+        String actualPkg;
+        if (!ts.packageExists(pkgOrTypeName)) {
+            actualPkg = StringUtil.getPackageComponent(pkgOrTypeName);
+            try { ts.systemResolver().find(pkgOrTypeName); }
+            catch (NoClassException e) {
+                String shortName = StringUtil.getShortNameComponent(pkgOrTypeName);
+                if (shortName == pkgOrTypeName) throw e;
+                findInPkgOrType(shortName, actualPkg);
+            }
+        } else {
+            actualPkg = pkgOrTypeName;
+            if (!typeMayExist(actualPkg, name)) return null;
+        }
+        String fullName = pkgOrTypeName.length() == 0 ? name : pkgOrTypeName + "." + name;
+        try {
+            Named n = ts.systemResolver().find(fullName);
+            if (isVisibleFrom(n, actualPkg)) { return n; }
+        }
+        catch (NoClassException ex) {  }
+        return null;
+    }
+    
+    protected boolean typeMayExist(String pkgName, String name) {
+        String fullName = pkgName.length() == 0 ? name : pkgName + "." + name;
+        if (ts.systemResolver().check(fullName) != null) return true;
+        TopLevelResolver r = ts.loadedResolver();
+        if (r instanceof SourceClassResolver) return ((SourceClassResolver) r).mayContainType(pkgName, name);
+        return true;
+    }
+    
+    protected boolean isVisibleFrom(Named n, String pkgName) {
+        boolean isVisible = false;
+        boolean inSamePackage = pkg != null && pkg.fullName().equals(pkgName) || pkg == null && pkgName.equals("");
+        if (n instanceof Type) {
+            Type t = (Type) n;
+            isVisible = !t.isClass() || t.toClass().flags().isPublic() || inSamePackage;
+        } else {
+            isVisible = true;
+        }
+        return isVisible;
+    }
+    
+    protected void lazyImport() throws SemanticException {
+        if (lazyImports.isEmpty()) { return; }
+        for (int i = 0; i < lazyImports.size(); i++) {
+            String longName = lazyImports.get(i);
+            if (Report.should_report(TOPICS, 2)) Report.report(2, this + ": import " + longName);
+            try { lazyImportLongName(longName); }
+            catch (SemanticException e) {
+                if (e.position == null) { e.position = lazyImportPositions.get(i); }
+                if (e.position == null) { e.position = sourcePos; }
+                throw e;
+            }
+        }
+        lazyImports = new ArrayList<>();
+        lazyImportPositions = new ArrayList<>();
+    }
+    
+    protected void lazyImportLongName(String longName) throws SemanticException {
+        try {
+            Named t = ts.systemResolver().find(longName);
+            String shortName = StringUtil.getShortNameComponent(longName);
+            map.put(shortName, t);
+            return;
+        }
+        catch (NoClassException e) {  }
+        lazyImportLongNameStaticMember(longName);
+    }
+    
+    protected void lazyImportLongNameStaticMember(String longName) throws SemanticException {
+        StringTokenizer st = new StringTokenizer(longName, ".");
+        StringBuffer name = new StringBuffer();
+        Named t = null;
+        while (st.hasMoreTokens()) {
+            String s = st.nextToken();
+            if (name.length() > 0) { name.append("."); }
+            name.append(s);
+            try { t = cachedFind(name.toString()); }
+            catch (NoClassException e) { if (!st.hasMoreTokens()) { throw e; } }
+            if (t != null) {
+                if (!st.hasMoreTokens()) { break; }
+                while (st.hasMoreTokens()) {
+                    String n = st.nextToken();
+                    if (t instanceof ClassType) {
+                        ClassType ct = (ClassType) t;
+                        t = ct.resolver().find(n);
+                        if (t instanceof ClassType) {  } else { throw new NoClassException(n, ct); }
+                    } else if (t instanceof Package) {
+                        Package p = (Package) t;
+                        t = p.resolver().find(n);
+                        if (t instanceof ClassType) {  }
+                    } else {
+                        throw new InternalCompilerError("Qualified type \"" + t + "\" is not a class type.", sourcePos);
+                    }
+                }
+            }
+        }
+        if (t == null) { cachedFind(longName); }
+        String shortName = StringUtil.getShortNameComponent(longName);
+        if (Report.should_report(TOPICS, 2)) Report.report(2, this + ": import " + shortName + " as " + t);
+        if (map.containsKey(shortName)) {
+            Named s = map.get(shortName);
+            if (!ts.equals(s, t)) { throw new SemanticException("Class " + shortName + " already defined as " + map.get(shortName), sourcePos); }
+        }
+        map.put(shortName, t);
+    }
+    
+    @Override
+    public String toString() {
+        if (sourceName != null) { return "(import " + sourceName + ")"; } else { return "(import)"; }
+    }
+    
+    private static final Collection<String> TOPICS = CollectionUtil.list(Report.types, Report.resolver, Report.imports);
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792336122772L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Y)I5q*`5qG%7fM&)hW?X$=7TD/basS.D.wHMZQ;[djePoeq=;n4=wq=fcBT?2+fYx-:3@k@y#0O2V_b=-abAoK`25SMn$*l2,($]v[c=UT4l2]_-n?]a`ZG<k#0`TI9>?6t]OAil]^dTr,#w+jyqt<ZjV3R^LLY[eaeE3ikdUP5geY-8wcYWiVs$VYp86Q:gLFW$qZfynTK0Ob6]<4M[dLHRZpFlRAWgKneetF=lBXvr59>WXXI5<v5Q6r,H,Y#A`0JAY<3#Ai^*Q]Q[;a4nXGi:1]6:I.MIwa=uAEI$`<oo8jh>f+kN@,5n+c1[.C)RJtK34SK<EA6ML+5CCDYP3OC/gG_##hHdeMv>>TJiCm1FN9jr=Sj/,,a:i8>,b,9Ab6EUoKc*HoFj1^tU$_ycfs-Q/l4/<w[8-,CqV3Z#JIOUE#?X=08A$E:$9JkpD=j0DJOB-E%nCswQUaMt4pR[9D+`t%)9jO1[j7*D9V`qOm%9uP*.DG([JWl]s[ET/14g#L@)dt<I53;mM(,;K[enL,E$^ZJ*O)3OtAfMIRXIE^I*@r_B9VRHj<)bA?^7=s)5uNO*5,?fA]BAhuB?O8@Orb&^t57wx@M^]f1_ipQHs]WaA9BD[GJ(95m&J3d*<ITrRRee^Mk+AE8xE1mjp6&*LY$o;)Hp:4iplM8kPO%3U8MI5<xio7OK`K$,_3UAro^[XVObl4]vH6:e=07oOp964VAu)tFW1[JCKVCu;)ZH,;H:PA5uKkdQ=@ELDFq%iBF#t/h(gd<pnry=W`P$$$JS>0BWpOG#osW/B>HB:ak6)7KATVQOIU#4D@/gghXm:w:.>9,WVSDaAqxlvRrWyvInav)R=_TX)$-XLAb6JeH7i^>Z#^qJAJ^[u=jeu@]&G]m=k)DkU<T^6gpT1w*Pm<T;:D(%C*i%_CR`b*;h]0;Y+GHIdTUa`?V+T)gPS(6ZlfVk2RmK1HxI_v(Tx3bh`UG]pCvUOt-f0AoMwYaq&eINf;j>$(+OILjB6p%^/]Ist#esPWLe[6X#>@vLos)@kjI?/sNgM;X/VmLPK^Zqa6_U]V(rUFj40DIefJRV&qwcU^*d(C0MNmJeOtI8>i0>&^a(#1LDR1)<rtN($=P%IWM?_a0iUXhFrUie3ka6&$5g1fmscV*PKJwY[`7h;,d>cssEB*ERGxg4@A>u0%k*/Z]U7WqMpr)a???yadZ`8F5kO$<bD%tQs>W8HIxupvhZfrwf0Yx,]bI(M:Q.A:X*OlquuINc(mm-ps4,e`W^:fH&0WWWMQ[<6%`-ihV#y&[s`kMS`xcq[hfpih_:c`gQ`^Le/f&QxN]_k@0@RCN(@5G;<?cm&FZbT.tkt,P.irl0TPvkqpM/pYpr0WZ8cAJ`,X34M#5NS,F6*+*pfDmTOQ5n2T8GD8a*3I#e>E68X5_i=:wRu/rLP;R-[/LLo#b%s%l6@rjyB@S:Yl*J%Cq%c?DlW:oxvIDs_8RK]*PGa4q@7B0tjwVWoycx3m<kw-t[$j6@W?svgg-whMGvK]%*>GBDG^his;JWAwJVE&gGLGq)$8?YjoDC$Wwe1+1`R2CGo)CRfaa7G/V20Ni<@GK7VAKw5?(@(Kp2ua;kGt4B]byoXr2e]ZZ/w&h>h9Jo6PBv`iFX>-`;44#M.+S4adAT)xs0%-qnANE7C3YW-BwX57>FkW9^Cr]a7ohh^aI2HWFS]bp>)g<_3S-:0bK*?JO`+/w[?NmjrWjmns4$VEH?p.`6BX,HMuI?1uiO9ZcWG6QMdn8Ukdi=;KP%E1J8lgEUAWsxnXW5X0W;k?xbH<vGf2yI4aqly1/qdIbwa4JL51K&Zsk?,y4^sv<e^d.S:+7<C_aCKv3VZ3^81;[gkh)+RHt@YGVmAq=-Kec3HoIr/8mO*uN7me8<[DX^>Bbg/AX4KA%hmsSa&hR/2Z$eY>/?4;e`#InYi&*e4pm0j(9]69BkfxRF[OBSd&0v]mv(w((6UJOgjIeaZ)i[IdNGgSyPfr1cMMHh2&m$lu96VF$,1-Y6WpwHpu8Vi_vn0QoT.tXN0dxQec`LsCe4OlLk=VH0v*%JY(>]0.`t3[LcFJ<2;9Sp>OT;7%_Q+nqF_dV?L$v9?<i82$p2(R:YgG-f1PvUe_[7Y#/nRTU(r)-g)1w3cKJD*Tq,()(IVo1rOm@XLb+uNE@g[aF2^^4uE<%@OrwAF,K%uGK[_Xf3j)cKr2Y?#nm@d$M2yktOKmrxyd^bbK9v0N3b_<EpE3]i`r;sUB%D7:P-5iA<(=7KRaTlwl8b?eP[W3t,PNu9C+iG9AG%$I8_;I`7/LBHmQW(G*LGbo=RyHfC_5aSNZ)=oyt&AO2ESw^+RVgb.mCa+0S,vx9Im)Wa?<-V2i$UX(K%o6WqqW,Ff?9rffL^lAGwTy(synEWF;ptoX#^q.H<09YRNulu6B+QDDo4TT^q2Q1@`,-J.tT74q,_f5It/)w43DCx/DGX(jBQyC2nogB9)I<W/H5#ufyj9(G?iC+LPyiNH9g)3r&LqBHXWVRh]f7o>1DpiK9[m6VoSj>dCe:NF,sKsdV9b?mcA)?3s8gUNBpP1lV.^&ONLA1teeSLn_i3qB@w/BPU4c/8d5t;@DAi&ehX4YT679$0cuNb46Mx3g&Hf;^tpi]a*6C]:9>9n=Xj>jA(<@W@?67nk.@f6d(4YC*Z#T+Vr8bl13gB*rU#^1&@]%jh#F]6?8LHd4ord2QibT2`0wJEUT_7[CO(hR/fy<b:SkHLWjB;D9RJM*4<7co/SDVa;]%y_5/,KDC%$md31(u^]po=$_%kdTS9xNH*t(%v7hL=k04M#h6L`q+30,K+Vvgnkp@aX=iKySr7,&-TX_hL/EgPs<p3vPEeXV?d*o]%>8m`snlG4+k@y>GIh__WL(cHV</f-_vcBX#qc2m]15dD*kpbGb3Ac-[(G<VQZ49Z]kd]L4S0,O]SAToF+iQ8d=#-cnQOF21wBy/qri=Nx5H7g5c@A6,y%_W`UEDJh^plc7Bs/*3JCw2._A>B8Q6sNjg%%F`DPk99+d1w0<H+tl;qo[MY4FEHlLgQhXB)%&&N0Q8&(-/-/@J[r3BCO1<kGB78usVdf0hVVV,xajddZjRLV1I[Si%QQMfcsN$paF<Y]i)#e@Xi#f%505oo.JTAdGM(FD0?[SO[]MMGh_V0YJ=[V]lu54U:6_tAIP%KFKS5$0UGQHXGS[uSkbkfkYu.R=9QqtCQuRDe&rkE<`VeCRPGB^VW95-CO]$mBKT^`7jA(%+A[IOCh]^1B**^`7_1d#%MLBiCdVLwBho6_smVQKK:J`9LK;dV7)f_ve2<wNnE:soV4S(4Mr4WmDH&b:(G?d=RvF9DKvi`&[G=34k&[`WOBu;ob%r$w_tLGOI0HxHPEl<>f,323Pjt7r&:XQDfR0>oB+vR_[V0RAJ;p3?F,Mjup$6fMW1v1$aZW7pI)G/gANw^24[b)?(Ep[p-lwM0@>0C2m:VCELd+.AiF_6VHx%g*W6_ihj,#-Lb5eoX7<FIcQWA+FvPJoXC3yRQg)4am=XAm7lJw:eLemj3hOjhd0gE;5@B9m(tA=8#ChigWovw5afe$xD;)%c9rioo?.LEG?1ah(tI+Qek6Dg9MaVK]qIJh]-QuRNFZg.j,ZTPx76$adO+NFK=dc_EP7FLc9$SI>A`36b88VSp+pj*GtfSo&4i)X^HTU4$4eaRO_h2tF&4x[K(1j;s17=/9p,P<G;CmrSS,%Vjbq-D>ALNbP<4ft#(Gm((=k;&HQZ,D3+R>sHVi2;K&Y*^C9K(e#<1<P0F/V:e+2HV?2M0D=Rbj_`Q#P8[s[4^F2W5K@)X:Aab9vL+F_6CqXBCs`,J$wO;E_oy?TG)@c$1ob3Q7In7LuoMyPR52(ed940WS^:v[8g`1%5aoZm7F_dQ?.(=jNsgy>vhe/0<gvmb1n[Y6xry3f2MNrFf3N]v83_67@XwtVKp4C3cjDeO,mWp9smTQ&UxK73*?aY)+kj6Sq>ISXA@QZ3-K$R%UE(@$_t2^7QG[Sb/j.i@:;)gmy?VtZ0eT;T)B5N=OiB<-=by)F%VE$OGx[aXq2bW*Hon,GBn9(qHkh407Q5mP(SCuEOK6Cf,`r;WropX8tY]eF2*<O?xL1gQwpPsXjrMs/qNy>v[hZ#t(0%?_3us_,WfNliKcSW71GL-$FUGMQ^jib<l(k5@ktf%`#]$fZ?mW)ev,4gZ]$oP3M64/jY@U9kkIt0lY/67>NP0Je1iDImv_NKEX?=(ly`[/t*x+OZ%8:C4E5@y)%O^i:.sN<=TtwdGI8f60*9:2@?/g4%^8IU?R%kEp7f.684d,Tue^IZ7nBfx$RcoqNwc@D;?(weUHwk;nJsWSN8KC?@BKfDiE(XFAgIZYf7V,kr0ubPQ:TxLfJjNC0wr`*tFxn9<:wNy-2fZO#%ltxeIU-3i@)kIFsDSYO8D/>n?lAJTfM^S%VB,NN?P-sN(F8Cc*tsA4ft7W$W#AgF^wEq5NA9+ZmN/&Uva2f[)bteIJQI>-Is5*+#8n(s-R10dVylJ4/Z8:<&07DVZ1ytCYa@Fe+MO#6Py:B3y^<.u-U+sw*4))o-^2)w&DvdQ12F2iQfpR9E]q]C,us5-dUi)Rfy$lgV#^xYwFPx;q?_oeGcNgvYs1Rsf$*m@A3XSHG[y>`l+Ek/TFc)Ty8>lf_7,yb[^I$hcHWprnmU]52b.8r7HV^<gmuN&m=ff9mY^rURx&GJL8IrottFRg&PZmF-`+jY`?otV>I`5g;St:vl,cIFADEp3i]1El%DSvUi0R";
+}
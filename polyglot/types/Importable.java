@@ -0,0 +1,10 @@
+package polyglot.types;
+
+public interface Importable extends Named {
+    Package package_();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1NmYGs?+1[ul31Rn2d#n%`_Wt?/_E/m%](eVfJP.mY>7vn]u#vlVG#@ajpPq1^^L[5RC;5i)0b%[uB2Po9x1J=N(@W?Mlf+TGm-`]+GBV@(w_xegO-b,YirH;U8;O?w;YryldluJWshRKF4fn?/OhA`>Ct,;IIBl)CGr4F=WhN(GD/3#^%2ve_F$P,6Y,Bg>u`%nZ]r13^$_DF&g@eiB/[5;CD8/Kd->Z./`LP:SZ[L/n-7pL4rKRBhBU.`Sh+T3<tVf:N-pWt.k.i%Gx3gYEfmJt`Y3(^YTbW,TY`jaF:&By*84RI)>H6n*ygy8$[*O9vtO%g*T`m%Y9<6Jfy8&:^W?U6[eQrg?l_VJPD]NN?+C&=$?<4P,NL,b<[ug,j;5`HUVB0C9/I+,QD:=+);MM3)MO*f0e)^sC`.4:gOe9QWOqqcB8$,yg0&vZpG>9pOAmjO_IPY9^-9e&N:Z`$1,r)I/=2^CN;0B8iI,O@G5hpc#ev1W)ZwNYXW1%w&dP(&-TC26Kv.i$-#.NOT(v<C@yd<Up$g&aN9Z*I$i.r[<3&6D*mtBY20@,lS=<*:Y4pZ6T/Ysqw.^c0g#H6,IRp=?YAfYTiH4;t:8EQ3>b5gbcpGhi`IrU7.C;@Xj485VAbb(&s=#.H,`4/iEoUb-(lPL5_Lc=u_lkGq8%ms^Z.504eSb0(]3sR:l#&=EZ7^27XA4aq5FH^vu<9/?eU>GsllSv*Pvs,E;*UNjCk79/,cl^AN*:Y5<PCXFtD:^?fdhgTVFQ3ed_:Gn?H&>,D%[vw>&NH^+]0F[3MgeGgHSEmK(C/pFAlVbJf]Ryb7=//Kw_Yicvf1[+W$lg^ehjkSj1.;3V+=*HwsGs`$r90)-JFcSIJ%G#KB4nLr?S^o&Hy5NYy9/u8vM=ThZBtGPj6S+52;_gW>46#cZ%*K*LB+H:C3(6?8l2T(UG&lkcDu&@c7N[27YX??Plg8M^Lv[jB9y.BWAvj@wNn9t`$4/Cw`4;79Qb41_jI+(y9;R89?>WcqxmpD_XsBC/b(#AP-U-Ao)R#k6SI(4uQe,m)r>u?r)B9#-V.#JLmEYP9Hs-BJG8c6xsdpwfTY@V((6$T<8_b@%Na.PXfCP15Z$IkL(646ZpQL*2nvS+#_n2u+0?YKTx^I;ox#HLKgbA/V,y1iFFsm>QXqw:r0jt9Y;x$B:udt-c8E&-C&_XN*-2]ep0PuJf]fWYDY6w,&dcYqK;%h,umASU*uWRy$FkO]I&/L3WO<b=[#vg%$y?j:X&(Oh<IbG*d.b`V9$50hZs1ot6j>(y8B*Pl%$PhCpABoK;#J]JDD;+c-6VM8Ny%#bmtl1c%6e]?al,>U7KB9N#QXdK1Hl[Y4<[Pc,A/afRS?QGDrpf;[ypfbq8=3aFOBtW#%Ag2bo,ZIiW9;?(M/@Mo*qSkb.)I@RW[)DMvh7WOnKM1-?[oW5Qqowm_V/uOVAr)]+0@;o57nM6#9Sy?Il7F#HJb3mKSJ)/yEG._MiSNlX[@gbgqol5Tk2]+mJ>QMa?lbn*P6b-hQ)/<p]CqmX31gT1aF;6Ta;PxGWq>;&+6sWfS>J$;o`YqG:gpxP?MwWg+hf=^btOmq/w5l+E[:FbAQc5Djp^-(YO`:vdoS</)+]d,gA>wx3AVH^T#$x)SX*BuoK_p51+Il/B;3.d2r_&SJt]Z/Bc)gTR2^i`VK*?j1$VoLS26rK5G>*vy4No%QSE(%#mll?[gNH*UQ8SV[LBZ8:QFZ<vQXT_??Lvt,cksCi7MgX[?eNd)Q3E6saIa:9c=3laBvl<28X%j%1hl;V%(_+[?=Z;q@?XPs4B>7x(SAy@E4E8Q`oKe-Sl%dB$BFfn%.R40+yR5$IUo:v=@Igdr+@%@r(iYCZIKeTTKbl_/ghihnf+UvmW:qfCT&:VKg<6hASr(0ix&>>i`t.`s34qxgP4`uQ>e(";
+}
@@ -0,0 +1,12 @@
+package polyglot.types;
+
+public interface InitializerInstance extends CodeInstance, MemberInstance {
+    InitializerInstance flags(Flags flags);
+    
+    InitializerInstance container(ClassType container);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1VTE-8*Oe$9a@0?x2`St0Y%oOMEl?$12o#QdRjuHRdCI,6.O-*Cp3citC>kC[V]M`SN0Zt[%^7HJWPK/s8tVts3=6[oMUG2-d65W&g,BdQ+Re-)w63BYqYW2(BI&sO^mENWlkf+5Ay]E8i;.=8mJlo4)[&hlvWd]U7,AKe^:ZhRM^59(U%7X^0k_`-g=en?r$:kZvBwCRUav_U&s=B+fW7[RiR,dfXTGl=]HK#2=gT35.5^GI>u/Mg3n1n*7pk*dZ(5fW)0ZdDBt_l_)GgGG#Un3-nk&YhMPl&`9ra^m-#Kf0V)`AuZ@W24V4WRk%V33i(@h:H=*t)I:;)TTA?bDUtmOKKiHh$NqsB(0%UZ$eS.-`L)LercW[p`vQ]0%GS(AlyWHbDi6G&3&?Is+`7f@VKDU-/+:rJI.Ks%FK1Zhc9[0=)64ef%N+AYY9:&_2NZnL^+c=Q>A@6MN8KpnB3?SX>Zd]/R^1P#uvf]]t?X^g7A>e=AeiTNeHK>U`@O4+3DA1LV=5EJUMZfFH[A/FFL&Xan:*^wt)C0L]70UnhUaT@MJ*5Vn&.B3dv&fX$=)rJb@0YOZBkxjb7d$BmRs-c(#//wDw,LU@R3bWyw9D_&&Pq<H7v]j_kHrpai)56PeA>UHe5q_O;k_qCaDsVaZmQdAOCRbTw@W0Mn]rc(,`2C2]GFUhH0+b(g=GFS;nXOIho.]<F3o/[)l[Wlh;,J^1tikH&&=uewf?h7/;=)md?*r)/QGUmW7J`VZSCQYO.NF4^`@wUQJ>y0R%sg<xZr:_Em^4CP$udwgieW]UF%.7v3_%=;aUbZsO+#l;p=#/=m;3%aiVb.j<i)Ut@Z8j-F3tFc(^</0;>(i@c<kqeiXg%@6]/3a8>><52dC%1))SapkVB@NtRNHlNYoSG`ax+2+N6<ndP.v2c/1(f]Gf-ts-K3*`S@[c)DrXwQL[vP2#D7v,e6(`#X5Qm1[@VXX05aK+O^r#)?9KuhT(0wo?G/t:x1CN9V<*K*(^9J*1y*h1`efeCndT-oi<0EJoObfTlOf4M:>]DNnE+g9()ew#L5;#qJNu`ldg;0BVsHL#Guty?+4;t%-2j0C%9WS2Dh/)@PrP;sA4,LbXWASNDT`<C]R]c@xGuYH1y4cVirY9L4o$BCdU9%F(aka%sO+OJ_Rf@pBUuboGp.(S,(Di^<%@w_%f)p<]Ey].1p#Lv/EAF@Wo147MM#.9rS_;X:Vr%mN4mHkY2rst$:WNJ0<2PPCC.S,7+Y8_CE(l:s76W_-Qh*?<1:Q+Wu_b3$t::*e8n8ND-1uL>_](17&^_4dhtY>_^752Zg[=9xG^UQs&D+tmA^Es6KjH&%k=xOkfjE8oh4Bri,,q^UcQJZi,ClIhk<#w+(4SA-fp]N[5rOa)$rr%bKja[)geD#I.x.qTb<J<e7xjA;VOK+T8``30.-0tk]_]T6nn:eSY&<JpVR]8WKD[]&J76Tb.u3e)Nu4u]-l`ZpsWaNZZ_#CH50net2>rt,m1PQs)IcAIT5eSSCwx,YgOERP;m#aVWR9U.qeTrYfwZ]5^gD4E@@LM3f9385m0_q^f#Z/C*+M;@kF]K94951i69PBi0s7PVdemj/Rxb6fJ7eSLNy,kR;Rg,?$^a6U)$D9iOY2*&BTaK0:m7N*64q4L4aisc/x/Is$<q-#+q2bnrI@#SV+QM92GKZvGcS=U[hp?^uG[?6/=hlOfT_%n-)W*2><Fv0>im:R6Hv59cejli9(<d8`l-MuKCGK@6a@2cpTmaDT>Yqr&e/Anw)/WGnYuqJbh2`T_FgZl4u6T?wes1No&RUddm>BE^xLgJ(oW<xH>#Zdc?lpUUPpdD=O-%&-hcZ`5,/N5<=X/gu@cMp^1smnS5m>m,aw;s]^XqamcNREB#orf8ryeVVVEG=2F*%Sqk/gg`t4BPp4WmD]HM1rH;%=5Ve:D:n,6FNiZnP<2A2O7kiYNoZwar#L(E2OvQ^mhXn)C+6r7fb1KB0`I).k?99gM+D#2.#w6Zu%:mdYj(GDv`n";
+}
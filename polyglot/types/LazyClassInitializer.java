@@ -0,0 +1,30 @@
+package polyglot.types;
+
+public interface LazyClassInitializer extends LazyInitializer {
+    public boolean fromClassFile();
+    
+    public void setClass(ParsedClassType ct);
+    
+    public void initSuperclass();
+    
+    public void canonicalConstructors();
+    
+    public void canonicalMethods();
+    
+    public void canonicalFields();
+    
+    public void initConstructors();
+    
+    public void initMethods();
+    
+    public void initFields();
+    
+    public void initMemberClasses();
+    
+    public void initInterfaces();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1gp-8vjuqil9HWF$d_)kv/UT*=/Y1hA1;)P.ocA_j6$=mTq=Ja4q=rcZ`JJNvFD`xyfnMS)vo(eb,;Z^(KT$EG9O9?&HV,`?Q2%[P_sh2Zw&:2kt%;9fu@^_:(Jpkp<@L.&:-g&YA@vS(L@7Hl,aFb]HXO/P5x,8?((:IxFUGnTlO`cYEQ_ZhR45Jdw]fhQUBllacV9NGNW=;VvL=gVv$UECN`&1_Gmcu_2Z;]4d+/mCCZr_*qC3q;hX^@pc.@y?/4X/vTtKvF5nd/_FwRfJ6l)@$i:t^MPt>HdYjosT>3IFB;GGeSsZT,9r:&$xrud.3ZYaB=XV$OtgXvS)J%emU^r_[9[Lf](v1k,^d9sb<coTX/1#//y`6IuiLUm&TB?TjhQiGY@r%&+cyk0FwdvV9LMpi2BF)3MuSO`E_Obmky:44OoJyq_<GKVR4y4Q&;`UN<sTMTK<&-;;>v`^%:ZqIY.:G89CshR]ME1*Y=hp8/(9M#Vd5b7K+>m.W]BB;st.PaZNA#O,r]0o]A[eJYl&+?BId^&9x5;%l^jYX-RQ?150QjQwRDSXd7B2RN+fZMy2jX.#h(%WtCVD_/jabY-o1Eqe=u,]mLk`*sm#pdbuf8;YcVVABo:A4X4l#po0`fSrUU./_PT;J(gC%[mm^pEn%m1Wx1&.g2C8R],#`Rf^Ph(2Qs]62O-3U<yF$*u&$n<u(+$`l/xFVGlJPF(?kl>+G&T9gBp5Ivw5#^#,xJ)T=_lp5+>%N?)MUOf)uVYc(TsLcxBH]-&<``v2Ue>JEwO[;[oY@1.d#5Y*8p9Oq%:QP8Xgv?E]*Zb1juSrmOXk8V](BC;U(O*D3cs?7nYiR,9ArM?n]`Dq2u_8]+Rms$#=A?eyO6A4A?lh*R7H>xVScg7Z*u>o[e3F1psM5:5o(9YGE9:(,EYh[4jgR^41Njx*0J^n8c1kF0Fp`a9ffi89C.H?:0r9ZLH,v5t0w0igcm#qLZeS$Mg&eMUd:V2EqKuYlw+sFYP2vrD:/)F1r,d$vbAAajn=O$>5UXP1kDHT&mYp5OA0h,5f9-ZOo,#`,maG=l0w)$6hG7gFNZbQVvV..D4ol9@uHUG>tq,=PSU8Z*Oy8j7<^W^5q/(b>korME+88=YAN6mO%-h/XVTJ3bCihnO3>v-G(EtdCT80^]F+j)c<cdlSBefuF@KW@H5=aaPRIp/AMyt=bOBk(I#mBVD2J,La%fF7,4_84`?FTImJ]I<gFG,n(&j90q>flutC:`P8voidWc2^q*`Ghddo/3n^Bc+*%(UrwS0Yaqj<En_Zd0I#I`LZ-G?akFIdS_8f%uVY3Es_FEtWgrU+@m?hbgu3hL+EEPgoUL+;L6MOe63rQl,c#*Viku7evJ6C,;_a5V</Up<N4dIQ8Ok%uKQ5c5gs_nDkPJZDOec;.qje4LqJPA>$B%-BRgOJnILyXR9Z.uXs&LdZ/?XJvg%R98BlG9oOEg*^>/<@;^Eh<>y?Dtbss(I(5J&N:nW9&#SEo^1c>tl47B9M2-`Ti$N5x&^lPh1X,=x#X;GoA43nG7B>r&em.<qkNhut-f:B[Wgh0[_u)hL=b`$^OK8>dC;$Bao%ubx>C`Aucn:Eg4[O-L_0x`9#@$s<yPThH?pq-%J2cvg&pibUjV`Z.Fkj*J3nOs.0?-5,gZQVMt7N/a?Z(oQ#fU[h>*qbP][5Po)5lT^NMh8?[BXpmSytWSG`,4wX68lq#VQlfiA`6Ym,8spojXpg]LFcU&()d^D^jch6IIK`sIuc*r6ipoLpUbQix6QV?D/AaFWb?=Eq#(tJB0^6=mrY99grn2avM3UEy7cO8:a,+e4Xok]Bx+Rbrm1;6K@s>;#Fvlgb%F9[X30-#:R><vx0>#2pQVdlZAH;.?djoFj?1s`T(%:iOlP*I>xsasKgCT,)hNu*Kkt=L4i<w<-?;RLY4T5R]o6?Te@E(b#Ju%YX9VsmcE]--Z#bn+bCHQ5M64sTijmgNI4tFKR3gJR3FO)&#IBR#K[irwVQ#Wt[$D&Tf+i<^m8O<?$$pQtjoKxbx^:Ar*=`1SFv0^;kt?EvZPChK3XDey]cWjrh[(2JHN]:x]%T?s-u.4VJd&=%_a4(qy:b8p1A$8>us3:AlNbG_K@mY2ow=<@WF>bNI,Y?W?XSi@DYn^b(OWQi`^jv$5LkOeLio]In4vM_fw$jvpBdMwWd;lo8$4+9yGpeJOwBt(])pp<%&&_XW,:;`G_Dy0*r]uXac[S;g?#pXHxQ7lr$lTQFk5=CxZfg#[_sch:`W11J)Yue5H&=s]QChI1vPj2P91#Ypfc3ou,bv7((]4Y#n(h*:KV;o)l1KXD^;J3yYk]`CO/7INl%0_.3Q5KGkB5fhIY1sLu1ZQvx%A:yUGb4nnQ?H8(?`nT?9^p;TLJbdqw9p@i5K<LBm#K+SS9EjnM:tVu4?]L#kd;967IQ8?o;$RLa*)[QVsHR5rDqCC/<S*>=yxwNaU.M`^H--?ZtN5ihhWWMQre^Oc0s?D7BlZ4*y.ibYJ26i;Pi0;ty<%g+0_mN*dVF";
+}
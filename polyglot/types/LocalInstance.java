@@ -0,0 +1,20 @@
+package polyglot.types;
+
+public interface LocalInstance extends VarInstance {
+    LocalInstance flags(Flags flags);
+    
+    LocalInstance name(String name);
+    
+    LocalInstance type(Type type);
+    
+    LocalInstance constantValue(Object value);
+    
+    LocalInstance notConstant();
+    
+    LocalInstance orig();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<&UN*QJy9a8A$r;tE%YfL1+U`C?L^+ih7G_DAJcG+%wtcN(`]IywilDwfVR_qbbi)<w?_N)Tr-9)?s5)kShB<W>qp+c_AMTDH;OS3f$qbx[CefnMcb8q<3:I+Zfvw-x(=bUfFtbRy+g-D/mDJtnm=4ig@VaQ``VYI,:YcRa*ll/pXpjKRlFjH/lFX&gF^l]pO8._9A.X5q@d1dJCf*o<&V?0b/2XI<j^_dWo3=c`jWdh>`Q:6wv/SqpC`:IQ9[*N)<:1U^RX%gM?r1UacE1X`aBS^7vEHI@M@KhJI/+L`C#C0XWkpSB7*-CHHrl)KJh0x-+e#C^9dios0Za;=iTm,AR]0[]eNuE0$KKYqX>KF0ct0tc=-B?#IBe^gI?g+_fLB?#t</8,UUcTp%Et&S:_O9SOk=&Ht@/hw,kOwJf(2T[MZFnMbKZl.r`T`_5,vsP.4V/jZ-5KFN$,h?Sx:4u%Je3Cpf2CfoJ/%YG0nmFrLjGp)mU`+o7Bh6MU[*j&tD^$t/[?`yT?3vkSRTQPojV0(_S9xq3j#&m]*0t)t25+>?u&Hy/`NPhx:8PYjAV><uQpRh)w7p>:pL`=wB4H#/:6ajKvvTW1rl@s0HP@.;.@=XkXBKF)mtsv59<q^b9]x4ysa$QZ/ytbD<u)X.gyiwM06E28EG]>@f`ODYI=P9H8^;/N6W%R`OR^j.Y+)Q7o%Ju?^E-xke6m1@Fh:GDu=4Rd6d)+?n`ypSZ,TWZUQvSt7a1%u14r[?.a92rvo2HuckAB`Ou57VQyQeuWQqq?$a]LF<JCbGf[G<v2l+gxs?,QXgiq4m9:?swnIc+R9Cmg[]#ILV/x6jM2nuk1PT0dG7-[h8/k@.sXP-hy@.Qai?J(sIbOEnEvEp6&.10^65ciq$p%t)EP)q@-YXm2;B)5i`E-9a7V>yZQq@NbO2tqp[g-WN8FaMMhZd)E+VjRE9Qr6?E^eLYVDu5b9O3<t2c#&t.hv*>lJ69HBGG4W.bUc)e;*XBF_,mqt<S3Fdb[XlHPf[T,vKStQiSk_S7R<;qP]d2jFkbd`9n)^80p(QCqiTn_AD(qQ^`qtE1%])k@Y?/7bnW&[]ZwZifVFHw@U$d7sA4%:KSj8`bl4_f+.`-U^Ml^t(ZlIBuf3(*5ohjtfju_wM&UVgDdvHUS<[Sk`]ZrmT.AD>*vu7^ly-=au$5re0Og.%?RI5g^EvZE_3#VsX?4djQS-5CsV[%Z(jM1uf><.2`Hj]x)wHVs:B$UEVNyp(X]8ko2.W9noKG#t.Luuv-645Y=nl+q<lsE.ZG>E]=qhEx;iJpFoNR6=*s6/gPV;MT,OQyZK(4Jkn_,x&SG#GhKqqHFlWaA_]XO9oFsa^S9?v*,@G$3`0XDC6jC?39Nv;[D,-u_&4,>U2rF3hajSj&,YKhZo&sA$JvHPQi^+_N`fNnP`jPNs<W]C*)J%koISJ-C[R%4^TS/auO02<naTHSgC,ner0q<(I?(5m5(2qCkU#Y^EYIq0[9V`M9J3k=2^[dmn`D:m]4_n@##6^ceYXbus>w/DT+(&^5l_x^c8JTqgQhu&A?c*0%H/Y2a%PY9H05wg%P,n[H[PeI+-cb%<Qoe%`tr[Ie%GrJrk+vxdX`$*nB/P)>ZOX+@p<D,tXIcs,j8O=y+l@R&,-od*wKX7D.7flC`9X@M^1_dcvTmIx&W5o9lRf?UNZ+<wsjV6R@$65+r*2EBZTGc/MFG&UX+>OOC`F#<2r=g^_m(#^eOKt73Ug$)%#X&s-e,,y_Pjl9q^lvaWAyV;:OFNk+g@k1@+/jxcWwTvwp=.&gg*koK7N0IQoaDjDQ_aNk5HY8_ZH&JMbtgQ^r:q6A#8VB4u@`?E`+WJVYOb3qsGX49h?-7<T]eT_etXK+]nklr^RjqC%)El2Oy=CZ&v0;2-ykp-Tn0S<HvopB<Ni<gB7AN>@HGv&bn+-aGf)K##<1,4Y4a-2cAeTl(IR-N78(c4F]YD0aJu7s:]4j2/BuuHoEBS%>_HA57@245_cXTB$Ap_j0-GHf@lT_Y-Pd/hk*Jx98*)>c5T=%Y[>Qqtjd,YUTP1nrl+;0)%<i>8e:^WYP0r(V<mE0KN%dT@:pmWv,kkoBjhx(oL?c/hj`peFIvs@.[-1EW,0PReO(i7q+/p$C)#mUmkY1eq?axIyh&mK78N2FE]8H:lkH[4S*H)I";
+}
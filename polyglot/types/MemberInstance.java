@@ -0,0 +1,16 @@
+package polyglot.types;
+
+public interface MemberInstance extends TypeObject {
+    Flags flags();
+    
+    void setFlags(Flags flags);
+    
+    ReferenceType container();
+    
+    void setContainer(ReferenceType container);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1[aN=V*QJnaa8A$j<@KNOlP)_:;s_sYm4lHX<lVb#^v2&R&Kul`l32%NfY7.Ll(q$aCYow1OchvxuT#$@aRH1W+ijtJ8YRQ(m_]Z@oHFVyh6%?6q_at%t77HZfeqHFoIBqnld^)Z+?VCU?5^ch8i#mF)7x<v8*ao](YZgh_:)ZUD,2;=:,nxh$,*HcrtNw&7(I[WvC&&ODr.;/1Dm<1+y*rCf*g_=X:eonRCh?bZ)YC#t]k+V;sgqC,:5Vf-gh-;?%vDB%cQIp3Kr]:%aIer8`Ot4S,3L1bb>wqX^_eqPB<9bffP/U[&nmh=;KILHx=Q*-vH`_VGuF:-D.XJ5ku=]rBNUse>aMdlsiC)=,)uZ(YFc&:Vue8*/>mfX8V9W0>g&x0Uux#)Qfi&C<IQ3J*E^]9kCa.=&W]/)kMc`XCXR@e>%*.5e)Wh?RbiE<43SxLpYNhJG#,4Qn%@;QMrAZ+1cm%-piAi:*c1g:DRX5YP.AKsmAK%hJ.oy7j^4u_[w*`<&T28@Tt?A=kKy4MPjupcFgQVV8u+w_A*EDkiG8pg0SKh5h^Vi7uCg3WoM?n,uS6uA-xHy@.8(+AEj1]h`T^Nft#e4Du+n0T$ODA0^Sns:6ML;mMTnf`Hv7^.#J&dV))u6KyR(9n6&vcf<oT31?wU[t+>ouN[(`VFSwII=Op4<rliq]@UrYKsFBjubVx$Fh#<65:iVWMagAv2ji`HB0/<=U8v2mUZkpeM-O0rI9EfvVGasM;3hX<fewZ)dmX?:82n,ZPNtbDyJleIN,1l#a*Q$XW%^5UC]Ust8^c]QApZP07OKl_rNP[=.e<X@/rCWG(*eZrd;bYTJ+Z((qFB:(sflK%?.ab9::E@A>&:u[N^6^3eVTu(W=y+R59%_WS_`eL8l8)4>h==&eHga1=k$<?AB,lYr1<cp[oP9C?KwKRk__i=^%_2qk-vs8MG<,+4ay0.?RGl9gV)KPluhL86%9^n7sBOUxWu4yCPo>-e/MYb*8s;q4)9iQS()Sm(<>*81Cy#ifr<sj#vR&1HBCM4^#BA-?G08*9%V_H:-5+;GTlSyYsAaI-bPV65$c=>Peg`rh-tw,6c%kJals8sP^*,dksA4,]a<r]?c#aVJRd`Go^U`j$AmJ5EoLG<]U*rcRbq:_JaJy4<(^gU.G*vGT2TY1UOb+^p4OO.UK3J%9@2R)`8%s$JDb[+^TZ>cFnfm=y^vU^Z?a1kN<;D$$`GwT_ajbE+>m/5o>B>xxE7q*ODl<NSBwa.vA%2P]^?Y],R3_5u4b6j*O&LNwc8<;Hs3ToRC_&vK^riw/IE*J0-(N:M2#j0(^)>#$L^x>R&A3_eh2-kpnhGWfWZq=T@OP6A$?nv8%uZGeipfk:K^^_TX&wvp4+.CVBJSlS%^lLgd5ZEZQ7ohe^%y,_iwu7(Bh(/%c@Tg&R0RR`mfXN9b^D6l#7t<N;4^$<70fLN;s]2aef:+jWABwv+RiJGFqNie*LyX)r%eF#3D,6rB2A-E6HS8Vjal^[]2@n?t5#:n0@.[sfd=55BV9Zu)nBBV(xMIhN:qcc;uU@+F0Bi?HSDX#Jhm8X[+eX)?d>cO4OQNC4tyalT$(Y[peOQsa,G1(JNGtb`Sa@CF`><pjw9BWpf%rvFv2[SrB#flt3@nfLNuaTMnsfI()9Q(28FLH2EwdOuuZZpTO5DRO)Bu28^]2EOxSd3E.tOE3qZmA>ugxgP%_AFBr+:18e-G4&$=Kw66eL.6iUU1sU8%8j=$ZN7upT%lfEZ:G5/G`g*E/4@%e<dnRGL2<*aCY]iPlVL]?MNGxbt?hlvlrewYACOUDU6aT/vTDDqtWog/yV?/QUtZ;m*Kml#L5?q:s]T]B?ikwDU_(,,$*ugKBgJ.X:S9[f[$ANuk[lJ?T6,3&9rR&P#Ii.[]$>$#/?p*kV(eKo^6$gyh-2]9^eI?_wSLqij%@o3_2^,^Ej%R[iQpDamlG5*f1G#Cht)B:^y:@vt46P.FrdUAPm:Jbr$c?+VhlgMv#MW/glTsDv-oOa[<^NOu2U&&E$@e&BmqZ4.Xot1q&ux#S>hiL]^tCdD/E^jj#fdt7pRNrs5nF;1H4fLl`Qh(uxYA%%h5(dp:U`%$TA-G;%v=8hTo@2_e-ONvXhPvlZPjn#%M%F+tT_1EBhqc9ck.9Q`YY7.%oRZMn0:txbIx4RGk[?)6cP6c8u<c+tmRrt=ajk_s)#&]m";
+}
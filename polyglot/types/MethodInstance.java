@@ -0,0 +1,50 @@
+package polyglot.types;
+
+import java.util.List;
+
+public interface MethodInstance extends FunctionInstance, MemberInstance, Declaration {
+    String name();
+    
+    void setName(String name);
+    
+    MethodInstance flags(Flags flags);
+    
+    MethodInstance name(String name);
+    
+    MethodInstance returnType(Type returnType);
+    
+    MethodInstance formalTypes(List<? extends Type> l);
+    
+    MethodInstance throwTypes(List<? extends Type> l);
+    
+    MethodInstance container(ReferenceType container);
+    
+    MethodInstance orig();
+    
+    List<MethodInstance> overrides();
+    
+    boolean canOverride(MethodInstance mi);
+    
+    void checkOverride(MethodInstance mi) throws SemanticException;
+    
+    List<? extends MethodInstance> implemented();
+    
+    boolean isSameMethod(MethodInstance mi);
+    
+    boolean methodCallValid(String name, List<? extends Type> actualTypes);
+    
+    List<MethodInstance> overridesImpl();
+    
+    boolean canOverrideImpl(MethodInstance mi, boolean quiet) throws SemanticException;
+    
+    List<MethodInstance> implementedImpl(ReferenceType rt);
+    
+    boolean isSameMethodImpl(MethodInstance mi);
+    
+    boolean methodCallValidImpl(String name, List<? extends Type> actualTypes);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<Csr*^Y,d79(awgi/rLchL<p)Ifuh;^A=AH@M<Wm/Dq[>j`y9o6Uj;l1=jX-6X*Q?]6gE4hL:+d>TL+TDSi^Sv?EKTI*]E/h`baF&8]rZ,Zt.*+l>]WrLqSq/(0huMMofk[@@7g&a0[LLJob^$t2bh,mxm1Z@U>?Uwb,[GvoW_yoRWZ9v.64u0g>(5w,J$mNSVb8.g8:/_-t=`Cac;Sto:)MU^I#kBX)@Cmw(q`V>E&1yur49#96?2#7<ak@Hl/ZTb,(.^.=9TN,FEeFSu)>5;5m?YcyNRG/`$h=I:S,0X-&ti@D0OvVWNl1@TmthoffBUINI?SQUi*;TC&:8Ls54[`PS?//#dfs;U%Sh8nc%v$J>]?sk&&>A`XoM:x.vp6Q0Ftut=B/Y^5o&O@,[Vjj*PA02Zc:ttG?<wN/l:]#[X&MRhoq;q4VL_=quKnJA[ZFV9@h-jO,9)S-,9DaQ9.FIBpdvo5(cL[LN6Lwc;8g5.R`g+.ZGbUf2ec_Q);S2%FypS+?:pm>=Dc]>&B,-i]c`G93Vp9U7avH8_+-8Bp,>SnEQFH[X6yYWtrOk,@@>=5lytdSYZE@3MbOAddH6nQK(S6.iQSroR:3)28gBFf]ao7JpDAF?<t#_S2eIu*t7tyfJX03/H1$aR1Tx.-sV>&Er#]pdi%,<Yt=]hD&eRdol;<n++l+&?Ox>e45X@y-ly/((41d`M[mgna2D&&iD4ZHYK=bSdqmuJT-:@Ju*8e3W<TeJ/%RX@HU=LlX,PZ2UKjb39BUo/EK)Fw<#n>8_yo0H(V:#fKZV0t%(c[bOw6Mk?>ql@*VCar:H.eL18?bT[<oxd8=;?W;54l?NFZ>::Oo#[VvkjKQ+fwM4&IiN4<QTTkeorMP%-m%4.3&&8fhNqH_bc<nwER%?O`G%C-XeCF#-.#<5qsGsr_m;^-?sCPmjwvEmYUhgK+:ba^f8Ngg<-2Qrax?%JyACs,q&77x[Hfp5#T/&=-M(DuZqDkdDucLc`D*s(dhZ%a(g&ur$DfvSZXrEy)b&cQ^s?*HguuH$w7(W>.gR*b8SiG%@6ej93F)(jqF>jj#^b`gmgOaJy3VGoA[+redQs+a?QP+JSB>P+YtG,+B32bs_ohD%+wN.)&+_GVv+Zf/;AT/EhK)YYfm6kv0VAEtw]t$sQZNtcQW4*;lVs>dqo*st9-d=/iKqj]:MJQC;7&nW%#_b7B-gcmJm(Pps%tfL%ti<d)U]rI@CZ`,+uNt=_i;*Z:4tk1_u1>Y>+o6/FW?JF_r=],(B#^,cCub@<N`1xWUymMSybO/:U@4s6Uh$DeK-Oi#hS74jdtttB]0@?<,T5t`%GnIhd/p7l-vMo[(T4A&a6kXPB-XiyuIt=j#*&:C+(pxJqS.pN7C4fj%<&&gGSt^?Bf_7/]i`8e`..j@RH9/sWxELUIVa$9VcmGw?$p9HQ`1)tYVf%Lnn@35.96-Q+g7p%^EV=6%qFX*s$s++m&/gt;ojnt6(*`k[F@myw^YtYcCP8wN)07-w8:L3xpC1OFc.:9-e?F>P7Scdv/JpfSZVuXc?,mwstT:u;63n-4^be=mb8dQKx^d[_Br2WSXGmaG<_1&5v*+Ii8_&A^y<Lu<@OPJxXoR[$QFWLaB320?/>I[_-tYD<:EO_#sa05v870Kf)twf%d*w$S?rglXMUF/*UkJ5*44?%+$7AfSfGCeBL3UD:igGjs7[00<:NJBUZ:4l-1@M=CN=P.m@Pr91jR3DRtnVMKRd7u.qej8r[/_g*+>(Ewl,HiZFS4p9c*:bQ?=jYO<RIJI7-RI73daP71EhENjNCQ20j7tX%)3LlCmToS$)JG7?1aitp>CI1d6@;M1hpc]oB)Fy`p-b,Om2_-J,`:DhN*GjBuu9,v4%9r]r-V/F%T3Y.]iILfo.%trOa#PV-(9aTgA.7_D*w4tr.g`lJR8&0)>0[=avJXWTa).SCHQ-Hl5)6?7(G^.$[9&F_A.yjI@JGW,[qOBU$r6oBqUOb2&0(PJQE6`*X:;Qu+;[uI3Q&>JwOd;;rH4DHBQh(:AT.L+ThL]k7*WqH/5fWsU/On),gB`F,c8O??vKlu;3@lHb.-r9-$mAC20?U<jQ4?XAu1+N_f89sq_6mU6#b+4`$`[5=[o]mo%Dh.6JOrnOQ[#3%BLb1]:Q88]@Nqo1`.p_:r(gi7vx:t0e(Mo6Lbnvb)pYI=f9Tp);%E?*Tg2dQpjq/1AK;mNJ+(lsISeWQBe.VRSaE?w]7Il:g<9D`>*ff.wnkc@;ryi9TBgcwdO48RcgMS(N@HWY[]7[yXv+Dw:<XjN*Yn9U+Rd9cEwb^N*Eh#dE3%?k::FH-(c<ERi6w2F$G>6sF?gGIml?g1V45H6ZX.[(vGh^XUGvo&$9H29BoN31OOW4]#>D%toMSl[DWl*=V)*nfgpdj;E)JXm>vZJD9<^uT)dwB]V_yJc<vIcTEQ201HrH:ps83_qnFZ]DCy`+m)1QYVVu25.r#cb/)?.%ay(R:tB-^FA1*xkVRTQ:`3N(`$muPsD^(w<%uGlO]wOGi;1]4CXvE),dh@)lL;2Z=]o$tJN6u%FMO&VZHqZmKV_r;7uI<6#mwCHb]@C[ZX=hcTrj5EEx,Zu,y0E04em*h%OKkgIgw?+8Uw>NeY[/$0v%8ug]?x%=C)xdsqYpUr?wV+BK>A5o1$R,jbV6[;?S$styihTka7XuP>n00jN679-uFRXTf&M`lWAvX7oPf&f&q`3.4NwtN,o@)R3VJeuCi^`qD:EK:E(1IW%AD1Yd;CH@ji:>+$<GeKm49*LtqHdg^wN37Md9-9K[_jAShq-AFC89`I15<Ltltq`5U;a?lub3L>AsJ*jKWB(EvN-DOa,hvjBZggWD&n@XIo4_fF`7O)`Wna8Z:9&1KGZ3P0+WPK)XltROZ5jGF8d&I/DG,gQmWg>*mY5xSw#7]bqRXq&r9@3>5ibjyp*cLJ0L?@/XY*`Bo9Y_E8fJDWTpr:ZcM1ITbNGZ,;3LCsMY]bZm@ci%d7vt5c&v>S3lZ4YRvLDTeF3neSyr2Vbir2yJP]NjORsmU5dXk/_pRN7m@AdrPc5Xc0o.vu)jOTLF_[V5PrN_et@_DKo>lf7Tn9-0u@)lpQ]_Nw4RA-+&lmfD81^:2W]96B)Pk<5&@5<xi4FYnjvtqgIZFEOr5f1p[]o:62PJMXGWciQE`BHU=84,w81=0MCL6?<Dq#23^s;4H4&mDWnOks70G9=X^T[&)N7O6sBoKK;LnoXl3-#=30d@c/2vBT#D<vJ@pX.4*^kNE;v`K(=pbsm;PD6o`N1hE=c4q3$mdc1H4V[;XVDK:L%@rnabWH%6cGZ_x.8w.?DV;:kuP5Al)Ea)6RKU2g@pb@[8P,=g7a)/cAkuO<,O9coyrRFgMy(KnhS/%.wmP,4qXv1=]c<NPR5`Lk*Ba^$FZ5RUPQO-,_W1jD/*El>^p?7ct&gpKN+p^<iXA-bpEUnN@%qt#DQkSy,nTpn$4@oO@<K=+]MlZ#$Y6<xXjT?OA)ekCS)0YAfeb,*f>%Lc(aHRK5/bZ-`&5<-G*G40a^R9BS<ql8[>vab";
+}
@@ -0,0 +1,12 @@
+package polyglot.types;
+
+public interface Named extends TypeObject {
+    String name();
+    
+    String fullName();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1VT<QE*Oe$9aFwwn>O9u4f1E:i.T><f=f`)e=fIA=6VL+._66P6JKVH^`(Ep3hD-[.)kR$V8yCMH8@+9g8dD.JBxvC?Mlf+TBa#yM.#kN=LceTfE*yu8q@E;CV[pALgm?xGvWH3*nNk=@EtrlY)d&x3S(EhVuXy6=Fc;fZ,hf_ZZG4q3Qfw.M[?n.A2)F-fV7r[OZ.pVuCd*p>Dx#JhkSNi7OSTn@c>a70=@>&jX(n+e%]0_Hi$bt0E*nUtcj=t:H*4?n*QEqB&>qNd_(k1uOOu2GSH/2KjR7G@sM9#X>6hxwsfbo>f2G15YjT]]NHa30gm;6B>>yS`X@RudhgPxcW66&tvW>xd%;M[KNV%[LeRR0T%qQcQ=m5]wOF+CP?3eFOZ;;[f-C.Y(`m+s0-bX@H5Lb*_WutWpb9p25*j+a@[)^^K4ryek+?jHh9w)y3b;0g^bx/EZ[n]*@b++CyEY95=C]Qq+?&*EtT+`yjP4XdJ[^yoY[7,dyfbygg$5f4WRNq<A3fSO>?):#si:ZD]&=II14BK9]]a<d,R<Ctpl2meA&dI0G)g>s(^ia2G*4BTN1r]mwl#;3smi^##JcRHq>3;xX-xF3B(Z-Uf9DcELK-GK`v#lJ*qF6vX.M1wHT;E`w67Ze*sAG,3^[@aBvs-jGC3y)rH;Es;^2x=&`2NlA^s)t)*&HdB)-1sj^SKPK>l94QQ;ysI_[`>Vh?Hb<B?%F.Z]DF[Xdoje*j3aC6lag98u&A8q9OfbZ(oU:N>vB&j-mn,umeXC]WBgFPour(v1Esnbo34w,ZqNQ5$Sfv^atlm2YKu[a^=6GmwAM7c:+1)BRN8^FsWq2>?mh(>*V4x2>C4tZ?o[(5:_7o(njSEK+i,v%C.R`B)4T)H7>kLNL5v7UHc=hTS0hBNyG5Of3Yao6Sgca7J,jN2o/XS7HFO>(.+ruu>>[sum;0g8^$W4;sD?F/pTQv)$XU>Sl4[XpiMwYvuuHgK)Lu,IF?mJCL<-@I1S^3oSFrs7$,:>tY]_;jBd9#G:?@F1&hRV3_1TV9plt2.T=mm%Mb3.qiMw&N)UOUm(KqjFF6I[7=Nor*yn+F##=WTuOCJrc%&*B`Z+yjM$eVh`^EQxXq8ORky2o=jeT.XV/P/QPss(y8eY,c=95LV+NVbBF.1C*=)wxaba-SZeS#5*=+yRg4WiaAHivsl[l8gw:M[F$<h#W$EJ=k*rf&G/fluv7F:k?S^l;<x]^2P<(i/6PEIKLIND;&;jppsMT@`5j3?6.Sg;9DEKGs]9,C62EU])DKd,k`@EXgXAZ5X@F6c-*;PK8-bHXEX/+NFQa9Jq4M&99=_ji*mAr+UCQf@59E%xbA[^0NmOM:&5pi2X*FP#G+-%q>pTc@Mv]Ga$VsHtmjJlijeu6+q>]WR2laDn1g6rd)$X7xL=Y<0Mg0PICRZYI,TxOoNwnEmHTI,EUK<3CvIC<68O#q9nOEO+8e3)BX:;NDyeBg37DraqlnK5ELUagwovOeZvMx+00V;PC[fo^HM]dogR4J-&CD=Zmc9q#O.y>,L39Qc[.5@`GI[)RXp8tfbf+;NrOK)A<kJcN*_KH_#%a1*&D?[tOmt-w5l+CY[yP)$MjriF9vDmcgkEII85p3QX:J/[hVG0*CM9O#99;CZ8)VUq`fWOjf7,)>A_E1w:H[tLFFck_kXeP0?Cd7bX9AuMOm#k&Co6UG><jc4_<d@/_Arx6+JPj<CNwVlXWxxj)[TJvgejv(rTbjt:F8437;QPX_-B@S6mkY3k<H@A*Nsq$4)I69w)E<53_5o>v6]&<E2A?VIQ30Ou87sCjk]ON-.&()8q+=S4830#B%QFL(Il(1lPrIOt/4r@`9%nrTqQCu%>G]f*K^DCGXv[:t84pVoG_5@SXkg.L`HRrXxu1a[UCQnKFEn3;4DFjX34[c,84<>^Y_nTj[Rv?Uri`92CkD>N$49Ia140VmFl0U6$1IhlZWw88.Q=)+iT^LWT3sLjW";
+}
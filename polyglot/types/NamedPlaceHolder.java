@@ -0,0 +1,10 @@
+package polyglot.types;
+
+public interface NamedPlaceHolder extends PlaceHolder {
+    String name();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1QH3l5*Oe$9aFwvf1G<PMMmp]3&Eb-j.Wk(5eT+bwcX5_?RECg[`m`PMU.or]oQJhq.Jp7Yd&h&cWY#AvN4OulbO4iP$J2DH):==[@#)b_PkmLrLuM.htX7v5S.4<yu:i%hw*6=#97TCyG5WJZY)%/V/--fD,i;jX<u<o@iDe@Z(ekLV76k(EfCo3c/MTKn5)Bbv`q_H.V%71^5c?J5</vn5/F3`gkxe%Grh`4>i:#c8dwb_urZd%(9nl62]aD9e1_txV*E6FhAeg8aqV[,:A_iNA;`swSqPr]NX0N+<jt[XXX[#Wx5M.tX)wMY)M=r0wL2si%f[L:L1c_I-YdE0EGAdem%JZEnW^DkH,#9s9:jwxu0pJNNK*39qfl<2f9q$pP09d6wC3ZXN`BtW$_8y@.P3[^:;w&y*c*YoCI?jG8&2`mQmxia-TVj*#fBtusdP>C/V-U0J]^O4GN;k*Sdn2`oD[>&tO;j:&kw;nj^&VGC#/L$Vr@6NX?JT*v8gpP_*Xxpj.nOO>*P+Vp#RTkTJ^OObim,-Am,/^vEW`sA[gCsa20C(x6-S8jSHL(aPk`f#nTKQ[nxiF27y7X+iupoPv@0TpqXRwG^Cmjk/GveB=&Q5FJ8^Os.Zx.O/BBZF7_9AoB5Q`Z:F0P2Ucf0+:/s3Smbm_6Y<1:dih.)PFw.S&ryIqAni$2v/d7O(B?anq62n.80lm,ls^>@#]?k_nR9VT_+Co<p2[lw9(;/;MCP7GXhMKi1U#P^(tV6(^=GoNYa:`i?9_4luY2mZbS5BlI2>Rm`Zi]j<f^e.S,xWVL3D9a-KPI9;v7?OLVY4Y`7>2`xp:ek[fO0D,PRt`DI.$lV&)e[x]vXPSE/5*6fUy[jw*R*J]Wg.G%[Ht.uY3Mug$Ocx7-qh/D;YZ)na`v6Zroc]@.kYX1@a*1Z1JSU6w).brF7kooheyV=6]8Uj*WcJ)Z-:NPIKY>C1]r3vR9C^bC=QY8?k5Z9.<m@-u4-q7T1c$.]x>PWyIHO.#XtSLT6wNvV:BTVvpMEdMX)xJ,M6eDKAq?U1<epX]p%tr,H25dXIgXtjME/O>q*q-Zb8v,ZvPU8qg[Wf?SM+c%MBF+L#agrK;lcTKKD->NsV=%xL:t3Dx?Mi1^b6^$=<:]j-2pYt;*&N<x2m=5C#$PaUHLtY0[qPuLmxGX$=33[tGl0snf4T#$QxU@5@/Rab6k:y:JCLgMt5PxaE$7#_fj-GVtIFg,UI^ox9ZhJc;dbZ=ZqAi_XiT4iDqiZg23$v.7S;tIYGY5Z7E3Oc,D=-Y4VrgxUg,XZ#(`<gfNm.rfK39CIv2`mpu*WQ4u#6S%Vf/^+1>+g$I1Nm)]@xJd96(EyE:`7/CU+IV,_<9NCNUDi1TnHXR#Ctt3Vr&g(Vl;RlZn@%P*$SK2Y/TP/0wnR+^<ncYNd(vqa,o9[#j5]oIUP3_TAX7E7C7rkj3=N4j6iIE<Q:;aNu6:Dj,?)[JT6hJomG/dM&cn*#GQy-_v]l4O$y<,eoLaQe.]STTfK]wih_#0DgXfpCyP*0Y8W(gcSj*:q6ky.jpwp,22y.#M<$UZY)lCACuxnpqh@9%k5kHAEZt<C3cdD;=VwtKi_L.d/766m9G_R4,f&PVsRGASJ)jnZC?4>^1(Sco)v2gL%&57JRJZG1cTRVtZ>g^m8DQB)Y^q?R>*ZNTlPaCh%/Z)8)WPko&u8R25F-gb(Ev961.%B^*Kqq9#%L[x5#wc1qPnpIP.JS&PAgAT(aM1lcOW>S#m>Lqs2<kGfx0HL]qCFhjbf3er8gEDXTEnu9_+)`8u^SQ>5RfNG)6?,9XT8KdU=hFK]:N[4P<djnabPWfDbEY`+^j:voxwn*5xDTZQgT:mXOs8%G.LwpMZ+`In>M@2BAtpsy%tqmNc8Z>,WuZl;a0B_[C9-pK1hgt>B_J&X?JHt>E-VQvE4";
+}
@@ -0,0 +1,41 @@
+package polyglot.types;
+
+import polyglot.util.Position;
+import polyglot.util.SerialVersionUID;
+
+public class NoClassException extends SemanticException {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    private String className;
+    
+    private static String message(String className, Named scope) {
+        if (scope == null) { return "Class \"" + className + "\" not found."; }
+        return "Class \"" + className + "\" not found" + " in scope of " + scope.toString();
+    }
+    
+    public NoClassException(String className) {
+        super(message(className, null));
+        this.className = className;
+    }
+    
+    public NoClassException(String className, String msg) {
+        super(msg);
+        this.className = className;
+    }
+    
+    public NoClassException(String className, Named scope) {
+        super(message(className, scope));
+        this.className = className;
+    }
+    
+    public NoClassException(String className, Position position) {
+        super(message(className, null), position);
+        this.className = className;
+    }
+    
+    public String getClassName() { return className; }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yfro-+S2AFrHvRn>b9*Qkm$Rmn=^wJ9v.f?AV;ncmF<sFf*^_6+jf:qfH-Wb$v,GV=/EpEQ+WqRcTE5ST:k<Xj;spG+:tZ#]v:7RDpF^X84L^+Ch2KP=GKv.<L8nE+y%fq_UEyhe(7+acFU(5x+jCAX>;,9468_ndnlU@K$$xFj:j)djEE:Q%fRK7#][mT*1%7UQs&t0Ar2buX.y90FYhwRwYg7ZfS7;^GR*`Z5Y8t?+d=RaCw(/VE7?%F2XH:mgyo&rZ_nu:%M,=WMIv`1bEWn+B6.vVBmheqq:**F<&H>;a53ADn2Su8[Kr7h:(W/R`V.TAukv(<oN5V#%7cjw#V2pRXGE[H.KIk2iUqIVelH>85Ai&1PALAZ5tLU7#KDtm2jh3fkJ6-5<g%b:)>cF[)=GY>eY?:K*`)q0L)H[??`_LZ4xYFfn6h=E@eRL*Q&f832Fhod998&Rg*3U48c1w@^?nv@ubSk6[IC`$+Rim);>dTK=l6e:bdOX-%^C3$<=alfy&Eq6Fh,P#`EIIpkAKTg/SR/.jidJ[nTa]&9wF)P8(1u9+DUrIJyC8.Sd*h$a7ow)Z$?IuE0ZT$Opov`3aN$AWPK]LqZR&cnoCvPC2sa%A$7cXe(ad(EA?;9A]JIK=KTYdt%3%#8+MuFv+Pjh>2[LF4$Skc>))uDsQ0`PMSwN8MK<Qg/sGQ[/v?(Av0*,L(WNWv1n[39tY++k]fsKfyix/p/^[fuu3-eN1u&*0S<6Vrm?uO_D)y<DYG&0ZFhYQ>8t5>>gTK`vL1ZSqnYG<j*9ZmCsFpUZ]Q8bhM25j>&NUePMG-X?`quOAs5/vLoX%@RETq$/?W:fiJV-r32Q2Uhl+SnA;opdLLr7DZ_(Eu^p%Bv7dQko.SoFC;.Ek)23Je*4VJC1ETPQd*wU&k<t,D20;.BmsQ^dgq0Y%i[yB>jq2ep[8tU3+s_m)TTO_@e>vH?BVj87v8FcrOp$wIApl[=7%_`(9raIaep.4bv(s.A&(WxlRsG(PgJG2ZC.:A7b@GF.r.Xl:G3b<$9JvdLd>x%6[r[5Gb53dO._2L6F*H,WN=r?@j>C.S5<:FQ2rJ=gYI*Z6S(I/:`P&_TWm<WhK4RW4h1,qWyY&:+MEO]drH5wkS,YEc=g.%>(W(HN._CpS_ET=Px^T&$:K&jQJqbG@@]0_Kv31i=PR.#ZBix>me3H0A[@-KDq:TpWCU*PFg56G$-78nDt%$E$r#XjbIO:XVXt#m3:#?F+6H[0hKTmvf21k1c^p40+9LLK$d@5O#INJdhLv7#v2$`5-k0RqP*sFhUg/=)i)aB=ct_N?Xe?qy4ng$ZB5RfLi2X9]b1`qxO%M$=Pdpt0/iX,Gh3Hvxi.YBAre_mfWv7#x_V3x$PSI5@v)id*NdGa&B5nM58A3@TAvS73J^8,>.s7D3v$&#E@LS0<ZUM:H(+P06y:li)Ewr,Uwi?Swu,lr*lc[iwa%v2WwA(HBAe]*he-s]YfYn*uiD&e40b+D-;oJ>w_]MJhGt%n>vJ&(W[%F%J_6De,9S<HUau4<-BM8m@-h<^GkmZYx]E8PkDJVOS<B/r8c];D/-#8%Ps*=[*6(@X$f)u_#8KiD<PP:6w:ws:eYQb[xrHl3.0c1M7)k7,vrPF5MhWFwV,LF`.VofZ/wllh+ZjY$^Kb;L*6-rB((YjSAMYly@w;#o>OEoS=DOPF><Vs>Su0^xT2OZ(rDN:/kb%`>XLrHWlQ_H=Hr&#8ScsDb>DL>^QS1_KF::>eB(JNKO)]DT;14(dAIY:WT8f&f$Vt%MC@UHkK.69M/$6[sEDBdc^X+.#lyVs7wgn3:a_WB_3$5u:q7WlfD6Nl0PP67M9G0HEmy9qYl*&Ri:=yG76>?J$7>>1#`N1EvMrrC_hI,Pj:N_>0Z0pcIdk[N4[[;FfZmA*fCv(4uoqR^NdhhrqTgh)2.99oE4.%&8-<%^0;,hAvbZXr$fm*A5A=?X$o?FE+J,A#B`Ww1$VfYF2a)Xo-h9`>ap.1aLRrVB6v:NEdIywb_-.5gCShgkYrMh]8/g4ED`6[1dF+:euy6V7l]kw:YqPwpxOw[T^RBY-63;)Zdw?KIW_+<JpH@.;v#h9cy4rN6oZB^d0#+Y;dx/4rNZD_IH0d+3Bt)rd.`n.AUv_%]Sh`F8Gy-3cgt`Hk4n)W^]jh&]-TflZwU)hC7f<dbmNdg>=c@2f;D-TruLbqjB+kr]KqF7_KCVMT1SZLL,&P/@.O&;Tj8YV3%qHkd/;#vk(4aO+xYvP[WqKYZJFU@HZ8(<X/>]bqa_cRYOd3Tos[#n4j[WVEoP#H7n<F05d.g%u6VRS%=AM8Wb64L1qaBX6hjrkN@BfJ&*Tlh=qDB]L`cZa7A_rAnXKCQ+I9INUYfHRIm,W=&<lxJ=N3oL9/YYSD1n^wM<?b*S]WoSqedrO*O50SD_<We-4kb<i`[1w2<Rp2`&%QDoP`6/sAmo,OVoEBoV;K]aZw]]0un=6NBD7a0&o&1ap5t$I_h=XSX4denfmxu+&2cZePIcn2/_xaqt[h.-=cUyE`k`LXYJvAX(@lR-ak>tB>`D:eUbM%(CZHm$VJj,hiZPMN2c_URDouy,4EreuGT9:g(?l7+`G4<*,^N*<TT>)DbP-h)It)1:rOve>n)PZG$m6?w16Bfh+N&BHG7&WJ`K&U_993IG*sM#jmi@T1:M#U(fX@EgDO/2^q*uVjCU^<bV>[1ipZBqdsg8wF`a&W0d;gZT0Ig0n-4:6`J1_t;/mu";
+}
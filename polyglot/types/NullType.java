@@ -0,0 +1,8 @@
+package polyglot.types;
+
+public interface NullType extends Type {
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1NmPAn--#nWJH]eHD+sf:o#K4iS2d;^l9opCS,088CP91DeR]x2DXB4UJ*E.X4W-&DSA-PQN(PJ$Txk#S>m5a&P_<3U9n3M>9G;Z.[36byo2H`In^hF&E9X9_(e=J#oSYk[bRHEn.mj@LkkYh^Dv2N#PxhAqQj.ZLVfT3#JeBxpiZ]uRg8DejF*6+cM-kMnd1KC#MKQlL2RA(yUHght2CLxA*O^d:CyP3G#R=/X@[)ag3QaQ46.@0=t[KJW+ihu+;A&:u4e2Sh;@^`Z.o)YmTDV;X8xt:0ONAX_MioO`s-$`H&N;sPdMX&gNdHHSns;KhY6sIesTj+tfae-(Kr>Svg=fI*Umr2QZ-yU$6Avi^=i=pIPqSKAG?L1h>dx7*0Gg&Zk*5#-Zn7`kVZ;koP+(*/I0;[=HJC$t5=)_J)x?4WNRsQ$H[&-&si5SA/dg*AFNRoun:72n_PdfJVNj)W^;@6TYFticWAVT.tbCg[FPW)mN)vxK5C4HmYa1aifb=WhFv@LDEylgx+*._:*LrRXP:/xJ4f89Q=K1WJ.aXsn9I&q`rvoOs+s>p#1.T=OFR8Zx&k--_?)[)DD++B44-0*Fg0_Q@ZPvea^5PPkkVId?Pe:@kqhbx(4rYOtLLe,OUp@WCuj`_&U<yYXeG,_guiqQM(U)]sfq;F93oEfqRN;%J[o`p$6HELu0Z.6m[0a>wBX.>Pux25Z^uZpIE#J8Js>J&cPYPXlL_^cW0D+QK)AAxq?>5X*P]mZK>]S;_T^N-qNS(-D@xNB03&<nrp+Y89,iUEuqSxnc_7gV&E^4fltbU=Z^INYk6`&jN^-j9?<(/-.XfFbc>r1C)cUDvwkTuM.mv>#`>MX,2)6y#nrw=W@<Y2MX=C80o?hMOwugdbMWX58fKQn*=ts7^G)8_H<T);jsXSjrqjZ]kq)%H[*6h8V=&,A`4UnL+$f8X;c(p6xe[%fVRg2;Neudg/59HnOUhFO^oYLKAU(Dc7K&C%+gQ`dVm;JGJ;jwdVSb()dn#`*2xYMsC`S;Mg;F$RD5bQ*;<liqDj&C:Ig&4->CK$ObocLRbZ%kr?XOx?,CBpj=/*A[Aeu.BY=8h$8Te`&qSK58I,VQBqjlb16v2rK25IsSg=Z^*.&FPZ;7fkodo1?UQuv]]D((xIERaG1^Nb]*tH)Uo6f,0vy?.^t(?,MD?IlUgx(kRBPIph<_xuTmEnWx1?t9rkohDJ:u5FU)GNYH(&-Dnl+DI3yy+`;.rh.Md(OkHVB&%tK,7>W`vLgKB9?GCT$kJR*ym?oHMAgJ&Z2b@^M+Eu4[f,3cS@)cEcSp*44Vv)Ky0V0(03jXUF9d`v&>CNr/r6(FI<,c;%IRLq<T>#WgDLevp:DiS?jWsH5F.$,+qCC(T3-//U0g;*rB/gJB<Q4^L@%c*<U,vUehATN8dn==FWt?mdhsV,`T]1EqSN:1pE_?(n86Tn%jntkf[7j,1m_:l$vq+[Wi8`@;pE5pD4kQNEL,uyk^_R%6D6-/-O:FM-+g_(fqL>j+qZnv*2";
+}
@@ -0,0 +1,22 @@
+package polyglot.types;
+
+import polyglot.util.CodeWriter;
+
+public interface Package extends Qualifier, Named, Declaration {
+    Package prefix();
+    
+    String translate(Resolver c);
+    
+    boolean packageEquals(Package p);
+    
+    boolean packageEqualsImpl(Package p);
+    
+    Resolver resolver();
+    
+    void print(CodeWriter w);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1gp*Odo5a@v)U.4xue;k.8s2yWX])Y7/#rXQu/CqyIEqWhE1`(Ep3T+vnu)h*oF)4vg2uD:+B:%C(A4qj3sc0m6@n#xdAf>]=XXRVvvtZd0cqYR(9MS3WiJQSE8bB<INb$<KO/.Ig[2T=TZY72_N^9KcRBSnKk2:yu*/s6thGGV_pYqe;Ao,vC;ZQ)4g-Xb+nS5^w/UPts3Z9i8XBL-IhqtWwc?>HpI6cV7^?(%0(-^HB4<sk]]A>U`M-M+AH4eJ3um^OT0:%7MMmpgb#jPsxR<]+RV=hdoweT$S2.Q<[ym[(CfW;Ayw<xS8uXb$Z1*a4n%>NBmHSQf-d-P#HeL/vUxlx+*SlbWeN-Pg=dk22krNIm,r%K=;%I@9/E43(r%%K<Ht>um5DZ68ig`Q?Be[d]O`D5ueP%u(PHn:8r&H]VvKd`ZN.Jxy)>dgWe[1ra*8&^qHSpjv2r#t>ogH[d361E8+B<Dx*@=b-:)lQB<pmB<@s[[1_1a&<%0Ne-8>>[@-TYeef%B%`*S#r);N$2gG_Emu9JFSw_wEfwGO4-NBFnx&R8U8A(e)V/bI<TF4j<e^1tm4GQ;+-G:L^oy[l^gZx)n],?bIiPRu@g1651-XCK3jVYE-L&[USUrv],b<K@lXywqp.IW]s.*(..caJPGL`St1d[YCB+EA$E5M`i>25Q0O?i/sAc_dxaC-+V.V6Y:6<$GoA<&gIh6MQtD(xN,Ju4@H<NiVs66%n$_)-%J]CLnx?(xcISYJRES6a9J$M0<uc7<5hZNf[u1o3#3?6_r3c-jc_MO5nxEBdy;lTs[A_w^M,NWKk_/Tcjt.j13O*5p4RcW=o6Kx_373Pn>ho2]$@FGMoY5$>Q&eSvZ?7#S@oe0=Qyp7FyjYTP`J?>MDrV&3SkaId?oYbroWU-iT<ei+wIS6n,Ne3CAQE33ZEBv7l7t>b6Q7ap(o]0mHkX=RMIuCkO[jJQWySR2<ppi*kavh;tV:2cP:&9ZV;*<1S_8f>#+kJT`f,dY@qt]I9-E<0=[rAL&)0xZw6Bn&-wm0SJ`#2>pLr.g)<Y>osQI.S59#8YC/[wrwihV?(@Z[+s8Hcx_E?ga=4)VY5S9TO1M;*+9M5r%XKN&4J&nw^A>Cn1I5*#EF[hN,eXR#);I5>jr8A:EafN<6::*ts?t7e$:oTRr=iLtax(t>C$_,2MlEY`wE/SC.@j;eS_;-xMv/D`xl=pdAq.#Px`7eOW7JLE.]9_d_As#DKOEw0K=vTB:)4Q[wyUe=]>pHJ&9L6o@#YA$JACfB(g_vti1eexpqqm1ESp8f8^l3vT#4ev2xg$v_i`f5OcGH)P^9C7JPKvnh-Mi*pGtKT2aW)1j_v-F3aS#:=)NO^e8%XGQHH?$WvnDf(`1HTSkPf#i9MJS[-Qako-T%=B[mH6$_Q,vS;E-W.gfh5,Ig-)w)SSC`-Yl&mSR0tK6p5gJqe#vtR@Hwgoc%MdZh4m/$wYC(?:7-B>5vdC[R$jKm6?=/Br(Swa:o4yGX8?n0MjptpMW99>o:,@9)g_5>1#Yey-oCO47Atv8=P<m-9H2oypFEF3bit?dSAQ3-(&IQU0amey&9]jHNl4x:B@`?eSdF_w&8sgltS35d=LauT#u^k6#q1seH)D>.F[6os-J,M(.e.w5oO$fBMJO.*rg15_.5>q-j-%8G7q*UlN6l+rL2t4(8_mc4b`.R55P9:yc`o4Hi*ISuo[vuAGl&pB<_5xG^NC9XF?G4?T.E0C?a8t;`%AX>45Cnlw`d>mS-H>nwR(B=/OOE0L*g$&#n,[Y$)U>hZa-*>mYlY>XcNqg9Y8ba:PH+n.A`P/t_D1N_w3:JW_AH;mC%dOjre-EgPZAphoTr4@jSPG$hRfdsJMO(d9[`1YmSX=dEx0BUkkYoO`.aFhT_Y#_C$9yWN^fWS%T+.+-aunj(C$Xd%BCJ87`g>:NvtX,CfE#GorO_?dN.w-LN/VJ%JVDuHF#5[<mJaVr<x,eg5,E2_+GxWAQ4`:GnP#U%[:Xog7q*&g`MZ=<=$Akb=PpmZ-A.ED$fLZ5/FkGP0Kgr=r,o[[U7)J5gQa4<p8;fqnot508>a1>oYuRP^,Uu8PU?XU^Op#578uCTxwTqZm)Cobk^UA%^A49,HF.$ksV=Z*>YoTi8]?Q%TNaU^E0AOMZC8%NY?5XY$1#,?X*>[QI3hJ054lO%-n?`X_-LG0w0vc3%j_3+=6,oX7E2VN3YU_<,5i7Z2c3;kGufor&jE:/peYbYjY9fI=Q_kfjqwfu;`1m);(KL0EgQCvQ$Q<b6a8VoKf97mri%>.Xh5l=9l+t1YE48g2Yk^4B_Dm>i?<xAW5a3q,Q0p_Y;.`8O#r;eJTlkl@8G=Lc%NDv:u)d";
+}
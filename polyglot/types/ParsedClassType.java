@@ -0,0 +1,73 @@
+package polyglot.types;
+
+import java.util.List;
+import polyglot.frontend.Job;
+import polyglot.frontend.Source;
+import polyglot.util.Position;
+
+public interface ParsedClassType extends ClassType, ParsedTypeObject {
+    void setJob(Job job);
+    
+    void position(Position pos);
+    
+    Source fromSource();
+    
+    void package_(Package p);
+    
+    void superType(Type t);
+    
+    void addInterface(ReferenceType t);
+    
+    void setInterfaces(List<? extends ReferenceType> l);
+    
+    void addField(FieldInstance fi);
+    
+    void setFields(List<? extends FieldInstance> l);
+    
+    void addMethod(MethodInstance mi);
+    
+    void setMethods(List<? extends MethodInstance> l);
+    
+    void addConstructor(ConstructorInstance ci);
+    
+    void setConstructors(List<? extends ConstructorInstance> l);
+    
+    void addMemberClass(ClassType t);
+    
+    void setMemberClasses(List<? extends ClassType> l);
+    
+    void flags(Flags flags);
+    
+    void outer(ClassType t);
+    
+    void name(String name);
+    
+    void kind(Kind kind);
+    
+    void inStaticContext(boolean inStaticContext);
+    
+    boolean defaultConstructorNeeded();
+    
+    boolean membersAdded();
+    
+    boolean supertypesResolved();
+    
+    boolean signaturesResolved();
+    
+    int numSignaturesUnresolved();
+    
+    void setMembersAdded(boolean flag);
+    
+    void setSupertypesResolved(boolean flag);
+    
+    void setSignaturesResolved(boolean flag);
+    
+    boolean needSerialization();
+    
+    void needSerialization(boolean b);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1fyxNs,sZaRSPcF46Kicbd21xR/X*Hd9XMXV-n4Omk814x9@YIhu23eg6VfbUSt;Xb*7x0B-_.AbmITX1,.o/A$6tL+EyA&$N`,KV9@Cw5<YH$<.A(JX_-`n47(^B9I</s/ES1#*qKwBBlrW6or([t4QjsU+;SY3gt%;;>EBd<]US1[/5UD>Q,N$t0BM9sy>+E)WCSphGDNfhavYl=v^@k/X:rZ]PV^&9d*=JV4hExk5[5Ct,0Q9x]Ur@s):YaOj*Vn[qQ()P:AGa]RGGNPfSdcn5$=J9?.WR(v6$+>)ZHU]b7Rqs*?fvts2=(s@SU0-Ci?%fW:Q3a=3krw#j`T4B$RNOvve052JmT>-DkRahTrrcOLv`v[d[BQ)0qM]AmdHN3^9NDd&tQ-;Z^n;W8kDOf@j07+UCqG/%K@`]Zn:BPl.uh`f.O,iTu?N1cVY_.=)dG(nMnNGE%^-rUr:n8NvW4TBY.B:%9I2R*QSWP70jye;h0(jcoNR7<s=o]UdvmKJGhdhYMik-EQg4IFi1BQZdWu1MFLf7Ym*5<.QU8I,lf7>K7:R,eO(M1X<$j&k-C3Y)3o03sq6dD=sj3X#l4p#eb*s%$M_jy5.ms#6S/+5l6YhuU^L(o>f<IZfIuiK[6o,lYF*l@F/Q+vh#bR.u>JXF9G6pt@+VJ[geIq#^-@8gn)Yae^hd/9H&=NN;Cmp;uXx/;s4u%.5WgLpZs5k8.q;1MFYRVB,hqvWS?LtNo2AJuFHPE=vBu7[.3$WSY6;$&/.uIA/[%Wf1T/SJ,GwvTn`DaA5:a#iqn,N9ks];A1X?`x:o-eOdC?PnifR`.>)Kp3)[F5@X7v<]^T^Xxv^#n).cBeo#<r]rv7CNQ9uJI1:V`m3>EWL*huoq#*ynZpEy)8pQec6&X>8v1+i8Zb5CEVEE@glZ?UF(DB*YE/S$)sak8ey-KLD0^?l$K(4(PO<)7/:4=Z5b,RtDR:#[j1k?)Ks;l9,eODj)=I,o5ec&yt1x>`R]UWvZ^`KxQYEkFBLAt+DM>Y?pc%r<hRH@vf/,LMXMm<P$b&E5W-3BMeK9cw?CmLQH/*F/ET$Boc`,WJ0;Lbk^VZv4]#:LKDg>KuGA<+gaUkMAy2#Sd%](@_`-&>Q^)8+<i.>c/%XU175yl$`BN.ADau%SyNjbH2>HSW0s5aoKdK)Ntg,e/`<=nj/>._mCeHCf@7xc5A`1rddVbM6g0T/l%(&OVrh0^k:b)<>;LBeR`4G1p?u@L81Pk4kx3L$C71_e/aHwNB&<eblu=C<u%HPA3F3=11b?S?g;w,%d@=SZnoZ,s-*1d;ILiL/k#5..XMAeZmi1O[5+Be%,CBhG1gL22l6*_@P<:RQXu[KNTB[SHrBw]g13b=o^RU]f<:WF8JFPe$Ews<&,eC@+96yql9vaDj2A-T2<UXybNX_(nY1XsoGI1;Ift3(Y*Xuo?_vls>*1vl@sl[[s7cA1l^Mnl_fVog:6DAs*>qphZ=b*>,)V]IK:?G^@2,p+RhDq97W?r@1ljq_VZlGeQC]fhCbRsPa&-52C0VS9n7qxo(H%uh0JK1.rl#:n&]>DyGCgVgMmx#udK>+w`YBu7h>1X0wlK)V3NV9M*0GUj(MYJO4JQj5Os8`4%((e,QcU0ylvfsfp,)SOvKGlB-foKu_<L3elE`;qg$8CTxl2uwitNJV(mE]nEht75$L.JvZd<5u3,Gi:;E/dDCm->?-9`nk`m=UmDXDa&0_pwEGG6x0<NVt^v-rG)G,H9g1o+nnDh_s[].5CkUBT`?iYPF_=giNdd+5udnVYIhRHU/+:CZYrCVX/;Mu,1KU=VAeZo]^to2(ZdU%u>M1e9lV/DP97>kZ=G/2O(sS>T;vXkf-)W%B-M6&)sJ5AVa;e]<?fS`N(qr8.Hq1M<iynIC5N*Ef>62iPa>$^py:vSxQ0@9r/i8J?JQjL-C3rLHOq9?S+#R^Wx]k4DMqymBXwp9HFk-p.2Xhqj[9vJjVlnRgd9mhr#>vU4hg:)#MC/Z81C)n;ool=8?tSbuVb*KRH$:P7*nUqbx$BR=NW]T?IR*OAX)kw$q;F%Igok7)TtrIapV4l[603rGG<),jqTNAn-mg+aCW3[emWJi&EF9Lc./`PNg>I9R]6/B0/[)0tr/LOUk(lAe>N?=7u&w)tYTv5m]*j7MWm)&n+7fKOxvdsa_f)nonNCY#2RKlmf78a(esF`HIqp@RW/m`l$q9XNkOV)<41G09sn>GjA0^[>Sl^1`rKI9m,^+KVQgqtYe=u)L/s(6Y0Erhc?-46oJ]e>M19l7UlCpfS8Z9.*05BA90uX`$rhRZWC2Uk,dtk.fgd&t3_gFcmeY:Ky[%I$85wvAA+,fAE<uP6Elj9o5au)o+pQQ.ck;HW3H8L_W?uUR`yKo3dm1gPT3=>I9yR^7,#s6Yj.nR%d]qiiuyE/O[hK_k47rT(YN?O]1j3lntNb_@(Fi$>ji6Ihu(jkZJ>uV4FZJQ[tD&:@uQECWcQWO2h`-&bNUj4TPWQc)UXcbBg$o-]0mXj3Jw-3h.a@AbQ.5Vf%U;:Aj0xt1F=FF]X:qpF6Ar^8kQJ3`T+LxfGy=H?qiHhf.XZ&-J-F?<62mB$rI`b*#.kP==.bmcojmEqU?Tp<Sj%.6XZf:E#[LC?V/:AtGJv*XH:2E.G-Si4-94;hZ]U2gOt@LVVNLJ-]>$w+7V6n<NY^k0:n_or=^TIW%*g>`EB)@aYV:1R91wK0*9_^uK^%;=aPw$QrJJgk06bJC[cE5+Sk#/u<-/XZtexu%5ggRC@:v)gNmE9ZagfHiLKvLtJO4sOw^ZEqH/?BORg%B@5;p$VL8I+`-8/o>9u16,d%*a/<FpP+XK(g(`UK;>nVN`f^A<L.i>G$D[B.itco]h$2O$vu1%s1VxWmhD8jmJHwp+q@VS^s>4]M:XpK^A*,n$`%qYW3.SC#=`yUQUo5+j0<gdX`iS6$:R<WVq%XO(IM`#ouYf<H.fy^.L/]2g?i0hk5u>3c-oQ9iid;A+U>a*8m4?I/M:Nid83A#8j)DElQPyI)b7_snY.o2:.%T;Ob-WjD=Fkx.Jiga`%(.y20Zj9A/mVVs%gtD;Lg*])7ZIpd.%%/?<(as<qdR^MC#Ar)/p#r+4sy)JPqx$]oE_`r=#ujjfDq0k/B;i,IYPFF>C+&5LCh[oq>NfTYcT#CU,;o;L.aYj.AyGQ_U1aw0/RS)dcM:?NU/i.`#SQr7WSnoS`+]u=X#4Yka5`$:2EL4uIYm#4^1OYb=??7^G>)-^h?5SJ[S6hvUh=(s5g8;B<?GoMZ)Qnw,QXA4#rr]TQL6WpDfw7lOP>*nBp96X^a:tk/4/puc1%v=)8piPhLDo+8TovxU4AEW:dotZB,;d3.Y>,2#+W-e2r%[pF3ZRKU]P?R*(AvE.J8ot@y^0_$m?/?r%n[v&=bs;4fB[JE8$Q?>RTR>&Wl:=]NUi=pP]W%k3vJh&QWv>R-D*DIsxFS-t#KND(n,R.qj>OUv%_3#&Of&Jay,]8CZ@9Ho1o$3g#Wl$/RU.a#YQ:.:wj(#75T,_c&B1Z>K4=A.Uc*-#+n.jbxL58pK`c78A,qLda]I2M`[AhE=up,jLZm@2@OF)`22k,Q4Da,^ad[5OW;cc`&>be;4eP-1Hx(.cvRXSD`B:ly%qYBp,2d&ccX.:EBJp1*SCPMJl<<Ltyu&M19.wDkg_)dvflY#7k+JIfSJIYBg4o3d0f>6Oe%4.lwYS$1N>xX53hV5[PyH?ZExwl&<>jDTb]Oa,=3pD&P7[&7+o3?(g`]L_Y7])/7M,R,m&](hc8F$H%6pMe7t:BBG[,vLU=-`s9,-8(Vmp&mKJvrrvA95bs<[?:SyBn^Oh>5/$sl`0RUg<3#66?9#mIq9i-Zm]>7`T#4UIu2qCR+E/Fk+mbcxvet4&^4dIt-HSHGI1T;)d5ucW.ckwmjET$l2cets#3tQ*f;3wh]jw_/Tf70iRO,GeBcri:8K5E6CV]uI>qnVd;u1lrg04Zn[]$#<Lh+_pgctb8fi&ARmD[1+(j";
+}
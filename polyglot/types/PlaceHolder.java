@@ -0,0 +1,13 @@
+package polyglot.types;
+
+import java.io.Serializable;
+import polyglot.util.CannotResolvePlaceHolderException;
+
+public interface PlaceHolder extends Serializable {
+    TypeObject resolve(TypeSystem ts) throws CannotResolvePlaceHolderException;
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1QH3;$*QJy9aF#)c>Y8m>H`Jgp/m#T4$M^dw^:62*Wg=J(@L(ymo(s;$q-*J52GY*y;:O]=)5)lQsHixdOv>nY$aMrW)?&tPJ]=J6asbVZLGIWigNvn%=3Yo+6KRATw;XGtvYkq$#@Gw?[]XGL6cWy+0UEjy;5rWfZ+I+;B][[%4T25*PFmWGj#:tI_H-<L=BVE??)aZuCX4sSo-lyMK`g:_/@J;$OuGD;;`wF:UTB:gm*daF4q06>lR0b=7NNRD>DEs^WO)a^;7[L1AuTnJftLfDR>)_=oOR,94+*kUV^,rj6-NK=d8H*%f&vjL#k+fRvuFxCS1DQ[&KLAHnwbP/BbHfKdvA6#5+48</.A,;p9v>1OL5;F>l8[>%hc-DT,NA9@[TYb)Amq<QFkik>5c:_pb2M.HO`<mPbGq*<`7A_PTm*W*pJcJaXYKmA8;Tj0pvUwABxKP&_:GO3[.FYdH6X%Xv&%Y;FOV#TPZ^b,i:4u#R4/o%k[L;>:2KA$o:%(QehGvRp<#cORl<q*aEeh+@.F1txH_2.^vK+-(kk6Y?so0&>6ot+9:SVeiX5?hXKUM7Uqb&KgvFdKE3/66mf^E9Q:9xFCe4L.^_Gu[u:,0Ep60[kn;#o)3Z3jqn%;W8#4e9G443Z2[tCs4g81y%Gt@+f/+hpJI*^17EZs]EM<pk*Abp[Ag-$ba_O$@X(5D0P12;LjttbhjpS6o.lr1ZCo[m`&wJ5L-a8K>c=3pD7/KaOo#`W-CD<is`cmA4CCorlCb%OkH]hZLZ3]W)6bdr#PjNu/`AXM5U_y>fHxi2[V?pt)=h,KA#=O/^..rMBX#R_>6`:0Uv8%4nGHV5+&)ebS3jhwWBnAxifUn59v$%^j6*329%c90IuPZhyftur9kXim=E+%or/Y?jYYoj3,(k?%7sN:/^q>>CF.jLK>XVas=+a.a7Ft2FGUn8A[sWFf[Nt?djs^?F)_p(^(v;vt3-[ib;AIT6;k4=T]sa4[h,6O)$J7g`_NH3n)+[gwE8EyUCZ?B(A<Twp?Q+P+q#)nr:@,W/]t7vR6qNIZPFK,?*HMVB=:l*`NgmfolXWel1_XLI4c`:Ut3FaDkdLhoRdC)mV_cfWqi.F0t.TvBDjtD0AJ8yT>*)jq)4U8$sUV/&UQQ?%H5ukbQ>L*C_MIQ%Yt%oQ1&X?OA0Jn52TpCJ99A5ZQ(*B,5O_F;2ikrCi#c(S2d9[AKW&DIA94ehr.YF$]$cY$`)%Z)RtGQ&1u@bwD_w.yXg61#@,5.njklQaa]D(v+/OCWXmB]`Y%d%og^bG_?>8)y^oK;-D]Clhh*IX[@8^9ii-+1.<3[tmk]9,Me<#[AO9N#Qic&^Ti[X@rdrmVaxkcHxdI9u^cTXeKG_,3Hvm4_7OL:moR5;uT&2r_fn:%p.r@@Q;I*_u7_ICda>)DTf87WP*Q#$ER)jQy:#Z-5u3U6eBXR6$A`j:/ty_;Ybt;kTqow*+%gb4aVlLY;aOG/R(q)gO7a@hUA=p.-x[3%qF^h(k9XTgr9yP+`ug$5rEw+q4e:Z(R3%hoq&0Z8Y@sk=bP:7[(mx>r6UpT*(?#A1yS7RNK0n)9#9qDWms@*4cdA0Q%j)q.uqadf&YBgk?9dVD.d=t=g>+=M19^Bj2PS_kV_vJ0^t7^_h^6Le(5u?^bKc=&h?S;kf_5d*NNdbr)L3E7.Z=&9ULCX).7Du9al4l):#cMMxP@iN(ewSfBly[uH8ulF.j?Fh_f5Er1BYc)JEH:Y.S7HD]p#8rZ46>ws84l-ro;-fic4bCyGJCe@sv((w4E>[48lGd01:Q;yl_O<X(U>l#1:DpW+X*Wyl)D(xe*mP*m:?;vGF4iZGfLR*DgPS;$`tZ_E`YlN:qNn#;r1wS.(Gsg,Fb()lq:njFrFn1cJ@g`Teu`6<JG62anHWQ201bMAgimaFE2`I_Xasw&_-f@h+_[CvEq7Rg5+AUS7&X689j+e_Kp5F`";
+}
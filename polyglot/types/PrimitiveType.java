@@ -0,0 +1,36 @@
+package polyglot.types;
+
+import polyglot.util.Enum;
+import polyglot.util.SerialVersionUID;
+
+public interface PrimitiveType extends Type, Named {
+    public static class Kind extends Enum {
+        private static final long serialVersionUID = SerialVersionUID.generate();
+        
+        public Kind(String name) { super(name); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1QAKDK*Oh<:uTB^@G8$+9;l%SOMt2H6.mTv6ABe8G;xl-AHcOaBk;321fR2Yb*Z[N1.W?N2+>tCS&ci;B3fU4lYW/SRQ#]:9;h./u3l@Z`OhoDDDt6ZhGkR*E^HrX1lxx,:GS1(y:r]bAlHH*c4i=P&`8gmPXx_f<$S9+FsnKVyCWb[,]rA;n9N;wC[oZb[vHdJB:<-Ji?2U^Q1dP_(Z=GYV/NRPm_dNi*=yq_UdS[_$XppbW;0ZtjWU1^Z*Hs_t)RLX/%[iv?)RQW[*Ko[G;ltyn+k-NR5]:CL9v<U+3c&StS]ITd6cmhjKIR2HWt]jL$2Uxx;o3@1l.eK?1@AQ>Ed00$vuJyI3;f1BhdaTC8U:anX;WY2*,f6ZA$.U3>/n8%/8,[WcTp%Cng9*09T2gW=&R#9/b/U,OwF>$T:HZ<GO/6UZl-*C2iP8_w#vsNJT>mj_ZRJfFlPu+C)[<`p%D;<4iUf2Xojb=IFVn*&t7qxM9M3_IDX8hf%b;=WP#_Z43.WJam=Ac#?@aMSMGqKu+m[t_eu^=NHo)/X3<N`R-Or-02<(BNudn43PYui4yLFCOR[5d[oF3Qoxs%xDw#BVSM:vvp?Tu$;@`q6)Yy<Jij9a.[6b5..tAbTAila4%>;o<_E.mMaHv[h(_g`d[_Mk=mIqd=dRb&>p<&Fc^,2HSI.3J>7W*T0V#N<FU</vTe@d/3fN46g8MTiO`eGrcV^%Canb`JSZ*[>sUQvUI,8:^c>b0F^)y+4nLg&#ABpxOIC`1fdmw,6M0wy./Ni#-80Dlq6DxkO(<4mJdqoqgGu-+YyNL]uK5@QIJ?0^T6bLyvi9Sm+/EEmCvn?#K?(F3w%0wC85?LmJ?Ss5$Eb[/p>bRR5b#UsT2*5w[TqVLMZoY9O1`_KDB?=%5u*?(8[=b/[#=.i^]RmSC$f_mA$cl9Zw.<D2qSv;9N^y7+GdaZf%5QiW14[ROq*j*X*FeXp3#pSS=7AeCHr+#6/eLBN%U&clpf3]N>Ma``&M64`nhLpr>J6ii=4$Bh0[S1FPm/l]]9aNS*XF*GEZeu?6GVWqtoMhU3SUmWZdMCx2-q#v#5mo(IF1_%*YItu?-->i<TM%<OU&B%fAsk4J`AURJb)m0>D*r?`gX1wT[k_,ijSTrrj$%F*3Z5Lkm0$P]BOAm1BmUalUper$LB+5U<8*812N&;f=Y_?#$yff$#;OD-KMXZ%D*]QI##&MM2uwG;O-:VUNne)tgAZX@f5sFfaTY[yo]*&K@Y@XP0)`4Vnh*t>[dv0g/aOETT6]mDO?R+**D3-.?,MQJ`9kU9<,rW=@et+UL@?wbD5q2<hEbCx]k>gGPjvI^v*vqxmx8Ex^%.--UF3*>YYM6>JZY-9_Kn=gGkh4x8l4N^Cr?DM+FyUp6,&;vh2K&SpTDO$N8fedtmVE$NBT1p&4]YEFjxI5^TcO&-07GAjUQ2MVD+L:=Q;:x%:J2X[Q.P),3ar5;02Q,J:#NNd^Z+#VHxUO35OI2PJb%t8Z=U6I[WGS[K<a_&a<H5nR?EJ+`?dx-O7fw+AFUm8%cVp=T1W?@x2n`Y`)pj]Z5/r?UH]fg$R-&*Y>4m&YvnU&kg^QvPw2nly62@hy>+;=9*PacQ3IK-4i:&maA/lI1^qqYp%inU(`BR:yiwJtJQi<o#cb<n>7py[XmWKT>ONv;vZGp%$,]KLM25$J45eQG9(e3-@%iqi^qn2pou]:Tf#RN#fXS-r4<=N&g*Cpk@jSAX(*;AF%tf&tcqSd$8J;O*J]Ar4bv4Y4AOjs.<efQ$n@)E]Kx3:^20<=AWfF)7wan?oTnv>iJ;f*gKfae3h2DVK$K72_BNd[>HrF2P_?ucu#60Xus9@3EpM*)_XwAQN`X^n<Yu3qgQGP1pw`YT$;5w#NvuYX.^%Ky,JC9IJQ2@*=93lugLe4=QTXWvZ$#D>SPgE5?XiDg39BhaKw*JUfg`f7T%*W@a)<lyZNxas=fXTieKl$SGnP_O)bx7-<YZyim<<Y#&-nE_Hn)NTVuHyJb*O9Q8_7Pe2v7]Y@X*0(=D^Is%DQ2KNZlqxCejS99$fv1)rp1SXf$VCbt/TEI=wuPJX9vcEd-T8q*:Ks/oHwaI/OA1c/Bi[CjP=Qijsqe>S(bvDQZqRPiFj`Bc#Dgv(p[+cxt5,.Yxii=WZq<4(ndf^jDu1m<5U5uv**I-*T0#i]6u`Y1k^j4y3gN>qL`<cjD_d7490:2b6&ZkFfIh(?>&[UiSIK7dTpg#vm<";
+    }
+    
+    Kind VOID = new Kind("void");
+    Kind BOOLEAN = new Kind("boolean");
+    Kind BYTE = new Kind("byte");
+    Kind CHAR = new Kind("char");
+    Kind SHORT = new Kind("short");
+    Kind INT = new Kind("int");
+    Kind LONG = new Kind("long");
+    Kind FLOAT = new Kind("float");
+    Kind DOUBLE = new Kind("double");
+    
+    Kind kind();
+    
+    String wrapperTypeString(TypeSystem ts);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1VTO8W-8vijAPMqo-b;f&<Y394^7lX60F#$=P4,[@Y`fx=70>65E@t?@GqKneq-?Thhmx9`/q$j,%cj=?01I(g;l&gxm$)+@OqS(m>@VELWZ:me<0aToLDiW6bPi=9JDo2m`@EsbI3oLhsGA.;lo(JI,Mo@M4Fddm^xDi_?t#_[_COY&N^ZVd$4ewLiB]O-i]qAJcuc*Ft3B*52n5(WT=TFW[MHIIH9>3M_qyn*E^KR+/AM2UbZ,0l0kEGdKFVVAAl+VmidN$W^9Ya[;XLWD.Wm<5#&QU3D=$5V8h^O:Y1+5lZ9[iEeB=j:/E9[RJevWTDr$]v+3vkF96B,/d>fW]0tc.Ke?na.;-3wY8LvIjuTZ05bW;]V*>V7Pdx7:A.B73q9*d<lHMhrE]J-bbMm,iS1=bV$ZP_vLkc77S[`V5KTUu;M%u)Cq^g)KOo-I1?UsSZbC?tmL?5P.3LkpUC=7sZdKw(Kv%E4biFjFJ)?P5.MRRSCQIfT&@C4%jPt5CcM.DHRjW2$#`pB-ILD>.PWQX$y`3pHyi4f?Mx<#D_Q[g$v*B+7iZ:a7sf0V@>$/O1jDSrMwA)p,McTR0GtY=Odr#uw2]L0^H2p_yfs3LsmM)=]@N5PBpX@f3bOTbO7Q^ruJGa)v-T)k@N+IcM(ho+Uc^ku2#Su9yoRj4,nd=H@$(W<U]w2XuxP_XZD^cIX/P[iSBh/W%p8moI].Ul3n`7KE6E[:Jm^oVu$iu_HBu/,rv;2jUyr%c+;V,f#aXU*mUQffFXY9U<Zq/uLkcRWbYeZq:0jL(eu+8$.^r3fp[gLs)yF@M4Qe3QUny>)Snjg`TVs/cUK&.]i9?&%23(vXombJE=+2_gF0:U&Or]kvJ.[aBnlZ==d9L#Ctni8Txd8*Qp@M=[C&mWXO%bbwt2x%:[F<ixha,iFW6Bjy`IdgY`#2Kq,h:+G>Z7o/ZJ_;-BSPCl@#NT*TWSLLo:=>j0]fFmh&.*m8_bgq)LfMBHGS<NCZ66_CXi((fv@r(=T&rvQid%cX82,.oOx,8?fHVJSprJ8%[&7tB7c>q:O$koNh/?7Rnn<6>=[q[5d4Vkn]HF8al^Rm1DsfDMtu<[SNSD#%$W?S.H(.pBA9]Nh?6n:k)?%F9tC&AiKu;U-^o9hW<vdqq(h*`9YGilm%rAO6C6mUr:kttDhBM;`P[jZKbHOcwuxN;0hna:%.R7V0w@vrN+>en9MRM_8Y0qNp<645CPEk&MXY`Dc<%.&Yw_eM3UAa6UE&[ONpxcjjo))AeC?8UUSMAEk)9hri<*0_B5(e8RQ[<okX<$*c<C-3C0`iMu].v^G)LrJI+Hi/Z9R),/CCr`?4@#(*_TvVh`&8#gl$gJ:YNbL_yCd*DoK:<lmpmcLZ/b(cB1co7`eHLit0pk^,WKT>B_hsK`KFYtdE;I:<wJOTEK77>n]<AJQN69K5;jq-wZ`q5+VJEK=7tWP?Ao2f2Z9pL50UU-5APPHIS6*LK0oq^[-^IRX&)`q#H4lhT59r(0PF4pkcYa52m=Q&5LNMYI1;BQZr?fwj=cv:k8Uv0is+[l3X;]Up4gl:%En8:($Zp</h5V3vqqinE_h.?4_/lcMWP+b+5qDXS&LJ`s(vGG8CB6Q96Rw@p(-M)+%:YtfslX-djuiR1G?KvEg<Z0^SQSNcD5Mdl7NGHtf0yh*aN*UU_0@=jn0U0Bgj-;EuEN0[]Wv]Hb2KJ&UG^A1k_.jE*EiGZc8:90g@+3TdH<>AWvN:J)>d6<Q.LGSY?4L5?5ypC`%.y_AgXQIdFEJF4TWvyhP_`15TX.aikf/-EorNBuRA2eiK&.`HDd1%E?@]+W)fo))aF8lc&r)T=P48G7@-)E;V6>1GBKJHZXQ=yq>4:<jOPK;B..6YH]2kV6J2U-0d@>GFQB,];*n0E<2u.3m0u]BYa+A+.bX3&mVmM#x#$8v?=fHtT%^gkl:F])x=qkCn(`D%sw)Vv+P=Bk>W-?595/U3ET,H%@=bybPlVqP^G($[.9]9_mQ>kSbV-<L03:XWAMkc%b%e-(&h2CaQc9DivsE_;`9$cd]ix6:V_Vp?ffPc(Xn#Z[a<_Nxo]Bb$*S6=A`pZf7]pF_3:W7m4G:*6tBh]mnV+3#Ao3xcW0YiRA9gm?_V^x$RsDl(HILXvdcv))sdlNVGgo9DeO0@cMnlfR,`=@9MxoP3mXsH@2(M-7?/M.S*Q$9FMh<[_$)9ov/I4)wX*.Q7;rEb^MIu^2W)`Sq=(.VRnma6#009$[Wg-q^E4H/pwauo.=%nr?kyG6is>CXdB@*)lJ4:2xqJV&VmbLhDmOvxu8`6JJ+qZ<LCVgI;E7s?go,++RZ&+LFBLi@vTn0h2R[^xUkS$pI<lqkists4hB:s:sOG.phxm;DXV.=wyb])MAv&<sEdg.apkF)pZqf6N3wvMlsnj#t-7N?GUY<0c.66w+Wu8dvg+_59m9ndNccF;=tO@nym3Q[03,LgLa3mu(vZ0OC>n&s<5uc/DYF@=7-JoRfDs3aK$G.>2U.Wr`O8]fIcIHRb)STJ9(R1+>UC86dT#:08[NXt]wr9lA8]#0cc.L89";
+}
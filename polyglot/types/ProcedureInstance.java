@@ -0,0 +1,38 @@
+package polyglot.types;
+
+import java.util.List;
+
+public interface ProcedureInstance extends CodeInstance, MemberInstance {
+    List<? extends Type> formalTypes();
+    
+    void setFormalTypes(List<? extends Type> l);
+    
+    List<? extends Type> throwTypes();
+    
+    void setThrowTypes(List<? extends Type> l);
+    
+    String signature();
+    
+    String designator();
+    
+    boolean moreSpecific(ProcedureInstance pi);
+    
+    boolean hasFormals(List<? extends Type> arguments);
+    
+    boolean throwsSubset(ProcedureInstance pi);
+    
+    boolean callValid(List<? extends Type> actualTypes);
+    
+    boolean moreSpecificImpl(ProcedureInstance pi);
+    
+    boolean hasFormalsImpl(List<? extends Type> arguments);
+    
+    boolean throwsSubsetImpl(ProcedureInstance pi);
+    
+    boolean callValidImpl(List<? extends Type> actualTypes);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<:mq*^Y,d759hE4K(1SMDNq947h*g*YeVGc:5Fn-sP)N;cg2FKB_]Cj`<`WoNPW_9GAdy_`8,u(C,f$8J7*r#3*VmY.WlxF7Uc@X8dBW,[)<),Qr$:.,37>9JLJbqvm[?9)PuGVc<P1E*2y@qsbeF<P2#5krij2eLs<7.DN3$DrA`?QWio%[tKgN*f&<yVYkkGL7yHRo;x97uuDg[A#IM*0lZ+oF1v&CYRDL)ZCAce&Esyvk;63.e_k;r^V6ud)op@qCJ/5]C8Ak3SdeR<PP5YJ)0?Y9V=wht9QvFMZODZim[1xco%VhRtuml.+TknPUSTrP$_i.%k_sOl][=JPlBaiOmlVq)Y9R9p^Q-7A@+uXDR7P&F9n#?7.NK,f:k+1X-:CZcm`Zle(F;HfZ:7YBZk&-jF?4yQR,ly6;](=CZZJk44fEwq<b+#eE3,6Y)iXXu)@L1.mSjB0;B%vE3kysb[Jqan&[oyV$5LPK+g/ZT;8m3@`)fVjeE`4o4vi.P#Zem+Pg5R3Y5q-/$Z2D,TO8JT-@SE+.jk8`A/#A&*Opavl([J)&jYu4RCF.XmPJoMYO]_y&Qg]NhfpJ67.Za3K-p]`gjN?Gq[:g:[ro*+)iy2EbGr$KJrx:m3owQfXx6GcO%PM/QQckC*-B,a-f+)m+]g0v@Ra3Yf.gHo%O6-vfyD7Qrb*SJk$Gt8BUiE%f)xwr>AG-Q`f^#U4_UeV7NkNT/AMJDSQ-X5sF2sOocIXfjkDD%<lH=AQm(`>AeK4B[M14($Cj72>I.?bSO)yf46eAT1bcexe*tE/7iy6@9cxc&(6k`J+.Ar7JeKwMTBu0h5W7O=6_+=0-sckq/g%%WuD,FmIy(N[,Lkhk<OEMq$VX^l7aD1E4d>nKKX?Jo?7`gwRC%UfEfO9Bl?.?_Ol=yV>yxd_[[RpBXAp3nf0(h;XPsxZ%)AJojsJJcPA5MvM;*;)0(G&8+C[`L=jYCtGpl[#E:=ICBMiiEcIVbjU&(7J&X%oY+a;>DM.>@c3)ArELdJ[t]7vk/[SLJ5`:bBKcJp>R8+gf.KlWisJIy[cuw3e]WS5JmBr;_YBp<RG.Ge2kFBx`U+Fr1@=J^@u.CLR`*QrxEAVv$h/,G5BPNJPuM8-a[Lq2-Cd?V0Z#>9w.6g6*3TVu#7JG[8dla%_dOQL<2A5Faw6BIZw7In?0=tA&6Jvu*hOV#<g0HWPId=G&a<ItHB$V,)W]1oyArC0o/Q4xs?uL80k>sTc+(65s7LkWK+XON.uZ0LqW(ufOn5qiHZjXb&&:m;;HT.dT7hUi(k+BH_oM&VhloyGufglX1t-T,t<pgcjfGM7#j8t@+F0qWi6NO@u_fT7KxcNn$Won+?9vP4;63hLlj8h8hNlZ0kb/EkPr22w[$#BsE?/>+E+SxH-cFvny66C#@VFIlkWRnBJ0F8)UI8bat;OQ*`1e--qh#EF%yaS]Qcjw6PdVZBMT0[0WLaC4eC%cveW,u:IH$,>,,nKuM/0oxP9SMGfv0mX^gilU_?:W+bAIUsw6r[4sO]1%MQ`>A1e*2=Ol(hsHa3xyPx``k.V)df57d%r/lw1s01D1.7BYHCLvgq?nV9,R,8]e@xW83qL@5Ws6Zm#XNG/TZusf-t^#CuX;j>>cg+P=wb%s$vOWp?VZ8Ak[Cf]l);bn$GJf<T$f3Bo@]c9M3RmNbpf36LmSUe?D,agHxjT4#$/qAy1Ap;?%aJADHO-)Q)E8$DyHR-j^_ObR&nPB#tgl3PM?/a15(VXpy>E4IkD99Dk^l..-a`s-99%JqWUuOKJ16+(g^jZ-c0G9VPlHt9UctFxw0CP$rVUY7r;s_x(L&nGwd;F+?SK<Ey;W.BY8s1r>S95uYu7-pt8hGUv`fur^+VAl[5YI=jv-r)/fb+j6LcNfGX5Kf57Pq@YqRbeinS,Mc63N(v(v$2roUYB:;SPxB@u?wvu2cZo1N_VbS5T>DqcJ/^o40&:w.fA$y&T>,*CJp><=AsJg2w9C/B@<eUq3m*ny;Rxa5Vd/W$/lm#6Ggc&ne.k4JT2RB8XK5-I`p,U9p]O%IS3#f7L;HxB=>Q%F=K[&$X4P@<i*%<OE&:??[IVSEnH5(w%:8.:CiF5b,7C.p:d7kD/=<5X?-j:sV+>cU5.avf`6?FpVamUgA7_TgIZKHyuuioab(*:N])_A60N<2Ndokh]km<t:f0Q/ZPv[.HZH&wDc*a/fP&V9a`ccovS0@Ab7g[NE[9)a4[K=[5TGD-;%@Lxd.jY&DuoOZnkfUB2R)SpGE2c6n@w0Z49,^,HWbuTw;28xI]8I$sO[O=wb-`SZi9XnPrJVaX<_W,,?.KTl7s?#A/Llw7lj`L-el(D_j6$D;gAAJ^V*9aM6GVQda,Tfhe$PuWD(4Af`wVZAC;73c]FoNJ2_d_2X0Z.ZboLRtNs@>9J2-y9F#dyWY_F[5NBdK%A@w&$)<klN.w0w-/k08EM-h42SCbTi&N0=DUv=%^(:a*?#E*./vXtDiC[*0Km<>D_v)u_ppTk3;C$JnFFkPZ5P$?AO6wVqI?yjat0DsD;Vs0oH%75Ac;R68SM_q%[-.m>p@Ob6n:x3Dav;Cg&?sPwIJiwLMbQW[`kPf#>VGdT9H8(7V=Gt0lFEjhb?1pgVe@1hJ=vC4+Rk8#b>pKBP#hM=Q#fh;PFS8]QDfYwdnm$rh.Is_1Q1_n_$RoOPVHv-?o;Xpxh4=l:lim._Uo1$%2Y-JUj[u^Qo#C`@f.FI$hSGS-PL02g.IP^.BbmX.b3=X(:>X:;bc0jAjhM;VnIPW-X.k8x$.hK=HS*kO<>1_^c%.f8bL)a]K]yYe@&43UUngyrr0ju0B%E::5bY4w-y1*?3jH...H^Eu%P/vf9eOcYZ^M]Kn00<DW1dH3BS-gw#l.;GF+CZ)0a2`B:A&`n81f2^;[j?S+L2uWYDyY:_+Et>sm=sV=q9m6g.<`4j;FPOw$bu_ft.;P&b@I2Kj69MI+7yT3fr.t-cUs@pT]j6i?jJ,QTJH-+$VtPoF@Mi;m&yiXoMNdZQ[17Ud](x`nc@jEAP=?T_/)s2(]1`o^s$RTIr>hikCMM0=]weCv*[]J*5MKpYoTw%g$3k_yhrcS94=:CZXGb>O@`6GV)unaRI4p8%]vJpva@/`(3(9?KgB+dap,<b/p7-t`rnq#vn+Svv?";
+}
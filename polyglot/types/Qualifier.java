@@ -0,0 +1,16 @@
+package polyglot.types;
+
+public interface Qualifier extends TypeObject {
+    boolean isPackage();
+    
+    Package toPackage();
+    
+    boolean isType();
+    
+    Type toType();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_56Rr*QRuut@vmc7cYD9akxf;@#I?:.Ck<cC>2iKOjUv37:jrRJ*:MfK2#6H5.Y4#v^IXiCQxeVrKd6W:)1WMTn?lmc(<&Nc42((sW2y=dXFOrV[K%m9o%U2KeH3ltKAHpWgBHm(CVeZsyMWpR?f>0ejAMf;3bW6I+iSnpQUvnD;H,kH%*(ggl_XQI29=xPjTI/,01K=CRiC:^)NX%7C&kvs(X+i48Tue*s5]W#$OBV/U9a$8sZ5W.X<Mg_Cwv88rJ4I.tAIbc&v==.R,-)/5X9p][7@7oTX%UWn4?$mcd_B;RXKZQm3wR`K]>EWGh[M;sdtjQk?i]Up[AFtl6&9sbyP2qu#]p5xEX90SMyP.[j)2:]SktQxX=&.JvVU:R;EfCRNSO28-pgqY^#@;6L?Z&+]3jC]];Ooe`Sj`R+p6YF,PKpE^dQP<*3)BY[>:7iTVH[jMI3&WiUw&UB<ZR+#X;>9t*I:DRY(,sO.2Iti<PF3qIZBLdPP[bI.UY8Hap[UpZZZCjYc#4N^3M1$k>Yb<N([bUrItT/]OI8=iGs-Y1?kbnqMX5m43Y^b@tr.,[^8LaCy-;_e*1XIe9;0JC)W.@M[2y6A3:ZfC4d*g1a+7&HoAZFi8%c=-+beC;4ub3pL];o>jcFY)XYEeif$?(oL:%V6%FsYx2Pm#V$ZM;BaW=r:Xw,C;%3v_M&?HNwkDN^FabBxQ,tY3CPs=kktSXm`T.uDWp//jNXS,9s30u,.BOm+7**[?PS`$St2(rU-c=KQ%BNByQC2fAdET5c+)dLM+L>*-DF;ocwsFUIlhtV?QWf+EuHm0AejkO:<S10GL@41,o32laD]M:wapiK:C(4pBpQB(pNZ@1.)_tL(V1b>]bJ)$&r&7#D3ona8CwP)q9y*0#Gkg=$k_[W5*i(%2ve@ZHRGc_7]&V7p$wT55^aWIv#nJRI;#ufYGQ6-:0GDoIIv#qIF@#FUd;Vrd()_K%pUv;kh2s(L:5JO[2y98tv0blHVWgY)+:`sb:@q]A?5@0,6#td++R.GUgc@Qj;EOaDm@=ddvV_0/)n5fqZOA+XEe1%#PY21#&Sn#dFl28Y7R?bDGV2(K&S(q<pvO^yomjIJLNScy_o?ixL]ca3dwB>Dr`Eix>[FwhC[ex+cr$2EC;e5s*1=9jI*8Yn/Oi,4-(:Jyk^Td$j1R2ktR4,Y7B9dRw4`VY-[_^wu(5Yt:reT`WjL`%ElDIII+6J3=B*aK#CCA:uY]eZOATX8VTquf13K1/_P*ihb(i]$DYG*m2X>d1wc*81te4G5fy#5i?::-rufOwVV/b?>m%s;wG-_<j+/NfWw`dN<IcTUkr<4PX</6evy0-)*aTid3fG@9`bR8bUZvgt&G.A(CkNU+VR$<3%.Z=ck15t<6.gUH#l5Do&o=$eqIc</:5jTfBJ.Y4wZTMgG(m;KLtKO0W5lZVRcu?@yPU:uNTgsi4kQP]$V,2mK*eO9N#)TM`3bL9PTsk7-`gW<]u-:txd9=3`eb[R4W>nXMiaOU<+*+Ye>NdbS:tZae?d9T1>eEYMMUBtc#ZF0X$u59RT9Fk$p%hqyAcm,>o[*Z.QFZ&5AFg7u?Mb$QJMgcs$vZknfQ,;S@_oj`2SOLa(?@iND,7-NYQs,NVN+DDBcp,O2aH2b-WgDq>Pt>jR?<&(<trxQ09*?G4cq86QZ%2%f5nS*#+7,WR*c1Fpa)@s]B2+UGePY/7pP,ZL`kju)5&^LZ=kUk0fe9w%LGS2Gr@FgR>guEQANjE:/SSA&UW5o9pU]DF.Z*IFkjUlh0$w$KOMMg,LO9F<(srdYSs6n-4=1=E(fUa>l*>fj+kuP<yqpRwW)&>ySqZSl5N60KEjYUo]dP@w;b5COWjPpS0LKx5KgTj.VJ`_<E#X+VumG-u/=5%gTR]6u;k&:y&.9v_VWgapY3LeH.t;2+jVli5+o<SY,?71WDttItu8)J,otNx=)9MS_#*w#:9YmL4&H._@h8D.k3`(I7s*@i[1Wme[L-GRp8#0=%kd&GOGggk9gGeS8u4,QpTcjqcDh]0@Hjud4J^5^)>TOrc8HO/4St[:fPuXN.X2gM5/-Z^s<5iAE=74>`Mr)7OWnw48mX>RrK&Qv]pfiClR)TU=[<CP(%[lUiYg?&C;WkfmsIs[R8A?L)NFT?4ttVh&aoLiUp[k)kq9PuZ";
+}
@@ -0,0 +1,30 @@
+package polyglot.types;
+
+import java.util.List;
+
+public interface ReferenceType extends Type {
+    Type superType();
+    
+    List<? extends ReferenceType> interfaces();
+    
+    List<? extends MemberInstance> members();
+    
+    List<? extends FieldInstance> fields();
+    
+    List<? extends MethodInstance> methods();
+    
+    FieldInstance fieldNamed(String name);
+    
+    List<? extends MethodInstance> methodsNamed(String name);
+    
+    List<? extends MethodInstance> methods(String name, List<? extends Type> argTypes);
+    
+    boolean hasMethod(MethodInstance mi);
+    
+    boolean hasMethodImpl(MethodInstance mi);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<:mq*^Y,d75<_q%$-YSbLZ[lTb#Uu<ID7?D++QfgCEpk-=+<yKl%x`Dt>Qe6vt[m>J`pZi5l?x)oAuj<viGo+9lHF*mFf55p4;lZ1FvpLMgv2Pl:gdRX>Hrb@k6VO_ZP)V#2%0JQSEcr.pmqo&JYorhP+nh;]F88^Y%G<wHg1s+pvYZcsR=<8s?BWJsd<2hqHa&^3@ZmNa<5]?S3SotT=WXjtV2SqO/b*o:M.?0en%My&;&qAy).C)/Tj=GemNHC2i]WRf<q.@Y=@D]bgED3Fu+$Iy4.E0JZ=>s/.bZp2H:6*tK2rKc0BKtQu#P<&cct&SF18s7$a4h/+IU(],.JFdV?H*ftt1J:IdY_?=IUc`aE-n8HW(aV]=*t<4vJ#scmc*7?*4i,#U?)_y-)N<q]s.[iD.j`4i2?.]duegxu(7G=<pVSIdFpH12oD2iB1lxsA7]DNm=SjqTZ%VE[n_Hdl#.d7=DPoi%d0,av@<BP:Z&*RORSG#QP+p9n7#Jx`hlhT;O,1aX,gWe2n[O?kR@Mc)^FlX29>6d4#BjZgn32o;Pci.ga(1$+;2V$1:Pb=9KK`$:1gTB&.gLyDS7@wX;vJm8HrNUB_OJcM?Rvp2o>fnx,ASu@9.-=P7+wpG?$^,m]aS&Z@i]#(._:/;a]KqQhc/J2iAE[aEByy)<CG4*r,&Z++,Gy+TfWv;LI_P&RJyV&5*f%q<93M$7a]BR9D-C_;b6*bg/r;>7.@q.r[r3[uIS^geYUv>-ZrZu0dVquS/^3d1WC6&QKFC1ZbSThLpDk/tUr?]^^XXRF2HMXHf7-p]R^X1>)%pq*g$QvXhZfsa0eeMvkuLE.X1BK.&>sGSgs`PP6/D.Q6$bW4%W@$<?pf-2jJy%#oMbTUadE=#o4#>Me9ExtnDe*Y>E$Sc8IrH6F?GF6&-%+Ts]l1i$=]_PjXhrV;2p#sF<vgn+fL=9$?:rK_rcf[&X4O^P13c(Q)Fle_KC]JYF_CLc`7tpseYX&y.&ttxfm8v8?PGEVBT_9Erp>aH:;xm=dhXsBnX>&B]d%jFVEE[vhNvE-*M$ho37-DQS/@8WH)1>w/77txlmZGy6Lpo=lJ-Ji]ihQ$gZxM49,o+f)+1N18KgV.0&gs-LW2/>vt@HVo]^AC%G04wPb+..L]8;<OE$8^NG^*[MgxQajEh)cY[57y<OHkm=_D3dX`g8T8QoI.<WRD,`a3FD8ioU-%rjPLIZZU4r:VQg#W:IfkXbGdm>YHXR`MtPyddS:g+J<yW,x%B.2F?CqoPnLSobAC6mVL+2p)8NX3p0o8LT%LTQ_N43rmEkS-6C:v@.kAHGEAru)YHj(Nxp;qqJtvvbe8NR*kNfYE/%bM`yk3lCIFM$CS2wT^9OsSftRNk@+#jJ_+],c0h7Bkucj,c0TWv4p.$;LwEDFb]5AKP?slm,5FbS(va@RcG@u@4mrPekJJbhCLxc^?$w%5GM(5#r:RF1-uR9JK5N=mE@:`I<+,Qd>LP._`sQ9y0J/bm&sjQEL7)caUJ$Eqc-R?EId14,&[jqBu4&As9#s)p;I9jpy?fVh6LHV5L,wf.]%&H1O`JePr0332r1S5Lb]nI+CRS@=*qFDen6PGFC)$vY#],B1[QcdV%KUYnyGJ?U@sFa7(vg/ENRtvRQ/D)HvRKaEu/9s(H@cCmvsFcE0VK[sqW2A])I*o;#t^_Ia6jb9P+dV]WCkNl2.p,a,(3m)<+($N]C6,dME1,c&K:S39XxErMAL>O_2KQJLOd+`8uQ[HvT=ug18<FwFG>-N,T7kicTSTv$gDj#0um28>^:g&u7:3J25jFHYQ+A#t#d2qgZtI<ye^0=evkLcnv_>&fTe.@2:WUM7:A3(;W(5Vx_P%[C7_1?$D*EPG/IM`Eo*0A)8+$v8]9WUwH%-@LZxBWi,dtZVP*&-oY6sQH5SJI:+=`)Jdq=WO=uJotI^I:mX[?Y*ObZ@QRB2Ud:k(e6XVkxYdl<EjxX%,7bm6(EX%e/]Xlvv,ib0BGbD#&CvHW]l9L_Z*N^(RaR1U[6v_.Z+EiA)NCW[]Pm<D`S3GFF:vw`O8oaJoX`t7d<c$IfN&wF3^YU_0NnP/Kff.BOD,u`-[J.#,UW$J=FtvsvL*rGr9LQ,kISnJ#^`EGCe449N0ge7ZZNi[^R-ykRbL&cckWOI[5FAh_rG7Ehb5*IOQPgk**ZNdqR@J:B-gS=7DiWh?-*8hsD37iTOS5d5_qO+vZMxNS07#.3D[iV-tqG(NMFvn+dk)$/jsZst(W@M3V7r:b:MO:$NNxn_?LqCRO[(G%wh,KVV%65CL3@eN@0D<>t&:vKnpFSOe,#G<(C%/j=i%pD`vIW*,a4r;*DJr3A#-`g`y7:_Fh.@IB,Vgm2#gu,Y3J)&8XsA3YFm>7]iOQ2El^+L%VRtC=7XB&/-=12rsRL9]R/KUw=V4BXmb9Q/Q<w,w>eqpZ=:?>pT+WqJP5SJUeR94tFCO^c8&882h@#X2^c)k0fS25lfkP`H?/n5(v2^8n5=HHm1%^^Zo_7PBH7-6e4.GLtp:>o5hU2<;LfdCm.g1#$6?;fxi]hSJuYBwyFHPTMtSQ_7>S?5`o1ESQeRMA:iLSeP/uQy>])I0lS28>_.2,JDtRl,n^uSCsmEgv]Q>Q+`.UPuTx*m^-&uVmVG`6@Ff4CgLQ:0w8e?[.%9_LLjq)rFN6[v^0racfoST3PIciaOQr:l^k].SI.4FB-wr4@4tS:sbb5j>8i^pT(o6e-^J+Wg2t;5LdOSqn3``ro;?hpUor9j:;==S1>>mD/?JnHHvUi#knh_l&.X;#jZY>4*fsGRr*<O8JMXYKRUh1igJ-?RujdlTLAJmLQ3O4-j/dB;:MXP#i;/,IZ#Vn;Ii.5S/dDSyU=B0v.M.x#0wVe=s/Z<NT.HfH&Em;AAeBE[,#AW_BhmbkmuwX`5a-L=##=@#&VhkfF[5%Q=BC.O<nw4pbR=*srU]:c?DU8:`/kNoJ[kO05yhLwPbNq`FnX<lMdJqK3KC$4dmPR;MX/D*`p8aY6-XI.v5w)RfBpa(RrC+ESC?6i-8#o#M/Ur3hlsn+,^3BL>aF3EHM`&=vws";
+}
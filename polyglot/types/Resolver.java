@@ -0,0 +1,10 @@
+package polyglot.types;
+
+public interface Resolver {
+    public Named find(String name) throws SemanticException;
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1mr*^Xv`aFUy&EF.<M/Yb/W1_.k#Rt:qBG+v.8V$CL[&vy+3e-PwWBM.$?J6D7y*.hK(8ynXqn-`6_?dRb9?Zp9#UV$2/G8:80EX*CC)B2O-Z^((rcE6[tWIK?jo6hG5L?V2g6X+1$EDV$/lRI:ks7I$k0d.:B-``(BCUQ$VOs.<jO`@;t<tnHBG5bV7.EbX)`luR>%JHhx33bBStW?XNFa4)IOx%,2GG9tKO5Ou*_`;_[/wq5]Gqv4O5F%Yp-Ub>l=/8jZ:s]x%:-%HJ1nMrrQ#dym.XjmU`L1=nOF3Fe>HbK697TV$t.H].tdgQ[S]nV8A)s@eRwPI)CNw@J.MDoR_x1GK6J$@e@oi]W4FVe)Mel47=]%J&8c>BNZ<U8^:k=:Y<MW%<*2YI>2`@u]Z(teYp*-]tF;qDr=6.(*;@gpFoUtQp5#^IU<XeMnI%srrTL1WC18VpeUPW),YL_G8n0li._Sk4W&7G6f-x88N8uwpEe]br8^>a<k:_DB`^;W1A,&og%7C1^#Ri)OBTc;y`P:+i[L6aiGTH%yJEvU8M@Yx=A=ep4sSmVFd%dXUHjOr1JO7K=i6w)S(F(1=-;_+j_7NLRKWElyx-L=s[ifvdgNyxA#BQHnI-m=PJ=.dNl?(uCYPV+5pVn,*_$Ji#^d1L0vE8[p(]ogO*9&&vgUe)d6Z9DdDRp>g*qh$ZjKmYau3Ic:-dTxj^Oa<YgXe*J>ny&dwme@2nJ`80>W(QsUuQ:FOssY%ch%raoXLGMQ3QI-<R)PWT)y2)CZPL/UdT1nK6S:naVYp=Nr_P=v.$AWb@10rAc-vAWMP)I0JB*`FU?PV@X`q;h)nnf$=RP_623Xn)mUr=]ss+K12QQ3%Y2yaD.gL/#R`n_gC-p:lsP*TkQ]NgE7:>ao9knTFXE^o<FP7*cCi-N@9ling^&90#r7d2o;FQR-+,(:RR6A6D0SE2]+_^ph#yV(XR&=-sukqm3@F&#`$A-F@o_3oX#+Q%ZVrGGhUak)sl9m(=d=*O7gmrJieyZh<M55f,c)%.[&wMowl0[M.JmB[0urO1<#2jBW*@PB+$n:IG%5)J%`TxT-B<-)UW5i$l##ic-URX-o.XrR3;5@`Q48gCU][T(_oFdhbth^=1$1x`@B3XmbTDqTKs[e,b9DdgOnQ/*:EoBrd5*TAoHiFxF]owGHvX;Ul1x<bVE-EjUCEV5I+xGp7?p+&&&Obek-6j>:LQY$lW)*2$S22j6GZkBIlL38,IE*OL#=F7xv-VcGe@Km(vT#5Mb2Iw8W-6X6Rt@X%U9*0%c8(lPq.<ZYjPcw>3,(mJDaUm((GrQZiPBDkq1Eb+8=KYpNUMGFRQ1C6g)mqVnI[i$<Nc?9Y>U&=C6q31OJKDJdF>Ill#-ib@#STeAdR?b#?;@JrF0[ftPqUwd=f::].8MxlGVpqcXpxp]NR4fnbapOvGow)(rQPx/5iBgG=N>VX>k5L@MP:Evwg/8I9chT_6CIeojJF*N?ov,uHP?>q#`)vw$rhR7vMT=0V9As#Si>jnD-qa0>agT^_aOfK]<3Y#T]=+G3>$b7V6[nL/-ZeZ.`1?GPjXE1?<Mou#cMG8#$rOADKZC#tXY)qV=qU:*6x`e3<mI.a1MwO@K^#UmsH^]f;-dHo+G6U2Kq&,_n15tyS9?SPI&y(<mbrjgfuMUxmdVV(Sy]2+t_ctXQ,Ob3_o5`KQY&8f``>O=y:DRD@r)Aem:5v>F#<l:6Hw#=jjI1e@*A-[SL^jYjs1ZEFXdVlcEp=``oC#l-=)6&hjamiK[K(_Q:W@Ryag2:R8DrMai6P^r(:&#souZ:aWVU^BFcDb,ZXltHZ[AKw$f.KNC@M_1;+:Bd;Y]3/r$6hsxvvwFuBh*SvoRYfNt3c7b@b+fk-#JlTn;)=Bwepb-6#T`[r0/e9Q9FK$3>9[J232onwo3qx9V>JwqS<pc#a=W6U_-:QcU/$&e:;L7JbTw[oH+ox9SXc@Pk0(EsVg05JYo59%YR:=xP4ext85<5f&W9pW?6(Dqt=Cx_,%DLsuNctCD79QThm-6:PWR3evsFv+l/lp/;2a5sqP4pk:5j0YWkLsa_x+rTJp).q#MsA8GB0#+n*YsU^J$t6N<@a?DH67,a?X<%8v9Q__GAH#&Dv0OjvbI:osVv_>%WZJC4Y>n-E8aj7(aM>JkS)(#MNTiKRvj+uT?D(4dC?`C`Ajo[dL0EoFyPh(p$c(L@pkOA+Ds@eJSIKiZca1>IGyWan<@)bBSTn7L*PAqVg3L3NVcHinx+h>%N:.ss)V&Mp(nZOI-1@&74r`MFs9`?u.nED;HrZS8t*/]U/Fl&IUSeTC($iZ?n=R@%dFYaF.x3caTQ:]gm@Dat+p[(ruHFJ6L>>lj_boVW6]5s;$YHj8m,s49qMeK$T$W7s_OKupVLsr.ZcwFlJ%hYMh_C^<_?]c^gN6BNM=M9oHj+VNe<6MEbF7p3/=JXb?$8T^dTwb>6D<]_P6Hhg]K,)-Fy#`*/t3,Af$+OH^J_.n,Y@B;pOTBIwHyINHU<HJVx(PVvr>Kq:K2T)KW`45%t(LbgG-[5vu0Fy3n-W?SLwn7B7>oD;DJoO4;p-Xi0eDy+Cf^g1o)DrPuIceFy$4rkci2gIVJo(x]n2yd^<v=(eSeyqI.IXns+6:[oE#0Hg-aW=?.FnrW8t3A0<;In:F[V@o;@9LxkFIU)vfW1Im9p74^O,-nks*xwS:IXr_8S*8Sq1Ix(NQ/qUUg^-WkhSM<F#nK8E>y[r6g[^fU,-$S:%_E&0iLs994r&15goV?bPgDJm__mjiEPXBpkFb^BxrMm*JtEvu;GtI<m*]RKZ;i(9#9&,UEFxadG)lumlmTI_%G,pl]+250V);2J6b*B]V2mJl6U6?D-B_WQ;Ix<vlD[mp[&*tcMi92(j";
+}
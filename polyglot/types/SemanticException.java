@@ -0,0 +1,54 @@
+package polyglot.types;
+
+import polyglot.main.Report;
+import polyglot.util.Position;
+import polyglot.util.SerialVersionUID;
+
+public class SemanticException extends Exception {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    protected Position position;
+    
+    public SemanticException() { super(); }
+    
+    public SemanticException(Throwable cause) { super(cause); }
+    
+    public SemanticException(Position position, Throwable cause) {
+        super(cause);
+        this.position = position;
+    }
+    
+    public SemanticException(Position position) {
+        super();
+        this.position = position;
+    }
+    
+    public SemanticException(String m) { super(m); }
+    
+    public SemanticException(String m, Throwable cause) { super(m, cause); }
+    
+    public SemanticException(String m, Position position) {
+        super(m);
+        this.position = position;
+    }
+    
+    public Position position() { return position; }
+    
+    private static boolean init = false;
+    public static boolean fillInStackTrace = true;
+    
+    @Override
+    public synchronized Throwable fillInStackTrace() {
+        if (!fillInStackTrace) { return this; }
+        if (!init) {
+            fillInStackTrace = Report.should_report("trace", 1);
+            init = true;
+            if (!fillInStackTrace) { return this; }
+        }
+        return super.fillInStackTrace();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ab*k*^Xv`78;u^,%Y7=n.<%-gt4N<WY^C>&6D3Rcky-3=mbG0pf/?-rcZaA7+j]7GD/]WZ%p<o(QyHhv?,q1;A)lWYPbSf:S0t-Z,DfW[nm%*G.O-AdLEb@<<a$ajx%uraerss<2kh8J5DccKl9-dK2kb7;>XsCkF:KH8J:>FNv1xuBBMwPkPaslDS9T1_u)^#ixy*-iL0iUHquV#)&Byp[=FFmSk%:K<oS,>IQvQ-2U<Es]qC@OKiYSl]VeC$q&6@(H3>]f653QY5-y6)BxK/sS%dc:1]O-D3QWI4c)Z`T^d*3d^px7%3p(q/$tq_keK3:b:_D=T+q9?sNXB]>#&qjjubupjU;]JKINnPi^Q-7<K_.SWl=<kgRjEl2>UCNH:k=:Y<J2]=&+F+XYU:TcXWp8Kh6x$L=jHNXD[,O&0.3&sWOk`N>WGA`U8FoeoE)=Z16kd/18Wi(m8KJ5dqVgRHH-rZ[Ujd#5Vswn%FqQv0xbLIUDR/HOG5A_eF:DlN?a`S&mrp/$G-7w4NF`/8qREwj4uX?MW,/X*p?v-TNXs0Nsy8H9LID@/V-KN_%bA4w3yxG*<$I+O0TPGo7whS;_+l_b2d?[W8668-b999iu12m+qV.QbF9MMKu^Y;V@6HCZTiSX460Bcw5+KS.]`27Gq5FiYhK+0oGo>k3DEy%T$-Nlw*C4a88DelpvS$6[koxNiO67u<AVXD.Tv4P2``Wl(%GUpQbZjxS8aaWe37vam+?gRRDt@fRNAP,$VfmU[@$HIY?3/,>/bt`io.%d+5Pwj7(Xod:lkw=an=3?:<Oyi?hCf>oR5jT62Ek8T/<p(dY)p3.kIB7V5+BrY@8btr9;CTefxgPQ3.nC1AQASi6ep`R/GceS/[&2`$OraQ;/1.IYr`Z6^<J3G=WHh>-AQxM>J*?$)sKalT6f7FD/eceg8_h=`YR;I?$@+Bw2)R5(t<#taS][:fhsPagm5#eDD0SKJ9l#gc:6_@HrAR+c&R9cxewZUmDs27BtwJ865[KRX&,]sBMKfK;BXZ&#i=ilPpk*e_eX,=[=AvpMRdJV6;t4a3A_WWgx5Z6DKfiv=YwmUGtC3`d0_N<&h7H3`16ld@V^*SI,M=$TD7uWAP@B[q/M5@CvU7AZ6@^PS)?ZY4N2IuP?rG+RCyl[sWO#MomghLRfb5U@`*.IgP(BAlbySh?qBiu]R3RHW1Oul]iyeJ?2^*DeGTFShS-o0RTt9HHP;x8h-e1Q>Q7RqUMA6J7:&>#IZnsAVE%-kEOOa<-j0]omL8EL1QAaT`4@L$>ovQeeU9S>_yCf0S^b?-bTS@.FYcB]#-HT1Nk<1=(P.6WyZG0/8(yQb(E*AfAti*R5NPY.2qSPJ/(0=2DX]jI[,4mT25LWm-peFqRo^ikkSENUgC%wC(/Pqi3I]HqlV*;8vs(k(les#Q,K9:%i*mrP`fLP@:Zj@tPF[*Ppj`<tYt=V1D3L%Hv%^=aDD&ZPMPQC:Y)_t5Wa[Bl&abp*Vt/VR:b`_5&m8.JFNHn[7Bkr9$4QUf09+rAtbleSjJVyod[C]vVn_OK[;<Mc(*D=p>IaQmb&)Yc:T_+%i>Eu[P<S_bTF<fZa@(D$iNujE@kEi&+Yo+P2>u/ItX+P^FPA--^.L5<Z1KP8CG,QM$Rh$XAh9Rh]iatvoWwh@+*aACZRO1^p8Gik6G6KBhPp/lE-,QIc<#cnc_>inJ.j>,BiR<s8,;?I^pC@FE8,nCIR5+C.6CVc0R=yQ#gW2fTT#E0xvYm@#+gsAnBcC3c6dFn*uDk,)XxZMs>(rk?>8tfCQwq=%#UhAr@GB^&_r2#=Ep+J1]<aGBf$=2`@e+$^.)X2Iw(Lb:js9FZtt4XE$.+UmvWKK;F-1&[2Sy`s54JRm:pUr.>4fVt_45grWBoB+dGy#J__xn,>sCUE7M^+C;lsfvrlSvPQ?X.<3QA@Z;/C$q177L2PFaUK-wZpib`$qYv^J,gJAsDAnERlXSFNv]aP^vC4B4XVP*2Y@T?5=%_?G&N`$L]/Cy.t6gY%LZl=5p8Yd#uQ&7Ji.wW/qcNq:HDWn`tw.AxX9Z7+GdRZbiPa%W6:GtPNNkKdVYRa#jU30o;M-5GO;fVNAq/t;Pga0RsPCD<sg=h6Nc4?1L8f[Re=sFFljlCd(y_k&sD:BEl2.YMjM2.O?Agn]L?7ZL7)@QHCqikXkJA6?Ui]Ja2Yfb-,3Sj+[DY*Ee3-x*p$;YD8+XKNv*).EX>LM=]bXJdBy3t::d6%sh%tc4rO9Q(VjQ4ZOOXU.+u)6d^?b-PW,2FXbP/aRnbR:q[*#s_#E;8MZ%dKKZ2Zp64dOg`m?RZdi4<f)-3.y%_n2`Ya/Z=u%7A,rb9S?=d/0+[&cH[[*I%0oMiTX*3Vi?BhCMKE$F:;tc8^5uJ]`/s5Z.)lBUtjg1>7s;LnnLtugd@p5D;$B>&d/3B#$%&u)o-;uQ/^-7EUe83bI3Ur*>(#ATLF,netJYN``&A?g<`6*mn]A<2l0tj:c<kufU-1v6ydi?6HB[w.VFjdgKcun87Y=hWd88+BQ2[moa]XKx$obIc[sTpreaU%>]04Q+Vp,UQ[0hS%kco/lv.iV$(%FQ>tW-JPY5N,>K;etBFj[u7liA2sImI8<+u>=.$>y,$aVoKOpB:;TnNoK<JG]Rbq+Wp5DC45[g/*6a7;E.*JdUuK#Xs8EFMS=yO+wFnxZ3GY*8DUhoF`oGqlbp-3u?Jnf3WW&CHwJA*`kF&nPcZ7IkeV/H]2MZW_n9//NHKf?G>k_#NweuLxHB.b&gFU:^93&apvimgvX(<+cWCbMEFnyB9r>Qp8WOQe2O@hVbT:F,ndD9(?:ehs[/UnqR._ph$$mbq1t7G).hOFEEh*ssyc8*1[6a^)kQ4G0/r6<BW;]x.f[KaF8vlyC?O1(54G>^Xl(H6-5l/>:9a5J94rN,^s>-UC@V8;irBjy]m%(ruHQSbY13[7&5_b`?fP>^%4qeX+Z5;o_A:G0l74t=<e-p56Hr?rPTQ(/Gabb3%/J+pYj-QE[m30]r5gu&.V<uaA";
+}
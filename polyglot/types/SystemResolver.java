@@ -0,0 +1,194 @@
+package polyglot.types;
+
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.main.Report;
+import polyglot.util.CollectionUtil;
+import polyglot.util.Pair;
+import polyglot.util.StringUtil;
+import polyglot.util.Transformation;
+import polyglot.util.TransformingList;
+
+public class SystemResolver extends CachingResolver implements TopLevelResolver {
+    protected Map<String,Boolean> packageCache;
+    protected ExtensionInfo extInfo;
+    protected SystemResolver previous;
+    protected Collection<Pair<String,Named>> justAdded;
+    
+    public SystemResolver(TopLevelResolver inner, ExtensionInfo extInfo) {
+        super(inner);
+        this.extInfo = extInfo;
+        this.packageCache = new ConcurrentHashMap<>();
+        this.previous = null;
+        this.justAdded = new LinkedList<>();
+    }
+    
+    public SystemResolver previous() { return previous; }
+    
+    @Override
+    public SystemResolver copy() {
+        SystemResolver r = (SystemResolver) super.copy();
+        r.packageCache = new ConcurrentHashMap<>();
+        r.previous = this;
+        r.justAdded = new LinkedList<>();
+        return r;
+    }
+    
+    public void installInAll(String name, Named n) {
+        this.install(name, n);
+        if (previous != null) { previous.installInAll(name, n); }
+    }
+    
+    public boolean installedInAll(String name, Named q) {
+        if (check(name) != q) { return false; }
+        if (previous != null) { return previous.installedInAll(name, q); }
+        return true;
+    }
+    
+    protected boolean packageExistsInCache(String name) {
+        for (CachedResult cr : cachedResults()) {
+            if (!(cr instanceof CachedResult.Success)) continue;
+            Named named = ((CachedResult.Success) cr).named;
+            if (named instanceof Importable) {
+                Importable im = (Importable) named;
+                if (im.package_() != null && im.package_().fullName() != null && (im.package_().fullName().equals(name) || im.package_().fullName().startsWith(name + "."))) { return true; }
+            }
+        }
+        return false;
+    }
+    
+    protected Boolean cachedPackage(String name) {
+        for (SystemResolver r = this; r != null; r = r.previous) {
+            Boolean b = r.packageCache.get(name);
+            if (b != null) return b;
+        }
+        return null;
+    }
+    
+    @Override
+    public boolean packageExists(String name) {
+        Boolean b = cachedPackage(name);
+        if (b != null) {
+            return b;
+        } else {
+            String prefix = StringUtil.getPackageComponent(name);
+            if (Boolean.FALSE.equals(cachedPackage(prefix))) {
+                packageCache.put(name, false);
+                return false;
+            }
+            boolean exists;
+            exists = packageExistsInCache(name);
+            if (!exists) { exists = ((TopLevelResolver) inner).packageExists(name); }
+            if (exists) {
+                packageCache.put(name, true);
+                do  {
+                    packageCache.put(prefix, true);
+                    prefix = StringUtil.getPackageComponent(prefix);
+                }while(!prefix.equals("")); 
+            } else {
+                packageCache.put(name, false);
+            }
+            return exists;
+        }
+    }
+    
+    protected void cachePackage(Package p) {
+        if (p != null) {
+            packageCache.put(p.fullName(), true);
+            cachePackage(p.prefix());
+        }
+    }
+    
+    public Type checkType(String name) { return (Type) check(name); }
+    
+    public Collection<Named> justAdded() {
+        return new TransformingList<>(justAdded,
+                                      new Transformation<Pair<String,Named>,Named>() {
+                                            @Override
+                                            public Named transform(Pair<String,Named> o) {
+                                                return o.part2();
+                                            }
+                                        });
+    }
+    
+    public void clearAdded() { justAdded = new LinkedList<>(); }
+    
+    public void putAll(SystemResolver r) throws SemanticException {
+        for (Pair<String,Named> e : r.justAdded) {
+            String name = e.part1();
+            Named n = e.part2();
+            ;
+            install(name, n);
+            if (n instanceof Package) {
+                Package p = (Package) n;
+                cachePackage(p);
+            }
+        }
+    }
+    
+    @Override
+    public Named find(String name)
+          throws SemanticException {
+        if (previous == null) { clearAdded(); }
+        Named n = super.find(name);
+        if (previous == null) {
+            if (Report.should_report(TOPICS, 2)) Report.report(2, "Returning from root-level SR.find(" + name + "); added = " + justAdded);
+            clearAdded();
+        } else {
+            if (Report.should_report(TOPICS, 2)) Report.report(2, "Returning from non-root-level SR.find(" + name + "); added = " + justAdded);
+        }
+        return n;
+    }
+    
+    @Override
+    public void install(String name, Named q) {
+        if (Report.should_report(TOPICS, 2) && check(name) == null) Report.report(2, (previous == null ? "root" : "non-root") + " SR installing " + name + "->" + q + " : " + q.getClass());
+        super.install(name, q);
+        if (previous == null) {
+            if (q instanceof ParsedTypeObject) {
+                if (!((ParsedTypeObject) q).initializer().isTypeObjectInitialized()) {
+                    if (Report.should_report(TOPICS, 2)) Report.report(2, "SR initializing " + q);
+                    ((ParsedTypeObject) q).initializer().initTypeObject();
+                }
+            }
+        } else {
+            justAdded.add(new Pair<>(name, q));
+        }
+    }
+    
+    @Override
+    public void addNamed(String name, Named q)
+          throws SemanticException {
+        super.addNamed(name, q);
+        if (q instanceof ClassType) {
+            ClassType ct = (ClassType) q;
+            String containerName = StringUtil.getPackageComponent(name);
+            if (ct.isTopLevel()) {
+                Package p = ((ClassType) q).package_();
+                cachePackage(p);
+                if (p != null && containerName.equals(p.fullName())) { addNamed(containerName, p); }
+            } else if (ct.isMember()) {
+                if (name.equals(ct.fullName())) { addNamed(containerName, ct.outer()); }
+            }
+        } else if (q instanceof Package) {
+            Package p = (Package) q;
+            cachePackage(p);
+            String containerName = StringUtil.getPackageComponent(name);
+            if (p.prefix() != null && containerName.equals(p.prefix().fullName())) { addNamed(containerName, p.prefix()); }
+        }
+        if (q instanceof ClassType) {
+            ClassType ct = (ClassType) q;
+            Package p = ct.package_();
+            if (p != null && packageExists(name)) { throw new SemanticException("Class \"" + q + "\" clashes with package of the same name.", q.position()); }
+        }
+    }
+    
+    private static final Collection<String> TOPICS = CollectionUtil.list(Report.types, Report.resolver, "sysresolver");
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792341125114L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5NHp+$PyoT_h+C)w/IQ3YET&0`xi7Y*_sj3WcR>@MSSsjpvZ5jwiWaqO/,M&LlF/WQ2BVdR.-*[XO-CC[o2-qDR0)EEZKL>qFL.>e8FVhs#3T_ggJ^Gl(8A7F?OqKhEHTqpAeB`daN3gM=]V2l)SxHo`HrUr(%A(.3cJk-k>E4/n#y%h-C-Z,u@W,[ZXmcvypmOgIobp7>4u8&DXIdLnwq=ccIs<P)9Ft#gl$HAr6oiS=(`<RmjNF=^A5n&JcF;slIJ4?i?i4?oPjS-]Pa&[qHh&rU)O&jR#Y+-KXW/t,D>&tgY0,t+j$guWEW)cVw6^b9Lto[+8pp$+M0Nm:l8#+)I&NPLxSji)Xn$P[7$rJcr6>$MB&ZB-A;S4%0SOur^P(mKZ03gG$-a&Y=ThgckT?CHo%>0ejIEedwMRRS2vOe)7.VcBaTgIBAht1Uxx*hFixe&muZG@QB/1V%b)PPA`Q$FyCkDC6_jO)H0(`KLpXcl+IF1$y2s)mLh<8GFf$fAk7w=iS<L--,Dv*i3</RB14HD6l+AtU2XkQ86ti5(HG=ejOIl>=l9^Q[9tiC^q2]K.lgBfXU._8VWGXtM8=dC&SC$?pue8r%jq$Gpb3L%v;-L?3ZRI>I%#l.k(^_?5]XH2a?Q;l338<R:-Dj#kES^0?oSB_hHcNPa:cO]mb?gg++E#QGuc^ml?*JSL#@hB?YouS`U6DmVs53EEM-t:t9THJ_B$w)L4`Ic>nnUbCqp4sXU-UqmsdI1d^(/;(%*3hn4CK@)Rf>Mo>cFXp9iQ(T?37<)UHj>T21%4KaMP^`sRB[N/K:w&<,o8T[uf#v(n8[@#Erc)U(`&)sNs#^4-S1qyuy:m[b(Rt0UqO70/S`+QKOQ4:*r9C:-U^<87l3OeJni84F,JU?K+DpEjSf-l[C<g=&]_77`J-]M1ikK24u*U>?HUo#XZ/aiB[lW+bFM8MQ@.+uSrSYve9%G)ndCJf2>FxOSL#:oE2?#^wri;[UIj`rj.+FQo_@=L<Agccaf5h_.D9%ZGd+;:gNh?hW4jnXlyGvEqG?txP2N>6[2?yo999v-3&ZO5q;sGKf`?NWds0<=0*5&u>LR,MuFS#[.`%[xWnYB=2aobVB0SBR2L&$]RiMYU8k0KM35&qo%xZ64%]KLwaN^5:cRrPLY`^j2NNRR@XN3Ag.c(JV6B[5(3u;`u1[+a+OgBmO$1+Jb.`$+`jWfQ]h9[65vV@Af3:A2tnGI`9-#F`UM[K1W_B]CCf=4[;VhbcXdMbctSi90^q4`IJn<=H@e,oVW<ga5I%LTJiJ1/ohIE3)4LZ9V<SCEe]s3bs=qe,qp*$[0N(nT(kVr;Ab*ww2uw1s_v*uiTBy>9Yp0l+2LaCow,iQl$*83.%]p3#A1:-:ub.+1sRr^SlX=gjVo5*J8ShsMV3[c.q,+`3v0FgNsU>,9*.^(-E$wki8Zlr6cri79d20MisAr9X:sn;##CN3MmOd1.R$IQCYpE1f.>)V+tjXBOA202vt#-)/6(yFaQ:/clCpjWs`RH)G-,P=[ns41Fqoy(L]O+0[>9epU+-$ka*I1qn+Hs(.Ddf`&W??TOjRlFY@H800-NQ1UxcD$&Y87R1C7&[`o9C-<BS(VZ(i[42xqbdHp-<t;xm7qX998O2O0f/veD$$3T[q4Nys%1rlZPyRf`.sr^QZT][o&o)/$ppO9#@Hi^r^gOC<h+d/;;H:Z=s5-;J.`D.*^g*kHH]0(m#cnE=>l.QPoD%<j<gS/WO8L`+Rx?estb[dh:-q46=&e;4IU^^HsIgJse(B_VoB2UMN^,$xuj-4$7w>l5-D(]mHXk+rPP<rr<XjHS+1S$*n6WsxWmn/khpU`]S8=d]0L;qy<LDU@*+tpMturxQlJd=OdpbQx_%`t0v&Y;k[8hA1M@f9B+hU7]rTEQhDC+ig9SWMpwgU`YEUUe%PNqS?&$s@wgAH1-?Vf3,n+E6JrhJ0Y^Sm`d?P&nZ)[e4wESt7?C:0Z-/wq%$:1QoPeuCY4iUmxE=[,[^anbJn1qukSWG)oN*xP$t/_ahN<.-mQb%Vxyq/pko^3)UQM-_@M+T*dvP889Mjr/;TIimnRN67WI$.>tT8CCf?<_Q#49P762O5U7<IBM[4fta,s7SaZ6W$eRDl=s%:^<KkTkP/]NsBdot)s.+2u2[10*H]2^cWs8Os4SjJ^.7n,#Dmq[C7<wF&_9&<ZwNdFA,`T=QJc?>KuNWecJ%URwk:wD3HBcqcXlWn50k`V+atBo_jBpEI[%-Ne+mx2LbQ/A)pg=JULf%JVKny+hve8m:BsZK*gWkWk#?aW:Mll:qkjQwQa+$YWI,,q27lG#MlNvX=lHV0b/<Qg+E4K,=6XFkwCds3jo4f.*#om-At4-?/`QhQL3FIPClc>X/-L($79:*&^O$#3[#57af%F:R;7tca$Ue@-myD2UPl)Lw%cC?B<g:P7w(-/fO,A102*U0dqeCEJwL@c@O*gv-6r@q?7Z-;DJH[V:FN#,p1HSvh0Is78cKve#fH7*kISdqxX$2lAoN&T5VpOWnN-f]k9%nk0,c$q7>bkUA/8ic>f]:vFxt+R&bBp/DQ+N_f+B1pnaKhFnC,tJo=HQWq.rhN0iR8&KHx?Zj9wchU_*A&&*JP;+3=%Rwi@Pb_9`fhRPM$1#Y5-Apu)98GhYH%X*`77?sDt[;7n$Y@#ZAsIPTjU2SgJ-&?)7wlc4pu?:NHtH&6O03sdky&W;ib;$L*jM1C?7j%;n7PXaJYq&<b:UlJ&04pfkPI6*3kC+6U,Bm3uWeC,n8O0D03Dd#jREYYOQd-[P$aZ8iE9dxdixinN1q8iJJ3Ecv.uk%RA<ffTK63D`N8$K7fq=g(NQ(9vO*6tgk$nx`jpma($J`M0m+U6/O<a/8iM@7&OHI2nc6,%iH]78.HdS/<$ydYW7A+E29qwXH8EGY(?2k3si:T9*)$ZqX<-JI*,vWD33^%O46R]/BlnCDe7Aa$U4&V7^Dyy?m`r_+&/%0Cm@Cd%Us8[6q?QHo1&5QC-=EDh#lUUnt/o92UD?]]_HXrsWFvY#C4.3aN@6<C,pO;$:>6RtV8e$f^nKJ;#dB)w3Vh;`4Fyx0ep3`SuYdiI2GRZVM?A=?Pp0N/fsd]NSO3,<`S&]%nq7=D]=hhA>a@mAkAYID]H*aRs3Iq@4s>;mJtc#*urP_]h+aKHj;J9(>X7Ud6:g:VdfYH:13V+6&B_Eid7I)V^JrdBB/mbOPdoS$lm>XViZ:61(ZaQQ&M(%<;p?ZMBKk?)H>+b+H=rmK[Sr.iGGq$r+QU%5?ybt,+,s8qg1eVHm`p@C.EiilWANc$<=Zg9Iyr`98IAO1e_:VJOTIvG9#CU#OL6oX?qm;-Ofh#2=lKk7VJ7rcZ1*r7.W^e8ri#64irL^j#cU[5<7@cE6>00?vjB^<vy?ubiG1r#[kyT:1/0b?YFqCo7K*0,A9aw]>FVBX>B%xpE3/Jp1-kHfUg.%p.ks,Lr9#Gs%VN2:mN)$XdMgCM6%iAn=ogu+aMbA$fLIEYtZ:iCR2j$9bjHSua/a_xUy)<4<gY2%iRwt#Fi2lNfrUx%h^U(2oC&1cIuiRQ3)05_XWkX[Fs;ZXs)dikWY&4M67GcD1%3hSePFgBDZc@$5J82*%0%TvuuYt#^<KQNA[sX+7HQ>-K-^vZ.^)FG2F1&/MF?t4OVu):K6JuL4@lL_F_.h:Yp^?wts8^5Gc+G-,f`=fcxA=E>D,eM<pJmQNV?CUADsl7t$6P`S)c31@1Oigo>>%n&CHr$0`3uY6>gjt#_JmK6S<N/=2j(Xa3=V6rXG/#:u:/SNqLDyXd+$yQ8yL`Aj3plU^R&9?=j69?8ZKf7>Q5R<R`ptWq^V]/a]PqfvM4^^)E@x)Q4ii(8q_b&OBOHMA:o[g]el9%1.OamSxk4O`_9eQ8yPl7LEYQ,ub`$V&ph<8ifEAA.dNuW?].y7<19^f;Fhwg?#o9n?]=6o/SE<SP.L>^1ZTN>E^vm%F;UYqMN5N1jnhLtE,=`kKUNE^7U^nUa(n33pgo^pp0T9FWIe]>HAieDf[DLj9wt&ht`+ba&/N1f,Y>`llJgn.+XQ]%-L3JqIME>Ja=Q7mZ&QwDAs);_se26f$/Hp9q5J2:Ky60=K$.0#xfN=c9r=N[5<_>IFQP.[j#lhgl_Z4ScF`rtlUARpZ]8*INCML_6Yq9iL3a)7b<q3@rfw$&t0vGmfdW3]?@tYUdZ=mjbiYR8C)=2d&xFkf8YJ";
+}
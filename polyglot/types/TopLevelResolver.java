@@ -0,0 +1,10 @@
+package polyglot.types;
+
+public interface TopLevelResolver extends Resolver {
+    public boolean packageExists(String name);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1QH3l5*Oe$9aFy-/q<Qu3R_r[GCNJte$MU@rY1n^3Sv=7i?ssc=gOqONq7Schq;<vQ)h1]..asHpotP=Mr>?BDCSE]h#p=:6Ot*8<Px*D-b^]s(v9Rbqt<pT#en*;#v;6UqM*Tl@8,^/fYHwug>lJ?KRtFe1sk0@?/^c05a]7r7Pp=M/AOqyPPbW%Qv1#Nf,COhic*%ft`s,N55..oOP1S(5X8$htaD&+Sky<brlOi@?1,Cf^&AXGu&,:cI[>n-RhnEedNInObRw]mg^Z.cA:iE-a<pRO5AF7fXe=l%KYE[:HZ*7=@P)GARd=TY68[OY1lBguNnw6?=,>j>*E2xBiIcOC@B(PfCRILm>54:dZXRZtvSUR>:62M1[E#rZk>&WwS=8FuvU$lUy3*waMT*RA3D$L*U*0wmQ3I?u+^aTf?NSvH;H1cdZPi_tIouBG1mePAe6tZn9CAHMB%A9q0Q++#?hRf5@Uab`?kw+yR^3@l)#:s$KmCyUS1XX9%MOb*E>94=d$yx-+C6J7`&10T=mh&9;@LZG4c;CS;h6=PWW:&mDdD2#YNunBA4.?R;_.OZm:x/AskQ_;GlSonyftpVl]iOL5F3eR6/]Dt&*o2xf[tYty[$SOi.tAkpB/V]J%>@>>B>mu9dPTgr%AR_9-lv1_HfcTQuX5l:e:@q&:DeO0/8I9nfR]-tV_<]=oi05A9ye)>.)>T_t?;,6ecxNfh]2%EN0sVV:ltqr5d77_?lb:b6GqFf4$$Q3K2@8bmE@=/d;<qC:S5Nl=h41N$fyv3)7Mq?%^5f[FR7N&bUOY5nHs?F%Vo5yK2UV4R@t[`DL1GxeR-Bn>eWr*,1s:t)x4=`+,1NrHnU$1&q:?r.by2bbUUp+:=@C$MK1<H_nTqSqSOo:@CDTQFlaP(+Y2`TS``HnZ06EfAd.Zd/QXTm&OTf@o[P6R#P5sT%J4GCLFOI5^ASaePf%.,@$Kwr#5H5?q+^9wo2lSXtyQ,Crr,.Yqj=-*cKV%D.c=I`.aQ$Aj^ne*a*mJiaqEYPWoF598kcT[cEyRv9#76@#J;ypDeh.>GS$Jyfs#(q#BYxE?,]f.cI$>X@T+8:E5KKk[Sx?#7UmDCv1X5C9WfDOk2>NdTd6*uIJ1RYl`X?74WWI$@Ju/PV&1DltqeE,6PpJCBAL%TDVxJU$9T9VpO6)R0_vTh;%G6WC9UCUGNEZ*E`#%^[_dIyTbj<0_2)k<bIrFEJ`no8Uvb@oP9Ny+6>bZYemo6?M_r7dhv[_=iw7E73BTv+hPvkkfOJQr(BvXO4LGwH)n(G7_,+T0f][-)N0hUE?B;hn`PYbt:MYM<3Pe^cvZjF,I[xhlcn8G[&?<:u9LaFc<^<oW-kK154ZKbb^>)R3rtyq+P2*%ELq#g<;Qm_aYgEWv+]HUYp*NN#?`6s#B[H<Y.L8Mk_NB&24A?IpH$mnRDAHtt-aL(PZs8-r:*pqVBe<@eqqhJ)Em-JUYiIA,&gue%`06rc_h5:F1H;0@&+Jih2@Bx(?H_JJQ;a6(QsZmB2tpY97tc>o8lIK+P;Z:iGQ@sJY`p<wKbLHO5t+,Pnkr@03rlIFa5bHM6(CTui.S(;^fYF^uuWrq+*jC0<lm7J:04S85l.%/_scwy/3G)XOI9KA+KeM>IohyXE;tkZR-yPAdk7e0P5)7NW//SvrbL>nR8BKjnCu]JU`UcFco:1yby&y3JH-)A9sjVU=A-sV.7#MbI,U=?iHx,OG0nfWihP+ektp9y[YjHiV,6nGM87y-P4^tMMVXP%fC*&OI$j[Gq7;/)SAD9*BhG-v(WJf+[HLyoJFt54fwMNN(*&0#d.F<HCr#X,D:Hvj?($Cxkh@`yk:leH>y<@hV@E*giS/E-@yOallJ[n60+=OYMNqsd185ZvF/0UGJ#s($+y[rOXSO1iKuKh*G8w16Q(XVpKt>55;Sifb*Kg1BZR4T3o)sQ;</luq2ev+C?,,$+tS?n@ZhHP$U49+ah3cm6rVvn%N8:Ow?AjAPW6%6$?bFEml@=vq2+3`eGE%.f0`pTbo9C+E`E2@=R.4=*vp5IHGW`.@3,";
+}
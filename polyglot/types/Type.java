@@ -0,0 +1,101 @@
+package polyglot.types;
+
+import polyglot.util.CodeWriter;
+
+public interface Type extends Qualifier {
+    String translate(Resolver c);
+    
+    ArrayType arrayOf();
+    
+    ArrayType arrayOf(int dims);
+    
+    ClassType toClass();
+    
+    NullType toNull();
+    
+    ReferenceType toReference();
+    
+    PrimitiveType toPrimitive();
+    
+    ArrayType toArray();
+    
+    boolean typeEquals(Type t);
+    
+    boolean typeEqualsImpl(Type t);
+    
+    boolean isSubtype(Type ancestor);
+    
+    boolean descendsFrom(Type ancestor);
+    
+    boolean isCastValid(Type toType);
+    
+    boolean isImplicitCastValid(Type toType);
+    
+    boolean numericConversionValid(Object value);
+    
+    @Deprecated
+    boolean numericConversionValid(long value);
+    
+    boolean isSubtypeImpl(Type ancestor);
+    
+    boolean descendsFromImpl(Type ancestor);
+    
+    boolean isCastValidImpl(Type toType);
+    
+    boolean isImplicitCastValidImpl(Type toType);
+    
+    boolean numericConversionValidImpl(Object value);
+    
+    @Deprecated
+    boolean numericConversionValidImpl(long value);
+    
+    boolean isPrimitive();
+    
+    boolean isVoid();
+    
+    boolean isBoolean();
+    
+    boolean isChar();
+    
+    boolean isByte();
+    
+    boolean isShort();
+    
+    boolean isInt();
+    
+    boolean isLong();
+    
+    boolean isFloat();
+    
+    boolean isDouble();
+    
+    boolean isIntOrLess();
+    
+    boolean isLongOrLess();
+    
+    boolean isNumeric();
+    
+    boolean isReference();
+    
+    boolean isNull();
+    
+    boolean isArray();
+    
+    boolean isClass();
+    
+    boolean isThrowable();
+    
+    boolean isUncheckedException();
+    
+    boolean isComparable(Type t);
+    
+    @Override
+    String toString();
+    
+    void print(CodeWriter w);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<I,^?T/b3uwokuvbi8gr1W4MbuBsUXT,5d)hbdk4hJlTct-Y#nPKBABOKYg97hu%A%DsOYBQjy>YS*U(^$%n?c$RJveXJbQb,sa_fCaIY&#;gE1GN+^^o?eg&QRKtIeCWI8QVIb).BdKh>*<g2L0Lbtc?Qi*SQ9Ee2COXWDXH_`W4-5p]ZH6nf`T_YTo$j7?ZE%F9<nV>2U[u2%P@DXoNkRZ(EV(76qah0_q7G1o1Q-&T/Vkba?8FhsqDV,o8E+lNac()p1%&b$$S?Al5GPNO*MAqQf8N$PN0nf^p6Eir89RdqjOpgi6[GEPm8*XjDSR02.tQO:#x:qs0v-#-HFQ8(=R0wl5N/1&=a-U%2wqtBtiJN7moe:>fm.2v-3BO6_UVUFvP8%Q2mRWE7PfMUe/qQ]bqY>]duZQvFarXF7tF3Pc/DMY_iA]4>%59$USUI%6/N(U3*cC1u,Gg#<96>3F`=q9]:FO($EN?T&`#IYp9-RAvaNyX1UGg03a/>`18m]bmf#?s05>4y8d/T@anB(vfgqAUVcpX2NtDy]Y?*M5%8r1rM64/f&&5M&K[7CN)eUKgHYn.wC0&#1:4C=];0+mNbPZSOJe;dRq*uv3f%sPt6jtJorb(MwNCT*xwF].kTyX=Q_bPLh2b`*)rmq4*_2Nv>Hj7+ZohvUsC356%E:SeV/BflCZq?.8eM7Wnhr,Y`LNf2;-5Uxi*,m5:b`o51F2G82K(a[mBJ0y@oOe33kkp8Ol?-wJ5O+Id>p2N.[RZd$i6ZJ<usVHiXi,(FiS)ytdD``-l:c2m2xZN[v>H9xMdPv`]<[6jiA8x0IT$NMF.VpO6gOgu7c,w8MD09a2n)w>/SKt[;>c2lFX$ZM@r^r6VoDwBNK;oc`m$A*a]YLgH/MqS<GrVRTJ/UJ47oeqPL@U_i0&ZI-8jf_vDHYC9Mn.7bFPOL?]SChCD/o6h1rNn6,8uT>NMu?8=F_)QXsutShrqIp4GAE#1S_$+;jIRuHF9_)KD`L86GyW3Z&QcW;U$gALQmi]U_`WY>5FrSI@#hbMgFy%uVQS<nNGlahlW1f^0+?>vH(aUb+ms.Xm$*bRHX0lLW@[6r8iT0)($,H+8^;FiPZIo[-7#Hy1AdER%BaOqr8$^1.)(M)4TaQ;GDRZZ1vM=cUD=@O8AP><J7oCL0se6X<J^s2:a.o`7n0$%t,RUIb(^ri(WWH4Kn>]*/KpXv<*c(SB=q%h00V*li-(+jRyjyYBIc5$eEKNt@>PM`&L(KIJ+)%Lq^TR*L/O4-(bp[JY0+)2N41qQfaHp.5y6))OO:ZBbCP7)eY0mgQLR_,i?XOSBA?@F%ZeIDI(]GjI83b34,+[aZ3,ArMq(^AvG5kQ,b.x:6&GE[,+(?>mBr?E>kcoWf_EwC$ibQ:clyPUPLRpISUXn=_U=XxV,s`2MEE:8`bZv`.j*+Mm,gV]dbI$vf_o.36mA`FE+SR$m;]i)g.P_o+v/q*6?DSC$*=&y46bGT3yC@$rtn5O__wRiJT.E>jPl((O*E^F.b7R$(7+PE[ZWSGb_ESxlPi:?ti;sh9ryc3j0IR.GK^RUq,V@9BFkZ++^d6Ga:ZYaiP87>Xq-s6p9gaV-rZ*,K8VD].jB0R6ifAflsl08:Z^(Ol=AwSdk[#mV`e:@p6+M[m:reOW?u]e@;*CRE+F_7=V9e4>`v^_=5Am-_T1mZD0tTGKIP[9029@9G[lyJ56prnEC+-3_)FfLch:/3N0#e/HPCSChC_&.=%5^_JtOe1;m;wJJNUIwMd&_1:h[[UqD)kBTS*7;A>>76[u-<U9WgV4`)HF6V0%^,G$-;@t`n#[U#G^9sW;cm%v/@*XS^)qfmF1b$m_EA%HkuVWQ/0*bDsL$^2DQB]jHmy.x[mW#c`P?KpH^XZ;Sxh`&x2kv[q5a5fi:$1AC&VLFI_T`rACqEn*1SC=fk5e*$p(lJ66@:Na7NsfOp2sF%4r8*h4UUjh0/+/G&[>6@->Ka3Iaw:CX/*r?DbQ;5H[Q;0mXC]]-&kE[hi7Fq8s:N@PhJd<t]_LI9kbsl@&L88Hg8i?5Dmfs.=jHbf(KK=:Tjd@cqDstR%2[.OP@[w$1^WumYU88x1#<4e#vnmZatQ[hT/1ZGm;b,yG&])WHb(Ry*-Vh+o-I+q&ecru@uRmL)7c.i_kui.HJ;K^lRT*(N6aQ7^jqf=oY9b>wo+@0fr>r]_H`I*d7@r(XkR68c2)WUp;2p#Ae<=FnkXS4.lyx4r#>VX>OUJNNr+;#(*^`F9*)dt4NXrl?ctJBd0jB,m+7KB5&LAqcvmEMvWF_X8#k:RqeuR<Y.wsPiJt:l7U>E1)1>sI5b2IJ]bWe@#c$tSK]Pf2iq]ua4^*Cu8u=jbs=8-6]aYfsxnup:--`gMCrk8VqC>:>p),6]C)WMxE1tMlEv)E7o3/;p1BY#HQ8p,+XtY<D&J1YUw(F5ngAwVIX2bWsLdZ7tkc0gqGoj7d38@NXLRZ*P5=2x1s0J[<%$_#(?_kE&4$r3c.GLPQsiQ$;a;w8HD%yXi<VuIch-j[#V.3#1ejrP],6b(ob&X)oMZgVYxWeyKk$hwfch$eX6&7j>O.x?MMKE<MPpFjg6O`RHm0=YJn5+fmhZHw5yL:?k*N92)6K>[2^LC?.FFc*Q*/DF`#Hrs`Q&y[OSFf>LuhX%;B6[)qX+])(@WHbR.(Kb^vj5((00#Uf-.qjQ#bGBcdL`IKv$$k]xXv?fW?8V:,#S<Xa]k);]&wVqQm%GUuk]m5/H_:#jild?_=ESsk_`5iQ`j;J93,6(@%>&-@3WT>p&/cg>C`f3`TY5w[<iOE///IBkcAjXGkw3>:p_g]mekc9gkjM1`r3nmv_6w$olL2dg?wgVpt]2P]^`Mx^;wKRPmaG$G&6qkZK<B:r+tPkFti?u_-=a/4^EbS@ic[`0OyGDi_X8*v[RhVAqN=.0-n]8]jy`JH2$G&t&jPT-+v1O$E]HA+7w<MZ4U(@S<]/skC2L3H`cy>7&_F`6[))8082C)[O_:faud5>+kU6Hfl7B5`7U:G-C2ZOc$&[Q7gX5oBS.RO0$UI#:ch]9J8Neje81l?9lCa`685`Qf.e[C9)Rq.;$imTX7h^Z>v)p6Jg(@=5#Vy6J^Al2,mp5nj(Bu:Z*@jipH4G*kN&0BrKiFh_&EnVbHK^,RppQr+^g1app2,SL:k50?$5?DPD;d]Sc.=lJ]>GwXUfSKiU^$PS>s&Q]T_Dj1?xHy5;8Db^(-^Jr?ivi/f[m[Lnp8CoB/4(^-ujZt8?ZRmRI7m:U88,wN,C>@fI)%,kgO/)m?12QKg[MXu6ZkI`x1Eb&jQMG3`.Z.U]uAje^_O.WrjahP;Z.JvehcxCn&ooH=JWwJ+`cM8(+MgRT&$?Brv92u#ps@]?6Z_mcxDPAnyEVMFmn-Ux]Do(m@gAJ$PKLHi6_#.o/a_]RloT#]?w1/oHy^LhRu,Gkm4rWKnTC3y7>Cr4I?tmDoy>Kt1cgmAo$-9=>937b6pR#-bXV7$<ux8(([V.b<i9,*gSlan@gtZQu877(<w$d`/.WM`??9Wm&Gw%&tb#WBgt0l)cE#RHF&j1*Gg2-:m]F.LwhWYGRn-dlV1c]daFhK0#0V^9#(ifa%3YC`QMybb[^L2]]>n[6c0_25b/06SZaTe:LcD9FP*`]Rbo2j&v60f6c^gLec5cI17x]KGl<>g6G1m7%<3;2ID7h)RU#WsOVyy9T+XFJYNE-ZcW/Ve$/IZAXX.+[@48<`Jguh>,rSI)ODVy7=#,gosRq<VdH/hX7[vL<s6t@iGxoc3qK?<)UeZ@6y;dU;v]U?uwNagldIPT?+em/.<1b3vIOPF3)rqkkhX=Ui1aK^-KlCcYhGK4H0=s;^Y3f3qgK&k7Ax7^%XGjuVB*w-V,+G/_PH]^H,o+snX_[%PusF,J?59M[MHVW<UhD^/CZHZG3]I>uI?2(IUX#^^m@D";
+}
@@ -0,0 +1,20 @@
+package polyglot.types;
+
+import java.io.Serializable;
+import polyglot.util.Copy;
+import polyglot.util.Position;
+
+public interface TypeObject extends Copy<TypeObject>, Serializable {
+    boolean isCanonical();
+    
+    TypeSystem typeSystem();
+    
+    Position position();
+    
+    boolean equalsImpl(TypeObject t);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1mr-+Oe<7.Hnbtd,D;85)*)Cm(0LJ=f]9R=3T(VHC_NHLFW[U-e&&GtL6eGk2QOE=r$o4qN4`>-tt1(;yQ/>I1CpZCE,ZZ&ltA*5$FH1YRs:u5cvuZYK]o/OK%?fnRBHuWbPr2IGj`fb7<fe,Ekamxrob6roo8<kfGAi0qF1:67RjqAFHsSP-6lZHkey^?<,^>>61H`Z$y;HuMj^gYFq);g=YcYr0fff%Ok?;$$704J%$AhI1EFdty%;[j8jSO>nX.id)(1o8Be:f2c[v=Zg^`(S%FcNx*v)8%CwWYX`Brn=jX%Id)<NR0#4ui@0jIe(<CF)?k<Vqxclr+7c*0v0`n3*&Qi)G$5A15G9paeqMZ>YaN^)Y4uF];T@9lZ2btRH:iao5#;$nMq(i75WvGhD?$p=5X-i?FBmL]KbuLvpG14%c1*$$H6do/<F/kSAhN&n@WwNyT@nQ#DTq_d?O>4y/lXkM^>o,?%Qvu@08C9&HdBL$<F<-hE3$ZfnUC#Su(@8@FL@ad1GwsB?m:Z>k4<S/Zcb[dkj#j=.N_I/]U>lMZ[>4(UsJjTS=[YrO-8?1ATXtaH#6Lg^:`^t/[L]T$ix+<gl:;5Vt?pe[.yGV@j/p5Ln9[m%.1ocQdj(ZTx4&mTPP-]JoJ(*)3S<u.L7mNL2+b37&%&%T;K*QWN.aJQ(&peV@eMBsFfW3E8=A*:erVD($@Z.#veIm;u89DSOrffd8V.XJ`Tj=OHFv<vB]1.S/,G@^tJkT^tpiCYT,E=L`rs^HkEIc%l0-h^+?6Pr@?L$0A-oPHa5vO>TJ]UK=1W:+^hqf`y8]G?E]#,lb:Jdmo)o=98rg-.e@4xP>2C,=G&OATET7C>Z;Ig/pM<D[L/R8*x7WU5G%%Gn4$2$mq._7Wf*6ItAG+c#9sn$2b+8V^?1uda+)``svr^y:u]UW?[jTJNrVQt`?Y1r6/3Cp-&l?DbC]P%-Elu]$%5aKF[PUH6#4/W.5Db,2Sf*dhgQB+w8u%CNOv_u3YgBaT]-rj%9tG4*o+KMhXXO4(0_`;GZK[(]Iody=ad)U?refcdvtrq4,nf_]BeACstsqal_7bjj8VjgNeFKZS;mdlXc<`K=-R$ARJ<r8%p_3_L%)?iOcNT?n1=6W_d+Y(F)9Ww%6H<r];BI,q09_*Yu(Y)LiF59&&l*xev#U#J&*EH@8X4YsLDcl=%[n`&%8DS5lL^@Xy^)^snjbhse@3mS7rfEaIDkE&4EN8p=y?K_jWJv)23h]oML,X*5+n#$.TZ2H&Z79m&G_?H.>C2nxp:_@);9$C%vX6M3XC%I$2$E#Lr9trcCMSiOHXCXY+w7sa?:P)(1@>nrhMjl0o*p%L4o/k2E`7jF7TjvRl4VUp,M+OJZaOg3l<0]svQ,17E7;H,cf[+JNTUfCcf.5ACBpKH6J$jYKu((A.ZOhm^?slVT^Q58G<%,T(Xo9-g/^,TYI=tab>Nc=NNV&S&R(nJ*^`byb-Ig*sd](%);h4msx2UY^iqAhF3l7YWJSC25C_%,v_fjBUhg1S#IXvcw)o$o1TTHFQ=)jr7%HuMHrMh>P)9^ehWud(f>Bd&1</O-s/V)Hk8oVDK&U>+Xu<.qAn(Pl+Bo9y#n;gDZff,<Qt>+ioMNYP87c<mukd`_^Q2&*C8NE+3:SI^V%0r^%+)FT4VE<ZZJ>2-vy^6ZLeo>]Ls7JNa@f6+k1KPrj2C]CKftIMY>aOmF;iZQhA?u,%-Z6L>6r%3>hG:[@F.tJ`+_Lh6pT9Q5y_0/QXtHjW,Es+tMT#MAxMW/Z:?f8KQ9l_]lkYh9=NU_%^7h3#g1@B;MOE=?8ZqX7#EcGV-,kKqT-B?yf&SBU4`W_5_8uAw@MgdORNXFLbZ,06AG`=QEE5Vq6jDoRt+jL`1UUtHwPO^M=AoS`quG);$92)?FqG`KY1(XKE:m.Ix]A9V1cd<ANHh[kkX$-kQoKRj@h/KNv3`4yS74]U6PdS;#]T2XA)d[WlJA:5o+GaF&dbDh(W6idvc>S&ydD58:;TU#,G+:hjXPF6o$e-4qggWnFEO?HZ`UKXB%HwfeFHIMT/3gkl.-St`;=3.B>N*M,r1WHe/i_%-YDyX+A1>%,Q5VUT6gOjWVb-u?#o>$p])_SGsR.1n-^SdFD(br$Xgm%ywMjr%y2O$1I[*TQe)NK2wKwxxalh;A`J3H[%hS/,K,SaCctMiHFJQ9ntEDdSrsu>rIK=0q:7Iq2w*aOk+,TeQrJAAmcoO3AV[oNYC.FpLI0yc)O(t:4T&QDnYWh&70_AOZ@DUT5fcaLe567WZqa=gNGJP`K[(2E/:3QP=>Qp-V+^Y]xrnx/ydkLiWSR&].SEog,[0eD1]=<N7b+]J=&lILSXt.QPRt2Q,ma_XB&ipWFbSx_lL35-4q(VTHsAdC_jaG&igK=XohD4AOj,c<Tn,PfOdv:XWD/dK<n*Q`[I^Oh1/CRKH.ZK>bk?7B>lw&p*xBBt99k=5Xvm<w,lreA3H`Hm5cUgb]Qvnp-M@xKT]ft5jBUg=dvmQ&gA=Bsg(Z>,(DK=p.]>Z:+gYKI?^qov&uG:>=WJL0(0_;V/#eW#2mSUF1at06]2tWwIf%J*sTa_NG3eDY;)w2vEPA^tdKuimnW-<lX3C^.6uNJkG$Uo%>_WxMN<jtYpjuE.PmausQ+#v0_";
+}
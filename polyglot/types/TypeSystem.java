@@ -0,0 +1,399 @@
+package polyglot.types;
+
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.Source;
+import polyglot.types.reflect.ClassFile;
+import polyglot.types.reflect.ClassFileLazyClassInitializer;
+import polyglot.util.Position;
+
+public interface TypeSystem {
+    boolean SERIALIZE_MEMBERS_WITH_CONTAINER = false;
+    
+    void initialize(TopLevelResolver resolver, ExtensionInfo extInfo) throws SemanticException;
+    
+    ExtensionInfo extensionInfo();
+    
+    SystemResolver systemResolver();
+    
+    @Deprecated
+    CachingResolver parsedResolver();
+    
+    SystemResolver saveSystemResolver();
+    
+    void restoreSystemResolver(SystemResolver r);
+    
+    TopLevelResolver loadedResolver();
+    
+    ClassFileLazyClassInitializer classFileLazyClassInitializer(ClassFile clazz);
+    
+    ImportTable importTable(String sourceName, Package pkg);
+    
+    ImportTable importTable(Package pkg);
+    
+    List<String> defaultPackageImports();
+    
+    boolean packageExists(String name);
+    
+    Named forName(String name) throws SemanticException;
+    
+    Type typeForName(String name) throws SemanticException;
+    
+    InitializerInstance initializerInstance(Position pos, ClassType container, Flags flags);
+    
+    ConstructorInstance constructorInstance(Position pos, ClassType container, Flags flags, List<? extends Type> argTypes, List<? extends Type> excTypes);
+    
+    MethodInstance methodInstance(Position pos, ReferenceType container, Flags flags, Type returnType, String name, List<? extends Type> argTypes, List<? extends Type> excTypes);
+    
+    FieldInstance fieldInstance(Position pos, ReferenceType container, Flags flags, Type type, String name);
+    
+    LocalInstance localInstance(Position pos, Flags flags, Type type, String name);
+    
+    ConstructorInstance defaultConstructor(Position pos, ClassType container);
+    
+    UnknownType unknownType(Position pos);
+    
+    UnknownPackage unknownPackage(Position pos);
+    
+    UnknownQualifier unknownQualifier(Position pos);
+    
+    boolean isSubtype(Type child, Type ancestor);
+    
+    boolean descendsFrom(Type child, Type ancestor);
+    
+    boolean isCastValid(Type fromType, Type toType);
+    
+    boolean isImplicitCastValid(Type fromType, Type toType);
+    
+    boolean equals(TypeObject type1, TypeObject type2);
+    
+    boolean typeEquals(Type type1, Type type2);
+    
+    boolean packageEquals(Package type1, Package type2);
+    
+    @Deprecated
+    boolean numericConversionValid(Type t, long value);
+    
+    boolean numericConversionValid(Type t, Object value);
+    
+    Type leastCommonAncestor(Type type1, Type type2) throws SemanticException;
+    
+    boolean isCanonical(Type type);
+    
+    boolean isAccessible(MemberInstance mi, Context context);
+    
+    boolean isAccessible(MemberInstance mi, ReferenceType contextType);
+    
+    boolean isAccessible(MemberInstance mi, ReferenceType contextType, boolean fromClient);
+    
+    boolean isAccessible(MemberInstance mi, ReferenceType container, ReferenceType contextType);
+    
+    boolean isAccessible(MemberInstance mi, ReferenceType container, ReferenceType contextType, boolean fromClient);
+    
+    boolean classAccessible(ClassType targetClass, Context context);
+    
+    boolean classAccessible(ClassType targetClass, ClassType contextClass);
+    
+    boolean classAccessibleFromPackage(ClassType ct, Package pkg);
+    
+    boolean isEnclosed(ClassType inner, ClassType outer);
+    
+    boolean hasEnclosingInstance(ClassType inner, ClassType encl);
+    
+    boolean isMember(MemberInstance mi, ReferenceType type);
+    
+    boolean isInherited(MemberInstance mi, ReferenceType type);
+    
+    boolean canCoerceToString(Type t, Context c);
+    
+    boolean isThrowable(Type type);
+    
+    boolean isUncheckedException(Type type);
+    
+    Collection<Type> uncheckedExceptions();
+    
+    PrimitiveType promote(Type t) throws SemanticException;
+    
+    PrimitiveType promote(Type t1, Type t2) throws SemanticException;
+    
+    @Deprecated
+    FieldInstance findField(ReferenceType container, String name, Context c)
+          throws SemanticException;
+    
+    @Deprecated
+    FieldInstance findField(ReferenceType container, String name, ClassType currClass)
+          throws SemanticException;
+    
+    FieldInstance findField(ReferenceType container, String name, ClassType currClass, boolean fromClient) throws SemanticException;
+    
+    @Deprecated
+    FieldInstance findField(ReferenceType container, String name)
+          throws SemanticException;
+    
+    @Deprecated
+    MethodInstance findMethod(ReferenceType container, String name, List<? extends Type> argTypes, Context c)
+          throws SemanticException;
+    
+    @Deprecated
+    MethodInstance findMethod(ReferenceType container, String name, List<? extends Type> argTypes, ClassType currClass)
+          throws SemanticException;
+    
+    MethodInstance findMethod(ReferenceType container, String name, List<? extends Type> argTypes, ClassType currClass, boolean fromClient) throws SemanticException;
+    
+    @Deprecated
+    ConstructorInstance findConstructor(ClassType container, List<? extends Type> argTypes, Context c)
+          throws SemanticException;
+    
+    @Deprecated
+    ConstructorInstance findConstructor(ClassType container, List<? extends Type> argTypes, ClassType currClass)
+          throws SemanticException;
+    
+    ConstructorInstance findConstructor(ClassType container, List<? extends Type> argTypes, ClassType currClass, boolean fromClient) throws SemanticException;
+    
+    void classMembersChanged(ClassType ct);
+    
+    ClassType findMemberClass(ClassType container, String name, ClassType currClass) throws SemanticException;
+    
+    @Deprecated
+    ClassType findMemberClass(ClassType container, String name, Context c)
+          throws SemanticException;
+    
+    ClassType findMemberClass(ClassType container, String name) throws SemanticException;
+    
+    Type superType(ReferenceType type);
+    
+    List<? extends Type> interfaces(ReferenceType type);
+    
+    boolean throwsSubset(ProcedureInstance p1, ProcedureInstance p2);
+    
+    boolean hasMethod(ReferenceType t, MethodInstance mi);
+    
+    boolean hasMethodNamed(ReferenceType container, String name);
+    
+    boolean hasAccessibleMethodNamed(ReferenceType t, String name, ClassType currClass);
+    
+    boolean isSameMethod(MethodInstance m1, MethodInstance m2);
+    
+    boolean isSameConstructor(ConstructorInstance c1, ConstructorInstance c2);
+    
+    boolean moreSpecific(ProcedureInstance m1, ProcedureInstance m2);
+    
+    boolean hasFormals(ProcedureInstance pi, List<? extends Type> formalTypes);
+    
+    NullType Null();
+    
+    PrimitiveType Void();
+    
+    PrimitiveType Boolean();
+    
+    PrimitiveType Char();
+    
+    PrimitiveType Byte();
+    
+    PrimitiveType Short();
+    
+    PrimitiveType Int();
+    
+    PrimitiveType Long();
+    
+    PrimitiveType Float();
+    
+    PrimitiveType Double();
+    
+    ClassType Object();
+    
+    ClassType String();
+    
+    ClassType Class();
+    
+    ClassType Throwable();
+    
+    ClassType Error();
+    
+    ClassType Exception();
+    
+    ClassType RuntimeException();
+    
+    ClassType AssertionError();
+    
+    ClassType Cloneable();
+    
+    ClassType Serializable();
+    
+    ClassType NullPointerException();
+    
+    ClassType ClassCastException();
+    
+    ClassType OutOfBoundsException();
+    
+    ClassType ArrayStoreException();
+    
+    ClassType ArithmeticException();
+    
+    ArrayType arrayOf(Type type);
+    
+    ArrayType arrayOf(Position pos, Type type);
+    
+    ArrayType arrayOf(Type type, int dims);
+    
+    ArrayType arrayOf(Position pos, Type type, int dims);
+    
+    Package packageForName(String name) throws SemanticException;
+    
+    Package packageForName(Package prefix, String name) throws SemanticException;
+    
+    Package createPackage(String name);
+    
+    Package createPackage(Package prefix, String name);
+    
+    Context createContext();
+    
+    Resolver packageContextResolver(Package pkg, ClassType accessor);
+    
+    Resolver packageContextResolver(Package pkg);
+    
+    AccessControlResolver createPackageContextResolver(Package pkg);
+    
+    @Deprecated
+    Resolver packageContextResolver(Resolver cr, Package pkg);
+    
+    Resolver classContextResolver(ClassType ct, ClassType accessor);
+    
+    Resolver classContextResolver(ClassType ct);
+    
+    AccessControlResolver createClassContextResolver(ClassType ct);
+    
+    LazyClassInitializer defaultClassInitializer();
+    
+    LazyClassInitializer deserializedClassInitializer();
+    
+    ParsedClassType createClassType(LazyClassInitializer init);
+    
+    ParsedClassType createClassType();
+    
+    ParsedClassType createClassType(LazyClassInitializer init, Source fromSource);
+    
+    ParsedClassType createClassType(Source fromSource);
+    
+    Set<? extends TypeObject> getTypeEncoderRootSet(TypeObject o);
+    
+    public String getTransformedClassName(ClassType ct);
+    
+    Object placeHolder(TypeObject o, Set<? extends TypeObject> roots);
+    
+    Object placeHolder(TypeObject o);
+    
+    String translatePackage(Resolver c, Package p);
+    
+    String translatePrimitive(Resolver c, PrimitiveType t);
+    
+    String translateArray(Resolver c, ArrayType t);
+    
+    String translateClass(Resolver c, ClassType t);
+    
+    String wrapperTypeString(PrimitiveType t);
+    
+    boolean methodCallValid(MethodInstance mi, String name, List<? extends Type> argTypes);
+    
+    boolean callValid(ProcedureInstance mi, List<? extends Type> argTypes);
+    
+    List<MethodInstance> overrides(MethodInstance mi);
+    
+    boolean canOverride(MethodInstance mi, MethodInstance mj);
+    
+    void checkOverride(MethodInstance mi, MethodInstance mj) throws SemanticException;
+    
+    List<MethodInstance> implemented(MethodInstance mi);
+    
+    <T extends ProcedureInstance> Comparator<T> mostSpecificComparator();
+    
+    PrimitiveType primitiveForName(String name) throws SemanticException;
+    
+    Flags legalAccessFlags();
+    
+    Flags legalLocalFlags();
+    
+    Flags legalFieldFlags();
+    
+    Flags legalConstructorFlags();
+    
+    Flags legalInitializerFlags();
+    
+    Flags legalMethodFlags();
+    
+    Flags legalAbstractMethodFlags();
+    
+    Flags legalTopLevelClassFlags();
+    
+    Flags legalMemberClassFlags();
+    
+    Flags legalLocalClassFlags();
+    
+    Flags legalInterfaceFieldFlags();
+    
+    void checkMethodFlags(Flags f) throws SemanticException;
+    
+    void checkLocalFlags(Flags f) throws SemanticException;
+    
+    void checkFieldFlags(Flags f) throws SemanticException;
+    
+    void checkConstructorFlags(Flags f) throws SemanticException;
+    
+    void checkInitializerFlags(Flags f) throws SemanticException;
+    
+    void checkTopLevelClassFlags(Flags f) throws SemanticException;
+    
+    void checkMemberClassFlags(Flags f) throws SemanticException;
+    
+    void checkLocalClassFlags(Flags f) throws SemanticException;
+    
+    void checkAccessFlags(Flags f) throws SemanticException;
+    
+    void checkCycles(ReferenceType t) throws SemanticException;
+    
+    void checkClassConformance(ClassType ct) throws SemanticException;
+    
+    void checkInterfaceFieldFlags(ClassType ct) throws SemanticException;
+    
+    public MethodInstance findImplementingMethod(ClassType ct, MethodInstance mi);
+    
+    public Type staticTarget(Type t);
+    
+    public Flags flagsForBits(int bits);
+    
+    public Flags createNewFlag(String name, Flags print_after);
+    
+    public Flags NoFlags();
+    
+    public Flags Public();
+    
+    public Flags Protected();
+    
+    public Flags Private();
+    
+    public Flags Static();
+    
+    public Flags Final();
+    
+    public Flags Synchronized();
+    
+    public Flags Transient();
+    
+    public Flags Native();
+    
+    public Flags Interface();
+    
+    public Flags Abstract();
+    
+    public Flags Volatile();
+    
+    public Flags StrictFP();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1792341125114L;
+    String jlc$ClassType$jl7 =
+      "!1au%M$*^Lg`LvnvvAk(R(e@[+Rmhqmb]u6Po`l%DGM3P<Z4YOFI4[iair&:KjuYnq9i<NsUaX7OQQ,xEA*0jZ#3plupcyoyvhGU#F4V6V-ug59Dt_p`^rAHr_s<sJ/B1L#m@)q&6?KY@:b).KU[lt5O0/0E5](VSnTZD-WKxrDG1RFyF=<X>G1)ksC@vmw[p$6*2)jO[Xu/gK^l>9psMa8y6;k]<LhXJk+7bXv:rS5,M)-=k]Ubio]F[EaqL)X)Hq-N86f8/7GUtKZa<vGc__Te<kT4xZPtb#2R)OwmB?0Y>=6VERrYGJ&GT?nW0c/Fou?1p>kN5N2u;S/uKm3V1k$I/Y6vL8xZ^*5i#+r$wiULfw78L/@LQG$XcnIh&E=dd:jhJq[e.^0nUCh)v<*BesGArvCDhGeK_1Hk-g@gK%FjS=0;PoS)Piw>T0(WXi+P(7b,D?p#$gw5Y>^,MdX<m;9D[]GkZg5@gK5+p<_pWk,)0dn3,%lXcd)%Th0)QRsmLwHUcicoH7,0RxeE7+h*573N8IwYMgLs@/ggv`T-`?Ok4Fwtk;^76$d166[O(AJ]610Zg@:C&VdHj40V[q&fw0uoCjPS-q,+kt+[]+[AEi?6M(v:W_Xn2Ry]6FxpQo/<;Yi.;CeXc2sYo3*q71RTLKLX`C3sj%GG_tM5%bv0@.P@mahAo&yp:ycfCa=V2l#fthN7+$$a2Zm/asq4O[sy(PpsJI<hS,dH(oH-(3lsN?,JJYS.(Hv1C.xJI5R6hnWk&D*k8S1=R6[D0?J[ll]>7m^0;E*Vs6e8D(Zlhfe6[HtQEMobRN0=2#.(wgTh?YnvEn(M@M$1Ph11&y7X2rs3ZC6USe0-Swo6rS4_EqZ_>B1<K.-_id??-m0N:@wK)9SbGoh5;02?HP#[7#K/Z4bJ^hX8`GZeNtC?Fj6=Y<iG%7;6+Jr[vh:@j^*T<Fn/O-kS<DeJ/cF57vec^KMblXDXH=+jGN*sQTnhcplhiGSeES*x%&b-%fUr*=_<4vRk?Fuc7+32/hHEdWo9Kt,gA9CZ>NT<@>-h@ip?@U,1`-PcGb*[jtI?U>HtOgw-2AA3bM_K4/W>[))STVNF@EWOoQ#@RWdD[(%myYH23h,h8;ba%ZWmtwP8fr?@dCPoSBMV*^niaO0V$hAZ7.Y,-<3g$t1)[tQLyujK2t4d3lT3(7_;EF&DOTbS2jw2.??J>om`ambbiZ=1Ti#Kr4/Q#;ZjAm(mTvGIC*qtaJTOOlft>W5?yP<Di>tLNJcPqr063vj.JSafHOCrHRv:W(dCslQlXHd>;w7f(fZ@A.r1hst[+[DFo,=$A[e?qH47.2=,@[$vv2qp-.4JT%;NoKMHN1H6+8mH0Jj]s:0/NMvl[q75Okn:SNCr:LWP=Z,r0Ct+s3c-BDOZU=7ZCV)%R+ZrsKr@Nv;w2&r)PCSdhL)g?8CY$(YXt.3eFsZr4@)mY=`AHlWg1rbHs=)s#iP]^iZOlckA^NES4OIG+,uD&pov^K2[Oxi.,t?2KqpsSTA,Wb8^&f8^W/wvCF7o0j)?7iL&hCixQ@h^V7[qAvcS`A#`hOWttA%w.v>JIj]4N>JGq#9I9-N:aT_`bQdG+=@0x$ygfRfoV<J&)xFc<wBL&*d<iP&=[`W(VZ=`0)bGB94YY3),5*W@E.8ys6i:rX:%a)RmP@RN>4tmml>J-eH-MyCi5Ec;pYPDsAw+7Ai60R9:>V1H<Bgr5Foh<>Fb$yT?c7-ll7EM9xuYo..^ls^N:atZWtdfg`*0Z$g[BOq@.XJQ9MfNtI2FP@C-uC[74hX[,G;>:tvT#*I1K0+j%h?Y7DYF`GV=Y_BT;rvERq^gf2<8YZy<i*NLnxdnT]_kR=s$ma;>ujT0I^1UcX*#iv5QqQut&mR&7N(o;V-2]BD.sa@_<mB9q<9-rSbFnQA`lrfT0qBA5M9pu&G_7;[=k]noTGkyVP[9yhb)Sc^#TtlQEOTX`DdT8GgS>B*Z5q`v6O=1ggVpBOvJF_AgSZx4o?uM2la3?>;*X]21Amg+exgr^[2CX:Q$XW/HDp.EqsB$D6y0qA(B#h`7o36t^=Iul[a)sb(L9ye#:#k66,WVQ;q<>cUe%Jw%%F9d]3PYj>P`@4AUvWE6cyA?Pdbj--nCI8T*^DY>*EC9UR<)A=l]JdmM`glyU$jh=gT]sm./g=Wmm[FN;OO=L^nO`os6q,@%V-CWpwY>S5+M$pubd%G0@%k@<p$*D4@H.yQ[?6FS[k/$nAR[0$Zj0EA]OKQ$y*[ZdSa5@SjA4%8lsP4SttmsHHC88UKPt5<3&0,H:;7?2m/#8cK;ijMn*enmaAW+Q*HN$+ti[YyETf`Hy/E/h+S5FVLPc/<yw&1-QJTm46cAXfM8:31bXb#f.[_BdVN9%IfBdXs;%WrmYlRVL0(o_,-i;2Os>ZBB+D$q`xu1J#@dpJ>eg?+mBwq#1]Fms766s^2O.AQxy*Lg>r@Y<3GCPPg6?.Qv1pv9?=^t%nglN,W[#d;-lx5?eV/Y.w(_S]jUE9XWM^0r@WD*d>F1-mpljH#YbM;.wJGc+Sv+JAdFp$t?8]8tvT4rt+K4:Q<GQolq?XCC.Lh%YOM<ROx8tm^@r*4]-(Yp`wRd:m-)4t[q<ZuCEOdqp`Sg$1/OLg1TUQVku6Ln2q^h_Iifr+R;yTR,8VL94]v;V8P%EBK+6rf>SPhn,MA*u`>;bZY)51iE6ttO>.TnK#&HKvtAiQ2]8XUcq)FFHkcd:JtDfsZ2],+Ye2JR>[jrWl1,>.X5(w9R+JM1-Lo/v/_q2@S:wEd=mnw(u.*XEg%2n-54^^SYv9^D5=2)_(IC9v8n;R9rbmAmkum+i2j<yP$HAP_r5BdeZ;)oId)4nlsQ].NuhZACjNY6SbNuj7`<qG-nYU8Jr+cqg5Ba^EDP#%[^K(2cJD^aq@Bo-J<P1,qOWs_$YQfeTPC`qYF_+jcqd,45*KV$UWGV)PMj3`PZ_l%YKb[goKAlsRV5%j<1YR_k0#KfJa[(QainY(YQ5=(M@yAnI&f:;rD&k9(g<&j8;rw6utY?*N:x(YJ-yhs,sk.[0VN6por=Nl6$nfBw1H?3NC2dTuM+84Em6r1+LjL==JSH>5AxI;K;yhn.@u,w@ar;(KBy1[y5(1eL(ZI-$Fg$=.AF%v;fs]1*JYxnrq.T<*enPsC_lw-vY9(wD6k-Cw,t_`fJJM1#@E8y^-0.ALPh@iegw:G0tuRSHd=p(U3WCpY/B%QT[32[CF51KKa?V8HCIf=iZkZQ>[J%#=VAZ9:4$T]7,=J_n]4x4i[<MKX(4F_?(P&>wKB@UaH[F&`k3Nv]>hV8jK5=Ce(MxSQ:;^fuDhc9p55kfeGBL<gH2W)xPX2k4gr6ffPF4EP/sEFr8Um@LPY?X$6VU*2_)x-Xsb.isFlVBl)G%wW(%e6+`X?9g(;;@OMNpW`PmE9?j)kcCB`0jjO+cP^=ag#BH&]Ig:X=:`k&dI.Sm4$`=`5<*V5]fboi]8q<W/2At@f)aqNAkP6kJ>/=p#)d>A,V;o2y9Xekv^jUF`K(9Ma._M-Tg8l[0H<fB4g$KK*]8]g$)1X0JD_8?M3iafUL:PhjF0-ZEEpGG&kgX[fPJicTNf%MwxJ,qrZQo0#g+=VN3EGeppaKCpU9#@`@xf8nlt?F7S]jneL;@BU)?):k8J$kwdrYY,*M4>FFo>Sueq=+7LJ$vTx@T_<euv%iZLD@<)8,baqVgR*t.25O3xW;&:m*1E0Rh>siGOScRCw*h6uI:Z?f?D)<%AatOdjA&D=BF3vAD8R+B9>#qr,QR>?e5]eDv#*g;]45V_Ch;i6Wu>>(W)Y+NOKG=T8A4.eZpP00_3$XVXO7kR0Haf7JXbrio<[W.@d,enS@G/M+n9ke+#_=Y+bBBbBTqi=?A>RhZ.ZrpUnTpZ3eiKVfIEG;jVTlYH0_,vVvUJ(D(J:LKRF%2Wt-vjAf7ru0L*jLIZf:K/qhPj$x2h.GW,U7fS3hmch-@&=pIiT$$ft)$#>)(DnL9sYhhkGO%+0a,TVB*C2-)CF]cr1c^IHLO7W^:XZ;[ADh?ZkEN@XS30Y5K<%l]=W`_@+F%t-(;[h1Rl3L3x@rgPYv1C9f4v2>0;iY^b<gcG74S2>obPV0weY>LBQ;M[QP9#c0)_<bTZf:+o7igw[.x*2PA%i0vH0O&W-MG4R#Fk.26TA+V?wB.>>@Jf@XVf,k4wL>+:7op$juoRfLq:/N+/$s]Y3xn#<-ZxUTlo+U`nV$lPs>y6i;R&=0JVc=Xn`?L`+p;G3YqsF@2/M_C@NY%eaE5Fhmah=8W@>XifUo%+*dhiK_wObI;=acK40LKWR-v[7),Ap?,[+vKR#(.7Bi<P397Y^HHOoeL99KX.f9G*Fy4l#eNAQK5i;;#4mh(]K3hXx86oSx+:`A>@0CH^I3Lr:iDu+ShtTUl/<e.+2KDO>OekILt$iE>oV.4aL)6F8%_+KpM)cJJfAk2t$C&Fk.RM=Z&K@*iBK4`AiMw@^j]#<_TKS4o_2i:7+y$X*=L0<f#KDy2M&oJ41-6x+hhc8%D0::>$6rMo$PfYLHE5TtTZF$M<t$3i1CDFftr[+6C9dA.e$raVldSE_r0OcY`F<&nR97j[-g*,PC2bya[W>rUZ%&nw7tD=Bs;EKJjZ?tKM%0y3i2Wlq5(e98DU)U$J`yvuDdK2iEs,l913][M`:_kTA:#$UFfIq671=-J^6S%Lq2pJD1AZiMXM?P;#)6[`3+6lFUKOr*C1*kX)PtAWC,h;NUe8TLn8]MyDk@]9&/D6jC%^&&#o_EJ.dN&Nn=j(rm0eo4-gvJn)i-^FF)%ygBD#=pb=]peDSQjk/R(0pLg+bC8(-Xm(/gGI#:0#x;dF5)P;tlm+C9tb`X?6UChcl,16Nw<mv-h,O3EFLQ1U/6@p@ix8U8WC%f],Z^MI*xLVb(H)0alF,AHEeD3i@UD^Q$`]BjiF%bM)?SX`=8a-iJ)#4,fIK9=S0M(Q[8D*,3?YhqUE[b4>qOd9CV`kQlX[y_pd$o]qgJ^*2n2BP#[+@]T3mNG7qrPPuoHy$BR#X?>p7Q(-j`r#qJd6h5Mv5e5[mFPZ1H<sY?*qNO`aTMR#8]Lo^lV6hR0U*o>*n9R>g).`/j%(BU*36a3m)LAaR;_i:=@ly>Aem+_LC$Pc4J2ZmrwgNPV4qx_/Qsquqv2_/FE?]1*U]te1_IG)Q6tgnnd65m=w,0)O%%jy*Fd<[$)0FmfRc<wR9gEImZ>Pj8cIP.K,XVSf,a1mGE,lrIb6h1jGbMmm9d6_+[MCWe4rrW)?ya.Iy.U>Cw4k%Gv./IFRNW:MgK:QB6xUy:iXy+3d0Wm+e2F2WR?mgc(`u4PK7kg8kMD&9SJ-Fh,=+-M[?psdq.&2lo[3;WLap],@#qtQ`obukYt%Zd+%:n_Z2nwrcXV1BiksdYkTRRC`wJIb;#Ro`*kIbUP(yVh4%>Pkd(jm1gm=8EjF)04Gg@Q72<RW>J),sm)eE%S^-):Y-%&)hV,;lIIIbb;Od@L%(+nlg0[;$qkRf^pFIo#Qvm$,PWe)4_kAvXh^i^D1=@)WsLX_XWE3EYoe4kWvv@f8:S=ph^UI?ET9WI)4Zu8*CQXnpXMHiG<@/Y>RehPepma?G6`H+3A>f5fIL%j9&Zd*cXa+S#Jrs;H/Llm4)y*-%YK%O1+)?rkuUPmE_6JTVD<]4$M`P[n_@l6<;,w=&(<);b@[maT12<fJnf0saf.`=@kee@KiX1ZYI#9qYAyY<=3x6HJfwm([2B/,0LN`5N(8C-I2u>yu:91AGQV1T28S0,77(rnRSPQ,1SH?dg=k><0Jn$vQKDX;yob/N_c4W.CMCaLom,qV(AxYTmcec]cKMfsF#>JN0hPmF[L6S%Dks4ast_e8AUMiE:R:FKIrPDB.7[Y09AIj3Ew6,D$DUB;/`Z/EPPRlA2bBq9$JLY;o^GxexF%-6)t5N:^P#jy5A$X>(Inauq;^j[<J921ym;3WSub1[c7+(wAE[+AiI7#N9+RbZjhp-d/SB##Unwtv%a7pQ4$1aB+2q%^@1CB.]ukwHMUXtlI=YIXB]pl53at2V4fmZvZ7-.FoTM/H#Bo.qVLly4EWF5$D:]>ey+JYD0V[0`@HH4s-(e9h+-j&gMcvZaEIA%i^&uZ0oh;3BOvEZ#wq;B$5$1QHo_ga4Rd?VI4Wd5H-lZ)6Ok.VlgoW?Gc8:PtP@oVF<&^OX0bkps9rG+UlmJxb^CrK_,#fyfLv1j)D+sdN5j^#]Y6d7hP#B/N&g^YOmAH0Nc:@`1A@W+eu%u;VAA0QDvnlQE5qlp/wf)pA.O(Gib@lt/5%aQV8lynPgoh`28`w_m7*6[.Kfe^/Wjp=ZaM^THXgRlo_,EI>fDsZHJbLpY4@GNKwc7Ea*SUN8@>aBQsk%vtNbDBI?2DV-Im4JiO502nF_i&A/Qo,tS%)L,O2YOV=m96BO(ZPH?W6rl?j]?DwI%?DIIQ#70dhQuo0RA_VJr)mGauFdM6MxLbHV<__JA`yEJRmi<KcM@@NX^?Htw73E-ODbA=u+OoN-y]#$d^Efj)-2iH.[;hC8G;k*=J4W]4O5@mv`.j&N?`8m-wtFpB8f/bk8u)AW1%OC<e=c#Xe/Zkai.k:+D]g[NQpL@7v<KN_;A-=iV?*n<$..92<h;`97KmYNSG]2<MDUY*DP49GY5`<2p1p7fA^L*yC[Y$+/Bbf**-fdX[[Sk>H$_3#S=G)JNE<L^>@SB@E(hfa$+T>+X?&4c)HpNem)%Mig+P@sr#LPW,o^]$:0IkOgi7v6r5?F*k7:B+co7u@Z7M5B.0u#ni.&LD6%IGp>G:dZ%]1j0)Zo3,w^37PcuF8:QoTBXU$hB,WMDo*xM^aJlIMCoT]_#GfF.o/;.StHHti8.voc2`B<.r7CR(EY-E1*Jt9D9[oQ3c$qc8iOQAdp5WEk-Ax3;/OsW$AmSqYC#s%95UQ+-XL#Qt=#yd4[Y=Pg59Y<DT_e(L]gR?=Qbl19exZn4?,rH/DbK`JVE2Kp#%B$,^E%E;#wQ_w1KpH_E=ie30OAQ:H#2Do$(aodf>O1E:kr@v>G>C1l[dkp@xFk8$#+ihI>U78c_0%kT_dvW^tJ?sO<8<h%21(fEn%%ANi%y20WS(8Lk?7LH(YF/M<h>%QnedrUy2Q%6n*emL%FtKaQqo+Pue@ink-GBcKN:`-$)a)odSl^AwC@Fa<)j[K+UO:TeuOp$n&Oo6%Z>YV%`m,,OK3xjccFS?R<OsptyQpq2Z*DHE5o^jYR53s0gVjb,WU-#/]o=(#Djku::OZw.iidA[4J^)7bQffCMmNJsfYR?nou=`is:eB#,Htw%i,$l2t6oBV<0>&NA3p9D*eUI%^rhef70,Z]>L<@nNa^`c(,=<-E9#X%;;Z,XqFU^PEGA+@sq=@c[Gh51]ObnZgF_0:KMy#19[0T]U1w1#.U^+AH)^neJJ?HV70]=v&Fj^QoU,e;-53hkUld0L>l0GFmHLgm[4BA+gJs0Y6/`cFQ12sOLYjdiT/X$5(l?Lmin2210q,*F_+jsc5XAp5;3OEtj/OD[eUg/9K^[>@LF^l%GQYlAR8RPj:fNbNjM;aEqZSI0$M;X3rv>3J:W7g4j=o[42Yww,V;=BQE:BnGt;U,fWDHgao3&dQn)=<5]1yBpOah(rTUr3,,pCg&tFonlIedRt7)sZ_uomEq(,usnrD,L<uIP<@XPWF*PI*m0l8O_rB2+q3(A@6Ey]K]:$.KoFS^NRFaPK1McR_Fey>Mu5-tRiqnhRB0:8[`QLn(Al-NDSW>3x,of)Vt.A^kXyw-4_[T>:=y=BmT:sf8LKT;]]U&fJ2#pVdBdGd[,4iC`Ih/j<1aQy<snwQrC5qH[p2>-TP[F)KKf$RK2dr5[o22Y5]MLK8PL#%%Q7)P^FodaR?kCs<Z?dsRX2bek@B?$vHN;];MEu*C)K[keXkZm5+9+*=<wwH57,:&(q^ufSHnP8VRWb_[oc;dU&ZOVfVB7neFOvF^may1N#-[gaAp,SOJB1pP$?9M/E^(NysUiE_CIqqiOVZTQ_dqb<cFa98gBE?g?f/VvG+GHoPIJ(4,v/Q&g;P>KaKdR7R*OT,aK_xL<.[Xk..]fWu+iJu+`t_wt(1_mQxP]gqDecLZZU.xK,JbhmL]9=$dbsa>eD7A.xEPhm6@<3roxs)%7w_cBf-$)Bmr7HS37>tj:FbP:a0X:eX)D&EMYE?(_f#=3L%x/QY%^tkkn,#;OQ$E,-j.XD`e#W.S;Y.8p<_Lj)XXy([2la+KE9Y(1]bWFmU5YBaq]<TPmI`SOB0sjaS0tMs42b4p?,RBZ(m36PGIKZ1f@]qZ^D[AjlP9)a#9qc@a-cGq3;g80a5`9L%[k_Z.@fu/ZUGKpdmKtdcwIb*QPjc47IK/NT?e:%E+RKtyJRDI4Q9sEEr+Y4X2ZG?33tj^<xL[oR3>oN$/w:>iXM`kPKlK3^P3Eo4R1%@DB$4[kbvTV`4vHuRbcg&jd2]ZOd[/5W_0W[G9ancvttK9-p88M=D9v%V#&f*qAcYK[gqc+ExI?/:k&vNr)[q[3M[GauF%6(jxLr*^``(wifauq4lQ3/0RQ95.AdPWEo*Je/Z%-ox$Tl&Pha;JS#/GrE%itE[%oY>VRGgop)%-is4[8bS,Oe4O)[vM/tw-@F^PW[UFi6P)?kE1G%Dk0q*FZ6+qS.L@)*95&=N@Vm<FscpVCOGsiERAIOl@iM#f&Yco7f8p)mk$h`7^A4B4tE%(,=nOy.,]G3@^W#_Xm62_R=-MlL2q%Ug[E[wxZ)Vf%,_2GaH=y^@%)uu0+UX^3(NydafH#Z(@eJs:t+wwaFsFeS%+<RS>Pu_P5]S9OmY(J).+wLOMIk9nK/)xA(X7uNH%CD&#Yk@;(U`mKw/bdy*W[+--+@l9$,IKXTQ2VRT06x#AZdjf;nK*yuuv),NKmsj0iNJ9+peNC$5sa5n[rf=cMLf?H40gnWgDy[;yMfn^,I3YnNKDe5c?wV%-6l8oB0YD#2_FVTIn`-6(1py,SkvBc1r*w/%ZJ)@1B(-fh.nafqbH*M?]Gol#BP0I/A.e9#HnpV7CP_ES4@&_*Bv6]kLBM+pSY%s<:hIu7GTW%j5`S.A%%RVnVxO0Z7uH.[gvUW:`t1=gpmnYtLcP:vOs8L<ePTv%ipo2v9;RB/;H1$x%VDT?@N#[[&j01Y[gh1+iVTg8%j9Ur9*F=KT?uGYhdoa(o.]p^.t*B4/u8EpAwtP6PVnht5&c/*]`v$8$T3V6R6kE(GV35+h*g5uJAi[L?Nx5:+$GdXsV2NF>*/>,BnU3Oe%4]MH+$aELehuyW/hbl)NyI$m67TVMx.e[Bmwq.1wj]1^UZd6d5kJgB^ShyC26rVOYEYqxRD9F%,j)<jB)@#PEdGQn,YUsj>hK2qE?(1oLPWaIid(BPOODbFY06w<T?Xy71Tsfa.V]a=s7kU_=%+(Qw?Hl6^2tEjl%Wa%8K0ik%Y)Hh^>V>2BKvT.bHTeeWEu,bqxqnZNdN,tu__-P8gk.B+Kv]j38=O3n6J+NB<92<t*7M)9+afZ.hul/YSp#bDrd;xiREY/wYvNYx#E;m$jDSIAtl3,,dc3K1ew0Os8Apem;.UW_Jt4T0b`(b(m&ul5:6=MJDMVG=,XE%(,B-?xI$pW.]HBD-M).lkyH6oc0TWR=k,h.Z1ufMX,q;m=UdsXJDJi[w5hIwZ@vc4#cq5)p`t2DW4/HYM<XxmmN-U?/k7J%R5LkOUfb<T,-+8>c*P:ZU38p/ISB%Y5]MraZYpGWM,UF^XljjKBAPa6%[q8p#QIt/O@f:?bLR]_n0R=tGmOlBF;uS2LQl?(wdDe5=5%4yBoI3yx#9j]^f`Y62N*c5lPQ55jmNXl*hU]eQt95Zn1lWx=CGCqwvP]O<`Qpltv*SjPtDCsgP.U1)O-V$GWIJsuW>W/M53Ie$#/>1rSUbp7<N,:Ihl;D@m`(+dvHP%S8[=3=UoO1U_D#d`Dcw_gq<TVrI+DHG]ktJ@+Z$JU7de0u23tD9s:%s&:1Gm_cL,hk^ZA(D_(Q)E7eqjIPP7.9JaD5J2tKuYs70we?mcJdxYJJWrk4gnmiux<cQaJNrr)PtHAax2vKZ>P5>NxeX_.GnC7G-[eaB)MwLxcr5Huu-JRoIt*WlD&(]J]fNb#*pqKvYIHAD8f#<:(CQvZ*3NOf>fZpL+Zggs(]8Ex`s[PMXMWYg,$#X?Mvg=%)l+njY%<9kjJHu8CQT`#T-R<w&dCWf%IT]#S@b,B$3^4^x]]4E0LUV(;J0Tb44KtJrupN*mopOHbm?$t;TeuU[q7VTQ5$gv[L@J#;IGV*S()(kK1nby`:Y+=W)(W>,`AP]f`S,]BU<Ruvw7<88H;li=d/8(Ql?*UjeH/?tCLj:+Qwpa14sPnh$2%];^ASO-j4k1M6R?d-PO4m(oi[*MZ#s=w=@EIF2Q7589GThMIq+B#Zxr$N1(*t<&w;yjTBlDtgf^2%6*%M7]9TkcRBChs9xqYdjSWO%iM18[?^X3]N#eJ)OG`jS.j3Vcqf=L6hM*]OG5WZv#3VI)U]drS;I(l8gF;DqTSfO(w%L7F)MP9?S84bK(BPF+ngt^K2-L;4O*e_i@If=7>9Ll<TJ-5=k6@BqlX@Mw.5`Pdy/n&Zs=oC(]`fJHPXNy;O(UTcYc^Y>F?vT,ugTiE@wOjh1pinZmKIsgQ6.KK1d(ipo#>Ld<LGSBFY:+__t>Yj4Qsi.XQ*%ah*Bp6d:_RQ22@0])8*#nl8JMcBr:FbFNL,K63ef(%t&:@0ISYl`c0I7cQg(Kf&Z1TKBjo[n/n<$=wMmQYx=)&aON.2Kg3p@u$p<omMOjmSVu6cY;54hj9?Ar(44JLT&]r3wl0/i^>LpfEe,?s&%V,K1/HG:1wFFr]&]0`5VIWY)F$BY4[;j(NU*y`Occ#oM7`8;%p,6(nDr;*KS=LYMoAi<H)4,txJhM(.j>&?_WlC^pyh2ob?1`O38kK_^l2P;C+1iR:Hg%cTu#Z-=84d2iv3P:P6*^DFAMsG+@^2?Yp;Ljg8lyPk(joJd?#U*278]@o;@[I`hpg>N3X=;Ip#@^3Ag5p0Ba2ylW;HrcW4@:fjX2ais[Ha2:PH=`F%IIM;_`LDQ&fo=-YEx*Z[$c&>Y3(*pcF$yEG::a3s3N`_Lkkg%jrEX(EI-*:,W)wo2Ze(XnI0R_=i?T-9x6q0m+IMiU[B&j&Vx4O&;#ro?2f4v?Rd3@B6s%K+Z&aI@a5Y2pd2dodb>*-p8%9:4FL[jf[0Rr`l%q9?EW_[fUT$2Q9=0%cTQq,cBqP30T#)XK$+P]&<UY0ak+3voU1k[VMu<,;lrU1o-L-k>;w3<J@^ru3d8-RY4fLQ&%&Fu<NXn_w9=&@A=w&9J@xj_`9VjJ%=aClF#cloF3TxVnBxN$o6_vK@3;s#qfc.j,URP%fBn`mN3OlX@G`Au9dCF>-d,Aek0O^UvAiJ1HfkYvONZ;j_Hql4^y*9wQQhZS/oGU5h;SLU+/>%4vv60_co.e73<o;I8*v3(k1$U$hRMsA9(_V5q=b(X9ugWpQPic=u@RJYBO^Q8,-1j#jv1B?-iOQ9`+-WK1^An*_HT%_I#gCjpfZ*P]KH*7Y-G4aFiZ2y`<_q?7K=Kkj%q[>UUEfS?BIoO[.-7tmAP_(rWGHGpPko";
+}
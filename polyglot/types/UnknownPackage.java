@@ -0,0 +1,8 @@
+package polyglot.types;
+
+public interface UnknownPackage extends Package {
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1QH*4v--#nWJH]eHD$,7DI1v>r4bbP#FJBGK*nL&F/a;k0G(#P8qH-W-l.As><_E8*5T>N?C`<K+[-raU>B]EQ:-pcv/$S0:&K6vhL5-)I3A:TEw%LGLa2uCxbw$j_gCA^luxpmsHaA)G2_kkWTDI$uOfJyt`90%;*>(qYfV*AB7mvQBVDPY95N3s>oRyoa20qkI`?mV_0)@9.i#^xodNqKsMr[RrQ:$CH.L94U<0hCL%$xe%:y[A*VmWqTN>kAU$CA[(NV7v@6,TJ>YHQH_*tIj8U,4mk]?[692_h$f&3^=DCP>Os*j#)>#kI:bw+E`/dHcSHeNwb4u-/*n8-HJMg=fI*UQV)PZ-ySO-$A4A?3Gl..xc,@q_Y[KZf;#UXj=/kGCkHa1fot-HjC]):%@nk;f3,v>q+8r7S0d0kQ^=*+DK(v,6nF<bMNvT7SMOj^hpL)Af:bDG&F+(6PRrQ<Frphp5lLp6EV8gW4)jpG+V[c]ZSu40JajMHf#1JU;<Xb5t@FLO<,%))_9L`X#lRQh5%?IDh1m)p$;e(Xp&Tn;2>9bLSQ5XXX;YlY:TJ?=-7mVaN*F,*o[$R<aBU0hjFTA-9lAX<s^dFq49)P0<_y/%Tg/k_ya4?u>k]Amx#9e`HYJwbE>e,uy]G=?e56f`C#xPsO.qv)_n=6RPSoAAg(L=nbxp<D--E1**6a>KI]h,iW:u1;/mmakHe1A+.X.VR%j2#EK,t&E>iEb)TJEX%Z>=Q`x@[YkrxUH`y1BtV6x:C4g*=+Ca@n#>(B%g+Xd;^3TX<>G`JyHuq&]5[r]6cl^;9@e3h%CH?0V5A]InhIS<xY[c$kRi(#X?AMS63A@d7H<9v%Yw:ncO9%;Rq8n1P-TU<YRW#7VZJylRYKBwGrKP6m&Td=ii#uyQh,Y(+uWYXKqi_aTjYc,EUC=R&s<%#B1t>3*1drRk>T<KbxKNcI2.MYdIZo<c1t@4;$uy-gE$GbIH[cZ;x1Uvc=9gxCj*b5[Z68q@;`qPYeb6.cqQWY%bXgB%QcHqypCU@Llcj%%Cg%^/MKA#5$gmd/P]YYX0UCwsqSEkwt9oaYJBCTs*pll#_#8?w.@8%)8nJNi.[?gUH3E9p`g8gurqlX(_Aa&7[ibC`#JK8##Io3t6_)52V79oEy@+@.KCF0#purNo,Blw-W-Svh1TPl,e<<c>(;6j_WbrlJ<It@Ae]04=6aoeQu%[ZW?tS?7TH_DbjLM+58d;QRgZ,VfWGloK`XVxi(RevQw*yHLKZeU+$brq7s/LXojtpjQ8Ta]Q6)&x#2kQZFb`fp5kHcf[_[`^Zsd%e)3f$rB?lw7,>&2y]`GNs_jNg)Uw:]v$LZ;VJ4DmOT5`NRk%i@oKgb`J.xq)cWBQbIfpOh$Vtoi_QO&<:G_@NB&4ZW3]Fn]50qf#AKgKetqw5:]7DW1LR^73-iA5Gss6pk`f1P>g^gAyhI=%BW74:Ggb-lV9.yZmYPFX&_n^RX%IUiWnYD.&_5h5:t0E4C2W%dLl]lAKJs>^525*e5h(Ea>)#iBQ";
+}
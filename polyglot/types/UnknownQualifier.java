@@ -0,0 +1,8 @@
+package polyglot.types;
+
+public interface UnknownQualifier extends Qualifier {
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1QH*4v--#nWJH]eHD$,7DI1u3r;O%+Ta/&pjXkm]TU,L:kFk4opFir^kGF1D-I%rD%jub,DOnfJ?ZY7=rY&Qk*OrKFr:&-<P*W.mUuF6.oBC6)gvg>_uJ*EF-$%N/e6ZM7?qmTC7eNe`[`+Jcq@[&X9/#R?Zn*rHW0X..BV3o_6sgxgEHwk:#A5TeRBi^F_CU7`Pbxptg2RA(yUHg7d2CM.E*Oa$$cm/BQ#R=0=@[;my3QaQ46.@<AJOds,o]J5&/V6<G.[CfWd8wMG4C=gL^)o4md$bNZJTi0xEaAM90cUuW%XcP^Sj9?K&Z*2pvkyNR*TcEQN=cM8g&+$Sp%=/,VMSg[5eE5(>;^+%6%_D_Z&GML$b:=m_ZAByZOi^eSA[S?G4eQS:K,QZOOaFA/,V>RV3VZ*VG&VMiW:na_-=7?cTpAvH[&-&n],n1/djEZ?Jgo4-3NGxC%NWRpp@GhNv)i-3ThF&v%G>jvG.[@^;QPxU*VrWQC,LGo`x(SOqc):Np-6)/UqqIi3;>l]#Vxk6UMX8Vr;2yu#$_62%;(Q:r@EvVXQ@B&,@p^+W#VuFig(&s@U+y$v4eCF2#Xx/Oc,dhk[MyV#o:?,0`4YalT+(bFXQ8mcFW%<FuFCA=4NJbQ),.`W`=LZV,TwP9.0OkQL+9Hs@5/%t_]Je/r0C^ZwC/IVWRLd6MqH7JmYeBIin]uA2gJloxv1Wo.]&4pH+YTu0S7?W$+Yt2EM=5D)r4N-[C0Xu1]%E)*<qSLh]n`[^(.+g7#ni:AS1IDZQ=;2I2GlFw$RDbB7%>y:47M:e3SM;^Pto_i$JHOh_4M:HC&Bb.?W&d=@E8%aFue,)3G44UlHCkXqY/)XZ8:yC;l@gx4E<:_++EY6((,1vWCdK8n0_IR<%cgt6Nl^kg<2d[pjt_V(s8t5malampLg=BM?BoKntF,sn_3UmbbBQZgk32^BxS^4^W?1<uYYe2imn+`P`=^,6EEIshJ>Q<9ebJK^q5?g;u:WF]A@,nf<1:OkW35NB-F(LAL*I=Ns_&2CXu.]@(C*CMArfYt$8TArEvI[F]lE<&i+5*)2%qgcxFfD-l#_=w>H$0Xc+V=aDw5`<u0oJEv(6ViNa:[JKHI1_gMG/6YZv#BUgEiLCGqt*Vl1T`siPYhBeu>/16tQfW+r=P_8T+Lgv=<@9po)K?]o^.t2pJbh/IkksWP(9>kwSWK-m61MPl`nu=E,2edkW++c1cujQ0T@Z_HL98i$#-H5SUt)AY2JNqgoMq%gXk7L,PnE1Y+&@?=]R%s5?DvEd8RRoI3P_iOsbob&#Z/3@L-pp=8Z/uIuPfnPL1U(Rs0KBQBoAU:$T`,nDXkj^%kDff1B8oG>#.D+h17S0qx+FE#A?]Ld&<EUs$K^rUI(/@H$vFhliFoPC4^Fp+Dv#r@RndcW;J%c&l-i[?LPJlP%6X0&B%k1/v@SQWH;B%i&vYyRrwpP6HYHkEyUfe`(9a4W0IF,V/IGV&_tB]6Z+E5j<3CpqPt,ke6WVkLey8C#/X@r_mBgepA&vrgB`?L[vN";
+}
@@ -0,0 +1,8 @@
+package polyglot.types;
+
+public interface UnknownType extends Type {
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1QH*4v--#nWJH]f/F$lF@o#K4iI:FGVJ:BKbXkm]TU,HlV^ALJQ^<@X<a3$0jUICV4e[1d:93whO<[TS<1:IjP:3M&</+dg1WlvFTiT:oysDZI7rx1cP^f,G+-42e#gP>G<M/Qek9E5Pu`a*oXfUy[9*#^bB-%&Pg6nKjjr0pTEZ_D[*VBqL.hMCdPvrA,OQw>=/(3ud+A+U&x4:cV8@G[/f;YkAD:m?q?#m#ib^=QxGCEf$,H8]<_t@9DV+iC`&Orf;v4e3$uOrFlM.o+qW++4Jn8xt9ENQE=[NL6mrs-$b=&jW%QNwL*dNdHI.eW+m>;lp^N6<I[r4(/-mspxpZV[9)q5eDYx)a:=9I%8bBWWY1@*ol&<k?RG?Yk<<;<lS*q_44#6*oPV06^NDZ)pK&;o<S@WnRC6o[1I.X/Z?<8&0Z)%DL^jVf&TUB;1PrM?R*.Ce8j8bFg3Tr7(lG9C>2x%<R8J58GS%9m,u?nj)h%NK0<1=EJ-I[(TDTmU+:K9jV8iah^CKw2KTIO1<027*8d?aEO]:MW8P^b9H:;4NRf`DotNGq3P:.M>9%N#o4(O63=Fn7=xctNQFn$RRTlUbEtQD4<lkY]Q/<+Rlb5[&BRh/_HPrpPYA<gI[a%dSjwt1pkuR9Ds`>U^9u4FT7,o+<Chs6]EkvNA-+*uI(c876UL`WrP1A[mJrW7P[H+n.ux8&9b2.f>9O.f5Efm6:3W[tI[5%39q=ZClG*JsE#Iae1&&DK8g.&Rj0BZ.b^ZZ*C&%#p:Z9(w>of<YgR@o=jan]QWf.<<2@;QX;M:e3SM;^PtePA5$j:`_*e7E:e1(Q14<Scf:q]Mxum?$fr_]@M5_`V<3w.C<vI_ug$#KgOrLs1yIoDgIHiEYe1dP^8;GLkKnK=c>NA6riG,EECt1.1g`B-=^e?wv/TjW7cn>cOqS`G8`hCKO7E)th0:8y9VL,4Dinc-.7Jr/Gx[.00UN@NWl@<x-fq3mI5J>M)?gb=i=(@hv?fux;_iAB?gCJ_>;@*dJZq-3E(`nsLD#FcHv2a+op;JOy<h7m;6D5W7Vt4Jj.eD1K6[h@h(Vj.uY#qMp2^c$VvK;vZ@.]%x7QHl7?F)vpN&J9KI3>s&7Wp<Z%KM`D*dIhm#W?rL#1pX/SeInwO10sXm5M/)sTj[<YRjh7IECL^m,B,7SV7<J9/NQbIBE4K3PAHR,@2bm+`J7-Er4xN&p3^JPIDE_xT[)xE#Uu?.tWnhXZbwx4gH-)v18]2&$aOT;0*4.&v<0wXr6D4U9ov%ag(*FLy,@AV>Km,1KuhQ6GYOI0M0MaTY:tLo6YeKC4t;CnNHXp]HCXr`Z1/6EGP1v6TmUm.KG94*DB)IvL9h?Dru/T(%kF7a9N5yUvLAp9PNgQ`HHS4G?9uhKZ>oWc]+DtT;8o,`]]FmpIIZ*`=X0%J7k1/uE>n[t9b_>nU(j,D,ic8$CDP+P^TsGw4tTVbCiPNM$LJid79+,kSVp(]oGum]lGM^Hdun5HtblD=ZDcD]<86v72nHo^h?UOeP";
+}
@@ -0,0 +1,50 @@
+package polyglot.types.reflect;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.net.URI;
+
+public interface ClassFile {
+    URI getClassFileURI();
+    
+    long sourceLastModified(String ts);
+    
+    String compilerVersion(String ts);
+    
+    String encodedClassType(String typeSystemKey);
+    
+    String classNameCP(int index);
+    
+    String name();
+    
+    void readAttributes(DataInputStream in) throws IOException;
+    
+    Method createMethod(DataInputStream in) throws IOException;
+    
+    Field createField(DataInputStream in) throws IOException;
+    
+    Attribute createAttribute(DataInputStream in, String name, int nameIndex, int length) throws IOException;
+    
+    Attribute[] getAttrs();
+    
+    Constant[] getConstants();
+    
+    Field[] getFields();
+    
+    InnerClasses getInnerClasses();
+    
+    int[] getInterfaces();
+    
+    Method[] getMethods();
+    
+    int getModifiers();
+    
+    int getSuperClass();
+    
+    int getThisClass();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<?vZ+$I3gt^?Oi/$RwBmN?(;h&tg+X[C[+N4*Z#Rv1x92x=_?SG0abpkG@E#m#^8O$b=K#fw9UEyWsg*bM>-FXOQq$NNl5HCjjX[7+h5*Ox67=(B[58M0_[lWdcT0<#oAuo*C#vu%t#s=T*`Kh>(E;Z&5s2FB@hcmXXx)8EFXA(OmqG=%:$`kJ+o:ohXh_70aDt0H$TAol$gbMDfm[tO<Q#D_DJ?N1>]ip9a-5,Vvy;qxZfnO0TuDlq9xB:XwBg%J*`g#j=<2UbHU?O)ahH/p923VI&W9;NaPI2y)ASu)eRR3vF-9$W5`nH>1DSCCl<mD(Y`af.R+NXFUl(rBXRSmGdD#2emT+lD+)a:oP@m46Q3J?H.Co4Nj97_B%]_57WFcE<`>40h?y4gCp9^Z63i4hLu?S]2[@R<M,3eQ&J2F2)xH*n3:e1B^DC]%EyLouK3b.yX]y4?mD.Pss$aS8g:g*o(ESimBleNL`cy#4+ib3L)**4k0]sV^JJEfo*FYC>QUp*YN57Q6^oGiT)=q8U.6uo$^Q?X%s^reTeA;+5:hSNssPC,f&sS9#SgJh3OwTaq>lE)VUJO/0YG#i(NP20++Q6Vpt-]ggQB8r+niE?1jVE)iy0&LnrBwtMf?fX[]w=;BLeePs62_`ilk^%q*2S-fD$0oL:$rs$@j&OIj$O,3HItj5Cd$d*)dT]Ntsya#PKq>9$H2Q3EpkV@A$lB1.rcCKK(<A2`<V^OJ^3@,UvXSS#p[1LVFyX;Jo@Bu70e2^0`y59Qj.5&BFI(W8fvZN#9kR=u@2T>u`aJ$;>VDNCUFmH@/?vyZ]K98,qi&5k.AZ3_Cd&^,74=B_Cq)tTuLVk]e`_U2`8;8]A10LZQu7kV`JYyi8KSM:3j)%(/2Q-RiLEY>4C,QvWxdd6_6QkjZp#,SPqa3L.;qBR.e>*U=TOfH_5spW<IC-5os$Gp?#_[2C[K9UrBr,/fdhJg;%A9nL-7E.eMqo-1qjw`-f0@4(hOl(i.cR0fl%=f(Jm+QTwBCGV?XH?i^/[K+Q?oM<=37gbj&g.e(`OkNxdqMHu&C>2*jT:,?SBYxfN,kqg<KB&gFalm`J9d&J]#a`7t&U^$G^myC37?abn.H7B42aV4Mu$D%dbn:W>0=Z5LO4N,JiXvy3o+Belyl`OfIA.^7bLk43jUm-ns2m>VQE?>qUQXL2%fJcqfAU_8S@4(]G$(usDO-Y@mQ>wL$hVZdU[/ooa4`=QQ;<B^7@WNOt6&Tl]JU%b<;&PmXg*gL*B)`1d_yC`:PMHO6[l-lErp]knDlaI5_PS;Y0;V46lOH;lItsh)E?AAAXJ0fXM?E+RIBbgtWD$lYr.@JiXFKs)DjR.@UKj&#UWLC%<Ot]7q.5o7,Z?t7yyl#@>ZMOb@G+0#fw_,dJ+v=+FZh?O1r4ni[vi4^5F@bARgmuK]]FYSB;wA1:eh5RI+f+Cc//mq6?/,V$NIU+q`bS9ZLmf:iQerWq*m;WLgJ$v6%Ur_(OO<GDMflD[Ts*^dnCh?[f5m;kQGV=*DLig5Z6fpkJm:(LsUZ-/b>Ue^>[C3hjo-2T;jo##pdjI=$gv5P5eXxivcKR`s.@yfp/``00fIt6e5bd-`^TO_Ds]Qo)khm%1FB,n0F3_l2+@jkBq*4No/Gk]eDw964V65pMEf6e@7$llqG<f`H*KFe&jKUj;C,$aIDgynGlHs;ha5yoRj)7v;I%1ZGXU^IfbPf>o-g0+9IB;#J>*v8-b$GQUBm?wKkBuj)m%%Fj=bQOtbM-]O;F/hJN&uHJBv37XVCKPEQ+8(rQj4yB/C>DQ1TQ8YH/gV#.`4os2@]XGmiHMgZj=g=T]3of]O1N79e^ByZ>&neOrun=V6?p+,d2_3T5uShXqfr`M^P`54U.:l.<[nH#ushC$7.eZI]&o$>njZ.7J*u8rV0SV_$f.2V,FxjuGx@BxGv,GAh8HbaJIH=EQdKm:is]4WRhYfpUExkg0G_&b1Cs:bdLJP3cS%7.;krV1Y65:luE>-7JQFIbq0:mpX,C>C.C#3``.<g+sd?:MSMSq_;*mR8<<*;Hk3H(Yc2l)]RRU%4ryyiVG2:2S%$DuEUg2ELuCLWQPGyl^tb=UMq,-_*-tf/bCaxOopE^k.YyQ86py#k%t-soNPMo9xfa)0I1kO%XHw[x`MrO.yEmjfv^-gF3A6LJi%t&%iEDj%U)HCrZuXc=+[S>1]Vi1paKTjWi)>so9?*e2W1k(Il%o/#30@`PIh=FCqqFplE#bml_Wb3[D`rko?w$=MGJargcH1s^=7<G75%Y:_dp.KNjId[r(3xI]Q..)(hXGy+jcta)ZaS$0`o,8=qQT<-51$:&tMf0/nIntM:fjQ5/XYxm45By1B3TVn2j,_`nkBL=Vd*xt(1gfGf:xA(b+O9yen/vtBPL8H.eQ;JTQ+q0Z5wfZW=@@`8;H.DBmWXJf:h]>#-s0&;W?bFS-1`sAOxv^;&$>A[pt5`ED_%[ShCZ9;anrJ17Z_Cff(DFv^p5=OgHtm#85K/+e5a_q83d#V&6tedK<OqD%-+o7<3=%Q$3];mm3B6Pt]7vkB93[D`o`gS71@+-?C<%dLh%yD7.3#x*GN7=jnCUk$#1x_`vrJaAoB6bDl-0Mqb+EckaO<Av7Kn&;t;GEnLRDFaVdP_v)Wiy`@QXE)-6a/YwO&+=/8aRnE9CU*9Ce]o_+XHNDNN,4:ec/HlHU[4-?+komh+OvIJM8%rZbelWjn&:G>/lZSNjr70jnwEyne3CvwbRWE6]WC[,pNNJrO[Ekn-/Z=GF?8yJZq0,Z#SR[w2TK0>a-&q;E?$91KNmqmU&UCSxS$91yxDWOcy3mDO>qKAxLcF5qNJKUMlsIAu`6`Q=3m1_jMVK_@[ofy_$Tjmth0G-)dOKuZvG#j_cpT3m-$-1;D.RPYM#o>^%ah[L:TlgoRN)V>K`fJ.A*nsB3S]6E91RCBldG8K@8l]I&iuZ4,FIa7<DP]$C1nfXhlbm?SF;g5o,q03N)=_n:I_.7Y(YV@l??=IRdbViS>ll5wM[*<Je0&:.5]@ys=&3&QaOR%.s,#s=Gq<jIhOTKX_Ew8mARVaV$Z*nCQVmgc*ZMXJ4idh%i=dsIu`>)1f?$qZ4.tg#-O>#I1Baq#@OH5qU_n5lQJ4r?U:Z6n-R23+vnW@Efk1a?:uAS4?<kj1l=*b-Ve6cP_(&mO4i%@rtA*i*c.7LTtcEnN%de+UcUfYA`*9YEfuU6O$kVExt8)M]8x)ETmCk7@`J@,(#dEJ;51%DP%-mUS/JDt`0If$1q$;]K9-9J/ZQt<bp>59>bad8gHd6g;Q4BQEG484I`fHuSL::C<QWIANnpcu)7hVd_B&G[KcyJU`c[1RjqkU<4C74fX2Q?PXe.6^)g[#M-4<H1dk@qV5a?V:whfl[<XQOnpV[]yYNr9vKe:AQS;JOHq(F14g&)5xEY.;<RFXiH,mTP#s,JDmkeme(Egrft[/w:R71<DRxHKy1`*[xdSi`_c:8l/3CjG87bS9Srp3ds[@@A8Qf4p9S9vZNNE6FAB4LdcfBX`tHUYu])*eqeX$2kuW8ueu)P<uh304YmFD$RSyi=:rjw=xy?Ld)0j11jKp&X.h]9Th/NPYwJ#3a8hJrTpRu71cEeort(q47TWPP))j7RgA7]??NxW.sD#p1HOphusCDHPM%^mG6.GpDEAivIibJ%`$%&A$gXh%C9$^@8u9yTtX7VG.M-L$nH(rr9u(^wnQ;iFc355uM/F2fme5XMx;#ii(SGM7F#n$NY#?_h(3pxT2Sl+YAmq[_TY,+WHw1ebyUMa(M282_5HFInQ3FG-)@Awrqo1s3DG`hWi.;BOnL7tu4^6#iYvp$ym_o:Rp&y5_+4N,1m`+8q:8N=$<rJm8o4Fr&TdFaKDN[n=(F?1@@J2k^4>*],:h>0?RV`$Vrp[P[W/vW]Mn5G]wn1.Z1;15d6TAHXKDbjrGEBFy<]R)?o#E[BH,YctNWB[edIQ0Rik(fN+o=Y:%sHA5Pq2L";
+}
@@ -0,0 +1,393 @@
+package polyglot.types.reflect;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import polyglot.main.Report;
+import polyglot.types.ClassType;
+import polyglot.types.ConstructorInstance;
+import polyglot.types.FieldInstance;
+import polyglot.types.Flags;
+import polyglot.types.LazyClassInitializer;
+import polyglot.types.MethodInstance;
+import polyglot.types.ParsedClassType;
+import polyglot.types.SemanticException;
+import polyglot.types.Type;
+import polyglot.types.TypeSystem;
+import polyglot.types.reflect.InnerClasses.Info;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.Position;
+import polyglot.util.StringUtil;
+
+public class ClassFileLazyClassInitializer implements LazyClassInitializer {
+    protected ClassFile clazz;
+    protected TypeSystem ts;
+    protected ParsedClassType ct;
+    protected boolean init;
+    protected boolean constructorsInitialized;
+    protected boolean fieldsInitialized;
+    protected boolean interfacesInitialized;
+    protected boolean memberClassesInitialized;
+    protected boolean methodsInitialized;
+    protected boolean superclassInitialized;
+    protected static Collection<String> verbose;
+    
+    static {
+        verbose = new HashSet<>();
+        verbose.add("loader");
+    }
+    
+    public ClassFileLazyClassInitializer(ClassFile file, TypeSystem ts) {
+        super();
+        this.clazz = file;
+        this.ts = ts;
+    }
+    
+    @Override
+    public void setClass(ParsedClassType ct) {
+        this.ct = ct;
+    }
+    
+    @Override
+    public boolean fromClassFile() {
+        return true;
+    }
+    
+    public Position position() { return new Position(null, clazz.name() + ".class"); }
+    
+    protected ParsedClassType createType() throws SemanticException {
+        String name = clazz.classNameCP(clazz.getThisClass());
+        if (Report.should_report(verbose, 2)) Report.report(2, "creating ClassType for " + name);
+        ParsedClassType ct = ts.createClassType(this);
+        ct.flags(ts.flagsForBits(clazz.getModifiers()).clearSynchronized());
+        ct.position(position());
+        String packageName = StringUtil.getPackageComponent(name);
+        if (!packageName.equals("")) { ct.package_(ts.packageForName(packageName)); }
+        String className = StringUtil.getShortNameComponent(name);
+        ClassType.Kind kind = ClassType.TOP_LEVEL;
+        InnerClasses innerClasses = clazz.getInnerClasses();
+        if (innerClasses != null && className.lastIndexOf('$') >= 0) {
+            for (Info c : innerClasses.getClasses()) {
+                if (c.classIndex == clazz.getThisClass() && c.classIndex != 0) {
+                    ct.flags(ts.flagsForBits(c.modifiers));
+                    if (c.nameIndex == 0) {
+                        kind = ClassType.ANONYMOUS;
+                    } else {
+                        String outerName = clazz.classNameCP(c.outerClassIndex);
+                        className = (String) clazz.getConstants()[c.nameIndex].value();
+                        if (Report.should_report(verbose, 2)) Report.report(2, "resolving " + outerName + " for " + name);
+                        ClassType outer = this.typeForName(outerName);
+                        ClassType.Kind outerKind = ct.kind();
+                        if (outerKind == ClassType.ANONYMOUS) kind = ClassType.LOCAL; else kind = ClassType.MEMBER;
+                        ct.outer(outer);
+                    }
+                    break;
+                }
+            }
+        }
+        if (Report.should_report(verbose, 3)) Report.report(3, name + " is " + kind);
+        ct.name(className);
+        ct.kind(kind);
+        ts.systemResolver().addNamed(name, ct);
+        ts.systemResolver().addNamed(ct.fullName(), ct);
+        return ct;
+    }
+    
+    public ParsedClassType type() throws SemanticException {
+        ParsedClassType ct = createType();
+        return ct;
+    }
+    
+    protected Type arrayOf(Type t, int dims) { if (dims == 0) { return t; } else { return ts.arrayOf(t, dims); } }
+    
+    protected List<Type> typeListForString(String str) {
+        List<Type> types = new ArrayList<>();
+        for (int i = 0; i < str.length(); i++) {
+            int dims = 0;
+            while (str.charAt(i) == '[') {
+                dims++;
+                i++;
+            }
+            switch (str.charAt(i)) {
+                case 'Z':
+                    types.add(arrayOf(ts.Boolean(), dims));
+                    break;
+                case 'B':
+                    types.add(arrayOf(ts.Byte(), dims));
+                    break;
+                case 'S':
+                    types.add(arrayOf(ts.Short(), dims));
+                    break;
+                case 'C':
+                    types.add(arrayOf(ts.Char(), dims));
+                    break;
+                case 'I':
+                    types.add(arrayOf(ts.Int(), dims));
+                    break;
+                case 'J':
+                    types.add(arrayOf(ts.Long(), dims));
+                    break;
+                case 'F':
+                    types.add(arrayOf(ts.Float(), dims));
+                    break;
+                case 'D':
+                    types.add(arrayOf(ts.Double(), dims));
+                    break;
+                case 'V':
+                    types.add(arrayOf(ts.Void(), dims));
+                    break;
+                case 'L':
+                    {
+                        int start = ++i;
+                        while (i < str.length()) {
+                            if (str.charAt(i) == ';') {
+                                String s = str.substring(start, i);
+                                s = s.replace('/', '.');
+                                types.add(arrayOf(this.quietTypeForName(s), dims));
+                                break;
+                            }
+                            i++;
+                        }
+                    }
+            }
+        }
+        if (Report.should_report(verbose, 4)) Report.report(4, "parsed \"" + str + "\" -> " + types);
+        return types;
+    }
+    
+    public Type typeForString(String str) {
+        List<Type> l = typeListForString(str);
+        if (l.size() == 1) { return l.get(0); }
+        throw new InternalCompilerError("Bad type string: \"" + str + "\"");
+    }
+    
+    protected ClassType quietTypeForName(String name) {
+        if (Report.should_report(verbose, 2)) Report.report(2, "resolving " + name);
+        try { return (ClassType) ts.systemResolver().find(name); }
+        catch (SemanticException e) { throw new InternalCompilerError("could not load " + name, e); }
+    }
+    
+    protected ClassType typeForName(String name) throws SemanticException {
+        if (Report.should_report(verbose, 2)) Report.report(2, "resolving " + name);
+        return (ClassType) ts.systemResolver().find(name);
+    }
+    
+    @Override
+    public void initTypeObject() {
+        this.init = true;
+    }
+    
+    @Override
+    public boolean isTypeObjectInitialized() {
+        return this.init;
+    }
+    
+    @Override
+    public void initSuperclass() {
+        if (superclassInitialized) { return; }
+        if (ts.equals(ct, ts.Object())) {
+            ct.superType(null);
+        } else {
+            String superName = clazz.classNameCP(clazz.getSuperClass());
+            ClassType superType = superName == null ? ts.Object() : quietTypeForName(superName);
+            if (ct.flags().isInterface()) { if (!ts.typeEquals(superType, ts.Object())) throw new ClassFormatError("The superclass of an interface is not Object."); } else ct.superType(superType);
+        }
+        superclassInitialized = true;
+        if (initialized()) { clazz = null; }
+    }
+    
+    @Override
+    public void initInterfaces() {
+        if (interfacesInitialized) { return; }
+        int[] interfaces = clazz.getInterfaces();
+        for (int interface1 : interfaces) {
+            String name = clazz.classNameCP(interface1);
+            ct.addInterface(quietTypeForName(name));
+        }
+        interfacesInitialized = true;
+        if (initialized()) { clazz = null; }
+    }
+    
+    @Override
+    public void initMemberClasses() {
+        if (memberClassesInitialized) { return; }
+        InnerClasses innerClasses = clazz.getInnerClasses();
+        if (innerClasses != null) {
+            for (int i = 0; i < innerClasses.getClasses().length; i++) {
+                Info c = innerClasses.getClasses()[i];
+                if (c.outerClassIndex == clazz.getThisClass() && c.classIndex != 0) {
+                    String name = clazz.classNameCP(c.classIndex);
+                    int index = name.lastIndexOf('$');
+                    if (index >= 0 && Character.isDigit(name.charAt(index + 1))) { continue; }
+                    ClassType t = quietTypeForName(name);
+                    if (t.isMember()) {
+                        if (Report.should_report(verbose, 3)) Report.report(3, "adding member " + t + " to " + ct);
+                        ct.addMemberClass(t);
+                        if (t instanceof ParsedClassType) {
+                            ParsedClassType pt = (ParsedClassType) t;
+                            pt.flags(ts.flagsForBits(c.modifiers));
+                        }
+                    } else {
+                        throw new InternalCompilerError(name + " should be a member class.");
+                    }
+                }
+            }
+        }
+        memberClassesInitialized = true;
+        if (initialized()) { clazz = null; }
+    }
+    
+    @Override
+    public void canonicalFields() {
+        initFields();
+    }
+    
+    @Override
+    public void canonicalMethods() {
+        initMethods();
+    }
+    
+    @Override
+    public void canonicalConstructors() {
+        initConstructors();
+    }
+    
+    @Override
+    public void initFields() {
+        if (fieldsInitialized) { return; }
+        Field[] fields = clazz.getFields();
+        for (int i = 0; i < fields.length; i++) {
+            if (!fields[i].name().startsWith("jlc$") && !fields[i].isSynthetic()) {
+                FieldInstance fi = this.fieldInstance(fields[i], ct);
+                if (Report.should_report(verbose, 3)) Report.report(3, "adding " + fi + " to " + ct);
+                ct.addField(fi);
+            }
+        }
+        fieldsInitialized = true;
+        if (initialized()) { clazz = null; }
+    }
+    
+    @Override
+    public void initMethods() {
+        if (methodsInitialized) { return; }
+        Method[] methods = clazz.getMethods();
+        List<MethodInstance> declaredMethods = new ArrayList<>(methods.length);
+        for (int i = 0; i < methods.length; i++) {
+            if (!methods[i].name().equals("<init>") && !methods[i].name().equals("<clinit>") && !methods[i].isSynthetic()) {
+                MethodInstance mi = this.methodInstance(methods[i], ct);
+                if (Report.should_report(verbose, 3)) Report.report(3, "adding " + mi + " to " + ct);
+                declaredMethods.add(mi);
+                ct.addMethod(mi);
+            }
+        }
+        if (ct.flags().isInterface() && ct.interfaces().isEmpty()) {
+            List<? extends MethodInstance> objectMethods = ts.Object().methods();
+            List<MethodInstance> implicitlyDeclaredMethods = new ArrayList<>(objectMethods.size());
+            for (MethodInstance mi : objectMethods) {
+                Flags flags = mi.flags();
+                if (!flags.isPublic()) continue;
+                boolean methodNeeded = true;
+                for (MethodInstance mj : declaredMethods) {
+                    if (!mi.name().equals(mj.name())) continue;
+                    if (!mi.formalTypes().equals(mj.formalTypes())) continue;
+                    methodNeeded = false;
+                    break;
+                }
+                if (methodNeeded) implicitlyDeclaredMethods.add(mi.container(ct).flags(flags.Abstract().clearFinal()));
+            }
+            for (MethodInstance mi : implicitlyDeclaredMethods) ct.addMethod(mi);
+        }
+        methodsInitialized = true;
+        if (initialized()) { clazz = null; }
+    }
+    
+    @Override
+    public void initConstructors() {
+        if (constructorsInitialized) { return; }
+        Method[] methods = clazz.getMethods();
+        for (int i = 0; i < methods.length; i++) {
+            if (methods[i].name().equals("<init>") && !methods[i].isSynthetic()) {
+                ConstructorInstance ci = this.constructorInstance(methods[i], ct, clazz.getFields());
+                if (Report.should_report(verbose, 3)) Report.report(3, "adding " + ci + " to " + ct);
+                ct.addConstructor(ci);
+            }
+        }
+        constructorsInitialized = true;
+        if (initialized()) { clazz = null; }
+    }
+    
+    protected boolean initialized() { return superclassInitialized && interfacesInitialized && memberClassesInitialized && methodsInitialized && fieldsInitialized && constructorsInitialized; }
+    
+    protected MethodInstance methodInstance(Method method, ClassType ct) {
+        Constant[] constants = clazz.getConstants();
+        String name = (String) constants[method.getName()].value();
+        String type = (String) constants[method.getType()].value();
+        if (type.charAt(0) != '(') { throw new ClassFormatError("Bad method type descriptor."); }
+        int index = type.indexOf(')', 1);
+        List<Type> argTypes = typeListForString(type.substring(1, index));
+        Type returnType = typeForString(type.substring(index + 1));
+        List<Type> excTypes = new ArrayList<>();
+        Exceptions exceptions = method.getExceptions();
+        if (exceptions != null) {
+            int[] throwTypes = exceptions.getThrowTypes();
+            for (int throwType : throwTypes) {
+                String s = clazz.classNameCP(throwType);
+                excTypes.add(quietTypeForName(s));
+            }
+        }
+        return ts.methodInstance(ct.position(), ct, ts.flagsForBits(method.getModifiers()), returnType, name, argTypes, excTypes);
+    }
+    
+    protected ConstructorInstance constructorInstance(Method method, ClassType ct, Field[] fields) {
+        MethodInstance mi = methodInstance(method, ct);
+        List<? extends Type> formals = mi.formalTypes();
+        if (ct.isInnerClass()) {
+            int numSynthetic = 0;
+            for (Field field : fields) { if (field.isSynthetic()) { numSynthetic++; } }
+            if (numSynthetic <= formals.size()) { formals = formals.subList(numSynthetic, formals.size()); }
+        }
+        return ts.constructorInstance(mi.position(), ct, mi.flags(), formals, mi.throwTypes());
+    }
+    
+    protected FieldInstance fieldInstance(Field field, ClassType ct) {
+        Constant[] constants = clazz.getConstants();
+        String name = (String) constants[field.getName()].value();
+        String type = (String) constants[field.getType()].value();
+        FieldInstance fi = ts.fieldInstance(ct.position(), ct, ts.flagsForBits(field.getModifiers()), typeForString(type), name);
+        if (field.isConstant()) {
+            Constant c = field.constantValue();
+            Object o = null;
+            try {
+                switch (c.tag()) {
+                    case Constant.STRING:
+                        o = field.getString();
+                        break;
+                    case Constant.INTEGER:
+                        o = new Integer(field.getInt());
+                        break;
+                    case Constant.LONG:
+                        o = new Long(field.getLong());
+                        break;
+                    case Constant.FLOAT:
+                        o = new Float(field.getFloat());
+                        break;
+                    case Constant.DOUBLE:
+                        o = new Double(field.getDouble());
+                        break;
+                }
+            }
+            catch (SemanticException e) { throw new ClassFormatError("Unexpected constant pool entry."); }
+            fi.setConstantValue(o);
+            return fi;
+        } else {
+            fi.setNotConstant();
+        }
+        return fi;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1amxod*Odv1l-CUq9/Iml$<MXOU:64ZEfXx#.f<iC%spAm=4fpuc#N<.7(kAJ85`#@7%sK&rRllHO#Q/o=CWoi=IxYlpR+#8[uZyogQiM?oS:+^oSaq.r*8HX0fI<[_YJ^5VeTOVw4iU4r([6uJ.X.9cbc)u>Sa=[S.oue>9A2;4uTvJ+c[b<PyEyR6DmAnp9Ly(GP>dnv1Q.Nb`_DeqOl4tGEmcc24Y[=P5H<^.fXVHN.UR<CgP4</Ty$*1LnY(5N9Eh0>&M=+xQL$Xujv3/B@d4%[2k<%<vvD%inN>*QBRvnCKNfFQ0Ttb95ck7IZJ9mcckx?-JaF63eo/5X/5*m2mpw@.R;YHd@CIn4@S>0UeEAISm-B32-05+.I/JdP51Amt`+G%-&#S._L=+.jRDU8[8XbRiN**$Eou1n?Vb]T.Q&BO>fh8hmxi*%:5MD9Cule4pv^rXPel$j.b-IBGj5EMc:dUVM*Q[`vMLhiPY3]oIg7w%cN(K-)%:4&wJ@/#NH)Hj;2dt_30l(i[Z>-I]##^%3CmL.MnGD;]$VxF[K-]q[l3gSqIeoRnTek/4_sxBhHn&q5CIcT]]3]WPyw<#mt#I`CmeC$PK]Jio>rA6SIhvq;uGl^EvaU)<rQFg`7x._Uv**=0jY-BL457UKG;=,xGaD30R2=`B5yDo$j*Q`WkWcb0h7:^T1.@qsXx/A#*O$X^jhh`yIo-Wfx?d/uQQkA>Z;Blst.XX-4D#/Q<_x^W@GcGsL;fj3+@MrvmrxS3JOW/UDTPS^QJ_>(lDLMl6nn06Wg1Vji=*EUXZ=MXA0_&m;B9V[n4WFHiEYuF%UDvvMmlC$DqQbuG1B1bDnbYjkMgEV_7c#yJ,Nj2yFn`iuTxeC3R)t[wne*jqZC94@bXC16;=G8>^PDF+U=MxT2A,53sTd5A+a4VgN.V4g.4>6`Sge8_4Ne7O[)$Fr-(RWO0kgO9TBZ*EpXubbR8C8FY;4?Zb^_<m:V6u:K1XYjr;b&fwwsi>0=a.+4bHrWJ)_V@kHXF&W(#tq1m3@h=N4Lgh.sogk]-ri&2oSD64gOceTiT`h2r3jE^5oyIpuq(bN0yr9Qac4?ktA$)v+yvWtLfBGP[JRm9MjVB&mLu:o5P=x;rcH#toEe5DD1[a=r:Q[Ht*:etcYX%]6:g%T,wW3u*bivP.@FVyfWJubl8`r87MD?T:18q7dZb(_>vJ7mqhI^[TbFxqcN>2c2G.]t2^D#MZ&TT6^1G8<,543:DZ*=V?j?[&Ttvxl2%Kk&Z-si4Z^[U>JE]x)J8OR.TYqt<)ikjV[PY@V:Ss64bnR(r2#&>f^3S/jC8MpvG68?$nM0aCrQ$b+f)+Usj>*`#5YI2w7<R=qA%#RA6Q-,#=9ImES9QT<b6M,=KX&:oXA+8(=O_sqXRQNjs5/r=Ik%*OIWpC=mJmKf3MiXQqaRhpAg[q_:_/0GvU(ps-W^YldwO&C();eZ.$xXN<2Ujs/xyfsXJT$nSc8&:jfm=r.UR]%2Q;^hiKhO@O@#WhU%GHEe/xPFU]&^Ivk%N036r5JWBkBT[nQ-`FqN.;,Yr=J,*<(X/RM:&RXKD%`TVju[]%`2L3XfKM3SV*Jb0f.v_Yc?432bBg?nu*HSvVb^DAyCnCakvEa2-#0&c4CNT)p_b4c6^dM$8=H^pq-ZjhPKIs-]hvwG&/ZTDIJ#wX#mEM<F2`b_r_vJQ?9WPH[?(bws.sEn;@IS[W1_+fNQ]adJphDNCmE(3#7Rp5Vc&2/6l/gBZhr49(sdFX[aN8G2.No&j%:%qU`FN1*,mDJXr69+Eg<_5>mSYMQB7hR.fL(.r&9En$]UOeN*5IeKUjDr.LYQ.aYXlOSnEB-/%-qEvl;4@_[gFk<+p[?eQ^19t*%dXg_cHWm#qxb0L<J^sCg>23xs>tv7MLCCxl<]>X(g_D1rP.dNSV1gjc?E/^1G=&]M$EETY1ojl&#2a78NQ)S(R2BoPPV_6C1])6OuIPt3J[$.%.K:0Ei$-?AarHo%H9FeW]x%;0-]w,Q7vr&#pC,xI#*>eZ]kHfG&/a]LG,L,jDKSwXR,n0W[lM:]`lHW8B>b_mDLcy0:2ptnyZCaN;xXRB*08joFPw9JfLY(#(DB36]ubWR5s%2)JnnM5qL&3(6S#(LM3Do[l%ILixEYviw,93sy#m`78Z0h)3O(Y1%N<l^H:Li<@)#Tlc*Vqa4j/MBWC_rh*_8gj$Z+%d9xl9g0)U&;i%3RbeBR`YYH$giXyZr4069>GWy4#[E#DX`RJu_uX5isP*Kc/7<PcnEP5p[P4ddM`Rukk+/N03Re.FCa*d,U[7-?i%P428qo1,%YPHI#>LgkP:an#b``=U$Ay`UnGf6qwZJnbaS=rajRIyLP`hIM--f>]+/*]ToRq%?vUwswF4hSZG4RCS=nEJo[ddfoO7c4v6`x0^Dj;J]ilnY1.cwyxf`?aF45P*9u%KC39(QvH2a-Tx&CFkcu&U+9^O@rZ7w5u*7g6BW(=v&wM4.m@:h4]_OFVoF-V)Q.rBQ1;-KMUXf0TNaSe2_o^-F%n7BCg2P,rKIwiD9n?/O5$D1y]gc.gu,;R:Oc6S9/8S.nUI<EZ$n)5@6Aq?V4SCf`;P^K.S[#Q`c_EKvL;cDej2oI9Ny2aNu7LXFc-P70;&mS0NI6D+h/l$N`3sJkIZm1U16@:bro2Fj(7G]jsI_#Dg5<5+F<9MwcgnBq^LojwXHTly5Ke86]7P62c@fX,TL2=,.qdj4=(mB#<(=ZdKZ9%hohV3(.QrH]r.Siw6-(Yx*ajQO^5o5_vDukF4X?17LH6`n5.rIElkM9l4+I0xOZ$:ST2XXXXPsd_Q%L%Fw&g162O^i?Itk8tKo`0=DccIsO-`TP2pig4XM,F3-:E3+CLo6x$BRYdrbU/qJ&5iLq%Jh?E=Y[%bq&6P5mtg9qD=b1H?B9(CU+.,mI#D*L+J:YiWc>$jo^Ypci:m8U.ylSMZV]3E*,#qF&wjB>`0OB7PsN_/b8(A)/-J-NXwA$_vnD/X[os>DBjoE40sdZo3ZV$.]j(opeiJkX+&_tJ77BYPq9a6Bj<jI2V<9=C,F2P$vMioLgib7)DlRS/U)<DMWNB=QvD*Vnt]D8bH`WxR-]af9FEDPrAj31vcF:ogw,Roh49ujg8&cePnBobmy_%$;u>:iwCB1%8e%45atf0PvUG;MPA^PaI58IR49xmZy7-D6@.7Ww^M5GWHPiD1mI_1pn/6_/0%Nu^,l+4jGy-1d+r2+TEkRola%C-Ep^T%xYwFfF=W1voUde;R3UEQDv4gnY7L6YB]1/B4T<Nry99jdpCBmerpfVYg6QxAuVEDd:C?D.=-Cbh?j2OH#UJkf*&9q;1FCwV>4R]VbD5veQ8$ViRRq1N^_7B8C[5F:i4l,M?f6$bW<AWu.l7<m50]u%P4gmO)aKbuvwOV?aV(`1o,](1:mdw7I1&PDxHldjX7Sjt%N]Y3G0<^mV$kU+JcJPVkHd<]T8hFIdPrLuuy%uk]8Mt5(+5$*V>K$tj4b$&9cWkV.7^drVfwl=k#y1QSbM$m0JNTe&vS4hqIGD[F`efY1s41Zr(o%T,D(J>*VIB8,gsl*QO6`Ebvjg9g?HeS:1eMO-K9R7u8[xuH*K>Rt=+Gv#y&)CEE5.G.8&Qrg,Qij8f+&Ec9.C%#JY>Q?To&>0Ky@ojF0Q6mx3(h@R6&t3wD_B(ANX<X$/;rTvYosV$25BL(BCE.gDR</MwlU8Cw7sKk<,Y7oHY:LevYbyH,lf+uK^[l.8O.MeweD<oNHk>*RA>h?b#m3eyE2:w#TKIUCM@gB-R$10LuDu:=Y[RNhpE)M<(UOV+VD]@DQ&TuX=,Ri:#>1%(]/`<pyodnVscFl3>)MJ[^*8qklE6,;%,_9ao#yI:l^/wh_%:FI&h5Rp4&+8)@ofgn.PUceBC(u@IXcp#G^A``AH1rN.]11@hMrJ&tsRRl?.h6Uy-cTwI2P>>gaU$qp>:7C=7GhT4g5Uin%g7Ub:jDeONP:_gA.^b-`(=]YO?9Y<;ooY;Jt`g,7lvMAI:+AfnyAlR41>P>D5BlX9k:tGaceFr&`F0(EvXs9Neo#?(8=YGblJJII8OHy8g0hmSStJ+W/ORia)d:tnB`fAs=5s*/3vkmr`c(LTp_2UTqPi`@Mp(H%/E*pNeI1XD&h[DU(DKEKRg:T)1ypmA)*UG5?$5Z#<;2^H0dU,k?@8FYGsc7MbR5CH*#BNOZeP_Pa-KVe2UC0vr(D,<-8XU+y]&#oaQ0>+J^1(UL$JXUIN%ykHp>M0=aqWBrK/Ucw^bk/G=x0r7]c-,0vIW9KH_tXIW83o[4aOR$dU%^-w,BVRYFa$:P]n/:+<SBs9B%Q``bk4v]qQ&b[#55]HUHg`,oB(+=Zs-,:e5:0I7Whf,],:>7C-EX,c^=2>3539/.RjC0A_U/O%_k]^]M;2qKxYl>Mu)FX4hXSL=K+sshGoer%cpg+;6_DndL`hoS=&yp?J$Kwj5.fT-W:dl-&UWNqxsaEdg.M+S;^X+g,9FM=,a,=@W#8tB24D[eh#72X/@[`<db1uN*k6X%U5HeO4W/h*DC/kP+t1fK+7_%;fO3)D3[oPr.qA1eioL[Qa6e.Q=3q^ufLfJu(vq@L$5d9qwDayjsCo0^[$k3dc?FUO9D;6Wh6pMeuU(.+Y*,HFY3xV<hd=W$YfSn/)-iKVLVO#d%Iyd/O:6hIK:CEC?o+9+1/wkwrBaWJ&D-(aKIqTMhG:qagS;(3;5w2aB+;@`Lw-xJ6XT657h$V?XUF7&87A,;%T=m;A0Nmj8^TSX>O1l+1XK3IX>Sn]bRi@S*tgY)AoqC??^witTrhM$[+n<-.KTw_e37j91KG>@[f`,%qbP[W2VrQD^:7u.kCEspBHkhPt0VwrANO0EG`sg>XN+#k_dZrc40v5lk[.2R=8Ovs.73mihkXgU+L?Fo@0f8g_;PYCt5v2/(BoiM7E,YON)d+4u[x_Z%^nb%unNOc4lk=5hLR65Ej+-7YSe]:LY[L(M>]]d<;=QPWHLNB(<,Fx2BK,l5PyD(Rh]Ur,DQU^,Gx409gKQl.w1Xml)6XmEYyF_6v,gF#>Mr6ujs;uI1we?v>[@^_R]6oK]X;)F6LifC-x5pXN<N%-R-tQ;%T(<F38b_r";
+}
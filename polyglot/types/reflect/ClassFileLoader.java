@@ -0,0 +1,18 @@
+package polyglot.types.reflect;
+
+import javax.tools.JavaFileManager.Location;
+
+public interface ClassFileLoader {
+    boolean packageExists(String name);
+    
+    boolean packageExists(Location location, String name);
+    
+    ClassFile loadFile(String name);
+    
+    ClassFile loadFile(Location location, String name);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_5Hkx*^]CegMU;?CkDNfd-f;y0N5-T(<9r<3WKJh%Ba[-dfhaha9#a-b$q:Gg<?78/^7gI*K7FBXMb%[WMkZq>)i%d?HdLC*1ESo/4P<IO(`@9P4iq=ZF1,DGiDKaGkgkYdn*Z+JD%g^sD8y55?/N.Ra*t[`#v/`E5FEhNYlqcT^hV.q7oU`jflB8;&^w5IGBxXtYEw=BPrn@8BIHrZ[IyuLeWD*a$s]l,V6YLk7lOSSs*lAXNrh7k8RS%J$HsY4vZHJ,K4P+-_AckXp>`%4-W.SNLGZjnZ_,VAY($xWqD6DP(p/yq.p5=&/jE)1DP0K_/dxw/xkmoFnQVubrFlH_xCVN6/RhK@p$iZ>`[aRtB:[=JO^UM:,MqM[TqMLQ[V91@MYTk0]_XRA*A_u=s3j1iO@OHZPQ7X6pb=O0l[s2Z+V_ThE)LO3S.1B]Qa8rA$:AOSjwRh[*V/lU^hLv<ocvxolA:g1SxFon1NiI&D,Fi;^#DkS&uBp+k9+%eTlIV#&G;XK*8KY/M0t63%:Ri+RQ)RuL&_w@jR[oZ55vn?ejQ,9,M@5>n,t78sREKb,wRN<HD3B5_%<x4@,&&6Sh@$rHpERLoJVHLMC9#N0*,21sf+vv[*gct+>2?&%6@FYOp&yK3gy^r_4cP96,>)(tCmkL101P71:Qp&+S8nm.w=d:=h:&Qx3_UIcf[Hj3XpWNoa3lGOUZ1l%5VmUM-ysRo8ybOq-xInPa[&.&E()uMlWvIh$W9gv-L,XXh_q4jaQ@tM_Yh)y2)[ZPL/Uepk<06S?F6VYojKP4iW.5c#2O=qs2:c-iW>MO5o(JB(HXU?PV@9m<,e)nnf$:jv5J.MdK^Vl8Y_GLx22AE;9)</=9;Bn-f4p_eN1R>,IygyGdNq]xEVm3swcY]_u9hR;)PEKU?>a((r+,]n.79Qg/UKqK/)F`$@wU=.Wo-JpZvo.h$NPxonMMK3*A0?w[@%l[5;.uryxIb.?(,k?B/-#34u:rc5oEg`fu4HVqJAGHLIaxQV$r/Gnta:P?pdg*Or)XSwEt`83j(#4q,pgUXj>&uSxKd&#*=O9-Z2P:392ESD22)J*Q*lHo=;33o%uy$GC;*cCIMuo3kg1(<Cf,E=n$0COMU8(X0<g^U-`c%eq#8JW39TO1KW<*hN-IH*<I_nnSV,buG><OgCh:<:Y1tM(<*[=^4,_Wj6odAg-LvCjMuA<G@,h=ApI.q+UZ<19l%-vP%`?Onmjvbc_(mMnUQFT6=h1h7/VX@iZnWqpd=cgr(BoONvPlRBNv(,70sa%07Tg`.qS,xpgs)VY6X6?cW]g+#e>#>U?-6$Q]+a3g_44_FP53(8Ub1==)Lv2S1RKd#wNh.D^%b[V?g5S`*He[:9.-$;[3OH[`S-4SyU6JMKO.Kme-WAFM2,48%BE)3>4a7wW;9OvG/ZRRh/1tN;3B=laci*&*L+x=1`iv9vQna]uGnjubRRg-YHF[6Dox.9A*?6ol]qVAE@e<5USImlx*?`(I;:qiMU(DnnLi/XCm9:6ZUpTwkQ.OQN</F@dp6?VvOOn)+=pf2qGv=;C5p/X_pX1SZiP874E:W=em#Uict7pUX$g`?If44Cpi%SLC%RXb[([xWLH&poj=*t>_ch]P3h;q)F^hb9JR=iG*:MJAA-1L@1n#,1,Yd:Qd40NeB77f_6Qw(WWcmgK.kLmg_$xnb&ldPAET@Br9P]9J4jc?T5q8p2/*T(BXL,(Hq1h<7XA#S2I+GvO560YsIuvP3^HdqM?;;lSf/el#6@t3)FJ]V4Pb0W)_#=PHRV(m:/<nCb^vS5<flW@Yd8w`*,nEv8,_2CYtv6kY1A<RYe=WB:P-=$rijY(Ux]]a^Sp>B;B^b4-uh3aovKx4<c[pab<YIN(&X)QAaVs`Nd<xE_/*Qg9IFyv)bcVJq*7r.MFH3L,P^Z[Ff9bEO+EMry+@5`:YP0y;#@dQtt(TAQs)b#<o*A,gUBqJWd&PMcfK5cQGq/Jwd[9Pub?AAZL91S)Q(Pq9WI7%+PO55Yh^[M`Mh&=2HW$kr*))KV2[y[aPo0/F-Kh()y&#4/GYT35Y/Fir+oW68bqmFE08OY3`KK<,/K98/-8y/U?$3^rIPt-5/3II9^>WDLCJnn(OMlJ8jEU-m*8St7gOHC/P6E-v2I2u_rYd[svojy5msx1oO15i7dG[i+7n%4Cy-y:&EI*b(=gF-;.s6?k>nk1J(613D`EgL22)-<(.v*pOgl;wt4er%e@rfeFN>8-?S;xX2XgUpxQt]GHb?9sBZ`J[4$e(w-n_+Y&cc4]9U[U?LfmO)]_#Xf`1BG2wY_$/vS:+h%gfEsorKP8:,+MadY,,Ri:jkywOb]nY]1?NboDbN0<Gxe;L^w=$n,YWcFmHygU^cT7TQjf*4Jo8xHFER.v];R.fA(e[TVyAahKKYRiK@wg@?9wA:t0^?6-TK=j=:W+Iqi#sm$+DS,VY16bWio<LkGjX1]fw$ganom(e4AClJ>3e[$.AJX2#4:k:?`>EZlwp4T9M^_j[;nMFU`,YceD1?mI^g,cY*i2oCd;[4Om@FYSh+Su@Gw4R]q>xpXye9t1l.WB::W**-TAyu&jY_i:kA-`<3gM.BqCU&,y5fl5VE0^k4W^HxrIc6Sukg+E$Gk@1m@;l*oui5cq5@nRbd9P6qGsPWmfsBmt([,?2pY2/EbXHWZ5P_q+_wKT3in@O`k>0PKQp_^Y7m?JotQtY)*F2j*pS%G3aJ>FW#@h1hi/`MrW6W?oPXtL.@.ao38Rk8l1*9-fERSEDlC4k,:C1[xQ*YF#BE62fvglBWtTS31FZ(`P&HnHaMA=FrQ2@M&AU4q;t?1]C_Htx,Y5*-yq707/s7XLFkk9$l(DZ+EAip.>JeAI/+dv^?EeOHRAk-n32tlxCStn6&9P@5qh$//N$I5WRVFSeTM(>r>emm`K&.*-?@%I:p/JCXp7lJwil@C@h@RM51D(Ra,5QCSstUdA,PPl%u=U=r^_w=P5W67qM5bQXQe2tw5yJ7y*gosABgqQitxSENI2TVEiHIl#2K+3nA#-fRC$<gyy;^nm[Hj<=E&0]n9*JjfZcfGwO%eQ;NcYb$Z/&p8y&rm7()7%9";
+}
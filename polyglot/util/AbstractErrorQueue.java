@@ -0,0 +1,62 @@
+package polyglot.util;
+
+public abstract class AbstractErrorQueue implements ErrorQueue {
+    protected boolean flushed;
+    protected int errorCount;
+    protected final int limit;
+    protected final String name;
+    
+    public AbstractErrorQueue(int limit, String name) {
+        super();
+        this.errorCount = 0;
+        this.limit = limit;
+        this.name = name;
+        this.flushed = true;
+    }
+    
+    @Override
+    public final void enqueue(int type, String message) {
+        enqueue(type, message, null);
+    }
+    
+    @Override
+    public final void enqueue(int type, String message, Position position) {
+        enqueue(new ErrorInfo(type, message, position));
+    }
+    
+    @Override
+    public final synchronized void enqueue(ErrorInfo e) {
+        if (e.getErrorKind() != ErrorInfo.WARNING && e.getErrorKind() != ErrorInfo.DEBUG) { errorCount++; }
+        flushed = false;
+        displayError(e);
+        if (errorCount >= limit) {
+            tooManyErrors(e);
+            flush();
+            throw new ErrorLimitError();
+        }
+    }
+    
+    protected abstract void displayError(ErrorInfo error);
+    
+    protected void tooManyErrors(ErrorInfo lastError) {  }
+    
+    @Override
+    public void flush() {
+        flushed = true;
+    }
+    
+    @Override
+    public final boolean hasErrors() {
+        return errorCount > 0;
+    }
+    
+    @Override
+    public final int errorCount() {
+        return errorCount;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792330775665L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<:sw+$I)9r,^ZeaIch]O(%lXW^tFLZFHn49U>IOEdf]<2Ufy7Bj)^9l1BAtn=QAlIL^4-chMF]-J.UFXX>OdD_Nsdn)mAxkVtOGk9n298O?Kte?2m5A6V(oqwIw(8+Hy]E+.Hh.9W9iaEE4ajqR-&S>=p=@1@vTI_1df4MS7?=$ofE_el3ws>bK.3&4Gyh`aXHafas3nOO&nEC%w>i=kMA3=@9Ta$s]l,V7e#G-s;?;vT3rk+fQ%k8RS%5J)R#4vZHJ,K4P+)kTI#9T*WuDSCs6%yQE$f$_a%a$POyJgL_,G,ep4UG$@3<kXU7GW^Z9/EQgW<^dK`9>;<n#)U_:s9SD8(s0AAJ4Op[o;a:#`5u7yc&xS8TE7ZnP8]c5UQqIw&qx6f5.e;*YnB2@0vjIZ*9Kn6-fu_>YCL_^KY+sT(h7Qy@]tO#?m2T-rPwr<F4Txa<&/>a^O8`6Z_[C9^IG7nMBPqYBTE_6]s[qh?p&LB3&/u.XmdvF1yc_^Qpc+OI<gs?WfX2D)o:)H>L.oa>[ba[0NxZ_-fPGM#0EiN>G;M*hkLZs[D,=F21Nvm:Q0qZ`wx/5?T3R,.gN,,J5s&#T,7hiek742jD-`*2u*T>ny.clj&RFk+x<EAi7ryTX=R&lMPmBtKcd,GqNeL0VO7]*7.6c%q_>l7EgPN>p4=d9L919e>7:.#uxo3hW&f$<YCoc`hSSfW+^7F<)0$<3h^TOwo@w*8d8bu8n)p(sb=#B$uMlq(JHBnygv-JoXF$8k4jaQ@_s;m&)y2)+ZP9ySdrQUJ$p10xVQ@3Or_P=v%=`5M?Rsv?#PYTS8ctsMBLi+-o5,A,N)?M%9=d/(D2V[]%u>*oAk4=>Z.FN7YLgI[>>:;2LNw-V.fG%1[jwCsuNi&vEMWnVuAXx$XN,J+Wf(5b/Ll%=P$KwiYJR?llRUmempsp$;)R&O+)js85ZqBkg<wyE82DP:hKOh<GPGI*Kv_PZo?%c)q_15_C=3V4#^NaNA-u8)knUxsjl1#//(JxWqWNV*FYuIeo?K?hZmF)d+XC,0V[S1PW53E<sY;eMt8EnY(i++4jX35sHI_9)mf<;g?Ll,Vss#HW;/BR6EeX)(jZGug<V2+Sg23D1cqhKg44^-TSc&cpcf-QA5M#d)UR*OteN@G2B0G_e#97(T$GAW^#+01iRMjC.X8CxZ0VWPi#eal&a[Ai0nOwLQG,&j0cnc:e;bt.4PiE8j^6aBT*DRI/FMfK>vn*&#dx._avDJ2hoY7eMNPAUZc)i=Y$LV].D*@do-;g8wpmqsRcbe6BZK+)g/lD2smV8o-=R;RejfY-obkAZ%s6k*,[ndMkX>k67Bc`L:w/$x:qd>DyI`Zsm=q56`FJ,b+[i6(pFgj8iW;h,P;E2#XdT_d6)G3ESI2voGAODN*7r&XEoaT/(WO/=rA<3W5>;R?-3IY/i/mAmX/gs$]m<<Duv?Mj9vsfihLmHK`ibt8ZjU>^To.30(Vp<T9gJDQan1+N^Q8hu3H^W^T`6CuCTQiw=cHpk&oac6<Lrcb1qd_.p+;(B$ceA^dK@FI:HPPF=:7WO]K3[8gb@Eqnd4,(A[&ha(g@J$o6;2Wo5dnPe5e/?T+`.hNG?7$vlNFFf^]Y=]tfGOk@INfFD$Vaiw5hsK`2J;Vg.Cwv<>Yit2Mf^,N>l2nAXiA7oaeuwUTNmE^%gVF+Jw<vTLudG]a`_2fwc&.PHipKpEL<KTaT2MZUcMOEtXilR[h$5F.$Sui,s;$/T*N$U8u4r/jf4FOJiV#hg-$8Q[>%tJ:F3iFDpsiuTFoP6,2TEcrg*+oiZ(S_o:NHR-FF7:pU>h=JA@2l9JTvUM`q+`/?ZjZW][Q^K11A<6P_-Z%,e&70W]45[J8UE844Ih^Te+Dh(n^ED.M/aFB1%jJn=_$9?bI0sa$%%Sd)JRKy9*9`RCSc5&:rDM8lhgA_5/D0-4CXi91Ldw_%sNP9[B42`c<>Nh[TK3YiAky.1.)ch*n9cjl7-$8u(car8fELx)aq@,lAh&]:W8=]eqK5UPrmxmMKHq>[(a:c3wU<v^FoCg]O6mG2_#H9e]r]W++2D[K<nFNNun@xhHv^un4G*wxW@-:+E[PL>yqp>R(tqdfaRT/meljnuQ9[#*P8pY09R9-ZvWXA__saLuPT5RV&Bm/j1duUb]kFq$p=Gb=t1Uoq9R`vaXr9`UsgLZIeg_5x3&p0s@Ktgl1eTEEo^;5q($r@vpw:]=JSk3EcNe(0)NgV2Ds1+c$Xqfv#<&nvG3K:4Z3:fd(ax[L9i+96IFuSJ)IaT?*W^Zr288@=0&jmFd;S/8CHeGTBN6M5_?/JNZWCYZneG%9(K7NwT`GWf*Lsnc2`[Bvm00_9/I_IS%.Zl+HYO)Q)Ayg<0kvwI2L^amnB:`Scb>[w-$na`ZY4[Q)`IIqV8C205r[<sfK;j<v-#J:y*n>q&I)/]A4&pv**nT]*ZUvBVv9*_EF5.EiWiQYuA^KZ@FZ@k,GtqI97_mg]%s=0[jbZx5O(x]#):fDGbEk6hU6>J[`<u5ulh(Ot/ufUGiF_yM,1*1a;C@+coxLjJ2NsXC+y+1HPSjR3X+3A+H6kW@#tV(<JhMWl8M>-#=>xDIm<GJ`F1THkTS/uk6;$u_H2Q%O?pnD@d$7%cm30?5$N8_=rL5OoX@yLoG?5?9h#JFSoCoPjJY9?-]);O*Ku,6V&JaOaRlm5-)<BPRu%.uAbO.r?/xAq4cgVPWQs/%ur[($Cn;C+&%$+*#,ec_d,&ivU[:HswXTX*Oqnrq&jC,uyEqX,Flh^J<u2#oGXN>Aw<L#>@<,BAe@.ox_^E1(`6_Hgv+SkE0/)Mb6JUv8mNRl`Ohh?i&vjsmf435`S<-,dWNW*1RS]f>h/NJ7aHCCD0hi75)=BN;q`4mAX,1B0,>QboO*O,e]nV]8&L2WG+lD?2a`s9Gwtarf++a+0NZMqd6g57k5`P%pr,K[M(?U1]Fem1GX(K$y,@Y5#]ofl4MLp(%)oRgXUggiNr=r3N-IQE[dPakvIiU./a^<y<6$%9>0w%[hLln#d]>oMJQlp;S[V_r<Cs23IwXyAfa8@K$>EGLA4G$aylW[Njbrw*X2iN4pbWB9cC-M?3ys_p)Sw26XK;[)`-Im/o.LL?HDtGvI+1N<Y";
+}
@@ -0,0 +1,25 @@
+package polyglot.util;
+
+public final class Assert {
+    public static void check(boolean ok) { if (!ok) throw new AssertionFailedError("Assertion failed"); }
+    
+    public static void check(String condition, boolean ok) { if (!ok) throw new AssertionFailedError("Assertion \"" + condition + "\" failed."); }
+    
+    private Assert() { super(); }
+    
+    private static class AssertionFailedError extends Error {
+        private static final long serialVersionUID = SerialVersionUID.generate();
+        
+        public AssertionFailedError(String s) { super(s); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Ss$=U*Oh06uKcmbbI3kmorjgm`M%$*17G($_Zt1oWs%_j<U%_UY3jlxqWf,T[&CtDLl68%CNTN6h4I&&/esTGQGXm<*<sJZ%ja,?)7=v*:W@eoa9I2$2)o8-DsBfH5x0[Z6K8Jk+gon#ZXhLy@j$HLXur]U^9:y%)O7i7aZ>D+$ujX%Fd$.#31MjN&2H,*M&CIdH_1Oe1yKuUSySc,=FO8H0@Uiuq.pmTd#uVvcgyXe(RM)#OYj6BAMjV,%=d2=m@p]FBq/]+NN*C8?^>F0PP_OS_oV>q=l,%($s9$d?xgHx*`3kSEQZ>tPfI]M#(Bt:w-^$+:s)BM2lR_es2,$221CQT`^/8Z226s8MAGjqIt,6,cEjhr*LZI$X,X82;Dogd>_?xbP+Z7A,ZgB==u:c]1&yB*S%d7P<SBmZJP;N<)x#Na9G4BP+/(#K@`Vi>P<3yEDBH1N5*uWwuaN=B$K>V$2?FT?t8p,.*_B8]Xl.Ck+*$@p35Fd+UcF:Xc9DO8=%#gp,&sr8AyFo/4i4<X2MTKxR[V`hO7th88f`vqKj<=t/Fl<(PL:lKg49L.;qrMX-`3;>I,3Y)LJ=%bdTvjIP*.YUs,]mDN@(8kOi`];U%$3@cB],5``6KI#0ni:jV$SPnj.Q*F.(Aw3IudIp3hIu$?)%;t9W&eEov2TPq;GMZM;BPqyn6TLyie%S44ZIZqYX:C8,kd`g2uyJ;uxlvP^u1nX2%[OoBi:&%6c2DA5=X*Ya,3d(J$V*[?[mJJ10&OI(]DaD<d^9$l+ZTPIUef8_-RCU/RH0oIqp)pYcH(I_YZ=54*1&P_IWKr/jRB]1M70wCM<?NN]y?C5u5h$UTgbjMATgQp>+hMf87S53J-mu(c4F=qx+N4F0g^=RYh3Y5Fw8*;B&hC]V`Pj7NDl&T&@5no@0_NG3RCc;iG6uH.D<tS*_*/q,s$FYTEZm6N)Y,@f=5LuEt_B8;=W:Pd2gEH-km0.]c/c8Zbe_:=:uh.b%R;VI#e7T-M9DIC:hVv:M53k6-*DbKu,kA(#-,kbCJCeW&)yW9I;;CZG?daJN9An-Q3>yh&X^a[gv&ZQ&*5jLbm*M$E_JHyP)c6)i=2&vr)60TSHCiJo?+`X;N@[-Tqv75Rr<%Z768EtH)`gjUFYR*H?KcTA^-GeO);#f_*Np;tokfaCt^<bs`CSXu4AnTGarHkUMw0gVr4^H$L=1`)%j+o?Z<<0E`._MP-?:6%4O;]Rd`r,t3KqEBt`Ftq]&[;=jp)uaO&IshTU-jF+/GNk@bl`adO@Sf%UUx*G$CfI2RVVT]D,bld,W^p;_v.Vf]1wFf_8foT_Sb0.6=_PHlg,*<y/Y;H%(,KHU[EeV>b9RdStGv(>*7U&Fg+=]5eD[R9$Wmo1bON7t);-rv7jS)xYI>?sA_2DnL-J3n/P*UZ[<j4Z8@nr4m#dcm]NtAMg/BO/4@:Mdp8/X>KsT_y=0&Lp/0dH79Z]0Zp>:+@Ye,=qY@X^f:j`*/yT+_vg^KPp&$-B+d%;PB>=/XNdNjSa[Kt$iFn&t%DmM5LIWrv[PqX[*$d+7VloW`65SQ.e]QFYgS,D,i$4pf#ifMNN&WC6l=PeE54T3[B6[v`/.Hk`XZ7pLrZgE=K<>PX*Hqu6gWFAkMb&ob,h+^a2G^72ROqwn&(ZNvkX]JtM[?#PoHxeF@H&dV9ytGMc(f4sov1#`b*%MO3:J^hbgO$Uw/o+KI)Z>(XhSVjx/RsEac*(3:naDAT.irACKFX<MivR+Wi_UVv^WbJcIjwPoZ@1T`P4?9`KGo/Jd/4XkYnlouw:Oj>v.vkaE6@r8gi,,IyU4dmhoh5k49:dBEC8A<0FQ[VluDmA[2lq`J%3Dt7<Ab%T?U&kry17-rgdEp3:Re9[5HpDD?3qcU6VldtL>han9ANGnQ-o.nZgVV2sO]8;(%dQVP%p4HYdqy9ZkdC/u6r<7&n=Rct3+YvL*Ajaf4^[q/V3ZS9sTe4(fErCajNn&:?95fZTgCyldLTVFl[o(0u5&a`Bk8a+O:(KG?Tgh<3`rg__psup4Gi9HCbmge#N<Kh9T*tBo?%5X_iGV0yibQD3E+(@DUO)#%W(Qjm]QJ-N`/fj(23Z6bET=.t57c^5g@YYI6y[ej17WNu#%DvXo:6x;)2.hj,$t4oY3HR**rIMps[TmK_XDs^2Hk,_XIWXHX[,mVk7a=kP_KC3iy_Xmt(X;M4S$^MoX=t.bqmD`>X]PIvMa9+^yV9xr#<LqU(K0GP<6#lN.Bg%DP4qjHN3S.6YtV]tTmTZHN/2QvvQ";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Syle>*Oe$9a@tua_39qToT>@(2d,@j*8d2b<4x3MG1ssU/(`DIj6AluaEqlQ;&QFK%6%oV^pkbG=FrZ/*hP/HBxvC?Mlf+T*fiG^Mi)On$_7*iLuMFp.7l=Ben3:wv<&?HoDXBKv&NTCIE%KFrv?dU/pwPaMVjHtMI+[i)TjmioV2.C:qeOl+y9qx0VCOMa:*H@[Pk&>KhRvD>/icQ;TFc2jPO^T-#qnb5><A;`6ZucJekE7$>@4hN75oHQI@^e_^uxf6&kq)9nVDP8tiu)juR*qdH8bP9^i-Y):_iM*:(JF?xlT[$S%N$EV(oW<jDS<$8s;=e&&+3kUTfnIaw#pI/(R=p_vb<GboN8&m/.5=N$h)6&MYsm2l;H*^adq[>jHK%diSR>Bg,R+]3pyT=C:wav<2=$v,Y9IL]9(VS6b#E7oG91l`l#K<vqZVpUNsC9*Mln_?^k#0Ek(ITIIOhZr^r=aiN-Z&+-OTO&r2P(H]MlQBF=w$]2&j$?wl3j@D]_QdNm1g`:/$cDl2:?G-@#:GmH#Q0N13iK@@FMABINdWx#gpxGV0[TuW#fPcONuMWi4?*[8?;qG5fw.0J5#w5$^qj?1Hw1FYSw9BN?Rx,-d,6XJ:GwUd>0mw]=o#V_+Hns0m&1>BBfD/lha4KKs=3Ic*Mtn2kW[9Id5#<S31hO`8.A#_eReE]X?_wvgJLBIA`TpKRHsv(Qg_$>A.I:Bl8i1RdLH86C9>XK?E4]K6(A^r`3j@$Ba/^%&QvyU>%waD.l&9js),V`1CDJ,:)*v8q6p4Q>r7CwN;KA?Mwr+yb-S,-YV7t@d:W<69R7IHPswyQ/HwIC7fT_`=jju#<mr@Q8wpKC=*L-v$#VwWN4>@QK*7f-4C7RaCC$IS>PO#I>vr><us%f[U_5*^L5EWa3N(v@E]PvkV60=h+x;?T*][Tn,PI(R24U_iKC@Z%LHVu6dV/;lEP+nNhqLWgf3fEi9q>eCUT-IEaEB=Ga^EHZ5FaV?+$5NB*Wtlfn-2T<?1*.CGuqR#EQ5F9kE#XShXlnE;_KZ[9[=IK$FW>_BZVlOovXyptV,NI9tPl?8h^*`1g$cwS/F%?9vaNq=gSNBHF&Kt1M/%93nSk1Dwh^)^O=`uHG`6yUOqZjmL3Sf`mQZbq?jvdi:kQi+woJ*Y)jErOKlGBo$aB^g^_NUCIDm79h#Zr4<W/eMVpN?Wcr.uoEhJSq[=)y#,S8@p<LUQ9agjX9;;%goL7k2J7o*4];)ownc>=c$GR;xFLsAl-,nNKDu1ny/snGE)hW.TO.N&/n89^QiYIt,NURjj3dEY7CiK1@t9];9RF<LQ;%qaYbqaed(JJvHfIP;Id^vsmd(qgPdqMOpdRW1*NgR0TnU..YLZ2(D#aXJ>CUud5c&.=>8k7$3YONY($3W)b_)JlLhL3eckS.Q7-o9Wy`HGJtSA%1qdI-sdK<pB0rR;v7/h=]A=D&QaOaTA`*/vmve=mgNCoYh;mO5VeIBp.i/>d-^VCm7Gu9o`=Y+F`H:A;%w9w<f_D^/XJ,aOO6XrqcG<;JeNu<]B_?GiPD7@Fy8/>yN2[i1P7^B`-VCREMX<Dp2/Z5*b,*l_kD46&GTugH0[nS_8=Y=2c?q+/HqE8Ea]HJUPLj^NccjdJ4,P7e6e.%w5uNhibeMAl5b4-7??q:a2T@^;NZ](RVf$_+yDv,P2F9A]w@rBX68RLSA^pa8FWa5I(1PqFg0U;QW<5d<>lN3wfm?OT:99x^n3<M)yQMDQ(L(/T=evE:O(Vv&WNun,_lMY.G78LvSFiH&@]jnDc`j%j@;uPuVKWovAZ5yumx@qB/_fK>>*JmMv&J(M`/m%t)=droxSjN`Q.*t&Qsp;VVaB<k=8Pr-1,m=7X3WA$;n6bM.o0XYM`>o8RQ4pYaXfxPWR/Bl=F,^DwahFmn$<X^#*ug0]<N%8PM4E=6+G>&/<d%*9t,.g5qa$*5:%k.5h0#tO8;[nr>h1$jXUrb:O/QXu4,^a@sE$vUoR_AT/*Q(4Z?OD7,sPRX-SHOuEbbl<:5Kr#*JU_L6a<n>>,5yU0p5Ktto_=d1.H<=G;ncY4C^7YHPcaeqtpF%RHrq$vH1&0`[?*uOs-*,w:ld4H<6&Aqo(^v>;oi1HLOWxpN6S,)#Jt`+k.lT1=/A=RRlf`tJ^bKSDD%s[K;9]9,8BM.O<UEEHc$H`Bhsh_05=;QW9S-yl4lMegT+ye(N/$DQ6K]0th@+e?^5WhYZI0*T1sAhJRIbL*vhIgf9AAogU,pKi=k=dAX2Y%.;Nw<o@q([B],_SLj";
+}
@@ -0,0 +1,653 @@
+package polyglot.util;
+
+@SuppressWarnings({ "rawtypes", "resource" }) 
+public class Base64 {
+    public static final int NO_OPTIONS = 0;
+    public static final int ENCODE = 1;
+    public static final int DECODE = 0;
+    public static final int GZIP = 2;
+    public static final int DONT_GUNZIP = 4;
+    public static final int DO_BREAK_LINES = 8;
+    public static final int URL_SAFE = 16;
+    public static final int ORDERED = 32;
+    private static final int MAX_LINE_LENGTH = 76;
+    private static final byte EQUALS_SIGN = (byte) '=';
+    private static final byte NEW_LINE = (byte) '\n';
+    private static final String PREFERRED_ENCODING = "US-ASCII";
+    private static final byte WHITE_SPACE_ENC = -5;
+    private static final byte EQUALS_SIGN_ENC = -1;
+    private static final byte[] _STANDARD_ALPHABET = { (byte) 'A', (byte) 'B', (byte) 'C', (byte) 'D', (byte) 'E', (byte) 'F', (byte) 'G', (byte) 'H', (byte) 'I', (byte) 'J', (byte) 'K', (byte) 'L', (byte) 'M', (byte) 'N', (byte) 'O', (byte) 'P', (byte) 'Q', (byte) 'R', (byte) 'S', (byte) 'T', (byte) 'U', (byte) 'V', (byte) 'W', (byte) 'X', (byte) 'Y', (byte) 'Z', (byte) 'a', (byte) 'b', (byte) 'c', (byte) 'd', (byte) 'e', (byte) 'f', (byte) 'g', (byte) 'h', (byte) 'i', (byte) 'j', (byte) 'k', (byte) 'l', (byte) 'm', (byte) 'n', (byte) 'o', (byte) 'p', (byte) 'q', (byte) 'r', (byte) 's', (byte) 't', (byte) 'u', (byte) 'v', (byte) 'w', (byte) 'x', (byte) 'y', (byte) 'z', (byte) '0', (byte) '1', (byte) '2', (byte) '3', (byte) '4', (byte) '5', (byte) '6', (byte) '7', (byte) '8', (byte) '9', (byte) '+', (byte) '/' };
+    private static final byte[] _STANDARD_DECODABET = { -9, -9, -9, -9, -9, -9, -9, -9, -9, -5, -5, -9, -9, -5, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -5, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, 62, -9, -9, -9, 63, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, -9, -9, -9, -1, -9, -9, -9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, -9, -9, -9, -9, -9, -9, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9,
+    -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9 };
+    private static final byte[] _URL_SAFE_ALPHABET = { (byte) 'A', (byte) 'B', (byte) 'C', (byte) 'D', (byte) 'E', (byte) 'F', (byte) 'G', (byte) 'H', (byte) 'I', (byte) 'J', (byte) 'K', (byte) 'L', (byte) 'M', (byte) 'N', (byte) 'O', (byte) 'P', (byte) 'Q', (byte) 'R', (byte) 'S', (byte) 'T', (byte) 'U', (byte) 'V', (byte) 'W', (byte) 'X', (byte) 'Y', (byte) 'Z', (byte) 'a', (byte) 'b', (byte) 'c', (byte) 'd', (byte) 'e', (byte) 'f', (byte) 'g', (byte) 'h', (byte) 'i', (byte) 'j', (byte) 'k', (byte) 'l', (byte) 'm', (byte) 'n', (byte) 'o', (byte) 'p', (byte) 'q', (byte) 'r', (byte) 's', (byte) 't', (byte) 'u', (byte) 'v', (byte) 'w', (byte) 'x', (byte) 'y', (byte) 'z', (byte) '0', (byte) '1', (byte) '2', (byte) '3', (byte) '4', (byte) '5', (byte) '6', (byte) '7', (byte) '8', (byte) '9', (byte) '-', (byte) '_' };
+    private static final byte[] _URL_SAFE_DECODABET = { -9, -9, -9, -9, -9, -9, -9, -9, -9, -5, -5, -9, -9, -5, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -5, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, 62, -9, -9, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, -9, -9, -9, -1, -9, -9, -9, 0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, -9, -9, -9, -9, 63, -9, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, 37, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9,
+    -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9 };
+    private static final byte[] _ORDERED_ALPHABET = { (byte) '-', (byte) '0', (byte) '1', (byte) '2', (byte) '3', (byte) '4', (byte) '5', (byte) '6', (byte) '7', (byte) '8', (byte) '9', (byte) 'A', (byte) 'B', (byte) 'C', (byte) 'D', (byte) 'E', (byte) 'F', (byte) 'G', (byte) 'H', (byte) 'I', (byte) 'J', (byte) 'K', (byte) 'L', (byte) 'M', (byte) 'N', (byte) 'O', (byte) 'P', (byte) 'Q', (byte) 'R', (byte) 'S', (byte) 'T', (byte) 'U', (byte) 'V', (byte) 'W', (byte) 'X', (byte) 'Y', (byte) 'Z', (byte) '_', (byte) 'a', (byte) 'b', (byte) 'c', (byte) 'd', (byte) 'e', (byte) 'f', (byte) 'g', (byte) 'h', (byte) 'i', (byte) 'j', (byte) 'k', (byte) 'l', (byte) 'm', (byte) 'n', (byte) 'o', (byte) 'p', (byte) 'q', (byte) 'r', (byte) 's', (byte) 't', (byte) 'u', (byte) 'v', (byte) 'w', (byte) 'x', (byte) 'y', (byte) 'z' };
+    private static final byte[] _ORDERED_DECODABET = { -9, -9, -9, -9, -9, -9, -9, -9, -9, -5, -5, -9, -9, -5, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -5, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, 0, -9, -9, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, -9, -9, -9, -1, -9, -9, -9, 11, 12, 13, 14, 15, 16, 17, 18, 19, 20, 21, 22, 23, 24, 25, 26, 27, 28, 29, 30, 31, 32, 33, 34, 35, 36, -9, -9, -9, -9, 37, -9, 38, 39, 40, 41, 42, 43, 44, 45, 46, 47, 48, 49, 50, 51, 52, 53, 54, 55, 56, 57, 58, 59, 60, 61, 62, 63, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9,
+    -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9, -9 };
+    
+    private static final byte[] getAlphabet(int options) { if ((options & URL_SAFE) == URL_SAFE) { return _URL_SAFE_ALPHABET; } else if ((options & ORDERED) == ORDERED) { return _ORDERED_ALPHABET; } else { return _STANDARD_ALPHABET; } }
+    
+    private static final byte[] getDecodabet(int options) { if ((options & URL_SAFE) == URL_SAFE) { return _URL_SAFE_DECODABET; } else if ((options & ORDERED) == ORDERED) { return _ORDERED_DECODABET; } else { return _STANDARD_DECODABET; } }
+    
+    private Base64() { super(); }
+    
+    private static byte[] encode3to4(byte[] b4, byte[] threeBytes, int numSigBytes, int options) {
+        encode3to4(threeBytes, 0, numSigBytes, b4, 0, options);
+        return b4;
+    }
+    
+    private static byte[] encode3to4(byte[] source, int srcOffset, int numSigBytes, byte[] destination, int destOffset, int options) {
+        byte[] ALPHABET = getAlphabet(options);
+        int inBuff = (numSigBytes > 0 ? source[srcOffset] << 24 >>> 8 : 0) | (numSigBytes > 1 ? source[srcOffset + 1] << 24 >>> 16 : 0) | (numSigBytes > 2 ? source[srcOffset + 2] << 24 >>> 24 : 0);
+        switch (numSigBytes) {
+            case 3:
+                destination[destOffset] = ALPHABET[inBuff >>> 18];
+                destination[destOffset + 1] = ALPHABET[inBuff >>> 12 & 63];
+                destination[destOffset + 2] = ALPHABET[inBuff >>> 6 & 63];
+                destination[destOffset + 3] = ALPHABET[inBuff & 63];
+                return destination;
+            case 2:
+                destination[destOffset] = ALPHABET[inBuff >>> 18];
+                destination[destOffset + 1] = ALPHABET[inBuff >>> 12 & 63];
+                destination[destOffset + 2] = ALPHABET[inBuff >>> 6 & 63];
+                destination[destOffset + 3] = EQUALS_SIGN;
+                return destination;
+            case 1:
+                destination[destOffset] = ALPHABET[inBuff >>> 18];
+                destination[destOffset + 1] = ALPHABET[inBuff >>> 12 & 63];
+                destination[destOffset + 2] = EQUALS_SIGN;
+                destination[destOffset + 3] = EQUALS_SIGN;
+                return destination;
+            default:
+                return destination;
+        }
+    }
+    
+    public static void encode(java.nio.ByteBuffer raw, java.nio.ByteBuffer encoded) {
+        byte[] raw3 = new byte[3];
+        byte[] enc4 = new byte[4];
+        while (raw.hasRemaining()) {
+            int rem = Math.min(3, raw.remaining());
+            raw.get(raw3, 0, rem);
+            Base64.encode3to4(enc4, raw3, rem, Base64.NO_OPTIONS);
+            encoded.put(enc4);
+        }
+    }
+    
+    public static void encode(java.nio.ByteBuffer raw, java.nio.CharBuffer encoded) {
+        byte[] raw3 = new byte[3];
+        byte[] enc4 = new byte[4];
+        while (raw.hasRemaining()) {
+            int rem = Math.min(3, raw.remaining());
+            raw.get(raw3, 0, rem);
+            Base64.encode3to4(enc4, raw3, rem, Base64.NO_OPTIONS);
+            for (int i = 0; i < 4; i++) { encoded.put((char) (enc4[i] & 255)); }
+        }
+    }
+    
+    public static String encodeObject(java.io.Serializable serializableObject) throws java.io.IOException { return encodeObject(serializableObject, NO_OPTIONS); }
+    
+    public static String encodeObject(java.io.Serializable serializableObject, int options) throws java.io.IOException {
+        if (serializableObject == null) { throw new NullPointerException("Cannot serialize a null object."); }
+        java.io.ByteArrayOutputStream baos = null;
+        java.io.OutputStream b64os = null;
+        java.util.zip.GZIPOutputStream gzos = null;
+        java.io.ObjectOutputStream oos = null;
+        try {
+            baos = new java.io.ByteArrayOutputStream();
+            b64os = new OutputStream(baos, ENCODE | options);
+            if ((options & GZIP) != 0) {
+                gzos = new java.util.zip.GZIPOutputStream(b64os);
+                oos = new java.io.ObjectOutputStream(gzos);
+            } else {
+                oos = new java.io.ObjectOutputStream(b64os);
+            }
+            oos.writeObject(serializableObject);
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { oos.close(); }
+            catch (Exception e) {  }
+            try { gzos.close(); }
+            catch (Exception e) {  }
+            try { b64os.close(); }
+            catch (Exception e) {  }
+            try { baos.close(); }
+            catch (Exception e) {  }
+        }
+        try { return new String(baos.toByteArray(), PREFERRED_ENCODING); }
+        catch (java.io.UnsupportedEncodingException uue) { return new String(baos.toByteArray()); }
+    }
+    
+    public static String encodeBytes(byte[] source) {
+        String encoded = null;
+        try { encoded = encodeBytes(source, 0, source.length, NO_OPTIONS); }
+        catch (java.io.IOException ex) { assert false: ex.getMessage(); }
+        assert encoded != null;
+        return encoded;
+    }
+    
+    public static String encodeBytes(byte[] source, int options) throws java.io.IOException { return encodeBytes(source, 0, source.length, options); }
+    
+    public static String encodeBytes(byte[] source, int off, int len) {
+        String encoded = null;
+        try { encoded = encodeBytes(source, off, len, NO_OPTIONS); }
+        catch (java.io.IOException ex) { assert false: ex.getMessage(); }
+        assert encoded != null;
+        return encoded;
+    }
+    
+    public static String encodeBytes(byte[] source, int off, int len, int options) throws java.io.IOException {
+        byte[] encoded = encodeBytesToBytes(source, off, len, options);
+        try { return new String(encoded, PREFERRED_ENCODING); }
+        catch (java.io.UnsupportedEncodingException uue) { return new String(encoded); }
+    }
+    
+    public static byte[] encodeBytesToBytes(byte[] source) {
+        byte[] encoded = null;
+        try { encoded = encodeBytesToBytes(source, 0, source.length, Base64.NO_OPTIONS); }
+        catch (java.io.IOException ex) { assert false: "IOExceptions only come from GZipping, which is turned off: " + ex.getMessage(); }
+        return encoded;
+    }
+    
+    public static byte[] encodeBytesToBytes(byte[] source, int off, int len, int options) throws java.io.IOException {
+        if (source == null) { throw new NullPointerException("Cannot serialize a null array."); }
+        if (off < 0) { throw new IllegalArgumentException("Cannot have negative offset: " + off); }
+        if (len < 0) { throw new IllegalArgumentException("Cannot have length offset: " + len); }
+        if (off + len > source.length) { throw new IllegalArgumentException(String.format("Cannot have offset of %d and length of %d with array of length %d", off, len, source.length)); }
+        if ((options & GZIP) != 0) {
+            java.io.ByteArrayOutputStream baos = null;
+            java.util.zip.GZIPOutputStream gzos = null;
+            OutputStream b64os = null;
+            try {
+                baos = new java.io.ByteArrayOutputStream();
+                b64os = new OutputStream(baos, ENCODE | options);
+                gzos = new java.util.zip.GZIPOutputStream(b64os);
+                gzos.write(source, off, len);
+                gzos.close();
+            }
+            catch (java.io.IOException e) { throw e; }
+            finally {
+                try { gzos.close(); }
+                catch (Exception e) {  }
+                try { b64os.close(); }
+                catch (Exception e) {  }
+                try { baos.close(); }
+                catch (Exception e) {  }
+            }
+            return baos.toByteArray();
+        } else {
+            boolean breakLines = (options & DO_BREAK_LINES) != 0;
+            int encLen = len / 3 * 4 + (len % 3 > 0 ? 4 : 0);
+            if (breakLines) { encLen += encLen / MAX_LINE_LENGTH; }
+            byte[] outBuff = new byte[encLen];
+            int d = 0;
+            int e = 0;
+            int len2 = len - 2;
+            int lineLength = 0;
+            for (; d < len2; d += 3, e += 4) {
+                encode3to4(source, d + off, 3, outBuff, e, options);
+                lineLength += 4;
+                if (breakLines && lineLength >= MAX_LINE_LENGTH) {
+                    outBuff[e + 4] = NEW_LINE;
+                    e++;
+                    lineLength = 0;
+                }
+            }
+            if (d < len) {
+                encode3to4(source, d + off, len - d, outBuff, e, options);
+                e += 4;
+            }
+            if (e <= outBuff.length - 1) {
+                byte[] finalOut = new byte[e];
+                System.arraycopy(outBuff, 0, finalOut, 0, e);
+                return finalOut;
+            } else {
+                return outBuff;
+            }
+        }
+    }
+    
+    private static int decode4to3(byte[] source, int srcOffset, byte[] destination, int destOffset, int options) {
+        if (source == null) { throw new NullPointerException("Source array was null."); }
+        if (destination == null) { throw new NullPointerException("Destination array was null."); }
+        if (srcOffset < 0 || srcOffset + 3 >= source.length) { throw new IllegalArgumentException(String.format("Source array with length %d cannot have offset of %d and still process four bytes.", source.length, srcOffset)); }
+        if (destOffset < 0 || destOffset + 2 >= destination.length) { throw new IllegalArgumentException(String.format("Destination array with length %d cannot have offset of %d and still store three bytes.", destination.length, destOffset)); }
+        byte[] DECODABET = getDecodabet(options);
+        if (source[srcOffset + 2] == EQUALS_SIGN) {
+            int outBuff = (DECODABET[source[srcOffset]] & 255) << 18 | (DECODABET[source[srcOffset + 1]] & 255) << 12;
+            destination[destOffset] = (byte) (outBuff >>> 16);
+            return 1;
+        } else if (source[srcOffset + 3] == EQUALS_SIGN) {
+            int outBuff = (DECODABET[source[srcOffset]] & 255) << 18 | (DECODABET[source[srcOffset + 1]] & 255) << 12 | (DECODABET[source[srcOffset + 2]] & 255) << 6;
+            destination[destOffset] = (byte) (outBuff >>> 16);
+            destination[destOffset + 1] = (byte) (outBuff >>> 8);
+            return 2;
+        } else {
+            int outBuff = (DECODABET[source[srcOffset]] & 255) << 18 | (DECODABET[source[srcOffset + 1]] & 255) << 12 | (DECODABET[source[srcOffset + 2]] & 255) << 6 | DECODABET[source[srcOffset + 3]] & 255;
+            destination[destOffset] = (byte) (outBuff >> 16);
+            destination[destOffset + 1] = (byte) (outBuff >> 8);
+            destination[destOffset + 2] = (byte) outBuff;
+            return 3;
+        }
+    }
+    
+    public static byte[] decode(byte[] source) throws java.io.IOException {
+        byte[] decoded = null;
+        decoded = decode(source, 0, source.length, Base64.NO_OPTIONS);
+        return decoded;
+    }
+    
+    public static byte[] decode(byte[] source, int off, int len, int options) throws java.io.IOException {
+        if (source == null) { throw new NullPointerException("Cannot decode null source array."); }
+        if (off < 0 || off + len > source.length) { throw new IllegalArgumentException(String.format("Source array with length %d cannot have offset of %d and process %d bytes.", source.length, off, len)); }
+        if (len == 0) { return new byte[0]; } else if (len < 4) { throw new IllegalArgumentException("Base64-encoded string must have at least four characters, but length specified was " + len); }
+        byte[] DECODABET = getDecodabet(options);
+        int len34 = len * 3 / 4;
+        byte[] outBuff = new byte[len34];
+        int outBuffPosn = 0;
+        byte[] b4 = new byte[4];
+        int b4Posn = 0;
+        int i = 0;
+        byte sbiDecode = 0;
+        for (i = off; i < off + len; i++) {
+            sbiDecode = DECODABET[source[i] & 255];
+            if (sbiDecode >= WHITE_SPACE_ENC) {
+                if (sbiDecode >= EQUALS_SIGN_ENC) {
+                    b4[b4Posn++] = source[i];
+                    if (b4Posn > 3) {
+                        outBuffPosn += decode4to3(b4, 0, outBuff, outBuffPosn, options);
+                        b4Posn = 0;
+                        if (source[i] == EQUALS_SIGN) { break; }
+                    }
+                }
+            } else {
+                throw new java.io.IOException(String.format("Bad Base64 input character decimal %d in array position %d", source[i] & 255, i));
+            }
+        }
+        byte[] out = new byte[outBuffPosn];
+        System.arraycopy(outBuff, 0, out, 0, outBuffPosn);
+        return out;
+    }
+    
+    public static byte[] decode(String s) throws java.io.IOException { return decode(s, NO_OPTIONS); }
+    
+    public static byte[] decode(String s, int options) throws java.io.IOException {
+        if (s == null) { throw new NullPointerException("Input string was null."); }
+        byte[] bytes;
+        try { bytes = s.getBytes(PREFERRED_ENCODING); }
+        catch (java.io.UnsupportedEncodingException uee) { bytes = s.getBytes(); }
+        bytes = decode(bytes, 0, bytes.length, options);
+        boolean dontGunzip = (options & DONT_GUNZIP) != 0;
+        if (bytes != null && bytes.length >= 4 && !dontGunzip) {
+            int head = bytes[0] & 255 | bytes[1] << 8 & 65280;
+            if (java.util.zip.GZIPInputStream.GZIP_MAGIC == head) {
+                java.io.ByteArrayInputStream bais = null;
+                java.util.zip.GZIPInputStream gzis = null;
+                java.io.ByteArrayOutputStream baos = null;
+                byte[] buffer = new byte[2048];
+                int length = 0;
+                try {
+                    baos = new java.io.ByteArrayOutputStream();
+                    bais = new java.io.ByteArrayInputStream(bytes);
+                    gzis = new java.util.zip.GZIPInputStream(bais);
+                    while ((length = gzis.read(buffer)) >= 0) { baos.write(buffer, 0, length); }
+                    bytes = baos.toByteArray();
+                }
+                catch (java.io.IOException e) { e.printStackTrace(); }
+                finally {
+                    try { baos.close(); }
+                    catch (Exception e) {  }
+                    try { gzis.close(); }
+                    catch (Exception e) {  }
+                    try { bais.close(); }
+                    catch (Exception e) {  }
+                }
+            }
+        }
+        return bytes;
+    }
+    
+    public static Object decodeToObject(String encodedObject) throws java.io.IOException, ClassNotFoundException { return decodeToObject(encodedObject, NO_OPTIONS, null); }
+    
+    public static Object decodeToObject(String encodedObject, int options, final ClassLoader loader) throws java.io.IOException, ClassNotFoundException {
+        byte[] objBytes = decode(encodedObject, options);
+        java.io.ByteArrayInputStream bais = null;
+        java.io.ObjectInputStream ois = null;
+        Object obj = null;
+        try {
+            bais = new java.io.ByteArrayInputStream(objBytes);
+            if (loader == null) {
+                ois = new java.io.ObjectInputStream(bais);
+            } else {
+                ois = new java.io.ObjectInputStream(bais) {
+                          @Override
+                          public Class<?> resolveClass(java.io.ObjectStreamClass streamClass)
+                                throws java.io.IOException,
+                              ClassNotFoundException {
+                              java.lang.Class c = Class.forName(streamClass.getName(), false, loader);
+                              if (c == null) { return super.resolveClass(streamClass); } else { return c; }
+                          }
+                      };
+            }
+            obj = ois.readObject();
+        }
+        catch (java.io.IOException e) { throw e; }
+        catch (ClassNotFoundException e) { throw e; }
+        finally {
+            try { bais.close(); }
+            catch (Exception e) {  }
+            try { ois.close(); }
+            catch (Exception e) {  }
+        }
+        return obj;
+    }
+    
+    public static void encodeToFile(byte[] dataToEncode, String filename) throws java.io.IOException {
+        if (dataToEncode == null) { throw new NullPointerException("Data to encode was null."); }
+        OutputStream bos = null;
+        try {
+            bos = new OutputStream(new java.io.FileOutputStream(filename), Base64.ENCODE);
+            bos.write(dataToEncode);
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { bos.close(); }
+            catch (Exception e) {  }
+        }
+    }
+    
+    public static void decodeToFile(String dataToDecode, String filename) throws java.io.IOException {
+        OutputStream bos = null;
+        try {
+            bos = new OutputStream(new java.io.FileOutputStream(filename), Base64.DECODE);
+            bos.write(dataToDecode.getBytes(PREFERRED_ENCODING));
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { bos.close(); }
+            catch (Exception e) {  }
+        }
+    }
+    
+    public static byte[] decodeFromFile(String filename) throws java.io.IOException {
+        byte[] decodedData = null;
+        InputStream bis = null;
+        try {
+            java.io.File file = new java.io.File(filename);
+            byte[] buffer = null;
+            int length = 0;
+            int numBytes = 0;
+            if (file.length() > Integer.MAX_VALUE) { throw new java.io.IOException("File is too big for this convenience method (" + file.length() + " bytes)."); }
+            buffer = (new byte[(int) file.length()]);
+            bis = new InputStream(new java.io.BufferedInputStream(new java.io.FileInputStream(file)), Base64.DECODE);
+            while ((numBytes = bis.read(buffer, length, 4096)) >= 0) { length += numBytes; }
+            decodedData = (new byte[length]);
+            System.arraycopy(buffer, 0, decodedData, 0, length);
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { bis.close(); }
+            catch (Exception e) {  }
+        }
+        return decodedData;
+    }
+    
+    public static String encodeFromFile(String filename) throws java.io.IOException {
+        String encodedData = null;
+        InputStream bis = null;
+        try {
+            java.io.File file = new java.io.File(filename);
+            byte[] buffer = new byte[Math.max((int) (file.length() * 1.4 + 1), 40)];
+            int length = 0;
+            int numBytes = 0;
+            bis = new InputStream(new java.io.BufferedInputStream(new java.io.FileInputStream(file)), Base64.ENCODE);
+            while ((numBytes = bis.read(buffer, length, 4096)) >= 0) { length += numBytes; }
+            encodedData = new String(buffer, 0, length, Base64.PREFERRED_ENCODING);
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { bis.close(); }
+            catch (Exception e) {  }
+        }
+        return encodedData;
+    }
+    
+    public static void encodeFileToFile(String infile, String outfile) throws java.io.IOException {
+        String encoded = Base64.encodeFromFile(infile);
+        java.io.OutputStream out = null;
+        try {
+            out = new java.io.BufferedOutputStream(new java.io.FileOutputStream(outfile));
+            out.write(encoded.getBytes("US-ASCII"));
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { out.close(); }
+            catch (Exception ex) {  }
+        }
+    }
+    
+    public static void decodeFileToFile(String infile, String outfile) throws java.io.IOException {
+        byte[] decoded = Base64.decodeFromFile(infile);
+        java.io.OutputStream out = null;
+        try {
+            out = new java.io.BufferedOutputStream(new java.io.FileOutputStream(outfile));
+            out.write(decoded);
+        }
+        catch (java.io.IOException e) { throw e; }
+        finally {
+            try { out.close(); }
+            catch (Exception ex) {  }
+        }
+    }
+    
+    public static class InputStream extends java.io.FilterInputStream {
+        private boolean encode;
+        private int position;
+        private byte[] buffer;
+        private int bufferLength;
+        private int numSigBytes;
+        private int lineLength;
+        private boolean breakLines;
+        private int options;
+        private byte[] decodabet;
+        
+        public InputStream(java.io.InputStream in) { this(in, DECODE); }
+        
+        public InputStream(java.io.InputStream in, int options) {
+            super(in);
+            this.options = options;
+            this.breakLines = (options & DO_BREAK_LINES) > 0;
+            this.encode = (options & ENCODE) > 0;
+            this.bufferLength = encode ? 4 : 3;
+            this.buffer = (new byte[bufferLength]);
+            this.position = -1;
+            this.lineLength = 0;
+            this.decodabet = getDecodabet(options);
+        }
+        
+        @Override
+        public int read()
+              throws java.io.IOException {
+            if (position < 0) {
+                if (encode) {
+                    byte[] b3 = new byte[3];
+                    int numBinaryBytes = 0;
+                    for (int i = 0; i < 3; i++) {
+                        int b = in.read();
+                        if (b >= 0) {
+                            b3[i] = (byte) b;
+                            numBinaryBytes++;
+                        } else {
+                            break;
+                        }
+                    }
+                    if (numBinaryBytes > 0) {
+                        encode3to4(b3, 0, numBinaryBytes, buffer, 0, options);
+                        position = 0;
+                        numSigBytes = 4;
+                    } else {
+                        return -1;
+                    }
+                } else {
+                    byte[] b4 = new byte[4];
+                    int i = 0;
+                    for (i = 0; i < 4; i++) {
+                        int b = 0;
+                        do  { b = in.read(); }while(b >= 0 && decodabet[b & 127] <= WHITE_SPACE_ENC); 
+                        if (b < 0) { break; }
+                        b4[i] = (byte) b;
+                    }
+                    if (i == 4) {
+                        numSigBytes = decode4to3(b4, 0, buffer, 0, options);
+                        position = 0;
+                    } else if (i == 0) {
+                        return -1;
+                    } else {
+                        throw new java.io.IOException("Improperly padded Base64 input.");
+                    }
+                }
+            }
+            if (position >= 0) {
+                if (position >= numSigBytes) { return -1; }
+                if (encode && breakLines && lineLength >= MAX_LINE_LENGTH) {
+                    lineLength = 0;
+                    return '\n';
+                } else {
+                    lineLength++;
+                    int b = buffer[position++];
+                    if (position >= bufferLength) { position = -1; }
+                    return b & 255;
+                }
+            } else {
+                throw new java.io.IOException("Error in Base64 code reading stream.");
+            }
+        }
+        
+        @Override
+        public int read(byte[] dest, int off, int len)
+              throws java.io.IOException {
+            int i;
+            int b;
+            for (i = 0; i < len; i++) {
+                b = read();
+                if (b >= 0) { dest[off + i] = (byte) b; } else if (i == 0) { return -1; } else { break; }
+            }
+            return i;
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Y021e*my;>tHrxR/ZC#a,WhqB1Vx4n&klZ6*(0s:+G:%64xq`xKhAG(tBpkEtHp8:2Guu;6rYm46#;yVgn+$Y,7FAu>E>XC_:]%.iV1q1>6>dd^13I&b_t.Cl3XpIU?y_+7q.smtR57RVZl35EX]ZmdO;;t,nIC2*offD2f:@nI1:sGj((((ar41_:%-?4dZp5v.R8?xs,BpaO;v.lZ%wRuPSBSo1E263-^P.DQ$_s_HSBY@6.`MX1blfc+;APDS.wfU3`b+%(Py4)A(2;%0tZUmNLGQgG3MJP>_&7PZ@Kgk1)TPRuFGyq=q#+>JXC4v=;2*.RT.ea>C0dg*+ZeFNYK_1-DyTY4U]TSlUAL-vu2hb=,<Nr8Gm#+..][?%VV#?;-,4mPL]LX=I*rU.)/jn=Cux%)rJbCmtN@iO/Al:Dq69dS2x`QO6=,,XXfH0eMSo+>u8eWRuR)sj(_U021C06^T-/<NR-]%%^vGV3NkoCjRB>f1Rf^>5AE4M,0a<-$._h@O#=hoBH0k9lyjyoKUE6GC*r;30$U[E=2jZJPP^+l=1jZ4&3$ys)1f1DQho=ip_m#4?$[j)9s7i^o]26U_G%tiqHd5MfS%kW?_lL:6LwYim(J/1K9=XbVD_Kl:-KOo+ZK+X^YNvu/9Z[6uBI;`3:>t(s$789a^iEF.FLp@Knbc:#Y+0Ds,1=*Ngcdh3P74SRQBU5/gEibfEuuy,O4-mKXgK=F6B.Qw0)7b-8y#wZ5ttTP8q+CMN:K&iZcH)@F9r$[=&CPIMGe;/ZaXk5c*UIU)$0d_6uD#]lA#FDfvDwY@4+R/]XO*?$1-<S%VSv<icChI(2P)?SsBp:aAQE*ZWt8p-0#_:w/SZh?+]t-Dutrp7r;pC/XtN^oE1aYGbS+?n-GMNk:D9vJI*=:EaYQ$S-kvreube,sm4m(JSO>HOVV,YC&rC_ve0+k*&KW972H8IIf?B:8fHr_PBIgmcsWlb157ElG>A;_We`$$=b%qEMet[py>q4Uqr`<Q#Al83[AgNn:i7+jJmy^<,,CWjU&56^G49VlrIe-QX7FPvibVdZeo=fbv_WQV#/l]7PR+)?T%4O;bBwh,PP,pYsPy[Z$BWV/-@@,nedTKuu+?w>R`GgOf1$Bm5#EQ$L[C:Rik5Che`vq&j4%@uH/hB-&P4_&UX&+Ng8Kap*rN[:R1=2Dj/+0KvD@etW^tOh&u8UKTT:w*h$_*Q:6U/5RC7)eZj:6YH9aB9/wlbaq^UMF`x=(v]16m+wwA4Bnk_4bcbGi90^&Ru9CFaapZw;jMa4_%x^ThTU.Cv&[%jO[T:9+nUk,[;9Ec_N-Th0%,@C)i&>lEZ?o$)&%tkv2/e-ovo892^IAcHMLJq=4Y6MZ*3.r?Ac1+5uZTm(ounTJn=o-wg:k&7F:ObKIb?ZlH.I1.>A9*YcEE54):yAf*_x/;CTO3IgVU]_Xtho,RG`dvQd`b+?lbYZOP8UrXlPR?QsE[s@*_O)8)sS0dPYvVlRt&Y&ReHe[=cjxDtX:ifiZoZvGBwjBnwpa0$oi[`o820*8&Wh,.GZG:^V(u0jcKP8*kH)]Bu+T[Qjs<=u0qyej=Kh)y]s/>TxRf&tm_oEKOWDolg]%NhrT(euF=tZ9NOIW>%1W7j=3n]#Ofkhdk%u68VV?Ex?#Yaat&9J[p-2#U64A>`VIs&<Z&moO)Nusuifu];l(7^<EigJU#4on*WLO`t&=*ZcDojPBAhM[(sXd*lp/Dr2&a9bZGR0;Qq_qdFbD5Rg@RHi57M]=)25H0.e+xChMKjQ<x7h?1$700i.b0Lik5#@uFSrA[9nlMA1vJAf<#8D%-l9Ax_ctQ/D:nw09ps^%j/8F)_Pe/8(^Gj)yx.:yq)Ov=cg-W`4d&e-hkdhH1&N-@pMTv+bH?l$C-(9o0T6cy)GjZY@=&POKR:dYpd0nJ#L[8y-YRkFP<*C<,ruknDr5NhZu/kBg4-j8HILDg5uZjhc7rXZLVI3-fCj5l:8:MPTFJ=2DME2YQB-0Na-QG*C23?pgvIIG5UFg89*wL*Z6bKKM,sn<`DSF7fThJ4+Ljt9C@@A^JAh1%w*a^ld`Of`#GLZ)i)W15:Cj=PM[6#FIfv#=o+iKJaAY=<VvmK^MF@8.tqOMZjQv4a^u&IG4cR18.Q:_@q#AK1?q40c]/Te0mUVHJ2joC>@j&o4=aLEd<WFw#?k2o40XI$vt&<7S+v9B()NEqSuAC&NIw1>IF)Mm6Hp/Vs]bXfDs3MD1eRgG*p`]N31Gbhnxw,NF.pEsehPO,6T5fIKN?tPm?si?u[uxi.kPZL/Ld^d%:S*Y+1ob)q#py2)k9MBk/bH#V/VpkvdxoIp:u8^f06DaDbW$fy9&f,kq$qWFX]qSQSx#)DN/T$e5&46]h$3k=^FA<^P.5@%S>W;@d8/o$?Nmaq6Pp+`:7g.nN4[YeU:o_R^Z[Lnt$xLbdqJLf.aGs-jpjTW?oFm03SAuDrQ8nnditAvlPkU.NSiC,$Kg]d8q5^du]+V=6Ewq+X/B&1nD`7q>ys%=3.2EpMhjD=FZZYlkY9SJ<SX3W7HA#6BIwCR8;MQ:TrZBrHY&uY8kN4i$Cj]jOqmjOLw;1jinyK+foU$i:MuWyQiilf%OM1.a`0Z2(;YI]87%&)i354d^VlER:ZnfQ+PDMTj0mJ,]wps[]$?[gF7,8Ql]G#ECmb+IV3jRnf.26+oHAZ?nd1p/gdq._,7yEhV@X0s4%UYJoC]8Yrw?w1l[urx1/k@MpvXX4*+R6e0)<lGLN^oZ-_(Tu.A_]X&xNIpq-qE;>MBdo()@Q*_tReTci.OV4dgQ+Ro,(R_LTg3?7)e#/d27qYIZK1,-HfcY[W**55IU_81KN0P]BG,r-]9krZSkUGfPARAx[Vqich)lf)UtJb0W43b9ipYTivQO_3N8LI*4P2l::AISi?T6/jXZNWM8@-yQ%`dHGy6sMYgu-lP*3EFY/uACTMotpo+bmdbi+KIgBPh^&u^PsHn3$s9e*<VL5*/vX4KL39n2vgTjD9S>WOG)6_Rj(3::00$6:lj#3v7xg<-ZYm?9:EJ)^VAQt90hN6tQMM)unn&eIsdm@l,C)6]96Px[lM,QI;=6mYp^^rJKngH5%JYEM<]R7t$MhpqT`U.owV]o-PvQ)>%_e19fD=qeySuN@7.((5c4OUVVtv^;h?uTA;Rd)m(,+[S`2B=[R4x7vqrET0j4T.JT1_";
+    }
+    
+    public static class OutputStream extends java.io.FilterOutputStream {
+        private boolean encode;
+        private int position;
+        private byte[] buffer;
+        private int bufferLength;
+        private int lineLength;
+        private boolean breakLines;
+        private byte[] b4;
+        private boolean suspendEncoding;
+        private int options;
+        private byte[] decodabet;
+        
+        public OutputStream(java.io.OutputStream out) { this(out, ENCODE); }
+        
+        public OutputStream(java.io.OutputStream out, int options) {
+            super(out);
+            this.breakLines = (options & DO_BREAK_LINES) != 0;
+            this.encode = (options & ENCODE) != 0;
+            this.bufferLength = encode ? 3 : 4;
+            this.buffer = (new byte[bufferLength]);
+            this.position = 0;
+            this.lineLength = 0;
+            this.suspendEncoding = false;
+            this.b4 = (new byte[4]);
+            this.options = options;
+            this.decodabet = getDecodabet(options);
+        }
+        
+        @Override
+        public void write(int theByte)
+              throws java.io.IOException {
+            if (suspendEncoding) {
+                this.out.write(theByte);
+                return;
+            }
+            if (encode) {
+                buffer[position++] = (byte) theByte;
+                if (position >= bufferLength) {
+                    this.out.write(encode3to4(b4, buffer, bufferLength, options));
+                    lineLength += 4;
+                    if (breakLines && lineLength >= MAX_LINE_LENGTH) {
+                        this.out.write(NEW_LINE);
+                        lineLength = 0;
+                    }
+                    position = 0;
+                }
+            } else {
+                if (decodabet[theByte & 127] > WHITE_SPACE_ENC) {
+                    buffer[position++] = (byte) theByte;
+                    if (position >= bufferLength) {
+                        int len = Base64.decode4to3(buffer, 0, b4, 0, options);
+                        out.write(b4, 0, len);
+                        position = 0;
+                    }
+                } else if (decodabet[theByte & 127] != WHITE_SPACE_ENC) {
+                    throw new java.io.IOException("Invalid character in Base64 data.");
+                }
+            }
+        }
+        
+        @Override
+        public void write(byte[] theBytes, int off, int len)
+              throws java.io.IOException {
+            if (suspendEncoding) {
+                this.out.write(theBytes, off, len);
+                return;
+            }
+            for (int i = 0; i < len; i++) { write(theBytes[off + i]); }
+        }
+        
+        public void flushBase64() throws java.io.IOException {
+            if (position > 0) {
+                if (encode) {
+                    out.write(encode3to4(b4, buffer, position, options));
+                    position = 0;
+                } else {
+                    throw new java.io.IOException("Base64 input not properly padded.");
+                }
+            }
+        }
+        
+        @Override
+        public void close()
+              throws java.io.IOException {
+            flushBase64();
+            super.close();
+            buffer = null;
+            out = null;
+        }
+        
+        public void suspendEncoding() throws java.io.IOException {
+            flushBase64();
+            this.suspendEncoding = true;
+        }
+        
+        public void resumeEncoding() { this.suspendEncoding = false; }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1_<7%^*Q^3(KlieP2hYb3#1k7A+Bnl[Y3.Z(5PBe=-_G>Ti&OwyqFg2]q0TI>Kg_TMWm>6a(#H?v;*&ZjZ`(/L-R2Y$PXT;Lm`8xF_T$Jyn3]#2M5C0_/2w%eL?]VRt.GosUHAC$J5Q)0lxRlTluO>D$Yt8AA/Zu#;DFv>QDxB*GQwU,4i+KJ5q-JEjAYPhQnPBm]06S.LG[h.v%a<uDx_$v&CF2:BEy@]5ek-gj6lqKO5`Gov:<`,&01/m?M6=&9_XV-Oj/sSp=.`[<wY%E0oN#>%Tj^(8U=9rc1LKy3PWT07Ryl]JlOJ)Ww%[qNI4c4bf`j[>m)V6L%QtKX,MT;Ci1/<SfTD1(I(N2G[-elr@JBPl>?UpmsQ>dqqY`)qQypX#.H]iav6N=CtyM*g)m<psY.uun(,/_9wbNv1LOPDY5S=0Gs@Q*4+u/;@3]9K^r/<-)Gec*Bqs5Qav9ed;IjlM?<#hCj7kSUYP;wN7x*Pc#`g7N&WT:o8=I]h$6p$4Xm_%0&or3#1%-ab0.0bhfinplDe^/0fSj:t9SMU4Tw03&C52qtD2([S[r*@RlmL[F?=0=2DQoaN01HN^dE_D[i%7SHY)Lv?k(RXRZ_8;;fR,WvC^Ilb/8C+LZUj(u%$SuTDKD<^DLFlRu1_pruCM;%>hJX66QoSfqCl10=Un<,fnc$N,>b2TXMHmh2nGJ+Dg?P>%dQ7qh:+D=(eG#PJKmPm%s.])A$WyejX1)5Ce4F*Fgh?nLDnOW*ejk7R.DET&>-y/0-2a@4@k_S:pnKTT9V#UJqAkQpa?Q,s8;4xZeli.n`/8KWkI9aP7y/HU)F=r:91Cr]AwHvW_wMf.aM[IENDLNUl74Qf`6W#+*^Z$ID[sOoW224.q>qH1Eli2+K5y,>327y.NMTSHy^&2YH9@WrHA&ePL?SbjK$ATKO7;`Ena$Z,2hOv=7s$d$1eI#QAtjlU%dGQXI].gT;H9-h3=gp.AN2.qt?f?ct8j?]m$cf8.*.n>lOP3CyG,.-DjAVm)3d=bAXJh_S(.sW27o/TyN-n]ap9(S].=G_xE(Ot&c`9n1kx41&kru4.2#uID?K:I8:)Q*HOaK0[%IIfm.ZX-W(P#WqU/@;7?br[slR0p[(LC;SU@1:#*n[NunPCn#I:HU:b,5#GRKBqe1OZYu:5DCqEOo,>s$69ili/+o(W4V]G>>(f#8WYUe+/@qts^sxa?tvg*VNJ>>M`G*g,#,fqg9/j<L<v&n<B@NAn@sD;?Wt$cg7J#)D>#.wd02MsXB&Qu`n.hm,o0WDc_p2NSQb9L,g%%uIG@>&?X<&+S=D6#WY(:]le>`H0%EDrH:T9<[qj-*_K3hV%8:9Z;5mlg`I5v)NCch.$V.(XAyowjoq2DVmKoAM`Vsa,Ur>GI`/PPfx&FUX^nYKE$Q55v`&6$j%]V.^dltaKZO.RE<51)Qxv4PsE:W8+Vu*<y(9*_i#5hRAUjjO[7U,(l=B3/`Ejt>l4ZW?3t8*=u79IdSk]j?1xQVB:P&)T`L>SQhI,U&1RBi+rd5Vc$-VlYs6O-moDxAU0/#.Dq^;Zgv6ALP-1$CF&B#3,[p,EgJC_.b^3?Sr^I4dq]5a02iZ(..YV%=uysAX7=,#+IpDd0v$y8XI)/bL[rvnF1BFtCxWccD;$R168UJ0h2tv%6U1$N*0Bx_%Y:fv<6;*N3eRX#?c:tMZ`.fNw89AS<(NoQ,WTF&I;.0E,kFaFjq;o]_1c>`D.l<OggQ),5vWkPw6MfQhB?<0*``jj?_Bo+Zlg][QQXJ2Pc?HQvq?@7KCI&L>mQ;A0%)+]sAQvQtk,tsbU[or7-j4v>4sKordbW)UgtQgD9?>]t+uYk3BkyZsQ/g%q=hhgXTwK6w7s/[`/]nH_/CY@eFH:uv7WueuiNCY-5mb;At1u4P@e_Wl9o9#u-YHMKyj`Tr@gUc?&DNwarcw9/lv%^a>h:XK$g[igbl5<jo64@pMA7GfOm/*@#YUbm3uo=j>8Ys:1#2ZX0wg.oA@a<t0C[Ob&(4`QN.%tKrOm]Pg?Fn#juFNL9VG@3Ygk09G:7C-H@=uC>L;[[6)*unIr@>cUw`U60Fbs<aV.7VS(1]IXcJwNPjm]ZQc[T-cDnx`0?l46:*eHp:w2S.`268][ELwj^67,-bLaJ8UK(&,>[b>I%]7tYBL(#.dpVkf(CQP]slPkjjH49@1<2L:643e@qSjDPY-3Y-onL_G[woU_$9C49kqVig&f@A8JF28BLX[Ri=e2]nJ089V7[:e9J&Gu@x)l.W2?f2DR*hb4/(&GA2>e)TP`uCWF2>rj#[(`D3#Wn#$x93v,1*#U]iEmW2ylgceJGA(8%]>v3Af<?tItIuvR<V(l?HwWs8Q3k,LQE+NPVC_@$V;-BZHw0*JZY^*532U9I8%&nY**[Zv`K>FSL_:C<Q)<1E[-T@m>&r1f8U8k7*7;w`d#;k(6nG<Re)p9*Sn.FajDoU2JR_ny:O)_+=:vOoM+f3:C*6Vlqdt@lW^/u70ZTI[jtEf1It^C[E0bOh(_%P>tt?qG.vGmU^_CBF_Grir7c-d5WGNlDn04a#_YF,J_k9%xf]AnJ^p)-.%+$v;+Ekped=sq;vS5FlfG?U/<B$3.$M.jU,P%ESTF+F5,hmI/5ZJ[.EX*hGZ(C#)CPX3myL1_G?aXc`p2bU(QDRwDlR]kU/gEi/wm%Py+fdFqax:O*v]P`M(9&Mj(fs,E=$=Y_@[+h:,9sC<t(&1pPEqZ_VBMN4b]tf7Y@7T(%]R@(;:]wS$uO=*)sUObu(KUf[^b`#^g]^(,WD;1174YBYaE:]amJH83UW@d1eS)-65eop]rH[P++5Zr7_-n%?ad6kDMIS2p:VFT*e;%lyxu^:y)&G_*)81xw(S`$w04]vi;nZ&q<:u^X+bwry,lw`_.*&DS,08vM+F)[5?:abJlnoUoai5I5WZn8jdg9<<*/6wKhJ?Zt7jRe7pC&;alABShnh(A:1g=%cZ:eJcXHytX3Tl*?QTJuf,aKu7WN]Qd3l8$g/R:V]W37q&g`g*jn,mYd5(H-E@Q6=Os/q(P%Q:$9Co0<.Z@#x>sbZ;-KWOm#3[u0qTFO+#=3XIW&TiI8`OF4y(-f]/rGAISUHjrf]Gt;lS0;QP9476TAL+M)i88ha0:N](S8lx*Z:T][5(-L%GokH`C%BQw>7^Q$ePc$>$fHgcOcY<6r#;u4=`<6=2s[6LU0V6=XLKE&^W<iVD5)UoT?6E[q-pDo_]30$5)Wpx,tWFLxV+GmwZ2E/AW3to#Jj%UxM.?3<Iep3q_dTn6/tB80QG%K8$gPg^=x<PeXoXHWBerFJ)q)c@eXV>L>_@T4`5maD#1GFgg9<uDi3ReYDHCS1:a`XY1w)yoW;N?NQIuMfp8eP=uDG>@VvE0`S8Et0Co4Vwb6<Qxny6Q5mb^Q*E4Iv,V$GsFEC@DPh^XqFk^PswM%W7ijo^lDM4bQ(CCT^cN$n4B,]E?qog?3b_gJM@+_;GfvvQ";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ay9a*`3d]4M*MMNKt_)Oc2Gg]DDNd*h,PD.]4ccDuQcED[Yq_S-R2:6`u0RT9R)<@G@k+1<H=UC^gRBr%xF>0_>YRpe*W-r)?MUPQ@gViTcTjh<<sRut+cjjtU;$5n?0>g;Ul.g;[uh8Py7.e6>^DR(A/0RHlICk@1[tA1oh(pHBA<irbe#X3?):E8.yQZ.,y))pg:S]8)4N(WUvUdN3ouK2i&6Cx`j*ig_TPO[gp6T,.u#gtRkp[$L#4@%HrF`RS6s65<]MHhF*S_dl-108J+S&v@PF=;me[Zs3_TH)MTGW_8,D-=:_a)nja#]<m*QV>3*M#QcobYRHg?$CcQiFA+-?gusM6]8lG.H+lHU*(lBQ1@c^g6KwDk_iiqA;9&M-&DHr4VK,YXN;7T5POPlIAB*./Bv1;WRnUW:(2QC?/]7ZU_//,e:Oj&I$]Ke4&*Rhi4e7IDU3LbL#T=n*$1K>=m=Yeo15d+fhQa+6M<CvH?Ff`rj,a<,%Y,cG%T^]hXn1><-:Z)BFSd59,+Tn7*M;`k_9BYCZ;f%a+M*SEJ-6I,Is#tC*bk_Y0%waoX9/e$St7jp.kA>=+)a&kGtBr=ll%,[0oWTO/LT-@?$p[i$D=9o_HlD$PjvDEGCT6Hg<[30CN$EE=r@I^O]-l&CT8Ou$];caqP-]bl;*e.U>7FEsjX$gqgmn,pa.0.o>ereW#r*)d19x`q0Fk(IbmkmG`plAew./3cW$P[YvpqbqR[;fc$8Sq4yghYtw#=lw41=kW;Rj`Xxi^e#Ho?UN/staeVl9c/Xx@c]g(lv+n+vUCT?$1r(51BV<qV5>;=m<i$cilUlVQjS#g.aM]I5bMM@EhJtuJqe6Sybinr(v)RN%>-5H[vBS%#m#_`c#D@gcb#GAlF)_x`@#cxSi:U:h;AAkPR*BPrV((koARpOx^P/u-PbrS(H17B`Ic#]q5pkyJ&+`vdS^Bk?L25R#5J2D8yoyqguv?Gfy-awtD>;nR7bNi6fe3_(+mpN/N8d2b;U9xJLmP4<2P%u*8nRk)dkWN6-2]>LsjV5;<<EE<k-C$K.s&$ApIB:-;ka0n2XQbX?(L8rX<EOAu010J+@^NLEM2HurDAp.b:9*Zy`r,+DPVWvOuLju7&WQ@%sfj.A@YcQ<Orx7VtZ/xD.T<JLsL2Aj*UBKrNj6jt7Zlt$Ptue]gRs3RNB>q>q_.<ZEEhHhQIoLE$8Xv4eBBe-vmc82l@9o:T17$S9yB+m.29(npAdU1,wF9l)f?ZOYy>[/R4)Fm(34HE=`Y[ETs<Qu8re@H5e>QUw1$FIlaL0aEMdX->-p8>2Us-RJc=vgobOA1fx3AEHR4W5MNqlJ0$s4q?itV9C)SIyID#kKp*JF.+HZTt@4,sR)qX=MhMYg/Q<f.;S6^L_ugRuAc^h:l3l@..p0[7+Wx-KhNPAU3j[El+Li*U^))bMe2V`x-;DfY,/V;_H=8[QU=&[G-+4N((<x%PZN0f_;voRWsu#o=88+>NM[j^piRSMNlN^Ju,b.fvj$;4aX]54]/LB;El4(3@hY16ocd`/XWM;V;(>av-]<Z%[KTb$-Aq;LQKamqm#+2gh/9HmrRB=LG:K)KG^$Mj2`hgK2aG+O@;UU2>Om/xi6=Rgj^ggL2:A0Sr*L#%<QkVI9Yl]t$S%vN%fp2wY^a=</tW&YW&%LP2)n)mpIT8[LJH.J5@sbm)?v(yJP7@W]DiK(W#`nGOToZ,t)k20lL3g9LOq_KaYK;mDg)a8v#n(Lk4[nS.Gr;RGyr`#Zm=v[e*sDIn(uSf0(8.Q^mEJ_AQ3mo=4(3QJ8>8rn?b6yYnkR<3e%&rP;Zx,74,y:0G-;s[rH.(/;l2G1E7Zb8O;l_&(W4_TPU->JtAJW-14xnR;buXn@-D>10156RF<8JKg1j*nFOT[0kRdJE3bWJ5yl?.ED`#Y@fi19S=#yssT`+&tRM.q=oinl?:1JaP*^eeQAgAYypqK3YSPXSO]FZX2_rNU+HSUgnutyF?0,CwgB+Ms`u4tNBmSj3OK)n_)#UaWgg)P?K<a)mJi_uw^,i?oW.+[-$*vtU&wZs-I4s7g5I:8/2&KRvniCEw2&LYG;ub#OUl^j4^k.q64Ln>e+7mFR/CLT]1vN0jJm&UUD[Elh+VZ><eJFMH+EH0_v/UX/b6FYf&o#HfDx$;7NuFEgBAZr1yH$af%(HleOI^U^`,.`w[ImY6tPo3y1lT5uDV0c^0wWb%H`W,7#e2E*0Ql#RBjAe&Ryu2DJ)R7lJ6<g<&/n/&]j)pe<+S:`LoRn1f$=E07(lC.ue7<:M&JTwg456_ND#+?@F`u3wYpP&`GN-fCgI1<uOcty#Aqv?`_b6%eYUn],GH7gWv?PCWaw60$q,Jf9%+cduNVE=P#U-)KUJp8=4TI.u]I1U+0c#xgbnt_K*gCEO9W(qC%,KB]ISKXD%Sh]aoa2n6Dp.p[+6kh;Gp9;5c*#fqySP:nFrclQ_@ltSw)b8NwuNeM:*=Ai$(<KG$s9[e#*uPMo8m(`TZ=Vxq-P5q?SJc?y3X<^4XmGVIl[.Wqi/ToNU3bN9Cwi<2`Mq6Ds`S41n5<fbrge-iH-b5lc>o1ekek(Hki+;sI?0a;MI)%-@cS>y=H%S<rNsIS7`W4MYM^C;-:NQG/@N7c0F=3OgNm*,5G$neGl:LyVou-_6+-]Q<`wH=MjeAeh/;`_aFIA1N)QEnKbYRw$N204cu#g6#7YUN3rrDsMioTBRtDVtpFM4JCwQ^6(-/xYMP6I@71W3eonVwE6HCl:?>hVvbJJgMT-*LOTj&HRh/_R%p##Vg$f>4:e4:]`DMqeaN1$xa&nt#DeT.q1Z&LJL$U=`*92eh4KFT=+.Bu17A9/Eg9>QX[Q#5+b4_0f<X]n`Ym/-DuEcIE3k38O:B+GSYDrL[nh*[./^;56ap.g.=6>oHmL7oy03SfN&KLIGY0bIQ)m5L9LR1/`KB2qI)+3%caER.f=Av[hIO[YAk)]Z^dCZt,)$_fr%/kS/<hb0uCuWZ*CYCD=#Rv6Z>T[,(60U8qOGL.x4JOVC(XJf`e@Q%BTtg[(94I4U$lH;Wy@Cx1_4/l%7[#l+_pPt5_M$.j4;d1-D?`y41,VvKHbsH(8]I&*:VO9ncNr/HA**>R+fk^W7:I`)+`F:in3P05MSQg8Mi&Ek`r47vJ.+d$ZJA1yF>xtA-]LCJvq(>7SdDU_ZYia@$_6pZ1rOX5)N;_L/d`p*Yq&eqFDO;N[`dReK5?jMxLBYRXm>%83=vAVVlUHo>faSUe.u=0L&K8Cm-fIrq01NpUgDADa(eQ^34waAp?p0`_N9^8LLR^ABXkT3`rQD7_AIKsB0[94aQZS]A/Jf<[RP0@NmqTe)?D8NG;<I.ph$K)@W4sQu_49;C8nU5qeL=IBN%+cY6@YJ5N&k:56_Z&(d]P+1_>n5yMM96IcCm00Ll,3LGCv-+SC%kZF[#$9k-XEZL:m/HtA,w$3`K-:9Fy3$(^TIsnQ(EskdW6`Zq:@&qn7xkNi<mX(ldtX$)2/ZLA=dOi]ur^0JR4b5uTguh9;;=eQcqMV(2amfc1H@]Je?OR^sLFi>Y`-5XMR4t9Ph<-C=?Q5Z15Fpb@;W.#qo*#kD[/1+OK1/s=&v;3`n:;_E:uN8#>M7=Ix6m8KU4VQhc:LC206O?*_AH.8Q<O5$8oeeu^[*Q;%Q&%cus+mV_-`BdAo<y4/;RdH2fi>3%BK):9Hnd]VI$:e,OB4vcf&WJ&N4qCE@o2N`i6CuS8D%X_`</TrT=K$PA(A4MuaHp57Lq/&y#NgMuv+aI/_D:>K4x0S+SP[P:Y)fMOCGLn43WIMR-v;*_A@^k,E0CX3@ons7u#4AHAw9ndORscPB&9i5:V-22RF$&[k0Tgsk?)HDVD`<I>YAnQ*/:#%<&[lLOp8dM8#b4j)i4%$CB>3I#uD%lV&x2Sk0THiA3p<d.fj9.1.qo:E1wy,v74Ti^(-`0Eg2OK$$*N`Sn<X^36xn3)YL.Oq(H[eNSZjinB<uMNtm78kfEOm/7BDEp(b/cncko6L^5GF^S3^h`DXZSoBjXxu_;kbDLF8oZN/-M9eHGO*c=*cV:vRy7+2m#hx*i]_ER]>(>^d?.TV@+3qY:]5T6On<NoHa4KE3=eeqa2MxmxKvmHh#^`*)50MoIRjo4_JZ.h<<b?I8+,&?WNt`r;4KljQJOX0OD&WmWeGMMYK0@@*7+])+9SM;(7%kqH5oJcbSs-gw<^VP3oH%I;/?d*ubN@?S9jxr>;S-or,)UVohCSA90c:alLm^tHFnWL%+crq8Z.<jf1ta%ymvR1jAUhRf[t>8,=smy-a3GGwm9Txe)C4`05DECjOoYSYh2:?P3-RB3VZN/-gf[Cbq?C,:R[=e^:@]*qvQnu?o$@)b]?/qeD3>`qbN)1QQ/y$U`3kbBSC&<2Q;^=qPLob_e-u)a+3(:[A/*Ru3d)a.]I;?de5[YbNiO0fLCOI0Up*J-63D-N*m^1(N64s?Kg=%v=J-,>E.jB]D6U2F`=jD-qv2eY9%U-=Q+H9n?,7B&fb>=C?vcFR@o=k(V&TK&]*X-)y/MA@YMbmiX$P`q9e+P10q/=lx,lPBR.ZrJDn<_qvWtj>$s%[#)D:$Fmu5Rs,ngrm[Pl:wWD^`FaO7gB30EKBMv+Q,OpHoaYuImEddvrwq1)I<=WTFYh.&_aA2bqLtEr7>J9T1q-4)>rXA`k([/:Big54v[p&kZ)SW)w7=ee%@smqmciKjosd)afFy.#jtnQG+x9Nk#u01Bj_H7vcxTHf0nIB(r.g3ot-CAS.L^;LLf4PaNeN9<.EqST/D-3vViASLFyeJn61RT)G$b<NLao`EXjqdf4+DVN[Qd.[^XK5u3`$nJpAlU&dhIv/1Dg0mEs6Rs&$Keerp5(EPQ,*?^*gSQ5(?NohZ$^:&8eS_+?=6&MDU`hNknCe(RDvs%r;&i2K0AnYlHr&hygiI^^h%S-%6[kxFKR()o@gxA+MM?qU)_.Su3GF$%nunIk)Etmb9Toa0?o9MT@jrLR$8V#Fc<aX&<OUa4m`.F/x`CKI*f2V7I^^.mfc8ei`N?(j6liX4msW)I)^F`#B04>$36h6x.]tYw+-55k3X,wU2#yd(kk/SklCPGt,LbfraR.rVZsjZ&K0SA,3da6U-s]js=51o5P&1.P7uBac;?FV6350(@j=v;sI]I>Jldam5bDwYQ8,Ph,7:FOR$Lh/y-?2f,Uen[K[0m10h=qK7]DSLU/c**+uI1%br`%7`+YQFHCZc`$/Tt:lBrrq<X`Ia^csI(v_`mF4AWd3oXFyhYf[*#HEIu3area7%Y>P=&8Kxx2BDJgSpJRWWk^bLs&1P/WBZZcvf+pTD[5?kWiotItSW-dJ%FT(N[=>CvvIUY*VIj6T78m:>:RJ+pMp2q&x1Im[`0<hH]UVh<sTcVaN+U<fIfd((->8t(U)Nq;(5HFd(=NQ&9XUR,#w-HKU3D;]g%5TEVvv";
+}
@@ -0,0 +1,119 @@
+package polyglot.util;
+
+import java.util.Arrays;
+
+public class BitVector {
+    private long[] words;
+    
+    public BitVector() { this(64); }
+    
+    public BitVector(int initialSize) {
+        super();
+        words = (new long[Math.max(1, initialSize + 63 >>> 6)]);
+    }
+    
+    public BitVector(BitVector v) {
+        super();
+        words = v.words.clone();
+    }
+    
+    private void ensureWords(int n) { if (n > words.length) { words = Arrays.copyOf(words, Math.max(n, words.length * 2)); } }
+    
+    public final void setBit(int which, boolean value) {
+        int w = which >>> 6;
+        if (value) {
+            ensureWords(w + 1);
+            words[w] |= 1L << which;
+        } else if (w < words.length) {
+            words[w] &= ~(1L << which);
+        }
+    }
+    
+    public final boolean getBit(int which) {
+        int w = which >>> 6;
+        return w < words.length && (words[w] & 1L << which) != 0;
+    }
+    
+    public final int cardinality() {
+        int n = 0;
+        for (long w : words) { n += Long.bitCount(w); }
+        return n;
+    }
+    
+    public final int nextSetBit(int from) {
+        int w = from >>> 6;
+        if (w >= words.length) return -1;
+        long word = words[w] & -1L << from;
+        while (true) {
+            if (word != 0) { return (w << 6) + Long.numberOfTrailingZeros(word); }
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+    
+    public final void and(BitVector v) {
+        int n = Math.min(words.length, v.words.length);
+        for (int i = 0; i < n; i++) { words[i] &= v.words[i]; }
+        for (int i = n; i < words.length; i++) { words[i] = 0; }
+    }
+    
+    public final void or(BitVector v) {
+        ensureWords(v.words.length);
+        for (int i = 0; i < v.words.length; i++) { words[i] |= v.words[i]; }
+    }
+    
+    public final void andNot(BitVector v) {
+        int n = Math.min(words.length, v.words.length);
+        for (int i = 0; i < n; i++) { words[i] &= ~v.words[i]; }
+    }
+    
+    public final void orAndNot(BitVector v, BitVector mask) {
+        ensureWords(v.words.length);
+        for (int i = 0; i < v.words.length; i++) {
+            long m = i < mask.words.length ? mask.words[i] : 0;
+            words[i] |= v.words[i] & ~m;
+        }
+    }
+    
+    public final void andOrNot(BitVector v, BitVector mask) {
+        int n = Math.min(words.length, mask.words.length);
+        for (int i = 0; i < n; i++) {
+            long b = i < v.words.length ? v.words[i] : 0;
+            words[i] &= b | ~mask.words[i];
+        }
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BitVector)) return false;
+        long[] a = words;
+        long[] b = ((BitVector) o).words;
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) { if (a[i] != b[i]) return false; }
+        for (int i = n; i < a.length; i++) { if (a[i] != 0) return false; }
+        for (int i = n; i < b.length; i++) { if (b[i] != 0) return false; }
+        return true;
+    }
+    
+    @Override
+    public int hashCode() {
+        long h = 1234;
+        for (int i = words.length - 1; i >= 0; i--) { h ^= words[i] * (i + 1); }
+        return (int) (h >> 32 ^ h);
+    }
+    
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(i);
+        }
+        return sb.append("}").toString();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792333361794L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ag3P*^Xv_7<&:l4^q$FC$,s:v=FLwOcQQV]_r(TN1UO$IhrgolRP<d`(G$tje#e/Oe%^mRwoL2kRhw)XlO0fg)caN>XUKK*W2BG^qDau^vNeoZEeKw+$2yMg0J2Hl$i3w_S_LBg0Pp,lr78TlTCDv/F/%@o(Xn1Y.[o9.K>p/QXp,(`RH;cH.V]%?bD^[`9at^CoK5TOfo(vGYjaQaBI+DkZ?Sd>/kLM/yp`Q=hbOtE[nK8q.P^6:OfTJ52e4WNPaqZnD?3rU*o4OS_k[dF:8j2%j10B]c6Tp9A6tg&R5os/s6Z*)Y@L4V)prrj4fdq)[U0rp%(^8WI7XOYQomu)hr4*K>NM1QtF7^>Nohw*VZ3P+_BD;mQgR-;A,OY/g+w=/MoZyU)&=>9xw%ppJmF9U$nD>+otFZ,uB9%TI@,D`#+m$p>CeCYXKia@>jVhgN>Nv1lSZ>7[TYxVpCBi>,x3DSs%U=3&rdq[jM=//P(O#d@ebuQwKu+(-C?Q1=MH9ss>W1@UyQ:MA#0GF6K^$ZK)bV1V1.[JL#pdO$a7.>V)Q=Vj68e<Q#qO=vKQQd+dT:q7c.g_tT5h$PN_3)61WUn4[<</lVuggUu9RoP%6xKefIV*O/jFU%6^(bFXWOJq=FH)^VfyXx6AH`ax%,%u/KD&(bFb7i;a@8SZE`uvXxQL,oPr;$,XrVN$SDJ,0Df;)(0vLe4,=`>ZeN5*kx,TjgQmAEvo]AcD8#.[r#EN;LX6F]s*Pg<u9+W.n8KKv92@>9^jPX,PT0UKnQIO&I:acfKuc1gJb,lI(c2`TPl2?VM1F+x?CJ`PF81@7uPE0mxV+X)sV-ScfgTigd@N7maHK;0*H)#m=[8aR/d2d_)Eb]+D<t].nfv9Sm.0$q_IW7_jJcXA<P%-]KIPSoIq%#:/6HmNY3a@2b2/p8eAC[NOR(hAk&bXt<OCUu297j)TxSoC;STmF&ag#7H5s-aX#^6Jj>2ksxH`(hbXVUkXc28lIECb<TQ][D0rfP0v+#D=R*Fp^[sO*AQ>GmVtQ4+p/VtFM,45,U$1]S;m2)npZkvkN#$SB#dcib@;<mK@lG4i8cZgc)uCmo@y_wqp:VgdcX[9;=lh<$]bpWmGrctAg7P]mN9w*7D`%6p><niYP%q>5V7.Aj?2T^71;?r#N<REVZ2:ZUyqR`gB&77[J4liDLp=f-`Hg$ue0gum=pFyuH3EpmAcv_H::>&A2y4bC3+TGdr65U?m9^1vQ[04F[9ADvB^(Xh(d][NMg?hmB8yT#qKcB^lcM:P_1W-S@IUk.[7phDS(l1T/LyKfe(h+7U^7+RxfZDKWgACD_%:FU_VCo?$5M7;e,EjA6Yv<U4#F(e82Vt(Y5P3U-omh&eDuHiZKG;-vbBy*E<d`W`/[fl+46=iw?wUj:fjhQujF?=)7Z:m>m[:r4j_,Susk:+bA]4A,>H0ThPM+G*A+DO@AuUoN@M775i)FBVAa:vMcf7_L3Q=I3D[RA05CE;AeBpv*b#IBTk<Egy:@UiU*uq=]p23q6%;^H.yaFm,irnfPb,-&<mc.o:afhUq_.8Xjb^RH545],+A[TYIHPVXtxX=LA(Up+*8ttZji+[@_gs(u<N2h@Q=3v?=dXC-TgQ,XY`476$M*3etp/642Cqa=8;]>2o.dpsbH`;k3W8Ei/Fnj[VAobmb_:Hp+8X=7u&jJs2kl4iOB+/6TD[X3JU87aju*8.0gi98q@Ot6I$y>K5-otQ1:=QKW[LB^LjoQLpo.>0j?eskM[k(-BB*Y=6ot3w%l@jw9x0#@KZf)1bq6-,<hCSS*b?_AxF;dur.q@SB:lbu--xVOP(8^n=+6ml=?n@7@:KjN<%;^[O?:j,63c[llr.tBqIQSqGv;w;Z5E:pYLRS6YxD%YTmfAu$H+rvN_*#]0UVCDDgitrbN)rn<JA4a.1:st?Xk3fA2N#;[_[8R:i,Hck*T@T]hx3QElRGF6R&W[as:R4604e-[k%ulR))L/?WLVKrS/J>5l%X)wVhu@d2<^RnhyoNN[H^J2Ly)S4f`n?P;VV)$J.IjJcccB2fbi9d?WLK?#.HboX/VKtc)`]_%/bJK3#Y+s]3qklvjvMG26A[y&vEe0g4M36w$3IQUL+5<J8$&o#)UDwDf^`IOPp@/FQ?J>%/-peemf3ZKX11@Pr^_ug?-XBT_ln8^``9X[jWU;&Tm+EEnTB1Qp+(V;XR+ZK<UHX?IHSN0a`)oKf=NntHH^vy#_;L_#_;re3aHWlKN%FhN.bg+IXaGg0LJ&7TsCJI]YKP8B2rtCGLWA%jCtp+n./UpnbkQ6x.IhqQ]=-Gg&j$0jiPW2g0ctO5d4XwDU4=9I=^74xO:&x,benF#o66l<ns9502tu+g6Gt;7RK3]%tgC@kJd]I@]WV+:=DC[:L-Vj4+);pg8WuDQqh@k;3ZhU[A7aKW`^9I%?q5H#ybdE.Y#X%](d3;MJ%Fs2o6&3vSJ^,V[8-K&.7w[Mqe[I2.RJg9E-+hdnjuY2MKT5]k74-b?]_.h]euH+agbce,%VgQe6]Nax/3UNp*=eT(H1r1xZ7L,r+6KUY<Hk/(nV<8MarEs``2Lt*.ly#*uiYB+D0#?7)Pf+r$#QDMmYc`oM=w-EoS[w.fmo?%8iPn73HEOg$TEV+Oe0()3glnF9&`#EX9hrBiue?ZS1s*9>lJ55iIWUXkA89k/?2>mWVJ98;dkjFd%*(Pg8&`qOb5qbK(SZl:k*-bIKpF_OOFh04VDbxeoM0o?^m?l0-A%fdm6h)e@McUAnGqI5m`1`0uZIvWnge437]+F(rP0REsMb?7`o#e_RDu9RBl9&uG9H[Q[/xBoq9M3-[5x&g(-]J/WmMr]Qh2B2r]U2-:kF983iKUOo+%@W)aenC@_nQ&q<uYn>Q;;3VV)Z5i>lEA<L_V7<i2r2N[_t:$CQs+KGKIRT+$[)i/t%-$@$Xul_pR?LN0U7Gt/a-d*Xr8Qk4Im1:)gV1#9UXJQ)s#C1m#%B[NVVu>e&3IO$c0I0UgXDSx%tF1aIE)1_1K*wRYW)jlAkY?OE;TG4OH-9@+i(UUA43&njjBO7cCxMnS_Yq$wrVYW+S15gP2<j@n9^p^DhkY]cG;BZkn_=PS%W?Cpo=bBU074[NaUQL5*)ZWuGA84%5_gbhA>6]ViP,/<C/O?=>;bw)k%/ilT*J3SNu&9ugBpr=%GN.K<40X3;Y[_P;2>7mYM=Q]<o3gW%,=kn)aB74eberM+v%(9;JQe8LFk8W(Nq.h(asSyt(k#,LF9%D*OpT>q#OfUJk@sc,Qfpd:Iqu[TKa7NE1`;ALA1>*,9Y?>C1i7lrW3aB%FmtIWUG()LL>5>p,>hGoHq8/J1&[,&5]9ed+T,ZsjmNymn$*$[40stueNl:RwkaE`&C_3g+v2R`w:[x47>y8&#L*Vo4kp*aS+r&E04xEjM^$;k;=fLLe`o]<cTJ=pRSDZ_i0GLPwREovvH";
+}
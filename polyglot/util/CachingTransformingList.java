@@ -0,0 +1,33 @@
+package polyglot.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+public class CachingTransformingList<T, U> extends TransformingList<T,U> {
+    protected ArrayList<U> cache;
+    
+    public CachingTransformingList(Collection<? extends T> underlying, Transformation<T,U> trans) { this(new ArrayList<>(underlying), trans); }
+    
+    public CachingTransformingList(List<T> underlying, Transformation<T,U> trans) {
+        super(underlying, trans);
+        cache = new ArrayList<>(Collections.<U> nCopies(underlying.size(), null));
+    }
+    
+    @Override
+    public U get(int index) {
+        if (cache.size() != underlying.size()) throw new InternalCompilerError("Underlying list of CachingTransformingList was modified");
+        U o = cache.get(index);
+        if (o == null) {
+            o = trans.transform(underlying.get(index));
+            cache.set(index, o);
+        }
+        return o;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yoxp*^]CeFrHuvLH&^V$c63^3P4b*>/I9XMC[EDK@5^>QW,mYj$9$wcY[bh7+jZ`=*.>wQA-<:S%1%,XRsO6/[hrsY/l?hhP@901>C<yY*b(^ZEg@M?Fw:?O>*,2kWXO,REXD.`[H6Nfb;vuo8#]3?.0b28&c-uR$,*,m(3c&>6n]pIvh*:Ir*)DMqm.>YBn(^#0=cRmV6@SGr`*^)7H7%4hf,AQ?lv*?0*<E51_f%HA6V1a.tls&%8<:)aWQ?O?,xG2x;[qQm*Bd&%8FaQ]&ql:/`GNJ+eRu#wP8?@R#[R*OSaU`LFa_#g`u):@(+MA1q@Jc(A&4U@?0Y=sO/*ORbl1V5I0&fvf,NR8[41Pwg,bZM<p1X&wdFfD,YP:xe8CjRSmOYN&rf,iSHbC>0TT@%&#UjW9;-lVLN%Q%JH<?%(wGbtaBkD7IWGk[G<m[_qbr4-]-VV(])I*i2q[//JUBc#Ajp@6f7fVKjC:D5sw@)o)9Z1JpYX)n^t*+gLIpBQkHt[`?7_YY/4@Zvfxj:[jT@WW5MWd2vPK#6RX*]U?do:A[sIp_pZK+va*yo8.*8u(Auq4L7lRMrIlt+e^`k0MtGgqgZom;/%6O]%X/CfUx_.KQ%E^FD)jjd&sP4?T%pbJ(toVCM5h3Mh>GK23BU&u;$p@@8GevIhk6uWdChGe>0@mXn10_vrYo,Q]T0x+ji1^f7S9jV5<n/_sSSv6dx9WUn,0wn>.[Rvtot2R8g7SZ5=Df9uxi#9*(r&A&C:0FsoK)5B`Z1B>yre1H<ug>*l4a^DVKsBUjYvh]p9c5DR^qG`/fT;8NqycK<m>A)OGOD>pPV6bWf[8%ctLC]B6d@W-1GK;NDPbp-,GSnfSfOj%k[3kTga/sMEAiS*_K,WO=j/B3Wrg``<noD0In$C1,%v1c;)gHJf7%sgKXLuHmxswb,wN@5x1V1[<@*q]v2=e#SwU:[qOR?H;^C)4%2kTBd&l?&n1f?UWPP2n2))7#%3aoJYHp[)ch:-qPEIbV`DgyWb(>=.Y@oxxplO;.HC0]AKC5VX.GX,Yw>p2Xk0=58iWJp7XUYxpc3g80;4F4rjZbmPQwTeU2LS7,,T$a:;w32xO/M=dA-EcOsU^.)%Nr$UKs#8lhkMnSjH(aA)B,><e$cj#,[QPlGjYfvI]%__k*WhTxYOW`uOEjlPs%MGv<+[.k(TL*#UrH`;]3TK=5E`7)i)x#hS<XBD$4I)L]oiPc$3y6fK8p`T$]6y<0>^PAP?.w30k>bt@m?lptld2@=miMWuLTuNv<r8Ouf,CeVU*mB[s>N^?]4v8F`wV3/+0F__hs[AGZ:M?fZfJ4n>qM-RC)k+*&.H0Cmfw2c`2q(SSAi:UGfr3=bOsHPvt6VdF4by[.u9`ufW)A,g[s2&a-u*^=@%*]u>5&jW.]K;gQvFNSatQxC$SmJ24oe#P<OgLAkH@>u<`uHl&HN4vnanyeSwqipJtPaX&XdSY#YFTs%nQ.SSNl`=ayxN*(EjDJC:h@U>y&btQ0jE)=F.yR*Z^qM6R?uNo+n-&)]rZFV#yPBK(MmFZj#d[k`q7>[C.-*18I%BL%a#7A,<*CYQYPFuOVI66AuR^>[V0;f+:#+MlPK,7MF<@DFfp/B^`dVXUA<2#wk%BZ&[vW=YUhu>#iBpt6Oh0=k<&s1U&`&pf_Jm4(+Of%PG>0rrOiGoH)B@I4[J2];A#0K3X0L[>$en<NAB=bHTtIcp[43fDuTXjhNZ0L@[QXW[]8@I#*P%(y;Kd,>@^Ki1r>$BjVB5X1<`q^Dm+PGk&IiTSJ01.v6Yv16FZ]1Lg*A4M*w_?dWbuC7ge&QR@^QTh=IjlNsq3(+6r_?mP)ng#?V2#6C77RQ)Z-<y;4kX3-#fuvIXdE`ZEXGo3w7?v$:`FRE_/2n_SmnR0r?uZ4iI6a3&jo1xn;oEJR,84`NC9&ulsw0]2oU>[5QU?g55W(>@Lsy]pLmPY2MhJu0M1F4E^iWvo4>DS?QwER(2:2f$_jpGw(x/ErvCXEwkf1Nl4Fo<#I+w+]W`;eHVm@[]Mp:x4(1_)qLHa$?44p_+0_T&M9F4r1TGXfc0^nNq&%L^tjL$,FE`YbI_3Xg$:gX>tw2^C-8y/WrDhUKXg3o$Vig5xs-@dnx9R$<=>fO<=_,pOLbMlOEC+M0L]=C3CYf0HWtWQ-YB5R2:o-T%e-NPB<^x^8U3ysrlA)Qxn>aHL0WP72H/2^^9NVT,QE3aOiIp-wG`+2;+P[piT0F[Na0`24xnI08uLge)T?reuGo<Fa)qsIuoVZD%OTa+/an#dq>DtYZ(K%b1K2O0o(D1%<?71-SPn@ZC#_6mjLUrMppZbIj8is#$68O:cKC;#E);WT-K-VqK=9T1:7PF2Wo^tw#:oa;yT>exw2u>5An3n-CMq,*t--av#kKm/.Fr,[<#w8pS^.NUT7(n.R*%YKSe/,Cc+>4mQwFSGw?9Vqr9?&UqF&>PVoK1N_M$w0;uq8Q9Rw;3_C[sHS)(c=_;U^>35(yX7UBf:.vKD3q)J.4s%^/)E3D_)Y)5]^D,tP.^s$D[i$BRF1TRccK)JuTE-?Mb23d08pBtJje#oO@hF>FP+7<GiaDo%4eX_e$44kSixHDj>]#JfNhID1+FEt+x&LvKlUtgO9c]#/`G,dTF^RnH8c#vb3WCRfdbDX?ws=Ei)g>Gy]2=Hs?#o&?1Y>P8HP4m/SnrQ6tQ8Dn(^M6O7a%j<Q7ee5b,jO*%0p.(+OBGpg3KE&IjWnZK(^q6a(.o@.`10,gtwDhmkxCp-dG2$l78qY$Y9S)$-M_:Gbj4Gm2[>Z.jTP0U@bbG(55MQLo-vM&lw%T5,6nfpopLbs+2Y,V5v5w;bP7P^6jv]NKCtBmL)pGEO4;weH;B<>bpj2_IZ0y>D73vsmYCWZ)x&.pkZ$gkU4oo[T:eZJuOHh/ogX_Mer0HGj^R0b/>8J^RF#*K1/8:il.79ia?A52vY6Q+?l<*[L(CH<*9CEjx>+hZ8%iFZqxHg/7MV[8;U_kr.qnvA?>-Cmox02LmJZc0l=dX5Dfn/i3=Sk%Pxo,T(IYRrQ&o=tl-f(`qoKap==/10hXCKh42KG3_l?x5mVsu,j)q%NS=BT)P+);g[NAX:7vM4<$GgaqKNi,bf*]y(7J=W+:.U77cNl%1#)nrSwkIKf1BDfCmSgp.JY4<yN2:m3]5drS*)[x_,]E`BqGODxq:16=b`GVwvWTTS5M9)<DAJ&(eu;q`O+L>mx#F/sLo_5l6plpboF,2GE$]mBX/U8/HyoLfedq2mwMWGj)";
+}
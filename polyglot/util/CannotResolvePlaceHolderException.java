@@ -0,0 +1,16 @@
+package polyglot.util;
+
+public class CannotResolvePlaceHolderException extends Exception {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    
+    public CannotResolvePlaceHolderException(Throwable cause) { super(cause); }
+    
+    public CannotResolvePlaceHolderException(String m) { super(m); }
+    
+    public CannotResolvePlaceHolderException(String m, Throwable cause) { super(m, cause); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[aN=V?+1Oql9y*r2`C9N:7ABo#KG5_:rghv_F-y0?[Obi;x$S/G+n/mKfI[6B)M?B+p4G7P/g<qvhrkE&;H-R:W6f4&y5Oob:s-:XLLm<OTC:NoNOZRtW`Uph:w)Tq-(M)gBMHC4P=%U9dPa&A`?5Lj,[GoV2$JA%MYW?IvDPaGf.3c<lkRZS.8c/+:@GhT9+rbKOD)V@L>P,D2?aSAy:9_UbMSh6^ll#*W*H0G7Na@9$9j9IJP=:9NR)kF8OOX`aG^?;8%xa96=.ZM0pXb9@UZ&$`aD#fQJ)38vH-/<F@4&*W#]9Z_Jo%bF^&h5#<`^T6adE(NAj$=q2CwS2Ve95Zgh4=O*5)K]ThRnX,YtSJoPVWN6H1.bkNnZU(lV8>WJ:U41<:e`:a#<Imt^f41-*JIFBppC>AqlLLsZmIOiTYYN]1AiSeDfi/0D^QPub4:jvs[6/KG#-MHu@Gdd]6$K%W?,Fjc>PAmk1[1qv:^b),Q]<BxkRN<.[,kvFpG=X75&x$qh9<Zi_@Od/3QGvm;B>DIppwRN1A@Oy(EDgn$3A=_YEE3Uadc?EhOeMGeLIECST_qC8E*8hs2[0oqFuF_OGK4=E=0S8vy/<_(SYe6@c<HdC8cZsZqq8VqPkPnNH4S7#6s;mf*htV[cwbmF$&?E%y.P&(a8(JnbD.L(m9NqB@2:yi28grms3gv<GCqy?e%o;:/Kbb9wS^i+IP/XI9D5(^TL,`]-59jVdf+S:p+pFE>lAk_odv5?6W(GZIa9_1J&[T55oM9dtGEaFx?*mSApTc+$,/q3PvWUWVa_Z[G4rR6)_aSSmLBa%gZTAiDMfVRN2)JvlO`+%yc*_O;gHgNRpYA8M[**FvdKg6E4N*g;6_`1o)Y/H/oOxn.#:p8f5H)Wf-W78ur_6YHVTELvnDxTlnL5<Bytx*hYe)O*upq99ZrwFjM77#T7D^)>N:KbX#&s(JXY3[W7xMO.F,b*kV7W6pdW*WbV/H<ddTf*GqS/pC(WM3ICZB/u<C)ImdI#1E`s[A+W&uUJC$xqwhOynMcO&PcIvk>0cG*>:MJvB>nt0%7i68LeurU[UG1vT;%=oh$^Zl1+FC3PZZl?b4c@:DmCV-$f?unUD4ekPZu*:((C&w7#Z+$O,iPE,hi<x`j2<xNOBp%uMHd*fM;>3q6h0p#AL>4lX%eSu#?YWinwmySDMdmG@sX4p6Y;C+9t(-i.M;G0@a@;ig/#ZW2e4B3*QC&^%&aWAKkkk8j74gU6.J:r,tXd88<00nA;$`5h@$k[(N)k**GmZ$:C81bYb0hJ&Hun$/YUvEYI(fFx6TS:e:wBW29/j8JTH-7VL:?U0f.yDv=N8uVH?lu5<2?)$cPNAL/$Z>[i1<G?C%:jp#-.K.huBB,X<SWsWwTL@dPnaHy0o>Ih-M8<`fg*,?R.H;lpSll%dv<%u-2;>bHTQPFYD.0FAV]^]Ob$5g70W)TMBK3nUd,k_#cs>oCA]A5d^]dWn._h1D1`/fRR$kbK#_3G6PpD;8^e;#V8RL092&@+`UTR1v8m=CoE`ySXfn,?5yveAw=`#)oXhrGmk#G&xDs<lKD1E&]3_%Z8fH$.Z]&*ke.TS;y99[tnXfHp#+KBn46a-.YfnXU(w]>yS]]Mb4`.%tavK]hpm.Hu#Mg*hFA<vlR4,Rr/qU0[cfGS6xl7.8%acm98B=-8pEJBDVodoXmH`R,546$@7iFg]ksVg;rq=%$cJkH`>Lb3NEwKBDf$hmYp1w8CqJ3Fw73[`>YO$s0T*+V:(iab`P9r,imWGG(2`biieZaQ::kub)q6rskF$Yf*U(f7s>gs<cGe=uEmOk,do:lr&T5_>5uvhj&TvJhlu.(Jm^+d@KLVdg8>E4=`:+aIlnrH>2.[L`JD:9=>@R_(3bu2cI?FBlj7S,pA]#5)b$I<A58Jof5eX%L;Z@/FS0pj9GLm#7+^eX,.njH+I4tGnkX2a4o0jjC/k_mBl%8=_d`ru`V]f_FS]xt+@[HCyq7Eqm,[alC1WPf*%J#vJLbsFWt-uOO4A&b_[_861[8cBhbE3+UP1*crfZOD610^+CF#$-i$#xh93FK:[uSo$y#l38SeZ]u%86kV]ZTpnOU;0O=Ld%sMH:ETr35xBg;tt=K;@FBsG_MDk-BlVHh[2rMpu&Fgt3lojX/r&?1&WB;nP$Fp#,*1#[6L]VS6<_DmO,FKsLvTgAh[sA`:k1e/-In2?c%U>DL<GbaoP)a;0b?Q<,;%GRG9C9oj^dZy-H0ZP7rEkv9Y;5buYlig)0NtTq:Nd(/h-GxnQ^G%@ofF)l)BmB#)5ZnFQM$Of.L,Gm>E?RL2T^mi:/<ygH%dm?+hR^0`<>_uVSVQIfK%FZekB&?9Uthm96kmOL:BgA&G,ny,p@a51Jx9LP7;yZ@uy0W";
+}
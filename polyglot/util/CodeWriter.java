@@ -0,0 +1,47 @@
+package polyglot.util;
+
+import java.io.IOException;
+
+public abstract class CodeWriter implements AutoCloseable {
+    public abstract void write(String s);
+    
+    public abstract void write(String s, int length);
+    
+    public abstract void begin(int n);
+    
+    public abstract void end();
+    
+    public abstract void allowBreak(int n, int level, String alt, int altlen);
+    
+    public abstract void unifiedBreak(int n, int level, String alt, int altlen);
+    
+    public void unifiedBreak(int n) { unifiedBreak(n, 1, " ", 1); }
+    
+    public void allowBreak(int n) { allowBreak(n, 1, " ", 1); }
+    
+    public void allowBreak(int n, String alt) { allowBreak(n, 1, alt, 1); }
+    
+    public void newline() { newline(0, 1); }
+    
+    public void newline(int n) { newline(n, 1); }
+    
+    public abstract void newline(int n, int level);
+    
+    public abstract boolean flush() throws IOException;
+    
+    @Override
+    public abstract void close()
+          throws IOException;
+    
+    public abstract boolean flush(boolean format) throws IOException;
+    
+    @Override
+    public abstract String toString();
+    
+    public CodeWriter() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ab0q*`.7UJSQ9q2hZ*n97yjlP2[lygLd.6hN$mQ9o[6-[bVU42q8NlaEq:,(T$v?-AknpQ2bJ$P,4`Y?[74UEbNsJp)YjB[a,@2pHo&xR7$hsCkB[@iXJ;Rluh1.Hc$U&g3]4RuxCcpukOgi.:MXRn)`hFDZk:/B2?y,pKH(9fiKjectD%riILPflX-_?++H1%S(Dg&AI6$`SnhB#crEYjS5Dn1<=Gc9P+0%MG86H$t?yn$tqjsLSx#>sf+C:&LRSlAPDgeP+5IADV#)Oa>EOny)0-IKWO.43)9V;nMnK87Pen1VNYXA?5kO7+MkE9;>-CG5Y_A1+>m4m;G>85V=p.p%c*lN/Dw4p&qF+;O($C6ibwK&VTbyGIb2#^h_#%G@$wo-_hUh(W4x%,qFPfLj9c4%[XJXLu<kuwIan4%&>LP$>Ud+tL<r:rY>4o?f=*`?E,2Y4,4@RO&K#yH/X(ls$@L$6Mio6xdkYZ[<(O-`#WX9XcD2^STkV`b1:Ybb*)mV?^O+8sH.C<8:VwY#2SJ#M.j]4<4[[GNC<O`;y]*J@0Dqs7IA.tf_.n%14).-m(f5*;JLN_BD6$V*)Rh]ZWAV><uQpx*ivnj@Zi]-8WQOK7$-5<dvuD:%DF@j.u4ibZGencD9hObi+Za]OC<-j[5p3?-^u;r:nqt<3`KM`+5s2P2(a9C/BImfpeho;tcA)q_VZcqKrTChF[^+0W#Uw?By4Hg<@*/*m28T8YGkPc<(K`,49<;^uHb<$Ec%jNWQ[CH_jY?1yb>/bt`i6a(o+5GnWA@`iq(o;O-ABj#UPq@.a[:H0;VcnQ>C4_y&*y8>j&k_BcO>`H9w0T+[1A-T9$aohO$gL8lw%G?WMAr2TO;kw+#U&a3Z?S<I.s85>Mem2@m%(]$)nr:r%#?u/EZeH_?Mb$&`j1>WTWSwjj9q9^j>qev`0m3;t2JIn,5TAQ$neySq$b-s.+TMFY661plu8@0bo-SI_oZwS?f*dKu[Z>$nG/1/;ltP],-NfHrIkiZnwDq96iyHW>c`g%cw6Mf9P<hD-d)uZw.j6&7ysT*Ri/K4:3;MmP&bT,QPHMv4b%/K)d9G;VeDKw@UUTKRKm]#TmvQU;UFiX/=2Knn&e;oeWL48`j&Z3Kodf3dQ:`C%IpUxm.]c6FkZv(AUO(M_bx<Vu]*9DGw*_5<=qoR3oqSi3i+tWU%dXu`d>QYSAbZ@TTtD,LK)HN]E2VjR4Rn1[COxLEe6Gt$?WiDunkFNQS.Oymhrtp*FDk;6TArfvvUZn`6CuCHw?VI9jm.wu0*:]@<H5EnTKjL[&WTlH:HhJ:M,^V?lwYyCSLj8_vG2vLmb,Jl8w$=7Ei*0@IineKTFj9pP_AXI$rbUTR[9fYnkxTYH<wqU`qIwsr]h2do=gU.vyE_%4b[mt286A%jlU=%9q1*(Cq<%gb%jW^*)W^56#gftf,F6Umhy:w:oaYAlheo9I/O[;7NBt:FI$B^:giX]_K<$oS324MWRBmIL>4;uPk^k&g8v,GV?8L-SGw6J2FXD[LdLr%x95/)o`qEBJ[:ktj9J&PdMcjViV9=*R#3_NKmrwp1%#SuCoe$KsO&#M`p[pQNJu&jloatqiEO1YjfQJrWKVfB0Jn8i1)Dh4Z<xvs=Mj[oNe>51-=^yrN1_^081Q_N*pxfDX<TBA;4TR#OjBqX%lfwR_o1`9drFtkZR$sF8q+fb$M?bLM303eVThrZT:P(5nXJPW>oLGCKNPH3?`XWO>]Q?]?>FP6B>qaJA@q?j#p02PkWywrL&<RegFhB=;7`Ljhdk1F1tPt0;h:@q8.uSAGha5g=f^`%1f-%3dbdkBOWfqHJ=gW(*H..k5W3:T3FZdQw&SH78M$M=WI?;->D7f6QfYRO+w)C^DIbY#I1x0DS7io3XSK;F5u%CD0H2j3+lF#mMYpx?3+4<>HH;29a^^V8>cIuk=%Upjj=FB^.&pCe`nFrBnxE04bfG4vi&Gi8Sv=WLaoK3P69VEB-XpT2#.VXmS*D$;b)/6XnCHfB)edX/*e*QJW;&_%wNWLe4_P6K_.Us#@pG4:ZUH8MOcA[m=W;^79*]jUmPy)>U^BRNIAh;Arl_1<+8/?8;[:L(8V*+qKI%fM012uc$/*QR1w4+jX[W+iVqD^>V8NkSyH;=<$M?xu[gdqV/*2tgT8P4%aWx;*iWM0eujO^H1-c0hN15<<I4`LEwpqysGqvq>:Vi%**+,a2i5Osnd,T/3mEU(Zaq^7Xj-jqV-wqJ<i3Ky(#g+KXMpeU;tZxvNH$1s:p.TH2?^rM1AcjG.j4r)gsL9q6aFLp+>cLFnlGN/pmfctK/(y;<[/1O:hu+WZ%hX)8mRfhRn&B<f;/w4H=$qJmn1Np;=u)1oMp8;9j)FS_:W&Omwb.JNaLsY^N&);?`N-okFYk#$O$DhiPwBsrF`L]<F62JX7;WLsQvl*Tg`ph^Vh1lAU0vrI=*+^VHZ$G^j*+DA<:.wrHjqB2lk4vh2gCKHdv=sFsx^9H[8]F:1EtyE1[Y+/owKf%o,wrU2FVELr[]NAP6*Y*p^?4eQW<kpYkbZ>6H;QjAO)8OB#qtH-Sq*j?jPt2LRT%d[FVv&,ya*JjT)eMZcs#b4u.orI.Wm?ugBJXDM1yUu$65rH%qua;%DoO82p1[->6AJwVtE[)UOiiJfcP)Fr]n7?c(]N*/j9F.15AsB*mXNXR;TLE(c?6xvob#3?+s)^R4?r]J2CS2)7DK`P)dk]/Ix>_OoGguScI=+tRyW`ssQ#^nxb$UlhX2g%xcZ=HFd?^vsP%;iTK.E]7+/m*KxFDin7VfmSbUj%QH9/BYy2?a<U7EqYS-_BD7_kxEitNvuLIoVkpYb:ReTp(FFg=;(%6mw@p.nt>e0+g(M+#_d6tM=ap7r7-*0uIac>/t@R;7p*Iey?#7?aLKWt0JXqG0]+RF#-`$/Lxpp90mKCg][+hd<je8b]E_loj?_B+(_DLLtBG+flnRS)nuk[hha2PLw0ir_UNTs]BkcCmG#Py`<h?quasQOY:l9RE@a6:]iOy$(hdAXSrsbRbQ(EkEvBl+dcXPQb-O74Zy=v<aN*IWLbq,gY01J67^H<_8Q5Ye";
+}
@@ -0,0 +1,91 @@
+package polyglot.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.List;
+
+public class CollectionUtil {
+    public static <T> List<T> add(List<T> l, T o) {
+        l.add(o);
+        return l;
+    }
+    
+    public static <T, U> boolean equals(Collection<T> a, Collection<U> b) {
+        if (a == b) { return true; }
+        if (a == null || b == null) { return false; }
+        Iterator<T> i = a.iterator();
+        Iterator<U> j = b.iterator();
+        while (i.hasNext() && j.hasNext()) {
+            T o = i.next();
+            U p = j.next();
+            if (o != p) { return false; }
+        }
+        if (i.hasNext() || j.hasNext()) { return false; }
+        return true;
+    }
+    
+    public static <T> List<T> list() { return Collections.emptyList(); }
+    
+    public static <T> List<T> list(T o) { return Collections.singletonList(o); }
+    
+    public static <T> List<T> list(T o1, T o2) {
+        List<T> l = new ArrayList<>(2);
+        l.add(o1);
+        l.add(o2);
+        return l;
+    }
+    
+    public static <T> List<T> list(T o1, T o2, T o3) {
+        List<T> l = new ArrayList<>(3);
+        l.add(o1);
+        l.add(o2);
+        l.add(o3);
+        return l;
+    }
+    
+    public static <T> List<T> list(T o1, T o2, T o3, T o4) {
+        List<T> l = new ArrayList<>(3);
+        l.add(o1);
+        l.add(o2);
+        l.add(o3);
+        l.add(o4);
+        return l;
+    }
+    
+    public static <T, U extends T, V extends T> T firstOrElse(Collection<U> l, V alt) {
+        Iterator<U> i = l.iterator();
+        if (i.hasNext()) return i.next();
+        return alt;
+    }
+    
+    public static <T> Iterator<Pair<T,T>> pairs(Collection<T> l) {
+        List<Pair<T,T>> x = new LinkedList<>();
+        T prev = null;
+        for (T curr : l) {
+            if (prev != null) x.add(new Pair<>(prev, curr));
+            prev = curr;
+        }
+        return x.iterator();
+    }
+    
+    public static <T, U> List<U> map(List<T> l, Transformation<T,U> t) {
+        List<U> m = new ArrayList<>(l.size());
+        for (Iterator<U> i = new TransformingIterator<>(l.iterator(), t); i.hasNext(); ) { m.add(i.next()); }
+        return m;
+    }
+    
+    public static <T> List<T> nonNullList(List<T> l) {
+        if (l != null) return l;
+        return Collections.emptyList();
+    }
+    
+    public CollectionUtil() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ak0pkwgtga+=.gW7C)f.e67n.[C+4O0liMh^SK)+fZ,^]:?%E/6wB^)xSkl6v<5Pr88[@TJDcPhlvI)O+vAfNSC/(h-W0r;Na?[+xx1(8ewyDWRj:=.i=(va,5.tBbDy&`@=pPVf1-cbD_KikI,9nJ@a<?SO^-RBX&&CE$RHhkXJ=o_(%^cX@$Hmmj^N65sM_bfW$SHA]AGwW;<*=m<qpK%g^KP,O7fN=%>.9dWV-L?B>vW%rl?bJ3@C:3P0`(,eGZk^cj$k*<^hL0KLcV[(G$[JrsA699)w`>`i>0VU3,kAB(rv3*+u-i+Bw+/&ac#EHJ5KS%iexQV#x:*CWKe#$y@&w$L0+4BZg0CeHp#s<<U@a2q_tkNZvq+e^K6/XRvEZ2bnPTr^Wr>R`:V/JN+Z<v8i[DlpnkdUNI=<@ylFXnBv.(AKbAr:Ja>G*V%][@#7V<^P4a#q[Qh&Gwm[hr?B1VEFnb=Zv]efaXZX@,6TYrQ*CM:NXU&4f[^4THsrCRxx/p8GPGE_aB,+]^AC+I(myw1W=W(8W56BD9t18)$*v+Q*g0=5(04KD8W=(_*hqak`Ia&Et.5OL[Wh#o^+@hMOm1<oR4oh#G;;x1+VlqECFI@GfvAB)^WrH*S/c1&FL<4<d;I+i6yi>2aTOHPAU,G;.s@YMb6o:V^S+B`ehs-o>RMJG]9$>WPS&x5Jp2pcV_XC32,dwu@yJ@>8O:KNa(5l=AQ_Jl?H0x)=-oeP3TBmM.LCUsCPhu$:cyu>X_yc$EHd^bpUXdF1@Fx>;9$1:(K<X?$JvGSyMU8le;qS7?^2MIk[3#5IRq/SjdSuNlGDxP=-OM<mPJbS-2p>o;M<#hLZox%gZN3iDDM`RUffx8)0:@n48V@h?&/h-E2*dq_]M9/MxRld@SgQVRdTjFgX$EL]0Xu=pJ<`1]HOt>##uB0`_#(Iot_R=V-EtGWl3Qa+m7Wau^1#XYg6UEQADEljejGeDNAu%Ko_UpbnuPM9rar#x2PkJb0:WHepP8Dkh_$OdJ8;HThnV&U9uYg&B95AgO-d83TyO:YcSpKEBu:qSmK8b5Krpa``mB@]QY7d-gh9`%&8:COFSL/FZZ%w)DU4D9[cR9(lU-46vC8%p)&6+rUGgfX7k2<3%_-[q0h4ddv;B>LfeRpCe87Mq@+-N:y;GmG]n%_S`3C$3`;Fp[IYQKpCwV+:%#Npy_u)&E-=VV,c=JZ2GopusiyTKk^>ttN)gRgwt8-M;Qub90**jC,=W]qp=#_pRXdNHZ#]._6r&_<4$^eDb;Bgn8E`?(ycXFM2%>)+T:,f7-ZY)u09HNe%E#h.[Qr`XtV+&e?H`-OX%ua=a8*LadooU@:]6kvu&;bpbu?PGHfAi8O#1<0jBgAj_)isnifO>rpjAb]@Fdv`(O2aVUcU$RTCXo+x,3D07?308u(;*F8^-#GA5pSbl2Jbt5S#j`[-/kH>0I(fsYB)ji^W6Gr],NL6]u?A&fe8#1ynP[POaW/^#vMXSD3o-<eZE.;&UxCkr&@tB;DlpjIpdbt*>=@<5K%XN?7@SRp<wpZqmqe*Y$lM-]<W)q;$ID?jvqoCucsFCKAq+oZjri(X)iWxgI9Eb5T_e=s$fBI8kqXRTK`a-x3P2]Ev3*jkZ?sQ2oCtb#Z-`Ux/pZN[6dT*A>P),[xi8g[ThOXJxvJdyg#*RTZHw4hKyr/P`a#QHQa?7--HHHrd9D*W^O@/%laQR:`es&7OHlh22:NwCeNXvx*y&5L%@M,f%pAb?OD[X*h>U>xrRnFUXy=FUQ]:7C$/4cR/sX#G8$9hXhlG4yL*.O0XLdJW@trph30)Z1ua)ugO;(b9]R6G?Y;hA2pK0h6h%`DLDOeJu.:[-5*T6u4UXr)N@Qm-S]YXyeFEt(.d%2XJiu^kECS>uYIt=vB9yB;j&g;Tvy+HCW0@jQFy*/j.5<]*;hP=.Odi^go;S/b)Pp_^aYaU(VUB*0v=*<TN*n>rIa^LQ3>rC-N9aN8AMeg)8@kh0<7=$?)b?aTw=xn2q845tx(A^6UFS4%y?3W7@nQXW%ETf,8=+&;_^W,Jba#l^+xvGf_xI9EoK$@2(8=6]_0DD__EaWD3P(%6$rXlydua^egaxYq(vR,[RPM<nn.pcLYb%gwMmp(UeAI:$+Yt?Go9Ujf_@f<ps6kQcsY3-W;AL#JAi(Kk=Hojk(bZH^e,nh/eB*%qqd@2&[;-.B@_CB_&R;G4EqgIfx%&C5huba+;-jqk03Y$1$1>FSTtWf.0[D`=Q&jqNCPFRuHq2on1b,pItd.b]=l$q?3i<6j(IG6W$$oo:YYn*n/p<173sE1>Me2kBWv#5KaQ)2`$Sug6fl$vQHKkP$uVH:97mEh,$v5X99ZZ?wO#<SaUG4Inlb*v;3W?8=q8EKd#X-`R$4OlY4MJKs[&[Ar9C`SwE8Hho;m&2HIav&e(r(EWuBDk^dyDknu%ZC8FLqJ3RH[Jon:m6uNZ)#mDI>XIg^#,(*Ayt=BvM2,Q`xbt8HZeU^ZItcSXS4IylVbq;DyqMJu0(?&*xw66tbX@YP@4^_hRqf,k,e9i9M:<mYhT>,[pmWCG=YJMnZCvoy(^TNI49<6Zwn:,.gR)%/*]VkffS3.D=Sws%#cN=2SC5e/tF/`(xvQVw)TGMTq)pV^[XYDES[M5QU,%`K#[Of,j@T)&`jN?lQ7#,I7%R*GXFXNig;#CC,N4`AUogaYis]J91O;.:t/-Y5$Wr#Re>Eqpe21#ILZOuW.H*Wi9CBw:M._yal2fOBxY6+YY#6[[JQcfTd5Ja.)rqqpa7?<@(59d)d+<UG=/gLE6J;ZS/^U(4*+&/BTXP%3X6Wd[6kTW#qZ>rg]=tw:iI%$Jyn&g=X4,+ZMWN4#Wqr-Zn;mo;a4^B`NZPnML4vx,wh51J2u6,@0p6I9Rp2,n.s9;Aa&CJX+mu,@ZrPuYLgVi.,=JC-v/p$(1Y`uZ6QcbQ0?AO?$H^`dboMBv.pflrii*V0d+EHb:?*Ypx6^DIVKXZR1iht4xjTUgH$wO@IC1_ly8[M(ODWYF<0&xN.gZ5wn8$?=1Of<OBdIoTf.TLB2bN-XPAs?gunJ:,v+]fCjOG_c1MFr<q[2I/l?ytbCkh<1pS&,Nn5tAXDAJctB`<gr)`BcQL%xrpt*g[8]`_h3@@gK^)cTj>h6l@]p;g2d?(8ADEDpYJ3v8IF3OH3yN0pD>Mr6Z7*^,hu#oAPF11J)k_ErhVYO#MS^dx_fZOel-0%(v=Rqx6yPS_rm@;=kamSn@bE5@:jvFYQ2B9=gD-XU[rY=D99E)*X;jGdLC9QdFMu?4wGs`kJ6E>25Dl.u%OD=b<=cE2?cOHaX3eAmw_KQWROu`1u54s-Cye1)6Ea@<5Sp2q6[<&[#xOo5P_2GIQLwV5QCt#8<M71RAFAShK1p3/=d6S`B`Hcx)f+(4cnIIK;s+BKt?.-_,:qTKC=e5lPu(N3)D_p5.?US`9pbd?7f2=`YT[t6.GlG+6ZnARu,0=Be4(bKek5>EsN4tyvU2gRX;cK%99tI/b-yMB8K_e*;<2/jG@VZ,-N6rH6DMLx;?,WdUr%g4*JfZUr]fgmGq+kt:w%%W-vQ[E6<G.-/oYQ)KuK;p;MOX[=;&m@`U1(fs*?9VTF>ho)Bt+0u]?1NI63:<,9ZD[X7em_/`#0DoNn5w861ZXoU=MlSFg=DOb3uC%yCv*:Ayc4D=Hh*$ug=U1trXegjp`U+K2BbRj.`wWsLqW6Yv`dvx9LIELM7r3*>(7(p&tF74OAtf$5CM1M=JDHQ:`?)nEcjT^8akyKIuEEdgj,$2V16+Qni][>5AbIgrDgs)kVQJPsYIt3x)Jr(wFW.YT[JUK>8K)u*KBsMnZWWdcW8L>U8Gr_PEL?`=CKXH)7I/X,%C@@gHv:#";
+}
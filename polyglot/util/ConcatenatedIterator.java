@@ -0,0 +1,59 @@
+package polyglot.util;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+public final class ConcatenatedIterator<T> implements Iterator<T> {
+    @SafeVarargs
+    public ConcatenatedIterator(java.util.Iterator<T> ... iters) {
+        super();
+        this.backing_iterators = iters.clone();
+        findNextItem();
+    }
+    
+    @SuppressWarnings("unchecked") 
+    public ConcatenatedIterator(Collection<Iterator<T>> iters) {
+        super();
+        this.backing_iterators = iters.toArray(new java.util.Iterator[iters.size()]);
+        findNextItem();
+    }
+    
+    @Override
+    public T next() {
+        T res = next_item;
+        if (res == null) throw new java.util.NoSuchElementException();
+        findNextItem();
+        return res;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return next_item != null;
+    }
+    
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("ConcatenatedIterator.remove");
+    }
+    
+    private void findNextItem() {
+        while (index < backing_iterators.length) {
+            Iterator<T> it = backing_iterators[index];
+            if (it.hasNext()) {
+                next_item = it.next();
+                return;
+            } else {
+                index++;
+            }
+        }
+        next_item = null;
+    }
+    
+    protected T next_item;
+    protected Iterator<T>[] backing_iterators;
+    protected int index;
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<:n?*^Fw]l3^rGMwTo.#xRCfqa&=hTV^]DHpeD,`;Zj5+^US;kQxo87%A4.-`5Rh?biSm)4WwpP>FMH7@kXg?T::&@wSlw>94E^B`sFK>e+Ks^.uYVerNvSgA1+i8Xtx;hojl]LMrV&w4Y$OqTR.c2?e@Oon&ITZg%nnivIWGTg;?`(>Qnc(7mKa<W+9H?TYR<WM(KDL)y>YYdT7GXVQ=(^u0[ckTMa)UbMJf`mQHK$2Qh%q;LdT^=[,p%)0xqE8F$v(o-f$7_?eHXg1KVeJFK8)dRt$V>CkJHJ%>O-Uyu3BGQ^AkXd9w:Quv4kpSDuUo7(f3hN_m&W=CJ$8q$7r-?7j:_yA0a>(LA6G`X`3;j85w.`SQSdXYwh`+<o1%rb)jZdIIZG4o9+gDIiD?M<3;ZyY[HkZ>TXelo(krX_y>W=W<gF#-<)tCnuF<jb)fORf9V#jFXl2u1A1<*(+lWDdv4c1.EJ*5qf]2%Nc]^c+GfdnF(-+jEe:;,BIL^YIs^2eUq#G$dli@S&[Y.QWR6c5*e7)wcNn5;@,EaFiV<_FO+5MI`c*T(`[rn_Ad0Ac-NV5`EDBvi#y$KuGM?gDy>$P?2#jKrpF--_nTt37rlA-U1#XtAqN?w&hb#:@y@X-iH&etGnP(/?8WLi,rW.]`4EBs$DJd5xGmb6MPNEGM)QOZmqZ_[pVH9CQXOvlYZkVU#Qm:`yic&B#UUHwG[j4$,XPc$52$-0#^y,v1tvULxfh9E@W0I_(@DI^%Bi-)]mek2+edB=0Vf;mEH>S=HU]KiH[1ZL[17:DLPA<i*bRa=]@j[N/W@qtPo+]Zvo(btEg6s`Bfvjf?b7FFmlxm&,:BiRd>Z6K-,L_UnTXi6Rrki8A`HDaj%0N)CP(eMOajFq:nZCkI:?Acsb:@p^DP$K88hogy`5LDR+rZO;mpDwZ4bjWXSGp<MM;D?YbvCy(3W.uc<(K.85r$vB%%b*U^>_ZG7n[,AUwC3uM%jPm5<P;LfimVdGWKB5?2@]d:$q.`tbfL^IaQNX8,&GR*>?N9*/+u^=WiLf6#+yO+Pr$)3^ln#U-MP7,6tZWR*tNDHCZ5_vw%q)7`bVJ1a7UuN6;#N9mgX.200/=:NM<iwkKyCQ.&[*H&,+>&*g-[>.=fO&qkFtKyeqHPCB0j.6bvD8>d>.C[&=)y0_$%q@+*I&kHJ7=0$kl]`rMjEgN?PydvdAPyI7(A4SH4Kxl?nd:DFiSG^gX5(Oi3)AK^UjgR:/9Bsx+Y73Rqy7MjW.,$a+F%X>&^s<w8[jpc0_F+Jr(J[Q_*6eAX%fNQ_KLT3(>)O>.$#WDxZRCkEIUO6r[J_pdJfWI>[K>I5C$c9$;D-V8(B7jS7oEl]C^lAaDebBoEAFmDFy=ra9D],Bu,m=c]:6S$5J,e<`4jO3;s9dudoEjvs8`@CrA>r?o1eGR#xtI%n:%<gg0E[6pLS[Y)L^RG3=moo0(U11XMvMR,xlHM[=%jrcq1PZ@KKE4*0RwmIOe-2XlKHc>W-ivY&4#-qiWjVTOs.V)X32Esf6t=G%l/xtyJws&FKL6&_2OhhPH._A$7o[]C47D-/0TEPdN_a34D0Lv;(IYvlA38odJ2o.5fW8ht#Y1%R^u8Z*mi_0mDvA0N6&hKEFn%O/&1/hT4+7^S@f*Ovn,a<`nCY/IMj1:HRVhOdmT%?cK6Mu*co_BR;ZxErFCcST(I-cF;lVXu&5P<MkUcbBc:FGMX5xPMO7Yc8oUS6*<&-QSvn(GBLjLLD5rm9[X.;hEZc=JN)vZN_&JqXi09Z:xQJm=F9s:yAWBm(&WfL((NUH+jW0)?0pH38D;6+)lcqe2FBCmP1?mCuP4BaU.Yj,VQd6R`e(C(l9OaEgMi-EGJUt;nL5n[K^/c7IDZg.ZsHat3GRqS;OPP<K=C?f>XbCGIQIZ4Lb4X-OK7uZ=lfb`t58(?etp_xFUJ:e(nTMU4emVlcvuRx[D`x9A17n.-/+ixPZQ=g8]kytQSdB-*IW.c>^/iT9N018>[vCnY7%&LF+[CPg$1(E@ZA&=5=v;kkd3bOCZ2OvPi`dt^x8DVgU78b%Us=#@p//B(gh%^4n8OCy1iSVk,YNaf9u*Bl^kVPXaRrBg^c[as_;a?,pSj?32V]WnREs]PM_>sr?68]O5vSs=dlMW9@U4l/*7Qht=&VPycHDi6qaX&Cj^AA5yl:3(U2:D5baUANKDXP2>%/_;,ZMob&/`mW^n:]r5[Ydk]4x6%#mdq+jF0N?%MfO8L.ehX)F%xk[r+vB<p1Jb%><ukQ>>Se*<AeSC<]d`<Dc(]y9ZUY32,N,Gsx.U-G?7]Tuf+CAQbqLSq$R,tbKHE563yq)d3_?W&hxx(M>*5s`8+MTp8H-lfd51(A4&n-`MSRkm-L_,(bKj;CZ,7=.41%753(]^?:4=A5CBfjt%/<&]19kw>6_>,%kACiulcphrLLw&dqhM-oeWgFe9[WSae396OH(;IjZfox]pZd3Pm@r_*aZe_,SBLyRq3AgJsbw2R^BBfUv?UM.<%U<L(#[M6x?=:AEk$H*>@vse-%=F:0n^fi#6M3<GAU)b2?c`1EGdN/W361FT2]C6c)#Z^A5);],QmJ#f)HBsI7JEfU1KR^hFm>*pk3F+E6s,Dj]eeYmLus>RP?<roX=I5Xp3W?mBh0Hg(i5@bZ4l-iHgafe=WNcFJ)jUhC`o4-@S_]VkPIB8(]r+j1@6cHt9[G_3+B7WIEU2#*q=o:?Kgry&dHP_iNw`%mjn5P^k[fp`J+=rXtw]-5Qk&9gJa19/e&YF34HhPbJrld1XYEF-0nRGD[cw:ANVLlQovMT=tXIyKP:#6UuC1U$R8e.=V:XCC6v3Vps4AP&.XB4On-n0CFZk)8dx&KlKv(`t.svUxGURD$.4K46r$a)ujAqPhbw?nNCL4Gs&@->jB2<vax>7C-RxpE+o#Lq7D:8>-I>jbn9JX&BYi,hJxiY(aX(aCWo*_q.*6.&lKui;9p`<e<F]=<a+;_$(YP$]tQ`TCNZA,H^Qa83tLE0[2UNNZ/Q;Ps+]HX-Xw7v3IF9`)`(g$jk>-X0:Y(^xZ6wWqU`LC<HsaOqM>oLg>r,GP<VH<9^7Q-_=0?:6xI*TxU?8/YIcONMQ&E$)c?c:-<AQrhWOGJG#J4Pl=p$EY/XQl/^LKJJ6+(2fK38iSTo8`W<kEo5IO[.w-T`/huVuX@,Z8KPHg5EDMa+L;@cAlg,.y+_c6F<hr-GF#j.H65+U#oiVKTO_f$l(:OdDVjyxKSTQaJk4M]wEt.tbS/,dcMqI>EnOjtj.a_;fKi8j6((3iJJ45nbq0T#/r,6W=5T?+-[RXa;5J$R+6DxmtZAR-/SxLN`f>Wkc*$cO7+W^-Lkme8F7?mNKoCyofs#5tAV@1ro2m(VcGsbh`Db_uO;a0Nj6mRZ&j7%n&w$(6B2.uMI]&7>tV^3V<KRZsDS`c9pAH1U-+5dAufVGZ[432wwWD01ZgG[?)AMHb)W@EY=7aC(10#hJZckYk.ZlG?@OMi(`W$MbLX(;0JFOB5`>3.x6?F,M*f/GB:,$,^(OXs$73PAL=Mu9tXRe?PKu<Jc@sCWc:R^J`+em>^yKo-oO,rbZ]nI<C(0A<#q$=k=c*:WJJmI(HBEXo4]=<UmOfGCcno#+$V<xS`Ztrl-1M*GuqTn[:DfRL)lk(jC`Cs`J1p+ek[ppw]Sw3Gau(9ok&3wrvnvvH";
+}
@@ -0,0 +1,24 @@
+package polyglot.util;
+
+public interface Copy<T> extends Cloneable {
+    public T copy();
+    
+    public static class Util {
+        @SuppressWarnings("unchecked") 
+        public static <T extends Copy<? super T>> T copy(T o) {
+            return (T) o.copy();
+        }
+        
+        public Util() { super(); }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1Ss.CV-9#*kv<^L0e#SxH*&&$gGMh5CNIkdv;x?iXV[wB6o;>2mAl9Q1t-S0yfR2Yc3e]jm4cb:f_N3=9tjD^lPCvpJFE(-M_@]5A/uCFZXs..E8WAx5T,_K0b/QF0BlSin;Q[:BsD8y5vVK@)@(M&bRoZSw7%6sX[Kwa,qq9BGBB[;cJ77oNB,-Ts>bMG:_TS.<,3w.P]xuQrTxcDAf$=%/p.7`YYDh&2:YxOV<X0?NK,l%gg1V(7Xbk$SY-tsV@wEjw[@q$FtiYmfYm#%QM>$04RSl^;uH98pA$VF:2v=I1gNtA1XHp#KT,<Q/4$&[^CV5vQI6*>`&(SB$LV]Mn-7aLAJ%vm4s.KYKai.9tu4jp>B=MFj/g<nCD7KlQ+d]>)pAibB:7p/]>8g9D?tAlyEonZ4YWw4u0Y=,;=BvS<AO^[g3*8pFrP?ATiaE82T*_rL`d14%Z_]snPTD1#N?6@l[Bwht`12VoZof#iT$7)h19nZr&:$pV+t;lj]9.gx?soe#4%2SKIX;kVXWk=<p0oMJ^Z,Ao8Y(hXVDLk7;]Z2#>n(]chorxdUS?QujH1ym[tCI+D<DdM>^`MZO<3LEgat^MVt?bJiA)RKNyxA,BRaSF.j&maY)(Wq1P4sp>X:u^]?HkP$IwU2M0I1PR*b[oKi_S-#K_Tb3L*O&ZT_0kp,IQ*ikD%x1:9$r<yF%^ta;OLum?h$L3F<1]P%f1V(^igdQi(l8SD(StI-#a/-jL0ndEBP[+6JjZ^)<k>7Xp*XZR1LWx9HMue:1hlJbIOdWjySFN#/^ey0r7F(0(>>)5auPT8WBi_(e;l6BS%LoU4ERH/V=(9VYw1XLAaj/6eL@<gmX@tH0B]XunL*MR9k:wdTsfeVYgm8pJ:RX-CKG,dhyrH-%+>pJxG=^gn3Ab`[+E(4w%OP*+_N&&O;rX<qv.u_WH+0J1VM[U*:bh3KPpY<_VurVF:f1xqY27xrtP=-:vp(V@7=LKy8&#EDM7&Z;>34VVnU.hZb@N7kb>.wPymidIvK<)UDn0PxnuuQtGI:,>vIFN/=0K@;e]Vs,`YC&mZR-ne;IA#4P^&>Ox9TichC4oR0d0%>^Q*Tf(+(Z#^>B9m6(7djB`8g6G_>?m?E$`twlk0:`NvQKC.X66#a2RWCrG?Xy`?Fb9U0iCwuQ:]YgSO$`2E549T$VvrPg/-)s>X.^7IB5f5r6a-X6#nLn%DD2^J;Psc*hPqL1;oY=>:fCv111ne`TZQAm>sluDeuvJZw$Pc^XgtO4Kas9IAU1>(perrt%i%iNAbX6WEv1V@ype?OYAe6sfb$,dRAfe$r4Dkd#:1b%iv/*FeVj]c/+6o#W2hn+*Al?[YaT-kjMe<gmGIfHCp1./3PW[VbvuhO52`.J)54-<E56H1)=;bad:[(n00gKbixYGy7vI+i59AVvpkautHTFR.,PEHyVt*v/w3MfZeyVcBx9eQ)Xu(YUPI@qSbLqlJR@tA2I0&1.tFDFw4l3Gd5<ijDS=T6-+ggEsgD[CkZ9?HlIuclOIsRfq6,V/OQ*[?`p$7Ys2_xi=@JuKQurwc:[`MmS7)`+dNrMe=`tk36_FdrZ1mZJ5kpjj>)0>:>xD]J;njW3-Xow^HC2+n<APVn#S]0R]dLtp$X[ldZA=yLiOj[lw-Dxj-jg7hUtI=rLHO8jPek_(iLyb<1]#GveJ0jj7JQM9t@mxRwZpr0g:WFj_Y<x8A*,U?7Me(%tW*?nesmR&>KrM,W(fF]4:^x5j4nsLNg>u9:YJFo)1tqP;[QZNDkgjc85vs8^Wx5F>nKMZN4O=O-Hi%5nU>8`HL:HaS&?%8T=&=(ywv/=hyt%6dOvK8yUfl:vSDXk1vlW(ZG+G+Bld+Btj1]arn0s1IUIca%E>e7(hsBpX)/&Bu:7:^hha>nH4[M_]<_*5fn?,@,wo7cD9-^cJRewUKwgBJrgJ(w1P%J@T<8wK#Mon;E<o]e.VtX7/YInRp[@Yus2kun;5@R4,*Xv9mE,H$;uCk#$b&cLX)aB>d@8,[)%g+Gya97^&BuJl%WsqB^Ds_JVj9jkXv0ZbZ]^=KuOaGD$e8N.Z7yLLM>b0:0`(<pHtxuQ86qHuRH>Q$*jr5RB1Dfg//oQa15Wa)0YL6Md(Go1&qPxa9MaUgV>aE1f)=:6.jIMImiICuB%<VDT@uY3>#_lL,l#X<xaC#A#WReNXU]il.jJ_r8OFlCA7%sAUdP*e4]@BqpEyvM:qm-Dy&pGp>.@4-p+gd&7l+micr#&`1j[_*BFacU^dqh:C?lro>DkfA=x>kUw2V^kdW+xTDbp3clm1b(Ylw@*ct;NIc`L.I_nPfe:.I<jRg-0$kS4m]6[pN+Ii[IibL,1NUgF*8<R,m/V_n,1R/_d/uYr]K#A4@85gJN?.gp%bu4GqiyhX,rVeNiOSZ8BY%4`%[3]llIie458*K,6X$8s]u8/]Rpxcl*6ac*)8M(pFb(iDgu2NG9r1ZJp&^BX7j(m;5>[tvQQ*.ewvktPrvX%(&.oBO2#i?R5R.QWL=wwW[7ag&i0HoWN?21Y`dbi#UbAVKYVJO1-ATI`EaNL#bLHhtA<%WkxL[-,>l9R<U=a+neBJOB/g$tc;L)]xtt.-vu^:<Ov:SMaPp1c2y&q^lQ#_p=U*-C>[(/9:7NDWLqcU4Xa,pu9Fd](bMY>:TFYw8l&JGAcN=VduwJ(+0=;&9cq/KdIo.TuqZFk;;@9AjWM>6J.I?sqdd_MHwA5Ie9Y&[Dj`aZJSx-@&X6n*GT>]BKF_qG[gSv<Hm>";
+    }
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1Syl:0*QJnaa8A%D_f]h1$s3XV^q:9P(3>Hf.L*=`mk.MrY&X1,GM2FJ$4*j&f_(i6895ED=EYFK*Et2qEIt%coU7<09q2H:OD:-ob:ti>+R`TvI:2GBg7;_2V*:HftU^KsuAMXt<G>%JDZk)M]$o$Y6u&VwlUTJ?h,h[HDt-QxGPY3@CZIp8T;Mi`&-#%]rIub<e&]=k+e3Ajhv`BuX52@)^^SncSJ<FnBkXarf5R^`l.)$+H42=p66&,r1r^FS^%`;5g,G9]*yKY4@Myj#g>ReE(Idf,%adf&A9m8KmivxP.ie7S4d&NUZ+Esn3iq,>;AwAqC8+>0E5%Yh^2,oe3r_jW&G5Wf=_#HG)jd)`:Aqt()l+WWR=fEaCa?7=A5BO1n=S=j3hev2ZGKWc)tjY%K=s1,0v9AYH@wr&(>+MUs=H$Ngs-_6HV]d`<1HZ%I*mNPT)bHxQKrdI&f/+X+k-YfCY4gu2E=^$BhZF^TBfM4,hDtA#eqWX3k>e(;#Uk*+1g.^70eSnmDdf5G()x]sMH,WeiJOvhIVVjt?xebm.2RM2rW%)?Pe[>^AcVY<0xsPSVVS@nJP=bVMxBIh[#hggvnxGP]bEV>n5yQR?t@=4p<rHiN-&vEaKOeLU;U3b8+C?u?:A:TLV`g5j.v(I6oAVqXKp-;2Ie5GcKwV8B#2N?%H6FC17RW+_6&fqZ?$NZ7]Vm/)YVh5M67]lkRmwt;ejfss[h%[9FA^>7[P`&u7emJ/C#[H_ORF;yEaE^2;*sC62H-E#5_mS;?5/Xj;+(#I=,-Pms4eAyY>W:;,tY`R&)&TxKks;6)jQ%A]UMMPGF1*5n$GSS58_N1YlZX]WD(Siv.]:Zd1J*5ytJ8N$I(6DjbhMT(o^<5bL_qe]@-U3m.RKAFnrnlvegSJ56Q.aDgAP9cye0Xg:x4_MaEh#lsQ8f_N=ti-bEVrsn/m%6<-ET0Hhw5-Rv3UCkTD_[(-VK)%[KkFXMW?KA2&jk9-JLf#^DKoW<pkjB4UAc4)R9<yXW@x<L&XS2q@ADH][^2gquAf73(89WyrJT1/3DT+^PR2=7c@[`.;@Z^.>;?cqHGCy+3[,$iu`wyMJWSkv5Z@iSc3c>`IxLthf=q5lr>9wk=,`gtOb0f5a%Qw7f3[0aPu.gDTRA4h<^qPVjCpPQ%yuPRuNu/xskV)VW8Z#ijOm=gFN/M@Z?Q0gXrd4tp8-UU0[,6/T&mSN3;oUY-W)DYo)-C5)[NJ]4SUO#Eev9M%*m]RhwtZHt9I*DLVy@xVmNZXRN&HB,E?NLEIAcA&#71fgobTnV(BRNoW3MB70rBvP2/XfvP41g*6]X?=y_%I=%?fu)BhXQ[-CVa6&J;n1E>E1(iB_u`Ad<f@(&*Ak;S3/]MHsN;LMuEe7b6E`G+HO6:$e=9/0Q`<jRxjJopC8N%:taigx]NU7ihI3fpDG/O[1v<EmeI?(x]c>%bw7[lIVgZN?]l1al`x_22]dnRb&^;vldas4.yXn00b+o$CX1Dk>CeBB6PlhUlu8I;]C%GhE=+#WR5b2V3iJZ&JQX8g&CI^c)%r:eNu*-:j421NP?C)W*xEJNCOq%nm>UmR<rZK42m4UnE?_#T&Fc09SR_TKmw.0I`QY.hfFxAV0q?UmASCZ+o]iXVTeOIdQM-5;w.hVb?nlJnVB%&$i,-i#g8,j9TtOG)G`KmMu]%];]iZ&ePu[ie64B73R^5Z>lO^-.PV9@$ltx5QOwv5$$+*T`M)?7#(3.qAkmfO=_aja#o1X9pq>Ros:haB::MIqiP^e[_VLtB#CynovWGnO-+hy2.Wo7lZs(xvUF)=&S(u&1$9dYG@tiE-<fy$q#ORdg<,8h/<Wn;fIXV#9C_5r_&ZFi@rvW%Lf,(*It_`Zce(+H,sZeFkc9C>U8JMY51OL^C[G_`#iyi0A7Sg9E0>T.]C?5=L0k#6lxHoli(trIi(?@2tyO8R1`V$7i%P`-&_:L5(&PxSC@S0C$_juZ6Q7KC+;+aENSM/;Uf`w4[`IK-/GPBQ*q@Zuoj<FUW%^cZp]BGO&GN*P=^S`IkD[X,RS^Yh^4KB2>a$m8#%6p5?7;wSG4&N_;WUeF6Hbtmt7t(Z1fnp+bs7[XgC_X&cLr*Zv0X0Z9+?Kl-<G]P";
+}
@@ -0,0 +1,89 @@
+package polyglot.util;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+
+public class Enum implements Internable, Serializable {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    private String name;
+    private static final Map<EnumKey,Enum> cache = new HashMap<>();
+    
+    protected Enum(String name) {
+        super();
+        this.name = name;
+        Enum intern = internEnum();
+        if (intern != this) { throw new InternalCompilerError("Duplicate enum \"" + name + "\"; this=" + this + " (" + this.getClass().getName() + "), intern=" + intern + " (" + intern.getClass().getName() + ")"); }
+    }
+    
+    @SuppressWarnings("unused") 
+    private Enum() {
+        super();
+    }
+    
+    @Override
+    public int hashCode() {
+        return name.hashCode();
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return this == o;
+    }
+    
+    @Override
+    public String toString() {
+        return name;
+    }
+    
+    private static class EnumKey {
+        private Enum e;
+        
+        EnumKey(Enum e) {
+            super();
+            this.e = e;
+        }
+        
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof EnumKey && e.name.equals(((EnumKey) o).e.name) && e.getClass() == ((EnumKey) o).e.getClass();
+        }
+        
+        @Override
+        public int hashCode() {
+            return e.getClass().hashCode() ^ e.name.hashCode();
+        }
+        
+        @Override
+        public String toString() {
+            return e.toString();
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1792337795604L;
+        public static final String jlc$ClassType$jl7 =
+          "!1[aX#j-8v]f78;v,HL;U[6&ss5S;NDdl#r:*1W::/d23_QFvPI;-]>xw79SC2Gk2QOE6y+H)6tS&PJV=;;Dsya_:/]A&=OaxDFP/W.@-xg2S+VTLkIFpnK(dKrEtyEt`-uCAV.?P4QSBnlUvXItKKWtgaab#/^fuvKA%u&K)Cp7F>8*rPE@XCT1llFErYsnS>@`v[A0-6RAa7ru%*0KNo0IhHf%C+4rCUMoeMsN@l9^@n@HpL^ZkF3^sFZlt[?mI2se?VE/0C#EB>L9[hs%u1nFgWNM`OK+-aR^7@a#nQ.s.x%*Zr*A9m<d/e*K19XO?)@Zc3d=q5];5ExQnm$6vhn1P[lAZ/3:[4SNWT/=VI=?y235y2tLS2vg@X8fq/)h^A7R>uwf^Mq/g[W>U=HjPb)+qCL[ZGKWc*pvM1OV__]SeA,.,C:ge$yI8hW)r^RiENR<AZ8warh;@Zf01`W;yIv.=2@uuce3hx$b>aTfjn$E?RRc-=g.W+Ip@CGQoLQ,#7Ih(,,+7D>5pNM&1?;AVS&>lsL,[8G&ml*sIh`5eq0K5hIMPi(e^[cc.CbuGW%mcZ]W$Nkuu4X3Xbm(`&V5?<A=<db_(4uJDJwBZ2x1sS,DlQC;lDdhv+Le0L[8SGj$3qLCSMtKs.J&)BgNVkJFVAI+.]xl5DMo4qgki,7s[3/[-EEUY_Lh<vCE:(7Ib&gr/GV8J8T>w.r%3BW/bo6eLgXU)Y`mqj+_5qwEi>,F>OT/XYfnZ?fLi3*Sip>77x_F#?EFe_>o[Ep^`H)#=KCE/0H^^fyXRdY=#]?8lk4+YhhVK#p4PF83#jnr9hNW],GiDY4T$#bA&<lfKODg<+xf=DZG<(c?OVQhCWW>fC<3kaE-w9KF%&Nx-*l0]IY;3^smk<?-R,G:Y5TI&g?Nl9yIbHxdLaB)4QwI##v.3t0^85HWS:)vBrITj>3D43HjDtd,`w_cF2&_hT>lWdKi#Tx^`2R]kB10x]Ut-A8YM#mY7$*2WEGw9U?IP&Ebset4oL`=$NmRvMescp3dZ5j_t9oC]n1hpm*dcST=<iQ>2u5P?]vp7W=+)=-Y&t#@O)BFtMES$.u3Oh1F5BJQx`ci3/0YrZo(=qZP-66VjBZsBs)LbM^xZU%jImipO3JZIG<QZ>cj5eX)QR71Kn[$.Wt3@>wVTSV$<N[v:f,FSU]t>a-#I*%,IcR$r,,@U?I.y5hwW6OcpC-H0mop0&BnN_f1R8+p]#%0Dj-VB<i%#?L$)Ex+#pQgAJm>KViXIt7Q6Q02tX2PQZm2jKS3y2BBr1/[tqmMX3f@^-:S=Du@L_Uc-uD<3Z2;;M.&;ZIlAoAaMJo:<[:hfYHr(^L?Uxyc+d)#^NDo2_7-t6UTXoch/s,7)HuvGSf/jGZx1C,e7:&vgmvhqM@NRhwLN)U`LMxSsKj=q:,PvI.G]^]Z:l*,#(b,FEJKP&T=fMpfrnet>V@CGu)Ln_/PG;<W2>_5vvcV6hH@t=Vvc>cX^SQu0vm3[Y/)rIeTjV#[5(Xh;OGMI[licfW@Kd,Hc%A+xv>kIK6_n-MWJClU7=9ki`GbRLb%#r@fZjinrG:ny&)^>kad%9N6bmV873;D&#caVpXet<6Ei7A$avRPUfYgLJMvGd1[V2ypyTdF6Ei7`^W,oMP[2(Trxe#f^LRil(SD,kQBWi%8x#6r#k,DL$@snEOcEBovfZ6&C5-;i&_H;u.Q+eFryA@2ypjU7NbaA7=Y=-<7%Tn@=Yg#roEhLu&nT&o&P4dQ>L(CR]3-Rc)7^hWU3>fiQ*Ub@-O]i=[?#Ou0V_CkF$2R4%-_vZ4k:-[w).r6xA/mx,Zvdx%&rZ93QuiSQM=VUSHIe2C&-i-w6aB:/6ctDAG[4+xVvtdL>Xd7FBBkog:6/cdG11:n@YPG,&(]+h4q.3(jqyWN_NwY2qv=VCeGj#-fuI0Z-`HNuELxR9iN=&F5,=`#.@<,NAB5JoIeEME7bydq)vFlD(Z[%Vp>7=Mc+Im;6qS-+^b+D$W3:M]qGJp0=sZ$2F?W?ukT6f)<UvRRF-Cx+?@yyP@TuCwUoh7;MYvt-,6=SJ1E8S2%@7M/kCZpoqRd.1?o.j]kePx:6M=H[]-$g+&^RTR<v*jTC,I(4(0e;DYS)]9v-o-RX&u4&mY;R#=($?>4qZ^I:6xg_34+?V:ZWy(2Ugl+F&&tK[pe=*DsC`VaUDP4:/snW^&a*[=+FBm+b,[nN%i@Nmp-N:c@yeeYM2*mqpO]5RCKF#PK);u6FrR:Y+Hf2@ICWkLUnmaYcIaFAa_>HY[l*;-F&oif[=pxrmV.XoVW[i?b<A]BeZL)ST%F?COU50B6DuFyekg9*X53S/GeH(EcAk=Wf+.Eq3hR(?`7EaRbKY%La+IgH/21j%g[7]`bnW.m8Z/,gZQ)5XuVo;0D<kZ0k3yI@9^kC2@Yj+/V5@`)/f5A[=5lg9G)ZBQXfPMyH_:&qAj4]:R`?WoGhwsqP48o7hUPC[`*WiPDqxVAa1cx>_2KDU?)yQC-qb#auh)9^W+U9=?KyNosn,EdbB+8H@GA8Mt,vUcG0gQDLV;,KXBM6LqDbxBu>sNnmjZf?";
+    }
+    
+    @Override
+    public Object intern() {
+        return internEnum();
+    }
+    
+    public Enum internEnum() {
+        EnumKey k = new EnumKey(this);
+        synchronized (cache)  {
+            Enum e = cache.get(k);
+            if (e == null) {
+                cache.put(k, this);
+                return this;
+            }
+            return e;
+        }
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792337795604L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<:ss*^Xv`7.Gdj,dvW4N,(3&OB)kZ;@Jxs3ye`0,r[f7dJ(BdK^Vrxl[:`aE02Fv#QF^BMkUL`=qMTn)AckF9utN1_;d4:%)&@NX/63LNvCpT;S3uv0>Bm:L>e=Kb_EF:X:DVKKVf<PacFUclUs:AILG506e)G`s():q5.*6:O/U1K9juI2,SO2M<36@8W_A,l3W<qcPlpI`2KA,(*-Dx;S5Dt7$C^3bc6Ct?@D*-*-m14D>[XrPf>@.+XrYbm3LYVjYEkvR/j@J6/=.wBSOU$=9nVGQC4[X.9nSc7XR_$n?A.kNXc$9ljO#&48WClw9oqvq^f<&l8s;RQ<hiEm6%+ES-d1c.0^u5jj(rf:=%YyhO1Cmo>$=V.>Yo*l0,G#k)RB_<0NylTHAr>Ca&YCVhY+>([DEm)X=PYohSdIv3?&i+LUSu+6nnw%Q?xX3Fim%oY*A6(0XbrdG@uBQT+x@1JumLg%C78k`pt%`Bssg@2=l5W<Ixsu/b9Vn9usJg=OZTo_m/JQEkM;[$3.Oe[w0.8ZR48R+9rj>Td6YP8:Ji;*28A<F<jWdADMm%@q5euSAuJ$Iav*,ZicPs;SFr]8H*W9?QAVoS)%Ly]BD@1)V:hRD59^V1)9as8^L(sA$dC,Ym$$wcX;X,gQqL4qkaw6N>`MNACZ0`odpGDZ%_w9QYTf73gf`6Z.`^@$.@drYGq)cT`2daF;vK<mh6OtrI/I&(:u#oGpY(s7(&#q^-kh>M-`?Y0uN8$;`Y1JP,eI/^Gfg%;^,AR?5&q5hY+0_X1YiOswb+gJa2g_F=29*CNr`s;^t=.rpAE-<JCUHEYJTTTb#p.KLm=CMD#?j9=c/AD4<Zb%k%3Kpk9&y)-oc2XBR2q-E)#spvF;0AYu.uh>HT;)riBe&6`0qi/=qM$1H>oHk8m&HBuk(u<$mCpWpMeA`9:&j<n[N$<RSGG,h@&&p:S-b*:K8_+fp*[%EF>S99dG(KZ5(8s=Qg-[rP[qugSm;0Ie4^&iy&KCH+K;=sawO5sU]3t9dm2C)f`VNK.Htq4E_s`(Z,O2iN4VlV=E2]-R4DZJ^$`kp/Y$?dNyMq%wueUV9%.Q[h2N[fP#M1prhA8sTd_uVEi.Rl`M*WW2@Adg6C*jY%t#I9bhA4l;l^4pCMn$be?/w5SDe^qa2i+Cq&C?r@J$bHqY+.hFS[(Uk0aj23gV#gAT(Hm)V</EK,AWVbIf-jJ0Ixl=I>_YUe^HQnL=OGyR3HY?9U((k/6`9g<s6cqCfZi8%nq:aq%PswHWI(#a%V=oWcM+mCp`Vr[*(gUaBJJhU*13:?OakL+#w`w+l,^nf:`yLxs^:iyuLWN;dT1xp`)-dN&rZrUl2Tt2=DeJ(ebcPqtmi?$*.j0wHTqSU^TdA8cqv[vNvperHpYEBL[7A-(XtHv*kt`H@j>X1Dql**Mb*gdmhPNIt*`@(CIm/ESt(wr/<n8[GFjE?GWG;FVkx5,Oio`br]Gf>Lx-3RmFxTS6.w/;$u/d^f[uw9F)WQf>G;>ckpit$lpGn^[sg[Pm&gM#EpvSPGQ^*nrEpOfoBdIYpJfYB/lSJCDT@St%k??C)Nq`e#xcJtk)lmyt,AN:X7WC=h^iDU5,`y>%t:ri;GyU;bT`++@R+Pm-AZ#[c9B5UY-ZdPKpx##VJtey5v/Y%b.1@Kp#)b0$:*0EdD58RKf(c+_eqAhF3_a1EK%RItp>#x#$X=rZFg[f$^`oZnh._8+qs%;dX%op%&ER<<CiXdO^2:HfDGg3dgw?WE?BqQUtc^yaK5/8-C#td8R2FCDVV7SKK4YiipRGOmIkNEoqIC;R%PTsRt3(Iqc+*:>IxhtG%e6luogW/rMltiNi0]g)OcAyEVioCb$CqfKh[5;%tjXh2gN(Bfc2E$vPrSg-3C?iuc&QTu8FZb?1H=@t_1rHoCwD-t=l%PU%iwBKx`$+i/=CFK@rKlpLsgt4*$ow9_UJ&trxuku3vk<MqP@yH^9dg9&YnSDFwHn(Ow%Cvjo:%QKPkbhvV:Glx#>8/Pl6:ZfxA0_cnq>h``_FLI@.W#.CRsUFxWgBT[jS4]B_OAWoIFN*d-uF?pVZ]By?H#1mh4oH&dHV`WTTFO)_s`t#C=-7I*ZVjZ^E1ofcuM-I5)uXYQW*Y?0ctZ5FK9_P@W[spd$_(0%MCm_XxiO$HoB),fiVrr.sJ4c@)tiY[PKxY06]JV$%g8sf75I]k1XYnoIdXJNTQ@:;umKS=y:YOaYYcWQb`_):07#Eu^`uhxa2n9vFJj,Qsh?tS&D^N1&#?]v_OwCa<.heOKJ&c])TMChXR`ai<meRc0]+6GojK<>O>a6Ot-$WYcFuu9[#RNp>;U>tV*^btoH?(9cN*]fm<+[#ypQIbj,Hr(w=Zqve<F/,/a-1)jLc,pVnoQnIj,=x,hfL()C&Z>JJ>nN=;V5SN=kktitq-s20+6bvnmO.aq+-;kfLAMcgN85ej[WE7qHAgnOst5?j?P^sqX@3k.0_s/Y<w43b^#K-V6t,,oN]?LP*FvXXR/favmm>[-J0q@WQImun54[6-+>nv:E+tkaL[/-P0,PR)Njl]qLX]&oA46&KsQWdsJ,L0ePOP2SnMx(g+P6]lJwXo:004b,]UULZ0r.fq;n/9D#2t_rUghiJ?#KG*QpKQuMrKi]ZaAG,xj.7MW=HA+qS&:3`BoOuyja.FMR^1S27mXejI*IjC=3A[N);(^,aG*axXk8heSc:_>kLv4E[#NVXqCC1G+oA`1_(1CEoVI7U(w4dr+iDcGXUx_4;/IIN9hw.D%tI,E*xX0-rv3u0*OkT=-..]_<W2Y);CjRBc*ro+i@=IOA69?oOFnh.%%uiyeP#OBs=5oiu@Q:blY5_gMOa6DPQBJbe[s[$5#ih;_P;DQHCrTTXV9OXlVR,w;M10_*vChwc;6dkeMRU0EkdgkqImOMEylB_R@sHtTeUqCP^xiGSERrB1JLII5K2,A=].n4:t=o8hs/;tKqch4^y*vrRy5*R.9?]RYM`P)k5:,T6&C+8JXb5yn5v0;jSBLmjI`F`ChqnCN6kUGMX?(I:/&2whNS`l;#5UB@-)EU(rWas,?P,,kZR(G>a1[YulBIU^o#a01:hTRy1(F^DQ`0.URGXQE04Qe1yk@n[+K4,4PGW#,`70W>$q?`3%0<v(yf?d)ByB9Be]f<?)RaK6X`$T+8xqns8i#1u+cl6oMigH]a$Be8%81Ar8edRsQ([:il.I-Ws]CiWZS615XM`/d45BW9Z9lPA_7tY2gW?5CqL&5Ex(lQ]yB@K*06#cN0#lFt^kKrrLVbWf7erl608GU:)RsgK.ft/whT6)PjlaWa<lu`Ztrbc,ZhT8?=;B5%xd2_hqO*[e+B@C2A3%Cg>6b;EDKd.4O.QpQ*@]#X=wjq8tg[L-_1@F`P(JcNtqcAm.H2/EE5ef9I3ng-9M;clu4vu-^cC@<ScOhww=[e3#P7nUBefdMmDkZ)n1#tho`lLF55nh.robX#mUjs)>n>]dVJ0-[bl3(nmNb4c;DFI9^Il@h@S32(^`sN<e:v^>";
+}
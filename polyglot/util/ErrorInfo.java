@@ -0,0 +1,41 @@
+package polyglot.util;
+
+public class ErrorInfo {
+    public static final int WARNING = 0;
+    public static final int INTERNAL_ERROR = 1;
+    public static final int IO_ERROR = 2;
+    public static final int LEXICAL_ERROR = 3;
+    public static final int SYNTAX_ERROR = 4;
+    public static final int SEMANTIC_ERROR = 5;
+    public static final int POST_COMPILER_ERROR = 6;
+    public static final int DEBUG = 7;
+    protected static String[] errorStrings = { "Warning", "Internal Error", "I/O Error", "Lexical Error", "Syntax Error", "Semantic Error", "Post-compiler Error", "Debug" };
+    protected int kind;
+    protected String message;
+    protected Position position;
+    
+    public ErrorInfo(int kind, String message, Position position) {
+        super();
+        this.kind = kind;
+        this.message = message;
+        this.position = position;
+    }
+    
+    public int getErrorKind() { return kind; }
+    
+    public String getMessage() { return message; }
+    
+    public Position getPosition() { return position; }
+    
+    public String getErrorString() { return getErrorString(kind); }
+    
+    public static String getErrorString(int kind) {
+        if (0 <= kind && kind < errorStrings.length) { return errorStrings[kind]; }
+        return "(Unknown)";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Y01PR*^XwYAxP+#B)4nT)gvCM,$9L:qGTn]^)vJep9s7;R>#T$FiJ`9l)3k>h>o]Pf+ev=3P3*v1DM[,U,Ky)HiSaZMv=s<kPxr#RyT7Xjd%@A)B9oSTq@]TtQl13Qakhl?cbBgp3h3pKm>kij312/Rf3Q&qVntKn..8tB8lJ2F^WsXuI9dAayy*)I<p*:OD`@kQKZ7RBB/jO*no>(7*=csVjW[YOhYucgq<xQqD-WMlH[Is>LU=YTA)@]SNPjiCA#Nvp)xEC;p?;Y;7Ke=pG/Vn)D`Vutgrw+*Ad=5t7AVD4cO5rHM.rQX_0&wd$eR@?FKD#4?r-7*j:,[jpVrQbrG)9]9:_?H-RZ4;eK^G*]wY:sb5S:/I*uHRfx5[._vx@-$hoQCBP_3,T,LZZbZFG.ZEYlXHg$[`y9ub^I%M4l-`6=hTk7LCmD)o&$+`RZn.T]g*@3E<sIoAX-`ho<5pELv]A+NcAqweGhoU;_fyN7@?d?+A2,61d2wrA>F)*(ZTp,LQ$&=d%;kYaY]^wNV49dLbbI(R[LXr4%+3bj0=M06FRq.Q@dgGM/B-.$1^#GG#V[W?&0qyB:PJGGDv@DL6^:/Lda4he<ph@yDXT5@2cq^q^:S#L48GiYX`qS:Z:Ha(SS1u::UXy$2@hK(;j6(m`#qvq7R5C0oa>*rT/Uj_gf@>lUCO0PKj)#YpIp6<bCP%utl/+&))jutT,NCsGeYksbRw#Sdd>QCrR`fro]6r-q?n*OtB4_25bs(HR2X1,3`Igh>&n=h<[XaU9;c*/WdBR@Rg^6F%@t%jN5UCCGuo3hXMufgL&u`@10w3wZ%s0:PC0(3:Md<>Aryyx?je>:RC$4c19S$o*QE*XYD&12>^PdX1A^btiR9%PC*gb^@siAGh>LL+;)V;^ew#,^i5/,1V52em41>_P[aR<sAOLs`:17CMXt7x,Ia-*[FQ<O<H`]=?HBc1i*[iNY(x_bGq)si1BeJ---myf4SUmo`[$VR4sXI/HBq2,HPapbG(1130G7_9/q9P8<N6*B]aH=Q$4*EKsQE;3?PKu(77VhN0dDG[BiH%MT6]N/@`p7WZ/4:(C/Hv+v6sR*/UE9t<Ru32RC:Y6PFv#v+VWHJvZ(iqK)8-&+qW9h$.Fi@sQ3QR]USMHjCL(1FpG&]gX[:?.cG>b@qSOkl]a]rbnaNGDH:%[U@Q%T^<3Q*h7+&6Hp=uN)&KqYD:M3019U)mGo*Hhw,wJn&NqrP:h1,fiT^fR<&moY*Ynnqo<3]E_23Xxj^1LY0uA?e?geggIh=%S)syZC9=S0R^XoICbgNV49;@7:o14`GI(*J4ci&+%2?bNb#/oW4q[r;^R,3ccOuntHx(Y3kM3Yg3>E72KJ`=i_MpaM9XQ2bNN(H9lfk#/@QCrf3EUR5m@6W?0Z]Ejx(mB9*%OfYfC*7oVwR9Lfx%3oJY?.s2K?ey7Ed7mBUoOYo?mREM4FN&5Eiw]wctY_R3VtfP$ipMHNa6-,nkGcvG44Qenbw?54IeV1Er0,cEqMN,hik8wPZpA+f^xw6Y1<`s$`f3%kl:Fh_>?;*OROT>4n;`#3-v/Pm4aa.)mubi[;@%[RHSP2fuid)Qci0dKu/nRW[Uq`Q_OUxy7g(,/Z)>vVTg/(xsrr.EAuWB/u>n/%;tgo<svG.^53?%b:62G/k,6rZ&15*)`,>,Z_o&UKj::BDH$nKTP:145cvH[1nOot18T)htdmn]CR4;FfP9&yY+7gZJ>CM`C:O+.:e74G5*G?CtMxiGs/u:ea%IvX2T$Gxw+25&[H)gkoq>l.3=aKy_$>`y-@N/i[R:4bZSSk@o^OPQhdU5-di<ug@>NP6YVi+oH7p/biUl]U[;w-fy1k:uj9,o2IaS)MqO8eh<GX9qqiA.l3Axj:OP1No*.B1R]pL_*D0*&YC#R]%xVyLin2HTOjF_A^Iq=exD$0E%c=t*&6E.MD-^3Xbr&q%To=mx*DdXPYoTvK>#Fo*b1L66w-$au6(UF<HgYq6Q1Pd^p^NCR-<KcZ/Yj,bqJ)V.EB]6)+0fD$[]@Lk1W[2ZHZh*e]kg;Z3S22PkGDsU?U4u_FF_M;_^N/NG*B2rdl?rcT-bi1E`<Q^FK]t*YsDGSIFgn&C3h.:(1k$&p+G@9f/qrDQ&mAeVwO4cGyIJVG^,,2Y./-#NU^C:xg2Q0<oMfL?&9<4hY;550bJeKqJ4;)(kf<NN2[IMCYI%Jnhc?.cyM&sOjo9X?,Jn;c2pbZHh#H,-bCR&Y`[@rSl%<3Mi]4:FI<vk%sk.ZUiF-=LWnk:)QX)uG]6exOyK<D-QIyVa&GMe1V(iulmk9Qx`$r<dhP-x.-E%-NGf/y@h9Lqd]gI:7%i*_()l?Vyxq3Hme7%9yrVNoD/dsGAvho,Jj*o4fFOo0d;g+%<xM2-L?K0+vQmYUy5(Y;pliEM$g$6+m96Iqf2@TVjA%m(KmO>X2+KV8kc.=`jm6U>@yl1u6[PSnLJu;,M^/EP>PS)Yay-i+<oVVg=>W?N?<;>f=;lS=XY`Q0tU`X?gDdY:Sn=<^QaL`1325O7MQ>wNC-qCsHy$Mt>2=&3QZYXKWStHx%A+L,ZB5;M6#&5%CaW`gMu[F2.Ibr-71eIM;Xc=MV-F0<YuG(*(xgwx<Acc6PSPSq4=UvNv&1Jn1e-Dog:/l<y.f]0F/4l1oU]R5;EY#b_+FQBstU0Lh10h20m-hcGa<c)#xS-`p3>G1c4N/[.dB)>)GTorutY3.]PrwWLgg#vM`ZDv,_md,8Shse9kGFP?_QNuZ9vP>MrJnXT3l1x4Lh=$]SG*/_Yhw4;MsRg,8]c-Ha2dY7^HVA@(?0M.6+PqI*>@%65pUty?p5#8JbOICjjm3/:Sjm9C7j;f/ElN=Qk=yPkoJtYg@cG;ANrl[<49(jEE<e0%qJ__pK]U6/WmtUnsc5MoQHcB#6Bi<ItsV/i+@Th/H(x1F$RI81U7ep_hMm[`LGcgS/Etg4Y>>J%B?A[kDChB:+34XBLSQBD:6ZVgK,&4<`mWP,1l1-oSr@Pno0ZEm.PE$nghPOr+-FFR4L0,.3G`PbOiZ&pnbv_HDe7j,@5i`Z7=gxWo>_pJ5sqyA`$-Ksij`AGhZSuWg^H(hRE[?rBmtB-5B>gWQf=v69uG>WYott,d^a8S+7F@CMBQU#u_[MEh,h_<kkS@X*Fi>-JGV&m8aWn(,8iV>O,Aa]fQ]P-N`5TYY5cARj0.Bs@OI;X6O<N`G4M793FRIl*dajHIF%3yU?*0Y2ma>CUd7RSfhufautayx`la44Zn#rbP-fLEHd%CLMqV$C&@7-<;JUCEL0u]G&w.0F)&SfpRaZuseYA(S>4G<-[^)r@`nx=ebYqNaFxtlJ(-=qw1/0C?CK3i1s#t+eLD[:LcvyeTF[f50ZT**ckku%t;dTf`U7b)):G4;UD3:9UeagtdiG,UJ-.(O4u<&ECQ(]n@2;[(]8$r?AFn_O$0CI;xHcJsq2@Y*mv1[/MPAeC0)G7BOPipACLk3Tv[%hp)lx5mpW1d>jv$9SBudf";
+}
@@ -0,0 +1,14 @@
+package polyglot.util;
+
+public class ErrorLimitError extends RuntimeException {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    
+    public ErrorLimitError(String msg) { super(msg); }
+    
+    public ErrorLimitError() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1VTF8X*Odc1a@0?(k3V#YSUCDdNf[%R$Aq#V8a+E1;x0WfJWtc55uPv^`(Ep3_:CM2/U69PN^)M38p^IOR@yJ]*;(ck1O*F:.exclrN3MYXnqre?1&O9JSgDw3nc1DI%6<yK43$,bQnro+?])6A/M=mQatXE#P%k9#L;k?qe23^jIY9E.Y8]e,M,7h5s2e_@HH)Ft]ON%.xvPCh>5-J?(=b<?Y3(j[:BkbNWS,_G6Dq7Yp5$%.=MUq63mT7;FG6A%kN^_>K.W0Z[s=MMxSJpZx;QN>%wVv?sXDUd^^e3lm>%7Vi4L//%eSwF;YY>.C@<hi(qX<%w(C(5a3Q(*-P@6FgB3-4`jr9m:MyTPtApYLm1y0Y5P>xMiDfX&,CG;QuKoX]G]ij/dLWuQ&GYu;=mFSH7w2j:&qdeMa;#o6MkMP5/-i=TNUk0DjKVf?&e#fX+Zf=ee_Jn@q/vp<1eBZ&c/k6+qp`(CR-I^69C@G0r/eg1fy*r,j,)M#ew<8CJ:sb_dYSSTt>x>jy`ms+_Uoe>]os%<<&lD*X>KHSoiMvd*O+0tM@mRY[%u(M4BqLN#D02j4n:5c*x]a=?C^F_p4GEbMimGaQnY-+4nCq(SXrqTsa7&*?L%EC-Gwv6_EuvjaS_2P#,C-(C_%yUX#M>CgHS=sB`41qFdX+XgqcElVOgQ,[I&=By$f<Z`4TsJBH21bYe>n;;.-4Y+(:>3t%]4oox,NAts/<3BV*#8%LX-3s5W9>5s=TQ92G1c-nuXh]d+P)s&Iq[[J11.`EPmFnV$@D+piuDQs6Vu4#B`*O[YoDa(YMX5$cP&.0@g*/n4g,e<MwBQmg#fN]ME:E>%1$b?k[4=v3$)YHk`Uk>oc;>b#*Qvko]_2`::C2=TKKWb8h$r$hG.m_cg6M*ld6%8p]4nT_u^;ZQ1YEpt1IOt/7(M$fUsMtcON-%=>%k#B.T#dJDmiG@LF/7dA_JeiyMitx4i$bNOT.nCBXhX$b4m_ffJS?YNJdkVeKYBouf(*g](*6C$?<o(kZW?tPlULtth)=_cb)tqPKudb9u/KEx0>h5R#MLfw3?Jp7tNVT>suJ/Q>B2&r8WmD?@4M#GnDiS_XU6Z<ByW*o3kWGH;UW^;vEu_:E,#iors9G^JV^7PHup[[m`&`y6RXxTD-o9`1fOK-[SevnD@(N6kIr(^eodPC<AEmupJEtHTG1*BW0r0U*e*t5db*=<mMyP%lY1m1(jm;,4xCAk[GQ[BNKkX]bQwYoJOw%@aEZ,sQMJCo+(:G93t.8Vg+hGP`<K6w-Om4ukO?ix;<%QuO1.m+DkR?GXs8U5f-]ZbBmLYRoF>>tDDn&04Zc@Vve8g[v>B8&jE*0O@,ap;Rb3a0gUbkU_u;n0j.E7rC#[,DM&rhng`2*GM=N`p4oLdOJUS_8fQG5CbgF+f)lr5=L_ZU=aWjp.nv5QytxDBo?<n4]H&l3]:h+HtAiRImLMah5GPJO@]TqLdWM_U.e0w$5OrHnfM24KA%M-rN,r0R**GIf&+eRy[^k0s`Bqnr@,6_-6uxp<rT]wHyM`<8X=NH3B^fZq[n_1X3agUi<Wjt+,rc`<u4i&5#S`-(P0v;3L6iYpd:`@jb7]NsDg*p9<ERdW>fp3SM^ub%k_87rhE5)M;A2gtjO?fo_0lCg%4/G%yZl4A9Ust)18y^L2q>l^iWGlDFCyhNhl%)j+H=GuQs%CVIHhiGP+nDFqvPJ0hhJjWK:0svFduS?.DY[0IE`)t9MjMHU)Yk0W=GWq-]?+:-_BRQM4s0hoMN([/kXaa&a)C)CZ:e2YNur:0TiXK#N]syot@s#,mb(v*41&d,_E-QMgTr1>FpOxT=lWm^p.KD^WVN?N^7$ev<b2%#GqD_51EmAl`2YJ]65Ik&ggkhl-MH:sh^CY2$`57k(n)<&ewf+XhRq0Z4%@ockDVlh3wCcNB*ME=k6M]=Tf3H<3b=o$7Um?i8(]l,Bt4%iXNQ1MY.QI<D+[[DSBQBpo.Ex]Lid[%BJlb:@)E(IUW#VrvF/^9R1W6IcLXjlhXwnf=XUYN>FwX?%7V;52HCV<LBfdUf-+FHFo`+Uo5yCZkJ=d2Ek<ANFL8mT&69y@)*N5*f::DOaZUyil)t<Fqo6]).M*]NoNIr)v#jlo>]AGmkx=%e2GF<e5]Olj:n]?2],vs/qjo3mH7BkYe^BVxDF2:F1kBG%t3^74JB,4v@->Ox1dKC-9JwhtU];dJ]44$K7<y$--e_ry#vgOdb#UWVBHB?OULOc-JA=AIkeKkrY,tKOld+(34IjJ,h<)T9_(s9_<GyTC^eo8%4Io<v_QdrpAQRDE9Z9_Uv6hbFC/B9JlD[2NfII(c";
+}
@@ -0,0 +1,20 @@
+package polyglot.util;
+
+public interface ErrorQueue {
+    public void enqueue(int type, String message);
+    
+    public void enqueue(int type, String message, Position position);
+    
+    public void enqueue(ErrorInfo e);
+    
+    public void flush();
+    
+    public boolean hasErrors();
+    
+    public int errorCount();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<:ss*^Xv`aFUyA4K-okOv(bU5*:%h.(Y9)c0E]j6SecvX/_$Pt$p7S]hc:5gLqy3hybP_:OGTr/`abI+`FBpOsVpqZd(9D1eX%Rh`boS*oqYa7x*?Ei]:t=uYNKTqJCb0<WB?eGj<=IaTu:QGv/kwLieX-_rR-ch.+=6Zq6tjce9K;KX>S39-;P5oZTYEF#j@=Su;wKkAc_hj:R(9KA*;)=Ig67N>?6ESI2+_im(=0p:fu%;bP5@?faagXf<8Z,RD9VYSvLSCb76/UJj+/;9_tR98Z^0N-p(m9If7xMnKdDT>3ojNYXA?5kO%PX;8]j>-CESruCtG1Dbm;ag:)GZ8D%n#2c?7Tx44KaA0Q3r?,locc7/TtRdJSt952GdGCTqS_K4=8ILu9Z?&e>B);`]sWUvKY59&K*lPFt`ch=`lJRS;P8?u;4G5XF(>SJs-Tyap)]%5VU>Y3I/s-I/^?yaf?Ap$DQ@N#BH#-QQbd#Cn4U#xu^X>p]1<c@g:J`Y=Q/<+/#x>>->,]98YFO(BEK^xZq;T[v(-.e:EV7-+]/A`G:goO(PUJGkK*bB]n/G7Us+Coqm5]tsbdi^`sw2U2]].OP[8qKY<6awiksJ>Dv-;FjSy^AN&6mD:%)X//F2Uh*Cg8LDhKCCJ5`/Wl#Wtt9E%7-#e$RZ%h?x8?m,vq/EF#B11bT[7FrXO[NsuFE$2r`VWn(nYLQHRxvo6MQEB%Lqj<lf[V]<pcZJWFxnQ9pAPkiUT9UpYS<vJhjE&8PF=jP3r8Z-=NQ&dnD5=Z?RlYX_PmKM;NZ.f$X<Qq`URA?+_?WwB$<X%]pEYM/s[c=<luuL7f)KD=X%X/N))3I$f%g]?PlPY_lBgos#G#KSm3To>V_V2aR)&[iIIr=Q-U`l9P-<:)CS#O`f:[UEUgtL6t?8Jr$p@xtAHY[U$LM>m,n,@e:qY>(yE&ZH>4E_4F`GWD/SQZ1@q@R1#HJ<%Wq,xpD--?m+n]jWQgmf9%-WksxC(b$:bC@E24OAG0VSV`H*AOoGN?G0lXWGv.+IY,`7bfbr;$ZC(r<x+CqvOyRq@4BQ#BD7u0A^&j#LsYE%MsH%E9Ns^H>rO=vkcwN%+`NpWLPaD?UOo;*lQ$v?<P/Q#)nb;v>%<aO+Cf6%+7A9R7eKB6<S:;mDM_FdKHVl1d`/D7M+5RL&QANsu$X*C2i=nvup&1PkqstBnZq(GTKl(3QGG$%(A]gdUHCO-p62LMvnICVtsxUu3gWik>5F_VW:RQ4xFR-B>,*GNZvQ$e@Kl1UtVDYbdGy,v&8_nUjamSLs-&b,JIqG;0WxQ&#Y1ShQv6]5k+Q;.FhG)2qEpxQ8(-ynwRbR4e/bP%v[a_m.GK@K%ayFpa7%-6Adt@UnkuM])*g:C:0rXmnD7U@$H)1<NmTIK82Rs)09rPl4QEP%4APCbQ3>ZV5PX.mWsXJW4f<THnk0rbK6I(O[>oe<]cEZKXtjs%tpTD$$P=:tr+woZjuss@@:BCNtP*?[hHCGhwk(xs)R%<B$vJ4KruTsE6UH8.w)_)S1RFhk7RabtDRb]Go?;&N%iJOi8Def)#59o(kL3C1(e3^$ZPtF=0(=?uBwsuLj/,X(eA])7gg#S6>l$rh,#YN?xaJERCV/=9qFj>W%K`N,qpKo2=AEnR(x^7nO`u#>+H[>c.9lvpd:TqaT*HNv[[odgbBlAtP-Lp9S&Il#i/)TH_Vf[^p?O0E6Mi`NZjQZSU^uQ#r>#<CT_dQ+UJ^Jt[y];WGiF>5ev5ZoURrj/x$B2:?36@Gx;]]QNT1(L#>7=rxiGBi8cXc(ldJ(TdU><D?jlt;CK+S1qQkbUyNPh(4vRG>SZPWC]<@o,M#(+77J4%NWr7E[w?ncXbE[8_k):1.8[7ZLvnHY=Ik:a.80.j1>yEi5&s+7M@kYA:*aKlY#U%.-`Rc(R#?<A24g9jnLBd,P&`<1YMP)KJlWx9.893n<WtZLVEL:Tlg0:1obgBbR272p1rIkxdCt&yv_,pX#u(W7uv3KoJCUnOsYL_;h3be<G(4h>ov73v#B5mphjM#3Xa&h/&he?y:/O3UXMS)&;M]^V[)-6+-:2lr;x%n3qrHgqCgP@t20mx:k_Dbc#>RDFLA?s6QNJ0=Z&BXpn2L1)$:ci]9NK_.mX[;&6E,kc>Pbws(DRZyM00]v@B)3-X:,irh4Xpj;?/uH7CkBr<lT=e]v(aj]4,O@f7wd.uLegAeRt?YVqR5+9fYR-ag[f-%)I,w33LGb/dEb%1Rd=jnFGiCraP:p<0ki`SBQ::CuCmSgK._K+Qi+eEAH]MoOEdmQ@cJ*>[vGaI;N)4[>d0_.D*tMW:,6SBXq.KZ9Z(>T(HY-f<-C&t1Z^0kGjsv@afkZPLwjwCaVqQ8772V-oJ+sB=;7./C=,cnm?HkKm*%6s7M3&#`1G-gTw8:eu6)ldX</N#s#P2jGUE4pN5;,,FlANmHyaSI35xwVZW5YDIkch>t75TQQ2(<I&;q1$K&OK6B]./cumODCKT*Im?bt%GrtW[q,;r+oA%FP6$Y`9kqvFYFS]EnCb44;/MGu*q<VLqa(3Ed`YlBSp3Emv:%JE91F%W[1v&:SU3k0dQeMy0B1[5p82-=2,N+JS1Q]1-Abimv6Ycg+nr$_mf222bo<@[M%vdY$ReOvqm05f%lgY7F9OaYh5`e[Ti1cSUOyo3Kd/bNDUEVZyln*W&tLNd;;Y0>,<E)V(p*o38c,-?WfLk^Jqo:95$=Q+kHO+[jrwf7%j6CBD+MIF.9Ooc%Eu9at7iBG1PIhcu[/tU;hM(T,w.(wc.U,iVopJnE6p2AS3a*1FZj*jh35YQ*i-NNa-oYc:hjyZBq]nm#q1rx2NxT%*ocT(@EwH=G6,1&2WE%O0rRX^vgUEg7L.@e`)S7$.,=R7Qvu)`mloM7l^pmO-QC?O=H&E9UdtvrClOtE8P4@L,]GvnkUd9KJ/MVZPvNI*@;yi(k?K[T^qS=^Y3SRJGeN-=j&ruU0W7>G7lBf3p(=B*4GpP]xgOD/HrGR&M;Eihp,:f5Rv6%DQixW%-o0[r5C<fyQb4ohLfK&`bfExaJ:Uyo$]AVYwo6i.5PIy+:ZrAwG_M(%rtBbX@[`h]m,RJB$&@CUpY_XTy/$K#]uYhr6Q4a=$v>Tn";
+}
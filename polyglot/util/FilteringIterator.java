@@ -0,0 +1,52 @@
+package polyglot.util;
+
+import java.util.Iterator;
+import java.util.Collection;
+
+public final class FilteringIterator<T> implements Iterator<T> {
+    public FilteringIterator(Collection<T> coll, Predicate<T> pred) { this(coll.iterator(), pred); }
+    
+    public FilteringIterator(Iterator<T> iter, Predicate<T> pred) {
+        super();
+        backing_iterator = iter;
+        predicate = pred;
+        findNextItem();
+    }
+    
+    @Override
+    public T next() {
+        T res = next_item;
+        if (res == null) throw new java.util.NoSuchElementException();
+        findNextItem();
+        return res;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return next_item != null;
+    }
+    
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("FilteringIterator.remove");
+    }
+    
+    private void findNextItem() {
+        while (backing_iterator.hasNext()) {
+            T o = backing_iterator.next();
+            if (predicate.isTrue(o)) {
+                next_item = o;
+                return;
+            }
+        }
+        next_item = null;
+    }
+    
+    protected T next_item;
+    protected Iterator<T> backing_iterator;
+    protected Predicate<T> predicate;
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<:mq*^Y,d75:HQ:jc1*<emY;koH.&G0d>Dj-<`.AP04t_vDHqoQt3:aBEZ9L9bMZ1$[ruY+J<?$CyQ]F+XWyO2v(Y9q&0</dygl5K6FNY8h0VEa.vL>1y2Elswvoqdu5qW#X>gsG(MIbD65?U9/ocSeG][X51s>C:CPw4l2w81MK<82QSfe[8mwL&DP0N(Um+vLY>E4s4uk6bWlbT2oioE;]cv]UR,+DYRKlOZC>@YPQdoQk;ZJdEt&$(0@NW+Y+Jm/dI_P8Pn%[=?2`0*^Un(INg(&-CoAUSl//p-O;wN>%O6p_fP8i$SALh9p9?QKRYX1rAukuv<v@:N#%6WJKQ;c1S>?H5oN+u_g7Wmr0-hI.l/-o..uff@)U$NkJ#sdWMnjp;Ig-)QZ.#/0)wZ]qal8<U:l)WxnN7F39132dcpC.C(L/AM,u0m-jXDy-ZbZ2w;>mhJ6;y8uZbxkKS/*<4N?6R0@l35ojICwdf1wF/*O`F`>HTJ3S$$O>E2l^WLNauoiBWhv:SrfZCWCtchcSWS)c/gDW7T.23IWS`haiWxUO<dwB3h,(1Oeh^:CMlkKBk?gZeOc$15M?i-9*GF2m?pZek768j:(K)5Nf<*Dmvbg?3:0%Ts&3HEgWsJN>t0Z*?>umW.`%rjf8`;%%AX;o&vp9eUsj/UZM3E.%Ac#U(F#J?7#=xRiONi^W;oPWe<@$j29OKg4ejWm;;AH^x7Bdaajrtq%8R?gd_37cdQr.1u,B2<lLmN;^,S]suLg%DYG&TZFhZ<X2HuOWZ9P[uUa?=a^7WNs(*FFh`Ns)1<<SOZT,]?::iYT1Rt*t@`Z]eJBuIEjU&+;N_hi,TJb(fRRF`S2t^(qfC954^NU&xHpXnCQ>6]GRumNRbrjbR0;h&-twG@vfUI)D5ad?Z`r5/-??;YrhP1QY&%xKC:KeBD*/VOuJ`u0tukOHg27>jM:jQw*RK3H5Qi3mV^d:Ba_wr$m7rIU6$;_9wZ&5[>CxjAFOPRmef^3OP/adXstw.Jsl`1AIb_njAWvD_)tV/mRA^8GOscLaBJ&jbynDTc`&`.h0_E5610?iwxWN6QYXc?JRTm/mkcZj$/P=RC3%%fb$D0m8d]p&Px547#-TP$6-<-opsi>WZfBvxtq?-FQ&5[`%[LEL2Psu=@td;?.nX7F%DqM:biG=Jm*NE#$p2Nf8kN^n;f9e.9(ir=Gb^YH@<%x*0nFCd;p)vVK0[HTGJGftj&B<BR5VO=Z2v_M#PQ7=`&Myv0yM=V(<>61=)L0K[ER4^-N8VOIJ>Sj0c@n2mpCTXTvO)9b7WF?-q[$DJl#FNv+I=b@6)%l#SS-?4-XinMGLn/;hVto?n-TQb72TmuKIdUY(uoqMY-Ab[6KRc;9)m(fF6gk*vr+&Z$GGuy7&lEJ8uA;o)KX3XsLOtqj1>y*/VY2&&@b<WyuX1e1nd3^deJ71#l3]<Wl$vct<o>^0Vj7/Fp1,PW[2wpn^K]&G)ouHsesPftQnTqBcR4M%ia/F,dY;Y/tbue:cBZ%]5;EeABX#=9@^Z>FL(1&=BHdCNcV3WVQkB38/<c91)u0^5q<_jC/Yk`NC)c[sYcV2_Hl0:%3@Dt)]c:;wn=ka_lE&BC3i<=G]HAqys[=Gm[=mclEM4l6f=iB1LK2<n*+0w2PF+p$#uV+C#[xTi/Q.lFuB(;)X1Dx4-0ZObMFsJW/57o09qjmE(]$)yA;.6730_:Q2F=[1%$4T^ZU7)VX9i/`8M5FbDuB9#s(Gwn,.`Tx4gYXxlq=G_NoRwN-0C:2GFR=#50.F,?F7#7aWHJIi(7y:D_)5N<my9>SIhC4-?h%RjA.MhTO/v3I7#dUYV2Q60p];0q?wGAviJlb*-L[ja(b?,6yOu@oU>WJ)UIT7mY@%,uB,ejAF`RKk@`n+B*fd1tLeVf,?pWxB+N,Y9>A_1)K9_49ecoaP/T))#V$8Mf8hBjDMYx3--LvU1C^:Qm[HopE-Ci8pqY8kE:mFsf5qs#r+8u4Fn`Vj_fOK[t<(qGpArm7r*uy;rXU*4CyQ;wDr>_Jq;#UgR5]DTUs<&7n%Oaxd0rksZy;JCkmceyMyN-&QR>q7f8jO#c6H+;)$fuut4rjrjg-4i)>^0a-`m#P;FWG&v@Jmy6pZVmCCa;7oJDF-#$+F9stRX$#9^02+BA_*VIZeiw6v#&vT???1lGY.^1FAVBFjV*+b+eb7c>^DR$xo,KtV%Z+f.9t&g?;0KZdBe&*vW;)9_Wl23qy&n07d=a6te@Q<V+Bj:l:R5`Et*][aVft%^O,8sLwlk*g.KQ%f1;km?B25Z(8A`ThBE@f/wcoPFS=sn5ppp4;@a5J#.&uy4$l=wxbS(d7[kf_-s_;ZEu5Lx&S-^K]xnE-IN7ge+D&k,I.QHD]F5%1#Dti;hB0pQwSr_Ko*N9tgUBq/4taf%X)ZVS?#7beZL)0*`RZF8ouBd<[H97Flpl&<RZ-i3Q%.naZm4en0E/D@Ku^04Jd&_G&A.^l*$E(J2vNg2j[Sg-K],.2e9NMmI-:.1:<?=c%5Zter:_#D@LKG:)Zw7=O`MS_X,mf/ymX[)ixOUJLuDlnW8L<dD@3MJA*/tp`ZFHRYD:ZtU1pb_4kDWX7dn,i-#k%Ydq>l&krw6nQT&CE)JU>S+gfty?d9.@L3`l`Z&qvgXNR^.`&)s[fm#:P[:hdNTs>j#(7ij94QUspfHYvBH;$mV9UW.Di3`R7J=;bQ0(Fq7ay3265q=fw23^R>F9dU8ZTGW/%_ut7>)8iIZU+Hq=eZ&R$&`*8#d*oG]9g:hSK$H<TsmuLAda-TU2u$dlI%3Xq;CK1:rwF*WuJLpTO/n><dc@ic.u`6RjyL:PDy[Sd@lXkk?23A=cR.h#SSVmM^jvKwhEE?gb&/(Z#Q`MFGjK5TxgnKRN)D.nfQFrjqMh@_gaH**PSI-&C`<c_r*v;_$xvI.(Qr#yLB]llG?(_eP+n2-glv<9_?OREetgeirQ<^POLg/4?&XBiI#0_xX*P>>WH0`nv09bnpN9&>10`jgF,u=.h6O%rFnrAuC0LH`mP_kQpu45fb8Y^vEGSS$iVP_O=O52%W&n.h+G+>MnHvw%TE<Wtg+Co_ma4oxRQm#$*4eB)7a/B-/3Ft1dxCjY[Dk;`wa_?Al95:?F5S1pHUrT4ZM9ZjT#bu2sOnK&L?BJ#(PiN[^KJN$iLh^nC&)g`XrL2:j[L,f0%vplQ?VQiANmlVa,?]WKYoEVc:tr#c?%WVd37GWJi.yU,^&2=LWn:?X$s?-hoU#a?oBhn=O.6Kd=4`ly00JPCXKh?VE8Be<8M%I_6SG?8Fl3.8$>4BkyE<*,yqKb%qLgapdiZxk=^I#8-2`7j.Ze`<I5u5p)B&MjomT2=EJX?FtBT]UXv[V";
+}
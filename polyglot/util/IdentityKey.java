@@ -0,0 +1,32 @@
+package polyglot.util;
+
+public class IdentityKey {
+    private Object obj;
+    
+    public IdentityKey(Object obj) {
+        super();
+        this.obj = obj;
+    }
+    
+    public Object object() { return obj; }
+    
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(obj);
+    }
+    
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof IdentityKey && ((IdentityKey) other).obj == obj;
+    }
+    
+    @Override
+    public String toString() {
+        return "Id(" + obj + ")";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[aT&N-+Oe;7<)^[VGyJhn#NiZ6(_cAAwf&Wf._?IdMvAAFvPG`2yBoNq_Xyel[8#$g<@@ZYQIaOMxfWj)y?JL15A_X<vY>5%s2FuEvdJUX8G3p+-Rl1.a<RTP_92p5rTSNJQW_Z;Q[:>4_mV;Grfw(Kk-%^^Y8FtWv]Q_Zq5<^e=nh)qNE1AU&E[qlH@;&PshH8A4Qx?QFjY6PregB^).ftZU&]d?:Aue`]?pnC=rgl4qBE9q^&[8@p229/w@lxEwSPl57:MvlRAmEL)->,Xi>qZ9(kPAR>)peur/ss_&%0ZKnY@&dm`=bPb7K7srM1^HUJo?CVm<Q-E&;R$8uRbw&sC+9#T9?TdLe%I1*qCkp]o=uHpn`j;x96d$h/.dN?Fo(`(#$I1YO$fhC7ZUH9ASA(=8LDy:qtDSX@>.k((g]%2O^U>7)j22^VIK_=yrT>EQK.HB7^iaWF;SxY2EH_m+:B2(MLG(9Db-%.A`.LMUp)lE-s=.>[XeikfJ[+3K[]T168rv0E1qW0c9NdWY=W=MWbrd5Dc*p@uYj*-CnNt1Rw<_YGuT,?f,,vqcZaSfjbMpSRb)7n__kC0p9%y:KHICw=@`X(v;jf?+k2Oo=wUDBVWQEoy5/#-ukf_h3`Fv8B(otO6$fChT)byGfudY/eib5ZMU-P%n/jo]N0]`%UQeZw(wB0NKxI&naw7^.ZZXV4q#-i&Cu#ZR?XYUO8loL(mBHDFF_AZYj6gbjKSB)@dw#6,?/_B+Y8[h;XpWvB5MW7yQIVE4p2P1u#)fUahAJ]al1^X]:D6N-G1>TJ`NK?tIU*ERdMUa&;G*iTAPlC:XWd0apVNMbM6Ug6NWXsv)1tPhGsF&PCOCKwi;hSC]3=v-4%EnEZ*)&[bm/33L%EVr61f@n2c0ME%V=ck7MBZXjQQc*Y7b).vu7;,1r$k$L$0kTGbsogy@)a.;]kvg5p^YAyT9A4/n5^6CTe6MP+MM3xVF0gmHUaLSU>oG2EOuo;=GWO;=U:EbklDLZiC)TKcBqtgn9SyNR8l&L(JX=,si-o%%u;qt?$.,296b0]CP-D=/Fi1NoTngn9D)%b;b/]mZKv&#YMr(/&m]<34Lfox#/Q,81Y:>5mi=JLwl<;i7Yf7gQd_@K1d^%O>aOsmB$vne5_*hdY$a7swhvY&fCtn]DQ?l]UR><)1L=l0DrH^cKu.fDh>Pb>2S3SgDajvrrDs^h_[&&pPU%Moqlnob7v2(MSQw]q)PFo,Rq+oUdqNg>kE,b7se.-b.kGDf,KG*8]TR9ouRg&?,6,6uFHkJ5>L:lCs_wCRtAKB_:Oqnr_A&hS`V6nS69b:U%b62(gLq,Run&;?`)vc$lU$:64LS6cZdb=lm&;vM)hy(gsGncZKit-cb<X#fv-8xHw^42h=hO0Z^.R[E:-%&18ma(GW_516-W]u;(]j#=wg+tdd3(tJw:P&1hJ=/>?2DJ9l-UCi*Q+N,Gt$qn@tR:BaZ$FU6v%hwmQI#TMjT:n^vRTuUjPDXX@HmEIWe.jRY?fsR#yvZ1YXlFK.jB30Q6k-ymR>)Q;cbO2FLol,d,Q>PvG`$dEdgtFFEF84hM6*Y:2X[;WoS.@Rxy0<_*_JvE6])HhyV[)oLb0a-,w;Evt]x+/GcI_.Z^@&4Zd>T7)]j^)fP_d/E_]+7=IUhnnDSEp5<J9V-RI?S+nE^RhpMmSg@s^Z#nCh?mNlh.xfSo254qfs[c>H9WIQ2_OJcL3GvbO]2b6?1-yBo/R@=S%5bDGuBTxP0=8[GW06D9G(DS9Tm.J53X9Crb-4R*mCqC]sKTSwVFKgX;XWB1e$cH#cLk#vnnWO4C;G%X^hqp,v<Em%l#@XHvE`C+)7,.n[E(E@^OBiSNkk=YZHn_yhm0Jyuo5]po-L4l2<4.S]B2jO<nEYCZQt9;u]($H2_rhhq9RW]KK=F,i9f:.q_^B5BU6gk.fhgebR/LyplE<dL7`*.AWE$GbKrXQ.I:NGN8._5&$1JDKQbKek61b]%OkKLsNRk&?]`EX<d_jXS4.r9L#Y)jCY5%kMd(g:I-0D.#fmbw:_I0],-<TpjWiI)HkUnLa<u)>[#l6:2fs4#&8nGEi=&TT..06Ge0Z5q]fCUG=0c*Aou^L/H[rO3-tV;mo<B$[Gkg<dv7F>084#J806]3o4FN:qSZ9;hsn.a1Slk9W5$tW:eOWe0d+3?Wc$5Mp=bM/Z-iLlFZX_XX/5]-&QRxPn<8Q%XYt$^vtw2k(Z.5)^)<VaPURln1(GrhoNr8cpAFGBVU_O%w^[u%)(F-8G%P9p$&V[F&sbb:<%ITTVuERRu*FmX#*d7G-%#j,nU36Lxdw]oVd3v/oIEe=X)JHKD[xq%)t/p7)VmDm`4U;_xYB?I(90;Ijw3rN--)A+esUKhdBPGyanvYV-fP_PM_q+=%Z=x^TcLh3Q8PH6_eX9u8(YwVj^HK=b+F<<]dKbIVdBZ/45aPND8rm%_HZsM<?x>x@KJe;U:KmK<j.Hg&2s`-RR@?5ldG2wNlKsiMQr7ci(NBErC6_NAfk6J%A)S.PL7<V>.OL#sAfx`0]iS=A;[F8+-*2-/q`jG(RikI<6XtE%<gHETUCC#e[,ad`Zs+V]uSvcL__)/`1X0<oMn1nJ?SHxOf;[bD,#;TLq]-kaBC8wbT5Xn";
+}
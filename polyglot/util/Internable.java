@@ -0,0 +1,10 @@
+package polyglot.util;
+
+public interface Internable {
+    public Object intern();
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<1Bd*^Xv`aFXQ5gi0*4Rv/10;4-ox;2i>G;YBGxjbx/1gAiT0o%l,xjeH2@fR4qN6)m7KA%9`bi@0?:Oue]U4e7,;PtiXx;wTHqY1pG.Y*2n7vG;7J8qibjL`:0yGw&M5Gkgm/]vY)`JD%g^sD8y5Li12KAXK>X:>f&rG@?n+]UnR9gr@cU)GOxy74&ogtUp*P?<cw^kH+w`U+YnSm7pH]51%VvDO$#ZhZO49<Mtt@74/Q:MkuBIII)<nUaq_2QX5jWXm>Nv@yd;4[?X)x`TEcdQI]ysN-p&d.n?tpJ?2b@_(0I*9sW0Z6n`UEe.yE;f$Qa*D%,.hOegM,.x_GkA9%<gr<^$5mpmn34lFPB5X@5VeU1vVE0.(%5-ge?/gO#-?+C0@+ig`RZ]:6G;lL]U>8g9=?t8fx>26+rYJ>0H:rE5TQt13O@yARnpuHoxmgC2S[0Y0o1o-<pf-n/MZP[7B<)pBw%1BHO_O-GRBtAN4Y4Q2ZAdvjXY1C*;1ybV)Hf*&*v?e,<FR+Q>HBhSIP+Y+#Z@w*I;fyRNex0R:$7F*p&-y@oYS&g[_7383Y+mpyDC:fD=bhD,0&NNx3[E/$d_2JQ[qvNXFRLkUaG+jmKH^g$6`.4`>%bp4FCn5wYjBKNB,H7]K=0f0ZW#Q)LU;U3Y5)4$a[L=Rny[MZW.Qr@oImf4l-opnSH4bVaT9cmkTuyB:]SU21SB44n^QJJhn%ob*2Ke:1lQ$UUGLD/M&Z]fPxFOGZWobA^FvT[)7`9a/CUVn_5y/,_6V8/8%RwtY76SBRdJa0Z)f_/$:dpu@Za-BJ^X?ObYQB])=pJdOQge^,nxrNCgUDODM1ASmG7nnGb+yYMrK>nkGO?T2KajG2KfDPkTmm,59_YR=U@R1,W*<Hw-t@NF2L+Zs:>R6r]Z5kRonih&IRC9<[=cbf31)vvfW-Dsduxl6rEbPtnBB<<jV@U$MA+<pmXOqGPvwUpgx1N#nOMED0skmdUD:?ns^Jd,]+f[38?aQl[?`DfA;(5QZvhj+W$7Q*g2;Ve?S,KXZ;Kf1ID(hjxq/#`X?B&AUC*=e^#Z]_fYN-#02)WldD./v8E)egP@j+%;hJQHdAxN:Ro658V^o)Q,[HM8sC)m,^8#Svw`tC/Ely]4>AqoGf`s;4MS):GFu-C--)$b3j/n@-;d4;Yc63nK5y2vKPA4l&X.Ev`QHPieXJOaXG&XMfyo6NGFH2*spF<(my?[_uA;cY.3BIZs+]xs3++=v/wo^MH[u+yRokW$K7<D(v/Per`Kh)=b^Txu4yC?3iq/*b_uURu:=D$#h:Pxl$hB.`O=Oq=?1T+0U?P%bI@U$`IN>&y#/38@c*GTjby1aQnAj6RRfpVyZ]Fw:5pu`1mG<eE[7[tr<NJ@#w+[vKMEU:xZH9yi2NlnKp2we`iwo@N/oC8OlswlHFqx3Ju@2VM5G+J;7jqR[=?6Q^Er0Q$/0>FB%x(VP1Y=.Yn-y_K5oNq/H63EW(@3h)IQ>9$VJo3dRs;s:u3.)$n0.NNIRMV`*9qhQ;IHm<EiVf9KPkUM884E;7?Tc]ZQDsq(^lw/$2s3+5k^6Yr-yCqOZyERQEKj%nN7,yOwOehF1Q1e3ULVhbmkJ]4):imW1Y8fsVoEYW(ok?(97?Ojgc.GV(FCV@-]wq@3joxq]i#S7bA(]b*]NF8f`_dN3?WFcSYD61;@,Rvv3.[FxVS]MJBX;1e@*A2MBYf]n7Rs>3w=y6J(*bULN-H$^6[E,1a@gJ[sDy9U7p.5,ofuH,la4L)=&xr/gDFMea?4>FB0@#[p6b8dv@WCefaq6bwxp`d00s<dnLkf-8<]q.a>UEFNrpNSdd1aPcM4KPSo&+Y$Q+Fa/oX]dcp-o-W#K@d%E3/AHpqB:rp@c9R9[a_K@-W3GW(<^11.Oyigpad[iRaUX^,HeO$.7e&fA09EM2%s62#Z[Sb6rcDiAtAY.)maRH9Ci0C^O[(d.4kMD03)_FD[$/OmZOi5NuNQoUrL94@BX6VZ:Q@[(s$Opob)BtbNx147$/NC;TUs,IWYPv46mskt^nwu/$5J*BAX0fSIQysZ+<jIJUql^rk*g&E^bAv;bmHh?0H8R//aw=3G]6<S;blhErog=ev4ZWwC127x38H[Cw9@nXj2QieAMJOv_istl;:wex,uq(#*0&DtlXkHup2?hxcRxjTBkkg-@lY%?UeQgnPIe8wj1*yc]I?+]Yt3W=L;:jw:QxhtoJa9iXG*.`rfxhA@Qpkh/&-HRNb2c(G%.uQ`p@jw1>Vyh1dPP]a.*MMBJ.Is.kELOPZgQ3.1j[L`JSNhTQ]VogGxd&P#>eG0e279glOj2i?]DP:8t;i[,bCmI#IXG%eDw>gH^MdSOL<oCM]O@G1@P3#E%=^]eAXnt5v$:v(a_(YQ7_R9oHj+VNe:@cZFnfF669OhU<)`<367xu`bl,5(8L=uS$Ha^=$s1DgDCGjPTLYOA^Tv`;<8f3@c<)D+lK6?0%^NDI,e&Qe]Cg3N&U*luIAl+snpWp[(;(j$J-tq0#(#$KLE=`o`:EdOO)>3pMYA4&Pvhp_&l)e%PS>:C85<,oF_*?wv*ZNWd5_/y]LqHD&8^5VWEkSHR+Vd[hT&X5<Kd?89K;V$2fNC;QHT$Ujko:v9L*QETej#0JgaR>6;gnxEDCdEU:^?)pq5JdK%pqsHWKN^]ws$xQe#87mN=PX40_?bsYN7N6(xhdp+>T*mGL[-l*EHPeFAW4f.sgegv,C,H9&rgP5O3yL6F9(i*i8hE?#=s5]rDDCKiYoqh;lRfOoq7rIxq.0&:BM3I-korFw4g=T&LHWVa:2%*-`]0?k[Ntao[%:+_]3^Lq5-xc#ER)0Qg&ux,S>#o@h;3bZiSJ^7hKl&gAS=;";
+}
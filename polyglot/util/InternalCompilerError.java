@@ -0,0 +1,40 @@
+package polyglot.util;
+
+public class InternalCompilerError extends RuntimeException {
+    private static final long serialVersionUID = SerialVersionUID.generate();
+    protected Position pos;
+    
+    public InternalCompilerError(String msg) { this(msg, (Position) null); }
+    
+    public InternalCompilerError(Throwable cause) { this(cause.getMessage(), cause); }
+    
+    public InternalCompilerError(String msg, Throwable cause) { this(msg, null, cause); }
+    
+    public InternalCompilerError(Position position, String msg) { this(msg, position); }
+    
+    public InternalCompilerError(String msg, Position position) {
+        super(msg);
+        pos = position;
+    }
+    
+    public InternalCompilerError(String msg, Position position, Throwable cause) {
+        super(msg, cause);
+        pos = position;
+    }
+    
+    public void setPosition(Position pos) { this.pos = pos; }
+    
+    public Position position() { return pos; }
+    
+    public String message() { return super.getMessage(); }
+    
+    @Override
+    public String getMessage() {
+        return pos == null ? message() : pos + ": " + message();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ab*k-+Oe<7.EBoP]%tnQoe*)/p%jfniJUGAjZyjgHV-J+/>^5KAl-gJa1j?7+ltX,Xc2)mEtKoGC(bN.@5Ys4s[+x1`O2Y_%(_+$jl0i5G%69Nf5g68w]Z(r*4=jj9sZYd9yvgV$5P3LZ.+msD<;pDSyu$DAB&Hub8tA_I8:slbC@2gOy)*E`wH<Cs4Pa,[6Fkc`i0E3wXSEf7m,*6e#4FNum47WL><*U(y7R2s(BX4p_2_Y=73Qi#UwE?Kx/m2YQ.ZS#d_$Bpd_afj1buFK-f3%[ivO%X+jiZ:,Xj<aa94e4CC$=qkfTu+,m-;]LN-Jd7M,0hd*)Ojv4;HZi*d4)d6t=r3SAS@BP*P,ff2my=DZBf@,?jjZ1q;l,/y%jUED%U96JS0SteQGr^wQ*uAmSXspeQ@;^m)rJbEf?;Lx(>D0C@Eug7S0BeI>7[sWEZf%wFnNAwZg%c7;pXjvLlfCcC36_<J0LGCKe$UpT=d<i-]l,6DEFL/SU)NFLO_?/pU0-C]VS5.UsMhRriG3h;CB#S^FnqHO9wVE*29h]QSh9,i:S6fIjfy3SYAGG+sh(h,d3huZ$T9@D:<%9Lm.heJ/e*(<?V9+aT?G&%I2XDeFXE1>.FDAM^:PK_%:GT=,2r_Q.HwI=F.$17?/XO%0_V/5WSeUWi$oXiP#ORe2lyoDqk#1+$rx#L+`K-B#%i&s5+EW<j76RKo4:;vi)hkQiCY1`+_Gg8LPu+3+.(5g_l>S>QU1=R_>t4n$_h8ni?_E/eqvp>PIE>XTLd?9Ex+[w8&;*m)vYBiHi66:OhQ=;D??_&?C*H?$x&;=hqlE2l*[Wu8x&BS1vD&9=c`QXbZmC97.Yc`wDLB9f6Y/4kQT-.__)8BC_K>Ly8Cq@m/CM`yQ9:(>IJ8VQxp1Dgd#3AIn]gD_+s;?N<r+<Xu4&hwbBPjcP4Zd$nkpA1n/ua/4lZtco^)>3-b-IXKr>#dvR^gxCRk7oyS7t:W_oN6DXnELLw$pyI,ZR/%>#[JVSPVX%MCI1:i0oUH4r1#4byuaOYK7)#*]-Be4QT)$7Hw6,0xZsIJ[eG0#91RWRH^[<TB1eiXC2;.ikQSf<w3C&w3;Qw[<NLV@#EkHK6tWQTJ_%V`K9:d<B66,9y9/pbE=jJOdIdobkmKroKln;xXTcB$-(FXgvBI;sYv7887J/;qp`:r/C7@a5IXgrRgBm@RG@-KHP?o@?i.n,mQ=8f?<Hudm/j]Ibh1B)ZIolsPebR8:ska4cP<@f=5]woIA2KhtuHu]+DbQN,DFL0ak#[um.ttcp6%sf2dSAYiG@g=%W#[]tdq,W<+3:w].i_7eICYV>k<%D,6h:[I>`g44Fw,x6`^mc4pS(P+;oq?q^V-lI,gMV^MK<S(kd*cVqU8?*JD4R4?7-@maR,gNivu6o.bHSgK3fQH/.nHr.@sxT56=b+5-/r];BiZgvO&vZ3M,:yuJ%Vsd/8k45Fd6co@-Sf6Sv7PZR4x?su;hrL``ch$hkmm#sI$m[Eq;5h0@K_0v[hI/+qB^Dt>QWw?TX2%CH,36>4y=/+wnK&/ZqGdQCp[Xct?iJKOKSP**th?^:;:k$Uba9$R-JXS:]5<k-e?Cv`qee<fmIX>Vcqek2Slw$phrO2GB<S+]FZV^WgtrRMX[,Id,#hZs+<y2$DeD:f=,KmMYTv^AMC&p2;4Re+GE2oJ0Z7L6^kaffEp8N;uOW`-2Fih$AVW.WF2W<hgUH8:Ak@FnL.tL8c7C%kYNrS;@0`5o`97juUth%vN68,30Fr%MWH$^Gg`IFodsH(/Y@-FaS;D+-4_t$mvK3hMhu@pWNZ4UNcq[5OBL>cPrR)b3Jh0XBBS#PFdEpuJOtyK#Jud%K51g@v.M.5K+,l6Aa*fjJcvXIRKL;G?iw.e5tJ]vaPEf.;nX)>I6B@U-uj/88vwYZIQADJC3D0=BL2dsrl4B**cmAtX9<nLjy8NLm3P%XVOPlPX,p%Qeo:/&6gg][CW&PsqKNO=P0KPC=w4tvmI8O[BXB?hWFf:hM1)8<<[9_2fh36#4Fcd2QYyRW,hl*)$.6RkN)013w0$l/%.H&WwE7Kd;Jfn$&(YxReYOLQDbVwPmS>MMM9ox$r5ibdQYuJuqO1tpt7t:9$p_tpH`gDsmoD;lO7.^`e#/e>X;dwJpHXF^pf`K`kpR(S_d.hCsk6KIpewN),a,Cgm?N%IS,0]t.NSi4xnkUYL@8hS]HbF:-hv0o*pw]`R1b)F5]jr?sXEbBmWVuq:9(xTcqR$TZ:Y9rWI;:I(e*xQ7l[tj[lsn0M7f2AS+W09ln<$9`.k<$D4NWo$9p7VP1LO7,QC]Vx75_-;4pP3)_ru/++VB7TFtI?rXYohB[aX?k2N>6e(k9O7I6brXtHCRf$4W%0Ep]DR.@<qGFaPYTx#>L&iY;DoYRV+I5epJmhnnFSYDPkqb]VjDPoD8QSmEYt@.I^lU[enRs]Anq*o2iG^DxY,m40AsHB+P3:^EYCE02%XwC&-Tha49*k@E-H]+5I=Tdw^8fLUcvdt*f:,RY`K[2Q%ZB&G[pQ18,u4j&HCkHGgNIW+G-3AU^RZU(c$$Nt=^iPaDJPQ_bTG]9GSVtvu@_3pb?eL5oW3ywI7XK(UWSA85st?iX7=Jx3#d/yhI]T5qRxorKSv?I4>(sm&x7d/px0Ommu<(fg1x^YeddX#U2u1w$Q;r)Y+*a3S4uS#p1]Z9eU`bZjXTWPIItkx^qt@Q[.H-5$e5LyqI8VLhs@uu%kHyyi$kT9[ChkTO4Sh0f7Z;mY+;0GZ(>;a]oxt04?C4T2LC[%ER&o^p).jB=x*/[mpIh=nC2.m<l-;k%=0jA)ldMlo-ZZk>nc+etH0j@#fvc^q%#>iPXFnI;5b(5:,71HjS:Qtf0J;E<;lwym>^lN%7N+xR.j@]fijF5(ts+T&4n3NScLhrLOU>H:KVd^L2p-;V4Te)C>nsQPM%T70S-9f>hh[QB-^Adb[58-EsKH;fiF@G`^Rep`E.04v[V";
+}
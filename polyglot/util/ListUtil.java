@@ -0,0 +1,21 @@
+package polyglot.util;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class ListUtil {
+    public static <T> List<T> copy(List<? extends T> src, boolean immutable) {
+        if (src == null) return null;
+        List<T> result = new ArrayList<>(src);
+        if (immutable) return Collections.unmodifiableList(result);
+        return result;
+    }
+    
+    public ListUtil() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1VTO>Y*^Xv`7.D73s-?t7%(P14$(lsT%^Tj7+6=MMs]Bh@5Vv43q0Z-R&_aOWl,]E#d)*p@WWun@io,n-tf/K1ScAxfF;HGI[(Hk[<v4jh,c10IbTSvtmN*ngh$a:r^^p?-77Gb0g3Zdkt^Bs*t8QIm;VZ+$kl1S^kpyHW0rY_i&%RqQg*h+D-cSmDR[yxRHG?f.3n(,pAC-D?L2He+T;%>2/nkfx,fecCX$gBp5UIC(/]At_<o^Cv4[cIN.nHTc7E)[m>UN]ZS0$5[4@GOBZ[s:LC`B)KZx97lZLV`:iet@5Hc)9x.$-wZ0uV2M,=d8qe$SDu24Nf?,>yBaNU2&?#5GPtc*:`akS-q)($C3Oja,ZKF`bR=P.n+kZm)^9,6iQMe?]NEh<PH3t72p9DZnIgSX`.wZNR1+I4muqV%sKP*&IOhn?V#VV+0J4`x6a%h8HO14Z+a4TZ=%b*a6^5US]5YJ1@wj&S52Y+xfh@CWKQqEt%:kXsJv+FbxNPG#c&N)00NRQn?DsIE%]%c%i?e^0wxK1_IS3ZcZ]3QNMyt+xm$k12P]bnKM$.<j**y;5le&MB$2b#e0CF.#jq3.D-UW>@c^ko,m3^7iZGRCETu*DL`@<%K$[+hnZL@Pw?)7Q+pEw34q:*V10/8d<UQGN*&aDlY-@.jFE]EsC]pXcnP3>Drl*0Y]Th3mrP7PNoj//O<7uVLBwNw.,yN%&UVl^:rIrE:^6f^XYDlci>voRcoc=1iE6Q6gWvY_f#w^X527206nk8)St.UCI[AB0OLdIM0ZTbticxAuYMP)jFRH/7m=%Wy2>TS0i`VVpE;xsZ1F#XhAYKL0IqtYPrHYHwo&cs^g/ayDf8feBf?Z_O_R)yp%(H$DXJ;/so/5g@WH_#VWf*6KVq^;LRR`y?YJMgt3EZ#WGV>Bf1tS`K:wAcnF2L2&Nx/g[J]Z9R8:,K>$DUZOBX)^4q&<./^sPA$t-.7S4/0d+;jgs</[a2,nr%kY0fj0K3ICXk([#H%:Y#W/AXra1BVMl3eg5l&reZIp+FZ:FLB?a[lIbQsVOq/`A,%ag#&fVFQg.-(uPk6F3ZEiT$=VdSn=(;w@:BZ-&5%.r%a9RDN?t>xS>P)HCUud8_^$C8Nrq/WOJjd]Q+90#QeyNlU7pAOu__nm=GT8Omu`S210tXD,CGGpS(s0Z7+c@wIIT>;s(f.$W+w=g2Sy,-73W:<6%#5x%?ciMT/k,DM/U9vC8j;IKxm0l<tK.DTL`1i+S=Qptutnc$i8WOn(gIsTY/jKSLM-991*IG)$$Afn-N#LiAx054pEHPr)[+QTmG*1:A.pxT$(5ZLw4uauLjPeYuyehB[9s4;E0bIpWbc3.Dse&K/0ca6UnkFuCE+3w2/HGBpLw^[n3mW(A@Y5r/XM?39^lA,YHj&ci1]qn;Ol,L/-6DsF(1;J5j<+lZ#;ga-##/(rkQOe?G6$66:dp$(+Q=mj+P=0ECF#WO6Cvp6DYb,PF;`L/v^nGAB+36wmwPrG4L/2Y*7B3<qREUbxddpLU)wlp1k]$2MhP/mwTt&a_)2YJlk_h)FH(DP?$p^l9%^H1?ve-]PYcc3S)sl3iV1CCS@yL2L9FD4CS^I](taUD4jvvD%x4ZUB#VM.J?XawwnKBih-HGMenW<O/^Rp9&)xaEN+-B:g;f(HtOMh0+rk7G/nPq`p,7OR$F1mq.%lM(3OffO@Nv$bJtW+ch`_XYn<B7l.8g=:/$JRH-iTn+L^RUNiRQ*R#C:VY2PT7S>Z[9L=Ill%fA7H>h1$2,IiP`8oP^C625H)x=lEGLCf-@vl?LVf^,<]`socNx/_lVa]Vao6;/(>n^DBq9>lr:Fam++nZLV]Tnt.am[qf,Y7]$-mD7aD<8jC$$vA#e_k[>dkf0e$lYh1<m?%njG3@o>>WssYMx$4:_l$M26r4tAkUR1+Vt2hAZU&*k9o,hR#BJ4Ks(aYo4k.>`HOC+vS(%S@[X*0,nh21hhyHg7,f$O8A`LjMAoP[c4C4OORye2/&TTJpxI@J7@virhR2wc]a3SX*vgrkd,Q&UEci@#Q,qPDJq6m$c=-ooN,EO(kwH`,]ZFd]2&8.d#fk4;em>P6]a_f]O4`]0FV0eCJrJ0(PFHM7lKga]=)jGaV=ZHSw8=PSowd_3my*Py%>:lSku<-YEbSBQ8Xv&B7%Z9q=FQ3p(LBc:JcYZn,.oWe]j1A&A8yJl#EqJx;qM]<>.GJo5$b8*ac[@gXTt=7fybV%av=9O%<,dt@rcy];Cc8d-==lSgFtfPo&uc[>dMA-os=TaQ_RRaR#eiyI3bI6vxqts*rWit.K9-uJC:F4E_47_ug:R/qMZ8(l3>v;=]4N7i766]2u6.as`?t1I.dngHMeA]Ok,HVk3/Ne2fp#7fXN+Eby&evv;QMAEAUHq^EtafQ.&F#hiZh)?AuETqQ.mxDa+(y*^5s.tya,=0TM4McB-x>n1P^T%<Ojp=h$5O_DR>Cl%b/Y=y*Bi%?WR/2/qI3GZXJ,<<N+vY@BiB_cKt-GOipQV+EMq*qlLEj#N-onYEf483Z-=^a,#]5(`_aVCIX-%f)+1,k7Q$r,%vn?iZ&XlNFn77eJ_e)^K?+dLHEgrxm3P;$U8yoJ%Lg#6$/j7)E&/[xKS2XVnmrX<-+fqF2TpGuM:>,vLM@W`MZ$B&hg14A^^mw4Lw&R;QGP6osP2+E";
+}
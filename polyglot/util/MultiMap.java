@@ -0,0 +1,99 @@
+package polyglot.util;
+
+import java.util.AbstractMap;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+public class MultiMap<K, V> extends AbstractMap<K,Set<V>> {
+    private Map<K,Set<V>> map = new HashMap<>();
+    
+    private Set<V> getValueSet(K key) {
+        Set<V> values = map.get(key);
+        if (values == null) {
+            values = new HashSet<>();
+            map.put(key, values);
+        }
+        return values;
+    }
+    
+    @Override
+    public Set<Entry<K,Set<V>>> entrySet() {
+        return map.entrySet();
+    }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+    
+    @Override
+    public boolean containsValue(Object value) {
+        for (Set<V> values : map.values()) { if (values.contains(values)) return true; }
+        return false;
+    }
+    
+    @Override
+    public Set<V> get(Object key) {
+        return map.get(key);
+    }
+    
+    public Set<V> getValues(Object key) {
+        Set<V> s = map.get(key);
+        if (s == null) { return Collections.<V> emptySet(); } else { return Collections.unmodifiableSet(s); }
+    }
+    
+    @Override
+    public Set<V> put(K key, Set<V> value) {
+        Set<V> original = map.get(key);
+        Set<V> values = new HashSet<>();
+        values.addAll(value);
+        map.put(key, values);
+        return original;
+    }
+    
+    public boolean add(K key, V value) { return getValueSet(key).add(value); }
+    
+    public boolean addAll(K key, Collection<V> values) { return getValueSet(key).addAll(values); }
+    
+    @Override
+    public Set<V> remove(Object key) {
+        Set<V> original = map.get(key);
+        map.remove(key);
+        return original;
+    }
+    
+    public boolean remove(Object key, Object value) {
+        Set<V> values = map.get(key);
+        if (values == null) { return false; } else { return values.remove(value); }
+    }
+    
+    @Override
+    public void clear() {
+        map.clear();
+    }
+    
+    @Override
+    public String toString() {
+        StringBuffer sb = new StringBuffer();
+        sb.append("{");
+        boolean first = true;
+        for (K key : map.keySet()) {
+            if (first) { first = false; } else { sb.append(", "); }
+            Set<V> values = map.get(key);
+            sb.append("[" + key + ": " + values + "]");
+        }
+        sb.append("}");
+        return sb.toString();
+    }
+    
+    public MultiMap() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5NHp?-2f`0NL^j9Jf`1)3TQ&^6@IaYE;1g*D2EW;Ur9y25+v407iy&KfE,52?qPu]pi&fZ$e9L&t)tqmGa(vJ0*7UQZQ:*p>XuhPSI6&SrBN$-R7.;qbvCIuhLv@E)8_+t]Ny^6Wq#oap2w=0Jwuff^8L+>mi#wsib./]HVI[5dC[:]BuqVa4t[s,N+aDB46?[RAyCCs+WBYpH3TAMlEuLd.$WL+q8Q`@)ZFiui1v_f6i(649+T*Z?j[BuOl/lRT;^*h^)y+,@EeL;9qto96+-r#$2lL9G5cx$`<oR23;[t&qE9K,sva5+I33eP#T#m^FB]$EO:vLEo(fXNh0K3*;3m<&*#J?^F?YL%pQNHc#`G1ZKaoTSav:41IwRJOur^HPjf-31%mFN<pFJuEx3+_Q,=O5Yn`qShXtOF+WJs`VwZt+527TK79(kCjXE;5;o$x@Pm6@e@pPnu1]n8j(B)=s)*0jRTLY7@1MDFH/rcs2:3Md$>@d@6^-9PCJukmjpZ4o-8Y:tqXN@bhf,^oX8u=0qSG-.:W`_xn@=`+JYVpq[N5gM2PUpkpHS<bh9R$IoVc(Kdc8u.F%[kGkEb_gL&&Q?(^Y0AZ``17eVZFkZe;Fr^3JV3_bEjt<7CpPiNSH@n>D9?Z?gI-Uo4+N&9@ECxg[c.E)(8cN4sIwGSZ?DFUT:P.pcrNPd1TpZ]A;y*u?=$SXL`F/%vkdj6Db_r848Qlc@S^N*TOBC6E7;A+Fvf*#i)En;x)A)Z9$NZj_68iP8pc7_=P3e5;SwHDp>?7mBkMA<IEdD1,m1?kG]u7i:b6,4C&Ghjd1Y@%du=h*yLTwPb^`o?D;eSKX<&6*^-73mO-;18qvLo(8Np;16RSN17EF-jAQ5Gbq>NK;4jHwR+S0w+-V8N?/G7)8ZNOo[ws#*36C6kiR)<dty6W&R.kt6AJjSk5rYeZhR17%/?K:e3s)$ypfZ&7/-kJmLv--[-H5Q=X[fD$.A9M#D1ISq_`p&mJX1qRRIf+e_vwv`Yo?fB)Lw,@[uI0Ccqn9vW2w2iYo_M4vVqbtt_jyHQRuP+JM0wOILeni2Vb29c_ugFs#?+f*>;P,plm$Pv$6G$.f:kjKi6PsH7Mi74,yy@ce-1<X1%8*OT[Ejd<Ae<QKSmilG2qwg+5pTr4ct0jqZ;Ts8IX+l&&N<ei5d*;3hQRET/tO)lCWL5=FC?(^RDUJFIMf@1h.>v@TNL3Rro2$qdF3#[ID9#@c8CF>_UmGaeDHGujqIU6tgE<7HOt4Cg_fsA/MP.:tB;8U<-QP3n#Anj3j87Sj02V8smG8m`im3J__->IG22DZ$P)b_g.4=DiX:Nx9$tsKbSPgKT_MvVra[Yh?X#8r/+#*2@7UuTq,jRj9I$ks.v+0NKGYswa0qvP;tId)-;ta#Uq5gt6wb%m#/ti)?plitJI#C8FN#k=8qw-9FAlq[#t<OwCP;b?6w1?wU&#%@m]g[mW<&@NL,F%$0r./jM+_+%,Upm-mc@pb)#-3.fe5C.G$is$aEP_O;E<.dK]M,PIN5fHYikCA5Mvp0LDQL9H]hTacxe)a13Ho)C.82@p+A)@nL#$/hKbkN7VT$o-aMhB)*5n2gB@4QW[%PD=_2]5jQ<1[/l1s:*[tdP0(td<7y-&9:d%l2v_G(/^8Sd6,`0O3beGFy$lA:*KHe*dBdb&J2mceCmh89)uc?I_Alw0kQT=j6LD+>Vt]L(<AK[oUEG3D`H^:(isLT^kodLCloEFeB7c38YjDyCGRl#?YTmK@m@0R@^_Cjox0C[?)OZgV5[nkDTu-d*GncGTT;L*Rv$o_W7Y^ogOyOpGH*/8E>STAL[2)F[*)yFq@8uY-:awoqaI1xcm>8`]s)rh2e/o@:D,4SE/_U+I&`%dUAw/^(YL);661,4BWjtN?UsXDEV5;Ml%vM>^QY&wu*KIVP<[IHulaFN+J`**qyrpZhv8Sugi_#o=@NdXUT_h49N8yHgbtVTZR(KwD%>2J[Wa=%)=Wh+EKG7okj&Ho7@t^TV3MiV9jRG_5tW+nw:]`A>B8unG0/,Z)>-W]84=Fl;]H6klHG&GC.2_95K;4E>y/TXA1qx9O-D,`G-7S?*3>ahD:_$<+.`sZU+<Z^E4l3dp8[DL>%84Ym#GuL6Q48hVII<gE*w9VJYFGq3:l&6HxFwVZlw39K_GbRmR4).gJrG^QMmHbU$>7non+sJC$l@rQ(=gE2jWeB)DJJT5CR,rJvj`cUB?SyRi<X7q0nc^f<J^;Fc`<?S>MPFhNMu/;A>Sg`RV[JHpNxt<VNJpSGl&Q)8Hx3OPU,p[[lp*6wR-Ss+@*drB^<NB+%oD^k/JR7yVGcoicHn4Tdl:n9L.;0I=JkgKr?Y,aeqMnnuNrU4AJL.IM1cqiy.u9lDQ;An7IIWV[bTuv.eGt`wH#U^k:KWv?&Gk1/ctUQs.QN/2[s_SU<pG6u:eqhIIFOfpwtR&L&:lifDsKM-H41x6[snoK&g#)qj10[s@SPMNL/@3E9Vk7FiUG(2X+m$](gCGK[xo0mpQi#0=y)V53(_JNdJ&Y_43#yhw5u+-<H+X6c-9)//4[(*s[c,E-/^S_*Z=$KW$mhGckgCxI_NJ9%vH0>JnGiC$-NfC1YN%?fuPN&cN0h41NFn&`pOvNnB*1F[,QV)B^&2ppd,Nxp>+jVMihU>r+AZ-r9?o5vOHxVw*;Dk6@=&6=#^e-xqZ?=K;EXa28PPMnr?rg$^=Lr.t@he/WjonvmTATJ`F;g8$]#2o$>RG*TOJu+af:I(GkQiRo0`pJy;AP>95+0b/t(6;B[;I/#3:hh/n.oC6GW_G9F@Dx/->37+q<TF$s$x9R+T]$r`kKR(ccqoPjcw%esjLEt-Y^:.>q(F=6<Kf_Cw(s7W4KLek//meQ5>$kl^+dEuUBC7U2Oy_o^2Fg&;O<hb:Zi+]p#+:(D7N1dQZJGmtboU5%rrEW%6MpC2wvJ+v4*s6JJaU.y<6:W?_y;_`gkX8%%&hoCj-C)8vHl(^c*#>f8x*OEi&ZZE[uCi<So^%:)JGSmTy`5[@yZ7NWd2*;T?q;e5bE_@Nex6Olp5G0]>^QG(u($`Sr0<(T6iu?MV,`r,UoWL.vSc`8Et&:*]Ycj*3kN=g&5^RIdbC^.R;X8NShu*W=#,]_IWT1q<kr5,9kl5?;i4K?TFSZw585NxJ0;G?:T[=ip+J+*aK)a1wS3])rCchJ:_ecP$1s0^O_7yivEn]5JtHk)Q+PT;is_>MX]5+LJ?4&]o5TFP^u4Tig<L&Q#S[kxC&F*rX@DcK+$jJ%=%#7NF:TMN4A1mJDeR.U`>V_2)5g8H]^/H]$wFQAMjb,=*u3JEuxWHF3FSw7MYLg&FHq29)TA?rZ]6*;sW:qQ=d-&6GL)RQt/qdP;lO$KQ8A)h^eVR<ZBmT<<+q@baJn:&;B_4$AR<f.u%hr1q>Tx?B-Uk.NU*>@;AD)n[WqAA>i.VkJF*[jpAqun_#r?ZBx.SVed3.Y)o;H=h&3EE$:iTNsaXyv0)hIc=ABW.bn=QU$#V_L9AVO(`1nR`/GDl]o#_nbG00gEQpfG[F1M.05.Mc*_Z9^M5(:K4ZAv%7UA35RPHRhPcyg%7k[(2`XChL$Qu#oXbMq1l`]o9P<C@yJO&w7uIPZJ&qV$ZJ#u9SGn7l*_n)Qn$K<4kGMP<1k6bcP7A;/.8Y:L0`Mt^?_P.43em^lFUoPqQrgFv5i<]5l2XZ)w,Nk^3Oo_&S2^cdEk-BV/(;`9P*QWI[a=4/LMj#N)ripTfBNd2X=KCLC);fN)sx/GApe";
+}
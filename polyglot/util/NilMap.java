@@ -0,0 +1,93 @@
+package polyglot.util;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
+public final class NilMap<K, V> implements Map<K,V> {
+    public static final NilMap<?,?> EMPTY_MAP = new NilMap<>();
+    
+    @SuppressWarnings("unchecked") 
+    public static final <K,
+    V> NilMap<K,V> emptyMap() {
+        return (NilMap<K,V>) EMPTY_MAP;
+    }
+    
+    private NilMap() { super(); }
+    
+    @Override
+    public boolean containsKey(Object key) {
+        return false;
+    }
+    
+    @Override
+    public boolean containsValue(Object val) {
+        return false;
+    }
+    
+    @Override
+    public Set<Entry<K,V>> entrySet() {
+        return Collections.emptySet();
+    }
+    
+    @Override
+    public int hashCode() {
+        return 0;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return true;
+    }
+    
+    @Override
+    public Set<K> keySet() {
+        return Collections.emptySet();
+    }
+    
+    @Override
+    public int size() {
+        return 0;
+    }
+    
+    @Override
+    public Collection<V> values() {
+        return Collections.emptySet();
+    }
+    
+    @Override
+    public V get(Object k) {
+        return null;
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof java.util.Map && ((Map<?,?>) o).size() == 0;
+    }
+    
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+    
+    @Override
+    public void putAll(Map<? extends K,? extends V> t) {
+        throw new UnsupportedOperationException();
+    }
+    
+    @Override
+    public V remove(Object o) {
+        throw new UnsupportedOperationException();
+    }
+    
+    @Override
+    public V put(K o1, V o2) {
+        throw new UnsupportedOperationException();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1amoic?:PnPa03vR,`Q=7)0?(F%iW[N,f(Xb$=TS&3t]tHGwn5E@:7uZkn=xch(Men@G+($XAm/]I_[5J8uF^ZQj+;JrT$we+#$tMYB@T3hP[12?Ype]W$Y@X]n(YHfZ^#bsG&^0b_s7gb(bO6;_8I`I8n77Y/+0R.DHgn[8u8gCrZBZc,6k)kE=9NhEJ4gK:165d<CO2B__;sM#K[nIK_Y2>/jr=/^Z:KZQRDJ4xo:xJ)@T^D(Ix.A0;MENPaRLnD=g4,m^I_^x&(%,Kt&6%j10B]c6Tp9H)%s$f[jo/rXRI%[O6>g$(hd_B0TaOw(Wu4gOZ1WI#ByYQ$1L-9Ug%+F:xe0W.iBecs:o0Ofq;NTg:[^3On***O]F;e7(SOt10i0NyoE3gNDRUfie?hY+TZYfi?#WXL1LhW6kHGJqW3LAYG[4luVtT)1NQjXRnBSt7DM/x+/Q2Ii&71V#J>PO2t1(uP8@fD*]^**ln#&71NIse5q>(5pTI>SIDdp8e?WjSl1@MA)isFCrU[?54011V0x[JL#r9NjWZ=>]q)(^*t5J&vZU_1=R>9d+dTBQAT5l_tSZ[$PPuu)61WQE9c&F=<_F#VqBF*gjeZAlj^B7<+E8I;%_swuWH;FVV+f`qD4c&9y#78VF>Pn3aG:;v1LAy4Kc8T8%8L-Hv$P(cc:I.gK@P6_KE$l,D5PUW#?62(eUAE%e`F+@-7k1lb+<aw%2dbU%K_^<wBWhCogJ[`Ja5E]*]xUp9h@L;YwFkP)AL+6,S_V0+2Ne>l`x?9,4MS6H>ibj$UW>cO:B?=t_X?_saNLF/2Fr?C*0p(lVF;&`]JqqQra5=%6lrXV&Bmn.QONH38mrfsmlZ?GQ#DeAoG?$b3mUPN7Ms<erT<AXU[2Nq72s0<j-4;]#M2h/xO@0C@#;%,yvgf%/30d;0:fftRWqaa0HPSgvken8%9VkonCxU%a6mfTfnw*6K:OX?>13@32x*OBY15dXXgD.@YLFDWvyAkLA:%=I+RhRPgGO_w,/,].SOIb+$0M?ACO.(9aq<JsI@YVYc;qoGBDSkglRjkBmtKl##3YX?y_2Ca9:PQLm.Wk#BZ9(Upw4FCLHeC%?jm&n#b@(+niKOZes`>mY/t13fBP?CsT@jWfuM*l8w;(fdhYI5xWdHLd&WZdP)cs-Bh-eT^+H@uiuwaYy@OEg`bnXY#3GLe=-^M(Xp^VeuX?;#Q;5:`hn5Rah6>kg2OF6a3R*lxugVGVAK2V[5/<M3)B<Uapl<3`CLd.m)O+<=OyntucDNvR4/oXfs8J$+:Hh<4n$FXXfOG6SI%j/xt;KB7_w^&w(wthv><#>oq9s/oW1piey+Z,@rDi_aCSP$>xvSK;SEk(1-kK@05dVk(a`4D,i7ZRS&8^l._<=CvpS<4ktgt/M#f.>ws&4`0PtRtcL2l;x#=9&n@In2aBcEcsi[PG-Dc9Ij7vI(HsIU/Q==IbGSJqdD;qtFAEf_I3mb&,ft=MX0;rP0_MO;T+_o@bL?u3vQs3`v(5qV%-*q`;`M..]HI$/%7Jm)u[2HVTyP2Y:Gyw+?95*QAu(K[/Q]WW?==*LSd2x^VBXq],)0+H?3DWCZA+RL%>`KUN6@&6lqXt+w,.-NJ8Xdw4cB&meXqYxn4C]llh(40t-kv#kJo7v<>_)A;?6)D&Tf4Up+>>TMxM<QS=Ga0B?v2T8k2GKFhY#tD##:pkA23O,+&=V.%ck?BTCRCas5==mB#C.LA/c;<O@xd/D,Re?OO8lN_^[m%iU[2(CS8]$x]8Dt;%g_9s-1:<72G^6q:((@JHXZ^K)ReHsxG)7qMHT.TbndkK(;aim*uS0L<jMeZ96^l2N2H5fDC*Kloo%Iy1WhFEv&ru/&RmD.+-d+m>.ffZRnc-bRK)STBIyt/%?kt;n]R4.h/u+@j>5<qSW3YgiI<AWMdH-*4QO%yhxDM0@2d:T]qPqLm/Wblr4,l)8@7OeQ`js_=-E`r]A1DYy,c@tWTdor:pW:Hnr8ASxcd,0Le#@5`BS:+l_PqtJw=obx-NXaiRNZl^7T1O#Ch3``(tei8@CqRn,kWYg8GhB%&M-WA+CALCPP5<?IKabc-I(Hx6_fQb8%?mB?Qex5+_$v5yAkxEl1]3xfL1AX`@=]PH$sO]v;FoN9_%BqIxNdD*BKE,U1)i0uW&r#jF/QQ8mmNkC&Qc)Aj_gX.b>yAnZ*iU_+YvK+ip[KrZ#xO%F*CW%kI,<jKRvRs@A4BRMLDf99B<_s%R1$Is/I)]0>x,%QLB/3wUW:09iFHpjN*^ocR#fj]TVVn62Zeeji9-hK0WP+/5ll*e2ftaR&dm.LPBiib7*7/QCc+4*6,eB^E+jV`aIDDyG%8eY[8pu1e9E2Bv83G=r=)s(>9$ZWAqqFY],agA0sAJ4,8tdHk;xM0mG78W[L11D9ipE5db<HFI9rV?je4Zt1J:Lgq(j&hQrs)Z[s(:PW$?[+m*>C1nNLLV,Ynv6RXW<sHbSm7SQd+7-Nt`M:yIcC?/Wf>+R+:,kX[Hgf&g;LYNvF<^M?7kmBN2f*V%Bt:<8+=K[AYRiHFqFm;]K@hgp]:>c4D0PuE]9FJrUrP/ST`l<U+32c1VYX]j-::ZtDUW*.]qfeL`B-/ZL.Cc7uNELr(>#L^fC/=yFL?/C@)@ttsu`<JvK_ZE(=nh>3S,1_5`K]b1iX1e:4l5_cEk_?L6c,*B+Ncq00lsf4H3DR(la[X:SFv+<g78=@IhZ1qqSlnwIlUmwJ30rX:DY0hH)Fi%uO)A^g4L]1B:Dm<[m30UR>fP<QP5:Ip5yQ<19mVC0VK8hP0h>vZpVT.d#?vsoVdUgog_>2/=d^gjU5Z,ZK0>c0fg[%/M`4A[i#6kS7mpUdJ&(t221ogcI&w<ILj$GVGdr$R4^tQ^9=5=*5e0#<mdDcC/:0k-Yas]Q,8@/.SY55cO(x&SHCYk=fp0@2WmC8y,#4sa0WKQ@=EX;H$;2&q$cYoBi+=tuY<i=8pOXg5G$Dff(mVx;8NZ/Xgr5jV>j1w>S:52X8SJQt?LcRFqOx]NvnwjP.g69Xanb]tYl5R+ua2L4gYDlVos@4w<oBw?Cr2Fdo/>?&o,a3$[c5uw<=dY>O4UY@?^[L^scVpNJ8@6RA:INeXW0*e*`hR$WCUr`-Hl$tiPMbLI9$G/oOvXX?$LUr9=x?ya#xU$9:0f9VQ1-DK;43v-StcuN=T59-`o=If#V+<g]+60[1P#L15H:2m.dFkLe1/N9ERVa8Ql_Puy]la6VQB3mq2JL*ktbZ;/lKtP+kA^RtN?:u0Mi[p@8DC2W$irbM;TXM.*^2]Oyq=7CP<^T&A5G/:rSni_Yro^S/8>w&=`cV7k,A71_^#vpn.N?wJ3K&&axCQ&7<WnF#,s5o8@sZ(jH]=KDE%LdFocQncokKo$-E3EmCFSvq12^&@aivKDJtS8+P?%5+t_%BefQe+q%xFd30G&`a$Z$BH&?+P+:f6VK2ct9CtVS7ZB_Y>=Um@&F^sm7E3h=mKo:HatAS+++U0,?Aq`Lhk(Yh;p(D$J>uWX=/0bme*$+t__k7@W,,G4Xb2S68WmwUO$`0^@EH@?CK%5n=.nog7E%HQne%9Tx>]*2.GG1Cp)Mq]_Q?oZJpxq>Ys6*B+sqrS8uQEu0iArQndP&2005==O`Xld:hsUQ:-@>ti9JqV4niq$W0y7;E#]xjJ[<d@QoP1<4Pctjb#]JadLk]c8XM94-C9u>bue^Tt98M[=]pM5C-mDDrNY1n3R5jXG_:^:P.]f=:n-S.+[tjY_)#1=Jd>Bama+UPoTXUv2pXYX1(QaX@%u_;Ki$?I4V>KOpjcI=BXe(=XG-]Z(tTm.Q8QH:+%`th`q4KPY?X$:PvD.H=rn$g^@G^Wr$>PkJprE^sYgUILFFQnUJY[[(lj`]fr([uDae?LA4`Sf9FHw]s,xldKQ&oYQTteQ::_Tdls=2H0q)$D&<kjC]laY57D**DH@g:5k6ta7)ffk4$fT8=5=9r@Fe4OhvH<H+6irooXrH+$g.yU>_<;DWF5`Fd%E2a`[u:nNkOJh]5weyJ,1/9,_2(ZX<oKpblK$NbRd&_ZsR6IlE-?,/nb6_;Mn[vVZvn7YxqpxtytU$jy4Unb?REO^<EakGava-&#GJ%QVu?$P23M$Cb,2j(v8>`mh;ppCtMM]baftydYF$7LCd1b>bMe`vaev0H+t/9VDcLOaK>8.HLT6sLI^(mC@Dx5)M.89^kU.E<G7hJ>eFfyI[uw1B%$mDD`F_+TEf_6@6:Mulm<n(7wWd-Hmi?*;Lg6R<;2y<3,";
+}
@@ -0,0 +1,65 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+public class ObjectDumper {
+    CodeWriter w;
+    int modifiersMask;
+    
+    public ObjectDumper(CodeWriter w) { this(w, Modifier.TRANSIENT | Modifier.STATIC); }
+    
+    public ObjectDumper(CodeWriter w, int modifiersMask) {
+        super();
+        this.w = w;
+        this.modifiersMask = modifiersMask;
+    }
+    
+    public void dump(Object o) {
+        Set<Object> cache = new java.util.HashSet<>();
+        w.write("(");
+        dumpObject(o, cache);
+        w.write(")");
+        w.newline(0);
+        try { w.flush(); }
+        catch (IOException e) {  }
+    }
+    
+    protected void dumpObject(Object obj, Set<Object> cache) {
+        if (obj == null) {
+            w.write("null");
+            return;
+        }
+        w.write(StringUtil.getShortNameComponent(obj.getClass().getName()));
+        if (cache.contains(obj)) { return; }
+        cache.add(obj);
+        w.allowBreak(1, " ");
+        w.begin(0);
+        try {
+            Field[] fields = obj.getClass().getDeclaredFields();
+            java.lang.reflect.AccessibleObject.setAccessible(fields, true);
+            for (Field field : fields) {
+                if ((field.getModifiers() & modifiersMask) != 0) continue;
+                w.write("(");
+                w.write(field.getName());
+                w.allowBreak(1, " ");
+                try {
+                    Object o = field.get(obj);
+                    dumpObject(o, cache);
+                }
+                catch (IllegalAccessException exn) { w.write("##[" + exn.getMessage() + "]"); }
+                w.write(")");
+                w.newline(0);
+            }
+        }
+        catch (SecurityException exn) {  }
+        w.end();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1VTO>Y*^Xv`78;t2FrLxfHHx</3mX0VAxC?<ey(*Z5H#U-T^I0hG,t4^I;$Y/l<JD[L8p6U;ECdKE_j*ORlh8gh[5?(Ziwy^<*-*j$)5aF?VH4$/ywws;Z$8a;9Y<=p*r-VvRS)q6JH1$E*0hWr*4?Ofeg7y1VNw%ZJE]q%x9*QV3R0yf-H>rZ.1Zl2)%Uc3PI(=*]yXvC7ZbMVi&?qn2O1W.=<GpSJ$ss)Z#QjnvVAUey%IG10ysh19+jPi1@li<IN9#Rh3Wf5J&_e[d3F;i1t>j)0Z^B.C>?O)IIXC#Gwo?^bG^/)9-.)PRq+e6$$qs*t%#x3/(YINW-pbNS=H.Zt*L>=p8oM(.N4`gB4e<tywp;&h`9Ytm12]0Z-yK*6%udNKWgK/ga/LfZ(Q,B=m$6*#8.jT7lm6$`%$sH_Rc^1;TpGeYvim)js6ajR6W]29@B$l5MI.4vHBL2Uu8pw2V_CcBE,Yq0,VOq)2q=C%]VK,25FWK*:cL@h<:voJSS/q#;tT#/9#NS@e&y?7RNs#/FVDY_5TX4hPRTVXhRR@v.l@=lv]$iFP5U=*lUr:;Vrpl&E[,?Us>,ScAa3vel&(pv*q)T[*H2GA5ZDR2Z7vRQE(b>8-Sb#H%ALEIhnM$36[1N[N].E;%GNQw0/LdQ.EHu6qtAL[WwYG.faCUe5eS4Kb-hPb3XB-n=*:<p2;tfJ^:[`r<-/s3)QytpDQ87^RQI]P))20U;K2Y-5WKKk%)@LOx&?X9,?)jeTiSY8UwL@m)-T[F@RA@>nW[@L#B6LOsPvK[*W..#$.V<l]ek``e+j,^+&p;gsK<X1W^wi_4Zpj--uRlN+cHZ$O1Q&Yv0=*i04^*#w^9EY=<&EQ7K#Es%ZmN(uM4^8P?I%ci??Es&i2S+sDm#3$>,r$O2bKX+OWFs%$*q1V3^]JAM;k8vbe.A5$tn4?#Y#Zk@>(j1fC(C6Lf./)mZa1-=FB5N`-TJNKe4^f<Y)@/h]%NdCr_@b$kP%`U*IFRG(jMm7,X:eL#>AIXyO9CYH+lOeb2nLO=rL?jRvWQ%qI11d-=`c?S]dS&^>8d?:O-kC<#kFR<a6Yu1KBKDCOw#Rq.Zc6vr/smPo8X4YVX3o%P?_xA&H%e./=L[d.)B[qXrT&q/Dd>+k)$FJrKsZ8ieUD[WXmUkhvd%mYwSNH)t5WPA0TEMY4e?cqJJ_-.%D.,;utYw0`7nPf>4WU3c?/J(O/E6Q.+RO=T3`mp$jpxDK:8up`k4uPqfD3;G&9csBmMZBCP+_p-p:)EHD?:>k,H1dOR(X-FlyTHb0v0>cEEWFH$=Abt@go27H=fciP^,nNtLw2$#+*b]sZo3GxHh$68vs/F+0bIdUg7tl1(49e/xX?y]Zc);AdvG##>2mPx%]klUfG8u8Fqr2t7ItU9(1#^uRe>oFv^LN_1mU0+Ip(#q@YYIkRt9`^VxIyCI1IkHxq<yPm$V(IcApY.h6JWJ15//H2Wl]Qqcq$;]PEEncZ&sa%[$PNWQR%KDgC,+G>&6kZV*(]qU_27YMf3keZTmvHr/^a#@MFt+Z8j_)9>AKSgvm4;GUu7%%R+sD*RVW1FNvAtMR6O9(A?5^-kF[;/?*j#N?+0y8^_t_sw9,t%i;7i;O)REq(ffcL9phVT_ice?pIg9mrx;PTlB3+w^uSe]e>MvtEi0%Oo;Q9J6hOEO=UAs(hGmO3.*`R)0b#Hw9#*5Vb:`8Bi-s`[oyp)pu^PBNJZuy;iZOHl-tW)]SuFf[IN.VMXK@fWPkcB$.9Yh;vs5au@271Ql--8Tgm63]bSiZZkVK,gY_YmG0N5FH3KL)g)$F2)5L%ylM/]eTc=T0MP1vFIp,4DT*DKen4W^QZuA:s:V=h^9/#7ub=Ld_%FpOXT8/6@E$2Wr]+&<6]^T:fKBh@&<pnZlUOerXi9-xG(3kZu3Oqw+2ia`n*>#65jaiu69n%uVUAQ=Nxpe0VpnG8UGi+.-+dk>ONT3KM?Ow=bYlN4lc#6uoIqYDsoX?YpYVro]bge/(=PHq`EGZbbK$5pHF$5r<Ulo<P7&_@qRsketvaBbgqKRG04?+6cpZsLhug;`4F6FR3wtrXY</DnVg8_uNm?H2FsuOl*X_K/VKW[FZaM--v7R$>lVct?95A7.:8.SOW/l&WerPX/P?<:.lr7;u7&LL8.)[iTG(qc@ckGRnTy8NjFMg?W,9>Af>FT1^0m64.yMKJ&Me3ij.FiSTn(j9[fo,e&xRrIw*ekXHOu1-;w$vf4RLmTOb$22P5%_79(i0-k5]D>w*s(W)Cu*xu#@n/lu%*CZF&6DDt%0YF^IdH*18(Z=E+nZFZ+NfDV#KViaEiVs_WWJ6aAlKeheuQ<@%`xyh)Asrm^q*sYpED@pvdDd;FCMGQS;G`qF[yV(58PfJ4fR2](a$^)rAZwh0&s=pt*ly<)WcBj;0E)e=_R_o]Pm)r=0>X3TC5Fa4_<rKG6mAd,EjbOsSGJ/<.@1P3>PfhMo<$+?0WmxMp)PW>pQ]F9ZaM53-qbvd>(siH[99+ijb_k%*3HC?FMc=HnA_bgBwxY(3J`4]5th<p#eB>EeyXl7Li,P[lRY<#Z@7NvB,doq$vy2rMk1(2`cLY,:gD4l=oC^]I,$nNC(4rMBGE]yWDNtga.j3eYA90wsX`Y&E#DRJfJp5ylrFP)iWOX>N3ir)Ny$ID0In?2jtc+_9qLA5af@OaqK*tqKH2M4qrJ*-XR/Q0>LhFi%+-m$u`_.nTnk7QFp]xf=NFrYsB5jf.730aMOyTHd*]IdU?;V^mV/n=%gd%V91%7)<AWb:bJ&@1@X`E9BC>RspoIAHF2v4L57_caJ;<1e)-[<rf@uYHBLV/AKR4`@>s=u7Y)b9A:GCqqWkvY/ODnH?I16BJUIoTUrUij8S8$k<g;c*P+XJU`kyANqR*U:rK(+/Jm9<MPEZtMX&&P6r1-7*i1p@Nt:jH2M(Mf(>Vh[pjJeH:7PS&45402nDk])7&vpQc0+<evSvYpp";
+}
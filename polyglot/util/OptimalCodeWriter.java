@@ -0,0 +1,724 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Map;
+
+public class OptimalCodeWriter extends CodeWriter {
+    public OptimalCodeWriter(OutputStream o, int width_) { this(new PrintWriter(new OutputStreamWriter(o)), width_); }
+    
+    public OptimalCodeWriter(PrintWriter o, int width_) {
+        super();
+        output = o;
+        width = width_;
+        current = (input = new BlockItem(0));
+        if (OptimalCodeWriter.showInput) { trace("new OptimalCodeWriter: width = " + width); }
+    }
+    
+    public OptimalCodeWriter(Writer o, int width_) { this(new PrintWriter(o), width_); }
+    
+    @Override
+    public void write(String s) {
+        if (s.length() > 0) write(s, s.length());
+    }
+    
+    @Override
+    public void write(String s, int length) {
+        if (OptimalCodeWriter.showInput) { trace("write \'" + s + "\' (" + length + ")"); }
+        current.add(new TextItem(s, length));
+    }
+    
+    protected List<BlockItem> blockStack = new LinkedList<>();
+    
+    @Override
+    public void begin(int n) {
+        if (OptimalCodeWriter.showInput) {
+            trace("begin " + n);
+            incIndent();
+        }
+        BlockItem b = new BlockItem(n);
+        current.add(b);
+        blockStack.add(0, current);
+        current = b;
+    }
+    
+    @Override
+    public void end() {
+        if (OptimalCodeWriter.showInput) {
+            decIndent();
+            trace("end");
+        }
+        if (blockStack.isEmpty()) throw new InternalCompilerError("Mismatched blocks");
+        current = blockStack.remove(0);
+    }
+    
+    @Override
+    public void allowBreak(int n, int level, String alt, int altlen) {
+        if (OptimalCodeWriter.showInput) { trace("allowBreak " + n + " level=" + level); }
+        current.add(new AllowBreak(n, level, alt, altlen, false));
+    }
+    
+    @Override
+    public void unifiedBreak(int n, int level, String alt, int altlen) {
+        if (OptimalCodeWriter.showInput) { trace("unifiedBreak " + n + " level=" + level); }
+        current.add(new AllowBreak(n, level, alt, altlen, true));
+    }
+    
+    @Override
+    public void newline(int n, int level) {
+        if (OptimalCodeWriter.showInput) { trace("newline " + n); }
+        current.add(new Newline(n, level));
+    }
+    
+    @Override
+    public boolean flush()
+          throws IOException {
+        return flush(true);
+    }
+    
+    @Override
+    public boolean flush(boolean format)
+          throws IOException {
+        if (OptimalCodeWriter.showInput) { trace("flush"); }
+        if (!blockStack.isEmpty()) throw new InternalCompilerError("Mismatched blocks");
+        boolean success = true;
+        format_calls = 0;
+        Map<AllowBreak,Boolean> brkAssignment;
+        if (format) brkAssignment = OCItem.format(input, width); else brkAssignment = Collections.emptyMap();
+        input.sendOutput(output, 0, 0, brkAssignment);
+        output.flush();
+        if (OptimalCodeWriter.debug) {
+            System.err.println("Total calls to format = " + format_calls);
+            System.err.flush();
+        }
+        current = (input = new BlockItem(0));
+        return success;
+    }
+    
+    @Override
+    public void close()
+          throws IOException {
+        flush();
+        output.close();
+    }
+    
+    @Override
+    public String toString() {
+        return input.toString();
+    }
+    
+    protected BlockItem input;
+    protected BlockItem current;
+    protected static OCItem top;
+    protected PrintWriter output;
+    protected int width;
+    protected static int format_calls = 0;
+    public static final boolean debug = false;
+    public static final boolean showInput = false;
+    public static final boolean visualize = false;
+    public static final boolean precompute = true;
+    protected int trace_indent = 0;
+    
+    void incIndent() { trace_indent++; }
+    
+    void decIndent() {
+        trace_indent--;
+        if (trace_indent < 0) throw new RuntimeException("unmatched end");
+    }
+    
+    void trace(String s) {
+        for (int i = 0; i < trace_indent; i++) System.out.print(" ");
+        System.out.println(s);
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1amsm.*`-uMaG5t_%qnw1e<Pm$WQUxBk2sYZ%q=B(&2hR:Tg`XNDE@/a3N]e/*J`vrgqr?[8`yT+2NSX*6-N+fLSd/$&?lhoR,=bYLerBBL^*+d?=(>=lWoN6g:`sSp+3b$gKbi5gIu#*r(R2.fbk<v?dFKT50)P_0-*NHq8Mi5er*;.(5x8Z2;=R+0Nr>IF970cI<SrZPXQ(PLL_#&l;Rm.l-I[=:;[Q4RDqR>V79PlT`M_:Re[Z:YQLjFPKi[?ak?mU;<4CpPDmpVD8#*-9,r2N1Nm$n#5tK=1Ns)*>;A%V1b>PKH[:R:Ay/A`b+yq9P8_$6ZkpF78s4cP<K4>?/mqxf?IBPQqeo(/D`5]xS237p%LdQ5G@T[+Xs;r_;S5+H/G&R7kraT=9xmE_pL#4AOo_x662/hZ77SZFT;XP67(PuEp>Ce3YJhnMaJW.vgO/Eo@#78VK>&1tl+kZ:>,sBnTSJkB3#NMqG9(D^*7+rJs0L7/(kwVC^[mg%<%v.mGC[o3pGr=q]m`BShE0Waf%DPU8]E:80RZRMW`_wCY&m%mZD4sC90?+7:EDC7po0kEgpiS1n7cb3+qZ0p8ViyJH$BKDm&nv(Vp6Jwu2J&N_tT&e?vA]V)2Dh.8;Wb3AxmIXU0LZcZTD9v[+D4crc+&r9@E<gj6m_GGpy@;r=O7bX^Uuf7m[nS].ub**cgfhb.yQro(/I2:avX[0(/LxfI2:=r[iKd(>.Kf<0VT4d)i6mw:,SLt@)h:/ise[PpLfWM33eeiYJTs?-v&1Z[E$B56X2)NJqwE4Zf7A+1o7bibi`#;v_JJ1F5`%1j3cjNkAm1STX-6)q$)XUXF9Gs9y^4Rsou?MH+--HnLi#,1`4a@5A]K@70J&?%8[6$*_ZPPBr9W,SX@#)tTxZuQ#RQgC7<E`En@B`AKfdZwnKo@Ky9T(yW.Rss4@C&foa5V?qIbbC0c;owmYVD.L`%(I&X0D1PC-%^c-fkRKoKqIJxllyh1m0=#_s9Qe>xDuQ:*Usy_)c6>wX]1m2aGV7(hv9I8X<%CHSD;jDLDYL#v`*saJ2c]:,Pl@,PZRG_gX.,c$ehfAoYUf_;?NZ$]=A.ZA?@7P9g]jgYSA(CG)@w=5kb1VD`fhJ1jm;yS?.rsB+d^V#8WLGumBhFIj&yxa&CF*Sq#Nh`7<of)&99L/nEatqu=MsRC9?B?&_gYB1t.+tCFtbBFRbk0u_Gr>gr(hoOA)Y+UoUa=@=u&gn+sjAWm5?]BMn=YtSsgr[FcuE/JslG]Vy:%U(ZtV#Wt#sB(>hw5xnyQ`$#^f===v+SX6Wp4+thVKyCcfV8twU&&VMZih#S8&v_GHYO%*R>.$8d)mwWaBP_FGQ)g][`CtSi#y`;_l?<Kw&eBl/>fu=Zp1^3*4JP*-+H.8NKbJ`e;s>_q`l:ie7s1/>IqB[r%otY,N`0w*5Jx>gv#Z^p^_CDC0btnb_,QP.E%+yHc@>]*4MN6n<.gGMajbWJ5R4v1^lu`<Dr6PmrqshN`sqrvb;riqa3EbiV@_,804_I@/7m+Ho5^=MLTje=m1<5d30Jvt^CQ;F;l5^7A#METSxmsVPp+`1GO52T<n==L;x<r&)_Lvxw;PG[F6L=8fWn0#bj)N;&rv0*^-nn=CXNp%tKveKX8C=<&%Q$d*ft.essp]a8*gTDa=4WI<=V.>$nRyc)@^<NIgrl12j+5>3bhuRDV_4fM^lCN%@sRS3;_1))By&S>mTndf8+8p:nfEi0(oyb;D>27WhJ@^2ZtCxMo#Buj+Zva23wW9TRBPE4U37*gUxJ1e02%bdbPnqS;qE)[lr_Arkq7ui[Zh<VAE#XB.wYdtQ=dZPLD.wjMVdJHFpX6_k`duj#SOL0L`t,)c[s@TP$FQVlm8%Rc&>J0(m]C3T.]_sZ0K1b,HO)_h#3K4%6k5UMi[/.*$ed`_Ln=eivD,gF?cn4?NUO1h_kaAp8Xr$4yct+>1ykqK$xofSUOt+IY_jlUZP1Yy8%Ow88:f-Pgjy?U-*_Qs>56#O`BqBP^s8nTOj$p$6RoFVc/6kp[8M_hMo*Q`JI7X_bM+_8MkIet_/@%sV,]hld_Je_f#B`_8JF_Po]/n(Hj(Xo)cd;RN^5H(GjOQ:6@`]q2A@S^@wr;lhOWW*QN0geAti,,Z)/NSj22T[>nW_.XGH=8?85/(p)m-Lj]QqPPcu(_NXuItc+Q;4tSQdN=D+<R5du@c@3GD&:)sKRXoa[K:7$<sK*1Cm$Y3F.iugCxnK0.@N0?N*iAVGnitY^GbmYL%#JZr4-,&b@x]h[iU^I$@]en67VBliX.Al@mo48MVMKo`K40,8&-2N]8:]w*Y=IUCEO5;:xWeraBi1jq`Yu*DZXdO*_cqG-TjG&YiW/w*L7&eB6.`B#^2CnWyheh1wrDurZh6[[ieSo+W-DBhOWGwQ7&-ut22P3QCB%2co%:+8Jm1Rb#()uOC%:-8XMGupr&Wpw08=#5v.cY$6Z2/7#Ei<G1sreG`*$`YTGVcZg#-*B(%Bns1XY:LAv7k2CO;$3ymi3;bA;Q-fW5r8tPFh<J6[1+@b9:&kPPy.jB?BtRSKHopKn/I3##.I[N^tnHgO1%<;nS<5^pHdEXmD_+O:6A%vQ4#Tafai#H5+aLX.PeUteWgWDP[)V#n<@i<vv7e<.>d=e&9qhP9tW9shL]EO#Cn2H1f<tEOO`R0+<3+=]pw8ShYcfd7o&ynf](KsW%^_S,.tsHBMNWP+-V20F>_8Wa;eDt>uT=+FcT*Hptqne^q(l>K5ffLuP(>Lrsn1]W_F$8YVPd?pZp0$NTeS@x/oO2u=)=I^tdG;hNU.#1)Ecgq9.5U,*)0$r*G7H8%0wwgy&@M/oD6)thc`:_6#F=@g.l5$%(Vkuej`n,1LPXT%?H8sMrsFUXi,/ACviRT.@lX578sJV6b`/%r$)K`S[<MRARw:x$[#hJplrZvis<$dBEB`W=o&k1+nOyA-L)Hw/&`fO9Ov-FY8,:rpPttn_0q6tUV$nZ+)$?V4n)%$CYmQpxfFhF1]>q]5R49d&5CQ8U959rgZE^+cLm8_C1.Px]PQ@<r8pPM;[eWMJe[f<8nCh%:=K>H`Vv$mC3V?_Q_Rmr2mK5LdTi&;<76E=ui#W2c&y$/NtcOcfQc+dgsdy?7=,lTDpTmDXV5(o/$[sN]0/iG#JA-9FQR)Ol5+ibH`&c)eI)*Ack6GKX3o.qx5`<hHEFI.$tRpapVH)h+g@Ssd]k0Q)ht@OROep,-_7JpEC0n*JNu&wPAKwmMq4>4;1tUG6:9`EYbt0AoP3MfiO2jBFag+sKi_o?W;?q`v^JNK]=6FJ5?8?N5*a;].`l4pn9Z1O=-;7rW*V]Abou2qG-hnl#R.g)5ImHiLD[`()Gq<&RTYgM@r>A;VavGhS7qx5,o:u-nE19aCRA^g4B*hp:QR/P:eVIMIquey:bsZv>h[n/DPG%>wdWfHXl=ja_BZi@1b<R[?snUb]fGB@]/O3HOu2WGgOY7TPO*e6)pQrL**Z5M&*LIR$R77#SpCu5doJFR]1T967@i5sq>KwN(-.ehZfLe(&hS@UX:yCmf1K63>5.#0$f]9MH,o9+k5/OZ==7W6jSfJZ%Ql,<9]5eZO;A2?q+QGMh5,Obt;yE%Bg%c1?<CFXy,,gSGG5:4WqDrn?h/UK3qR7na$QQ46]:ARn,c%PPd;IW78)0*o=k;Xx*t-(J*LfW`R>GhE:mDi+H<rvcm]fPN,FaSSnCvF4(o@@$^hHPdN/55wr4EC5:(s)+G4Q+rD]WN3ExVG9*&/0e7yK95=vniWtFDpg&3jrNpa$`aFOf.P5/,_BW;=e/21ksISVQFSFyHrE..[8R.c?2eG)[tF0xHtjIf?n.R$c=#Ya@Y)]pZP>pXc/C7Q`?OPp/,7UF`P^D]c%UR<lemNFg;gg`Ei]Fg5;_X<&mB4Q>F?.aR(33mvXWRUm+:;kBf4Ne@6R-^UQ&hi,CKfrfvq,TN7y^cfLZEF$hB*Duael4PbvV9hwDL%)3#fZ-CqV5EF1/%*1w*GTd<HCQGK^Z3bLtw121bOKqn7u#Y5e9AehBVYJ&029XI7EX+f^rJ25cu:*Rt0SM@F()8tF.lxW.5n1Tf>jL=h0S?t-myAQo^B#70hmm_+r;Sk66^_(TfdsbsKQ-9n/yWpcc9Nh0_hnjLh)=I_`oQxh_pe+C/KpIB[v9.RSIiNT7qX[0c.kf6[rbn[^^5W^g6H#d^Vf6G_?&7:d-d6Yt0w54_pYDHx)&m]_2uXJ1u7g(L#RK5k>B/bAw.c/n]f4=`j3XF#BP26(/n*^[le60k-b0L]<)ncW(W8sne&[7i2su>nF9eA^XU[U<teRf-w$%C7I,N_TT30_kPUZb,D8fc:r@QtyM8[BfXL,,wpXpvvH";
+}
+
+class ConsList<T> {
+    static <T> ConsList<T> empty() { return new ConsList<>(); }
+    
+    static <T> ConsList<T> cons(T elem, ConsList<T> next) { return new ConsList<>(elem, next); }
+    
+    T elem;
+    ConsList<T> next;
+    
+    private ConsList() { super(); }
+    
+    private ConsList(T elem, ConsList<T> next) {
+        super();
+        this.elem = elem;
+        this.next = next;
+    }
+    
+    boolean isEmpty() { return next == null; }
+    
+    private int length = -1;
+    
+    int length() {
+        if (length == -1) length = next == null ? 0 : 1 + next.length();
+        return length;
+    }
+    
+    String toStringAux() {
+        if (next == null) return "";
+        return elem + ", " + next.toStringAux();
+    }
+    
+    @Override
+    public String toString() {
+        return "[" + toStringAux() + "]";
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof ConsList<?>) {
+            ConsList<?> l = (ConsList<?>) o;
+            if (length() != l.length()) return false;
+            if (elem == null || l.elem == null) { if (elem != l.elem) return false; } else if (!elem.equals(l.elem)) return false;
+            if (next == null || l.next == null) return next == l.next;
+            return next.equals(l.next);
+        }
+        return false;
+    }
+    
+    @Override
+    public int hashCode() {
+        int hc = 0;
+        if (next != null) hc = next.hashCode() * 31;
+        return hc + elem.hashCode();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[YlIa*`H&KuHIEiV*xZb+jGN&&RR5]g#cS,<JYKxdd;QXfEZde7]VvUfjrgNd.cN=8^K,P/g,9OF1.+_#d>t%?CMPwk*5W,/wn)j(>GW<$YWQg5:.lruYLmot<8TSesEZfw86cELhfW)b1`onSu8qIHKDpFpRA`L5j*(p5[&YIZ`tp?2IGCtQT/0m=@Khc3&>h2.4ghgWr4B21L;D5V3^6>Y_Nj.Ia+tO%DJcX9L*GM;2(Ii1R/rE8u``Z$]ky24ufY4f&=p.ZN417NUrl5]UoFxNX`N>M5H<]e_BPJH3CDC.uNg%NJ8qy^GZsAB9WdVH[Cu*%Hs0<*a`[*)>l[2?,UPWGWM@tr:,nGKf[y<nX9A^i7Z/_i=q;]bo?5TsWMfM=(Y=cFSt,H[L$q71%mCK?W&;U&jing?/$`9d<En]k1N9+XhD+,YSF`E-fD<9aLt:rJaD=p4&cr/AmfdLio+r*O7l*w-[$%2M5)u/rbNrLlbG%PVat]:jM>(;$ZLKO0thP/jjkpqmeCC>,:F5@ZEa4:[.Ml6A:<O>VA,7<[C/u>&KL,JuLvrY>yKPUQ&_.YcD(SO6ks6ld_KG*F7**)k%uu_]R*tp[gi<to;?>OnP,RrE,:WPEu55)mm1N5b-,y.5wO.c.?hx:X5UEFo<t$5`d=`x0YfV/YLiH2lUD+/KEb]K@,mS7fSbLLeC?H]FEAI6/?<mI(ZiL&Y-R-<^:7hEN@/vysCM4QJcn*X/g/CURL-tw#vTbs311K$Y#@OPX.6+m@>vac>TSVV_ylo^Q[0:WE(yBgQWxC.B]#,l4DcP4PB@2e>(]ry>L&^(*m%m]gUIU;Lk+N1Z[8[hG;RrL^:Q-$.K,y=1#Mgpu96v<J$#5_VFj(.o^=efaYJW/;/=v01KLLN0oKE&=(rqr%c*N_+4X@*rtBVI[aOQQBRSW8FM+E#iYoCNhkyjk+xj7BQn2ddkEdsLPvnTEqWqPWE6gUJB8bpnG&7<c61(^DHITG=DOMWAOr--Y_)vQZBRZ-n5w5B)3QI$s-OQlqQ,a<Bsl<Kt7$eg&u]:>aJiJMaUcfDRP;?3Vj=nfh4b?6h.lw`<6y3xFAW]9i)AA5QI=Sul#i1&K&v<`Z@t]RL13.u^^6lDh/uK&`p6$(NnQN@O?n=gZWa=*:a-_G8^QyynYBtYNiV8<1&)4R:h?rmv$I.bNs%38@AiJsqkZJh,@:xkSKG>yVRa_H1mgvNN`pGC5luV%l-i#GJQhL/ubpFIF(aqbX$pb1k%`wC]e`FwW6LkQpgyxo1=8Wdg+ogn)jm&j518UibD`ujeXoLhn6@M6+P`(^05]KF6NK+^f#rVixIRT=?Hy/uuBv-Z[%X:MtLZ[Yo$M%=ig2gbqqigdS:RJs`MW9u=FfvCx_9uMv?RtDu:v&iM4YZJjtE<SDeAsarNg7^]1@n4UNtlmKj`%.hAH&KQg3fMh#0=$#>B#:I.0/_crA1[sADorM5]M(eEj/cuO]?K+WEq-a?OfvLuiiX)t4svTP2/Da+I`mQ81/SNro1*f,ZtLAX0MVUn_rg9oH7_t>FaksFeL/vQ3MnA>j,P7>J.Oy(R9pD*yQom9q^Te^`f/qw2yQgtrrHRYAHN>^^5D(qVs#ch@ky$Va`%7WXnWtE&or8h79uTP@XH3w:G>2cvnlZR_<@d<NDXP/q`9n9epI0<ua6AVpSl/d-`7O(G>ptnN,d^;?pAUE0e&#f#qAA>l-jGvbZ61Z:mhPY)8Dhou61GUW+#u1ev$B[loZ+2E-P)W4s%P`.Xrs`2O+3FknJ?A2cG<&Neu7;m?xE0kS,p1WS=>F&RyCJ5P0*,[Y;+FlqhJ^rgGL]VgV<A]avek-*sb.9c>e^LfuXD@se5,T,B0MQ&t91+(:cF&*eU@nOs]u[Po(g#.,Fj:2cBj,1b/XVgmV4y/*skBifwXOlDT,(N^&,hEo%t*EJGu9m`ypi)dkfB5a?$tLTW4lON0s7EPQNN$8Uum+,:u&Wa=W=FA2YnaM`O.+0s<t$WQ2m3:bbrQjH=K:4VO9Q=e>t;BX9M_uSfRwixV4TA2mA,QIp,9CoupGt,GdQq/?sWF`ZWL1]kIm5=M.p3Dp)qrL,-5@QLZ/%QvkN20lLpX]5hj&PK?4=xHK(9e;tlAV2/ZG2*cUYalUtMrH.3JuFfRUI5#_L8tK0b7t_5MfKGE?d<cZdW](1H]Og]i&n,38wswJmevk[LGs7`oigT5secE1;LjtCao6;HK>n]n,gPeUfL6q$=@5:A^Lhh_Za/fPWiKh$p%89N$/fc27,c#yuU3GNZ<,00v[BvC*[cZV?n0DEm*e[V7P.*>*,vNDUX/Tn9QgG&(u)$CR,OZPpI<,`WRq]O+*NdpOINEFyF7F(U,dv0bI4QPHx_$h8AUL;oEpe,@2K`;NXsXQ;v[Z/?n>,D7nE;K-vuyy&]>yE1UGyu4EK)KwP[3uG@PQ_RCd@0Uj/BIk5on[PY(hy-mZ=Mig]imQwikL[_q20FU(#VI19143b?K>5#T0$da8QBgx9(C*hY.5,5:bh].*Ei?Lae)&9=J#*Ip%Qk:vNRE:**XPUB,6C#+YGZp55:?KBM3i/Y]hjTsnfOeg4=Gl0m)ESOMTchR.2HJs*G&st7F;DiHK6hW[h[s>U`$og-3)i(8l2s,PPO=(ScDL_7Ke#8;4p+XMSL+ZL01si3N1[NbZOC(g+bbmAgZsmmp**$^5u=V+[.AhRLDAq8dB@AM2ha4vfukB;keLVnn1,&Fwp]o`S3RB-XT@ic?*kG:dt4NPTJ9BdiOevkW^6cB#&2tmH+7LxyZYH1`Qp#I(yh`44$tb/x1%P$5m-2juT<gc?%3b>]gNv@$+B7f,CgS3_xw-4o=(v)kRj>m`3GWvCKqoW.`_rGoI*r>T92<HkQ.#aQDq`F^Ew6JeiQ(R3)#&a^ltL_[h9:6&e^j:0,(_=@mgA^8aMC*-7n:HV5b0E@+b04mYi_yu,_BoJw#MhGwN<eT[K[<G.pNWiILjZ4O1q6:S,O,eZRJsefjmW,<EI<w.6Gd9VS]qK@=IY]wj]`2#[arRCEIa/-_dkgRvD4JO#fyj(srCV%898?;KM0aNh)UL9RR5o*HS_tGU]xgI;/=7G//M<CTqE;Ob[gq6i5y-<RXS28I0*_1Y%^v$KHry*LZQ&=_U`R1.>34;L6AOg;<&$]^0Fh)#g2L`m45(/USeiq5aCO8h[JviE];nUVPVrAj?gl<*4a#h,QsO)%?K4#Kp&B@LBDG6&jN89O<Mxj+pZ$Q318x`sZ%U?#fh#LtS<8Hi(?4%&LTU)`Tv#bEuIVO[j%LpB)QY9-n1^$^Pe,8,?*<ypa)3nkoRuHIRtHOw0XpI5,k.=_1RtGg<Z*5Yl/LiuTNv+RYqY<yPB,?>SVrk:6on-(tAJF6dXNytTGXTtXr&L_kB6#tNwH(AKvyF#:l>`0aFn@SYm5J`a^@wFCcQn74>6iD[rG(bi4@hZ[9-gmJiUboIXf<kI[Z](Z)b/.`wj(4FDrJ";
+}
+
+class SearchState implements Cloneable {
+    int lmargin;
+    int rmargin;
+    int pos;
+    int minbr;
+    int minbu;
+    int minbo;
+    int maxbr;
+    int maxbi;
+    boolean forward;
+    boolean findminovf;
+    int minovf;
+    Map<AllowBreak,Boolean> brkAssignment;
+    ConsList<Boolean> afterBrkAssignment;
+    ConsList<BlockItem> blks;
+    ConsList<Integer> lmargins;
+    ConsList<Integer> rmargins;
+    ConsList<Integer> minbrs;
+    ConsList<Integer> minbus;
+    ConsList<Integer> minbos;
+    ConsList<Integer> maxbrs;
+    ConsList<Integer> maxbis;
+    AllowBreak it;
+    SearchState prevBreak;
+    
+    SearchState(int lmargin, int rmargin, int pos, int minbr, int minbu, int minbo, int maxbr, int maxbi) {
+        super();
+        this.lmargin = lmargin;
+        this.rmargin = rmargin;
+        this.pos = pos;
+        this.minbr = minbr;
+        this.minbu = minbu;
+        this.minbo = minbo;
+        this.maxbr = maxbr;
+        this.maxbi = maxbi;
+        forward = true;
+        findminovf = false;
+        brkAssignment = new LinkedHashMap<>();
+        afterBrkAssignment = ConsList.empty();
+        blks = ConsList.empty();
+        lmargins = ConsList.empty();
+        rmargins = ConsList.empty();
+        minbrs = ConsList.empty();
+        minbus = ConsList.empty();
+        minbos = ConsList.empty();
+        maxbrs = ConsList.empty();
+        maxbis = ConsList.empty();
+    }
+    
+    void pushBlock(BlockItem it) {
+        blks = ConsList.cons(it, blks);
+        lmargins = ConsList.cons(lmargin, lmargins);
+        rmargins = ConsList.cons(rmargin, rmargins);
+        minbrs = ConsList.cons(minbr, minbrs);
+        minbus = ConsList.cons(minbu, minbus);
+        minbos = ConsList.cons(minbo, minbos);
+        maxbrs = ConsList.cons(maxbr, maxbrs);
+        maxbis = ConsList.cons(maxbi, maxbis);
+    }
+    
+    BlockItem popBlock() {
+        BlockItem result = blks.elem;
+        blks = blks.next;
+        lmargin = lmargins.elem;
+        lmargins = lmargins.next;
+        rmargin = rmargins.elem;
+        rmargins = rmargins.next;
+        int outerminbr = minbrs.elem;
+        minbrs = minbrs.next;
+        int outerminbu = minbus.elem;
+        minbus = minbus.next;
+        minbr = (minbu = minbo);
+        if (minbr < outerminbr) minbr = outerminbr;
+        if (minbu < outerminbu) minbu = outerminbu;
+        minbo = minbos.elem;
+        minbos = minbos.next;
+        maxbr = maxbrs.elem;
+        maxbrs = maxbrs.next;
+        maxbi = maxbis.elem;
+        maxbis = maxbis.next;
+        return result;
+    }
+    
+    SearchState copy() {
+        try {
+            SearchState s = (SearchState) clone();
+            return s;
+        }
+        catch (CloneNotSupportedException e) { throw new InternalCompilerError("Java clone weirdness", e); }
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<Cyt*^Xv`7.D7@,7X,K3noTLm.opY<l_die5E>3_anf2SE-g#o6X*9a=:Y=uaOK>Z(%,*4li-Y*+L(XEu+BBZ#_<A1oRfg)$<=p>XkE1u/%VMu6<iMEJN:M5jMKefEo&[R`fSpqddB?Kkj7N5jH>YprcRNo_bQieyamASv9uxF]Ev;Enw1aF/Ehd[q&XFN0s>cc+b522P;^,0BD,,$(4XL>YIsa$_y=Ybe,s:5K,y1:ue,</%5tg<Q,0Bi^k16Oc-<=;ZOi<N2Oan*Jm5F(F,yB>(Rp[/$/=aEW$]UOs.%uVVL4#N%6L1e>xxRRa$t:m`Ce_f@#$g.cCuF:Oep;6LkN$Y6#_6SEtJZ>w.Js.*NRIu#fdZBSV`s8Gct*(m:c@.Z/f(SJt$$,SI_lS$?uj8IM^QUgtKY/jrFhSi6U>+x/*&]hC2E/Rvh`:Zp[o25tVma*6toZRj6?>SM4Xug;pHNkI+1TG=O_mKnAn&?EfDU(A#_UR*F+TEYOw&mOhMQ[dM8#&Hnh>,]9+=vV=p(Dc$97*ADeXKP>>S[00mX;CwIRe2wWHe-@56(SNh6&ZPEn4?Mj+jg0Dm&@<-sII>e3PG$f^jLULgVlqiH5Y0[NPko:*oN$L6@we=Og6b0i]wdnSDsjHjO-QZoRwW<M`e0nNB^0gbBeU9@7Hhkjg<XFM5+@672k9_mqH@ZjE<Y%B>ria1.cHgmjmm]-;VEep@rRZ]nyG^-0p3u_i)VE+Xv;q/pMyb1Tb8&Z97B@twI4`<ojfestctLIf1u10dQf5X+0ya;Mw]5/cc`lB02q1@[S]e^,ObDJ>,p/@H$u@c9atcie3Xl]W`GAE^3e#/=+g.eU[AR82fRvZ64c,Uab`HXS=EnaeDtw<P/Y6V#t$^p7VA8*GHX<1sX)m<`%s6)@C:LM&L2Vo;kUqWU*n-Ty9f-tQ9@y]nN,l5Q8pTUbr4``mCYH4-vY-Hl=.Cf_-#b3M%_#>g@Zbb=UlQb>ZPtuuAb?+odH^o,SeHgOXDC.@5XPRgxSnr-UeeUtgw*O0:144j`ViGEArJW_crGtH:57agXTBvq8T8HL=S(_I[D.<$tp7u_NR-/%+@XHrLUs+McsCk]HGjdQYpY3MQVM&1eNt.5fIjUb7d.pY_go0ZP39T&9hD<0oS-iSZ7ME@M>CYl<yAVRmw%<eRvJA7q,eGpu(),8atr;f9]L4(>euqHvHEs_0^SqYNFp`5O#&f-pX2SY`9XC_ypa8h-t6Q0oJCtM5?M_iG`(#%Ywh%hDpKG9Sn-&Jnw`bR7+mJPfH/6g&oieduu]gN^.=,l<M`d17.,cgp&Hhag26Z?o$)%q5wHgPBD@hRV.CKG)ybLPp@tlN0^)4Q>+5_^]yGk(RouD1sXRgMo89,1rZ+A,13Z[t_A(-4>35@UeF,cS:`>.S:R^2vN4s--$ZwX>j@NNiE63)o;w]-;RspqhTAOW2-3]l%rlq()Zr6vtZl:MY1Fc-o/_w5ZO]ltJup>F&+C^MqVjcbARNkF6WmeCJAV+Ms24DG,HqLp:F+-+1//)jFC`Zb]&9R?5:JSKiNZuK3U*cKeZ/0Kd&sl?@w*,v.4&P#kUIg/s[&rdPO%XQSDmGPlTqLSb*A#<#((6$2nLBpWA#XI$#/24QWemQLog5]GR1lkd#QxHR2$hO4)ji0WEnj2]E^a->f>b%nL2qY-kgyJl2<B`xr`vLwBIrt@J6rJZm&n?B`YUbpXy:.EG?N%[Zs1aD^8%?yQ^JX,L%[*<oK0k,SO3Vcw@usAMg[JaT+>RtFH(w&(3XM;qZg.ew$ah=8a2_<di@hT:Mr>uJV0qWot06nfv_<Xy`L2u$q=f8.a>ES$a(Mx4x6Z%v?./IiEr+C=>_Dr]h>hYQl0sGO5Y$q^aOQ_P`$.6kH1N>-H0:*;/*)(pg3gf%vrOy=Z-RxAY6h]_N,Z?3$<1Bh`b7x(ok^ZDDs4J=j9jxEVL0e[XCE/?6^#6Yr7_wMe/KV.$wjVJ/8_lR]2#nPP/Ei572nqQIbGWx9n;27G:;7gHR%7w%iub7`SqFawU9>:a]&Et#7l8J*$F5wudJP)m`0M95TSFW_H>8JF:[_+DUM<HK<3#RYW#Q:TTtH?Q=59<ME.`,bp7LDWdHNv#2,[)/=?OI5R=a/?gmq1k=;E5]%@V=]Urf>,^.2s@B,9&=v=)r(gQ_2rr=:rM2+IXg^Q72n^a5d5Z.U;sQ::I6YF1=j<4)YXSv>wvF%puI;M;ZsK$JppNaRH*f#)^$P%8&nmNDZa,Z8>v.Baja#qr$&/faU6uBT.=]R9:fbUdXwY75>h_PtxRKo/oE1>gtuyrT;[Q.>fuNf&f^;thhqAI8N2,32L_?m^x-C6=[-FnEJB*`%#9QHC3s>/]yi6,b$g#Y;6CpPo0lpg`[K,j7)r<,6QoK9SL2eD[JIEJ:PI8VhYll*B1t&R:1UGhGt_FJo8BLN;_/L=+7iOc@Hw>sJEh+C4_^x(]96kr>r;#qpO&]FHPuqoAZ&ENnyCUEH[oqf2KrP[t_WXN;-aZ`hA>[i%A.(0$UZ;i[I/laCE+J4X;MKGdo?$(e.bp<megdlT#K?$@DNS<ZEoPF&s>ON>m81(MLX0qS:LNFV)8aZEoe69Nh?e/.c3ZVW.>&G5]kss]g-gJ18Ql@yOW8_,XlLc,4Besnt=nk3rK)V&q94JF#K>]d+cWaTeo[vkF]:Tl4uOq5]UOZF:%h_h&k2t46iCmwVQZ&Rj_j)8_;$pD2K&%,)kgs:iTi&G?/<A]&Z>ElvU,ArA[cr8j`3_@k,_l8[l,PmajRqtcD.w$Zlu8H<7trOXkVp8hod1T$_I,*SoF)I2bfvD[er&L9kVg=fB&3A16sLfXMFh1WU`jHSCu`-G#;G%^l1kHW`y54ta<)$EZv9#nL,DNDPsI:MGPE?@DSF`=c5*s.nk=&)o(PhR=-n(x26iO+Lgr7&cJ.E;G#/Q_PCp3L-C_Bv/uhTso+oL)4#0g&2]s)>NAD](,0cndnMtEl)>(NQx-W$Q$F,e@j7vbX>h/B7dRU9Y8IMU[*b&$DD%Pkrt:ow6pw0QZuE,ghH&7^?`RoD@@P?[RPr3I@xXa7(R&jVatPcP3#M#;,6qIboI?Y:`I=>yxO0NL/G$QhI5*RWLxD%O%YHb@jR?<fa?aUWGrT&G>$/9L]3,G[MtN=[^R5S(N=Z^Wr&t?RU*[ZaRZASUYT@=6bT??MF$IP0ntNeUyDD]EJydJDs.`t([i`2/p[VD[NO$S6H:>AuicF(nd4f9d]>/t[7L6gk2;rEU<gSOcjnMsZvtVn3>QD3/)kM0=UZAm1RrDBG>(@m[68;A&&%8+S,x/s6>iDl-a;dqsjA4d9X=<AThY$;=>?2.dpvGp]H%.Z(UllJJu,OI4LO5QBU,rNF35.:sXuvtxZP;A<1VulCT/iFN)4oE:]It.@.SAZso13%]p%Vj#y:NisRmc80Db;6WG6p4g/9(g>G+CFW+L1b&bJAFmxP8lg/yVVH2J[u[Z1O0>SdNIA^epZ.w*7T0fwh?9_-SdY$8?M.E&emYy<lw+Q(=-jK<2-s&97LQSyxr$=nsf-0REJ&l,[VoF9x/tjstNqEv.We(Z?]oU7PWID&Qt.AHsJ.>BO($GZjUC2EESHi1x>X+SEGQlUtG%.`?,u6wOgJ_abCmLAbK%H&3o+guvRUFl9V]I?RGrO:3A-S7WT?1gnn5M&51_Ia/EX+&Q4QxM,+*a<9FireU8@$^8g3W,tvL#vSv;CI&";
+}
+
+abstract class OCItem {
+    OCItem next;
+    
+    protected OCItem() {
+        super();
+        next = null;
+    }
+    
+    static Map<AllowBreak,Boolean> format(OCItem it, int rmargin) {
+        SearchState s = new SearchState(0, rmargin, 0, 0, 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+        format(it, s, null);
+        return s.brkAssignment;
+    }
+    
+    static void format(OCItem it, SearchState s, OCItem stop) {
+        for (OCItem cur = it; cur != null; ) {
+            OptimalCodeWriter.format_calls++;
+            if (OptimalCodeWriter.debug) {
+                if (cur != OptimalCodeWriter.top) {
+                    System.err.println("SNAPSHOT:");
+                    PrintWriter w = new PrintWriter(new OutputStreamWriter(System.err));
+                    cur.sendOutput(w, 0, 0, Collections.<AllowBreak, Boolean> emptyMap());
+                    w.write("<END>\n");
+                    w.flush();
+                }
+                System.err.println("Format: " + cur + "\n  lmargin = " + s.lmargin + " pos = " + s.pos + " max break levels: " + s.maxbr + "/" + s.maxbi + " min break levels: " + s.minbr + "/" + s.minbu);
+                System.err.flush();
+            }
+            cur.selfFormat(s);
+            if (s.forward) {
+                if (cur == stop) break;
+                if (cur instanceof BlockItem) {
+                    BlockItem bi = (BlockItem) cur;
+                    cur = bi.first;
+                } else
+                    cur = cur.next;
+                while (cur == null && !s.blks.isEmpty()) { cur = s.popBlock().next; }
+            } else {
+                SearchState prev = s.prevBreak;
+                cur = prev.it;
+                s.lmargin = prev.lmargin;
+                s.rmargin = prev.rmargin;
+                s.pos = prev.pos;
+                s.minbr = prev.minbr;
+                s.minbu = prev.minbu;
+                s.minbo = prev.minbo;
+                s.maxbr = prev.maxbr;
+                s.maxbi = prev.maxbi;
+                s.blks = prev.blks;
+                s.lmargins = prev.lmargins;
+                s.rmargins = prev.rmargins;
+                s.minbrs = prev.minbrs;
+                s.minbus = prev.minbus;
+                s.minbos = prev.minbos;
+                s.maxbrs = prev.maxbrs;
+                s.maxbis = prev.maxbis;
+            }
+        }
+    }
+    
+    abstract void selfFormat(SearchState s);
+    
+    abstract int sendOutput(PrintWriter out, int lmargin, int pos, Map<AllowBreak,Boolean> brkAssignment);
+    
+    public String summarize(String s) {
+        if (s.length() <= 79) return s;
+        return s.substring(0, 76) + "...";
+    }
+    
+    @Override
+    public String toString() {
+        if (next == null) return summarize(selfToString());
+        return summarize(selfToString() + next.toString());
+    }
+    
+    abstract String selfToString();
+    
+    abstract int[] minBreakLevels();
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Y027c*^Xv`6yi*8v1ZEw%W.OV1Qr9v%]=-OMeP..H.(abQsJb6pf/?-rcZ`JJNvFE6$Z+qi0>D@RDK;a:r,/<)S4EI.CVo;Z]E/@1``@YiQmwVSwG?92O5jBhSmx2ujR$@C-+6J4`<M<tU@/4at_a.&)tdc4ke5F(@SQVpAd#=]Ht*ZS:;HkpEh;DJ9oh5XZt,S+k]N,)VMhdLhTxAv@wg`h$DA&:;`r//^TT_^+a?q6%]0IJ)Q=xmw(heX(T<u)86[/(]g9a4oe8%%=YvaWt/kN)3Y?*$LWS6:[JqbT#y&RGp.8%9E#>@i)Z@p$i)#&/K35?9oe]gGU2P:,BAQqvV:sW4%j#lF.V5Rg@q[VV30SYs)FL*nLy/g?(aY11^Rh&)9Sc8T/L_W+_IS%4pD(oEV+lX4pTTNRMTD7J:Xa4Xgu6m%t#7qhH_H$Iki3/Acy#shl?t)I`EH;NaTr7j@:5#sU[32G0ea/[kE2e2@)RW7[SxH:BWo[1;f`2K:=EgpZ4i+.A)Rbha^lLn[XFVWOyuE^FtkrceNmX8.$E.<y)7a=#=`GCaawvMF*)v$DVU:pio/e[/&hE;L4hJVa6]-2oxw+S(2xs[l)dUSNJ^$g[d)I>8ZqlMAl3li>:_>e/8_8CHK42<Aag#`/&`kegimQu7*F<a#FxUp9ICHVG/nGF(%Ak:4t7/t9P;AlH=S+7@Zjg>_rV&b1ZQ^v^4/p9Z2T%5uh4a%RA?C:pp1seMRF`X,x/^WdV,Y*94:R&,2Bm/W8r]C3Svyc<o2BNX&7/,jM,xgnmYVo1X2iU$:kMf-T:7MadHG9rv+;.])2UXv=fbA;*RpFI=yq=cHZ%48+(m9xnyJDtt/C/wfjBAv8mdK6[qf(+_3mj;+.ZnFX</.7ceES*Xo0k=-uT>RN$lKt6*va+dJRC0Ab76N#Ng`3NGQHsjUL$5DH_YG`TRIPprnkh^9)u3`1g:+QbL#>&NU-1muuU5aMHL/6CYK-Klq=h2;TY^wLlf(FS6_SCi0N,,)ea:ytDl]=DCs$1(.Sqo9a1?y3o>nN]Ms60JibB)VHBW`)5Olf`ZfFyEW3uILNY01.8IaKCZH,)@kJv?L7eS1ubL^xE.*:=H,boXhZ@-vS?-Q@h[KcV-4$/49f(j;lT>HkuHsaxi+l;>1_Q6x&SKXGKnC#v?Va5xDE&T^CxEN>4s$8Sit+?pe8+];>PvtaPM(1<C[2<j(+3LC9lhr/wq^^D.E_[k(RD#q%W],[Xqa[9gxDgRPtJ/AK2E`?jp*$2B^LiPG0EBq++uq%&=,P6nbm#F8cQ_BACor%@(sqA)i,a[4CMt8moc%aqU$%^X_5.l/8;lmt&Suf2Jw0=s8H<QuN2(C(Oh&+g57,dB]qcAo4GAQ5`3?/q2W4E*F(CaPBKd`giI2/pJ,pReyE3PhVSJAy<r=3D>&y&S:5lGoWP#`H1ow+8ssu)Gp_&]SiqJHB4-2TtNL/[/2Y>:Nu``f1fE.mPZB:ERwkuqd(S9FV[aVFt*C1cCOa;w(A[Bs-o-E?dq:lQY<hE;.2;`3oyV6@(H=Y^cqnH5nDRP>PIfJp.n+$fQ9:=A*.oThK@i2lcOj`aO-PC074;pP?%dGo($fk%TfA(s3kWC3c@G6sW1w:RSp)@CR`)K@pf7m1-2Yd#CaRnYtaV8QH<hwZir<jGFXLL[E>@X$<o>14#;)F&3;AHEQnq1?R]C`lI2eS*r^q]peTgQcUQ=(vvQe3N(RCj+Fdi+P-9py@KcDK=Zb1pc#vg&KSDYA+X>7P[O)@ar:Tr#K5xDwMyxRf$8MRbTi1R8g4ZT7(H6Sh@Pce[64@?wLRs)=53KN8*$-]iSa.R),5=.1aUS_R7KtLUbguP8AZL5x(WF_cN.y0WLF^6;$Dht4t=MsrZEOW/p8l?My_8l*P,L26GGobpr>tk_Ll&CfTT]IUx6%B5.,w,ej=Noy%RIs&w&)R&CdDtrDop@c?ufv7:c*kv??tD*#8h2wj2V]hX6f9<AbQLl28#SNk^c7`E>BiK4D2.^xN^fVd$KE(H?bK]SZ>8QFk%dSQWLXL4F0)I*MHSZ+U$K%C&eu=JF^@2WX5]2xuVQtlKvbR=qtHMb*UTK,+&thNhNBgr^5%9*%Aw%*fTA4-qeN/;5^^i99LVbjT6]hP&_CV@-0n8D#cbGS]d5lW1FN+CnUcuO49%Yr/?IPV3gd1_6_i;SN:W)^HL<gB4fupDm,H<yDL^dEvtpG9Ud6gHy(>]QRnmYF3@c2+V&b?H9.&-,-vG1XCAWa<pV>1d+sAc3,PB)F,-S`u.$Y36T-CJ:anbw6BU9y:gRcPBHT@m2FXKv/IH%xPYRAL9Lj]kcfAjBKB&9oVxic2:8039F=%1lfI-PU?c4&wJ>@L=[MoT0D8Um)RtF5F5kK<knDGt[bgY.&$_4(m,q$YHU;pmRW3h^52;m(;L.PB0qq2Z8+0SHJH%[^>#5;]O>bGrr6UEf2WtD9v3:Jr-:5ANc9^OWkZ)8sq#3dYH(2:,6jPT4R*jQcRK,&hTD:^1_hm94%rvAUjvy].<_=vo$sSL-<lhIXI$CHj`.n1*Rn]JX>?P.7+Zw[5D:2-2cgi*R%6m<Q#;]O*@BH0sK+=8[i?t8+CA+If`HCFi3^4G$3X1v(*lH$]N:E:i/3I<@GfY9r_1qRH:+Tua*&>%8I<Cdi,NA135J355@&:WaqOpf.RE3Wf55;a5Q1jIq),O:f`2N]maoWH#L,yRK1vJOW<(E2-HWWe>REePPY>KWa-8H5F&3o*_jVp=usrt7-.4CAN5pEGv7sGNTT:Y#)&JTjPmBwxI1jf++70?=5U$3=DRx4AT]mmtGeD3,Y>5Y-<-l].F](LOElc3$U??=k[r1udu*o[jtJ/@=.aETb(AA<`[FBbbL6;fTGt_NGO8gkc=Fs.s]cl%fq+6I>1W@yPLt,d/@iBQypG/cSn`5ZiD._N?bR)@3ep)BZkHt2,VN1I>:yN>7LFA-Wc1eFgSS>6lgj),bE/]KZ/OlUtKO;xs9bv$-M>/kbD+O)%WpIkq/3+S7FdM2S%yQat-ZY85#C]5T]]cQI$J2uCpY`J_`2nE=_AG;wO;PsuNs=66u=7.0-&v14iwF:eXKhs]7(oN4$Q#&CU*.[qV`A:tZP8vo.Udsua,K<pW;gTY;sluT=]uYeoDyVjW^/hs1^9u/PrbH]4[+yi8yxtuR-L9]uTrmwGE/8J+`UrGR=<5x,]OjTGyX?<fSWXov5@cZ#YWB+nnuH0R#e/N9wTBIJ_hPV1`bYu^P6VRD+hY)teB*M<KYEUYO>V..(-wNX^L(XXPHYHWm6&ePI)b)<B@I4<yJC5gyb:oU%$62NrLVJ.(]e+6?<;(@y%$;g3*LBod_Eh9_wWfrL6U//wVHERna<DO$WXqv3:Wjh7KRd--t>Ge[b$nmTrjoR=Gin@dfk=.l$TL_<=)=JVPh#KfMi@X/j6UBSw_7_Z_IE4Jc:J_cx)BVl/[0=`n_w8<H)6VrrB=";
+}
+
+class TextItem extends OCItem {
+    String s;
+    int length;
+    
+    TextItem(String s_, int length_) {
+        super();
+        s = s_;
+        length = length_;
+    }
+    
+    @Override
+    void selfFormat(SearchState s) {
+        int rpos = s.pos + length;
+        if (s.findminovf && rpos > s.rmargin) {
+            s.forward = false;
+            s.minovf = rpos - s.rmargin;
+        } else {
+            s.pos = rpos;
+        }
+    }
+    
+    @Override
+    int sendOutput(PrintWriter o, int lmargin, int pos, Map<AllowBreak,Boolean> brkAssignment) {
+        o.write(s);
+        return pos + length;
+    }
+    
+    int[] minBreakLevels = { 0, 0, 0 };
+    
+    @Override
+    int[] minBreakLevels() {
+        return minBreakLevels;
+    }
+    
+    @Override
+    String selfToString() {
+        java.io.StringWriter sw = new java.io.StringWriter();
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == ' ') sw.write("\\ "); else sw.write(c);
+        }
+        return sw.toString();
+    }
+    
+    public void appendTextItem(TextItem item) {
+        s += item.s;
+        length += item.length;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<:mq*^Y,d759hE4K%g#MtHfSRGr<#WIYarLF7bhbf1PpAlb:el,WknGk3q-^Rc[&.D.ub9>`.ARlj6d/a.+ruHVgI*()*?,F6d^(:p)]Zd3Xc$Ila#;x8LEU@6p]7XD%vP7,)Iu1CD3Uv?g8Glf%J=qp&nujSZh4;ro6Q),dp>0@V_AEI`<@5]qL%cr57Z&:XC.4-B7@[TQ[lYO@r.(874i3u;u:NesQZnvA*USNly+bhkX-@AT3$S+RQ&K%4X<o8RcSA3LG9j]LB&%8@P1U^RX%gM>F1Ud$J>*;lviW?<8/q<O%V*k:H)7ATn;F`uyYNZ]]3VJ^M<f7T4DyPQBur[_0V5)D#e-,BDQoxYaR9pgFX`0m%9+t:IecHM2:k+.G21xK41Cc?pO@qrI@JmqG1dSCA5Ls.<_of]ZZ87a*?LtuWps<l_YNKb^50rS]Ox$@02MB?Lf]0,`RqKIh;R[L#A=9xmH[RwF6yG*RN7:>M)C#jf`o/tNMy;Go-%m-ccAo1O;:@<O6G8[>#a9SVb6AL0(Uxg&.jk8O^uR041NmKt6(@R12v9#P9+E*ve^pudJMX70nt6J*gt_qj5DAK-*a4QVqHbhE<G4NI2q#_#E-nM*i`>dPU[LP?H$[-p*itQ.U5=6QTyq+i)3YpTh8UJUK$Je7DLkYm83Oys3&jtTMZ6fZ&4_OPl;TDC`U0xcF2nMi1I^T<@R.hye9LEdoa&,A6Da.2]leVQfsfPW8G&*G>3?_,+K#P3MmI^(F.6Il]nnGM]sw^3IiO=h;p@3wNhy$E0HHQFIwmM%0@-TOC;8m(u_J2PcD+Nk+(?jX;b::g$^$&44KPmCeu.s2,on]N?eDDImi[=^2`:ZTa0I3v:cDuNpX7MV;pY%G6b`ZP&1M_w8LJ&Yp>Wx`%c<ReuCEY1HSA_Y/a$eHLKkKgAN:EAN54sAii%Wguv&R])],4@#4V08B)-ZWw%1`f$K<CNk``,j,k<RZM^_Qs<%5KkEY_@a:fxH-d@S[t#+-UsQ<sf[mu%JPsR;pp(C[>vJUq7q%Hd6j^+Aqnh)u1.-i2B7I21UsX@QfwT,*4OTM_XW0@U>Aehqr>(/oeYi:cMhT/6l5?&GE6)NOU[vy1LviV84%_D@<B=54$$11.?>Y7(j4k8.P%_bY<IQwBf-8JN/)`%4G,IN<$bjv6DB#]8RLEk.&e#*`s8..#l&a6ix9_auWST&qw8F#Da5INyKAP?#G2oYIsLHXRr5u>5,ma@y,c#+S5[_tWUuXPuls&g4+dVc``[pEW;-%.cGT,9_rU_V>&dN486QiXY26bh7_4hayrMEt/#QNdPD.m>BDegCY;Nr%AO,]?`#h7Y0@r#o;0$J0u8JXa81Ehjd+0?e;c=cd4_V`lkj8O<TEwRoN<H_0/bBOE0yLElZi)E)I;6YBdRQ*0_?4;[cvb7J4IgI/RyL9YfMg&wS`6,2^qtp2;x<6?lJ-$NyJplV)FER5KA?$kayDq(#1%2a7r=&dhLI?BN.g#?1F:w6[#,(FFo%+txN5O7h@UVgQrH+2t/FhM;ndXYKdVoXteEN/<]5MFlL6itqa=87Ir_K4:n>Ryl)JfY]n8f8%#c2)tjD0.*(ZDgqoC_<9de.qwhPDs:Uq@,]CsaRZVnaZ>djq_K:Cff4l1t:tcmc)V)K&Z#y-E$d9a5X#$r,.CtXE$(jjVIQ.(FQQbynb;(5h]?^.1.nEY*lwgQ$X:v,&7q<19`.JAvQ$.h.v_J9X:Uh4HjE32[JTq-16>^dS];SCjF`QODURa]vjyOKO?f+@ftRWs-*K;0a+D(LJCB]/5iU3_+(@x$t>(yT(xc14Lml)rHH$VtXteZ/hP1,k8mfY1opXGMsTw1LE0@?R,RWi%tW1w,#=AO]L.0O;a2l%`jA>km$eN`W[*XqLeW<@G?`W^+_&_);K>%jO4oHV>8<c-%F))>p?u=^H?`Rc@aSH41qfNVoM8vivX^*kcF?67D;2$x-C#1U_XS4pljD-6otYBre/7vui[Hr+p5*7<L0EpUw<m/.j?ri*:Fp:4_[L-vEnuNyi(,f2CQoLIOcCtIgw5tCAY22N=^p.ODJb%Lxg+iCGbMU,_+s(D8$.r[,e.(RAasUHC,+e<SIE4#FIZO=na@w,I4`r_sw,JfjjCdeK$XhdZFk-R8$_l_t7;7c.l+O>f@w6`k#v2VXs.kFuJ=LsyVpeUv[0l%wmER_Bah`D)OJqso2],:[hq,ui[/dgytk6O)8ygm290g(L2+HljM;/5+/ywC+buchIv98>+qNM^gGu/]HZHKOTDNpFjL>+<CrVR4NkyG.tam^y/.eR_AFvwtnS(*num2,4b2*4T2:iw[w$2)+IN$egSp-,O0GXfPu>05hJV]N,;<84xq^#oah2i].r6N%g<QiBS*9yT8V/LKr0?hnj6KuTsf^NsED2V/mfk7nTL0]rwRZ1e*B-43v77N?fZ$$,1&PHdAKb)KbnWgN^cJkiBrQQorPHkSZ;K%Re>u&sLu(_<t^[xs97MrAbJjnVvDPGHMUGb_lyF`2403UJeTv9@i&[mnY;Up<b,=uTZ;;>OTQ:1;8na/#4C)2torGOrZMpc5HrZrqSd[9<$(]G[(T_K%W*Vf^WD/F?JNlRrX;$_]yP5FqNU@O?+rAs?2fQV%9s.d<F=hKk:aB<,,@f5PScaI]M_gt4I>gwtAV$A/)osilk7)B7b?8n_4&A.@1(^sW#wN*#p?V.4wf7h;0F1JA(gk<r=>3mqF*[O/0Ft_Z1oEyDoN`689Dj2a2RZP]9%Kc&*%Sk-mf#i]HPdrJdg*:N4r6]PF1FY)9UCm_/<ITe2-oLH&aA6HmhJhnVYhlID)Ah<r=gV?&E`eyv#WBjX,<n_e9>s%Do0ByLI);G$&ZBT%(NJQ>_Ua<;3UgrM)CG]@X-?lUl5N2ME3[C0-5I629$PHsY?ZG+K3Wu@oiB33lDCEd4PxI`OP`D.dPqew>WG`MnsAvyJ6%Q/gO?x:]-h>jpWh#;4eeH^N/+:8&dC4p2)5M0ud`::Nlr*uWsi^=LsHWp$>%Hrg++/>ASuEDTR%(;UuNhKTR_`31<wpo.%06hDRl:lxjQN,O6<wDLJU[bI#&J5huhJ]vQo$O?M%@jRo>K$4Y-/B>_Y?r_(lDUi305)B?GIWAui)_bqA+>8+sk</*hddhU1[ej,dW<)l8k?1RdX<BRBJdW$1]9O<]I,KfZFMDab_dNtG,NkZ#Th`pDih+4EE12JPOVf0_3..uu502q)GsE=VHJhKy0hie,6M[MQo)A5YAXo;qvM7vU3^c4FPNBgZ1a/qh:V#?KLR+9931_QRbXvYZZK2pXb;r7k)^%u>i2$u>NwCt9fYA";
+}
+
+class AllowBreak extends OCItem {
+    final int indent;
+    final int level;
+    final boolean unified;
+    final String alt;
+    final int altlen;
+    
+    AllowBreak(int n_, int level_, String alt_, int altlen_, boolean u) {
+        super();
+        indent = n_;
+        alt = alt_;
+        altlen = altlen_;
+        level = level_;
+        unified = u;
+    }
+    
+    int minovf;
+    ConsList<Boolean> afterBrkAssignment;
+    Map<Integer,Map<Integer,Map<Integer,Pair<Integer,ConsList<Boolean>>>>> cache = new HashMap<>();
+    
+    Pair<Integer,ConsList<Boolean>> cacheGet(SearchState s) {
+        if (cache.containsKey(s.maxbr)) {
+            Map<Integer,Map<Integer,Pair<Integer,ConsList<Boolean>>>> brCache = cache.get(s.maxbr);
+            if (brCache.containsKey(s.maxbi)) {
+                Map<Integer,Pair<Integer,ConsList<Boolean>>> biCache = brCache.get(s.maxbi);
+                if (biCache.containsKey(s.pos)) {
+                    Pair<Integer,ConsList<Boolean>> result = biCache.get(s.pos);
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+    
+    void cachePut(SearchState s) {
+        Map<Integer,Map<Integer,Pair<Integer,ConsList<Boolean>>>> brCache;
+        if (cache.containsKey(s.maxbr))
+            brCache = cache.get(s.maxbr);
+        else {
+            brCache = new HashMap<>();
+            cache.put(s.maxbr, brCache);
+        }
+        Map<Integer,Pair<Integer,ConsList<Boolean>>> biCache;
+        if (brCache.containsKey(s.maxbi))
+            biCache = brCache.get(s.maxbi);
+        else {
+            biCache = new HashMap<>();
+            brCache.put(s.maxbi, biCache);
+        }
+        Pair<Integer,ConsList<Boolean>> result = new Pair<>(s.minovf, s.afterBrkAssignment);
+        biCache.put(s.pos, result);
+    }
+    
+    @Override
+    void selfFormat(SearchState s) {
+        boolean backtrack = false;
+        boolean findminovf = false;
+        boolean assignment;
+        if (s.forward) {
+            if (s.findminovf) {
+                Pair<Integer,ConsList<Boolean>> result = cacheGet(s);
+                if (result != null) {
+                    s.forward = false;
+                    s.minovf = result.part1();
+                    s.afterBrkAssignment = result.part2();
+                    return;
+                }
+            }
+            int rpos = s.pos + altlen;
+            if (s.afterBrkAssignment.length() > 0) {
+                assignment = s.afterBrkAssignment.elem;
+                s.afterBrkAssignment = s.afterBrkAssignment.next;
+            } else if (canLeaveUnbroken(s.minbr, s.minbu) && rpos <= s.rmargin) {
+                assignment = false;
+                findminovf = true;
+            } else if (canBreak(s.maxbr)) {
+                assignment = true;
+                findminovf = s.findminovf;
+            } else if (canLeaveUnbroken(s.minbr, s.minbu)) {
+                assignment = false;
+                if (s.findminovf) {
+                    backtrack = true;
+                    s.minovf = rpos - s.rmargin;
+                }
+            } else
+                throw new InternalCompilerError("Could not either break or not break." + this);
+        } else {
+            if (!s.brkAssignment.get(this) && canBreak(s.maxbr)) {
+                minovf = s.minovf;
+                afterBrkAssignment = s.afterBrkAssignment;
+                s.afterBrkAssignment = ConsList.empty();
+                assignment = true;
+            } else {
+                if (afterBrkAssignment != null) {
+                    if (afterBrkAssignment.length() > s.afterBrkAssignment.length() || afterBrkAssignment.length() == s.afterBrkAssignment.length() && minovf <= s.minovf) {
+                        assignment = false;
+                        s.minovf = minovf;
+                        s.afterBrkAssignment = afterBrkAssignment;
+                    } else
+                        assignment = true;
+                    minovf = Integer.MAX_VALUE;
+                    afterBrkAssignment = null;
+                } else {
+                    assignment = canBreak(s.maxbr);
+                }
+                SearchState prev = s.prevBreak;
+                s.prevBreak = prev.prevBreak;
+                if (prev.findminovf) { backtrack = true; } else { s.findminovf = false; }
+            }
+        }
+        if (backtrack) {
+            s.forward = false;
+            s.brkAssignment.remove(this);
+            s.afterBrkAssignment = ConsList.cons(assignment, s.afterBrkAssignment);
+            cachePut(s);
+        } else {
+            s.forward = true;
+            if (findminovf) {
+                s.it = this;
+                s.prevBreak = s.copy();
+                s.findminovf = true;
+                s.minovf = 0;
+            }
+            s.brkAssignment.put(this, assignment);
+            if (assignment) {
+                s.pos = s.lmargin + indent;
+                if (s.minbr < level) s.minbr = level - 1;
+                if (unified && s.minbu < level) s.minbu = level;
+                if (s.minbo < level) s.minbo = level;
+            } else {
+                s.pos += altlen;
+                if (s.maxbr >= level) { if (unified) { s.maxbr = level - 1; } else { s.maxbr = level; } }
+                if (s.maxbi >= level) s.maxbi = level - 1;
+            }
+        }
+    }
+    
+    @Override
+    int sendOutput(PrintWriter o, int lmargin, int pos, Map<AllowBreak,Boolean> brkAssignment) {
+        if (brkAssignment.containsKey(this) && !brkAssignment.get(this)) {
+            o.print(alt);
+            return pos + altlen;
+        } else {
+            o.println();
+            for (int i = 0; i < lmargin + indent; i++) o.print(" ");
+            return lmargin + indent;
+        }
+    }
+    
+    boolean canBreak(int maxb) { return level <= maxb; }
+    
+    boolean canLeaveUnbroken(int minLevel, int minLevelUnified) { return level > minLevelUnified || !unified && level > minLevel; }
+    
+    int[] minBreakLevels = { 0, 0, 0 };
+    
+    @Override
+    int[] minBreakLevels() {
+        return minBreakLevels;
+    }
+    
+    @Override
+    String selfToString() {
+        String result = unified ? "@<" : "<";
+        result += level + ">";
+        if (indent > 0) result += "^" + indent;
+        return result + " ";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5NHp+$PyoT_a<7;JMQ<8s^*&,PN(X?[EBdtdOIim][qk^k]Y@g.d$YJC/WjWaiBtg@n@NFW#Sj?mwu@]^FXk?ioH,r5IkL1X)S5<d=Y#k4maLY?BZ`ly>NK%9F?bkt>Cv7roRlqiS`IGs`gRd(sItO<AG5=n*F/E*gF4iY0do%+t,U2,u$#01DWI5KC)eGZtGPo?-,EdXXSHFVUa7Thi^wYYC<<oeMs9A1Tek*90u4t.E<[f0IWXv-#j=PS]2]QSy[XGPeT6-dVXgd6Xd0M=rg&):_#+A5?A64qYrC?%a=>UYgA%5Qt`(SVy?BE<Y&M:4C>)>L^(ldZ?2>Qtj0K*OX38D?x.to>i@YKh:Lfuv*HB=GDu_B>hS6AxExe:.ic;3?(Uo?*Q:EinS-=KKD1.hU7q2*lPFd4=lk+V]^e1S.@P4/=,YO,u;GI`vw.ZR^/*MkXg[UTZ3sSeP-sf?J>J[Vds[i6I(XFbkQyBNXJG*YKN2F._s)YD:gFnmQcAwTmR*v1>EF]g>usT$?I=yW=LKJ$3nN8?6y_rA/(t*+Ur.Fa0xlXRT:U#MJ1^/HgAA7..hZ4<J#$lS9s*AFeG*>ZL`$@VEr.93A0r)G4ve=4ej9*/8tYU4eCR[O-mpo57;O*Zup46Y5;$++-w,4=F*]YI.2SW]tMV]j[&[fu/]V/QvHkrG$p&bt2dB*j(1CC%k$MUID*KjtPrO1bMk,yD18aWP<by?jW_H6^jc*9GO1QkP6B%,>Fc#L6[*kh=@dByX2OV`Zcpb%Eul1x=fF,:drR*)7QD4vs(sF>h`=rK1<<VTZTwBh9uOMb:;wN>PR,fyg`AwC^NL37d-Zjsh=ZeOl*c0i5KbcPIp=7qIp]YvU?&QxC%)2C1:rF-*G0?G#D2$SvCu(h4S:R:],fx<Akr>HZi0lJh.):YuvGY]Y<@rhq#FMS1*PS8(d*k`?dUa(32abg9q?8Rr<HdI(x[uAbc[e^?Div-apPuJI/MsIQY4:8)$ITaqo#6yp]X;y;h9$VKk].TY?Aoi9uSrwssP8yZbTMVsPtsLF*`U&j[duH8T%#Eatn.IqwW+TTx(duUe_i$-,3c<&%md2s+0NgaGM5Ui1?uIC),]KFbNcA<UaKP)$h$7D9jsB>BC:VIYH(:OX,E-hQ4:?soo=(m.lwM(Y4Q@0Lrg1]:Se<A9>QvX`.m$n41P:Wduv93+BM]dv3lms&U;/kj`Syn/&#.i;Ii]0r`T?FmSyJ$8S?%3boV36i,.tYh&B;&65qHO5JUrG)^V+-&O19it^0n7IKD2j>$DVRJskCm_hoNa]Su0`Ub8#[*hHX21KF)Sf+b:PX`l0?9oQtfZEf>0_727n)ct([&/[>Kmbb.f%6<2PuCpU%&ZGyCtn=In`InqZru&piPR-6;7U=;F[_hB@4WOR-v&[KjkuS10x35iHq_y6`P3<c-8`u#eN`KbOSQ?jtc`7d4QLWi5nvR5qLl5jJDd@f9MXCh10)>-CB/*M@IPJDm(J36BjRBp(?doLZ:QDGq7B?5,IeudU<fY$_d1iMJ)C-6/Ig/b5[=7FE/PwNR;`qWTb_CApm(Jg??X`kBbcnd*0PC-/32Zvd1S9W,W4af]&>BR>Y))>1_>n4BocnFDI3K^;;*6aBa?9*fQmh?0jd@^uZ/:t8?B:<okUTl^5XTGFN:G`N;_2YUsu2@;R;y_9I&j+lBD:/BZI2t6@_V8cPX-^1WY?52n24%8v&#Lq)dN:7,w,0.ui3Y1WNfK2@5cg/;N0/Z)7o>8C_w5NHrXRnn>O7?c6iqA^BtBA@GyIAdOl5pR81njuM/wv;,tGN]Yx_OtC9VK[j1J=Pqd0%jFoZ1=XZHnJ%S8=O5g?:sT&PoHM1K0$[gg?]miuR22^%:M3#eE7Zp1;?D;_vsE)R1S7H$Toq(HgeK.yqY748n+w.J(#c57So$xKF?s8KrA4^0Jw0D,]cT6iDQ$?F]Z;4F?y[(x4iD0<fU4Z,l^dv#^cX>jc>uT#,ENh%B(X@<b22&Bq<)AIL9>B;;.@VZ#k`PhlV[*MYGIT7d(*sUtRrXR)wZv-55sa&:rPjD@W=G9EA2qt9dC^2.L1eB:GVIZ1e09]NI$&bj<TH0j;Soji=h#rOI##V()%LVRD?e-8ivfMg9Alo0fcT-/?^MVtYT5]#e^[2n(v%_)Vr7rfS_8+4seOc7-+%GebgBe9JAf/?YKpJJ9nY9<EQrENV-aiBmyjJ:IU&XC=ZT=/hV+CJV?#j2,[5neS<XU<VR=9(D&9gcPuw)6Ulk)I^N_T(od9]LPbo.qbL%]7r3$rnT14D]P&i4^M]Gc>Ou+Em^6HTZ0RB[r6-+9+DFK>s9sd].A*-xSBLc,(Z#b?+ZVP^DsFc7K=&e9)Ic#OZ6[9+H*&KK-yEhn2`]43VJAC^7o;2puv&&s2IP#v2#3AP:+<.ItmDXqk@/)bPP0of=aA@f-Z*Jykj,S(a6JxA?`-9j%YTgA*7HC+*n(>]JqJ3$^100Yb4&sn3:XCrh2J7i&F=tW?N_]mB.?Qhnj<%A+PQ%iYf:#xCW]P1O<yh[Z)Y=MYu;NUjRU=b_<<+A`2s+O$k6v_R-[yAgAr]+:WTDucdT$BW^X/c,VyvB-Z<@ML.x`*Un#lZ$ck#CE+d3eEq9xV51IJi-MAaHb.M6uibd<$:KbxnW(8hh[`:ayI8=?CC)/o3t%Q-,XU4%vRin;hsaE4$*F_7g;-QRCMadOE]1fx;kDr<Cv8et/uCVJwMhpb(TN4A`sD)al#cH,?W`g&r5U/=jB6An%do*lT&xMK)G#7sp(5=RBRkKS)b`v;d:F>QmB1cL<m;^bnf_x_BcLfsO&BW`Pci7il%ib^3MB_0lH/5<R9;&p:^Bj?HXgBAi>oQGL8E-wJ%vs9ji>s0O$?qJmogo4HQYRobgqQ.yr,mgoRl3HebhKNPF*KVdM2c2v&iJcj>hf9gKmr5s$R,dYQTm`9D_sx*uO.2V7y>L,R;6^;YA9`p#vmy]5rbh%XHVh6bTD;6[=W6>?+$.51[/p.Ypb$h$sO;2>[g+ys#Aq4kg1+dB&AKd@$M?_[pcpADcGaZIQ?Af]Gs-iSHmuUeEsj<epgb_LA,i5uUT;Z,ltZ_h[CkAIALB*f8XtkFclAW;6ZV#er3y$I)sJkrH.U7P5qD=Pm-0sDDg]u5`v[tPM)t^cZjZ&dn3v1l3`f9>rI`&AZ:SJoNHtwc*RWIF?0?Kga_eZRw<*(V.E[xR77hMf:QtiYXo1KbiW,#6xH[J#&po0cW$oE)-3%x&Xp.,JvyLiO^3+_//4]_kvO5H3F/Bu14fI,0KdgH]?]/5GuPb7SE(Jo2y=-3ul>+[OMGKtlBC*)AFQci#E;(,@e/[Rj;ZQM&qg&9AWml?8&U`r#P<@Eg)nU*VV=3i.EFY.1ka;iW=Gp%o+%kQ@@;%*H=b&lbiqHt=I=m4u>m2vi(Z4`Y.)uuHmg[Vi/Sg[sp67M?@_ZCpLF41aRATG;uLkx;4/0S`R`T;:O:aAT(;pVV^#.a^Un?UZe`IdHO(5FVT<ldecHe9N)ob(Urp0%c?/)R?:Y:B/w0oK#c8*^UkR@/A/#9],im-#+TWxEUM5PY_/eqnXLrOrPNWYTn;2rp7lDQvSZve?1Kx`-CwmJ%X#4Mj,UHgpfyue(+#9,+]ko7FN1,&LS,)Z6V6;t,)V7TPo6$f<lJNMNTko7c+i8DZu,:&4MISXeOBYqGlthI.T/o5%d`V2.1v:sepC35oLoN[eXG#[(aXRZQ$pQw2HLjlu/x<Q1eol$([$Pn2w-sfZ%#7489YiE&D[V+/:niw?F#RUsSNHCwCo7gx_:P/3qYbo^a#O(VeR8#*.vWp<q]Ad]V5ZLoYcCy5,]54<Uhw%tF^$*/Gx]Rr*ph0F<ZS5j>l7)Di4fW:C?2L0-wSmq,wQ&)^:mlCeJb--Q0.SOAvL1rndEu,kZ5JNrg&M-XWQCOZG$W6A2_1Cl<#q`S;5HkAQ2lRo#*_LSEZ$jAbgUX:4`tOed(hM`8Ff>f7t3x0_5/SJLBhCY+6LI@&O$J3=TWXI.Ua5sBaERv$MP+S_Xr^[vGnKp/e>W-ac2)4E1n";
+}
+
+class Newline extends AllowBreak {
+    Newline(int n, int level) { super(n, level, "\n", 0, true); }
+    
+    @Override
+    void selfFormat(SearchState s) {
+        if (!canBreak(s.maxbr)) throw new InternalCompilerError("Newline cannot be broken.");
+        s.pos = s.lmargin + indent;
+        if (s.minbr < level) s.minbr = level - 1;
+        if (unified && s.minbu < level) s.minbu = level;
+        if (s.minbo < level) s.minbo = level;
+    }
+    
+    @Override
+    boolean canLeaveUnbroken(int minLevel, int minLevelUnified) {
+        return false;
+    }
+    
+    @Override
+    String selfToString() {
+        if (indent == 0) return "\\n"; else return "\\n[" + indent + "]";
+    }
+    
+    int[] minBreakLevels = { level, level > 0 ? level - 1 : 0, level };
+    
+    @Override
+    int[] minBreakLevels() {
+        return minBreakLevels;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<1mr*^Xv`7.D6#-(&5*c&;[b41kqC1<-;uQQo2u7k<YO?VUb8lRXxlr-PeAI;$V5(6VPHvl0671&<.[?:&`b8_&&_Y*uY3ZcL3/?2LB[ZNfgpWC0XctrPS*k;@Adq/&XiV^io60j-%:fi3D?Li5bvl[(,1Xv*F]vNeH,,=uV+E6B<BXm5=f/;SC_a<;ZkZX5FL;%PD*&yPf6kLqPMlGqD+Pmy6t^DaaYe[Sl;cuH6T>oLQ9Ry6&>7-9h662Mtph7+R-H+w.U55BE(eg`fd=0.T3&73QS#CjCM&Dm]P*I?8I/HuRa&%7JE3coh//]@m2WU-03&Yo21V%8$X%,-7:9W,XK%J^voikA3U_V-+x($CC?d;$H,d7j2A,IqArDhoCs&:Qd#RY+N[E*G&b78Kt^i1N$<BucVP_USFY:h-#(UQ05$WNKcn-+`cO^*_/ssWB4Tgs-x`H:?.%ThY;+KAeQLVZ;B,1wxTxNx^.N%4hRbU(<v]s3kcN5.0N&5+[pv^2d2H#+?q<Q,/lRY<38V(D^VdVSJ4:d$<F;CmX8+Tp3$_SB#Q<PKI+bUDDo^Sdx;#`6`hRXP<sF1,R-wr4^U4q-cs`3*5NKfvs</8CR4(>8+A@*KToP%/1BHgwH%L5G^&s$q`)pghHT6Vv.0bN<uAxf>(r&s+I=@^r2nEe-ey3U$>P3<a>flNwBED?uka$Ac^yqAJi4Vnt-IUqTau2IFh&dJu6roCY@NbAlMu>:yxF$GIC*88K1XX7h0+:A/qw+<CN?ES;YWDVApLcO,IdionNq#r@:y=0?kbT1AUJE>TfuW;pQD,9r.N,.jb0/fx.;^^XR`FJk<O5vGeG/J-V3OAPa1AV;=hO0M5i`0MJ%3FeE^PH8=L=Uh-)8f#*KUm&HF;.9y1ZffCo>owxw;@vjj16v#yqZQ78e?W^*oJPNrtuI6@,aZR.VGj^-.Ki=3/99_#vpWPf=pmKp1mB24niWGBfbBebY_SKN`FXxP&brKY+UEnnxa,C8U*c#6PH/SR,vllu&01-nwWocuUPvNC_?)q>4%iSGjJsNRgw:$4e@nuWo#2M0y]xy+^>Kny.kMnRLq/XwZC7grTs_YZW0r3sU&GfWlm#)>Z0.pc-<Tf[]N[Rn4c+#mj(H3v`?/58bG/3w_CZvh3s5?CCHC.AskR<OhdrbFnt.H`XaOU;PGKf-kc42*y^KmO;g24d5m=e.W3id>44%D4A7H:]vH@iN87xti2%67T(5y)]QGS&h@Gybe)BAUIj2=9>ZcD66w0[N(;qb>hEaJ)RP(HVjo2/-n3CQ0o@W?DKlF,xV.6cUOZ/DnJe;y%pZ9k.DRn;.dkw:+5,GVK^8W+fD=]=)lsr+ke#b5d,Z2Uo3,Mp3OEevcx3F:1>0_v*V@Z+9U9kP?F2QOkF*$2<iE,+,n?1VSrW=lS[2cXh2A%ydJu0]DnQ<k6i$:HPrk$_6lDf]KGJvGHOfAYr.M_57OdKp6kbNcR#A-Yjxm)fyD1w3wv@M5Q$q-kbTpo-[d-^@+xl>MP(:KCO0Pt9EUDVw6lG$eRcgD4sY;mtW-mWGTqd.xTbyWg:Aw%vXe3fxc/$OnKZ5Nb]SPX@LC8Pajd^F$*%&o./dOuiyJo_WJ>SJQJKYl=1Vj516_,q<OWDdam^abtq2oq#41^3DP-v:trhmRty*A$vAMk=9LaPXBbAtv9bFVGnBJy3?-MvZuN@Y;y,_GM5r<1m-%D(R6#`HAr*7vTuCbHTd&jFe5aP+Zy*86WC3516lYQVw88R9.=*>Kmg97?Rm7-^?uX=C.pr)G:0X$UC=[w+i#Mrc9PeO-_dW_b;c$-*1>s0vWE_=AUP#Zs-)$=I-)p7hfiL`shBXO,iUA,vA>j3tb<AC2QpO;<Cj6lR`HT&xBT@1TitULY)Ir-t:.SiRb9(?/?$ZlA,Xf+^l1FeeeioKrbc[+_Knb/+e=kj?t(FA=UZ)81rC68[#FRNhrNRE3W&7?3j8D9/b^Pl[Cgc.OR[AmbpJDNBR<g8Lp:AiO^:OtW%c^f-+E,^2_l`PpFfc3iWBR:K6b7/O8%4Va]&#@R*s_7qtxZPFH/jF>nfAB/Qk7?DZ#i1VZTM]K(B$d3AI@hVpxe^D]`MI>d83+/A^wOCO;[x%qUtZ-lS]da<&52uAa>5$&B^RQ_es)3QDB7nlUf/yLv3d$gQ5I>lA6GUq(N_3&E^R/.^ACn*VSuy6Ru+AsO$VoestT;U<8Z?m/Z;MD$>(3<Pf@ncEe*1%uU0`-nlB#rkUO<LEUy_oaP%1]NQst/b=2B/?hk%Fk3lC%xKVFA4,lT(`So#AUiNa;*&R<_wr/B][R`9BJ2A/G]fLgV3):x/uxo2#_>>RWko6q1FUSA^gy*U*OW3CfY[K6(6Qk6Pl9j4uO;Y()s=i^5OfafM+u+]lDtG`4CQfRcn4lVP(]7e]vNpx-EPy_1L^s%jAQ*Beq3Nh-Z/p4?2^e`C/cY&+j1h=SEYgtPJ2?kbSF9EP;&>yL)V8vCL)K,ehQ2S0?]=btOa?]J)xNW1M]`i`QMfRapMV^37i;Z8*]Vq_6l3ht)&84tNYIg2AZ^vF4SSW)W./*uAfbBhtRN27$rZ=gkj$%e8KnK2F1RlN@*:7pjSSV1mVh#]sL1J0,.w4qb6=sT5&q7:C)s4WMvpXUJ]I;P>,8ievBxLi#Y-Gu&5PaaU;o<i(1x`sE-+Apf+b<>X*PCRyAnfLIp^o[kUtiFLh.?mex(@vN^<vuPo@IdG/ms";
+}
+
+class BlockItem extends OCItem {
+    OCItem first;
+    OCItem last;
+    int indent;
+    
+    BlockItem(int indent_) {
+        super();
+        first = (last = null);
+        indent = indent_;
+    }
+    
+    void add(OCItem it) {
+        if (first == null) {
+            first = it;
+        } else {
+            if (it instanceof TextItem && last instanceof TextItem) {
+                TextItem lasts = (TextItem) last;
+                lasts.appendTextItem((TextItem) it);
+                return;
+            } else {
+                last.next = it;
+            }
+        }
+        last = it;
+    }
+    
+    @Override
+    void selfFormat(SearchState s) {
+        s.pushBlock(this);
+        s.lmargin = s.pos + indent;
+        int[] minBreakLevels = minBreakLevels();
+        s.minbr = minBreakLevels[3];
+        s.minbu = minBreakLevels[4];
+        s.minbo = minBreakLevels[1];
+        s.maxbr = s.maxbi;
+    }
+    
+    @Override
+    int sendOutput(PrintWriter o, int lmargin, int pos, Map<AllowBreak,Boolean> brkAssignment) {
+        lmargin = pos + indent;
+        for (OCItem it = first; it != null; it = it.next) pos = it.sendOutput(o, lmargin, pos, brkAssignment);
+        return pos;
+    }
+    
+    int[] minBreakLevels = null;
+    
+    @Override
+    int[] minBreakLevels() {
+        if (minBreakLevels == null) {
+            minBreakLevels = (new int[] { 0, 0, 0, 0, 0 });
+            for (OCItem it = first; it != null; it = it.next) {
+                int[] mbls = it.minBreakLevels();
+                if (minBreakLevels[2] < mbls[0]) minBreakLevels[2] = mbls[0];
+                if (minBreakLevels[3] < mbls[1]) minBreakLevels[3] = mbls[1];
+                if (minBreakLevels[4] < mbls[2]) minBreakLevels[4] = mbls[2];
+            }
+            minBreakLevels[0] = (minBreakLevels[1] = minBreakLevels[2]);
+        }
+        return minBreakLevels;
+    }
+    
+    @Override
+    String selfToString() {
+        if (indent == 0) return "[" + first + "]"; else return "[" + indent + first + "]";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334327910L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<6vW*^Xu3lx`DNE8H%=&KCWbN$x]^&>x].Cc9i>6R&_i=/0XJt$p7SJa1j77+jZASFxGC;hlAOSO/4lZbSSx/+VFD?mZ-whSh4G>5QbM?(<1r[00=,R=%`tV.RxOl]yBj)^A$jVwg1>t^E1Mqw[iAL1Ueu3q(QOYWOx-D[1tkO7ngpFYnY_O8oaEoeHS]5jSNw++BvVuYtPs*>9C+(lC.s=ld1s+GN=e#k0L&jUeT7-p6_a&MH-842;`miRIdk/@6]P/ZTO)(.8fZ4H?4r5.Rxw9tTG5Oc-y@9wDx`8^Hd1IN4q3%UZ=09C5R.*X?GZ*t%$YGF4kI&Uu<9)+=P?Skj+f=p8mxIR[nggB:H3u#&Q[SNyHtul&#ysuUYHd5J[A%[Pn`LW5WOZ?*+A[fh3XsY:jadifSd/whn=U/(]@gE)8IM]_I,,5ZR959@/DG<Ju<?)^vp)ppHn<4m>aDD=e$^:pTugHYQU,NwS[=t?l#c@[QJm_h_o]fZQPA6PjiIGV^(061ec&Ep[dA/o_=WHHe:asvY53J8YDXb]/m)mF0#)5^&r>ik,E)>Sw--(1a&73RGPc8qyX%]LJ4G#w7%&&O&VE<wY;I+RwV$4wh/;uA&UbrRQe3-i7C)+,2cd)btifU+@Q:(]+UVG$gH%X_qo<akGIackGJ1mY<YmK(6F4W/V0%;Wq<7ANdVGOYNUgQkHhnhNtWIUvi/4`bAq:t:]h:/DsD/<:5-%Aa=9ibh8wd3XV,^6yuWZkpl;.6fPPSX@OVbGDG)+F6g[WeLoKk@bai1]GrG>GCV/=-tHG`os^X`o8yv(77_N&]pFoEP4vug-jN`(*exI9jxTWX%@jAUWQxN(3ZiqoXSinoto7ICh(=A[bMY0Xq-$5ZwVaV2uNCEZZ0]+USL9DZ^?^C#gyZ`%022ab0V$x@KDE+p-gXje8[<.2H`qy.c`(8f`e[;([2PW9=IA(qny&a-w5WW9UZ$/?Cw;_IpZ4GPlD;1k4Z71N51Hie6)TiJi7i`P>X`dsY*^)uaAdT##Y2Q:xpVy;oUv0WyuxcE#;T?rL;5x`sL]<HUj8^+T._2TuO%JEwK<N`kp`Em35H::Bc_JLYTPXM>SO?#ODQDGBOU2o^y+C?CuC/X=TVAcI_ec2]xk>@N-T8`mRX%]p4`7qBuBpF4kNWvu9pp_r6u-6^]BVEN>$M$8Sit++=97PM=GPsAb^R46:-H4B=HGC_RPb#kJJM]y&w,uduBI4#NR7Wu;3Ub.ywT6?:<-mnZ>R2ccI)C43suR1FU_v8E(9lBqC_N21B%PU/DAoT^uv^g1L,T9E2,^VbUFXwx*bSc<)W>w7*_Eb&Qfw-FB+GrgaG@qsO@FEixbG2MO#j/nnsRk0AMp.+;qf.BYlZryqrZtCPw1V)[N5a&p0+%c3*7f.J?,W,xKPTG)-B9Kd+Y(hecOp*3:r_e[vOJ0B^^-pF0:tYANb?.G_(Ql)K6,9x36MZTZO:dP4KdKr(Knqf9u$sqKhE3,c_$bvRl4[N2&]uXR$9uHi/VnX]s1V2,M/:(Z$EYDGQED8FbY*6QM/cTZolZU26%1.eUr7K2)l_l]1RtYJ<+cyk^vl#&HSgTv;*Yif))-4sa*ru4]0KR7;[G7e5C4>5<ev`FZ5etSW[_<DO4)q&=5k/+[eNwpH<qkm/(PWa_kmxAH?YLfa>7jj8F_x+t5dP9o[=aD1R:(]O1D3GM/kQXMGP45q[.c_4No;Z2T6GJ1-m#tMXM:OJ0.Q14]KKqrE]yxC1/6>Vquq0cHTm@X&r&b7^ssvvIMK=XHTLRfmEk?RF0cN[*`S.(oNC6DK;$kXN^)@BPeng<imOi)mOy+h9dKQ,O#T<7R_yNh#mb`l)[_fHV/InE_f]DB3PX0gn6uc@SCKAJ?,D.%hPDU:bCkg<9:u2>AI&()7x=^W$#%q(jEv?hfU]sD1M(:Fr[<9lx0PhvP25b7u(X8bu2=Ha(aeR3/<cF>AI&(8^v^8pqChWAJdm_%l[Y7q$dm6a;v(`2kv#BrxCG2*J+R%<_,&13x3rYfX3;m/11DT^inhkE$[7qVEBYXWXP.C_0=_3QsF[(,`F7hs-:*8FgOgZL?ZhS(s7h)R*xltD=Yo7pCY;=$=-6(XGJVy@lZd4<7dxg$J;iQtOa`>HK<pn@NJM<[EPdB,]1#VKQHJHv5g1ar`hLq70N_eq4C:w$s:URq.@A+JE/4`vYU^=s<?BP#.;jGT0<]T^cL6q+)>b_P8f?hj1557U.Mw#Ecw[:j:f;.ai&u8p30jLT`iNE=wh+fVELr&Z8[e+Sve^V_-r<Z]q%(IUkY..Cg.^AK9S>(2HIF&d1ymd2x:.v9QxLi>vKUWXEU4$8t@+;1UN(W6TZ3ATo?@njK-M#*wFF6[C(*t]s,f2%[*7fpV_0L#C1.[sj%2SiVjQ+K744q6+5[x3R)UpM=4QKaX/<d$6`iaKB#@S_fHbbjD(bS^=rb^BgQgnK?yB?;&N0l&#`W-GiYb),=e<PUP%E%5[A82^TkgD.F$&?D&PKUU%=EGAAj3mZ@[P%_VYEtmB72Z%:WX=/5$YGb)L?mh(daOIj1x%T0=QKh_fo;`<`BrL](e?Nu1:hA;YK28y(2bkcca<>X5PuG?1@/j@P_F3UP0Cu9o#uF02MOCJ=Px@$?ZYMCR9wPW;MdW63=f_e<k8@&H2?5*5lVJ<0V:lv;uvsMNNQaTDT&U:27mi_-nNGCM,K`hZiUa4q5R45mvf,FWUFU4gh-@b<e4trTKy.5>fTOi:b70t1lx$wfKEVI>Wmei93`A&lFbbw#ap2Og?k>tHUj^_2e%8@,CCrUlPSgku0fDwFlF[OJ3F0/Kpt(q_&PfvQsZgYQn5Kj1k#%y$yJVmt9EU+Oy)Oh8pgg<`w_i_M(TD&O=Lix1rKBkI%`j#a8wI$i(0Py*c%@U4MSTD2Y[6Ua&d>gR`Fv.OM2+1[iO0^$;.hK4vok*3N=_dYyZT80w86gRYc./=4Jo=*UwdN7$mIMnxanv*lRV?M8`SEN4`lhExCq@]YA`0;U]fNUS.K8N7IpH]SaQ0.B7YVOmf_#7V]g+v&HkHwa4w7OtS5Bi]Li?DgKpg8p;*5%S[AFVGxv6nGrkX0cfMP>g._<,Kgu-.jI+ktE-tKT%c%-PqPrZg<i5?@a3O)a4]7Aqt+W3(5ukK<5vbBVgj>3esNfNioGXNwre6(9V#2/:uhoQlWT)dR0WeO/b%nHq9Au(NKcMt`+/vn3Y1`jyA=GRLBl?rZpgI*o.,6;*S]w0`f)e2=l8lN?a)sGLS_WSr]nd<W5[O5/m(Px4s6rkdM$v.@64PSa$?8UiRbIyf@s&mT`-7)Ty-(x(oRUMZf(lnc6q-a6q#";
+}
@@ -0,0 +1,40 @@
+package polyglot.util;
+
+public class Pair<T, U> {
+    protected T part1;
+    protected U part2;
+    
+    public Pair(T p1, U p2) {
+        super();
+        this.part1 = p1;
+        this.part2 = p2;
+    }
+    
+    public T part1() { return part1; }
+    
+    public U part2() { return part2; }
+    
+    @Override
+    public String toString() {
+        return "(" + part1 + ", " + part2 + ")";
+    }
+    
+    @Override
+    public boolean equals(Object o) {
+        if (o instanceof polyglot.util.Pair) {
+            Pair<?,?> p = (Pair<?,?>) o;
+            return (part1 == null ? p.part1 == null : part1.equals(p.part1)) && (part2 == null ? p.part2 == null : part2.equals(p.part2));
+        }
+        return false;
+    }
+    
+    @Override
+    public int hashCode() {
+        return (part1 != null ? part1.hashCode() : 0) ^ (part2 != null ? part2.hashCode() + 23457 : 31);
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yfro-9#*kv/&;ECnh=Y*BA;<PJ=W-=l_^sd)_5)p/Ckce$>5SD`F&;GqKneju%K)06f-b<(oC<#Zxcc29-0sUk*NNX)MdV,KCO$_&BJG<6Z00vxM*PRZXG:Euf$Bq0[91l,XABSEOSXo1QcEaq6wCYc@2jf<[S:a$6DdiTM;R@HsqTJI:fYZ$r2&a9h[;2[lNuS(EZlA_9`Y,yDhC*C^YB>HhDf/y,nYd$^Od:a?2e4Jj_k.e=CnY+(@fuXgn*:^.$3X12XOdKp$V07cUQV^wbU)U^ed27>K-Rb;l5RG=f`=18ebh_:J*7D%^3>MwUw-_F*c9o(5(>GwuR2giiLd>inB*P&K<Xw8&0eLI[Li&leaVti0MY(RH3.?e2q:?Z6ON%)gLXeDQ2SOTwg*.+.t.@j<C*>R)Y/^X;qKv%l1<=@6UT;]c>/f1RLiGxxjUaGTM5G^tCl2tV11WE/Tw07q4EeVEjHf/wytA`:C@NPU8Dp@i.+;^/YX-X[^oMuRSq21Lv#/@v_^A)1MZd83mMm)=m>bK<44?Q<^Ujbup7Xs$ZhVg>[pLuB`b#_XV4[fZI,`y*K?T/a+1%f:yN8nP);lLfXrwr()c<JLphF-kYgB$W_1i9tT;BJ+R)[sOEiUX0CFY$&(;8;<0$=8.i?Eehos<3<F_usohK?r@9YB$min>siZ`<vA)q]w-R]*Zk*QFpUL*Np=8eku6[kIJH,$&Hh2WrrZgq/KL:]<)%j*dE1IZZy,-[N4V$j_4(2=Gs&bg%&IWYVq1ZM8jDx)dv?`XaVRn:DI@;1(1In,b+x/W1;LkLs)yW;A+lmC*$&87^fSL5X3;_N.Osa.2wk3-Bj$XIvx.j1u:ghPhfq#JMp;yOik<03yL^_du<@HH<L,Q8TL(Vdta*B@V&aD<m-Yy3>T,QB(.PZ.qA>pfumM(=URM>$<S.V<),h0N;3,R]?dp)os3QBQrq5h<)R^Mjm#rG8tRC&CI[xu#BTp+3J4X7G$gjbCw;)L3N9#WBVJNAoii9uV@(hm`,t%#9`nUvojfnV`rjr[CIEA1Ku`[N(cm6EB,Cs98YGq%5[3Ay`f[Pr13XjK`DNVv*9-5=vyR4?hyx8/0ufHdVFJjMXyJ<4GK-vY>oM5ItwL_crL#]8<o_ZStwx*dQV.4S[y:6Q[u_edO^[iSOXa#x,FRG?lA>G<IcCL[eKNx%1L9PN.>/*(B[,OFbqL`Ec%?ELr8H.m6vFnT##*=?h$`.G:d$aV%[TcqL#wpslk/._UqJ]A+s6lwXsPNU:rE0xi_EH]q@+Qt;G->ITTSb,*g_C]YN;,mhP%8QR[@+g?v2K;O1wB&n+T04#y8IUE#l-r$SmkE`#$gf7W,Ed=-u,r%*$iMMv0cao]kl.<ogmcR^C^.q>sL)0Tt5n=tK9If5]qRpTBL+,mBZ%U,pi0W@E=/te?l,M/`n/0,>PV$nO7..gs#g&pAvIaHF=<C1]UOc)=m5Fvj13-Xt<W/:Yv$D.fj<BDti161F).2B;#DiG1+(_35]3srIDi<gMl5T#;*eI;05ltp3L?[O:tG]G%4MOQe6aHiJf7]FZXI6hw/ZRPgNF(w`w:&;xCdaucCq^(r,5msCaw$51sNLJFV.@=F112pxA4nu;:W<Jq7@Q]MRXDw=Mjb$rMDLirAYsLc0BTj9F-=;[PmC6mhrNbgE&jZ>HpC8+ehVwl>f8Rqpo_JvD1v(ff<krQ6bsjILt:k*dKk.otE_9QipTdRrRuuWZ[jEbxd1qV+X1-AC;@_RPaTY=28]fE8mvu.AhUw,SG9D%2O+2kp9ms05)9+Ic&4yxNpr`As_%1*WDi;rM]W+%+eg)W`d+#id;@V*,Aa+xD3Ir6qhw10(nVqv.p6b6LyeTcc=hMK2htlq>SdkdWAc?S=`7)>bS,@2g&5.W5G;D2kXlvEpkd[o36$jLZjeLxpI@nM^CNtlWrec^v&h?Q.qY`ya7St2)I[-tG72s1c2C)cx-lv4yu#<)SvQqg80=5H.d(KOPgZ`HCs0CH,5ikE#htZ[ffQ3KYNC(9^6At@T)kSe@?WbySk#ya3q.;1/N_MS=]]pAKV7yTgro:])9C2%i53+9cFUwiRnIYyijqYZy9l@v[0*f`s`LhJ?x]/Q+YdnQfqJbjKMK$bYC4(fDn>1jbn62lm4v>RLJ%t7QkL$D?&PZv1M1`6<8E5B4nIv/D.Vg%8EkD%K@vraGUw:JeIZ;^A*$V1gVhHb8+`+v8q,*kPkdWORFHjo^u@X%OBk@7/c[I:6p$OZHw0f$a>Yw[Kku2s]jhvYQ)9siyXPyP3X-82eoim<wymwv8RqFD^8JgF7mDD8/eMbMa2vq34G2%*_jtG=%0j$%DF(XfOJHCS)CU5c9T?xBrSG%x:9_ip+2^NBmt-;[op(UlUHX.?HDuVXO[L4,QwQ,YT?aHs<%1q.5H1APv2>ZE2RRC@*Yi3Kn$4qM5O0;)V+SB?I#V,OweNNe2I:vG=m;H>P>lh<ZS#OOvZL(WVj>?Q21JqdwRIF26O[p[AQC;jf9iUpkPdiclxa[1D0KV=60jt_0Yf8rM4+>Edatyo)os1_R;qut+)/<GY$TeN0xWAH8albD5q%ZUDy-.:<IWoMP@0o&6uM/@;)rOeY>J(XdR8Ieu[^vMq*;E(F0[)UPS*6^j#9<.u:,cm/CRgr;e#KyIQaGuSd,CL4*ieCt/G2RTCUF2Eg6?e=^(H6&``,&*L5Z%4_M$Pm<dL;gj1j;g<>1XY:<+Aqf]GFJNr%%-K=R_=??7U?tj/wi-N+F&f$ax;-A%m:]V:g,HTs+ha,992-EFS@2/LNSb#0#K2EF3@8Dv8MdBfoY$?x.)3McY3bh:G4-N#YCo@iId2v*dZ;r*k;n6D0u/kfMWIne6U;3.v9yV@BnkX+y_0d5R[1Pg1eK1g<--Y@)3PO<,6C&)5e:&fNM[Yuk*xr[6*:#7HbF%9";
+}
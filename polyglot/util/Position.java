@@ -0,0 +1,194 @@
+package polyglot.util;
+
+import java.io.Serializable;
+import polyglot.main.Options;
+
+public class Position implements Serializable {
+    static final long serialVersionUID = -4588386982624074261L;
+    private String path;
+    private String file;
+    private String info;
+    private int line;
+    private int column;
+    private int endLine;
+    private int endColumn;
+    private boolean compilerGenerated = false;
+    private int offset;
+    private int endOffset;
+    public static final int UNKNOWN = -1;
+    public static final int END_UNUSED = -2;
+    public static final Position COMPILER_GENERATED = new Position("Compiler Generated", true);
+    public static final int THIS_METHOD = 1;
+    public static final int CALLER = THIS_METHOD + 1;
+    
+    public static Position compilerGenerated(int depth) {
+        if (!Options.global.precise_compiler_generated_positions) return COMPILER_GENERATED;
+        StackTraceElement[] stack = new Exception().getStackTrace();
+        if (depth < stack.length) { return new Position(stack[depth].getFileName() + " (compiler generated)", stack[depth].getLineNumber(), true); } else { return COMPILER_GENERATED; }
+    }
+    
+    public static Position compilerGenerated() { return compilerGenerated(CALLER); }
+    
+    public static Position compilerGenerated(String info) {
+        Position pos = compilerGenerated(CALLER);
+        pos.setInfo(info);
+        return pos;
+    }
+    
+    public void setInfo(String info) { this.info = info; }
+    
+    public boolean isCompilerGenerated() { return compilerGenerated; }
+    
+    protected Position() {
+        super();
+        line = (endLine = 0);
+        column = (endColumn = 0);
+        offset = (endOffset = 0);
+    }
+    
+    public Position(String desc, boolean compilerGenerated) {
+        this(null, desc, UNKNOWN, UNKNOWN);
+        this.compilerGenerated = compilerGenerated;
+    }
+    
+    public Position(String desc, int line, boolean compilerGenerated) {
+        this(null, desc, line, UNKNOWN);
+        this.compilerGenerated = compilerGenerated;
+    }
+    
+    public Position(String path, String file) { this(path, file, UNKNOWN, UNKNOWN); }
+    
+    public Position(String path, String file, int line) { this(path, file, line, UNKNOWN); }
+    
+    public Position(String path, String file, int line, int column) { this(path, file, line, column, END_UNUSED, END_UNUSED); }
+    
+    public Position(String path, String file, int line, int column, int endLine, int endColumn) { this(path, file, line, column, endLine, endColumn, 0, 0); }
+    
+    public Position(String path, String file, int line, int column, int endLine, int endColumn, int offset, int endOffset) {
+        super();
+        this.file = file;
+        this.path = path;
+        this.line = line;
+        this.column = column;
+        this.endLine = endLine;
+        this.endColumn = endColumn;
+        this.offset = offset;
+        this.endOffset = endOffset;
+    }
+    
+    public Position(Position start, Position end) { this(start.path(), start.file(), start.line, start.column, end == null ? start.endLine : end.endLine, end == null ? start.endColumn : end.endColumn, start.offset, end == null ? start.endOffset : end.endOffset); }
+    
+    public Position truncateEnd(int len) {
+        if (this == COMPILER_GENERATED) return this;
+        int eo = endOffset;
+        int el = endLine;
+        int ec = endColumn;
+        if (eo >= offset + len) eo -= len; else eo = offset;
+        if (line == el) {
+            if (ec >= column + len) ec -= len; else ec = column;
+        } else {
+            if (ec >= len)
+                ec -= len;
+            else {
+                el = line;
+                ec = column;
+            }
+        }
+        return new Position(path, file, line, column, el, ec, offset, eo);
+    }
+    
+    public Position startOf() {
+        if (this == COMPILER_GENERATED) return this;
+        return new Position(path, file, line, column, line, column, offset, offset);
+    }
+    
+    public Position endOf() {
+        if (this == COMPILER_GENERATED) return this;
+        return new Position(path, file, endLine, endColumn, endLine, endColumn, endOffset, endOffset);
+    }
+    
+    public int line() { return line; }
+    
+    public int column() { return column; }
+    
+    public int endLine() {
+        if (endLine == UNKNOWN || line != UNKNOWN && endLine < line) { return line; }
+        return endLine;
+    }
+    
+    public int endColumn() {
+        if (endColumn == UNKNOWN || column != UNKNOWN && endLine() == line() && endColumn < column) { return column; }
+        return endColumn;
+    }
+    
+    public int offset() { return offset; }
+    
+    public int endOffset() {
+        if (endOffset == UNKNOWN || offset != UNKNOWN && endOffset < offset) { return offset; }
+        return endOffset;
+    }
+    
+    public String file() { return file; }
+    
+    public String path() { return path; }
+    
+    public String nameAndLineString() {
+        String s = path;
+        if (s == null || s.length() == 0) { s = file; }
+        if (s == null) { s = "unknown file"; }
+        if (line != UNKNOWN) {
+            s += ":" + line;
+            if (endLine != line && endLine != UNKNOWN && endLine != END_UNUSED) { s += "-" + endLine; }
+        }
+        if (info != null) { s += " (" + info + ")"; }
+        return s;
+    }
+    
+    @Override
+    public String toString() {
+        String s = path;
+        if (s == null) { s = file; }
+        if (s == null) { s = "unknown file"; }
+        if (line != UNKNOWN) {
+            s += ":" + line;
+            if (column != UNKNOWN) {
+                s += "," + column;
+                if (line == endLine && endColumn != UNKNOWN && endColumn != END_UNUSED) { s += "-" + endColumn; }
+                if (line != endLine && endColumn != UNKNOWN && endColumn != END_UNUSED) { s += "-" + endLine + "," + endColumn; }
+            }
+        }
+        if (info != null) { s += " (" + info + ")"; }
+        return s;
+    }
+    
+    private static boolean isComparable(Position pos1, Position pos2) {
+        if (pos1 == null || pos2 == null) return false;
+        if (pos1.compilerGenerated || pos2.compilerGenerated) return false;
+        if (pos1.file == null || pos2.file == null || !pos1.file.equals(pos2.file)) return false;
+        if (pos1.path == null || pos2.path == null || !pos1.path.equals(pos2.path)) return false;
+        if (pos1.line == UNKNOWN || pos2.line == UNKNOWN) return false;
+        if (pos1.column == UNKNOWN || pos2.column == UNKNOWN) return false;
+        if (pos1.endLine == UNKNOWN || pos2.endLine == UNKNOWN) return false;
+        if (pos1.endColumn == UNKNOWN || pos2.endColumn == UNKNOWN) return false;
+        return true;
+    }
+    
+    public static Position first(Position pos1, Position pos2) {
+        if (!isComparable(pos1, pos2)) return null;
+        if (pos1.line < pos2.line) return pos1;
+        if (pos1.line == pos2.line && pos1.column <= pos2.column) return pos1;
+        return pos2;
+    }
+    
+    public static Position last(Position pos1, Position pos2) {
+        if (!isComparable(pos1, pos2)) return null;
+        if (pos1.endLine > pos2.endLine) return pos1;
+        if (pos1.endLine == pos2.endLine && pos1.endColumn >= pos2.endColumn) return pos1;
+        return pos2;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ap3W*ak,2E<U2k=V-?)r0HMk^@$(XN7%,kMoMI(#3*X?q-=BQen,o0,^ok)Y_/cOZ,=rhi;t1C)Y];xP$W1xBUYQEZ2tj>J`oBQ7[3SvEv4V*sF*yPq0OwB/n6GR=&2*toF63Bw9Lxwvm`nb@?VAl;U4*t;rxg`[aDhY=<CSyf?mbfb6Dn2B6u%@6jwv1APv`VGt9):r*8dU>?2ul?`jLDNh>tfN5R/4;0lnxTj1Y&9Q+^71#45G>ZSQRr,BME5+6hdc9C/*0.V%m1aQ)3=(6^A-`fGx=(9^xJFdW,)>oV`WdgK;cu4+o&3QXSjr`blDC/6nfX`)k>qYTC#$H-.vx9JFNxD*W1dSgVV6^p>P7X@.fGKi.Rlx0w+bv<w6Ej/dNrq&yaPA3/Ay;GJLc[j^0/l%rr5FcLR>HRfZ;7VR/WT1YrV4K+CV[hy)Tuvs4Ql(-u5l*]r]u^eXGI4FX0MNa:U9%vMHt()[5a,kB6g*E8uox@r62#IS1m_kryMV*21tsHJq5x*X:(U+`nG<>1Txcj$aG,)VaKUL7R*p@(#ECj,/bX2X9?w%<&y9Jqt#r[%a5(2GVF(c?[#`]>f-O=;uvbRXULnC;opH(j36S#gLjah4f_te5^#^PP$]M7=u<25RXv*?.pn=rc:X-5Kle>`Fn&Ep5`1]#[SQNh(Dxln]i<bhJ3bJSKbd^p*:@SeGfocvUu9cEi*p_)29Q>f^42=LF(wAp5,[5Is[toSQHE@+[qEBghW)9t*5K)1=*8P8/YhbUHH,=k6t#$c1#+-+Wb`yAGaqc$eEuL*,f>?JK`6M0aCqv,NH`g:Xp7p1AJG1PP^WRTB*J^]c/-FVW&.h[MxC53NWMoie?Zef)dSIq3aSjo<c*VHH34oDK&hGgg[W`U,W/&j1e[1n*ZtCVH,,l6FSm`Us0Gb=0yK`meT?,q-g7$+PP6RhAxwK`cMvTEC#qy;$p?Glv@5>qaZ4.3o=fbW07OowBEp$M^j.u`ru$)Cr%9f?7UxiMRSY$]il@UM^D^8R/<8GDT^AsP.ga7%r]eiWjmHG/5acuhbgl#27mUty0O8y:S4[swU+aIl82CfbRjn2P12vfIECb+s;69E8+o]h2CNwGj`fU.x2pZN,Qj^q?)1Y9*0VMu2I=B;k@$,NKv?hGy#h`2a7xeYr,_a+Kg;1B(8Gyu(D4Ux&mLKs$CU8ha<=S(9M/CHX8JU]/Qj;_6I(w#9j%:8Q?,yTiB-SIT2Z+_hL6:s_Jl=f]G:^2B#;N?_pCJ7)in4wE06T;J7HFGxW:7-2G0)<(63i%DXsS*oN$nFi*?@]jn:e8,Gv^,^$7/UrMhwDe$u:&HdP&)N-x2>MJ%B(BvJX^,1BF.YA/9o+%^qecIT*fIol$1qVG;O9k([W0(KoY;:?f8PUp6oMhSaZ.&JUPKo_.>BeHu=YJM`V3Cr`op:`L[*Wp,#_l,tv($ErmupGCvh)ZYt(Cm+)qtxO5Ql]sTgeo.o4X@O8e(i:jZM?x)]%jF.Q5pLk4qh3TBr0^`soLpp/*W*P<8_y?[s]JYiGJnoTov)]Oa2u;2NEMkMa,<j3mkQ8W:%F^emIxP&jf#+1JTiOMl@C]n%pUxq$_w&$;iW7s&d4/OePn*mm2nW=Fkef$]q7]wU_37CQ2tJxAH9+N9+aXXHkZWR(,cY2Ds)1xid?M,(xWyeng8RT_8Tan)&*Q7OM$ge`pNZ=>HeA?8&dL9rRNxQ^<5UY4%.?vqf,ZlKADTpGQT`7CC_vcXIjKG;.MRVEDrs+n#TwQ6I7x+I`?eH2S#hZ<6N;v+m?r&LGl[2(ao&Ec3,8+,F?GjXdSltR4fD,j>e&:Kg<Lfec_=l>>ekof3.XL8X1)rF$8[VAf`[fi=*mN;oCsgO,#=V%dEUZrXcxK(%96oTVdJF,^Hv93CnSh@3rlo0%*Xcd:&e@R`<R5H$-VCI<eZ8NHHCY&miE@Z)$_ReN%cY6.r%B(`Qy-2cF[(bkemOSWO4-pWiy#ciQkS>1O?Zr]vt?[ORJ]T]oD,@NO&-PBF`?7fy8<H209[1*jH)-Th#6>_c%MFn#q<G+,X-X1cGwF-7tF/g%]xcj?wPXL^aNs)T(oi/q,sDM@pGFvkS:CcJQgce*@C#k`Aar3>W/>?4-#qn*<T:7pWh0^@(F-E(jI&aHfa5yL;4km-glMGm:vGHwA$,+rZx4f8=+?LPXoh<Wnnj;;t:9?+UC6>t)(LYFPDhmVB/Dfc?`Cj+s.LUqTEhaMiUF>Y@VpLk^=F%0yK?-rMEWTJL*me0_7.4P6_EREv6[xjA`AtTfD*cxp4EeKIbH<JVBHi?:d>Wc^*(MCe@P6aaoP@*<HfjgTie0u6UuG)2yrVXM;3p?p].OEyg.&3-N,63a>-7g>.gv]O#1Ic7<pj_%2a:*(Gm4*QjXF9JrTg+K^,bFe4`r4sx/EM6pl.J1?h4gf#LI-=gpCV/6TxIQCWIu`*X4t&#d#h[*H.og;]V:Su4xmU1%x&h0GRA=Nkhm9xLcC`iOn`Go)`3y;:QSoY(d`fEtpy<E(2uLFnGdQbJg(SIa6sfumk1gS2Uy?Bbf+nkZDZE1D38Zo#un?>jSS*sI;D2p?5/O*_AO]s4fxON4,t)S7vB<`iI0tqOS=n`FpOmbG(+s54fxQ=4,t(K9U1E(HBY<4Q;c]m:cZfX/]LK9`G+_Eo5<b7;[xsa6)J^FTE^L-dtfxv/Q%qh)yEqp8(yb9nYf5HL*7(mq[]ZCNDh(QDu$T60>+xxr4E<`h7G5`V](qN^S;JDNRj-D`ogScu:6Yy11r(i*-bSofgL,.Lw8TW=;2SXY/M6KA&0-jip(cbC&o^74fp405jO.(=`Jv5C@wdUTj6B1+7Wl33lX<Ir7qMpF?=<Ee1Gah%_CgNo_j$_cWd)7U]etpC+:n8$LfNZuLDjYC[p8uUV;NOV:,.[cU-[Qgi)_P?Wo#]S3]6(sGVP_bPqYLQq9s@r4dyvm1QB.s/BK[B)KW(21V-u_thO9tGO`Xq(N@Y]CudXk4ZhCmyI8=^*;Mtpl*0HhrTZ;Y_M`TJdtQk4;q91ct%=rD<0vVE@EL4AlmUNkSVi39X$K0TmUd;u:9gO;r/>PNGM:G5/:eFhTnV*](fcl%)nL:_bp*nss#Tl4gi)S6iU@Y7A]v,OGaKfF-&Y0mT9qAs3Xxl,2c4yf)-Tyh.p+)b4FZ:Dg(cfWqbALV<=C`h6REee5G#RU4TELT2QFvWvoNN&hH8&D[n6vGTG%,vK%>lJN4VPE)6v5a1ou/#V4V?$j=P=AR9Q4buDtTDIHsBgB1EiVqGAqam23SUpGOH8B6nsP-hRRda_vBEX]&4j@0=HN(CG>38tYyF#7b;f;r8q[$d7C?v+-svQII1ljoyYXvA9&%uwA]9;ghP@/rN*)OJu<jV%9F`XBpTECLW[vBqA`YR8lYp.toiUtv:2))_iYJS1NZXt;/L5c7a]W%9:?5e/lO.A6[8E>mCWP-A)QsEqp]DKXt-i8[=@/LtY31@8twH;*@9Xy:<G$9%<Cc#*PnlGg]J8]ZdJQk,odE#DlKFnb:`+?r?*Xrs1wWmn&EALJ0/8HWE5^dIx%*MqwX8m-m<gc5%cnjom)gUH;1EtncAS+M2@(@FFuM<eE*O+KUkj^iE,4K4yM0DOlfpRt6pAs.<A;h;bufD.,Q4UM#WKr`q1M05`Ic4vqpmj%qWpx6gYc%Vfi(N0d?[J.*=ZbN3>.F0*He;KMJY5]VsSK^w7dqHf,5Q#K*@KThAli%jv*sSh*rkbmD<d]tbg5G7%-^TmPP[,IBKbuB3Rs&#lXvLV8<gd[u`_xl+9.=YY]#,eD@vAQHbEwia&T,s-n//%u(-uV.pT5S/lhT*3tp+J7sr#-BdA(%jC0<>$@&#.9/3bQ7Xho&P<gd^c`YK2m2]5;0vj]:KT@3cw`x/S7.Z?hiD_nKS^><9,7gC;qY[3`ut5JQ:msaJD&veMO=67Gn:Dcg2Tp@b+5Ng67rX-^d=&>Gn8cOs^U-+1?2<a%O:Ll>/>vhfd=%6HdaSfvBp$)^kOvPUeT:g]#m2E7Hf_vkn59x;@pAYEyLC0-^i.rLE))*C>]*^Y#Rq-=54YRy3t)m6Q>ZH/SY[CirKoKFm:DoK^.N3d$*SiRpq%6HRJVnM[:iL$X`j`4=-ZSx2Yy%pa>E91g,9ma^O-=52>*duvJxP(Dov-`=peeC.D`y,J[]uVFBhsw@a4CHwTfp*,UbuGdcurD0-m1T6d(PCtS2C`@Y?6YGV(=qjnMnLySu6v>E99FIfT7y8?2L6yG[(mN03T1a44C2#b>oq-<0M#MeR#i8o(XqCJ9ye-Tj6.FB[=35kJjj)mRcU[/^#3KrKvqmQ0h6^@eu+xXYTIQc,8I9GE.Lg$S*pICHAHGZfq/@,5iqh_ju^c,::.uJB.@j,9mAiBt+E)D_p;<V=U0D&xlVF:^HEdr>7?L`BS03Krmqr0WaXTXKf3bR5&Jxv*6qR>644rB(pJ#IxM3+vf?VOcnfKueX4I+4)fwU`<%0`%c@/oBej_uPJ5<i[gi+OJLJ<m#U8a<F(slRrSes+-vOP^G$9)at8,O)+UN2V/=r<0?gWjsd*mX:#iA#$uN)vX;md[HWZKFbC.]@v_DWrliXH/1*G[Q[n9`EQenffN)SJg[=<%rJf??)s<]rU6HUAMKMV,1FTyWT:@Ia_HlbSYysGFM&OKUTXtXdYclw4.a";
+}
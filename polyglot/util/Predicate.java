@@ -0,0 +1,10 @@
+package polyglot.util;
+
+public interface Predicate<T> {
+    public boolean isTrue(T o);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_5?ew*^]Cev/(G@j]M.D(dXGm;_sI-NCGo7+xW9H%La&$*pP7$lRXxlt6,i]6YwtU;p2ck?J=-UTGl[y>?YZy>*jGIG+?x.#G6xUF$1j1.aYRDNWrFqEZL$Ns]&_.kY-=<UH$EfV,*Z`r*4d]Gw&paXw0<kLDZc-,uAB7YM0l)[^_D4uf4e__qYA*TUrXXB+/?]N1r.1@4sLLoNWtIpCSk^Ts(CIGG9tKO5LPyk[-wA)k`aI_WjOyUyx>JGM?C8XqV2QX;pL#X4Dj_T**[5O7ss>)06RnV=wP6&R**2ZOgc-.fphNKV:EH#d>n8f2fYNg.08<egciwU@9el=sPA&.Y<PXYc/532(bqkO>=nxPfMS:EDKBX;;.EG?*B#)eP:u5<rp89RwZ`xDWsX5?MMXAVSkf*2TO9NvOH@f>N)Y5a%:Mbftn%L>bVtLW#(6nD?fA5emtytm_(U+1CLEINL5`4[JwEe9Jei9%9Fp-C-G894?pMYqVV.`ReL&G@Z+Hg#vxWk;8cB[DCI)@0+%lMcNPEGR(-X)>]?pi2Pk>2&U?l()o0,uS1[=*Y2`xnuYl=m)nWK=:6GtbPyC(U)q2o<gXs;XAm8:vhGxu,KECe$=k&3f1jpZoOJY:3i@wQM$c/dIoYsB[TR[9/#W=t`Bmjp-0^6f8b^nPZ#RIq#<a-t21bT[7HlvGk*nb7#26y3G<yF%^tg7O]t_??/6qsBFB@W<I2uy3Bo9A;Jrd8ft%@5;G<BOk8<0uH;+?N(s?)MGU;t.pBQ(5Q=P[#iPBkj<Xr2fVS1YDSn&+M8/>TE;hHiDnsPCv2X?H*$jZl+r$r%$(Ftn=bBNQ/e^$T:(dRO$Ap^SE)a/Q7JmM4UU2W`O19Rw?0o2^Se,H%5#]4)p3Q5$IL()L?s8?uu>J$5Ha2EI>3/rp3C)tSk#NT`)CTIky*tP/4:D(:lYZp2(.8P,D/b-[Is$;mB$C38W?eJ^A+)k:3T_u<uJDT@d>`hGpj^`ok>l*FZX8vi#NOI<@D`;X6)86at2k4hk*vPh2IP2S9*6l>iL_-7t_dI1?SiE^_cp1yqsr(&<Hn>khmKlWSCr6Yga3fERAJ[L*tU?42oCEdu@o/Yusm^IQ:/_giP,#uB6uw#W-im$QyDfDnxX@d9,nbK4h6*XFo[V62fk[r;2j0`D9_j0a@;e`Yw<bWZETw:*SA&Za$$Ag^:pZh7?AO.Y#o]%V`RuZh4q9).>`M.53xc/&0^mgeoF,p-e?iYPrA?BfZYqi&rL0m+^bg[5*D_M^$/1?4PIW%C+XiGY/R5URv7#^hS^4])cs1cl?VO1m@4+_j$T?cC%f35;o^;O`4GZ$PhXZ1oK4nSQ*LedY1p)_w7p/tZqO1>B>Yer#xyfYFR%,*7::cHF3J(>A(@mVRnyw,&uH&w.ED-=IR#f5Ma]]qK4xGTf4w]29phN@0=2?oEwtJxZhNM25oW[w[^L<vTNv:SSf_*8Fdut<1#SNSS9WS>4Md^S1?Cr+tL+a[:<><u7qEdo+GlY&iZ8HM&sti&AgxeCK-.5x,(gaT@8*6m%][l.v?A&yp$vT-c=ue&M-gH19k>*C5.#kDC+;2wcWA=g`E6$BHIxp<m*[oPqp;6[E]v#D%t?[la^SffO19a0w^,g@[fIRkWqYCu7`J4C0%?CxLqUQ3OLjjpaO,<tup)T+/00pUF&,>g]p6mhkZnsTr[`3a&]_1o?2nLiAkTi;noc,sB^RJ:nF:9ZbZQ+8mboonRQEIXr(iGPmX]gVW)f3^bi3(%u5]9os)JTcN/<]QRvd;Fb=RtxboJ$0BA^KhJDb3U;%0J4jgZRT7ES+-fV>w8*C4].BFK]`BUwo8dyN>h_*P7ywJQ4m7k%uEhoXE`]V9&_L/1=5Y`q&glN/fI0L^v-a+ph%oT*Rfwekh)?dELYVyN7Ltc(Lit2Z+FopkZyLV`kjH<<ttQipC*=B&%Hg`JvqMGa^Jyx8*EgjSb1tf9*1@@q:5fv*aBg*uWB`qO(Zonq.+$uCn2x@8;BdBW?d78lFqu*nMXEvV4&E7xo+`p7:naasZ;i[A4Po;cj$4R<nNIAyGDRmh0h8C/YKJJQTIL87-#nkmBn:xp+6_5r:InuLjH$HlSYR?^dCJFN$l#:=1n(ZhBm37W9>Ls>fo8LtAaQ_AJeL>=K#k]kvAPp;Y*G0xV_>@0/=$Ne&Tq)D2dBnCE(BKa@6K#k[KJCB-0,0CV/UWsJb]%id<%mh7HkJlX(U5S9jW^kCW:C?Ql*Dokr+ctoFj7+<pb#sU6QQ=]:6D]iqH+rjryXtbJS%aC@]wyRRnv6M,s[-#xm2WoW_c#FMYQ75A[GV1=).8%apWN?UrEtem3(J6J3a>C]x+s:AQGjs9)RZ3rC3JJm,kaAoB$TXom;DmY(n:OUoeXm8&XTBg=r*$T4.EX.ViIB16=]t>NQG/=3C57%(TDb6^=1g$w`.EjdDU3HL5C3@*ky6%qNV:MH^,h?ad%^U#WV;M6a&*4ONhNA]&*/D,dAPdjSL^V66Fb6BN)rDhyN=B4lp24=b&*GuBJC0S4t1ZbtGq(*@0o@-wQP;Q0M$@X,6iJ.L>U8o^KrtFi1p5XCVB;P7QQuAtX/o2j%j/N,/Aa0E6Z+Ad]UC>g%HA$XZtfdYURDr/)KBeP)X.xnyVaEb7-<yu1k%pBIH%IJkmXKbDeUikBe@cx5<s>3uH.O,i`@-YcgicX^EpvWyPiU4#1ch][Ze(?qvJC#$RP41fPQ^.P<(/q05[jY/ktFdanafdDQe0^?.%*yVoC.[F(6P.bFEH[=(1FA(($D6w;t_0u2_+hCL-c4Z<AVYcFM(nee8s/.ALK`GD/Umv_k#>`vv%X[@[#5k^?*#3$j^*KT%FTW@s5^1AQ[bA1m?J[df7TJp/(AEM]Z5CLj";
+}
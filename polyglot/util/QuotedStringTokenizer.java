@@ -0,0 +1,128 @@
+package polyglot.util;
+
+import java.util.NoSuchElementException;
+import java.util.StringTokenizer;
+
+public class QuotedStringTokenizer extends StringTokenizer {
+    protected final String str;
+    protected String delim;
+    protected final String quotes;
+    protected final char escape;
+    protected final boolean returnDelims;
+    protected int pos = 0;
+    protected final int len;
+    
+    public QuotedStringTokenizer(String str) { this(str, " \t\n\r\f", "\"\'", '\\', false); }
+    
+    public QuotedStringTokenizer(String str, String delim) { this(str, delim, "\"\'", '\\', false); }
+    
+    public QuotedStringTokenizer(String str, String delim, String quotes, char escape, boolean returnDelims) {
+        super(str, delim, returnDelims);
+        this.str = str;
+        this.len = str.length();
+        this.delim = delim;
+        this.quotes = quotes;
+        for (int i = 0; i < quotes.length(); i++) if (delim.indexOf(quotes.charAt(i)) >= 0) throw new IllegalArgumentException("Invalid quote character \'" + quotes.charAt(i) + "\'");
+        this.escape = escape;
+        if (delim.indexOf(escape) >= 0) throw new IllegalArgumentException("Invalid escape character \'" + escape + "\'");
+        if (quotes.indexOf(escape) >= 0) throw new IllegalArgumentException("Invalid escape character \'" + escape + "\'");
+        this.returnDelims = returnDelims;
+    }
+    
+    private int skipDelim(int pos) {
+        while (pos < len && delim.indexOf(str.charAt(pos)) >= 0) pos++;
+        return pos;
+    }
+    
+    private StringBuffer token;
+    
+    private int skipToken(int pos, boolean collect) {
+        if (collect) token = new StringBuffer();
+        boolean quoted = false;
+        char quote = '\000';
+        boolean escaped = false;
+        for (; pos < len; pos++) {
+            char curr = str.charAt(pos);
+            if (escaped) {
+                escaped = false;
+                if (collect) token.append(curr);
+                continue;
+            }
+            if (curr == escape) {
+                escaped = true;
+                continue;
+            }
+            if (quoted) {
+                if (curr == quote) {
+                    quoted = false;
+                    quote = '\000';
+                } else if (collect)
+                    token.append(curr);
+                continue;
+            }
+            if (quotes.indexOf(curr) >= 0) {
+                quoted = true;
+                quote = curr;
+                continue;
+            }
+            if (delim.indexOf(str.charAt(pos)) >= 0) break;
+            if (collect) token.append(curr);
+        }
+        if (escaped || quoted) throw new IllegalArgumentException("Unterminated quoted string");
+        return pos;
+    }
+    
+    @Override
+    public boolean hasMoreTokens() {
+        if (!returnDelims) { pos = skipDelim(pos); }
+        return pos < len;
+    }
+    
+    @Override
+    public String nextToken() {
+        if (!returnDelims) pos = skipDelim(pos);
+        if (pos >= len) throw new NoSuchElementException();
+        if (returnDelims && delim.indexOf(str.charAt(pos)) >= 0) return str.substring(pos, ++pos);
+        pos = skipToken(pos, true);
+        return token.toString();
+    }
+    
+    @Override
+    public String nextToken(String delim) {
+        this.delim = delim;
+        return nextToken();
+    }
+    
+    @Override
+    public int countTokens() {
+        int count = 0;
+        int dcount = 0;
+        int curr = pos;
+        while (curr < len) {
+            if (delim.indexOf(str.charAt(curr)) >= 0) {
+                curr++;
+                dcount++;
+            } else {
+                curr = skipToken(curr, false);
+                count++;
+            }
+        }
+        if (returnDelims) return count + dcount;
+        return count;
+    }
+    
+    @Override
+    public boolean hasMoreElements() {
+        return hasMoreTokens();
+    }
+    
+    @Override
+    public Object nextElement() {
+        return nextToken();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5EBk*^]CeFrHvH8(E7$%)Ic4Cjrr%XcSf`M>wEgbbfQ@iPN%KajFK3l[:`aE02GH%=Wle)o,x(.wmMS9uMXiEmRu%V*#U)#cVu6G75ik9dSXf^mlku?Nd-Is])ukk]<FS5JU&&K&cC@lUvXIvKCAu?Nc$]D>U5.Km(F,Frd]nEx)M=SL[fm:esvKq5bhvgusZR+i/A9srvC7s6a.]JfH;UKt.;p=ccIs<P)9F-UqtL.Z=`%b]TP#YCkaoD`q6AR=_8=RvRe$O@qRp>n*wR>EOo+)0-LLbh?UY)9Qow#m0L29qI=A.[n7qOKLke92tBaDEyQG=-T1$&SB15N4T(Z&OmR+%jYq;6kpM#l6*gim.%Fa;)*Ook(18EleC@,h]_@Kbo?%SsW;)?QY&-+@?Cqx=c2xs=dDYt`k8DI82uhZ19$)R:84Mx<hk?3XGl`<UbYC<:BkQ0PShF&d#a7>(dVM3No9v$DBH7P_6WV.LOvcV#pnp=.RZ8Dq`&D2<Q+5v;E@rc0YRQmv#81fiDS:uPB$^qkxIlq>%4<fYFn@v3My[gcFBr6g=D[p[X7#_guj#c>Z[P(C4F)V9Gf%Y4#.S64i(htZV7eT;g-URunNrK1CY)-n%NOv,ASsgXd+)x(Q>6-?FFUI+/pIA*i6TToWtB]=QsRDo*^[w^%vaW:SCuhDy4tHlUDy6E#9K^]RuPC2Lif(RJw?<5*kx,O^K`Z7;>Bj<HZYD<Pm_GY]N-8QkLQPh*QD(TS@<_8%LWB)_;(3X,PH,UKk<B9BX/BWi6+(1`UY<b7o[gKYhY@ic>/W,u?]3Hf6ld>u^[w>)GmwP[sc6>Vq5KArfHct,c^k.s4YlC[12He^LH#4IGt)8^b8i<mo6_MA(p(Ykvx_?W,-/SY1-B1ekP`5ob_tSMZA*Gi9k0)%eBUkP+9*tZaa[X6e$j4uL/Xj`/.cae8uJ>RP+3>v,1+/<CD$CmBx:fpehSMtWmE1Z7LcEEybTs8cYj_/J:h<.IZ,D?-<9_U7xDC:te+//?59.:@Vw`[1T6MLmaT[w0=)c#qWt>x]%8;7Y<am7Ztl-^`-t@,bT1q`0YLo_I,?1f1RaO-4-an>_:loEkSXZY>T`H-HWMYB#Lw>7xuEO>YN2n)&4ueWL.6Z^Gec-2aQB/*0$QO_B1oj>:lb1h5-ekA^Cb?]D>pGs,C&m.Ul#q86#HH:;)m]g,i=YxV)8]Sm>e>k4BVuQIjW0W1EZV20xZU?ua=G7nS$*b#,Paa:,?Zw?j*$.Y<`ho._cG&v?UFe%fTRg.VFLiZH75rWKpr[/HJX7*?qd]+XL8=SX2QK*4l;Ryw%X#7-0aeTQK?d@OZ)pG$s@>+LCPK<Tuw.5#Nldo+SjqwStHDOhHHvtRffUQ[/@:B-pO9>$bTyq2;k#h%r?eit8]Qw)6n?REj3E]LoP[Xfi:%75:JVbdA-cTd6s*)wn3PN`G<tU?;l&kRK:f3MoF,CUpCo7kd56S]mp&/h$9e+f3Q@V[q8S[eg*Aqwv/WIT[9%6tu(`+#d.C#ee#aFJ.#9i],a,CRys)x7ljH5kYeO.OO(d*RW3K#)<3H;NxBH5jUK7NMURZqtF9A^iu8%P]y=T8F5A>AR=pQqCw+L4t@9q[>#^a@?PbP$wm]j,.w.2Vj>_ZX7U;C=BGu5mP#D;B:hlsi$Nmrvo#CDPOhjua,34tdpXjZ>Bjw9TQeG&Bj.6I$Qy8rU^2OXHQUg#ueVjr0O9Q4lFjRjY4jOdDht]U&5SbK>8gK]<IVWhG+m6_Z@1;)*JKp0Q=J>T5T@Y09O5^0$tQHM^$+(M]8/u)chN39VLopH/gp(#-+QN>SA^j7DKP2be=GI#HrwE)rLk:c+?xGP4CVfe`]5@nyr-A]=5rI5`2hCkE=*]YtW];f5e[?PoDfj]<8%u@M+GDx1/GP6wAa_y4/:eP,o;@F*^D]6S(n`VuNm8@y7x25eB]=,DCWm=T*_2VlRGKsnlEJ$nQuH1N]V,y&hU/TLA_sGU36rt?sueBReZ$^cL1Y_%lC/TC*7W3iT[E=6]jXw7d:C+.kaS-X9*E9xd^-J@G^R[lVQ9V9t/^aJd-RPkf8vsfQpdYSx%Cv7CiPp`qLS#^,M=%P4hb%x+u:BFjV]c)*He8Pr&rk<W/YRlfT4AAOhg05xE]xBM@gCW_C=drY:E/Yu[sNqjpIlox@&,g:mmH^uvs3THE/6ip*e6T`FvaJHC$<%HE63N&fWea+YKx.Fx>,s<&WATM>K2E]sTa9.E(s;=9(0:v)blI<VYZ(Q-AQ&Z_L@sJW=CA,,&F6T]a@?B3N(tKMhNk8rep1u4kniTl`7=%*-1K]]LEgSpZ66P(u+WL#TRI-JEcX*K2=lES6>gGj,(SBuIDMt(/P)MLv45=uWsd$guj@((INxit&-)J77D5D%3*4KKOC.&4X6`,QE3oH7Yck2BBQdp+[BVXpiv2VL>B^FiW%76;@Bm5whTp_@IG5%h_y<s1VFk:B33&o2P**1u6oQkJE8dW`cgFPH**q[nCdBf4@UA85%9_lGtr]R>ZiuX<6kp5v2>L7JYxP5u)Vgj4NtXEpVZJ?t?Hkk#.]+.SK@T-Hb8[1Hjx&hCvL>&@A#)w+#l`;X2nD,=bX?M&Y.lB=]Eda:/4HG2^;r)<Vfa`:s*1lxTF[8h2F[JlJnb0Ul;)$:2950x>mOpY?gSZ%I7NWa4]QI4sr@vrjsQBx)/WjH;q9#qXH0XYohuN`su/$tK;h%KTW3D&CU>?bJr22`pbQYlJ>kgIH]gfPCZU,rg>*@*S8j)-S%sU[n$Zpxr,FT0NE0e,Rm>&3*<O=<(X4eW/&H)uDMxD)5Hw/peehg;>k&j^OfU]r+4,)wWjDe$d)H4Y-N2[/Z62g=UR1@X?0C?q>[SiUT,y%e=NGX2D3q%Vdm&F7DMry/t,Sl1$is%9JeC-#a=>d;jcxOoX:gU`?;JT)chnO;:0^f(59SoK-B3vNhI+:e`ZWEVqwj[is%H;X.&b-;fPkXgF*jcUHRb:CDss<lU$uk;Gn-n/i]pw5vk.@T88x4U?$a3-taa@#=+GsB?@sn[mXGoLZT;%&Db&63b1M8f;Gy0JnYQ]tU1=v@f8R=+W#xD,G?8e3DF^B&?gJT^Kxs.;DVcm:)?-Q_[#U,TJtqL#0M6+9uyoRg4Zj<v_oQ*)Ae<@iFO)?IE5D=4Dx9F15wcc7HWO:@/U-2-245QL/ie+6VYDJjtKr4-9[w>($Qip0_XoY/$Q_ZYWj)eud:o?1(jWl3dXy+=876Sf)J(nlll96AlpN=?Zk5e21X:1p-Quv0ix&yjJndQ&qLyWknwjYE9b6=Tuu,BoRT<Y,2Z%Cr2kLfd2d8aIpcYsE2v6WhY)&xZ]tW#DV/S&NCqm0.p5VNhglSiVYfbT3j/nuw";
+}
@@ -0,0 +1,138 @@
+package polyglot.util;
+
+import java.io.Externalizable;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.io.UnsupportedEncodingException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.TreeSet;
+
+public class SerialVersionUID implements Serializable {
+    private static final long serialVersionUID = generate();
+    
+    public static long generate() {
+        StackTraceElement caller = new Exception().getStackTrace()[1];
+        try {
+            Class<?> clazz = Class.forName(caller.getClassName());
+            return generate(clazz);
+        }
+        catch (ClassNotFoundException e) { throw new Error(e); }
+    }
+    
+    public static long generate(Class<?> clazz) {
+        try {
+            MessageDigest md = MessageDigest.getInstance("MD5");
+            byte[] className = clazz.getName().getBytes("UTF-8");
+            md.update(className);
+            Class<?> superClass = clazz.getSuperclass();
+            if (!Object.class.equals(superClass)) {
+                ObjectStreamClass osc = ObjectStreamClass.lookup(superClass);
+                md.update(getBytes(osc.getSerialVersionUID()));
+            }
+            md.update((byte) (clazz.isEnum() ? 1 : 0));
+            Class<?>[] interfaces = clazz.getInterfaces();
+            boolean serializable = false;
+            boolean externalizable = false;
+            for (Class<?> iface : interfaces) {
+                if (!serializable && iface.equals(Serializable.class)) serializable = true;
+                if (!externalizable && iface.equals(Externalizable.class)) externalizable = true;
+            }
+            md.update((byte) (serializable ? 1 : 0));
+            md.update((byte) (externalizable ? 1 : 0));
+            Set<Field> fields = new TreeSet<>(new Comparator<Field>() {
+                                                    @Override
+                                                    public int compare(Field f1, Field f2) {
+                                                        return f1.getName().compareTo(f2.getName());
+                                                    }
+                                                });
+            for (Field field : clazz.getDeclaredFields()) { fields.add(field); }
+            for (Field field : fields) {
+                int modifiers = field.getModifiers();
+                if (Modifier.isStatic(modifiers) || Modifier.isTransient(modifiers)) continue;
+                md.update(field.getName().getBytes("UTF-8"));
+                Class<?> fieldType = field.getClass();
+                if (fieldType.isPrimitive()) { md.update(fieldType.getName().getBytes("UTF-8")); }
+            }
+            try {
+                clazz.getDeclaredMethod("writeObject", ObjectOutputStream.class);
+                try {
+                    Field writeObjectVersion = clazz.getDeclaredField("writeObjectVersionUID");
+                    writeObjectVersion.setAccessible(true);
+                    long ver = writeObjectVersion.getLong(clazz);
+                    md.update(getBytes(ver));
+                }
+                catch (NoSuchFieldException e) { throw new Error(clazz + " defines writeObject(ObjectOutputStream) " + "but not writeObjectVersionUID"); }
+                catch (IllegalAccessException e) { throw new Error(e); }
+            }
+            catch (NoSuchMethodException e) {  }
+            try {
+                clazz.getDeclaredMethod("readObject", ObjectInputStream.class);
+                try {
+                    Field readObjectVersion = clazz.getDeclaredField("readObjectVersionUID");
+                    readObjectVersion.setAccessible(true);
+                    long ver = readObjectVersion.getLong(clazz);
+                    md.update(getBytes(ver));
+                }
+                catch (NoSuchFieldException e) { throw new Error(clazz + " defines readObject(ObjectInputStream) " + "but not readObjectVersionUID"); }
+                catch (IllegalAccessException e) { throw new Error(e); }
+            }
+            catch (NoSuchMethodException e) {  }
+            try {
+                clazz.getDeclaredMethod("writeReplace");
+                try {
+                    Field writeReplaceVersion = clazz.getDeclaredField("writeReplaceVersionUID");
+                    writeReplaceVersion.setAccessible(true);
+                    long ver = writeReplaceVersion.getLong(clazz);
+                    md.update(getBytes(ver));
+                }
+                catch (NoSuchFieldException e) { throw new Error(clazz + " defines writeReplace() " + "but not writeReplaceVersionUID"); }
+                catch (IllegalAccessException e) { throw new Error(e); }
+            }
+            catch (NoSuchMethodException e) {  }
+            try {
+                clazz.getDeclaredMethod("readResolve");
+                try {
+                    Field readResolveVersion = clazz.getDeclaredField("readResolveVersionUID");
+                    readResolveVersion.setAccessible(true);
+                    long ver = readResolveVersion.getLong(clazz);
+                    md.update(getBytes(ver));
+                }
+                catch (NoSuchFieldException e) { throw new Error(clazz + " defines readResolve() " + "but not readResolveVersionUID"); }
+                catch (IllegalAccessException e) { throw new Error(e); }
+            }
+            catch (NoSuchMethodException e) {  }
+            byte[] md5 = md.digest();
+            return longAt(md5, 0) ^ longAt(md5, 8);
+        }
+        catch (NoSuchAlgorithmException|UnsupportedEncodingException|SecurityException|IllegalArgumentException e) { throw new Error(e); }
+    }
+    
+    public static final long longAt(byte[] data, int pos) { return (long) (data[pos + 0] & 255) << 56 | (long) (data[pos + 1] & 255) << 48 | (long) (data[pos + 2] & 255) << 40 | (long) (data[pos + 3] & 255) << 32 | (long) (data[pos + 4] & 255) << 24 | (long) (data[pos + 5] & 255) << 16 | (long) (data[pos + 6] & 255) << 8 | (long) (data[pos + 7] & 255) << 0; }
+    
+    public static final byte[] getBytes(long value) {
+        byte[] data = new byte[8];
+        data[0] = (byte) (255 & value >> 56);
+        data[1] = (byte) (255 & value >> 48);
+        data[2] = (byte) (255 & value >> 40);
+        data[3] = (byte) (255 & value >> 32);
+        data[4] = (byte) (255 & value >> 24);
+        data[5] = (byte) (255 & value >> 16);
+        data[6] = (byte) (255 & value >> 8);
+        data[7] = (byte) (255 & value >> 0);
+        return data;
+    }
+    
+    public SerialVersionUID() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ab*o?:Pcya-`>qD.OmK13Pw@&O7higxV/y/XR2;8ceuRYW(^]qJ9&A`-pN>a=4D#Z(g`RoyBvW)_>K)&n6sI%eBgMYpby?hjTE$ZqpswN+fl5SUhX:qBF[xgC*Zkj:*E.E)=7Ir(LsAI6lruVtSS=)x-1on=7rO5bd4(No^<u5t.i4FtTWnrE3w[GI&6taQp<aXGQg<mrYJI[7Qt`[=FH#LVuRDPWT)NZM_wK,TJrjn)&J3K<8^.4,U#QGD:l];@H.n/Xw`8/xaPu;2^0(DnuQ.%VCXocI<<j6n[BP43,g(J//^dDmv`Z.IxtmhqRr5R_by>=#iW]dPW0r#*#w<qpsD?0hOthQoN[[gW,urt8_8KI/w<E16]F9)wDM%*Ov<O+fI-50GfEnMHjXA7DRv;Xhl(:lHyHZRMQRDJ?d)eXrj6@^ufKeC=vg@6ebCdke#O.YSgo_pOwse)wcP4BS@*[RJ+>EI:wD=]V9rEN5mQmYF,P2DoAWU;S8P;jq[<WR6P&g%wc_gX56^9TU]y?oWL=4q=;OV:[FIV1:sqj8y%9KQ9Hao*TtPem_/kBCyR.Xgk-NHBviUW$KoJsiQa(:#`>Rf@mo9L<?7HKJ]G;9$P,dv1dw2l$Y?ThOx<yZi]wdnSDrwio]AUB2,/a3byYN2epa._.5A/^gD%kYfvN1S4P@xM:Rob5`;Sgx,d07fL)U:jZ9iO59N?H<gMB:m,MU?/)=,dCQa:q&(Q`nRkS>GLRb;K^Z`13vZgF0+LW1Sp1;Ay,v^J7A2li77/-g/e`.E/E>Cd,qXirFD<h7$EinZ5ElJtKGlo9`K]Zvuk9[-J&F==8QFpp.b,Eoqv80f@-%hii^sgSMS/1`/1h?&/x-DP[nmrb<pv0a.l]d[*9(xvA]_&vDgWOCAMMK1-9YH`&orIC?s-5i-Y-,#fdAZHZc-RN/+k*cyx#H^UY-A2Zwt=)x.nuT5(0D]2ZZc#VHj##p8L>WBQM5X[AKJKPEcOXA09yZwc14xBo-;?BdY@5R?N0a]O8-T]nZj[o7raMoME$yFOmyBaumWh/0XW6DR-_rHc4:)YCF<Ft8`kp/jM?_w%mAkjmq&8y`.@Z$+$d1ZOtc):1N:@A.E[PD^&PT=Y5RqY=SWa#c+3hjoWZVfh7p$:_]g*H5QuYvNe=_nV-g<7f]FFO(j78[-9e%LJOX(_w#&`d`)(-@va]0D)3bp6Za$i12Y2<W$_]8Vru(hih^8myZ[<3F@dpXdwVn3bT<_Q>:$x-8r8eN@wlf57=tb@r63r*w1jU]rjExJ.vI9nLlH<9rXFc7jJd#;@rs2`4sdliA9(-30Ur`=gFPmUhK;(#)N,4)XIHt)H$6>t@tRj+v@rym;F09Y>YmsrbYDk46Icqvi#O#>%<E&9_PVn.Ff#Q^EQ3v/H+.fRdb);s;ljAX*cO7-Tm]eE=>LJAg5]#]H%8*/pZnP)kSa%+?=Dhv[m]:i5[hy0qPbkavr?BTEKTd];:=>g[k(-5<9R;<WF3eT$o7kx7Tiejx`]`^QW2)KUK[R1)d4-3Q)Dowl,t`=j?5V>qUMx;a3?i]hvbaWWvMy>RZ)8[nRL=]IxM)?#x?0-MO-$D?E4y93B$fn7]*2Nc?Ag:X:QEIK?Gy`/4*P$TU%JU<r8E=3.Q>#0(HhE.kRl,b$&fugp6RIaR<UUYIAS@R21LV]:X9YMJ&&&u2[ZSx+/Ig21,Zv$7YDVKCk4(xT<O((=TOxBA$;kKfk$?LyK/^renbqv>(JtV([&8S=PB,Xtnhamo3=W58g]^Uw;CfWn9S0qDu&/1O,<?wPMx3,LmR8:sHZ=ouqvAK5;_:8<Op-1dAI27jEk]ut)jLj:bP6IvTh#_O.XB7VSQliJGhHxF+bquJc8?dif]>X3NQv]d^.+jeY9V^)VA/ZGOLThdctQ@y?74V;_jcjjTiud#r),gs70iyv2wWHcErDU;Pq9uT5:fYRnFLm<0`3Lv-,%i<4.Z6f?`=k7mMEO3=P#T^.N;h5Sq:I`+#M1pP$<w(kK(89BeJ8^gtJ@s(/x[Hq^TjJT#QbB#mOe.<xgJLmG.Bcjc[Tgl]UR=L%CT,_VN[cf<-mLH<f=;mgk#Pd$*5I,lRHWdAd5f6ia,Ghh(7J@kq)P>@4bNA:Ej5F@ZB.OUG^>-%j-q(F/0hNmI)Qp(5u;dJdmu:s%j$+j/K=3Q.(Bg@KlrIeU$9mi*9$K/sfh2cmmin]HqQtQ.bdH[K%rCttupq$>-mcxEj4(0J0$7]>^1t=KDSANiitMiJl#AJTc^^k[/3W%hD;fsR698YWa%1jgIXVE;nEcK4n,f@(oZ=-Q0x0Z6q9$.v9No$fyJTK<APOb/Y23OKSh:q(BNBR;Kp1m(D4KBV(CQcpGq&4bY-r&TL5a[e5K<oe+3/mlw+<]AB1p*(,Nt@;_dX;`c@pT70U]p=E]Bmj`*90I&:&7+KAd,I=;u$[<?Bm.:*ks4se%-Ig&2Hl(<NcsGph-(?<9&$ah-ZU_JrO8iEl$/F(MK<TUBPkA3eEeOHsDhy>V`YaC@ZRDgV#qF>7N:jQ;q<b#X]KV5l:S:%#JY*R=rJDtpvh62VXTLY8b:4Z%Q>feFTJtxs]g(xqhAs+_EDr6G5ZUY+[pfJh&wbIF8:]9j7<fCsKBih_kUQ>()QtV2$>nYWGF>UY0P#uXtBpr*1qHq-*Fwwe^bnedB1Sapp?ri?A_jcg_cUq]h7]P_kBfvgd8r&N`3JiBqgc`7slbsjXa>7n.UOnER]vrcl%>k[0(/.rN3X&vsD@Tuy%JP.Z<6G[e5fN,n^HHru&ENlngkt.PYXH`9:tFv9*QFs2xas8((j/Tb.wi_3m+xMb*2<-$,MT:H_&n3DSf1pMwMQ(Yd.BStC?q_rqFSOw?Z#-/^Nt>/TPvDp]QDNjMb&0Hlwg5;;Hd>d^LXu6$5(rr@2nTe)OR,:xaBV$b_hvttT:pJvlFtSYdF/s7l(GERtXD`OJ,lLh,wfWIsFrCaD)r?U+KvupjyjxG1QOPvSRr>^vT=GG6v17kO%BwqlVjD%ZWn7Erq-yU@Dw2U3V<ldp]a2VZ=dLq6HP]gngLpB@<ub/Sg/s,<G2D%lZ]*084hxJ^<]>Jb/YZ:Z>Rme5T&u+f3Ak/I$I8FF&nFKTSli.N$(@&k`jqd@M_YuDAW>GL5dQ&?CLyWlBEUMu/e3&yOGe**_YQ9_?%F#dVtl#oD,COW2rk_oNm:eI8T4P>M+wjR]=X`wSlnpj.,ZQMA/?v:2p->/Igkk5+vvZ";
+}
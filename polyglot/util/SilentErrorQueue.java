@@ -0,0 +1,31 @@
+package polyglot.util;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+public class SilentErrorQueue extends AbstractErrorQueue implements Iterable<ErrorInfo> {
+    private List<ErrorInfo> errors;
+    
+    public SilentErrorQueue(int limit, String name) {
+        super(limit, name);
+        errors = new ArrayList<>(limit);
+    }
+    
+    @Override
+    public void displayError(ErrorInfo e) {
+        errors.add(e);
+    }
+    
+    public List<ErrorInfo> getErrors() { return errors; }
+    
+    @Override
+    public Iterator<ErrorInfo> iterator() {
+        return errors.iterator();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[aX#j*^Xv`78;t2Q9d@tSbp#9RL1>>%qL*J&)V)?H<.iHE?<-mI3*WNq$Q12g3l-P)@dw]&?1?H5-flMA^GxE,`LqtWQ;*nRaJ)KEhxHhk+=:4o.Ck7;IW0xYU6)gg3nyQl)5FMXr051UM9Hk5x0c(UpS]V?4-w&@oDs-XSh*%4waZ;SyWTLB,P=QL?-okC&nt]??XfnN[(rsu$e0s?yvK#(&VehU7]D>dZUZ+Zo#xWUSL[:/d3.0L4$8jQ)5pn&NIK;e+0NjS]Ncs/YuT]Q0&?T/2gh%62D12/2l.O?EvF,Znyu#>C$e1.#Tg0=q.7k)aM:Xl<VM-&qEGq,>pG8OGt+W$D6_raNx9ol+A4X*O&fcv7rO/5^EJ):%.B8?d=H/%[X9Be@wXAhh18wf`k$KhS1,g>F`QD.Xe4BNBKGRUV;#.*n2fVQji<:Yg27xi&ZJsOu7KeRcNTIB=OjO?><R_>4ujr_Iw-`hYthyN:`8&%`LWPRYXM>`)o]k;;I@+hEYbu@</2L@n$dCoAU]J##E(@k/ld$;,p(4eTf3,[nY:^*l2x*DZ#uL$db$g<(2eF)&BoXYL6FX5_%<x4/pc(I.U`&)G2>Wvdr9*oSk:iIc_>i28a;4u1oP^/w`lsDyM#uRaqJ5fHLb:o-Shv&(b*=$/n<@b]I/4Vq/DrV_U/,=l#3#eDwhv_#9`kmT_+mVU;Ba3oxkWSaB>FUZM6I]`4T?6bh>`c`$;.Nyq;cBCFf^EEf4_>R;O?>/cO?r@w0`TLWT%,]_0t,BT_6N(-_ypN1XG>CZ+h@j*`cLnV^*T9>J$./[f38I?m&2F9j;r4Oe^[qmM&FpK0pI_DYY7MZ=WY4cka$et[Mli&G#kwD>)l<a#i`:tf@bRhrE]KkC3h%CnF4i5*A88RIkffLUg*>8wVFOMrv+(Fh=UQfWU2NZ$.sQe]SLTh)0]/v-*ta6?sr5lq3mtAnhtW/^NdJK3LM8p67ZJivw^BO<p61R4m&&R.`rec7dpXJmIn03ki9v$fsjMZ?*kYS9):q?1OOBeoM#=i7MY5l7lTj;xBI8g0qOI.r4tR/oTOOd.gO@J7X5(?<X)uK7mL[1H(4E%[6;#q:EV/xW*#LS6nb-ZRdB]ITwBnc(X#imJ#RYMV%1X]qm,d.m0JG*qX$.TtK5S/NIJ9<vh)MDjhu^xNqj#4gX`KToV8UV*VJJ[v3l]K72BjtN*.G3/iN5UuYK+p$C:?u%CHhcBEWJ8yXnqb)#%>AQC6h4U.^,%oV73`..oc+Pn4Rs2o9]Id>7;R0TIZ+Ky1T@-FCfwvte(>m+Ae?mCB4jWSB[,_;$)^6hm4V`GFj_q5/`O[v:(vlCw.vDDvW&6=5h4_*bhy>&GUl]0JSo,wnR,U&v.BFP*/#(F`5MGt@nW(`noR`mcNP1kb_)#n8EsrL&=%2Te0=hHQ_;.RN1qn^=2fnGH]dl1khbN(DFOBo:oTs=.dF%<^lfKhae,;u5:HQPjW]gm*Yyh)QNw.I,tSe8n@=*sr<k-+GCL+d(o7e:%5Y9FK&,:`pHnA:+E>A/bUtrot#7y^@GE`kRj2inUKRVDlds&lw:N(pksBM*/(mQ0=y*gpNR`&uo.aspsT)k1=jcLLcZXC+YXf>cP>UKihRKl7vu?4Y9bQ:FUAb(0g.MY990u6]517qj5RJ>9g%rXy%7%?akD&[wnn](*6$0gu0uPU5$3emW&W#0S?Y?wZw2t[nUl_6aTLLCS.N^D?C^emH&ASV(fmi^5qmlWj>&3Q>@0[LNGem?.%K[mr`_ARF`Wk+8ly4b@qiBa`D0?Fo02=4A8<,r5D6s_T(pu@aTXsuu3C#t&O=[dEW&>ayB9$8=<ZHoAXP2;l9`=Lk*K5c>g:E_G=bBq_vDF&GRH?P]Bwxd#7M-*/_KmA6QmYad2ge5mEaXT320HTad<yRVMsgf>Tlve97,_6f`^t_@i_gsf9St#EH2,[+Gk,2dOIH6RdN]8YQ`6#$XW-(,e^V/78*gITlk^BvDa=>#+)1kJ07VFsLDbSr(.eug=HfyMN%tce$;7Nm/tU<k(mc(-*hfcDFe%[_DZKi&*aZkG9p1vV,rf0CmYP2UeDbhuEifdHYfZmA^bQwgIEnT$;%;QNsa+bP`+t9@VYWpY17rng^3yj6%@JlFZJF2ldR_%=#urh%ScRILOC&EsA$5r+/.e]Amq)hCbCG6d`PIwJ#c#2R]_Ece&_&Tqkb5ERWRVSmb*_mxjI;WU8XJ>kKm*;(>8d;^nRVCeK#4TA:?pkP^nFOAEN<,S^3d*p`x%tPE@W;=Lv:g&$KvS)j^qBfj];h&rL<Eqblm)(NIE^N5uedsY&D+^o[yJ2GfA0J/pA-/ouI$B2#864IH.w:B9JuPNL8YQm?-Ox@,9Koc*ZqCJ-hj(FW;GHY(/TXBg80aq*giblJYK*u@u`kUiHBD9@t>H^@u1Pm.qBM3?H#[%wOU]j(]4/vLoDAk2:lyb+^1s`w;@.#UoNfB?&B:f].(qa.:V/vG5>p_T#4X%#%a7GgT#`?EUsGYIW5Kv/WVL@Nl/oC,=gm]u>X/<_esD4Za1P,mkN$JID:,3ZE&A@7.I3W>[:RKS$Lc9TSju]#vA5:745s34<0Uue;BgPXKf[B^1GobH`utJ8o_o1Jdy:nGr/qJS7e3apB8c+sdn7>gi]A7O7f,kW[ktP9ZP6f)O1DkwIhC)&=1-^tK*h`to`xZ_yS6X<Y8CmZM+[[IU6-&uLW,_2`,73<r;o8K8c./3A/E8BpytBPn]IUbs(ys3d&?><H1XG3Ft5XP<8`A8J`im2U9a8xO`LJ.`T+2ugs#k6vAe2<%Hs`d>BBSd^o(M]h@UJiNNgI)<dQ2>)h#qO-jOo+Zk_0F/Icc;L1opv8%Al7<$pFgODEX#PjtJx?Y,a0EHGgV,nu_Yi:Ln)@BsJyO77fgek7V)wD3ZTI6;dHU,+lEWWx4JZ(7iki?eg(#t[<RJ,^h,Y3,u9LHn*s&sQij.MhZe@Af5Ol@hO9Ej6s<KCL8%jRU=$S:>OZ$Qy*#-*6nN*?u_#9(tvSnXJ]FA6=Ux;<2^/;6@Zmb(`0[6wHna==V@oCuumYG6+O#;.X&4(ol;(1#w+Hr63Vemf@-S`*>mkrFlVd@sSvvZ";
+}
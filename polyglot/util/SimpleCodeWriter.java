@@ -0,0 +1,144 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.Stack;
+
+public class SimpleCodeWriter extends CodeWriter {
+    protected PrintWriter output;
+    protected int width;
+    protected int rmargin;
+    protected int lmargin;
+    protected boolean breakAll;
+    protected Stack<State> lmargins;
+    protected int pos;
+    
+    public SimpleCodeWriter(OutputStream o, int width_) { this(new PrintWriter(new OutputStreamWriter(o)), width_); }
+    
+    protected class State {
+        public int lmargin;
+        public boolean breakAll;
+        
+        State(int m, boolean b) {
+            super();
+            lmargin = m;
+            breakAll = b;
+        }
+        
+        public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+        public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+        public static final String jlc$ClassType$jl7 =
+          "!1VTEWF?+1Oql:fH/2h5V.T6+)fdHglQ;M-GC?[N7R1.JeYIr[`It?uZC3GHgBY0$jY$%8sW[f_>X+LXZ;+s/NwESQO3EP=.y@#DUcZ,76,cel]wUC4_9.4ny(0Bn*Io.$9nV5sg(4IOMF1fh>DTn5D3<IYebJs%1%7+?&;;eS,eD7MoqFrd:,_hF4Q5p)#V.rHk40Xwl@?4TDL]g`sU4[7>92a<U52xw_md4B=q/`s4P=(%k2H*52x,Jf-.pY.&J7NMx#/qy6C9(u=w)2Tl:a6KkrF-:kWV,A;kEG/-q#$+%O_Di0?+kB)?CXab[-DUQ3#k&:(vwwa]MmUfFixYT_nu??@b-^)AfoF:]*i%86)S[D-p9v>1N5%9Z=9sJAd6U#VT,K/k@#tEY.L:fa5G7YwWhHxcilSBQY#**jU8<_Jt5mJY;,bq^6MDARhFfH0Z-;wxT+dIAFm.B7Srw,cJugL2$6(AP?c1i?HdFOjO9d&+PGlr_$<Py8eY&OC*[x-p3li8iK&3rjcwqfAF)3QI?^-tPNu^Mp&N`y_]ul5peXkkxMstw6&,q0E/?0)y&`GrX)xLG3be[TVoS[Mq%SUELsvyiJ/qvg4j,ipGM;%G8)?%d^Rg7Ce=-1By]R>yK$Q4^Od33;Mui.NcFqjdMhWjl0YG%Z;0y>I:UYo9s/knB.Mycee,UhZvli3M-w-iXZ4Q/YE5)CV3dH9SkKKVEs7dq7p)7^B.Z-4sl2hp]X@%($[:]y9qhA?St>3y1`hIHrSqqW,j=55lS^_M:%<mw*NXkkC[)KEU;,(eYm?#0Z,gSYDCP=q`(o@tY./FI2JL++7xaAn,=4$9jH(*_b[&yX=H_^r>^baB&)>Qdc8Hm8e$RPpG@U2dO0gVbWBNkRc#0/HTZ)HZ6iZ]3,?UHYj#VmM`%9.CgFQ`+8dLRAEtF%b+-=ehVLUHt,ENa+&QeCe:N6XKuFGUeZfrh8[,I3&$ic.H_rci0h4n*L=>&6Y&57yH#)m1N[;>=tu^A^:%moQv0i_AR4x+9)05H_4LuuvULh&/f#j.1x^R@n$m$FR.=,TG$n,W^V$#I[ushoo3iC3ZNiE$fbA(.twOM0.Mbdc,cw6dJPUXN2;:LdNZ$n)Ap(]@Q9bm/:c@cQ<AiUFR&4Gbx2rT0c=9Yb/nX&q?jgov9SOJ%Yds1bgc5C;,Q5Skk1cBP#&-*.N[(X[*DetDHC)W%1Cak#;ZywuRd-4v7ah6##*yuH^>LZ5BAjI:kR#as]&jjLw+5Fjp2^^=y9.tG;H,,_c[=p`r[Nj>sjny2;e29[M*DK(Dx^9cA0XbP[.[NrQb(t8GAOpsZ:x:#Xjpbph2#CG%br6ObAR1PN,udS$IJxo@]3M2D1M?Req2hfIe5#-vyNLiBTH&/+Otm<Il8+ueM[<<B]3upyMe^843%Tom+y-<(_y3P/ABOjk%>flq#<LCI)PsXB*)]s%P5:9v2IxRlamoN*xDpr]A(YaVKD>mOo++)X&p,)-AIWTw-wZVs:G%ac><D8)#NP./:D%SZDTaW0,)cLMrX7h)SKc&:I/k,iM,S3Q@8s&uhdY_%b*wJ3w[AiWMdjw4eRS<8TA=txfBi[fQ)jgPp?LtwX3?98.mgo$Y:?jWbm%nCu1NcrqR+]2k8Dh.tRpu7<$-b)VhH.DqaDd<wv6[:R(1I2^0Vb6N:Ro86J*WSxIDY^t4N]iYcj%<^A#)Y3`mK5FfnLXfNaX>Ep2CcBk8XDonO7lV1ERd)V;L8M]6V,9m1.<;yK/U7&ErLt^s0iD5?tk*aYkf)BPu_=SFTlT9tju94-[8@GbUP=Z2=8uAoEsc7O&O3_e>%#Bxpw*8<E[2gI2GbP)MyU`a5Pjey%j>w0s8W3]T9]51Tfhov8^^Y*%MLAa9@U2v]XkK,,jPqE@#vZd7hZ(:)uLol;+NVvr.7YUbs+@R(>T&EGmlg`kJTZ;;oH?tdbg+wug?Mqc(,PgamCT#[`wQ)FfI;(I:$,J>7nJjEsFsw2l8%n??8RxAx#-?[U?-CX8Bb_*(T]ZDd:_nIoQpp.;<+eGDIChYnJc497<cT`t)3iq8sNAjNoUjmN3UvQH9WZ?PH]3S:-e-.n0-R]nM3MtTb.A1)Zth_3vrCL7HEwCfoAu+QOmqZDfDRn+h&i,/7hK0g@CKl&BCZ8%mK$nLR]@@RQ0dLf175vl%Yc2%#--JoW*htAiVmqlR3Sp2,Tin:#hLkc&cidw;,Vrma(3V@`K@K0eb^e+425r+C2PrWsg/Tr7VaT2MvQY(qQC]Dc5)th6hRNh4Gy&J0s9h>?Xrf.Ol646)]DbXmt5ib&w`*@K$M";
+    }
+    
+    public SimpleCodeWriter(PrintWriter o, int width_) {
+        super();
+        output = o;
+        width = width_;
+        rmargin = width;
+        adjustRmargin();
+        breakAll = false;
+        pos = 0;
+        lmargins = new Stack<>();
+    }
+    
+    public SimpleCodeWriter(Writer o, int width_) { this(new PrintWriter(o), width_); }
+    
+    private void adjustRmargin() {
+        rmargin -= 8;
+        if (rmargin < width / 2) rmargin = width / 2;
+    }
+    
+    @Override
+    public void write(String s) {
+        if (s == null) write("null", 4); else if (s.length() > 0) write(s, s.length());
+    }
+    
+    @Override
+    public void write(String s, int length) {
+        output.print(s);
+        pos += length;
+    }
+    
+    @Override
+    public void begin(int n) {
+        lmargins.push(new State(lmargin, breakAll));
+        lmargin = pos + n;
+    }
+    
+    @Override
+    public void end() {
+        State s = lmargins.pop();
+        lmargin = s.lmargin;
+        breakAll = s.breakAll;
+    }
+    
+    @Override
+    public void allowBreak(int n, int level, String alt, int altlen) {
+        if (pos > width) adjustRmargin();
+        if (breakAll || pos > rmargin) {
+            newline(n, 1);
+            breakAll = true;
+        } else {
+            output.print(alt);
+            pos += altlen;
+        }
+    }
+    
+    @Override
+    public void unifiedBreak(int n, int level, String alt, int altlen) {
+        allowBreak(n, level, alt, altlen);
+    }
+    
+    private void spaces(int n) { for (int i = 0; i < n; i++) { output.print(' '); } }
+    
+    @Override
+    public void newline() {
+        if (pos != lmargin) {
+            output.println();
+            pos = lmargin;
+            spaces(lmargin);
+        }
+    }
+    
+    @Override
+    public void newline(int n, int level) {
+        newline();
+        spaces(n);
+        pos += n;
+    }
+    
+    @Override
+    public boolean flush()
+          throws IOException {
+        output.flush();
+        pos = 0;
+        return true;
+    }
+    
+    @Override
+    public boolean flush(boolean format)
+          throws IOException {
+        return flush();
+    }
+    
+    @Override
+    public void close()
+          throws IOException {
+        flush();
+        output.close();
+    }
+    
+    @Override
+    public String toString() {
+        return "<SimpleCodeWriter>";
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1amsm*+$I)9qn:(TR>DT-)3YVn?b.d.4jfyX0;FZM.>ojvd2lvQtY+3KlwV+j39r`IEb?KX%*=THg@q6Yj(-0oA/UuXjRAd#EbOf`>sRhp3mOOm?Pr>u=tsNDb&oC2K^,N%=%I41E3]jHKh9TX7q4YxtAE[BdDJ[oAyV3E1_rq]>gct^Y8cov]%G^K<mo;VC&ns1>^xV<N865amU?sEgMFN^-C?-5XjO>pfr>U4>tAh&i?IDoIglN&_<aL7hn#@MAG9N2UbBWRk-Q7lHy4;3CbVds@*F>.Z$<.LX1k;VPcfb0YJW7@EO?:u_HUFLVNyaU;sx^u^Xlg5Of<Q5MvDp(+7c)r7St<54&7ah+4c9nG<et6c1G&q),XIh<J-0USGK@9X/nMKCGSA0;V-N%%/ox@;1u6eedQiJZO$R2W^E6bl]n:mSTx7,;jEPk)qi;wi9tXHRN3,F5Ew]VU^W?[2pS55W4x1qcECMpi&:K6]TP+aMMEtkE%Io;YKMigej;q9u3rBcQ@E^6#6lf<Z)=Db-da<NH1TQoqrRMHc1b%deTepYV]CIl15MA;@$(R_&j[*TRQ)l/kKYnab*4=V,(eoyRZ$1/<J8$:6SPydK<`@^BfAf=IkZ0$6cQIR>%d=]Zu1vbWT.bF?PYQcnnO>iNXO3W%rqDqEG>`gCx+p[fo<3IQoE4l`OAOgq[cNA^wv&,$*,SQG0P&W)^Vb-FVq(Glh`^jvyTZi6Pn[>V#jFt5aO7,R,7X<o&=h5>hmVR;S5EI;OG99YPiYHTSI;n;9*F4+9ttS6H>r9J2*9-cMxtG>]x6T7Gr)xS;%S9>PmH@#PYT38cv(o@E@KguK.T;.e3F+%tK1p;3x[ANWrXEosowD:4EaEh4&TSQkf`AsfyL80^o*QEfM/&RPRO/h@+^]DSDhiiNbf#M5SuF?AJ%si[C_^/=>lV_bPik*UPb0HI#LBnqmN[^Pyt4*Rt)WbywE?#9)i2.#IQb3*X)pg*FO%PrjDgRbg/$%colB%O%,@%*_C70(_+y/9tb.kC[hXcEiN0L)M;tZb0;#Q,yIZiGX,vAaP+&=R_?]Wm*,,L;><T>cnkXYtr&xU]H1i&(iEhLh&tq`c0PN(=Q0Fs.]]x0(L]f_*3*gcc`alhtZW%U3#W85*[:qJXni@1aeh`,jd&fj6K=WY^[u>hM8GKIt3of>/6f)a?war+]HYY3Br/8&`NwYskht<l;dVQ`F5&Jmp[U%i:w3R>D<qWs8YD($.=EP3bfM97Y*^$KPA`1#IZnBAUx]hb+$_(aO(2HVwRC_vtJZdlB_fe0@jH5;i-;WU-&;)j4B0,qPVf4`v>?BB3tfZ^Zv*?N6q&5>/+ci-4,B_Nueu80eQR?oSlgnkCfXS]/*piu:0]kj1Xuha6d5?.-F:Q;Dq+AC01q+9ZbE:`a&:XqDQSB]5CV)vc+/*)0R3JU1=e3CV,uu);(9V]oXYP_Gu[4Y*hmg1PQp_.D5h])7<71ZyF/s7&&U=qbAY`8(WQ5`l&]Q()VFIM.,bFLMbtfDCR&?.4^_dN^MRZUj3l6O3o8B@7q%Xm?B&@.8>&ABEAN=`x2xHpC_VuR9KE)rH>QV4uPI$XZ.:Pk:h%DpDs?R_hl1_e,Y?n/3<COcbQyT1L1tP/qK;<tMxdbljPC(3@:rT1RR&Kdf6e]LM4mBpxSATfZX:)&.g-n*q<y6i95hx`TX`EC/1%>j)*E0-*$EAue&ub:Aaa:8iNn>YDbRAY@e0oQqBJQK7bL0R=$GmXblvH2T-,>Mws(?p>US(j._mw1A.hpU:egGE/EaCe01<-f$KSVt0n0ic:ky)dV(U6@_,&C>xln<c[L-lk<i*&kN/wkmVbkft>Djlqux=6qKmFUpsMw[@tlTf2cJT0i.]8(8L1vEp1f:/bII-;lx6EA<]YLZ(BE`h*2D>e71Gi.%$Rtk[N:x:5yGOkf1ykWv(pRv@hLAIEUNeYh@_P+En8c>rQ8xM`e-2KnX;1Y-;YH.0<cur2<vwG<,G5jeKrpX$@;qvZ%w314YQ70DZ^,l_q_bohK7.c3`:H5Ad`S-F.&q93sn<9&@C`U9Etj32YD^H2AnpRb+ch[bi[=m[GfsE,wO@+(Uq%sA%QM2(E$5g.,yYG/s2;:dtw>,[deT/JxCn?-nZfgw+pDpc-<U4^q+>,Z`]^P^LPCJHccKafteqFD9:5U7x[2NF/pRTY*)$Ip+W2&06O]G]+dESokB_P;lwqT?ghOgKphXQ*M-S0p,JcOqO:V]`T6dwY/tJ@bUl59i;qj4bt;)7Ynlfou73g9RqB8DJ*mn7,l<GPAGs73YD:dlD^O%7+fu_x&8KR7vrn<Av[L7/N1%U$p4T.rqk_fk`Siv7BPyr30D<XAu-Vf7Hos(i[:-eqjSC_?-oEKKCG)o5G;=-o8Py$BPK6H],[c2cKO^Pr^?4&3#Tm<E+3TdN4Se,[<<B/MJx,lCE2?hqbHran,YMb:?fRWc:C^Gp(Gb0p7TWhf):W-a/4g]KrcL<RJWUjlC84*H82.iq2];O=D_B&u17:iGrd;^E3Cxa^ZNuEMjVK5+j3VDW_&?bKOgM0JR&P_FJrjE^^#*C@q[7,vj349@HQIx`bfT@ANRCYLCPZ`(_k5+6h-Q$j5^R^WQ_kQ)?[:?<n]-lfI%F=y_,j-ADC+$K`.(@D27FPR:aYlV0*ke1`^&hSpkGF2*i:Si+(0dxhT%(gjP>7IO/puTmeG@k5:vd7iHRD[AuQf*^.iLJqEND>,dl5/aCv_5p%;K1W+b&<:y6cS4aK)@aU2(YumWE/ssSFogNu&1V@*aQHio;onH,uFVJAdeV6e>M6Vn1`4L`S6g8$Qt&1+Gp[$`/$*%&-r*Z7f(&i&tY3O.bakL%Oi^/g=l8=4P>L[1?yJ:EggTGV%lgwdve9veH5e,y5.i^(oCa,1_RLE2.5<RU&vb2(SAe?1WLJnQJ1dY_TN0va8@G@5c?U[Rg7YL`.RudJYPaI>-XpXPbXp`?UbDoq<k^ZfILlQhD`7K-)$ss%iV>Bw/Rnb4Hg+Ec`^qc.P9]=YP+ROBN4FELCC6DSUG]X6%*_mP(2Ch:(RdA$XQ,s:@GVD&efJnx6g-4N5Dn>@hfs07tVY>ur&tA1s]tC21+lVMXn@MaO(bq#Cm@SmSe>RQ+bs@y;JV2V;^.`R]$lPv.AZ=`4dH7lRh:(qcZ)>DX16OBenuU6be7Y_xUF&fll%M=W@MusaP3/XUwgn)J*()dS2&86fpThf#[IB*W$Lk&w=+>(?b96HJkq7R+o837,WM5URQ?GNDZ)RLZfYql_=AcSgSq^l;i#RCR;Ns9(00t8Yyka4*&knIvT1qJX$,DPeG=2F%0YR3u+g@Km$qudEY%c9`.IuN[6%U^jN[kp.<WmR@yZ-yb_%vyDVsVSx79TqwAB(5hR2LIe_3q?1A>ROPJ`7md+`FI=tGTM,aN@51aL$Efe#I+R=Dpj>_Hiv3pd^OU:TQf3Ysk#5]::t9=vVS-qRTG5L#yI>]<l>+9hx3bhNvn6Vu@q>)f+.lCFoaV3_C*ZZr12w$vGyig9w<^^83e<jrn2y@WWMr1vU;;VL&?V?FEN,nOO%:8WN7G4Z:tqdnPVfmd5Tmi=em06i(]DMhK<DX4`9v)E9V`tXgO/C+e#]POR+T0>fmgx$-EV.Am8Sb`4uDSdWd26#j*/#mXoE:$ii*j$^g((gr3)9%(UUS5+,,J/]yBah#i:&sVsDe+++ab@n=_Ku%$tkAU<?)E*@G*;8uIt89Kri9d>BIU@/[/FK:ul0tjA[eMUJ&-&:QD$Sleol:$x9Drkx(R7@IH81kjOtrY>Rp20Kww;K]GL8JVhoWu;kPn5L,k`?/qCR4S$?hAN4PbN:]vY,NC`6v;lA`>ZVkRG0JfkOmKCLPrLMr:(Z?)=s0-gs,PW8mOrrJH>P-Q#IutZ[^_>EfPV=lIyQI39c)_C.EPql]B)Y%CT/<N]JJE,Qdc]*Vr)&u70N-E[&>EvY)$<S5MJ80PB%[KP./g>q,9b/Zil?IqaLtrONou:7<<EP_l0uexD@g]-7Nk-eq;]k9;L&Q";
+}
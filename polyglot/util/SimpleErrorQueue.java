@@ -0,0 +1,15 @@
+package polyglot.util;
+
+public class SimpleErrorQueue extends AbstractErrorQueue {
+    public SimpleErrorQueue() { super(Integer.MAX_VALUE, null); }
+    
+    @Override
+    public void displayError(ErrorInfo e) {
+        System.err.println(e.getMessage());
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1VTEWF*l)l1Km%I7Gh2p*-ht>T_cWV1j%2;fhb9E%Wt8`<?RptmoL.([qRolik]8(3;1?H]NS6]IXu`&<cFM-PP;?1g$J2DH):==S8Rbw-w87Gi7A[WrBer%?0<MRuKjmR7EA6ybk#f1DQb>%LAyR8l*shvjPPB@+<nt,ZCnDZ3k@1`g$)%fUBp6-Y24,y8.4g_veB[JQnrAJ(MyZTfW[+I8AKniP9Zj8BRAJXjm1RErEps_u/[hit?_+GsW^t@nf>JT^`rNjQ%eg2+*0g7f;>i`vSG^Z9<[P,FMoG&]o_fKeX3Oy:o%%.G?PEnl;9EZ?`KigQW@s1MYxj?i8vK.AYX&.m.*j[$Lvi0H%BdM,PeId*csvc2%U^ObX:uggsR57<;1u8:>76?Ki=ZW211Vhua/0cRHoe-Q/j.]gjR1XxNZnZ1]$6->RifQ-Cc6JF]t0((HsPy*)),++b:&.R^^3vk=b7k1AV+r&<+rt^;if>)ECsH#G&3q/U_=k68hTk$?Zw@-np]GNN(c@5WkYv]8v>,,cFB;HW5C(u_7_;j9<kN04w_m/G45Sg#^lY-Nug//3w4l.ExiPSAp2VWsER8Bi1.CZG6lH,3d4KP>R,4N+-+Bx[#3JO+/`UE%s.9i$YFkt`Q[J%o.jXkFU;-wB;gC4<L)&=_kV-Q0G*TV`_MdPmWYr-:c^%F4AC5>o;eNZiwJQd(_kF/FOiR,p)Y&7b6oFiuxUZF1hWU9X;E4OMA7ow<Ed_8ee4&x/%El8X)uGk[s-Prf+MpX[FB:[1mtZ*q9sY:.6Q127.s#p1WlPxm,w.CA8GD?oT&-0oq6xI`8?nr5&m?I^PJ=P5.??-bBCwtLUein:cE9,e<g1kG4pWd`Nnv33VAJgLnc.`:D_rT##L,58B2IdK)):jU,Kv8nOYi#^e&Sw,rP@ki=hyJDK.`@)H,n=]o=_(OyNT?/>?.t9hMFHIvnlZ$W^s,^TWjS4ftnu_T8>aee&Ma+rs+6cy&t[rsxaOb#.Q8NY=bnatrSZfxH51d,#<mIUa$>I5y<Z%T%Sp_;Mg&0>4AZvf,t@d$M2vXY@#)`1K;6?]r3ZRMjpk>yiL;k2r.(rA*-.U`pK-6W.na/:0]HWC5Oq;0ev2q%=IQ3)f/j)HBr(Knip;$np]HKFmdtIo7lqCGRoKo9:h$E9w4dlkfXM*3S)ed[NH*WK9hvB#8@:Nq8iL6AkFC3I%+_Qh)9[s^o;l5yp6TedLtD^-oFT*@MLlv<HG$8PZrort;[d(AD=Djv,s%f*)v0XL-2:9-)&]0[nH2dyd?E$YTWeYMcppgq4Y+&_mCs12fw2ITM89)#vcH=kfR[X^PQ]bcuZ7-VSb_dyi>h<kH9iQ$`#>ffYGtQsl-GNIujhFE&8QlU[y)#$sIs4%y6X`KPIA.PPS(q[KL$crO(A@a<4Lc@/Z(@%FR)R*NJ+ad(;v>uxSt6W;m`<rP8?cPb<21;[F<gl(bd+ac,s0WDiEZcG:VQS4ybNMY0D/#_i4(p/b%VCju1uoCTc_7H%1:xpkL;I9LV42r;>dp;#7>fGRc2dSE&7yE.o?NyLW&)[%^,l7lyfy/N6v8yH`Ji,DYaA?OV8k^9r=2&/nW3.io.e*A^EuE/(BCq#J/7#LbLwm(uvtyFloh8oWuBhE=CH%Z&D)^KX@dJ.]23)<7ISxhKAOw>Pv$$Kcq>tCSs$Cfu]K7sGBRvobUkY%i-u/r=_um5vc/0v/27eWTRMBHPTavHK]+xEa^PK,AXv:M?_vrgxi>RsfKy/;7E4eh`vWI4]IRGIE:CFn;Y8YlRD-fs;N[:5?]nmogj%@+<PPd`7goWyEg`2yLJjYQ?RY=#G9ZYoV,+ZKbu$I,50BT:F=+dRC7yH;qNFLnmWZ;Z3S%5XyoHw7=`&eoLigZGdH?$4%nt5s97o0C5?bjxxTXMI4gwT^+^lS4%`*Exas*]2KWJ?lR*S1il^?C12CVRMIAA;0)+]N_Eqq<(x$EKFua:v#c^CoDA7CufFk>ESIbGbS46`WQgd5sdT^S3)4f,*yqrK:LLIXU.XPbN:]$cEZsI-6,t46b(A/[V)JL5#HFBn(*O-E0rQD]=Ev=Zt#=`@ZH0dj(Zy8/b5hv^$I.MS;y(HCny5-&hf/2f0ZAw6__p8DF/JdSgk5,dL2TKNtdBk>F`doXBK8M3/a<rB@C>J$0@cB.FwftLmhM28>r9d)0.?FqW$lhm]a2&+b],H=m58(t0P(HM(?rvv?";
+}
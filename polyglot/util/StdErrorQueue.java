@@ -0,0 +1,148 @@
+package polyglot.util;
+
+import java.io.FileReader;
+import java.io.IOException;
+import java.io.LineNumberReader;
+import java.io.PrintStream;
+import java.io.Reader;
+import java.util.StringTokenizer;
+
+public class StdErrorQueue extends AbstractErrorQueue {
+    private PrintStream err;
+    
+    public StdErrorQueue(PrintStream err, int limit, String name) {
+        super(limit, name);
+        this.err = err;
+    }
+    
+    @Override
+    public void displayError(ErrorInfo e) {
+        String message = e.getErrorKind() != ErrorInfo.DEBUG ? e.getMessage() : e.getErrorString() + " -- " + e.getMessage();
+        Position position = e.getPosition();
+        String prefix = position != null ? position.nameAndLineString() : name;
+        if (prefix == null) { prefix = "jlc"; }
+        int lmargin = 4;
+        int rmargin = 78;
+        StringBuffer sb = new StringBuffer(prefix + ": ");
+        sb.ensureCapacity(rmargin);
+        int width = 0;
+        width += prefix.length() + 2;
+        StringTokenizer lines = new StringTokenizer(message, "\n", true);
+        boolean needNewline = false;
+        boolean isPostCompilerError = e.getErrorKind() == ErrorInfo.POST_COMPILER_ERROR;
+        boolean lineHasContent = prefix.length() > 0;
+        while (lines.hasMoreTokens()) {
+            String line = lines.nextToken();
+            if (line.charAt(0) != '\n') {
+                if (isPostCompilerError) {
+                    sb.append(line);
+                    lineHasContent = true;
+                } else {
+                    StringTokenizer st = new StringTokenizer(line, " ", true);
+                    while (st.hasMoreTokens()) {
+                        String s = st.nextToken();
+                        if (width + s.length() + 1 > rmargin) {
+                            if (lineHasContent) {
+                                err.println(sb.toString());
+                                lineHasContent = false;
+                            }
+                            for (int i = 0; i < lmargin; i++) sb.setCharAt(i, ' ');
+                            sb.setLength(lmargin);
+                            width = lmargin;
+                        }
+                        if (s.charAt(0) != ' ') lineHasContent = true;
+                        sb.append(s);
+                        width += s.length();
+                    }
+                }
+                needNewline = true;
+            } else {
+                err.print(line);
+                needNewline = false;
+            }
+            if (lines.hasMoreTokens()) {
+                if (lineHasContent) {
+                    err.print(sb.toString());
+                    lineHasContent = false;
+                }
+                for (int i = 0; i < lmargin; i++) sb.setCharAt(i, ' ');
+                sb.setLength(lmargin);
+                width = lmargin;
+            } else if (needNewline) {
+                err.println(sb.toString());
+            }
+        }
+        if (position != null) { showError(position); }
+    }
+    
+    @Override
+    protected void tooManyErrors(ErrorInfo lastError) {
+        Position position = lastError.getPosition();
+        String prefix = position != null ? position.file() + ": " : "";
+        err.println(prefix + "Too many errors.  Aborting compilation.");
+    }
+    
+    protected Reader reader(Position pos) throws IOException {
+        if (pos.path() != null && pos.line() != Position.UNKNOWN) { return new FileReader(pos.path()); }
+        return null;
+    }
+    
+    private void showError(Position pos) {
+        try (Reader r = reader(pos);) {
+            if (r == null) return;
+            try (LineNumberReader reader = new LineNumberReader(r);) {
+                String s = reader.readLine();
+                while (s != null && reader.getLineNumber() < pos.line()) { s = reader.readLine(); }
+                if (s != null) {
+                    err.println(s);
+                    showErrorIndicator(pos, reader.getLineNumber(), s);
+                    if (pos.endLine() != pos.line() && pos.endLine() != Position.UNKNOWN && pos.endLine() != Position.END_UNUSED) {
+                        if (pos.endLine() - pos.line() > 1) {
+                            for (int j = 0; j < s.length() && Character.isWhitespace(s.charAt(j)); j++) { err.print(s.charAt(j)); }
+                            err.println("...");
+                        }
+                        while (reader.getLineNumber() < pos.endLine()) { s = reader.readLine(); }
+                        if (s != null) {
+                            err.println(s);
+                            showErrorIndicator(pos, reader.getLineNumber(), s);
+                        }
+                    }
+                }
+            }
+            err.println();
+        }
+        catch (IOException e) {  }
+    }
+    
+    protected void showErrorIndicator(Position pos, int lineNum, String s) {
+        if (pos.column() == Position.UNKNOWN) { return; }
+        int i = 0;
+        while (i < s.length() && Character.isWhitespace(s.charAt(i))) { err.print(s.charAt(i++)); }
+        int startIndAt = i;
+        int stopIndAt = s.length() - 1;
+        if (pos.line() == lineNum) { startIndAt = pos.column(); }
+        if (pos.endLine() == lineNum) { stopIndAt = pos.endColumn() - 1; }
+        if (stopIndAt < startIndAt) { stopIndAt = startIndAt; }
+        if (pos.endColumn() == Position.UNKNOWN || pos.endColumn() == Position.END_UNUSED) { stopIndAt = startIndAt; }
+        for (; i <= stopIndAt; i++) {
+            char c = '-';
+            if (i < startIndAt) { c = ' '; }
+            if (i < s.length() && s.charAt(i) == '\t') { c = '\t'; }
+            if (i == startIndAt && pos.line() == lineNum) { c = '^'; }
+            if (i == stopIndAt && pos.endLine() == lineNum) { c = '^'; }
+            err.print(c);
+        }
+        err.println();
+    }
+    
+    @Override
+    public void flush() {
+        if (!flushed) { if (errorCount() > 0) { err.println(errorCount() + " error" + (errorCount() > 1 ? "s." : ".")); } }
+        super.flush();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[aX#j*^Xv`78;t2FrHKZXEKPf0DfKF%LKq]<HZ8@NE[;gTpy+Xd5r4Jq$Q12DWyHd7,tbb:^bV<>1=1jMgC2v>ebXgWl/x$GSTAaZG^Wi0HW_9su2&VRPZ,9[6vrVGk&*9qN9C8he(7+fb;w?V,@2.g+>O@1VSMviPXseAk^^7Dq)vU^;*CvIc`u,0W5JEO1V7M:85xpgs-DY6^M(uuX9,iC4p1t0(d16<RS3*UTLOM1Bhc*RMttjYtPjq;70nm3Letv<QO0^jnq8S^K.<8;:w/^99)_WN-gR;9CAku&DCaFUV#:MNY4,D8F)NK)k[63EKDE@LR5U8%`hPj3c]T+?;qp8m$U#T,Sp6^l@?VSmBQ0yI6h,%rB[oc<t5KYQlDEY+v<XF/gRPisJEL3[gg,N/_(6K1^L:p+,5(NkUWXOYHG#k2:YO+;G*?ZZSUfA/BKFmGeq6/Ug4gFS/W]ivd/e1C5w^6J+&f`q,R<k][Vm:Q3JL8V7QKA@h<l/,6j,jq21Y0#:DuJDM=Ok?RnVH$,80r=+g$Jtav^hIZB0=EJq4oRc&xKCa[a?keD*3>.@dDn.e^k+jijcMNk(3$g(+p]]-+B[8qHX[%m6_LW]I*O=SSD*g$-n&DC.:9<Dr@,K:KQ0#;sqJ]Yt<Lnhxv&yTF`_d8yQeO-XG_7W()QRg4/U(bhy?.PgdP9^rPfEtol1:8roIQt(mrX:#Ptbg.E7aviNBI0F@7+JlKNu613oKX9FS>)wU.>(LO457SRCVsie^<nTMZFhYQ>2+S_>gZ/Hv?)m1lCq4i[o*4If.vn+SXnEuXCM9tX+nTD)99W^[MZD_a1X>svku[K.hPS]A*WK[XyL;>b[*yX`@rL/`xSlWHUSN^LNvE4i:WYire0f3got7bw1B-qEP99E0n6wb-s-Rym0Xvn;FVLoo>,j,Avx7J=@sWOq36,7+c?jk)i]Rol.PdFZypv))(6Yq?/O:1ND9/BA%fhq]$x@;ud&H@V3v_AQE@vB;Ki_LNulV0r/H?x3ICXc(l75l,DI;cUZCYn4F6YAKG=b3vuwya^bP;L..v<23nfT>ha0`*(;HZ5H3LB=a6UEWKCH=]<^khn#_WT(.<a?m2QDQ+;.ovu&(;gTOMw]++,9/[>.c=i3[Q=?Nw/M^LtZX@BD.`aNv=H(eFd*CMD$Wx2@3S0bhVZXc=i=K/Stw,ly4ePJhujc,A.x7/I(oJ5FEy7rrorldS@-]>DeZAon]sN[vhNr%9<afB$l,P2=4j+cCj5)W9S2R.&WY`d<$65,C#-?Do`B.[T+V:S;d5hspi($n#>mpa8(trGB_KZX;LPc59EJn;j%G`PFDI,IQw^*W/uqVH4jKl(Ux^y@Is9.T5D[7qpb:=5TiDSms2r=fW4=Pii5*X?p8NJhAqVUbNb9*5lk>0LGCi@7C>/cSnsWWHU4/D2OfK;6E6ip1(y3?N96DO7u*I`1pG%VJ*tekckWTlLdZis_TJa3%4Ju`=RQk=7>_a5M^ME>.k9mL(#(3V@jc6#v*NsQ%<U52FutvedHs&pkGv*%shqZ(><FIU:N8onDqar,t:XP=XV$=Z.PmBjta+7iq0++y2nR,a^FXcW7?)Q0rTc,Zo>$x^gIba9,.1[+.uZYB,5ngZT]&+OtOLO*mq[8][8#X.NosKSM(Ihy?1jhB$k)m+J,Vb_RDdRsnsk]BuVM<a5+2ne9$=QePQIX%9R)Zwj#flPh4utvv;q:lKV4VJH*O@#4hXFF64K(IWIot9#?9b,g#+MU<m[O/bk2:6g?LseiNRMvU0Yi2fQ9XpLl#s>%TI[baKG2%3-)rBKrt3<jZwC`8Q52gTcMV.5^L3>fkct9H)1F&rAeU8coa(^,IT_Vl+=%qDAkgOK@igJO@Ip0qrcaA-5X`<2#bJ:MV6_^PrDf=J;yY55&,bY7Is)@oA*wC53Uk=045B*3;#Q-N<v05kpb[@<)8UYC5jE.HjqMBZHr/&SiuX=$uWjYpZl8J&SojW2`ToUC?Kb%^/Z5mvyyZSs=E8trvk<h.J+26>+QqSASyHn`WusTO(Vp&n8(WT^bXorNlfRfXIKA9`v4*?RT][Y.Ss9Pj7GVbVc6Q_rumY77.j%76hEvZuiq=F&*U.O-hN_MbMNx8*N&,N[/[b9%H<Mx4YI3jIp>_)a@w]bYDL8XbA?%QptQ0<q2%;n4=gKb^BQx.Tr;BDdH_Bb447yhZZ_A3dI<B)_BACoPG6=&u.1-Mklk6l(:`Mj50IwA12:hepit/HZU6&bWl1PX2FA-Zg$Dvor@XJjKAPCEg]8c:80nO1UyNA#*Mef:A[A5Rh0JOU+_c+b5_lfK_Au(T;nvDP25H493lmW&?,:&A5mQulclgV:GbDhgjT`Ax3/,gajvn954CXih)4OWOO3bIhEq=H+&yydL1S<vK?Zfb>@gv#3kkPec#/6mpAE(wRdr3Frqv](HZ4SNVV5^?R89^V8ecTU=v8/Xx+SwIUcxhSy/33*KeD&.3ONw2P)jC.]mgxPcXbX3DBmfZuadoA3Qr])mYlGJXiyoYwmXnw9`@ks#J8]voYwVp%7/u6N25lPK3=&VZ/VmWNZgBj<=eN;c,fY=d0^4+>VHI-e<gws2Fu)d/`)i2JeY,7k1msV6aE>j]ar76CO,Hf.V0[CltDd5l@b[,Gj-;pN_K>qS^t*S0YvwkW2f<Oge$T8r0dl*qZluS2mcC6Qql.EN1CLiMG8Fd*]=haD7wJSY%uNsU$d,Ag+yEoK4)4go7`%uMLOf*qDlnLsGY+$ieLdj$mJ9+?JZe_1F4%<+8OimhSGs49J%XU_bR@2BjF$.+a&91n3MkX5pq86#snS`]HE;xpfQ[r%pekGS_[+]%.35n^IuQyGG1Y`/I*m-dv6DHXF?RimLSXt+b^JM6";
+}
@@ -0,0 +1,108 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class StreamingCodeWriter extends OptimalCodeWriter {
+    protected SearchState state;
+    protected List<BlockItem> outBlocks = new ArrayList<>();
+    protected List<Integer> outMargins = new ArrayList<>();
+    protected int outLmargin;
+    protected int outPos;
+    
+    public StreamingCodeWriter(OutputStream o, int width_) { this(new PrintWriter(new OutputStreamWriter(o)), width_); }
+    
+    public StreamingCodeWriter(PrintWriter o, int width_) { super(o, width_); }
+    
+    public StreamingCodeWriter(Writer o, int width_) { this(new PrintWriter(o), width_); }
+    
+    @Override
+    public void newline(int n, int level) {
+        Newline nl = new Newline(n, level);
+        current.add(nl);
+        sendSegment(nl, true);
+        current.first = (current.last = null);
+        for (BlockItem b : blockStack) { b.first = b.last; }
+    }
+    
+    @Override
+    public boolean flush(boolean format)
+          throws IOException {
+        if (!blockStack.isEmpty()) throw new InternalCompilerError("Mismatched blocks");
+        sendSegment(null, format);
+        output.flush();
+        current = (input = new BlockItem(0));
+        state = null;
+        outBlocks.clear();
+        outMargins.clear();
+        outLmargin = (outPos = 0);
+        return true;
+    }
+    
+    protected void sendSegment(OCItem stop, boolean format) {
+        OCItem first;
+        if (outBlocks.isEmpty()) first = input; else first = outBlocks.get(outBlocks.size() - 1).first;
+        Map<AllowBreak,Boolean> brkAssignment;
+        if (format) {
+            SearchState s = state;
+            OCItem cur = first;
+            if (s == null) {
+                s = new SearchState(0, width, 0, 0, 0, 0, Integer.MAX_VALUE, Integer.MAX_VALUE);
+            } else {
+                s.forward = true;
+                s.findminovf = false;
+                s.prevBreak = null;
+                s.it = null;
+                s.brkAssignment = new LinkedHashMap<>();
+                s.afterBrkAssignment = ConsList.empty();
+                while (cur == null && !s.blks.isEmpty()) { cur = s.popBlock().next; }
+            }
+            if (cur != null) OCItem.format(cur, s, stop);
+            brkAssignment = s.brkAssignment;
+            state = s;
+        } else
+            brkAssignment = Collections.emptyMap();
+        sendOutput(first, stop, brkAssignment);
+    }
+    
+    protected void sendOutput(OCItem it, OCItem stop, Map<AllowBreak,Boolean> brkAssignment) {
+        int lmargin = outLmargin;
+        int pos = outPos;
+        OCItem cur = it;
+        while (true) {
+            if (cur == null) {
+                if (outBlocks.isEmpty()) break;
+                int last = outBlocks.size() - 1;
+                cur = outBlocks.remove(last).next;
+                lmargin = outMargins.remove(last);
+                continue;
+            }
+            if (cur instanceof BlockItem) {
+                BlockItem b = (BlockItem) cur;
+                outBlocks.add(b);
+                outMargins.add(lmargin);
+                lmargin = pos + b.indent;
+                cur = b.first;
+                continue;
+            }
+            pos = cur.sendOutput(output, lmargin, pos, brkAssignment);
+            if (cur == stop) break;
+            cur = cur.next;
+        }
+        outLmargin = lmargin;
+        outPos = pos;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792334358353L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_5EHm?Uts[jGn=qT*V)n90H)G+=D,B.Khuwii[/Uk?e%<l3i%:JC%[`LM:+<avyn:?B[^W$G8-=Tpuo>DqiK^#r$vnCBvCd4l4Q%T6dGp-2^%*(9**oLJ_*^b)1GPWW_$OVseB`oSQU#LKXMnr*IO&C0K]i<tL[Lf/[/c*8%bAJy<h<>89Y3ZqLM[8vZMT<fr27+ZRARkjITOB_^_jhVF8L;_]6AZ_[?yZ]jQQWyrW=)kCC*^wERdcb+PCsxpOvQ48xP&u^6/-&XUhWL.C]/xVCG%wj_ZeCKWIjZ/$QV4@)5,e[kjEp$sT):=80F-MkURy_G-U`4&F&YdVB#)//LJ<;Q[M1ny6Vd976VDx*hAFxra7E51$7>0n-#G5QDHbY(iNPG>:@gFB,Z/Dx4.yLcG0:f?PKGmJ)^I%M<l.x&^Em%Gg`8%wlcVQdRIki5$`P@fEi,U4(p:,J&)w[ad]Fda+&n-ZaFkN/Z-E7Q>T=eH3-]l,6$QceRSccsvaeyY9,x)Fd#-X,6o,g(g1XQguM8p*IS9JPRjRR634*kP`i5^j+S4q#1>=c3](O_rJFq%c-`s*`;[(Me()E%lqayu9A65Nk,198a=mkTbX5Fk<q8JO8-:5fAF%/$#jgvuBe6dVVn#Ty:6Vii4Gk]nOc+2RWVo(i=Ru$#y_pa1XuFYK*E=$U4/1_nhgw&7TjU>LtYrvVjA<j74]Kp+wAvRa5$o+Hv,5cEbu0c&<ce7M*&bkj(J&_y$0;LCqhQpRGJ0DyY7SCX`wWI36TS@CW,%yv3hFug,Lc3`bQ0q1m9:Oe-XS*m^/*vtXA9oji@1)(s4Tb$J>L.MOEOuS2q9=c`QXbZlCNWsdJuQ$BoE5G^`+MUxrr$BD78v[Il/B3MPUbE(.KJ>+dVm#/IEjB&a8i;I;L9M7u<Zy=WWb..16F?GF6&-#Wb`m0LSZy$_+1_=*krQ,y+(P.S(WC@Ab*ci@(%/*C[2vVl%KTJFU($AOWW2,h8o;>w3]BOe^YCys6Coh:P)fG2`y$pFr.cewq2mGG+f1yGGNN/7%P(e7vFlJ?kZxCytywQd5BN7C_>:ZA)sGHi@1q/VhNo+M,y]EDcX:o[]q-J:%G640DLA,3C2oE.7b<rvVIjr+<-&bh?Y>c(n)ILNSe[xQ6fnc_SKM?bS?q6S=bgXLosyu<k^r:HjoOyQ1<r_ygsfSiLwA(Xt@ssDLZA^/JOFX?-8VV2Udy@d:=^I5U&5D0okc/<IZb)<vtjH:kH3v8#(_5Fk<=Y75GD)l97mew*0%8i74oPXLrII)0K,x_M4TS9*X+OR;lN4oA8cr;SKdi<5HfL<4:2Vi<yGER<W>VB;MqR?FBc+<u9uLHFjcu:#y[UoF6;hO)cT/$A34<S-v;u]9jVl:kx7EkT^7-MG1CM5Ib^QFRoE8_@nRj17<wbV7KOc*X?NY6U43$Ss>VWyEWl-#*jZS4e`?F(5Zm+QI@CGe51KFQm,rRBmS$Gamv9MC<t;oCp)S<abPcecqZY+?K$lmR&/_y7i&6uEA_SFt%OBNKm7:iKt+2]/2JG:kni$Fb#XV(S:5I[Sn9ugGB<b0SV_55Wt2OICs@[ctLx0+Zo=`5@ttH6mtp-*7XPt9OUyiqEFv8A(enc;,GvPS:/O9bW=YFxRabR=S3#nElP75r??[Wl7<e-JaRo)a)j@@h8O4)laR3DD1Y3v4nC0i/Z/(Q)nTR]Z3mD-<.I_@HLlx]L*Ij7libRugrZ]$G.U.HQ1m(Fvc$SyA<l:aAcli7d&T)Mc.daS6@=(t&q/Je?-Zynu00iTc`Du(@Y/$XPV?Py.rdXG7LpG4W%otr+o6)r@(qF7[hjvd,jVS=aUYOt`WHbWe7NHUqVuVwy*8G#b[uICd]w/)-(BLrVocA;j=[O57$U3d/.G(9CpeU,xk3^FN?B0Up4nIRHWvE#eU@h:7mEN]icc-dTfkTp/Tr<5?3ohn31$t?xF(G5/NjJ7JDcYf5a>-Y%s[alYyRT145uE?X7Rt,HK9dxa]]3Lb3o%@Dui-K9?kQmx3q=$sr@9$]/0W8)#S`:rB(1vS([&Akx/t0SN7OHIFG&,aU=89Xy;0Pc`S$(Ua]lYTlc#9I28`r8QcNnP+E&NjnJ%^m0.jw.n[mnFfX@_lfId0(m*[vY>^w6P&(+t>cZ@8Z3M8IbvbA0_s%s&7?^:9A*WXB4rFP&CmbfBi^g>)-57,`L7FyOPr[n[?2_9YHHE3RFC69B$6.n8T3%9a]gY`qc;bq0::V`<;_`CDK2D7MuN6@;Q&@;J[q5WLjCrgPtJm<DBu@/fBVN#?pI&loZ+^_ISeZoeGr,)rV0A4O;L9e?yoDpn`]>.S0gv;I4so*]pefx<sL(nbN2$C+_E<7-*BBm<_*$RJF`][N0wZ8CT6Kf[qmSKlJDs44(g`rKrR(Y9X2Nlb9?7Lg^uKN$97M0%lWm9]W5WOg6I[(MDNhZXm3T78gJWNOqnlDRH$1.PSS`1Z79f6a4&n0s/%DYw@[QA=FeeC6=$Ix,$#svGRBghd:C-9[;4SH92S_xV$6KJ_B.IOU))A4Up-_$h>)O4vC.FM[8*Y5b1WegtwGJSd$fWu-Qm`Xo/^JW@ra%w.DeJn]X#rB4>.WAChooE)9`sm(sCdsX>tc9O*ZsNg+06]NMI/JWNA5dANq^@y6/GfHa7^:UJ%@^TmTA%(-HVxL+gcq@vY^N80HTtG81oHK*;l2,gZEp[NyTpsP9mBCp/vw,I7C1VIjr9oU$iaA/fc)Y5Y44ef[@+oqVv9@QTK-e_:K(<:nT3oK0*gTx]QtlqMap=XC6oTePP.kta<v<1:J.h$+-O3_6PeEOAK%,dG_Fwf?ioS+.X]`D<+^mNdOMJ$b;g7bFnMAfD^r$k2=t`5`MOgaI<#<erUK:4x,v^[n&1VQ3r:Crf6(aBnj=.U`r>02-iU/o#Hl&%AVhKUcRXG./Usd?bXwPyRh=;+PCbGJgHPpG#:sXtK2,.mZDOkG)UoMO9?@YP]9BTUogpGrPY:M[OS#Y%<j$cFO>/vf2uisK3M:V6i?v`9L/8%u/UK1:)WZ3eb*[qy2I53k(_-JmMNOhx$Ck>^xFy1*,>5yXbXCfjHp>OlVQSj`oOiu$bn,LGcIEibY-&rir5m2]y[e`<7T]aXXc9EwO/<bTiGAC&@GAf?C(s+.aZ@rKlN2*F4VHbSjD:q;tdh53<%?]NcZL8pf/OFD%TuV*(SO[Wq2wDGKj;K;QDL[b%j4b_sB5%X]EpOYU%2d;0v`KsOg@<5J(u])gl(qlyDCs*AZ$69^0;QR;?g3C95j07xcY[X8[d8ncP__1/[(rCZ=WG7ZAjw6,b6kt8#1g+lO3o775#5.Q?Z@5$(#YYsC<MjjTTT9w;toroWTt@Luy7R=`Sqy+T(Y`M4fTxwUf:1=Z<K/k4(r7eO#:O)UjrQ8Ru(5#q%].S1=9$bmr^FxNDT`a1Ivk.q@BC=&-ujJcZPI/16Y`w<4]+MC=(R0ETanICmB-rqt#56sE#uHr42Y0YfQ]bh`GZXo/3I$VB4D.`0g=uBHMLND=B?5Z;Lk8_h*Qj87e5IKYB9N(M0LNYE;x>Pka9oifa=J";
+}
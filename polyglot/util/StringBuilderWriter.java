@@ -0,0 +1,35 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.io.Writer;
+
+public class StringBuilderWriter extends Writer {
+    private final StringBuilder builder = new StringBuilder();
+    
+    @Override
+    public void close()
+          throws IOException {
+        
+    }
+    
+    @Override
+    public void flush()
+          throws IOException {
+        
+    }
+    
+    @Override
+    public void write(char[] cbuf, int off, int len)
+          throws IOException {
+        builder.append(cbuf, off, len);
+    }
+    
+    public StringBuilder getBuilder() { return builder; }
+    
+    public StringBuilderWriter() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<1gp-+Oq@755hxE37Isd+@fqG=6FWSfrPqNN+BoJ)Xr+kRX<#^il4dkOS8K^WGj/Alp0>Zd]RE&IlFWdblQA)bqMM?msA]Q$C::.jMG_Uk2Zm&9d@?%9fb7L/H2br*6DA6/-(#E*.Kgr/,:=7e5pf@[Oa9h.*B]?J0>WC1Dq:_T&B[=f3;`M+tZ/@y>OG00L6a]udjY`c)y)WB)s^;fIN:/)-Oo/g<hs_Bo+16bKbF/n+,3[%.KGheZfFU^M20YSsB%dIAG=D?Gu>RgIp`NdrB<#%9/RNkc<=&DaY$TKtoA9LP9GTsq`^vP;22>-CG$%ITHp1KSD+ND9Rh=pJDMMSlvLC&8^;qGD#3N=ji?4)Mvk=%Gsq]y,07^pvF@$wo,p,*scSUQ)3(iZmfVi3s(b0ux1M>mx&nP[-Gx@xFxt;P$h[j4Cvl5pRm3KFis9h8Hh94]q2x<1Qx<6ZK/0Zk#QkT_B1M&_^l7(*6Pu3j+H*i34iUXlG5KiuSY],dt7n&`8W5:t2p=:<.+;(&5:3JK1KP)nwpE^n`OjhhrW;RaAx`X<A$x7w[c*+eFTNpQ]?E[N+?C8VBSSNtThV]]5%daE(c@FR:-bu9;JQ:Fk`q1aaOx2M/@HP$a:U58ut&91mHSw#c_[1p4&lC1FSOCb8+:giU3[Y35h%@V*9AFElgl>RQQhEAxf)b/mkl9S^Rl[iDv.GOWED(j`lDYU*]un@SU<mekm7VG[7@OT:u(@25V-R)[?9Ue5$tUXrZt0r:+vXd,-=:W7d5Qf]R@WF7#brG=Bb?2c?chl^PFXj0>DiQ6bC2oT6UIDZO_1tB/%lC8?Tu3Wu%N_hi,,Z8?VXl_b8J>;_,NZ3VXO;kw+&0VSK8q(<_J63Pw:Htqc&N-4m%Yt=P_[d^a<l&Af^LUse??>I#6d=t]^lb3M5tUMx+6N[sA9QY)omviW;3p(y27J`4*xHmK$@EuJO1x(0lN?8*[WIVp<QKe7H.y(so$O,tkvF+s(#ZyjYb?PDJS(LWP&Bq&Z[5)g;6Ymhf@xiUCKe*>,e#Wd6y@NZj$H46nD`6#PbbElk>7@ZIha-OAF%Ts]HQ<3K]*g8;l+yp.`@Et8U&a;,R=xo]xg^UWi3;SH-A5DS,?48S/Z+w>oQ`RtiHNbYIA>bqUNj9W*DO(D@Z]?n^i9IKhb%r4%IyL9w9HC)w9@Xe*Aw_ay,4r]nVyy%2E^k_4j4rKRGC[<-wx%5C3w&a,w.(q-en$BBxo`Us*`/(&(+_`AqXUGJ3W8r>J-U../g7Gyf8XZc%==j@D2)WaG-+GCoAM9n`LBCqrQ,17,,in#qMRv_]HgpR25-jh.$4Nf7SDADlb&,s%p46YP5.bXM8D)N.C^g_[i/RjIbpVCcKr6iG]p-huSFTV+r1.qG=i^*9a_HwO`*.II;,kc^K-,`=54dIg:9e-<=wL)L$6v8A,Y,y#]?lC9Z,]bJw2uinRA*L[X.#8i1LJ+Yk#HhI9aCXTkW#*:4i:x(URDY)Qcs9Z_RXwCn%^+mIEO7i$t3Ko0H#d94+@7U99udi56m=UHmq652)2y?oA-gUrfRD>s2/g^LhRZE/W0AW>lmv4)l-]Np,p2rI2nd@0/T6bk/]8LL86i&y>w#_ISgVBiDd[v,bmrZ$dS5#3`K;$*<a#]D,M]DY,Eb`-UugkJ3uP1tJ4M7-Ka5q^9ZKnK3>8h;DYkwGJ2liEN5;qAfp,+j>mGilQ,fv7vo+i1gQXTQd?7)?f`)9]uEU)G(EGiae)K;xjSK?ia7%V)UVn[Ku3lg0_MwY(8:Bg8TfIHN^^h)/ul/#n9$:dp`KsWD.DgmWa(n$Lm(=[^>5L2]nvP>5L1*:4hBkqZRn4j@n(j8QXoy8pc7J*mFYKmv<<B2n2EEQ1tg]R@f>J9POq@tPwju;9Be:6-FKeXioAjXwKvC7D5Zc_7TOxp8YqFU]6p<[nxr`>1GlR^r$8<0`@9R)9LLZS:s@#06JLq0LVATAQVgt@GR.UMDj&8O?9-#$o:J:/4_FNM>q0f330J8oN-tu4L]neTgNZniF&_imcYvCIOptS:pWJ1x7L1F0_be;9+S&VnWh]IS$`5S4#0fJsL0O$$PGZW>xNW#2Xod/w4j9YoMu[PCMH>AFj.<S:v^LpGkw5[:sw^ouRIv)#Fscn/)Ynx<*ouOxcePRq(?U$$mPhnOpyCq:r*nf3i7a^AIM+nTU1nOR/brQuM1MwvU$X*l-AHT_JK/N4i]#scnMtIZmb)rNI/tS_pL;4&yb$WRD8v#86<3f+11Pv/b9W):fxLd+1$G3xM4Jhd5]R7eHSq?W).(/=dSrjIklAXjc^,t5^cj4K.iI*mbxKyyRmtXp^j?Ck/Ia&-n,kWBS#uUM.[li9;<Vpeh9n/xbs;fjYZr^A%tUKLqm3VKGV7$1AY#q*N,vDg/Fvkihf#i1W(&070F<jMG[+ND4$iP;__;p/aWOt)YF-_mZntaUs7R1Z8MFG@vpE8[a7P>8<f3Qjk*to^g=U4ZY7^b`%&#8cPf3c^>yb.?3T:]P0Y2K<L<C1y`?r?+f2*kB<:6@9EJrNMo]W7Cs<rC;Z.k]tjm;K8LCw2)NfH*J-F&b4J.qRy>dIH4jC`Voy#TEG$SD`M8HjFU(p+.@anPiH,nP8vkKEQAqwu(L/<nU_Jxk+i^U8;T*>Kv9rvfCH^>ZvFJttNlb+4t+b4p<u?t8oow=QLgvq.uBa>p)3%uf:-n@COdA=]5Rr_]pj?JIw1O$f^thLkvc$]CaloX[VAntY_FV,r$eLeNx4N<-op[s4^HU3[6uagB%+XiOgd:U;^e]lg2G_]aEVM>oQ[vf%Dd:C.7A$Fp3H/2g@&Ui6YFk[o<*Nukjwb0vHj";
+}
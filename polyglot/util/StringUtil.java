@@ -0,0 +1,105 @@
+package polyglot.util;
+
+public class StringUtil {
+    public static String getPackageComponent(String fullName) {
+        int lastDot = fullName.lastIndexOf('.');
+        return lastDot >= 0 ? fullName.substring(0, lastDot) : "";
+    }
+    
+    public static String getShortNameComponent(String fullName) {
+        int lastDot = fullName.lastIndexOf('.');
+        return lastDot >= 0 ? fullName.substring(lastDot + 1) : fullName;
+    }
+    
+    public static boolean isNameShort(String name) { return name.indexOf('.') < 0; }
+    
+    public static String getFirstComponent(String fullName) {
+        int firstDot = fullName.indexOf('.');
+        return firstDot >= 0 ? fullName.substring(0, firstDot) : fullName;
+    }
+    
+    public static String removeFirstComponent(String fullName) {
+        int firstDot = fullName.indexOf('.');
+        return firstDot >= 0 ? fullName.substring(firstDot + 1) : "";
+    }
+    
+    public static String escape(String s) { return escape(s, false); }
+    
+    public static String escape(char c) {
+        String t = escape(c, false);
+        if (t != null) return t;
+        return String.valueOf(c);
+    }
+    
+    public static String unicodeEscape(String s) { return escape(s, true); }
+    
+    public static String unicodeEscape(char c) {
+        String t = escape(c, true);
+        if (t != null) return t;
+        return String.valueOf(c);
+    }
+    
+    public static String escape(String s, boolean unicode) {
+        StringBuffer sb = null;
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            String t = escape(c, unicode);
+            if (sb == null && t != null) {
+                sb = new StringBuffer(s.length() + 10);
+                sb.append(s.substring(0, i));
+            }
+            if (sb != null) { if (t != null) { sb.append(t); } else { sb.append(c); } }
+        }
+        if (sb != null) return sb.toString();
+        return s;
+    }
+    
+    private static String escape(char c, boolean unicode) {
+        if (c > 255) {
+            if (unicode) {
+                StringBuffer sb = new StringBuffer(8);
+                sb.append(Integer.toHexString(c));
+                while (sb.length() < 4) sb.insert(0, '0');
+                sb.insert(0, "\\u");
+                return sb.toString();
+            } else {
+                return null;
+            }
+        }
+        switch (c) { case '\b': return "\\b"; case '\t': return "\\t"; case '\n': return "\\n"; case '\f': return "\\f"; case '\r': return "\\r"; case '\"': return "\\\""; case '\'': return "\\\'"; case '\\': return "\\\\"; }
+        if (c >= 32 && c < 127) { return null; }
+        return "\\" + (char) ('0' + c / 64) + (char) ('0' + (c & 63) / 8) + (char) ('0' + (c & 7));
+    }
+    
+    public static String nth(int n) {
+        StringBuffer s = new StringBuffer(String.valueOf(n));
+        if (s.length() > 1) {
+            if (s.charAt(s.length() - 2) == '1') {
+                s.append("th");
+                return s.toString();
+            }
+        }
+        char last = s.charAt(s.length() - 1);
+        switch (last) {
+            case '1':
+                s.append("st");
+                break;
+            case '2':
+                s.append("nd");
+                break;
+            case '3':
+                s.append("rd");
+                break;
+            default:
+                s.append("th");
+        }
+        return s.toString();
+    }
+    
+    public StringUtil() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[ab#i*^Y+8WDO2@kGIq:]UPIT(1WXm;U$5O.k0j#(frmg,UoT.r*3PrKf:MlV=-DA;k=.,8%?=umd+s&;6m[L#min._DCqg;n^K9X8J/EF0uv9i52de?(=pWSbcQ9l#RP,qag$@F&.3CVfcIILg$ZYJR1ICIGV;14D0)ca%i/lQ7)&*Gj3$`2I*W]&2[L?jIDCyp).P>OXL8.n_sNNf:A(duIILM@ipqleY=YBO<po%YHU@992q,qkQ@HV+s_v6?bv?@S`JIhZ)bu=;EU0Q4@BouP`%o%#_*k_P`.S(t7AU?Z$J%vm?_G4g?fQ8eX@:X<4DCj@pHu&1FNoRFnQYvbrFrkJFmcBH9N]k&2O?`4GJ=VB#y^NKUeQ/=a443];Pe=Q[D-/U)&BU9xk.qk?TTpOofexSwN/cR7t(wFObZ>LW%TK9`dLS5JMbWQG]YjKuoNk&8LamXIM+iNU1*hpFqyZC<BWg8lC?f]#X%<Fb40i4cCoC1o9Pl1J4F8.`#DM:nQ4q`g]$2h/J@Eci-D[#blPF>Fybc2)oG]R7jwY$F5G_1-WS#Ax4aL_DEkNSWd-*;;Z.YBO`AMT%`#h%XA:.a8bVUY:LBo02(L2tW<8@5-,3kTW:K9-W`v-94p_^_eBi=ZP-6H]fI2T`Bf5j8t(;wK%^JlhKCC3BMQ*,LiouOoC;9)sI42f1Q>4t(oayY[GUCjrooA]fE/Txb16;7vo:ouFZuFRAH_t%.*_cKYqnB_jGewxlkP?(P`Q1j-j]_p?Q3WNhZE8EYB[IF:UOLZSW&8Uvo77+cjM[4Z.fT,OH7RN;=j*XPJ7#^)>A^@9?$EAUOuL?gb,J)u2ef+NJ9gw*m@3(1M-tPH3^SQbg$Ltf>Q8hM:JY`]FeYaJ.br_6:gpBd,,B9hFcUDEQa+tpMXBhYE5N-M6$=Xb)BvN$3cV:qRL?*j]/,64Ta:6gI@*o)k(1`7Y6(*TUbV_l:_FRc6Rl+GMTW^_,W;$fmyFZQUsiVSyPaC40L[Gw6CjvhUVaD7JYBQ>a0,9dX)m49>@K]VZ<sUc%*Kr7Bh]sW*j4B4)xwLcyQy2PSJ&k4b%;ODd,=DV2RCPlZ/qf)@)B9Tmdma9#k3HOI;3in(3T$13SCEYE)QXv$UL)DVk#Z;,7uym1]<8&[<Dl>B^+Yq18]Y>rvD$ldj%DQ5MnlhXOZt@cktI.]y@r[@Gm:kPNTYldL(;R&:ehbqGWNWy[3W*2n=W%(:ci#?eNpG@;UpaqNQNWEh#viwopv]/R1]<C]stn_)`u+8w/L8UQtg<ybw]/(-#qK)[?rNZ]iAMb5^Pcle_*2^bFU6bq`sme<F[i6@IF&BSR_*,1bfj7[&Plj+_4w;$r]]63Zp?-YLlv:p39.$cOrGqI7o.6J50w-,]]Kv]J#4,ne>:mV6g8rN(am?Eb32@OoBS7HJp?[lk3R-ifqEs-t1..#RuMx6b/J-/Jdl*76$LE0lf&;6%qME>Sc[A$*:Q,W]gePSP;$y:d+QY^Gl,&[aIW*pVPY-<>IY[<1T?HPGW-^O;<fm>@&JCF$dM/_Y>aBaRSBR)(2<hV>cr=5e_m<Dd2ODYepb<Helli6?uSsO>m$#TYp_LW?p5$Jv0?fqE:mW(wk%y49#;AfJyS&Xg2iEB>jf>9;pL0#Wnbv36QoN#o7dd:C#E33uAQoad35cF8F8-LA?T;9u%>8][?=U`WoYMRSM4Xpt`O:?ErLJjelqF-SrUU@^);8Xi%nd@[iVc=]ILGi]K*=Hq`vp:.#50Gj+iAEK]4FxkM1KDbb7FQk`)GKiUUcWRh/o[0heG8PZp2YMn:/qb?Xle+P]X_fw;F88:>CYvK@i;pqr<q([^ITem:VX(3Acuj#^.4@Hg)@4pX1o#v3SBh[53gIomP4>0Zd.c#fK2CI5kn%5?j;EI8Hf^p6PG2Z-JOX(=2@O][q:4PIpMYCVK];^[U=fx1(s#LFxfw3v%yi/Bbc6SIoI5Ef(Fy2`NO0d6Sfo^vFSHvo++]F2Cf5257Sv:5&[dSgt7S8g%V0>_3VA0/EFkI+tB07oLb4,+Uc1Odk7TpU6(qrdnP.$*AF:yfg5T&Oyb>P-8f6QMFT%&tW>Ot&Tqhhj._42uAX0mW5aoY/N8>7ZGkgWfxU?hvpr;F%u?Shh^3mf,-0P$p(Y6gu:`FplQ+^uR[fAP(eE3#0M109BYJBn#f<Gk/u_4H0J^YTPSPBA#O(J9c>wBT7mk3U<hDh.fqP]Jo9nsfSalW>*lS?H#[n&t@ni/N#9`qk@PEI?/L#A1:shN$U3=L*`K)CbRUfJ+FQ<L^HmN`[q.XiD@&vly/aIoX=oshW&^LC#69y.0I@+wyU7kR;Wc-ee8I4uh=>E1n:nR[uN<v.Q#pUd9VUAxsiEl2Q:/05OHDDAWs]N_v:ek=hlyWCn]@`W=@pICf=`N`xJp1sOW6cfdi(%eXa,_XvRvlnV-pv(jh]E[@mK)2tC*yBLthT%ug@4sF>qgLNb=XL<lQc*.<6R>^4km.Lk$KaRlX@fk2cNq)<,CPM.BDbUroNvog@0EK0=q#f]FiE]rkouDG6Di`P4^uNgXxi=w5uPBUcihw.+Z6E$;w)$Foxe0/_jMy&V`k51?C0LrKy+;d^J<D)qNh+f&YJvF?/-/LRsNhAW.o9mPdr/VN6tBR_]U4c`wB(?-ZR0V9X_;tUMX#?F.M-v3T[@)a=+mh3MV2D%56PPATL?lWXA$V)ANfIlkS^0?WEceUh2Emsj[.taJ+q7]eCCuuh:B-$f/PZml>Bre%po15P^/P,8#gQ;6I-PH<BuBBmfxIeZ9=`LlPx[Zh]1@-uotv2xkani]5Vsq<[.rwh8n#?";
+}
@@ -0,0 +1,170 @@
+package polyglot.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import polyglot.types.Type;
+import polyglot.types.TypeSystem;
+
+public class SubtypeSet implements java.util.Set<Type> {
+    protected List<Type> v;
+    protected TypeSystem ts;
+    protected Type topType;
+    
+    public SubtypeSet(TypeSystem ts) { this(ts.Object()); }
+    
+    public SubtypeSet(Type top) {
+        super();
+        v = new ArrayList<>();
+        this.ts = top.typeSystem();
+        this.topType = top;
+    }
+    
+    public SubtypeSet(SubtypeSet s) {
+        super();
+        v = new ArrayList<>(s.v);
+        ts = s.ts;
+        topType = s.topType;
+    }
+    
+    public SubtypeSet(TypeSystem ts, Collection<? extends Type> c) {
+        this(ts);
+        addAll(c);
+    }
+    
+    public SubtypeSet(Type top, Collection<? extends Type> c) {
+        this(top);
+        addAll(c);
+    }
+    
+    @Override
+    public boolean add(Type type) {
+        if (type == null) { return false; }
+        if (ts.isSubtype(type, topType)) {
+            boolean haveToAdd = true;
+            for (Iterator<Type> i = v.iterator(); i.hasNext(); ) {
+                Type t = i.next();
+                if (ts.descendsFrom(t, type)) { i.remove(); }
+                if (ts.isSubtype(type, t)) {
+                    haveToAdd = false;
+                    break;
+                }
+            }
+            if (haveToAdd) { v.add(type); }
+            return haveToAdd;
+        }
+        throw new InternalCompilerError("Can only add " + topType + "s to the set. Got a " + type);
+    }
+    
+    @Override
+    public boolean addAll(Collection<? extends Type> c) {
+        if (c == null) { return false; }
+        boolean changed = false;
+        for (Type t : c) { changed |= add(t); }
+        return changed;
+    }
+    
+    @Override
+    public void clear() {
+        v.clear();
+    }
+    
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof Type) {
+            Type type = (Type) o;
+            for (Type t : v) { if (ts.isSubtype(type, t)) { return true; } }
+        }
+        return false;
+    }
+    
+    public boolean containsSubtype(Type type) {
+        for (Type t : v) { if (ts.isSubtype(type, t) || ts.isSubtype(t, type)) return true; }
+        return false;
+    }
+    
+    @Override
+    public boolean containsAll(Collection<?> c) {
+        for (Object o : c) { if (!contains(o)) { return false; } }
+        return true;
+    }
+    
+    @Override
+    public boolean isEmpty() {
+        return v.isEmpty();
+    }
+    
+    @Override
+    public Iterator<Type> iterator() {
+        return v.iterator();
+    }
+    
+    @Override
+    public boolean remove(Object o) {
+        Type type = (Type) o;
+        boolean removed = false;
+        for (Iterator<Type> i = v.iterator(); i.hasNext(); ) {
+            Type t = i.next();
+            if (ts.isSubtype(t, type)) {
+                removed = true;
+                i.remove();
+            }
+        }
+        return removed;
+    }
+    
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        boolean changed = false;
+        for (Object o : c) { changed |= remove(o); }
+        return changed;
+    }
+    
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        boolean changed = false;
+        for (ListIterator<Type> itr = v.listIterator(); itr.hasNext(); ) {
+            Type t = itr.next();
+            Type glb = null;
+            for (Object o : c) {
+                if (o instanceof Type) {
+                    Type type = (Type) o;
+                    if (glb == null) { if (ts.isSubtype(type, t)) glb = type; else if (ts.isSubtype(t, type)) glb = t; } else if (ts.isSubtype(type, glb)) glb = type;
+                }
+            }
+            if (glb != t) {
+                changed = true;
+                if (glb == null) itr.remove(); else itr.set(glb);
+                ;
+            }
+        }
+        return changed;
+    }
+    
+    @Override
+    public int size() {
+        return v.size();
+    }
+    
+    @Override
+    public Object[] toArray() {
+        return v.toArray();
+    }
+    
+    @Override
+    public <U> U[] toArray(U[] a) {
+        return v.toArray(a);
+    }
+    
+    @Override
+    public String toString() {
+        return v.toString();
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1ag(<%*`5q&0NJHUO7mB]v#?c2@s>^H9V3Je%qTV`9EoJW0eX0jC#94PU43RX)yt[uNuf@->3/P5?CQk8dY+=^m_J6cEa]r%R.PZT9,hp3>>:nJKOLB771oB$FuBHlgIg:<lUmR?Kj*;JlABC(v31Z>530I5eN,tedPeR6:h]8D?mvZ4+(t=:g-OW#<g&2.4<b&5=cwjq8QGi2V%wpYLDHR$?=`J;Chs/M:1rQr]2mf;Z4#Ick1%8+oTZMVBL)?:M[CY)MV(M7pF/ko,pg5@UP17WM>$#0)A4TZpH.EF?(=CLRWvfbXSBOJkiA7m>S7E?Vn@`dP8`,/:m:[t1NQBsc^+Z#*Oi&xD:DJ_>w$hIqp?Y=GARi+gjSkl0l3nZ5Ls>[07FdiS:6D-R]3P_pX,kPi7JEf:8?=@F+d3qFIM,5XhFH^XY(5jd5)U%4;atL-UmKp3HJf9C]4=i;f*^`1%2K;O7n0S,i<x%ecII0.9y81)haH+cUu#?>$C_]hB&[C`4w1(iq)D##7@O,,X$E.>%-w31V/:UJ>=<0(b_.E*bb[[9b2IKC^ap99vGSg3?I-GdOsPwl%4I&0NrK**rLf>,?tT]1G_T;a7W2F8J,:IKgs15$a9E*6C$uirq>Pnn*A69dQ^=x>-h%QOZwPKTTSr_09IG[K,1OLk%qTt=[BU^v4?o#W9)KTF&DiU&=_n=_)dSu]qs3wW;17wZMZ@inB$Zfo57?fpMe=taPY:[jQ@YYktBi.Y?dAaYkS><P(k8T-2j@j(5]:f1drH1Y)3u,lCQ(NXjdV4,MIL51A:J017Xhs2dHsh,JPMeYK#h/v@=Cf#wuu+.lXLu]de97K$1cBR2quu9BtU)J`7lmGa&16.J%*BM4UbxW`NTU*-=s3kO@KiVPl*E%sM_dH3QA)>;1uM8[Ds<fAVYkBG/Cc>(#dgCZQMe8<810TVchd8K-G>@GM)YHNsuy-9H$$V^UIq%FbFAs[@*(lUL<B-ce)V1QfKXtGG#?-^P6Uk0mZ>#+NBOkte>qn0K,wmgIvYn=;4b)D;kp>tp*+`HyByB5ut1Bk]INVUSe8cj>wgU%9c1E[4n*UQhS5H+OmC,),m(c)+cUthhWP<+87T)#h?XL+[i:e&Ti#6&nj%%UGGQ^n;?t>s7dc+w@eLSyX4#`>`07%<@@G>aB(lnf.B+c>JQ9[a5SIC5a;GUV.$TsUAJm87r:b.+(CfVec`lkSyEEBA#N.;Eeo5lj0eFk/3MHn.L87r(Uy9QEe<H#*U6W,qERm%&Bh>NuUVct<2p7tt#APtp`.e,9fU2`r$Ek0`aNf>Vr.TDel(<RA/G#+0j(%DTXNw5,V(&)ODaY0/-$jh:[K#W9isTLv&Sqq9KGtNJi+E89:k9f^uLTsg-pjVw)(;kj%ft@oyfD?JA@8j21u9ri+@U7UZ5wv*WH8bw5,o,Qj@XgL>p_L)**MXmGmB[-&hkgxQw<LS]]BPdUWfN[S3?d?A%57LhuN+--R6[_fT1qM0VmYp>j+rD<)SPk5]W4hHW@di$)&_oFo#pg]w]Y3jD^]&EmW(;gEsPB?1GKDd#40kr5^itEwKW6uW[Z%R[=/MQyO9vw-3L(Gv[>CQ:SpKBx]dUT*W.rZ:G%d?[S1V48G?dJxORS.$xGcu3:p5riE)j.GHfqqWZCvV[0q(#Bf<nYG$eiRO8r[0f4@Rfdu<?no&f7H?=9yRBKta4Wj-48vJ^Ed;`u`A_PXMv(WeRp-d#cbS4^T`C2bm,,cnWF`]>Abl?E<tu;6Xp$fU=/iJ4CN(dD-Vi%fl@ZC-LC-JM&3bv<q:d1;@T?ercVXRr,F&4g0QD8gO<f;`nqTjYu2/Q8tk6+k-rXt]qvZ_7t.$Qg^j2Zq*KlF)>qB.BI>XL=x<k0WO]kORRx?RI`P*n-F9DM)sBA&lW#e>R:Gw;]fU%MJ-^%g7jE,ui5fw<^nL3M0_3Ie8R$Dp;jEtc`n?g=MfPW[6DZ7K,RBJi>5r;sbfIj,6vJ]Wt>050LG%$%MQTk4KVQPOaH]Yg$N2]uhRqY7UZduI%B`6iTF9Ei$RMW3>h%9e<rnDi`P.`9fXYJv%=>+2^=d[21b?[qeg?m%IR4u,?L98UPLDOddTfYwDxh)=#[V_*gs$Zl<eXHgk1$Y.qAY_0?a5ih`&^FsTeVhY79hYCib),PXmvY(/P2?ie,_,sU:]@_Y]+n#(T6d^eEYp2VOO0gEFtdwh&<pv7]PicmE2;f3W[Ywm(5OlWuIVi2xINV`kZl^7ZJ_yk.==wLSv3X2.H9k%+&X>+cO@EN8:g8Q=k=[:rQK&%p85gipq_1,m424Y?:%_M-TPgs1k6TXCfLlAQGtv.;r;Lf.^tJUaS.tl`o,EC#3C(YbW:snhUW_UZ#g@AL]O?On`KYAo#Z6*U%[_M[wa%r;`uLoA$s#p)#?JDpCs0JIk(KYL%Y8CdJy;(/;%Vv81o=s#+0jTejuQ4@]oWr9B-#p[=#,^#1a1oj_ViJ`F97dKh=Jb,9HC$4W(7[vxKFRo`+>s2?r]_#TNWYA`#))bGZ.Sf$ly-kH.cc37SSED@*)88_YXQ0NItklw`RKwLXgo91oh:oN6dM#Uno6D7r&`MT(W,4w?ffjhsWXAGB@Ld5,Hc7uP8usmThU7a9w,*ImQ6kZ.07Rj(?loegR;Sb-9pZ[V1H6QJ[0y+mPkQn_17&?=wYx8#(@5<m2GLv?O`$Ec/:M9XdDy0ct=/3wnf=sY02$`qUJ-yhoXjjr8W6=4,6D2gK._.r9IPoT&=w6AfU9f]Fs;Hv9r]f:At3h<<.#-wsX2YTPJ.kM`OtFosbQX:)OdZNy(ZtWc=WH3T@Hdb,=84.-$HNaUHqd2:@1XuxnZj(EJIHU(pX:esNmVfidR*?ncn09WA&--<Iuh*nclV+CN6v<GNQ(hwb1u@E&D+^C4R+FPVB2?EI6(maLP:Zj%3Jqq.r(V(?NiYm.rd+*m7ytan#y38u68V2n)=y`-4f)FkPW8Va7LM[J1*U`ndsRBD$Np)+2+g3broED*f3PoJCO00+]A9D6G(.+-Ij&-JKK8oP33fg<KVYwj8vL#2Ip^acwGVrTwmSwSNdlTFe#PUZ.j1%sShGBN$2Nlu`aN631dKG(-q)KL^U,CN?uol.%E]kUxtw7d;[1=*V026fRhX0)SL-o4.Hh:lt7c_4wU-Qgi[/]UGLdf?M6go4_%JKk/;DU;,(-Lv9pgX$AG:uphW0CaSV1/i3.TPPD6B4t@`CT[A:(Q8@HWbE/WNi[5<xA3/W*^2$?=4)5xpCj#r)M7FeKw+5?,3[8c5F1utf&gfWIu(/R1Rpn9R/EFRO@l,)6pWst#mSW(N7=bU$]n6kZVM1oJAom=ZLMZOLn+y4_cL6@^F&tO<@)eH:I]/D%yfy8x;;0y@Fk;Rdf2verO>swli5//oeHW`^r<^s:Gd]d9$CWp^:.EOcLdirH&uaRu9NAK>cVP>FuTJN2sAWi9m;,(WZiDDC?p)B>-@UE#bC1>^HVTR)B9*Dy=tnWF58tBRRKs7$]fo8]i<uCecb1tIRuLP8&L)$kov3rR;<(&UI/sul.6-Rh9e^U6T;ALA7>l.(iDL+OBnH9+(i89Osw5w<mAUbbna]m_$%0ha,oC$j]C-s%)SX;oe-o0C1Dvt%JE./nu>N[UG2`1oiP<NXR=/[Wa0>paStM>Ly?x?^9CW/bt(WmTqEb%s2Yf(=xnj3XSmf/NB#-];/EI23P=;>$3L7;2luY^)sDR3@<r4s2%N@F#D/xh89%&8L%JFVs-_O(pfOD>0AB#w9R^1n=yB.opk[u?6>oPWu?6x2mo[4IG91l*1YV_y:Y_/&ibVf-rbB@m[&m6NV7+CAUFvhEm*K2o7,17@A(M3LVUm6hq876h1O,t_Y1R1VL?6ttb1ZC(K=^g(<s3G6rjn$h8(qGhuB?mZ2p[S+:(r:.6dt:&*f4/tK2jkL&^+fHycPZSwQ>H<P[2Z,aQc@U$HjwgC]%?V#F-TNoxH0+^X?)Ylaj%<6PQXvJiGNOB:cj$;L`J([55rp]P8&di)j_5GLpl#96W<pHC&9AJ/aP/e05MiM`,$$5(qp:xQbgi_=l7OR/j1nD(U3KjQP]PAEu16g1F9T/)WiVb=KYM/=C+/aks)KysBOlgY,5j?topF6ePZ,w5Gut$DJoB<K1g.C/+>),g.%wbdGuk(vnkS2JNc:`U6JtI&:ax@*9xBPAk(luo-g7HR6#b`=WtX(IhwS9-5/P:76jA(+GQJOwGF)X*[(NsyG>J=2W*p4hQXF$oiI`HQKf15CXeU7KDg$x`kR$ORP1,9Xa(Kv#;$FgKfWQeEhwNeJ)8_WCMcE7AMWu.>88A1)T8@Z/XQWSclkr00dL<MiLC[oIfi1b7*U*1&ac`PVTW`w><;(`(fs4f7X?tRwU9<Q(Sda1&?p*FSlmt<)7Al/gACs[/@iOfd&3e,Gh]rs-ts[Dnoln`fDd%7kBl+p";
+}
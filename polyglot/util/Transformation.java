@@ -0,0 +1,12 @@
+package polyglot.util;
+
+public interface Transformation<T, U> {
+    Object NOTHING = new Object();
+    
+    public U transform(T o);
+    
+    String jlc$CompilerVersion$jl7 = "2.7.1";
+    long jlc$SourceLastModified$jl7 = 1540917945000L;
+    String jlc$ClassType$jl7 =
+      "!1_<6vW*^Xv_7<&;_4I?v5N:kJ)NrU)E&?%sPCX*nJ),7wX0v/x<ajWn_q0TI>I:uqhSWZy#Z4k23k<d2-T+Yo*#H<E(>Rg3Ti/^@H;jETd58.f;T)wGy?Y5@xs]&_.l:dO>,4j*$^^D7wat`ZZb&mZS.5+$dFpC+e,YX5tg#[G>CI>75PFC7j>HPKUb:ra:Fs[n[S)<w5_xPHS:0(c/tFJp3;fmCV1L$I_/g5Noasl&*5I?^kP3QDl4r+ajZMf`_:`n1WZHOnXk;q2/Y]R@6Es0Ml)>,=LBnVU(NQRb9$`hFHVog_?OVTcT7-gI5ml]CsHL#O$nX-bk<4l6UKI[8)Wf>mr%/R>%d^o$_l4e/j*UsN/j`#]V[rxw(P(%N(Zu]LqD9;xi;Kub_PSbWZD_e,u??kPTVSp>IA/rEx7;KJq;D5/;or9Zri5:oj<XnSoI-e1TR`r(j2Po=fiRysD>qR3`S.$64`m.jH&7W,i7$.78cVZFP/l$>>ov,RF+uG&;mWj+hDNY#+PD3[AO0)G:3%:gn3G;2,sY%D2^Z,A];E^vNfilKYMnUp<YEk,GO4p4&6F48c3e+KXkbuTGeN0O(TQ[sZ5qAvlvRODWu3i@kpkyp?^X277j6`l[Q?/s<4iE=#fAb4K2>`nWF6[?1To4F6*h.;N33es1sqPl_Y^o?qsBh.?GSa-aeJ3x;lqk=KrdQPd,6u+0[4:wgUZM8pI_jRn0=G3q1lQ%ajxq6?]?Y_B)g0wG?0RLIk#M1vr@tp/R]WtvA)4-72Z#B&Pg?S^F&7PbXaXF7?Q$lp=JTZcinZ4kvm.a5bYQ?3)=p41MD2&5QJUO=jM,g/<O>;U7?x*XY_7jH%RdHtf*u1LrwI#@2yH6TlG-gMD(>wBAHZoR(7jH58GqdvlDWW)@)Y&v&D$s@(]kui-osuK*S`vW^4RNI[5fmgcpldWK;&Hc5jV4</Va:Wr)#d`#VG?39qB%?g2TK0is39UWHPb_-(eX%D<ci6mEQHEHIL]ld4^PZ8XG(,g4xc05UvZ_w8AO%9T^[GoRL+)w&8v:M_x3NlZRj=M1fS0B(m;t&u?tQSCQi^2L47web**;I]4;#v3Olm3kS%:%Bdy]A.81b8hxO]gJG3.GtHV_48LYxIZuFd-eJ(Pk@Ck9X(5hs-M9RUD)$N&LS(Lg#YZ.>,qEwKO%Cc16Xcog6r,(C]$[^C=+uP]h&gvN+a,ApgQ#(BnbDiuH)BUx<YBF.39X5tNOf;;gWl:[PR)SQu>/fYa?bX1qPrOAV;^:_Fxk.I.Y@eMM.dL0&T(`dsQ*XiZ$N?Y1q<m446CB+?yD%7iNqv$k8L#B+S=k_L-cvm#W1>dItDN@a8Y23cgOwVsZUWJBKd1Z93hTLe&%?>7pVe5<8^6=a]<AsRVBQcc@]xsaU$bSlv`-_N7PHMvSH27%2rkxdqh)o-[<7(Qh%yO=,ku[)hO_v(#k$d]srya6KjVHf=:yCsCIrlaPY%7V]WII/g.JYn<T@>O-?3##w6%Z3?T^$GqX1J6^f:u[Aa^r)Q8T&ek)L5R`3@#)lY49XvtvOAcW%k.@I/3aO*2eoNTE.dwwUbO_T%wX0<E56lWd*p&$9M6v;evgjA/,1YA)C5-.)alnm7Qng_Nv^CY4S3:q#ib0)pVieRCEiM$%Mp5jy7dG[g2K3xxi*JXE)O;2G72w?wa0:-Rp=W/@WU<I_/`G#^UqgeXi29g[Q)DWofYC+kClUpPG<1+FYpxTmn>Hv9vNU#XAU,Xngc_6[4;m;Va4&[2rm8avtg6DPZ$s5y%s?1ZGOEvnRB8,L0NB[O]R*%uWoK*fu55HjnKKUZyDOP=oSq3.*F%q4Tc]_11G0vnhLO[%(`,J*F$eMsl^(fDht?iCNH`VbW&XBEF7ANg9fo-3m@hKGwj<+CGg&D540.w?R&1N-h`w,`D.--UycB,tT3.,@-VuU(=MZM0n`-Pn.0,>PVQoT^A=ou?3*1q5%u^[D#9kq_d$Y.Ka`@sVY)aOj^65u/=`jVd3hU+;3NJ)DS2=sdlS^lna_)yFISQ26Mi.Dbp2^n$XDQoH7SAl$47:Dk>7pq$)aXT0o[$;;mp;cAdKDLRWm%d+uU.ZR#pk(7<8OiJPj`HtB[,4VGN9ruwKd2&yWB9U>t_Dt&oD?28897tbuhI>()UlwN(o&_gT%(h93w<>LgPMHsH0We#K*@Yd&Zv21A4&aA(x%f.P4;[jn]Z/fYcrVfPF=bFU=dcb2Ii?-hR9-Ei1It1o>Xg@/(OQQ#BoN+9pF6rmi^EYO2h1sRBE<^7VSqpRj+W=eN9*PUIJ[Vrq.7b^A=Itu,Y(=hTy#S=1XZ);EMwQcZS/X<>ON_SBQ9xE7[<BF^N?Y)Ilq7(;C&vEX^nI&.YURoZ@)ygXr_JRY)?[1E8BbCKZ91@,%2.-8lE=16Z(^vpnZ+fI?2;s<KQg2s-KL-ooa=GDcDQ,#:7MsFyRtO,X0=.-tD>rn0;Vk-NE+kQmTd?Y/P2E00#g6A(C4MbAy>P#:2pG]d=K[$qljo,]6^/*)EnUkYT#O-qJJ];(v3OZw05bk[2FkF;mS8DWtuF1gLG+S`$?Zo^+5brqDgv)(9M7-&2DlTdxw:2,_tL8dLw*1xk87T?j)]E,e.49ZClK$T$WVXZj=pU.tS_6xA,`>KFai_dZ3VLSJC<pD@v)kk`Z>_?[Yc]2@I0Q0.hl^bEdk[G?7#.QaT($.)Q6ItMn4f1f#[p/.<XrG,Z]t-_-]Z5h4dwgxGT33IV,r9t@BJ<CVt#]-t]CC-8fdm?4S?;C)B3U3@1byS<p^]x8^XPq^C?5fc.2,y3djt8rG+J8B?(@+da+>@v4`>n<sTFjrrD_vG,r]Y>F;IZu_5k0TUZsG(/9#/>GeHWgXtBy,co6lW,W-ZKK%3,9?3qvHhT?yZ4/eZyo5RrVsFo@w3,uJ;PikyFCka[@GleG1ku0<F%O;f/bFA3,30?:qZOVEXi+eivqJ@:7dF[Yv[cLi%6.*JX^xQD#s5X[f_Da6RD:X%6_3M^5bD+@+&bv$Fr*uRPv#n>i@C-3CT5;X@m7JLq2q+%O;>qQG/mqxnj9<K)Iph(Rqk(x)gFLb@At7+xkp(>pN&tw4f4D8^BC2GaC8e(uPBVBi*FfETFdb`7J+/5KG/X@b";
+}
@@ -0,0 +1,74 @@
+package polyglot.util;
+
+import java.util.Iterator;
+import java.util.Collection;
+
+public final class TransformingIterator<T, U> implements Iterator<U> {
+    @SuppressWarnings("unchecked") 
+    public TransformingIterator(Iterator<T> iter, Transformation<T,U> trans) {
+        this(new java.util.Iterator[] { iter }, trans);
+    }
+    
+    public TransformingIterator(Collection<Iterator<T>> iters, Transformation<T,U> trans) {
+        super();
+        index = 0;
+        @SuppressWarnings("unchecked") 
+        Iterator<T>[] tmp = new java.util.Iterator[0];
+        backing_iterators = iters.toArray(tmp);
+        transformation = trans;
+        if (backing_iterators.length > 0) current_iter = backing_iterators[0];
+        findNextItem();
+    }
+    
+    public TransformingIterator(Iterator<T>[] iters, Transformation<T,U> trans) {
+        super();
+        index = 0;
+        backing_iterators = iters.clone();
+        transformation = trans;
+        if (iters.length > 0) current_iter = iters[0];
+        findNextItem();
+    }
+    
+    @Override
+    public U next() {
+        U res = next_item;
+        if (res == null) throw new java.util.NoSuchElementException();
+        findNextItem();
+        return res;
+    }
+    
+    @Override
+    public boolean hasNext() {
+        return next_item != null;
+    }
+    
+    @Override
+    public void remove() {
+        throw new UnsupportedOperationException("TransformingIterator.remove");
+    }
+    
+    private void findNextItem() {
+        while (current_iter != null) {
+            inner_loop: while (current_iter.hasNext()) {
+                T o = current_iter.next();
+                U res = transformation.transform(o);
+                if (res == Transformation.NOTHING) continue inner_loop;
+                next_item = res;
+                return;
+            }
+            index++;
+            if (index < backing_iterators.length) { current_iter = backing_iterators[index]; } else { current_iter = null; }
+        }
+        next_item = null;
+    }
+    
+    protected U next_item;
+    protected Iterator<T> current_iter;
+    protected int index;
+    protected Iterator<T>[] backing_iterators;
+    protected Transformation<T,U> transformation;
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1_<?vZ+$I3gt^GGeP0w$%/V;K1fyLUm(E+KC%_V[=8jb:ra(PIr[U.fNJS?I%*J]7C3Pa&e:H)0TU<$470v0`%4XVaL1s?=N(WUO?G2GDNp7lxNEUWUUgW05YJRO:/4g*O+lHF*(tRC]W8D1@wL;[REDD7f?A@PZNq`4W5pXtnM2tmOE[jk7HsG<mcX?0cD^H0B=TE=;p?>8B#5mpN^;e0i%SYg.G0#VfVFKa+LIhwj@Xw@G$Afvqq0PBq^Y2_vP_P=];@$OwI=<&IS5MM7f:ATO%3fAPM:%=QJ^_j#2FB``Q>Iq9rAx+rER^7hLD2-B=G46khD7i>iYRuT)-9UkJ:VrwVE5&f@ok$@v>ABLT^2,q.ZvLAYZAh(+PGk$He?90I3/]xe1CP3SYXbp+hg=x0YJZh(WYdt7f%Wod);DD8>/.CI0B]<%)+=cBjjQNc?TlA4UBlbJIRY:/Z4+w31Q,-_>=*KB[$5iC$_61t1lvZA-3Ih%/u:aSEP$a>(W8;L_X3CWMC&nvq7qIE?R#qi$7Iy8Yf8^YFuuuGG(vo8o`8=$<u+^2:<bbsaQK2O&+HeWoRrHmTvXw5MO#1D-l=83M[>j0BOqqVvR%=<`pv@::CGCo1a[xL6@vV&Ox=%iF2Uh*VBWU`LaJ?g^#F6rC1Qw-D6W4@FT>`M?q4MtL-Si_o/aQ<S31v:b6hEdNtjXtPm4GnHbU>PIP=Rp+E7;DXgZ*Ro3:n,meAm5H?%gL3%1F:uKjFgt8v9X@7;XVXP:&-4,0$E2%g#7eiq3G>I1b&3/wC,DW2cq4w5Jr,aAs^l.-B)t;Fv*bYQ>cbaL83%8@#8X4dt+eZ@wh,4vMy#yO6X[.TPb1g0Qmh6egaYCO3VYQ/yF28uW,*ga(Yfs8#V*O]TgQK7>v+S`%o4>o)t[I>B.#PhqMYT=0Sb1PLni7hvui*$(#KVIy.i0WTZSA46:QB1bI)vHlsV=b7ni(laL.^EJ3ZaOI#_MJfhI/G+ZQ2>%M;M.[XnWn.?5o3_aE%xWbDK29[q5Q8n0YF.b*O[xB>*lG$/Eg*eiN3`N3]Y^oly:WS[oUuY(x+W5hSL7)hucc-X;ETp/TR1Ub<bkg6=]]3t-cDHV0AIk0)@+(M?s.WKxl3)Ni4dP$>I@[<1FHcHPl2-4`G+N&&48Ca=W<gdr5QEmO4=1Je_gbmf8-?q6x1VgxQP7+eObV3be;Nu3-W3I+dr/gHiT&=uSMJ^/n%/npVE]$tUhsCJ]hKuO?M0udGU2#Z^mY(@>PI_c:h()vZa/.5&q_,qD1L6<kZCd1jTk7jk/UdchDCS@lS+*()E*0nejUl6D7%BD2R#Z.o1bY@bT@X1H3RdC4`pGYls:w;DkC-[@2ZefM5Je+R?s8Dc=Nvr4#j_7nNQ,0:k3E*uMgCyZ/+-r0CbWK*Ei3C(30M<5V0/+SgRFs(SDX?Hk@.U:4F6#;GUfS%BDQTX@*b`wkF7/>g,.#IoQ$cn+he@E_iZtNKM4BWJe</:YbH[5hXED31@M*%NQIkO%.mhXc-vZpg&n.UxT),_wtlU2@IAKE>2(1?6C]dTIgf3Llg:=>$an0Y%9tVDN,(n3N;Ou3<yAc0=^e_)iLtqtIK?o%<K%vSePL[Ex6%P`.oj^7m5[EmLI^=9X`N-iiW^JxkM;cO1B8#Cud+T+f-$j]LG1FlgVjNu)4ZPud^WX_cl`itGt.uw,(K.[8osFDl5IFQ[fRN^7hsE7ydtD4L/>C8_BWL0,5q+t<iT-7^l45(fca4_]a4>)sR$8*t_)Y;?i7HZC+0A5Q(Q?R>8,U;I)se/Cgi*lM8jw^/D-^1WnO6Mp<?=vl=iBxFb0[a22L6V]2@W9j-8CTu4_5iLJqm`atQS7oUMXxfxns-C<,kk34shp$VE8u`(Bx@RCUh79.aHL89L^[cKE.iQ0]isChod8tjKU2g7dh25:@+e=]>(tlUcOM-<H(SUbd:bO)N$d;;lM;@20[<j]dDXubKp7_iWoHPi0d&,m4?@*9bxSY2&a;((H$,C[[>0QINP,/4vviCfE-N>s(9#H0+u2v:]LWA;4HNAPvm%x65N5x*5]6*X@m/Fc+E+yWtm)X#),$&&Kht3o2ts5Vr_IM(Fw0)LtrTTO(;@m(.&Qp:rda%U+d#?.1%yvjj[/:Cn2Nni=0hHYuu&>*BM]Yj3Jwt@4C4C2I[HB:,9bQOUFGK#DhS]$a:H3KU44TZL<iWg8V.GW/LwX115iN(4b1qH73I4ID]xt3)LL-#&<RQTfT(G+GAxg/;L)=mO#osvv/f;Bd*gm<pU[VmcM@^)):><E]5T`9u5bU7/wVw%5]Rb>f5v26$I;2aDd<_k>FW8,=ZU?+kY1tt(?)v)+BacKs:`)4Z?&3K)(s,jvPeCH>QaSo3i1ix9`*y5=J[:dHl`OXE_24^c.tk_PAnO3X+^6@j#a+3$y$t+t?;Z[(CN@0uID9?Uq9MP0*2Df&HRBVC=dP;HK.X?B^EqS%U8TXCVennEh$K0j]T2I+UJqDR<$fK@eRyh6>?xDV?/@nA>Hu=/%5dHdUD3@Xgb.)vaKhpo6B6h/3>qrtGv1tu595n.*>2/pB,XU`b.YD6YXm1N&$j<+C-%c4yy&a9^_D?,x4LE4_CB;(?I%Tf5A#RqR@:hH8y4:D98BxWuI%e,UUq];*uW?$$UN5u`6@is#rV>Y^6ixOQkH/HCANn9YcFysO%qwJ>j5(tdB5VtUj-qeytF?ALu3OqVD9EVT%EV0r0,^sw0l-%$Sry,^ni[@akTI,Z/gWQui*ODsRwAJxm:XpUd1Wh0XL$NM>do3K@]y&xZm5+j?.ag.%5C%yDw*BB)&Xp8X@F5R=CE,r#arup;RT>U&&@+IQbxG(4H$bCXbwtmd`eoD`6uUL;hZc`^W>qAgP?,[&9)tQbNMJtE[d(8tJvttQI5GheA4lY/L.hC]@5eidfD+OO=g87L#8b_*YIYeGXx8@O]HtkaCPfWL>vMm=7.;Ba(2*IVV@`km%qI3^4.UB5iH]fxhHs&:gj$&ACY-o^L]PFJ(xfqvDVeU_))KRq8CB5j>>*NLA.I9v6Bp762`C2K0J_9`33gMqk-q/y5Yo14XEvp]CTbYa.I%a=PVfvs#8uCef.[vRrfU1utf5rOW`tVS9=JeJHFJ+8;ORkU3G,+pEh(ybI_+Hy=.8Hm#ZMF7XH,,iUh4d:`bF*>0QX7=x<+?D??Y&+Z2>xweea69sq(miEaM0sv,$XMN7ZWeBtX>KD,0TkNv*ZNu*v@S^xiW3D%X#B%9,,-aS%pEE.&MSaP8xNkUh;y%0ufjbkRjG@R)]K<UM40^&fbEOCBc7#Y+hc=,w(Ag>-_<aa$j7Yi`]@&<;QFZmRs`KQU:[:D@1uf[P0pqOd#fN]mH_.o-wi%+]9B7DZuH.Ws4?5)oD8iM$93?bMCP$9PanyFHk,;w^g*&@]mpW(pe(s@gH/eAnylj#:MyPVByc0hTe-Y$GM3+<EEE$<dA8PhJR4rt]1QpSYyZai8tJ*tHRMN_ZWvJEfnNyAois^w<aPeR1T669sRNq0e?Z85=)/3#3<XgfC0i;>80iY]#//n;HOpyK0MtK1Ll*XwQpM)71V6ih-uF&B]2P?geI%K%KIH&88BZqjSBIYHsr7o6ZC<Q(OM@45f2SaE2MwLD`pWV4j`L*Mcr-#N;WV`g1I5h)-(e5l[)Ze&_6&.?2thG-[fNP%hDNedF.WY2A0Yhr,Y4a8LCT&3[e$,SS05g#uy<k%6oOR3#:ot#LL5ot(/AZgeyHDb#RJg7=/Vf#7]e=9>heGE5EE$Fct3HbhITBvOZFLi=r=Q:Q4b7bug`pW8A@3?8Mf/4f:CD#T+O.MmIWd(g&p$cOq1Fp_)VI5;$WWXco`Oe^[e9w1bCKYeF=[ktb5NA7Hd/jn;uP[P5fq7td37IiGWO&RojS@O2`Z)4S(tTvU,P_PU$VUw3n9wr#hUutBK1JqfuOoDTCKu?LD@-mybIW6oh4#_o.d5?B:ba8%e9ma9v.NMcbY*Fkfso374Tq(n[:Qgr9nN%9";
+}
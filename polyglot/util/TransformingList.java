@@ -0,0 +1,33 @@
+package polyglot.util;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+public class TransformingList<T, U> extends java.util.AbstractList<U> {
+    protected final Transformation<T,U> trans;
+    protected final List<T> underlying;
+    
+    public TransformingList(Collection<? extends T> underlying, Transformation<T,U> trans) { this(new ArrayList<>(underlying), trans); }
+    
+    public TransformingList(List<T> underlying, Transformation<T,U> trans) {
+        super();
+        this.underlying = underlying;
+        this.trans = trans;
+    }
+    
+    @Override
+    public int size() {
+        return underlying.size();
+    }
+    
+    @Override
+    public U get(int index) {
+        return trans.transform(underlying.get(index));
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yoxp*^]CeFrHuvLH+HP$K6gs#cPiq>J`;n#WS+S7k>qFXX]3&t$p7S]hc:5qf(m(.iYpc;F2g,>FZ=D;$l$=M^*@N)#]+QST7ID1YYnNY*a)l^o2-8?&gEN,yDI;lO@;gNc5+3UCEZ@o1QcEF]k,K9:QG:krFc?g99@M/>e4-_dTa>o$bqVRrK#Car41NDAbwu:Qam%d>,*C8LtO.H*scB%$[vQ1)rcdS/aCkZ4lB]4d:QKE@=L4Ey>5-^%1C9)F&W--3#RHjgGD=AfHH[PvhNg#[YbK.n-B6Iy_,9Z2dBuI@3E`PM>H$a4I/:9FQcoUDDDo9oe]gG8&6-,yxbFv:upZ4%W01A)?(Xg^stdL:MGZu_][d[Jlj>;9DhO;?-wGTyO.KZG4o9.RyL6D?M;HeDhpDD@YuM.D<?dl%nM%RJ7LgfmqRp)p-&uZn@N(enp<mV$=6h?Rb[V;T;LLLW?4VC3l.NmXIyPAcG[dC%]>Eot`ss6NZl#S-1^G7BrPGD,%XG$.[IOZE(*9;#SV.<WYcqJL#oP:K=9x1:=AL9L#=t0FM0U1H]k0d<oGT<tjLZLt[n<MqKs%)0ye1p5JQ1*DY%SlbyG/oN=jM-hX7ZY^_qb;OloULlcvCukbWS*`33/>C^kC5$pobn1ymG9@EG/li*Xg+TYq1IcF@/@le+0#hj7x_s+RKOhub<lnZ&,n@@i7:_<ll)qm>0I2MvPio4<m$6_3ED)TAZGN3bJFFdW(7P>b_5>NQ*ZgEHuK;MZ&i#cR`L7`Kx2wrNN<vf4Xpx%J?Xc=_(;]ORB0bBKgjlNY%5DN0FG`/fT=rZXsC7ZmY5,n+lI0uvr,Eoqlb;,R]P_9>pG]<ZnD<l0XMMY&bRqj9EPfy0_LFg*k1<32vYS+(a=nsaW$nD2^(DVLV%a%L[?.[JLIjOx0K<vXx[U?^J/7X#.?eFY$i$q=FeVt9R.PgB$cx6[@RT+Jj:t,my*-&S^[X$#WMKEP_nZN@&FpN6VU(<9CJ>GK3Mj<grcoYVXt]9g:9-NK@,LaZPc3eU=jqatI]RUA<OD/*TnT)./ZlaJ7@,.197w^WKL+uO`?PZ6->CdT$2a.O-<7Pk,>C_nZb?(*VTfcwZvIbCN[&/[FRL&>b+onTc`?TV=5?P0JQaMycUh;[R1dgmD1g8.7AxU^RXx(`f[(ePCi&vWAYA:Z2G[d7itBaG3BIpM_79MB<[v(oQE$T8])TxOVn)DPUuN/A?lo+GT88$T8vVOym#*=v46n<+M=<_O*97me7gO276vh12q&21yf3Kn/&%(bEPk1bNkZQll_]op9m0N5@%(U$7a4,OO<=$w;.[[<q2/Ulk3_LgaEO(l/9kV$lV%>[QeiHJ3w/E5i__&n/QuVZAODrY8m:Q$b1g;S.(UQ3Qp`l?A>6nR.mW,70vcU)2*c@;Dn3&;T8gs1Gnd@75h,,S&UBX%v8abcMSckDv_B2fpuX$siFch1PvFxWQ2q?i6nf9M6*6M)cZ$<Zo=Xrv@,bm9`>nhR*WovR4xKtAP(B8W2b))g4N^DJin:.=sk=K1-<dV%v`1qS,Y5`;MJpuVujYc:@Fc9/(J/+_Y^D@s1,JYC0[A7(ssYS+b>mp1,hgeM>Wls%Uw=/^y:jg[xuL`X#q+vM(:>AM:Aai[-dACj+mO@I>HREe$ew&He(]g3Ag=0%DZAcUfUMbJw_L5m<rNkj.SJ_cV^)3I+.jg0<xlH.i19MwHD]qHLH7/EiwC_Zv39#JImb*:GDnr3W6V6<hd</V^;@omG8nN>x(3fR/o;*MDRIh53piYs]^_-D&V$36>9I3CC/Zv:Qe_5Yk<0:#:7M9;I8DnyF^0;FhGIBu;CBD+>oi2CV1dxQo6spc][7%Y8-[K(H[=$?Z.h&?,G$t]K4Lb4<)Ig1Oq6wChlG@gHTp678%W$FZME$qr3;LZ_IQ6o7G-<Fw=M+fr[4u(Y,(IO.Js9Ek@F=-m=va(6O$Y`qh-xKr;^iWuC3y&3SR4W;425_hPtQIA4+a&&`QLJH&K^+wcCGS3t+y8Rhq<`slecgb&V+]^(lW.@W2>p)l+?P#4@+#YmklR,QF([1Ap@PELLUhhPkaJF(e.rI5mXC;v1sya<*$EmCAZwy;(CP1nl2sam?sRWM+YH/G2*@dW^;U?dijx,kC8K8NE6rrHJ#2;0m]4h1?:l2x3?_1Jq-IqB$NEJ@$g_%l8L:dSoe-]XLb>A6aHXr5#2Xy$5SZgxIAmL#2a,G.MLxQI;:vXEs2#<qomnItBc-jOCJB_ec]ige8vy-al7<XRNtUcc3)rD@iy#bF#0vUmlFWxGbOU`P[ym%`sa0fx_bCL$l7(*$LE(u_6/?d)h(?MUeGASvUp#Y^l=.&j))bVH;f*d/(C1-h-1BG<7rCRI8TChZ.tMIjMtq.nhJqd2J?X;Ac,n]CtY9QE2hQw>q*Ak*-wbxeB7H+B#Ud,sIh_`Hg@%gw8`cSl@31:C6q]FK]2**kaG_MSn-xIJQuO1Akde0KJQ96TtUqqF`6@F5&%U&I-o/;W%WM2[A9`px]^a6@d&HqoWP>,E0>AXM>B]_Aey?L=5h92S+RB*<h8?b_H`->&f5]H]Sa+t(@GXHx0dulr#E0Q#cBOM`CZVLMrYG$ni^3fQFHRk$B2ArS*&ja,(dY1`R@jR1jL+5H+)m+Fw:#Z@7;iDVGU*&N[*Kf(5e6Dn6Kftc1SyK@.wsB+v;JH-QB(vXAc4q$_DhrfedQ6]7ujO>?;%+SD?(`%k([Lpb*EJ)L^HXm7?KuAS[#yFv:t#tmjg^.Dq:a4$n_V.qUsfjXZv#tWAv2?k2in5lA53arti1If@,MhBaS:Ma]5-^+9VR9p<B_?6s%5XJcvkDjNe)jVw%v.CauG`mD#T.+).J7QXOhPHu*@<*&]b3(eVe8C2WT`R_M1t@4QH@BK+A(cf9ogdaALN$X_fqdcQUSj7%Te3byZILk-s);&,RSek*>^,>B:B$V2*Vew@(_fxUWKBLSwc<iYV<[JwE,LA&qwSfaY/_:JsA9m6rOOth/29H;fDvo=(g5m,$WiRSSd<y.X<I-An30*_U&5G<ayO.%`E$Cq6n:D]ejYe&Pu^OE+2TSDyB7@jpa$bYWU=MBJEDoq2.gd4d*c:G^wZcwb>J$7CB65Jhu/v-09K%5O]fnV8*oRHf+2G,_7lvN1C5U4gQt]fPxFK(^jg%K[^Qb6eNTxU;^l1I2l9-A[JKQ-v0cuk._70v(xgjJ?34Hci^^@AE6Jf^`UPILy5ipI`AtglL^rd:[fQN:@PHN)NpMbCa:[R<Kb3;M;WW[B5Y-6U^$01lHl[Eu=g#um*oe6`,X6+q[AoFvPPj-9(Hv@;";
+}
@@ -0,0 +1,167 @@
+package polyglot.util;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+import polyglot.frontend.SchedulerException;
+import polyglot.main.Report;
+import polyglot.types.Named;
+import polyglot.types.TypeObject;
+import polyglot.types.TypeSystem;
+
+public class TypeEncoder {
+    public static final char FORMAT_MARKER = '!';
+    public static final char FORMAT_VERSION = '1';
+    protected static final String DIGITS = "#$%&()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[]^_`" + "abcdefghijklmnopqrstuvwxy";
+    protected static final int[] DIGIT_VALUES = new int[128];
+    
+    static {
+        Arrays.fill(DIGIT_VALUES, -1);
+        for (int i = 0; i < DIGITS.length(); i++) { DIGIT_VALUES[DIGITS.charAt(i)] = i; }
+    }
+    
+    protected TypeSystem ts;
+    protected final boolean zip = true;
+    protected final boolean test = false;
+    protected Map<Object,Object> placeHolderCache;
+    protected int depth;
+    
+    public TypeEncoder(TypeSystem ts) {
+        super();
+        this.ts = ts;
+        this.placeHolderCache = null;
+    }
+    
+    public String encode(TypeObject t) throws IOException {
+        ByteArrayOutputStream baos;
+        if (Report.should_report(Report.serialize, 1)) { Report.report(1, "Encoding type " + t); }
+        baos = new ByteArrayOutputStream();
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try (OutputStream os = zip
+               ? new DeflaterOutputStream(baos, deflater)
+               : baos;
+             ObjectOutputStream oos = new TypeOutputStream(os, ts, t);) {
+            oos.writeObject(t);
+            oos.flush();
+        }
+        finally {
+            deflater.end();
+        }
+        byte[] b = baos.toByteArray();
+        if (Report.should_report(Report.serialize, 2)) { Report.report(2, "Size of serialization (with" + (zip ? "" : "out") + " zipping) is " + b.length + " bytes"); }
+        String s = encodeBytes(b);
+        if (Report.should_report(Report.serialize, 2)) { Report.report(2, "Size of serialization after conversion to string is " + s.length() + " characters"); }
+        if (test) {
+            try {
+                String name = null;
+                if (t instanceof Named) { name = ((Named) t).fullName(); }
+                decode(s, name);
+            }
+            catch (Exception e) {
+                e.printStackTrace();
+                throw new InternalCompilerError("Could not decode back to " + t + ": " + e.getMessage(), e);
+            }
+        }
+        return s;
+    }
+    
+    public TypeObject decode(String s, String name) throws InvalidClassException {
+        Map<Object,Object> oldCache = placeHolderCache;
+        placeHolderCache = new HashMap<>();
+        if (oldCache != null) { placeHolderCache.putAll(oldCache); }
+        if (Report.should_report(Report.serialize, 1)) Report.report(1, "TypeEncoder depth " + depth + " at " + name);
+        depth++;
+        Inflater inflater = null;
+        try {
+            InputStream in;
+            if (isBinaryFormat(s)) {
+                if (s.charAt(1) != FORMAT_VERSION) { throw new InvalidClassException("Unsupported format " + "version of serialized type info: " + s.charAt(1)); }
+                in = new ByteArrayInputStream(decodeBytes(s));
+                if (zip) {
+                    inflater = new Inflater(true);
+                    in = new InflaterInputStream(in, inflater);
+                }
+            } else {
+                in = new ByteArrayInputStream(Base64.decode(s));
+            }
+            try (TypeInputStream ois = ois(in);) {
+                TypeObject o = (TypeObject) ois.readObject();
+                if (ois.deserializationFailed()) return null;
+                return o;
+            }
+        }
+        catch (InvalidClassException e) { throw e; }
+        catch (IOException e) { throw new InternalCompilerError("IOException thrown while " + "decoding serialized type info: " + e.getMessage(), e); }
+        catch (ClassNotFoundException e) { throw new InternalCompilerError("Unable to find one of the classes " + "for the serialized type info: " + e.getMessage(), e); }
+        catch (SchedulerException e) { throw new InternalCompilerError("SchedulerException thrown while " + "decoding serialized type info: " + e.getMessage(), e); }
+        finally {
+            if (inflater != null) inflater.end();
+            placeHolderCache = oldCache;
+            depth--;
+        }
+    }
+    
+    public TypeInputStream ois(InputStream in) throws IOException { return new TypeInputStream(in, ts, placeHolderCache); }
+    
+    public static boolean isBinaryFormat(String s) { return s.length() >= 2 && s.charAt(0) == FORMAT_MARKER; }
+    
+    protected static String encodeBytes(byte[] b) {
+        int groups = b.length / 4;
+        int rest = b.length % 4;
+        StringBuilder sb = new StringBuilder(2 + groups * 5 + (rest == 0 ? 0 : rest + 1));
+        sb.append(FORMAT_MARKER);
+        sb.append(FORMAT_VERSION);
+        char[] digits = new char[5];
+        for (int i = 0; i < b.length; i += 4) {
+            int n = Math.min(4, b.length - i);
+            long v = 0;
+            for (int j = 0; j < 4; j++) { v = v << 8 | (j < n ? b[i + j] & 255 : 0); }
+            for (int j = 4; j >= 0; j--) {
+                digits[j] = DIGITS.charAt((int) (v % 85));
+                v /= 85;
+            }
+            sb.append(digits, 0, n + 1);
+        }
+        return sb.toString();
+    }
+    
+    protected static byte[] decodeBytes(String s) throws InvalidClassException {
+        int chars = s.length() - 2;
+        int groups = chars / 5;
+        int rest = chars % 5;
+        if (rest == 1) { throw new InvalidClassException("Truncated serialized type info"); }
+        byte[] b = new byte[groups * 4 + (rest == 0 ? 0 : rest - 1)];
+        for (int i = 2, k = 0; i < s.length(); i += 5, k += 4) {
+            int n = Math.min(5, s.length() - i);
+            long v = 0;
+            for (int j = 0; j < 5; j++) {
+                int d = 84;
+                if (j < n) {
+                    char c = s.charAt(i + j);
+                    d = c < 128 ? DIGIT_VALUES[c] : -1;
+                    if (d < 0) { throw new InvalidClassException("Bad character in " + "serialized type info: " + c); }
+                }
+                v = v * 85 + d;
+            }
+            if (v > 4294967295L) { throw new InvalidClassException("Bad serialized type info"); }
+            for (int j = 0; j < n - 1; j++) { b[k + j] = (byte) (v >>> 24 - 8 * j); }
+        }
+        return b;
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792332958496L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[Yxxs?:Xk5nvR$)#_?>Q$>L,.lM1_;)i]m3RK<sNCw/AqKalZVt]S8OJH]d[8%>N$%Cu%I68xiqAR-Fo=:9=)_9toCPC`uJ9A:wZ8/NR[M[NyO@UF>UaG)TC)mGNAL#?qwljpk2u<KS+w#g,IIHICYf.j*HFDPrrsSNhru<5`I,rpg7?Orc^m/Ip5+i0LYNyHj8T(#qftO*F-nrAHC8yFW_3L<bUa#1qQcd2Z&Y/lQCQ&I+9esb@QCGR&F01wE((*v0MYY.hB?%=Cwm#4(ubo25em/Am6#H+[TX90hV.[n7074]jI#_u.d&($%#HA&](B)6JWVT%^dRDFB$M8BuBYSHI3puKRiMNPJQb^TyUSw+er;teI:Xabyg.y#KE/2*t*Mk8`J5aESD-=B;Z&KG&Lik6YMd_Nd[Z8@Z%*^%er65(YJ,=fvhj?hD</VMj)Z.d5Z9J1eUfPm9$V=7W[#-Qv=^;,cn;6_Db0mql+bHGPu<+rCENP@>OQNN@0GElkWiC^)I%P&enjrsfPZ1Q`x+9imOh-wCT#5irZ>0=i-^hWR8a(1$+;2W/g*BxUGp[ZC=[.5_RWX@tXtJAMN[AM_F0+E?Kl9biJ-G6EpY-*R?0opXR#QI7ui=qi,Q]Q0bd4o8(:xlk97Ts6A0@Ag&fm`mkgB#h,ZaJQ`g./FHV>x@%@AZG,SF7e`g$XC*G)0S,BZ1Gn+yKMwIsS6%>ERC4rr*0uS#QK)r;U#RGVJ<RL,c*RkMJ)Rf3bOm>:ZYt4iJbdKH=O_3TIW6*nvBF:-$(]-oYc*$kh*JvhIw@G+)YgB.GKd(7bZM)o%39r4K3kFDcBQf[,+Khl$mor@XxP@uU7w?x==`EZ8BB8s-3vP>6SL+aC,3P/NgZ>(:&o:q*?@$yrBV;+mb@$$Ng$(W$&na5f/,GImRvG2>F_.V=RPmQTSk*7*q)[ciF-rSLEZe`ptli5CI4%g[i=>@Q0JA<EE0$Z%a^^<dIfi[s%q5Kc6[:PFwoL]21#-S)^Eq`R:QIj(7=-gv/3sP4UE)vHU7qJf/2TO@S6^`.@#[0X+UH_TteD8#Y*sD/>U?@x#31t=tO?wwhP3<$P1>,VS+/X97joFJXvHn.J[YAAIF/0t<_c%=;V)V-[5=I=i[WZ[>Z7o1@ts[y8h7K7XB(#[KqY-I*`5a;eL;6?Dj$ATB?&Fbbp&]oe>I9vQ.Zt].l2CE@X9%A0/cQJK`Y%e`<u->HO4#IykGw-3*u2n]2i/dvKG8qh-;G@=.%XW_68E/aZ*>rVlu85fe,DGlCEY0m7^(V7:-y2lW-t5uw5EgP=NfgpeilYqhr[C&C;nn.avNAPWD,e@pT:g<coda=dfU`:MP:c2;+IQYdBiXA+K3,O:?,JFpRcgS9gH+c5@)mIk,k%C)0(-^#L@=Qr3.-f0iu9].;:V%9(lE3ncXNr-=tji-H:BUaNXXIio=QU8R9GF2/?H;f5$P0)JZ9ut?^q+9l2Dp=qT+3YI)[5rNnnc4J#Z3D(V6)U+q+EVg6=A(3eUDR-sBSj4DXGFW`*Yh:J+]%(QXb*fm+[5J%&r&LjJ3CAC8TBlD3*@[&[?fWRHZdc%O]s%`fjhl9:_EbTHrZf/G9i;X3DX^jrUsByW#A(.LWQ$@s=CLI387G4G&J/XOkqSCCqCmY66Fr#m0WvAFN5/pvX**lgmq=i]&(fIeZatZl.dXGQ(fX/(n7F0C1k0,)mwiYRoolo9H^Q)vR#_aV.1S5((&#n[HG=0_>r#=RJYJu[;QV9;;*fPc(Uk]A:1TiR>.l*;?<*=.%BN.UDrSZbRK`JnIrq$L2n=cXxl0Ku.sj.A$j<%&.lIipU?,GL,bB6,OoW^-^7v+>lla5KRBg=.;+1Q=>r1Z7P:F5d>J_8Z5HG#sL7)]9NLMRGKC1mr]:dPsS^.&LjLU)^w4bfKao`HETlLFs5xG:-on>]euICM+ouGc_LAF`_P=s.gS/EYb;J3TLk_CaF,DQ5GbF[QDEvB,&JT%NPAgsc;rF:]Ss8GleLp^gH.BZg1CdBY73,D>el]_]Nvj0%$<gvma*<R,+<E^8jK^]joN;qZ-U`K$jXk%i5XT.0=+xEn.It#&W$@ccKsNSa0poF&pA=Icm;;Ut9Wb4nRt4PfFG`X%MyQN,mQU)x-H.G>Eix@$LR)na.w&vl_j+]B;APt#u^#ur>ldj6QqGk7qYHIn5Q+APG)S(+*w?olRv1q/&36n(YN/lN(u#Wvk]U+vpOYNC:4R6PQM.qFKbuOL]kNNd<R^,G]1ni>8OW8:[Voi;6J#Di./LPWW8Y_cDo-+yNfe[=W$/+UQU*17[bJJa%tMXp-$M30-]SsO:)8M$3Ci9Of/7.&1@mX42l),BR06N.NbHhd7W1W670Ov5jYHl(U6vWJu$LD6j#jgn-JkZJIS/tUeP?KOafq^nf4K*.F3ql1S0vXVh)V;M@ITdeqnuUOa)-jkMxrZfHDpU6IG6>n?F%6Xlb_v?#RnYcK+pF2aDX1<q*-o)jMAr8]8Hab6hOZMk$)0L>@.h[-y=AJ=X?Cb.u1;[mMgnjwjI1Xxf,A09aUj$Qk=:ELHeHm<;y>mEk8JehF21j&EEI-TFbD+L&FY+y1^.+Q8;ukGG0L4`UFeP..`UP:7FLh1[]LlWByecG@2-KJc`U.<:k`Nsjn:C16^=HS`XdeQsuTiWa10hBrDN.]50-*.e:U=d$/UjqbEN1igQ.9F@SW70Jo9B]w::tiJiK;$$tVdNqg(0.=+aJ*eH2]B].7`V[LP2bhvZpgJB<mU`cC^DjIKmJt?qqnDRvbs^iq`DEZ,Jbt.Z2Lh+,PXmK*<<[K_2v_+A<nrIIFQ=-a*]ks<8urkmJR.no?16uoSW]Kl0ZflNyE%bqT@G@HGLqsi:()UFsvW$+uJDc<funmpFMqe4B[K:c-_1SurA.>KPplw@[]+D17N<C-FFT^/((tr=gn9AGNsCn@D`ta3SsFtZ,=.u1PEIRNA-51Xrb]E:f?(k`S;@@)^hto>5)s0?U3X;3ZMn`>6teiZAnXvO]%.v2k6::LlkMl<?@[W;nZ@wSbivqMYLShi<yFQ4PmbmG(5L-,UvUY3b1eq>+DhS%eRWf-Ldd$%DG3O+.Q(EO].K+U4:/BP?>)p08sh)PQE(Pn,BlGXD;^J9tr4j-6/%iS:xuVaEoKi`<sJ(TVH<d$g=hrBV<,;L%Jq/kIoJQ6iBhjV-lfqj+d&]lcSp7J`Z]82&NHK8y^@$eHVTI5K(,U>i(ro9dfCrPubLjl3s:_ikaFtg%dIA0PdVrvCf<_12u>J^7e+fXgZdL>V@W1.?qVphh<%jg=uy`/78XT@T$->-d*Nd<7@+*<fWjTds1Q@>94c*;cluPms3UVjb0_4ZS8k&o-TI:%+#1oSoXuOW7?3[<:C@UVt3R4rU<3TWgJh9nLKp<%.p*]B2]8Pi8Vo8=695^K?%9q48%o].@9xqDwOV:Z*p6n<o*daVEF][5$0&=bpy<NlTZ8grpqPx-e9Zrn[demr,n/fZC?Xu&yu+Qq:6Km0wJ/Uc`[-CQVmI@Jm`)EIPfheHwEge?DJ4^<]VpchF$,lekaY66M#oVm)TmtG5B-VEpsZJ5M)i8@,G0h1FI4yLs0u0Ad3H>1>ubAsN:H;9q`%G0r3e6k0UIN@i3@ZnQGM;RB,lH&kgltKWEoD*rxUI&FW3k7lxNMHb&@x8%%]dQOGkTcD`GST+L7Y^ZVjGXaYj>dpdlA7-nQtX=3<36aRcpS^:qQuEV9c7qv9,]MGr3<BK>@,U[4Y2KhOX,+a0]CEAfR?Qw^,NL;-8OBW+X(&oIo9W#pJ5tnLM`j<a._hts-m)kHdgY.A5HKtZ[r4qZ%L4J2(9M2G58Q.wnC56OEM7du`QmUl>RjKA]*t^bjSnN`Du>R1_p&nE#tQ8vC9xy]HP+Q]S&c&mOqx+SbqySYwvYJ=EVyc.gBcZyBC&jmvqIN+tfH8wRWHu7@iBc1sU/q<IUqY]1iTEjYHH:=BS^,TYecc5mG>(snKb.Nh:V%[&^#p-(oAnkh87KFIC>OpHI:UxqdbMN`SHsFE?g:8x&UR.92>W[_0)g<Xcih#4<GtdP6PPv9uu*N+EGyuvgU5N<(xIWe";
+}
@@ -0,0 +1,103 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import polyglot.main.Report;
+import polyglot.types.Named;
+import polyglot.types.NamedPlaceHolder;
+import polyglot.types.PlaceHolder;
+import polyglot.types.TypeObject;
+import polyglot.types.TypeSystem;
+
+public class TypeInputStream extends ObjectInputStream {
+    protected TypeSystem ts;
+    protected Map<Object,Object> cache;
+    protected boolean failed;
+    protected boolean enableReplace;
+    protected Set<Object> placeHoldersUsed;
+    
+    public TypeInputStream(InputStream in, TypeSystem ts, Map<Object,Object> cache) throws IOException {
+        super(in);
+        enableResolveObject(true);
+        this.ts = ts;
+        this.cache = cache;
+        this.failed = false;
+        this.enableReplace = true;
+        this.placeHoldersUsed = new HashSet<>();
+    }
+    
+    public Set<Object> placeHoldersUsed() { return placeHoldersUsed; }
+    
+    public boolean deserializationFailed() { return failed; }
+    
+    public TypeSystem getTypeSystem() { return ts; }
+    
+    private static final Object UNRESOLVED = new Object();
+    
+    public void installInPlaceHolderCache(PlaceHolder p, TypeObject t) {
+        cache.put(p, t);
+        if (t instanceof Named && p instanceof NamedPlaceHolder) {
+            NamedPlaceHolder pp = (NamedPlaceHolder) p;
+            if (Report.should_report(Report.serialize, 2)) Report.report(2, "Forcing " + pp.name() + " into system resolver");
+            ts.systemResolver().install(pp.name(), (Named) t);
+        }
+        String s = "";
+        if (Report.should_report(Report.serialize, 2)) {
+            try { s = t.toString(); }
+            catch (NullPointerException e) { s = "<NullPointerException thrown>"; }
+        }
+        if (Report.should_report(Report.serialize, 2)) { Report.report(2, "- Installing " + p + " -> " + s + " in place holder cache"); }
+    }
+    
+    public void enableReplace(boolean f) { this.enableReplace = f; }
+    
+    @Override
+    protected Object resolveObject(Object o) {
+        if (!enableReplace) { return o; }
+        String s = "";
+        if (Report.should_report(Report.serialize, 2)) {
+            try { s = o.toString(); }
+            catch (NullPointerException e) { s = "<NullPointerException thrown>"; }
+        }
+        if (!enableReplace) { return o; }
+        if (o instanceof PlaceHolder) {
+            if (failed) { return null; }
+            placeHoldersUsed.add(o);
+            Object t = cache.get(o);
+            if (t == UNRESOLVED) {
+                failed = true;
+                return null;
+            } else if (t == null) {
+                try {
+                    cache.put(o, UNRESOLVED);
+                    t = ((PlaceHolder) o).resolve(ts);
+                    if (t == null) { throw new InternalCompilerError("Resolved " + s + " to null."); }
+                    cache.put(o, t);
+                    if (Report.should_report(Report.serialize, 2)) { Report.report(2, "- Resolving " + s + " : " + o.getClass() + " to " + t + " : " + t.getClass()); }
+                }
+                catch (CannotResolvePlaceHolderException e) {
+                    failed = true;
+                    if (Report.should_report(Report.serialize, 2)) { Report.report(2, "- Resolving " + s + " : " + o.getClass() + " to " + e); }
+                }
+            } else {
+                if (Report.should_report(Report.serialize, 2)) { Report.report(2, "- Resolving " + s + " : " + o.getClass() + " to (cached) " + t + " : " + t.getClass()); }
+            }
+            return t;
+        } else if (o instanceof Internable) {
+            if (Report.should_report(Report.serialize, 2)) { Report.report(2, "- Interning " + s + " : " + o.getClass()); }
+            return ((Internable) o).intern();
+        } else {
+            if (Report.should_report(Report.serialize, 2)) { Report.report(2, "- " + s + " : " + o.getClass()); }
+            return o;
+        }
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1Y)@)f*^]OiFwHTPG.s52OE6X*j6NOH>1B#7+dT0]kYXvIGQiVG5iRj4q>C.Dq,-7(;4UQ=RJN*T<)Oh.>>9r_0r4yq<4jrt8`Vq$X*2s4sNgM$Y%q[F%AQ];V$;?%qkaeUg08(kL/EG45vD`$w#<J>h,jQiSvHk1Z]u_M4YBMw38SRTZ$HAMavxJc(5yI=$mJ%2`[8D=QMcQ*Bk.KxS%-PG/=MIe&GwXNd_]d(H`HGE;YMxW.Rh/tS35yOWm_)J<P+:70/^kGS-(CrSOPyY/[h3<%dsX./[ktjAp^b@1aKvD96vKc7CuJt8e9t])apmQIA$;&h$Qd;i)nZP(,v$Y$16T8Eu;8[aQ_N2CMLkSRb3Y,>AIj,ZW]WES4%-JOh9Y$3Endr;[j$B`ow<,hw-8[[`atVXXlcp>HtukSAmGx_n(4kVcBHLegs;>t1i.yDNtaEYeRM9GA$VWT2i<b/;1?2(G:bEJhWPLd0Jet?#*v2NKV`R;H$ohP7;(H.5_3Inx]NkWOGIit;L`g&8HUk;?r@C^Fp>3k1]hP`qer45&LrTei]Ix>=c3][v$^dfWqp$ugb-MjQ%goMNT<Zpija<c*v.OVZd>h2mA?@]y.^/$?%L+1dx>63d[vC#Qm+)Zd,Bb+4Akgo])i)cuWjwbyls<g1;LUV&$o:GwHKtix.x3pxSaj:r%6`qgyAi6RwY7N-@i;^,2HS-oqGQY^-aIY,JK/ng0W&meRqUJ`%CQj3)bXvD:)>Ur0+On`ypfE[Iaf5.e`D4<.2Y3SV4YS]d^7ghrUY)QmT3Nn+j:P4i4A0>p:yZNA=(N;=1n#c&)oga[Jj4[GOxt<?ci:O4Jt:duFN/=*[aQvtc6*_au@:IS;x7+CGcd93;4Y.N*70:E9=S&ymaq5$_2;8Hj+.<;1,ps1paII=YNe2O-rJJXWbAb;MX/(vM^oMVZHaK_*cO*1Shua8JqFEs^:7Z%HUZQx5sR3>^xL:@:0b@KBo9JWbgkxsBr4%IABXhZTTHf*FRhmG^`&*Ox8q61?B?Msc=ogDWy?<(*VFn:M@V`NC.Y%j.GL%jE5t/He#q=l>bU+@gu60^lYvOCZaC0qDM<st*CRf1*y$a0MNu8RC>JnPIkn1lb))`vBSiZ]WG</]gMFD0o.W27D_`[]kG$vZLmg*ro*BL9SCL.6.[(1#Dh^mXgcdw,*gB^.BhW,Um-KbYE$qaw`HMG0v,pV>@-?p*d:_(hdn6m3+O)(g)`t%>jfB]*TH7+d,RC4Gv*C(,(j.ThVbKl/E1EG:v+6cHqNQ+V9:S-m`Jd0J;*U;ds3`[;)^l>yyg0;*v+W_uYs?k(6);o>=;<PrLc@%$O/c;%K>_1KY?UAd*2a1nD$Lg>$5i>8US56nnDOcwVCU8w$TbJ[&LAg9s,%/HOEsSbXVup&c;7?Vol9kFVrRYEMi*MUlTUQ/7*cc-4[[D0tyBi_LX0NJc#UBTFpk2>75oqCeF;Y;.xM&r<PfD8Jx#7)`YNGRTSV4_s*haCcgZG9pkBre96&y3A5=9V^Bg:k-?A/Ld8[a/6%LN`EjjbTH+$W8fC2ES(2^rW_44fJ;`cbM&h]d.fYMK5V,8THRG15grcJ`8c2pn/.j/yDS#Gw(IjtKWdK@9mJ3^DO(ZVn5d$^3?)hdn$^qRfYYlMElB8)P7j[-ki&KsbS&6Qe&o<M09jcZQ9Kw:]4C_>BGp2,Hq%vi+T(0X4givPUhn7#VRRs2<CGP%37]YKWuMjcVInf$[I8v$Ze>39]uJ9,t[bO`i6K#ctcP9#nAI?8wtkTi=MgpSw)t_;[(EHNgCC4bK<HT<QP(lb0o_HHF>r@-Q-=)Y1sBxYI]=0ZbvYut5?<A5ZsfrZkOYi^TqGD3DKU*_[2YJp*Y?`B#FR:L;.NH[M<^8>v-XP$)m).+*ATt-QnOJ@@IqFZ3s9lD(1Fo7Tc4$e+E-ok<TG@faj1-UyIVQ6QQehAQKKEOkx18;>kJ:EAvjc^+%C;XW1EC[v;Q6b5ZE1Z2j)AB[]oUR7NCsWeMHw4kl?pgSn@<33:S^_:b;<I_7Ca;79$kQA?Qm*eD&gIi+6p]CMXgUo<jbjh565mKMgTs8GSVc59u`vrDZCGAn+C^e+1hRv7,V7#[[w<ZHX>>_5`]LV5AO0@ZZ;(hc)9SB6Dq9OS+O>+)@ZK,aC?e@6+JVS]qtUMLE;6UA=JiBJ4:j&;+]uq0heFa0;NkWY&,5e6W,h]v75rqpJ-9/$dDJlDU#$=3D?CQe0)B`C4nUDeHrjvSN^hbXw:R8jDSf2bxvEPE/K<(Vfx,PCym]mIHTU_m.(`?prE8q,jLvNH<eE>*ei:9A_:1%D7SO9*.FRAsTCd%b;9%FNOrcoc>_^nAcQ?LBC@9Gb<B;u_RWD-B/y1UROFF:3?un+TyA/XCaOaaxFd?15*&gl^4skkNH27S:#1GYx0U+^BFKN#(1`o,dNp(=hv=<_yWqlH0lWKZVflN#-l4oY-EdO`dT7]ydhaqG0P8b/Q=CC`c+Pn1S$TqGL;#)d6N/n)qo.X.WK5ZP*%aiiqSoin0lSgN80o=@#whgjC8pNZ@4tJkINpX*c.*?H0ng(o(:)i=,l8iEZgY#;`wo]u^ZsgjY)AWg6b<jO*PSo4&0IF7j`o1%Zjraxpco<-;WB0_5oqdM0L6$>t>j6y&<*pA/h.aW`*3OA=fBJ;2vLu7n@8^RaB_)pQf@R/+$`dVWvY_jHh=i$tD,*io/mB/cE+;o@kbukCp<Qv@d`v2Wwa;pqwWF4uFAIy4ea->ZfXfiqB7hB:^.2+pVs]@X]E^1H=0`KQ9g7wikB+/SH0AEbRvAC+JGnR5prc;aKbu+lB9^:hvU>a,ZL+RDly81bIKY$WUnihkbmC_dBT8NdJyknec,B2n0S1Eq@WRN4m+=syGGNovjK2.)sj7mQdUJe0o=h/9@3gkkSWh0K68OOP+T%ag2nr._H,gE0QdvyaFmt4-LJf_X?.w4J-uGv)Mkkoe](#Ovh>U4U.LIVD*fihUXY$P*cZCvLFtJRusOO]ba6,)sN1ulGcI:=JAV-Vy<l,rc9OehOPD$9#M^Z$7v8$D2-)qHS5%[%x2I^&UUBHa8oKFF0?K6EZuG(D,:W@#S+eW]N5#<H&x:Vi=&*.7*-66V:ytj3(;Qf*kRdqte==ifu.am>VGgORca[pb0a_dM,)M^Y4VVO]]Hq0n+iIpvEqp/P;)t@3TC2)usiDu=Lrsc*9v,7vXw;f=BM)%r9/erh.D8Iv1K`6i,/hbQbaYR5a6]goQ2O&9UXXC#oOjN<+nBDLWn^7Zj3%>okO=P#N@VrMTOR8rtt*00W:@oLyM*mkQtcD_[%U,l<HmSw_7WI[b,Z:1GjF_r2)wW-RnWFYp2hN_w6Yrf*cXmtl^(8CTV7t9Y`B0r1siDG+:C`x5<[=+r:PaAXbB@ptJL#urg_7>`,2;:dsVq6wtck@o;8w&tl7MV&Q#2FG#j;0giuOItmS,pa/U@hfaOLZ2pCuTu1V(l/XVlN`2a@30eq;4RQ9u@UqTse2H21Dp=KTJI>A88W_(,bYkJoxim]]fVEVk;;JvnGLP*0J/W6w6bWd2K8+u@dxriLj";
+}
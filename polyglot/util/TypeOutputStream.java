@@ -0,0 +1,61 @@
+package polyglot.util;
+
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import polyglot.main.Report;
+import polyglot.types.TypeObject;
+import polyglot.types.TypeSystem;
+
+public class TypeOutputStream extends ObjectOutputStream {
+    protected TypeSystem ts;
+    protected Set<? extends TypeObject> roots;
+    protected Map<IdentityKey,Object> placeHolders;
+    
+    public TypeOutputStream(OutputStream out, TypeSystem ts, TypeObject root) throws IOException {
+        super(out);
+        this.ts = ts;
+        this.roots = ts.getTypeEncoderRootSet(root);
+        this.placeHolders = new HashMap<>();
+        if (Report.should_report(Report.serialize, 2)) { Report.report(2, "Began TypeOutputStream with roots: " + roots); }
+        enableReplaceObject(true);
+    }
+    
+    protected Object placeHolder(TypeObject o, boolean useRoots) {
+        IdentityKey k = new IdentityKey(o);
+        Object p = placeHolders.get(k);
+        if (p == null) {
+            p = ts.placeHolder(o, useRoots ? roots : Collections.<TypeObject> emptySet());
+            placeHolders.put(k, p);
+        }
+        return p;
+    }
+    
+    @Override
+    protected Object replaceObject(Object o)
+          throws IOException {
+        if (o instanceof TypeObject) {
+            Object r;
+            if (roots.contains(o)) {
+                if (Report.should_report(Report.serialize, 2)) { Report.report(2, "+ In roots: " + o + " : " + o.getClass()); }
+                r = o;
+            } else {
+                r = placeHolder((TypeObject) o, true);
+            }
+            if (Report.should_report(Report.serialize, 2)) { if (r != o) { Report.report(2, "+ Replacing: " + o + " : " + o.getClass() + " with " + r); } else { Report.report(2, "+ " + o + " : " + o.getClass()); } }
+            return r;
+        } else {
+            if (Report.should_report(Report.serialize, 2)) { Report.report(2, "+ " + o + " : " + o.getClass()); }
+            return o;
+        }
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1VTXDZ*^Xv`78;t2Q9k2;4OOZ]?1-O^*SMI8*`fNT66bUG@,n^NKf7CqcY[aqJNwQ]6#pQ;Z,_Pu,J5O@bV$=I#fmYPZR2l&(8biX?,IVeSyUb_NJ7ep%gXH;uL[A[b_Bdo;`>@%K43$,Gv4E<V.7Y&Z90wG&@0WPO+sZg][Q&8T-mA(YLPHn0-eqV3PI&B1@y=09[QJnv-)e7g3*k%cbL<vUN^bDOh8NI53ZJ/>f$#X8^/%$AM[L.W^7sjC:8u:OsiQ1^=ZedEX[bDW[L9tNjK$E%;T8pNq;DJ$`hFPUdjoR(UGH*n91t.;xbxq>]=?#n>7QyO92kbsM&c@97QqB#2xF5TCZ6_kX]T7$w:1dWG9aDQEeO3h9VM6iNi0f$@7@L48S8(64LtEjgdtl,ITD`Q5:h[D6pCS4>-smS=:&D#q,A7HA(^cp1EEf`x8v@ZJS.$/f#`^Ta`Qwns>C*1,KSM6q7tvALaklN:V2%0x^yq)e-=KtZ3C)h,&s`Cu7:s.<=#[242<*4NF;&8U5)dFVuL*=gu>[@ZLUp1S4r6)5bVh>#Pl()JKJx6+>5e.F0*5#mjJh%k/N`fWLhi$NRC7]]+P_`_ueX9Yn]PiP/KWcS3Em]8xPh#:PIMc&6u2fVjd80aVM@lGgBD%d--xOgQbXW$PhJDavVN=64@gUfq_V2?^9E7SjPSv5wY*]Is[_oeHwOdY6Q`cV@G?Ex)6-aQO:c6^0&Q=C:mGctAyL8:I?y-]a5G0*w?IUQ^HNAyr5:&-5`m%eWh82TVa%5Yw+hmE)6dU1t>h4.$A5Z,C)3)ZTcy3&;`PpFv(kTLXu_w71B2fiA]O.aMqaZi]7L9ETK*Ax?;u`@rL-`xQ#8n2.#Av?A&WnJ<ES)4u%-dfA25JN[]wQAf>V.dT&4C)f_jnhV.vcIC1jeH>^88I&RIq$GQ]&l>1<I,p7C*IKVft[)bu&&bJ%n?JhLvQfO^AEY%pATIoyR)kmV0y&@QC#<*ykv$,*NM8co:r?=c7W7Oy&Q%wKp6O_?SiH1>T(PcKc5*do5k[HTQUOG>5,o8Z=lpr@.[b#ddEiG`U]Z9m1<KK??sKe>QXeJ5Zi?M?Fe)v#)y<uNH$98m_KFxXk2;+]E2Fld1#0oy2WoXYgtpl7_dj6LKQw:m,CeH0mMEsH?uD9B3gf/bp5,PF+6Lu-?`SD?1)nyYlE.vY(#0Y93v+@*1%FR00YOJF1-N[NGCK1Y+b)W&R:r%#rF:Z(]T.^`0/l6LX_NlY=3<m(sCP;SLi#D3e8:B?8ws(Of/%lX^pF?,8K>)Oa7)5%7C_5+tXX/gT:M(Y4lxdjZdd)^4X?-F3WIQ`:&pf_o.CGLJsV9^S:RIU_lqyvgk@0Kac3tx2SMm2Xu>WR4UI(j@3nHjccBdyZi`$QQwj<@>k;qA)=ljgtO;o*+#Kqxfnu4B=/K.6K-a4l67E480KDj6fAQ<rDp31TIQdB#:X<uI[n/_pW@l,5kFkfh(=[bZY9AWP5xTwlq6xM(mgITtUq+j]Ti1].v6cMEh*e:/70.:WF=0A,ppePk+?k6_A>Q`g1ylb&<su@B)o4Kkg#FOYg49Uf<nOgxT[BDX_KnCn*a.^5*P[^L&:w+p2]n1BOE22Ev?nSXum34E[0(n9eGlYxQb7JDeAvv7,2-2iH;-sY)MpSRv7B&(r/Q=$&FrrA[mOxpm%hsP7AwE]vM0BldAB`TCPUpgS`m)Dp>x;8Nfq:1*4XQ,Z,<t>cAywHhE$CD6psPaPJT;1dv1f+)$UoN8Qd<Yfun5Mk$by_b-xv?[tafc$;587J^L+]M,.ys3=:J,uu2ll+<v*)L@6W.-RZ.i*&u:e#Ym($Pa<*1iNbET3[&XBI3PM2%R%u^+`4GHoml_,=7q.+%[>l1OSxETe-$>d2YS^S[tPd@YJJ2`@uqA;In#HMAv(e,P8WB_?l@b<J<<<Mr]78O]/tmv@fG,?lpEnEQR7.pG&yYFc1=cl$,G[O;uO8A.#Bu(W&%QpLFM0mm>)&mi87aw8<$.)VO5C=0f@6Z.c`KYfuPkT-vyWx`vBimCV`rL7HO)16kPGJ)N-M_2J:g`,-c9;$`gSwQ,V7t1LpyrEBv9E4@7:)@:0Qx+*W&?]1%Z(d&0OG+L=`i0y?`>t9Ow?nNYP>veA^SNeMQIG7h`qBtQ^[T%ZrWUHqFY[ZS<o%_HL>(CiD7.GetEdJ<OBVL4.H?Pe9W/Dn_6Wv38.,s]=HT>a,e88w*:fQ^WbScGI(l4meH]Xjcu])g0et<3@/KQRZwPKqH+6$40@X$#vL;syAEZZ(`P`p2`R7-muN*D]7WI>SI2o<L7]*o9[(Dc0Lv^9IGxO>a>Ad6(dA,iQK(M3i*hkZL)9iB%t_3MnWA00SZn*R*dg-%+F=riv[%U+.DiPl3.oleZF)#(??`(UJ+G7NDM0]4Z0S/.ts#+,27O@lI[F(m$AStOP5(L0:(*,nFWl3I-AKoO7;5>1$sY3ZY40CIl*fkP).oGGlo4aH1owD`Je;<CPNsN7M4K@bi%Hsb:nJ;r<ag*t$Yi;yt39A71S,IhCb^/8,qy[ol$4T.5%v;?nCW[w>V#f78HGSAbo.uxb9CnO<bjqDoe8r-eeYw,x-Z@keT2uF5^3C,[t:`J^B<QHx>NY<xi3]N^?A8M9=p=:GXr$tLK3ab@h9=(wOnOMdf+0p%y;u6ju@+bhO>4[to`RkPs/Mwo/v[qmFwRAtqb8=`ohSxQRMrgTOS1FeapMNZ3fexWQ=`cFg?@^CRejJC&Lr]^*W-7y.yBi=Wus?[Mt.1Z/J[o<A+]mgC5;`q#JT`Vug3jy>IJs(w(JA5E=Ay:VF,.=kiA@N?+PfXMK.2h22rbC5d]eqj%*6+RU4b.<f.Aey-+`5.mfRoK291:u(nbtErbC3rk;D0gadx?i;2>ChYV>cv1`,2`M$X3&+vV4VS8g0ntqLoPd`0WZF6,qUxUg):Jm8fM7&Jf60fWG6g(M`xnlaPQR8Idw7SCpjuc4n..`1#q)6SdLg-ob#w0lNG)@86[9?am8Z[hPAcsB^g3e46x0<u_uN=2V^=,XHXu5jP8yJ4^<y(]wn2]ls`-$EHq,ZYM)AI0f4v+2C9w8/_U`WEIy83a11P][6joI^iE$a-V#QssfN:r&[8<Ye-n=7l82&*D+n/m:FH(O&ha6j<[xfo2v:w:7$ipDRVO4aCp_ZqI&E)52r<-]oC7k]o_&MJB0-[5M,ATEA@K+tHuZ#FVbx5";
+}
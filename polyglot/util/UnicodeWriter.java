@@ -0,0 +1,40 @@
+package polyglot.util;
+
+import java.io.FilterWriter;
+import java.io.IOException;
+import java.io.Writer;
+
+public class UnicodeWriter extends FilterWriter {
+    public UnicodeWriter(Writer out) { super(out); }
+    
+    @Override
+    public void write(int c)
+          throws IOException {
+        if (c <= 255) {
+            super.write(c);
+        } else {
+            String s = String.valueOf(Integer.toHexString(c));
+            super.write('\\');
+            super.write('u');
+            for (int i = s.length(); i < 4; i++) { super.write('0'); }
+            write(s);
+        }
+    }
+    
+    @Override
+    public void write(char[] cbuf, int off, int len)
+          throws IOException {
+        for (int i = 0; i < len; i++) { write(cbuf[i + off]); }
+    }
+    
+    @Override
+    public void write(String str, int off, int len)
+          throws IOException {
+        write(str.toCharArray(), off, len);
+    }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1540917945000L;
+    public static final String jlc$ClassType$jl7 =
+      "!1[aX#j*^Xv`7.EBo6$0[nN,,ZI$2O0;.N_/o1K)o5s]BLv/aRODKAl,;a[SQ.V_304GD)vUSgEQx(RJ&EBd&RJM^-A8;p9h9?F6H^RY7C=;LaS=En0DwLp.<$k_v4LvRxDETFfKAa22slK43$,bQnrd]-*1;/f%9N7^sY/27naH7Mbm,D>=Y20&T6V-jw*UE$Fwd^P,2jOuQdNdjJ%0+j2+Dn]3kiEu#?qYZeL.;4i/?Xq[)UsOKPrUb6m)Xbt(`>Fb#/56l5riwUos$ay[Y=Y2-S8cWsQRT(eg_in(A?,<sO[t_9;QHP@-]HH$Y?%UQpe5omv)7;7OV3PZvA9%><rX#M>dO4V/[V&EJ5D_81q/pkeJ:JqL=hyC];]d#lWjRuZc0mF9>R@2l>23=l4GyZ#0>03j4LN]o/^X;tK7T5h</^5+T;fj./WS%LiGxHDVy`+)5G_#El@Vu:1WI_)BSTbG,B[68L<YG^7^HsXikhA_UBc@M^EV08A,)1w>(Ftpt.KIL]^En9,uYh$ey*M3;?c_j?UVpf9h2Q=3h-XIs?;TK1rb7?BT81n.g[oa:WyR1$+GY<F=JOPNsxLs4.mpYEo=lD#vL(agWW>nhwDGaj2^63+(re:YXg((.R-jMF/0QcIhtj/Y?9Emd?gV,nXovjs=vNsljcQXcKYZVS@<3a:l;LfQTFbh(LbIekD+M#?5;3s2Kr*xD5x5%#JD=]5EcX_7g,1hI@1o2lkI[H^l0o_iIs$w@af5WOrg<(Vll+JUTLN?<s::o.2xv>YPmhtR[fWR1mN1xvUr;C@Za+su/#t8bYQBD)=pL9Mt3^/pO,;0^%Wf`,le>)J[vm>-MCFbIVas4HdbH8c(wv?hL-94f/PXvucXeq4`=aKML$lYpose<Ta;U(YLG<#i%L,HZ]$+&`wjAWOgl3eh@+yoeB.DtEK;X-C,NO&9a:(1Q9ARbPlybylB<Yx#-(hsWkw;K7OYw7tA,,g%S7*:?Aq9wv8D#cr3FErRJ0Y6=_Zd44Q@&?$#2sx9ef##M5&-&>3x1KPsjjyuYet`=?v*SeJ4AYem&PCff[s2@19as4Rv69tiAS%@(9PgEsiKy;8Iea0=(s*_bVd[%`By8Pf_u]$Z6g_g++WlSUDuMFy#R?v$9^d(N+Y`u$Tf.`MEHM8gi:6uPUAIiD09uObGoGOcXt1b.e,jvsOfDkuur:#fJq$oVb.v4T`.W[KEIA)nKWsU^qq3Gfbe+sEf%)BjlCl*T+j,FvdwpRuS5:l%0mV-v[[Q)-ARevOhV?6svo6:FJB+HOfQAdoF[2&QYM`_43m9RSG@a&u?xk7xZ_ISgT*kZ]G9%./u=fbCOLL%r_FpQ7?>?e6@icn1IwmVt<J9B[++1U%Kj]qobV3.S*IxrsmNK(`o-@SRJa+q`7iD]Uk9F>SoqyRL57oZ:8mZ,H@[l0Xr(,alLx?<x[5tCpRoWI*JoRCk0sxV<EM>Btq4yp#$)fFWl.1:]K`[BnT.fQ+wx0jZ>MKv2,q)sOh_sgy#+Cs8L&(`/h7x9,$g;Zqy$lnRk2YHPxFjLj8M)5EU@PQ8X*9[jA&b-j<)&ZLbcBim<@jG4&@EmS5C/EJ3-$>LL1rSrvSCM%tSfcm%a>[,tZ)N_Z1.Q4p@<SK9E^Li*ktvpIJ5Y^7p5mjr6gN7_*/AYK*UW3JyBu[-&..O_&ldlyjx;c+YID_+9qhX<YWj/9h4AZlVWT&cwB8SVXGnL4pn>6?R$887gv(M(#kXw.M7MhQtPi2=+S+/_S-Fd8AC:v#A#[=Den1[6ol=AJ=31kmS@qmKH(^5*[-&(3J$%X^7.DyDHqt[>t(U#3jqAfpL%SsVd>Xj9aZDwxAM7WID8C^x$+Qi(dv7^?63e6#DMrQ_01?d&_>Jwm:hQQR+CL46o07WH;*(H)>9Wv13w1_h`Q1=[56YwA-wPcHNOOF8sDb.eXfq`(NY:duFfnqWjV`E.gHY+PgCsps1J5,,w1ll3VMDAH^DRfs=nc1KR4gwE5e0^umpddsc7*fh6`hbh[vE8er#b+uO2es7oKUV)?l@C-<m$<`J:LJros&>Z&NDwa(iuqUM`101M]gb3_%4/%Ri;o3kf&u3X2LFMY$e953-e.=U%^2H7&l)LuFd?X[nV`*=5vYJ+0K0N5P1Wqx_X@^&VkM0r_cV)g]jO?;J-h@g;w,D;<m9njh_2CXH-EmynbG1cF-5`W@?M8maIqj*nB5(_ev0lu-ks]e1RXK*yK4-iduf,?fnYv5>5/$[kHw=GUZKoUJO>AX4KV=.lHfL[eNfR6J=+M(B:F/(^FtasHcLJV9#ItendwCcLa9Ir/Jr??)DMLt>6U;kL:o6*2d6rZVFg%irH2Zc03=ab?XXnH4XNJIGI6HCct5;cCEg$eAu_F6L+0%C-2vOGj=J$AJ((IJR@]j:j<Q^yJ,dL8)au=B^*^Yh)L%)Jd*0&7k*:Q+4$)^NS)H3n;fH3(9VjQMd8QYPEGDC4ke?RL_bw.(Fk%(Lxt]qmbOcKGqU4mD.s4WK?gPisYEMZR1`r8Hvkj#YdSSDNT8#U]&anfq=3-OUQw*@0m-C:4YiU8jllFE)#Dij5eQOS=LVXqY,Y)QidJ&Q+894]2upa:bWqlbx;*bAakF0$7y[NZH%2s1egKU5nE_]7bLw$#:MG3f^hkobAhGY+N%]+02+`CWib4h3.dd>xB)_r-bpAB@bo2&%x$n/Mi_FKF8[Wk=-r:v+E#5<%%Xl,X/[V*FVh@;cT^r*0<v]E<hN";
+}
@@ -0,0 +1,21 @@
+package polyglot.util;
+
+public class UniqueID {
+    private static int count = 0;
+    private static int icount = 0;
+    
+    public static synchronized String newID(String s) {
+        String uid = s + "$" + count;
+        count++;
+        return uid;
+    }
+    
+    public static synchronized int newIntID() { return icount++; }
+    
+    public UniqueID() { super(); }
+    
+    public static final String jlc$CompilerVersion$jl7 = "2.7.1";
+    public static final long jlc$SourceLastModified$jl7 = 1792337790950L;
+    public static final String jlc$ClassType$jl7 =
+      "!1SyvEO-8vij7;_?e6a]8+=*gbGjKya8kfpJa.jApaFy[OkAE+=WjA>.77+mN>`(F@e^V/+y/AbG%=o^YORPKAOrSFA9MR&99A^HBy)2%cS$g;&5=PH3ernhHH_),]@^k]PLSdt<)J(VL/bB<INawDPJcUCQ&i*R.OEHl/]41vcBGIu3H0IP@:^IAgfT>-YI<w[3f3XM0?BYSvqu<h@;6+d;U;oLYG0;I)xq@#ME^qm$g;aq]Ji:h9DXg#O&U^aHSYM>R%F<xZ-u-ERuRp#2m96an#M0_%I9Gm]x$_tS7B:KI0NutR(1+SGZ^9[2/0pwWScJ#]IS,<e@>9Eu@E^3[xWJ2f.AJWKoB3JRir1W$as5$5wuK@r5n_d$se)#drNRDemQnNO:HOb6XbV7RQ:srm?1Y&x./y*vlHt%yc[`V*q1t=C[)p.dhFCR-1fL/HmUsSZAC?u/T?5uG;AJCgb*>30T]K0%l%n7OmDifKW&Ei+kS89H*[x`<DY@;Wrl&o?U_(X(GXy?@s]@kT;k7`sR;]@+c3lb(HBy-Y0c*xAH[mY;sG.eC5ErJLf@YNXP1_ILG*2t)Z3[?4AQK81V[g:TVm4FF+`$Aber*tE)DuiDJf56Lq-A/%s^t97FfAa(aFwJ6r_G1/I=*f^E+$o26acUL]7,[@gKvs_I]3-Ayr``@?K58`^rvPB5FuBc]dIu+>A@Lc45#?kbpH*ZF<ywxnR#B<Vl;UBaM/):43CEE5hTF6h^G#SC)7`9aXP0]J_L3rT_6V8/CICShDXtvtS9Po=?Os&%R_BqaFqdbjKr)o$J>,ot@M4NlC*)YwcaA6^V,mY;;L3&`OX@oJ8xH6as^dA5fyf59CWn#&V^wf/*6@XT[va4EmRhPW5ZmR)S]q(doy`CT^V(a;,I[9r9Z<uNTjl$g(XRK0w-md5?Fc6M59.mpd.%;+53f0d#g)k0aH=T=jihpy]#[VNpfOt4IBVmJA>Q_?HSWsPCB-m8NI=tI7sR?WukWJ4rP(lUFf[FynM1Q+-vfi&/M.pRiG2_8VX8G1r:.TdU;6&L>L`t8;&0JE43$@8L1n)DXg:ncglACP7phlu)?i8N.PEo5E:w3ag`6Xr/prAl(*+hn`H(-m4Uof4Er+pOJ?(TycXLc3Oo&MiLSSP#uv`Omt-7KK+`FXYFOmF3b0MG<^S96:*y%(lAHq$@gYNWgvowQ&W8mg-Ql3xnt3t,d%qW8i&macTXV#%5dO5iLLTW?sElLHV1_U_y2)&hJ((hO[NCxlmjH8bu64;ObY8jD$GxLXrXx&V33N@Clo[Cn<&d^(h>(4MHXsvYNda*j#NxE73HPPZq1p9`[]M&/brJb0&q/5`l43xq8vYXO9P/wMFuboK(O5vP%v;_[Rlm[N9<HT<AiM^Q*MW/vLqcE:BdIhy+/D^)?p-T*x-cvNJnhui`vY8E[N/<%]P.`in(]E2i/IQw+PP,j+]aj$c%^<6f7k+uH^._$F4<BOMvG+M.$G3p,l%&`GG@ND&UxJ6b`5Zhi&Ty>h&:3A2XAdK<vm^7K:w0+C:(/y%>PKKkH56heVcE<[=4e&Z-MIKm,ol#0t,o+g)pK%nbYvOV<wu9?%Y/qAB1a$&9pVD`T_d$>PSHo4PcCGlfIHyqqG2/S6SG*T;GU1JNR+REL.o)w1jO_OVg#s.4yu61q&+ve0->mkTCrfJJ6bu7j3`jb>I<31L6.s`PeF1vjL8/DH$BL9QW<1p?62M?Gl.d#X4+_cYl:l]/FKcMSEBB*%Ikbm0aEqOT<%5o&bov,Zmxg2o??b*`;KKgg5d)[*#fDh1ZrA2Qdt33r;&2u;P_YlBTROWpb+)Qh;AMPX#?8nv6-l4W=4jJPV/R?6`-dJ&<d=,DcAhsP9XNk>dPfFBhL#vuP#Wc.aYfDIvg9rv;kdUue+,Q@:<2$PwL%X*kUmLg1P[v2,IJg<G^Olq$YGJ[LIJ4h71B;@5WiTaI47I1ay0Q/AU/?He>W,b>LJ<)eCB(RP7x-PDTlDr01efXo>WB=4$iN.Ino*B-u@Ksyp37o2C4O4Cn82`0*Bm+oCdZGXqufiNT0E`WWFlmSmU+p3o2>uuG$[=HL-,A/I,$E<cP<Kh<BOtL@xd65yQBbAgLH<_nq+t4E9$JHjk.So76+fDNc.G(VOhJj;o3N+:mL^fjJp$%sbZCDOo.YWYjMoa%g;RoDs>+yRjV5#U1(6jK+u/ikL9qtOX?.WD7YY`JLjAQ01VATNBj6l:AVRb1Qk^%KR8&BJ2Bn1:V`]/T>p@GZ6[naBCPFx*t@9B^+x=RKF&8[D`=3?qHr<s8#(_$K]Z1?fWgU+@5:Sc$rq?LlO*U]u.Id0;<_f#Q.Msxp;Hr`ZvX_YXT/^Ya,Zm(8Z_0YaO:?(d?Z`?EYF7n>#T)<ak/Qya)-.kJ_BC:d#Fm>9-S<*G,6^T*CnNS04Q2$(W626S1@m>a4V`TabKUK6LQ&fT-UbQDhcX+muREoH-OC=v2e12=OUlfaQ.f=F/Hi,j`t5L8g`?WqC+/&VbTA*L5e44&Qwa[CY2qH_J8c.[J%#v";
+}
@@ -121,7 +121,7 @@ public class Assert_c extends Stmt_c implements Assert {
     public Node typeCheck(TypeChecker tc) throws SemanticException {
         TypeSystem ts = tc.typeSystem();
 
-        if (!Options.global.assertions) {
+        if (!Options.global().assertions) {
             ErrorQueue eq = tc.errorQueue();
             eq.enqueue(ErrorInfo.WARNING,
                        "assert statements are disabled. Recompile "
@@ -184,7 +184,7 @@ public class Assert_c extends Stmt_c implements Assert {
 
     @Override
     public void translate(CodeWriter w, Translator tr) {
-        if (!Options.global.assertions) {
+        if (!Options.global().assertions) {
             w.write(";");
         }
         else {
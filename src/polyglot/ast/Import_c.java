@@ -159,7 +159,7 @@ public class Import_c extends Node_c implements Import {
 
     @Override
     public void prettyPrint(CodeWriter w, PrettyPrinter tr) {
-        if (!Options.global.fully_qualified_names) {
+        if (!Options.global().fully_qualified_names) {
             w.write("import ");
             w.write(name);
 
@@ -44,6 +44,7 @@ public class JL5Options extends Options {
     public boolean morePermissiveCasts;
     public boolean skip524checks;
     public boolean leaveCovariantReturns;
+    public boolean enumSwitchMaps;
 
     public JL5Options(ExtensionInfo extension) {
         super(extension);
@@ -95,6 +96,9 @@ public class JL5Options extends Options {
                              new String[] { "-leaveCovariantReturns",
                                      "--leaveCovariantReturns" },
                              "With removeJava5isms, does not translate away covariant returns"));
+        flags.add(new Switch(new String[] { "-enumSwitchMaps",
+                                     "--enumSwitchMaps" },
+                             "With removeJava5isms, translate switches on enums to switches on int arrays indexed by ordinal"));
         flags.add(new Switch(new String[] { "-morepermissiveinference",
                                      "--morepermissiveinference" },
                              "Use a more permissive algorithm for type inference. (Experimental)"));
@@ -129,6 +133,9 @@ public class JL5Options extends Options {
         else if (arg.flag().ids().contains("-leaveCovariantReturns")) {
             this.leaveCovariantReturns = (Boolean) arg.value();
         }
+        else if (arg.flag().ids().contains("-enumSwitchMaps")) {
+            this.enumSwitchMaps = (Boolean) arg.value();
+        }
         else super.handleArg(arg);
     }
 }
@@ -41,7 +41,6 @@ import polyglot.ext.jl5.visit.RemoveVarargVisitor;
 import polyglot.ext.jl5.visit.SimplifyExpressionsForBoxing;
 import polyglot.ext.jl5.visit.TVCaster;
 import polyglot.ext.jl5.visit.TypeErasureProcDecls;
-import polyglot.frontend.CyclicDependencyException;
 import polyglot.frontend.ExtensionInfo;
 import polyglot.frontend.JLExtensionInfo;
 import polyglot.frontend.JLScheduler;
@@ -56,7 +55,6 @@ import polyglot.frontend.goals.VisitorGoal;
 import polyglot.main.Options;
 import polyglot.types.ParsedClassType;
 import polyglot.types.TypeSystem;
-import polyglot.util.InternalCompilerError;
 
 public class JL5Scheduler extends JLScheduler {
 
@@ -78,17 +76,12 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new TVCaster(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(TypeChecked(job), this);
-            g.addPrerequisiteGoal(AnnotationCheck(job), this);
-            g.addPrerequisiteGoal(TypeClosure(job), this);
-            g.addPrerequisiteGoal(AutoBoxing(job), this);
-            g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(TypeChecked(job), this);
+        g.addPrerequisiteGoal(AnnotationCheck(job), this);
+        g.addPrerequisiteGoal(TypeClosure(job), this);
+        g.addPrerequisiteGoal(AutoBoxing(job), this);
+        g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
         return internGoal(g);
 
     }
@@ -97,16 +90,11 @@ public class JL5Scheduler extends JLScheduler {
         JL5TypeSystem ts = (JL5TypeSystem) extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new AutoBoxer(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(RemoveVarArgs(job), this);
-            g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
-            g.addPrerequisiteGoal(SimplifyExpressionsForBoxing(job), this);
-            g.addPrerequisiteGoal(AnnotationCheck(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(RemoveVarArgs(job), this);
+        g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
+        g.addPrerequisiteGoal(SimplifyExpressionsForBoxing(job), this);
+        g.addPrerequisiteGoal(AnnotationCheck(job), this);
         return internGoal(g);
 
     }
@@ -115,15 +103,10 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new TypeErasureProcDecls(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(CastsInserted(job), this);
-            g.addPrerequisiteGoal(AutoBoxing(job), this);
-            g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(CastsInserted(job), this);
+        g.addPrerequisiteGoal(AutoBoxing(job), this);
+        g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
         return internGoal(g);
 
     }
@@ -132,12 +115,7 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new RemoveVarargVisitor(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
         return internGoal(g);
     }
 
@@ -145,12 +123,7 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new SimplifyExpressionsForBoxing(nf, ts));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
         return internGoal(g);
     }
 
@@ -158,15 +131,10 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new RemoveEnums(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(RemoveStaticImports(job), this);
-            g.addPrerequisiteGoal(RemoveVarArgs(job), this);
-            g.addPrerequisiteGoal(AutoBoxing(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(RemoveStaticImports(job), this);
+        g.addPrerequisiteGoal(RemoveVarArgs(job), this);
+        g.addPrerequisiteGoal(AutoBoxing(job), this);
         return internGoal(g);
     }
 
@@ -174,13 +142,8 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new RemoveVarArgsFlags(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(RemoveEnums(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(RemoveEnums(job), this);
         return internGoal(g);
     }
 
@@ -188,12 +151,7 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new RemoveExtendedFors(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
         return internGoal(g);
 
     }
@@ -202,12 +160,11 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new RemoveStaticImports(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        // The passes that remove enums and annotations from the AST
+        // must run after the passes that use the types of the Java 5
+        // AST, which they depend on through this goal.
+        g.addPrerequisiteGoal(TypeErasureProcDecls(job), this);
         return internGoal(g);
 
     }
@@ -216,31 +173,27 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new RemoveAnnotations(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(RemoveStaticImports(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(RemoveStaticImports(job), this);
         return internGoal(g);
 
     }
 
     public Goal PreRemoveJava5isms(Job job) {
         Goal g = new EmptyGoal(job, "PreRemoveJava5isms");
-        try {
-            g.addPrerequisiteGoal(TypeChecked(job), this);
-            g.addPrerequisiteGoal(AnnotationCheck(job), this);
-            // make sure we serialize before we start changing things.
-            g.addPrerequisiteGoal(Serialized(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(TypeChecked(job), this);
+        g.addPrerequisiteGoal(AnnotationCheck(job), this);
+        // make sure we serialize before we start changing things.
+        g.addPrerequisiteGoal(Serialized(job), this);
         return internGoal(g);
     }
 
+    @Override
+    public Goal Serialized(Job job) {
+        Goal g = JL5Serialized.create(this, job);
+        return g;
+    }
+
     public Goal RemoveJava5isms(Job job) {
         Options opts = extInfo.getOptions();
         boolean typecheckResult = !(opts instanceof JL5Options
@@ -251,22 +204,17 @@ public class JL5Scheduler extends JLScheduler {
                                                                  extInfo,
                                                                  extInfo.outputExtensionInfo())))
                 : new EmptyGoal(job, "RemoveJava5isms");
-        try {
-            g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
-            g.addPrerequisiteGoal(CastsInserted(job), this);
-            g.addPrerequisiteGoal(TypeErasureProcDecls(job), this);
-            g.addPrerequisiteGoal(RemoveVarArgs(job), this);
-            g.addPrerequisiteGoal(AutoBoxing(job), this);
-            g.addPrerequisiteGoal(RemoveEnums(job), this);
-            g.addPrerequisiteGoal(RemoveVarArgsFlags(job), this);
-            g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
-            g.addPrerequisiteGoal(RemoveStaticImports(job), this);
-            g.addPrerequisiteGoal(RemoveAnnotations(job), this);
+        g.addPrerequisiteGoal(PreRemoveJava5isms(job), this);
+        g.addPrerequisiteGoal(CastsInserted(job), this);
+        g.addPrerequisiteGoal(TypeErasureProcDecls(job), this);
+        g.addPrerequisiteGoal(RemoveVarArgs(job), this);
+        g.addPrerequisiteGoal(AutoBoxing(job), this);
+        g.addPrerequisiteGoal(RemoveEnums(job), this);
+        g.addPrerequisiteGoal(RemoveVarArgsFlags(job), this);
+        g.addPrerequisiteGoal(RemoveExtendedFors(job), this);
+        g.addPrerequisiteGoal(RemoveStaticImports(job), this);
+        g.addPrerequisiteGoal(RemoveAnnotations(job), this);
 
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
 
         return internGoal(g);
     }
@@ -276,13 +224,8 @@ public class JL5Scheduler extends JLScheduler {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job, new AnnotationChecker(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(TypeChecked(job), this);
-            g.addPrerequisiteGoal(AnnotationsResolved(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(TypeChecked(job), this);
+        g.addPrerequisiteGoal(AnnotationsResolved(job), this);
         return internGoal(g);
 
     }
@@ -291,12 +234,7 @@ public class JL5Scheduler extends JLScheduler {
         Goal g = internGoal(new VisitorGoal(job,
                                             new polyglot.visit.TypeClosure(extInfo.nodeFactory()
                                                                                   .lang())));
-        try {
-            g.addPrerequisiteGoal(TypeChecked(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(TypeChecked(job), this);
         return internGoal(g);
     }
 
@@ -307,12 +245,7 @@ public class JL5Scheduler extends JLScheduler {
             Goal g = ((JL5Options) opts).skip524checks
                     ? JL5CodeGenerated.create(this, job)
                     : new EmptyGoal(job, "CodeGenerated");
-            try {
-                g.addPrerequisiteGoal(RemoveJava5isms(job), this);
-            }
-            catch (CyclicDependencyException e) {
-                throw new InternalCompilerError(e);
-            }
+            g.addPrerequisiteGoal(RemoveJava5isms(job), this);
             return g;
         }
         else return JL5CodeGenerated.create(this, job);
@@ -321,12 +254,7 @@ public class JL5Scheduler extends JLScheduler {
     @Override
     public Goal Validated(Job job) {
         Goal g = super.Validated(job);
-        try {
-            g.addPrerequisiteGoal(AnnotationCheck(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(AnnotationCheck(job), this);
         return internGoal(g);
     }
 
@@ -357,6 +285,8 @@ public class JL5Scheduler extends JLScheduler {
         jobs.clear();
         goals.clear();
         runCount.clear();
+        graph.clear();
+        progress.clear();
     }
 
     private static class JL5CodeGenerated extends CodeGenerated {
@@ -382,18 +312,23 @@ public class JL5Scheduler extends JLScheduler {
         }
     }
 
+    @Override
+    protected void prepareWorkers() {
+        super.prepareWorkers();
+        // The parser refers to these types directly.  Load them now rather
+        // than from Parsed passes running on the worker threads.
+        JL5TypeSystem ts = (JL5TypeSystem) extInfo.typeSystem();
+        ts.Enum();
+        ts.Annotation();
+    }
+
     @Override
     public Goal InitializationsChecked(Job job) {
         TypeSystem ts = extInfo.typeSystem();
         NodeFactory nf = extInfo.nodeFactory();
         Goal g = new VisitorGoal(job,
                                  new JL5DefiniteAssignmentChecker(job, ts, nf));
-        try {
-            g.addPrerequisiteGoal(ReachabilityChecked(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(ReachabilityChecked(job), this);
         return internGoal(g);
     }
 
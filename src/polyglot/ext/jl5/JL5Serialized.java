@@ -0,0 +1,58 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan 
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+package polyglot.ext.jl5;
+
+import polyglot.ast.NodeFactory;
+import polyglot.ext.jl5.visit.JL5ClassSerializer;
+import polyglot.frontend.Job;
+import polyglot.frontend.Scheduler;
+import polyglot.frontend.goals.Goal;
+import polyglot.frontend.goals.Serialized;
+import polyglot.main.Version;
+import polyglot.types.TypeSystem;
+import polyglot.util.ErrorQueue;
+import polyglot.visit.ClassSerializer;
+
+/**
+ * Serializes type information with a {@link JL5ClassSerializer}, so that the
+ * recorded dependencies include the classes named in type arguments and
+ * bounds.
+ */
+public class JL5Serialized extends Serialized {
+    public static Goal create(Scheduler scheduler, Job job) {
+        return scheduler.internGoal(new JL5Serialized(job));
+    }
+
+    protected JL5Serialized(Job job) {
+        super(job);
+    }
+
+    @Override
+    protected ClassSerializer createSerializer(TypeSystem ts, NodeFactory nf,
+            long lastModified, ErrorQueue eq, Version version) {
+        return new JL5ClassSerializer(ts, nf, lastModified, eq, version);
+    }
+}
@@ -0,0 +1,137 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.ext.jl5.types;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import polyglot.types.ClassType;
+import polyglot.types.ReferenceType;
+import polyglot.types.TypeSystem;
+
+/**
+ * An {@code AncestorCache} remembers the ancestors of class types, as
+ * returned by {@link JL5TypeSystem#allAncestorsOf(ReferenceType)}.  Keys
+ * compare types with {@code equals}, so that equal instantiations of a
+ * generic class share their entry.
+ *
+ * The ancestors of a class depend on the supertypes of every class above
+ * it, so the type system clears the cache whenever the supertypes of a
+ * class change; see {@link TypeSystem#classMembersChanged(ClassType)}.
+ * Results computed while the cache was cleared are not stored.  The cache
+ * is bounded, evicting the least recently used entry.
+ */
+public class AncestorCache {
+    /** Default maximum number of entries. */
+    public static final int DEFAULT_LIMIT = 4096;
+
+    /** The ancestors of a class type. */
+    public static final class Ancestors {
+        protected final List<ReferenceType> all;
+        protected final List<JL5SubstClassType> instantiations;
+
+        public Ancestors(List<ReferenceType> all) {
+            this.all = Collections.unmodifiableList(all);
+            List<JL5SubstClassType> l = new ArrayList<>();
+            for (ReferenceType a : all) {
+                if (a instanceof JL5SubstClassType)
+                    l.add((JL5SubstClassType) a);
+            }
+            this.instantiations = Collections.unmodifiableList(l);
+        }
+
+        /** The type followed by all of its ancestors, without duplicates. */
+        public List<ReferenceType> all() {
+            return all;
+        }
+
+        /**
+         * The ancestors that instantiate a generic class, in the order of
+         * {@link #all()}.
+         */
+        public List<JL5SubstClassType> instantiations() {
+            return instantiations;
+        }
+    }
+
+    protected final int limit;
+    protected final Map<ReferenceType, Ancestors> cache;
+    protected int generation;
+
+    public AncestorCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public AncestorCache(int limit) {
+        this.limit = limit;
+        this.cache = new LinkedHashMap<ReferenceType, Ancestors>(16,
+                                                                 0.75f,
+                                                                 true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<ReferenceType, Ancestors> eldest) {
+                return size() > AncestorCache.this.limit;
+            }
+        };
+    }
+
+    /** Return the ancestors of {@code ct}, or null if not cached. */
+    public synchronized Ancestors get(ReferenceType ct) {
+        return cache.get(ct);
+    }
+
+    /**
+     * The current generation of the cache, which changes whenever it is
+     * cleared.  Pass it to
+     * {@link #put(ReferenceType, int, AncestorCache.Ancestors) put}.
+     */
+    public synchronized int generation() {
+        return generation;
+    }
+
+    /**
+     * Remember the ancestors of {@code ct}, unless the cache has been
+     * cleared since {@code generation} was read.
+     */
+    public synchronized void put(ReferenceType ct, int generation,
+            Ancestors ancestors) {
+        if (generation == this.generation) cache.put(ct, ancestors);
+    }
+
+    /** Forget all cached results. */
+    public synchronized void clear() {
+        generation++;
+        if (!cache.isEmpty()) cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+}
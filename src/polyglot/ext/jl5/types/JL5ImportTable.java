@@ -44,9 +44,13 @@ public class JL5ImportTable extends ImportTable {
     protected ArrayList<String> singleStaticImports;
     protected ArrayList<String> staticOnDemandImports;
 
-    public int id = counter++;
+    public int id = nextId();
     private static int counter = 0;
 
+    private static synchronized int nextId() {
+        return counter++;
+    }
+
     public JL5ImportTable(TypeSystem ts, polyglot.types.Package pkg, String src) {
         super(ts, pkg, src);
         this.singleStaticImports = new ArrayList<>();
@@ -209,6 +209,7 @@ public class JL5ParsedClassType_c extends ParsedClassType_c implements
                 tv.setDeclaringClass(this);
             }
         }
+        membersChanged();
     }
 
     @Override
@@ -75,6 +75,7 @@ import polyglot.types.NullType;
 import polyglot.types.Package;
 import polyglot.types.ParsedClassType;
 import polyglot.types.PrimitiveType;
+import polyglot.types.ProcedureCache;
 import polyglot.types.ProcedureInstance;
 import polyglot.types.ReferenceType;
 import polyglot.types.SemanticException;
@@ -101,6 +102,18 @@ public class JL5TypeSystem_c
 
     protected ClassType ITERATOR_;
 
+    /**
+     * Results of allAncestorsOf for class types, cleared whenever class
+     * members change.
+     */
+    protected AncestorCache ancestorCache = new AncestorCache();
+
+    @Override
+    public void classMembersChanged(ClassType ct) {
+        super.classMembersChanged(ct);
+        ancestorCache.clear();
+    }
+
     @Override
     public ClassType Enum() {
         if (ENUM_ != null) {
@@ -686,13 +699,11 @@ public class JL5TypeSystem_c
 
             @SuppressWarnings("unchecked")
             List<JL5MethodInstance> methods =
-                    (List<JL5MethodInstance>) type.toReference().methods();
+                    (List<JL5MethodInstance>) type.toReference()
+                                                  .methodsNamed(name);
             for (JL5MethodInstance mi : methods) {
                 if (Report.should_report(Report.types, 3))
                     Report.report(3, "Trying " + mi);
-
-                // Method name must match
-                if (!mi.name().equals(name)) continue;
 //                System.err.println("      checking " + mi);
 
                 JL5MethodInstance substMi =
@@ -1043,6 +1054,47 @@ public class JL5TypeSystem_c
 
     @Override
     public List<ReferenceType> allAncestorsOf(ReferenceType rt) {
+        return new ArrayList<>(ancestorsOf(rt));
+    }
+
+    /**
+     * Return {@code rt} followed by its ancestors, without copying the list
+     * cached for class types.
+     */
+    protected List<ReferenceType> ancestorsOf(ReferenceType rt) {
+        if (cachesAncestors(rt)) {
+            return classAncestorsOf(rt).all();
+        }
+        return computeAncestorsOf(rt);
+    }
+
+    /**
+     * Whether the ancestors of {@code rt} may be cached.  The supertypes of
+     * classes and their instantiations only change through the class, which
+     * clears the cache; the bounds of intersection types and type variables
+     * may change without notice.
+     */
+    protected boolean cachesAncestors(ReferenceType rt) {
+        return rt instanceof JL5ParsedClassType
+                || rt instanceof JL5SubstClassType || rt instanceof RawClass;
+    }
+
+    /**
+     * Return the ancestors of the class type {@code rt}, from the cache if
+     * possible.  The ancestors of each supertype are cached as well, so
+     * interfaces reached along several paths are only walked once.
+     */
+    protected AncestorCache.Ancestors classAncestorsOf(ReferenceType rt) {
+        AncestorCache.Ancestors ancestors = ancestorCache.get(rt);
+        if (ancestors == null) {
+            int generation = ancestorCache.generation();
+            ancestors = new AncestorCache.Ancestors(computeAncestorsOf(rt));
+            ancestorCache.put(rt, generation, ancestors);
+        }
+        return ancestors;
+    }
+
+    protected List<ReferenceType> computeAncestorsOf(ReferenceType rt) {
         Set<ReferenceType> ancestors = new LinkedHashSet<>();
         ancestors.add(rt);
         Set<? extends Type> superClasses;
@@ -1055,12 +1107,12 @@ public class JL5TypeSystem_c
         for (Type superT : superClasses) {
             if (superT.isReference()) {
                 ancestors.add((ReferenceType) superT);
-                ancestors.addAll(allAncestorsOf((ReferenceType) superT));
+                ancestors.addAll(ancestorsOf((ReferenceType) superT));
             }
         }
         for (ReferenceType inter : rt.interfaces()) {
             ancestors.add(inter);
-            ancestors.addAll(allAncestorsOf(inter));
+            ancestors.addAll(ancestorsOf(inter));
         }
         return new ArrayList<>(ancestors);
     }
@@ -1349,7 +1401,7 @@ public class JL5TypeSystem_c
         if (m.isEmpty()) {
             return null;
         }
-        return new JL5Subst_c(this, m);
+        return (JL5Subst) subst(m);
     }
 
     @Override
@@ -1824,6 +1876,22 @@ public class JL5TypeSystem_c
         assert_(container);
         assert_(argTypes);
 
+        List<Object> key = null;
+        if (isCacheable(container, argTypes, typeArgs, expectedReturnType)) {
+            key =
+                    ProcedureCache.key(container,
+                                       name,
+                                       argTypes,
+                                       typeArgs,
+                                       currClass,
+                                       expectedReturnType,
+                                       fromClient);
+            MethodInstance cached = methodCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         List<? extends MethodInstance> acceptable =
                 findAcceptableMethods(container,
                                       name,
@@ -1870,6 +1938,7 @@ public class JL5TypeSystem_c
         }
 
         MethodInstance mi = maximal.iterator().next();
+        if (key != null) methodCache.put(key, mi);
         return mi;
     }
 
@@ -1893,6 +1962,20 @@ public class JL5TypeSystem_c
         assert_(container);
         assert_(argTypes);
 
+        List<Object> key = null;
+        if (isCacheable(container, argTypes, typeArgs, null)) {
+            key =
+                    ProcedureCache.key(container,
+                                       argTypes,
+                                       typeArgs,
+                                       currClass,
+                                       fromClient);
+            ConstructorInstance cached = constructorCache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
         List<ConstructorInstance> acceptable =
                 findAcceptableConstructors(container,
                                            argTypes,
@@ -1920,9 +2003,50 @@ public class JL5TypeSystem_c
         }
 
         ConstructorInstance ci = maximal.iterator().next();
+        if (key != null) constructorCache.put(key, ci);
         return ci;
     }
 
+    /**
+     * Return true if the result of a method or constructor lookup with the
+     * given types may be cached.  Lookups involving wildcards are not cached,
+     * since capture conversion gives each lookup fresh type variables that
+     * must not be shared between call sites.
+     */
+    protected boolean isCacheable(ReferenceType container,
+            List<? extends Type> argTypes,
+            List<? extends ReferenceType> typeArgs, Type expectedReturnType) {
+        if (mentionsWildcard(container)) return false;
+        for (Type t : argTypes) {
+            if (mentionsWildcard(t)) return false;
+        }
+        if (typeArgs != null) {
+            for (Type t : typeArgs) {
+                if (mentionsWildcard(t)) return false;
+            }
+        }
+        return expectedReturnType == null
+                || !mentionsWildcard(expectedReturnType);
+    }
+
+    protected boolean mentionsWildcard(Type t) {
+        if (t instanceof WildCardType
+                || t instanceof CaptureConvertedWildCardType) {
+            return true;
+        }
+        if (t instanceof ArrayType) {
+            return mentionsWildcard(((ArrayType) t).base());
+        }
+        if (t instanceof JL5SubstClassType) {
+            for (ReferenceType a : ((JL5SubstClassType) t).subst()
+                                                         .substitutions()
+                                                         .values()) {
+                if (mentionsWildcard(a)) return true;
+            }
+        }
+        return false;
+    }
+
     @Override
     protected List<? extends ConstructorInstance> findAcceptableConstructors(
             ClassType container, List<? extends Type> argTypes,
@@ -2119,13 +2243,27 @@ public class JL5TypeSystem_c
         return wildCardType(position, null, null);
     }
 
+    /**
+     * Canonical wildcard types.  Wildcard types are immutable, so equal
+     * wildcards can share one object.
+     */
+    protected Map<WildCardType, WildCardType> wildCardTypeCache =
+            new HashMap<>();
+
     @Override
     public WildCardType wildCardType(Position position,
             ReferenceType upperBound, ReferenceType lowerBound) {
         if (upperBound == null) {
             upperBound = Object();
         }
-        return new WildCardType_c(this, position, upperBound, lowerBound);
+        WildCardType t =
+                new WildCardType_c(this, position, upperBound, lowerBound);
+        WildCardType canonical = wildCardTypeCache.get(t);
+        if (canonical == null) {
+            wildCardTypeCache.put(t, t);
+            canonical = t;
+        }
+        return canonical;
     }
 
     public CaptureConvertedWildCardType captureConvertedWildCardType(
@@ -2231,7 +2369,10 @@ public class JL5TypeSystem_c
     @Override
     public JL5SubstClassType findGenericSupertype(JL5ParsedClassType base,
             ReferenceType sub) {
-        List<ReferenceType> ancestors = allAncestorsOf(sub);
+        List<? extends ReferenceType> ancestors =
+                cachesAncestors(sub)
+                        ? classAncestorsOf(sub).instantiations()
+                        : ancestorsOf(sub);
         for (ReferenceType a : ancestors) {
             if (!(a instanceof JL5SubstClassType)) {
                 continue;
@@ -2388,12 +2529,24 @@ public class JL5TypeSystem_c
         return this.rawClass(base, base.position());
     }
 
+    /**
+     * Canonical raw classes, one per generic class, so that the erased
+     * class type of each raw class is also created only once.
+     */
+    protected Map<JL5ParsedClassType, RawClass> rawClassCache =
+            new HashMap<>();
+
     @Override
     public RawClass rawClass(JL5ParsedClassType base, Position pos) {
         if (!canBeRaw(base)) {
             throw new InternalCompilerError("Can only create a raw class with a parameterized class");
         }
-        return new RawClass_c(base, pos);
+        RawClass t = rawClassCache.get(base);
+        if (t == null) {
+            t = new RawClass_c(base, pos);
+            rawClassCache.put(base, t);
+        }
+        return t;
     }
 
     @Override
@@ -2644,9 +2797,8 @@ public class JL5TypeSystem_c
 
     public void checkMethodNameClash(JL5MethodInstance mi, ClassType type,
             ReferenceType declaringClass) throws SemanticException {
-        for (MethodInstance mj_ : declaringClass.methods()) {
+        for (MethodInstance mj_ : declaringClass.methodsNamed(mi.name())) {
             JL5MethodInstance mj = (JL5MethodInstance) mj_;
-            if (!mi.name().equals(mj.name())) continue;
             if (!isAccessible(mj, type)) continue;
             if (isSubSignature(mi, mj)) continue;
 
@@ -72,6 +72,10 @@ public class TypeVariable_c extends ReferenceType_c implements TypeVariable {
     protected transient Long syntheticUniqueId;
     private static long idCount = 1;
 
+    private static synchronized long nextUniqueId() {
+        return idCount++;
+    }
+
     /**
      * The upper bound of this type variable. Should always be non-null. 
      */
@@ -94,7 +98,7 @@ public class TypeVariable_c extends ReferenceType_c implements TypeVariable {
             upperBound = ts.Object();
         }
         this.upperBound = upperBound;
-        this.syntheticUniqueId = Long.valueOf(idCount++);
+        this.syntheticUniqueId = Long.valueOf(nextUniqueId());
     }
 
     @Override
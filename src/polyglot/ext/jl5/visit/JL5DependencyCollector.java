@@ -0,0 +1,77 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan 
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+package polyglot.ext.jl5.visit;
+
+import polyglot.ast.JLang;
+import polyglot.ext.jl5.types.IntersectionType;
+import polyglot.ext.jl5.types.JL5SubstClassType;
+import polyglot.ext.jl5.types.RawClass;
+import polyglot.ext.jl5.types.TypeVariable;
+import polyglot.ext.jl5.types.WildCardType;
+import polyglot.types.ReferenceType;
+import polyglot.types.Type;
+import polyglot.visit.DependencyCollector;
+
+/**
+ * Dependency collector that also records the classes named in the type
+ * arguments of instantiated generic classes and in the bounds of type
+ * variables, wildcards and intersection types.
+ */
+public class JL5DependencyCollector extends DependencyCollector {
+    public JL5DependencyCollector(JLang lang) {
+        super(lang);
+    }
+
+    @Override
+    protected void addComponents(Type t) {
+        if (t instanceof TypeVariable) {
+            TypeVariable tv = (TypeVariable) t;
+            addType(tv.upperBound());
+            if (tv.hasLowerBound()) addType(tv.lowerBound());
+        }
+        else if (t instanceof WildCardType) {
+            WildCardType wc = (WildCardType) t;
+            addType(wc.upperBound());
+            addType(wc.lowerBound());
+        }
+        else if (t instanceof IntersectionType) {
+            for (ReferenceType b : ((IntersectionType) t).bounds())
+                addType(b);
+        }
+        else if (t instanceof JL5SubstClassType) {
+            JL5SubstClassType st = (JL5SubstClassType) t;
+            addType(st.base());
+            for (ReferenceType a : st.subst().substitutions().values())
+                addType(a);
+        }
+        else if (t instanceof RawClass) {
+            addType(((RawClass) t).base());
+        }
+        else {
+            super.addComponents(t);
+        }
+    }
+}
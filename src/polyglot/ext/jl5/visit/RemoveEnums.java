@@ -33,6 +33,8 @@ import java.util.List;
 import java.util.Stack;
 
 import polyglot.ast.ArrayInit;
+import polyglot.ast.Assign;
+import polyglot.ast.Binary;
 import polyglot.ast.Block;
 import polyglot.ast.Call;
 import polyglot.ast.Case;
@@ -57,6 +59,7 @@ import polyglot.ast.NodeFactory;
 import polyglot.ast.Return;
 import polyglot.ast.Stmt;
 import polyglot.ast.Switch;
+import polyglot.ast.SwitchElement;
 import polyglot.ast.TypeNode;
 import polyglot.ext.jl5.JL5Options;
 import polyglot.ext.jl5.ast.EnumConstantDecl;
@@ -64,6 +67,7 @@ import polyglot.ext.jl5.ast.JL5ClassDeclExt;
 import polyglot.ext.jl5.ast.JL5EnumDeclExt;
 import polyglot.ext.jl5.ast.JL5Ext;
 import polyglot.ext.jl5.types.EnumInstance;
+import polyglot.ext.jl5.types.JL5ClassType;
 import polyglot.ext.jl5.types.JL5Flags;
 import polyglot.ext.jl5.types.JL5LocalInstance;
 import polyglot.ext.jl5.types.JL5TypeSystem;
@@ -109,6 +113,11 @@ public class RemoveEnums extends ContextVisitor {
 
     private final boolean translateEnumSet;
 
+    /**
+     * Translate switches on enums through ordinal-indexed switch maps?
+     */
+    private final boolean enumSwitchMaps;
+
     /**
      * ClassMembers to add at the closest surrounding class body.
      * An element is pushed when entering a ClassBody, and popped when exiting a ClassBody.
@@ -124,6 +133,8 @@ public class RemoveEnums extends ContextVisitor {
         enumSetImplClass = ((JL5Options) job.extensionInfo()
                                             .getOptions()).enumSetImplClass;
         translateEnumSet = !enumSetImplClass.equals("java.util.EnumSet");
+        enumSwitchMaps =
+                ((JL5Options) job.extensionInfo().getOptions()).enumSwitchMaps;
     }
 
     @Override
@@ -627,11 +638,15 @@ public class RemoveEnums extends ContextVisitor {
         tr.lang().prettyPrint(cd, w, tr);
     }
 
-    private Node translateSwitch(Switch n) {
+    private Node translateSwitch(Switch n) throws SemanticException {
         if (n.expr().type().isPrimitive()) {
             // nothing to do with this switch
             return n;
         }
+        if (enumSwitchMaps) {
+            Switch m = translateSwitchToSwitchMap(n);
+            if (m != null) return m;
+        }
         // it's a switch on an enum
         // need to translate it.
         // The basic idea is given "switch (e) { case GREEN: ...; case RED: ...; }"
@@ -656,12 +671,13 @@ public class RemoveEnums extends ContextVisitor {
         // add the if statements
         for (FieldInstance field : enumConstantFieldInstances(enumType)) {
             int index = findEnumConstIndex(enumType, field);
-            Stmt s = qq.parseStmt("if (%E == %T." + field.name() + ") return "
-                    + index + ";",
+            Stmt s = qq.parseStmt("if (%E == %T.%s) return %E;",
                                   nodeFactory().Local(pos, arg)
                                                .localInstance(argLI)
                                                .type(enumType),
-                                  enumType);
+                                  enumType,
+                                  field.name(),
+                                  nodeFactory().IntLit(pos, IntLit.INT, index));
             stmts.add(s);
         }
 
@@ -706,6 +722,198 @@ public class RemoveEnums extends ContextVisitor {
         return n;
     }
 
+    /**
+     * Translate a switch on an enum to a switch on an int array indexed by
+     * ordinal, like javac's $SwitchMap$.  Given "switch (e) { case GREEN: ...; }"
+     * we produce "switch (enum$SwitchMap$Coin()[e.ordinal()]) { case 1: ...; }",
+     * where enum$SwitchMap$Coin() lazily creates the map from the ordinals of
+     * the enum constants to their ordinals at compile time plus one.  Constants
+     * unknown at compile time map to 0, and so to the default case.
+     * <p>
+     * The map and the method that creates it are shared by all switches on
+     * the enum in the nearest enclosing class that can declare static members.
+     * Returns null if there is no such class.
+     */
+    private Switch translateSwitchToSwitchMap(Switch n)
+            throws SemanticException {
+        int hostIndex = classMembersToAdd.size() - 1;
+        ClassType host = this.context().currentClass();
+        while (host != null
+                && (host.flags().isInterface() || !host.isTopLevel()
+                        && !(host.isMember() && host.flags().isStatic()))) {
+            host = host.outer();
+            hostIndex--;
+        }
+        if (host == null || hostIndex < 0) {
+            return null;
+        }
+
+        Position pos = Position.compilerGenerated();
+        JL5ClassType enumType = (JL5ClassType) n.expr().type().toClass();
+        String name = "enum$SwitchMap$" + enumType.fullName().replace('.', '_');
+
+        n = n.expr(nodeFactory().ArrayAccess(pos,
+                                             nodeFactory().Call(pos,
+                                                                nodeFactory().Id(pos,
+                                                                                 name)),
+                                             nodeFactory().Call(pos,
+                                                                n.expr(),
+                                                                nodeFactory().Id(pos,
+                                                                                 "ordinal"))));
+
+        // the case labels are the ordinals of the constants, see translateCase
+        List<SwitchElement> elements = new ArrayList<>(n.elements().size());
+        for (SwitchElement se : n.elements()) {
+            if (se instanceof Case && !((Case) se).isDefault()) {
+                Case c = (Case) se;
+                se = c.expr(nodeFactory().IntLit(pos,
+                                                 IntLit.INT,
+                                                 c.value() + 1))
+                      .value(c.value() + 1);
+            }
+            elements.add(se);
+        }
+        n = n.elements(elements);
+
+        List<ClassMember> members = classMembersToAdd.get(hostIndex);
+        for (ClassMember cm : members) {
+            if (cm instanceof MethodDecl
+                    && ((MethodDecl) cm).name().equals(name)) {
+                // the map has already been created for another switch
+                return n;
+            }
+        }
+
+        // private static volatile int[] enum$SwitchMap$Coin;
+        Type mapType = ts.arrayOf(ts.Int());
+        Flags fieldFlags = Flags.PRIVATE.Static().Volatile();
+        FieldDecl field =
+                nodeFactory().FieldDecl(pos,
+                                        fieldFlags,
+                                        nodeFactory().CanonicalTypeNode(pos,
+                                                                        mapType),
+                                        nodeFactory().Id(pos, name));
+        field = field.fieldInstance(ts.fieldInstance(pos,
+                                                     host,
+                                                     fieldFlags,
+                                                     mapType,
+                                                     name));
+
+        // private static int[] enum$SwitchMap$Coin() {
+        //     int[] map = enum$SwitchMap$Coin;
+        //     if (map == null) {
+        //         map = new int[Coin.values().length];
+        //         try { map[Coin.GREEN.ordinal()] = 1; } catch (NoSuchFieldError e) { }
+        //         ...
+        //         enum$SwitchMap$Coin = map;
+        //     }
+        //     return map;
+        // }
+        FieldInstance fi = field.fieldInstance();
+        LocalInstance mapLI =
+                ts.localInstance(pos, Flags.NONE, mapType, "map");
+        Type nsfe = ts.typeForName("java.lang.NoSuchFieldError");
+
+        List<Stmt> init = new ArrayList<>();
+        init.add(nodeFactory().Eval(pos,
+                                    nodeFactory().Assign(pos,
+                                                         switchMapLocal(mapLI),
+                                                         Assign.ASSIGN,
+                                                         nodeFactory().NewArray(pos,
+                                                                                nodeFactory().CanonicalTypeNode(pos,
+                                                                                                                ts.Int()),
+                                                                                Collections.singletonList(qq.parseExpr("%T.values().length",
+                                                                                                                       enumType))))));
+        for (EnumInstance ei : enumType.enumConstants()) {
+            Expr index = qq.parseExpr("%T.%s.ordinal()", enumType, ei.name());
+            Stmt put =
+                    nodeFactory().Eval(pos,
+                                       nodeFactory().Assign(pos,
+                                                            nodeFactory().ArrayAccess(pos,
+                                                                                      switchMapLocal(mapLI),
+                                                                                      index),
+                                                            Assign.ASSIGN,
+                                                            nodeFactory().IntLit(pos,
+                                                                                 IntLit.INT,
+                                                                                 ei.ordinal() + 1)));
+            LocalInstance eLI = ts.localInstance(pos, Flags.NONE, nsfe, "e");
+            Formal e = nodeFactory().Formal(pos,
+                                            Flags.NONE,
+                                            nodeFactory().CanonicalTypeNode(pos,
+                                                                            nsfe),
+                                            nodeFactory().Id(pos, "e"))
+                                    .localInstance(eLI);
+            init.add(nodeFactory().Try(pos,
+                                       nodeFactory().Block(pos, put),
+                                       Collections.singletonList(nodeFactory().Catch(pos,
+                                                                                     e,
+                                                                                     nodeFactory().Block(pos)))));
+        }
+        init.add(nodeFactory().Eval(pos,
+                                    nodeFactory().Assign(pos,
+                                                         switchMapField(host,
+                                                                        fi),
+                                                         Assign.ASSIGN,
+                                                         switchMapLocal(mapLI))));
+
+        List<Stmt> stmts = new ArrayList<>();
+        stmts.add(nodeFactory().LocalDecl(pos,
+                                          Flags.NONE,
+                                          nodeFactory().CanonicalTypeNode(pos,
+                                                                          mapType),
+                                          nodeFactory().Id(pos, "map"),
+                                          switchMapField(host, fi))
+                               .localInstance(mapLI));
+        stmts.add(nodeFactory().If(pos,
+                                   nodeFactory().Binary(pos,
+                                                        switchMapLocal(mapLI),
+                                                        Binary.EQ,
+                                                        nodeFactory().NullLit(pos))
+                                                .type(ts.Boolean()),
+                                   nodeFactory().Block(pos, init)));
+        stmts.add(nodeFactory().Return(pos, switchMapLocal(mapLI)));
+
+        Flags methodFlags = Flags.PRIVATE.Static();
+        MethodDecl method =
+                nodeFactory().MethodDecl(pos,
+                                         methodFlags,
+                                         nodeFactory().CanonicalTypeNode(pos,
+                                                                         mapType),
+                                         nodeFactory().Id(pos, name),
+                                         Collections.<Formal> emptyList(),
+                                         Collections.<TypeNode> emptyList(),
+                                         nodeFactory().Block(pos, stmts));
+        method = method.methodInstance(ts.methodInstance(pos,
+                                                         host,
+                                                         methodFlags,
+                                                         mapType,
+                                                         name,
+                                                         Collections.<Type> emptyList(),
+                                                         Collections.<Type> emptyList()));
+
+        members.add(field);
+        members.add(method);
+        return n;
+    }
+
+    private Local switchMapLocal(LocalInstance li) {
+        return (Local) nodeFactory().Local(li.position(),
+                                           nodeFactory().Id(li.position(),
+                                                            li.name()))
+                                    .localInstance(li)
+                                    .type(li.type());
+    }
+
+    private Field switchMapField(ClassType host, FieldInstance fi) {
+        return (Field) nodeFactory().Field(fi.position(),
+                                           nodeFactory().CanonicalTypeNode(fi.position(),
+                                                                           host),
+                                           nodeFactory().Id(fi.position(),
+                                                            fi.name()))
+                                    .fieldInstance(fi)
+                                    .type(fi.type());
+    }
+
     private void addClassMemberToAdd(MethodDecl switchMethod) {
         String methodName = switchMethod.name();
         List<ClassMember> list = classMembersToAdd.peek();
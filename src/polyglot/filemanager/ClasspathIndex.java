@@ -0,0 +1,308 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.filemanager;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.net.URI;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.jar.JarFile;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+
+import javax.tools.FileObject;
+
+import polyglot.main.Report;
+
+/**
+ * An index of the archives on the class path.  Each archive is opened and its
+ * entries enumerated only once; afterwards, looking up a class or package in
+ * the archive is a table lookup.  The index is shared by all the file
+ * managers in a JVM.
+ */
+public class ClasspathIndex {
+    protected static final ClasspathIndex global = new ClasspathIndex();
+
+    /** The index shared by all file managers. */
+    public static ClasspathIndex global() {
+        return global;
+    }
+
+    /** The index of a single zip or jar file. */
+    public static class Archive {
+        protected final File file;
+        protected final long lastModified;
+        protected final ZipFile zip;
+
+        /** Class file entries, by entry name, e.g., "java/lang/Object.class" */
+        protected final Map<String, ZipEntry> classes;
+
+        /** Packages, with '/' as the separator, e.g., "java/lang" */
+        protected final Set<String> packages;
+
+        /**
+         * Names of the files directly in each package, by package, e.g.,
+         * "java/lang" maps to a set containing "Object.class".  The root
+         * package is "".
+         */
+        protected final Map<String, Set<String>> files;
+
+        protected Archive(File file) throws IOException {
+            this.file = file;
+            this.lastModified = file.lastModified();
+            this.zip =
+                    file.getName().endsWith(".jar")
+                            ? new JarFile(file) : new ZipFile(file);
+            this.classes = new HashMap<>(zip.size() * 4 / 3 + 1);
+            this.packages = new HashSet<>();
+            this.files = new HashMap<>();
+
+            Enumeration<? extends ZipEntry> i = zip.entries();
+            while (i.hasMoreElements()) {
+                ZipEntry e = i.nextElement();
+                String n = e.getName();
+                if (n.endsWith(".class")) classes.put(n, e);
+                if (!e.isDirectory()) {
+                    int slash = n.lastIndexOf('/');
+                    String pkg = slash < 0 ? "" : n.substring(0, slash);
+                    Set<String> s = files.get(pkg);
+                    if (s == null) {
+                        s = new HashSet<>();
+                        files.put(pkg, s);
+                    }
+                    s.add(n.substring(slash + 1));
+                }
+                int index = n.indexOf('/');
+                while (index >= 0) {
+                    packages.add(n.substring(0, index));
+                    index = n.indexOf('/', index + 1);
+                }
+            }
+        }
+
+        public File file() {
+            return file;
+        }
+
+        /** Does the archive contain package {@code name}, e.g., "java/lang"? */
+        public boolean containsPackage(String name) {
+            return packages.contains(name);
+        }
+
+        /**
+         * The names of the files directly in package {@code name}, e.g.,
+         * "java/lang".
+         */
+        public Set<String> files(String name) {
+            Set<String> s = files.get(name);
+            if (s == null) return Collections.emptySet();
+            return Collections.unmodifiableSet(s);
+        }
+
+        /** Does the archive contain entry {@code name}? */
+        public boolean containsClass(String entryName) {
+            return classes.containsKey(entryName);
+        }
+
+        /** The URI of entry {@code entryName}. */
+        public URI uri(String entryName) {
+            return URI.create("jar:" + file.toURI() + "!/" + entryName);
+        }
+
+        /** A file object for entry {@code entryName}. */
+        public FileObject fileObject(String entryName) {
+            return new EntryFileObject(this, entryName);
+        }
+
+        /** Read the contents of class file entry {@code entryName}. */
+        public byte[] read(String entryName) throws IOException {
+            ZipEntry e = classes.get(entryName);
+            if (e == null) return null;
+            long size = e.getSize();
+            try (InputStream in = zip.getInputStream(e)) {
+                if (size < 0) return ExtFileManager.readAll(in);
+                byte[] b = new byte[(int) size];
+                int off = 0;
+                while (off < b.length) {
+                    int n = in.read(b, off, b.length - off);
+                    if (n < 0) throw new IOException("Truncated entry "
+                            + entryName + " in " + file);
+                    off += n;
+                }
+                return b;
+            }
+        }
+
+        protected boolean isStale() {
+            return file.lastModified() != lastModified;
+        }
+
+        protected void close() {
+            try {
+                zip.close();
+            }
+            catch (IOException e) {
+            }
+        }
+    }
+
+    /** A read-only file object for an entry of an archive. */
+    protected static class EntryFileObject implements FileObject {
+        protected final Archive archive;
+        protected final String entryName;
+
+        protected EntryFileObject(Archive archive, String entryName) {
+            this.archive = archive;
+            this.entryName = entryName;
+        }
+
+        @Override
+        public URI toUri() {
+            return archive.uri(entryName);
+        }
+
+        @Override
+        public String getName() {
+            return archive.file() + "(" + entryName + ")";
+        }
+
+        @Override
+        public InputStream openInputStream() throws IOException {
+            return new ByteArrayInputStream(archive.read(entryName));
+        }
+
+        @Override
+        public OutputStream openOutputStream() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Reader openReader(boolean ignoreEncodingErrors)
+                throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors)
+                throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Writer openWriter() throws IOException {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public long getLastModified() {
+            return archive.lastModified;
+        }
+
+        @Override
+        public boolean delete() {
+            return false;
+        }
+
+        @Override
+        public String toString() {
+            return getName();
+        }
+    }
+
+    protected final Map<File, Archive> archives = new HashMap<>();
+
+    /** Files that were not found */
+    protected final Set<File> missing = new HashSet<>();
+
+    /**
+     * Incremented whenever the index forgets something, so that users of the
+     * index can tell when to discard information derived from it.
+     */
+    protected int generation;
+
+    /**
+     * Return the index of archive {@code file}, or null if the file does not
+     * exist.
+     */
+    public synchronized Archive archive(File file) throws IOException {
+        Archive a = archives.get(file);
+        if (a == null) {
+            if (missing.contains(file)) return null;
+            if (!file.isFile()) {
+                missing.add(file);
+                return null;
+            }
+            if (Report.should_report(ExtFileManager.verbose, 2))
+                Report.report(2, "Opening zip " + file);
+            a = new Archive(file);
+            archives.put(file, a);
+        }
+        return a;
+    }
+
+    /** The number of times the index has been flushed or cleared. */
+    public synchronized int generation() {
+        return generation;
+    }
+
+    /**
+     * Forget the archives that have been modified since they were opened,
+     * and the files that were not found.
+     */
+    public synchronized void flush() {
+        generation++;
+        missing.clear();
+        for (Iterator<Archive> i = archives.values().iterator(); i.hasNext();) {
+            Archive a = i.next();
+            if (a.isStale()) {
+                a.close();
+                i.remove();
+            }
+        }
+    }
+
+    /** Forget all archives. */
+    public synchronized void clear() {
+        for (Archive a : archives.values()) {
+            a.close();
+        }
+        archives.clear();
+        missing.clear();
+        generation++;
+    }
+}
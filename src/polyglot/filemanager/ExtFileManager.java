@@ -35,16 +35,27 @@ import java.io.InputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.DirectoryStream;
+import java.nio.file.FileSystem;
+import java.nio.file.FileSystemNotFoundException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.ProviderNotFoundException;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
-import java.util.Enumeration;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.jar.Attributes;
 import java.util.jar.JarFile;
-import java.util.zip.ZipEntry;
-import java.util.zip.ZipFile;
+import java.util.jar.Manifest;
 
 import javax.tools.FileObject;
 import javax.tools.ForwardingJavaFileManager;
@@ -56,8 +67,10 @@ import javax.tools.StandardLocation;
 
 import polyglot.frontend.ExtensionInfo;
 import polyglot.frontend.FileSource;
+import polyglot.frontend.Metrics;
 import polyglot.frontend.Source;
 import polyglot.main.Main;
+import polyglot.main.Options;
 import polyglot.main.Report;
 import polyglot.types.reflect.ClassFile;
 import polyglot.util.CollectionUtil;
@@ -78,13 +91,23 @@ public class ExtFileManager
     /** Map of sources already loaded */
     protected final Map<String, FileSource> loadedSources;
     /** A cache for package look ups */
-    protected static final Map<String, Boolean> packageCache = new HashMap<>();
+    protected final Map<String, Boolean> packageCache =
+            new ConcurrentHashMap<>();
     /** A cache for the class files that don't exist */
-    protected static final Set<String> nocache = new HashSet<>();
+    protected final Set<String> nocache =
+            Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
 
-    protected static final Map<File, Object> zipCache = new HashMap<>();
-
-    protected static final Object not_found = new Object();
+    /** The index of the archives on the class path */
+    protected static final ClasspathIndex index = ClasspathIndex.global();
+    /**
+     * A cache for the contents of class files that belong to the Java runtime,
+     * which cannot change while the compiler is running.
+     */
+    protected static final Map<URI, byte[]> runtimeClassCache =
+            new ConcurrentHashMap<>();
+    /** The directory of the Java runtime */
+    protected static final String javaHome =
+            new File(System.getProperty("java.home")).getAbsolutePath();
 
     protected static final int BUF_SIZE = 1024 * 8;
 
@@ -119,31 +142,86 @@ public class ExtFileManager
      */
     protected final boolean inMemory;
 
-    protected static List<Location> default_locations;
+    /**
+     * Indicates whether to keep the output of the source-to-source
+     * translation in memory, for a pipelined post-compiler, even if class
+     * files are written to the file system.
+     */
+    protected final boolean sourcesInMemory;
+
+    /** The locations searched for class files */
+    protected final List<Location> default_locations;
+
+    /**
+     * Names of the types in each package, or null for packages whose
+     * contents cannot be listed; see {@link #packageTypeNames(String)}.
+     */
+    protected final Map<String, Set<String>> packageTypes = new HashMap<>();
+
+    /** The generation of the classpath index when packageTypes was filled. */
+    protected int packageTypesGeneration;
+
+    /**
+     * Names of the files in each directory listed by
+     * {@link #packageTypeNames(String)}.  The listings are kept by the file
+     * manager rather than the classpath index, since the directories may be
+     * written to by later compilations in the same JVM.
+     */
+    protected final Map<File, Set<String>> directories = new HashMap<>();
+
+    protected static List<File> systemClassPath;
+    protected static boolean systemClassPathComputed;
+
+    /**
+     * The runtime image of the running JVM, or null if it has none (before
+     * Java 9).  See {@link #runtimeImageFiles(String)}.
+     */
+    protected static FileSystem runtimeImage;
+    protected static boolean runtimeImageComputed;
+
+    /**
+     * Names of the files in each package of the runtime image.  The image
+     * cannot change while the JVM runs, so the listings are shared by all
+     * file managers.
+     */
+    protected static final Map<String, Set<String>> runtimeImageFiles =
+            new ConcurrentHashMap<>();
 
     public ExtFileManager(ExtensionInfo extInfo) {
         super(javaCompiler.getStandardFileManager(null, null, null));
         this.extInfo = extInfo;
         loadedSources = new HashMap<>();
         objectMap = new HashMap<>();
-        inMemory = extInfo.getOptions().noOutputToFS;
-        List<Location> defaultLocations = extInfo.defaultLocations();
-        if (!defaultLocations.equals(default_locations)) {
-            default_locations = defaultLocations;
-            clearCache();
-        }
+        Options options = extInfo.getOptions();
+        inMemory = options.noOutputToFS;
+        sourcesInMemory =
+                inMemory || options.pipeline_post_compiler
+                        && !options.keep_output_files;
+        default_locations = extInfo.defaultLocations();
     }
 
     protected void clearCache() {
         packageCache.clear();
         nocache.clear();
-        zipCache.clear();
+    }
+
+    /**
+     * Discard information shared by the file managers in this JVM that may
+     * have been invalidated by changes to the file system since it was
+     * computed: zips that have been modified and files that were not found.
+     * Lookups that depend on the output directory or the class path are
+     * cached by each file manager, and so last for a single compilation.
+     * A compiler that runs many compilations in one JVM should call this
+     * between compilations.
+     */
+    public static void flushCaches() {
+        index.flush();
     }
 
     @Override
     public FileObject getFileForInput(Location location, String packageName,
             String relativeName) throws IOException {
-        if (inMemory) {
+        if (sourcesInMemory) {
             Map<String, JavaFileObject> locMap = objectMap.get(location);
             if (locMap != null) {
                 String key = fileKey(packageName, relativeName);
@@ -210,7 +288,8 @@ public class ExtFileManager
     @Override
     public FileObject getFileForOutput(Location location, String packageName,
             String relativeName, FileObject sibling) throws IOException {
-        if (inMemory) {
+        if (inMemory || sourcesInMemory
+                && location == extInfo.getOptions().outputLocation()) {
             String key = fileKey(packageName, relativeName);
             URI src = URI.create("file:///" + key);
             JavaFileObject jfo =
@@ -324,7 +403,8 @@ public class ExtFileManager
 
     @Override
     public boolean packageExists(String name) {
-        if (packageCache.containsKey(name)) return packageCache.get(name);
+        Boolean cached = packageCache.get(name);
+        if (cached != null) return cached;
         boolean exists = false;
         for (int i = default_locations.size() - 1; !exists && i >= 0; i--)
             exists = packageExists(default_locations.get(i), name);
@@ -334,50 +414,6 @@ public class ExtFileManager
         return exists;
     }
 
-    protected static ZipFile loadZip(File dir) throws IOException {
-        Object o = zipCache.get(dir);
-        if (o != not_found) {
-            ZipFile zip = (ZipFile) o;
-            if (zip != null) {
-                return zip;
-            }
-            else {
-                // the zip is not in the cache.
-                // try to get it.
-                if (!dir.exists()) {
-                    // record that the file does not exist,
-                    zipCache.put(dir, not_found);
-                }
-                else {
-                    // get the zip and put it in the cache.
-                    if (Report.should_report(verbose, 2))
-                        Report.report(2, "Opening zip " + dir);
-                    if (dir.getName().endsWith(".jar")) {
-                        zip = new JarFile(dir);
-                    }
-                    else {
-                        zip = new ZipFile(dir);
-                    }
-                    zipCache.put(dir, zip);
-
-                    // Load the package cache
-                    Enumeration<? extends ZipEntry> i = zip.entries();
-                    while (i.hasMoreElements()) {
-                        ZipEntry ei = i.nextElement();
-                        String n = ei.getName();
-                        int index = n.indexOf('/');
-                        while (index >= 0) {
-                            packageCache.put(n.substring(0, index), true);
-                            index = n.indexOf('/', index + 1);
-                        }
-                    }
-                    return zip;
-                }
-            }
-        }
-        return null;
-    }
-
     @Override
     public boolean packageExists(Location location, String name) {
         Iterable<? extends File> files = getLocation(location);
@@ -386,14 +422,14 @@ public class ExtFileManager
             String fileName = f.getName();
             if (fileName.endsWith(".jar") || fileName.endsWith(".zip")) {
                 String entryName = name.replace('.', '/');
+                ClasspathIndex.Archive a;
                 try {
-                    loadZip(f);
+                    a = index.archive(f);
                 }
                 catch (IOException e) {
                     throw new InternalCompilerError(e);
                 }
-                Boolean contains = packageCache.get(entryName);
-                if (contains != null && contains) return true;
+                if (a != null && a.containsPackage(entryName)) return true;
             }
             else {
                 String filePath = name.replace('.', File.separatorChar);
@@ -413,13 +449,24 @@ public class ExtFileManager
 
     @Override
     public ClassFile loadFile(String name) {
-        if (nocache.contains(name)) return null;
+        Metrics metrics = extInfo.getStats().metrics();
+        if (nocache.contains(name)) {
+            metrics.count(Metrics.CLASS_FILES, "cached misses");
+            return null;
+        }
+        long t = System.nanoTime();
         ClassFile clazz = null;
         for (int i = default_locations.size() - 1; i >= 0; i--) {
             clazz = loadFile(default_locations.get(i), name);
             if (clazz != null) break;
         }
         if (clazz == null) nocache.add(name);
+        if (metrics.enabled()) {
+            metrics.count(Metrics.CLASS_FILES, clazz != null
+                    ? "loaded" : "not found");
+            metrics.time(Metrics.CLASS_FILE_TIME, "load", System.nanoTime()
+                    - t);
+        }
         return clazz;
     }
 
@@ -434,6 +481,18 @@ public class ExtFileManager
                                   + getLocation(location));
         }
 
+        if (!inMemory) {
+            Iterable<? extends File> path = getLocation(location);
+            if (path != null && isIndexable(path)) {
+                ClassFile clazz = loadIndexedFile(path, name);
+                // Fall back on the file manager for system classes that are
+                // not on the boot class path.
+                if (clazz != null
+                        || location != StandardLocation.PLATFORM_CLASS_PATH)
+                    return clazz;
+            }
+        }
+
         try {
             JavaFileObject jfo = null;
             try {
@@ -459,7 +518,67 @@ public class ExtFileManager
             }
 
             if (jfo != null) {
-                return extInfo.createClassFile(jfo, getBytes(jfo));
+                return extInfo.createClassFile(jfo, getClassFileBytes(jfo));
+            }
+        }
+        catch (ClassFormatError e) {
+            if (Report.should_report(report_topics, 4))
+                Report.report(4, "Class " + name + " format error");
+        }
+        catch (IOException e) {
+            if (Report.should_report(report_topics, 4))
+                Report.report(4, "Error loading class " + name);
+        }
+        return null;
+    }
+
+    /**
+     * Can class files in {@code path} be found using the classpath index?
+     * This is the case if each entry of the path is a directory or an
+     * archive, or does not exist.
+     */
+    protected boolean isIndexable(Iterable<? extends File> path) {
+        for (File f : path) {
+            String fileName = f.getName();
+            if (!fileName.endsWith(".jar") && !fileName.endsWith(".zip")
+                    && f.exists() && !f.isDirectory()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Load class file {@code name} from the directories and archives in
+     * {@code path}, searching the archives through the classpath index.
+     */
+    protected ClassFile loadIndexedFile(Iterable<? extends File> path,
+            String name) {
+        String entryName = name.replace('.', '/') + Kind.CLASS.extension;
+        try {
+            for (File f : path) {
+                if (f.isDirectory()) {
+                    File file =
+                            new File(f, entryName.replace('/', separatorChar));
+                    if (file.isFile()) {
+                        JavaFileObject jfo =
+                                new ExtFileObject(file.toURI(), Kind.CLASS);
+                        return extInfo.createClassFile(jfo,
+                                                       Files.readAllBytes(file.toPath()));
+                    }
+                }
+                else {
+                    ClasspathIndex.Archive a = index.archive(f);
+                    if (a != null && a.containsClass(entryName)) {
+                        URI uri = a.uri(entryName);
+                        byte[] bytes = runtimeClassCache.get(uri);
+                        if (bytes == null) {
+                            bytes = a.read(entryName);
+                            if (isRuntimeClass(uri))
+                                runtimeClassCache.put(uri, bytes);
+                        }
+                        return extInfo.createClassFile(a.fileObject(entryName),
+                                                       bytes);
+                    }
+                }
             }
         }
         catch (ClassFormatError e) {
@@ -473,6 +592,310 @@ public class ExtFileManager
         return null;
     }
 
+    /**
+     * Return false if it is certain that no class file on the default
+     * locations and no source file on the source path declares top-level type
+     * {@code name} of package {@code packageName}, and true otherwise.  This
+     * lets the class resolvers skip lookups that would fail.
+     */
+    public boolean mayContainType(String packageName, String name) {
+        Set<String> names = packageTypeNames(packageName);
+        if (names == null) return true;
+        return names.contains(caseInsensitive() ? name.toLowerCase() : name);
+    }
+
+    /**
+     * Return the names of the class files on the default locations and of the
+     * source files on the source path that are directly in package
+     * {@code packageName}, without their extensions, or null if the contents
+     * of some location cannot be listed.  The names are computed once per
+     * package from the classpath index, and discarded when the index is
+     * flushed.
+     */
+    protected synchronized Set<String> packageTypeNames(String packageName) {
+        if (inMemory) return null;
+
+        int generation = index.generation();
+        if (generation != packageTypesGeneration) {
+            packageTypes.clear();
+            directories.clear();
+            packageTypesGeneration = generation;
+        }
+        if (packageTypes.containsKey(packageName))
+            return packageTypes.get(packageName);
+
+        String packagePath = packageName.replace('.', '/');
+        Set<String> names = new HashSet<>();
+        boolean known = true;
+        List<String> classExts =
+                Collections.singletonList(Kind.CLASS.extension);
+        for (Location location : default_locations) {
+            Iterable<? extends File> path = getLocation(location);
+            if (location == StandardLocation.PLATFORM_CLASS_PATH) {
+                // Classes not found on the platform class path are looked
+                // up through the system class loader; see
+                // getJavaFileForInput.
+                known =
+                        path != null
+                                && addTypeNames(path,
+                                                packagePath,
+                                                classExts,
+                                                names)
+                                && addTypeNames(systemClassPath(),
+                                                packagePath,
+                                                classExts,
+                                                names)
+                                && addRuntimeImageTypeNames(packagePath,
+                                                            classExts,
+                                                            names);
+            }
+            else known = addTypeNames(path, packagePath, classExts, names);
+            if (!known) break;
+        }
+        if (known) {
+            List<String> sourceExts = new ArrayList<>();
+            for (String ext : extInfo.fileExtensions()) {
+                sourceExts.add("." + ext);
+            }
+            known = addTypeNames(getLocation(extInfo.getOptions().source_path),
+                                 packagePath,
+                                 sourceExts,
+                                 names);
+        }
+
+        Set<String> result = known ? names : null;
+        packageTypes.put(packageName, result);
+        return result;
+    }
+
+    /**
+     * Add to {@code names} the names, without their extensions, of the files
+     * in package {@code packagePath} of the directories and archives in
+     * {@code path} that have one of the extensions {@code exts}.  Returns
+     * false if {@code path} is null or contains an entry that cannot be
+     * listed.
+     */
+    protected boolean addTypeNames(Iterable<? extends File> path,
+            String packagePath, List<String> exts, Set<String> names) {
+        if (path == null) return false;
+        boolean lower = caseInsensitive();
+        for (File f : path) {
+            String fileName = f.getName();
+            Set<String> files;
+            if (fileName.endsWith(".jar") || fileName.endsWith(".zip")) {
+                ClasspathIndex.Archive a;
+                try {
+                    a = index.archive(f);
+                }
+                catch (IOException e) {
+                    return false;
+                }
+                if (a == null) continue;
+                files = a.files(packagePath);
+            }
+            else if (f.isDirectory()) {
+                File dir =
+                        new File(f, packagePath.replace('/', separatorChar));
+                files = directory(dir);
+            }
+            else if (!f.exists()) {
+                continue;
+            }
+            else {
+                return false;
+            }
+            addNames(files, exts, lower, names);
+        }
+        return true;
+    }
+
+    /**
+     * Add to {@code names} the names, without their extensions, of the class
+     * files in package {@code packagePath} of the runtime image, if the
+     * system class loader finds classes in one.  Returns false if the image
+     * cannot be listed.
+     */
+    protected boolean addRuntimeImageTypeNames(String packagePath,
+            List<String> exts, Set<String> names) {
+        // Before Java 9, the boot class path is part of systemClassPath().
+        if (System.getProperty("sun.boot.class.path") != null) return true;
+        Set<String> files = runtimeImageFiles(packagePath);
+        if (files == null) return false;
+        addNames(files, exts, caseInsensitive(), names);
+        return true;
+    }
+
+    /**
+     * Add to {@code names} the names, without their extensions, of the files
+     * in {@code files} that have one of the extensions {@code exts}.
+     */
+    protected static void addNames(Collection<String> files,
+            List<String> exts, boolean lower, Set<String> names) {
+        for (String file : files) {
+            for (String ext : exts) {
+                if (file.endsWith(ext)) {
+                    String n = file.substring(0, file.length() - ext.length());
+                    names.add(lower ? n.toLowerCase() : n);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return the names of the files in package {@code packagePath} of the
+     * modules of the runtime image, or null if there is no runtime image or
+     * it cannot be read.  The image's {@code /packages} directory maps each
+     * package to the modules that contain it.
+     */
+    protected static Set<String> runtimeImageFiles(String packagePath) {
+        Set<String> files = runtimeImageFiles.get(packagePath);
+        if (files != null) return files;
+        FileSystem fs = runtimeImage();
+        if (fs == null) return null;
+
+        files = new HashSet<>();
+        if (!packagePath.isEmpty()) {
+            Path modules =
+                    fs.getPath("/packages", packagePath.replace('/', '.'));
+            if (Files.isDirectory(modules)) {
+                try (DirectoryStream<Path> ms =
+                        Files.newDirectoryStream(modules)) {
+                    for (Path m : ms) {
+                        Path dir =
+                                fs.getPath("/modules",
+                                           m.getFileName().toString(),
+                                           packagePath);
+                        if (!Files.isDirectory(dir)) continue;
+                        try (DirectoryStream<Path> ds =
+                                Files.newDirectoryStream(dir)) {
+                            for (Path p : ds) {
+                                files.add(p.getFileName().toString());
+                            }
+                        }
+                    }
+                }
+                catch (IOException e) {
+                    return null;
+                }
+            }
+        }
+        runtimeImageFiles.put(packagePath, files);
+        return files;
+    }
+
+    /**
+     * The runtime image of the running JVM, or null if it has none.
+     */
+    protected static synchronized FileSystem runtimeImage() {
+        if (!runtimeImageComputed) {
+            try {
+                runtimeImage = FileSystems.getFileSystem(URI.create("jrt:/"));
+            }
+            catch (FileSystemNotFoundException | ProviderNotFoundException e) {
+                runtimeImage = null;
+            }
+            runtimeImageComputed = true;
+        }
+        return runtimeImage;
+    }
+
+    /**
+     * Return the names of the files in directory {@code dir}, or the empty
+     * set if {@code dir} is not a directory.  The listing is made once and
+     * remembered for the rest of the compilation.
+     */
+    protected synchronized Set<String> directory(File dir) {
+        Set<String> s = directories.get(dir);
+        if (s == null) {
+            String[] names = dir.list();
+            if (names == null)
+                s = Collections.emptySet();
+            else s = new HashSet<>(Arrays.asList(names));
+            directories.put(dir, s);
+        }
+        return s;
+    }
+
+    /**
+     * The directories and archives searched by the system class loader, or
+     * null if they cannot be determined.
+     */
+    protected static synchronized List<File> systemClassPath() {
+        if (!systemClassPathComputed) {
+            systemClassPath = computeSystemClassPath();
+            systemClassPathComputed = true;
+        }
+        return systemClassPath;
+    }
+
+    protected static List<File> computeSystemClassPath() {
+        List<File> path = new ArrayList<>();
+        Set<File> seen = new HashSet<>();
+
+        String boot = System.getProperty("sun.boot.class.path");
+        if (boot == null) {
+            // Java 9 and later: the built-in class loaders find classes in
+            // the runtime image, listed by runtimeImageFiles, and on the
+            // class path.  Give up if classes may come from elsewhere.
+            if (runtimeImage() == null
+                    || System.getProperty("jdk.module.path") != null
+                    || System.getProperty("java.system.class.loader") != null
+                    || ClassLoader.getSystemClassLoader() instanceof URLClassLoader)
+                return null;
+            String cp = System.getProperty("java.class.path", "");
+            for (String s : cp.split(File.pathSeparator)) {
+                if (!s.isEmpty()) addClassPathEntry(new File(s), path, seen);
+            }
+            return path;
+        }
+
+        for (String s : boot.split(File.pathSeparator)) {
+            if (!s.isEmpty()) addClassPathEntry(new File(s), path, seen);
+        }
+        for (ClassLoader l = ClassLoader.getSystemClassLoader(); l != null; l =
+                l.getParent()) {
+            if (!(l instanceof URLClassLoader)) return null;
+            for (URL url : ((URLClassLoader) l).getURLs()) {
+                if (!"file".equals(url.getProtocol())) return null;
+                try {
+                    addClassPathEntry(new File(url.toURI()), path, seen);
+                }
+                catch (URISyntaxException | IllegalArgumentException e) {
+                    return null;
+                }
+            }
+        }
+        return path;
+    }
+
+    /**
+     * Add {@code f} to {@code path}, followed by the entries of its manifest
+     * class path if it is a jar file.
+     */
+    protected static void addClassPathEntry(File f, List<File> path,
+            Set<File> seen) {
+        if (!seen.add(f)) return;
+        path.add(f);
+        if (!f.getName().endsWith(".jar") || !f.isFile()) return;
+        try (JarFile jar = new JarFile(f)) {
+            Manifest m = jar.getManifest();
+            if (m == null) return;
+            String cp =
+                    m.getMainAttributes().getValue(Attributes.Name.CLASS_PATH);
+            if (cp == null) return;
+            URL base = f.toURI().toURL();
+            for (String s : cp.trim().split("\\s+")) {
+                if (s.isEmpty()) continue;
+                URL url = new URL(base, s);
+                if ("file".equals(url.getProtocol()))
+                    addClassPathEntry(new File(url.toURI()), path, seen);
+            }
+        }
+        catch (IOException | URISyntaxException | IllegalArgumentException e) {
+            // Ignore entries that cannot be read, as the class loader does.
+        }
+    }
+
     @Override
     public FileSource fileSource(String fileName) throws IOException {
         return fileSource(extInfo.getOptions().source_path,
@@ -725,15 +1148,60 @@ public class ExtFileManager
         }
     }
 
+    /**
+     * Get the contents of a class file, caching those that belong to the
+     * Java runtime.
+     */
+    protected static byte[] getClassFileBytes(JavaFileObject jfo)
+            throws IOException {
+        URI uri = jfo.toUri();
+        if (!isRuntimeClass(uri)) return getBytes(jfo);
+
+        byte[] bytes = runtimeClassCache.get(uri);
+        if (bytes == null) {
+            bytes = getBytes(jfo);
+            runtimeClassCache.put(uri, bytes);
+        }
+        return bytes;
+    }
+
+    /**
+     * Does {@code uri} refer to a class file in the Java runtime image, or in
+     * an archive under {@code java.home}?
+     */
+    protected static boolean isRuntimeClass(URI uri) {
+        String scheme = uri.getScheme();
+        if ("jrt".equals(scheme)) return true;
+        if (!"jar".equals(scheme)) return false;
+        String s = uri.getSchemeSpecificPart();
+        int bang = s.indexOf("!/");
+        if (bang < 0) return false;
+        try {
+            File archive = new File(new URI(s.substring(0, bang)));
+            return archive.getPath().startsWith(javaHome);
+        }
+        catch (URISyntaxException | IllegalArgumentException e) {
+            return false;
+        }
+    }
+
     /**
      * Convenience method for extracting bytes from a FileObject
      */
     public static byte[] getBytes(FileObject fo) throws IOException {
-        InputStream is = fo.openInputStream();
+        try (InputStream is = fo.openInputStream()) {
+            return readAll(is);
+        }
+    }
+
+    /**
+     * Read the remaining contents of an input stream.
+     */
+    public static byte[] readAll(InputStream is) throws IOException {
         ByteArrayOutputStream buffer = new ByteArrayOutputStream();
 
         int nRead;
-        byte[] data = new byte[2048];
+        byte[] data = new byte[BUF_SIZE];
 
         while ((nRead = is.read(data, 0, data.length)) != -1) {
             buffer.write(data, 0, nRead);
@@ -0,0 +1,407 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.frontend;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import polyglot.main.Report;
+import polyglot.main.Version;
+import polyglot.util.InternalCompilerError;
+
+/**
+ * A {@code BuildCache} remembers, across compiler runs, what was learned
+ * about each source file named on the command line: a hash of its contents,
+ * the serialized type information of every class it declares, and the
+ * top-level classes it depends on.
+ *
+ * Before a build, {@link #staleSources(Collection)} determines which sources
+ * must be compiled: those that are new or have changed since the last build,
+ * and, transitively, those that depend on a class declared in a changed or
+ * removed source.  The classes of the remaining sources are then resolved
+ * from their cached type information rather than by parsing the source.
+ *
+ * Type information and dependencies are recorded by the
+ * {@link polyglot.visit.ClassSerializer}, so the cache requires class
+ * serialization to be enabled.  The cache does not track the output files
+ * of a build; it assumes the output of the previous build is still present.
+ */
+public class BuildCache {
+    /** Identifies a build cache file. */
+    protected static final int MAGIC = 0x706c6263;
+
+    /** Version of the build cache file format. */
+    protected static final int FORMAT = 1;
+
+    /** What is known about a single source file. */
+    protected static class Entry {
+        /** Hash of the contents of the source. */
+        protected String hash;
+
+        /** Encoded type information of the classes declared in the source. */
+        protected final Map<String, String> types = new LinkedHashMap<>();
+
+        /** Top-level classes the source depends on. */
+        protected final Set<String> dependencies = new LinkedHashSet<>();
+
+        protected Entry(String hash) {
+            this.hash = hash;
+        }
+    }
+
+    protected final ExtensionInfo extInfo;
+    protected final File file;
+
+    /** Entries read from the cache file, by source path. */
+    protected Map<String, Entry> entries;
+
+    /** Hashes of the sources of the current build, by source path. */
+    protected final Map<String, String> hashes = new LinkedHashMap<>();
+
+    /** Entries of the sources that are not being compiled, by source path. */
+    protected final Map<String, Entry> current = new LinkedHashMap<>();
+
+    /** Entries recorded during the current build, by source path. */
+    protected final Map<String, Entry> recorded = new HashMap<>();
+
+    /** Cached type information of the classes that are not being compiled. */
+    protected final Map<String, String> classes = new HashMap<>();
+
+    public BuildCache(ExtensionInfo extInfo, File file) {
+        this.extInfo = extInfo;
+        this.file = file;
+    }
+
+    /** The file in which the cache is stored. */
+    public File file() {
+        return file;
+    }
+
+    /**
+     * The version string recorded with cached types, in the format used by
+     * {@link polyglot.visit.ClassSerializer}.
+     */
+    public String compilerVersion() {
+        Version ver = extInfo.version();
+        return ver.major() + "." + ver.minor() + "." + ver.patch_level();
+    }
+
+    /**
+     * Identifies the compiler that wrote the cache.  A cache written by a
+     * different compiler or compiler version is discarded.
+     */
+    protected String cacheKey() {
+        return extInfo.compilerName() + " " + extInfo.version().name() + " "
+                + compilerVersion();
+    }
+
+    /**
+     * Return the sources in {@code sources} that must be compiled, that is,
+     * those that are not up to date in the cache.  The classes of every other
+     * source become available through {@link #encodedClassType(String)}.
+     */
+    public <S extends Source> List<S> staleSources(Collection<S> sources)
+            throws IOException {
+        if (entries == null) {
+            entries = read();
+        }
+
+        hashes.clear();
+        current.clear();
+        recorded.clear();
+        classes.clear();
+
+        Set<String> stale = new HashSet<>();
+        Set<String> newNames = new HashSet<>();
+
+        for (Source source : sources) {
+            String path = source.path();
+            String hash = hash(source);
+            hashes.put(path, hash);
+
+            Entry e = entries.get(path);
+            if (e == null) {
+                // A new source may declare a class that shadows one used
+                // elsewhere, so be conservative about its simple name.
+                newNames.add(baseName(path));
+                stale.add(path);
+            }
+            else if (!e.hash.equals(hash)) {
+                stale.add(path);
+            }
+        }
+
+        // Classes whose definition may have changed.
+        Set<String> changed = new HashSet<>();
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            if (!hashes.containsKey(e.getKey()) || stale.contains(e.getKey())) {
+                changed.addAll(e.getValue().types.keySet());
+            }
+        }
+
+        // Propagate staleness to dependents until nothing changes.
+        boolean again = true;
+        while (again) {
+            again = false;
+            for (String path : hashes.keySet()) {
+                if (stale.contains(path)) continue;
+                Entry e = entries.get(path);
+                if (dependsOn(e, changed, newNames)) {
+                    stale.add(path);
+                    changed.addAll(e.types.keySet());
+                    again = true;
+                }
+            }
+        }
+
+        List<S> result = new ArrayList<>(stale.size());
+        for (S source : sources) {
+            String path = source.path();
+            if (stale.contains(path)) {
+                result.add(source);
+            }
+            else {
+                Entry e = entries.get(path);
+                current.put(path, e);
+                classes.putAll(e.types);
+            }
+        }
+
+        if (Report.should_report(Report.frontend, 1))
+            Report.report(1, "Build cache: compiling " + result.size() + " of "
+                    + sources.size() + " sources");
+
+        return result;
+    }
+
+    protected boolean dependsOn(Entry e, Set<String> changed,
+            Set<String> newNames) {
+        for (String dep : e.dependencies) {
+            if (changed.contains(dep)) return true;
+            int dot = dep.lastIndexOf('.');
+            if (newNames.contains(dot >= 0 ? dep.substring(dot + 1) : dep))
+                return true;
+        }
+        return false;
+    }
+
+    /**
+     * Return the cached type information for the class {@code name}, or null
+     * if {@code name} is not declared in an up-to-date source.
+     */
+    public String encodedClassType(String name) {
+        return classes.get(name);
+    }
+
+    /**
+     * Record the encoded type information of class {@code name}, declared in
+     * {@code source}.
+     */
+    public synchronized void recordClassType(Source source, String name,
+            String encoded) {
+        Entry e = recordedEntry(source);
+        if (e != null) e.types.put(name, encoded);
+    }
+
+    /**
+     * Record that {@code source} depends on the top-level classes
+     * {@code names}.
+     */
+    public synchronized void recordDependencies(Source source,
+            Collection<String> names) {
+        Entry e = recordedEntry(source);
+        if (e != null) e.dependencies.addAll(names);
+    }
+
+    protected Entry recordedEntry(Source source) {
+        String path = source.path();
+        String hash = hashes.get(path);
+        if (hash == null) {
+            // Not a source of the current build.
+            return null;
+        }
+        Entry e = recorded.get(path);
+        if (e == null) {
+            e = new Entry(hash);
+            recorded.put(path, e);
+        }
+        return e;
+    }
+
+    /**
+     * Write the cache for the current build.  Sources that were compiled but
+     * for which nothing was recorded are left out, and so will be compiled
+     * again by the next build.
+     */
+    public void save() throws IOException {
+        Map<String, Entry> result = new LinkedHashMap<>();
+        for (String path : hashes.keySet()) {
+            Entry e = current.get(path);
+            if (e == null) e = recorded.get(path);
+            if (e != null) result.put(path, e);
+        }
+        write(result);
+        entries = result;
+    }
+
+    /**
+     * Read the cache file.  A missing, unreadable or incompatible cache is
+     * treated as empty.
+     */
+    protected Map<String, Entry> read() {
+        Map<String, Entry> result = new LinkedHashMap<>();
+        if (!file.exists()) {
+            return result;
+        }
+
+        try (DataInputStream in =
+                new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT
+                    || !cacheKey().equals(readString(in))) {
+                if (Report.should_report(Report.frontend, 1))
+                    Report.report(1, "Discarding incompatible build cache "
+                            + file);
+                return result;
+            }
+
+            int n = in.readInt();
+            for (int i = 0; i < n; i++) {
+                String path = readString(in);
+                Entry e = new Entry(readString(in));
+                int types = in.readInt();
+                for (int j = 0; j < types; j++) {
+                    String name = readString(in);
+                    e.types.put(name, readString(in));
+                }
+                int deps = in.readInt();
+                for (int j = 0; j < deps; j++) {
+                    e.dependencies.add(readString(in));
+                }
+                result.put(path, e);
+            }
+        }
+        catch (IOException e) {
+            if (Report.should_report(Report.frontend, 1))
+                Report.report(1, "Discarding unreadable build cache " + file
+                        + ": " + e.getMessage());
+            result.clear();
+        }
+        return result;
+    }
+
+    protected void write(Map<String, Entry> entries) throws IOException {
+        File parent = file.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) parent.mkdirs();
+
+        try (DataOutputStream out =
+                new DataOutputStream(new BufferedOutputStream(new FileOutputStream(file)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT);
+            writeString(out, cacheKey());
+            out.writeInt(entries.size());
+            for (Map.Entry<String, Entry> me : entries.entrySet()) {
+                Entry e = me.getValue();
+                writeString(out, me.getKey());
+                writeString(out, e.hash);
+                out.writeInt(e.types.size());
+                for (Map.Entry<String, String> t : e.types.entrySet()) {
+                    writeString(out, t.getKey());
+                    writeString(out, t.getValue());
+                }
+                out.writeInt(e.dependencies.size());
+                for (String dep : e.dependencies) {
+                    writeString(out, dep);
+                }
+            }
+        }
+    }
+
+    // DataOutput.writeUTF is limited to 64K, which encoded types may exceed.
+    protected static String readString(DataInputStream in) throws IOException {
+        byte[] b = new byte[in.readInt()];
+        in.readFully(b);
+        return new String(b, StandardCharsets.UTF_8);
+    }
+
+    protected static void writeString(DataOutputStream out, String s)
+            throws IOException {
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(b.length);
+        out.write(b);
+    }
+
+    /** Compute a hash of the contents of {@code source}. */
+    protected String hash(Source source) throws IOException {
+        MessageDigest md;
+        try {
+            md = MessageDigest.getInstance("SHA-1");
+        }
+        catch (NoSuchAlgorithmException e) {
+            throw new InternalCompilerError(e);
+        }
+
+        try (InputStream in = source.openInputStream()) {
+            byte[] buf = new byte[8192];
+            int n;
+            while ((n = in.read(buf)) > 0) {
+                md.update(buf, 0, n);
+            }
+        }
+
+        StringBuilder sb = new StringBuilder();
+        for (byte b : md.digest()) {
+            sb.append(Character.forDigit((b >> 4) & 0xf, 16));
+            sb.append(Character.forDigit(b & 0xf, 16));
+        }
+        return sb.toString();
+    }
+
+    protected static String baseName(String path) {
+        String name = new File(path).getName();
+        int dot = name.lastIndexOf('.');
+        return dot > 0 ? name.substring(0, dot) : name;
+    }
+}
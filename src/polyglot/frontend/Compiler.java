@@ -26,10 +26,15 @@
 
 package polyglot.frontend;
 
+import java.io.BufferedWriter;
+import java.io.File;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
@@ -49,6 +54,7 @@ import polyglot.util.InternalCompilerError;
 import polyglot.util.OptimalCodeWriter;
 import polyglot.util.SimpleCodeWriter;
 import polyglot.util.StdErrorQueue;
+import polyglot.util.StreamingCodeWriter;
 
 /**
  * This is the main entry point for the compiler. It contains a work list that
@@ -82,6 +88,12 @@ public class Compiler {
      */
     private List<Job> jobs = new ArrayList<>();
 
+    /**
+     * The incremental build cache, or null if the whole of each build is to
+     * be compiled.
+     */
+    private BuildCache buildCache;
+
     /**
      * Initialize the compiler.
      *
@@ -106,6 +118,18 @@ public class Compiler {
 
         loader = extensionInfo.classFileLoader();
 
+        Options options = extensionInfo.getOptions();
+        if (options.build_cache != null) {
+            if (options.serialize_type_info) {
+                buildCache =
+                        new BuildCache(extensionInfo, options.build_cache);
+            }
+            else {
+                eq.enqueue(ErrorInfo.WARNING,
+                           "Ignoring the build cache, which requires class serialization.");
+            }
+        }
+
         // This must be done last.
         extensionInfo.initCompiler(this);
     }
@@ -186,12 +210,37 @@ public class Compiler {
      * point for the compiler, called from main().
      */
     public boolean compile(Collection<FileSource> sources) {
-        return runToGoal(sources, new GoalFactory() {
+        if (buildCache != null) {
+            try {
+                sources = buildCache.staleSources(sources);
+            }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.IO_ERROR, e.getMessage());
+                eq.flush();
+                return false;
+            }
+        }
+
+        boolean okay = runToGoal(sources, new GoalFactory() {
             @Override
             public Goal getGoal(Job job) {
                 return sourceExtension().getCompileGoal(job);
             }
         });
+
+        if (okay && buildCache != null) {
+            try {
+                buildCache.save();
+            }
+            catch (IOException e) {
+                eq.enqueue(ErrorInfo.WARNING,
+                           "Unable to write build cache " + buildCache.file()
+                                   + ": " + e.getMessage());
+                eq.flush();
+            }
+        }
+
+        return okay;
     }
 
     /**
@@ -262,9 +311,52 @@ public class Compiler {
         for (ExtensionInfo ext : allExtensions)
             ext.getStats().report();
 
+        writeMetrics();
+
         return okay;
     }
 
+    /**
+     * Write the metrics of every extension to the file given by the
+     * {@code -metrics} option, if any.
+     */
+    protected void writeMetrics() {
+        File file = sourceExtension().getOptions().metrics_file;
+        if (file == null) return;
+
+        boolean csv = file.getName().endsWith(".csv");
+        try (Writer w =
+                new BufferedWriter(new OutputStreamWriter(new FileOutputStream(file),
+                                                          StandardCharsets.UTF_8))) {
+            if (csv) {
+                w.write(Metrics.CSV_HEADER + "\n");
+            }
+            else {
+                w.write("[");
+            }
+            String sep = "";
+            for (ExtensionInfo ext : allExtensions) {
+                Metrics metrics = ext.getStats().metrics();
+                if (csv) {
+                    metrics.writeCSV(w, ext.compilerName());
+                }
+                else {
+                    w.write(sep);
+                    metrics.writeJSON(w, ext.compilerName());
+                    sep = ",\n";
+                }
+            }
+            if (!csv) {
+                w.write("]\n");
+            }
+        }
+        catch (IOException e) {
+            eq.enqueue(ErrorInfo.WARNING, "Unable to write metrics to "
+                    + file + ": " + e.getMessage());
+            eq.flush();
+        }
+    }
+
     /** Get the compiler's class file loader. */
     public ClassFileLoader loader() {
         return loader;
@@ -300,6 +392,13 @@ public class Compiler {
         return extensionInfo.getOptions().serialize_type_info;
     }
 
+    /**
+     * Get the incremental build cache, or null if no cache is being used.
+     */
+    public BuildCache buildCache() {
+        return buildCache;
+    }
+
     /** Get the compiler's error queue. */
     public ErrorQueue errorQueue() {
         return eq;
@@ -330,22 +429,26 @@ public class Compiler {
     }
 
     public static CodeWriter createCodeWriter(OutputStream w) {
-        return createCodeWriter(w, Options.global.output_width);
+        return createCodeWriter(w, Options.global().output_width);
     }
 
     public static CodeWriter createCodeWriter(OutputStream w, int width) {
-        if (Options.global.use_simple_code_writer)
+        if (Options.global().use_simple_code_writer)
             return new SimpleCodeWriter(w, width);
+        else if (Options.global().use_streaming_code_writer)
+            return new StreamingCodeWriter(w, width);
         else return new OptimalCodeWriter(w, width);
     }
 
     public static CodeWriter createCodeWriter(Writer w) {
-        return createCodeWriter(w, Options.global.output_width);
+        return createCodeWriter(w, Options.global().output_width);
     }
 
     public static CodeWriter createCodeWriter(Writer w, int width) {
-        if (Options.global.use_simple_code_writer)
+        if (Options.global().use_simple_code_writer)
             return new SimpleCodeWriter(w, width);
+        else if (Options.global().use_streaming_code_writer)
+            return new StreamingCodeWriter(w, width);
         else return new OptimalCodeWriter(w, width);
     }
 }
@@ -0,0 +1,294 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.frontend;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import polyglot.frontend.goals.Goal;
+
+/**
+ * A {@code GoalGraph} records the prerequisite edges between interned goals
+ * and keeps the goals in a topological order as edges are added: if goal
+ * {@code a} is a prerequisite of goal {@code b}, then
+ * {@code order(a) < order(b)}.
+ *
+ * The order is maintained incrementally using the algorithm of Pearce and
+ * Kelly: adding an edge that agrees with the current order costs nothing,
+ * and otherwise only the goals whose order lies between the two ends of the
+ * edge are visited.  The same search detects edges that would close a
+ * cycle.  Such edges are remembered, but do not constrain the order.
+ *
+ * The methods of a {@code GoalGraph} are synchronized, since goals may be
+ * interned by passes running on worker threads.
+ */
+public class GoalGraph {
+    /** A goal in the graph. */
+    protected static class Node {
+        protected final Goal goal;
+
+        /** Position of the goal in the topological order. */
+        protected int order;
+
+        /** Goals that must be reached before this one. */
+        protected final Set<Node> prerequisites = new LinkedHashSet<>(4);
+
+        /** Goals of which this goal is a prerequisite. */
+        protected final List<Node> dependents = new ArrayList<>(4);
+
+        /**
+         * Prerequisites whose edges would have closed a cycle, or null if
+         * there are none.
+         */
+        protected Set<Node> cyclic;
+
+        /** Traversal in which this node was last visited. */
+        protected int mark;
+
+        protected Node(Goal goal, int order) {
+            this.goal = goal;
+            this.order = order;
+        }
+
+        @Override
+        public String toString() {
+            return order + ":" + goal;
+        }
+    }
+
+    protected static final Comparator<Node> BY_ORDER = new Comparator<Node>() {
+        @Override
+        public int compare(Node n1, Node n2) {
+            return Integer.compare(n1.order, n2.order);
+        }
+    };
+
+    protected final Map<Goal, Node> nodes = new HashMap<>();
+
+    /** Edges that would have closed a cycle. */
+    protected int cyclicEdges;
+
+    protected int traversal;
+
+    /** Forget all goals and edges. */
+    public synchronized void clear() {
+        nodes.clear();
+        cyclicEdges = 0;
+    }
+
+    /** The number of goals in the graph. */
+    public synchronized int size() {
+        return nodes.size();
+    }
+
+    /** The number of edges added that would have closed a cycle. */
+    public synchronized int cyclicEdges() {
+        return cyclicEdges;
+    }
+
+    /**
+     * Add {@code goal} to the graph, after all goals already in it, if it is
+     * not there yet.
+     */
+    public synchronized void add(Goal goal) {
+        node(goal);
+    }
+
+    protected Node node(Goal goal) {
+        Node n = nodes.get(goal);
+        if (n == null) {
+            n = new Node(goal, nodes.size());
+            nodes.put(goal, n);
+        }
+        return n;
+    }
+
+    /**
+     * The position of {@code goal} in the topological order, or -1 if the
+     * goal is not in the graph.
+     */
+    public synchronized int order(Goal goal) {
+        Node n = nodes.get(goal);
+        return n != null ? n.order : -1;
+    }
+
+    /** Return true if the edge {@code prereq => goal} is in the graph. */
+    public synchronized boolean hasEdge(Goal prereq, Goal goal) {
+        Node n = nodes.get(goal);
+        Node p = nodes.get(prereq);
+        return n != null
+                && p != null
+                && (n.prerequisites.contains(p) || n.cyclic != null
+                        && n.cyclic.contains(p));
+    }
+
+    /**
+     * Record that {@code prereq} must be reached before {@code goal}, adding
+     * either goal to the graph if needed.
+     *
+     * @return false if the edge would close a cycle.
+     */
+    public synchronized boolean addEdge(Goal prereq, Goal goal) {
+        Node p = node(prereq);
+        Node n = node(goal);
+
+        if (n.prerequisites.contains(p)) {
+            return true;
+        }
+        if (n.cyclic != null && n.cyclic.contains(p)) {
+            return false;
+        }
+
+        if (p.order < n.order) {
+            n.prerequisites.add(p);
+            p.dependents.add(n);
+            return true;
+        }
+
+        // The edge goes backward in the current order.  Find the dependents
+        // of n and the prerequisites of p that lie between them.
+        int lower = n.order;
+        int upper = p.order;
+
+        List<Node> forward = new ArrayList<>();
+        traversal++;
+        if (p == n || !collectDependents(n, upper, p, forward)) {
+            if (n.cyclic == null) n.cyclic = new LinkedHashSet<>(2);
+            n.cyclic.add(p);
+            cyclicEdges++;
+            return false;
+        }
+
+        List<Node> backward = new ArrayList<>();
+        traversal++;
+        collectPrerequisites(p, lower, backward);
+
+        // Give the prerequisites the lowest of the affected positions, then
+        // the dependents, keeping the relative order within each group.
+        Collections.sort(forward, BY_ORDER);
+        Collections.sort(backward, BY_ORDER);
+
+        int[] positions = new int[forward.size() + backward.size()];
+        int i = 0;
+        for (Node m : backward) {
+            positions[i++] = m.order;
+        }
+        for (Node m : forward) {
+            positions[i++] = m.order;
+        }
+        Arrays.sort(positions);
+
+        i = 0;
+        for (Node m : backward) {
+            m.order = positions[i++];
+        }
+        for (Node m : forward) {
+            m.order = positions[i++];
+        }
+
+        n.prerequisites.add(p);
+        p.dependents.add(n);
+        return true;
+    }
+
+    /**
+     * Collect the dependents of {@code n}, including {@code n}, whose order is
+     * at most {@code upper}.  Returns false if {@code target} is found.
+     */
+    protected boolean collectDependents(Node n, int upper, Node target,
+            List<Node> result) {
+        List<Node> stack = new ArrayList<>();
+        n.mark = traversal;
+        stack.add(n);
+        while (!stack.isEmpty()) {
+            Node m = stack.remove(stack.size() - 1);
+            result.add(m);
+            for (Node d : m.dependents) {
+                if (d == target) return false;
+                if (d.mark != traversal && d.order <= upper) {
+                    d.mark = traversal;
+                    stack.add(d);
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Collect the prerequisites of {@code n}, including {@code n}, whose order
+     * is at least {@code lower}.
+     */
+    protected void collectPrerequisites(Node n, int lower, List<Node> result) {
+        List<Node> stack = new ArrayList<>();
+        n.mark = traversal;
+        stack.add(n);
+        while (!stack.isEmpty()) {
+            Node m = stack.remove(stack.size() - 1);
+            result.add(m);
+            for (Node p : m.prerequisites) {
+                if (p.mark != traversal && p.order >= lower) {
+                    p.mark = traversal;
+                    stack.add(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Return {@code goals} sorted by their position in the topological order.
+     * Goals not in the graph come last, in their original order.
+     */
+    public synchronized List<Goal> sort(Collection<Goal> goals) {
+        List<Node> ns = new ArrayList<>(goals.size());
+        List<Goal> rest = null;
+        for (Goal g : goals) {
+            Node n = nodes.get(g);
+            if (n != null) {
+                ns.add(n);
+            }
+            else {
+                if (rest == null) rest = new ArrayList<>();
+                rest.add(g);
+            }
+        }
+        Collections.sort(ns, BY_ORDER);
+        List<Goal> result = new ArrayList<>(goals.size());
+        for (Node n : ns) {
+            result.add(n.goal);
+        }
+        if (rest != null) result.addAll(rest);
+        return result;
+    }
+}
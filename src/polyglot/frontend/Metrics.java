@@ -0,0 +1,350 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan 
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.frontend;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import polyglot.types.CachingResolver;
+
+/**
+ * A {@code Metrics} object collects counters and timing histograms for one
+ * compilation.  Counters and timers are organized in groups, such as
+ * {@code "goal"} or {@code "pass"}, and identified within a group by a key,
+ * such as the name of a goal or the path of a source file.  All times are in
+ * nanoseconds.
+ *
+ * Metrics may be recorded from several threads.  Recording is skipped
+ * entirely unless the metrics are {@link #enabled()}.
+ */
+public class Metrics {
+    /** Counters of goal attempts and their outcomes, by goal name. */
+    public static final String GOAL_ATTEMPTS = "goal.attempts";
+    public static final String GOAL_RERUNS = "goal.reruns";
+    public static final String GOAL_REACHED = "goal.reached";
+    public static final String GOAL_UNREACHED = "goal.unreached";
+    public static final String GOAL_FAILURES = "goal.failures";
+    public static final String GOAL_ABORTS = "goal.aborts";
+
+    /** Counters of class file lookups. */
+    public static final String CLASS_FILES = "classfile";
+
+    /** Time spent reaching each goal, including nested goals, by goal name. */
+    public static final String GOAL_TIME = "goal";
+
+    /** Time spent in each pass, excluding nested passes, by pass name. */
+    public static final String PASS_TIME = "pass";
+
+    /** Time spent in the passes of each job, by source path. */
+    public static final String FILE_TIME = "file";
+
+    /** Time spent loading class files. */
+    public static final String CLASS_FILE_TIME = "classfile";
+
+    /**
+     * A histogram of times.  Times are counted in buckets whose bounds are
+     * powers of two, so percentiles are accurate to within a factor of two.
+     */
+    public static class Histogram {
+        protected long count;
+        protected long total;
+        protected long min = Long.MAX_VALUE;
+        protected long max;
+        protected final long[] buckets = new long[64];
+
+        /** Record a time. */
+        public synchronized void record(long nanos) {
+            if (nanos < 0) nanos = 0;
+            count++;
+            total += nanos;
+            if (nanos < min) min = nanos;
+            if (nanos > max) max = nanos;
+            buckets[64 - Long.numberOfLeadingZeros(nanos)]++;
+        }
+
+        public synchronized long count() {
+            return count;
+        }
+
+        public synchronized long total() {
+            return total;
+        }
+
+        public synchronized long min() {
+            return count == 0 ? 0 : min;
+        }
+
+        public synchronized long max() {
+            return max;
+        }
+
+        /**
+         * Return an upper bound on the time below which {@code p} percent of
+         * the recorded times fall.
+         */
+        public synchronized long percentile(double p) {
+            long rank = (long) Math.ceil(count * p / 100);
+            long seen = 0;
+            for (int i = 0; i < buckets.length; i++) {
+                seen += buckets[i];
+                if (seen >= rank && seen > 0) {
+                    long bound = i == 0 ? 0 : (1L << i) - 1;
+                    return Math.min(bound, max);
+                }
+            }
+            return max;
+        }
+    }
+
+    protected final boolean enabled;
+
+    protected final ConcurrentMap<String, ConcurrentMap<String, AtomicLong>> counters =
+            new ConcurrentHashMap<>();
+
+    protected final ConcurrentMap<String, ConcurrentMap<String, Histogram>> timers =
+            new ConcurrentHashMap<>();
+
+    protected final Map<String, CachingResolver.Counters> resolvers =
+            new ConcurrentHashMap<>();
+
+    public Metrics(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /** Return true if metrics are being recorded. */
+    public boolean enabled() {
+        return enabled;
+    }
+
+    /** Increment counter {@code key} in {@code group}. */
+    public void count(String group, String key) {
+        count(group, key, 1);
+    }
+
+    /** Add {@code n} to counter {@code key} in {@code group}. */
+    public void count(String group, String key, long n) {
+        if (!enabled) return;
+        ConcurrentMap<String, AtomicLong> g = counters.get(group);
+        if (g == null) {
+            g = new ConcurrentHashMap<>();
+            ConcurrentMap<String, AtomicLong> old = counters.putIfAbsent(group, g);
+            if (old != null) g = old;
+        }
+        AtomicLong c = g.get(key);
+        if (c == null) {
+            c = new AtomicLong();
+            AtomicLong old = g.putIfAbsent(key, c);
+            if (old != null) c = old;
+        }
+        c.addAndGet(n);
+    }
+
+    /** Record a time for {@code key} in {@code group}. */
+    public void time(String group, String key, long nanos) {
+        if (!enabled) return;
+        ConcurrentMap<String, Histogram> g = timers.get(group);
+        if (g == null) {
+            g = new ConcurrentHashMap<>();
+            ConcurrentMap<String, Histogram> old = timers.putIfAbsent(group, g);
+            if (old != null) g = old;
+        }
+        Histogram h = g.get(key);
+        if (h == null) {
+            h = new Histogram();
+            Histogram old = g.putIfAbsent(key, h);
+            if (old != null) h = old;
+        }
+        h.record(nanos);
+    }
+
+    /** Report the lookup counters of a caching resolver. */
+    public void addResolverCounters(String name,
+            CachingResolver.Counters counters) {
+        resolvers.put(name, counters);
+    }
+
+    /** Return the value of counter {@code key} in {@code group}. */
+    public long counter(String group, String key) {
+        Map<String, AtomicLong> g = counters.get(group);
+        AtomicLong c = g == null ? null : g.get(key);
+        return c == null ? 0 : c.get();
+    }
+
+    /** Return the sum of the counters in {@code group}. */
+    public long total(String group) {
+        long n = 0;
+        Map<String, AtomicLong> g = counters.get(group);
+        if (g != null) {
+            for (AtomicLong c : g.values()) {
+                n += c.get();
+            }
+        }
+        return n;
+    }
+
+    /** Return the histogram for {@code key} in {@code group}, or null. */
+    public Histogram histogram(String group, String key) {
+        Map<String, Histogram> g = timers.get(group);
+        return g == null ? null : g.get(key);
+    }
+
+    /** Return a snapshot of the counters, sorted by group and key. */
+    public Map<String, Map<String, Long>> counters() {
+        Map<String, Map<String, Long>> result = new TreeMap<>();
+        for (Map.Entry<String, ConcurrentMap<String, AtomicLong>> g : counters.entrySet()) {
+            Map<String, Long> m = new TreeMap<>();
+            for (Map.Entry<String, AtomicLong> c : g.getValue().entrySet()) {
+                m.put(c.getKey(), c.getValue().get());
+            }
+            result.put(g.getKey(), m);
+        }
+        for (Map.Entry<String, CachingResolver.Counters> e : resolvers.entrySet()) {
+            CachingResolver.Counters c = e.getValue();
+            Map<String, Long> m = new TreeMap<>();
+            m.put("hits", c.hits());
+            m.put("negative hits", c.negativeHits());
+            m.put("misses", c.misses());
+            m.put("evictions", c.evictions());
+            m.put("load ns", c.loadTime());
+            result.put("resolver." + e.getKey(), m);
+        }
+        return result;
+    }
+
+    /** Return the histograms, sorted by group and key. */
+    public Map<String, Map<String, Histogram>> timers() {
+        Map<String, Map<String, Histogram>> result = new TreeMap<>();
+        for (Map.Entry<String, ConcurrentMap<String, Histogram>> g : timers.entrySet()) {
+            result.put(g.getKey(), new TreeMap<>(g.getValue()));
+        }
+        return result;
+    }
+
+    /** Write the metrics as a JSON object. */
+    public void writeJSON(Writer w, String name) throws IOException {
+        w.write("{\"name\": ");
+        writeJSONString(w, name);
+        w.write(",\n \"counters\": {");
+        String gsep = "";
+        for (Map.Entry<String, Map<String, Long>> g : counters().entrySet()) {
+            w.write(gsep);
+            w.write("\n  ");
+            writeJSONString(w, g.getKey());
+            w.write(": {");
+            String sep = "";
+            for (Map.Entry<String, Long> c : g.getValue().entrySet()) {
+                w.write(sep);
+                w.write("\n   ");
+                writeJSONString(w, c.getKey());
+                w.write(": " + c.getValue());
+                sep = ",";
+            }
+            w.write("}");
+            gsep = ",";
+        }
+        w.write("},\n \"timers\": {");
+        gsep = "";
+        for (Map.Entry<String, Map<String, Histogram>> g : timers().entrySet()) {
+            w.write(gsep);
+            w.write("\n  ");
+            writeJSONString(w, g.getKey());
+            w.write(": {");
+            String sep = "";
+            for (Map.Entry<String, Histogram> t : g.getValue().entrySet()) {
+                Histogram h = t.getValue();
+                w.write(sep);
+                w.write("\n   ");
+                writeJSONString(w, t.getKey());
+                w.write(": {\"count\": " + h.count() + ", \"total_ns\": "
+                        + h.total() + ", \"min_ns\": " + h.min()
+                        + ", \"max_ns\": " + h.max() + ", \"p50_ns\": "
+                        + h.percentile(50) + ", \"p90_ns\": "
+                        + h.percentile(90) + ", \"p99_ns\": "
+                        + h.percentile(99) + "}");
+                sep = ",";
+            }
+            w.write("}");
+            gsep = ",";
+        }
+        w.write("}}");
+    }
+
+    /** The header line of the CSV format. */
+    public static final String CSV_HEADER =
+            "name,kind,group,key,count,total_ns,min_ns,max_ns,p50_ns,p90_ns,p99_ns";
+
+    /** Write the metrics as CSV lines, without a header. */
+    public void writeCSV(Writer w, String name) throws IOException {
+        for (Map.Entry<String, Map<String, Long>> g : counters().entrySet()) {
+            for (Map.Entry<String, Long> c : g.getValue().entrySet()) {
+                w.write(csv(name) + ",counter," + csv(g.getKey()) + ","
+                        + csv(c.getKey()) + "," + c.getValue() + ",,,,,,\n");
+            }
+        }
+        for (Map.Entry<String, Map<String, Histogram>> g : timers().entrySet()) {
+            for (Map.Entry<String, Histogram> t : g.getValue().entrySet()) {
+                Histogram h = t.getValue();
+                w.write(csv(name) + ",timer," + csv(g.getKey()) + ","
+                        + csv(t.getKey()) + "," + h.count() + "," + h.total()
+                        + "," + h.min() + "," + h.max() + ","
+                        + h.percentile(50) + "," + h.percentile(90) + ","
+                        + h.percentile(99) + "\n");
+            }
+        }
+    }
+
+    protected static String csv(String s) {
+        if (s.indexOf(',') < 0 && s.indexOf('"') < 0 && s.indexOf('\n') < 0) {
+            return s;
+        }
+        return "\"" + s.replace("\"", "\"\"") + "\"";
+    }
+
+    protected static void writeJSONString(Writer w, String s)
+            throws IOException {
+        w.write('"');
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '"' || c == '\\') {
+                w.write('\\');
+                w.write(c);
+            }
+            else if (c < 0x20) {
+                w.write(String.format("\\u%04x", (int) c));
+            }
+            else {
+                w.write(c);
+            }
+        }
+        w.write('"');
+    }
+}
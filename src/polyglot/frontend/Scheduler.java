@@ -29,19 +29,30 @@ package polyglot.frontend;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 
 import polyglot.ast.Lang;
 import polyglot.ast.Node;
 import polyglot.frontend.goals.AbstractGoal;
 import polyglot.frontend.goals.EndGoal;
 import polyglot.frontend.goals.Goal;
+import polyglot.frontend.goals.Parsed;
+import polyglot.frontend.goals.SourceFileGoal;
 import polyglot.main.Main;
 import polyglot.main.Options;
 import polyglot.main.Report;
@@ -74,6 +85,19 @@ import polyglot.util.StringUtil;
  * on this run so that it will be added back to the worklist; the pass
  * must also add any missing dependencies.
  *
+ * If more than one worker thread is requested (the {@code -parallel}
+ * option), goals that belong to a single job and whose passes touch only
+ * that job's data are not run as soon as their prerequisites are reached.
+ * Instead, they are collected while the worklist is drained and then run
+ * together on a pool of worker threads, one goal per job at a time.  By
+ * default only parsing is run this way.  All other goals, including
+ * per-job goals such as type checking and code generation, whose passes
+ * resolve and load types in the shared type system, are still run one at
+ * a time on the calling thread.  See {@link #isConcurrent(Goal)}.  Before
+ * a pass over the AST of a job is run, any goals of the job still waiting
+ * for the workers are run on the calling thread, so the result does not
+ * depend on the order in which goals are attempted.
+ *
  * @author nystrom
  */
 public abstract class Scheduler {
@@ -102,20 +126,50 @@ public abstract class Scheduler {
     /** Map from goals to number of times a pass was run for the goal. */
     protected Map<Goal, Integer> runCount;
 
+    /**
+     * The prerequisite edges between interned goals, kept in topological
+     * order.
+     */
+    protected GoalGraph graph;
+
     /** True if any pass has failed. */
     protected boolean failed;
 
     /** The currently running pass, or null if no pass is running. */
     protected Pass currentPass;
 
+    /** Time spent in passes run by the currently running pass. */
+    protected long nestedTime;
+
+    /**
+     * Goals whose prerequisites have been reached and whose passes are
+     * waiting to be run on the worker threads.
+     */
+    protected Set<Goal> deferred;
+
+    /** The worker threads, or null if no goal has been run concurrently. */
+    protected ExecutorService workers;
+
+    /** The number of corequisite goals currently being attempted. */
+    protected int corequisiteDepth;
+
+    /**
+     * Map from uncompleted jobs to the number of their goals that have been
+     * reached.
+     */
+    protected Map<Job, Integer> progress;
+
     public Scheduler(ExtensionInfo extInfo) {
         this.extInfo = extInfo;
 
         jobs = new LinkedHashMap<>();
         goals = new LinkedHashMap<>();
         runCount = new LinkedHashMap<>();
+        graph = new GoalGraph();
         inWorklist = new LinkedHashSet<>();
         worklist = new LinkedList<>();
+        deferred = new LinkedHashSet<>();
+        progress = new HashMap<>();
         currentPass = null;
     }
 
@@ -127,19 +181,64 @@ public abstract class Scheduler {
         commandLineJobs = Collections.unmodifiableCollection(c);
     }
 
+    /**
+     * Return true if {@code subgoal} is {@code goal} or one of its direct or
+     * indirect prerequisites.
+     */
     public boolean prerequisiteDependsOn(Goal goal, Goal subgoal) {
         if (goal == subgoal) {
             return true;
         }
 
-        for (Goal g : goal.prerequisiteGoals(this)) {
-            if (prerequisiteDependsOn(g, subgoal)) {
-                return true;
+        Set<Goal> visited = new HashSet<>();
+        LinkedList<Goal> stack = new LinkedList<>();
+        visited.add(goal);
+        stack.add(goal);
+
+        while (!stack.isEmpty()) {
+            Goal g = stack.removeLast();
+            for (Goal pre : prerequisites(g)) {
+                if (pre == subgoal) {
+                    return true;
+                }
+                if (visited.add(pre)) {
+                    stack.add(pre);
+                }
             }
         }
         return false;
     }
 
+    /**
+     * Return the prerequisites of {@code goal}, recording them in the goal
+     * graph.  Goals may compute their prerequisites on demand, so edges
+     * are recorded as they are discovered.
+     */
+    protected Collection<Goal> prerequisites(Goal goal) {
+        Collection<Goal> prereqs = goal.prerequisiteGoals(this);
+        for (Goal pre : prereqs) {
+            if (!graph.hasEdge(pre, goal)) {
+                addGraphEdge(pre, goal);
+            }
+        }
+        return prereqs;
+    }
+
+    /**
+     * Record the edge {@code subgoal => goal} in the goal graph.  An edge
+     * that closes a cycle is only reported, however the edge was added:
+     * such cycles have always been tolerated by the scheduler, and the
+     * graph then just does not order the goals on the cycle.
+     */
+    protected void addGraphEdge(Goal subgoal, Goal goal) {
+        if (!graph.addEdge(subgoal, goal)) {
+            if (Report.should_report(Report.frontend, 3)
+                    || Report.should_report("deps", 1))
+                Report.report(3, "Prereq edge closes a cycle: " + subgoal
+                        + " => " + goal);
+        }
+    }
+
     /**
      * Add a new corequisite {@code subgoal} of the {@code goal}.
      * {@code subgoal} is a goal on which {@code goal} mutually
@@ -164,12 +263,7 @@ public abstract class Scheduler {
     public void addDependencyAndEnqueue(Goal goal, Goal subgoal,
             boolean prerequisite) {
         if (prerequisite) {
-            try {
-                addPrerequisiteDependency(goal, subgoal);
-            }
-            catch (CyclicDependencyException e) {
-                throw new InternalCompilerError(e);
-            }
+            addPrerequisiteDependency(goal, subgoal);
         }
         else {
             addCorequisiteDependency(goal, subgoal);
@@ -180,26 +274,23 @@ public abstract class Scheduler {
     /**
      * Add a new {@code subgoal} of {@code goal}.
      * {@code subgoal} must be completed before {@code goal} is
-     * attempted.
-     *
-     * @throws CyclicDependencyException
-     *             if a prerequisite of {@code subgoal} is
-     *             {@code goal}
+     * attempted.  If a prerequisite of {@code subgoal} is {@code goal},
+     * the cycle is reported but the dependency is still added; see
+     * {@link #addGraphEdge(Goal, Goal)}.
      */
-    public void addPrerequisiteDependency(Goal goal, Goal subgoal)
-            throws CyclicDependencyException {
+    public void addPrerequisiteDependency(Goal goal, Goal subgoal) {
         if (!goal.prerequisiteGoals(this).contains(subgoal)) {
             if (Report.should_report(Report.frontend, 3)
                     || Report.should_report("deps", 1))
                 Report.report(3, "Adding prereq edge: " + subgoal + " => "
                         + goal);
+            addGraphEdge(subgoal, goal);
             goal.addPrerequisiteGoal(subgoal, this);
         }
     }
 
     /** Add prerequisite dependencies between adjacent items in a list of goals. */
-    public void addPrerequisiteDependencyChain(List<Goal> deps)
-            throws CyclicDependencyException {
+    public void addPrerequisiteDependencyChain(List<Goal> deps) {
         Goal prev = null;
         for (Goal curr : deps) {
             if (prev != null) addPrerequisiteDependency(curr, prev);
@@ -218,6 +309,7 @@ public abstract class Scheduler {
         if (g == null) {
             g = goal;
             goals.put(g, g);
+            graph.add(g);
             if (Report.should_report(Report.frontend, 4))
                 Report.report(4, "new goal " + g);
             if (Report.should_report(Report.frontend, 5))
@@ -249,12 +341,35 @@ public abstract class Scheduler {
     protected void completeJob(Job job) {
         if (job != null) {
             jobs.put(job.source(), Job.COMPLETED);
+            progress.remove(job);
+            if (extInfo.getOptions().release_asts) {
+                // Only the type objects of the job are needed from now on.
+                job.ast(null);
+            }
             if (Report.should_report(Report.frontend, 1)) {
                 Report.report(1, "Completed job " + job);
             }
         }
     }
 
+    /**
+     * Return true if more heap is in use than the budget set by
+     * {@code -heapbudget}.  The heap in use includes garbage not yet
+     * collected, so this errs on the side of finishing jobs early.
+     */
+    protected boolean overHeapBudget() {
+        long budget = extInfo.getOptions().heap_budget;
+        if (budget <= 0) return false;
+        Runtime rt = Runtime.getRuntime();
+        return rt.totalMemory() - rt.freeMemory() > budget;
+    }
+
+    /** Return the number of goals of {@code job} that have been reached. */
+    protected int progress(Job job) {
+        Integer n = progress.get(job);
+        return n != null ? n.intValue() : 0;
+    }
+
     protected List<Goal> worklist() {
         return worklist;
     }
@@ -327,8 +442,21 @@ public abstract class Scheduler {
 
         boolean okay = true;
 
-        while (okay && !reached(theEnd)) {
-            okay = attemptGoal(theEnd);
+        try {
+            while (okay && !reached(theEnd)) {
+                okay = attemptGoal(theEnd);
+
+                if (okay && !deferred.isEmpty()) {
+                    okay = runDeferredGoals();
+                }
+            }
+        }
+        finally {
+            deferred.clear();
+            if (workers != null) {
+                workers.shutdown();
+                workers = null;
+            }
         }
 
         if (Report.should_report(Report.frontend, 1))
@@ -336,9 +464,352 @@ public abstract class Scheduler {
                     + this.getClass().getName() + " -- "
                     + (okay ? "okay" : "failed"));
 
+        if (Report.should_report(Report.frontend, 2)) reportRunCounts();
+
         return okay;
     }
 
+    /**
+     * Return the number of times a pass was run for {@code goal}.  A count
+     * greater than one means the goal had to be rerun, for instance because
+     * its pass was abandoned for a missing dependency.
+     */
+    public int runCount(Goal goal) {
+        Integer count = runCount.get(goal);
+        return count != null ? count.intValue() : 0;
+    }
+
+    /**
+     * Return the number of times a pass was run for each goal, in the order
+     * in which the goals were first run.
+     */
+    public Map<Goal, Integer> runCounts() {
+        return Collections.unmodifiableMap(runCount);
+    }
+
+    /** Report the goals whose passes were run more than once. */
+    protected void reportRunCounts() {
+        List<Map.Entry<Goal, Integer>> reruns = new ArrayList<>();
+        for (Map.Entry<Goal, Integer> e : runCount.entrySet()) {
+            if (e.getValue() > 1) reruns.add(e);
+        }
+
+        Collections.sort(reruns, new Comparator<Map.Entry<Goal, Integer>>() {
+            @Override
+            public int compare(Map.Entry<Goal, Integer> e1,
+                    Map.Entry<Goal, Integer> e2) {
+                return e2.getValue().compareTo(e1.getValue());
+            }
+        });
+
+        Report.report(2, reruns.size() + " of " + runCount.size()
+                + " goals were run more than once; "
+                + graph.cyclicEdges() + " prerequisite edges close a cycle");
+        for (Map.Entry<Goal, Integer> e : reruns) {
+            Report.report(2, "  " + e.getValue() + " runs: " + e.getKey());
+        }
+    }
+
+    /**
+     * The number of threads on which independent goals may be run at the
+     * same time.  If 1, all goals are run on the calling thread.
+     */
+    public int concurrentWorkers() {
+        return extInfo.getOptions().scheduler_threads;
+    }
+
+    /**
+     * Return true if the pass for {@code goal} may run on a worker thread
+     * while passes for goals of other jobs are running.  Such a pass must
+     * read and write only the AST and source of its own job.  Passes that
+     * may resolve, load, or initialize types are not safe to run this way,
+     * since the type system and its resolvers are shared by all jobs;
+     * types that a pass needs must be loaded beforehand by
+     * {@link #prepareWorkers()}.  Of the standard goals, only
+     * {@code Parsed} qualifies: type checking, reachability and exit path
+     * checking, and code generation all look up types.  Extensions whose
+     * passes are known to be safe may override this method.
+     */
+    protected boolean isConcurrent(Goal goal) {
+        return goal instanceof Parsed;
+    }
+
+    /**
+     * Defer {@code goal} so that it is run later with other independent
+     * goals, if possible.  Only goals attempted directly by the scheduler
+     * as prerequisites of other goals are deferred.  A goal attempted while
+     * another pass is running, or as a corequisite of a goal that could not
+     * be reached, is needed right away.
+     *
+     * @return true if the goal was deferred.
+     */
+    protected boolean deferGoal(Goal goal) {
+        if (concurrentWorkers() <= 1 || currentPass != null
+                || corequisiteDepth > 0) {
+            return false;
+        }
+
+        if (overHeapBudget()) {
+            // Don't start passes for other jobs before this one is done.
+            return false;
+        }
+
+        Job job = goal.job();
+
+        if (job == null || !job.status() || !goal.isReachable()
+                || !isConcurrent(goal)) {
+            return false;
+        }
+
+        if (Report.should_report(Report.frontend, 3))
+            Report.report(3, "Deferring goal " + goal);
+
+        deferred.add(goal);
+        return true;
+    }
+
+    /**
+     * Run the deferred goals on the worker threads.  Goals that conflict
+     * with an earlier goal in the batch are kept for the next batch.  The
+     * results of the passes are processed in the order in which the goals
+     * were deferred, exactly as if the passes had been run one at a time.
+     *
+     * @return false if there was an error trying to reach any of the goals.
+     */
+    protected boolean runDeferredGoals() {
+        List<ConcurrentPass> batch = new ArrayList<>(deferred.size());
+        List<Goal> postponed = new ArrayList<>();
+
+        Options options = extInfo.getOptions();
+
+        for (Goal goal : deferred) {
+            if (reached(goal)) {
+                continue;
+            }
+
+            boolean conflict = false;
+
+            for (ConcurrentPass p : batch) {
+                if (goal.conflictsWith(p.goal())) {
+                    conflict = true;
+                    break;
+                }
+            }
+
+            if (conflict) {
+                postponed.add(goal);
+                continue;
+            }
+
+            Pass pass = goal.createPass(extInfo);
+
+            if (options.disable_passes.contains(pass.name())) {
+                // Let runPass skip the pass as usual.
+                if (!runPass(pass)) {
+                    return false;
+                }
+                continue;
+            }
+
+            batch.add(new ConcurrentPass(pass));
+        }
+
+        deferred.clear();
+        deferred.addAll(postponed);
+
+        if (batch.isEmpty()) {
+            return true;
+        }
+
+        if (Report.should_report(Report.frontend, 2))
+            Report.report(2, "Running " + batch.size()
+                    + " passes concurrently");
+
+        if (batch.size() == 1) {
+            batch.get(0).call();
+        }
+        else {
+            if (workers == null) {
+                prepareWorkers();
+                workers = createWorkers(concurrentWorkers());
+            }
+
+            try {
+                for (Future<Void> f : workers.invokeAll(batch)) {
+                    f.get();
+                }
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InternalCompilerError(e);
+            }
+            catch (ExecutionException e) {
+                throw new InternalCompilerError(e.getCause());
+            }
+        }
+
+        boolean okay = true;
+
+        for (ConcurrentPass pass : batch) {
+            Goal goal = pass.goal();
+
+            if (!runPass(pass)) {
+                okay = false;
+            }
+            else if (reached(goal) && goal instanceof EndGoal) {
+                completeJob(goal.job());
+            }
+        }
+
+        return okay;
+    }
+
+    /**
+     * Run the deferred goals of {@code job} on the calling thread, if there
+     * are any.
+     *
+     * @return false if there was an error trying to reach any of the goals.
+     */
+    protected boolean runDeferredGoals(Job job) {
+        if (job == null || deferred.isEmpty()) {
+            return true;
+        }
+
+        List<Goal> goals = null;
+        for (Iterator<Goal> i = deferred.iterator(); i.hasNext();) {
+            Goal g = i.next();
+            if (g.job() == job) {
+                if (goals == null) goals = new ArrayList<>(1);
+                goals.add(g);
+                i.remove();
+            }
+        }
+
+        if (goals == null) {
+            return true;
+        }
+
+        for (Goal g : goals) {
+            if (Report.should_report(Report.frontend, 3))
+                Report.report(3, "Running deferred goal " + g);
+
+            if (!runGoal(g)) {
+                return false;
+            }
+            if (reached(g) && g instanceof EndGoal) {
+                completeJob(job);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Prepare for running passes on worker threads.  Called on the calling
+     * thread before the pool of workers is created.  The concurrent passes
+     * must not load types, so extensions whose passes use types of the type
+     * system, for instance a parser that refers to {@code java.lang.Enum},
+     * should load those types here.
+     */
+    protected void prepareWorkers() {
+    }
+
+    /** Create the pool of worker threads on which goals are run. */
+    protected ExecutorService createWorkers(int n) {
+        return Executors.newFixedThreadPool(n, new ThreadFactory() {
+            int count = 0;
+
+            @Override
+            public Thread newThread(Runnable r) {
+                Thread t = new Thread(r, "polyglot-worker-" + (++count));
+                t.setDaemon(true);
+                return t;
+            }
+        });
+    }
+
+    /**
+     * A pass that has been run on a worker thread.  Running this pass
+     * again on the scheduler's thread returns the result of the original
+     * pass, or rethrows the exception it threw, so that the result is
+     * recorded by {@code runPass} like that of any other pass.
+     */
+    protected static class ConcurrentPass implements Pass, Callable<Void> {
+        protected final Pass pass;
+        protected boolean result;
+        protected RuntimeException exception;
+        protected Error error;
+        protected long time;
+        protected long nanos;
+
+        protected ConcurrentPass(Pass pass) {
+            this.pass = pass;
+        }
+
+        /** Run the original pass, recording its outcome. */
+        @Override
+        public Void call() {
+            long t = System.nanoTime();
+            pass.resetTimers();
+            try {
+                result = pass.run();
+            }
+            catch (RuntimeException e) {
+                exception = e;
+            }
+            catch (Error e) {
+                error = e;
+            }
+            nanos = System.nanoTime() - t;
+            time = nanos / 1000000;
+            return null;
+        }
+
+        @Override
+        public boolean run() {
+            if (exception != null) throw exception;
+            if (error != null) throw error;
+            return result;
+        }
+
+        @Override
+        public Goal goal() {
+            return pass.goal();
+        }
+
+        @Override
+        public Lang lang() {
+            return pass.lang();
+        }
+
+        @Override
+        public String name() {
+            return pass.name();
+        }
+
+        @Override
+        public void resetTimers() {
+        }
+
+        @Override
+        public void toggleTimers(boolean exclusive_only) {
+        }
+
+        @Override
+        public long inclusiveTime() {
+            return time;
+        }
+
+        @Override
+        public long exclusiveTime() {
+            return time;
+        }
+
+        @Override
+        public String toString() {
+            return pass.toString();
+        }
+    }
+
     /**
      * Load a source file and create a job for it.  Optionally add a goal
      * to compile the job to Java.
@@ -423,11 +894,18 @@ public abstract class Scheduler {
             return true;
         }
 
-        boolean progress = true;
+        // The goals being attempted by callers, including this one.
+        above.add(goal);
+        try {
+            return attemptGoalAndCorequisites(goal, above);
+        }
+        finally {
+            above.remove(goal);
+        }
+    }
 
-        Set<Goal> newAbove = new LinkedHashSet<>();
-        newAbove.addAll(above);
-        newAbove.add(goal);
+    protected boolean attemptGoalAndCorequisites(Goal goal, Set<Goal> above) {
+        boolean progress = true;
 
         // Loop over the goal and its coreqs as long as progress is made.
         while (progress && !reached(goal)) {
@@ -436,35 +914,23 @@ public abstract class Scheduler {
             if (Report.should_report(Report.frontend, 4))
                 Report.report(4, "outer loop for " + goal);
 
-            // Run the prereqs of the goal.
-            for (Goal subgoal : new ArrayList<>(goal.prerequisiteGoals(this))) {
-                if (reached(subgoal)) {
-                    continue;
-                }
-
-                if (Report.should_report(Report.frontend, 4))
-                    Report.report(4, "running prereq: " + subgoal + "->" + goal);
-
-                if (!attemptGoal(subgoal, newAbove)) {
-                    return false;
-                }
+            // Run the prereqs of the goal, in dependency order.
+            if (!attemptPrerequisites(goal, above)) {
+                return false;
+            }
 
-                if (reached(goal)) {
-                    return true;
-                }
+            if (reached(goal)) {
+                return true;
             }
 
             // Make sure all prerequisite subgoals have been completed.
             // If any has not, just return.
-            boolean runPass = true;
-
-            for (Goal subgoal : goal.prerequisiteGoals(this)) {
-                if (!reached(subgoal)) {
-                    runPass = false;
-                }
+            if (!prerequisitesReached(goal)) {
+                return true;
             }
 
-            if (!runPass) {
+            // Leave the goal for the worker threads, if possible.
+            if (deferGoal(goal)) {
                 return true;
             }
 
@@ -487,6 +953,14 @@ public abstract class Scheduler {
                 return true;
             }
 
+            // If the pass was abandoned for a prerequisite that can be
+            // attempted now, reach it and retry the goal right away rather
+            // than on the next sweep of the worklist.
+            if (hasAttemptablePrerequisite(goal, above)) {
+                progress = true;
+                continue;
+            }
+
             // If the goal was not reached, run the coreqs of the goal.
             for (Goal subgoal : new ArrayList<>(goal.corequisiteGoals(this))) {
                 if (reached(subgoal)) {
@@ -496,8 +970,14 @@ public abstract class Scheduler {
                 if (Report.should_report(Report.frontend, 4))
                     Report.report(4, "running coreq: " + subgoal + "->" + goal);
 
-                if (!attemptGoal(subgoal, newAbove)) {
-                    return false;
+                corequisiteDepth++;
+                try {
+                    if (!attemptGoal(subgoal, above)) {
+                        return false;
+                    }
+                }
+                finally {
+                    corequisiteDepth--;
                 }
 
                 if (reached(subgoal)) {
@@ -513,6 +993,97 @@ public abstract class Scheduler {
         return true;
     }
 
+    /**
+     * Attempt the unreached prerequisites of {@code goal}, in topological
+     * order.
+     *
+     * @return false if there was an error trying to reach a prerequisite.
+     */
+    protected boolean attemptPrerequisites(Goal goal, Set<Goal> above) {
+        List<Goal> unreached = null;
+        for (Goal subgoal : prerequisites(goal)) {
+            if (!reached(subgoal)) {
+                if (unreached == null) unreached = new ArrayList<>();
+                unreached.add(subgoal);
+            }
+        }
+
+        if (unreached == null) {
+            return true;
+        }
+
+        for (Goal subgoal : orderPrerequisites(goal, unreached)) {
+            if (reached(subgoal)) {
+                continue;
+            }
+
+            if (Report.should_report(Report.frontend, 4))
+                Report.report(4, "running prereq: " + subgoal + "->" + goal);
+
+            if (!attemptGoal(subgoal, above)) {
+                return false;
+            }
+
+            if (reached(goal)) {
+                return true;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Return the unreached prerequisites {@code unreached} of {@code goal} in
+     * the order in which they should be attempted: the topological order of
+     * the goal graph.  If the heap budget is exceeded, the final goals of
+     * the jobs that have reached the most goals are attempted first instead,
+     * so that the ASTs of jobs already under way are released before other
+     * jobs are started.
+     */
+    protected List<Goal> orderPrerequisites(Goal goal, List<Goal> unreached) {
+        List<Goal> sorted = graph.sort(unreached);
+        if (!(goal instanceof TheEndGoal) || sorted.size() < 2
+                || !overHeapBudget()) {
+            return sorted;
+        }
+
+        if (Report.should_report(Report.frontend, 2))
+            Report.report(2, "Heap budget exceeded; finishing the jobs "
+                    + "already started first");
+
+        Collections.sort(sorted, new Comparator<Goal>() {
+            @Override
+            public int compare(Goal g1, Goal g2) {
+                return Integer.compare(progress(g2.job()), progress(g1.job()));
+            }
+        });
+        return sorted;
+    }
+
+    /** Return true if all prerequisites of {@code goal} have been reached. */
+    protected boolean prerequisitesReached(Goal goal) {
+        for (Goal subgoal : goal.prerequisiteGoals(this)) {
+            if (!reached(subgoal)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Return true if {@code goal} has an unreached, reachable prerequisite
+     * that is not being attempted by a caller.
+     */
+    protected boolean hasAttemptablePrerequisite(Goal goal, Set<Goal> above) {
+        for (Goal subgoal : goal.prerequisiteGoals(this)) {
+            if (!reached(subgoal) && subgoal.isReachable()
+                    && !above.contains(subgoal)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     protected boolean runGoal(Goal goal) {
         if (reached(goal)) {
             if (Report.should_report(Report.frontend, 3))
@@ -526,6 +1097,17 @@ public abstract class Scheduler {
             return false;
         }
 
+        // The pass may visit the job's AST even if it does not depend on
+        // the goals of the job that are waiting for the worker threads.
+        if (goal instanceof SourceFileGoal) {
+            if (!runDeferredGoals(goal.job())) {
+                return false;
+            }
+            if (reached(goal)) {
+                return true;
+            }
+        }
+
         Pass pass = goal.createPass(extInfo);
         return runPass(pass);
     }
@@ -628,22 +1210,26 @@ public abstract class Scheduler {
 
             pass.toggleTimers(false);
 
+            String key = goal.name();
+            Metrics metrics = extInfo.getStats().metrics();
+
+            if (goal.state() == Goal.ATTEMPTED) {
+                metrics.count(Metrics.GOAL_RERUNS, key);
+            }
+
             goal.setState(Goal.RUNNING);
 
-            long t = System.currentTimeMillis();
-            String key = goal.toString();
+            long t = System.nanoTime();
+            long oldNestedTime = nestedTime;
+            nestedTime = 0;
 
-            extInfo.getStats().accumPassTimes(key + " attempts", 1, 1);
-            extInfo.getStats().accumPassTimes("total goal attempts", 1, 1);
+            metrics.count(Metrics.GOAL_ATTEMPTS, key);
 
             try {
                 result = pass.run();
 
                 if (!result) {
-                    extInfo.getStats().accumPassTimes(key + " failures", 1, 1);
-                    extInfo.getStats().accumPassTimes("total goal failures",
-                                                      1,
-                                                      1);
+                    metrics.count(Metrics.GOAL_FAILURES, key);
 
                     goal.setState(Goal.UNREACHABLE);
                     if (Report.should_report(Report.frontend, 1))
@@ -651,24 +1237,18 @@ public abstract class Scheduler {
                 }
                 else {
                     if (goal.state() == Goal.RUNNING) {
-                        extInfo.getStats().accumPassTimes(key + " reached",
-                                                          1,
-                                                          1);
-                        extInfo.getStats().accumPassTimes("total goal reached",
-                                                          1,
-                                                          1);
+                        metrics.count(Metrics.GOAL_REACHED, key);
 
                         goal.setState(Goal.REACHED);
+                        if (job != null && jobs.get(job.source()) == job) {
+                            progress.put(job, progress(job) + 1);
+                        }
                         if (Report.should_report(Report.frontend, 1))
                             Report.report(1, "Completed pass " + pass + " for "
                                     + goal);
                     }
                     else {
-                        extInfo.getStats().accumPassTimes(key + " unreached",
-                                                          1,
-                                                          1);
-                        extInfo.getStats()
-                               .accumPassTimes("total goal unreached", 1, 1);
+                        metrics.count(Metrics.GOAL_UNREACHED, key);
 
                         goal.setState(Goal.ATTEMPTED);
                         if (Report.should_report(Report.frontend, 1))
@@ -685,8 +1265,7 @@ public abstract class Scheduler {
                 if (Report.should_report(Report.frontend, 3))
                     e.printStackTrace();
 
-                extInfo.getStats().accumPassTimes(key + " aborts", 1, 1);
-                extInfo.getStats().accumPassTimes("total goal aborts", 1, 1);
+                metrics.count(Metrics.GOAL_ABORTS, key);
 
                 addDependencyAndEnqueue(goal, e.goal(), e.prerequisite());
 
@@ -698,15 +1277,29 @@ public abstract class Scheduler {
                     Report.report(1, "Did not complete pass " + pass + " for "
                             + goal);
 
-                extInfo.getStats().accumPassTimes(key + " aborts", 1, 1);
-                extInfo.getStats().accumPassTimes("goal aborts", 1, 1);
+                metrics.count(Metrics.GOAL_ABORTS, key);
 
                 goal.setState(Goal.ATTEMPTED);
                 result = true;
             }
             finally {
-                t = System.currentTimeMillis() - t;
-                extInfo.getStats().accumPassTimes(key, t, t);
+                // A pass run on a worker thread was timed there.
+                t =
+                        pass instanceof ConcurrentPass
+                                ? ((ConcurrentPass) pass).nanos
+                                : System.nanoTime() - t;
+                long exclusive = t - nestedTime;
+                nestedTime = oldNestedTime + t;
+
+                if (metrics.enabled()) {
+                    metrics.time(Metrics.GOAL_TIME, key, t);
+                    metrics.time(Metrics.PASS_TIME, pass.name(), exclusive);
+                    if (job != null) {
+                        metrics.time(Metrics.FILE_TIME,
+                                     job.source().path(),
+                                     exclusive);
+                    }
+                }
 
                 pass.toggleTimers(false);
 
@@ -757,11 +1350,6 @@ public abstract class Scheduler {
             // System.gc();
         }
 
-        Stats stats = extInfo.getStats();
-        stats.accumPassTimes(pass.name(),
-                             pass.inclusiveTime(),
-                             pass.exclusiveTime());
-
         if (!result) {
             failed = true;
         }
@@ -32,11 +32,17 @@ import java.util.List;
 import java.util.Map;
 
 import polyglot.main.Report;
+import polyglot.types.CachingResolver;
 
 /**
  * Statistics collection and reporting object.
  * Extensions can override this to collect more stats or to change
  * reporting.
+ *
+ * The compiler records its own counters and times in the {@link Metrics}
+ * returned by {@link #metrics()}; these are reported with
+ * {@code -report time=1} and written to the file given by
+ * {@code -metrics}.
  */
 public class Stats {
     protected static class Times {
@@ -56,8 +62,22 @@ public class Stats {
      */
     protected List<Object> keys = new ArrayList<>(20);
 
+    /** Counters and times recorded by the compiler. */
+    protected Metrics metrics;
+
     public Stats(ExtensionInfo ext) {
         this.ext = ext;
+        this.metrics = createMetrics();
+    }
+
+    protected Metrics createMetrics() {
+        return new Metrics(ext.getOptions().metrics_file != null
+                || Report.should_report(Report.time, 1));
+    }
+
+    /** The counters and times recorded by the compiler. */
+    public Metrics metrics() {
+        return metrics;
     }
 
     /** Reset the accumulated times for a pass. */
@@ -90,13 +110,48 @@ public class Stats {
         }
     }
 
+    /** Report the metrics as text. */
+    protected void reportMetrics() {
+        Map<String, Map<String, Metrics.Histogram>> timers = metrics.timers();
+        for (String group : new String[] { Metrics.GOAL_TIME,
+                Metrics.PASS_TIME }) {
+            Map<String, Metrics.Histogram> g = timers.get(group);
+            if (g == null) continue;
+            Report.report(1, "\nCount Total(ms) Max(ms) " + group);
+            for (Map.Entry<String, Metrics.Histogram> e : g.entrySet()) {
+                Metrics.Histogram h = e.getValue();
+                Report.report(1, h.count() + " " + h.total() / 1000000 + " "
+                        + h.max() / 1000000 + " " + e.getKey());
+            }
+        }
+
+        Report.report(1, "");
+        for (Map.Entry<String, Map<String, Long>> g : metrics.counters()
+                                                             .entrySet()) {
+            long total = 0;
+            for (long n : g.getValue().values()) {
+                total += n;
+            }
+            Report.report(1, g.getKey() + ": " + total + " "
+                    + g.getValue());
+        }
+    }
+
+    /** Report the lookup counters of a caching resolver. */
+    public void addResolverCounters(String name,
+            CachingResolver.Counters counters) {
+        metrics.addResolverCounters(name, counters);
+    }
+
     /** Report the stats. */
     public void report() {
         if (Report.should_report(Report.time, 1)) {
             Report.report(1, "\nStatistics for " + ext.compilerName() + " ("
                     + ext.getClass().getName() + ")");
-            Report.report(1, "Inclusive Exclusive Key");
-            Report.report(1, "--------- --------- ---");
+            if (!keys.isEmpty()) {
+                Report.report(1, "Inclusive Exclusive Key");
+                Report.report(1, "--------- --------- ---");
+            }
 
             for (Object key : keys) {
                 Times t = passTimes.get(key);
@@ -105,6 +160,8 @@ public class Stats {
                               t.inclusive + " " + t.exclusive + " "
                                       + key.toString());
             }
+
+            reportMetrics();
         }
     }
 }
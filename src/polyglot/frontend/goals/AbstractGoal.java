@@ -103,10 +103,10 @@ public abstract class AbstractGoal implements Goal {
     }
 
     @Override
-    public void addPrerequisiteGoal(Goal g, Scheduler scheduler)
-            throws CyclicDependencyException {
-        // This takes a hell of a long time.  Disable the check for now.
-        // checkCycles(g, scheduler);
+    public void addPrerequisiteGoal(Goal g, Scheduler scheduler) {
+        // Cycles are not rejected: the scheduler's goal graph reports an
+        // edge that closes a cycle, which is much cheaper than
+        // checkCycles(g, scheduler).
         if (prerequisites == Collections.EMPTY_SET) {
             prerequisites = new LinkedHashSet<>();
         }
@@ -28,7 +28,6 @@ package polyglot.frontend.goals;
 
 import java.util.Collection;
 
-import polyglot.frontend.CyclicDependencyException;
 import polyglot.frontend.ExtensionInfo;
 import polyglot.frontend.Job;
 import polyglot.frontend.Pass;
@@ -91,12 +90,10 @@ public interface Goal {
     /**
      * Add a new subgoal {@code g}.  {@code g} must be completed
      * before this goal is attempted.  {@code g} should be interned.
-     * 
-     * @throws CyclicDependencyException
-     *             if a prerequisite of {@code g} is {@code this}
+     * Cycles are not checked here: the scheduler reports a prerequisite
+     * edge that closes a cycle when it records the edge.
      */
-    public void addPrerequisiteGoal(Goal g, Scheduler scheduler)
-            throws CyclicDependencyException;
+    public void addPrerequisiteGoal(Goal g, Scheduler scheduler);
 
     /** Return true if this goal is reachable. */
     public boolean isReachable();
@@ -62,13 +62,17 @@ public class Serialized extends SourceFileGoal {
             Compiler compiler = extInfo.compiler();
             TypeSystem ts = extInfo.typeSystem();
             NodeFactory nf = extInfo.nodeFactory();
-            return new VisitorPass(this,
-                                   createSerializer(ts,
-                                                    nf,
-                                                    job().source()
-                                                         .getLastModified(),
-                                                    compiler.errorQueue(),
-                                                    extInfo.version()));
+            ClassSerializer cs =
+                    createSerializer(ts,
+                                     nf,
+                                     job().source().getLastModified(),
+                                     compiler.errorQueue(),
+                                     extInfo.version());
+            if (compiler.buildCache() != null
+                    && extInfo == compiler.sourceExtension()) {
+                cs.recordIn(compiler.buildCache(), job().source());
+            }
+            return new VisitorPass(this, cs);
         }
         else {
             return new EmptyPass(this);
@@ -26,86 +26,144 @@
 
 package polyglot.lex;
 
-import java.io.Reader;
 import java.io.FilterReader;
 import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
 
-/** A reader that translates escaped unicode into unicode characters. */
+/**
+ * A reader that translates escaped unicode into unicode characters.
+ *
+ * The whole input is read into a buffer on the first read and translated in
+ * one pass.  Input without a backslash-u, which is most input, is returned as
+ * it was read.
+ */
 public class EscapedUnicodeReader extends FilterReader {
 
-    int pushback = -1;
-    boolean isEvenSlash = true;
+    /** The translated input, or null if the input has not been read yet. */
+    protected char[] buf;
+    /** Number of characters in {@code buf}. */
+    protected int count;
+    /** Index of the next character of {@code buf} to return. */
+    protected int next;
+    /**
+     * An invalid escape found in the input, to be thrown once the characters
+     * preceding it have been read.
+     */
+    protected IOException error;
 
     public EscapedUnicodeReader(Reader in) {
         super(in);
     }
 
-    @Override
-    public int read() throws IOException {
-        int r = (pushback == -1) ? in.read() : pushback;
-        pushback = -1;
+    /** Read and translate the whole input, if not done yet. */
+    protected void fill() throws IOException {
+        if (buf != null) return;
+        char[] cs = new char[8192];
+        int n = 0;
+        for (int r; (r = in.read(cs, n, cs.length - n)) != -1;) {
+            n += r;
+            if (n == cs.length) cs = Arrays.copyOf(cs, cs.length * 2);
+        }
+        buf = cs;
+        count = translate(cs, n);
+    }
 
-        if (r != '\\') {
-            isEvenSlash = true;
-            return r;
+    /**
+     * Translate the escapes among the first {@code n} characters of
+     * {@code cs} in place, returning the number of characters after
+     * translation.  If an invalid escape is found, {@code error} is set and
+     * the characters preceding the escape are kept.
+     */
+    protected int translate(char[] cs, int n) {
+        int i = 0;
+        // Find the first escape.  Only a backslash preceded by an even number
+        // of backslashes can start one.
+        boolean isEvenSlash = true;
+        for (; i < n; i++) {
+            if (cs[i] != '\\')
+                isEvenSlash = true;
+            else if (!isEvenSlash)
+                isEvenSlash = true;
+            else if (i + 1 < n && cs[i + 1] == 'u')
+                break;
+            else isEvenSlash = false;
         }
-        else { // found a backslash;
-            if (!isEvenSlash) { // Only even slashes are eligible unicode escapes.
+        if (i == n) return n;
+
+        int w = i;
+        while (i < n) {
+            char c = cs[i++];
+            if (c != '\\') {
                 isEvenSlash = true;
-                return r;
+                cs[w++] = c;
+                continue;
             }
-
-            // Check for the trailing u.
-            pushback = in.read();
-            if (pushback != 'u') {
-                isEvenSlash = false;
-                return '\\';
+            if (!isEvenSlash || i == n || cs[i] != 'u') {
+                isEvenSlash = !isEvenSlash;
+                cs[w++] = c;
+                continue;
             }
 
-            // OK, we've found backslash-u.  
-            // Reset pushback and snarf up all trailing u's.
-            pushback = -1;
-            while ((r = in.read()) == 'u')
-                ;
-            // Now we should find 4 hex digits. 
-            // If we don't, we can raise bloody hell.
+            // OK, we've found backslash-u.
+            // Snarf up all trailing u's.
+            while (i < n && cs[i] == 'u')
+                i++;
+            // Now we should find 4 hex digits.
             int val = 0;
-            for (int i = 0; i < 4; i++, r = in.read()) {
-                int d = Character.digit((char) r, 16);
-                if (r < 0 || d < 0) {
-                    // invalid unicode character. Spend some time getting a 
+            for (int j = 0; j < 4; j++, i++) {
+                int d = i < n ? Character.digit(cs[i], 16) : -1;
+                if (d < 0) {
+                    // invalid unicode character. Spend some time getting a
                     // meaningful error message
                     String code = "";
-                    for (int j = 0; j < i; j++) {
+                    for (int k = 0; k < j; k++) {
                         code = Character.forDigit(val % 16, 16) + code;
                         val = val / 16;
                     }
-                    for (; i < 4; i++, r = in.read()) {
-                        code += ((char) r);
+                    for (; j < 4; j++, i++) {
+                        code += i < n ? cs[i] : (char) -1;
                     }
-
-                    throw new IOException("Invalid unicode escape character: \\u"
-                            + code);
+                    error = new IOException(
+                            "Invalid unicode escape character: \\u" + code);
+                    return w;
                 }
                 val = (val * 16) + d;
             }
-            // yeah, we made it.
-            pushback = r;
+            cs[w++] = (char) val;
             isEvenSlash = true;
-            return val;
         }
+        return w;
+    }
+
+    @Override
+    public int read() throws IOException {
+        fill();
+        if (next < count) return buf[next++];
+        if (error != null) throw error;
+        return -1;
     }
 
-    // synthesize array read from single-character read.
     @Override
     public int read(char cbuf[], int off, int len) throws IOException {
-        for (int i = 0; i < len; i++) {
-            int c = read();
-            if (c == -1)
-                return (i == 0) ? -1 : i; // end of stream reached.
-            else cbuf[i + off] = (char) c;
+        fill();
+        if (len == 0) return 0;
+        if (next == count) {
+            if (error != null) throw error;
+            return -1;
         }
-        return len;
+        int n = Math.min(len, count - next);
+        System.arraycopy(buf, next, cbuf, off, n);
+        next += n;
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        fill();
+        int k = (int) Math.min(Math.max(n, 0), count - next);
+        next += k;
+        return k;
     }
 
     @Override
@@ -115,8 +173,8 @@ public class EscapedUnicodeReader extends FilterReader {
 
     @Override
     public boolean ready() throws IOException {
-        if (pushback != -1)
-            return true;
-        else return in.ready();
+        if (buf == null)
+            return in.ready();
+        else return next < count || error != null;
     }
 }
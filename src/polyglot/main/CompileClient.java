@@ -0,0 +1,125 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan 
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.List;
+
+/**
+ * Sends a compilation request to a {@code CompileServer} and reports its
+ * output and exit code as if the compiler had been run directly.  The port of
+ * the server and the token it expects are read from the server's token file.
+ *
+ * Usage: {@code polyglot.main.CompileClient [-tokenfile <file>] <compiler args>}
+ */
+public class CompileClient {
+    /**
+     * Run the compiler with arguments {@code args} on the server whose port
+     * and token are in {@code tokenFile}, and return its exit code.
+     */
+    public static int compile(File tokenFile, String[] args)
+            throws IOException {
+        List<String> lines =
+                Files.readAllLines(tokenFile.toPath(), StandardCharsets.UTF_8);
+        if (lines.size() < 2) {
+            throw new IOException("malformed token file " + tokenFile);
+        }
+        int port;
+        try {
+            port = Integer.parseInt(lines.get(0).trim());
+        }
+        catch (NumberFormatException e) {
+            throw new IOException("malformed token file " + tokenFile);
+        }
+        return compile(port, lines.get(1).trim(), args);
+    }
+
+    /**
+     * Run the compiler with arguments {@code args} on the server listening on
+     * {@code port}, presenting {@code token}, and return its exit code.
+     */
+    public static int compile(int port, String token, String[] args)
+            throws IOException {
+        try (Socket s = new Socket(InetAddress.getLoopbackAddress(), port)) {
+            DataOutputStream out =
+                    new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+            out.writeUTF(token);
+            out.writeUTF(new File("").getAbsolutePath());
+            out.writeInt(args.length);
+            for (String arg : args) {
+                out.writeUTF(arg);
+            }
+            out.flush();
+
+            DataInputStream in =
+                    new DataInputStream(new BufferedInputStream(s.getInputStream()));
+            int exitCode = in.readInt();
+            byte[] b = new byte[in.readInt()];
+            in.readFully(b);
+            System.out.write(b);
+            System.out.flush();
+            b = new byte[in.readInt()];
+            in.readFully(b);
+            System.err.write(b);
+            System.err.flush();
+            return exitCode;
+        }
+    }
+
+    public static void main(String[] args) {
+        File tokenFile = CompileServer.defaultTokenFile();
+        int first = 0;
+        if (args.length >= 2 && args[0].equals("-tokenfile")) {
+            tokenFile = new File(args[1]);
+            first = 2;
+        }
+        if (args.length == first) {
+            System.err.println("usage: polyglot.main.CompileClient [-tokenfile <file>] <compiler args>");
+            System.exit(1);
+        }
+
+        String[] compilerArgs = new String[args.length - first];
+        System.arraycopy(args, first, compilerArgs, 0, compilerArgs.length);
+
+        try {
+            System.exit(compile(tokenFile, compilerArgs));
+        }
+        catch (IOException e) {
+            System.err.println("compile client: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,320 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan 
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.main;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.List;
+
+import polyglot.filemanager.ExtFileManager;
+import polyglot.main.Main.TerminationException;
+
+/**
+ * A long-lived compile server.  The server listens on a loopback port and runs
+ * each request it receives, as if by {@code polyglot.main.Main}, in the
+ * server's own JVM.  Requests are sent by {@code CompileClient}.
+ *
+ * Any local user can connect to a loopback port, so the server writes its
+ * port and a random token to a file that only its owner can read, and
+ * refuses requests that do not present the token.  A request runs with the
+ * server's privileges, and so may read and write any file the owner can.
+ * The server refuses {@code -postcompiler}, which would have it start an
+ * arbitrary program; the in-process post-compiler is used instead.
+ *
+ * Compilations run one at a time.  Each gets a fresh extension, type system
+ * and file manager, so the types loaded from class files and the file
+ * manager's package caches are rebuilt for every request.  What is kept
+ * between requests is the JIT-compiled compiler, the index of the archives on
+ * the class path (archives that were modified are read again), and the
+ * contents of the class files of the Java runtime.  This saves the start-up
+ * and warm-up cost of the JVM, but not the cost of building the type objects.
+ *
+ * Relative file names are resolved against the server's working directory, so
+ * a request is refused unless the client runs in the same directory.  This is
+ * a consistency check, not a security one: the directory is reported by the
+ * client.
+ */
+public class CompileServer {
+    /** Exit code reported for a request the server refused to run. */
+    public static final int REFUSED = 2;
+
+    /** The options a request may not use. */
+    protected static final String[] FORBIDDEN_OPTIONS = { "-postcompiler" };
+
+    protected ServerSocket socket;
+
+    /** The token a client must present. */
+    protected final String token;
+
+    /** The file holding the port and the token. */
+    protected final File tokenFile;
+
+    public CompileServer(int port, File tokenFile) throws IOException {
+        socket = new ServerSocket(port, 50, InetAddress.getLoopbackAddress());
+        byte[] b = new byte[32];
+        new SecureRandom().nextBytes(b);
+        StringBuilder sb = new StringBuilder(2 * b.length);
+        for (byte x : b) {
+            sb.append(Character.forDigit((x >> 4) & 0xf, 16));
+            sb.append(Character.forDigit(x & 0xf, 16));
+        }
+        this.token = sb.toString();
+        this.tokenFile = tokenFile;
+        try {
+            writeTokenFile(tokenFile, port(), token);
+        }
+        catch (IOException e) {
+            socket.close();
+            throw e;
+        }
+    }
+
+    /**
+     * The default file for the port and token: {@code .polyglot-server} in
+     * the user's home directory.
+     */
+    public static File defaultTokenFile() {
+        return new File(System.getProperty("user.home"), ".polyglot-server");
+    }
+
+    /**
+     * Write {@code port} and {@code token} to a new {@code file} that only
+     * the current user can read.  An existing file is replaced.
+     */
+    protected static void writeTokenFile(File file, int port, String token)
+            throws IOException {
+        Path path = file.toPath();
+        Files.deleteIfExists(path);
+        try {
+            Files.createFile(path,
+                             PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        catch (UnsupportedOperationException e) {
+            // Not a POSIX file system; restrict the file as far as possible.
+            Files.createFile(path);
+            file.setReadable(false, false);
+            file.setWritable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(true, true);
+        }
+        try (Writer w = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            w.write(port + "\n" + token + "\n");
+        }
+    }
+
+    /** The port the server is listening on. */
+    public int port() {
+        return socket.getLocalPort();
+    }
+
+    /** Serve requests until the server is closed. */
+    public void serve() throws IOException {
+        while (!socket.isClosed()) {
+            try (Socket s = socket.accept()) {
+                handle(s);
+            }
+            catch (IOException e) {
+                if (socket.isClosed()) break;
+                System.err.println("compile server: " + e.getMessage());
+            }
+        }
+    }
+
+    /** Stop serving requests, and remove the token file. */
+    public void close() throws IOException {
+        socket.close();
+        Files.deleteIfExists(tokenFile.toPath());
+    }
+
+    /**
+     * Read a request from {@code s}, run it, and write back its exit code and
+     * output.  A request consists of the server's token, the client's working
+     * directory and the command-line arguments.  The rest of the request is
+     * not read if the token is wrong.
+     */
+    protected void handle(Socket s) throws IOException {
+        DataInputStream in =
+                new DataInputStream(new BufferedInputStream(s.getInputStream()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exitCode;
+
+        String refusal;
+        String[] args = null;
+        if (!MessageDigest.isEqual(token.getBytes(StandardCharsets.UTF_8),
+                                   in.readUTF()
+                                     .getBytes(StandardCharsets.UTF_8))) {
+            refusal = "wrong token";
+        }
+        else {
+            String dir = in.readUTF();
+            args = new String[in.readInt()];
+            for (int i = 0; i < args.length; i++) {
+                args[i] = in.readUTF();
+            }
+            refusal = check(dir, args);
+        }
+
+        if (refusal != null) {
+            new PrintStream(err, true).println("compile server: " + refusal);
+            exitCode = REFUSED;
+        }
+        else {
+            exitCode = compile(args, out, err);
+        }
+
+        DataOutputStream o =
+                new DataOutputStream(new BufferedOutputStream(s.getOutputStream()));
+        o.writeInt(exitCode);
+        o.writeInt(out.size());
+        out.writeTo(o);
+        o.writeInt(err.size());
+        err.writeTo(o);
+        o.flush();
+    }
+
+    /**
+     * Return why a request from a client in {@code dir} with arguments
+     * {@code args} is refused, or null if it may run.  The arguments are
+     * checked after expanding {@code @file} arguments, as the compiler would.
+     */
+    protected String check(String dir, String[] args) {
+        if (!new File(dir).getAbsoluteFile()
+                          .equals(new File("").getAbsoluteFile())) {
+            return "running in " + new File("").getAbsolutePath() + ", not "
+                    + dir;
+        }
+
+        List<String> exploded;
+        try {
+            exploded = Main.explodeOptions(args);
+        }
+        catch (TerminationException e) {
+            return e.getMessage();
+        }
+        for (String arg : exploded) {
+            for (String opt : FORBIDDEN_OPTIONS) {
+                if (arg.equals(opt)) {
+                    return opt + " is not allowed in a compile server";
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Run the compiler on {@code args}, capturing its standard output and
+     * error streams, and return its exit code.
+     */
+    protected int compile(String[] args, ByteArrayOutputStream out,
+            ByteArrayOutputStream err) {
+        PrintStream oldOut = System.out;
+        PrintStream oldErr = System.err;
+        PrintStream pout = new PrintStream(out, true);
+        PrintStream perr = new PrintStream(err, true);
+
+        // Forget what the previous request left behind.
+        ExtFileManager.flushCaches();
+        Report.clearTopics();
+        Report.setQueue(null);
+
+        System.setOut(pout);
+        System.setErr(perr);
+        try {
+            new Main().start(args);
+            return 0;
+        }
+        catch (TerminationException te) {
+            if (te.getMessage() != null)
+                (te.exitCode == 0 ? pout : perr).println(te.getMessage());
+            return te.exitCode;
+        }
+        catch (RuntimeException | Error e) {
+            e.printStackTrace(perr);
+            return 1;
+        }
+        finally {
+            System.setOut(oldOut);
+            System.setErr(oldErr);
+        }
+    }
+
+    public static void main(String[] args) {
+        int port = 0;
+        File tokenFile = defaultTokenFile();
+        for (int i = 0; i < args.length; i++) {
+            if (args[i].equals("-port") && i + 1 < args.length) {
+                port = Integer.parseInt(args[++i]);
+            }
+            else if (args[i].equals("-tokenfile") && i + 1 < args.length) {
+                tokenFile = new File(args[++i]);
+            }
+            else {
+                System.err.println("usage: polyglot.main.CompileServer [-port <num>] [-tokenfile <file>]");
+                System.exit(1);
+            }
+        }
+
+        try {
+            final CompileServer server = new CompileServer(port, tokenFile);
+            Runtime.getRuntime().addShutdownHook(new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        server.close();
+                    }
+                    catch (IOException e) {
+                        // The JVM is exiting anyway.
+                    }
+                }
+            });
+            System.out.println("compile server listening on port "
+                    + server.port() + "; token in " + tokenFile);
+            server.serve();
+        }
+        catch (IOException e) {
+            System.err.println("compile server: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -75,6 +75,9 @@ public class Main {
 
     private List<Job> jobs;
 
+    /** The post-compiler started before translation, or null. */
+    private PipelinedPostCompiler pipeline;
+
     public List<Job> jobs() {
         return jobs;
     }
@@ -154,7 +157,9 @@ public class Main {
         // Allow all objects to get access to the Options object. This hack
         // should
         // be fixed somehow. XXX###@@@
-        Options.global = options;
+        // The options are kept per thread, so that compilations may run
+        // concurrently in one JVM.
+        Options.setGlobal(options);
         try {
             argv = args.toArray(new String[0]);
             options.parseCommandLine(argv, source);
@@ -177,6 +182,23 @@ public class Main {
 
         Compiler compiler = new Compiler(ext, eq);
 
+        if (options.pipeline_post_compiler) {
+            pipeline = new PipelinedPostCompiler(javaCompiler);
+            pipeline.start();
+        }
+        try {
+            compileAndPostCompile(options, compiler, eq);
+        }
+        finally {
+            if (pipeline != null) {
+                pipeline.shutdown();
+                pipeline = null;
+            }
+        }
+    }
+
+    private void compileAndPostCompile(Options options, Compiler compiler,
+            ErrorQueue eq) throws TerminationException {
         long time0 = System.currentTimeMillis();
 
         if (!compiler.compileFiles(source)) {
@@ -237,15 +259,23 @@ public class Main {
                             .configureFileManagerForPostCompiler();
                     FileManager fileManager =
                             compiler.sourceExtension().extFileManager();
-                    CompilationTask task =
-                            javaCompiler.getTask(javac_err,
-                                                 fileManager,
-                                                 null,
-                                                 postCompilerArgs,
-                                                 null,
-                                                 compiler.outputFiles());
-
-                    task.call();
+                    if (pipeline != null) {
+                        pipeline.compile(javac_err,
+                                         fileManager,
+                                         postCompilerArgs,
+                                         compiler.outputFiles());
+                    }
+                    else {
+                        CompilationTask task =
+                                javaCompiler.getTask(javac_err,
+                                                     fileManager,
+                                                     null,
+                                                     postCompilerArgs,
+                                                     null,
+                                                     compiler.outputFiles());
+
+                        task.call();
+                    }
                     String error = err.toString();
                     if (!error.isEmpty())
                         eq.enqueue(ErrorInfo.POST_COMPILER_ERROR, error);
@@ -338,7 +368,7 @@ public class Main {
         return true;
     }
 
-    private static List<String> explodeOptions(String[] args)
+    static List<String> explodeOptions(String[] args)
             throws TerminationException {
         LinkedList<String> ll = new LinkedList<>();
 
@@ -66,9 +66,39 @@ public class Options {
     /**
      * An annoying hack to allow objects to get their hands on the Options
      * object. This should be fixed. XXX###@@@
+     *
+     * This is the options of the compilation started most recently on any
+     * thread.  Use {@link #global()} to get the options of the compilation
+     * running on the current thread.
      */
     public static Options global;
 
+    /**
+     * The options of the compilation running on each thread.  A thread
+     * started during a compilation, such as a worker of the scheduler,
+     * inherits the options of the thread that started it.
+     */
+    private static final InheritableThreadLocal<Options> current =
+            new InheritableThreadLocal<>();
+
+    /**
+     * Return the options of the compilation running on the current thread,
+     * or of the compilation started most recently if there is none.
+     */
+    public static Options global() {
+        Options options = current.get();
+        return options != null ? options : global;
+    }
+
+    /**
+     * Make {@code options} the options of the compilation running on the
+     * current thread.
+     */
+    public static void setGlobal(Options options) {
+        global = options;
+        current.set(options);
+    }
+
     /**
      * Back pointer to the extension that owns this options
      */
@@ -130,12 +160,52 @@ public class Options {
     /** Use SimpleCodeWriter instead of OptimalCodeWriter */
     public boolean use_simple_code_writer;
 
+    /**
+     * Use StreamingCodeWriter instead of OptimalCodeWriter, trading
+     * occasional differences in layout for time and memory on large outputs.
+     */
+    public boolean use_streaming_code_writer;
+
     /**
      * Parse "a" + "b" as "ab" to avoid very deep AST, e.g., for action tables,
      * and for serialization.
      */
     public boolean merge_strings;
 
+    /**
+     * Number of threads on which the source files may be parsed.  See
+     * {@code Scheduler.isConcurrent}.
+     */
+    public int scheduler_threads = 1;
+
+    /** File in which to keep the incremental build cache, or null. */
+    public File build_cache;
+
+    /** Discard the AST of each source file once it has been compiled. */
+    public boolean release_asts;
+
+    /**
+     * Heap size, in bytes, above which the scheduler finishes the source
+     * files it has started before working on others, or 0 if there is no
+     * budget.
+     */
+    public long heap_budget;
+
+    /** File to which to write compiler metrics, or null. */
+    public File metrics_file;
+
+    /**
+     * Use hash maps rather than bit vectors for the flow items of
+     * initialization checking.
+     */
+    public boolean dataflow_maps = false;
+
+    /**
+     * Start the in-process post-compiler while the source files are being
+     * translated, rather than after.
+     */
+    public boolean pipeline_post_compiler = false;
+
     public boolean classpath_given;
     public boolean bootclasspath_given;
 
@@ -450,6 +520,9 @@ public class Options {
 
         flags.add(new Switch("-simpleoutput", "use SimpleCodeWriter"));
 
+        flags.add(new Switch("-streamoutput",
+                             "use StreamingCodeWriter, which formats output incrementally"));
+
         flags.add(new Switch("-mergestrings",
                              "parse concatenated string literals as one single string literal"));
 
@@ -460,6 +533,42 @@ public class Options {
         flags.add(new Switch("-no-output-to-fs",
                              "keep .java files in memory if possible"));
 
+        flags.add(new IntFlag("-parallel",
+                              "<num>",
+                              "parse source files on <num> threads",
+                              1));
+
+        flags.add(new Switch("-releaseasts",
+                             "discard the AST of each source file once it has been compiled"));
+
+        flags.add(new IntFlag("-heapbudget",
+                              "<MB>",
+                              "finish the files already started before starting others while more than <MB> megabytes of heap are in use (implies -releaseasts)"));
+
+        flags.add(new OptFlag<File>("-buildcache",
+                                    "<file>",
+                                    "only recompile changed files and their dependents, keeping type information in <file>") {
+            @Override
+            public Arg<File> handle(String[] args, int index) {
+                return createArg(index + 1, new File(args[index]));
+            }
+        });
+
+        flags.add(new OptFlag<File>("-metrics",
+                                    "<file>",
+                                    "write counters and timings of the compilation to <file>, as CSV if it ends in .csv and JSON otherwise") {
+            @Override
+            public Arg<File> handle(String[] args, int index) {
+                return createArg(index + 1, new File(args[index]));
+            }
+        });
+
+        flags.add(new Switch("-dataflow-maps",
+                             "use hash maps rather than bit vectors when checking initialization"));
+
+        flags.add(new Switch("-pipeline",
+                             "start the in-process post-compiler while translating; with -nooutput, .java files are kept in memory"));
+
         flags.add(new PathFlag<File>("-method-filter", "<file>",
                 "for each method whose signature matches any of the regular expressions " +
                         "listed in <file>, replace its body with " +
@@ -557,6 +666,9 @@ public class Options {
         // If we are using an external post compiler,
         // we have to output files to disk
         if (post_compiler != null || keep_output_files) noOutputToFS = false;
+        // Only the in-process post-compiler can be pipelined.
+        if (post_compiler != null || output_source_only || output_stdout)
+            pipeline_post_compiler = false;
     }
 
     /**
@@ -746,6 +858,9 @@ public class Options {
         else if (ids.contains("-simpleoutput")) {
             setSimpleOutput((Boolean) arg.value());
         }
+        else if (ids.contains("-streamoutput")) {
+            setStreamOutput((Boolean) arg.value());
+        }
         else if (ids.contains("-mergestrings")) {
             setMergeStrings((Boolean) arg.value());
         }
@@ -755,6 +870,27 @@ public class Options {
         else if (ids.contains("-no-output-to-fs")) {
             noOutputToFS = (Boolean) arg.value();
         }
+        else if (ids.contains("-parallel")) {
+            setSchedulerThreads((Integer) arg.value());
+        }
+        else if (ids.contains("-releaseasts")) {
+            setReleaseASTs((Boolean) arg.value());
+        }
+        else if (ids.contains("-heapbudget")) {
+            setHeapBudget((Integer) arg.value());
+        }
+        else if (ids.contains("-buildcache")) {
+            setBuildCache((File) arg.value());
+        }
+        else if (ids.contains("-metrics")) {
+            setMetricsFile((File) arg.value());
+        }
+        else if (ids.contains("-dataflow-maps")) {
+            dataflow_maps = (Boolean) arg.value();
+        }
+        else if (ids.contains("-pipeline")) {
+            pipeline_post_compiler = (Boolean) arg.value();
+        }
         else if (ids.contains("-method-filter")) {
             setMemberFilter(this.<List<File>, File>sccast(arg.value(), File.class));
         }
@@ -896,10 +1032,41 @@ public class Options {
         use_simple_code_writer = value;
     }
 
+    protected void setStreamOutput(boolean value) {
+        use_streaming_code_writer = value;
+    }
+
     protected void setMergeStrings(boolean value) {
         merge_strings = value;
     }
 
+    protected void setSchedulerThreads(Integer value) throws UsageError {
+        if (value < 1)
+            throw new UsageError("Number of threads must be positive: "
+                    + value);
+        scheduler_threads = value;
+    }
+
+    protected void setReleaseASTs(boolean value) {
+        release_asts = value;
+    }
+
+    protected void setHeapBudget(Integer megabytes) throws UsageError {
+        if (megabytes < 1)
+            throw new UsageError("Heap budget must be positive: "
+                    + megabytes);
+        heap_budget = megabytes * 1024L * 1024L;
+        release_asts = true;
+    }
+
+    protected void setBuildCache(File f) {
+        build_cache = f;
+    }
+
+    protected void setMetricsFile(File f) {
+        metrics_file = f;
+    }
+
     protected void setMemberFilter(List<File> files) throws UsageError {
         StringBuilder sb = new StringBuilder();
         String[] autoEscapes = {"(", ")", "[", "]"};
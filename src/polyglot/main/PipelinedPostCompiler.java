@@ -0,0 +1,221 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan 
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.main;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.net.URI;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import javax.tools.FileObject;
+import javax.tools.ForwardingJavaFileManager;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileManager;
+import javax.tools.JavaFileObject;
+import javax.tools.JavaFileObject.Kind;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+
+import polyglot.util.InternalCompilerError;
+
+/**
+ * A {@code PipelinedPostCompiler} runs the in-process Java compiler on a
+ * thread of its own, so that the post-compilation of the translated source
+ * files overlaps with the work of Polyglot.
+ *
+ * The Java compiler API reads all the compilation units of a task before it
+ * parses any of them, so the task itself cannot start until translation is
+ * complete.  What can be overlapped is the start-up of the Java compiler:
+ * {@link #start()} compiles a small class into memory while Polyglot is
+ * still running, which loads the compiler's classes, opens the platform
+ * class path, and warms up the JIT for the real compilation.  Tasks passed
+ * to {@link #compile(Writer, JavaFileManager, List, Collection) compile} run
+ * on the same thread after the warm-up.
+ */
+public class PipelinedPostCompiler {
+    /** A class whose compilation exercises the common paths of javac. */
+    protected static final String WARM_UP_SOURCE =
+            "import java.util.*;\n"
+                    + "class PolyglotWarmUp<T extends Comparable<T>> {\n"
+                    + "  List<T> items = new ArrayList<>();\n"
+                    + "  T max() {\n"
+                    + "    T m = null;\n"
+                    + "    for (T t : items)\n"
+                    + "      if (m == null || t.compareTo(m) > 0) m = t;\n"
+                    + "    return m;\n"
+                    + "  }\n"
+                    + "  String show(Map<String, Integer> m) {\n"
+                    + "    final StringBuilder sb = new StringBuilder();\n"
+                    + "    for (Map.Entry<String, Integer> e : m.entrySet())\n"
+                    + "      sb.append(e.getKey()).append(e.getValue() + 1);\n"
+                    + "    new Runnable() {\n"
+                    + "      public void run() {\n"
+                    + "        try { sb.wait(); }\n"
+                    + "        catch (InterruptedException x) { }\n"
+                    + "      }\n"
+                    + "    }.run();\n"
+                    + "    return sb.toString();\n"
+                    + "  }\n"
+                    + "}\n";
+
+    protected final JavaCompiler javaCompiler;
+    protected final ExecutorService executor;
+
+    public PipelinedPostCompiler(JavaCompiler javaCompiler) {
+        this.javaCompiler = javaCompiler;
+        this.executor =
+                Executors.newSingleThreadExecutor(new ThreadFactory() {
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "polyglot-post-compiler");
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+    }
+
+    /**
+     * Warm up the Java compiler in the background.  With a single processor
+     * the warm-up would only slow translation down, so it is skipped.
+     */
+    public void start() {
+        if (Runtime.getRuntime().availableProcessors() < 2) return;
+        executor.submit(new Runnable() {
+            @Override
+            public void run() {
+                warmUp();
+            }
+        });
+    }
+
+    /**
+     * Compile {@link #WARM_UP_SOURCE}, discarding the class files and any
+     * diagnostics.
+     */
+    protected void warmUp() {
+        URI uri = URI.create("string:///PolyglotWarmUp.java");
+        JavaFileObject source =
+                new SimpleJavaFileObject(uri, Kind.SOURCE) {
+                    @Override
+                    public CharSequence getCharContent(
+                            boolean ignoreEncodingErrors) {
+                        return WARM_UP_SOURCE;
+                    }
+                };
+        StandardJavaFileManager fm =
+                javaCompiler.getStandardFileManager(null, null, null);
+        JavaFileManager discard =
+                new ForwardingJavaFileManager<StandardJavaFileManager>(fm) {
+                    @Override
+                    public JavaFileObject getJavaFileForOutput(
+                            Location location, String className, Kind kind,
+                            FileObject sibling) {
+                        return new SimpleJavaFileObject(URI.create("mem:///"
+                                + className.replace('.', '/') + kind.extension),
+                                                        kind) {
+                            @Override
+                            public OutputStream openOutputStream() {
+                                return new ByteArrayOutputStream();
+                            }
+                        };
+                    }
+                };
+        try {
+            javaCompiler.getTask(new StringWriter(),
+                                 discard,
+                                 null,
+                                 Collections.singletonList("-proc:none"),
+                                 null,
+                                 Collections.singletonList(source))
+                        .call();
+        }
+        catch (RuntimeException e) {
+            // The warm-up is only an optimization.
+        }
+        finally {
+            try {
+                discard.close();
+            }
+            catch (IOException e) {
+            }
+        }
+    }
+
+    /**
+     * Compile {@code sources} with {@code fileManager} and the arguments
+     * {@code args}, once the warm-up is done, and wait for the compilation to
+     * finish.  Diagnostics are written to {@code err}.
+     *
+     * @return true if the compilation succeeded.
+     */
+    public boolean compile(final Writer err, final JavaFileManager fileManager,
+            final List<String> args,
+            final Collection<? extends JavaFileObject> sources) {
+        Future<Boolean> result = executor.submit(new Callable<Boolean>() {
+            @Override
+            public Boolean call() {
+                return javaCompiler.getTask(err,
+                                            fileManager,
+                                            null,
+                                            args,
+                                            null,
+                                            sources).call();
+            }
+        });
+        try {
+            return result.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalCompilerError("Interrupted while post-compiling",
+                                            e);
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error) throw (Error) cause;
+            throw new InternalCompilerError(cause);
+        }
+    }
+
+    /** Stop the post-compiler thread once it has finished its tasks. */
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -32,6 +32,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Stack;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import polyglot.util.ErrorInfo;
 import polyglot.util.ErrorQueue;
@@ -48,23 +49,63 @@ public class Report {
         if we should report. */
     public final static Stack<String> should_report = new Stack<>();
 
-    /** 
-     * The topics that the user has selected to report, mapped to the level
-     * they want to report them to.
+    /**
+     * The reporting state of the compilations on one thread.  Each thread
+     * has its own state, so that compilations running concurrently in one
+     * JVM do not see each other's topics.  A thread starts out with a copy
+     * of the state of the thread that started it.
      */
-    protected final static Map<String, Integer> reportTopics = new HashMap<>();
+    protected static class State {
+        /** 
+         * The topics that the user has selected to report, mapped to the level
+         * they want to report them to.
+         */
+        protected final Map<String, Integer> reportTopics;
+
+        /** Error queue to which to write messages. */
+        protected ErrorQueue eq;
+
+        /** Indicates if there is no reporting at all on this thread. */
+        protected boolean noReporting;
+
+        protected State() {
+            reportTopics = new HashMap<>();
+            noReporting = true;
+        }
+
+        protected State(State s) {
+            reportTopics = new HashMap<>(s.reportTopics);
+            eq = s.eq;
+            noReporting = s.noReporting;
+            if (!noReporting) reportingStates.incrementAndGet();
+        }
+    }
 
-    /** Error queue to which to write messages. */
-    protected static ErrorQueue eq;
+    protected static final InheritableThreadLocal<State> state =
+            new InheritableThreadLocal<State>() {
+                @Override
+                protected State initialValue() {
+                    return new State();
+                }
+
+                @Override
+                protected State childValue(State parent) {
+                    return new State(parent);
+                }
+            };
 
     /**
-     * Indicates if there is no reporting at all.
+     * The number of states that have topics to report.
      * The normal case is that we do not report anything, so for efficiency 
      * reasons, since {@code should_report} is called so often, we'll use
-     * this flag to bypass a lot of the checking. When the options are processed,
-     * this flag should be changed.
+     * this count to bypass a lot of the checking.
      */
-    protected static boolean noReporting = true;
+    protected static final AtomicInteger reportingStates = new AtomicInteger();
+
+    /** Is there nothing to report on the current thread? */
+    protected static boolean noReporting() {
+        return reportingStates.get() == 0 || state.get().noReporting;
+    }
 
     /** Report topics understood by the base compiler. */
     public final static String cfg = "cfg";
@@ -109,7 +150,7 @@ public class Report {
      * -report command-line switches given by the user.
      */
     public static boolean should_report(String topic, int level) {
-        if (noReporting) return false;
+        if (noReporting()) return false;
         return should_report(Collections.singletonList(topic), level);
     }
 
@@ -119,7 +160,7 @@ public class Report {
      * -report command-line switches given by the user.
      */
     public static boolean should_report(String[] topics, int level) {
-        if (noReporting) return false;
+        if (noReporting()) return false;
         synchronized (should_report) {
             for (String topic : should_report) {
                 if (level(topic) >= level) return true;
@@ -148,7 +189,7 @@ public class Report {
      * -report command-line switches given by the user.
      */
     public static boolean should_report(Collection<String> topics, int level) {
-        if (noReporting) return false;
+        if (noReporting()) return false;
         synchronized (should_report) {
             for (String topic : should_report) {
                 if (level(topic) >= level) return true;
@@ -163,32 +204,48 @@ public class Report {
     }
 
     public static void addTopic(String topic, int level) {
-        Integer i = reportTopics.get(topic);
+        State s = state.get();
+        Integer i = s.reportTopics.get(topic);
         if (i == null || i.intValue() < level) {
-            reportTopics.put(topic, new Integer(level));
+            s.reportTopics.put(topic, new Integer(level));
+        }
+        if (s.noReporting) {
+            s.noReporting = false;
+            reportingStates.incrementAndGet();
+        }
+    }
+
+    /** Stop reporting on all topics on the current thread. */
+    public static void clearTopics() {
+        State s = state.get();
+        s.reportTopics.clear();
+        if (!s.noReporting) {
+            s.noReporting = true;
+            reportingStates.decrementAndGet();
         }
-        noReporting = false;
     }
 
     public static void setTopic(String topic, int level) {
+        Map<String, Integer> reportTopics = state.get().reportTopics;
         if (reportTopics.containsKey(topic)) reportTopics.put(topic, level);
     }
 
     /** Get the error queue, possibly creating it if not set. */
     public static ErrorQueue getQueue() {
-        if (eq == null) {
-            eq = new SimpleErrorQueue();
+        State s = state.get();
+        if (s.eq == null) {
+            s.eq = new SimpleErrorQueue();
         }
-        return eq;
+        return s.eq;
     }
 
-    /** Set the error queue. */
+    /** Set the error queue of the current thread. */
     public static void setQueue(ErrorQueue eq) {
-        Report.eq = eq;
+        state.get().eq = eq;
     }
 
     public static int level(String name) {
-        Object i = reportTopics.get(name);
+        Object i = state.get().reportTopics.get(name);
         if (i == null)
             return 0;
         else return ((Integer) i).intValue();
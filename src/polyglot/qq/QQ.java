@@ -27,24 +27,43 @@
 package polyglot.qq;
 
 import java.io.IOException;
+import java.lang.ref.SoftReference;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
+import polyglot.ast.CanonicalTypeNode;
 import polyglot.ast.ClassDecl;
 import polyglot.ast.ClassMember;
 import polyglot.ast.Expr;
+import polyglot.ast.Formal;
+import polyglot.ast.Id;
+import polyglot.ast.Lang;
 import polyglot.ast.Node;
 import polyglot.ast.NodeFactory;
 import polyglot.ast.SourceFile;
 import polyglot.ast.Stmt;
+import polyglot.ast.StringLit;
 import polyglot.ast.TypeNode;
 import polyglot.frontend.ExtensionInfo;
 import polyglot.lex.Lexer;
 import polyglot.main.Report;
+import polyglot.types.Flags;
 import polyglot.types.Type;
 import polyglot.types.TypeSystem;
 import polyglot.util.ErrorQueue;
 import polyglot.util.Position;
+import polyglot.util.SilentErrorQueue;
+import polyglot.visit.NodeVisitor;
 
 /**
   Java language quasiquoter.  This class contains methods for parsing strings
@@ -81,6 +100,12 @@ import polyglot.util.Position;
   These patterns are recognized as tokens by the lexer--surrounding the token
   with whitespace or parens may be needed to parse the string.
 
+  <p>
+  Each format string is parsed once per extension into a template with a
+  placeholder for each substitution; later uses with substitutions of the
+  same kinds copy the template.  Formats whose placeholders the parser does
+  not keep intact, and source files, are parsed anew on every use.
+
   <p>
   For example:
   <pre>
@@ -245,9 +270,7 @@ public class QQ {
     /** Parse a string into an AST node of the given type,
      * applying substitutions. */
     protected Node parse(int kind, String fmt, Object... subst) {
-        TypeSystem ts = ext.typeSystem();
         NodeFactory nf = ext.nodeFactory();
-        ErrorQueue eq = ext.compiler().errorQueue();
 
         // Replace Types with TypeNodes
         for (int i = 0; i < subst.length; i++) {
@@ -281,14 +304,47 @@ public class QQ {
             pos = Position.compilerGenerated(3);
         }
 
-        polyglot.lex.Lexer lexer = lexer(fmt, pos, subst);
-        QQParser grm = parser(lexer, ts, nf, eq);
-
         if (Report.should_report(polyglot.frontend.Topics.qq, 1)) {
             Report.report(1, "qq: " + fmt);
             Report.report(1, "subst: " + subst);
         }
 
+        Node n = null;
+        String shape = kind == FILE ? null : shape(subst);
+
+        if (shape != null) {
+            TemplateKey key = new TemplateKey(getClass(), kind, fmt, shape);
+            ConcurrentMap<TemplateKey, Template> templates = templates();
+            Template t = templates.get(key);
+
+            if (t == null) {
+                t = template(kind, fmt, pos, subst);
+                templates.put(key, t);
+            }
+
+            if (t.node != null) {
+                n = t.instantiate(nf, pos, subst);
+            }
+        }
+
+        if (n == null) {
+            n = parse(kind, fmt, pos, ext.compiler().errorQueue(), subst);
+        }
+
+        if (Report.should_report(polyglot.frontend.Topics.qq, 1))
+            Report.report(1, "result: " + n);
+        return n;
+    }
+
+    /** Lex and parse {@code fmt}, applying substitutions. */
+    protected Node parse(int kind, String fmt, Position pos, ErrorQueue eq,
+            Object... subst) {
+        TypeSystem ts = ext.typeSystem();
+        NodeFactory nf = ext.nodeFactory();
+
+        polyglot.lex.Lexer lexer = lexer(fmt, pos, subst);
+        QQParser grm = parser(lexer, ts, nf, eq);
+
         try {
             java_cup.runtime.Symbol sym;
 
@@ -316,10 +372,7 @@ public class QQ {
             }
 
             if (sym != null && sym.value instanceof Node) {
-                Node n = (Node) sym.value;
-                if (Report.should_report(polyglot.frontend.Topics.qq, 1))
-                    Report.report(1, "result: " + n);
-                return n;
+                return (Node) sym.value;
             }
 
             throw new QQError("Unable to parse: \"" + fmt + "\".", pos);
@@ -336,4 +389,318 @@ public class QQ {
                     + e.getMessage(), pos);
         }
     }
+
+    /**
+     * The templates of the quasiquoters of each extension.  The templates
+     * of an extension are held softly, since they may refer back to the
+     * extension through its type system.
+     */
+    private static final Map<ExtensionInfo, SoftReference<ConcurrentMap<TemplateKey, Template>>> extTemplates =
+            new WeakHashMap<>();
+
+    /** The templates of {@code ext}, shared with other quasiquoters. */
+    private ConcurrentMap<TemplateKey, Template> templates;
+
+    /**
+     * Return the templates parsed for the format strings of this
+     * extension, which are shared by all its quasiquoters.
+     */
+    protected ConcurrentMap<TemplateKey, Template> templates() {
+        if (templates == null) {
+            synchronized (extTemplates) {
+                SoftReference<ConcurrentMap<TemplateKey, Template>> r =
+                        extTemplates.get(ext);
+                templates = r == null ? null : r.get();
+                if (templates == null) {
+                    templates = new ConcurrentHashMap<>();
+                    extTemplates.put(ext, new SoftReference<>(templates));
+                }
+            }
+        }
+        return templates;
+    }
+
+    /**
+     * Return a string describing the kinds of the substitutions in
+     * {@code subst}, or null if a substitution cannot be represented by a
+     * template hole.  Lists are described by the kinds of their elements.
+     */
+    protected String shape(Object[] subst) {
+        StringBuilder sb = new StringBuilder(subst.length + 2);
+        for (Object o : subst) {
+            if (o instanceof List) {
+                sb.append('[');
+                for (Object p : (List<?>) o) {
+                    char c = holeKind(p);
+                    if (c == 0) return null;
+                    sb.append(c);
+                }
+                sb.append(']');
+            }
+            else {
+                char c = holeKind(o);
+                if (c == 0) return null;
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Return the kind of template hole to substitute {@code o} into, or 0 if
+     * there is none.  Canonical type nodes and string literals get holes of
+     * their own, since the parser folds them into array types and string
+     * concatenations.
+     */
+    protected char holeKind(Object o) {
+        if (o instanceof String) return 's';
+        if (o instanceof ClassDecl) return 'D';
+        if (o instanceof Formal) return 'F';
+        if (o instanceof CanonicalTypeNode) return 'C';
+        if (o instanceof TypeNode) return 'T';
+        if (o instanceof StringLit) return 'L';
+        if (o instanceof Expr) return 'E';
+        if (o instanceof Stmt) return 'S';
+        if (o instanceof ClassMember) return 'M';
+        return 0;
+    }
+
+    /**
+     * Create a placeholder node for a template hole of the given kind.
+     * The placeholder is of the same sort of node as the substitutions it
+     * stands for, so that the parser treats both alike.
+     */
+    protected Node hole(char kind, String name, Position pos) {
+        TypeSystem ts = ext.typeSystem();
+        NodeFactory nf = ext.nodeFactory();
+
+        switch (kind) {
+        case 'D':
+            return nf.ClassDecl(pos,
+                                Flags.NONE,
+                                nf.Id(pos, name),
+                                null,
+                                Collections.<TypeNode> emptyList(),
+                                nf.ClassBody(pos,
+                                             Collections.<ClassMember> emptyList()),
+                                null);
+        case 'F':
+            return nf.Formal(pos,
+                             Flags.NONE,
+                             nf.CanonicalTypeNode(pos, ts.Object()),
+                             nf.Id(pos, name));
+        case 'C':
+            return nf.CanonicalTypeNode(pos, ts.Object());
+        case 'T':
+            return nf.AmbTypeNode(pos, nf.Id(pos, name));
+        case 'L':
+            return nf.StringLit(pos, name);
+        case 'E':
+            return nf.Local(pos, nf.Id(pos, name));
+        case 'S':
+            return nf.Empty(pos);
+        case 'M':
+            return nf.Initializer(pos, Flags.NONE, nf.Block(pos));
+        default:
+            throw new QQError("bad template hole kind: " + kind, pos);
+        }
+    }
+
+    /**
+     * Parse {@code fmt} into a template, with a placeholder for each
+     * substitution in {@code subst}.  If the placeholders do not all end up
+     * in the AST, intact and exactly once, the format is parsed anew on
+     * every use instead.
+     */
+    protected Template template(int kind, String fmt, Position pos,
+            Object[] subst) {
+        Map<Node, Integer> holes = new IdentityHashMap<>();
+        Map<String, Integer> names = new HashMap<>();
+        Object[] placeholders = new Object[subst.length];
+        int slot = 0;
+
+        for (int i = 0; i < subst.length; i++) {
+            if (subst[i] instanceof List) {
+                List<?> l = (List<?>) subst[i];
+                List<Node> ps = new ArrayList<>(l.size());
+                for (Object p : l) {
+                    Node h = hole(holeKind(p), "qq$" + slot, pos);
+                    holes.put(h, slot++);
+                    ps.add(h);
+                }
+                placeholders[i] = ps;
+            }
+            else {
+                char c = holeKind(subst[i]);
+                String name = "qq$" + slot;
+                if (c == 's') {
+                    names.put(name, slot++);
+                    placeholders[i] = name;
+                }
+                else {
+                    Node h = hole(c, name, pos);
+                    holes.put(h, slot++);
+                    placeholders[i] = h;
+                }
+            }
+        }
+
+        Node n;
+        ErrorQueue eq = new SilentErrorQueue(1, "qq");
+        try {
+            n = parse(kind, fmt, pos, eq, placeholders);
+        }
+        catch (RuntimeException e) {
+            return Template.NONE;
+        }
+
+        if (eq.hasErrors()) return Template.NONE;
+
+        HoleCounter c = new HoleCounter(ext.nodeFactory().lang(), holes, names);
+        n.visit(c);
+        if (c.found != slot || c.duplicated) return Template.NONE;
+
+        return new Template(n, holes, names);
+    }
+
+    /** The cache key of a template. */
+    protected static final class TemplateKey {
+        protected final Class<?> qq;
+        protected final int kind;
+        protected final String fmt;
+        protected final String shape;
+
+        public TemplateKey(Class<?> qq, int kind, String fmt, String shape) {
+            this.qq = qq;
+            this.kind = kind;
+            this.fmt = fmt;
+            this.shape = shape;
+        }
+
+        @Override
+        public int hashCode() {
+            return (qq.hashCode() * 31 + kind) * 31 + fmt.hashCode()
+                    + shape.hashCode();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof TemplateKey) {
+                TemplateKey k = (TemplateKey) o;
+                return qq == k.qq && kind == k.kind && fmt.equals(k.fmt)
+                        && shape.equals(k.shape);
+            }
+            return false;
+        }
+    }
+
+    /**
+     * A format string parsed with placeholders for its substitutions.
+     * The placeholders are numbered in the order of the substitutions, with
+     * the elements of a list numbered one by one.  Identifiers are
+     * represented by the names of {@code Id} nodes.
+     */
+    protected static final class Template {
+        /** The template of a format that is parsed anew on every use. */
+        protected static final Template NONE = new Template(null, null, null);
+
+        protected final Node node;
+        protected final Map<Node, Integer> holes;
+        protected final Map<String, Integer> names;
+
+        protected Template(Node node, Map<Node, Integer> holes,
+                Map<String, Integer> names) {
+            this.node = node;
+            this.holes = holes;
+            this.names = names;
+        }
+
+        /**
+         * Return a copy of the template positioned at {@code pos}, with
+         * the substitutions in {@code subst} in place of the placeholders.
+         */
+        protected Node instantiate(NodeFactory nf, Position pos,
+                Object[] subst) {
+            List<Object> slots = new ArrayList<>(subst.length);
+            for (Object o : subst) {
+                if (o instanceof List)
+                    slots.addAll((List<?>) o);
+                else slots.add(o);
+            }
+            return node.visit(new Substitution(nf, pos, this, slots));
+        }
+    }
+
+    /**
+     * Copies a template, substituting for its placeholders.  The
+     * substitutions themselves are not copied, as when the format is
+     * parsed.
+     */
+    protected static class Substitution extends NodeVisitor {
+        protected final NodeFactory nf;
+        protected final Position pos;
+        protected final Template template;
+        protected final List<Object> slots;
+
+        public Substitution(NodeFactory nf, Position pos, Template template,
+                List<Object> slots) {
+            super(nf.lang());
+            this.nf = nf;
+            this.pos = pos;
+            this.template = template;
+            this.slots = slots;
+        }
+
+        @Override
+        public Node override(Node n) {
+            Integer slot = template.holes.get(n);
+            if (slot != null) {
+                return (Node) slots.get(slot);
+            }
+            if (n instanceof Id) {
+                slot = template.names.get(((Id) n).id());
+                if (slot != null) {
+                    return nf.Id(pos, (String) slots.get(slot));
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public Node leave(Node old, Node n, NodeVisitor v) {
+            if (n.position() != pos) return n.position(pos);
+            return n == old ? n.copy() : n;
+        }
+    }
+
+    /** Counts the placeholders of a template. */
+    protected static class HoleCounter extends NodeVisitor {
+        protected final Map<Node, Integer> holes;
+        protected final Map<String, Integer> names;
+        protected final Set<Integer> seen = new HashSet<>();
+        protected int found;
+        protected boolean duplicated;
+
+        public HoleCounter(Lang lang, Map<Node, Integer> holes,
+                Map<String, Integer> names) {
+            super(lang);
+            this.holes = holes;
+            this.names = names;
+        }
+
+        @Override
+        public Node override(Node n) {
+            Integer slot = holes.get(n);
+            if (slot == null && n instanceof Id) {
+                slot = names.get(((Id) n).id());
+            }
+            if (slot != null) {
+                if (seen.add(slot))
+                    found++;
+                else duplicated = true;
+                return n;
+            }
+            return null;
+        }
+    }
 }
@@ -28,7 +28,11 @@ package polyglot.types;
 
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 import polyglot.main.Report;
 import polyglot.util.CollectionUtil;
@@ -36,12 +40,78 @@ import polyglot.util.Copy;
 import polyglot.util.InternalCompilerError;
 
 /**
- * A {@code CachingResolver} memoizes another Resolver
+ * A {@code CachingResolver} memoizes another Resolver.
+ *
+ * The cache may be used from several threads.  Names that were found are
+ * never evicted, since type objects must stay unique, so the cache grows
+ * with the number of distinct names resolved; names that were not found are
+ * kept in a bounded cache that evicts the least recently used entry.
+ * <p>
+ * The inner resolver is called without holding any lock, since it may look
+ * up other names through this resolver, and a lock held across the call
+ * could deadlock two threads loading names that refer to each other.  If
+ * several threads load the same uncached name, the first type object
+ * cached wins, and all of them return it.
  */
 public class CachingResolver implements Resolver, Copy<CachingResolver> {
+    /** Default maximum number of names that were not found to remember. */
+    public static final int DEFAULT_NOT_FOUND_LIMIT = 1024;
+
     protected Resolver inner;
-    private Map<String, CachedResult> cache;
+    private ConcurrentMap<String, CachedResult> cache;
     private boolean cacheNotFound;
+    private int notFoundLimit;
+    private Map<String, CachedResult.Error> notFound;
+    private Counters counters;
+
+    /**
+     * The resolver this resolver was copied from, or null.  A copy starts
+     * out with empty caches, and looks up the names it has not cached
+     * itself in the resolver it was copied from, so that copying takes
+     * constant time however many names are cached.
+     */
+    private CachingResolver base;
+
+    /** Counters of the lookups made through a caching resolver. */
+    public static class Counters {
+        protected final AtomicLong hits = new AtomicLong();
+        protected final AtomicLong negativeHits = new AtomicLong();
+        protected final AtomicLong misses = new AtomicLong();
+        protected final AtomicLong evictions = new AtomicLong();
+        protected final AtomicLong loadTime = new AtomicLong();
+
+        /** Number of lookups answered with a cached type object. */
+        public long hits() {
+            return hits.get();
+        }
+
+        /** Number of lookups answered with a cached failure. */
+        public long negativeHits() {
+            return negativeHits.get();
+        }
+
+        /** Number of lookups passed to the inner resolver. */
+        public long misses() {
+            return misses.get();
+        }
+
+        /** Number of failures evicted from the cache. */
+        public long evictions() {
+            return evictions.get();
+        }
+
+        /** Time spent in the inner resolver, in nanoseconds. */
+        public long loadTime() {
+            return loadTime.get();
+        }
+
+        @Override
+        public String toString() {
+            return hits() + " hits, " + negativeHits() + " negative hits, "
+                    + misses() + " misses, " + evictions() + " evictions, "
+                    + loadTime() / 1000000 + " ms loading";
+        }
+    }
 
     protected static class CachedResult {
         protected static final class Success extends CachedResult {
@@ -76,25 +146,71 @@ public class CachingResolver implements Resolver, Copy<CachingResolver> {
      * @param inner The resolver whose results this resolver caches.
      */
     public CachingResolver(Resolver inner, boolean cacheNotFound) {
+        this(inner, cacheNotFound, DEFAULT_NOT_FOUND_LIMIT);
+    }
+
+    /**
+     * Create a caching resolver.
+     * @param inner The resolver whose results this resolver caches.
+     * @param cacheNotFound Whether to cache names that were not found.
+     * @param notFoundLimit The maximum number of names that were not found
+     *          to cache.
+     */
+    public CachingResolver(Resolver inner, boolean cacheNotFound,
+            int notFoundLimit) {
         this.inner = inner;
         this.cacheNotFound = cacheNotFound;
-        this.cache = new HashMap<>();
+        this.notFoundLimit = notFoundLimit;
+        this.cache = new ConcurrentHashMap<>();
+        this.notFound = createNotFoundCache();
+        this.counters = new Counters();
     }
 
     public CachingResolver(Resolver inner) {
         this(inner, true);
     }
 
+    /** Create the least-recently-used cache of names not found. */
+    private Map<String, CachedResult.Error> createNotFoundCache() {
+        return new LinkedHashMap<String, CachedResult.Error>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<String, CachedResult.Error> eldest) {
+                if (size() > notFoundLimit) {
+                    counters.evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * The counters of lookups made through this resolver.  Copies of the
+     * resolver share the counters.
+     */
+    public Counters counters() {
+        return counters;
+    }
+
     protected boolean shouldReport(int level) {
         return (Report.should_report("sysresolver", level) && this instanceof SystemResolver)
                 || Report.should_report(TOPICS, level);
     }
 
+    /**
+     * Return a copy of this resolver, layered on this resolver.  Names
+     * installed in the copy are not visible in this resolver.  Names
+     * installed in this resolver after it was copied are visible in the
+     * copy, unless the copy has cached the name itself.
+     */
     @Override
     public CachingResolver copy() {
         try {
             CachingResolver r = (CachingResolver) super.clone();
-            r.cache = new HashMap<>(this.cache);
+            r.cache = new ConcurrentHashMap<>();
+            r.notFound = r.createNotFoundCache();
+            r.base = this;
             return r;
         }
         catch (CloneNotSupportedException e) {
@@ -115,7 +231,43 @@ public class CachingResolver implements Resolver, Copy<CachingResolver> {
     }
 
     protected Collection<CachedResult> cachedResults() {
-        return cache.values();
+        if (base == null) return cache.values();
+
+        Map<String, CachedResult> results = new HashMap<>();
+        for (CachingResolver r = this; r != null; r = r.base) {
+            for (Map.Entry<String, CachedResult> e : r.cache.entrySet()) {
+                if (!results.containsKey(e.getKey()))
+                    results.put(e.getKey(), e.getValue());
+            }
+        }
+        return results.values();
+    }
+
+    /**
+     * Look up {@code name} in the cache of this resolver and of the
+     * resolvers it was copied from, returning null if not found.
+     */
+    private CachedResult cached(String name) {
+        for (CachingResolver r = this; r != null; r = r.base) {
+            CachedResult cached = r.cache.get(name);
+            if (cached != null) return cached;
+        }
+        return null;
+    }
+
+    /**
+     * Look up {@code name} in the names not found by this resolver and by
+     * the resolvers it was copied from, returning null if not found.
+     */
+    private CachedResult.Error cachedNotFound(String name) {
+        for (CachingResolver r = this; r != null; r = r.base) {
+            CachedResult.Error cached;
+            synchronized (r.notFound) {
+                cached = r.notFound.get(name);
+            }
+            if (cached != null) return cached;
+        }
+        return null;
     }
 
     /**
@@ -127,42 +279,78 @@ public class CachingResolver implements Resolver, Copy<CachingResolver> {
         if (shouldReport(2))
             Report.report(2, "CachingResolver: find: " + name);
 
-        CachedResult cached = cache.get(name);
+        CachedResult cached = cached(name);
 
-        if (cached instanceof CachedResult.Error)
-            throw ((CachedResult.Error) cached).exc;
+        if (cached == null) {
+            cached = cachedNotFound(name);
+            if (cached != null) {
+                counters.negativeHits.incrementAndGet();
+                throw ((CachedResult.Error) cached).exc;
+            }
+        }
 
         Named q = cached == null ? null : ((CachedResult.Success) cached).named;
 
         if (q == null) {
+            q = load(name);
+        }
+        else {
+            counters.hits.incrementAndGet();
             if (shouldReport(3))
-                Report.report(3, "CachingResolver: not cached: " + name);
+                Report.report(3, "CachingResolver: cached: " + name);
+        }
+
+        return q;
+    }
 
-            try {
-                q = inner.find(name);
+    /**
+     * Load {@code name} from the inner resolver and cache the result.  If
+     * another thread cached a type object for the name in the meantime, that
+     * type object is returned instead of the one loaded.
+     */
+    private Named load(String name) throws SemanticException {
+        if (shouldReport(3))
+            Report.report(3, "CachingResolver: not cached: " + name);
+
+        counters.misses.incrementAndGet();
+        long start = System.nanoTime();
+        Named q;
+        try {
+            q = inner.find(name);
+        }
+        catch (NoClassException e) {
+            Named other = check(name);
+            if (other != null) return other;
+
+            if (shouldReport(3)) {
+                Report.report(3, "CachingResolver: " + e.getMessage());
+                Report.report(3, "CachingResolver: installing " + name
+                        + "-> (not found) in resolver cache");
             }
-            catch (NoClassException e) {
-                if (shouldReport(3)) {
-                    Report.report(3, "CachingResolver: " + e.getMessage());
-                    Report.report(3, "CachingResolver: installing " + name
-                            + "-> (not found) in resolver cache");
-                }
-                if (cacheNotFound) {
-                    cache.put(name, new CachedResult.Error(e));
+            if (cacheNotFound && notFoundLimit > 0) {
+                synchronized (notFound) {
+                    notFound.put(name, new CachedResult.Error(e));
                 }
-                throw e;
             }
-
-            addNamed(name, q);
-
-            if (shouldReport(3))
-                Report.report(3, "CachingResolver: loaded: " + name);
+            throw e;
         }
-        else {
-            if (shouldReport(3))
-                Report.report(3, "CachingResolver: cached: " + name);
+        finally {
+            counters.loadTime.addAndGet(System.nanoTime() - start);
         }
 
+        // The inner resolver may have installed the name itself, and
+        // another thread may have loaded it concurrently.
+        Named other = check(name);
+        if (other != null) return other;
+        CachedResult winner =
+                cache.putIfAbsent(name, new CachedResult.Success(q));
+        if (winner instanceof CachedResult.Success)
+            return ((CachedResult.Success) winner).named;
+
+        addNamed(name, q);
+
+        if (shouldReport(3))
+            Report.report(3, "CachingResolver: loaded: " + name);
         return q;
     }
 
@@ -171,7 +359,7 @@ public class CachingResolver implements Resolver, Copy<CachingResolver> {
      * @param name The name to search for.
      */
     public Named check(String name) {
-        CachedResult cached = cache.get(name);
+        CachedResult cached = cached(name);
         if (!(cached instanceof CachedResult.Success)) return null;
         return ((CachedResult.Success) cached).named;
     }
@@ -188,6 +376,9 @@ public class CachingResolver implements Resolver, Copy<CachingResolver> {
         if (shouldReport(5)) new Exception().printStackTrace();
 
         cache.put(name, new CachedResult.Success(q));
+        synchronized (notFound) {
+            notFound.remove(name);
+        }
     }
 
     /**
@@ -205,6 +396,12 @@ public class CachingResolver implements Resolver, Copy<CachingResolver> {
         for (Map.Entry<String, CachedResult> e : cache.entrySet()) {
             Report.report(2, e.toString());
         }
+        synchronized (notFound) {
+            for (Map.Entry<String, CachedResult.Error> e : notFound.entrySet()) {
+                Report.report(2, e.toString());
+            }
+        }
+        Report.report(1, "Lookups: " + counters);
     }
 
     private static final Collection<String> TOPICS =
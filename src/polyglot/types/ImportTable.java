@@ -342,6 +342,7 @@ public class ImportTable implements Resolver {
         else {
             // it really is a package
             actualPkg = pkgOrTypeName;
+            if (!typeMayExist(actualPkg, name)) return null;
         }
 
         String fullName =
@@ -373,6 +374,23 @@ public class ImportTable implements Resolver {
         return null;
     }
 
+    /**
+     * Return false if package {@code pkgName} certainly has no type
+     * {@code name}, so that looking it up through the system resolver would
+     * fail.  Types already known to the system resolver are found; others
+     * are checked against the directory of the package kept by the file
+     * manager, which saves failed class and source file lookups for each
+     * type-import-on-demand.
+     */
+    protected boolean typeMayExist(String pkgName, String name) {
+        String fullName = pkgName.length() == 0 ? name : pkgName + "." + name;
+        if (ts.systemResolver().check(fullName) != null) return true;
+        TopLevelResolver r = ts.loadedResolver();
+        if (r instanceof SourceClassResolver)
+            return ((SourceClassResolver) r).mayContainType(pkgName, name);
+        return true;
+    }
+
     /**
      * Return whether {@code n} in package {@code pkgName} is visible from within
      * package {@code pkg}.  The empty string may
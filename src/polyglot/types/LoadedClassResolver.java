@@ -149,16 +149,41 @@ public class LoadedClassResolver implements TopLevelResolver {
      */
     protected ClassType getEncodedType(ClassFile clazz, String name)
             throws SemanticException {
+        return getEncodedType(clazz.encodedClassType(version.name()),
+                              clazz.compilerVersion(version.name()),
+                              name,
+                              clazz.name(),
+                              clazz.name() + "@" + clazz.getClassFileURI());
+    }
+
+    /**
+     * Decode an encoded type.
+     *
+     * @param encoded
+     *            The encoded type information.
+     * @param compilerVersion
+     *            The version of the compiler that produced {@code encoded}.
+     * @param name
+     *            The name of the class to decode.
+     * @param container
+     *            The name of the class file (or other container) holding
+     *            {@code encoded}.
+     * @param location
+     *            Where {@code encoded} was read from.
+     */
+    protected ClassType getEncodedType(String encoded, String compilerVersion,
+            String name, String container, String location)
+            throws SemanticException {
         // At this point we've decided to go with the Class. So if something
         // goes wrong here, we have only one choice, to throw an exception.
 
         // Check to see if it has serialized info. If so then check the
         // version.
-        int comp = checkCompilerVersion(clazz.compilerVersion(version.name()));
+        int comp = checkCompilerVersion(compilerVersion);
 
         if (comp == NOT_COMPATIBLE) {
             throw new SemanticException("Unable to find a suitable definition of "
-                    + clazz.name()
+                    + container
                     + ". Try recompiling or obtaining "
                     + " a newer version of the class file.");
         }
@@ -183,9 +208,9 @@ public class LoadedClassResolver implements TopLevelResolver {
 
         try {
             if (Report.should_report(Report.serialize, 1))
-                Report.report(1, "Decoding " + name + " in " + clazz);
+                Report.report(1, "Decoding " + name + " in " + location);
 
-            dt = te.decode(clazz.encodedClassType(version.name()), name);
+            dt = te.decode(encoded, name);
 
             if (dt == null) {
                 if (Report.should_report(Report.serialize, 1))
@@ -297,7 +322,7 @@ public class LoadedClassResolver implements TopLevelResolver {
 
                 if (Report.should_report(report_topics, 2))
                     Report.report(2, "Returning serialized ClassType for "
-                            + clazz.name() + ".");
+                            + container + ".");
 
                 okay = true;
                 return ct;
@@ -305,18 +330,17 @@ public class LoadedClassResolver implements TopLevelResolver {
             else {
                 if (Report.should_report(Report.serialize, 2))
                     Report.report(2, "Failing to deserialize: Class " + name
-                            + " not found in " + clazz.name() + ".");
+                            + " not found in " + container + ".");
                 throw new SemanticException("Class " + name + " not found in "
-                        + clazz.name() + ".");
+                        + container + ".");
             }
         }
         catch (InvalidClassException e) {
             if (Report.should_report(Report.serialize, 2))
                 Report.report(2, "Failing to deserialize: Bad serialization: "
-                        + clazz.name() + "@" + clazz.getClassFileURI());
+                        + location);
 
-            throw new BadSerializationException(clazz.name() + "@"
-                    + clazz.getClassFileURI());
+            throw new BadSerializationException(location);
         }
         catch (UnavailableTypeException e) {
             throw e;
@@ -31,8 +31,10 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 
 import polyglot.frontend.Job;
 import polyglot.frontend.Source;
@@ -69,6 +71,114 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType {
 
     protected transient List<ClassType> memberClasses;
 
+    /**
+     * Name-keyed indexes of {@code methods}, {@code fields} and
+     * {@code memberClasses}, used once a class has enough members that
+     * scanning them on every lookup would be slow.
+     */
+    protected transient MemberIndex<MethodInstance> methodIndex;
+    protected transient MemberIndex<FieldInstance> fieldIndex;
+    protected transient MemberIndex<ClassType> memberClassIndex;
+
+    /**
+     * An index from names to the members with that name in a list of
+     * members.  The index is built when first needed, and only if the list
+     * has at least {@code INDEX_THRESHOLD} members; smaller lists are
+     * scanned.  It is updated as members are appended with the
+     * {@code add} methods, discarded by the {@code set} methods, and rebuilt
+     * if the list otherwise changes size.
+     */
+    protected static abstract class MemberIndex<T> {
+        protected static final int INDEX_THRESHOLD = 8;
+
+        /** The list indexed, and its size when last indexed. */
+        protected List<T> members;
+        protected int size;
+
+        /** Members by name, in list order.  The lists are never modified. */
+        protected Map<String, List<T>> index;
+
+        protected abstract String name(T member);
+
+        /**
+         * Return the members of {@code l} named {@code name}, or null if
+         * {@code l} is too short to index.
+         */
+        protected List<T> lookup(List<T> l, String name) {
+            if (l.size() < INDEX_THRESHOLD) {
+                return null;
+            }
+            if (index == null || members != l || size != l.size()) {
+                index = new HashMap<>();
+                for (T m : l) {
+                    put(m);
+                }
+                members = l;
+                size = l.size();
+            }
+            List<T> result = index.get(name);
+            return result != null ? result : Collections.<T> emptyList();
+        }
+
+        /** Record that {@code m} was appended to {@code l}. */
+        protected void added(List<T> l, T m) {
+            if (index != null && members == l && size == l.size() - 1) {
+                put(m);
+                size++;
+            }
+        }
+
+        protected void put(T m) {
+            String name = name(m);
+            List<T> old = index.get(name);
+            if (old == null) {
+                index.put(name, Collections.singletonList(m));
+            }
+            else {
+                List<T> l = new ArrayList<>(old.size() + 1);
+                l.addAll(old);
+                l.add(m);
+                index.put(name, Collections.unmodifiableList(l));
+            }
+        }
+    }
+
+    protected MemberIndex<MethodInstance> methodIndex() {
+        if (methodIndex == null) {
+            methodIndex = new MemberIndex<MethodInstance>() {
+                @Override
+                protected String name(MethodInstance mi) {
+                    return mi.name();
+                }
+            };
+        }
+        return methodIndex;
+    }
+
+    protected MemberIndex<FieldInstance> fieldIndex() {
+        if (fieldIndex == null) {
+            fieldIndex = new MemberIndex<FieldInstance>() {
+                @Override
+                protected String name(FieldInstance fi) {
+                    return fi.name();
+                }
+            };
+        }
+        return fieldIndex;
+    }
+
+    protected MemberIndex<ClassType> memberClassIndex() {
+        if (memberClassIndex == null) {
+            memberClassIndex = new MemberIndex<ClassType>() {
+                @Override
+                protected String name(ClassType t) {
+                    return t.name();
+                }
+            };
+        }
+        return memberClassIndex;
+    }
+
     public LazyClassInitializer init() {
         return init;
     }
@@ -185,11 +295,13 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType {
     @Override
     public void setFlags(Flags flags) {
         this.flags = flags;
+        membersChanged();
     }
 
     @Override
     public void flags(Flags flags) {
         this.flags = flags;
+        membersChanged();
     }
 
     @Override
@@ -234,56 +346,78 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType {
     @Override
     public void superType(Type t) {
         this.superType = t;
+        membersChanged();
     }
 
     @Override
     public void addInterface(ReferenceType t) {
         interfaces.add(t);
+        membersChanged();
     }
 
     @Override
     public void addMethod(MethodInstance mi) {
         methods.add(mi);
+        if (methodIndex != null) methodIndex.added(methods, mi);
+        membersChanged();
     }
 
     @Override
     public void addConstructor(ConstructorInstance ci) {
         constructors.add(ci);
+        membersChanged();
     }
 
     @Override
     public void addField(FieldInstance fi) {
         fields.add(fi);
+        if (fieldIndex != null) fieldIndex.added(fields, fi);
     }
 
     @Override
     public void addMemberClass(ClassType t) {
         memberClasses.add(t);
+        if (memberClassIndex != null)
+            memberClassIndex.added(memberClasses, t);
     }
 
     @Override
     public void setInterfaces(List<? extends ReferenceType> l) {
         this.interfaces = new ArrayList<>(l);
+        membersChanged();
     }
 
     @Override
     public void setMethods(List<? extends MethodInstance> l) {
         this.methods = new ArrayList<>(l);
+        this.methodIndex = null;
+        membersChanged();
     }
 
     @Override
     public void setFields(List<? extends FieldInstance> l) {
         this.fields = new ArrayList<>(l);
+        this.fieldIndex = null;
     }
 
     @Override
     public void setConstructors(List<? extends ConstructorInstance> l) {
         this.constructors = new ArrayList<>(l);
+        membersChanged();
+    }
+
+    /**
+     * Tell the type system that lookups of the methods or constructors of
+     * this class may now have different results.
+     */
+    protected void membersChanged() {
+        if (ts != null) ts.classMembersChanged(this);
     }
 
     @Override
     public void setMemberClasses(List<? extends ClassType> l) {
         this.memberClasses = new ArrayList<>(l);
+        this.memberClassIndex = null;
     }
 
     @Override
@@ -326,6 +460,18 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType {
         // returned is canonical.
         init.initMethods();
 
+        List<MethodInstance> named = methodIndex().lookup(methods, name);
+
+        if (named != null) {
+            for (MethodInstance mi : named) {
+                if (!mi.isCanonical()) {
+                    // Force an exception to get thrown.
+                    init.canonicalMethods();
+                }
+            }
+            return new LinkedList<>(named);
+        }
+
         List<MethodInstance> l = new LinkedList<>();
 
         for (MethodInstance mi : methods) {
@@ -359,7 +505,9 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType {
         // in Jx or Jif.
         init.initFields();
 
-        for (FieldInstance fi : fields) {
+        List<FieldInstance> named = fieldIndex().lookup(fields, name);
+
+        for (FieldInstance fi : named != null ? named : fields) {
             if (fi.name().equals(name)) {
                 if (!fi.isCanonical()) {
                     // Force an exception to get thrown.
@@ -372,6 +520,23 @@ public class ParsedClassType_c extends ClassType_c implements ParsedClassType {
         return null;
     }
 
+    /** Get a member class of the class by name. */
+    @Override
+    public ClassType memberClassNamed(String name) {
+        init.initMemberClasses();
+
+        List<ClassType> named =
+                memberClassIndex().lookup(memberClasses, name);
+
+        for (ClassType t : named != null ? named : memberClasses) {
+            if (t.name().equals(name)) {
+                return t;
+            }
+        }
+
+        return null;
+    }
+
     /** Return an immutable list of interfaces */
     @Override
     public List<? extends ReferenceType> interfaces() {
@@ -0,0 +1,115 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.types;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A {@code ProcedureCache} remembers the results of method and constructor
+ * resolution, keyed on the container type, the name, the argument types, the
+ * accessing class, and whatever else the lookup depends on.  Keys compare
+ * their components with {@code equals}, so types that are structurally equal
+ * share entries.
+ *
+ * Only successful lookups are cached.  Since the result of a lookup depends
+ * on the members of every class searched, the type system clears its caches
+ * whenever the members, supertypes or flags of a class change; see
+ * {@link TypeSystem#classMembersChanged(ClassType)}.  The cache is bounded,
+ * evicting the least recently used entry.
+ */
+public class ProcedureCache<I extends ProcedureInstance> {
+    /** Default maximum number of entries. */
+    public static final int DEFAULT_LIMIT = 4096;
+
+    protected final int limit;
+    protected final Map<List<Object>, I> cache;
+    protected long hits, misses;
+
+    public ProcedureCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public ProcedureCache(int limit) {
+        this.limit = limit;
+        this.cache = new LinkedHashMap<List<Object>, I>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(
+                    Map.Entry<List<Object>, I> eldest) {
+                return size() > ProcedureCache.this.limit;
+            }
+        };
+    }
+
+    /**
+     * Create a key from the components of a lookup.  Lists among the
+     * components are copied, since callers may reuse them.
+     */
+    public static List<Object> key(Object... components) {
+        for (int i = 0; i < components.length; i++) {
+            if (components[i] instanceof List<?>) {
+                components[i] = new ArrayList<>((List<?>) components[i]);
+            }
+        }
+        return Arrays.asList(components);
+    }
+
+    /** Return the cached result for {@code key}, or null. */
+    public synchronized I get(List<Object> key) {
+        I pi = cache.get(key);
+        if (pi != null)
+            hits++;
+        else misses++;
+        return pi;
+    }
+
+    public synchronized void put(List<Object> key, I pi) {
+        cache.put(key, pi);
+    }
+
+    /** Forget all cached results. */
+    public synchronized void clear() {
+        if (!cache.isEmpty()) cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /** Number of lookups answered from the cache. */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /** Number of lookups not found in the cache. */
+    public synchronized long misses() {
+        return misses;
+    }
+}
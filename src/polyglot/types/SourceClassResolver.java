@@ -28,6 +28,9 @@ package polyglot.types;
 
 import java.io.File;
 
+import polyglot.filemanager.ExtFileManager;
+import polyglot.filemanager.FileManager;
+import polyglot.frontend.BuildCache;
 import polyglot.frontend.Compiler;
 import polyglot.frontend.ExtensionInfo;
 import polyglot.frontend.FileSource;
@@ -97,6 +100,9 @@ import polyglot.types.reflect.ClassFile;
  * versions are compatible, then we use the definition given by the jlc class
  * type information.
  * </ol>
+ * If an incremental build cache is in use, classes declared in up-to-date
+ * sources named on the command line are taken from the cache before any of
+ * the above steps.
  * Finally, if at any point an error occurs while reading jlc class type
  * information (e.g. if this information exists but is corrupted), then an error
  * is reported.
@@ -143,6 +149,28 @@ public class SourceClassResolver extends LoadedClassResolver {
         return false;
     }
 
+    /**
+     * Return false if {@link #find(String)} would certainly not find a
+     * top-level type named {@code name} in package {@code packageName}, and
+     * true if it may.  This is answered from the build cache and from the
+     * file manager's listing of the package, without loading any file.
+     */
+    public boolean mayContainType(String packageName, String name) {
+        FileManager fm = ext.extFileManager();
+        if (!(fm instanceof ExtFileManager) || loader != fm
+                || ext.sourceLoader() != fm) {
+            // Only the file manager's own lookups can be predicted.
+            return true;
+        }
+        BuildCache cache = compiler.buildCache();
+        if (cache != null && ext == compiler.sourceExtension()) {
+            String fullName =
+                    packageName.isEmpty() ? name : packageName + "." + name;
+            if (cache.encodedClassType(fullName) != null) return true;
+        }
+        return ((ExtFileManager) fm).mayContainType(packageName, name);
+    }
+
     /**
      * Find a type by name.
      */
@@ -155,6 +183,21 @@ public class SourceClassResolver extends LoadedClassResolver {
         ClassFile encodedClazz = null;
         FileSource source = null;
 
+        // Classes of up-to-date sources come from the build cache.
+        BuildCache cache = compiler.buildCache();
+        if (cache != null && ext == compiler.sourceExtension()) {
+            String encoded = cache.encodedClassType(name);
+            if (encoded != null) {
+                if (Report.should_report(report_topics, 4))
+                    Report.report(4, "Using cached class type for " + name);
+                return getEncodedType(encoded,
+                                      cache.compilerVersion(),
+                                      name,
+                                      name,
+                                      cache.file().getPath());
+            }
+        }
+
         // First try the class file.
         clazz = loadFile(name);
         if (clazz != null) {
@@ -0,0 +1,143 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.types;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * A {@code SubtypeCache} remembers whether one class descends from another.
+ * Keys compare the two classes by identity, which is cheaper than
+ * {@code equals} and sufficient for parsed class types, of which there is
+ * one object per class.
+ *
+ * Whether a class descends from another depends on the supertypes of every
+ * class in between, so the type system clears the cache whenever the
+ * supertypes or flags of a class change; see
+ * {@link TypeSystem#classMembersChanged(ClassType)}.  Results computed while
+ * the cache was cleared are not stored, since they may have been computed
+ * from supertypes that have since been replaced.  The cache is bounded,
+ * evicting the least recently used entry.
+ */
+public class SubtypeCache {
+    /** Default maximum number of entries. */
+    public static final int DEFAULT_LIMIT = 16384;
+
+    protected static final class Key {
+        protected final Type child;
+        protected final Type ancestor;
+
+        protected Key(Type child, Type ancestor) {
+            this.child = child;
+            this.ancestor = ancestor;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(child) * 31
+                    + System.identityHashCode(ancestor);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof Key) {
+                Key k = (Key) o;
+                return child == k.child && ancestor == k.ancestor;
+            }
+            return false;
+        }
+    }
+
+    protected final int limit;
+    protected final Map<Key, Boolean> cache;
+    protected int generation;
+    protected long hits, misses;
+
+    public SubtypeCache() {
+        this(DEFAULT_LIMIT);
+    }
+
+    public SubtypeCache(int limit) {
+        this.limit = limit;
+        this.cache = new LinkedHashMap<Key, Boolean>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, Boolean> eldest) {
+                return size() > SubtypeCache.this.limit;
+            }
+        };
+    }
+
+    /**
+     * Return whether {@code child} descends from {@code ancestor}, or null if
+     * the answer is not cached.
+     */
+    public synchronized Boolean get(Type child, Type ancestor) {
+        Boolean b = cache.get(new Key(child, ancestor));
+        if (b != null)
+            hits++;
+        else misses++;
+        return b;
+    }
+
+    /**
+     * The current generation of the cache, which changes whenever it is
+     * cleared.  Pass it to {@link #put(Type, Type, int, boolean) put}.
+     */
+    public synchronized int generation() {
+        return generation;
+    }
+
+    /**
+     * Remember whether {@code child} descends from {@code ancestor}, unless
+     * the cache has been cleared since {@code generation} was read.
+     */
+    public synchronized void put(Type child, Type ancestor, int generation,
+            boolean descends) {
+        if (generation == this.generation)
+            cache.put(new Key(child, ancestor), descends);
+    }
+
+    /** Forget all cached results. */
+    public synchronized void clear() {
+        generation++;
+        if (!cache.isEmpty()) cache.clear();
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    /** Number of queries answered from the cache. */
+    public synchronized long hits() {
+        return hits;
+    }
+
+    /** Number of queries not found in the cache. */
+    public synchronized long misses() {
+        return misses;
+    }
+}
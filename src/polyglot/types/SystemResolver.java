@@ -27,9 +27,9 @@
 package polyglot.types;
 
 import java.util.Collection;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import polyglot.frontend.ExtensionInfo;
 import polyglot.main.Report;
@@ -56,7 +56,7 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
     public SystemResolver(TopLevelResolver inner, ExtensionInfo extInfo) {
         super(inner);
         this.extInfo = extInfo;
-        this.packageCache = new HashMap<>();
+        this.packageCache = new ConcurrentHashMap<>();
         this.previous = null;
         this.justAdded = new LinkedList<>();
     }
@@ -68,7 +68,7 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
     @Override
     public SystemResolver copy() {
         SystemResolver r = (SystemResolver) super.copy();
-        r.packageCache = new HashMap<>(this.packageCache);
+        r.packageCache = new ConcurrentHashMap<>();
         r.previous = this;
         r.justAdded = new LinkedList<>();
         return r;
@@ -113,19 +113,31 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
         return false;
     }
 
+    /**
+     * Look up a package in the package cache of this resolver and of the
+     * resolvers it was copied from, returning null if not found.
+     */
+    protected Boolean cachedPackage(String name) {
+        for (SystemResolver r = this; r != null; r = r.previous) {
+            Boolean b = r.packageCache.get(name);
+            if (b != null) return b;
+        }
+        return null;
+    }
+
     /**
      * Check if a package exists.
      */
     @Override
     public boolean packageExists(String name) {
-        Boolean b = packageCache.get(name);
+        Boolean b = cachedPackage(name);
         if (b != null) {
             return b;
         }
         else {
             String prefix = StringUtil.getPackageComponent(name);
 
-            if (packageCache.containsKey(prefix) && !packageCache.get(prefix)) {
+            if (Boolean.FALSE.equals(cachedPackage(prefix))) {
                 packageCache.put(name, false);
                 return false;
             }
@@ -242,7 +254,7 @@ public class SystemResolver extends CachingResolver implements TopLevelResolver
 
     @Override
     public void install(String name, Named q) {
-        if (Report.should_report(TOPICS, 2) && check(name) == null)
+        if (Report.should_report(TOPICS, 2) && check(name) != q)
             Report.report(2,
                           (previous == null ? "root" : "non-root")
                                   + " SR installing " + name + "->" + q + " : "
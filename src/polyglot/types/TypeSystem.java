@@ -74,7 +74,11 @@ public interface TypeSystem {
     @Deprecated
     CachingResolver parsedResolver();
 
-    /** Create and install a duplicate of the system resolver and return the original. */
+    /**
+     * Create and install a duplicate of the system resolver and return the
+     * original.  The duplicate is layered on the original, so this takes
+     * constant time.
+     */
     SystemResolver saveSystemResolver();
 
     /** Set the system resolver to {@code r}. */
@@ -501,6 +505,13 @@ public interface TypeSystem {
             List<? extends Type> argTypes, ClassType currClass,
             boolean fromClient) throws SemanticException;
 
+    /**
+     * Notify the type system that the members, supertypes, or flags of
+     * {@code ct} have changed, so that cached method and constructor
+     * lookups and subtype tests may no longer be valid.
+     */
+    void classMembersChanged(ClassType ct);
+
     /**
      * Find a member class.
      * We check if the field is accessible from the class currClass.
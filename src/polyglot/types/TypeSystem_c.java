@@ -64,6 +64,20 @@ public class TypeSystem_c implements TypeSystem {
     protected Map<String, Flags> flagsForName;
     protected ExtensionInfo extInfo;
 
+    /** Results of findMethod, cleared whenever class members change. */
+    protected ProcedureCache<MethodInstance> methodCache =
+            new ProcedureCache<>();
+
+    /** Results of findConstructor, cleared whenever class members change. */
+    protected ProcedureCache<ConstructorInstance> constructorCache =
+            new ProcedureCache<>();
+
+    /**
+     * Results of descendsFrom for pairs of parsed class types, cleared
+     * whenever class members change.
+     */
+    protected SubtypeCache subtypeCache = new SubtypeCache();
+
     public TypeSystem_c() {
     }
 
@@ -86,6 +100,8 @@ public class TypeSystem_c implements TypeSystem {
         // compilation unit looks up classes first in its
         // import table and then in the system resolver.
         systemResolver = new SystemResolver(loadedResolver, extInfo);
+        extInfo.getStats().addResolverCounters("system resolver",
+                                               systemResolver.counters());
 
         initEnums();
         initFlags();
@@ -385,6 +401,17 @@ public class TypeSystem_c implements TypeSystem {
     public boolean descendsFrom(Type child, Type ancestor) {
         assert_(child);
         assert_(ancestor);
+        if (child instanceof ParsedClassType
+                && ancestor instanceof ParsedClassType) {
+            Boolean cached = subtypeCache.get(child, ancestor);
+            if (cached != null) {
+                return cached;
+            }
+            int generation = subtypeCache.generation();
+            boolean b = child.descendsFromImpl(ancestor);
+            subtypeCache.put(child, ancestor, generation, b);
+            return b;
+        }
         return child.descendsFromImpl(ancestor);
     }
 
@@ -415,6 +442,7 @@ public class TypeSystem_c implements TypeSystem {
     public boolean typeEquals(Type type1, Type type2) {
         assert_(type1);
         assert_(type2);
+        if (type1 == type2) return true;
         return type1.typeEqualsImpl(type2);
     }
 
@@ -1070,6 +1098,17 @@ public class TypeSystem_c implements TypeSystem {
         assert_(container);
         assert_(argTypes);
 
+        List<Object> key =
+                ProcedureCache.key(container,
+                                   name,
+                                   argTypes,
+                                   currClass,
+                                   fromClient);
+        MethodInstance cached = methodCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
         List<? extends MethodInstance> acceptable =
                 findAcceptableMethods(container,
                                       name,
@@ -1113,6 +1152,7 @@ public class TypeSystem_c implements TypeSystem {
         }
 
         MethodInstance mi = maximal.iterator().next();
+        methodCache.put(key, mi);
         return mi;
     }
 
@@ -1141,6 +1181,13 @@ public class TypeSystem_c implements TypeSystem {
         assert_(container);
         assert_(argTypes);
 
+        List<Object> key =
+                ProcedureCache.key(container, argTypes, currClass, fromClient);
+        ConstructorInstance cached = constructorCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
         List<? extends ConstructorInstance> acceptable =
                 findAcceptableConstructors(container,
                                            argTypes,
@@ -1167,9 +1214,17 @@ public class TypeSystem_c implements TypeSystem {
         }
 
         ConstructorInstance ci = maximal.iterator().next();
+        constructorCache.put(key, ci);
         return ci;
     }
 
+    @Override
+    public void classMembersChanged(ClassType ct) {
+        methodCache.clear();
+        constructorCache.clear();
+        subtypeCache.clear();
+    }
+
     protected <I extends ProcedureInstance> I findProcedure(List<I> acceptable,
             ReferenceType container, List<Type> argTypes, ClassType currClass) {
         Collection<I> maximal = findMostSpecificProcedures(acceptable);
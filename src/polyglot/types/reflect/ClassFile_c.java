@@ -31,6 +31,7 @@ import java.io.DataInputStream;
 import java.io.EOFException;
 import java.io.IOException;
 import java.net.URI;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
@@ -116,43 +117,55 @@ public class ClassFile_c implements ClassFile {
         try {
             int mask = 0;
 
+            String lastModifiedName = "jlc$SourceLastModified$" + typeSystemKey;
+            String versionName = "jlc$CompilerVersion$" + typeSystemKey;
+            String typeName = "jlc$ClassType$" + typeSystemKey;
+
+            // The encoded class type may be split over several fields,
+            // jlc$ClassType$key, jlc$ClassType$key$1, ...  Collect the parts
+            // in a single pass over the fields.
+            String[] parts = null;
+            int length = 0;
+
             for (Field field : fields) {
-                if (field.name().equals("jlc$SourceLastModified$"
-                        + typeSystemKey)) {
+                String name = field.name();
+                if (!name.startsWith("jlc$")) continue;
+
+                if (name.equals(lastModifiedName)) {
                     jlc.sourceLastModified = field.getLong();
                     mask |= 1;
                 }
-                else if (field.name().equals("jlc$CompilerVersion$"
-                        + typeSystemKey)) {
+                else if (name.equals(versionName)) {
                     jlc.compilerVersion = field.getString();
                     mask |= 2;
                 }
-                else if (field.name().equals("jlc$ClassType$" + typeSystemKey)) {
-                    // there is encoded class type information.
-                    StringBuffer encodedClassTypeInfo =
-                            new StringBuffer(field.getString());
-                    // check to see if there are more fields.
-                    int seeking = 1;
-                    boolean found;
-                    do {
-                        found = false;
-                        String suffix = ("$" + seeking);
-                        String seekingFieldName =
-                                "jlc$ClassType$" + typeSystemKey + suffix;
-                        for (Field field2 : fields) {
-                            if (field2.name().equals(seekingFieldName)) {
-                                encodedClassTypeInfo.append(field2.getString());
-                                found = true;
-                                seeking++;
-                                break;
-                            }
-                        }
-                    } while (found);
-                    jlc.encodedClassType = encodedClassTypeInfo.toString();
-                    mask |= 4;
+                else if (name.startsWith(typeName)) {
+                    int index = partIndex(name, typeName.length());
+                    if (index < 0) continue;
+                    if (parts == null) {
+                        parts = new String[Math.max(index + 1, 4)];
+                    }
+                    else if (index >= parts.length) {
+                        parts = Arrays.copyOf(parts,
+                                              Math.max(index + 1,
+                                                       parts.length * 2));
+                    }
+                    parts[index] = field.getString();
+                    length += parts[index].length();
+                    if (index == 0) mask |= 4;
                 }
             }
 
+            if (parts != null && parts[0] != null) {
+                // Use the parts up to the first missing one.
+                StringBuilder encodedClassTypeInfo = new StringBuilder(length);
+                for (String part : parts) {
+                    if (part == null) break;
+                    encodedClassTypeInfo.append(part);
+                }
+                jlc.encodedClassType = encodedClassTypeInfo.toString();
+            }
+
             if (mask != 7) {
                 // Not all the information is there. Reset to default.
                 jlc.sourceLastModified = 0;
@@ -169,6 +182,27 @@ public class ClassFile_c implements ClassFile {
         return jlc;
     }
 
+    /**
+     * Return the index of the part of an encoded class type held by the field
+     * {@code name}, whose suffix starts at {@code start}, or -1 if the field
+     * does not hold a part.
+     */
+    protected static int partIndex(String name, int start) {
+        if (name.length() == start) {
+            return 0;
+        }
+        if (name.charAt(start) != '$' || name.length() == start + 1) {
+            return -1;
+        }
+        int index = 0;
+        for (int i = start + 1; i < name.length(); i++) {
+            char c = name.charAt(i);
+            if (c < '0' || c > '9' || index > 100000) return -1;
+            index = index * 10 + (c - '0');
+        }
+        return index;
+    }
+
     /*
      * (non-Javadoc)
      * 
@@ -53,7 +53,7 @@ public abstract class AbstractErrorQueue implements ErrorQueue {
     }
 
     @Override
-    public final void enqueue(ErrorInfo e) {
+    public final synchronized void enqueue(ErrorInfo e) {
         if (e.getErrorKind() != ErrorInfo.WARNING
                 && e.getErrorKind() != ErrorInfo.DEBUG) {
             errorCount++;
@@ -26,38 +26,162 @@
 
 package polyglot.util;
 
-/** A bit vector class implemented more naively than java.util.BitSet. */
+import java.util.Arrays;
+
+/**
+ * A growable vector of bits, packed into words.  Unlike
+ * {@code java.util.BitSet}, a bit vector supports bulk operations that
+ * combine several vectors at once, as needed by dataflow analyses.
+ */
 public class BitVector {
-    private int size;
-    private boolean[] bits;
+    private long[] words;
 
     public BitVector() {
-        this(32);
+        this(64);
     }
 
     public BitVector(int initialSize) {
-        size = initialSize;
-        bits = new boolean[size];
+        words = new long[Math.max(1, (initialSize + 63) >>> 6)];
     }
 
-    public final void setBit(int which, boolean value) {
-        if (which >= size) {
-            size += 32;
-            boolean[] newBits = new boolean[size];
-            for (int i = 0; i < bits.length; i++)
-                newBits[i] = bits[i];
-            bits = newBits;
+    /** Create a copy of {@code v}. */
+    public BitVector(BitVector v) {
+        words = v.words.clone();
+    }
+
+    private void ensureWords(int n) {
+        if (n > words.length) {
+            words = Arrays.copyOf(words, Math.max(n, words.length * 2));
         }
+    }
 
-        bits[which] = value;
+    public final void setBit(int which, boolean value) {
+        int w = which >>> 6;
+        if (value) {
+            ensureWords(w + 1);
+            words[w] |= 1L << which;
+        }
+        else if (w < words.length) {
+            words[w] &= ~(1L << which);
+        }
     }
 
     public final boolean getBit(int which) {
-        if (which >= size) {
-            return false;
+        int w = which >>> 6;
+        return w < words.length && (words[w] & 1L << which) != 0;
+    }
+
+    /** Return the number of bits that are set. */
+    public final int cardinality() {
+        int n = 0;
+        for (long w : words) {
+            n += Long.bitCount(w);
+        }
+        return n;
+    }
+
+    /**
+     * Return the index of the first set bit at or after {@code from}, or -1
+     * if there is none.
+     */
+    public final int nextSetBit(int from) {
+        int w = from >>> 6;
+        if (w >= words.length) return -1;
+        long word = words[w] & -1L << from;
+        while (true) {
+            if (word != 0) {
+                return (w << 6) + Long.numberOfTrailingZeros(word);
+            }
+            if (++w == words.length) return -1;
+            word = words[w];
+        }
+    }
+
+    /** Clear every bit that is not set in {@code v}. */
+    public final void and(BitVector v) {
+        int n = Math.min(words.length, v.words.length);
+        for (int i = 0; i < n; i++) {
+            words[i] &= v.words[i];
+        }
+        for (int i = n; i < words.length; i++) {
+            words[i] = 0;
+        }
+    }
+
+    /** Set every bit that is set in {@code v}. */
+    public final void or(BitVector v) {
+        ensureWords(v.words.length);
+        for (int i = 0; i < v.words.length; i++) {
+            words[i] |= v.words[i];
         }
-        else {
-            return bits[which];
+    }
+
+    /** Clear every bit that is set in {@code v}. */
+    public final void andNot(BitVector v) {
+        int n = Math.min(words.length, v.words.length);
+        for (int i = 0; i < n; i++) {
+            words[i] &= ~v.words[i];
+        }
+    }
+
+    /**
+     * Set every bit that is set in {@code v} but not in {@code mask}, that
+     * is, {@code this |= v & ~mask}.
+     */
+    public final void orAndNot(BitVector v, BitVector mask) {
+        ensureWords(v.words.length);
+        for (int i = 0; i < v.words.length; i++) {
+            long m = i < mask.words.length ? mask.words[i] : 0;
+            words[i] |= v.words[i] & ~m;
+        }
+    }
+
+    /**
+     * Clear every bit that is set in {@code mask} but not in {@code v},
+     * that is, {@code this &= v | ~mask}.
+     */
+    public final void andOrNot(BitVector v, BitVector mask) {
+        int n = Math.min(words.length, mask.words.length);
+        for (int i = 0; i < n; i++) {
+            long b = i < v.words.length ? v.words[i] : 0;
+            words[i] &= b | ~mask.words[i];
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (!(o instanceof BitVector)) return false;
+        long[] a = words;
+        long[] b = ((BitVector) o).words;
+        int n = Math.min(a.length, b.length);
+        for (int i = 0; i < n; i++) {
+            if (a[i] != b[i]) return false;
+        }
+        for (int i = n; i < a.length; i++) {
+            if (a[i] != 0) return false;
+        }
+        for (int i = n; i < b.length; i++) {
+            if (b[i] != 0) return false;
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        long h = 1234;
+        for (int i = words.length - 1; i >= 0; i--) {
+            h ^= words[i] * (i + 1);
+        }
+        return (int) (h >> 32 ^ h);
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("{");
+        for (int i = nextSetBit(0); i >= 0; i = nextSetBit(i + 1)) {
+            if (sb.length() > 1) sb.append(", ");
+            sb.append(i);
         }
+        return sb.append("}").toString();
     }
 }
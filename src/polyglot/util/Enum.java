@@ -38,7 +38,7 @@ public class Enum implements Internable, Serializable {
     private String name;
 
     /** The intern cache. */
-    private static Map<EnumKey, Enum> cache = new HashMap<>();
+    private static final Map<EnumKey, Enum> cache = new HashMap<>();
 
     protected Enum(String name) {
         this.name = name;
@@ -106,13 +106,15 @@ public class Enum implements Internable, Serializable {
     public Enum internEnum() {
         EnumKey k = new EnumKey(this);
 
-        Enum e = cache.get(k);
+        synchronized (cache) {
+            Enum e = cache.get(k);
 
-        if (e == null) {
-            cache.put(k, this);
-            return this;
-        }
+            if (e == null) {
+                cache.put(k, this);
+                return this;
+            }
 
-        return e;
+            return e;
+        }
     }
 }
@@ -0,0 +1,93 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ *
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.util;
+
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.Writer;
+
+/**
+ * A {@code StreamingCodeWriter} lays out its input with the same algorithm as
+ * {@link OptimalCodeWriter}, but one segment at a time: whenever a forced
+ * newline is written outside of all blocks, the text before it is
+ * formatted, sent to the output, and discarded.
+ * <p>
+ * Such a newline puts the cursor back at the left margin, so the layout of a
+ * segment rarely depends on what follows it, and the output is usually
+ * identical to that of {@code OptimalCodeWriter}. It may differ when a line
+ * overflows and the optimal layout would have changed a break in an earlier
+ * segment. Text inside a block is formatted as a whole, so memory is
+ * proportional to the largest top-level segment, such as a class
+ * declaration, rather than to the whole output.
+ */
+public class StreamingCodeWriter extends OptimalCodeWriter {
+    /**
+     * Create a StreamingCodeWriter object with output stream {@code o}
+     * and width {@code width_}.
+     * @param o the writer to write to. Must be non-null.
+     * @param width_ the formatting width. Must be positive.
+     */
+    public StreamingCodeWriter(OutputStream o, int width_) {
+        this(new PrintWriter(new OutputStreamWriter(o)), width_);
+    }
+
+    /**
+     * Create a StreamingCodeWriter object.
+     * @param o the writer to write to. Must be non-null.
+     * @param width_ the formatting width. Must be positive.
+     */
+    public StreamingCodeWriter(PrintWriter o, int width_) {
+        super(o, width_);
+    }
+
+    /**
+     * Create a StreamingCodeWriter object.
+     * @param o the writer to write to. Must be non-null.
+     * @param width_ the formatting width. Must be positive.
+     */
+    public StreamingCodeWriter(Writer o, int width_) {
+        this(new PrintWriter(o), width_);
+    }
+
+    @Override
+    public void newline(int n, int level) {
+        // The newline starts the next segment, which is then formatted from
+        // the left margin, as it would be by OptimalCodeWriter.
+        if (blockStack.isEmpty() && input.first != null) sendSegment();
+        super.newline(n, level);
+    }
+
+    /**
+     * Format and output the items written since the last segment was sent.
+     * No block may be open.
+     */
+    protected void sendSegment() {
+        input.sendOutput(output, 0, 0, OCItem.format(input, width));
+        current = input = new BlockItem(0);
+    }
+}
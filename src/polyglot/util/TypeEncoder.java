@@ -29,11 +29,17 @@ package polyglot.util;
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InvalidClassException;
 import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.zip.GZIPOutputStream;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
 
 import polyglot.frontend.SchedulerException;
 import polyglot.main.Report;
@@ -48,6 +54,18 @@ import polyglot.types.TypeSystem;
  * It uses a form of serialization to encode the {@code Type} into
  * a byte stream and then converts the byte stream to a standard Java string.
  * <p>
+ * The byte stream is deflated and written five characters to every four
+ * bytes, using printable ASCII characters that need no escaping in a Java
+ * string literal and occupy a single byte in a class file constant pool.
+ * The string starts with {@link #FORMAT_MARKER} and a format version.
+ * Strings in the older format, a gzipped byte stream in Base64, are still
+ * decoded.
+ * <p>
+ * Only the string encoding of the byte stream is versioned.  The byte
+ * stream itself is still written by Java serialization, on which the
+ * placeholder mechanism below depends, so decoding a type deserializes all
+ * of its members at once.
+ * <p>
  * The difference between the encoder and a normal serialization process is
  * that in order to encode this type, we need to sever any links to other types
  * in the current environment. So any {@code ClassType} other than the 
@@ -57,9 +75,30 @@ import polyglot.types.TypeSystem;
  * "mangled" name; non-member classes use their fully qualified name.
  */
 public class TypeEncoder {
+    /** Marks a string in the deflated base-85 format. */
+    public static final char FORMAT_MARKER = '!';
+
+    /** Version of the deflated base-85 format. */
+    public static final char FORMAT_VERSION = '1';
+
+    /**
+     * Digits of the base-85 encoding: printable ASCII characters other than
+     * the format marker, quotes and backslash.
+     */
+    protected static final String DIGITS =
+            "#$%&()*+,-./0123456789:;<=>?@ABCDEFGHIJKLMNOPQRSTUVWXYZ[]^_`"
+                    + "abcdefghijklmnopqrstuvwxy";
+
+    protected static final int[] DIGIT_VALUES = new int[128];
+    static {
+        Arrays.fill(DIGIT_VALUES, -1);
+        for (int i = 0; i < DIGITS.length(); i++) {
+            DIGIT_VALUES[DIGITS.charAt(i)] = i;
+        }
+    }
+
     protected TypeSystem ts;
     protected final boolean zip = true;
-    protected final boolean base64 = true;
     protected final boolean test = false;
     protected Map<Object, Object> placeHolderCache;
     protected int depth;
@@ -83,12 +122,16 @@ public class TypeEncoder {
         }
 
         baos = new ByteArrayOutputStream();
-        try (GZIPOutputStream gzos = zip ? new GZIPOutputStream(baos) : null;
-             ObjectOutputStream oos =
-                     new TypeOutputStream(zip ? gzos : baos, ts, t)) {
+        Deflater deflater = new Deflater(Deflater.BEST_COMPRESSION, true);
+        try (OutputStream os =
+                zip ? new DeflaterOutputStream(baos, deflater) : baos;
+             ObjectOutputStream oos = new TypeOutputStream(os, ts, t)) {
             oos.writeObject(t);
             oos.flush();
         }
+        finally {
+            deflater.end();
+        }
 
         byte[] b = baos.toByteArray();
 
@@ -97,17 +140,7 @@ public class TypeEncoder {
                     + " zipping) is " + b.length + " bytes");
         }
 
-        String s;
-
-        if (base64) {
-            s = Base64.encodeBytes(b);
-        }
-        else {
-            StringBuffer sb = new StringBuffer(b.length);
-            for (byte element : b)
-                sb.append((char) element);
-            s = sb.toString();
-        }
+        String s = encodeBytes(b);
 
         if (Report.should_report(Report.serialize, 2)) {
             Report.report(2,
@@ -155,31 +188,29 @@ public class TypeEncoder {
             Report.report(1, "TypeEncoder depth " + depth + " at " + name);
         depth++;
 
+        Inflater inflater = null;
         try {
-            byte[] b;
+            InputStream in;
 
-            if (base64) {
-                b = Base64.decode(s);
+            if (isBase85Format(s)) {
+                if (s.charAt(1) != FORMAT_VERSION) {
+                    throw new InvalidClassException("Unsupported format "
+                            + "version of serialized type info: "
+                            + s.charAt(1));
+                }
+                in = new ByteArrayInputStream(decodeBytes(s));
+                if (zip) {
+                    inflater = new Inflater(true);
+                    in = new InflaterInputStream(in, inflater);
+                }
             }
             else {
-                char[] source;
-                source = s.toCharArray();
-                b = new byte[source.length];
-                for (int i = 0; i < source.length; i++)
-                    b[i] = (byte) source[i];
+                // The older format; the base64 decoder automatically
+                // unzips byte streams.
+                in = new ByteArrayInputStream(Base64.decode(s));
             }
 
-//            // dead code
-//            if (zip && !base64) {
-//                // The base64 decoder automatically unzips byte streams, so
-//                // we only need an explicit GZIPInputStream if we are not
-//                // using base64 encoding.
-//                ois =
-//                        new TypeInputStream(new GZIPInputStream(new ByteArrayInputStream(b)),
-//                                            ts,
-//                                            placeHolderCache);
-//            }
-            try (TypeInputStream ois = ois(new ByteArrayInputStream(b))) {
+            try (TypeInputStream ois = ois(in)) {
                 TypeObject o = (TypeObject) ois.readObject();
 
                 if (ois.deserializationFailed()) return null;
@@ -205,12 +236,87 @@ public class TypeEncoder {
                     + "decoding serialized type info: " + e.getMessage(), e);
         }
         finally {
+            if (inflater != null) inflater.end();
             placeHolderCache = oldCache;
             depth--;
         }
     }
 
-    public TypeInputStream ois(ByteArrayInputStream bais) throws IOException {
-        return new TypeInputStream(bais, ts, placeHolderCache);
+    public TypeInputStream ois(InputStream in) throws IOException {
+        return new TypeInputStream(in, ts, placeHolderCache);
+    }
+
+    /**
+     * Return true if {@code s} is an encoded type in the deflated base-85
+     * format.
+     */
+    public static boolean isBase85Format(String s) {
+        return s.length() >= 2 && s.charAt(0) == FORMAT_MARKER;
+    }
+
+    /**
+     * Convert bytes to a string in the base-85 format.  Every four bytes are
+     * written as five base-85 digits; a final group of n bytes is written
+     * as n+1 digits.
+     */
+    protected static String encodeBytes(byte[] b) {
+        int groups = b.length / 4;
+        int rest = b.length % 4;
+        StringBuilder sb =
+                new StringBuilder(2 + groups * 5 + (rest == 0 ? 0 : rest + 1));
+        sb.append(FORMAT_MARKER);
+        sb.append(FORMAT_VERSION);
+
+        char[] digits = new char[5];
+        for (int i = 0; i < b.length; i += 4) {
+            int n = Math.min(4, b.length - i);
+            long v = 0;
+            for (int j = 0; j < 4; j++) {
+                v = v << 8 | (j < n ? b[i + j] & 0xff : 0);
+            }
+            for (int j = 4; j >= 0; j--) {
+                digits[j] = DIGITS.charAt((int) (v % 85));
+                v /= 85;
+            }
+            sb.append(digits, 0, n + 1);
+        }
+        return sb.toString();
+    }
+
+    /** Convert a string in the base-85 format back to bytes. */
+    protected static byte[] decodeBytes(String s) throws InvalidClassException {
+        int chars = s.length() - 2;
+        int groups = chars / 5;
+        int rest = chars % 5;
+        if (rest == 1) {
+            throw new InvalidClassException("Truncated serialized type info");
+        }
+        byte[] b = new byte[groups * 4 + (rest == 0 ? 0 : rest - 1)];
+
+        for (int i = 2, k = 0; i < s.length(); i += 5, k += 4) {
+            int n = Math.min(5, s.length() - i);
+            long v = 0;
+            for (int j = 0; j < 5; j++) {
+                // Pad a final partial group with the largest digit, so that
+                // truncating the value yields the original bytes.
+                int d = 84;
+                if (j < n) {
+                    char c = s.charAt(i + j);
+                    d = c < 128 ? DIGIT_VALUES[c] : -1;
+                    if (d < 0) {
+                        throw new InvalidClassException("Bad character in "
+                                + "serialized type info: " + c);
+                    }
+                }
+                v = v * 85 + d;
+            }
+            if (v > 0xffffffffL) {
+                throw new InvalidClassException("Bad serialized type info");
+            }
+            for (int j = 0; j < n - 1; j++) {
+                b[k + j] = (byte) (v >>> (24 - 8 * j));
+            }
+        }
+        return b;
     }
 }
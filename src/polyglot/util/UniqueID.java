@@ -31,13 +31,13 @@ public class UniqueID {
     private static int count = 0;
     private static int icount = 0;
 
-    public static String newID(String s) {
+    public static synchronized String newID(String s) {
         String uid = s + "$" + count;
         count++;
         return uid;
     }
 
-    public static int newIntID() {
+    public static synchronized int newIntID() {
         return icount++;
     }
 }
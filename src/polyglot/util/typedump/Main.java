@@ -91,7 +91,7 @@ public class Main {
             // now try to establish the type system correctly.
             Options options = extInfo.getOptions();
 
-            Options.global = options;
+            Options.setGlobal(options);
 
             configureOptions(options);
 
@@ -26,13 +26,17 @@
 
 package polyglot.visit;
 
+import java.util.AbstractMap;
+import java.util.AbstractSet;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
 import java.util.Set;
 
 import polyglot.ast.Assign;
@@ -68,6 +72,7 @@ import polyglot.types.ReferenceType;
 import polyglot.types.SemanticException;
 import polyglot.types.TypeSystem;
 import polyglot.types.VarInstance;
+import polyglot.util.BitVector;
 import polyglot.util.InternalCompilerError;
 import polyglot.util.Position;
 import polyglot.visit.FlowGraph.EdgeKey;
@@ -84,10 +89,17 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
               nf,
               true /* forward analysis */,
               false /* perform dataflow when leaving CodeDecls, not when entering */);
+        this.denseItems = !job.extensionInfo().getOptions().dataflow_maps;
     }
 
     protected CBI curCBI = null;
 
+    /**
+     * Whether flow items are represented as bit vectors over the variables
+     * of a class body rather than as hash maps.
+     */
+    protected final boolean denseItems;
+
     /**
      * A data structure containing relevant information needed for performing
      * initialization checking of a class declaration. These objects form a
@@ -177,6 +189,12 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
          */
         public final Set<LocalInstance> localDeclarations = new HashSet<>();
 
+        /**
+         * The numbering of the variables of the current class, used by the
+         * flow items of its code.
+         */
+        public final VarIndex varIndex = new VarIndex();
+
         public ClassBodyInfo(This outer, ClassType curClass) {
             this.outer = outer;
             this.curCodeDecl = null;
@@ -218,17 +236,217 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
             return construct(defAss, defUnass);
         }
 
-        private static AssignmentStatus construct(boolean defAss,
+        static AssignmentStatus construct(boolean defAss,
                 boolean defUnass) {
-            for (AssignmentStatus as : AssignmentStatus.values()) {
-                if (as.definitelyAssigned == defAss
-                        && as.definitelyUnassigned == defUnass)
-                    return as;
+            if (defAss) return defUnass ? BOTH : ASSIGNED;
+            return defUnass ? UNASSIGNED : NEITHER;
+        }
+    }
+
+    /**
+     * Numbers the variables that occur in the flow items of a class body.
+     */
+    protected static final class VarIndex {
+        protected final Map<VarInstance, Integer> numbers = new HashMap<>();
+        protected final List<VarInstance> vars = new ArrayList<>();
+
+        /** Return the number of {@code v}, numbering it if needed. */
+        public int number(VarInstance v) {
+            Integer i = numbers.get(v);
+            if (i == null) {
+                i = vars.size();
+                numbers.put(v, i);
+                vars.add(v);
             }
+            return i;
+        }
 
-            throw new InternalCompilerError("Unable to construct assignment "
-                    + "status from (defAss=" + defAss + ", defUnass=" + defUnass
-                    + ")");
+        /** Return the number of {@code o}, or -1 if it has none. */
+        public int lookup(Object o) {
+            Integer i = numbers.get(o);
+            return i == null ? -1 : i;
+        }
+
+        public VarInstance var(int i) {
+            return vars.get(i);
+        }
+    }
+
+    /**
+     * A map from variables to their assignment status, represented by three
+     * bit vectors over the variables of a {@link VarIndex}: the variables in
+     * the map, those definitely assigned and those definitely unassigned.
+     * Maps over the same index are copied, compared and joined a word at a
+     * time.
+     */
+    protected static final class DenseStatusMap extends
+            AbstractMap<VarInstance, AssignmentStatus> {
+        protected final VarIndex index;
+        protected final BitVector present;
+        protected final BitVector assigned;
+        protected final BitVector unassigned;
+        protected boolean frozen;
+
+        public DenseStatusMap(VarIndex index) {
+            this.index = index;
+            this.present = new BitVector(index.vars.size());
+            this.assigned = new BitVector(index.vars.size());
+            this.unassigned = new BitVector(index.vars.size());
+        }
+
+        protected DenseStatusMap(DenseStatusMap m) {
+            this.index = m.index;
+            this.present = new BitVector(m.present);
+            this.assigned = new BitVector(m.assigned);
+            this.unassigned = new BitVector(m.unassigned);
+        }
+
+        /**
+         * Return a modifiable copy of {@code m}, over the index of {@code m}
+         * if it is a dense map and over {@code index} otherwise.
+         */
+        public static DenseStatusMap copyOf(VarIndex index,
+                Map<? extends VarInstance, AssignmentStatus> m) {
+            if (m instanceof DenseStatusMap) {
+                return new DenseStatusMap((DenseStatusMap) m);
+            }
+            DenseStatusMap result = new DenseStatusMap(index);
+            for (Entry<? extends VarInstance, AssignmentStatus> e : m.entrySet()) {
+                result.put(e.getKey(), e.getValue());
+            }
+            return result;
+        }
+
+        /** Return an unmodifiable copy of this map. */
+        public DenseStatusMap frozenCopy() {
+            if (frozen) return this;
+            DenseStatusMap result = new DenseStatusMap(this);
+            result.frozen = true;
+            return result;
+        }
+
+        protected AssignmentStatus status(int i) {
+            return AssignmentStatus.construct(assigned.getBit(i),
+                                              unassigned.getBit(i));
+        }
+
+        @Override
+        public AssignmentStatus get(Object key) {
+            int i = index.lookup(key);
+            if (i < 0 || !present.getBit(i)) return null;
+            return status(i);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int i = index.lookup(key);
+            return i >= 0 && present.getBit(i);
+        }
+
+        @Override
+        public AssignmentStatus put(VarInstance key, AssignmentStatus value) {
+            if (frozen) throw new UnsupportedOperationException();
+            int i = index.number(key);
+            AssignmentStatus old = present.getBit(i) ? status(i) : null;
+            present.setBit(i, true);
+            assigned.setBit(i, value.definitelyAssigned);
+            unassigned.setBit(i, value.definitelyUnassigned);
+            return old;
+        }
+
+        @Override
+        public AssignmentStatus remove(Object key) {
+            if (frozen) throw new UnsupportedOperationException();
+            int i = index.lookup(key);
+            if (i < 0 || !present.getBit(i)) return null;
+            AssignmentStatus old = status(i);
+            present.setBit(i, false);
+            assigned.setBit(i, false);
+            unassigned.setBit(i, false);
+            return old;
+        }
+
+        /**
+         * Join {@code m} into this map, as by {@link AssignmentStatus#join}
+         * for every variable.
+         */
+        public void join(Map<VarInstance, AssignmentStatus> m) {
+            if (frozen) throw new UnsupportedOperationException();
+            if (m instanceof DenseStatusMap
+                    && ((DenseStatusMap) m).index == index) {
+                DenseStatusMap d = (DenseStatusMap) m;
+                // Variables in both maps take the meet of the two statuses;
+                // variables in one map only keep their status.
+                assigned.andOrNot(d.assigned, d.present);
+                assigned.orAndNot(d.assigned, present);
+                unassigned.andOrNot(d.unassigned, d.present);
+                unassigned.orAndNot(d.unassigned, present);
+                present.or(d.present);
+            }
+            else {
+                for (Entry<VarInstance, AssignmentStatus> e : m.entrySet()) {
+                    VarInstance v = e.getKey();
+                    put(v, AssignmentStatus.join(get(v), e.getValue()));
+                }
+            }
+        }
+
+        @Override
+        public int size() {
+            return present.cardinality();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (o instanceof DenseStatusMap
+                    && ((DenseStatusMap) o).index == index) {
+                DenseStatusMap d = (DenseStatusMap) o;
+                return present.equals(d.present)
+                        && assigned.equals(d.assigned)
+                        && unassigned.equals(d.unassigned);
+            }
+            return super.equals(o);
+        }
+
+        @Override
+        public int hashCode() {
+            return super.hashCode();
+        }
+
+        @Override
+        public Set<Entry<VarInstance, AssignmentStatus>> entrySet() {
+            return new AbstractSet<Entry<VarInstance, AssignmentStatus>>() {
+                @Override
+                public Iterator<Entry<VarInstance, AssignmentStatus>> iterator() {
+                    return new Iterator<Entry<VarInstance, AssignmentStatus>>() {
+                        int next = present.nextSetBit(0);
+
+                        @Override
+                        public boolean hasNext() {
+                            return next >= 0;
+                        }
+
+                        @Override
+                        public Entry<VarInstance, AssignmentStatus> next() {
+                            if (next < 0) throw new NoSuchElementException();
+                            int i = next;
+                            next = present.nextSetBit(i + 1);
+                            return new SimpleImmutableEntry<>(index.var(i),
+                                                              status(i));
+                        }
+
+                        @Override
+                        public void remove() {
+                            throw new UnsupportedOperationException();
+                        }
+                    };
+                }
+
+                @Override
+                public int size() {
+                    return DenseStatusMap.this.size();
+                }
+            };
         }
     }
 
@@ -247,7 +465,13 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
 
         protected FlowItem(Map<VarInstance, AssignmentStatus> map,
                 boolean canTerminateNormally) {
-            assignmentStatus = Collections.unmodifiableMap(new HashMap<>(map));
+            if (map instanceof DenseStatusMap) {
+                assignmentStatus = ((DenseStatusMap) map).frozenCopy();
+            }
+            else {
+                assignmentStatus =
+                        Collections.unmodifiableMap(new HashMap<>(map));
+            }
             normalTermination = canTerminateNormally;
         }
 
@@ -271,6 +495,18 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
         }
     }
 
+    /**
+     * Return a modifiable copy of the assignment-status map {@code m}, to
+     * build the map of a new flow item.
+     */
+    protected Map<VarInstance, AssignmentStatus> copyStatus(
+            Map<? extends VarInstance, AssignmentStatus> m) {
+        if (denseItems) {
+            return DenseStatusMap.copyOf(curCBI.varIndex, m);
+        }
+        return new HashMap<VarInstance, AssignmentStatus>(m);
+    }
+
     /**
      * Factory method for creating a new flow item from the given map.
      */
@@ -457,7 +693,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
      * ClassBodyInfo#curClassFieldAsgtStatuses}.
      */
     protected FI createInitDFI() {
-        return newFlowItem(new HashMap<VarInstance, AssignmentStatus>(curCBI.curClassFieldAsgtStatuses));
+        return newFlowItem(copyStatus(curCBI.curClassFieldAsgtStatuses));
     }
 
     @Override
@@ -486,7 +722,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
             if (filtered.isEmpty()) {
                 // Record the fact that this dataflow item was not produced for
                 // a node that can be reached by normal termination.
-                return newFlowItem(new HashMap<VarInstance, AssignmentStatus>(curCBI.curClassFieldAsgtStatuses),
+                return newFlowItem(copyStatus(curCBI.curClassFieldAsgtStatuses),
                                    false);
             }
 
@@ -514,7 +750,10 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
         for (FI itm : inItems) {
             if (itm == BOTTOM) continue;
             if (m == null) {
-                m = new HashMap<>(itm.assignmentStatus);
+                m = copyStatus(itm.assignmentStatus);
+            }
+            else if (m instanceof DenseStatusMap) {
+                ((DenseStatusMap) m).join(itm.assignmentStatus);
             }
             else {
                 Map<VarInstance, AssignmentStatus> n = itm.assignmentStatus;
@@ -572,7 +811,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
                 LocalDecl ld = (LocalDecl) n;
                 if (inItem.assignmentStatus.containsKey(ld.localInstance())) {
                     Map<VarInstance, AssignmentStatus> newAsgtStatus =
-                            new HashMap<>(inItem.assignmentStatus);
+                            copyStatus(inItem.assignmentStatus);
 
                     newAsgtStatus.remove(ld.localInstance());
                     inItem = newFlowItem(newAsgtStatus);
@@ -663,7 +902,8 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
             return m;
         }
 
-        Map<VarInstance, AssignmentStatus> assignmentStatus = new HashMap<>();
+        Map<VarInstance, AssignmentStatus> assignmentStatus =
+                copyStatus(fi.assignmentStatus);
         for (VarInstance vi : fi.assignmentStatus.keySet()) {
             assignmentStatus.put(vi, asgtStatus);
         }
@@ -680,7 +920,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
     protected Map<EdgeKey, FI> flowFormal(FI inItem, FlowGraph<FI> graph,
             Formal f, Set<EdgeKey> succEdgeKeys) {
         Map<VarInstance, AssignmentStatus> m =
-                new HashMap<>(inItem.assignmentStatus);
+                copyStatus(inItem.assignmentStatus);
         // a formal argument is always defined.
         m.put(f.localInstance().orig(), AssignmentStatus.ASSIGNED);
 
@@ -697,7 +937,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
     protected Map<EdgeKey, FI> flowLocalDecl(FI inItem, FlowGraph<FI> graph,
             LocalDecl ld, Set<EdgeKey> succEdgeKeys) {
         Map<VarInstance, AssignmentStatus> m =
-                new HashMap<>(inItem.assignmentStatus);
+                copyStatus(inItem.assignmentStatus);
 
         AssignmentStatus asgtStatus = ld.init() == null
                 ? AssignmentStatus.UNASSIGNED : AssignmentStatus.ASSIGNED;
@@ -717,7 +957,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
             LocalAssign a, Set<EdgeKey> succEdgeKeys) {
         Local l = a.left();
         Map<VarInstance, AssignmentStatus> m =
-                new HashMap<>(inItem.assignmentStatus);
+                copyStatus(inItem.assignmentStatus);
         m.put(l.localInstance().orig(), AssignmentStatus.ASSIGNED);
 
         return DataFlow.<FI> itemToMap(reconstructFlowItem(inItem, m),
@@ -737,7 +977,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
         if (!isFieldsTargetAppropriate(graph, f)) return null;
 
         Map<VarInstance, AssignmentStatus> m =
-                new HashMap<>(inItem.assignmentStatus);
+                copyStatus(inItem.assignmentStatus);
 
         // m.get(fi.orig()) may be null if the field is defined in an
         // outer class. If so, ignore this assignment.
@@ -764,7 +1004,7 @@ public abstract class AbstractAssignmentChecker<CBI extends AbstractAssignmentCh
             curCBI.constructorsCallingThis.add(cd);
 
             // Set all final non-static fields as assigned.
-            Map<VarInstance, AssignmentStatus> m = new HashMap<>(inItem.assignmentStatus);
+            Map<VarInstance, AssignmentStatus> m = copyStatus(inItem.assignmentStatus);
             ReferenceType container = cd.constructorInstance().container();
             for (FieldInstance fi : container.fields())
                 if (fi.flags().isFinal() && !fi.flags().isStatic())
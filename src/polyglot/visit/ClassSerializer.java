@@ -38,6 +38,9 @@ import polyglot.ast.FieldDecl;
 import polyglot.ast.IntLit;
 import polyglot.ast.Node;
 import polyglot.ast.NodeFactory;
+import polyglot.ast.SourceFile;
+import polyglot.frontend.BuildCache;
+import polyglot.frontend.Source;
 import polyglot.main.Report;
 import polyglot.main.Version;
 import polyglot.types.ClassType;
@@ -58,9 +61,10 @@ public class ClassSerializer extends NodeVisitor {
     /**
      * The maximum number of characters that will be assigned to an encoded type
      * string field. More characters than this will be broken up over several
-     * fields.
+     * fields.  Encoded types consist of ASCII characters, each taking one
+     * byte of the at most 65535 of a class file string constant.
      */
-    private static final int MAX_ENCODED_TYPE_INFO_STRING_LENGTH = 8192;
+    private static final int MAX_ENCODED_TYPE_INFO_STRING_LENGTH = 65535;
 
     protected TypeEncoder te;
     protected ErrorQueue eq;
@@ -68,6 +72,8 @@ public class ClassSerializer extends NodeVisitor {
     protected TypeSystem ts;
     protected NodeFactory nf;
     protected Version ver;
+    protected BuildCache buildCache;
+    protected Source source;
 
     public ClassSerializer(TypeSystem ts, NodeFactory nf, long time,
             ErrorQueue eq, Version ver) {
@@ -80,6 +86,15 @@ public class ClassSerializer extends NodeVisitor {
         this.ver = ver;
     }
 
+    /**
+     * Record the serialized classes of {@code source}, and the classes it
+     * depends on, in {@code buildCache}.
+     */
+    public void recordIn(BuildCache buildCache, Source source) {
+        this.buildCache = buildCache;
+        this.source = source;
+    }
+
     @Override
     public Node override(Node n) {
         // Stop at class members. We only want to encode top-level classes.
@@ -92,6 +107,12 @@ public class ClassSerializer extends NodeVisitor {
 
     @Override
     public Node leave(Node old, Node n, NodeVisitor v) {
+        if (n instanceof SourceFile && buildCache != null) {
+            DependencyCollector dc = createDependencyCollector();
+            old.visit(dc);
+            buildCache.recordDependencies(source, dc.dependencies());
+        }
+
         if (!(n instanceof ClassDecl)) {
             return n;
         }
@@ -108,6 +129,11 @@ public class ClassSerializer extends NodeVisitor {
         return cd.body(body);
     }
 
+    /** Create the visitor that finds the classes a source file depends on. */
+    protected DependencyCollector createDependencyCollector() {
+        return new DependencyCollector(nf.lang());
+    }
+
     public List<ClassMember> createSerializationMembers(ClassDecl cd) {
         return createSerializationMembers(cd.type());
     }
@@ -198,6 +224,11 @@ public class ClassSerializer extends NodeVisitor {
 
             // output the encoded type info, over several fields if needed.
             String encodedTypeInfo = te.encode(ct);
+            if (buildCache != null) {
+                buildCache.recordClassType(source,
+                                           ct.fullName(),
+                                           encodedTypeInfo);
+            }
             int etiStart = 0;
             int etiEnd = 0;
             int numberETIFields = 0;
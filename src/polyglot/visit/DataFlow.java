@@ -27,9 +27,11 @@
 package polyglot.visit;
 
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
@@ -824,66 +826,126 @@ public abstract class DataFlow<FlowItem extends DataFlow.Item> extends
             Report.report(1, "Iterating dataflow equations");
         }
 
-        int current = 0;
-        boolean change = false;
-
-        while (current < npeers) {
-            Peer<FlowItem> p = by_scc[current];
-            if (scc_head[current] == -1) {
-                change = false; // just started working on a new SCC
-            }
+        // Number the peers by their position in by_scc.  Since the SCCs
+        // are topologically sorted, and each SCC is sorted as much as
+        // possible, the position is a reverse postorder and gives the
+        // priority in which peers are taken off the worklist.
+        Map<Peer<FlowItem>, Integer> index = new IdentityHashMap<>(npeers);
+        for (int i = 0; i < npeers; i++) {
+            index.put(by_scc[i], i);
+        }
 
-            // get the in items by examining the out items of all
-            // the predecessors of p
-            List<FlowItem> inItems = new ArrayList<>(p.preds.size());
-            List<EdgeKey> inItemKeys = new ArrayList<>(p.preds.size());
-            List<Peer<FlowItem>> inItemPeers = new ArrayList<>(p.preds.size());
-            for (Edge<FlowItem> e : p.preds) {
+        // For each peer, the items flowing in along each predecessor edge,
+        // in the order of p.preds.  An edge's item is null if its source
+        // has not been visited yet, or its source has no item for the
+        // edge.  For each peer, the (target, slot) pairs of its successor
+        // edges into inEdgeItems, and their edge keys.
+        Object[][] inEdgeItems = new Object[npeers][];
+        int[][] succTargets = new int[npeers][];
+        int[][] succSlots = new int[npeers][];
+        EdgeKey[][] succKeys = new EdgeKey[npeers][];
+        int[] nsuccs = new int[npeers];
+        for (int i = 0; i < npeers; i++) {
+            int n = by_scc[i].succs.size();
+            succTargets[i] = new int[n];
+            succSlots[i] = new int[n];
+            succKeys[i] = new EdgeKey[n];
+        }
+        for (int i = 0; i < npeers; i++) {
+            Peer<FlowItem> p = by_scc[i];
+            Object[] items = inEdgeItems[i] = new Object[p.preds.size()];
+            for (int slot = 0; slot < items.length; slot++) {
+                Edge<FlowItem> e = p.preds.get(slot);
                 Peer<FlowItem> o = e.getTarget();
                 if (o.outItems != null) {
-                    if (!o.outItems.keySet().contains(e.getKey())) {
-                        throw new InternalCompilerError("There should have "
-                                + "an out Item with edge key " + e.getKey()
-                                + "; instead there were only "
-                                + o.outItems.keySet());
-                    }
-                    FlowItem it = o.outItems.get(e.getKey());
-                    if (it != null) {
+                    items[slot] = o.outItems.get(e.getKey());
+                }
+                Integer j = index.get(o);
+                if (j != null) {
+                    int k = nsuccs[j]++;
+                    succTargets[j][k] = i;
+                    succSlots[j][k] = slot;
+                    succKeys[j][k] = e.getKey();
+                }
+            }
+        }
+
+        // The worklist.  Every peer is visited at least once; after that a
+        // peer is only revisited if the item on one of its predecessor
+        // edges changed.  The SCCs are solved one at a time in topological
+        // order, by sweeping over the pending peers of the SCC in order
+        // until none is left.
+        BitSet pending = new BitSet(npeers);
+        pending.set(0, npeers);
+        int sccStart = 0;
+        while (sccStart < npeers) {
+            int sccEnd = sccStart + 1;
+            while (sccEnd < npeers && scc_head[sccEnd] != -1) {
+                sccEnd++;
+            }
+            int i = pending.nextSetBit(sccStart);
+            while (i >= 0 && i < sccEnd) {
+                pending.clear(i);
+                Peer<FlowItem> p = by_scc[i];
+
+                // get the in items from the predecessor edges of p
+                Object[] items = inEdgeItems[i];
+                List<FlowItem> inItems = new ArrayList<>(items.length);
+                List<EdgeKey> inItemKeys = new ArrayList<>(items.length);
+                List<Peer<FlowItem>> inItemPeers = new ArrayList<>(items.length);
+                for (int slot = 0; slot < items.length; slot++) {
+                    if (items[slot] != null) {
+                        Edge<FlowItem> e = p.preds.get(slot);
+                        @SuppressWarnings("unchecked")
+                        FlowItem it = (FlowItem) items[slot];
                         inItems.add(it);
                         inItemKeys.add(e.getKey());
-                        inItemPeers.add(o);
+                        inItemPeers.add(e.getTarget());
                     }
                 }
-            }
 
-            // calculate the out item
-            Map<EdgeKey, FlowItem> oldOutItems = p.outItems;
-            p.inItem = this.safeConfluence(inItems, inItemKeys, p, graph);
-            p.outItems = this.flow(inItems, inItemKeys, inItemPeers, graph, p);
-
-            if (!p.succEdgeKeys().equals(p.outItems.keySet())) {
-                // This check is more for developers to ensure that they
-                // have implemented their dataflow correctly. If performance
-                // is an issue, maybe we should remove this check.
-                throw new InternalCompilerError("The flow only defined "
-                        + "outputs for " + p.outItems.keySet() + "; needs to "
-                        + "define outputs for all of: " + p.succEdgeKeys()
-                        + " for node " + p.node, p.node.position());
-            }
+                // calculate the out item
+                Map<EdgeKey, FlowItem> oldOutItems = p.outItems;
+                p.inItem = this.safeConfluence(inItems, inItemKeys, p, graph);
+                p.outItems =
+                        this.flow(inItems, inItemKeys, inItemPeers, graph, p);
+
+                if (!p.succEdgeKeys().equals(p.outItems.keySet())) {
+                    // This check is more for developers to ensure that they
+                    // have implemented their dataflow correctly. If performance
+                    // is an issue, maybe we should remove this check.
+                    throw new InternalCompilerError("The flow only defined "
+                            + "outputs for " + p.outItems.keySet()
+                            + "; needs to "
+                            + "define outputs for all of: " + p.succEdgeKeys()
+                            + " for node " + p.node, p.node.position());
+                }
 
-            if (oldOutItems != p.outItems
-                    && (oldOutItems == null || !oldOutItems.equals(p.outItems))) {
-                // the outItems of p has changed, so we will
-                // loop when we get to the end of the current SCC.
-                change = true;
-            }
-            if (change && scc_head[current] >= 0) {
-                current = scc_head[current]; // loop!
-                /* now scc_head[current] == -1 */
-            }
-            else {
-                current++;
+                if (oldOutItems != p.outItems
+                        && (oldOutItems == null || !oldOutItems.equals(p.outItems))) {
+                    // the outItems of p has changed, so pass them along the
+                    // successor edges, and revisit the successors whose items
+                    // changed.
+                    for (int k = 0; k < nsuccs[i]; k++) {
+                        int j = succTargets[i][k];
+                        int slot = succSlots[i][k];
+                        FlowItem it = p.outItems.get(succKeys[i][k]);
+                        Object old = inEdgeItems[j][slot];
+                        if (old != it && (old == null || !old.equals(it))) {
+                            inEdgeItems[j][slot] = it;
+                            pending.set(j);
+                        }
+                    }
+                }
+
+                // move on to the next pending peer of the SCC, going back
+                // to the start of the SCC for another sweep at the end.
+                i = pending.nextSetBit(i + 1);
+                if (i < 0 || i >= sccEnd) {
+                    i = pending.nextSetBit(sccStart);
+                }
             }
+            sccStart = sccEnd;
         }
         if (Report.should_report(Report.dataflow, 1)) {
             Report.report(1, "Done.");
@@ -998,15 +1060,18 @@ public abstract class DataFlow<FlowItem extends DataFlow.Item> extends
         Set<Peer<FlowItem>> uncheckedPeers = new HashSet<>(graph.peers());
         LinkedList<Peer<FlowItem>> peersToCheck =
                 new LinkedList<>(graph.startPeers());
+        // The peers in peersToCheck, to avoid searching the list.
+        Set<Peer<FlowItem>> queuedPeers = new HashSet<>(peersToCheck);
         while (!peersToCheck.isEmpty()) {
             Peer<FlowItem> p = peersToCheck.removeFirst();
+            queuedPeers.remove(p);
             uncheckedPeers.remove(p);
 
             this.check(graph, p);
 
             for (Edge<FlowItem> e : p.succs) {
                 Peer<FlowItem> q = e.getTarget();
-                if (uncheckedPeers.contains(q) && !peersToCheck.contains(q)) {
+                if (uncheckedPeers.contains(q) && queuedPeers.add(q)) {
                     // q hasn't been checked yet.
                     peersToCheck.addLast(q);
                 }
@@ -1015,7 +1080,9 @@ public abstract class DataFlow<FlowItem extends DataFlow.Item> extends
             if (peersToCheck.isEmpty() && !uncheckedPeers.isEmpty()) {
                 // done all the we can reach...
                 Iterator<Peer<FlowItem>> i = uncheckedPeers.iterator();
-                peersToCheck.add(i.next());
+                Peer<FlowItem> q = i.next();
+                peersToCheck.add(q);
+                queuedPeers.add(q);
                 i.remove();
             }
 
@@ -0,0 +1,122 @@
+/*******************************************************************************
+ * This file is part of the Polyglot extensible compiler framework.
+ *
+ * Copyright (c) 2000-2012 Polyglot project group, Cornell University
+ * Copyright (c) 2006-2012 IBM Corporation
+ * All rights reserved.
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Eclipse Public License v1.0 which accompanies this
+ * distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ *
+ * This program and the accompanying materials are made available under
+ * the terms of the Lesser GNU Public License v2.0 which accompanies this
+ * distribution.
+ * 
+ * The development of the Polyglot project has been supported by a
+ * number of funding sources, including DARPA Contract F30602-99-1-0533,
+ * monitored by USAF Rome Laboratory, ONR Grants N00014-01-1-0968 and
+ * N00014-09-1-0652, NSF Grants CNS-0208642, CNS-0430161, CCF-0133302,
+ * and CCF-1054172, AFRL Contract FA8650-10-C-7022, an Alfred P. Sloan
+ * Research Fellowship, and an Intel Research Ph.D. Fellowship.
+ *
+ * See README for contributors.
+ ******************************************************************************/
+
+package polyglot.visit;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import polyglot.ast.ClassDecl;
+import polyglot.ast.Field;
+import polyglot.ast.Import;
+import polyglot.ast.JLang;
+import polyglot.ast.Node;
+import polyglot.ast.ProcedureCall;
+import polyglot.ast.Typed;
+import polyglot.types.ClassType;
+import polyglot.types.ProcedureInstance;
+import polyglot.types.Type;
+
+/**
+ * Visitor which collects the names of the top-level classes a type-checked
+ * AST refers to.  Extensions whose types are built from other types, such as
+ * instantiated generic classes, override {@link #addComponents(Type)}.
+ */
+public class DependencyCollector extends NodeVisitor {
+    protected Set<String> dependencies = new LinkedHashSet<>();
+
+    /** The types already examined by {@link #addType(Type)}. */
+    protected Set<Type> visited =
+            Collections.newSetFromMap(new IdentityHashMap<Type, Boolean>());
+
+    public DependencyCollector(JLang lang) {
+        super(lang);
+    }
+
+    /** The names of the top-level classes found so far. */
+    public Set<String> dependencies() {
+        return dependencies;
+    }
+
+    @Override
+    public Node leave(Node parent, Node old, Node n, NodeVisitor v) {
+        if (n instanceof Typed) {
+            addType(((Typed) n).type());
+        }
+        if (n instanceof Field) {
+            Field f = (Field) n;
+            if (f.fieldInstance() != null)
+                addType(f.fieldInstance().container());
+        }
+        if (n instanceof ProcedureCall) {
+            ProcedureInstance pi = ((ProcedureCall) n).procedureInstance();
+            if (pi != null) addType(pi.container());
+        }
+        if (n instanceof ClassDecl) {
+            ClassType ct = ((ClassDecl) n).type();
+            if (ct != null) {
+                addType(ct.superType());
+                for (Type t : ct.interfaces())
+                    addType(t);
+            }
+        }
+        if (n instanceof Import) {
+            Import im = (Import) n;
+            if (im.kind() == Import.SINGLE_TYPE) dependencies.add(im.name());
+        }
+        return n;
+    }
+
+    /**
+     * Record the top-level classes that type {@code t} refers to.  Each type
+     * is examined once, so recursive types such as bounded type variables
+     * terminate.
+     */
+    protected void addType(Type t) {
+        if (t == null || !visited.add(t)) return;
+        addComponents(t);
+    }
+
+    /**
+     * Record the top-level classes that type {@code t} refers to, calling
+     * {@link #addType(Type)} on the types it is built from.
+     */
+    protected void addComponents(Type t) {
+        if (t.isArray())
+            addType(t.toArray().base());
+        else if (t.isClass()) addClass(t.toClass());
+    }
+
+    /** Record the top-level class enclosing class {@code ct}. */
+    protected void addClass(ClassType ct) {
+        while (!ct.isTopLevel() && ct.outer() != null) {
+            ct = ct.outer();
+        }
+        if (ct.isTopLevel()) dependencies.add(ct.fullName());
+    }
+}
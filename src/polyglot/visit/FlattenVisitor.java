@@ -140,7 +140,7 @@ public class FlattenVisitor extends NodeVisitor {
 
     protected static int count = 0;
 
-    protected static String newID() {
+    protected static synchronized String newID() {
         return "flat$$$" + count++;
     }
 
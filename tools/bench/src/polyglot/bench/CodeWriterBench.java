@@ -0,0 +1,78 @@
+package polyglot.bench;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import polyglot.ast.Lang;
+import polyglot.frontend.Job;
+import polyglot.util.CodeWriter;
+import polyglot.util.OptimalCodeWriter;
+import polyglot.util.StreamingCodeWriter;
+import polyglot.visit.PrettyPrinter;
+
+/**
+ * Layout of the compiled ASTs of a corpus by the code writers.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class CodeWriterBench {
+    @Param({ "jl", "jl5" })
+    public String corpus;
+
+    @Param({ "optimal", "streaming" })
+    public String writer;
+
+    @Param({ "80" })
+    public int width;
+
+    protected List<Job> jobs;
+
+    @Setup
+    public void setup() throws Exception {
+        jobs = Corpus.load(corpus).compile();
+    }
+
+    protected CodeWriter codeWriter(StringWriter w) {
+        switch (writer) {
+        case "optimal":
+            return new OptimalCodeWriter(w, width);
+        case "streaming":
+            return new StreamingCodeWriter(w, width);
+        default:
+            throw new IllegalArgumentException("Unknown code writer "
+                    + writer);
+        }
+    }
+
+    @Benchmark
+    public int prettyPrint() throws IOException {
+        int length = 0;
+        for (Job job : jobs) {
+            Lang lang = job.extensionInfo().nodeFactory().lang();
+            StringWriter w = new StringWriter();
+            CodeWriter cw = codeWriter(w);
+            lang.prettyPrint(job.ast(), cw, new PrettyPrinter(lang));
+            cw.flush();
+            length += w.getBuffer().length();
+        }
+        return length;
+    }
+}
@@ -0,0 +1,215 @@
+package polyglot.bench;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import polyglot.ast.Node;
+import polyglot.frontend.Compiler;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.FileSource;
+import polyglot.frontend.JLExtensionInfo;
+import polyglot.frontend.Job;
+import polyglot.frontend.Source;
+import polyglot.main.Options;
+import polyglot.main.UsageError;
+import polyglot.util.ErrorInfo;
+import polyglot.util.ErrorQueue;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.SilentErrorQueue;
+
+/**
+ * A corpus of source files for the benchmarks.  Each corpus is listed in
+ * {@code tools/bench/corpus/<name>.list}, one file per line, relative to the
+ * Polyglot directory given by the system property {@code polyglot.home}, or
+ * the current directory if the property is not set.
+ *
+ * <ul>
+ * <li>{@code jl}: tests from {@code tests/} that compile together without
+ * errors under the base Polyglot compiler.
+ * <li>{@code jl5}: tests from {@code testsjl5/} that compile together without
+ * errors under the JL5 extension.
+ * <li>{@code examples}: the sources of the {@code examples/} extensions,
+ * which are parsed, but not compiled, as Java 7.
+ * </ul>
+ */
+public class Corpus {
+    public static final String HOME_PROPERTY = "polyglot.home";
+
+    public final String name;
+    public final List<File> files;
+
+    protected Corpus(String name, List<File> files) {
+        this.name = name;
+        this.files = files;
+    }
+
+    public static File home() {
+        return new File(System.getProperty(HOME_PROPERTY, "."));
+    }
+
+    /** Load the corpus {@code name}. */
+    public static Corpus load(String name) throws IOException {
+        File home = home();
+        File list = new File(home, "tools/bench/corpus/" + name + ".list");
+        List<File> files = new ArrayList<>();
+        for (String line : Files.readAllLines(list.toPath(),
+                                              StandardCharsets.UTF_8)) {
+            line = line.trim();
+            if (!line.isEmpty() && !line.startsWith("#"))
+                files.add(new File(home, line));
+        }
+        if (files.isEmpty())
+            throw new IOException("Corpus " + name + " is empty");
+        return new Corpus(name, Collections.unmodifiableList(files));
+    }
+
+    /** Create the extension used to compile the corpus {@code name}. */
+    public static ExtensionInfo extension(String name) {
+        switch (name) {
+        case "jl":
+            return new JLExtensionInfo();
+        case "jl5":
+            return new polyglot.ext.jl5.JL5ExtensionInfo();
+        case "examples":
+            return new polyglot.ext.jl7.JL7ExtensionInfo();
+        default:
+            throw new IllegalArgumentException("Unknown corpus " + name);
+        }
+    }
+
+    /** Create the extension used to compile this corpus. */
+    public ExtensionInfo extension() {
+        return extension(name);
+    }
+
+    /**
+     * Configure {@code ext} to compile {@code sources} to Java source, in
+     * memory, and create its compiler.  The compiler reports errors to
+     * {@code eq}.
+     */
+    public static Compiler compiler(ExtensionInfo ext, Set<String> sources,
+            ErrorQueue eq, String... args) {
+        List<String> argv =
+                new ArrayList<>(Arrays.asList("-c",
+                                                "-noserial",
+                                                "-nooutput",
+                                                "-no-output-to-fs"));
+        argv.addAll(Arrays.asList(args));
+        argv.addAll(sources);
+        Options options = ext.getOptions();
+        Options.setGlobal(options);
+        try {
+            options.parseCommandLine(argv.toArray(new String[argv.size()]),
+                                     new LinkedHashSet<String>());
+        }
+        catch (UsageError e) {
+            throw new InternalCompilerError(e);
+        }
+        return new Compiler(ext, eq);
+    }
+
+    /**
+     * Create a compiler for this corpus, without compiling it.  Options
+     * require at least one source file, so the benchmarks that need only an
+     * initialized type system use this.
+     */
+    public Compiler compiler() {
+        ExtensionInfo ext = extension();
+        return compiler(ext,
+                        fileNames(),
+                        new SilentErrorQueue(100, ext.compilerName()),
+                        "-sourcepath",
+                        sourcepath());
+    }
+
+    /**
+     * The directories of the files of this corpus, from which the classes
+     * they depend on are loaded.
+     */
+    public String sourcepath() {
+        Set<String> dirs = new LinkedHashSet<>();
+        for (File f : files)
+            dirs.add(f.getParent());
+        StringBuilder sb = new StringBuilder();
+        for (String dir : dirs) {
+            if (sb.length() > 0) sb.append(File.pathSeparator);
+            sb.append(dir);
+        }
+        return sb.toString();
+    }
+
+    /** The names of the files of this corpus. */
+    public Set<String> fileNames() {
+        Set<String> names = new LinkedHashSet<>();
+        for (File f : files)
+            names.add(f.getPath());
+        return names;
+    }
+
+    /** The contents of the files of this corpus. */
+    public List<String> contents() throws IOException {
+        List<String> contents = new ArrayList<>(files.size());
+        for (File f : files)
+            contents.add(new String(Files.readAllBytes(f.toPath()),
+                                    StandardCharsets.UTF_8));
+        return contents;
+    }
+
+    /**
+     * Create a source for each file of this corpus, as if it had been given
+     * on the command line of {@code compiler}.
+     */
+    public List<FileSource> sources(Compiler compiler) throws IOException {
+        List<FileSource> sources = new ArrayList<>(files.size());
+        for (File f : files)
+            sources.add(compiler.sourceExtension()
+                                .sourceLoader()
+                                .fileSource(f.getPath(),
+                                            Source.Kind.USER_SPECIFIED));
+        return sources;
+    }
+
+    /**
+     * Compile this corpus and return its jobs, whose ASTs have been type
+     * checked and translated.
+     *
+     * @throws IllegalStateException if the corpus does not compile.
+     */
+    public List<Job> compile() {
+        ExtensionInfo ext = extension();
+        SilentErrorQueue eq = new SilentErrorQueue(100, ext.compilerName());
+        Compiler compiler =
+                compiler(ext, fileNames(), eq, "-sourcepath", sourcepath());
+        if (!compiler.compileFiles(fileNames()) || eq.hasErrors())
+            throw new IllegalStateException("Corpus " + name
+                    + " does not compile: " + errors(eq));
+        return compiler.jobs();
+    }
+
+    protected static String errors(SilentErrorQueue eq) {
+        StringBuilder sb = new StringBuilder();
+        for (ErrorInfo e : eq.getErrors()) {
+            sb.append("\n");
+            if (e.getPosition() != null)
+                sb.append(e.getPosition()).append(": ");
+            sb.append(e.getMessage());
+        }
+        return sb.toString();
+    }
+
+    /** The ASTs of {@code jobs}. */
+    public static List<Node> asts(List<Job> jobs) {
+        List<Node> asts = new ArrayList<>(jobs.size());
+        for (Job job : jobs)
+            if (job.ast() != null) asts.add(job.ast());
+        return asts;
+    }
+}
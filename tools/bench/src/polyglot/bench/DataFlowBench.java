@@ -0,0 +1,91 @@
+package polyglot.bench;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import polyglot.ast.Node;
+import polyglot.ast.NodeFactory;
+import polyglot.frontend.Job;
+import polyglot.types.TypeSystem;
+import polyglot.visit.DefiniteAssignmentChecker;
+import polyglot.visit.ExitChecker;
+import polyglot.visit.NodeVisitor;
+import polyglot.visit.ReachChecker;
+
+/**
+ * The data flow analyses of the base compiler, run over the compiled
+ * {@code jl} corpus.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DataFlowBench {
+    protected List<Job> jobs;
+
+    @Setup
+    public void setup() throws Exception {
+        jobs = Corpus.load("jl").compile();
+    }
+
+    /** Create the visitor to run over the AST of {@code job}. */
+    protected interface VisitorFactory {
+        NodeVisitor create(Job job, TypeSystem ts, NodeFactory nf);
+    }
+
+    protected void run(VisitorFactory f, Blackhole bh) {
+        for (Job job : jobs) {
+            TypeSystem ts = job.extensionInfo().typeSystem();
+            NodeFactory nf = job.extensionInfo().nodeFactory();
+            NodeVisitor v = f.create(job, ts, nf).begin();
+            Node ast = job.ast().visit(v);
+            v.finish(ast);
+            bh.consume(ast);
+        }
+    }
+
+    /** Definite assignment. */
+    @Benchmark
+    public void definiteAssignmentChecker(Blackhole bh) {
+        run(new VisitorFactory() {
+            @Override
+            public NodeVisitor create(Job job, TypeSystem ts, NodeFactory nf) {
+                return new DefiniteAssignmentChecker(job, ts, nf);
+            }
+        }, bh);
+    }
+
+    @Benchmark
+    public void reachChecker(Blackhole bh) {
+        run(new VisitorFactory() {
+            @Override
+            public NodeVisitor create(Job job, TypeSystem ts, NodeFactory nf) {
+                return new ReachChecker(job, ts, nf);
+            }
+        }, bh);
+    }
+
+    @Benchmark
+    public void exitChecker(Blackhole bh) {
+        run(new VisitorFactory() {
+            @Override
+            public NodeVisitor create(Job job, TypeSystem ts, NodeFactory nf) {
+                return new ExitChecker(job, ts, nf);
+            }
+        }, bh);
+    }
+}
@@ -0,0 +1,98 @@
+package polyglot.bench;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import polyglot.ext.jl5.types.JL5MethodInstance;
+import polyglot.ext.jl5.types.JL5ParsedClassType;
+import polyglot.ext.jl5.types.JL5TypeSystem;
+import polyglot.ext.jl5.types.TypeVariable;
+import polyglot.ext.jl5.types.inference.InferenceSolver_c;
+import polyglot.frontend.Compiler;
+import polyglot.types.ClassType;
+import polyglot.types.ReferenceType;
+import polyglot.types.SemanticException;
+import polyglot.types.Type;
+import polyglot.util.Position;
+
+/**
+ * JL5 type inference for calls of generic methods of the Java runtime.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class InferenceBench {
+    protected JL5TypeSystem ts;
+
+    /** {@code <T> List<T> Collections.singletonList(T)} */
+    protected JL5MethodInstance singletonList;
+    protected List<Type> singletonListArgs;
+
+    /**
+     * {@code <T extends Object & Comparable<? super T>> T
+     * Collections.max(Collection<? extends T>)}
+     */
+    protected JL5MethodInstance max;
+    protected List<Type> maxArgs;
+    protected Type maxExpected;
+
+    @Setup
+    public void setup() throws IOException, SemanticException {
+        Compiler compiler = Corpus.load("jl5").compiler();
+        ts = (JL5TypeSystem) compiler.sourceExtension().typeSystem();
+
+        ClassType collections =
+                (ClassType) ts.typeForName("java.util.Collections");
+        singletonList = method(collections, "singletonList", 1);
+        singletonListArgs = Collections.<Type> singletonList(ts.String());
+
+        max = method(collections, "max", 1);
+        JL5ParsedClassType arrayList =
+                (JL5ParsedClassType) ts.typeForName("java.util.ArrayList");
+        ReferenceType integer =
+                (ReferenceType) ts.typeForName("java.lang.Integer");
+        Type integers =
+                ts.instantiate(Position.compilerGenerated(),
+                               arrayList,
+                               integer);
+        maxArgs = Collections.singletonList(integers);
+        maxExpected = integer;
+    }
+
+    protected static JL5MethodInstance method(ClassType ct, String name,
+            int arity) {
+        for (Object o : ct.methodsNamed(name)) {
+            JL5MethodInstance mi = (JL5MethodInstance) o;
+            if (mi.formalTypes().size() == arity) return mi;
+        }
+        throw new IllegalStateException("No method " + name + " in " + ct);
+    }
+
+    @Benchmark
+    public Map<TypeVariable, ReferenceType> singletonList() {
+        return new InferenceSolver_c(singletonList, singletonListArgs, ts)
+                .solve(null);
+    }
+
+    @Benchmark
+    public Map<TypeVariable, ReferenceType> max() {
+        return new InferenceSolver_c(max, maxArgs, ts).solve(maxExpected);
+    }
+}
@@ -0,0 +1,101 @@
+package polyglot.bench;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import polyglot.ast.Node;
+import polyglot.frontend.Compiler;
+import polyglot.frontend.ExtensionInfo;
+import polyglot.frontend.FileSource;
+import polyglot.frontend.Parser;
+import polyglot.lex.EOF;
+import polyglot.lex.EscapedUnicodeReader;
+import polyglot.lex.Lexer;
+import polyglot.lex.Token;
+import polyglot.util.ErrorQueue;
+import polyglot.util.SilentErrorQueue;
+
+/**
+ * Lexing and parsing of each corpus, from source text held in memory.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ParseBench {
+    @Param({ "jl", "jl5", "examples" })
+    public String corpus;
+
+    protected ExtensionInfo ext;
+    protected List<FileSource> sources;
+    protected List<String> contents;
+    protected ErrorQueue eq;
+
+    @Setup
+    public void setup() throws IOException {
+        Corpus c = Corpus.load(corpus);
+        Compiler compiler = c.compiler();
+        ext = compiler.sourceExtension();
+        sources = c.sources(compiler);
+        contents = c.contents();
+        eq = new SilentErrorQueue(100, ext.compilerName());
+    }
+
+    protected Lexer lexer(Reader reader, FileSource source) {
+        reader = new EscapedUnicodeReader(reader);
+        switch (corpus) {
+        case "jl":
+            return new polyglot.parse.Lexer_c(reader, source, eq);
+        case "jl5":
+            return new polyglot.ext.jl5.parse.Lexer_c(reader, source, eq);
+        default:
+            return new polyglot.ext.jl7.parse.Lexer_c(reader, source, eq);
+        }
+    }
+
+    @Benchmark
+    public int lex() throws IOException {
+        int tokens = 0;
+        for (int i = 0; i < sources.size(); i++) {
+            Lexer lexer =
+                    lexer(new StringReader(contents.get(i)), sources.get(i));
+            for (Token t = lexer.nextToken(); !(t instanceof EOF); t =
+                    lexer.nextToken())
+                tokens++;
+        }
+        return tokens;
+    }
+
+    @Benchmark
+    public void parse(Blackhole bh) {
+        for (int i = 0; i < sources.size(); i++) {
+            Parser p =
+                    ext.parser(new StringReader(contents.get(i)),
+                               sources.get(i),
+                               eq);
+            Node ast = p.parse();
+            if (ast == null)
+                throw new IllegalStateException("Cannot parse "
+                        + sources.get(i));
+            bh.consume(ast);
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package polyglot.bench;
+
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import polyglot.ast.ClassDecl;
+import polyglot.ast.Lang;
+import polyglot.ast.Node;
+import polyglot.frontend.Job;
+import polyglot.types.ParsedClassType;
+import polyglot.types.SystemResolver;
+import polyglot.types.TypeSystem;
+import polyglot.util.InternalCompilerError;
+import polyglot.util.TypeEncoder;
+import polyglot.visit.NodeVisitor;
+
+/**
+ * Serialization of the top-level and member classes declared by a corpus
+ * into the type-information strings written to class files, and their
+ * decoding.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TypeEncoderBench {
+    @Param({ "jl", "jl5" })
+    public String corpus;
+
+    protected TypeSystem ts;
+    protected List<ParsedClassType> types;
+    protected List<String> encoded;
+
+    @Setup
+    public void setup() throws IOException {
+        List<Job> jobs = Corpus.load(corpus).compile();
+        ts = jobs.get(0).extensionInfo().typeSystem();
+        final List<ParsedClassType> decls = new ArrayList<>();
+        for (Job job : jobs) {
+            Lang lang = job.extensionInfo().nodeFactory().lang();
+            job.ast().visit(new NodeVisitor(lang) {
+                @Override
+                public Node leave(Node old, Node n, NodeVisitor v) {
+                    if (n instanceof ClassDecl) {
+                        ParsedClassType ct = ((ClassDecl) n).type();
+                        if (ct.isTopLevel() || ct.isMember())
+                            decls.add(ct);
+                    }
+                    return n;
+                }
+            });
+        }
+        types = new ArrayList<>(decls.size());
+        encoded = new ArrayList<>(decls.size());
+        TypeEncoder te = new TypeEncoder(ts);
+        for (ParsedClassType ct : decls) {
+            try {
+                encoded.add(te.encode(ct));
+                types.add(ct);
+            }
+            catch (InternalCompilerError e) {
+                // Skip classes whose signatures mention local classes.
+            }
+        }
+    }
+
+    @Benchmark
+    public int encode() throws IOException {
+        TypeEncoder te = new TypeEncoder(ts);
+        int length = 0;
+        for (ParsedClassType ct : types)
+            length += te.encode(ct).length();
+        return length;
+    }
+
+    /**
+     * Decode each class as the class file loader does, into a fresh system
+     * resolver that is discarded afterwards.
+     */
+    @Benchmark
+    public void decode(Blackhole bh) throws InvalidClassException {
+        TypeEncoder te = new TypeEncoder(ts);
+        for (int i = 0; i < types.size(); i++) {
+            SystemResolver oldResolver = ts.saveSystemResolver();
+            try {
+                bh.consume(te.decode(encoded.get(i), types.get(i).fullName()));
+            }
+            finally {
+                ts.restoreSystemResolver(oldResolver);
+            }
+        }
+    }
+}
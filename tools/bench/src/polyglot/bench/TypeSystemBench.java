@@ -0,0 +1,99 @@
+package polyglot.bench;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import polyglot.frontend.Compiler;
+import polyglot.types.ClassType;
+import polyglot.types.MethodInstance;
+import polyglot.types.SemanticException;
+import polyglot.types.Type;
+import polyglot.types.TypeSystem;
+
+/**
+ * Subtype tests and method lookups on classes of the Java runtime.  The
+ * uncached lookups clear the type system's resolution caches first.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 5)
+@Fork(1)
+public class TypeSystemBench {
+    @Param({ "jl", "jl5" })
+    public String extension;
+
+    protected TypeSystem ts;
+    protected ClassType object;
+    protected ClassType string;
+    protected ClassType number;
+    protected ClassType properties;
+    protected ClassType serializable;
+    protected ClassType stringBuilder;
+    protected List<Type> intArg;
+    protected List<Type> stringArg;
+
+    @Setup
+    public void setup() throws IOException, SemanticException {
+        Compiler compiler = Corpus.load(extension).compiler();
+        ts = compiler.sourceExtension().typeSystem();
+        object = ts.Object();
+        string = ts.String();
+        number = (ClassType) ts.typeForName("java.lang.Number");
+        // Not generic, so that these are subtypes in jl5 too, where
+        // typeForName returns generic declarations.
+        properties = (ClassType) ts.typeForName("java.util.Properties");
+        serializable = (ClassType) ts.typeForName("java.io.Serializable");
+        stringBuilder = (ClassType) ts.typeForName("java.lang.StringBuilder");
+        intArg = Collections.<Type> singletonList(ts.Int());
+        stringArg = Collections.<Type> singletonList(string);
+
+        if (!isSubtypeInterface() || isSubtypeUnrelated())
+            throw new IllegalStateException("Unexpected subtype result");
+    }
+
+    /** Interface implemented by a superclass. */
+    @Benchmark
+    public boolean isSubtypeInterface() {
+        return ts.isSubtype(properties, serializable);
+    }
+
+    @Benchmark
+    public boolean isSubtypeUnrelated() {
+        return ts.isSubtype(string, number);
+    }
+
+    @Benchmark
+    public MethodInstance findMethod() throws SemanticException {
+        return ts.findMethod(string, "indexOf", intArg, object, true);
+    }
+
+    @Benchmark
+    public MethodInstance findMethodUncached() throws SemanticException {
+        ts.classMembersChanged(string);
+        return ts.findMethod(string, "indexOf", intArg, object, true);
+    }
+
+    /** Overloaded method inherited from a superclass. */
+    @Benchmark
+    public MethodInstance findOverloadedMethodUncached()
+            throws SemanticException {
+        ts.classMembersChanged(stringBuilder);
+        return ts.findMethod(stringBuilder, "append", stringArg, object, true);
+    }
+}
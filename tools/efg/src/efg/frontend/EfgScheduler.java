@@ -7,7 +7,6 @@ import efg.visit.EFGInfoCollector;
 import polyglot.ast.SourceFile;
 import polyglot.ext.jl7.JL7ExtensionInfo;
 import polyglot.ext.jl7.JL7Scheduler;
-import polyglot.frontend.CyclicDependencyException;
 import polyglot.frontend.Job;
 import polyglot.frontend.Scheduler;
 import polyglot.frontend.Source;
@@ -42,12 +41,7 @@ public class EfgScheduler extends JL7Scheduler {
                                                       extInfo,
                                                       extInfo.typeSystem(),
                                                       extInfo.nodeFactory()));
-        try {
-            g.addPrerequisiteGoal(ValidationBarrier(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(ValidationBarrier(job), this);
 
         return internGoal(g);
     }
@@ -65,12 +59,7 @@ public class EfgScheduler extends JL7Scheduler {
 
     public Goal EfgInfoValidated(Job job) {
         Goal g = new EfgInfoValidationGoal(job);
-        try {
-            g.addPrerequisiteGoal(EfgInfoCollectionBarrier(job), this);
-        }
-        catch (CyclicDependencyException e) {
-            throw new InternalCompilerError(e);
-        }
+        g.addPrerequisiteGoal(EfgInfoCollectionBarrier(job), this);
         return internGoal(g);
     }
 
@@ -6,7 +6,6 @@ import java.util.List;
 import polyglot.ext.jl5.JL5Options;
 import polyglot.ext.jl7.JL7ExtensionInfo;
 import polyglot.ext.jl7.JL7Scheduler;
-import polyglot.frontend.CyclicDependencyException;
 import polyglot.frontend.ExtensionInfo;
 import polyglot.frontend.JLExtensionInfo;
 import polyglot.frontend.Job;
@@ -79,13 +78,8 @@ public class JL7OutputExtensionInfo extends JL7ExtensionInfo {
         public Goal Serialized(Job job) {
             // Don't serialize. Replace serialized goal with an empty goal.
             Goal g = new EmptyGoal(job, "Serialized");
-            try {
-                g.addPrerequisiteGoal(Validated(job), this);
-                g.addPrerequisiteGoal(AnnotationCheck(job), this);
-            }
-            catch (CyclicDependencyException e) {
-                throw new InternalCompilerError(e);
-            }
+            g.addPrerequisiteGoal(Validated(job), this);
+            g.addPrerequisiteGoal(AnnotationCheck(job), this);
 
             return internGoal(g);
         }
@@ -138,7 +138,7 @@ public class EfgInfo {
      */
     protected Config readConfig(ExtensionInfo extInfo)
             throws SemanticException {
-        Options options = (Options) polyglot.main.Options.global;
+        Options options = (Options) polyglot.main.Options.global();
         File file = options.confFile();
         ErrorQueue eq = extInfo.compiler().errorQueue();
 
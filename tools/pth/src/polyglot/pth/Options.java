@@ -85,6 +85,9 @@ public class Options {
     // filename for LaTeX report
     protected String pdffilename = null;
 
+    // number of tests of a collection to run at once
+    protected int parallelism = 1;
+
     // array of the possible command line options.
     // the order in the array is the order that they will be applied in.
     protected CommandLineOption[] commandLineOpts = {
@@ -147,6 +150,18 @@ public class Options {
                     return index + 1;
                 }
             },
+            new CommandLineOption(new String[] { "jobs" },
+                                  "n",
+                                  "run up to n tests of a test collection at once, each with its own compiler instance.") {
+                @Override
+                protected int invoke(int index, String[] args) {
+                    parallelism = getIntArg(++index, args);
+                    if (parallelism < 1)
+                        throw new IllegalArgumentException("Number of jobs "
+                                + "must be at least 1.");
+                    return index + 1;
+                }
+            },
             new CommandLineOption(new String[] { "v" },
                                   "n",
                                   "set verbosity level to n. n should be between 0 (quiet) and 9 (most verbose).") {
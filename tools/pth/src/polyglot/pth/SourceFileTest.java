@@ -31,6 +31,8 @@ import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 /**
  *
@@ -51,6 +53,13 @@ public abstract class SourceFileTest extends AbstractTest {
 
     protected long elapsed;
 
+    /**
+     * The outcome of this test, if it has been started ahead of
+     * {@link #run()} on a worker thread; see
+     * {@link SourceFileTestCollection#startTests}.
+     */
+    protected Future<Boolean> started;
+
     public SourceFileTest(List<List<String>> compilationUnits,
             List<ExpectedFailure> expectedFailures) {
         super(testName(compilationUnits));
@@ -79,6 +88,44 @@ public abstract class SourceFileTest extends AbstractTest {
 
     @Override
     protected boolean runTest() {
+        if (started != null) {
+            try {
+                return started.get();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                appendFailureMessage("Interrupted");
+                return false;
+            }
+            catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                appendFailureMessage("Uncaught " + cause.getClass().getName());
+                cause.printStackTrace();
+                return false;
+            }
+            finally {
+                started = null;
+            }
+        }
+        return compileAndCheck(getCommandLineHeader());
+    }
+
+    /**
+     * Record that this test has been started on a worker thread, and that
+     * {@link #runTest()} should wait for {@code outcome} instead of running
+     * the test again.
+     */
+    protected void setStarted(Future<Boolean> outcome) {
+        started = outcome;
+    }
+
+    /**
+     * Compile the compilation units of this test, passing the compiler the
+     * options {@code cmdLineHdr}, and check the result.  This method may run
+     * on a worker thread, concurrently with other tests of the same
+     * collection.
+     */
+    protected boolean compileAndCheck(List<String> cmdLineHdr) {
         List<List<String>> sourceFileNames = getSourceFileNames();
 
         String testpath = td.getPathFromFlagMap("testpath");
@@ -142,7 +189,6 @@ public abstract class SourceFileTest extends AbstractTest {
             if (!td.preTest(this)) return false;
 
             String compilerDirname = td.getPathFromFlagMap("compilerpath");
-            List<String> cmdLineHdr = getCommandLineHeader();
 
             // Next, loop through each compilation unit and compile it.
 //            boolean addClassPath = false;
@@ -7,6 +7,12 @@ import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 import java.util.regex.Pattern;
 
 /**
@@ -166,26 +172,36 @@ public abstract class SourceFileTestCollection
         Map<String, TestResult> oldTestResults = new HashMap<>(testResults);
         Map<String, TestResult> newResults = new HashMap<>();
 
-        boolean shouldExecute = true;
-        for (SourceFileTest t : tests) {
-            t.setTestDriver(td);
-            TestResult tr = oldTestResults.get(t.getUniqueId());
-            if (shouldExecute && t.shouldExecute(tr)) {
-                if (tr != null) t.setTestResult(tr);
-                t.setCommandLineHeader(cmdLineHdr);
-
-                boolean result = t.run();
-                okay = okay && result;
+        ExecutorService workers = null;
+        if (Main.options.parallelism > 1 && !haltOnFirstFailure
+                && canRunInParallel())
+            workers = startTests(oldTestResults);
 
-                tr = t.getTestResult();
-
-                executedTests += t.getExecutedTestCount();
-                successfulTests += t.getSuccessfulTestCount();
-                postIndividualTest();
-                if (!result && (t.haltOnFailure() || haltOnFirstFailure))
-                    shouldExecute = false;
+        boolean shouldExecute = true;
+        try {
+            for (SourceFileTest t : tests) {
+                t.setTestDriver(td);
+                TestResult tr = oldTestResults.get(t.getUniqueId());
+                if (shouldExecute && t.shouldExecute(tr)) {
+                    if (tr != null) t.setTestResult(tr);
+                    t.setCommandLineHeader(cmdLineHdr);
+
+                    boolean result = t.run();
+                    okay = okay && result;
+
+                    tr = t.getTestResult();
+
+                    executedTests += t.getExecutedTestCount();
+                    successfulTests += t.getSuccessfulTestCount();
+                    postIndividualTest();
+                    if (!result && (t.haltOnFailure() || haltOnFirstFailure))
+                        shouldExecute = false;
+                }
+                newResults.put(t.getUniqueId(), tr);
             }
-            newResults.put(t.getUniqueId(), tr);
+        }
+        finally {
+            if (workers != null) workers.shutdown();
         }
         testResults.clear();
         testResults.putAll(newResults);
@@ -201,6 +217,72 @@ public abstract class SourceFileTestCollection
         return okay;
     }
 
+    /**
+     * Return true if the tests of this collection may be compiled
+     * concurrently, each by its own compiler instance.
+     */
+    protected boolean canRunInParallel() {
+        return false;
+    }
+
+    /**
+     * Return the command line header for tests compiled by worker
+     * {@code worker}, numbered from 1.  Workers run concurrently, so this
+     * header should keep the files a worker writes apart from those of other
+     * workers.
+     */
+    protected List<String> workerCommandLine(int worker) {
+        return cmdLineHdr;
+    }
+
+    /**
+     * Start the tests of this collection that should be executed on a pool
+     * of {@code Main.options.parallelism} worker threads.  The tests are then
+     * run in order as usual, each waiting for its own outcome, so results are
+     * reported in the same order as when the tests are run one at a time.
+     *
+     * @return the pool, to be shut down once all tests have been run.
+     */
+    protected ExecutorService startTests(
+            Map<String, TestResult> oldTestResults) {
+        int n = Main.options.parallelism;
+        final BlockingQueue<List<String>> cmdLines =
+                new ArrayBlockingQueue<>(n);
+        for (int i = 1; i <= n; i++)
+            cmdLines.add(workerCommandLine(i));
+
+        ExecutorService workers =
+                Executors.newFixedThreadPool(n, new ThreadFactory() {
+                    int count = 0;
+
+                    @Override
+                    public Thread newThread(Runnable r) {
+                        Thread t = new Thread(r, "pth-worker-" + (++count));
+                        t.setDaemon(true);
+                        return t;
+                    }
+                });
+
+        for (final SourceFileTest t : tests) {
+            t.setTestDriver(td);
+            if (!t.shouldExecute(oldTestResults.get(t.getUniqueId())))
+                continue;
+            t.setStarted(workers.submit(new Callable<Boolean>() {
+                @Override
+                public Boolean call() throws InterruptedException {
+                    List<String> cmdLine = cmdLines.take();
+                    try {
+                        return t.compileAndCheck(cmdLine);
+                    }
+                    finally {
+                        cmdLines.put(cmdLine);
+                    }
+                }
+            }));
+        }
+        return workers;
+    }
+
     public String getSummary() {
         StringBuffer sb = new StringBuffer(getName());
         sb.append(": ");
@@ -1,6 +1,7 @@
 package polyglot.pth.polyglot;
 
 import java.io.File;
+import java.io.IOException;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
@@ -63,6 +64,52 @@ public class PolyglotSourceFileTestCollection extends SourceFileTestCollection {
         return newArgs;
     }
 
+    /**
+     * Tests compiled by Polyglot may run in parallel, unless their source
+     * files are copied to a separate source path, where they would be visible
+     * to the other tests running at the same time.
+     */
+    @Override
+    protected boolean canRunInParallel() {
+        if (JAVAC.equals(testCommand)) return false;
+        File testDir = new File(getPathFromFlagMap("testpath"));
+        File sourceDir = new File(getPathFromFlagMap("workpath", "sourcepath"));
+        try {
+            return testDir.getCanonicalPath()
+                          .equals(sourceDir.getCanonicalPath());
+        }
+        catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Give each worker its own subdirectory of the output directories, so
+     * that tests declaring classes of the same name do not overwrite each
+     * other's output.
+     */
+    @Override
+    protected List<String> workerCommandLine(int worker) {
+        String subdir = "pthWorker." + worker;
+        List<String> args = new ArrayList<>(cmdLineHdr.size() + 2);
+        boolean hasOutputDir = false;
+        for (int i = 0; i < cmdLineHdr.size(); i++) {
+            String arg = cmdLineHdr.get(i);
+            args.add(arg);
+            if ((arg.equals("-d") || arg.equals("-D"))
+                    && i + 1 < cmdLineHdr.size()) {
+                if (arg.equals("-d")) hasOutputDir = true;
+                args.add(new File(cmdLineHdr.get(++i), subdir).getPath());
+            }
+        }
+        if (!hasOutputDir) {
+            args.add("-d");
+            File workDir = new File(getPathFromFlagMap("workpath"), subdir);
+            args.add(workDir.getPath());
+        }
+        return args;
+    }
+
     protected String prependTestPath(String filename) {
         String testpath = getPathFromFlagMap("testpath");
         if (testpath != null) {